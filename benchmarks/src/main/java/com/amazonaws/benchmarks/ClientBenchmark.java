@@ -0,0 +1,212 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.services.cloudwatch.AmazonCloudWatchClient;
+import com.amazonaws.services.cloudwatch.model.Dimension;
+import com.amazonaws.services.cloudwatch.model.MetricDatum;
+import com.amazonaws.services.cloudwatch.model.PutMetricDataRequest;
+import com.amazonaws.services.ec2.AmazonEC2Client;
+import com.amazonaws.services.ec2.model.DescribeInstancesRequest;
+import com.amazonaws.services.ec2.model.DescribeInstancesResult;
+import com.amazonaws.services.ec2.model.Filter;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.simpledb.AmazonSimpleDBClient;
+import com.amazonaws.services.simpledb.model.SelectRequest;
+import com.amazonaws.services.simpledb.model.SelectResult;
+import com.amazonaws.services.sqs.AmazonSQSClient;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+
+/**
+ * Measures complete client calls (marshalling, signing, sending the request,
+ * and unmarshalling the response) for representative operations, against a
+ * {@link StubHttpServer} that replays recorded responses.
+ * <p>
+ * The stub server runs in the same process, so these numbers are the
+ * client's own overhead per call plus a loopback round trip; they don't
+ * include any network or service latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ClientBenchmark {
+
+    private static final String BUCKET_NAME = "benchmark-bucket";
+    private static final String QUEUE_URL = "http://queue.amazonaws.com/123456789012/benchmark-queue";
+
+    private StubHttpServer server;
+
+    private AmazonS3Client s3;
+    private AmazonSQSClient sqs;
+    private AmazonSimpleDBClient simpleDB;
+    private AmazonEC2Client ec2;
+    private AmazonCloudWatchClient cloudWatch;
+
+    private final byte[] drainBuffer = new byte[64 * 1024];
+
+    @Setup
+    public void setUp() throws IOException {
+        server = new StubHttpServer();
+        server.setObjectListing(Fixtures.load(Fixtures.S3_LIST_OBJECTS));
+        server.respondToAction("ReceiveMessage", Fixtures.load(Fixtures.SQS_RECEIVE_MESSAGE));
+        server.respondToAction("Select", Fixtures.load(Fixtures.SIMPLEDB_SELECT));
+        server.respondToAction("DescribeInstances", Fixtures.load(Fixtures.EC2_DESCRIBE_INSTANCES));
+        server.respondToAction("PutMetricData", Fixtures.load(Fixtures.CLOUDWATCH_PUT_METRIC_DATA));
+        server.start();
+
+        AWSCredentials credentials = new BasicAWSCredentials("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY");
+        ClientConfiguration config = new ClientConfiguration()
+            .withProxyHost("127.0.0.1")
+            .withProxyPort(server.getPort())
+            .withMaxErrorRetry(0);
+
+        s3 = new AmazonS3Client(credentials, config);
+        s3.setEndpoint("http://s3.amazonaws.com");
+        sqs = new AmazonSQSClient(credentials, config);
+        sqs.setEndpoint("http://queue.amazonaws.com");
+        simpleDB = new AmazonSimpleDBClient(credentials, config);
+        simpleDB.setEndpoint("http://sdb.amazonaws.com");
+        ec2 = new AmazonEC2Client(credentials, config);
+        ec2.setEndpoint("http://ec2.amazonaws.com");
+        cloudWatch = new AmazonCloudWatchClient(credentials, config);
+        cloudWatch.setEndpoint("http://monitoring.amazonaws.com");
+    }
+
+    @TearDown
+    public void tearDown() {
+        s3.shutdown();
+        sqs.shutdown();
+        simpleDB.shutdown();
+        ec2.shutdown();
+        cloudWatch.shutdown();
+        server.stop();
+    }
+
+    /**
+     * The Amazon S3 object uploaded and downloaded by the object benchmarks.
+     */
+    @State(Scope.Benchmark)
+    public static class ObjectContent {
+        @Param({"1024", "65536", "1048576"})
+        public int objectSize;
+
+        public byte[] content;
+
+        @Setup
+        public void setUp(ClientBenchmark benchmark) {
+            content = new byte[objectSize];
+            for (int i = 0; i < content.length; i++) {
+                content[i] = (byte)('a' + i % 26);
+            }
+            benchmark.server.setObjectContent(content);
+        }
+    }
+
+    @Benchmark
+    public ObjectListing s3ListObjects() {
+        return s3.listObjects(BUCKET_NAME, "logs/");
+    }
+
+    @Benchmark
+    public PutObjectResult s3PutObject(ObjectContent object) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(object.content.length);
+        return s3.putObject(BUCKET_NAME, "objects/benchmark", new ByteArrayInputStream(object.content), metadata);
+    }
+
+    @Benchmark
+    public long s3GetObject(ObjectContent object) throws IOException {
+        S3Object s3Object = s3.getObject(BUCKET_NAME, "objects/benchmark");
+        InputStream content = s3Object.getObjectContent();
+        long totalBytesRead = 0;
+        try {
+            int bytesRead;
+            while ((bytesRead = content.read(drainBuffer)) > -1) {
+                totalBytesRead += bytesRead;
+            }
+        } finally {
+            content.close();
+        }
+        return totalBytesRead;
+    }
+
+    @Benchmark
+    public ReceiveMessageResult sqsReceiveMessage() {
+        return sqs.receiveMessage(new ReceiveMessageRequest(QUEUE_URL)
+            .withMaxNumberOfMessages(10)
+            .withAttributeNames("All"));
+    }
+
+    @Benchmark
+    public SelectResult simpleDBSelect() {
+        return simpleDB.select(new SelectRequest("select * from `benchmark-domain` where color = 'blue'"));
+    }
+
+    @Benchmark
+    public DescribeInstancesResult ec2DescribeInstances() {
+        return ec2.describeInstances(new DescribeInstancesRequest()
+            .withFilters(new Filter("instance-state-name").withValues("running")));
+    }
+
+    @Benchmark
+    public void cloudWatchPutMetricData() {
+        List<MetricDatum> metricData = new ArrayList<MetricDatum>();
+        Date now = new Date();
+        for (int i = 0; i < 20; i++) {
+            metricData.add(new MetricDatum()
+                .withMetricName("RequestLatency")
+                .withDimensions(new Dimension().withName("Operation").withValue("Operation" + i))
+                .withTimestamp(now)
+                .withUnit("Milliseconds")
+                .withValue(12.5 + i));
+        }
+        cloudWatch.putMetricData(new PutMetricDataRequest()
+            .withNamespace("Benchmark")
+            .withMetricData(metricData));
+    }
+
+}
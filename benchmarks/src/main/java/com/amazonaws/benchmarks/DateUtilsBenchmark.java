@@ -0,0 +1,87 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.util.DateUtils;
+
+/**
+ * Measures parsing and formatting of the ISO 8601 dates used in query API
+ * requests and responses, and the RFC 822 dates used in HTTP headers, with a
+ * single {@link DateUtils} shared by all threads, as the clients share it.
+ * The contended variant shows the cost of the synchronization on the shared
+ * date formats.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class DateUtilsBenchmark {
+
+    private final DateUtils dateUtils = new DateUtils();
+    private final Date date = new Date(1304500217000L);
+
+    private final String iso8601Date = "2011-05-04T09:10:17.000Z";
+    private final String iso8601DateWithoutMillis = "2011-05-04T09:10:17Z";
+    private final String rfc822Date = "Wed, 04 May 2011 09:10:17 GMT";
+
+    @Benchmark
+    public Date parseIso8601Date() throws ParseException {
+        return dateUtils.parseIso8601Date(iso8601Date);
+    }
+
+    @Benchmark
+    public Date parseIso8601DateWithoutMillis() throws ParseException {
+        return dateUtils.parseIso8601Date(iso8601DateWithoutMillis);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Date parseIso8601DateContended() throws ParseException {
+        return dateUtils.parseIso8601Date(iso8601Date);
+    }
+
+    @Benchmark
+    public String formatIso8601Date() {
+        return dateUtils.formatIso8601Date(date);
+    }
+
+    @Benchmark
+    public Date parseRfc822Date() throws ParseException {
+        return dateUtils.parseRfc822Date(rfc822Date);
+    }
+
+    @Benchmark
+    public String formatRfc822Date() {
+        return dateUtils.formatRfc822Date(date);
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.handlers.FaultInjectionInterceptor;
+import com.amazonaws.handlers.FaultInjectionRule;
+import com.amazonaws.services.sqs.AmazonSQSClient;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+
+/**
+ * Measures the latency distribution of client calls when a fraction of
+ * attempts fail, so the cost of the client's retry and back-off settings can
+ * be compared across failure modes and rates.
+ * <p>
+ * Failures are injected into Amazon SQS receives by a
+ * {@link FaultInjectionInterceptor} with a fixed seed, in front of a
+ * {@link StubHttpServer}, so runs are offline and repeatable. Calls that
+ * still fail after all their retries are counted as completed calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+public class FaultInjectionBenchmark {
+
+    private static final String QUEUE_URL = "http://queue.amazonaws.com/123456789012/benchmark-queue";
+
+    @Param({"ConnectionFailure", "ServiceUnavailable", "Throttling"})
+    public String fault;
+
+    @Param({"0.01", "0.1"})
+    public double faultRate;
+
+    @Param({"3"})
+    public int maxErrorRetry;
+
+    private StubHttpServer server;
+    private AmazonSQSClient sqs;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = new StubHttpServer();
+        server.respondToAction("ReceiveMessage", Fixtures.load(Fixtures.SQS_RECEIVE_MESSAGE));
+        server.start();
+
+        FaultInjectionRule rule = new FaultInjectionRule("AmazonSQS", "ReceiveMessage");
+        if (fault.equals("ConnectionFailure")) rule.setConnectionFailureRate(faultRate);
+        else if (fault.equals("ServiceUnavailable")) rule.setServiceUnavailableRate(faultRate);
+        else if (fault.equals("Throttling")) rule.setThrottlingRate(faultRate);
+        else throw new IllegalArgumentException("Unknown fault " + fault);
+
+        ClientConfiguration config = new ClientConfiguration()
+            .withProxyHost("127.0.0.1")
+            .withProxyPort(server.getPort())
+            .withMaxErrorRetry(maxErrorRetry);
+        sqs = new AmazonSQSClient(new BasicAWSCredentials("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY"), config);
+        sqs.setEndpoint("http://queue.amazonaws.com");
+        sqs.addRequestInterceptor(new FaultInjectionInterceptor(42).withRule(rule));
+    }
+
+    @TearDown
+    public void tearDown() {
+        sqs.shutdown();
+        server.stop();
+    }
+
+    @Benchmark
+    public Object sqsReceiveMessage() {
+        try {
+            return sqs.receiveMessage(new ReceiveMessageRequest(QUEUE_URL).withMaxNumberOfMessages(10));
+        } catch (AmazonClientException e) {
+            return e;
+        }
+    }
+
+}
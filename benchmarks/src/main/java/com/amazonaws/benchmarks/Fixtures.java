@@ -0,0 +1,73 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Loads the recorded service responses the benchmarks replay, from the
+ * <code>fixtures</code> directory on the classpath.
+ */
+public class Fixtures {
+
+    /** EC2 DescribeInstances response with 10 reservations of 2 instances. */
+    public static final String EC2_DESCRIBE_INSTANCES = "ec2-describe-instances.xml";
+
+    /** SQS ReceiveMessage response with 10 messages. */
+    public static final String SQS_RECEIVE_MESSAGE = "sqs-receive-message.xml";
+
+    /** SimpleDB Select response with 100 items of 5 attributes. */
+    public static final String SIMPLEDB_SELECT = "sdb-select.xml";
+
+    /** CloudWatch PutMetricData response. */
+    public static final String CLOUDWATCH_PUT_METRIC_DATA = "cloudwatch-put-metric-data.xml";
+
+    /** S3 ListObjects response with a full page of 1000 keys. */
+    public static final String S3_LIST_OBJECTS = "s3-list-objects.xml";
+
+    /**
+     * Returns the contents of the specified fixture.
+     *
+     * @param name
+     *            The name of the fixture, one of the constants in this class.
+     *
+     * @return The contents of the fixture.
+     */
+    public static byte[] load(String name) {
+        InputStream input = Fixtures.class.getResourceAsStream("/fixtures/" + name);
+        if (input == null) throw new IllegalArgumentException("No fixture named " + name);
+
+        try {
+            try {
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                byte[] buffer = new byte[8192];
+                int bytesRead;
+                while ((bytesRead = input.read(buffer)) > -1) {
+                    output.write(buffer, 0, bytesRead);
+                }
+                return output.toByteArray();
+            } finally {
+                input.close();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to load fixture " + name, e);
+        }
+    }
+
+    private Fixtures() {}
+
+}
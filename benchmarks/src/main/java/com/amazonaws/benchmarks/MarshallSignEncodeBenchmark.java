@@ -0,0 +1,160 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.Request;
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.auth.QueryStringSigner;
+import com.amazonaws.services.ec2.model.DescribeInstancesRequest;
+import com.amazonaws.services.ec2.model.Filter;
+import com.amazonaws.services.ec2.model.transform.DescribeInstancesRequestMarshaller;
+import com.amazonaws.services.simpledb.model.BatchPutAttributesRequest;
+import com.amazonaws.services.simpledb.model.PutAttributesRequest;
+import com.amazonaws.services.simpledb.model.ReplaceableAttribute;
+import com.amazonaws.services.simpledb.model.ReplaceableItem;
+import com.amazonaws.services.simpledb.model.SelectRequest;
+import com.amazonaws.services.simpledb.model.transform.BatchPutAttributesRequestMarshaller;
+import com.amazonaws.services.simpledb.model.transform.PutAttributesRequestMarshaller;
+import com.amazonaws.services.simpledb.model.transform.SelectRequestMarshaller;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.SendMessageRequest;
+import com.amazonaws.services.sqs.model.transform.ReceiveMessageRequestMarshaller;
+import com.amazonaws.services.sqs.model.transform.SendMessageRequestMarshaller;
+import com.amazonaws.util.QueryParameterMap;
+
+/**
+ * Measures the client side cost of preparing a query API request: marshalling
+ * the request object into parameters, signing the parameters, and encoding
+ * them into the request body, for the most frequently called operations.
+ * <p>
+ * The requests are built once per trial, so only the marshall, sign and
+ * encode steps are measured, exactly as the clients run them for each call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class MarshallSignEncodeBenchmark {
+
+    private final QueryStringSigner signer = new QueryStringSigner();
+    private final AWSCredentials credentials = new BasicAWSCredentials("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY");
+
+    private final URI sdbEndpoint = URI.create("https://sdb.amazonaws.com");
+    private final URI sqsEndpoint = URI.create("https://queue.amazonaws.com");
+    private final URI ec2Endpoint = URI.create("https://ec2.amazonaws.com");
+
+    private BatchPutAttributesRequest batchPutAttributesRequest;
+    private PutAttributesRequest putAttributesRequest;
+    private SelectRequest selectRequest;
+    private SendMessageRequest sendMessageRequest;
+    private ReceiveMessageRequest receiveMessageRequest;
+    private DescribeInstancesRequest describeInstancesRequest;
+
+    @Setup
+    public void setUp() {
+        // SimpleDB's limits: 25 items per batch, 256 attributes per call
+        List<ReplaceableItem> items = new ArrayList<ReplaceableItem>();
+        for (int i = 0; i < 25; i++) {
+            items.add(new ReplaceableItem("item-" + i, attributes(10)));
+        }
+        batchPutAttributesRequest = new BatchPutAttributesRequest("benchmark-domain", items);
+        putAttributesRequest = new PutAttributesRequest("benchmark-domain", "item", attributes(20));
+        selectRequest = new SelectRequest(
+                "select * from `benchmark-domain` where color = 'blue' and size > '0042' order by size limit 100", true);
+
+        sendMessageRequest = new SendMessageRequest("https://queue.amazonaws.com/123456789012/benchmark-queue",
+                "{\"id\":12345,\"payload\":\"Lorem ipsum dolor sit amet, consectetur adipiscing elit\"}");
+        receiveMessageRequest = new ReceiveMessageRequest("https://queue.amazonaws.com/123456789012/benchmark-queue")
+                .withMaxNumberOfMessages(10)
+                .withAttributeNames("SenderId", "SentTimestamp", "ApproximateReceiveCount");
+
+        List<String> instanceIds = new ArrayList<String>();
+        for (int i = 0; i < 20; i++) {
+            instanceIds.add("i-" + Integer.toHexString(0x1000000 + i));
+        }
+        describeInstancesRequest = new DescribeInstancesRequest()
+                .withInstanceIds(instanceIds)
+                .withFilters(new Filter("instance-state-name").withValues("running", "pending"),
+                             new Filter("tag:Environment").withValues("production"));
+    }
+
+    private static List<ReplaceableAttribute> attributes(int count) {
+        List<ReplaceableAttribute> attributes = new ArrayList<ReplaceableAttribute>();
+        for (int i = 0; i < count; i++) {
+            attributes.add(new ReplaceableAttribute("attribute-" + i, "value-" + i, i % 2 == 0));
+        }
+        return attributes;
+    }
+
+    @Benchmark
+    public byte[] simpleDBBatchPutAttributes() {
+        return signAndEncode(BatchPutAttributesRequestMarshaller.getInstance().marshall(batchPutAttributesRequest), sdbEndpoint);
+    }
+
+    @Benchmark
+    public byte[] simpleDBPutAttributes() {
+        return signAndEncode(PutAttributesRequestMarshaller.getInstance().marshall(putAttributesRequest), sdbEndpoint);
+    }
+
+    @Benchmark
+    public byte[] simpleDBSelect() {
+        return signAndEncode(SelectRequestMarshaller.getInstance().marshall(selectRequest), sdbEndpoint);
+    }
+
+    @Benchmark
+    public byte[] sqsSendMessage() {
+        return signAndEncode(SendMessageRequestMarshaller.getInstance().marshall(sendMessageRequest), sqsEndpoint);
+    }
+
+    @Benchmark
+    public byte[] sqsReceiveMessage() {
+        return signAndEncode(ReceiveMessageRequestMarshaller.getInstance().marshall(receiveMessageRequest), sqsEndpoint);
+    }
+
+    @Benchmark
+    public byte[] ec2DescribeInstances() {
+        return signAndEncode(DescribeInstancesRequestMarshaller.getInstance().marshall(describeInstancesRequest), ec2Endpoint);
+    }
+
+    /**
+     * Signs the specified request and encodes its parameters, the same way
+     * the clients and HTTP client do before sending it.
+     */
+    private byte[] signAndEncode(Request<?> request, URI endpoint) {
+        request.setEndpoint(endpoint);
+        signer.sign(request, credentials);
+        return ((QueryParameterMap)request.getParameters()).getEncodedBytes();
+    }
+
+}
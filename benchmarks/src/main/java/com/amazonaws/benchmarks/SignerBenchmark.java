@@ -0,0 +1,135 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.auth.AWS3Signer;
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.auth.QueryStringSigner;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.services.ec2.model.DescribeInstancesRequest;
+import com.amazonaws.services.ec2.model.Filter;
+import com.amazonaws.services.ec2.model.transform.DescribeInstancesRequestMarshaller;
+import com.amazonaws.services.s3.internal.S3Signer;
+
+/**
+ * Measures the signers in isolation: query string signing (signature
+ * version 2) as used by EC2, SQS, SimpleDB and most other query APIs, AWS3
+ * HTTPS signing as used by Amazon SES and Route 53, and Amazon S3 REST
+ * signing.
+ * <p>
+ * Signing adds parameters and headers to the request it signs, so each
+ * invocation signs a fresh copy of a template request; the cost of the copy
+ * is included in the results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SignerBenchmark {
+
+    private final AWSCredentials credentials = new BasicAWSCredentials("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY");
+
+    private final QueryStringSigner queryStringSigner = new QueryStringSigner();
+    private final AWS3Signer aws3Signer = new AWS3Signer();
+    private final S3Signer s3Signer = new S3Signer("PUT", "/benchmark-bucket/objects/benchmark");
+
+    private Request<?> queryRequest;
+    private Request<?> aws3Request;
+    private Request<?> s3Request;
+
+    @Setup
+    public void setUp() {
+        queryRequest = DescribeInstancesRequestMarshaller.getInstance().marshall(new DescribeInstancesRequest()
+            .withInstanceIds("i-2ba64342", "i-2ba64343", "i-2ba64344", "i-2ba64345")
+            .withFilters(new Filter("instance-state-name").withValues("running", "pending"),
+                         new Filter("tag:Environment").withValues("production")));
+        queryRequest.setEndpoint(URI.create("https://ec2.amazonaws.com"));
+
+        aws3Request = new DefaultRequest<Void>("AmazonSimpleEmailService");
+        aws3Request.setHttpMethod(HttpMethodName.POST);
+        aws3Request.setEndpoint(URI.create("https://email.us-east-1.amazonaws.com"));
+        aws3Request.addParameter("Action", "SendEmail");
+        aws3Request.addParameter("Source", "sender@example.com");
+        aws3Request.addParameter("Destination.ToAddresses.member.1", "recipient@example.com");
+        aws3Request.addParameter("Message.Subject.Data", "Benchmark");
+        aws3Request.addParameter("Message.Body.Text.Data", "Hello from the benchmark");
+
+        s3Request = new DefaultRequest<Void>("Amazon S3");
+        s3Request.setHttpMethod(HttpMethodName.PUT);
+        s3Request.setEndpoint(URI.create("https://benchmark-bucket.s3.amazonaws.com"));
+        s3Request.setResourcePath("objects/benchmark");
+        s3Request.addHeader("Content-Type", "application/octet-stream");
+        s3Request.addHeader("Content-Length", "65536");
+        s3Request.addHeader("Content-MD5", "1B2M2Y8AsgTpgAmY7PhCfg==");
+        s3Request.addHeader("x-amz-meta-owner", "benchmark");
+        s3Request.addHeader("x-amz-storage-class", "REDUCED_REDUNDANCY");
+    }
+
+    @Benchmark
+    public Request<?> queryStringSigner() {
+        Request<?> request = copy(queryRequest);
+        queryStringSigner.sign(request, credentials);
+        return request;
+    }
+
+    @Benchmark
+    public Request<?> aws3Signer() {
+        Request<?> request = copy(aws3Request);
+        aws3Signer.sign(request, credentials);
+        return request;
+    }
+
+    @Benchmark
+    public Request<?> s3Signer() {
+        Request<?> request = copy(s3Request);
+        s3Signer.sign(request, credentials);
+        return request;
+    }
+
+    private static Request<?> copy(Request<?> template) {
+        Request<Void> request = new DefaultRequest<Void>(template.getServiceName());
+        request.setHttpMethod(template.getHttpMethod());
+        request.setEndpoint(template.getEndpoint());
+        request.setResourcePath(template.getResourcePath());
+        for (Map.Entry<String, String> parameter : template.getParameters().entrySet()) {
+            request.addParameter(parameter.getKey(), parameter.getValue());
+        }
+        for (Map.Entry<String, String> header : template.getHeaders().entrySet()) {
+            request.addHeader(header.getKey(), header.getValue());
+        }
+        return request;
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectResult;
+
+/**
+ * Measures the throughput of small Amazon S3 uploads on warm connections,
+ * with and without the <code>Expect: 100-continue</code> handshake, which
+ * costs every upload an extra round trip before its content is sent.
+ * <p>
+ * The {@link StubHttpServer} delays each response it sends by the round trip
+ * time, so the cost of the handshake shows up as it would over a network;
+ * with a round trip time of 0 only the client's own overhead is measured.
+ * The <code>threshold</code> policy only uses the handshake for uploads of
+ * 64 KB or more.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@Threads(8)
+public class SmallPutBenchmark {
+
+    private static final String BUCKET_NAME = "benchmark-bucket";
+
+    private static final long EXPECT_CONTINUE_THRESHOLD = 64 * 1024;
+
+    @Param({"always", "never", "threshold"})
+    public String expectContinue;
+
+    @Param({"1024", "16384", "131072"})
+    public int objectSize;
+
+    @Param({"0", "2"})
+    public int roundTripMillis;
+
+    private StubHttpServer server;
+    private AmazonS3Client s3;
+    private byte[] content;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = new StubHttpServer();
+        server.setRoundTripDelay(roundTripMillis);
+        server.start();
+
+        ClientConfiguration config = new ClientConfiguration()
+            .withProxyHost("127.0.0.1")
+            .withProxyPort(server.getPort())
+            .withMaxErrorRetry(0);
+        if (expectContinue.equals("never")) config.setUseExpectContinue(false);
+        else if (expectContinue.equals("threshold")) config.setExpectContinueThreshold(EXPECT_CONTINUE_THRESHOLD);
+        else if (!expectContinue.equals("always")) throw new IllegalArgumentException("Unknown policy " + expectContinue);
+
+        s3 = new AmazonS3Client(new BasicAWSCredentials("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY"), config);
+        s3.setEndpoint("http://s3.amazonaws.com");
+
+        content = new byte[objectSize];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte)('a' + i % 26);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        s3.shutdown();
+        server.stop();
+    }
+
+    @Benchmark
+    public PutObjectResult s3PutObject() {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        return s3.putObject(BUCKET_NAME, "objects/benchmark", new ByteArrayInputStream(content), metadata);
+    }
+
+}
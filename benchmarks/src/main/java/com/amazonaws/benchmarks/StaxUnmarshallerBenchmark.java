@@ -0,0 +1,98 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLInputFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.ResponseMetadata;
+import com.amazonaws.services.ec2.model.DescribeInstancesResult;
+import com.amazonaws.services.ec2.model.transform.DescribeInstancesResultStaxUnmarshaller;
+import com.amazonaws.services.simpledb.model.SelectResult;
+import com.amazonaws.services.simpledb.model.transform.SelectResultStaxUnmarshaller;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+import com.amazonaws.services.sqs.model.transform.ReceiveMessageResultStaxUnmarshaller;
+import com.amazonaws.transform.StaxUnmarshallerContext;
+import com.amazonaws.transform.Unmarshaller;
+
+/**
+ * Measures unmarshalling recorded query API responses with
+ * {@link StaxUnmarshallerContext} and the generated StAX unmarshallers,
+ * configured the same way as the clients' response handler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class StaxUnmarshallerBenchmark {
+
+    private final XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+
+    private byte[] describeInstancesResponse;
+    private byte[] receiveMessageResponse;
+    private byte[] selectResponse;
+
+    @Setup
+    public void setUp() {
+        xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        describeInstancesResponse = Fixtures.load(Fixtures.EC2_DESCRIBE_INSTANCES);
+        receiveMessageResponse = Fixtures.load(Fixtures.SQS_RECEIVE_MESSAGE);
+        selectResponse = Fixtures.load(Fixtures.SIMPLEDB_SELECT);
+    }
+
+    @Benchmark
+    public DescribeInstancesResult ec2DescribeInstances() throws Exception {
+        return unmarshall(describeInstancesResponse, DescribeInstancesResultStaxUnmarshaller.getInstance());
+    }
+
+    @Benchmark
+    public ReceiveMessageResult sqsReceiveMessage() throws Exception {
+        return unmarshall(receiveMessageResponse, ReceiveMessageResultStaxUnmarshaller.getInstance());
+    }
+
+    @Benchmark
+    public SelectResult simpleDBSelect() throws Exception {
+        return unmarshall(selectResponse, SelectResultStaxUnmarshaller.getInstance());
+    }
+
+    private <T> T unmarshall(byte[] response, Unmarshaller<T, StaxUnmarshallerContext> unmarshaller) throws Exception {
+        XMLEventReader eventReader = xmlInputFactory.createXMLEventReader(new ByteArrayInputStream(response));
+        try {
+            StaxUnmarshallerContext context = new StaxUnmarshallerContext(eventReader);
+            context.registerMetadataExpression("ResponseMetadata/RequestId", 2, ResponseMetadata.AWS_REQUEST_ID);
+            context.registerMetadataExpression("requestId", 2, ResponseMetadata.AWS_REQUEST_ID);
+            return unmarshaller.unmarshall(context);
+        } finally {
+            eventReader.close();
+        }
+    }
+
+}
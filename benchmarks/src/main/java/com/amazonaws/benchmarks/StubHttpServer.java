@@ -0,0 +1,325 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * In-process HTTP server that answers requests with recorded responses, so
+ * client calls can be benchmarked end to end without a network or a real
+ * service.
+ * <p>
+ * Clients reach the server by using it as their HTTP proxy, so they keep
+ * their real endpoints (and S3 keeps its virtual host addressing) without any
+ * DNS lookups. Endpoints must use plain HTTP, because the server doesn't
+ * tunnel HTTPS.
+ * <p>
+ * Query API requests are answered with the response registered for their
+ * <code>Action</code> parameter. Any other request is treated as an Amazon
+ * S3 request: a <code>GET</code> of the bucket returns the registered object
+ * listing, a <code>GET</code> of a key returns the registered object content
+ * and a <code>PUT</code> stores nothing, but returns the ETag of the uploaded
+ * content so that the client's integrity check passes.
+ * <p>
+ * The server speaks just enough HTTP/1.1 for the SDK's HTTP client: persistent
+ * connections, <code>Expect: 100-continue</code>, and fixed length or chunked
+ * request bodies. Each connection is served by its own thread. A round trip
+ * delay can be set to make each response, including a <code>100
+ * Continue</code>, arrive as late as it would over a real network.
+ */
+public class StubHttpServer {
+
+    private static final Log log = LogFactory.getLog(StubHttpServer.class);
+
+    private static final Pattern ACTION_PATTERN = Pattern.compile("(?:^|&)Action=([^&]*)");
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private final Map<String, byte[]> actionResponses = new ConcurrentHashMap<String, byte[]>();
+    private volatile byte[] objectListing = new byte[0];
+    private volatile byte[] objectContent = new byte[0];
+    private volatile String objectETag = hexMd5(objectContent);
+    private volatile int roundTripDelay;
+
+    /**
+     * Constructs a new server, bound to an ephemeral port on the loopback
+     * interface. The server doesn't accept requests until it's started.
+     *
+     * @throws IOException
+     *             If the server can't be bound.
+     */
+    public StubHttpServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getByName("127.0.0.1"));
+    }
+
+    public void start() {
+        executor.execute(new Runnable() {
+            public void run() {
+                try {
+                    while (true) {
+                        final Socket socket = serverSocket.accept();
+                        socket.setTcpNoDelay(true);
+                        executor.execute(new Runnable() {
+                            public void run() {
+                                serve(socket);
+                            }
+                        });
+                    }
+                } catch (IOException e) {
+                    // The server socket was closed
+                }
+            }
+        });
+    }
+
+    public void stop() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            // Nothing more to release
+        }
+        executor.shutdownNow();
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Registers the XML response to return for the specified query API
+     * action.
+     */
+    public void respondToAction(String action, byte[] response) {
+        actionResponses.put(action, response);
+    }
+
+    /**
+     * Sets the XML response to return when an Amazon S3 bucket is listed.
+     */
+    public void setObjectListing(byte[] objectListing) {
+        this.objectListing = objectListing;
+    }
+
+    /**
+     * Sets the content to return when an Amazon S3 object is downloaded.
+     */
+    public void setObjectContent(byte[] objectContent) {
+        this.objectETag = hexMd5(objectContent);
+        this.objectContent = objectContent;
+    }
+
+    /**
+     * Sets the time, in milliseconds, the server waits before sending each
+     * response, to simulate network round trips. Defaults to 0.
+     */
+    public void setRoundTripDelay(int roundTripDelay) {
+        this.roundTripDelay = roundTripDelay;
+    }
+
+    private void serve(Socket socket) {
+        try {
+            try {
+                InputStream input = new BufferedInputStream(socket.getInputStream());
+                OutputStream output = new BufferedOutputStream(socket.getOutputStream());
+                while (true) {
+                    String requestLine = readLine(input);
+                    if (requestLine == null) return;
+                    if (requestLine.length() == 0) continue;
+
+                    String[] requestParts = requestLine.split(" ");
+                    String method = requestParts[0];
+                    URI uri = URI.create(requestParts[1]);
+
+                    Map<String, String> headers = new LinkedHashMap<String, String>();
+                    String line;
+                    while ((line = readLine(input)) != null && line.length() > 0) {
+                        int colon = line.indexOf(':');
+                        headers.put(line.substring(0, colon).trim().toLowerCase(), line.substring(colon + 1).trim());
+                    }
+
+                    if ("100-continue".equalsIgnoreCase(headers.get("expect"))) {
+                        simulateRoundTrip();
+                        output.write("HTTP/1.1 100 Continue\r\n\r\n".getBytes("US-ASCII"));
+                        output.flush();
+                    }
+                    byte[] requestBody = readBody(input, headers);
+
+                    simulateRoundTrip();
+                    respond(method, uri, requestBody, output);
+                    output.flush();
+                    if ("close".equalsIgnoreCase(headers.get("connection"))) return;
+                }
+            } finally {
+                socket.close();
+            }
+        } catch (SocketException e) {
+            // The client closed the connection
+        } catch (IOException e) {
+            log.debug("Stub connection failed", e);
+        }
+    }
+
+    private void simulateRoundTrip() throws IOException {
+        if (roundTripDelay <= 0) return;
+        try {
+            Thread.sleep(roundTripDelay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SocketException("Interrupted while delaying response");
+        }
+    }
+
+    private void respond(String method, URI uri, byte[] requestBody, OutputStream output) throws IOException {
+        Map<String, String> headers = new LinkedHashMap<String, String>();
+        headers.put("x-amz-request-id", "0A49CE4060975EAC");
+        headers.put("x-amz-id-2", "MzRISOwyjmnupCzjI1WC06l5TTAzm7/JypPGXLh0OVFGcJaaO3KW/hRAqKOpIEEp");
+        boolean includeBody = !"HEAD".equals(method);
+
+        String action = findAction(uri.getRawQuery());
+        if (action == null && "POST".equals(method)) {
+            action = findAction(new String(requestBody, "US-ASCII"));
+        }
+
+        if (action != null) {
+            byte[] response = actionResponses.get(action);
+            if (response == null) {
+                headers.put("Content-Type", "text/xml");
+                send(output, includeBody, 400, "Bad Request", headers, ("<Response><Errors><Error><Code>InvalidAction</Code>"
+                        + "<Message>No stub response for " + action + "</Message></Error></Errors>"
+                        + "<RequestID>0A49CE4060975EAC</RequestID></Response>").getBytes("UTF-8"));
+            } else {
+                headers.put("Content-Type", "text/xml");
+                send(output, includeBody, 200, "OK", headers, response);
+            }
+        } else if ("PUT".equals(method)) {
+            headers.put("ETag", "\"" + hexMd5(requestBody) + "\"");
+            send(output, includeBody, 200, "OK", headers, new byte[0]);
+        } else if ("/".equals(uri.getPath())) {
+            headers.put("Content-Type", "application/xml");
+            send(output, includeBody, 200, "OK", headers, objectListing);
+        } else {
+            headers.put("Content-Type", "application/octet-stream");
+            headers.put("ETag", "\"" + objectETag + "\"");
+            headers.put("Last-Modified", "Wed, 04 May 2011 09:10:17 GMT");
+            send(output, includeBody, 200, "OK", headers, objectContent);
+        }
+    }
+
+    private static void send(OutputStream output, boolean includeBody, int status, String reason,
+            Map<String, String> headers, byte[] body) throws IOException {
+        StringBuilder head = new StringBuilder();
+        head.append("HTTP/1.1 ").append(status).append(' ').append(reason).append("\r\n");
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            head.append(header.getKey()).append(": ").append(header.getValue()).append("\r\n");
+        }
+        head.append("Content-Length: ").append(body.length).append("\r\n\r\n");
+        output.write(head.toString().getBytes("US-ASCII"));
+        // Responses to HEAD requests have the headers of a GET, but no body
+        if (includeBody) output.write(body);
+    }
+
+    private static byte[] readBody(InputStream input, Map<String, String> headers) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        if ("chunked".equalsIgnoreCase(headers.get("transfer-encoding"))) {
+            while (true) {
+                String chunkHeader = readLine(input);
+                if (chunkHeader == null) throw new EOFException();
+                int semicolon = chunkHeader.indexOf(';');
+                int chunkSize = Integer.parseInt((semicolon < 0 ? chunkHeader : chunkHeader.substring(0, semicolon)).trim(), 16);
+                if (chunkSize == 0) {
+                    String trailer;
+                    while ((trailer = readLine(input)) != null && trailer.length() > 0) {}
+                    return body.toByteArray();
+                }
+                copy(input, body, chunkSize);
+                readLine(input);
+            }
+        }
+
+        String contentLength = headers.get("content-length");
+        if (contentLength != null) copy(input, body, Long.parseLong(contentLength));
+        return body.toByteArray();
+    }
+
+    private static void copy(InputStream input, OutputStream output, long length) throws IOException {
+        byte[] buffer = new byte[8192];
+        while (length > 0) {
+            int bytesRead = input.read(buffer, 0, (int)Math.min(buffer.length, length));
+            if (bytesRead < 0) throw new EOFException();
+            output.write(buffer, 0, bytesRead);
+            length -= bytesRead;
+        }
+    }
+
+    /**
+     * Reads a CRLF terminated line, returning null at the end of the stream.
+     */
+    private static String readLine(InputStream input) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = input.read()) != '\n') {
+            if (c < 0) return (line.length() == 0) ? null : line.toString();
+            if (c != '\r') line.append((char)c);
+        }
+        return line.toString();
+    }
+
+    private static String findAction(String parameters) {
+        if (parameters == null) return null;
+        Matcher matcher = ACTION_PATTERN.matcher(parameters);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private static String hexMd5(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(data);
+            StringBuilder builder = new StringBuilder();
+            for (byte b : digest) {
+                builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 isn't available", e);
+        }
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.emulator;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An HTTP request received by the emulator.
+ */
+public class EmulatorRequest {
+
+    private final String method;
+    private final String host;
+    private final String path;
+    private final String rawQuery;
+    private final Map<String, String> headers;
+    private final byte[] body;
+
+    /** The decoded query string and form parameters, parsed when first needed. */
+    private Map<String, String> parameters;
+
+    /**
+     * Constructs a new request.
+     *
+     * @param method
+     *            The HTTP method.
+     * @param host
+     *            The host the request was addressed to, without any port.
+     * @param path
+     *            The decoded request path.
+     * @param rawQuery
+     *            The raw query string, or null if there isn't one.
+     * @param headers
+     *            The request headers, keyed by lower case name.
+     * @param body
+     *            The request body.
+     */
+    public EmulatorRequest(String method, String host, String path, String rawQuery,
+            Map<String, String> headers, byte[] body) {
+        this.method = method;
+        this.host = host;
+        this.path = path;
+        this.rawQuery = rawQuery;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getRawQuery() {
+        return rawQuery;
+    }
+
+    /**
+     * Returns the value of the specified header, or null if the request
+     * doesn't include it.
+     *
+     * @param name
+     *            The header name, in any case.
+     */
+    public String getHeader(String name) {
+        return headers.get(name.toLowerCase());
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Returns the request's parameters: those in the query string, and, for
+     * form encoded <code>POST</code> requests, those in the body.
+     */
+    public Map<String, String> getParameters() {
+        if (parameters == null) {
+            Map<String, String> decoded = new HashMap<String, String>();
+            decodeParameters(rawQuery, decoded);
+            String contentType = getHeader("Content-Type");
+            if ("POST".equals(method) && contentType != null
+                    && contentType.startsWith("application/x-www-form-urlencoded")) {
+                try {
+                    decodeParameters(new String(body, "US-ASCII"), decoded);
+                } catch (UnsupportedEncodingException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            parameters = decoded;
+        }
+        return parameters;
+    }
+
+    /**
+     * Returns the specified parameter, or null if the request doesn't
+     * include it.
+     */
+    public String getParameter(String name) {
+        return getParameters().get(name);
+    }
+
+    private static void decodeParameters(String encoded, Map<String, String> decoded) {
+        if (encoded == null || encoded.length() == 0) return;
+        try {
+            for (String pair : encoded.split("&")) {
+                if (pair.length() == 0) continue;
+                int equals = pair.indexOf('=');
+                if (equals < 0) {
+                    decoded.put(URLDecoder.decode(pair, "UTF-8"), "");
+                } else {
+                    decoded.put(URLDecoder.decode(pair.substring(0, equals), "UTF-8"),
+                                URLDecoder.decode(pair.substring(equals + 1), "UTF-8"));
+                }
+            }
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
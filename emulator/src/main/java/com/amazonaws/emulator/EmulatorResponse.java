@@ -0,0 +1,74 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.emulator;
+
+import java.io.UnsupportedEncodingException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An HTTP response sent by the emulator.
+ */
+public class EmulatorResponse {
+
+    private final int status;
+    private final Map<String, String> headers = new LinkedHashMap<String, String>();
+    private byte[] body = new byte[0];
+
+    public EmulatorResponse(int status) {
+        this.status = status;
+    }
+
+    /**
+     * Returns a new response with the specified status and XML body.
+     */
+    public static EmulatorResponse xml(int status, String xml) {
+        EmulatorResponse response = new EmulatorResponse(status);
+        response.setHeader("Content-Type", "text/xml");
+        response.setBody(utf8(xml));
+        return response;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public EmulatorResponse setHeader(String name, String value) {
+        headers.put(name, value);
+        return this;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public EmulatorResponse setBody(byte[] body) {
+        this.body = body;
+        return this;
+    }
+
+    static byte[] utf8(String value) {
+        try {
+            return value.getBytes("UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
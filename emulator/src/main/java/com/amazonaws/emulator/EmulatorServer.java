@@ -0,0 +1,354 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.emulator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.URI;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * HTTP server that emulates Amazon S3, Amazon SQS and Amazon SimpleDB in
+ * memory, for load and soak testing code that uses the SDK clients without
+ * making real AWS calls.
+ * <p>
+ * Clients can reach the emulator in two ways. Using it as their HTTP proxy
+ * lets them keep their usual endpoints (with the <code>http</code> scheme,
+ * since the emulator doesn't tunnel HTTPS), and S3 requests keep their
+ * virtual host addressing. Alternatively, clients can use the emulator's
+ * address as their endpoint, in which case S3 buckets must be addressed in
+ * path style.
+ * <p>
+ * Query API requests (those with an <code>Action</code> parameter) are sent
+ * to the SQS or SimpleDB emulator by their API version, or failing that, by
+ * host name. All other requests are S3 requests. Requests aren't
+ * authenticated.
+ * <p>
+ * Every request passes through the server's {@link FaultInjector} first,
+ * which by default injects nothing.
+ */
+public class EmulatorServer {
+
+    private static final Log log = LogFactory.getLog(EmulatorServer.class);
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private final S3Emulator s3 = new S3Emulator();
+    private final SqsEmulator sqs = new SqsEmulator();
+    private final SimpleDbEmulator simpleDb = new SimpleDbEmulator();
+    private final FaultInjector faultInjector = new FaultInjector();
+
+    private final AtomicLong requestCount = new AtomicLong();
+
+    /** The open client connections, so they can be closed when stopping. */
+    private final ConcurrentMap<Socket, Boolean> connections = new ConcurrentHashMap<Socket, Boolean>();
+
+    /**
+     * Constructs a new emulator listening on the specified port of the
+     * loopback interface. The emulator doesn't accept requests until it's
+     * started.
+     *
+     * @param port
+     *            The port to listen on, or zero for an ephemeral port.
+     *
+     * @throws IOException
+     *             If the server can't be bound.
+     */
+    public EmulatorServer(int port) throws IOException {
+        this(new InetSocketAddress(InetAddress.getByName("127.0.0.1"), port));
+    }
+
+    /**
+     * Constructs a new emulator listening on the specified address. The
+     * emulator doesn't accept requests until it's started.
+     *
+     * @param address
+     *            The address to listen on.
+     *
+     * @throws IOException
+     *             If the server can't be bound.
+     */
+    public EmulatorServer(InetSocketAddress address) throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(address, 1024);
+    }
+
+    /**
+     * Starts accepting connections, each of which is served by its own
+     * thread.
+     */
+    public void start() {
+        executor.execute(new Runnable() {
+            public void run() {
+                try {
+                    while (true) {
+                        final Socket socket = serverSocket.accept();
+                        socket.setTcpNoDelay(true);
+                        connections.put(socket, Boolean.TRUE);
+                        executor.execute(new Runnable() {
+                            public void run() {
+                                serve(socket);
+                            }
+                        });
+                    }
+                } catch (IOException e) {
+                    if (!serverSocket.isClosed()) log.warn("Stopped accepting connections", e);
+                }
+            }
+        });
+        log.info("Emulating Amazon S3, Amazon SQS and Amazon SimpleDB on " + serverSocket.getLocalSocketAddress());
+    }
+
+    /**
+     * Stops the emulator, closing all its connections.
+     */
+    public void stop() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            log.debug("Unable to close server socket", e);
+        }
+        for (Socket socket : connections.keySet()) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                log.debug("Unable to close connection", e);
+            }
+        }
+        executor.shutdownNow();
+    }
+
+    /**
+     * Returns the port the emulator is listening on.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public S3Emulator getS3() {
+        return s3;
+    }
+
+    public SqsEmulator getSqs() {
+        return sqs;
+    }
+
+    public SimpleDbEmulator getSimpleDb() {
+        return simpleDb;
+    }
+
+    /**
+     * Returns the fault injector applied to every request, which can be
+     * reconfigured while the emulator is running.
+     */
+    public FaultInjector getFaultInjector() {
+        return faultInjector;
+    }
+
+    /**
+     * Returns the number of requests the emulator has answered.
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Handles a request, routing it to the emulated service it's for.
+     */
+    EmulatorResponse handle(EmulatorRequest request) {
+        ServiceEmulator service = route(request);
+        if (service == null) {
+            return EmulatorResponse.xml(400, "<Error><Code>UnknownService</Code>"
+                    + "<Message>Unable to tell which service the request is for</Message></Error>");
+        }
+
+        EmulatorResponse response = faultInjector.apply(request, service);
+        if (response != null) return response;
+
+        try {
+            return service.handle(request);
+        } catch (RuntimeException e) {
+            log.warn("Unable to handle " + request.getMethod() + " " + request.getPath(), e);
+            return service.internalError(request);
+        }
+    }
+
+    private ServiceEmulator route(EmulatorRequest request) {
+        if (request.getParameter("Action") == null) return s3;
+
+        String version = request.getParameter("Version");
+        if (SqsEmulator.API_VERSION.equals(version)) return sqs;
+        if (SimpleDbEmulator.API_VERSION.equals(version)) return simpleDb;
+
+        String host = request.getHost();
+        if (host.startsWith("queue.") || host.startsWith("sqs.") || host.contains(".queue.")) return sqs;
+        if (host.startsWith("sdb.") || host.contains(".sdb.")) return simpleDb;
+        return null;
+    }
+
+    private void serve(Socket socket) {
+        try {
+            try {
+                InputStream input = new BufferedInputStream(socket.getInputStream());
+                OutputStream output = new BufferedOutputStream(socket.getOutputStream());
+                while (true) {
+                    String requestLine = readLine(input);
+                    if (requestLine == null) return;
+                    if (requestLine.length() == 0) continue;
+
+                    String[] requestParts = requestLine.split(" ");
+                    if (requestParts.length < 3) return;
+                    String method = requestParts[0];
+                    URI uri = URI.create(requestParts[1]);
+
+                    Map<String, String> headers = new HashMap<String, String>();
+                    String line;
+                    while ((line = readLine(input)) != null && line.length() > 0) {
+                        int colon = line.indexOf(':');
+                        if (colon > 0) {
+                            headers.put(line.substring(0, colon).trim().toLowerCase(), line.substring(colon + 1).trim());
+                        }
+                    }
+
+                    if ("100-continue".equalsIgnoreCase(headers.get("expect"))) {
+                        output.write("HTTP/1.1 100 Continue\r\n\r\n".getBytes("US-ASCII"));
+                        output.flush();
+                    }
+                    byte[] body = readBody(input, headers);
+
+                    String host = uri.getHost();
+                    if (host == null) host = headers.get("host");
+                    if (host == null) host = "";
+                    int colon = host.indexOf(':');
+                    if (colon >= 0) host = host.substring(0, colon);
+
+                    EmulatorRequest request = new EmulatorRequest(method, host.toLowerCase(), uri.getPath(),
+                            uri.getRawQuery(), headers, body);
+                    EmulatorResponse response = handle(request);
+                    requestCount.incrementAndGet();
+
+                    write(output, response, "HEAD".equals(method));
+                    output.flush();
+                    if ("close".equalsIgnoreCase(headers.get("connection"))) return;
+                }
+            } finally {
+                connections.remove(socket);
+                socket.close();
+            }
+        } catch (SocketException e) {
+            // The client closed the connection
+        } catch (IOException e) {
+            log.debug("Connection failed", e);
+        }
+    }
+
+    private static void write(OutputStream output, EmulatorResponse response, boolean headersOnly) throws IOException {
+        StringBuilder head = new StringBuilder();
+        head.append("HTTP/1.1 ").append(response.getStatus()).append(' ').append(reasonPhrase(response.getStatus())).append("\r\n");
+        head.append("Date: ").append(Xml.rfc822(new Date())).append("\r\n");
+        for (Map.Entry<String, String> header : response.getHeaders().entrySet()) {
+            head.append(header.getKey()).append(": ").append(header.getValue()).append("\r\n");
+        }
+        head.append("Content-Length: ").append(response.getBody().length).append("\r\n\r\n");
+        output.write(head.toString().getBytes("UTF-8"));
+        if (!headersOnly) output.write(response.getBody());
+    }
+
+    private static String reasonPhrase(int status) {
+        switch (status) {
+            case 200: return "OK";
+            case 204: return "No Content";
+            case 206: return "Partial Content";
+            case 400: return "Bad Request";
+            case 403: return "Forbidden";
+            case 404: return "Not Found";
+            case 409: return "Conflict";
+            case 416: return "Requested Range Not Satisfiable";
+            case 500: return "Internal Server Error";
+            case 501: return "Not Implemented";
+            case 503: return "Service Unavailable";
+            default:  return "Status " + status;
+        }
+    }
+
+    private static byte[] readBody(InputStream input, Map<String, String> headers) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        if ("chunked".equalsIgnoreCase(headers.get("transfer-encoding"))) {
+            while (true) {
+                String chunkHeader = readLine(input);
+                if (chunkHeader == null) throw new EOFException();
+                int semicolon = chunkHeader.indexOf(';');
+                int chunkSize = Integer.parseInt((semicolon < 0 ? chunkHeader : chunkHeader.substring(0, semicolon)).trim(), 16);
+                if (chunkSize == 0) {
+                    String trailer;
+                    while ((trailer = readLine(input)) != null && trailer.length() > 0) {}
+                    return body.toByteArray();
+                }
+                copy(input, body, chunkSize);
+                readLine(input);
+            }
+        }
+
+        String contentLength = headers.get("content-length");
+        if (contentLength != null) copy(input, body, Long.parseLong(contentLength));
+        return body.toByteArray();
+    }
+
+    private static void copy(InputStream input, OutputStream output, long length) throws IOException {
+        byte[] buffer = new byte[8192];
+        while (length > 0) {
+            int bytesRead = input.read(buffer, 0, (int)Math.min(buffer.length, length));
+            if (bytesRead < 0) throw new EOFException();
+            output.write(buffer, 0, bytesRead);
+            length -= bytesRead;
+        }
+    }
+
+    /**
+     * Reads a CRLF terminated line, returning null at the end of the stream.
+     */
+    private static String readLine(InputStream input) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = input.read()) != '\n') {
+            if (c < 0) return (line.length() == 0) ? null : line.toString();
+            if (c != '\r') line.append((char)c);
+        }
+        return line.toString();
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.emulator;
+
+import java.util.Random;
+
+/**
+ * Injects latency, errors and throttling into the emulator's responses.
+ * <p>
+ * Every request is first delayed by the configured latency plus a random
+ * jitter. It is then throttled if the configured request rate has been
+ * exceeded, or at random with the configured throttle rate; otherwise it
+ * fails with an internal error at random with the configured error rate.
+ * Throttled and failed requests get each service's own error response, so
+ * the SDK clients handle them (and retry them) as they would in production.
+ * <p>
+ * Settings can be changed while the emulator is running, for example to
+ * simulate a brown out in the middle of a soak test.
+ */
+public class FaultInjector {
+
+    private volatile long latencyMillis;
+    private volatile long latencyJitterMillis;
+    private volatile double errorRate;
+    private volatile double throttleRate;
+    private volatile int maxRequestsPerSecond;
+
+    /** The start of the current one second rate limiting window. */
+    private long windowStart;
+
+    /** The number of requests accepted in the current window. */
+    private int windowRequests;
+
+    private final Random random = new Random();
+
+    /**
+     * Sets the fixed latency added to every response.
+     */
+    public void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    public FaultInjector withLatencyMillis(long latencyMillis) {
+        setLatencyMillis(latencyMillis);
+        return this;
+    }
+
+    public long getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    /**
+     * Sets the maximum random latency added to every response, on top of the
+     * fixed latency.
+     */
+    public void setLatencyJitterMillis(long latencyJitterMillis) {
+        this.latencyJitterMillis = latencyJitterMillis;
+    }
+
+    public FaultInjector withLatencyJitterMillis(long latencyJitterMillis) {
+        setLatencyJitterMillis(latencyJitterMillis);
+        return this;
+    }
+
+    public long getLatencyJitterMillis() {
+        return latencyJitterMillis;
+    }
+
+    /**
+     * Sets the fraction, from 0 to 1, of requests that fail with an internal
+     * error.
+     */
+    public void setErrorRate(double errorRate) {
+        this.errorRate = checkRate(errorRate);
+    }
+
+    public FaultInjector withErrorRate(double errorRate) {
+        setErrorRate(errorRate);
+        return this;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    /**
+     * Sets the fraction, from 0 to 1, of requests that are throttled at
+     * random.
+     */
+    public void setThrottleRate(double throttleRate) {
+        this.throttleRate = checkRate(throttleRate);
+    }
+
+    public FaultInjector withThrottleRate(double throttleRate) {
+        setThrottleRate(throttleRate);
+        return this;
+    }
+
+    public double getThrottleRate() {
+        return throttleRate;
+    }
+
+    /**
+     * Sets the maximum number of requests accepted per second, across all
+     * services; requests over the limit are throttled. Zero, the default,
+     * means no limit.
+     */
+    public void setMaxRequestsPerSecond(int maxRequestsPerSecond) {
+        this.maxRequestsPerSecond = maxRequestsPerSecond;
+    }
+
+    public FaultInjector withMaxRequestsPerSecond(int maxRequestsPerSecond) {
+        setMaxRequestsPerSecond(maxRequestsPerSecond);
+        return this;
+    }
+
+    public int getMaxRequestsPerSecond() {
+        return maxRequestsPerSecond;
+    }
+
+    /**
+     * Applies the configured faults to the specified request: sleeps for the
+     * configured latency, then returns the error response to send instead of
+     * handling the request, or null if the request should be handled
+     * normally.
+     *
+     * @param request
+     *            The request being handled.
+     * @param service
+     *            The emulated service the request is for.
+     *
+     * @return The error response to send, or null to handle the request.
+     */
+    public EmulatorResponse apply(EmulatorRequest request, ServiceEmulator service) {
+        long delay = latencyMillis;
+        long jitter = latencyJitterMillis;
+        double throttleDraw;
+        double errorDraw;
+        synchronized (random) {
+            if (jitter > 0) delay += (long)(random.nextDouble() * jitter);
+            throttleDraw = random.nextDouble();
+            errorDraw = random.nextDouble();
+        }
+
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (isOverRateLimit() || throttleDraw < throttleRate) return service.throttlingError(request);
+        if (errorDraw < errorRate) return service.internalError(request);
+        return null;
+    }
+
+    private synchronized boolean isOverRateLimit() {
+        int limit = maxRequestsPerSecond;
+        if (limit <= 0) return false;
+
+        long now = System.currentTimeMillis();
+        if (now - windowStart >= 1000) {
+            windowStart = now;
+            windowRequests = 0;
+        }
+        return ++windowRequests > limit;
+    }
+
+    private static double checkRate(double rate) {
+        if (rate < 0 || rate > 1) throw new IllegalArgumentException("Rates must be between 0 and 1: " + rate);
+        return rate;
+    }
+
+}
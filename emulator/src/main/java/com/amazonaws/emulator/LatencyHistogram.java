@@ -0,0 +1,123 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.emulator;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread safe histogram of latencies, recorded with microsecond resolution
+ * and reported as percentiles.
+ * <p>
+ * Latencies below 128 microseconds are counted exactly; larger latencies are
+ * counted in log-linear buckets, 64 per power of two, so any percentile is
+ * accurate to within about 1.6%. Recording is lock free and never allocates,
+ * so many threads can record into one histogram without disturbing the
+ * latencies they measure.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKETS = 64;
+    private static final int MAX_SHIFT = 40;
+    private static final int BUCKET_COUNT = (MAX_SHIFT + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Records one latency.
+     *
+     * @param nanos
+     *            The latency, in nanoseconds.
+     */
+    public void record(long nanos) {
+        long micros = Math.max(0, nanos / 1000);
+        counts.incrementAndGet(bucket(micros));
+        count.incrementAndGet();
+        totalMicros.addAndGet(micros);
+
+        long max;
+        while (micros > (max = maxMicros.get())) {
+            if (maxMicros.compareAndSet(max, micros)) break;
+        }
+    }
+
+    /**
+     * Returns the number of latencies recorded.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Returns the mean latency, in milliseconds.
+     */
+    public double getMeanMillis() {
+        long n = count.get();
+        return (n == 0) ? 0 : totalMicros.get() / 1000.0 / n;
+    }
+
+    /**
+     * Returns the largest latency recorded, in milliseconds.
+     */
+    public double getMaxMillis() {
+        return maxMicros.get() / 1000.0;
+    }
+
+    /**
+     * Returns the latency, in milliseconds, below which the specified
+     * percentage of the recorded latencies fall.
+     *
+     * @param percentile
+     *            The percentile, between 0 and 100 (ex: 99.9).
+     *
+     * @return The latency at the specified percentile, in milliseconds.
+     */
+    public double getPercentileMillis(double percentile) {
+        long n = count.get();
+        if (n == 0) return 0;
+        long rank = Math.max(1, (long)Math.ceil(n * percentile / 100.0));
+
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) return Math.min(highestValue(i), maxMicros.get()) / 1000.0;
+        }
+        return getMaxMillis();
+    }
+
+    /**
+     * Returns the bucket a latency, in microseconds, is counted in.
+     */
+    private static int bucket(long micros) {
+        if (micros < 2 * SUB_BUCKETS) return (int)micros;
+        int shift = Math.min(MAX_SHIFT, 63 - Long.numberOfLeadingZeros(micros) - 6);
+        long subBucket = Math.min(2 * SUB_BUCKETS - 1, micros >> shift);
+        return shift * SUB_BUCKETS + (int)subBucket;
+    }
+
+    /**
+     * Returns the largest latency, in microseconds, counted in a bucket.
+     */
+    private static long highestValue(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) return bucket;
+        int shift = bucket / SUB_BUCKETS - 1;
+        long subBucket = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+}
@@ -0,0 +1,494 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.emulator;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.simpledb.AmazonSimpleDB;
+import com.amazonaws.services.simpledb.AmazonSimpleDBClient;
+import com.amazonaws.services.simpledb.model.CreateDomainRequest;
+import com.amazonaws.services.simpledb.model.PutAttributesRequest;
+import com.amazonaws.services.simpledb.model.ReplaceableAttribute;
+import com.amazonaws.services.simpledb.model.SelectRequest;
+import com.amazonaws.services.sqs.AmazonSQS;
+import com.amazonaws.services.sqs.AmazonSQSClient;
+import com.amazonaws.services.sqs.model.CreateQueueRequest;
+import com.amazonaws.services.sqs.model.DeleteMessageRequest;
+import com.amazonaws.services.sqs.model.Message;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.SendMessageRequest;
+
+/**
+ * Drives the SDK's Amazon S3, Amazon SQS and Amazon SimpleDB clients against
+ * an {@link EmulatorServer} at a configured concurrency, and reports the
+ * throughput, latency percentiles and errors of each operation.
+ * <p>
+ * Each worker thread runs the operations in the mix in turn, as fast as it
+ * can, for the warmup period and then for the measured period. Latencies
+ * include the clients' retries, so injected errors and throttling show up as
+ * both errors and higher latencies. The harness can start its own emulator,
+ * or drive a separately started one through its address.
+ * <p>
+ * Example, with 32 threads, mostly reads, and 1% throttling:
+ *
+ * <pre>
+ * java com.amazonaws.emulator.LoadHarness --threads 32 --duration 60 \
+ *     --mix s3-get:4,s3-put,sqs-send,sqs-receive,sdb-select:2,sdb-put \
+ *     --throttle-rate 0.01
+ * </pre>
+ */
+public class LoadHarness {
+
+    static final String BUCKET_NAME = "load-harness-bucket";
+    static final String QUEUE_NAME = "load-harness-queue";
+    static final String DOMAIN_NAME = "load-harness-domain";
+
+    /** The number of distinct S3 keys and SimpleDB items the load uses. */
+    private static final int KEY_COUNT = 100;
+
+    /**
+     * The operations a load can be made up of.
+     */
+    public static enum Operation {
+        S3_PUT("s3-put"),
+        S3_GET("s3-get"),
+        SQS_SEND("sqs-send"),
+        /** Receives up to ten messages and deletes each of them. */
+        SQS_RECEIVE("sqs-receive"),
+        SDB_PUT("sdb-put"),
+        SDB_SELECT("sdb-select");
+
+        private final String name;
+
+        private Operation(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+
+        public static Operation fromName(String name) {
+            for (Operation operation : values()) {
+                if (operation.name.equals(name)) return operation;
+            }
+            throw new IllegalArgumentException("Unknown operation " + name + ", expected one of " + Arrays.asList(values()));
+        }
+    }
+
+    private final String proxyHost;
+    private final int proxyPort;
+
+    private int threads = 16;
+    private int warmupSeconds = 5;
+    private int durationSeconds = 30;
+    private int payloadSize = 1024;
+    private int maxErrorRetry = 3;
+    private List<Operation> mix = Arrays.asList(Operation.values());
+
+    private AmazonS3 s3;
+    private AmazonSQS sqs;
+    private AmazonSimpleDB simpleDb;
+    private String queueUrl;
+    private byte[] payload;
+    private String messageBody;
+
+    private volatile boolean measuring;
+    private volatile boolean stopping;
+    private final Map<Operation, OperationStats> stats = new LinkedHashMap<Operation, OperationStats>();
+
+    /**
+     * Constructs a new harness that drives the emulator at the specified
+     * address, which clients use as their HTTP proxy.
+     *
+     * @param host
+     *            The host the emulator is listening on.
+     * @param port
+     *            The port the emulator is listening on.
+     */
+    public LoadHarness(String host, int port) {
+        this.proxyHost = host;
+        this.proxyPort = port;
+    }
+
+    /** Sets the number of threads issuing requests (default 16). */
+    public LoadHarness withThreads(int threads) {
+        this.threads = threads;
+        return this;
+    }
+
+    /** Sets how long to run before measuring (default 5 seconds). */
+    public LoadHarness withWarmupSeconds(int warmupSeconds) {
+        this.warmupSeconds = warmupSeconds;
+        return this;
+    }
+
+    /** Sets how long to measure for (default 30 seconds). */
+    public LoadHarness withDurationSeconds(int durationSeconds) {
+        this.durationSeconds = durationSeconds;
+        return this;
+    }
+
+    /**
+     * Sets the size of S3 objects and SQS messages (default 1024 bytes);
+     * messages are capped at the SQS limit of 64KB.
+     */
+    public LoadHarness withPayloadSize(int payloadSize) {
+        this.payloadSize = payloadSize;
+        return this;
+    }
+
+    /** Sets the clients' maximum number of retries (default 3). */
+    public LoadHarness withMaxErrorRetry(int maxErrorRetry) {
+        this.maxErrorRetry = maxErrorRetry;
+        return this;
+    }
+
+    /**
+     * Sets the operations each thread runs in turn. An operation can appear
+     * more than once to weight it (default: every operation once).
+     */
+    public LoadHarness withMix(List<Operation> mix) {
+        if (mix.isEmpty()) throw new IllegalArgumentException("The mix must contain at least one operation");
+        this.mix = new ArrayList<Operation>(mix);
+        return this;
+    }
+
+    /**
+     * Creates the clients, and the bucket, queue and domain the load uses,
+     * seeded with data. Called by {@link #run()} if it hasn't been called
+     * already; calling it first allows faults to be injected only once the
+     * data is in place.
+     */
+    public void setUp() {
+        ClientConfiguration clientConfiguration = new ClientConfiguration()
+                .withProxyHost(proxyHost)
+                .withProxyPort(proxyPort)
+                .withMaxConnections(threads)
+                .withMaxErrorRetry(maxErrorRetry);
+        BasicAWSCredentials credentials = new BasicAWSCredentials("emulator", "emulator");
+
+        s3 = new AmazonS3Client(credentials, clientConfiguration);
+        s3.setEndpoint("http://s3.amazonaws.com");
+        sqs = new AmazonSQSClient(credentials, clientConfiguration);
+        sqs.setEndpoint("http://queue.amazonaws.com");
+        simpleDb = new AmazonSimpleDBClient(credentials, clientConfiguration);
+        simpleDb.setEndpoint("http://sdb.amazonaws.com");
+
+        payload = new byte[payloadSize];
+        new Random().nextBytes(payload);
+        char[] messageChars = new char[Math.min(payloadSize, 64 * 1024)];
+        Arrays.fill(messageChars, 'm');
+        messageBody = new String(messageChars);
+
+        seed();
+    }
+
+    /**
+     * Runs the load, and returns each operation's statistics for the measured
+     * period.
+     *
+     * @return The statistics of each operation in the mix.
+     *
+     * @throws InterruptedException
+     *             If interrupted while waiting for the load to finish.
+     */
+    public Map<Operation, OperationStats> run() throws InterruptedException {
+        if (s3 == null) setUp();
+        for (Operation operation : mix) {
+            if (!stats.containsKey(operation)) stats.put(operation, new OperationStats());
+        }
+
+        final CountDownLatch finished = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            final int offset = i;
+            Thread worker = new Thread("load-harness-" + i) {
+                @Override
+                public void run() {
+                    try {
+                        work(offset);
+                    } finally {
+                        finished.countDown();
+                    }
+                }
+            };
+            worker.setDaemon(true);
+            worker.start();
+        }
+
+        try {
+            Thread.sleep(warmupSeconds * 1000L);
+            measuring = true;
+            long start = System.nanoTime();
+            Thread.sleep(durationSeconds * 1000L);
+            measuring = false;
+            long elapsedNanos = System.nanoTime() - start;
+            for (OperationStats operationStats : stats.values()) {
+                operationStats.elapsedNanos = elapsedNanos;
+            }
+        } finally {
+            stopping = true;
+        }
+        finished.await();
+        return stats;
+    }
+
+    /**
+     * Prints a table of each operation's throughput, latency percentiles and
+     * errors.
+     */
+    public static void printReport(Map<Operation, OperationStats> stats, PrintStream out) {
+        out.println(String.format("%-12s %9s %9s %8s %8s %8s %8s %8s %8s %7s",
+                "operation", "count", "ops/s", "mean", "p50", "p90", "p99", "p99.9", "max", "errors"));
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            OperationStats operationStats = entry.getValue();
+            LatencyHistogram latencies = operationStats.getLatencies();
+            out.println(String.format("%-12s %9d %9.1f %8.2f %8.2f %8.2f %8.2f %8.2f %8.2f %7d",
+                    entry.getKey(), latencies.getCount(), operationStats.getOperationsPerSecond(),
+                    latencies.getMeanMillis(), latencies.getPercentileMillis(50), latencies.getPercentileMillis(90),
+                    latencies.getPercentileMillis(99), latencies.getPercentileMillis(99.9), latencies.getMaxMillis(),
+                    operationStats.getErrorCount()));
+        }
+        out.println("(latencies in milliseconds)");
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            for (Map.Entry<String, AtomicLong> error : new TreeMap<String, AtomicLong>(entry.getValue().errors).entrySet()) {
+                out.println(entry.getKey() + " error " + error.getKey() + ": " + error.getValue());
+            }
+        }
+    }
+
+    private void seed() {
+        s3.createBucket(BUCKET_NAME);
+        for (int i = 0; i < KEY_COUNT; i++) putObject(i);
+
+        queueUrl = sqs.createQueue(new CreateQueueRequest(QUEUE_NAME)).getQueueUrl();
+
+        simpleDb.createDomain(new CreateDomainRequest(DOMAIN_NAME));
+        Random random = new Random();
+        for (int i = 0; i < KEY_COUNT; i++) putItem(i, random);
+    }
+
+    private void work(int offset) {
+        Random random = new Random();
+        for (int i = offset; !stopping; i++) {
+            Operation operation = mix.get(i % mix.size());
+            OperationStats operationStats = stats.get(operation);
+            boolean measured = measuring;
+            long start = System.nanoTime();
+            try {
+                execute(operation, random);
+            } catch (AmazonServiceException e) {
+                if (measured) operationStats.recordError(e.getErrorCode());
+            } catch (AmazonClientException e) {
+                if (measured) operationStats.recordError(e.getClass().getSimpleName());
+            } catch (IOException e) {
+                if (measured) operationStats.recordError(e.getClass().getSimpleName());
+            }
+            if (measured && measuring) operationStats.latencies.record(System.nanoTime() - start);
+        }
+    }
+
+    private void execute(Operation operation, Random random) throws IOException {
+        switch (operation) {
+            case S3_PUT:
+                putObject(random.nextInt(KEY_COUNT));
+                break;
+            case S3_GET:
+                S3Object object = s3.getObject(BUCKET_NAME, "object-" + random.nextInt(KEY_COUNT));
+                InputStream content = object.getObjectContent();
+                try {
+                    byte[] buffer = new byte[8192];
+                    while (content.read(buffer) >= 0) {}
+                } finally {
+                    content.close();
+                }
+                break;
+            case SQS_SEND:
+                sqs.sendMessage(new SendMessageRequest(queueUrl, messageBody));
+                break;
+            case SQS_RECEIVE:
+                List<Message> messages = sqs.receiveMessage(
+                        new ReceiveMessageRequest(queueUrl).withMaxNumberOfMessages(10)).getMessages();
+                for (Message message : messages) {
+                    sqs.deleteMessage(new DeleteMessageRequest(queueUrl, message.getReceiptHandle()));
+                }
+                break;
+            case SDB_PUT:
+                putItem(random.nextInt(KEY_COUNT), random);
+                break;
+            case SDB_SELECT:
+                simpleDb.select(new SelectRequest(
+                        "select * from `" + DOMAIN_NAME + "` where score > '" + random.nextInt(1000) + "' limit 20"));
+                break;
+        }
+    }
+
+    private void putObject(int key) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(payload.length);
+        s3.putObject(BUCKET_NAME, "object-" + key, new ByteArrayInputStream(payload), metadata);
+    }
+
+    private void putItem(int item, Random random) {
+        List<ReplaceableAttribute> attributes = new ArrayList<ReplaceableAttribute>();
+        attributes.add(new ReplaceableAttribute("score", String.format("%03d", random.nextInt(1000)), true));
+        attributes.add(new ReplaceableAttribute("updated", String.valueOf(System.currentTimeMillis()), true));
+        simpleDb.putAttributes(new PutAttributesRequest(DOMAIN_NAME, "item-" + item, attributes));
+    }
+
+    /**
+     * The latencies and errors of one operation during the measured period.
+     */
+    public static final class OperationStats {
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final ConcurrentMap<String, AtomicLong> errors = new ConcurrentHashMap<String, AtomicLong>();
+        private volatile long elapsedNanos;
+
+        private void recordError(String code) {
+            AtomicLong count = errors.get(code);
+            if (count == null) {
+                AtomicLong newCount = new AtomicLong();
+                count = errors.putIfAbsent(code, newCount);
+                if (count == null) count = newCount;
+            }
+            count.incrementAndGet();
+        }
+
+        /** Returns the latencies of the operation, successful or not. */
+        public LatencyHistogram getLatencies() {
+            return latencies;
+        }
+
+        /** Returns the number of operations that failed. */
+        public long getErrorCount() {
+            long count = 0;
+            for (AtomicLong errorCount : errors.values()) count += errorCount.get();
+            return count;
+        }
+
+        /** Returns the number of failed operations by error code. */
+        public Map<String, Long> getErrors() {
+            Map<String, Long> counts = new TreeMap<String, Long>();
+            for (Map.Entry<String, AtomicLong> error : errors.entrySet()) {
+                counts.put(error.getKey(), error.getValue().get());
+            }
+            return Collections.unmodifiableMap(counts);
+        }
+
+        /** Returns the number of operations completed per second. */
+        public double getOperationsPerSecond() {
+            return (elapsedNanos == 0) ? 0 : latencies.getCount() * 1e9 / elapsedNanos;
+        }
+    }
+
+    /**
+     * Runs a load from the command line and prints its report. Unless
+     * <code>--target host:port</code> is given, an emulator is started in
+     * this process, and configured with the fault injection options once
+     * the load's data has been seeded; the fault injection options are
+     * ignored for a separately started emulator.
+     * <p>
+     * Options: <code>--threads n, --warmup seconds, --duration seconds,
+     * --size bytes, --retries n, --mix op[:weight],...,
+     * --target host:port, --latency ms, --jitter ms, --error-rate fraction,
+     * --throttle-rate fraction, --max-rps n</code>.
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<String, String>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --option value, not " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+
+        EmulatorServer server = null;
+        String host;
+        int port;
+        if (options.containsKey("target")) {
+            String target = options.remove("target");
+            int colon = target.lastIndexOf(':');
+            host = target.substring(0, colon);
+            port = Integer.parseInt(target.substring(colon + 1));
+        } else {
+            server = new EmulatorServer(0);
+            server.start();
+            host = "127.0.0.1";
+            port = server.getPort();
+        }
+
+        LoadHarness harness = new LoadHarness(host, port);
+        if (options.containsKey("threads")) harness.withThreads(Integer.parseInt(options.remove("threads")));
+        if (options.containsKey("warmup")) harness.withWarmupSeconds(Integer.parseInt(options.remove("warmup")));
+        if (options.containsKey("duration")) harness.withDurationSeconds(Integer.parseInt(options.remove("duration")));
+        if (options.containsKey("size")) harness.withPayloadSize(Integer.parseInt(options.remove("size")));
+        if (options.containsKey("retries")) harness.withMaxErrorRetry(Integer.parseInt(options.remove("retries")));
+        if (options.containsKey("mix")) {
+            List<Operation> mix = new ArrayList<Operation>();
+            for (String entry : options.remove("mix").split(",")) {
+                String[] parts = entry.trim().split(":");
+                int weight = (parts.length > 1) ? Integer.parseInt(parts[1]) : 1;
+                for (int i = 0; i < weight; i++) mix.add(Operation.fromName(parts[0]));
+            }
+            harness.withMix(mix);
+        }
+
+        FaultInjector faultInjector = (server == null) ? new FaultInjector() : server.getFaultInjector();
+        String latency = options.remove("latency");
+        String jitter = options.remove("jitter");
+        String errorRate = options.remove("error-rate");
+        String throttleRate = options.remove("throttle-rate");
+        String maxRequestsPerSecond = options.remove("max-rps");
+        if (!options.isEmpty()) throw new IllegalArgumentException("Unknown options " + options.keySet());
+
+        try {
+            // Seed the data before injecting faults
+            harness.setUp();
+            if (latency != null) faultInjector.setLatencyMillis(Long.parseLong(latency));
+            if (jitter != null) faultInjector.setLatencyJitterMillis(Long.parseLong(jitter));
+            if (errorRate != null) faultInjector.setErrorRate(Double.parseDouble(errorRate));
+            if (throttleRate != null) faultInjector.setThrottleRate(Double.parseDouble(throttleRate));
+            if (maxRequestsPerSecond != null) faultInjector.setMaxRequestsPerSecond(Integer.parseInt(maxRequestsPerSecond));
+            printReport(harness.run(), System.out);
+        } finally {
+            if (server != null) server.stop();
+        }
+    }
+
+}
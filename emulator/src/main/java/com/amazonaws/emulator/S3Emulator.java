@@ -0,0 +1,390 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.emulator;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory stand-in for Amazon S3.
+ * <p>
+ * Supports listing buckets, creating, listing and deleting buckets, and
+ * putting, copying, getting (including byte ranges), heading and deleting
+ * objects, with user metadata. Sub-resources such as ACLs, versioning and
+ * multipart uploads aren't supported and are answered with a
+ * <code>NotImplemented</code> error. Buckets can be addressed in virtual host
+ * or path style.
+ */
+public class S3Emulator implements ServiceEmulator {
+
+    private static final String NAMESPACE = "http://s3.amazonaws.com/doc/2006-03-01/";
+    private static final String OWNER_ID = "75aa57f09aa0c8caeab4f8c24e99d10f8e7faeebf76c078efc7c6caea54ba06a";
+    private static final String OWNER_DISPLAY_NAME = "emulator";
+    private static final String USER_METADATA_PREFIX = "x-amz-meta-";
+    private static final Pattern RANGE_PATTERN = Pattern.compile("bytes=(\\d+)-(\\d*)");
+
+    private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<String, Bucket>();
+
+    /**
+     * Creates the specified bucket, if it doesn't already exist, so a test
+     * can start with its buckets in place.
+     */
+    public void createBucket(String bucketName) {
+        buckets.putIfAbsent(bucketName, new Bucket());
+    }
+
+    /**
+     * Deletes all buckets and objects.
+     */
+    public void clear() {
+        buckets.clear();
+    }
+
+    public EmulatorResponse handle(EmulatorRequest request) {
+        String bucketName;
+        String key;
+
+        String host = request.getHost();
+        String path = (request.getPath() == null) ? "/" : request.getPath();
+        int s3Suffix = host.indexOf(".s3");
+        if (s3Suffix > 0 && host.endsWith(".amazonaws.com")) {
+            bucketName = host.substring(0, s3Suffix);
+            key = path.substring(1);
+        } else {
+            String bucketAndKey = path.substring(1);
+            int slash = bucketAndKey.indexOf('/');
+            bucketName = (slash < 0) ? bucketAndKey : bucketAndKey.substring(0, slash);
+            key = (slash < 0) ? "" : bucketAndKey.substring(slash + 1);
+        }
+
+        String method = request.getMethod();
+        if (bucketName.length() == 0) {
+            if ("GET".equals(method)) return listBuckets();
+            return error(405, "MethodNotAllowed", "The specified method is not allowed against this resource.", "/");
+        }
+
+        String resource = "/" + bucketName + "/" + key;
+        String subresource = findSubresource(request);
+        if (subresource != null && !(key.length() == 0 && subresource.equals("location"))) {
+            return error(501, "NotImplemented", "The " + subresource + " sub-resource isn't emulated.", resource);
+        }
+
+        if (key.length() == 0) {
+            if ("PUT".equals(method)) return createBucket(bucketName, resource);
+            if ("DELETE".equals(method)) return deleteBucket(bucketName, resource);
+            Bucket bucket = buckets.get(bucketName);
+            if (bucket == null) return noSuchBucket(bucketName, resource);
+            if ("HEAD".equals(method)) return new EmulatorResponse(200);
+            if ("location".equals(subresource)) {
+                return EmulatorResponse.xml(200, "<LocationConstraint xmlns=\"" + NAMESPACE + "\"/>");
+            }
+            return listObjects(bucketName, bucket, request);
+        }
+
+        Bucket bucket = buckets.get(bucketName);
+        if (bucket == null) return noSuchBucket(bucketName, resource);
+        if ("PUT".equals(method)) {
+            if (request.getHeader("x-amz-copy-source") != null) return copyObject(bucket, key, request, resource);
+            return putObject(bucket, key, request);
+        }
+        if ("DELETE".equals(method)) {
+            bucket.objects.remove(key);
+            return new EmulatorResponse(204);
+        }
+
+        StoredObject object = bucket.objects.get(key);
+        if (object == null) return error(404, "NoSuchKey", "The specified key does not exist.", resource);
+        return getObject(object, request, resource);
+    }
+
+    public EmulatorResponse internalError(EmulatorRequest request) {
+        return error(500, "InternalError", "We encountered an internal error. Please try again.", request.getPath());
+    }
+
+    public EmulatorResponse throttlingError(EmulatorRequest request) {
+        return error(503, "SlowDown", "Please reduce your request rate.", request.getPath());
+    }
+
+    private EmulatorResponse listBuckets() {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<ListAllMyBucketsResult xmlns=\"").append(NAMESPACE).append("\">");
+        appendOwner(xml);
+        xml.append("<Buckets>");
+        Map<String, Bucket> sorted = new ConcurrentSkipListMap<String, Bucket>(buckets);
+        for (Map.Entry<String, Bucket> bucket : sorted.entrySet()) {
+            xml.append("<Bucket>");
+            Xml.element(xml, "Name", bucket.getKey());
+            Xml.element(xml, "CreationDate", Xml.iso8601(bucket.getValue().creationDate));
+            xml.append("</Bucket>");
+        }
+        xml.append("</Buckets></ListAllMyBucketsResult>");
+        return EmulatorResponse.xml(200, xml.toString());
+    }
+
+    private EmulatorResponse createBucket(String bucketName, String resource) {
+        if (bucketName.length() < 3 || bucketName.length() > 255) {
+            return error(400, "InvalidBucketName", "The specified bucket is not valid.", resource);
+        }
+        buckets.putIfAbsent(bucketName, new Bucket());
+        return new EmulatorResponse(200).setHeader("Location", "/" + bucketName);
+    }
+
+    private EmulatorResponse deleteBucket(String bucketName, String resource) {
+        Bucket bucket = buckets.get(bucketName);
+        if (bucket == null) return noSuchBucket(bucketName, resource);
+        if (!bucket.objects.isEmpty()) {
+            return error(409, "BucketNotEmpty", "The bucket you tried to delete is not empty.", resource);
+        }
+        buckets.remove(bucketName, bucket);
+        return new EmulatorResponse(204);
+    }
+
+    private EmulatorResponse listObjects(String bucketName, Bucket bucket, EmulatorRequest request) {
+        String prefix = request.getParameter("prefix");
+        String marker = request.getParameter("marker");
+        String delimiter = request.getParameter("delimiter");
+        int maxKeys = 1000;
+        if (request.getParameter("max-keys") != null) {
+            maxKeys = Math.min(1000, Math.max(0, Integer.parseInt(request.getParameter("max-keys"))));
+        }
+        if (prefix == null) prefix = "";
+        if (delimiter != null && delimiter.length() == 0) delimiter = null;
+
+        NavigableMap<String, StoredObject> candidates = (marker == null)
+                ? bucket.objects : bucket.objects.tailMap(marker, false);
+
+        StringBuilder contents = new StringBuilder();
+        StringBuilder commonPrefixes = new StringBuilder();
+        String lastCommonPrefix = null;
+        String nextMarker = null;
+        boolean truncated = false;
+        int count = 0;
+
+        for (Map.Entry<String, StoredObject> entry : candidates.entrySet()) {
+            String key = entry.getKey();
+            if (!key.startsWith(prefix)) {
+                if (key.compareTo(prefix) > 0) break;
+                continue;
+            }
+
+            String commonPrefix = null;
+            if (delimiter != null) {
+                int index = key.indexOf(delimiter, prefix.length());
+                if (index >= 0) commonPrefix = key.substring(0, index + delimiter.length());
+            }
+            if (commonPrefix != null && commonPrefix.equals(lastCommonPrefix)) continue;
+
+            if (count == maxKeys) {
+                truncated = true;
+                break;
+            }
+            count++;
+
+            if (commonPrefix != null) {
+                lastCommonPrefix = commonPrefix;
+                nextMarker = commonPrefix;
+                commonPrefixes.append("<CommonPrefixes>");
+                Xml.element(commonPrefixes, "Prefix", commonPrefix);
+                commonPrefixes.append("</CommonPrefixes>");
+            } else {
+                nextMarker = key;
+                StoredObject object = entry.getValue();
+                contents.append("<Contents>");
+                Xml.element(contents, "Key", key);
+                Xml.element(contents, "LastModified", Xml.iso8601(object.lastModified));
+                Xml.element(contents, "ETag", "\"" + object.eTag + "\"");
+                Xml.element(contents, "Size", object.data.length);
+                appendOwner(contents);
+                Xml.element(contents, "StorageClass", "STANDARD");
+                contents.append("</Contents>");
+            }
+        }
+
+        StringBuilder xml = new StringBuilder();
+        xml.append("<ListBucketResult xmlns=\"").append(NAMESPACE).append("\">");
+        Xml.element(xml, "Name", bucketName);
+        Xml.element(xml, "Prefix", prefix);
+        Xml.element(xml, "Marker", (marker == null) ? "" : marker);
+        if (truncated && delimiter != null) Xml.element(xml, "NextMarker", nextMarker);
+        Xml.element(xml, "MaxKeys", maxKeys);
+        if (delimiter != null) Xml.element(xml, "Delimiter", delimiter);
+        Xml.element(xml, "IsTruncated", truncated);
+        xml.append(contents).append(commonPrefixes);
+        xml.append("</ListBucketResult>");
+        return EmulatorResponse.xml(200, xml.toString());
+    }
+
+    private EmulatorResponse putObject(Bucket bucket, String key, EmulatorRequest request) {
+        StoredObject object = new StoredObject(request.getBody(), request.getHeader("Content-Type"), objectMetadata(request));
+        bucket.objects.put(key, object);
+        return new EmulatorResponse(200).setHeader("ETag", "\"" + object.eTag + "\"");
+    }
+
+    private EmulatorResponse copyObject(Bucket bucket, String key, EmulatorRequest request, String resource) {
+        String source = request.getHeader("x-amz-copy-source");
+        try {
+            source = URLDecoder.decode(source, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+        if (source.startsWith("/")) source = source.substring(1);
+        int slash = source.indexOf('/');
+        Bucket sourceBucket = (slash < 0) ? null : buckets.get(source.substring(0, slash));
+        StoredObject sourceObject = (sourceBucket == null) ? null : sourceBucket.objects.get(source.substring(slash + 1));
+        if (sourceObject == null) return error(404, "NoSuchKey", "The specified key does not exist.", resource);
+
+        StoredObject object;
+        if ("REPLACE".equals(request.getHeader("x-amz-metadata-directive"))) {
+            object = new StoredObject(sourceObject.data, request.getHeader("Content-Type"),
+                    objectMetadata(request));
+        } else {
+            object = new StoredObject(sourceObject.data, sourceObject.contentType, sourceObject.metadata);
+        }
+        bucket.objects.put(key, object);
+
+        StringBuilder xml = new StringBuilder();
+        xml.append("<CopyObjectResult xmlns=\"").append(NAMESPACE).append("\">");
+        Xml.element(xml, "LastModified", Xml.iso8601(object.lastModified));
+        Xml.element(xml, "ETag", "\"" + object.eTag + "\"");
+        xml.append("</CopyObjectResult>");
+        return EmulatorResponse.xml(200, xml.toString());
+    }
+
+    /**
+     * Returns the metadata headers to store with an object, keyed by lower
+     * case name.
+     */
+    private static Map<String, String> objectMetadata(EmulatorRequest request) {
+        Map<String, String> metadata = new HashMap<String, String>();
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            String name = header.getKey();
+            if (name.startsWith(USER_METADATA_PREFIX) || name.equals("cache-control")
+                    || name.equals("content-disposition") || name.equals("content-encoding")) {
+                metadata.put(name, header.getValue());
+            }
+        }
+        return metadata;
+    }
+
+    private EmulatorResponse getObject(StoredObject object, EmulatorRequest request, String resource) {
+        EmulatorResponse response;
+        String range = request.getHeader("Range");
+        Matcher matcher = (range == null) ? null : RANGE_PATTERN.matcher(range);
+        if (matcher != null && matcher.matches()) {
+            long first = Long.parseLong(matcher.group(1));
+            long last = (matcher.group(2).length() == 0) ? object.data.length - 1 : Long.parseLong(matcher.group(2));
+            last = Math.min(last, object.data.length - 1);
+            if (first > last) {
+                return error(416, "InvalidRange", "The requested range is not satisfiable", resource);
+            }
+            byte[] part = new byte[(int)(last - first + 1)];
+            System.arraycopy(object.data, (int)first, part, 0, part.length);
+            response = new EmulatorResponse(206).setBody(part);
+            response.setHeader("Content-Range", "bytes " + first + "-" + last + "/" + object.data.length);
+        } else {
+            response = new EmulatorResponse(200).setBody(object.data);
+        }
+
+        response.setHeader("Content-Type", object.contentType);
+        response.setHeader("ETag", "\"" + object.eTag + "\"");
+        response.setHeader("Last-Modified", Xml.rfc822(object.lastModified));
+        response.setHeader("Accept-Ranges", "bytes");
+        for (Map.Entry<String, String> header : object.metadata.entrySet()) {
+            response.setHeader(header.getKey(), header.getValue());
+        }
+        return response;
+    }
+
+    private static String findSubresource(EmulatorRequest request) {
+        for (String name : new String[] {"acl", "location", "logging", "notification", "policy",
+                "requestPayment", "torrent", "uploadId", "uploads", "versionId", "versioning", "versions", "website"}) {
+            if (request.getParameters().containsKey(name)) return name;
+        }
+        return null;
+    }
+
+    private static void appendOwner(StringBuilder xml) {
+        xml.append("<Owner>");
+        Xml.element(xml, "ID", OWNER_ID);
+        Xml.element(xml, "DisplayName", OWNER_DISPLAY_NAME);
+        xml.append("</Owner>");
+    }
+
+    private static EmulatorResponse noSuchBucket(String bucketName, String resource) {
+        return error(404, "NoSuchBucket", "The specified bucket does not exist", resource);
+    }
+
+    private static EmulatorResponse error(int status, String code, String message, String resource) {
+        String requestId = Xml.newRequestId();
+        StringBuilder xml = new StringBuilder("<Error>");
+        Xml.element(xml, "Code", code);
+        Xml.element(xml, "Message", message);
+        Xml.element(xml, "Resource", resource);
+        Xml.element(xml, "RequestId", requestId);
+        xml.append("</Error>");
+        return EmulatorResponse.xml(status, xml.toString())
+                .setHeader("Content-Type", "application/xml")
+                .setHeader("x-amz-request-id", requestId);
+    }
+
+    private static final class Bucket {
+        private final Date creationDate = new Date();
+        private final ConcurrentSkipListMap<String, StoredObject> objects = new ConcurrentSkipListMap<String, StoredObject>();
+    }
+
+    /**
+     * An object's content and metadata. Objects are replaced, never modified.
+     */
+    private static final class StoredObject {
+        private final byte[] data;
+        private final String eTag;
+        private final String contentType;
+        private final Map<String, String> metadata;
+        private final Date lastModified = new Date();
+
+        private StoredObject(byte[] data, String contentType, Map<String, String> metadata) {
+            this.data = data;
+            this.eTag = hexMd5(data);
+            this.contentType = (contentType == null) ? "binary/octet-stream" : contentType;
+            this.metadata = Collections.unmodifiableMap(metadata);
+        }
+    }
+
+    static String hexMd5(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(data);
+            StringBuilder builder = new StringBuilder(32);
+            for (byte b : digest) {
+                builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 isn't available", e);
+        }
+    }
+
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.emulator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * A parsed SimpleDB select expression.
+ * <p>
+ * Supports the commonly used subset of the select syntax:
+ *
+ * <pre>
+ * select (* | itemName() | count(*) | attribute, ...)
+ * from domain
+ * [where condition]
+ * [order by (attribute | itemName()) [asc | desc]]
+ * [limit n]
+ * </pre>
+ *
+ * where conditions compare an attribute or <code>itemName()</code> with a
+ * quoted value using <code>=, !=, &gt;, &gt;=, &lt;, &lt;=</code> or
+ * <code>like</code> (with <code>%</code> wildcards), test it with
+ * <code>is null</code> or <code>is not null</code>, and combine those with
+ * <code>and</code>, <code>or</code>, <code>not</code> and parentheses. As in
+ * SimpleDB, values are compared as strings, and a comparison matches a
+ * multi-valued attribute if it matches any of its values. Names can be
+ * quoted with backticks.
+ */
+class SelectExpression {
+
+    static final String ITEM_NAME = "itemName()";
+
+    /** The requested attribute names; empty for <code>*</code>. */
+    final List<String> outputAttributes = new ArrayList<String>();
+    boolean outputItemNameOnly;
+    boolean outputCount;
+
+    String domainName;
+    Condition where;
+    String orderBy;
+    boolean descending;
+    int limit = 100;
+
+    /**
+     * A condition on an item.
+     */
+    interface Condition {
+        boolean matches(String itemName, Map<String, Set<String>> attributes);
+    }
+
+    /**
+     * Parses the specified select expression.
+     *
+     * @throws IllegalArgumentException
+     *             If the expression is invalid or uses unsupported syntax.
+     */
+    static SelectExpression parse(String expression) {
+        Parser parser = new Parser(tokenize(expression));
+        SelectExpression select = new SelectExpression();
+
+        parser.expectKeyword("select");
+        if (parser.acceptSymbol("*")) {
+            // All attributes
+        } else if (parser.acceptKeyword("count")) {
+            parser.expectSymbol("(");
+            parser.expectSymbol("*");
+            parser.expectSymbol(")");
+            select.outputCount = true;
+        } else {
+            do {
+                String name = parser.name();
+                if (name.equals(ITEM_NAME)) select.outputItemNameOnly = true;
+                else select.outputAttributes.add(name);
+            } while (parser.acceptSymbol(","));
+            if (select.outputItemNameOnly && !select.outputAttributes.isEmpty()) {
+                throw new IllegalArgumentException("itemName() can't be selected with other attributes");
+            }
+        }
+
+        parser.expectKeyword("from");
+        select.domainName = parser.name();
+
+        if (parser.acceptKeyword("where")) select.where = parser.or();
+        if (parser.acceptKeyword("order")) {
+            parser.expectKeyword("by");
+            select.orderBy = parser.name();
+            if (parser.acceptKeyword("desc")) select.descending = true;
+            else parser.acceptKeyword("asc");
+        }
+        if (parser.acceptKeyword("limit")) {
+            select.limit = Integer.parseInt(parser.next());
+            if (select.limit < 1 || select.limit > 2500) {
+                throw new IllegalArgumentException("The limit must be between 1 and 2500");
+            }
+        }
+        if (parser.hasNext()) throw new IllegalArgumentException("Unexpected " + parser.next());
+        return select;
+    }
+
+    /**
+     * Sorts the specified item names by this expression's order by clause,
+     * if it has one.
+     */
+    void sort(List<String> itemNames, final Map<String, Map<String, Set<String>>> items) {
+        if (orderBy == null) {
+            if (descending) Collections.reverse(itemNames);
+            return;
+        }
+        Comparator<String> comparator = new Comparator<String>() {
+            public int compare(String a, String b) {
+                String valueA = sortValue(a, items.get(a));
+                String valueB = sortValue(b, items.get(b));
+                if (valueA == null) return (valueB == null) ? 0 : 1;
+                if (valueB == null) return -1;
+                return descending ? valueB.compareTo(valueA) : valueA.compareTo(valueB);
+            }
+        };
+        Collections.sort(itemNames, comparator);
+    }
+
+    private String sortValue(String itemName, Map<String, Set<String>> attributes) {
+        if (orderBy.equals(ITEM_NAME)) return itemName;
+        Set<String> values = attributes.get(orderBy);
+        return (values == null || values.isEmpty()) ? null : values.iterator().next();
+    }
+
+    private static List<String> tokenize(String expression) {
+        List<String> tokens = new ArrayList<String>();
+        int i = 0;
+        while (i < expression.length()) {
+            char c = expression.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '\'' || c == '"' || c == '`') {
+                // Quoted value or name; the quote is doubled to escape it
+                StringBuilder token = new StringBuilder().append(c);
+                i++;
+                while (true) {
+                    if (i >= expression.length()) throw new IllegalArgumentException("Unterminated quote");
+                    char q = expression.charAt(i++);
+                    if (q == c) {
+                        if (i < expression.length() && expression.charAt(i) == c) {
+                            token.append(c);
+                            i++;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        token.append(q);
+                    }
+                }
+                tokens.add(token.toString());
+            } else if (c == '!' || c == '<' || c == '>') {
+                boolean twoChars = i + 1 < expression.length() && expression.charAt(i + 1) == '=';
+                tokens.add(expression.substring(i, i + (twoChars ? 2 : 1)));
+                i += twoChars ? 2 : 1;
+            } else if ("=(),*".indexOf(c) >= 0) {
+                tokens.add(String.valueOf(c));
+                i++;
+            } else {
+                int start = i;
+                while (i < expression.length()) {
+                    char d = expression.charAt(i);
+                    if (!Character.isLetterOrDigit(d) && d != '_' && d != '$' && d != '.' && d != '-') break;
+                    i++;
+                }
+                if (start == i) throw new IllegalArgumentException("Unexpected character " + c);
+                tokens.add(expression.substring(start, i));
+            }
+        }
+        return tokens;
+    }
+
+    private static final class Parser {
+        private final List<String> tokens;
+        private int position;
+
+        private Parser(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        private boolean hasNext() {
+            return position < tokens.size();
+        }
+
+        private String peek() {
+            return hasNext() ? tokens.get(position) : null;
+        }
+
+        private String next() {
+            if (!hasNext()) throw new IllegalArgumentException("Unexpected end of expression");
+            return tokens.get(position++);
+        }
+
+        private boolean acceptKeyword(String keyword) {
+            if (keyword.equalsIgnoreCase(peek())) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expectKeyword(String keyword) {
+            if (!acceptKeyword(keyword)) throw new IllegalArgumentException("Expected " + keyword + " at " + peek());
+        }
+
+        private boolean acceptSymbol(String symbol) {
+            if (symbol.equals(peek())) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expectSymbol(String symbol) {
+            if (!acceptSymbol(symbol)) throw new IllegalArgumentException("Expected " + symbol + " at " + peek());
+        }
+
+        /**
+         * Reads an attribute or domain name, or <code>itemName()</code>.
+         */
+        private String name() {
+            String token = next();
+            if (token.startsWith("`")) return token.substring(1);
+            if (token.startsWith("'") || token.startsWith("\"")) {
+                throw new IllegalArgumentException("Expected a name at " + token);
+            }
+            if (token.equalsIgnoreCase("itemName") && acceptSymbol("(")) {
+                expectSymbol(")");
+                return ITEM_NAME;
+            }
+            return token;
+        }
+
+        private String value() {
+            String token = next();
+            if (!token.startsWith("'") && !token.startsWith("\"")) {
+                throw new IllegalArgumentException("Expected a quoted value at " + token);
+            }
+            return token.substring(1);
+        }
+
+        private Condition or() {
+            final Condition left = and();
+            if (!acceptKeyword("or")) return left;
+            final Condition right = or();
+            return new Condition() {
+                public boolean matches(String itemName, Map<String, Set<String>> attributes) {
+                    return left.matches(itemName, attributes) || right.matches(itemName, attributes);
+                }
+            };
+        }
+
+        private Condition and() {
+            final Condition left = not();
+            if (!acceptKeyword("and")) return left;
+            final Condition right = and();
+            return new Condition() {
+                public boolean matches(String itemName, Map<String, Set<String>> attributes) {
+                    return left.matches(itemName, attributes) && right.matches(itemName, attributes);
+                }
+            };
+        }
+
+        private Condition not() {
+            if (acceptKeyword("not")) {
+                final Condition condition = not();
+                return new Condition() {
+                    public boolean matches(String itemName, Map<String, Set<String>> attributes) {
+                        return !condition.matches(itemName, attributes);
+                    }
+                };
+            }
+            if (acceptSymbol("(")) {
+                Condition condition = or();
+                expectSymbol(")");
+                return condition;
+            }
+            return comparison();
+        }
+
+        private Condition comparison() {
+            final String name = name();
+            if (acceptKeyword("is")) {
+                final boolean negated = acceptKeyword("not");
+                expectKeyword("null");
+                return new Condition() {
+                    public boolean matches(String itemName, Map<String, Set<String>> attributes) {
+                        boolean isNull = !name.equals(ITEM_NAME) && !attributes.containsKey(name);
+                        return isNull != negated;
+                    }
+                };
+            }
+
+            final String operator = acceptKeyword("like") ? "like" : next();
+            final String value = value();
+            final Pattern pattern = operator.equals("like") ? likePattern(value) : null;
+            if (pattern == null && !Arrays.asList("=", "!=", ">", ">=", "<", "<=").contains(operator)) {
+                throw new IllegalArgumentException("Unsupported operator " + operator);
+            }
+
+            return new Condition() {
+                public boolean matches(String itemName, Map<String, Set<String>> attributes) {
+                    if (name.equals(ITEM_NAME)) return compare(itemName);
+                    Set<String> values = attributes.get(name);
+                    if (values == null) return false;
+                    for (String attributeValue : values) {
+                        if (compare(attributeValue)) return true;
+                    }
+                    return false;
+                }
+
+                private boolean compare(String attributeValue) {
+                    if (pattern != null) return pattern.matcher(attributeValue).matches();
+                    int comparison = attributeValue.compareTo(value);
+                    if (operator.equals("=")) return comparison == 0;
+                    if (operator.equals("!=")) return comparison != 0;
+                    if (operator.equals(">")) return comparison > 0;
+                    if (operator.equals(">=")) return comparison >= 0;
+                    if (operator.equals("<")) return comparison < 0;
+                    return comparison <= 0;
+                }
+            };
+        }
+
+        private static Pattern likePattern(String like) {
+            StringBuilder regex = new StringBuilder();
+            String[] parts = like.split("%", -1);
+            for (int i = 0; i < parts.length; i++) {
+                if (i > 0) regex.append(".*");
+                if (parts[i].length() > 0) regex.append(Pattern.quote(parts[i]));
+            }
+            return Pattern.compile(regex.toString(), Pattern.DOTALL);
+        }
+    }
+
+}
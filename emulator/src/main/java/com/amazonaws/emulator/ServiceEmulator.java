@@ -0,0 +1,48 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.emulator;
+
+/**
+ * An in-memory stand-in for one AWS service.
+ * <p>
+ * Implementations must be thread safe; the emulator calls them concurrently
+ * from one thread per client connection.
+ */
+public interface ServiceEmulator {
+
+    /**
+     * Handles the specified request, returning the response the service
+     * would return.
+     *
+     * @param request
+     *            The request to handle.
+     *
+     * @return The service's response, including any service error.
+     */
+    public EmulatorResponse handle(EmulatorRequest request);
+
+    /**
+     * Returns the response the service sends when it fails internally
+     * (HTTP 500), used for error injection.
+     */
+    public EmulatorResponse internalError(EmulatorRequest request);
+
+    /**
+     * Returns the response the service sends when it throttles a request,
+     * used for throttling injection.
+     */
+    public EmulatorResponse throttlingError(EmulatorRequest request);
+
+}
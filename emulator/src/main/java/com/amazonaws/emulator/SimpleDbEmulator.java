@@ -0,0 +1,480 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.emulator;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory stand-in for Amazon SimpleDB, speaking the 2009-04-15 query API.
+ * <p>
+ * Supports creating, listing, describing and deleting domains, putting,
+ * getting and deleting attributes (singly and in batches, with conditional
+ * puts and deletes), and selecting items with the subset of the select syntax
+ * described in {@link SelectExpression}. Reads are always consistent, and box
+ * usage is reported as a fixed value.
+ */
+public class SimpleDbEmulator implements ServiceEmulator {
+
+    /** The version of the SimpleDB API this emulator speaks. */
+    public static final String API_VERSION = "2009-04-15";
+
+    private static final String NAMESPACE = "http://sdb.amazonaws.com/doc/" + API_VERSION + "/";
+    private static final String BOX_USAGE = "0.0000219907";
+
+    private final ConcurrentMap<String, Domain> domains = new ConcurrentHashMap<String, Domain>();
+
+    /**
+     * Creates the specified domain, if it doesn't already exist, so a test
+     * can start with its domains in place.
+     */
+    public void createDomain(String domainName) {
+        domains.putIfAbsent(domainName, new Domain());
+    }
+
+    /**
+     * Deletes all domains and items.
+     */
+    public void clear() {
+        domains.clear();
+    }
+
+    public EmulatorResponse handle(EmulatorRequest request) {
+        String action = request.getParameter("Action");
+        try {
+            if ("CreateDomain".equals(action)) {
+                createDomain(requiredParameter(request, "DomainName"));
+                return response(action, null);
+            }
+            if ("DeleteDomain".equals(action)) {
+                domains.remove(requiredParameter(request, "DomainName"));
+                return response(action, null);
+            }
+            if ("ListDomains".equals(action)) return listDomains(request);
+            if ("DomainMetadata".equals(action)) return domainMetadata(request);
+            if ("PutAttributes".equals(action)) return putAttributes(request);
+            if ("BatchPutAttributes".equals(action)) return batchPutAttributes(request);
+            if ("GetAttributes".equals(action)) return getAttributes(request);
+            if ("DeleteAttributes".equals(action)) return deleteAttributes(request);
+            if ("BatchDeleteAttributes".equals(action)) return batchDeleteAttributes(request);
+            if ("Select".equals(action)) return select(request);
+            return error(400, "InvalidAction", "The action " + action + " is not valid for this web service.");
+        } catch (SimpleDbError e) {
+            return error(e.status, e.code, e.getMessage());
+        }
+    }
+
+    public EmulatorResponse internalError(EmulatorRequest request) {
+        return error(500, "InternalError", "Request could not be executed due to an internal service error.");
+    }
+
+    public EmulatorResponse throttlingError(EmulatorRequest request) {
+        return error(503, "ServiceUnavailable", "Service Amazon SimpleDB is currently unavailable. Please try again later.");
+    }
+
+    private EmulatorResponse listDomains(EmulatorRequest request) {
+        int maxDomains = intParameter(request, "MaxNumberOfDomains", 100, 1, 100);
+        String nextToken = request.getParameter("NextToken");
+
+        List<String> domainNames = new ArrayList<String>(new TreeMap<String, Domain>(domains).keySet());
+        int start = (nextToken == null) ? 0 : Integer.parseInt(nextToken);
+        int end = Math.min(domainNames.size(), start + maxDomains);
+
+        StringBuilder result = new StringBuilder();
+        for (int i = start; i < end; i++) {
+            Xml.element(result, "DomainName", domainNames.get(i));
+        }
+        if (end < domainNames.size()) Xml.element(result, "NextToken", end);
+        return response("ListDomains", result);
+    }
+
+    private EmulatorResponse domainMetadata(EmulatorRequest request) {
+        Domain domain = domain(request);
+        domain.lock.readLock().lock();
+        try {
+            Set<String> attributeNames = new LinkedHashSet<String>();
+            long itemNamesSize = 0;
+            long attributeValueCount = 0;
+            long attributeValuesSize = 0;
+            for (Map.Entry<String, Map<String, Set<String>>> item : domain.items.entrySet()) {
+                itemNamesSize += item.getKey().length();
+                for (Map.Entry<String, Set<String>> attribute : item.getValue().entrySet()) {
+                    attributeNames.add(attribute.getKey());
+                    for (String value : attribute.getValue()) {
+                        attributeValueCount++;
+                        attributeValuesSize += value.length();
+                    }
+                }
+            }
+            long attributeNamesSize = 0;
+            for (String name : attributeNames) attributeNamesSize += name.length();
+
+            StringBuilder result = new StringBuilder();
+            Xml.element(result, "ItemCount", domain.items.size());
+            Xml.element(result, "ItemNamesSizeBytes", itemNamesSize);
+            Xml.element(result, "AttributeNameCount", attributeNames.size());
+            Xml.element(result, "AttributeNamesSizeBytes", attributeNamesSize);
+            Xml.element(result, "AttributeValueCount", attributeValueCount);
+            Xml.element(result, "AttributeValuesSizeBytes", attributeValuesSize);
+            Xml.element(result, "Timestamp", System.currentTimeMillis() / 1000);
+            return response("DomainMetadata", result);
+        } finally {
+            domain.lock.readLock().unlock();
+        }
+    }
+
+    private EmulatorResponse putAttributes(EmulatorRequest request) {
+        Domain domain = domain(request);
+        String itemName = requiredParameter(request, "ItemName");
+        List<Attribute> attributes = attributes(request, "Attribute.");
+
+        domain.lock.writeLock().lock();
+        try {
+            checkExpected(request, domain.items.get(itemName));
+            domain.put(itemName, attributes);
+        } finally {
+            domain.lock.writeLock().unlock();
+        }
+        return response("PutAttributes", null);
+    }
+
+    private EmulatorResponse batchPutAttributes(EmulatorRequest request) {
+        Domain domain = domain(request);
+        Map<String, List<Attribute>> items = batchItems(request);
+
+        domain.lock.writeLock().lock();
+        try {
+            for (Map.Entry<String, List<Attribute>> item : items.entrySet()) {
+                domain.put(item.getKey(), item.getValue());
+            }
+        } finally {
+            domain.lock.writeLock().unlock();
+        }
+        return response("BatchPutAttributes", null);
+    }
+
+    private EmulatorResponse getAttributes(EmulatorRequest request) {
+        Domain domain = domain(request);
+        String itemName = requiredParameter(request, "ItemName");
+        Set<String> attributeNames = new LinkedHashSet<String>();
+        for (int i = 1; request.getParameter("AttributeName." + i) != null; i++) {
+            attributeNames.add(request.getParameter("AttributeName." + i));
+        }
+
+        StringBuilder result = new StringBuilder();
+        domain.lock.readLock().lock();
+        try {
+            Map<String, Set<String>> item = domain.items.get(itemName);
+            if (item != null) appendAttributes(result, item, attributeNames);
+        } finally {
+            domain.lock.readLock().unlock();
+        }
+        return response("GetAttributes", result);
+    }
+
+    private EmulatorResponse deleteAttributes(EmulatorRequest request) {
+        Domain domain = domain(request);
+        String itemName = requiredParameter(request, "ItemName");
+        List<Attribute> attributes = attributes(request, "Attribute.");
+
+        domain.lock.writeLock().lock();
+        try {
+            checkExpected(request, domain.items.get(itemName));
+            domain.delete(itemName, attributes);
+        } finally {
+            domain.lock.writeLock().unlock();
+        }
+        return response("DeleteAttributes", null);
+    }
+
+    private EmulatorResponse batchDeleteAttributes(EmulatorRequest request) {
+        Domain domain = domain(request);
+        Map<String, List<Attribute>> items = batchItems(request);
+
+        domain.lock.writeLock().lock();
+        try {
+            for (Map.Entry<String, List<Attribute>> item : items.entrySet()) {
+                domain.delete(item.getKey(), item.getValue());
+            }
+        } finally {
+            domain.lock.writeLock().unlock();
+        }
+        return response("BatchDeleteAttributes", null);
+    }
+
+    private EmulatorResponse select(EmulatorRequest request) {
+        String expression = requiredParameter(request, "SelectExpression");
+        SelectExpression select;
+        try {
+            select = SelectExpression.parse(expression);
+        } catch (IllegalArgumentException e) {
+            throw new SimpleDbError(400, "InvalidQueryExpression",
+                    "The specified query expression syntax is not valid: " + e.getMessage());
+        }
+        Domain domain = domains.get(select.domainName);
+        if (domain == null) throw noSuchDomain();
+
+        String nextToken = request.getParameter("NextToken");
+        int start = (nextToken == null) ? 0 : Integer.parseInt(nextToken);
+
+        StringBuilder result = new StringBuilder();
+        domain.lock.readLock().lock();
+        try {
+            List<String> matches = new ArrayList<String>();
+            for (Map.Entry<String, Map<String, Set<String>>> item : domain.items.entrySet()) {
+                if (select.where == null || select.where.matches(item.getKey(), item.getValue())) {
+                    matches.add(item.getKey());
+                }
+            }
+
+            if (select.outputCount) {
+                int count = Math.max(0, Math.min(select.limit, matches.size() - start));
+                result.append("<Item>");
+                Xml.element(result, "Name", "Domain");
+                result.append("<Attribute>");
+                Xml.element(result, "Name", "Count");
+                Xml.element(result, "Value", count);
+                result.append("</Attribute></Item>");
+                if (start + count < matches.size()) Xml.element(result, "NextToken", start + count);
+                return response("Select", result);
+            }
+
+            select.sort(matches, domain.items);
+            int end = Math.min(matches.size(), start + select.limit);
+            Set<String> attributeNames = new LinkedHashSet<String>(select.outputAttributes);
+            for (int i = start; i < end; i++) {
+                String itemName = matches.get(i);
+                result.append("<Item>");
+                Xml.element(result, "Name", itemName);
+                if (!select.outputItemNameOnly) appendAttributes(result, domain.items.get(itemName), attributeNames);
+                result.append("</Item>");
+            }
+            if (end < matches.size()) Xml.element(result, "NextToken", end);
+        } finally {
+            domain.lock.readLock().unlock();
+        }
+        return response("Select", result);
+    }
+
+    /**
+     * Checks the conditional update in a put or delete request, if there is
+     * one, against the item's current attributes.
+     */
+    private static void checkExpected(EmulatorRequest request, Map<String, Set<String>> item) {
+        String name = request.getParameter("Expected.Name");
+        if (name == null) return;
+        String expectedValue = request.getParameter("Expected.Value");
+        boolean expectedExists = !"false".equals(request.getParameter("Expected.Exists"));
+
+        Set<String> values = (item == null) ? null : item.get(name);
+        if (!expectedExists) {
+            if (values != null) {
+                throw new SimpleDbError(409, "ConditionalCheckFailed",
+                        "Conditional check failed. Attribute (" + name + ") value exists");
+            }
+            return;
+        }
+        if (values == null) {
+            throw new SimpleDbError(404, "AttributeDoesNotExist", "Attribute (" + name + ") does not exist");
+        }
+        if (values.size() > 1) {
+            throw new SimpleDbError(409, "MultiValuedAttribute",
+                    "Attribute (" + name + ") is multi-valued. Conditional check can only be performed on a single-valued attribute");
+        }
+        if (expectedValue != null && !values.contains(expectedValue)) {
+            throw new SimpleDbError(409, "ConditionalCheckFailed",
+                    "Conditional check failed. Attribute (" + name + ") value is (" + values.iterator().next()
+                    + ") but was expected (" + expectedValue + ")");
+        }
+    }
+
+    private static void appendAttributes(StringBuilder xml, Map<String, Set<String>> item, Set<String> attributeNames) {
+        for (Map.Entry<String, Set<String>> attribute : item.entrySet()) {
+            if (!attributeNames.isEmpty() && !attributeNames.contains(attribute.getKey())) continue;
+            for (String value : attribute.getValue()) {
+                xml.append("<Attribute>");
+                Xml.element(xml, "Name", attribute.getKey());
+                Xml.element(xml, "Value", value);
+                xml.append("</Attribute>");
+            }
+        }
+    }
+
+    /**
+     * Reads the attributes with the specified parameter prefix, such as
+     * <code>Attribute.</code> or <code>Item.1.Attribute.</code>.
+     */
+    private static List<Attribute> attributes(EmulatorRequest request, String prefix) {
+        List<Attribute> attributes = new ArrayList<Attribute>();
+        for (int i = 1; request.getParameter(prefix + i + ".Name") != null; i++) {
+            attributes.add(new Attribute(
+                    request.getParameter(prefix + i + ".Name"),
+                    request.getParameter(prefix + i + ".Value"),
+                    "true".equals(request.getParameter(prefix + i + ".Replace"))));
+        }
+        return attributes;
+    }
+
+    private static Map<String, List<Attribute>> batchItems(EmulatorRequest request) {
+        Map<String, List<Attribute>> items = new LinkedHashMap<String, List<Attribute>>();
+        for (int i = 1; request.getParameter("Item." + i + ".ItemName") != null; i++) {
+            items.put(request.getParameter("Item." + i + ".ItemName"), attributes(request, "Item." + i + ".Attribute."));
+        }
+        if (items.isEmpty()) {
+            throw new SimpleDbError(400, "MissingParameter", "The request must contain the parameter Item.1.ItemName.");
+        }
+        return items;
+    }
+
+    private Domain domain(EmulatorRequest request) {
+        Domain domain = domains.get(requiredParameter(request, "DomainName"));
+        if (domain == null) throw noSuchDomain();
+        return domain;
+    }
+
+    private static SimpleDbError noSuchDomain() {
+        return new SimpleDbError(400, "NoSuchDomain", "The specified domain does not exist.");
+    }
+
+    private static String requiredParameter(EmulatorRequest request, String name) {
+        String value = request.getParameter(name);
+        if (value == null) {
+            throw new SimpleDbError(400, "MissingParameter", "The request must contain the parameter " + name + ".");
+        }
+        return value;
+    }
+
+    private static int intParameter(EmulatorRequest request, String name, int defaultValue, int min, int max) {
+        String value = request.getParameter(name);
+        if (value == null) return defaultValue;
+        int parsed = Integer.parseInt(value);
+        if (parsed < min || parsed > max) {
+            throw new SimpleDbError(400, "InvalidParameterValue",
+                    "Value (" + value + ") for parameter " + name + " is invalid.");
+        }
+        return parsed;
+    }
+
+    private static EmulatorResponse response(String action, StringBuilder result) {
+        StringBuilder xml = new StringBuilder();
+        xml.append('<').append(action).append("Response xmlns=\"").append(NAMESPACE).append("\">");
+        if (result != null) {
+            xml.append('<').append(action).append("Result>").append(result).append("</").append(action).append("Result>");
+        }
+        xml.append("<ResponseMetadata>");
+        Xml.element(xml, "RequestId", Xml.newRequestId());
+        Xml.element(xml, "BoxUsage", BOX_USAGE);
+        xml.append("</ResponseMetadata></").append(action).append("Response>");
+        return EmulatorResponse.xml(200, xml.toString());
+    }
+
+    private static EmulatorResponse error(int status, String code, String message) {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<Response><Errors><Error>");
+        Xml.element(xml, "Code", code);
+        Xml.element(xml, "Message", message);
+        Xml.element(xml, "BoxUsage", BOX_USAGE);
+        xml.append("</Error></Errors>");
+        Xml.element(xml, "RequestID", Xml.newRequestId());
+        xml.append("</Response>");
+        return EmulatorResponse.xml(status, xml.toString());
+    }
+
+    /**
+     * A service error, thrown from deep inside request handling and turned
+     * into an error response by {@link #handle(EmulatorRequest)}.
+     */
+    private static final class SimpleDbError extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        private final int status;
+        private final String code;
+
+        private SimpleDbError(int status, String code, String message) {
+            super(message);
+            this.status = status;
+            this.code = code;
+        }
+    }
+
+    private static final class Attribute {
+        private final String name;
+        private final String value;
+        private final boolean replace;
+
+        private Attribute(String name, String value, boolean replace) {
+            this.name = name;
+            this.value = value;
+            this.replace = replace;
+        }
+    }
+
+    /**
+     * A domain's items, in item name order, guarded by a read/write lock so
+     * selects can run concurrently.
+     */
+    private static final class Domain {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<String, Map<String, Set<String>>> items = new TreeMap<String, Map<String, Set<String>>>();
+
+        private void put(String itemName, List<Attribute> attributes) {
+            Map<String, Set<String>> item = items.get(itemName);
+            if (item == null) {
+                item = new TreeMap<String, Set<String>>();
+                items.put(itemName, item);
+            }
+            Set<String> replaced = new HashSet<String>();
+            for (Attribute attribute : attributes) {
+                Set<String> values = item.get(attribute.name);
+                if (values == null || (attribute.replace && !replaced.contains(attribute.name))) {
+                    values = new LinkedHashSet<String>();
+                    item.put(attribute.name, values);
+                }
+                if (attribute.replace) replaced.add(attribute.name);
+                values.add(attribute.value);
+            }
+        }
+
+        private void delete(String itemName, List<Attribute> attributes) {
+            Map<String, Set<String>> item = items.get(itemName);
+            if (item == null) return;
+            if (attributes.isEmpty()) {
+                items.remove(itemName);
+                return;
+            }
+            for (Attribute attribute : attributes) {
+                Set<String> values = item.get(attribute.name);
+                if (values == null) continue;
+                if (attribute.value == null) {
+                    item.remove(attribute.name);
+                } else {
+                    values.remove(attribute.value);
+                    if (values.isEmpty()) item.remove(attribute.name);
+                }
+            }
+            if (item.isEmpty()) items.remove(itemName);
+        }
+    }
+
+}
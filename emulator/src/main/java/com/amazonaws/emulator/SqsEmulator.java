@@ -0,0 +1,453 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.emulator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory stand-in for Amazon SQS, speaking the 2009-02-01 query API.
+ * <p>
+ * Supports creating, listing and deleting queues, getting and setting the
+ * visibility timeout and reading the other queue attributes, and sending,
+ * receiving, deleting and changing the visibility of messages. Received
+ * messages stay invisible for the visibility timeout and then become
+ * receivable again unless they're deleted. Unlike the real service, messages
+ * are delivered in order and never more than once per visibility timeout.
+ * Permissions aren't supported.
+ */
+public class SqsEmulator implements ServiceEmulator {
+
+    /** The version of the SQS API this emulator speaks. */
+    public static final String API_VERSION = "2009-02-01";
+
+    private static final String NAMESPACE = "http://queue.amazonaws.com/doc/" + API_VERSION + "/";
+    private static final String ACCOUNT_ID = "123456789012";
+    private static final String SENDER_ID = "195004372649";
+    private static final int DEFAULT_VISIBILITY_TIMEOUT = 30;
+
+    private final ConcurrentMap<String, Queue> queues = new ConcurrentHashMap<String, Queue>();
+
+    /**
+     * Creates the specified queue, if it doesn't already exist, so a test
+     * can start with its queues in place.
+     */
+    public void createQueue(String queueName) {
+        queues.putIfAbsent(queueName, new Queue(DEFAULT_VISIBILITY_TIMEOUT));
+    }
+
+    /**
+     * Deletes all queues and messages.
+     */
+    public void clear() {
+        queues.clear();
+    }
+
+    public EmulatorResponse handle(EmulatorRequest request) {
+        String action = request.getParameter("Action");
+        if ("CreateQueue".equals(action)) return createQueue(request);
+        if ("ListQueues".equals(action)) return listQueues(request);
+
+        if (!"DeleteQueue".equals(action) && !"SendMessage".equals(action) && !"ReceiveMessage".equals(action)
+                && !"DeleteMessage".equals(action) && !"ChangeMessageVisibility".equals(action)
+                && !"GetQueueAttributes".equals(action) && !"SetQueueAttributes".equals(action)) {
+            return error(400, "Sender", "InvalidAction", "The action " + action + " is not valid for this endpoint.");
+        }
+
+        String queueName = queueName(request);
+        Queue queue = (queueName == null) ? null : queues.get(queueName);
+        if (queue == null) {
+            return error(400, "Sender", "AWS.SimpleQueueService.NonExistentQueue",
+                    "The specified queue does not exist for this wsdl version.");
+        }
+
+        if ("DeleteQueue".equals(action)) {
+            queues.remove(queueName, queue);
+            return response(action, null);
+        }
+        if ("SendMessage".equals(action)) return sendMessage(queue, request);
+        if ("ReceiveMessage".equals(action)) return receiveMessage(queue, request);
+        if ("DeleteMessage".equals(action)) {
+            queue.delete(request.getParameter("ReceiptHandle"));
+            return response(action, null);
+        }
+        if ("ChangeMessageVisibility".equals(action)) return changeMessageVisibility(queue, request);
+        if ("GetQueueAttributes".equals(action)) return getQueueAttributes(queue, request);
+        return setQueueAttributes(queue, request);
+    }
+
+    public EmulatorResponse internalError(EmulatorRequest request) {
+        return error(500, "Receiver", "InternalError", "We encountered an internal error. Please try again.");
+    }
+
+    public EmulatorResponse throttlingError(EmulatorRequest request) {
+        return error(503, "Receiver", "ServiceUnavailable", "Service is unable to handle request.");
+    }
+
+    private EmulatorResponse createQueue(EmulatorRequest request) {
+        String queueName = request.getParameter("QueueName");
+        if (queueName == null || !queueName.matches("[\\w-]{1,80}")) {
+            return error(400, "Sender", "InvalidParameterValue", "Value for parameter QueueName is invalid.");
+        }
+        int visibilityTimeout = DEFAULT_VISIBILITY_TIMEOUT;
+        if (request.getParameter("DefaultVisibilityTimeout") != null) {
+            visibilityTimeout = Integer.parseInt(request.getParameter("DefaultVisibilityTimeout"));
+        }
+        queues.putIfAbsent(queueName, new Queue(visibilityTimeout));
+
+        StringBuilder result = new StringBuilder();
+        Xml.element(result, "QueueUrl", queueUrl(request, queueName));
+        return response("CreateQueue", result);
+    }
+
+    private EmulatorResponse listQueues(EmulatorRequest request) {
+        String prefix = request.getParameter("QueueNamePrefix");
+        StringBuilder result = new StringBuilder();
+        for (String queueName : new TreeMap<String, Queue>(queues).keySet()) {
+            if (prefix == null || queueName.startsWith(prefix)) {
+                Xml.element(result, "QueueUrl", queueUrl(request, queueName));
+            }
+        }
+        return response("ListQueues", result);
+    }
+
+    private EmulatorResponse sendMessage(Queue queue, EmulatorRequest request) {
+        String body = request.getParameter("MessageBody");
+        if (body == null) {
+            return error(400, "Sender", "MissingParameter", "The request must contain the parameter MessageBody.");
+        }
+        Message message = queue.send(body);
+
+        StringBuilder result = new StringBuilder();
+        Xml.element(result, "MD5OfMessageBody", message.md5OfBody);
+        Xml.element(result, "MessageId", message.messageId);
+        return response("SendMessage", result);
+    }
+
+    private EmulatorResponse receiveMessage(Queue queue, EmulatorRequest request) {
+        int maxMessages = 1;
+        if (request.getParameter("MaxNumberOfMessages") != null) {
+            maxMessages = Integer.parseInt(request.getParameter("MaxNumberOfMessages"));
+        }
+        if (maxMessages < 1 || maxMessages > 10) {
+            return error(400, "Sender", "InvalidParameterValue",
+                    "Value for parameter MaxNumberOfMessages is invalid. Reason: Must be between 1 and 10.");
+        }
+        Integer visibilityTimeout = null;
+        if (request.getParameter("VisibilityTimeout") != null) {
+            visibilityTimeout = Integer.valueOf(request.getParameter("VisibilityTimeout"));
+        }
+        Set<String> attributeNames = indexedParameters(request, "AttributeName.");
+        boolean allAttributes = attributeNames.contains("All");
+
+        StringBuilder result = new StringBuilder();
+        for (Received received : queue.receive(maxMessages, visibilityTimeout)) {
+            Message message = received.message;
+            result.append("<Message>");
+            Xml.element(result, "MessageId", message.messageId);
+            Xml.element(result, "ReceiptHandle", received.receiptHandle);
+            Xml.element(result, "MD5OfBody", message.md5OfBody);
+            Xml.element(result, "Body", message.body);
+            if (allAttributes || attributeNames.contains("SenderId")) {
+                appendAttribute(result, "SenderId", SENDER_ID);
+            }
+            if (allAttributes || attributeNames.contains("SentTimestamp")) {
+                appendAttribute(result, "SentTimestamp", String.valueOf(message.sentTimestamp));
+            }
+            if (allAttributes || attributeNames.contains("ApproximateReceiveCount")) {
+                appendAttribute(result, "ApproximateReceiveCount", String.valueOf(received.receiveCount));
+            }
+            if (allAttributes || attributeNames.contains("ApproximateFirstReceiveTimestamp")) {
+                appendAttribute(result, "ApproximateFirstReceiveTimestamp", String.valueOf(received.firstReceiveTimestamp));
+            }
+            result.append("</Message>");
+        }
+        return response("ReceiveMessage", result);
+    }
+
+    private EmulatorResponse changeMessageVisibility(Queue queue, EmulatorRequest request) {
+        String visibilityTimeout = request.getParameter("VisibilityTimeout");
+        if (visibilityTimeout == null) {
+            return error(400, "Sender", "MissingParameter", "The request must contain the parameter VisibilityTimeout.");
+        }
+        if (!queue.changeVisibility(request.getParameter("ReceiptHandle"), Integer.parseInt(visibilityTimeout))) {
+            return error(400, "Sender", "ReceiptHandleIsInvalid", "The input receipt handle is invalid.");
+        }
+        return response("ChangeMessageVisibility", null);
+    }
+
+    private EmulatorResponse getQueueAttributes(Queue queue, EmulatorRequest request) {
+        Set<String> attributeNames = indexedParameters(request, "AttributeName.");
+        boolean allAttributes = attributeNames.contains("All");
+
+        Map<String, String> attributes = queue.getAttributes();
+        StringBuilder result = new StringBuilder();
+        for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+            if (allAttributes || attributeNames.contains(attribute.getKey())) {
+                appendAttribute(result, attribute.getKey(), attribute.getValue());
+            }
+        }
+        return response("GetQueueAttributes", result);
+    }
+
+    private EmulatorResponse setQueueAttributes(Queue queue, EmulatorRequest request) {
+        for (int i = 1; request.getParameter("Attribute." + i + ".Name") != null; i++) {
+            String name = request.getParameter("Attribute." + i + ".Name");
+            String value = request.getParameter("Attribute." + i + ".Value");
+            if ("VisibilityTimeout".equals(name)) {
+                queue.setVisibilityTimeout(Integer.parseInt(value));
+            } else {
+                return error(400, "Sender", "InvalidAttributeName", "Unknown attribute " + name + ".");
+            }
+        }
+        return response("SetQueueAttributes", null);
+    }
+
+    /**
+     * Returns the name of the queue a request is for, from its QueueUrl
+     * parameter or, failing that, its path.
+     */
+    private static String queueName(EmulatorRequest request) {
+        String queueUrl = request.getParameter("QueueUrl");
+        String path = (queueUrl != null) ? queueUrl : request.getPath();
+        if (path == null) return null;
+        if (path.endsWith("/")) path = path.substring(0, path.length() - 1);
+        int slash = path.lastIndexOf('/');
+        return (slash < 0) ? path : path.substring(slash + 1);
+    }
+
+    private static String queueUrl(EmulatorRequest request, String queueName) {
+        String host = request.getHeader("Host");
+        if (host == null) host = request.getHost();
+        return "http://" + host + "/" + ACCOUNT_ID + "/" + queueName;
+    }
+
+    private static Set<String> indexedParameters(EmulatorRequest request, String prefix) {
+        Set<String> values = new LinkedHashSet<String>();
+        for (int i = 1; request.getParameter(prefix + i) != null; i++) {
+            values.add(request.getParameter(prefix + i));
+        }
+        return values;
+    }
+
+    private static void appendAttribute(StringBuilder xml, String name, String value) {
+        xml.append("<Attribute>");
+        Xml.element(xml, "Name", name);
+        Xml.element(xml, "Value", value);
+        xml.append("</Attribute>");
+    }
+
+    private static EmulatorResponse response(String action, StringBuilder result) {
+        StringBuilder xml = new StringBuilder();
+        xml.append('<').append(action).append("Response xmlns=\"").append(NAMESPACE).append("\">");
+        if (result != null) {
+            xml.append('<').append(action).append("Result>").append(result).append("</").append(action).append("Result>");
+        }
+        xml.append("<ResponseMetadata>");
+        Xml.element(xml, "RequestId", Xml.newRequestId());
+        xml.append("</ResponseMetadata></").append(action).append("Response>");
+        return EmulatorResponse.xml(200, xml.toString());
+    }
+
+    private static EmulatorResponse error(int status, String type, String code, String message) {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<ErrorResponse xmlns=\"").append(NAMESPACE).append("\"><Error>");
+        Xml.element(xml, "Type", type);
+        Xml.element(xml, "Code", code);
+        Xml.element(xml, "Message", message);
+        xml.append("<Detail/></Error>");
+        Xml.element(xml, "RequestId", Xml.newRequestId());
+        xml.append("</ErrorResponse>");
+        return EmulatorResponse.xml(status, xml.toString());
+    }
+
+    private static final class Message {
+        private final String messageId = UUID.randomUUID().toString();
+        private final String body;
+        private final String md5OfBody;
+        private final long sentTimestamp = System.currentTimeMillis();
+
+        private int receiveCount;
+        private long firstReceiveTimestamp;
+        private long invisibleUntil;
+        private String receiptHandle;
+
+        private Message(String body) {
+            this.body = body;
+            this.md5OfBody = S3Emulator.hexMd5(EmulatorResponse.utf8(body));
+        }
+    }
+
+    /**
+     * A message as returned by one receive.
+     */
+    private static final class Received {
+        private final Message message;
+        private final String receiptHandle;
+        private final int receiveCount;
+        private final long firstReceiveTimestamp;
+
+        private Received(Message message) {
+            this.message = message;
+            this.receiptHandle = message.receiptHandle;
+            this.receiveCount = message.receiveCount;
+            this.firstReceiveTimestamp = message.firstReceiveTimestamp;
+        }
+    }
+
+    /**
+     * A message's lease of invisibility, from one receive or visibility
+     * change. Leases are never removed from the queue's lease heap; they're
+     * skipped when they expire if they no longer match their message.
+     */
+    private static final class Lease {
+        private final Message message;
+        private final String receiptHandle;
+        private final long invisibleUntil;
+
+        private Lease(Message message) {
+            this.message = message;
+            this.receiptHandle = message.receiptHandle;
+            this.invisibleUntil = message.invisibleUntil;
+        }
+    }
+
+    /**
+     * A queue's messages: those that can be received, in the order they were
+     * sent (or became visible again), and those that have been received and
+     * are invisible, by receipt handle.
+     */
+    private static final class Queue {
+        private final long createdTimestamp = System.currentTimeMillis();
+        private long lastModifiedTimestamp = createdTimestamp;
+        private int visibilityTimeout;
+
+        private final LinkedList<Message> visible = new LinkedList<Message>();
+        private final Map<String, Message> inFlight = new HashMap<String, Message>();
+        private final PriorityQueue<Lease> leases = new PriorityQueue<Lease>(16, new Comparator<Lease>() {
+            public int compare(Lease a, Lease b) {
+                return (a.invisibleUntil < b.invisibleUntil) ? -1 : (a.invisibleUntil == b.invisibleUntil ? 0 : 1);
+            }
+        });
+
+        private Queue(int visibilityTimeout) {
+            this.visibilityTimeout = visibilityTimeout;
+        }
+
+        private synchronized Message send(String body) {
+            Message message = new Message(body);
+            visible.addLast(message);
+            return message;
+        }
+
+        private synchronized List<Received> receive(int maxMessages, Integer visibilityTimeoutOverride) {
+            long now = System.currentTimeMillis();
+            expireLeases(now);
+
+            int timeout = (visibilityTimeoutOverride == null) ? visibilityTimeout : visibilityTimeoutOverride.intValue();
+            List<Received> received = new ArrayList<Received>();
+            while (received.size() < maxMessages && !visible.isEmpty()) {
+                Message message = visible.removeFirst();
+                message.receiveCount++;
+                if (message.firstReceiveTimestamp == 0) message.firstReceiveTimestamp = now;
+                message.receiptHandle = UUID.randomUUID().toString() + "/" + message.messageId;
+                received.add(new Received(message));
+
+                if (timeout > 0) {
+                    message.invisibleUntil = now + timeout * 1000L;
+                    inFlight.put(message.receiptHandle, message);
+                    leases.add(new Lease(message));
+                } else {
+                    visible.addLast(message);
+                }
+            }
+            return received;
+        }
+
+        private synchronized void delete(String receiptHandle) {
+            if (receiptHandle == null) return;
+            if (inFlight.remove(receiptHandle) != null) return;
+
+            // A stale receipt handle still deletes the message if it's visible again
+            String messageId = receiptHandle.substring(receiptHandle.indexOf('/') + 1);
+            for (Iterator<Message> iterator = visible.iterator(); iterator.hasNext();) {
+                if (iterator.next().messageId.equals(messageId)) {
+                    iterator.remove();
+                    break;
+                }
+            }
+        }
+
+        private synchronized boolean changeVisibility(String receiptHandle, int timeout) {
+            Message message = (receiptHandle == null) ? null : inFlight.get(receiptHandle);
+            if (message == null) return false;
+
+            if (timeout > 0) {
+                message.invisibleUntil = System.currentTimeMillis() + timeout * 1000L;
+                leases.add(new Lease(message));
+            } else {
+                inFlight.remove(receiptHandle);
+                visible.addFirst(message);
+            }
+            return true;
+        }
+
+        private synchronized void setVisibilityTimeout(int visibilityTimeout) {
+            this.visibilityTimeout = visibilityTimeout;
+            this.lastModifiedTimestamp = System.currentTimeMillis();
+        }
+
+        private synchronized Map<String, String> getAttributes() {
+            expireLeases(System.currentTimeMillis());
+            Map<String, String> attributes = new TreeMap<String, String>();
+            attributes.put("ApproximateNumberOfMessages", String.valueOf(visible.size()));
+            attributes.put("ApproximateNumberOfMessagesNotVisible", String.valueOf(inFlight.size()));
+            attributes.put("VisibilityTimeout", String.valueOf(visibilityTimeout));
+            attributes.put("CreatedTimestamp", String.valueOf(createdTimestamp / 1000));
+            attributes.put("LastModifiedTimestamp", String.valueOf(lastModifiedTimestamp / 1000));
+            return attributes;
+        }
+
+        /**
+         * Makes the in flight messages whose visibility timeout has expired
+         * receivable again, skipping leases that were superseded by a
+         * visibility change or whose message was deleted.
+         */
+        private void expireLeases(long now) {
+            while (!leases.isEmpty() && leases.peek().invisibleUntil <= now) {
+                Lease lease = leases.poll();
+                Message message = lease.message;
+                if (inFlight.get(lease.receiptHandle) != message || message.invisibleUntil != lease.invisibleUntil) {
+                    continue;
+                }
+                inFlight.remove(lease.receiptHandle);
+                visible.addLast(message);
+            }
+        }
+    }
+
+}
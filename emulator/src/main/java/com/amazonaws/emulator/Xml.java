@@ -0,0 +1,83 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.emulator;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.SimpleTimeZone;
+import java.util.UUID;
+
+/**
+ * Helpers for writing the emulated services' XML responses.
+ */
+class Xml {
+
+    /**
+     * Escapes the XML special characters in the specified text.
+     */
+    static String escape(String text) {
+        if (text == null) return "";
+        StringBuilder builder = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            String replacement;
+            switch (c) {
+                case '<':  replacement = "&lt;"; break;
+                case '>':  replacement = "&gt;"; break;
+                case '&':  replacement = "&amp;"; break;
+                case '"':  replacement = "&quot;"; break;
+                case '\r': replacement = "&#13;"; break;
+                default:   replacement = null;
+            }
+            if (replacement != null && builder == null) {
+                builder = new StringBuilder(text.length() + 16).append(text, 0, i);
+            }
+            if (builder != null) {
+                if (replacement != null) builder.append(replacement);
+                else builder.append(c);
+            }
+        }
+        return (builder == null) ? text : builder.toString();
+    }
+
+    /**
+     * Appends an element with the specified escaped text content.
+     */
+    static StringBuilder element(StringBuilder xml, String name, Object value) {
+        return xml.append('<').append(name).append('>')
+                  .append(escape(String.valueOf(value)))
+                  .append("</").append(name).append('>');
+    }
+
+    static String newRequestId() {
+        return UUID.randomUUID().toString();
+    }
+
+    static String iso8601(Date date) {
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+        format.setTimeZone(new SimpleTimeZone(0, "GMT"));
+        return format.format(date);
+    }
+
+    static String rfc822(Date date) {
+        SimpleDateFormat format = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss z", Locale.US);
+        format.setTimeZone(new SimpleTimeZone(0, "GMT"));
+        return format.format(date);
+    }
+
+    private Xml() {}
+
+}
@@ -20,8 +20,10 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import com.amazonaws.handlers.RequestHandler;
+import com.amazonaws.handlers.RequestInterceptor;
 import com.amazonaws.http.ExecutionContext;
 import com.amazonaws.http.AmazonHttpClient;
 import com.amazonaws.http.HttpMethodName;
@@ -47,6 +49,9 @@ public abstract class AmazonWebServiceClient {
     /** Optional request handlers for additional request processing. */
     protected final List<RequestHandler> requestHandlers;
 
+    /** Optional interceptors run before each attempt to send a request. */
+    protected final List<RequestInterceptor> requestInterceptors;
+
     /**
      * Constructs a new AmazonWebServiceClient object using the specified
      * configuration.
@@ -58,6 +63,7 @@ public abstract class AmazonWebServiceClient {
         this.clientConfiguration = clientConfiguration;
         client = new AmazonHttpClient(clientConfiguration);
         requestHandlers = Collections.synchronizedList(new LinkedList<RequestHandler>());
+        requestInterceptors = new CopyOnWriteArrayList<RequestInterceptor>();
     }
 
     /**
@@ -167,8 +173,33 @@ public abstract class AmazonWebServiceClient {
         requestHandlers.remove(requestHandler);
     }
 
+    /**
+     * Appends a request interceptor to the list of registered interceptors
+     * that are run before each attempt to send a request, including retries.
+     *
+     * @param requestInterceptor
+     *            The new interceptor to add to the current list of request
+     *            interceptors.
+     */
+    public void addRequestInterceptor(RequestInterceptor requestInterceptor) {
+        requestInterceptors.add(requestInterceptor);
+    }
+
+    /**
+     * Removes a request interceptor from the list of registered interceptors
+     * that are run before each attempt to send a request.
+     *
+     * @param requestInterceptor
+     *            The interceptor to remove from the current list of request
+     *            interceptors.
+     */
+    public void removeRequestInterceptor(RequestInterceptor requestInterceptor) {
+        requestInterceptors.remove(requestInterceptor);
+    }
+
     protected ExecutionContext createExecutionContext() {
         ExecutionContext executionContext = new ExecutionContext(requestHandlers);
+        executionContext.setRequestInterceptors(requestInterceptors);
         return executionContext;
     }
 
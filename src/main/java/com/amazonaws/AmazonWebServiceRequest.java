@@ -14,6 +14,7 @@
  */
 package com.amazonaws;
 
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -36,6 +37,18 @@ public abstract class AmazonWebServiceRequest {
      */
 	private AWSCredentials credentials;
 
+    /**
+     * The optional maximum amount of time (in milliseconds) this request may
+     * take, overriding the execution timeout set at the client level.
+     */
+    private Integer executionTimeout;
+
+    /**
+     * The optional time by which this request must complete, whatever the
+     * execution timeout.
+     */
+    private Date executionDeadline;
+
 
 	/**
 	 * Sets the optional credentials to use for this request, overriding the
@@ -61,6 +74,63 @@ public abstract class AmazonWebServiceRequest {
     }
 
 
+    /**
+     * Sets the optional maximum amount of time (in milliseconds) this request
+     * may take, including all its retries and the pauses between them,
+     * overriding the execution timeout set at the client level. A value of 0
+     * means no limit; null means the client's execution timeout applies.
+     *
+     * @param executionTimeout
+     *            The maximum amount of time (in milliseconds) this request may
+     *            take, 0 for no limit, or null for the client's execution
+     *            timeout.
+     *
+     * @see ClientConfiguration#setClientExecutionTimeout(int)
+     */
+    public void setExecutionTimeout(Integer executionTimeout) {
+        this.executionTimeout = executionTimeout;
+    }
+
+    /**
+     * Returns the optional maximum amount of time (in milliseconds) this
+     * request may take, overriding the execution timeout set at the client
+     * level.
+     *
+     * @return The maximum amount of time (in milliseconds) this request may
+     *         take, 0 for no limit, or null for the client's execution
+     *         timeout.
+     */
+    public Integer getExecutionTimeout() {
+        return executionTimeout;
+    }
+
+    /**
+     * Sets the optional time by which this request must complete, including
+     * all its retries. This applies in addition to any execution timeout, and
+     * is intended for propagating a caller's own deadline, such as the time by
+     * which a server must answer the request it's handling, to the service
+     * calls made on its behalf. A request whose deadline has already passed
+     * fails without being sent.
+     *
+     * @param executionDeadline
+     *            The time by which this request must complete, or null for no
+     *            deadline.
+     */
+    public void setExecutionDeadline(Date executionDeadline) {
+        this.executionDeadline = executionDeadline;
+    }
+
+    /**
+     * Returns the optional time by which this request must complete,
+     * including all its retries.
+     *
+     * @return The time by which this request must complete, or null for no
+     *         deadline.
+     */
+    public Date getExecutionDeadline() {
+        return executionDeadline;
+    }
+
     /**
      * Internal only method for accessing private, internal request parameters.
      * Not intended for direct use by callers.
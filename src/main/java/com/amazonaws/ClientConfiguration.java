@@ -24,6 +24,12 @@ public class ClientConfiguration {
     /** The default HTTP user agent header for AWS Java SDK clients. */
     public static final String DEFAULT_USER_AGENT = VersionInfoUtils.getUserAgent();
 
+    /** The default percentage of extra requests hedging may send. */
+    public static final int DEFAULT_HEDGING_BUDGET_PERCENT = 5;
+
+    /** The default interval, in milliseconds, at which host names are resolved again. */
+    public static final int DEFAULT_DNS_REFRESH_INTERVAL = 60 * 1000;
+
     /** The HTTP user agent header passed with all HTTP requests. */
     private String userAgent = DEFAULT_USER_AGENT;
 
@@ -90,6 +96,54 @@ public class ClientConfiguration {
      */
     private int socketReceiveBufferSizeHint = 0;
 
+    /**
+     * Whether concurrent, identical read-only requests share a single HTTP
+     * exchange and result.
+     */
+    private boolean requestCoalescingEnabled = false;
+
+    /**
+     * The maximum amount of time (in milliseconds) a service call may take,
+     * including all its retries and the pauses between them. A value of 0
+     * means no limit.
+     */
+    private int clientExecutionTimeout = 0;
+
+    /**
+     * Whether slow read-only requests are hedged with a duplicate request on
+     * another connection.
+     */
+    private boolean hedgingEnabled = false;
+
+    /**
+     * The amount of time (in milliseconds) to wait for a response before
+     * hedging a request. A value of 0 means the 95th percentile of recent
+     * response times for the same operation.
+     */
+    private int hedgingDelay = 0;
+
+    /** The maximum percentage of extra requests hedging may send. */
+    private int hedgingBudgetPercent = DEFAULT_HEDGING_BUDGET_PERCENT;
+
+    /**
+     * The amount of time (in milliseconds) after which endpoint host names
+     * are resolved again, for spreading new connections across their
+     * addresses. A value of 0 leaves host name resolution to the JVM.
+     */
+    private int dnsRefreshInterval = DEFAULT_DNS_REFRESH_INTERVAL;
+
+    /**
+     * Whether uploads wait for the service to accept the request headers
+     * before sending their content.
+     */
+    private boolean useExpectContinue = true;
+
+    /**
+     * The content length (in bytes) from which uploads wait for the service
+     * to accept the request headers before sending their content.
+     */
+    private long expectContinueThreshold = 0;
+
     /**
      * Returns the protocol (i.e. HTTP or HTTPS) to use when connecting to
      * Amazon Web Services.
@@ -683,4 +737,419 @@ public class ClientConfiguration {
         return this;
     }
 
+    /**
+     * Returns whether concurrent, identical read-only requests (ex:
+     * <code>GetQueueAttributes</code>, <code>DomainMetadata</code>, or an S3
+     * bucket location request) sent through the same client share a single
+     * HTTP exchange and result. Disabled by default.
+     *
+     * @return True if identical in-flight read-only requests are coalesced.
+     */
+    public boolean isRequestCoalescingEnabled() {
+        return requestCoalescingEnabled;
+    }
+
+    /**
+     * Sets whether concurrent, identical read-only requests sent through the
+     * same client share a single HTTP exchange and result.
+     * <p>
+     * When enabled, a read-only request (an HTTP GET or HEAD, or a query
+     * request whose action starts with <code>Get</code>, <code>Describe</code>
+     * or <code>List</code>, or is <code>DomainMetadata</code>) that is
+     * identical to one already in flight waits for that request instead of
+     * sending its own. Callers then receive the same result object (or the
+     * same exception), so results must not be modified. A request never
+     * waits for one sent before a mutating request through the same client
+     * completed, so callers always see the effects of their own earlier
+     * changes. Requests whose responses are streamed back to the caller or
+     * pushed to a consumer, such as S3 object content, are never coalesced (see
+     * {@link com.amazonaws.http.HttpResponseHandler#isCoalescable()}).
+     *
+     * @param requestCoalescingEnabled
+     *            True to coalesce identical in-flight read-only requests.
+     */
+    public void setRequestCoalescingEnabled(boolean requestCoalescingEnabled) {
+        this.requestCoalescingEnabled = requestCoalescingEnabled;
+    }
+
+    /**
+     * Sets whether concurrent, identical read-only requests sent through the
+     * same client share a single HTTP exchange and result, and returns the
+     * updated ClientConfiguration object so that additional method calls may
+     * be chained together.
+     *
+     * @param requestCoalescingEnabled
+     *            True to coalesce identical in-flight read-only requests.
+     *
+     * @return The updated ClientConfiguration object.
+     *
+     * @see #setRequestCoalescingEnabled(boolean)
+     */
+    public ClientConfiguration withRequestCoalescingEnabled(boolean requestCoalescingEnabled) {
+        setRequestCoalescingEnabled(requestCoalescingEnabled);
+        return this;
+    }
+
+    /**
+     * Returns the maximum amount of time (in milliseconds) a service call may
+     * take, including all its retries and the pauses between them, before it
+     * fails with a {@link ClientExecutionTimeoutException}. A value of 0 means
+     * no limit.
+     *
+     * @return The maximum amount of time (in milliseconds) a service call may
+     *         take.
+     */
+    public int getClientExecutionTimeout() {
+        return clientExecutionTimeout;
+    }
+
+    /**
+     * Sets the maximum amount of time (in milliseconds) a service call may
+     * take, including all its retries and the pauses between them. A value of
+     * 0, the default, means no limit.
+     * <p>
+     * The socket and connection timeouts only bound each network operation,
+     * so without an execution timeout a call can take up to the maximum
+     * number of retries times the sum of the timeouts and the back-off pause.
+     * When the execution timeout expires, the request in flight is aborted,
+     * no further retries are attempted, and the call fails with a
+     * {@link ClientExecutionTimeoutException}. Back-off pauses that would
+     * reach the deadline aren't taken; the call fails straight away instead.
+     * Individual requests can override this timeout with
+     * {@link AmazonWebServiceRequest#setExecutionTimeout(Integer)}, and
+     * further limit it with
+     * {@link AmazonWebServiceRequest#setExecutionDeadline(java.util.Date)}.
+     * <p>
+     * The execution timeout covers the call until it returns; reading a
+     * streamed response, such as Amazon S3 object content, after the call
+     * returns isn't limited by it.
+     *
+     * @param clientExecutionTimeout
+     *            The maximum amount of time (in milliseconds) a service call
+     *            may take, or 0 for no limit.
+     */
+    public void setClientExecutionTimeout(int clientExecutionTimeout) {
+        this.clientExecutionTimeout = clientExecutionTimeout;
+    }
+
+    /**
+     * Sets the maximum amount of time (in milliseconds) a service call may
+     * take, including all its retries and the pauses between them, and
+     * returns the updated ClientConfiguration object so that additional
+     * method calls may be chained together.
+     *
+     * @param clientExecutionTimeout
+     *            The maximum amount of time (in milliseconds) a service call
+     *            may take, or 0 for no limit.
+     *
+     * @return The updated ClientConfiguration object.
+     *
+     * @see #setClientExecutionTimeout(int)
+     */
+    public ClientConfiguration withClientExecutionTimeout(int clientExecutionTimeout) {
+        setClientExecutionTimeout(clientExecutionTimeout);
+        return this;
+    }
+
+    /**
+     * Returns whether slow read-only requests are hedged with a duplicate
+     * request on another connection.
+     *
+     * @return True if slow read-only requests are hedged.
+     */
+    public boolean isHedgingEnabled() {
+        return hedgingEnabled;
+    }
+
+    /**
+     * Sets whether slow read-only requests are hedged with a duplicate
+     * request on another connection.
+     * <p>
+     * When enabled, a read-only request (an HTTP GET or HEAD, such as an
+     * Amazon S3 get object or get object metadata request, or a query request
+     * whose action starts with <code>Get</code>, <code>Describe</code> or
+     * <code>List</code>, or is <code>DomainMetadata</code>) that hasn't
+     * received a response after the hedging delay is sent again on another
+     * pooled connection. Whichever response arrives first is used, and the
+     * other request is aborted, which closes its connection. This trims the
+     * tail latency caused by the occasional slow server or connection, at
+     * the cost of a few extra requests, which are limited by the hedging
+     * budget. Requests with a payload are never hedged.
+     * <p>
+     * Since both requests may be waiting for a connection at once, hedging
+     * works best with some headroom in the maximum number of connections.
+     *
+     * @param hedgingEnabled
+     *            True to hedge slow read-only requests.
+     *
+     * @see #setHedgingDelay(int)
+     * @see #setHedgingBudgetPercent(int)
+     */
+    public void setHedgingEnabled(boolean hedgingEnabled) {
+        this.hedgingEnabled = hedgingEnabled;
+    }
+
+    /**
+     * Sets whether slow read-only requests are hedged with a duplicate
+     * request on another connection, and returns the updated
+     * ClientConfiguration object so that additional method calls may be
+     * chained together.
+     *
+     * @param hedgingEnabled
+     *            True to hedge slow read-only requests.
+     *
+     * @return The updated ClientConfiguration object.
+     *
+     * @see #setHedgingEnabled(boolean)
+     */
+    public ClientConfiguration withHedgingEnabled(boolean hedgingEnabled) {
+        setHedgingEnabled(hedgingEnabled);
+        return this;
+    }
+
+    /**
+     * Returns the amount of time (in milliseconds) to wait for a response
+     * before hedging a request. A value of 0 means the 95th percentile of
+     * recent response times for the same operation.
+     *
+     * @return The amount of time (in milliseconds) to wait for a response
+     *         before hedging a request.
+     */
+    public int getHedgingDelay() {
+        return hedgingDelay;
+    }
+
+    /**
+     * Sets the amount of time (in milliseconds) to wait for a response before
+     * hedging a request, when hedging is enabled.
+     * <p>
+     * The default, 0, waits for the 95th percentile of the time recent
+     * requests for the same operation took to receive a response, so that
+     * only the slowest requests are hedged; operations aren't hedged until a
+     * few of their response times have been observed.
+     *
+     * @param hedgingDelay
+     *            The amount of time (in milliseconds) to wait for a response
+     *            before hedging a request, or 0 to use recent response times.
+     */
+    public void setHedgingDelay(int hedgingDelay) {
+        this.hedgingDelay = hedgingDelay;
+    }
+
+    /**
+     * Sets the amount of time (in milliseconds) to wait for a response before
+     * hedging a request, and returns the updated ClientConfiguration object so
+     * that additional method calls may be chained together.
+     *
+     * @param hedgingDelay
+     *            The amount of time (in milliseconds) to wait for a response
+     *            before hedging a request, or 0 to use recent response times.
+     *
+     * @return The updated ClientConfiguration object.
+     *
+     * @see #setHedgingDelay(int)
+     */
+    public ClientConfiguration withHedgingDelay(int hedgingDelay) {
+        setHedgingDelay(hedgingDelay);
+        return this;
+    }
+
+    /**
+     * Returns the maximum number of hedges sent, as a percentage of the
+     * read-only requests sent.
+     *
+     * @return The maximum percentage of extra requests hedging may send.
+     */
+    public int getHedgingBudgetPercent() {
+        return hedgingBudgetPercent;
+    }
+
+    /**
+     * Sets the maximum number of hedges sent, as a percentage of the
+     * read-only requests sent, when hedging is enabled. Defaults to 5.
+     * <p>
+     * Each read-only request earns this percentage of a hedge, and a hedge is
+     * only sent once a whole one has been earned, so that a struggling
+     * service, whose requests are all slow, isn't sent twice the load.
+     *
+     * @param hedgingBudgetPercent
+     *            The maximum percentage of extra requests hedging may send.
+     */
+    public void setHedgingBudgetPercent(int hedgingBudgetPercent) {
+        this.hedgingBudgetPercent = hedgingBudgetPercent;
+    }
+
+    /**
+     * Sets the maximum number of hedges sent, as a percentage of the
+     * read-only requests sent, and returns the updated ClientConfiguration
+     * object so that additional method calls may be chained together.
+     *
+     * @param hedgingBudgetPercent
+     *            The maximum percentage of extra requests hedging may send.
+     *
+     * @return The updated ClientConfiguration object.
+     *
+     * @see #setHedgingBudgetPercent(int)
+     */
+    public ClientConfiguration withHedgingBudgetPercent(int hedgingBudgetPercent) {
+        setHedgingBudgetPercent(hedgingBudgetPercent);
+        return this;
+    }
+
+    /**
+     * Returns the amount of time (in milliseconds) after which endpoint host
+     * names are resolved again. A value of 0 means host names are resolved
+     * by the JVM whenever a connection is opened, without spreading
+     * connections across addresses.
+     *
+     * @return The amount of time (in milliseconds) after which endpoint host
+     *         names are resolved again.
+     */
+    public int getDnsRefreshInterval() {
+        return dnsRefreshInterval;
+    }
+
+    /**
+     * Sets the amount of time (in milliseconds) after which endpoint host
+     * names are resolved again. Defaults to one minute.
+     * <p>
+     * Amazon endpoints resolve to several addresses, which change over time.
+     * The client opens each new connection to the next of an endpoint's
+     * addresses in turn, so that the connections of a busy client are spread
+     * across many servers instead of the first address returned. Once a host
+     * name is resolved again, connections to addresses that are no longer
+     * returned are closed as they finish their current request, rather than
+     * being reused. Lookups still go through the JVM's DNS cache, whose
+     * lifetime is set with the <code>networkaddress.cache.ttl</code> security
+     * property.
+     * <p>
+     * A value of 0 turns this off; host names are then resolved by the JVM
+     * whenever a connection is opened, and connections always go to the
+     * first address that accepts them.
+     *
+     * @param dnsRefreshInterval
+     *            The amount of time (in milliseconds) after which endpoint
+     *            host names are resolved again, or 0 to leave resolution to
+     *            the JVM.
+     */
+    public void setDnsRefreshInterval(int dnsRefreshInterval) {
+        this.dnsRefreshInterval = dnsRefreshInterval;
+    }
+
+    /**
+     * Sets the amount of time (in milliseconds) after which endpoint host
+     * names are resolved again, and returns the updated ClientConfiguration
+     * object so that additional method calls may be chained together.
+     *
+     * @param dnsRefreshInterval
+     *            The amount of time (in milliseconds) after which endpoint
+     *            host names are resolved again, or 0 to leave resolution to
+     *            the JVM.
+     *
+     * @return The updated ClientConfiguration object.
+     *
+     * @see #setDnsRefreshInterval(int)
+     */
+    public ClientConfiguration withDnsRefreshInterval(int dnsRefreshInterval) {
+        setDnsRefreshInterval(dnsRefreshInterval);
+        return this;
+    }
+
+    /**
+     * Returns whether uploads (HTTP PUTs) wait for the service to accept the
+     * request headers, with an <code>Expect: 100-continue</code> handshake,
+     * before sending their content.
+     *
+     * @return True if uploads use the <code>100-continue</code> handshake.
+     */
+    public boolean isUseExpectContinue() {
+        return useExpectContinue;
+    }
+
+    /**
+     * Sets whether uploads (HTTP PUTs) wait for the service to accept the
+     * request headers, with an <code>Expect: 100-continue</code> handshake,
+     * before sending their content. Enabled by default.
+     * <p>
+     * The handshake lets the service turn down a request, for example because
+     * of a bad signature or a redirect, before any content is sent, but costs
+     * an extra round trip on every upload. That's insignificant for large
+     * uploads, but can dominate the time taken by small ones; see
+     * {@link #setExpectContinueThreshold(long)} to only use the handshake for
+     * larger uploads.
+     *
+     * @param useExpectContinue
+     *            True to use the <code>100-continue</code> handshake for
+     *            uploads.
+     */
+    public void setUseExpectContinue(boolean useExpectContinue) {
+        this.useExpectContinue = useExpectContinue;
+    }
+
+    /**
+     * Sets whether uploads (HTTP PUTs) wait for the service to accept the
+     * request headers before sending their content, and returns the updated
+     * ClientConfiguration object so that additional method calls may be
+     * chained together.
+     *
+     * @param useExpectContinue
+     *            True to use the <code>100-continue</code> handshake for
+     *            uploads.
+     *
+     * @return The updated ClientConfiguration object.
+     *
+     * @see #setUseExpectContinue(boolean)
+     */
+    public ClientConfiguration withUseExpectContinue(boolean useExpectContinue) {
+        setUseExpectContinue(useExpectContinue);
+        return this;
+    }
+
+    /**
+     * Returns the content length (in bytes) from which uploads use the
+     * <code>Expect: 100-continue</code> handshake, when it's enabled. A value
+     * of 0 means all uploads use it.
+     *
+     * @return The content length (in bytes) from which uploads use the
+     *         <code>100-continue</code> handshake.
+     */
+    public long getExpectContinueThreshold() {
+        return expectContinueThreshold;
+    }
+
+    /**
+     * Sets the content length (in bytes) from which uploads use the
+     * <code>Expect: 100-continue</code> handshake, when it's enabled. Smaller
+     * uploads send their content straight away, saving a round trip; if the
+     * service turns the request down, only a little content is wasted.
+     * Uploads of unknown length always use the handshake. Defaults to 0, so
+     * that all uploads use it.
+     *
+     * @param expectContinueThreshold
+     *            The content length (in bytes) from which uploads use the
+     *            <code>100-continue</code> handshake, or 0 for all uploads.
+     */
+    public void setExpectContinueThreshold(long expectContinueThreshold) {
+        this.expectContinueThreshold = expectContinueThreshold;
+    }
+
+    /**
+     * Sets the content length (in bytes) from which uploads use the
+     * <code>Expect: 100-continue</code> handshake, and returns the updated
+     * ClientConfiguration object so that additional method calls may be
+     * chained together.
+     *
+     * @param expectContinueThreshold
+     *            The content length (in bytes) from which uploads use the
+     *            <code>100-continue</code> handshake, or 0 for all uploads.
+     *
+     * @return The updated ClientConfiguration object.
+     *
+     * @see #setExpectContinueThreshold(long)
+     */
+    public ClientConfiguration withExpectContinueThreshold(long expectContinueThreshold) {
+        setExpectContinueThreshold(expectContinueThreshold);
+        return this;
+    }
+
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws;
+
+/**
+ * Thrown when a service call doesn't complete, including all its retries,
+ * before its deadline: the client's execution timeout, or the request's own
+ * execution timeout or deadline.
+ * <p>
+ * The cause, if any, is the failure of the last attempt, or the error from
+ * the attempt that was aborted when the deadline passed.
+ *
+ * @see ClientConfiguration#setClientExecutionTimeout(int)
+ * @see AmazonWebServiceRequest#setExecutionTimeout(Integer)
+ * @see AmazonWebServiceRequest#setExecutionDeadline(java.util.Date)
+ */
+public class ClientExecutionTimeoutException extends AmazonClientException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a new ClientExecutionTimeoutException with the specified
+     * message, and root cause.
+     *
+     * @param message
+     *            An error message describing why this exception was thrown.
+     * @param t
+     *            The underlying cause of this exception.
+     */
+    public ClientExecutionTimeoutException(String message, Throwable t) {
+        super(message, t);
+    }
+
+    /**
+     * Creates a new ClientExecutionTimeoutException with the specified
+     * message.
+     *
+     * @param message
+     *            An error message describing why this exception was thrown.
+     */
+    public ClientExecutionTimeoutException(String message) {
+        super(message);
+    }
+
+}
@@ -20,6 +20,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.util.QueryParameterMap;
 
 /**
  * Default implementation of the {@linkplain com.amazonaws.Request} interface.
@@ -32,8 +33,11 @@ public class DefaultRequest<T> implements Request<T> {
     /** The resource path being requested */
     private String resourcePath;
 
-    /** Map of the parameters being sent as part of this request */
-    private Map<String, String> parameters = new HashMap<String, String>();
+    /**
+     * Map of the parameters being sent as part of this request, kept sorted and
+     * encoded for the signer and the HTTP request factory to share
+     */
+    private Map<String, String> parameters = new QueryParameterMap();
 
     /** Map of the headers included in this request */
     private Map<String, String> headers = new HashMap<String, String>();
@@ -28,6 +28,7 @@ import org.apache.commons.codec.binary.Base64;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.util.HttpUtils;
+import com.amazonaws.util.QueryParameterMap;
 
 /**
  * Abstract base class for AWS signing protocol implementations. Provides
@@ -70,6 +71,11 @@ public abstract class AbstractAWSSigner implements Signer {
     }
 
     protected String getCanonicalizedQueryString(Map<String, String> parameters) {
+        // Already sorted and encoded, and shared with the request body
+        if (parameters instanceof QueryParameterMap) {
+            return ((QueryParameterMap)parameters).getEncodedQueryString();
+        }
+
         SortedMap<String, String> sorted = new TreeMap<String, String>();
         sorted.putAll(parameters);
 
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.handlers;
+
+import com.amazonaws.AmazonWebServiceRequest;
+
+/**
+ * Callback interface for notification on web service requests executed with
+ * the asynchronous clients in the AWS SDK for Java. Callbacks are invoked on
+ * the thread that executed the request, so implementations should return
+ * quickly and hand off any expensive work to another thread.
+ *
+ * @param <REQUEST>
+ *            The type of the original request object.
+ * @param <RESULT>
+ *            The type of the result returned by the service call.
+ */
+public interface AsyncHandler<REQUEST extends AmazonWebServiceRequest, RESULT> {
+
+    /**
+     * Invoked after an asynchronous request completes with an error.
+     *
+     * @param exception
+     *            The exception that caused the asynchronous request to fail.
+     */
+    public void onError(Exception exception);
+
+    /**
+     * Invoked after an asynchronous request completes successfully.
+     *
+     * @param request
+     *            The original request object that was executed.
+     * @param result
+     *            The result returned by the service call.
+     */
+    public void onSuccess(REQUEST request, RESULT result);
+
+}
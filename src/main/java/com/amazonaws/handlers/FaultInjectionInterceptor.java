@@ -0,0 +1,216 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.handlers;
+
+import java.io.IOException;
+import java.net.SocketException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonServiceException.ErrorType;
+import com.amazonaws.Request;
+import com.amazonaws.util.RequestKey;
+
+/**
+ * Request interceptor that injects latency and failures into requests, so
+ * that retry, back-off and connection pool settings can be evaluated against
+ * a degraded service, offline and reproducibly.
+ * <p>
+ * Faults are described by {@link FaultInjectionRule}s; each attempt is
+ * governed by the first rule that matches its service and operation, and
+ * attempts that match no rule are sent untouched. Injected failures are
+ * never sent, so a rule with a combined failure rate of 1 takes the service
+ * out of the picture entirely. With a fixed seed, the same sequence of
+ * attempts sees the same sequence of faults.
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * FaultInjectionInterceptor faults = new FaultInjectionInterceptor(42)
+ *     .withRule(new FaultInjectionRule(&quot;AmazonSQS&quot;, &quot;ReceiveMessage&quot;)
+ *         .withLatencyMillis(20).withThrottlingRate(0.05));
+ * sqs.addRequestInterceptor(faults);
+ * </pre>
+ */
+public class FaultInjectionInterceptor implements RequestInterceptor {
+
+    private static final Log log = LogFactory.getLog(FaultInjectionInterceptor.class);
+
+    private final List<FaultInjectionRule> rules = new CopyOnWriteArrayList<FaultInjectionRule>();
+    private final Random random;
+
+    private final AtomicLong delayedCount = new AtomicLong();
+    private final AtomicLong connectionFailureCount = new AtomicLong();
+    private final AtomicLong internalErrorCount = new AtomicLong();
+    private final AtomicLong serviceUnavailableCount = new AtomicLong();
+    private final AtomicLong throttlingCount = new AtomicLong();
+
+    /**
+     * Constructs a new interceptor, with no rules, that draws faults at
+     * random.
+     */
+    public FaultInjectionInterceptor() {
+        this.random = new Random();
+    }
+
+    /**
+     * Constructs a new interceptor, with no rules, that draws faults from a
+     * random sequence with the specified seed.
+     *
+     * @param seed
+     *            The seed for the sequence of faults.
+     */
+    public FaultInjectionInterceptor(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Adds a rule, which applies to attempts that don't match any of the
+     * rules already added.
+     *
+     * @param rule
+     *            The rule to add.
+     */
+    public void addRule(FaultInjectionRule rule) {
+        rules.add(rule);
+    }
+
+    public FaultInjectionInterceptor withRule(FaultInjectionRule rule) {
+        addRule(rule);
+        return this;
+    }
+
+    /**
+     * Removes all rules, so that requests are no longer interfered with.
+     */
+    public void clearRules() {
+        rules.clear();
+    }
+
+    public AmazonServiceException beforeAttempt(Request<?> request, int attempt) throws IOException {
+        String serviceName = request.getServiceName();
+        String operationName = RequestKey.getOperationName(request);
+
+        FaultInjectionRule rule = null;
+        for (FaultInjectionRule candidate : rules) {
+            if (candidate.matches(serviceName, operationName)) {
+                rule = candidate;
+                break;
+            }
+        }
+        if (rule == null) return null;
+
+        long delay = rule.getLatencyMillis();
+        if (rule.getLatencyJitterMillis() > 0) {
+            delay += (long)(random.nextDouble() * rule.getLatencyJitterMillis());
+        }
+        if (delay > 0) {
+            delayedCount.incrementAndGet();
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AmazonClientException("Interrupted while injecting latency", e);
+            }
+        }
+
+        double draw = random.nextDouble();
+        if ((draw -= rule.getConnectionFailureRate()) < 0) {
+            connectionFailureCount.incrementAndGet();
+            log.debug("Injecting connection failure into " + operationName + " attempt " + attempt);
+            throw new SocketException("Injected connection failure");
+        }
+        if ((draw -= rule.getInternalErrorRate()) < 0) {
+            internalErrorCount.incrementAndGet();
+            return newServiceException(serviceName, 500, "InternalError",
+                    "We encountered an internal error. Please try again.");
+        }
+        if ((draw -= rule.getServiceUnavailableRate()) < 0) {
+            serviceUnavailableCount.incrementAndGet();
+            return newServiceException(serviceName, 503, "ServiceUnavailable",
+                    "Service is unable to handle request.");
+        }
+        if ((draw -= rule.getThrottlingRate()) < 0) {
+            throttlingCount.incrementAndGet();
+            return newServiceException(serviceName, 400, "Throttling", "Rate exceeded");
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of attempts delayed so far.
+     */
+    public long getDelayedCount() {
+        return delayedCount.get();
+    }
+
+    /**
+     * Returns the number of connection failures injected so far.
+     */
+    public long getConnectionFailureCount() {
+        return connectionFailureCount.get();
+    }
+
+    /**
+     * Returns the number of 500 Internal Server Errors injected so far.
+     */
+    public long getInternalErrorCount() {
+        return internalErrorCount.get();
+    }
+
+    /**
+     * Returns the number of 503 Service Unavailable errors injected so far.
+     */
+    public long getServiceUnavailableCount() {
+        return serviceUnavailableCount.get();
+    }
+
+    /**
+     * Returns the number of throttling errors injected so far.
+     */
+    public long getThrottlingCount() {
+        return throttlingCount.get();
+    }
+
+    /**
+     * Resets all the counts of injected faults to zero.
+     */
+    public void resetCounts() {
+        delayedCount.set(0);
+        connectionFailureCount.set(0);
+        internalErrorCount.set(0);
+        serviceUnavailableCount.set(0);
+        throttlingCount.set(0);
+    }
+
+    private static AmazonServiceException newServiceException(String serviceName, int statusCode,
+            String errorCode, String message) {
+        AmazonServiceException ase = new AmazonServiceException(message);
+        ase.setServiceName(serviceName);
+        ase.setStatusCode(statusCode);
+        ase.setErrorCode(errorCode);
+        ase.setErrorType(statusCode >= 500 ? ErrorType.Service : ErrorType.Client);
+        ase.setRequestId("injected-fault");
+        return ase;
+    }
+
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.handlers;
+
+/**
+ * The faults a {@link FaultInjectionInterceptor} injects into the requests
+ * for one service and operation, or for all services or operations.
+ * <p>
+ * Each attempt to send a matching request is first delayed by the latency
+ * plus a random jitter, and then fails, without being sent, with at most one
+ * of the configured faults, chosen at random according to their rates. The
+ * rates are fractions of attempts, between 0 and 1, and together must not
+ * exceed 1.
+ */
+public class FaultInjectionRule {
+
+    private final String serviceName;
+    private final String operationName;
+
+    private long latencyMillis;
+    private long latencyJitterMillis;
+    private double connectionFailureRate;
+    private double internalErrorRate;
+    private double serviceUnavailableRate;
+    private double throttlingRate;
+
+    /**
+     * Constructs a new rule that applies to every request.
+     */
+    public FaultInjectionRule() {
+        this(null, null);
+    }
+
+    /**
+     * Constructs a new rule that applies to requests for the specified
+     * service and operation.
+     *
+     * @param serviceName
+     *            The name of the service (ex: "AmazonSQS"), or null for any
+     *            service.
+     * @param operationName
+     *            The name of the operation (ex: "ReceiveMessage"), or null for
+     *            any operation.
+     */
+    public FaultInjectionRule(String serviceName, String operationName) {
+        this.serviceName = serviceName;
+        this.operationName = operationName;
+    }
+
+    /**
+     * Returns true if this rule applies to the specified service and
+     * operation.
+     */
+    public boolean matches(String serviceName, String operationName) {
+        return (this.serviceName == null || this.serviceName.equals(serviceName))
+            && (this.operationName == null || this.operationName.equals(operationName));
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public String getOperationName() {
+        return operationName;
+    }
+
+    /**
+     * Sets the fixed delay, in milliseconds, added to each attempt.
+     */
+    public void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    public long getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    public FaultInjectionRule withLatencyMillis(long latencyMillis) {
+        setLatencyMillis(latencyMillis);
+        return this;
+    }
+
+    /**
+     * Sets the maximum random delay, in milliseconds, added to each attempt
+     * on top of the fixed latency.
+     */
+    public void setLatencyJitterMillis(long latencyJitterMillis) {
+        this.latencyJitterMillis = latencyJitterMillis;
+    }
+
+    public long getLatencyJitterMillis() {
+        return latencyJitterMillis;
+    }
+
+    public FaultInjectionRule withLatencyJitterMillis(long latencyJitterMillis) {
+        setLatencyJitterMillis(latencyJitterMillis);
+        return this;
+    }
+
+    /**
+     * Sets the fraction of attempts that fail as if the connection failed.
+     */
+    public void setConnectionFailureRate(double connectionFailureRate) {
+        this.connectionFailureRate = connectionFailureRate;
+    }
+
+    public double getConnectionFailureRate() {
+        return connectionFailureRate;
+    }
+
+    public FaultInjectionRule withConnectionFailureRate(double connectionFailureRate) {
+        setConnectionFailureRate(connectionFailureRate);
+        return this;
+    }
+
+    /**
+     * Sets the fraction of attempts that fail with a 500 Internal Server Error
+     * (error code InternalError).
+     */
+    public void setInternalErrorRate(double internalErrorRate) {
+        this.internalErrorRate = internalErrorRate;
+    }
+
+    public double getInternalErrorRate() {
+        return internalErrorRate;
+    }
+
+    public FaultInjectionRule withInternalErrorRate(double internalErrorRate) {
+        setInternalErrorRate(internalErrorRate);
+        return this;
+    }
+
+    /**
+     * Sets the fraction of attempts that fail with a 503 Service Unavailable
+     * (error code ServiceUnavailable).
+     */
+    public void setServiceUnavailableRate(double serviceUnavailableRate) {
+        this.serviceUnavailableRate = serviceUnavailableRate;
+    }
+
+    public double getServiceUnavailableRate() {
+        return serviceUnavailableRate;
+    }
+
+    public FaultInjectionRule withServiceUnavailableRate(double serviceUnavailableRate) {
+        setServiceUnavailableRate(serviceUnavailableRate);
+        return this;
+    }
+
+    /**
+     * Sets the fraction of attempts that fail with a 400 Bad Request with
+     * error code Throttling.
+     */
+    public void setThrottlingRate(double throttlingRate) {
+        this.throttlingRate = throttlingRate;
+    }
+
+    public double getThrottlingRate() {
+        return throttlingRate;
+    }
+
+    public FaultInjectionRule withThrottlingRate(double throttlingRate) {
+        setThrottlingRate(throttlingRate);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "{Service: " + serviceName + ", Operation: " + operationName
+            + ", Latency: " + latencyMillis + "+" + latencyJitterMillis + "ms"
+            + ", ConnectionFailureRate: " + connectionFailureRate
+            + ", InternalErrorRate: " + internalErrorRate
+            + ", ServiceUnavailableRate: " + serviceUnavailableRate
+            + ", ThrottlingRate: " + throttlingRate + "}";
+    }
+
+}
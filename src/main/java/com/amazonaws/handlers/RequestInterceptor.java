@@ -0,0 +1,53 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.handlers;
+
+import java.io.IOException;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.Request;
+
+/**
+ * Interface for intercepting each attempt to send a request, including
+ * retries. Unlike a {@link RequestHandler}, which only observes a request, an
+ * interceptor can delay an attempt, or stop it from being sent and make it
+ * fail instead, so that the client's retry and back-off behavior can be
+ * exercised without a misbehaving service.
+ */
+public interface RequestInterceptor {
+
+    /**
+     * Runs before an attempt to send the specified request. Implementations
+     * can delay the attempt by blocking, fail it with a synthesized error
+     * response by returning the service exception that response would have
+     * produced, or fail it as if the connection failed by throwing an
+     * <code>IOException</code>. Failed attempts are retried (or not) exactly
+     * like real failures.
+     *
+     * @param request
+     *            The low level request about to be sent.
+     * @param attempt
+     *            The number of the attempt, starting at one.
+     *
+     * @return Null to send the request, otherwise the error to fail the
+     *         attempt with, without sending the request.
+     *
+     * @throws IOException
+     *             To fail the attempt with a connection failure, without
+     *             sending the request.
+     */
+    public AmazonServiceException beforeAttempt(Request<?> request, int attempt) throws IOException;
+
+}
@@ -20,9 +20,17 @@ import java.net.SocketTimeoutException;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -40,10 +48,13 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.AmazonWebServiceRequest;
 import com.amazonaws.AmazonWebServiceResponse;
 import com.amazonaws.ClientConfiguration;
+import com.amazonaws.ClientExecutionTimeoutException;
 import com.amazonaws.Request;
 import com.amazonaws.ResponseMetadata;
 import com.amazonaws.handlers.RequestHandler;
+import com.amazonaws.handlers.RequestInterceptor;
 import com.amazonaws.util.CountingInputStream;
+import com.amazonaws.util.RequestKey;
 import com.amazonaws.util.ResponseMetadataCache;
 import com.amazonaws.util.TimingInfo;
 
@@ -67,6 +78,8 @@ public class AmazonHttpClient {
 
 	private static final String BYTES_PROCESSED_COUNTER = "bytes-processed";
 	private static final String RESPONSE_PROCESSING_SUBMEASUREMENT = "response-processing";
+	private static final String HEDGED_REQUESTS_COUNTER = "hedged-requests";
+	private static final String HEDGES_WON_COUNTER = "hedges-won";
 
     /** Maximum exponential back-off time before retrying a request */
     private static final int MAX_BACKOFF_IN_MILLISECONDS = 20 * 1000;
@@ -77,6 +90,20 @@ public class AmazonHttpClient {
     /** Cache of metadata for recently executed requests for diagnostic purposes */
     private ResponseMetadataCache responseMetadataCache = new ResponseMetadataCache(50);
 
+    /**
+     * Read-only requests currently in flight, when request coalescing is
+     * enabled, keyed by request and the number of mutating requests that had
+     * completed when they started
+     */
+    private final ConcurrentMap<List<Object>, FutureTask<Object>> inFlightRequests =
+        new ConcurrentHashMap<List<Object>, FutureTask<Object>>();
+
+    /** The number of mutating requests completed, when request coalescing is enabled */
+    private final AtomicLong completedMutationCount = new AtomicLong();
+
+    /** Sends duplicates of slow read-only requests, when hedging is enabled */
+    private final RequestHedger requestHedger;
+
     private static final Random random = new Random();
 
     private static HttpRequestFactory httpRequestFactory = new HttpRequestFactory();
@@ -109,6 +136,7 @@ public class AmazonHttpClient {
     public AmazonHttpClient(ClientConfiguration clientConfiguration) {
         this.config = clientConfiguration;
         this.httpClient = httpClientFactory.createHttpClient(config);
+        this.requestHedger = new RequestHedger(httpClient, config);
     }
 
     /**
@@ -129,6 +157,51 @@ public class AmazonHttpClient {
         return responseMetadataCache.get(request);
     }
 
+    /**
+     * Returns the number of duplicate requests sent because a read-only
+     * request was slow, when hedging is enabled.
+     *
+     * @return The number of hedges sent.
+     *
+     * @see ClientConfiguration#setHedgingEnabled(boolean)
+     */
+    public long getHedgedRequestCount() {
+        return requestHedger.getHedgedCount();
+    }
+
+    /**
+     * Returns the number of hedges whose response arrived before the response
+     * to the original request.
+     *
+     * @return The number of hedges that won.
+     */
+    public long getHedgeWonCount() {
+        return requestHedger.getHedgeWonCount();
+    }
+
+    /**
+     * Returns the number of slow read-only requests that weren't hedged
+     * because the hedging budget had been spent.
+     *
+     * @return The number of hedges not sent for lack of budget.
+     *
+     * @see ClientConfiguration#setHedgingBudgetPercent(int)
+     */
+    public long getHedgeBudgetExhaustedCount() {
+        return requestHedger.getBudgetExhaustedCount();
+    }
+
+    /**
+     * Returns the number of slow read-only requests that weren't hedged
+     * because the maximum number of hedges, shared by all clients, were
+     * already in flight.
+     *
+     * @return The number of hedges not sent for lack of a hedge thread.
+     */
+    public long getHedgeRejectedCount() {
+        return requestHedger.getRejectedCount();
+    }
+
     /**
      * Executes the request and returns the result.
      *
@@ -163,7 +236,17 @@ public class AmazonHttpClient {
     	try {
     		TimingInfo timingInfo = new TimingInfo(startTime);
     		executionContext.setTimingInfo(timingInfo);
-    		T t = executeHelper(request, responseHandler, errorResponseHandler, executionContext);
+    		executionContext.setDeadline(computeDeadline(request, startTime));
+    		T t;
+    		if (isCoalescable(request, responseHandler)) {
+    			t = executeCoalesced(request, responseHandler, errorResponseHandler, executionContext);
+    		} else {
+    			try {
+    				t = executeHelper(request, responseHandler, errorResponseHandler, executionContext);
+    			} finally {
+    				if (config.isRequestCoalescingEnabled() && !isReadOnly(request)) completedMutationCount.incrementAndGet();
+    			}
+    		}
     		timingInfo.setEndTime(System.currentTimeMillis());
 
 			for (RequestHandler handler : requestHandlers) {
@@ -215,7 +298,15 @@ public class AmazonHttpClient {
         URI redirectedURI = null;
         HttpEntity entity = null;
         AmazonServiceException exception = null;
+        Exception lastFailure = null;
+        long deadline = executionContext.getDeadline();
+        String hedgedOperation = isHedgeable(request)
+            ? request.getServiceName() + "." + RequestKey.getOperationName(request) : null;
         while (true) {
+            if (deadline > 0 && System.currentTimeMillis() >= deadline) {
+                throw newTimeoutException(executionContext, retries, lastFailure);
+            }
+
         	// Sign the request if a signer was provided
         	if (executionContext.getSigner() != null && executionContext.getCredentials() != null) {
         		executionContext.getSigner().sign(request, executionContext.getCredentials());
@@ -231,20 +322,64 @@ public class AmazonHttpClient {
             	httpRequest.setURI(redirectedURI);
             }
 
+            // An identical request, sent on another connection if this one is slow
+            HttpRequestBase hedgeRequest = null;
+            if (hedgedOperation != null) {
+                hedgeRequest = httpRequestFactory.createHttpRequest(request, config, null, executionContext);
+                if (redirectedURI != null) hedgeRequest.setURI(redirectedURI);
+            }
+
             org.apache.http.HttpResponse response = null;
+            RequestAbortTimer.Abort abort = null;
+            RequestAbortTimer.Abort hedgeAbort = null;
             try {
-                if (retries > 0) pauseExponentially(retries, exception);
+                if (retries > 0 && !pauseExponentially(retries, exception, deadline)) {
+                    // The pause would use up the rest of the time allowed
+                    throw newTimeoutException(executionContext, retries, lastFailure);
+                }
                 exception = null;
                 retries++;
 
-                response = httpClient.execute(httpRequest);
+                exception = runRequestInterceptors(request, retries, executionContext);
+                if (exception != null) {
+                    lastFailure = exception;
+                    requestLog.info("Intercepted with error response: " + exception.toString());
+                    if (!shouldRetry(httpRequest, exception, retries)) {
+                        throw exception;
+                    }
+                    continue;
+                }
+
+                if (deadline > 0) abort = RequestAbortTimer.schedule(httpRequest, deadline);
+                if (hedgeRequest != null) {
+                    if (deadline > 0) hedgeAbort = RequestAbortTimer.schedule(hedgeRequest, deadline);
+                    RequestHedger.Race race = requestHedger.newRace(hedgedOperation, httpRequest, hedgeRequest);
+                    try {
+                        response = race.execute();
+                    } finally {
+                        countHedging(executionContext, race);
+                    }
+                    httpRequest = race.getWinningRequest();
+                } else {
+                    response = httpClient.execute(httpRequest);
+                }
                 if (isRequestSuccessful(response)) {
                     /*
                      * If we get back any 2xx status code, then we know we should
                      * treat the service call as successful.
                      */
                     leaveHttpConnectionOpen = responseHandler.needsConnectionLeftOpen();
-                    return handleResponse(request, responseHandler, httpRequest, response, executionContext);
+                    T result = handleResponse(request, responseHandler, httpRequest, response, executionContext);
+                    if (leaveHttpConnectionOpen && !cancelAborts(abort, hedgeAbort)) {
+                        /*
+                         * The caller would read the response stream after the
+                         * deadline aborted it, so fail now and let the finally
+                         * block below release the connection.
+                         */
+                        leaveHttpConnectionOpen = false;
+                        throw newTimeoutException(executionContext, retries, null);
+                    }
+                    return result;
                 } else if (isTemporaryRedirect(response)) {
                     /*
                      * S3 sends 307 Temporary Redirects if you try to delete an
@@ -257,21 +392,40 @@ public class AmazonHttpClient {
                     log.debug("Redirecting to: " + redirectedLocation);
                     redirectedURI = URI.create(redirectedLocation);
                     httpRequest.setURI(redirectedURI);
+                    executionContext.setRedirectedURI(redirectedURI);
                 } else {
                     leaveHttpConnectionOpen = errorResponseHandler.needsConnectionLeftOpen();
                     exception = handleErrorResponse(request, errorResponseHandler, httpRequest, response);
+                    lastFailure = exception;
 
                     if (!shouldRetry(httpRequest, exception, retries)) {
                         throw exception;
                     }
                 }
             } catch (IOException ioe) {
+                if (hasFired(abort) || hasFired(hedgeAbort)) {
+                    throw newTimeoutException(executionContext, retries, ioe);
+                }
                 log.warn("Unable to execute HTTP request: " + ioe.getMessage());
+                lastFailure = ioe;
 
                 if (!shouldRetry(httpRequest, ioe, retries)) {
                     throw new AmazonClientException("Unable to execute HTTP request: " + ioe.getMessage(), ioe);
                 }
+            } catch (AmazonClientException ace) {
+                // Aborting the request can also break the unmarshalling of its response
+                if ((hasFired(abort) || hasFired(hedgeAbort)) && !(ace instanceof AmazonServiceException)
+                        && !(ace instanceof ClientExecutionTimeoutException)) {
+                    throw newTimeoutException(executionContext, retries, ace);
+                }
+                throw ace;
             } finally {
+                if (abort != null) abort.cancel();
+                if (hedgeAbort != null) hedgeAbort.cancel();
+                // Aborting a request that's waiting for a pooled connection
+                // interrupts the waiting thread; don't leak that to the caller
+                if (hasFired(abort) || hasFired(hedgeAbort)) Thread.interrupted();
+
                 /*
                  * Some response handlers need to manually manage the HTTP
                  * connection and will take care of releasing the connection on
@@ -286,6 +440,150 @@ public class AmazonHttpClient {
         }
     }
     
+    /**
+     * Runs the request interceptors in the execution context before an
+     * attempt to send a request, returning the error the first interceptor
+     * failed the attempt with, if any.
+     */
+    private AmazonServiceException runRequestInterceptors(Request<?> request, int attempt,
+            ExecutionContext executionContext) throws IOException {
+        List<RequestInterceptor> requestInterceptors = executionContext.getRequestInterceptors();
+        if (requestInterceptors == null) return null;
+
+        for (RequestInterceptor interceptor : requestInterceptors) {
+            AmazonServiceException exception = interceptor.beforeAttempt(request, attempt);
+            if (exception != null) return exception;
+        }
+        return null;
+    }
+
+    /**
+     * Executes the request, unless an identical read-only request is already
+     * in flight, in which case this waits for that request and returns its
+     * result (or throws its exception) instead. Requests sent before a
+     * mutating request completed aren't joined, so a caller always sees the
+     * effects of its own earlier mutations.
+     *
+     * @see AmazonHttpClient#isCoalescable(Request, HttpResponseHandler)
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T executeCoalesced(final Request<?> request,
+            final HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+            final HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+            final ExecutionContext executionContext)
+            throws AmazonClientException, AmazonServiceException {
+
+        List<Object> key = Arrays.<Object>asList(new RequestKey(request), Long.valueOf(completedMutationCount.get()));
+        FutureTask<Object> call = new FutureTask<Object>(new Callable<Object>() {
+            public Object call() throws Exception {
+                return executeHelper(request, responseHandler, errorResponseHandler, executionContext);
+            }
+        });
+
+        FutureTask<Object> inFlightCall = inFlightRequests.putIfAbsent(key, call);
+        boolean waiting = (inFlightCall != null);
+        if (inFlightCall == null) {
+            try {
+                call.run();
+            } finally {
+                inFlightRequests.remove(key, call);
+            }
+        } else {
+            log.debug("Coalescing request with identical in-flight request: " + request);
+            call = inFlightCall;
+        }
+
+        try {
+            // A waiting caller gives up at its own deadline, whatever the in-flight request's deadline
+            long deadline = executionContext.getDeadline();
+            if (waiting && deadline > 0) {
+                return (T)call.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            }
+            return (T)call.get();
+        } catch (TimeoutException e) {
+            throw newTimeoutException(executionContext, 0, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException("Interrupted while waiting for an identical in-flight request", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException)cause;
+            if (cause instanceof Error) throw (Error)cause;
+            throw new AmazonClientException(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Returns true if request coalescing is enabled and the specified request
+     * is a read-only request whose result can be shared with other callers.
+     * Only requests without a payload whose responses are fully consumed by
+     * a response handler that allows its result to be shared qualify.
+     */
+    private boolean isCoalescable(Request<?> request, HttpResponseHandler<?> responseHandler) {
+        if (!config.isRequestCoalescingEnabled()) return false;
+        if (responseHandler.needsConnectionLeftOpen() || !responseHandler.isCoalescable()) return false;
+        if (!RequestKey.isComparable(request)) return false;
+        return isReadOnly(request);
+    }
+
+    /**
+     * Returns true if hedging is enabled and the specified request is a
+     * read-only request without a payload, which can safely be sent twice.
+     */
+    private boolean isHedgeable(Request<?> request) {
+        if (!config.isHedgingEnabled()) return false;
+        if (request.getContent() != null) return false;
+        return isReadOnly(request);
+    }
+
+    /**
+     * Returns true if the specified request doesn't change anything: REST
+     * requests if they are GETs or HEADs, and query requests if their action
+     * is a read-only action.
+     */
+    private boolean isReadOnly(Request<?> request) {
+        String action = request.getParameters().get("Action");
+        if (action != null) {
+            return action.startsWith("Get")
+                || action.startsWith("Describe")
+                || action.startsWith("List")
+                || action.equals("DomainMetadata");
+        }
+
+        return request.getHttpMethod() == HttpMethodName.GET
+            || request.getHttpMethod() == HttpMethodName.HEAD;
+    }
+
+    /**
+     * Records in the timing info whether a hedge was sent for the request,
+     * and whether it won.
+     */
+    private void countHedging(ExecutionContext executionContext, RequestHedger.Race race) {
+        TimingInfo timingInfo = executionContext.getTimingInfo();
+        if (timingInfo == null) return;
+        if (race.isHedged()) incrementCounter(timingInfo, HEDGED_REQUESTS_COUNTER);
+        if (race.isHedgeWon()) incrementCounter(timingInfo, HEDGES_WON_COUNTER);
+    }
+
+    private static void incrementCounter(TimingInfo timingInfo, String key) {
+        Number count = timingInfo.getCounter(key);
+        timingInfo.addCounter(key, (count == null) ? 1 : count.intValue() + 1);
+    }
+
+    private static boolean hasFired(RequestAbortTimer.Abort abort) {
+        return abort != null && abort.hasFired();
+    }
+
+    /**
+     * Cancels the specified aborts before a response whose content is still
+     * to be read is handed back, returning false if either had already fired.
+     */
+    private static boolean cancelAborts(RequestAbortTimer.Abort abort, RequestAbortTimer.Abort hedgeAbort) {
+        boolean cancelled = abort == null || abort.cancel();
+        if (hedgeAbort != null && !hedgeAbort.cancel()) cancelled = false;
+        return cancelled;
+    }
+
     /**
      * Applies any additional options set in the request.
      */
@@ -541,8 +839,13 @@ public class AmazonHttpClient {
      *            Current retry count.
      * @param previousException
      *            Exception information for the previous attempt, if any.
+     * @param deadline
+     *            The time by which the request must complete, or 0 for none.
+     *
+     * @return False, without pausing, if the pause would reach the deadline,
+     *         leaving no time for another attempt.
      */
-    private void pauseExponentially(int retries, AmazonServiceException previousException) {
+    private boolean pauseExponentially(int retries, AmazonServiceException previousException, long deadline) {
         long scaleFactor = 300;
         if ( isThrottlingException(previousException) ) {
             scaleFactor = 500 + random.nextInt(100);
@@ -550,6 +853,10 @@ public class AmazonHttpClient {
         long delay = (long) (Math.pow(2, retries) * scaleFactor);
 
         delay = Math.min(delay, MAX_BACKOFF_IN_MILLISECONDS);
+        if (deadline > 0 && System.currentTimeMillis() + delay >= deadline) {
+            log.debug("Retriable error detected, but not enough time is left to retry, attempt number: " + retries);
+            return false;
+        }
         log.debug("Retriable error detected, will retry in " + delay + "ms, attempt number: " + retries);
 
         try {
@@ -557,6 +864,46 @@ public class AmazonHttpClient {
         } catch (InterruptedException e) {
         	throw new AmazonClientException(e.getMessage(), e);
         }
+        return true;
+    }
+
+    /**
+     * Returns the time by which the specified request must complete: the
+     * earlier of its execution deadline and the end of its execution timeout,
+     * which defaults to the client's, or 0 if it has neither.
+     */
+    private long computeDeadline(Request<?> request, long startTime) {
+        long timeout = config.getClientExecutionTimeout();
+        Date requestDeadline = null;
+
+        AmazonWebServiceRequest originalRequest = request.getOriginalRequest();
+        if (originalRequest != null) {
+            if (originalRequest.getExecutionTimeout() != null) timeout = originalRequest.getExecutionTimeout();
+            requestDeadline = originalRequest.getExecutionDeadline();
+        }
+
+        long deadline = (timeout > 0) ? startTime + timeout : 0;
+        if (requestDeadline != null && (deadline == 0 || requestDeadline.getTime() < deadline)) {
+            deadline = requestDeadline.getTime();
+        }
+        return deadline;
+    }
+
+    /**
+     * Creates the exception thrown when a request doesn't complete before its
+     * deadline.
+     */
+    private ClientExecutionTimeoutException newTimeoutException(ExecutionContext executionContext,
+            int attempts, Exception lastFailure) {
+        String message = "Request did not complete before its deadline";
+        if (executionContext.getTimingInfo() != null) {
+            long elapsed = System.currentTimeMillis() - executionContext.getTimingInfo().getStartTime();
+            message += " (" + elapsed + "ms elapsed, " + attempts + " attempts)";
+        }
+        if (lastFailure != null) {
+            message += ": " + (lastFailure.getMessage() != null ? lastFailure.getMessage() : lastFailure.getClass().getName());
+        }
+        return new ClientExecutionTimeoutException(message, lastFailure);
     }
 
     /**
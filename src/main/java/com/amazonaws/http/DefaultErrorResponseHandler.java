@@ -14,13 +14,18 @@
  */
 package com.amazonaws.http;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.transform.AmazonServiceExceptionFactory;
+import com.amazonaws.transform.ErrorResponse;
+import com.amazonaws.transform.StaxErrorResponseParser;
 import com.amazonaws.transform.Unmarshaller;
 import com.amazonaws.util.XpathUtils;
 
@@ -32,16 +37,47 @@ import com.amazonaws.util.XpathUtils;
  * unmarshaller is found that can unmarshall the error response, a generic
  * AmazonServiceException is created and populated with the AWS error response
  * information (error message, AWS error code, AWS request ID, etc).
+ * <p>
+ * When every unmarshaller in the list is also an
+ * {@link AmazonServiceExceptionFactory}, as the standard and legacy error
+ * unmarshallers are, the error response is instead parsed in a single
+ * streaming pass and the exception is created by the unmarshaller registered
+ * for the response's error code, found with a single map lookup. Only lists
+ * containing other unmarshallers pay for building a DOM tree and trying each
+ * unmarshaller in turn.
+ * <p>
+ * Instances are thread safe, so a client can build one handler and share it
+ * across all of its calls.
  */
 public class DefaultErrorResponseHandler
         implements HttpResponseHandler<AmazonServiceException> {
 
+    /** Shared parser for error responses */
+    private static final StaxErrorResponseParser errorResponseParser = new StaxErrorResponseParser();
+
     /**
      * The list of error response unmarshallers to try to apply to error
      * responses.
      */
     private List<Unmarshaller<AmazonServiceException, Node>> unmarshallerList;
 
+    /**
+     * The exception factories from the unmarshaller list, indexed by error
+     * code. Only built once an error response is actually handled; the other
+     * index fields are written before this one is published, so threads that
+     * see it also see them.
+     */
+    private volatile Map<String, AmazonServiceExceptionFactory> exceptionFactories;
+
+    /**
+     * The exception factory for error codes without a factory of their own,
+     * if any.
+     */
+    private AmazonServiceExceptionFactory defaultExceptionFactory;
+
+    /** True if the unmarshallers have to be tried in turn against a DOM tree. */
+    private boolean requiresDocument;
+
     /**
      * Constructs a new DefaultErrorResponseHandler that will handle error
      * responses from Amazon services using the specified list of unmarshallers.
@@ -63,6 +99,56 @@ public class DefaultErrorResponseHandler
      */
     public AmazonServiceException handle(HttpResponse errorResponse)
             throws Exception {
+        // Threads racing to build the index build identical ones, so that's harmless
+        if (exceptionFactories == null) indexUnmarshallers();
+        if (requiresDocument) return unmarshallDocument(errorResponse);
+
+        ErrorResponse parsedResponse = errorResponseParser.parse(errorResponse.getContent());
+
+        AmazonServiceExceptionFactory exceptionFactory = null;
+        if (parsedResponse.getErrorCode() != null) {
+            exceptionFactory = exceptionFactories.get(parsedResponse.getErrorCode());
+        }
+        if (exceptionFactory == null) exceptionFactory = defaultExceptionFactory;
+        if (exceptionFactory == null) {
+            throw new AmazonClientException("Unable to unmarshall error response from service");
+        }
+
+        AmazonServiceException ase = exceptionFactory.createException(parsedResponse);
+        ase.setStatusCode(errorResponse.getStatusCode());
+        return ase;
+    }
+
+    /**
+     * Builds the index of exception factories by error code. Unmarshallers
+     * after the first one that accepts any error code would never have been
+     * reached when trying the unmarshallers in order, so they aren't indexed.
+     */
+    private void indexUnmarshallers() {
+        Map<String, AmazonServiceExceptionFactory> factories = new HashMap<String, AmazonServiceExceptionFactory>();
+        for (Unmarshaller<AmazonServiceException, Node> unmarshaller : unmarshallerList) {
+            if (!(unmarshaller instanceof AmazonServiceExceptionFactory)) {
+                requiresDocument = true;
+                break;
+            }
+
+            AmazonServiceExceptionFactory factory = (AmazonServiceExceptionFactory)unmarshaller;
+            if (factory.getErrorCode() == null) {
+                defaultExceptionFactory = factory;
+                break;
+            }
+            if (!factories.containsKey(factory.getErrorCode())) {
+                factories.put(factory.getErrorCode(), factory);
+            }
+        }
+        exceptionFactories = factories;
+    }
+
+    /**
+     * Unmarshalls the error response by building a DOM tree from it and trying
+     * each unmarshaller in turn.
+     */
+    private AmazonServiceException unmarshallDocument(HttpResponse errorResponse) throws Exception {
         Document document = XpathUtils.documentFrom(errorResponse.getContent());
 
         /*
@@ -94,4 +180,14 @@ public class DefaultErrorResponseHandler
         return false;
     }
 
+    /**
+     * Returns true, since the result is built entirely from the response and
+     * can be shared with other callers.
+     *
+     * @see com.amazonaws.http.HttpResponseHandler#isCoalescable()
+     */
+    public boolean isCoalescable() {
+        return true;
+    }
+
 }
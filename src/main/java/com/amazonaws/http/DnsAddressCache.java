@@ -0,0 +1,216 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the addresses each host name resolves to, re-resolving them
+ * periodically, and hands them out in rotating order so that new connections
+ * to a host are spread across all its addresses.
+ * <p>
+ * Amazon endpoints resolve to several addresses, which change over time.
+ * Without rotation every new connection goes to the first address returned,
+ * and a long-lived client keeps connecting to the same few servers for as
+ * long as the JVM caches the lookup. Host names are resolved through
+ * {@link InetAddress#getAllByName(String)}, so the JVM's own DNS cache
+ * (<code>networkaddress.cache.ttl</code>) still applies underneath, and must
+ * not be configured to cache forever for refreshes to see new addresses.
+ * <p>
+ * Hosts that haven't been resolved or had a connection leased for several
+ * refresh intervals are forgotten, so a client that talks to many endpoints
+ * over its lifetime doesn't keep all of their addresses forever.
+ */
+class DnsAddressCache {
+
+    /** The number of refresh intervals after which an unused host is forgotten. */
+    private static final int EVICTION_INTERVALS = 5;
+
+    /** The time, in milliseconds, after which a host name is resolved again. */
+    private final long refreshInterval;
+
+    private final ConcurrentMap<String, HostAddresses> hosts = new ConcurrentHashMap<String, HostAddresses>();
+
+    /** When unused hosts were last looked for. */
+    private final AtomicLong lastEvictionTime = new AtomicLong(System.currentTimeMillis());
+
+    /**
+     * Constructs a new cache that resolves host names again once the
+     * specified time has passed since they were last resolved.
+     *
+     * @param refreshInterval
+     *            The time, in milliseconds, after which a host name is
+     *            resolved again.
+     */
+    DnsAddressCache(long refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    /**
+     * Returns the addresses of the specified host, starting with the address
+     * after the one the previous call for the host started with.
+     *
+     * @param hostName
+     *            The host name to resolve.
+     *
+     * @return The host's addresses, in the order to try them.
+     *
+     * @throws UnknownHostException
+     *             If the host name can't be resolved and was never resolved
+     *             before.
+     */
+    InetAddress[] resolve(String hostName) throws UnknownHostException {
+        evictUnusedHostsIfDue();
+        HostAddresses host = hosts.get(hostName);
+        if (host == null) {
+            HostAddresses newHost = new HostAddresses(InetAddress.getAllByName(hostName));
+            host = hosts.putIfAbsent(hostName, newHost);
+            if (host == null) host = newHost;
+        } else {
+            host = refreshIfDue(hostName, host);
+        }
+        host.usedTime = System.currentTimeMillis();
+        return host.rotate();
+    }
+
+    /**
+     * Returns true if the specified address is still one of the addresses of
+     * the specified host, or if the host's addresses aren't known. The host
+     * name is resolved again first if it's due, so that connections are
+     * retired even when no new connections are being opened.
+     *
+     * @param hostName
+     *            The host name.
+     * @param address
+     *            An address the host name resolved to.
+     *
+     * @return False if the address is no longer one of the host's addresses.
+     */
+    boolean isCurrent(String hostName, InetAddress address) {
+        evictUnusedHostsIfDue();
+        HostAddresses host = hosts.get(hostName);
+        if (host == null) return true;
+
+        host = refreshIfDue(hostName, host);
+        host.usedTime = System.currentTimeMillis();
+        return host.contains(address);
+    }
+
+    /**
+     * Forgets the hosts that haven't been used for several refresh intervals,
+     * checking at most once per refresh interval.
+     */
+    private void evictUnusedHostsIfDue() {
+        long now = System.currentTimeMillis();
+        long lastEviction = lastEvictionTime.get();
+        if (now - lastEviction < refreshInterval || !lastEvictionTime.compareAndSet(lastEviction, now)) return;
+
+        for (Map.Entry<String, HostAddresses> entry : hosts.entrySet()) {
+            if (now - entry.getValue().usedTime >= EVICTION_INTERVALS * refreshInterval) {
+                // Only remove the entry we looked at, not a refreshed replacement
+                if (hosts.remove(entry.getKey(), entry.getValue())) {
+                    AmazonHttpClient.log.debug("Forgetting addresses of unused host " + entry.getKey());
+                }
+            }
+        }
+    }
+
+    private HostAddresses refreshIfDue(String hostName, HostAddresses host) {
+        if (!host.isDue() || !host.refreshing.compareAndSet(false, true)) return host;
+
+        // Only one caller refreshes; the others carry on with the old addresses
+        try {
+            return refresh(hostName, host);
+        } finally {
+            host.refreshing.set(false);
+        }
+    }
+
+    private HostAddresses refresh(String hostName, HostAddresses host) {
+        InetAddress[] addresses;
+        try {
+            addresses = InetAddress.getAllByName(hostName);
+        } catch (UnknownHostException e) {
+            // Keep the addresses we know rather than failing every request
+            AmazonHttpClient.log.warn("Unable to resolve " + hostName + " again, still using "
+                    + host.addresses.length + " previously resolved addresses: " + e.getMessage());
+            host.resolvedTime = System.currentTimeMillis();
+            return host;
+        }
+
+        HostAddresses newHost = new HostAddresses(addresses, host.next.get());
+        if (AmazonHttpClient.log.isDebugEnabled()) {
+            for (InetAddress address : host.addresses) {
+                if (!newHost.contains(address)) {
+                    AmazonHttpClient.log.debug("Retiring address no longer returned for " + hostName + ": " + address);
+                }
+            }
+        }
+        hosts.put(hostName, newHost);
+        return newHost;
+    }
+
+    /**
+     * The addresses of a host, and the index of the one to try first next.
+     */
+    private final class HostAddresses {
+        private final InetAddress[] addresses;
+        private final AtomicInteger next;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile long resolvedTime = System.currentTimeMillis();
+        private volatile long usedTime = resolvedTime;
+
+        private HostAddresses(InetAddress[] addresses) {
+            this(addresses, 0);
+        }
+
+        private HostAddresses(InetAddress[] addresses, int next) {
+            this.addresses = addresses;
+            this.next = new AtomicInteger(next);
+        }
+
+        private boolean isDue() {
+            return System.currentTimeMillis() - resolvedTime >= refreshInterval;
+        }
+
+        private boolean contains(InetAddress address) {
+            for (InetAddress current : addresses) {
+                if (current.equals(address)) return true;
+            }
+            return false;
+        }
+
+        private InetAddress[] rotate() {
+            int count = addresses.length;
+            if (count <= 1) return addresses;
+
+            // Mask off the sign bit so the index stays positive when the counter wraps
+            int first = (next.getAndIncrement() & Integer.MAX_VALUE) % count;
+            InetAddress[] rotated = new InetAddress[count];
+            for (int i = 0; i < count; i++) {
+                rotated[i] = addresses[(first + i) % count];
+            }
+            return rotated;
+        }
+    }
+
+}
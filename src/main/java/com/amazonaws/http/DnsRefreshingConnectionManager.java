@@ -0,0 +1,126 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpHost;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.tsccm.ThreadSafeClientConnManager;
+
+/**
+ * Connection manager that spreads new connections across all the addresses
+ * an endpoint resolves to, and gradually retires connections to addresses
+ * the endpoint no longer resolves to.
+ * <p>
+ * Host names are resolved through a {@link DnsAddressCache}, which
+ * re-resolves them periodically and rotates the order in which addresses are
+ * tried, so each new connection goes to the next address. When a pooled
+ * connection is handed out for a request, it's closed and replaced if its
+ * address has since dropped out of DNS; busy connections therefore drain away
+ * from retired servers one request at a time, without interrupting requests
+ * in flight, and idle ones are closed with the other idle connections.
+ */
+class DnsRefreshingConnectionManager extends ThreadSafeClientConnManager {
+
+    /**
+     * Constructs a new connection manager that resolves host names again
+     * once the specified time has passed since they were last resolved.
+     *
+     * @param refreshInterval
+     *            The time, in milliseconds, after which a host name is
+     *            resolved again.
+     */
+    DnsRefreshingConnectionManager(long refreshInterval) {
+        super();
+        // The operator is created by the superclass constructor, before any
+        // of our fields could be set, so it's configured here instead
+        ((AddressRotatingConnectionOperator)connOperator).addressCache = new DnsAddressCache(refreshInterval);
+    }
+
+    @Override
+    protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemeRegistry) {
+        return new AddressRotatingConnectionOperator(schemeRegistry);
+    }
+
+    @Override
+    public ClientConnectionRequest requestConnection(final HttpRoute route, Object state) {
+        final ClientConnectionRequest connectionRequest = super.requestConnection(route, state);
+        return new ClientConnectionRequest() {
+            public ManagedClientConnection getConnection(long timeout, TimeUnit timeUnit)
+                    throws InterruptedException, ConnectionPoolTimeoutException {
+                ManagedClientConnection connection = connectionRequest.getConnection(timeout, timeUnit);
+                closeIfRetired(route, connection);
+                return connection;
+            }
+
+            public void abortRequest() {
+                connectionRequest.abortRequest();
+            }
+        };
+    }
+
+    /**
+     * Closes the specified pooled connection if its address is no longer one
+     * of the addresses of the host it was opened to, so that a new connection
+     * is opened in its place, to one of the host's current addresses.
+     */
+    private void closeIfRetired(HttpRoute route, ManagedClientConnection connection) {
+        if (!connection.isOpen()) return;
+
+        // Connections are made to the proxy, if there is one
+        HttpHost firstHop = (route.getProxyHost() != null) ? route.getProxyHost() : route.getTargetHost();
+        InetAddress address = connection.getRemoteAddress();
+        if (address == null || addressCache().isCurrent(firstHop.getHostName(), address)) return;
+
+        AmazonHttpClient.log.debug("Closing connection to retired address: " + address);
+        try {
+            connection.close();
+        } catch (IOException e) {
+            AmazonHttpClient.log.debug("Unable to close connection: " + e.getMessage());
+        }
+    }
+
+    private DnsAddressCache addressCache() {
+        return ((AddressRotatingConnectionOperator)connOperator).addressCache;
+    }
+
+    /**
+     * Connection operator that resolves host names through the address
+     * cache.
+     */
+    private static final class AddressRotatingConnectionOperator extends DefaultClientConnectionOperator {
+        private volatile DnsAddressCache addressCache;
+
+        private AddressRotatingConnectionOperator(SchemeRegistry schemeRegistry) {
+            super(schemeRegistry);
+        }
+
+        @Override
+        protected InetAddress[] resolveHostname(String host) throws UnknownHostException {
+            return addressCache.resolve(host);
+        }
+    }
+
+}
@@ -14,15 +14,18 @@
  */
 package com.amazonaws.http;
 
+import java.net.URI;
 import java.util.List;
 
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.Signer;
 import com.amazonaws.handlers.RequestHandler;
+import com.amazonaws.handlers.RequestInterceptor;
 import com.amazonaws.util.TimingInfo;
 
 public class ExecutionContext {
 	private List<RequestHandler> requestHandlers;
+	private List<RequestInterceptor> requestInterceptors;
 	private String contextUserAgent;
 	private TimingInfo timingInfo;
 
@@ -32,6 +35,12 @@ public class ExecutionContext {
 	/** Optional credentials to enable the runtime layer to handle signing requests (and resigning on retries). */
 	private AWSCredentials credentials;
 
+	/** The location the associated request was last redirected to, if any. */
+	private URI redirectedURI;
+
+	/** The time (in milliseconds since the epoch) by which the associated request must complete, or 0 for none. */
+	private long deadline;
+
 
     public String getContextUserAgent() {
         return contextUserAgent;
@@ -57,6 +66,27 @@ public class ExecutionContext {
 		return requestHandlers;
 	}
 
+	/**
+	 * Returns the request interceptors that should be run before each attempt
+	 * to send a given request, or null if there are none.
+	 *
+	 * @return The request interceptors to run for the current request.
+	 */
+	public List<RequestInterceptor> getRequestInterceptors() {
+		return requestInterceptors;
+	}
+
+	/**
+	 * Sets the request interceptors that should be run before each attempt to
+	 * send a given request.
+	 *
+	 * @param requestInterceptors
+	 *            The request interceptors to run for the current request.
+	 */
+	public void setRequestInterceptors(List<RequestInterceptor> requestInterceptors) {
+		this.requestInterceptors = requestInterceptors;
+	}
+
 	public TimingInfo getTimingInfo() {
 		return timingInfo;
 	}
@@ -108,4 +138,49 @@ public class ExecutionContext {
 		this.credentials = credentials;
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Returns the location the associated request was last redirected to by a
+	 * temporary redirect, or null if the request wasn't redirected.
+	 *
+	 * @return The location the associated request was redirected to.
+	 */
+	public URI getRedirectedURI() {
+		return redirectedURI;
+	}
+
+	/**
+	 * Sets the location the associated request was redirected to by a
+	 * temporary redirect. Set by the runtime layer so that clients can send
+	 * later requests straight to the redirected location.
+	 *
+	 * @param redirectedURI
+	 *            The location the associated request was redirected to.
+	 */
+	public void setRedirectedURI(URI redirectedURI) {
+		this.redirectedURI = redirectedURI;
+	}
+
+	/**
+	 * Returns the time (in milliseconds since the epoch) by which the
+	 * associated request must complete, including all its retries, or 0 if
+	 * it has no deadline.
+	 *
+	 * @return The deadline of the associated request, or 0 for none.
+	 */
+	public long getDeadline() {
+		return deadline;
+	}
+
+	/**
+	 * Sets the time (in milliseconds since the epoch) by which the associated
+	 * request must complete. Set by the runtime layer from the client's and
+	 * the request's execution timeouts and deadline.
+	 *
+	 * @param deadline
+	 *            The deadline of the associated request, or 0 for none.
+	 */
+	public void setDeadline(long deadline) {
+		this.deadline = deadline;
+	}
+
+}
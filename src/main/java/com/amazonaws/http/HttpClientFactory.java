@@ -64,7 +64,12 @@ class HttpClientFactory {
         }
 
         /* Set connection manager */
-        ThreadSafeClientConnManager connectionManager = new ThreadSafeClientConnManager();
+        ThreadSafeClientConnManager connectionManager;
+        if (config.getDnsRefreshInterval() > 0) {
+            connectionManager = new DnsRefreshingConnectionManager(config.getDnsRefreshInterval());
+        } else {
+            connectionManager = new ThreadSafeClientConnManager();
+        }
         connectionManager.setDefaultMaxPerRoute(config.getMaxConnections());
         connectionManager.setMaxTotal(config.getMaxConnections());
 
@@ -31,6 +31,7 @@ import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.utils.URLEncodedUtils;
 import org.apache.http.entity.BufferedHttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.message.BasicNameValuePair;
 import org.apache.http.params.CoreProtocolPNames;
@@ -39,6 +40,7 @@ import com.amazonaws.AmazonClientException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.Request;
 import com.amazonaws.util.HttpUtils;
+import com.amazonaws.util.QueryParameterMap;
 
 /** Responsible for creating Apache HttpClient 4 request objects. */
 class HttpRequestFactory {
@@ -96,7 +98,12 @@ class HttpRequestFactory {
 			 * POST requests, but we can't do that for S3.
 			 */
 			if (request.getContent() == null && encodedParams != null) {
-				postMethod.setEntity(newStringEntity(encodedParams));
+				if (request.getParameters() instanceof QueryParameterMap) {
+					// Send the already encoded parameters without copying them again
+					postMethod.setEntity(new ByteArrayEntity(((QueryParameterMap)request.getParameters()).getEncodedBytes()));
+				} else {
+					postMethod.setEntity(newStringEntity(encodedParams));
+				}
 			} else {
 				postMethod.setEntity(new RepeatableInputStreamRequestEntity(request));
 			}
@@ -105,15 +112,6 @@ class HttpRequestFactory {
 			HttpPut putMethod = new HttpPut(uri);
 			httpRequest = putMethod;
 
-			/*
-			 * Enable 100-continue support for PUT operations, since this is
-			 * where we're potentially uploading large amounts of data and want
-			 * to find out as early as possible if an operation will fail. We
-			 * don't want to do this for all operations since it will cause
-			 * extra latency in the network interaction.
-			 */
-			putMethod.getParams().setParameter(CoreProtocolPNames.USE_EXPECT_CONTINUE, true);
-
 			if (previousEntity != null) {
 				putMethod.setEntity(previousEntity);
 			} else if (request.getContent() != null) {
@@ -123,6 +121,18 @@ class HttpRequestFactory {
 				}
 				putMethod.setEntity(entity);
 			}
+
+			/*
+			 * Enable 100-continue support for PUT operations, since this is
+			 * where we're potentially uploading large amounts of data and want
+			 * to find out as early as possible if an operation will fail. We
+			 * don't want to do this for all operations since it will cause
+			 * extra latency in the network interaction; for the same reason,
+			 * it can be limited to uploads above a configured size.
+			 */
+			if (shouldUseExpectContinue(putMethod.getEntity(), clientConfiguration)) {
+				putMethod.getParams().setParameter(CoreProtocolPNames.USE_EXPECT_CONTINUE, true);
+			}
 		} else if (request.getHttpMethod() == HttpMethodName.GET) {
 			httpRequest = new HttpGet(uri);
 		} else if (request.getHttpMethod() == HttpMethodName.DELETE) {
@@ -138,6 +148,19 @@ class HttpRequestFactory {
 		return httpRequest;
 	}
 	
+	/**
+	 * Returns true if the upload of the specified entity should wait for the
+	 * service to accept the request headers before sending the content.
+	 * Uploads of unknown length always wait, when waiting is enabled.
+	 */
+	private boolean shouldUseExpectContinue(HttpEntity entity, ClientConfiguration clientConfiguration) {
+		if (!clientConfiguration.isUseExpectContinue()) return false;
+		if (entity == null) return false;
+
+		long contentLength = entity.getContentLength();
+		return contentLength < 0 || contentLength >= clientConfiguration.getExpectContinueThreshold();
+	}
+
 	/** Configures the headers in the specified Apache HTTP request. */
 	private void configureHeaders(HttpRequestBase httpRequest, Request<?> request, ExecutionContext context, ClientConfiguration clientConfiguration) {
         /*
@@ -190,6 +213,11 @@ class HttpRequestFactory {
 	 *         string for the parameters present in the specified request.
 	 */
 	private String encodeParameters(Request<?> request) {
+		if (request.getParameters() instanceof QueryParameterMap) {
+			QueryParameterMap parameters = (QueryParameterMap)request.getParameters();
+			return parameters.isEmpty() ? null : parameters.getEncodedQueryString();
+		}
+
 		List<NameValuePair> nameValuePairs = null;
 		if (request.getParameters().size() > 0) {
 			nameValuePairs = new ArrayList<NameValuePair>(request.getParameters().size());
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.http.client.methods.HttpRequestBase;
+
+/**
+ * Aborts HTTP requests that are still in flight when their deadline passes.
+ * <p>
+ * All clients share a single daemon timer thread. Aborting a request fails
+ * whatever it's blocked on, whether that's waiting for a pooled connection,
+ * connecting, sending the request or reading the response, with an
+ * <code>IOException</code> in the calling thread.
+ */
+class RequestAbortTimer {
+
+    /** The number of cancelled aborts after which the timer's queue is purged. */
+    private static final int PURGE_INTERVAL = 1000;
+
+    private static final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "aws-sdk-request-abort-timer");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private static final AtomicInteger cancelledCount = new AtomicInteger();
+
+    /**
+     * Schedules the specified request to be aborted at the specified
+     * deadline.
+     *
+     * @param httpRequest
+     *            The request to abort.
+     * @param deadline
+     *            The time (in milliseconds since the epoch) at which to abort
+     *            the request.
+     *
+     * @return The scheduled abort, which must be cancelled once the request
+     *         completes.
+     */
+    static Abort schedule(HttpRequestBase httpRequest, long deadline) {
+        Abort abort = new Abort(httpRequest);
+        long delay = Math.max(0, deadline - System.currentTimeMillis());
+        abort.future = timer.schedule(abort, delay, TimeUnit.MILLISECONDS);
+        return abort;
+    }
+
+    /**
+     * A request's scheduled abort.
+     */
+    static final class Abort implements Runnable {
+        private final HttpRequestBase httpRequest;
+        private volatile ScheduledFuture<?> future;
+        private volatile boolean fired;
+
+        private Abort(HttpRequestBase httpRequest) {
+            this.httpRequest = httpRequest;
+        }
+
+        public void run() {
+            fired = true;
+            AmazonHttpClient.log.debug("Aborting request in flight at its deadline: " + httpRequest.getURI());
+            httpRequest.abort();
+        }
+
+        /**
+         * Returns true if the request was aborted because its deadline
+         * passed.
+         */
+        boolean hasFired() {
+            return fired;
+        }
+
+        /**
+         * Cancels the abort, if it hasn't already fired.
+         *
+         * @return True if the abort was cancelled before it started, false if
+         *         it has already fired or is firing, in which case the request
+         *         is (or is about to be) aborted.
+         */
+        boolean cancel() {
+            if (fired) return false;
+            if (!future.cancel(false)) return false;
+
+            // Cancelled tasks stay queued until they're due, so clear them out
+            // now and then in case deadlines are long
+            if (cancelledCount.incrementAndGet() % PURGE_INTERVAL == 0) timer.purge();
+            return true;
+        }
+    }
+
+    private RequestAbortTimer() {}
+
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpRequestBase;
+
+import com.amazonaws.ClientConfiguration;
+
+/**
+ * Sends a duplicate of a slow read-only request on another pooled connection,
+ * and uses whichever of the two responses arrives first.
+ * <p>
+ * The duplicate, or hedge, is sent if the original request hasn't received a
+ * response after the configured hedging delay or, when none is configured,
+ * after the 95th percentile of the time recent requests for the same
+ * operation took to receive a response. The request that loses the race is
+ * aborted, which closes its connection. Hedges are limited by a budget: each
+ * eligible request earns a fraction of a hedge, set by the configured budget
+ * percentage, and a hedge is only sent when a whole one has been earned, so
+ * a slow service never sees more than that percentage of extra requests.
+ * <p>
+ * All clients share a single daemon timer thread, and hedges are sent from a
+ * shared, bounded pool of daemon threads. When every thread in the pool is
+ * busy sending a hedge, further hedges are skipped and their budget refunded.
+ */
+class RequestHedger {
+
+    /** The percentile of recent latencies used as the hedging delay. */
+    private static final int DELAY_PERCENTILE = 95;
+
+    /** The number of recent latencies kept for each operation. */
+    private static final int LATENCY_WINDOW = 256;
+
+    /** The number of latencies needed before an operation is hedged. */
+    private static final int MIN_LATENCY_SAMPLES = 20;
+
+    /** The number of new latencies after which the percentile is recomputed. */
+    private static final int RECOMPUTE_INTERVAL = 32;
+
+    /** The budget is counted in thousandths of a hedge. */
+    private static final long HEDGE_COST = 1000;
+
+    /** The most hedges that can be saved up while latencies are low. */
+    private static final long MAX_BUDGET = 10 * HEDGE_COST;
+
+    /** The most hedges in flight at once, across all clients. */
+    private static final int MAX_HEDGE_THREADS = 32;
+
+    /** The time, in seconds, after which an idle hedge thread exits. */
+    private static final long HEDGE_THREAD_KEEP_ALIVE = 60;
+
+    private static final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "aws-sdk-request-hedge-timer");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private static final ThreadPoolExecutor hedgeExecutor = new ThreadPoolExecutor(0, MAX_HEDGE_THREADS,
+            HEDGE_THREAD_KEEP_ALIVE, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), new ThreadFactory() {
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "aws-sdk-request-hedge-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private final HttpClient httpClient;
+    private final ClientConfiguration config;
+
+    /** Recent latencies, keyed by service and operation name */
+    private final ConcurrentMap<String, LatencyWindow> latencies = new ConcurrentHashMap<String, LatencyWindow>();
+
+    /** The hedges earned but not yet spent, in thousandths of a hedge */
+    private final AtomicLong budget = new AtomicLong();
+
+    private final AtomicLong hedgedCount = new AtomicLong();
+    private final AtomicLong hedgeWonCount = new AtomicLong();
+    private final AtomicLong budgetExhaustedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    RequestHedger(HttpClient httpClient, ClientConfiguration config) {
+        this.httpClient = httpClient;
+        this.config = config;
+    }
+
+    /**
+     * Starts a race between the specified request and its duplicate; the
+     * duplicate is only sent if the request is slow.
+     *
+     * @param operation
+     *            The service and operation name of the request, under which
+     *            its latency is recorded.
+     * @param httpRequest
+     *            The request to send.
+     * @param hedgeRequest
+     *            An identical request, to send if the first one is slow.
+     *
+     * @return The race, whose {@link Race#execute()} method must be called to
+     *         send the request.
+     */
+    Race newRace(String operation, HttpRequestBase httpRequest, HttpRequestBase hedgeRequest) {
+        earnBudget();
+
+        long delay = config.getHedgingDelay();
+        if (delay <= 0) delay = getLatencyWindow(operation).getPercentile();
+        return new Race(operation, httpRequest, hedgeRequest, delay);
+    }
+
+    /** Returns the number of hedges sent. */
+    long getHedgedCount() {
+        return hedgedCount.get();
+    }
+
+    /** Returns the number of hedges whose response arrived first. */
+    long getHedgeWonCount() {
+        return hedgeWonCount.get();
+    }
+
+    /** Returns the number of hedges not sent because the budget was spent. */
+    long getBudgetExhaustedCount() {
+        return budgetExhaustedCount.get();
+    }
+
+    /** Returns the number of hedges not sent because the hedge pool was full. */
+    long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    private void earnBudget() {
+        long earned = config.getHedgingBudgetPercent() * HEDGE_COST / 100;
+        while (true) {
+            long current = budget.get();
+            if (current >= MAX_BUDGET) return;
+            if (budget.compareAndSet(current, Math.min(MAX_BUDGET, current + earned))) return;
+        }
+    }
+
+    private boolean spendBudget() {
+        while (true) {
+            long current = budget.get();
+            if (current < HEDGE_COST) return false;
+            if (budget.compareAndSet(current, current - HEDGE_COST)) return true;
+        }
+    }
+
+    private void refundBudget() {
+        while (true) {
+            long current = budget.get();
+            if (budget.compareAndSet(current, Math.min(MAX_BUDGET, current + HEDGE_COST))) return;
+        }
+    }
+
+    private LatencyWindow getLatencyWindow(String operation) {
+        LatencyWindow window = latencies.get(operation);
+        if (window == null) {
+            LatencyWindow newWindow = new LatencyWindow();
+            window = latencies.putIfAbsent(operation, newWindow);
+            if (window == null) window = newWindow;
+        }
+        return window;
+    }
+
+    /**
+     * A request racing against its hedge.
+     */
+    final class Race implements Runnable {
+        private static final int PENDING = 0;
+        private static final int REQUEST_WON = 1;
+        private static final int HEDGE_WON = 2;
+        private static final int CANCELLED = 3;
+
+        private final String operation;
+        private final HttpRequestBase httpRequest;
+        private final HttpRequestBase hedgeRequest;
+        private final long delay;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        private volatile ScheduledFuture<?> scheduledHedge;
+        private volatile HttpResponse hedgeResponse;
+        private volatile boolean hedged;
+
+        private Race(String operation, HttpRequestBase httpRequest, HttpRequestBase hedgeRequest, long delay) {
+            this.operation = operation;
+            this.httpRequest = httpRequest;
+            this.hedgeRequest = hedgeRequest;
+            this.delay = delay;
+        }
+
+        /**
+         * Sends the request in the calling thread, sending the hedge from
+         * another thread if the request is slow, and returns the first
+         * response to arrive. The request that lost is aborted.
+         *
+         * @return The first response to arrive, which is the response to
+         *         {@link #getWinningRequest()}.
+         *
+         * @throws IOException
+         *             If the request failed before the hedge, if any, got a
+         *             response. The hedge is aborted.
+         */
+        HttpResponse execute() throws IOException {
+            if (delay > 0) scheduledHedge = timer.schedule(this, delay, TimeUnit.MILLISECONDS);
+
+            long startTime = System.currentTimeMillis();
+            HttpResponse response;
+            try {
+                response = httpClient.execute(httpRequest);
+            } catch (IOException e) {
+                if (state.compareAndSet(PENDING, CANCELLED)) {
+                    stopHedge();
+                    throw e;
+                }
+                return hedgeResponseAfterAbort();
+            } catch (RuntimeException e) {
+                if (state.compareAndSet(PENDING, CANCELLED)) stopHedge();
+                throw e;
+            }
+
+            if (state.compareAndSet(PENDING, REQUEST_WON)) {
+                stopHedge();
+                getLatencyWindow(operation).add(System.currentTimeMillis() - startTime);
+                return response;
+            }
+
+            // The hedge won while this response was arriving
+            httpRequest.abort();
+            return hedgeResponseAfterAbort();
+        }
+
+        /**
+         * Returns the request whose response was returned by
+         * {@link #execute()}.
+         */
+        HttpRequestBase getWinningRequest() {
+            return (state.get() == HEDGE_WON) ? hedgeRequest : httpRequest;
+        }
+
+        /**
+         * Returns true if a hedge was sent for the request.
+         */
+        boolean isHedged() {
+            return hedged;
+        }
+
+        /**
+         * Returns true if the hedge's response arrived first.
+         */
+        boolean isHedgeWon() {
+            return state.get() == HEDGE_WON;
+        }
+
+        /**
+         * Sends the hedge, once the delay has passed, if the request still
+         * has no response.
+         */
+        public void run() {
+            if (state.get() != PENDING) return;
+            if (!spendBudget()) {
+                budgetExhaustedCount.incrementAndGet();
+                return;
+            }
+
+            try {
+                hedgeExecutor.execute(new Runnable() {
+                    public void run() {
+                        sendHedge();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // Every hedge thread is busy, so the service is already getting plenty of hedges
+                rejectedCount.incrementAndGet();
+                refundBudget();
+                AmazonHttpClient.log.debug("Hedge pool full, not hedging request: " + hedgeRequest.getURI());
+            }
+        }
+
+        private void sendHedge() {
+            if (state.get() != PENDING) return;
+            hedged = true;
+            hedgedCount.incrementAndGet();
+            AmazonHttpClient.log.debug("Hedging request with no response after " + delay + "ms: " + hedgeRequest.getURI());
+
+            long startTime = System.currentTimeMillis();
+            HttpResponse response;
+            try {
+                response = httpClient.execute(hedgeRequest);
+            } catch (IOException e) {
+                // Lost the race, or failed; either way the request carries on
+                Thread.interrupted();
+                return;
+            } catch (RuntimeException e) {
+                AmazonHttpClient.log.debug("Unable to send hedge: " + e.getMessage());
+                return;
+            }
+
+            // A server error isn't worth giving up on the request for
+            if (response.getStatusLine().getStatusCode() < HttpStatus.SC_INTERNAL_SERVER_ERROR) {
+                hedgeResponse = response;
+                if (state.compareAndSet(PENDING, HEDGE_WON)) {
+                    hedgeWonCount.incrementAndGet();
+                    getLatencyWindow(operation).add(System.currentTimeMillis() - startTime);
+                    httpRequest.abort();
+                    return;
+                }
+            }
+            hedgeRequest.abort();
+        }
+
+        private void stopHedge() {
+            ScheduledFuture<?> future = scheduledHedge;
+            if (future != null) future.cancel(false);
+            // Also stops a hedge that's about to be sent
+            hedgeRequest.abort();
+        }
+
+        private HttpResponse hedgeResponseAfterAbort() {
+            // Aborting a request that's waiting for a pooled connection
+            // interrupts the waiting thread; don't leak that to the caller
+            Thread.interrupted();
+            return hedgeResponse;
+        }
+    }
+
+    /**
+     * The most recent latencies of an operation, and their percentile.
+     */
+    private static final class LatencyWindow {
+        private final AtomicLongArray samples = new AtomicLongArray(LATENCY_WINDOW);
+        private final AtomicLong sampleCount = new AtomicLong();
+        private volatile long percentile;
+
+        void add(long latency) {
+            long count = sampleCount.incrementAndGet();
+            samples.set((int)((count - 1) % LATENCY_WINDOW), latency);
+            if (count == MIN_LATENCY_SAMPLES || count > MIN_LATENCY_SAMPLES && count % RECOMPUTE_INTERVAL == 0) {
+                recompute(count);
+            }
+        }
+
+        /**
+         * Returns the percentile of recent latencies used as the hedging
+         * delay, or 0 if there aren't enough latencies yet.
+         */
+        long getPercentile() {
+            return percentile;
+        }
+
+        private void recompute(long count) {
+            int size = (int)Math.min(count, LATENCY_WINDOW);
+            long[] sorted = new long[size];
+            for (int i = 0; i < size; i++) {
+                sorted[i] = samples.get(i);
+            }
+            Arrays.sort(sorted);
+            int index = (int)Math.ceil(size * DELAY_PERCENTILE / 100.0) - 1;
+            // Never hedge instantly, however fast the operation usually is
+            percentile = Math.max(1, sorted[Math.max(0, index)]);
+        }
+    }
+
+}
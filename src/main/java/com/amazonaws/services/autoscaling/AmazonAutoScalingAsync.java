@@ -18,6 +18,7 @@ import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.services.autoscaling.model.*;
 
 /**
@@ -93,6 +94,37 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
     public Future<Void> putScheduledUpdateGroupActionAsync(PutScheduledUpdateGroupActionRequest putScheduledUpdateGroupActionRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Creates a scheduled scaling action for a Auto Scaling group. If you
+     * leave a parameter unspecified, the corresponding value remains
+     * unchanged in the affected Auto Scaling group.
+     * </p>
+     *
+     * @param putScheduledUpdateGroupActionRequest Container for the
+     *           necessary parameters to execute the PutScheduledUpdateGroupAction
+     *           operation on AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         PutScheduledUpdateGroupAction service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> putScheduledUpdateGroupActionAsync(PutScheduledUpdateGroupActionRequest putScheduledUpdateGroupActionRequest,
+            AsyncHandler<PutScheduledUpdateGroupActionRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Adjusts the desired size of the AutoScalingGroup by initiating
@@ -146,6 +178,64 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
     public Future<Void> setDesiredCapacityAsync(SetDesiredCapacityRequest setDesiredCapacityRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Adjusts the desired size of the AutoScalingGroup by initiating
+     * scaling activities. When reducing the size of the group, it is not
+     * possible to define which EC2 instances will be terminated. This
+     * applies to any auto-scaling decisions that might result in terminating
+     * instances.
+     * </p>
+     * <p>
+     * There are two common use cases for <code>SetDesiredCapacity</code> :
+     * one for users of the Auto Scaling triggering system, and
+     * another for developers who write their own triggering systems. Both
+     * use cases relate to the concept of cooldown.
+     * </p>
+     * <p>
+     * In the first case, if you use the Auto Scaling triggering system,
+     * <code>SetDesiredCapacity</code> changes the size of your Auto Scaling
+     * group without regard to the cooldown period. This could be useful, for
+     * example, if Auto Scaling did something unexpected for some reason. If
+     * your cooldown period is 10 minutes, Auto Scaling would normally reject
+     * requests to change the size of the group for that entire 10 minute
+     * period. The <code>SetDesiredCapacity</code> command allows you to
+     * circumvent this restriction and change the size of the group before
+     * the end of the cooldown period.
+     * </p>
+     * <p>
+     * In the second case, if you write your own triggering system, you can
+     * use <code>SetDesiredCapacity</code> to control the size of your Auto
+     * Scaling group. If you want the same cooldown functionality that Auto
+     * Scaling offers, you can configure <code>SetDesiredCapacity</code> to
+     * honor cooldown by setting the <code>HonorCooldown</code> parameter to
+     * <code>true</code> .
+     * 
+     * </p>
+     *
+     * @param setDesiredCapacityRequest Container for the necessary
+     *           parameters to execute the SetDesiredCapacity operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         SetDesiredCapacity service method, as returned by AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setDesiredCapacityAsync(SetDesiredCapacityRequest setDesiredCapacityRequest,
+            AsyncHandler<SetDesiredCapacityRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Deletes a policy created by PutScalingPolicy
@@ -168,6 +258,33 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
     public Future<Void> deletePolicyAsync(DeletePolicyRequest deletePolicyRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Deletes a policy created by PutScalingPolicy
+     * </p>
+     *
+     * @param deletePolicyRequest Container for the necessary parameters to
+     *           execute the DeletePolicy operation on AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeletePolicy service method, as returned by AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deletePolicyAsync(DeletePolicyRequest deletePolicyRequest,
+            AsyncHandler<DeletePolicyRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Deletes a scheduled action previously created using the
@@ -193,6 +310,36 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
     public Future<Void> deleteScheduledActionAsync(DeleteScheduledActionRequest deleteScheduledActionRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Deletes a scheduled action previously created using the
+     * PutScheduledUpdateGroupAction.
+     * </p>
+     *
+     * @param deleteScheduledActionRequest Container for the necessary
+     *           parameters to execute the DeleteScheduledAction operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteScheduledAction service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteScheduledActionAsync(DeleteScheduledActionRequest deleteScheduledActionRequest,
+            AsyncHandler<DeleteScheduledActionRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Returns a full description of the launch configurations given the
@@ -222,6 +369,40 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
     public Future<DescribeLaunchConfigurationsResult> describeLaunchConfigurationsAsync(DescribeLaunchConfigurationsRequest describeLaunchConfigurationsRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Returns a full description of the launch configurations given the
+     * specified names.
+     * </p>
+     * <p>
+     * If no names are specified, then the full details of all launch
+     * configurations are returned.
+     * </p>
+     *
+     * @param describeLaunchConfigurationsRequest Container for the necessary
+     *           parameters to execute the DescribeLaunchConfigurations operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeLaunchConfigurations service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeLaunchConfigurationsResult> describeLaunchConfigurationsAsync(DescribeLaunchConfigurationsRequest describeLaunchConfigurationsRequest,
+            AsyncHandler<DescribeLaunchConfigurationsRequest, DescribeLaunchConfigurationsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Returns scaling process types for use in the ResumeProcesses and
@@ -247,6 +428,36 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
     public Future<DescribeScalingProcessTypesResult> describeScalingProcessTypesAsync(DescribeScalingProcessTypesRequest describeScalingProcessTypesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Returns scaling process types for use in the ResumeProcesses and
+     * SuspendProcesses actions.
+     * </p>
+     *
+     * @param describeScalingProcessTypesRequest Container for the necessary
+     *           parameters to execute the DescribeScalingProcessTypes operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeScalingProcessTypes service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeScalingProcessTypesResult> describeScalingProcessTypesAsync(DescribeScalingProcessTypesRequest describeScalingProcessTypesRequest,
+            AsyncHandler<DescribeScalingProcessTypesRequest, DescribeScalingProcessTypesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Returns a full description of each Auto Scaling group in the given
@@ -279,6 +490,43 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
     public Future<DescribeAutoScalingGroupsResult> describeAutoScalingGroupsAsync(DescribeAutoScalingGroupsRequest describeAutoScalingGroupsRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Returns a full description of each Auto Scaling group in the given
+     * list. This includes all Amazon EC2 instances that are members of the
+     * group. If a list of names is not provided, the service returns the
+     * full details of all Auto Scaling groups.
+     * </p>
+     * <p>
+     * This action supports pagination by returning a token if there are
+     * more pages to retrieve. To get the next page, call this action again
+     * with the returned token as the NextToken parameter.
+     * </p>
+     *
+     * @param describeAutoScalingGroupsRequest Container for the necessary
+     *           parameters to execute the DescribeAutoScalingGroups operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeAutoScalingGroups service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeAutoScalingGroupsResult> describeAutoScalingGroupsAsync(DescribeAutoScalingGroupsRequest describeAutoScalingGroupsRequest,
+            AsyncHandler<DescribeAutoScalingGroupsRequest, DescribeAutoScalingGroupsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Enables monitoring of group metrics for the Auto Scaling group
@@ -311,6 +559,43 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
     public Future<Void> enableMetricsCollectionAsync(EnableMetricsCollectionRequest enableMetricsCollectionRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Enables monitoring of group metrics for the Auto Scaling group
+     * specified in AutoScalingGroupName. You can specify the list of enabled
+     * metrics with the Metrics parameter.
+     * </p>
+     * <p>
+     * Auto scaling metrics collection can be turned on only if the
+     * <code>InstanceMonitoring.Enabled</code> flag, in the Auto Scaling
+     * group's launch configuration, is set to <code>true</code> .
+     * 
+     * </p>
+     *
+     * @param enableMetricsCollectionRequest Container for the necessary
+     *           parameters to execute the EnableMetricsCollection operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         EnableMetricsCollection service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> enableMetricsCollectionAsync(EnableMetricsCollectionRequest enableMetricsCollectionRequest,
+            AsyncHandler<EnableMetricsCollectionRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Terminates the specified instance. Optionally, the desired group size
@@ -340,6 +625,40 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
     public Future<TerminateInstanceInAutoScalingGroupResult> terminateInstanceInAutoScalingGroupAsync(TerminateInstanceInAutoScalingGroupRequest terminateInstanceInAutoScalingGroupRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Terminates the specified instance. Optionally, the desired group size
+     * can be adjusted.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> This call simply registers a termination request. The
+     * termination of the instance cannot happen immediately.
+     * </p>
+     *
+     * @param terminateInstanceInAutoScalingGroupRequest Container for the
+     *           necessary parameters to execute the
+     *           TerminateInstanceInAutoScalingGroup operation on AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         TerminateInstanceInAutoScalingGroup service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<TerminateInstanceInAutoScalingGroupResult> terminateInstanceInAutoScalingGroupAsync(TerminateInstanceInAutoScalingGroupRequest terminateInstanceInAutoScalingGroupRequest,
+            AsyncHandler<TerminateInstanceInAutoScalingGroupRequest, TerminateInstanceInAutoScalingGroupResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Returns the scaling activities for the specified Auto Scaling group.
@@ -375,6 +694,46 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
     public Future<DescribeScalingActivitiesResult> describeScalingActivitiesAsync(DescribeScalingActivitiesRequest describeScalingActivitiesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Returns the scaling activities for the specified Auto Scaling group.
+     * </p>
+     * <p>
+     * If the specified <i>ActivityIds</i> list is empty, all the activities
+     * from the past six weeks are returned. Activities are sorted by
+     * completion time. Activities still in progress appear first on the
+     * list.
+     * </p>
+     * <p>
+     * This action supports pagination. If the response includes a token,
+     * there are more records available. To get the additional records,
+     * repeat the request with the response token as the NextToken parameter.
+     * </p>
+     *
+     * @param describeScalingActivitiesRequest Container for the necessary
+     *           parameters to execute the DescribeScalingActivities operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeScalingActivities service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeScalingActivitiesResult> describeScalingActivitiesAsync(DescribeScalingActivitiesRequest describeScalingActivitiesRequest,
+            AsyncHandler<DescribeScalingActivitiesRequest, DescribeScalingActivitiesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Runs the policy you create for your Auto Scaling group in
@@ -398,6 +757,34 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
     public Future<Void> executePolicyAsync(ExecutePolicyRequest executePolicyRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Runs the policy you create for your Auto Scaling group in
+     * PutScalingPolicy.
+     * </p>
+     *
+     * @param executePolicyRequest Container for the necessary parameters to
+     *           execute the ExecutePolicy operation on AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ExecutePolicy service method, as returned by AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> executePolicyAsync(ExecutePolicyRequest executePolicyRequest,
+            AsyncHandler<ExecutePolicyRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Returns a list of metrics and a corresponding list of granularities
@@ -423,6 +810,36 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
     public Future<DescribeMetricCollectionTypesResult> describeMetricCollectionTypesAsync(DescribeMetricCollectionTypesRequest describeMetricCollectionTypesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Returns a list of metrics and a corresponding list of granularities
+     * for each metric.
+     * </p>
+     *
+     * @param describeMetricCollectionTypesRequest Container for the
+     *           necessary parameters to execute the DescribeMetricCollectionTypes
+     *           operation on AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeMetricCollectionTypes service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeMetricCollectionTypesResult> describeMetricCollectionTypesAsync(DescribeMetricCollectionTypesRequest describeMetricCollectionTypesRequest,
+            AsyncHandler<DescribeMetricCollectionTypesRequest, DescribeMetricCollectionTypesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Returns descriptions of what each policy does. This action supports
@@ -448,6 +865,36 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
     public Future<DescribePoliciesResult> describePoliciesAsync(DescribePoliciesRequest describePoliciesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Returns descriptions of what each policy does. This action supports
+     * pagination. If the response includes a token, there are more records
+     * available. To get the additional records, repeat the request with the
+     * response token as the NextToken parameter.
+     * </p>
+     *
+     * @param describePoliciesRequest Container for the necessary parameters
+     *           to execute the DescribePolicies operation on AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribePolicies service method, as returned by AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribePoliciesResult> describePoliciesAsync(DescribePoliciesRequest describePoliciesRequest,
+            AsyncHandler<DescribePoliciesRequest, DescribePoliciesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Returns policy adjustment types for use in the PutScalingPolicy
@@ -473,6 +920,66 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
     public Future<DescribeAdjustmentTypesResult> describeAdjustmentTypesAsync(DescribeAdjustmentTypesRequest describeAdjustmentTypesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Returns policy adjustment types for use in the PutScalingPolicy
+     * action.
+     * </p>
+     *
+     * @param describeAdjustmentTypesRequest Container for the necessary
+     *           parameters to execute the DescribeAdjustmentTypes operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeAdjustmentTypes service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeAdjustmentTypesResult> describeAdjustmentTypesAsync(DescribeAdjustmentTypesRequest describeAdjustmentTypesRequest,
+            AsyncHandler<DescribeAdjustmentTypesRequest, DescribeAdjustmentTypesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Deletes the specified auto scaling group if the group has no
+     * instances and no scaling activities in progress.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> To remove all instances before calling
+     * DeleteAutoScalingGroup, you can call UpdateAutoScalingGroup to set the
+     * minimum and maximum size of the AutoScalingGroup to zero.
+     * </p>
+     *
+     * @param deleteAutoScalingGroupRequest Container for the necessary
+     *           parameters to execute the DeleteAutoScalingGroup operation on
+     *           AmazonAutoScaling.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteAutoScalingGroup service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteAutoScalingGroupAsync(DeleteAutoScalingGroupRequest deleteAutoScalingGroupRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Deletes the specified auto scaling group if the group has no
@@ -487,6 +994,10 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
      * @param deleteAutoScalingGroupRequest Container for the necessary
      *           parameters to execute the DeleteAutoScalingGroup operation on
      *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
      *         DeleteAutoScalingGroup service method, as returned by
@@ -500,27 +1011,130 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
      *             If an error response is returned by AmazonAutoScaling indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteAutoScalingGroupAsync(DeleteAutoScalingGroupRequest deleteAutoScalingGroupRequest) 
+    public Future<Void> deleteAutoScalingGroupAsync(DeleteAutoScalingGroupRequest deleteAutoScalingGroupRequest,
+            AsyncHandler<DeleteAutoScalingGroupRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Creates a new Auto Scaling group with the specified name. Once the
+     * creation request is completed, the AutoScalingGroup is ready to be
+     * used in other calls.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> The Auto Scaling group name must be unique within the
+     * scope of your AWS account, and under the quota of Auto Scaling groups
+     * allowed for your account.
+     * </p>
+     *
+     * @param createAutoScalingGroupRequest Container for the necessary
+     *           parameters to execute the CreateAutoScalingGroup operation on
+     *           AmazonAutoScaling.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateAutoScalingGroup service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> createAutoScalingGroupAsync(CreateAutoScalingGroupRequest createAutoScalingGroupRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Creates a new Auto Scaling group with the specified name. Once the
+     * creation request is completed, the AutoScalingGroup is ready to be
+     * used in other calls.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> The Auto Scaling group name must be unique within the
+     * scope of your AWS account, and under the quota of Auto Scaling groups
+     * allowed for your account.
+     * </p>
+     *
+     * @param createAutoScalingGroupRequest Container for the necessary
+     *           parameters to execute the CreateAutoScalingGroup operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateAutoScalingGroup service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> createAutoScalingGroupAsync(CreateAutoScalingGroupRequest createAutoScalingGroupRequest,
+            AsyncHandler<CreateAutoScalingGroupRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Returns a description of each Auto Scaling instance in the
+     * InstanceIds list. If a list is not provided, the service returns the
+     * full details of all instances up to a maximum of fifty.
+     * </p>
+     * <p>
+     * This action supports pagination by returning a token if there are
+     * more pages to retrieve. To get the next page, call this action again
+     * with the returned token as the NextToken parameter.
+     * </p>
+     *
+     * @param describeAutoScalingInstancesRequest Container for the necessary
+     *           parameters to execute the DescribeAutoScalingInstances operation on
+     *           AmazonAutoScaling.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeAutoScalingInstances service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeAutoScalingInstancesResult> describeAutoScalingInstancesAsync(DescribeAutoScalingInstancesRequest describeAutoScalingInstancesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Creates a new Auto Scaling group with the specified name. Once the
-     * creation request is completed, the AutoScalingGroup is ready to be
-     * used in other calls.
+     * Returns a description of each Auto Scaling instance in the
+     * InstanceIds list. If a list is not provided, the service returns the
+     * full details of all instances up to a maximum of fifty.
      * </p>
      * <p>
-     * <b>NOTE:</b> The Auto Scaling group name must be unique within the
-     * scope of your AWS account, and under the quota of Auto Scaling groups
-     * allowed for your account.
+     * This action supports pagination by returning a token if there are
+     * more pages to retrieve. To get the next page, call this action again
+     * with the returned token as the NextToken parameter.
      * </p>
      *
-     * @param createAutoScalingGroupRequest Container for the necessary
-     *           parameters to execute the CreateAutoScalingGroup operation on
+     * @param describeAutoScalingInstancesRequest Container for the necessary
+     *           parameters to execute the DescribeAutoScalingInstances operation on
      *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         CreateAutoScalingGroup service method, as returned by
+     *         DescribeAutoScalingInstances service method, as returned by
      *         AmazonAutoScaling.
      *
      * @throws AmazonClientException
@@ -531,27 +1145,26 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
      *             If an error response is returned by AmazonAutoScaling indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createAutoScalingGroupAsync(CreateAutoScalingGroupRequest createAutoScalingGroupRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<DescribeAutoScalingInstancesResult> describeAutoScalingInstancesAsync(DescribeAutoScalingInstancesRequest describeAutoScalingInstancesRequest,
+            AsyncHandler<DescribeAutoScalingInstancesRequest, DescribeAutoScalingInstancesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Returns a description of each Auto Scaling instance in the
-     * InstanceIds list. If a list is not provided, the service returns the
-     * full details of all instances up to a maximum of fifty.
+     * Deletes the specified LaunchConfiguration.
      * </p>
      * <p>
-     * This action supports pagination by returning a token if there are
-     * more pages to retrieve. To get the next page, call this action again
-     * with the returned token as the NextToken parameter.
+     * The specified launch configuration must not be attached to an Auto
+     * Scaling group. Once this call completes, the launch configuration is
+     * no longer available for use.
      * </p>
      *
-     * @param describeAutoScalingInstancesRequest Container for the necessary
-     *           parameters to execute the DescribeAutoScalingInstances operation on
+     * @param deleteLaunchConfigurationRequest Container for the necessary
+     *           parameters to execute the DeleteLaunchConfiguration operation on
      *           AmazonAutoScaling.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeAutoScalingInstances service method, as returned by
+     *         DeleteLaunchConfiguration service method, as returned by
      *         AmazonAutoScaling.
      *
      * @throws AmazonClientException
@@ -562,7 +1175,7 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
      *             If an error response is returned by AmazonAutoScaling indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeAutoScalingInstancesResult> describeAutoScalingInstancesAsync(DescribeAutoScalingInstancesRequest describeAutoScalingInstancesRequest) 
+    public Future<Void> deleteLaunchConfigurationAsync(DeleteLaunchConfigurationRequest deleteLaunchConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
@@ -578,6 +1191,10 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
      * @param deleteLaunchConfigurationRequest Container for the necessary
      *           parameters to execute the DeleteLaunchConfiguration operation on
      *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
      *         DeleteLaunchConfiguration service method, as returned by
@@ -591,8 +1208,9 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
      *             If an error response is returned by AmazonAutoScaling indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteLaunchConfigurationAsync(DeleteLaunchConfigurationRequest deleteLaunchConfigurationRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<Void> deleteLaunchConfigurationAsync(DeleteLaunchConfigurationRequest deleteLaunchConfigurationRequest,
+            AsyncHandler<DeleteLaunchConfigurationRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
@@ -619,6 +1237,36 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
     public Future<PutScalingPolicyResult> putScalingPolicyAsync(PutScalingPolicyRequest putScalingPolicyRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Creates or updates a policy for an Auto Scaling group. To update an
+     * existing policy, use the existing policy name and set the parameter(s)
+     * you want to change. Any existing parameter not changed in an update to
+     * an existing policy is not changed in this update request.
+     * </p>
+     *
+     * @param putScalingPolicyRequest Container for the necessary parameters
+     *           to execute the PutScalingPolicy operation on AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         PutScalingPolicy service method, as returned by AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<PutScalingPolicyResult> putScalingPolicyAsync(PutScalingPolicyRequest putScalingPolicyRequest,
+            AsyncHandler<PutScalingPolicyRequest, PutScalingPolicyResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Sets the health status of an instance.
@@ -641,6 +1289,33 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
     public Future<Void> setInstanceHealthAsync(SetInstanceHealthRequest setInstanceHealthRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Sets the health status of an instance.
+     * </p>
+     *
+     * @param setInstanceHealthRequest Container for the necessary parameters
+     *           to execute the SetInstanceHealth operation on AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         SetInstanceHealth service method, as returned by AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setInstanceHealthAsync(SetInstanceHealthRequest setInstanceHealthRequest,
+            AsyncHandler<SetInstanceHealthRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Updates the configuration for the specified AutoScalingGroup.
@@ -684,6 +1359,54 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
     public Future<Void> updateAutoScalingGroupAsync(UpdateAutoScalingGroupRequest updateAutoScalingGroupRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Updates the configuration for the specified AutoScalingGroup.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> To update an Auto Scaling group with a launch
+     * configuration that has the InstanceMonitoring.enabled flag set to
+     * false, you must first ensure that collection of group metrics is
+     * disabled. Otherwise, calls to UpdateAutoScalingGroup will fail. If you
+     * have previously enabled group metrics collection, you can disable
+     * collection of all group metrics by calling DisableMetricsCollection.
+     * </p>
+     * <p>
+     * The new settings are registered upon the completion of this call. Any
+     * launch configuration settings take effect on any triggers after this
+     * call returns. Triggers that are currently in progress aren't affected.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> If the new values are specified for the MinSize or
+     * MaxSize parameters, then there will be an implicit call to
+     * SetDesiredCapacity to set the group to the new MaxSize. All optional
+     * parameters are left unchanged if not passed in the request.
+     * </p>
+     *
+     * @param updateAutoScalingGroupRequest Container for the necessary
+     *           parameters to execute the UpdateAutoScalingGroup operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         UpdateAutoScalingGroup service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> updateAutoScalingGroupAsync(UpdateAutoScalingGroupRequest updateAutoScalingGroupRequest,
+            AsyncHandler<UpdateAutoScalingGroupRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Lists all the actions scheduled for your Auto Scaling group that
@@ -710,6 +1433,37 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
     public Future<DescribeScheduledActionsResult> describeScheduledActionsAsync(DescribeScheduledActionsRequest describeScheduledActionsRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Lists all the actions scheduled for your Auto Scaling group that
+     * haven't been executed. To see a list of action already executed, see
+     * the activity record returned in DescribeScalingActivities.
+     * </p>
+     *
+     * @param describeScheduledActionsRequest Container for the necessary
+     *           parameters to execute the DescribeScheduledActions operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeScheduledActions service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeScheduledActionsResult> describeScheduledActionsAsync(DescribeScheduledActionsRequest describeScheduledActionsRequest,
+            AsyncHandler<DescribeScheduledActionsRequest, DescribeScheduledActionsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Suspends Auto Scaling processes for an Auto Scaling group. To suspend
@@ -745,6 +1499,46 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
     public Future<Void> suspendProcessesAsync(SuspendProcessesRequest suspendProcessesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Suspends Auto Scaling processes for an Auto Scaling group. To suspend
+     * specific process types, specify them by name with the
+     * <code>ScalingProcesses.member.N</code> parameter. To suspend all
+     * process types, omit the <code>ScalingProcesses.member.N</code>
+     * parameter.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> Suspending either of the two primary process types,
+     * Launch or Terminate, can prevent other process types from functioning
+     * properly. For more information about processes and their dependencies,
+     * see ProcessType.
+     * </p>
+     * <p>
+     * To resume processes that have been suspended, use ResumeProcesses.
+     * </p>
+     *
+     * @param suspendProcessesRequest Container for the necessary parameters
+     *           to execute the SuspendProcesses operation on AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         SuspendProcesses service method, as returned by AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> suspendProcessesAsync(SuspendProcessesRequest suspendProcessesRequest,
+            AsyncHandler<SuspendProcessesRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Resumes Auto Scaling processes for an Auto Scaling group. For more
@@ -768,6 +1562,34 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
     public Future<Void> resumeProcessesAsync(ResumeProcessesRequest resumeProcessesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Resumes Auto Scaling processes for an Auto Scaling group. For more
+     * information, see SuspendProcesses and ProcessType.
+     * </p>
+     *
+     * @param resumeProcessesRequest Container for the necessary parameters
+     *           to execute the ResumeProcesses operation on AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ResumeProcesses service method, as returned by AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> resumeProcessesAsync(ResumeProcessesRequest resumeProcessesRequest,
+            AsyncHandler<ResumeProcessesRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Creates a new launch configuration. Once created, the new launch
@@ -798,6 +1620,41 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
     public Future<Void> createLaunchConfigurationAsync(CreateLaunchConfigurationRequest createLaunchConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Creates a new launch configuration. Once created, the new launch
+     * configuration is available for immediate use.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> The launch configuration name used must be unique, within
+     * the scope of the client's AWS account, and the maximum limit of launch
+     * configurations must not yet have been met, or else the call will fail.
+     * </p>
+     *
+     * @param createLaunchConfigurationRequest Container for the necessary
+     *           parameters to execute the CreateLaunchConfiguration operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateLaunchConfiguration service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> createLaunchConfigurationAsync(CreateLaunchConfigurationRequest createLaunchConfigurationRequest,
+            AsyncHandler<CreateLaunchConfigurationRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Disables monitoring of group metrics for the Auto Scaling group
@@ -824,5 +1681,36 @@ public interface AmazonAutoScalingAsync extends AmazonAutoScaling {
     public Future<Void> disableMetricsCollectionAsync(DisableMetricsCollectionRequest disableMetricsCollectionRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Disables monitoring of group metrics for the Auto Scaling group
+     * specified in AutoScalingGroupName. You can specify the list of
+     * affected metrics with the Metrics parameter.
+     * </p>
+     *
+     * @param disableMetricsCollectionRequest Container for the necessary
+     *           parameters to execute the DisableMetricsCollection operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DisableMetricsCollection service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> disableMetricsCollectionAsync(DisableMetricsCollectionRequest disableMetricsCollectionRequest,
+            AsyncHandler<DisableMetricsCollectionRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
 }
         
\ No newline at end of file
@@ -16,13 +16,14 @@ package com.amazonaws.services.autoscaling;
             
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.util.InstrumentedThreadPoolExecutor;
 
 import com.amazonaws.services.autoscaling.model.*;
 
@@ -87,8 +88,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
     /**
      * Constructs a new asynchronous client to invoke service methods on 
      * AmazonAutoScaling using the specified AWS account credentials.
-     * Default client settings will be used, and a default cached thread pool will be 
-     * created for executing the asynchronous tasks.
+     * Default client settings will be used, and a default bounded thread pool will be 
+     * created for executing the asynchronous tasks (see
+     * {@link InstrumentedThreadPoolExecutor#newDefaultExecutor(String, ClientConfiguration)}).
      *
      * <p>
      * All calls made using this new client object are non-blocking, and will immediately
@@ -99,7 +101,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      *                       when authenticating with AWS services.
      */                                      
     public AmazonAutoScalingAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newCachedThreadPool());
+        this(awsCredentials, InstrumentedThreadPoolExecutor.newDefaultExecutor("AmazonAutoScalingAsyncClient", new ClientConfiguration()));
     }
 
     /**
@@ -194,6 +196,52 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
 		});
     }
     
+    /**
+     * <p>
+     * Creates a scheduled scaling action for a Auto Scaling group. If you
+     * leave a parameter unspecified, the corresponding value remains
+     * unchanged in the affected Auto Scaling group.
+     * </p>
+     *
+     * @param putScheduledUpdateGroupActionRequest Container for the
+     *           necessary parameters to execute the PutScheduledUpdateGroupAction
+     *           operation on AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         PutScheduledUpdateGroupAction service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> putScheduledUpdateGroupActionAsync(
+            final PutScheduledUpdateGroupActionRequest putScheduledUpdateGroupActionRequest,
+            final AsyncHandler<PutScheduledUpdateGroupActionRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    putScheduledUpdateGroupAction(putScheduledUpdateGroupActionRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(putScheduledUpdateGroupActionRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Adjusts the desired size of the AutoScalingGroup by initiating
@@ -254,6 +302,79 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
 		});
     }
     
+    /**
+     * <p>
+     * Adjusts the desired size of the AutoScalingGroup by initiating
+     * scaling activities. When reducing the size of the group, it is not
+     * possible to define which EC2 instances will be terminated. This
+     * applies to any auto-scaling decisions that might result in terminating
+     * instances.
+     * </p>
+     * <p>
+     * There are two common use cases for <code>SetDesiredCapacity</code> :
+     * one for users of the Auto Scaling triggering system, and
+     * another for developers who write their own triggering systems. Both
+     * use cases relate to the concept of cooldown.
+     * </p>
+     * <p>
+     * In the first case, if you use the Auto Scaling triggering system,
+     * <code>SetDesiredCapacity</code> changes the size of your Auto Scaling
+     * group without regard to the cooldown period. This could be useful, for
+     * example, if Auto Scaling did something unexpected for some reason. If
+     * your cooldown period is 10 minutes, Auto Scaling would normally reject
+     * requests to change the size of the group for that entire 10 minute
+     * period. The <code>SetDesiredCapacity</code> command allows you to
+     * circumvent this restriction and change the size of the group before
+     * the end of the cooldown period.
+     * </p>
+     * <p>
+     * In the second case, if you write your own triggering system, you can
+     * use <code>SetDesiredCapacity</code> to control the size of your Auto
+     * Scaling group. If you want the same cooldown functionality that Auto
+     * Scaling offers, you can configure <code>SetDesiredCapacity</code> to
+     * honor cooldown by setting the <code>HonorCooldown</code> parameter to
+     * <code>true</code> .
+     * 
+     * </p>
+     *
+     * @param setDesiredCapacityRequest Container for the necessary
+     *           parameters to execute the SetDesiredCapacity operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         SetDesiredCapacity service method, as returned by AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setDesiredCapacityAsync(
+            final SetDesiredCapacityRequest setDesiredCapacityRequest,
+            final AsyncHandler<SetDesiredCapacityRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    setDesiredCapacity(setDesiredCapacityRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(setDesiredCapacityRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes a policy created by PutScalingPolicy
@@ -283,6 +404,48 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
 		});
     }
     
+    /**
+     * <p>
+     * Deletes a policy created by PutScalingPolicy
+     * </p>
+     *
+     * @param deletePolicyRequest Container for the necessary parameters to
+     *           execute the DeletePolicy operation on AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeletePolicy service method, as returned by AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deletePolicyAsync(
+            final DeletePolicyRequest deletePolicyRequest,
+            final AsyncHandler<DeletePolicyRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deletePolicy(deletePolicyRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deletePolicyRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes a scheduled action previously created using the
@@ -315,6 +478,51 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
 		});
     }
     
+    /**
+     * <p>
+     * Deletes a scheduled action previously created using the
+     * PutScheduledUpdateGroupAction.
+     * </p>
+     *
+     * @param deleteScheduledActionRequest Container for the necessary
+     *           parameters to execute the DeleteScheduledAction operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteScheduledAction service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteScheduledActionAsync(
+            final DeleteScheduledActionRequest deleteScheduledActionRequest,
+            final AsyncHandler<DeleteScheduledActionRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteScheduledAction(deleteScheduledActionRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteScheduledActionRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns a full description of the launch configurations given the
@@ -350,6 +558,56 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
 		});
     }
     
+    /**
+     * <p>
+     * Returns a full description of the launch configurations given the
+     * specified names.
+     * </p>
+     * <p>
+     * If no names are specified, then the full details of all launch
+     * configurations are returned.
+     * </p>
+     *
+     * @param describeLaunchConfigurationsRequest Container for the necessary
+     *           parameters to execute the DescribeLaunchConfigurations operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeLaunchConfigurations service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeLaunchConfigurationsResult> describeLaunchConfigurationsAsync(
+            final DescribeLaunchConfigurationsRequest describeLaunchConfigurationsRequest,
+            final AsyncHandler<DescribeLaunchConfigurationsRequest, DescribeLaunchConfigurationsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeLaunchConfigurationsResult>() {
+            public DescribeLaunchConfigurationsResult call() throws Exception {
+                DescribeLaunchConfigurationsResult result;
+                try {
+                    result = describeLaunchConfigurations(describeLaunchConfigurationsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeLaunchConfigurationsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns scaling process types for use in the ResumeProcesses and
@@ -381,6 +639,52 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
 		});
     }
     
+    /**
+     * <p>
+     * Returns scaling process types for use in the ResumeProcesses and
+     * SuspendProcesses actions.
+     * </p>
+     *
+     * @param describeScalingProcessTypesRequest Container for the necessary
+     *           parameters to execute the DescribeScalingProcessTypes operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeScalingProcessTypes service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeScalingProcessTypesResult> describeScalingProcessTypesAsync(
+            final DescribeScalingProcessTypesRequest describeScalingProcessTypesRequest,
+            final AsyncHandler<DescribeScalingProcessTypesRequest, DescribeScalingProcessTypesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeScalingProcessTypesResult>() {
+            public DescribeScalingProcessTypesResult call() throws Exception {
+                DescribeScalingProcessTypesResult result;
+                try {
+                    result = describeScalingProcessTypes(describeScalingProcessTypesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeScalingProcessTypesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns a full description of each Auto Scaling group in the given
@@ -419,6 +723,59 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
 		});
     }
     
+    /**
+     * <p>
+     * Returns a full description of each Auto Scaling group in the given
+     * list. This includes all Amazon EC2 instances that are members of the
+     * group. If a list of names is not provided, the service returns the
+     * full details of all Auto Scaling groups.
+     * </p>
+     * <p>
+     * This action supports pagination by returning a token if there are
+     * more pages to retrieve. To get the next page, call this action again
+     * with the returned token as the NextToken parameter.
+     * </p>
+     *
+     * @param describeAutoScalingGroupsRequest Container for the necessary
+     *           parameters to execute the DescribeAutoScalingGroups operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeAutoScalingGroups service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeAutoScalingGroupsResult> describeAutoScalingGroupsAsync(
+            final DescribeAutoScalingGroupsRequest describeAutoScalingGroupsRequest,
+            final AsyncHandler<DescribeAutoScalingGroupsRequest, DescribeAutoScalingGroupsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeAutoScalingGroupsResult>() {
+            public DescribeAutoScalingGroupsResult call() throws Exception {
+                DescribeAutoScalingGroupsResult result;
+                try {
+                    result = describeAutoScalingGroups(describeAutoScalingGroupsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeAutoScalingGroupsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Enables monitoring of group metrics for the Auto Scaling group
@@ -460,20 +817,72 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
     
     /**
      * <p>
-     * Terminates the specified instance. Optionally, the desired group size
-     * can be adjusted.
+     * Enables monitoring of group metrics for the Auto Scaling group
+     * specified in AutoScalingGroupName. You can specify the list of enabled
+     * metrics with the Metrics parameter.
      * </p>
      * <p>
-     * <b>NOTE:</b> This call simply registers a termination request. The
-     * termination of the instance cannot happen immediately.
+     * Auto scaling metrics collection can be turned on only if the
+     * <code>InstanceMonitoring.Enabled</code> flag, in the Auto Scaling
+     * group's launch configuration, is set to <code>true</code> .
+     * 
      * </p>
      *
-     * @param terminateInstanceInAutoScalingGroupRequest Container for the
-     *           necessary parameters to execute the
-     *           TerminateInstanceInAutoScalingGroup operation on AmazonAutoScaling.
+     * @param enableMetricsCollectionRequest Container for the necessary
+     *           parameters to execute the EnableMetricsCollection operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
-     *         TerminateInstanceInAutoScalingGroup service method, as returned by
+     *         EnableMetricsCollection service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> enableMetricsCollectionAsync(
+            final EnableMetricsCollectionRequest enableMetricsCollectionRequest,
+            final AsyncHandler<EnableMetricsCollectionRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    enableMetricsCollection(enableMetricsCollectionRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(enableMetricsCollectionRequest, null);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Terminates the specified instance. Optionally, the desired group size
+     * can be adjusted.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> This call simply registers a termination request. The
+     * termination of the instance cannot happen immediately.
+     * </p>
+     *
+     * @param terminateInstanceInAutoScalingGroupRequest Container for the
+     *           necessary parameters to execute the
+     *           TerminateInstanceInAutoScalingGroup operation on AmazonAutoScaling.
+     * 
+     * @return A Java Future object containing the response from the
+     *         TerminateInstanceInAutoScalingGroup service method, as returned by
      *         AmazonAutoScaling.
      *
      * @throws AmazonClientException
@@ -493,6 +902,56 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
 		});
     }
     
+    /**
+     * <p>
+     * Terminates the specified instance. Optionally, the desired group size
+     * can be adjusted.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> This call simply registers a termination request. The
+     * termination of the instance cannot happen immediately.
+     * </p>
+     *
+     * @param terminateInstanceInAutoScalingGroupRequest Container for the
+     *           necessary parameters to execute the
+     *           TerminateInstanceInAutoScalingGroup operation on AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         TerminateInstanceInAutoScalingGroup service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<TerminateInstanceInAutoScalingGroupResult> terminateInstanceInAutoScalingGroupAsync(
+            final TerminateInstanceInAutoScalingGroupRequest terminateInstanceInAutoScalingGroupRequest,
+            final AsyncHandler<TerminateInstanceInAutoScalingGroupRequest, TerminateInstanceInAutoScalingGroupResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<TerminateInstanceInAutoScalingGroupResult>() {
+            public TerminateInstanceInAutoScalingGroupResult call() throws Exception {
+                TerminateInstanceInAutoScalingGroupResult result;
+                try {
+                    result = terminateInstanceInAutoScalingGroup(terminateInstanceInAutoScalingGroupRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(terminateInstanceInAutoScalingGroupRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns the scaling activities for the specified Auto Scaling group.
@@ -534,6 +993,62 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
 		});
     }
     
+    /**
+     * <p>
+     * Returns the scaling activities for the specified Auto Scaling group.
+     * </p>
+     * <p>
+     * If the specified <i>ActivityIds</i> list is empty, all the activities
+     * from the past six weeks are returned. Activities are sorted by
+     * completion time. Activities still in progress appear first on the
+     * list.
+     * </p>
+     * <p>
+     * This action supports pagination. If the response includes a token,
+     * there are more records available. To get the additional records,
+     * repeat the request with the response token as the NextToken parameter.
+     * </p>
+     *
+     * @param describeScalingActivitiesRequest Container for the necessary
+     *           parameters to execute the DescribeScalingActivities operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeScalingActivities service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeScalingActivitiesResult> describeScalingActivitiesAsync(
+            final DescribeScalingActivitiesRequest describeScalingActivitiesRequest,
+            final AsyncHandler<DescribeScalingActivitiesRequest, DescribeScalingActivitiesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeScalingActivitiesResult>() {
+            public DescribeScalingActivitiesResult call() throws Exception {
+                DescribeScalingActivitiesResult result;
+                try {
+                    result = describeScalingActivities(describeScalingActivitiesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeScalingActivitiesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Runs the policy you create for your Auto Scaling group in
@@ -564,6 +1079,49 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
 		});
     }
     
+    /**
+     * <p>
+     * Runs the policy you create for your Auto Scaling group in
+     * PutScalingPolicy.
+     * </p>
+     *
+     * @param executePolicyRequest Container for the necessary parameters to
+     *           execute the ExecutePolicy operation on AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ExecutePolicy service method, as returned by AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> executePolicyAsync(
+            final ExecutePolicyRequest executePolicyRequest,
+            final AsyncHandler<ExecutePolicyRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    executePolicy(executePolicyRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(executePolicyRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns a list of metrics and a corresponding list of granularities
@@ -595,6 +1153,52 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
 		});
     }
     
+    /**
+     * <p>
+     * Returns a list of metrics and a corresponding list of granularities
+     * for each metric.
+     * </p>
+     *
+     * @param describeMetricCollectionTypesRequest Container for the
+     *           necessary parameters to execute the DescribeMetricCollectionTypes
+     *           operation on AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeMetricCollectionTypes service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeMetricCollectionTypesResult> describeMetricCollectionTypesAsync(
+            final DescribeMetricCollectionTypesRequest describeMetricCollectionTypesRequest,
+            final AsyncHandler<DescribeMetricCollectionTypesRequest, DescribeMetricCollectionTypesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeMetricCollectionTypesResult>() {
+            public DescribeMetricCollectionTypesResult call() throws Exception {
+                DescribeMetricCollectionTypesResult result;
+                try {
+                    result = describeMetricCollectionTypes(describeMetricCollectionTypesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeMetricCollectionTypesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns descriptions of what each policy does. This action supports
@@ -626,6 +1230,52 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
 		});
     }
     
+    /**
+     * <p>
+     * Returns descriptions of what each policy does. This action supports
+     * pagination. If the response includes a token, there are more records
+     * available. To get the additional records, repeat the request with the
+     * response token as the NextToken parameter.
+     * </p>
+     *
+     * @param describePoliciesRequest Container for the necessary parameters
+     *           to execute the DescribePolicies operation on AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribePolicies service method, as returned by AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribePoliciesResult> describePoliciesAsync(
+            final DescribePoliciesRequest describePoliciesRequest,
+            final AsyncHandler<DescribePoliciesRequest, DescribePoliciesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribePoliciesResult>() {
+            public DescribePoliciesResult call() throws Exception {
+                DescribePoliciesResult result;
+                try {
+                    result = describePolicies(describePoliciesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describePoliciesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns policy adjustment types for use in the PutScalingPolicy
@@ -657,6 +1307,52 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
 		});
     }
     
+    /**
+     * <p>
+     * Returns policy adjustment types for use in the PutScalingPolicy
+     * action.
+     * </p>
+     *
+     * @param describeAdjustmentTypesRequest Container for the necessary
+     *           parameters to execute the DescribeAdjustmentTypes operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeAdjustmentTypes service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeAdjustmentTypesResult> describeAdjustmentTypesAsync(
+            final DescribeAdjustmentTypesRequest describeAdjustmentTypesRequest,
+            final AsyncHandler<DescribeAdjustmentTypesRequest, DescribeAdjustmentTypesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeAdjustmentTypesResult>() {
+            public DescribeAdjustmentTypesResult call() throws Exception {
+                DescribeAdjustmentTypesResult result;
+                try {
+                    result = describeAdjustmentTypes(describeAdjustmentTypesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeAdjustmentTypesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes the specified auto scaling group if the group has no
@@ -694,6 +1390,56 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
 		});
     }
     
+    /**
+     * <p>
+     * Deletes the specified auto scaling group if the group has no
+     * instances and no scaling activities in progress.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> To remove all instances before calling
+     * DeleteAutoScalingGroup, you can call UpdateAutoScalingGroup to set the
+     * minimum and maximum size of the AutoScalingGroup to zero.
+     * </p>
+     *
+     * @param deleteAutoScalingGroupRequest Container for the necessary
+     *           parameters to execute the DeleteAutoScalingGroup operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteAutoScalingGroup service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteAutoScalingGroupAsync(
+            final DeleteAutoScalingGroupRequest deleteAutoScalingGroupRequest,
+            final AsyncHandler<DeleteAutoScalingGroupRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteAutoScalingGroup(deleteAutoScalingGroupRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteAutoScalingGroupRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Creates a new Auto Scaling group with the specified name. Once the
@@ -732,6 +1478,94 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
 		});
     }
     
+    /**
+     * <p>
+     * Creates a new Auto Scaling group with the specified name. Once the
+     * creation request is completed, the AutoScalingGroup is ready to be
+     * used in other calls.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> The Auto Scaling group name must be unique within the
+     * scope of your AWS account, and under the quota of Auto Scaling groups
+     * allowed for your account.
+     * </p>
+     *
+     * @param createAutoScalingGroupRequest Container for the necessary
+     *           parameters to execute the CreateAutoScalingGroup operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateAutoScalingGroup service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> createAutoScalingGroupAsync(
+            final CreateAutoScalingGroupRequest createAutoScalingGroupRequest,
+            final AsyncHandler<CreateAutoScalingGroupRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    createAutoScalingGroup(createAutoScalingGroupRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createAutoScalingGroupRequest, null);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Returns a description of each Auto Scaling instance in the
+     * InstanceIds list. If a list is not provided, the service returns the
+     * full details of all instances up to a maximum of fifty.
+     * </p>
+     * <p>
+     * This action supports pagination by returning a token if there are
+     * more pages to retrieve. To get the next page, call this action again
+     * with the returned token as the NextToken parameter.
+     * </p>
+     *
+     * @param describeAutoScalingInstancesRequest Container for the necessary
+     *           parameters to execute the DescribeAutoScalingInstances operation on
+     *           AmazonAutoScaling.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeAutoScalingInstances service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeAutoScalingInstancesResult> describeAutoScalingInstancesAsync(final DescribeAutoScalingInstancesRequest describeAutoScalingInstancesRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeAutoScalingInstancesResult>() {
+            public DescribeAutoScalingInstancesResult call() throws Exception {
+                return describeAutoScalingInstances(describeAutoScalingInstancesRequest);
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns a description of each Auto Scaling instance in the
@@ -739,18 +1573,185 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      * full details of all instances up to a maximum of fifty.
      * </p>
      * <p>
-     * This action supports pagination by returning a token if there are
-     * more pages to retrieve. To get the next page, call this action again
-     * with the returned token as the NextToken parameter.
+     * This action supports pagination by returning a token if there are
+     * more pages to retrieve. To get the next page, call this action again
+     * with the returned token as the NextToken parameter.
+     * </p>
+     *
+     * @param describeAutoScalingInstancesRequest Container for the necessary
+     *           parameters to execute the DescribeAutoScalingInstances operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeAutoScalingInstances service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeAutoScalingInstancesResult> describeAutoScalingInstancesAsync(
+            final DescribeAutoScalingInstancesRequest describeAutoScalingInstancesRequest,
+            final AsyncHandler<DescribeAutoScalingInstancesRequest, DescribeAutoScalingInstancesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeAutoScalingInstancesResult>() {
+            public DescribeAutoScalingInstancesResult call() throws Exception {
+                DescribeAutoScalingInstancesResult result;
+                try {
+                    result = describeAutoScalingInstances(describeAutoScalingInstancesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeAutoScalingInstancesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Deletes the specified LaunchConfiguration.
+     * </p>
+     * <p>
+     * The specified launch configuration must not be attached to an Auto
+     * Scaling group. Once this call completes, the launch configuration is
+     * no longer available for use.
+     * </p>
+     *
+     * @param deleteLaunchConfigurationRequest Container for the necessary
+     *           parameters to execute the DeleteLaunchConfiguration operation on
+     *           AmazonAutoScaling.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteLaunchConfiguration service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteLaunchConfigurationAsync(final DeleteLaunchConfigurationRequest deleteLaunchConfigurationRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                deleteLaunchConfiguration(deleteLaunchConfigurationRequest);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Deletes the specified LaunchConfiguration.
+     * </p>
+     * <p>
+     * The specified launch configuration must not be attached to an Auto
+     * Scaling group. Once this call completes, the launch configuration is
+     * no longer available for use.
+     * </p>
+     *
+     * @param deleteLaunchConfigurationRequest Container for the necessary
+     *           parameters to execute the DeleteLaunchConfiguration operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteLaunchConfiguration service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteLaunchConfigurationAsync(
+            final DeleteLaunchConfigurationRequest deleteLaunchConfigurationRequest,
+            final AsyncHandler<DeleteLaunchConfigurationRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteLaunchConfiguration(deleteLaunchConfigurationRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteLaunchConfigurationRequest, null);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Creates or updates a policy for an Auto Scaling group. To update an
+     * existing policy, use the existing policy name and set the parameter(s)
+     * you want to change. Any existing parameter not changed in an update to
+     * an existing policy is not changed in this update request.
+     * </p>
+     *
+     * @param putScalingPolicyRequest Container for the necessary parameters
+     *           to execute the PutScalingPolicy operation on AmazonAutoScaling.
+     * 
+     * @return A Java Future object containing the response from the
+     *         PutScalingPolicy service method, as returned by AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<PutScalingPolicyResult> putScalingPolicyAsync(final PutScalingPolicyRequest putScalingPolicyRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<PutScalingPolicyResult>() {
+            public PutScalingPolicyResult call() throws Exception {
+                return putScalingPolicy(putScalingPolicyRequest);
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Creates or updates a policy for an Auto Scaling group. To update an
+     * existing policy, use the existing policy name and set the parameter(s)
+     * you want to change. Any existing parameter not changed in an update to
+     * an existing policy is not changed in this update request.
      * </p>
      *
-     * @param describeAutoScalingInstancesRequest Container for the necessary
-     *           parameters to execute the DescribeAutoScalingInstances operation on
-     *           AmazonAutoScaling.
+     * @param putScalingPolicyRequest Container for the necessary parameters
+     *           to execute the PutScalingPolicy operation on AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeAutoScalingInstances service method, as returned by
-     *         AmazonAutoScaling.
+     *         PutScalingPolicy service method, as returned by AmazonAutoScaling.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -760,32 +1761,35 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      *             If an error response is returned by AmazonAutoScaling indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeAutoScalingInstancesResult> describeAutoScalingInstancesAsync(final DescribeAutoScalingInstancesRequest describeAutoScalingInstancesRequest) 
-            throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingInstancesResult>() {
-            public DescribeAutoScalingInstancesResult call() throws Exception {
-                return describeAutoScalingInstances(describeAutoScalingInstancesRequest);
+    public Future<PutScalingPolicyResult> putScalingPolicyAsync(
+            final PutScalingPolicyRequest putScalingPolicyRequest,
+            final AsyncHandler<PutScalingPolicyRequest, PutScalingPolicyResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<PutScalingPolicyResult>() {
+            public PutScalingPolicyResult call() throws Exception {
+                PutScalingPolicyResult result;
+                try {
+                    result = putScalingPolicy(putScalingPolicyRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(putScalingPolicyRequest, result);
+                return result;
 		    }
 		});
     }
     
     /**
      * <p>
-     * Deletes the specified LaunchConfiguration.
-     * </p>
-     * <p>
-     * The specified launch configuration must not be attached to an Auto
-     * Scaling group. Once this call completes, the launch configuration is
-     * no longer available for use.
+     * Sets the health status of an instance.
      * </p>
      *
-     * @param deleteLaunchConfigurationRequest Container for the necessary
-     *           parameters to execute the DeleteLaunchConfiguration operation on
-     *           AmazonAutoScaling.
+     * @param setInstanceHealthRequest Container for the necessary parameters
+     *           to execute the SetInstanceHealth operation on AmazonAutoScaling.
      * 
      * @return A Java Future object containing the response from the
-     *         DeleteLaunchConfiguration service method, as returned by
-     *         AmazonAutoScaling.
+     *         SetInstanceHealth service method, as returned by AmazonAutoScaling.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -795,11 +1799,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      *             If an error response is returned by AmazonAutoScaling indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteLaunchConfigurationAsync(final DeleteLaunchConfigurationRequest deleteLaunchConfigurationRequest) 
+    public Future<Void> setInstanceHealthAsync(final SetInstanceHealthRequest setInstanceHealthRequest) 
             throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<Void>() {
             public Void call() throws Exception {
-                deleteLaunchConfiguration(deleteLaunchConfigurationRequest);
+                setInstanceHealth(setInstanceHealthRequest);
                 return null;
 		    }
 		});
@@ -807,17 +1811,19 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
     
     /**
      * <p>
-     * Creates or updates a policy for an Auto Scaling group. To update an
-     * existing policy, use the existing policy name and set the parameter(s)
-     * you want to change. Any existing parameter not changed in an update to
-     * an existing policy is not changed in this update request.
+     * Sets the health status of an instance.
      * </p>
      *
-     * @param putScalingPolicyRequest Container for the necessary parameters
-     *           to execute the PutScalingPolicy operation on AmazonAutoScaling.
+     * @param setInstanceHealthRequest Container for the necessary parameters
+     *           to execute the SetInstanceHealth operation on AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
-     *         PutScalingPolicy service method, as returned by AmazonAutoScaling.
+     *         SetInstanceHealth service method, as returned by AmazonAutoScaling.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -827,25 +1833,55 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      *             If an error response is returned by AmazonAutoScaling indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<PutScalingPolicyResult> putScalingPolicyAsync(final PutScalingPolicyRequest putScalingPolicyRequest) 
-            throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutScalingPolicyResult>() {
-            public PutScalingPolicyResult call() throws Exception {
-                return putScalingPolicy(putScalingPolicyRequest);
+    public Future<Void> setInstanceHealthAsync(
+            final SetInstanceHealthRequest setInstanceHealthRequest,
+            final AsyncHandler<SetInstanceHealthRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    setInstanceHealth(setInstanceHealthRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(setInstanceHealthRequest, null);
+                return null;
 		    }
 		});
     }
     
     /**
      * <p>
-     * Sets the health status of an instance.
+     * Updates the configuration for the specified AutoScalingGroup.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> To update an Auto Scaling group with a launch
+     * configuration that has the InstanceMonitoring.enabled flag set to
+     * false, you must first ensure that collection of group metrics is
+     * disabled. Otherwise, calls to UpdateAutoScalingGroup will fail. If you
+     * have previously enabled group metrics collection, you can disable
+     * collection of all group metrics by calling DisableMetricsCollection.
+     * </p>
+     * <p>
+     * The new settings are registered upon the completion of this call. Any
+     * launch configuration settings take effect on any triggers after this
+     * call returns. Triggers that are currently in progress aren't affected.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> If the new values are specified for the MinSize or
+     * MaxSize parameters, then there will be an implicit call to
+     * SetDesiredCapacity to set the group to the new MaxSize. All optional
+     * parameters are left unchanged if not passed in the request.
      * </p>
      *
-     * @param setInstanceHealthRequest Container for the necessary parameters
-     *           to execute the SetInstanceHealth operation on AmazonAutoScaling.
+     * @param updateAutoScalingGroupRequest Container for the necessary
+     *           parameters to execute the UpdateAutoScalingGroup operation on
+     *           AmazonAutoScaling.
      * 
      * @return A Java Future object containing the response from the
-     *         SetInstanceHealth service method, as returned by AmazonAutoScaling.
+     *         UpdateAutoScalingGroup service method, as returned by
+     *         AmazonAutoScaling.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -855,11 +1891,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      *             If an error response is returned by AmazonAutoScaling indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> setInstanceHealthAsync(final SetInstanceHealthRequest setInstanceHealthRequest) 
+    public Future<Void> updateAutoScalingGroupAsync(final UpdateAutoScalingGroupRequest updateAutoScalingGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<Void>() {
             public Void call() throws Exception {
-                setInstanceHealth(setInstanceHealthRequest);
+                updateAutoScalingGroup(updateAutoScalingGroupRequest);
                 return null;
 		    }
 		});
@@ -892,6 +1928,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      * @param updateAutoScalingGroupRequest Container for the necessary
      *           parameters to execute the UpdateAutoScalingGroup operation on
      *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
      *         UpdateAutoScalingGroup service method, as returned by
@@ -905,11 +1946,19 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      *             If an error response is returned by AmazonAutoScaling indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> updateAutoScalingGroupAsync(final UpdateAutoScalingGroupRequest updateAutoScalingGroupRequest) 
-            throws AmazonServiceException, AmazonClientException {
+    public Future<Void> updateAutoScalingGroupAsync(
+            final UpdateAutoScalingGroupRequest updateAutoScalingGroupRequest,
+            final AsyncHandler<UpdateAutoScalingGroupRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<Void>() {
             public Void call() throws Exception {
-                updateAutoScalingGroup(updateAutoScalingGroupRequest);
+                try {
+                    updateAutoScalingGroup(updateAutoScalingGroupRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(updateAutoScalingGroupRequest, null);
                 return null;
 		    }
 		});
@@ -947,6 +1996,53 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
 		});
     }
     
+    /**
+     * <p>
+     * Lists all the actions scheduled for your Auto Scaling group that
+     * haven't been executed. To see a list of action already executed, see
+     * the activity record returned in DescribeScalingActivities.
+     * </p>
+     *
+     * @param describeScheduledActionsRequest Container for the necessary
+     *           parameters to execute the DescribeScheduledActions operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeScheduledActions service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeScheduledActionsResult> describeScheduledActionsAsync(
+            final DescribeScheduledActionsRequest describeScheduledActionsRequest,
+            final AsyncHandler<DescribeScheduledActionsRequest, DescribeScheduledActionsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeScheduledActionsResult>() {
+            public DescribeScheduledActionsResult call() throws Exception {
+                DescribeScheduledActionsResult result;
+                try {
+                    result = describeScheduledActions(describeScheduledActionsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeScheduledActionsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Suspends Auto Scaling processes for an Auto Scaling group. To suspend
@@ -989,6 +2085,61 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
 		});
     }
     
+    /**
+     * <p>
+     * Suspends Auto Scaling processes for an Auto Scaling group. To suspend
+     * specific process types, specify them by name with the
+     * <code>ScalingProcesses.member.N</code> parameter. To suspend all
+     * process types, omit the <code>ScalingProcesses.member.N</code>
+     * parameter.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> Suspending either of the two primary process types,
+     * Launch or Terminate, can prevent other process types from functioning
+     * properly. For more information about processes and their dependencies,
+     * see ProcessType.
+     * </p>
+     * <p>
+     * To resume processes that have been suspended, use ResumeProcesses.
+     * </p>
+     *
+     * @param suspendProcessesRequest Container for the necessary parameters
+     *           to execute the SuspendProcesses operation on AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         SuspendProcesses service method, as returned by AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> suspendProcessesAsync(
+            final SuspendProcessesRequest suspendProcessesRequest,
+            final AsyncHandler<SuspendProcessesRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    suspendProcesses(suspendProcessesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(suspendProcessesRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Resumes Auto Scaling processes for an Auto Scaling group. For more
@@ -1019,6 +2170,49 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
 		});
     }
     
+    /**
+     * <p>
+     * Resumes Auto Scaling processes for an Auto Scaling group. For more
+     * information, see SuspendProcesses and ProcessType.
+     * </p>
+     *
+     * @param resumeProcessesRequest Container for the necessary parameters
+     *           to execute the ResumeProcesses operation on AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ResumeProcesses service method, as returned by AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> resumeProcessesAsync(
+            final ResumeProcessesRequest resumeProcessesRequest,
+            final AsyncHandler<ResumeProcessesRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    resumeProcesses(resumeProcessesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(resumeProcessesRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Creates a new launch configuration. Once created, the new launch
@@ -1056,6 +2250,56 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
 		});
     }
     
+    /**
+     * <p>
+     * Creates a new launch configuration. Once created, the new launch
+     * configuration is available for immediate use.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> The launch configuration name used must be unique, within
+     * the scope of the client's AWS account, and the maximum limit of launch
+     * configurations must not yet have been met, or else the call will fail.
+     * </p>
+     *
+     * @param createLaunchConfigurationRequest Container for the necessary
+     *           parameters to execute the CreateLaunchConfiguration operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateLaunchConfiguration service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> createLaunchConfigurationAsync(
+            final CreateLaunchConfigurationRequest createLaunchConfigurationRequest,
+            final AsyncHandler<CreateLaunchConfigurationRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    createLaunchConfiguration(createLaunchConfigurationRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createLaunchConfigurationRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Disables monitoring of group metrics for the Auto Scaling group
@@ -1089,5 +2333,51 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
 		});
     }
     
+    /**
+     * <p>
+     * Disables monitoring of group metrics for the Auto Scaling group
+     * specified in AutoScalingGroupName. You can specify the list of
+     * affected metrics with the Metrics parameter.
+     * </p>
+     *
+     * @param disableMetricsCollectionRequest Container for the necessary
+     *           parameters to execute the DisableMetricsCollection operation on
+     *           AmazonAutoScaling.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DisableMetricsCollection service method, as returned by
+     *         AmazonAutoScaling.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonAutoScaling indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> disableMetricsCollectionAsync(
+            final DisableMetricsCollectionRequest disableMetricsCollectionRequest,
+            final AsyncHandler<DisableMetricsCollectionRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    disableMetricsCollection(disableMetricsCollectionRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(disableMetricsCollectionRequest, null);
+                return null;
+		    }
+		});
+    }
+    
 }
         
\ No newline at end of file
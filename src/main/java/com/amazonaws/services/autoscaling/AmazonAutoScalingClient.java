@@ -99,6 +99,12 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers;
 
+    /**
+     * Handles error responses for all service calls, built once so its index
+     * of exception unmarshallers is shared across calls.
+     */
+    private final DefaultErrorResponseHandler errorResponseHandler;
+
     
     /** AWS signer for authenticating requests. */
     private QueryStringSigner signer;
@@ -146,6 +152,7 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
         exceptionUnmarshallers.add(new ResourceInUseExceptionUnmarshaller());
         
         exceptionUnmarshallers.add(new StandardErrorUnmarshaller());
+        errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
         setEndpoint("autoscaling.amazonaws.com");
 
         signer = new QueryStringSigner();
@@ -180,7 +187,7 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public void putScheduledUpdateGroupAction(PutScheduledUpdateGroupActionRequest putScheduledUpdateGroupActionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<PutScheduledUpdateGroupActionRequest> request = new PutScheduledUpdateGroupActionRequestMarshaller().marshall(putScheduledUpdateGroupActionRequest);
+        Request<PutScheduledUpdateGroupActionRequest> request = PutScheduledUpdateGroupActionRequestMarshaller.getInstance().marshall(putScheduledUpdateGroupActionRequest);
         invoke(request, null);
     }
     
@@ -235,7 +242,7 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public void setDesiredCapacity(SetDesiredCapacityRequest setDesiredCapacityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<SetDesiredCapacityRequest> request = new SetDesiredCapacityRequestMarshaller().marshall(setDesiredCapacityRequest);
+        Request<SetDesiredCapacityRequest> request = SetDesiredCapacityRequestMarshaller.getInstance().marshall(setDesiredCapacityRequest);
         invoke(request, null);
     }
     
@@ -258,7 +265,7 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public void deletePolicy(DeletePolicyRequest deletePolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeletePolicyRequest> request = new DeletePolicyRequestMarshaller().marshall(deletePolicyRequest);
+        Request<DeletePolicyRequest> request = DeletePolicyRequestMarshaller.getInstance().marshall(deletePolicyRequest);
         invoke(request, null);
     }
     
@@ -283,7 +290,7 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public void deleteScheduledAction(DeleteScheduledActionRequest deleteScheduledActionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteScheduledActionRequest> request = new DeleteScheduledActionRequestMarshaller().marshall(deleteScheduledActionRequest);
+        Request<DeleteScheduledActionRequest> request = DeleteScheduledActionRequestMarshaller.getInstance().marshall(deleteScheduledActionRequest);
         invoke(request, null);
     }
     
@@ -316,8 +323,8 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public DescribeLaunchConfigurationsResult describeLaunchConfigurations(DescribeLaunchConfigurationsRequest describeLaunchConfigurationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeLaunchConfigurationsRequest> request = new DescribeLaunchConfigurationsRequestMarshaller().marshall(describeLaunchConfigurationsRequest);
-        return invoke(request, new DescribeLaunchConfigurationsResultStaxUnmarshaller());
+        Request<DescribeLaunchConfigurationsRequest> request = DescribeLaunchConfigurationsRequestMarshaller.getInstance().marshall(describeLaunchConfigurationsRequest);
+        return invoke(request, DescribeLaunchConfigurationsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -344,8 +351,8 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public DescribeScalingProcessTypesResult describeScalingProcessTypes(DescribeScalingProcessTypesRequest describeScalingProcessTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeScalingProcessTypesRequest> request = new DescribeScalingProcessTypesRequestMarshaller().marshall(describeScalingProcessTypesRequest);
-        return invoke(request, new DescribeScalingProcessTypesResultStaxUnmarshaller());
+        Request<DescribeScalingProcessTypesRequest> request = DescribeScalingProcessTypesRequestMarshaller.getInstance().marshall(describeScalingProcessTypesRequest);
+        return invoke(request, DescribeScalingProcessTypesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -380,8 +387,8 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public DescribeAutoScalingGroupsResult describeAutoScalingGroups(DescribeAutoScalingGroupsRequest describeAutoScalingGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeAutoScalingGroupsRequest> request = new DescribeAutoScalingGroupsRequestMarshaller().marshall(describeAutoScalingGroupsRequest);
-        return invoke(request, new DescribeAutoScalingGroupsResultStaxUnmarshaller());
+        Request<DescribeAutoScalingGroupsRequest> request = DescribeAutoScalingGroupsRequestMarshaller.getInstance().marshall(describeAutoScalingGroupsRequest);
+        return invoke(request, DescribeAutoScalingGroupsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -412,7 +419,7 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public void enableMetricsCollection(EnableMetricsCollectionRequest enableMetricsCollectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<EnableMetricsCollectionRequest> request = new EnableMetricsCollectionRequestMarshaller().marshall(enableMetricsCollectionRequest);
+        Request<EnableMetricsCollectionRequest> request = EnableMetricsCollectionRequestMarshaller.getInstance().marshall(enableMetricsCollectionRequest);
         invoke(request, null);
     }
     
@@ -446,8 +453,8 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public TerminateInstanceInAutoScalingGroupResult terminateInstanceInAutoScalingGroup(TerminateInstanceInAutoScalingGroupRequest terminateInstanceInAutoScalingGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<TerminateInstanceInAutoScalingGroupRequest> request = new TerminateInstanceInAutoScalingGroupRequestMarshaller().marshall(terminateInstanceInAutoScalingGroupRequest);
-        return invoke(request, new TerminateInstanceInAutoScalingGroupResultStaxUnmarshaller());
+        Request<TerminateInstanceInAutoScalingGroupRequest> request = TerminateInstanceInAutoScalingGroupRequestMarshaller.getInstance().marshall(terminateInstanceInAutoScalingGroupRequest);
+        return invoke(request, TerminateInstanceInAutoScalingGroupResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -485,8 +492,8 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public DescribeScalingActivitiesResult describeScalingActivities(DescribeScalingActivitiesRequest describeScalingActivitiesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeScalingActivitiesRequest> request = new DescribeScalingActivitiesRequestMarshaller().marshall(describeScalingActivitiesRequest);
-        return invoke(request, new DescribeScalingActivitiesResultStaxUnmarshaller());
+        Request<DescribeScalingActivitiesRequest> request = DescribeScalingActivitiesRequestMarshaller.getInstance().marshall(describeScalingActivitiesRequest);
+        return invoke(request, DescribeScalingActivitiesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -510,7 +517,7 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public void executePolicy(ExecutePolicyRequest executePolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ExecutePolicyRequest> request = new ExecutePolicyRequestMarshaller().marshall(executePolicyRequest);
+        Request<ExecutePolicyRequest> request = ExecutePolicyRequestMarshaller.getInstance().marshall(executePolicyRequest);
         invoke(request, null);
     }
     
@@ -538,8 +545,8 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public DescribeMetricCollectionTypesResult describeMetricCollectionTypes(DescribeMetricCollectionTypesRequest describeMetricCollectionTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeMetricCollectionTypesRequest> request = new DescribeMetricCollectionTypesRequestMarshaller().marshall(describeMetricCollectionTypesRequest);
-        return invoke(request, new DescribeMetricCollectionTypesResultStaxUnmarshaller());
+        Request<DescribeMetricCollectionTypesRequest> request = DescribeMetricCollectionTypesRequestMarshaller.getInstance().marshall(describeMetricCollectionTypesRequest);
+        return invoke(request, DescribeMetricCollectionTypesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -568,8 +575,8 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public DescribePoliciesResult describePolicies(DescribePoliciesRequest describePoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribePoliciesRequest> request = new DescribePoliciesRequestMarshaller().marshall(describePoliciesRequest);
-        return invoke(request, new DescribePoliciesResultStaxUnmarshaller());
+        Request<DescribePoliciesRequest> request = DescribePoliciesRequestMarshaller.getInstance().marshall(describePoliciesRequest);
+        return invoke(request, DescribePoliciesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -596,8 +603,8 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public DescribeAdjustmentTypesResult describeAdjustmentTypes(DescribeAdjustmentTypesRequest describeAdjustmentTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeAdjustmentTypesRequest> request = new DescribeAdjustmentTypesRequestMarshaller().marshall(describeAdjustmentTypesRequest);
-        return invoke(request, new DescribeAdjustmentTypesResultStaxUnmarshaller());
+        Request<DescribeAdjustmentTypesRequest> request = DescribeAdjustmentTypesRequestMarshaller.getInstance().marshall(describeAdjustmentTypesRequest);
+        return invoke(request, DescribeAdjustmentTypesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -628,7 +635,7 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public void deleteAutoScalingGroup(DeleteAutoScalingGroupRequest deleteAutoScalingGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteAutoScalingGroupRequest> request = new DeleteAutoScalingGroupRequestMarshaller().marshall(deleteAutoScalingGroupRequest);
+        Request<DeleteAutoScalingGroupRequest> request = DeleteAutoScalingGroupRequestMarshaller.getInstance().marshall(deleteAutoScalingGroupRequest);
         invoke(request, null);
     }
     
@@ -661,7 +668,7 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public void createAutoScalingGroup(CreateAutoScalingGroupRequest createAutoScalingGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateAutoScalingGroupRequest> request = new CreateAutoScalingGroupRequestMarshaller().marshall(createAutoScalingGroupRequest);
+        Request<CreateAutoScalingGroupRequest> request = CreateAutoScalingGroupRequestMarshaller.getInstance().marshall(createAutoScalingGroupRequest);
         invoke(request, null);
     }
     
@@ -696,8 +703,8 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public DescribeAutoScalingInstancesResult describeAutoScalingInstances(DescribeAutoScalingInstancesRequest describeAutoScalingInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeAutoScalingInstancesRequest> request = new DescribeAutoScalingInstancesRequestMarshaller().marshall(describeAutoScalingInstancesRequest);
-        return invoke(request, new DescribeAutoScalingInstancesResultStaxUnmarshaller());
+        Request<DescribeAutoScalingInstancesRequest> request = DescribeAutoScalingInstancesRequestMarshaller.getInstance().marshall(describeAutoScalingInstancesRequest);
+        return invoke(request, DescribeAutoScalingInstancesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -726,7 +733,7 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public void deleteLaunchConfiguration(DeleteLaunchConfigurationRequest deleteLaunchConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteLaunchConfigurationRequest> request = new DeleteLaunchConfigurationRequestMarshaller().marshall(deleteLaunchConfigurationRequest);
+        Request<DeleteLaunchConfigurationRequest> request = DeleteLaunchConfigurationRequestMarshaller.getInstance().marshall(deleteLaunchConfigurationRequest);
         invoke(request, null);
     }
     
@@ -756,8 +763,8 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public PutScalingPolicyResult putScalingPolicy(PutScalingPolicyRequest putScalingPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<PutScalingPolicyRequest> request = new PutScalingPolicyRequestMarshaller().marshall(putScalingPolicyRequest);
-        return invoke(request, new PutScalingPolicyResultStaxUnmarshaller());
+        Request<PutScalingPolicyRequest> request = PutScalingPolicyRequestMarshaller.getInstance().marshall(putScalingPolicyRequest);
+        return invoke(request, PutScalingPolicyResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -779,7 +786,7 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public void setInstanceHealth(SetInstanceHealthRequest setInstanceHealthRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<SetInstanceHealthRequest> request = new SetInstanceHealthRequestMarshaller().marshall(setInstanceHealthRequest);
+        Request<SetInstanceHealthRequest> request = SetInstanceHealthRequestMarshaller.getInstance().marshall(setInstanceHealthRequest);
         invoke(request, null);
     }
     
@@ -823,7 +830,7 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public void updateAutoScalingGroup(UpdateAutoScalingGroupRequest updateAutoScalingGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<UpdateAutoScalingGroupRequest> request = new UpdateAutoScalingGroupRequestMarshaller().marshall(updateAutoScalingGroupRequest);
+        Request<UpdateAutoScalingGroupRequest> request = UpdateAutoScalingGroupRequestMarshaller.getInstance().marshall(updateAutoScalingGroupRequest);
         invoke(request, null);
     }
     
@@ -853,8 +860,8 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public DescribeScheduledActionsResult describeScheduledActions(DescribeScheduledActionsRequest describeScheduledActionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeScheduledActionsRequest> request = new DescribeScheduledActionsRequestMarshaller().marshall(describeScheduledActionsRequest);
-        return invoke(request, new DescribeScheduledActionsResultStaxUnmarshaller());
+        Request<DescribeScheduledActionsRequest> request = DescribeScheduledActionsRequestMarshaller.getInstance().marshall(describeScheduledActionsRequest);
+        return invoke(request, DescribeScheduledActionsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -889,7 +896,7 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public void suspendProcesses(SuspendProcessesRequest suspendProcessesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<SuspendProcessesRequest> request = new SuspendProcessesRequestMarshaller().marshall(suspendProcessesRequest);
+        Request<SuspendProcessesRequest> request = SuspendProcessesRequestMarshaller.getInstance().marshall(suspendProcessesRequest);
         invoke(request, null);
     }
     
@@ -913,7 +920,7 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public void resumeProcesses(ResumeProcessesRequest resumeProcessesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ResumeProcessesRequest> request = new ResumeProcessesRequestMarshaller().marshall(resumeProcessesRequest);
+        Request<ResumeProcessesRequest> request = ResumeProcessesRequestMarshaller.getInstance().marshall(resumeProcessesRequest);
         invoke(request, null);
     }
     
@@ -945,7 +952,7 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public void createLaunchConfiguration(CreateLaunchConfigurationRequest createLaunchConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateLaunchConfigurationRequest> request = new CreateLaunchConfigurationRequestMarshaller().marshall(createLaunchConfigurationRequest);
+        Request<CreateLaunchConfigurationRequest> request = CreateLaunchConfigurationRequestMarshaller.getInstance().marshall(createLaunchConfigurationRequest);
         invoke(request, null);
     }
     
@@ -971,7 +978,7 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
      */
     public void disableMetricsCollection(DisableMetricsCollectionRequest disableMetricsCollectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DisableMetricsCollectionRequest> request = new DisableMetricsCollectionRequestMarshaller().marshall(disableMetricsCollectionRequest);
+        Request<DisableMetricsCollectionRequest> request = DisableMetricsCollectionRequestMarshaller.getInstance().marshall(disableMetricsCollectionRequest);
         invoke(request, null);
     }
     
@@ -1252,7 +1259,6 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements A
 
         
         StaxResponseHandler<X> responseHandler = new StaxResponseHandler<X>(unmarshaller);
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
 
         ExecutionContext executionContext = createExecutionContext();
         return (X)client.execute(request, responseHandler, errorResponseHandler, executionContext);
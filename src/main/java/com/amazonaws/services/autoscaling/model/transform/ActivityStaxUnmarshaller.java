@@ -91,9 +91,8 @@ public class ActivityStaxUnmarshaller implements Unmarshaller<Activity, StaxUnma
         }
     }
 
-    private static ActivityStaxUnmarshaller instance;
+    private static final ActivityStaxUnmarshaller instance = new ActivityStaxUnmarshaller();
     public static ActivityStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ActivityStaxUnmarshaller();
         return instance;
     }
 }
@@ -59,9 +59,8 @@ public class AdjustmentTypeStaxUnmarshaller implements Unmarshaller<AdjustmentTy
         }
     }
 
-    private static AdjustmentTypeStaxUnmarshaller instance;
+    private static final AdjustmentTypeStaxUnmarshaller instance = new AdjustmentTypeStaxUnmarshaller();
     public static AdjustmentTypeStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new AdjustmentTypeStaxUnmarshaller();
         return instance;
     }
 }
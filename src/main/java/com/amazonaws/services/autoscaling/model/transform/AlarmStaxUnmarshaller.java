@@ -63,9 +63,8 @@ public class AlarmStaxUnmarshaller implements Unmarshaller<Alarm, StaxUnmarshall
         }
     }
 
-    private static AlarmStaxUnmarshaller instance;
+    private static final AlarmStaxUnmarshaller instance = new AlarmStaxUnmarshaller();
     public static AlarmStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new AlarmStaxUnmarshaller();
         return instance;
     }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.autoscaling.model.AlreadyExistsException;
 public class AlreadyExistsExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public AlreadyExistsExceptionUnmarshaller() {
-        super(AlreadyExistsException.class);
+        super(AlreadyExistsException.class, "AlreadyExists");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -123,9 +123,8 @@ public class AutoScalingGroupStaxUnmarshaller implements Unmarshaller<AutoScalin
         }
     }
 
-    private static AutoScalingGroupStaxUnmarshaller instance;
+    private static final AutoScalingGroupStaxUnmarshaller instance = new AutoScalingGroupStaxUnmarshaller();
     public static AutoScalingGroupStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new AutoScalingGroupStaxUnmarshaller();
         return instance;
     }
 }
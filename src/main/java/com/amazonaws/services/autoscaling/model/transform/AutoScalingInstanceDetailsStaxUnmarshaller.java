@@ -79,9 +79,8 @@ public class AutoScalingInstanceDetailsStaxUnmarshaller implements Unmarshaller<
         }
     }
 
-    private static AutoScalingInstanceDetailsStaxUnmarshaller instance;
+    private static final AutoScalingInstanceDetailsStaxUnmarshaller instance = new AutoScalingInstanceDetailsStaxUnmarshaller();
     public static AutoScalingInstanceDetailsStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new AutoScalingInstanceDetailsStaxUnmarshaller();
         return instance;
     }
 }
@@ -67,9 +67,8 @@ public class BlockDeviceMappingStaxUnmarshaller implements Unmarshaller<BlockDev
         }
     }
 
-    private static BlockDeviceMappingStaxUnmarshaller instance;
+    private static final BlockDeviceMappingStaxUnmarshaller instance = new BlockDeviceMappingStaxUnmarshaller();
     public static BlockDeviceMappingStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new BlockDeviceMappingStaxUnmarshaller();
         return instance;
     }
 }
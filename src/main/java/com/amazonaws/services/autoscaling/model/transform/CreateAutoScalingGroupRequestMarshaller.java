@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.autoscaling.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,9 @@ import com.amazonaws.util.StringUtils;
  */
 public class CreateAutoScalingGroupRequestMarshaller implements Marshaller<Request<CreateAutoScalingGroupRequest>, CreateAutoScalingGroupRequest> {
 
+    private static final ParameterNameTable AVAILABILITY_ZONES_MEMBER_NAMES = new ParameterNameTable("AvailabilityZones.member.", "");
+    private static final ParameterNameTable LOAD_BALANCER_NAMES_MEMBER_NAMES = new ParameterNameTable("LoadBalancerNames.member.", "");
+
     public Request<CreateAutoScalingGroupRequest> marshall(CreateAutoScalingGroupRequest createAutoScalingGroupRequest) {
         Request<CreateAutoScalingGroupRequest> request = new DefaultRequest<CreateAutoScalingGroupRequest>(createAutoScalingGroupRequest, "AmazonAutoScaling");
         request.addParameter("Action", "CreateAutoScalingGroup");
@@ -69,7 +73,7 @@ public class CreateAutoScalingGroupRequestMarshaller implements Marshaller<Reque
 
             for (String availabilityZonesListValue : availabilityZonesList) {
                 if (availabilityZonesListValue != null) {
-                    request.addParameter("AvailabilityZones.member." + availabilityZonesListIndex, StringUtils.fromString(availabilityZonesListValue));
+                    request.addParameter(AVAILABILITY_ZONES_MEMBER_NAMES.get(availabilityZonesListIndex), StringUtils.fromString(availabilityZonesListValue));
                 }
                 availabilityZonesListIndex++;
             }
@@ -80,7 +84,7 @@ public class CreateAutoScalingGroupRequestMarshaller implements Marshaller<Reque
 
             for (String loadBalancerNamesListValue : loadBalancerNamesList) {
                 if (loadBalancerNamesListValue != null) {
-                    request.addParameter("LoadBalancerNames.member." + loadBalancerNamesListIndex, StringUtils.fromString(loadBalancerNamesListValue));
+                    request.addParameter(LOAD_BALANCER_NAMES_MEMBER_NAMES.get(loadBalancerNamesListIndex), StringUtils.fromString(loadBalancerNamesListValue));
                 }
                 loadBalancerNamesListIndex++;
             }
@@ -109,4 +113,9 @@ public class CreateAutoScalingGroupRequestMarshaller implements Marshaller<Reque
 
         return request;
     }
+
+    private static final CreateAutoScalingGroupRequestMarshaller instance = new CreateAutoScalingGroupRequestMarshaller();
+    public static CreateAutoScalingGroupRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.autoscaling.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,12 @@ import com.amazonaws.util.StringUtils;
  */
 public class CreateLaunchConfigurationRequestMarshaller implements Marshaller<Request<CreateLaunchConfigurationRequest>, CreateLaunchConfigurationRequest> {
 
+    private static final ParameterNameTable SECURITY_GROUPS_MEMBER_NAMES = new ParameterNameTable("SecurityGroups.member.", "");
+    private static final ParameterNameTable BLOCK_DEVICE_MAPPINGS_MEMBER_VIRTUAL_NAME_NAMES = new ParameterNameTable("BlockDeviceMappings.member.", ".VirtualName");
+    private static final ParameterNameTable BLOCK_DEVICE_MAPPINGS_MEMBER_DEVICE_NAME_NAMES = new ParameterNameTable("BlockDeviceMappings.member.", ".DeviceName");
+    private static final ParameterNameTable BLOCK_DEVICE_MAPPINGS_MEMBER_EBS_SNAPSHOT_ID_NAMES = new ParameterNameTable("BlockDeviceMappings.member.", ".Ebs.SnapshotId");
+    private static final ParameterNameTable BLOCK_DEVICE_MAPPINGS_MEMBER_EBS_VOLUME_SIZE_NAMES = new ParameterNameTable("BlockDeviceMappings.member.", ".Ebs.VolumeSize");
+
     public Request<CreateLaunchConfigurationRequest> marshall(CreateLaunchConfigurationRequest createLaunchConfigurationRequest) {
         Request<CreateLaunchConfigurationRequest> request = new DefaultRequest<CreateLaunchConfigurationRequest>(createLaunchConfigurationRequest, "AmazonAutoScaling");
         request.addParameter("Action", "CreateLaunchConfiguration");
@@ -54,7 +61,7 @@ public class CreateLaunchConfigurationRequestMarshaller implements Marshaller<Re
 
             for (String securityGroupsListValue : securityGroupsList) {
                 if (securityGroupsListValue != null) {
-                    request.addParameter("SecurityGroups.member." + securityGroupsListIndex, StringUtils.fromString(securityGroupsListValue));
+                    request.addParameter(SECURITY_GROUPS_MEMBER_NAMES.get(securityGroupsListIndex), StringUtils.fromString(securityGroupsListValue));
                 }
                 securityGroupsListIndex++;
             }
@@ -86,24 +93,24 @@ public class CreateLaunchConfigurationRequestMarshaller implements Marshaller<Re
             for (BlockDeviceMapping blockDeviceMappingsListValue : blockDeviceMappingsList) {
                 if (blockDeviceMappingsListValue != null) {
                     if (blockDeviceMappingsListValue.getVirtualName() != null) {
-                        request.addParameter("BlockDeviceMappings.member." + blockDeviceMappingsListIndex + ".VirtualName", StringUtils.fromString(blockDeviceMappingsListValue.getVirtualName()));
+                        request.addParameter(BLOCK_DEVICE_MAPPINGS_MEMBER_VIRTUAL_NAME_NAMES.get(blockDeviceMappingsListIndex), StringUtils.fromString(blockDeviceMappingsListValue.getVirtualName()));
                     }
                 }
                 if (blockDeviceMappingsListValue != null) {
                     if (blockDeviceMappingsListValue.getDeviceName() != null) {
-                        request.addParameter("BlockDeviceMappings.member." + blockDeviceMappingsListIndex + ".DeviceName", StringUtils.fromString(blockDeviceMappingsListValue.getDeviceName()));
+                        request.addParameter(BLOCK_DEVICE_MAPPINGS_MEMBER_DEVICE_NAME_NAMES.get(blockDeviceMappingsListIndex), StringUtils.fromString(blockDeviceMappingsListValue.getDeviceName()));
                     }
                 }
                 if (blockDeviceMappingsListValue != null) {
                     Ebs ebs = blockDeviceMappingsListValue.getEbs();
                     if (ebs != null) {
                         if (ebs.getSnapshotId() != null) {
-                            request.addParameter("BlockDeviceMappings.member." + blockDeviceMappingsListIndex + ".Ebs.SnapshotId", StringUtils.fromString(ebs.getSnapshotId()));
+                            request.addParameter(BLOCK_DEVICE_MAPPINGS_MEMBER_EBS_SNAPSHOT_ID_NAMES.get(blockDeviceMappingsListIndex), StringUtils.fromString(ebs.getSnapshotId()));
                         }
                     }
                     if (ebs != null) {
                         if (ebs.getVolumeSize() != null) {
-                            request.addParameter("BlockDeviceMappings.member." + blockDeviceMappingsListIndex + ".Ebs.VolumeSize", StringUtils.fromInteger(ebs.getVolumeSize()));
+                            request.addParameter(BLOCK_DEVICE_MAPPINGS_MEMBER_EBS_VOLUME_SIZE_NAMES.get(blockDeviceMappingsListIndex), StringUtils.fromInteger(ebs.getVolumeSize()));
                         }
                     }
                 }
@@ -123,4 +130,9 @@ public class CreateLaunchConfigurationRequestMarshaller implements Marshaller<Re
 
         return request;
     }
+
+    private static final CreateLaunchConfigurationRequestMarshaller instance = new CreateLaunchConfigurationRequestMarshaller();
+    public static CreateLaunchConfigurationRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -42,4 +42,9 @@ public class DeleteAutoScalingGroupRequestMarshaller implements Marshaller<Reque
 
         return request;
     }
+
+    private static final DeleteAutoScalingGroupRequestMarshaller instance = new DeleteAutoScalingGroupRequestMarshaller();
+    public static DeleteAutoScalingGroupRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -42,4 +42,9 @@ public class DeleteLaunchConfigurationRequestMarshaller implements Marshaller<Re
 
         return request;
     }
+
+    private static final DeleteLaunchConfigurationRequestMarshaller instance = new DeleteLaunchConfigurationRequestMarshaller();
+    public static DeleteLaunchConfigurationRequestMarshaller getInstance() {
+        return instance;
+    }
 }
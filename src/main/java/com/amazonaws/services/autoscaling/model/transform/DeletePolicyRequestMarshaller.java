@@ -47,4 +47,9 @@ public class DeletePolicyRequestMarshaller implements Marshaller<Request<DeleteP
 
         return request;
     }
+
+    private static final DeletePolicyRequestMarshaller instance = new DeletePolicyRequestMarshaller();
+    public static DeletePolicyRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -47,4 +47,9 @@ public class DeleteScheduledActionRequestMarshaller implements Marshaller<Reques
 
         return request;
     }
+
+    private static final DeleteScheduledActionRequestMarshaller instance = new DeleteScheduledActionRequestMarshaller();
+    public static DeleteScheduledActionRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -37,4 +37,9 @@ public class DescribeAdjustmentTypesRequestMarshaller implements Marshaller<Requ
 
         return request;
     }
+
+    private static final DescribeAdjustmentTypesRequestMarshaller instance = new DescribeAdjustmentTypesRequestMarshaller();
+    public static DescribeAdjustmentTypesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class DescribeAdjustmentTypesResultStaxUnmarshaller implements Unmarshall
         }
     }
 
-    private static DescribeAdjustmentTypesResultStaxUnmarshaller instance;
+    private static final DescribeAdjustmentTypesResultStaxUnmarshaller instance = new DescribeAdjustmentTypesResultStaxUnmarshaller();
     public static DescribeAdjustmentTypesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeAdjustmentTypesResultStaxUnmarshaller();
         return instance;
     }
 }
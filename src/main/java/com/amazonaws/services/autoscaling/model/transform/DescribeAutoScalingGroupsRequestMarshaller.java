@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.autoscaling.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeAutoScalingGroupsRequestMarshaller implements Marshaller<Request<DescribeAutoScalingGroupsRequest>, DescribeAutoScalingGroupsRequest> {
 
+    private static final ParameterNameTable AUTO_SCALING_GROUP_NAMES_MEMBER_NAMES = new ParameterNameTable("AutoScalingGroupNames.member.", "");
+
     public Request<DescribeAutoScalingGroupsRequest> marshall(DescribeAutoScalingGroupsRequest describeAutoScalingGroupsRequest) {
         Request<DescribeAutoScalingGroupsRequest> request = new DefaultRequest<DescribeAutoScalingGroupsRequest>(describeAutoScalingGroupsRequest, "AmazonAutoScaling");
         request.addParameter("Action", "DescribeAutoScalingGroups");
@@ -39,7 +42,7 @@ public class DescribeAutoScalingGroupsRequestMarshaller implements Marshaller<Re
 
             for (String autoScalingGroupNamesListValue : autoScalingGroupNamesList) {
                 if (autoScalingGroupNamesListValue != null) {
-                    request.addParameter("AutoScalingGroupNames.member." + autoScalingGroupNamesListIndex, StringUtils.fromString(autoScalingGroupNamesListValue));
+                    request.addParameter(AUTO_SCALING_GROUP_NAMES_MEMBER_NAMES.get(autoScalingGroupNamesListIndex), StringUtils.fromString(autoScalingGroupNamesListValue));
                 }
                 autoScalingGroupNamesListIndex++;
             }
@@ -58,4 +61,9 @@ public class DescribeAutoScalingGroupsRequestMarshaller implements Marshaller<Re
 
         return request;
     }
+
+    private static final DescribeAutoScalingGroupsRequestMarshaller instance = new DescribeAutoScalingGroupsRequestMarshaller();
+    public static DescribeAutoScalingGroupsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
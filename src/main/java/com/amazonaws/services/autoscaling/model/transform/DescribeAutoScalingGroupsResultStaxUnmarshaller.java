@@ -63,9 +63,8 @@ public class DescribeAutoScalingGroupsResultStaxUnmarshaller implements Unmarsha
         }
     }
 
-    private static DescribeAutoScalingGroupsResultStaxUnmarshaller instance;
+    private static final DescribeAutoScalingGroupsResultStaxUnmarshaller instance = new DescribeAutoScalingGroupsResultStaxUnmarshaller();
     public static DescribeAutoScalingGroupsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeAutoScalingGroupsResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.autoscaling.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeAutoScalingInstancesRequestMarshaller implements Marshaller<Request<DescribeAutoScalingInstancesRequest>, DescribeAutoScalingInstancesRequest> {
 
+    private static final ParameterNameTable INSTANCE_IDS_MEMBER_NAMES = new ParameterNameTable("InstanceIds.member.", "");
+
     public Request<DescribeAutoScalingInstancesRequest> marshall(DescribeAutoScalingInstancesRequest describeAutoScalingInstancesRequest) {
         Request<DescribeAutoScalingInstancesRequest> request = new DefaultRequest<DescribeAutoScalingInstancesRequest>(describeAutoScalingInstancesRequest, "AmazonAutoScaling");
         request.addParameter("Action", "DescribeAutoScalingInstances");
@@ -39,7 +42,7 @@ public class DescribeAutoScalingInstancesRequestMarshaller implements Marshaller
 
             for (String instanceIdsListValue : instanceIdsList) {
                 if (instanceIdsListValue != null) {
-                    request.addParameter("InstanceIds.member." + instanceIdsListIndex, StringUtils.fromString(instanceIdsListValue));
+                    request.addParameter(INSTANCE_IDS_MEMBER_NAMES.get(instanceIdsListIndex), StringUtils.fromString(instanceIdsListValue));
                 }
                 instanceIdsListIndex++;
             }
@@ -58,4 +61,9 @@ public class DescribeAutoScalingInstancesRequestMarshaller implements Marshaller
 
         return request;
     }
+
+    private static final DescribeAutoScalingInstancesRequestMarshaller instance = new DescribeAutoScalingInstancesRequestMarshaller();
+    public static DescribeAutoScalingInstancesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
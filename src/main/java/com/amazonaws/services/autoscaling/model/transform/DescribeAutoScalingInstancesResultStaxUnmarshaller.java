@@ -63,9 +63,8 @@ public class DescribeAutoScalingInstancesResultStaxUnmarshaller implements Unmar
         }
     }
 
-    private static DescribeAutoScalingInstancesResultStaxUnmarshaller instance;
+    private static final DescribeAutoScalingInstancesResultStaxUnmarshaller instance = new DescribeAutoScalingInstancesResultStaxUnmarshaller();
     public static DescribeAutoScalingInstancesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeAutoScalingInstancesResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.autoscaling.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeLaunchConfigurationsRequestMarshaller implements Marshaller<Request<DescribeLaunchConfigurationsRequest>, DescribeLaunchConfigurationsRequest> {
 
+    private static final ParameterNameTable LAUNCH_CONFIGURATION_NAMES_MEMBER_NAMES = new ParameterNameTable("LaunchConfigurationNames.member.", "");
+
     public Request<DescribeLaunchConfigurationsRequest> marshall(DescribeLaunchConfigurationsRequest describeLaunchConfigurationsRequest) {
         Request<DescribeLaunchConfigurationsRequest> request = new DefaultRequest<DescribeLaunchConfigurationsRequest>(describeLaunchConfigurationsRequest, "AmazonAutoScaling");
         request.addParameter("Action", "DescribeLaunchConfigurations");
@@ -39,7 +42,7 @@ public class DescribeLaunchConfigurationsRequestMarshaller implements Marshaller
 
             for (String launchConfigurationNamesListValue : launchConfigurationNamesList) {
                 if (launchConfigurationNamesListValue != null) {
-                    request.addParameter("LaunchConfigurationNames.member." + launchConfigurationNamesListIndex, StringUtils.fromString(launchConfigurationNamesListValue));
+                    request.addParameter(LAUNCH_CONFIGURATION_NAMES_MEMBER_NAMES.get(launchConfigurationNamesListIndex), StringUtils.fromString(launchConfigurationNamesListValue));
                 }
                 launchConfigurationNamesListIndex++;
             }
@@ -58,4 +61,9 @@ public class DescribeLaunchConfigurationsRequestMarshaller implements Marshaller
 
         return request;
     }
+
+    private static final DescribeLaunchConfigurationsRequestMarshaller instance = new DescribeLaunchConfigurationsRequestMarshaller();
+    public static DescribeLaunchConfigurationsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
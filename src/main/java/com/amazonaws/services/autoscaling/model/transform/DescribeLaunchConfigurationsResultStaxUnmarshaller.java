@@ -63,9 +63,8 @@ public class DescribeLaunchConfigurationsResultStaxUnmarshaller implements Unmar
         }
     }
 
-    private static DescribeLaunchConfigurationsResultStaxUnmarshaller instance;
+    private static final DescribeLaunchConfigurationsResultStaxUnmarshaller instance = new DescribeLaunchConfigurationsResultStaxUnmarshaller();
     public static DescribeLaunchConfigurationsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeLaunchConfigurationsResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -37,4 +37,9 @@ public class DescribeMetricCollectionTypesRequestMarshaller implements Marshalle
 
         return request;
     }
+
+    private static final DescribeMetricCollectionTypesRequestMarshaller instance = new DescribeMetricCollectionTypesRequestMarshaller();
+    public static DescribeMetricCollectionTypesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
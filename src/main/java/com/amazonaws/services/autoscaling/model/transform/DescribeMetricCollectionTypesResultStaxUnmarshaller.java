@@ -63,9 +63,8 @@ public class DescribeMetricCollectionTypesResultStaxUnmarshaller implements Unma
         }
     }
 
-    private static DescribeMetricCollectionTypesResultStaxUnmarshaller instance;
+    private static final DescribeMetricCollectionTypesResultStaxUnmarshaller instance = new DescribeMetricCollectionTypesResultStaxUnmarshaller();
     public static DescribeMetricCollectionTypesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeMetricCollectionTypesResultStaxUnmarshaller();
         return instance;
     }
 }
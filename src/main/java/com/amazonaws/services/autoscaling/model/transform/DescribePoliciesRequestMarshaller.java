@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.autoscaling.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribePoliciesRequestMarshaller implements Marshaller<Request<DescribePoliciesRequest>, DescribePoliciesRequest> {
 
+    private static final ParameterNameTable POLICY_NAMES_MEMBER_NAMES = new ParameterNameTable("PolicyNames.member.", "");
+
     public Request<DescribePoliciesRequest> marshall(DescribePoliciesRequest describePoliciesRequest) {
         Request<DescribePoliciesRequest> request = new DefaultRequest<DescribePoliciesRequest>(describePoliciesRequest, "AmazonAutoScaling");
         request.addParameter("Action", "DescribePolicies");
@@ -44,7 +47,7 @@ public class DescribePoliciesRequestMarshaller implements Marshaller<Request<Des
 
             for (String policyNamesListValue : policyNamesList) {
                 if (policyNamesListValue != null) {
-                    request.addParameter("PolicyNames.member." + policyNamesListIndex, StringUtils.fromString(policyNamesListValue));
+                    request.addParameter(POLICY_NAMES_MEMBER_NAMES.get(policyNamesListIndex), StringUtils.fromString(policyNamesListValue));
                 }
                 policyNamesListIndex++;
             }
@@ -63,4 +66,9 @@ public class DescribePoliciesRequestMarshaller implements Marshaller<Request<Des
 
         return request;
     }
+
+    private static final DescribePoliciesRequestMarshaller instance = new DescribePoliciesRequestMarshaller();
+    public static DescribePoliciesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
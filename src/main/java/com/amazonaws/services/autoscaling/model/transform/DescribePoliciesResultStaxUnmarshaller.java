@@ -63,9 +63,8 @@ public class DescribePoliciesResultStaxUnmarshaller implements Unmarshaller<Desc
         }
     }
 
-    private static DescribePoliciesResultStaxUnmarshaller instance;
+    private static final DescribePoliciesResultStaxUnmarshaller instance = new DescribePoliciesResultStaxUnmarshaller();
     public static DescribePoliciesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribePoliciesResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.autoscaling.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeScalingActivitiesRequestMarshaller implements Marshaller<Request<DescribeScalingActivitiesRequest>, DescribeScalingActivitiesRequest> {
 
+    private static final ParameterNameTable ACTIVITY_IDS_MEMBER_NAMES = new ParameterNameTable("ActivityIds.member.", "");
+
     public Request<DescribeScalingActivitiesRequest> marshall(DescribeScalingActivitiesRequest describeScalingActivitiesRequest) {
         Request<DescribeScalingActivitiesRequest> request = new DefaultRequest<DescribeScalingActivitiesRequest>(describeScalingActivitiesRequest, "AmazonAutoScaling");
         request.addParameter("Action", "DescribeScalingActivities");
@@ -39,7 +42,7 @@ public class DescribeScalingActivitiesRequestMarshaller implements Marshaller<Re
 
             for (String activityIdsListValue : activityIdsList) {
                 if (activityIdsListValue != null) {
-                    request.addParameter("ActivityIds.member." + activityIdsListIndex, StringUtils.fromString(activityIdsListValue));
+                    request.addParameter(ACTIVITY_IDS_MEMBER_NAMES.get(activityIdsListIndex), StringUtils.fromString(activityIdsListValue));
                 }
                 activityIdsListIndex++;
             }
@@ -63,4 +66,9 @@ public class DescribeScalingActivitiesRequestMarshaller implements Marshaller<Re
 
         return request;
     }
+
+    private static final DescribeScalingActivitiesRequestMarshaller instance = new DescribeScalingActivitiesRequestMarshaller();
+    public static DescribeScalingActivitiesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
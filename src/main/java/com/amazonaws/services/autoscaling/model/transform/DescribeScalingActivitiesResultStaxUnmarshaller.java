@@ -63,9 +63,8 @@ public class DescribeScalingActivitiesResultStaxUnmarshaller implements Unmarsha
         }
     }
 
-    private static DescribeScalingActivitiesResultStaxUnmarshaller instance;
+    private static final DescribeScalingActivitiesResultStaxUnmarshaller instance = new DescribeScalingActivitiesResultStaxUnmarshaller();
     public static DescribeScalingActivitiesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeScalingActivitiesResultStaxUnmarshaller();
         return instance;
     }
 }
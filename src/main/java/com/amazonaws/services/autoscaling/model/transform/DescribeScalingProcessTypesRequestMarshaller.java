@@ -37,4 +37,9 @@ public class DescribeScalingProcessTypesRequestMarshaller implements Marshaller<
 
         return request;
     }
+
+    private static final DescribeScalingProcessTypesRequestMarshaller instance = new DescribeScalingProcessTypesRequestMarshaller();
+    public static DescribeScalingProcessTypesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
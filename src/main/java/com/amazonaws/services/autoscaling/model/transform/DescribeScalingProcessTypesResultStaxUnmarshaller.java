@@ -59,9 +59,8 @@ public class DescribeScalingProcessTypesResultStaxUnmarshaller implements Unmars
         }
     }
 
-    private static DescribeScalingProcessTypesResultStaxUnmarshaller instance;
+    private static final DescribeScalingProcessTypesResultStaxUnmarshaller instance = new DescribeScalingProcessTypesResultStaxUnmarshaller();
     public static DescribeScalingProcessTypesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeScalingProcessTypesResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.autoscaling.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeScheduledActionsRequestMarshaller implements Marshaller<Request<DescribeScheduledActionsRequest>, DescribeScheduledActionsRequest> {
 
+    private static final ParameterNameTable SCHEDULED_ACTION_NAMES_MEMBER_NAMES = new ParameterNameTable("ScheduledActionNames.member.", "");
+
     public Request<DescribeScheduledActionsRequest> marshall(DescribeScheduledActionsRequest describeScheduledActionsRequest) {
         Request<DescribeScheduledActionsRequest> request = new DefaultRequest<DescribeScheduledActionsRequest>(describeScheduledActionsRequest, "AmazonAutoScaling");
         request.addParameter("Action", "DescribeScheduledActions");
@@ -44,7 +47,7 @@ public class DescribeScheduledActionsRequestMarshaller implements Marshaller<Req
 
             for (String scheduledActionNamesListValue : scheduledActionNamesList) {
                 if (scheduledActionNamesListValue != null) {
-                    request.addParameter("ScheduledActionNames.member." + scheduledActionNamesListIndex, StringUtils.fromString(scheduledActionNamesListValue));
+                    request.addParameter(SCHEDULED_ACTION_NAMES_MEMBER_NAMES.get(scheduledActionNamesListIndex), StringUtils.fromString(scheduledActionNamesListValue));
                 }
                 scheduledActionNamesListIndex++;
             }
@@ -73,4 +76,9 @@ public class DescribeScheduledActionsRequestMarshaller implements Marshaller<Req
 
         return request;
     }
+
+    private static final DescribeScheduledActionsRequestMarshaller instance = new DescribeScheduledActionsRequestMarshaller();
+    public static DescribeScheduledActionsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -63,9 +63,8 @@ public class DescribeScheduledActionsResultStaxUnmarshaller implements Unmarshal
         }
     }
 
-    private static DescribeScheduledActionsResultStaxUnmarshaller instance;
+    private static final DescribeScheduledActionsResultStaxUnmarshaller instance = new DescribeScheduledActionsResultStaxUnmarshaller();
     public static DescribeScheduledActionsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeScheduledActionsResultStaxUnmarshaller();
         return instance;
     }
 }
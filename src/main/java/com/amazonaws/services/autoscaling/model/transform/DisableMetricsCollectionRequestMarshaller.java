@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.autoscaling.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class DisableMetricsCollectionRequestMarshaller implements Marshaller<Request<DisableMetricsCollectionRequest>, DisableMetricsCollectionRequest> {
 
+    private static final ParameterNameTable METRICS_MEMBER_NAMES = new ParameterNameTable("Metrics.member.", "");
+
     public Request<DisableMetricsCollectionRequest> marshall(DisableMetricsCollectionRequest disableMetricsCollectionRequest) {
         Request<DisableMetricsCollectionRequest> request = new DefaultRequest<DisableMetricsCollectionRequest>(disableMetricsCollectionRequest, "AmazonAutoScaling");
         request.addParameter("Action", "DisableMetricsCollection");
@@ -44,7 +47,7 @@ public class DisableMetricsCollectionRequestMarshaller implements Marshaller<Req
 
             for (String metricsListValue : metricsList) {
                 if (metricsListValue != null) {
-                    request.addParameter("Metrics.member." + metricsListIndex, StringUtils.fromString(metricsListValue));
+                    request.addParameter(METRICS_MEMBER_NAMES.get(metricsListIndex), StringUtils.fromString(metricsListValue));
                 }
                 metricsListIndex++;
             }
@@ -53,4 +56,9 @@ public class DisableMetricsCollectionRequestMarshaller implements Marshaller<Req
 
         return request;
     }
+
+    private static final DisableMetricsCollectionRequestMarshaller instance = new DisableMetricsCollectionRequestMarshaller();
+    public static DisableMetricsCollectionRequestMarshaller getInstance() {
+        return instance;
+    }
 }
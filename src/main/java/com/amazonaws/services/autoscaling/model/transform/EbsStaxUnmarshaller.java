@@ -63,9 +63,8 @@ public class EbsStaxUnmarshaller implements Unmarshaller<Ebs, StaxUnmarshallerCo
         }
     }
 
-    private static EbsStaxUnmarshaller instance;
+    private static final EbsStaxUnmarshaller instance = new EbsStaxUnmarshaller();
     public static EbsStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new EbsStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.autoscaling.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class EnableMetricsCollectionRequestMarshaller implements Marshaller<Request<EnableMetricsCollectionRequest>, EnableMetricsCollectionRequest> {
 
+    private static final ParameterNameTable METRICS_MEMBER_NAMES = new ParameterNameTable("Metrics.member.", "");
+
     public Request<EnableMetricsCollectionRequest> marshall(EnableMetricsCollectionRequest enableMetricsCollectionRequest) {
         Request<EnableMetricsCollectionRequest> request = new DefaultRequest<EnableMetricsCollectionRequest>(enableMetricsCollectionRequest, "AmazonAutoScaling");
         request.addParameter("Action", "EnableMetricsCollection");
@@ -44,7 +47,7 @@ public class EnableMetricsCollectionRequestMarshaller implements Marshaller<Requ
 
             for (String metricsListValue : metricsList) {
                 if (metricsListValue != null) {
-                    request.addParameter("Metrics.member." + metricsListIndex, StringUtils.fromString(metricsListValue));
+                    request.addParameter(METRICS_MEMBER_NAMES.get(metricsListIndex), StringUtils.fromString(metricsListValue));
                 }
                 metricsListIndex++;
             }
@@ -58,4 +61,9 @@ public class EnableMetricsCollectionRequestMarshaller implements Marshaller<Requ
 
         return request;
     }
+
+    private static final EnableMetricsCollectionRequestMarshaller instance = new EnableMetricsCollectionRequestMarshaller();
+    public static EnableMetricsCollectionRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -63,9 +63,8 @@ public class EnabledMetricStaxUnmarshaller implements Unmarshaller<EnabledMetric
         }
     }
 
-    private static EnabledMetricStaxUnmarshaller instance;
+    private static final EnabledMetricStaxUnmarshaller instance = new EnabledMetricStaxUnmarshaller();
     public static EnabledMetricStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new EnabledMetricStaxUnmarshaller();
         return instance;
     }
 }
@@ -52,4 +52,9 @@ public class ExecutePolicyRequestMarshaller implements Marshaller<Request<Execut
 
         return request;
     }
+
+    private static final ExecutePolicyRequestMarshaller instance = new ExecutePolicyRequestMarshaller();
+    public static ExecutePolicyRequestMarshaller getInstance() {
+        return instance;
+    }
 }
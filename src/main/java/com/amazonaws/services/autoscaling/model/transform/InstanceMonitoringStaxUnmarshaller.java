@@ -59,9 +59,8 @@ public class InstanceMonitoringStaxUnmarshaller implements Unmarshaller<Instance
         }
     }
 
-    private static InstanceMonitoringStaxUnmarshaller instance;
+    private static final InstanceMonitoringStaxUnmarshaller instance = new InstanceMonitoringStaxUnmarshaller();
     public static InstanceMonitoringStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new InstanceMonitoringStaxUnmarshaller();
         return instance;
     }
 }
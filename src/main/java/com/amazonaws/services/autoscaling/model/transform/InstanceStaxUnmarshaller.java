@@ -75,9 +75,8 @@ public class InstanceStaxUnmarshaller implements Unmarshaller<Instance, StaxUnma
         }
     }
 
-    private static InstanceStaxUnmarshaller instance;
+    private static final InstanceStaxUnmarshaller instance = new InstanceStaxUnmarshaller();
     public static InstanceStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new InstanceStaxUnmarshaller();
         return instance;
     }
 }
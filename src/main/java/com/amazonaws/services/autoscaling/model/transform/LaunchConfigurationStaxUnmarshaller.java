@@ -103,9 +103,8 @@ public class LaunchConfigurationStaxUnmarshaller implements Unmarshaller<LaunchC
         }
     }
 
-    private static LaunchConfigurationStaxUnmarshaller instance;
+    private static final LaunchConfigurationStaxUnmarshaller instance = new LaunchConfigurationStaxUnmarshaller();
     public static LaunchConfigurationStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new LaunchConfigurationStaxUnmarshaller();
         return instance;
     }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.autoscaling.model.LimitExceededException;
 public class LimitExceededExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public LimitExceededExceptionUnmarshaller() {
-        super(LimitExceededException.class);
+        super(LimitExceededException.class, "LimitExceeded");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
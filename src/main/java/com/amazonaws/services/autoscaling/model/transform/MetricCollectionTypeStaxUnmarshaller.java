@@ -59,9 +59,8 @@ public class MetricCollectionTypeStaxUnmarshaller implements Unmarshaller<Metric
         }
     }
 
-    private static MetricCollectionTypeStaxUnmarshaller instance;
+    private static final MetricCollectionTypeStaxUnmarshaller instance = new MetricCollectionTypeStaxUnmarshaller();
     public static MetricCollectionTypeStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new MetricCollectionTypeStaxUnmarshaller();
         return instance;
     }
 }
@@ -59,9 +59,8 @@ public class MetricGranularityTypeStaxUnmarshaller implements Unmarshaller<Metri
         }
     }
 
-    private static MetricGranularityTypeStaxUnmarshaller instance;
+    private static final MetricGranularityTypeStaxUnmarshaller instance = new MetricGranularityTypeStaxUnmarshaller();
     public static MetricGranularityTypeStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new MetricGranularityTypeStaxUnmarshaller();
         return instance;
     }
 }
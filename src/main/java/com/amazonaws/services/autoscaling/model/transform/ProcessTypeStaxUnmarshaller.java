@@ -59,9 +59,8 @@ public class ProcessTypeStaxUnmarshaller implements Unmarshaller<ProcessType, St
         }
     }
 
-    private static ProcessTypeStaxUnmarshaller instance;
+    private static final ProcessTypeStaxUnmarshaller instance = new ProcessTypeStaxUnmarshaller();
     public static ProcessTypeStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ProcessTypeStaxUnmarshaller();
         return instance;
     }
 }
@@ -62,4 +62,9 @@ public class PutScalingPolicyRequestMarshaller implements Marshaller<Request<Put
 
         return request;
     }
+
+    private static final PutScalingPolicyRequestMarshaller instance = new PutScalingPolicyRequestMarshaller();
+    public static PutScalingPolicyRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class PutScalingPolicyResultStaxUnmarshaller implements Unmarshaller<PutS
         }
     }
 
-    private static PutScalingPolicyResultStaxUnmarshaller instance;
+    private static final PutScalingPolicyResultStaxUnmarshaller instance = new PutScalingPolicyResultStaxUnmarshaller();
     public static PutScalingPolicyResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new PutScalingPolicyResultStaxUnmarshaller();
         return instance;
     }
 }
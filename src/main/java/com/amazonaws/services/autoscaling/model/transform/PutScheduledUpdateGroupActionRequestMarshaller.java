@@ -67,4 +67,9 @@ public class PutScheduledUpdateGroupActionRequestMarshaller implements Marshalle
 
         return request;
     }
+
+    private static final PutScheduledUpdateGroupActionRequestMarshaller instance = new PutScheduledUpdateGroupActionRequestMarshaller();
+    public static PutScheduledUpdateGroupActionRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.autoscaling.model.ResourceInUseException;
 public class ResourceInUseExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public ResourceInUseExceptionUnmarshaller() {
-        super(ResourceInUseException.class);
+        super(ResourceInUseException.class, "ResourceInUse");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
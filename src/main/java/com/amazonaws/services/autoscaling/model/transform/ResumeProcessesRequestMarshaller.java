@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.autoscaling.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class ResumeProcessesRequestMarshaller implements Marshaller<Request<ResumeProcessesRequest>, ResumeProcessesRequest> {
 
+    private static final ParameterNameTable SCALING_PROCESSES_MEMBER_NAMES = new ParameterNameTable("ScalingProcesses.member.", "");
+
     public Request<ResumeProcessesRequest> marshall(ResumeProcessesRequest resumeProcessesRequest) {
         Request<ResumeProcessesRequest> request = new DefaultRequest<ResumeProcessesRequest>(resumeProcessesRequest, "AmazonAutoScaling");
         request.addParameter("Action", "ResumeProcesses");
@@ -44,7 +47,7 @@ public class ResumeProcessesRequestMarshaller implements Marshaller<Request<Resu
 
             for (String scalingProcessesListValue : scalingProcessesList) {
                 if (scalingProcessesListValue != null) {
-                    request.addParameter("ScalingProcesses.member." + scalingProcessesListIndex, StringUtils.fromString(scalingProcessesListValue));
+                    request.addParameter(SCALING_PROCESSES_MEMBER_NAMES.get(scalingProcessesListIndex), StringUtils.fromString(scalingProcessesListValue));
                 }
                 scalingProcessesListIndex++;
             }
@@ -53,4 +56,9 @@ public class ResumeProcessesRequestMarshaller implements Marshaller<Request<Resu
 
         return request;
     }
+
+    private static final ResumeProcessesRequestMarshaller instance = new ResumeProcessesRequestMarshaller();
+    public static ResumeProcessesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.autoscaling.model.ScalingActivityInProgressExcepti
 public class ScalingActivityInProgressExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public ScalingActivityInProgressExceptionUnmarshaller() {
-        super(ScalingActivityInProgressException.class);
+        super(ScalingActivityInProgressException.class, "ScalingActivityInProgress");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
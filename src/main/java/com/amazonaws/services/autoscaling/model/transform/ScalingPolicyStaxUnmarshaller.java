@@ -83,9 +83,8 @@ public class ScalingPolicyStaxUnmarshaller implements Unmarshaller<ScalingPolicy
         }
     }
 
-    private static ScalingPolicyStaxUnmarshaller instance;
+    private static final ScalingPolicyStaxUnmarshaller instance = new ScalingPolicyStaxUnmarshaller();
     public static ScalingPolicyStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ScalingPolicyStaxUnmarshaller();
         return instance;
     }
 }
@@ -83,9 +83,8 @@ public class ScheduledUpdateGroupActionStaxUnmarshaller implements Unmarshaller<
         }
     }
 
-    private static ScheduledUpdateGroupActionStaxUnmarshaller instance;
+    private static final ScheduledUpdateGroupActionStaxUnmarshaller instance = new ScheduledUpdateGroupActionStaxUnmarshaller();
     public static ScheduledUpdateGroupActionStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ScheduledUpdateGroupActionStaxUnmarshaller();
         return instance;
     }
 }
@@ -52,4 +52,9 @@ public class SetDesiredCapacityRequestMarshaller implements Marshaller<Request<S
 
         return request;
     }
+
+    private static final SetDesiredCapacityRequestMarshaller instance = new SetDesiredCapacityRequestMarshaller();
+    public static SetDesiredCapacityRequestMarshaller getInstance() {
+        return instance;
+    }
 }
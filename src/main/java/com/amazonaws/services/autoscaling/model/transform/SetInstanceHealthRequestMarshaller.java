@@ -52,4 +52,9 @@ public class SetInstanceHealthRequestMarshaller implements Marshaller<Request<Se
 
         return request;
     }
+
+    private static final SetInstanceHealthRequestMarshaller instance = new SetInstanceHealthRequestMarshaller();
+    public static SetInstanceHealthRequestMarshaller getInstance() {
+        return instance;
+    }
 }
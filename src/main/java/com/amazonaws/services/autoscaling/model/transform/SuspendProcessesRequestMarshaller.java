@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.autoscaling.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class SuspendProcessesRequestMarshaller implements Marshaller<Request<SuspendProcessesRequest>, SuspendProcessesRequest> {
 
+    private static final ParameterNameTable SCALING_PROCESSES_MEMBER_NAMES = new ParameterNameTable("ScalingProcesses.member.", "");
+
     public Request<SuspendProcessesRequest> marshall(SuspendProcessesRequest suspendProcessesRequest) {
         Request<SuspendProcessesRequest> request = new DefaultRequest<SuspendProcessesRequest>(suspendProcessesRequest, "AmazonAutoScaling");
         request.addParameter("Action", "SuspendProcesses");
@@ -44,7 +47,7 @@ public class SuspendProcessesRequestMarshaller implements Marshaller<Request<Sus
 
             for (String scalingProcessesListValue : scalingProcessesList) {
                 if (scalingProcessesListValue != null) {
-                    request.addParameter("ScalingProcesses.member." + scalingProcessesListIndex, StringUtils.fromString(scalingProcessesListValue));
+                    request.addParameter(SCALING_PROCESSES_MEMBER_NAMES.get(scalingProcessesListIndex), StringUtils.fromString(scalingProcessesListValue));
                 }
                 scalingProcessesListIndex++;
             }
@@ -53,4 +56,9 @@ public class SuspendProcessesRequestMarshaller implements Marshaller<Request<Sus
 
         return request;
     }
+
+    private static final SuspendProcessesRequestMarshaller instance = new SuspendProcessesRequestMarshaller();
+    public static SuspendProcessesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
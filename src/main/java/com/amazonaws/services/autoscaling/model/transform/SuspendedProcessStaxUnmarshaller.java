@@ -63,9 +63,8 @@ public class SuspendedProcessStaxUnmarshaller implements Unmarshaller<SuspendedP
         }
     }
 
-    private static SuspendedProcessStaxUnmarshaller instance;
+    private static final SuspendedProcessStaxUnmarshaller instance = new SuspendedProcessStaxUnmarshaller();
     public static SuspendedProcessStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new SuspendedProcessStaxUnmarshaller();
         return instance;
     }
 }
@@ -47,4 +47,9 @@ public class TerminateInstanceInAutoScalingGroupRequestMarshaller implements Mar
 
         return request;
     }
+
+    private static final TerminateInstanceInAutoScalingGroupRequestMarshaller instance = new TerminateInstanceInAutoScalingGroupRequestMarshaller();
+    public static TerminateInstanceInAutoScalingGroupRequestMarshaller getInstance() {
+        return instance;
+    }
 }
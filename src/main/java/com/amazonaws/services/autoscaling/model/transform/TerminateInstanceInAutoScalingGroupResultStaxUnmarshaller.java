@@ -59,9 +59,8 @@ public class TerminateInstanceInAutoScalingGroupResultStaxUnmarshaller implement
         }
     }
 
-    private static TerminateInstanceInAutoScalingGroupResultStaxUnmarshaller instance;
+    private static final TerminateInstanceInAutoScalingGroupResultStaxUnmarshaller instance = new TerminateInstanceInAutoScalingGroupResultStaxUnmarshaller();
     public static TerminateInstanceInAutoScalingGroupResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new TerminateInstanceInAutoScalingGroupResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.autoscaling.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class UpdateAutoScalingGroupRequestMarshaller implements Marshaller<Request<UpdateAutoScalingGroupRequest>, UpdateAutoScalingGroupRequest> {
 
+    private static final ParameterNameTable AVAILABILITY_ZONES_MEMBER_NAMES = new ParameterNameTable("AvailabilityZones.member.", "");
+
     public Request<UpdateAutoScalingGroupRequest> marshall(UpdateAutoScalingGroupRequest updateAutoScalingGroupRequest) {
         Request<UpdateAutoScalingGroupRequest> request = new DefaultRequest<UpdateAutoScalingGroupRequest>(updateAutoScalingGroupRequest, "AmazonAutoScaling");
         request.addParameter("Action", "UpdateAutoScalingGroup");
@@ -69,7 +72,7 @@ public class UpdateAutoScalingGroupRequestMarshaller implements Marshaller<Reque
 
             for (String availabilityZonesListValue : availabilityZonesList) {
                 if (availabilityZonesListValue != null) {
-                    request.addParameter("AvailabilityZones.member." + availabilityZonesListIndex, StringUtils.fromString(availabilityZonesListValue));
+                    request.addParameter(AVAILABILITY_ZONES_MEMBER_NAMES.get(availabilityZonesListIndex), StringUtils.fromString(availabilityZonesListValue));
                 }
                 availabilityZonesListIndex++;
             }
@@ -98,4 +101,9 @@ public class UpdateAutoScalingGroupRequestMarshaller implements Marshaller<Reque
 
         return request;
     }
+
+    private static final UpdateAutoScalingGroupRequestMarshaller instance = new UpdateAutoScalingGroupRequestMarshaller();
+    public static UpdateAutoScalingGroupRequestMarshaller getInstance() {
+        return instance;
+    }
 }
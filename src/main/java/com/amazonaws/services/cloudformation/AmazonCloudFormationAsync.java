@@ -18,6 +18,7 @@ import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.services.cloudformation.model.*;
 
 /**
@@ -88,6 +89,39 @@ public interface AmazonCloudFormationAsync extends AmazonCloudFormation {
     public Future<CreateStackResult> createStackAsync(CreateStackRequest createStackRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Creates a stack as specified in the template. Once the call completes
+     * successfully, the stack creation starts. You can check the status of
+     * the stack via the DescribeStacks API.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> Currently, the limit for stacks is 20 stacks per account
+     * per region.
+     * </p>
+     *
+     * @param createStackRequest Container for the necessary parameters to
+     *           execute the CreateStack operation on AmazonCloudFormation.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateStack service method, as returned by AmazonCloudFormation.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudFormation indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateStackResult> createStackAsync(CreateStackRequest createStackRequest,
+            AsyncHandler<CreateStackRequest, CreateStackResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Validates a specified template.
@@ -110,6 +144,33 @@ public interface AmazonCloudFormationAsync extends AmazonCloudFormation {
     public Future<ValidateTemplateResult> validateTemplateAsync(ValidateTemplateRequest validateTemplateRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Validates a specified template.
+     * </p>
+     *
+     * @param validateTemplateRequest Container for the necessary parameters
+     *           to execute the ValidateTemplate operation on AmazonCloudFormation.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ValidateTemplate service method, as returned by AmazonCloudFormation.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudFormation indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ValidateTemplateResult> validateTemplateAsync(ValidateTemplateRequest validateTemplateRequest,
+            AsyncHandler<ValidateTemplateRequest, ValidateTemplateResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Returns the description for the specified stack; if no stack name was
@@ -133,6 +194,34 @@ public interface AmazonCloudFormationAsync extends AmazonCloudFormation {
     public Future<DescribeStacksResult> describeStacksAsync(DescribeStacksRequest describeStacksRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Returns the description for the specified stack; if no stack name was
+     * specified, then it returns the description for all the stacks created.
+     * </p>
+     *
+     * @param describeStacksRequest Container for the necessary parameters to
+     *           execute the DescribeStacks operation on AmazonCloudFormation.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeStacks service method, as returned by AmazonCloudFormation.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudFormation indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeStacksResult> describeStacksAsync(DescribeStacksRequest describeStacksRequest,
+            AsyncHandler<DescribeStacksRequest, DescribeStacksResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Returns all the stack related events for the AWS account. If
@@ -167,6 +256,45 @@ public interface AmazonCloudFormationAsync extends AmazonCloudFormation {
     public Future<DescribeStackEventsResult> describeStackEventsAsync(DescribeStackEventsRequest describeStackEventsRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Returns all the stack related events for the AWS account. If
+     * <code>StackName</code> is specified, returns events related to all the
+     * stacks with the given name. If <code>StackName</code> is not
+     * specified, returns all the events for the account. For more
+     * information about a stack's event history, go to the <a
+     * "http://docs.amazonwebservices.com/AWSCloudFormation/latest/CFNGuide">
+     * AWS CloudFormation User Guide </a> .
+     * </p>
+     * <p>
+     * <b>NOTE:</b>Events are returned, even if the stack never existed or
+     * has been successfully deleted.
+     * </p>
+     *
+     * @param describeStackEventsRequest Container for the necessary
+     *           parameters to execute the DescribeStackEvents operation on
+     *           AmazonCloudFormation.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeStackEvents service method, as returned by
+     *         AmazonCloudFormation.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudFormation indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeStackEventsResult> describeStackEventsAsync(DescribeStackEventsRequest describeStackEventsRequest,
+            AsyncHandler<DescribeStackEventsRequest, DescribeStackEventsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Returns the template body for a specified stack name.
@@ -193,6 +321,37 @@ public interface AmazonCloudFormationAsync extends AmazonCloudFormation {
     public Future<GetTemplateResult> getTemplateAsync(GetTemplateRequest getTemplateRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Returns the template body for a specified stack name.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> If the template does not exist, a ValidationError is
+     * returned.
+     * </p>
+     *
+     * @param getTemplateRequest Container for the necessary parameters to
+     *           execute the GetTemplate operation on AmazonCloudFormation.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetTemplate service method, as returned by AmazonCloudFormation.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudFormation indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetTemplateResult> getTemplateAsync(GetTemplateRequest getTemplateRequest,
+            AsyncHandler<GetTemplateRequest, GetTemplateResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Deletes a specified stack. Once the call completes successfully,
@@ -217,6 +376,35 @@ public interface AmazonCloudFormationAsync extends AmazonCloudFormation {
     public Future<Void> deleteStackAsync(DeleteStackRequest deleteStackRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Deletes a specified stack. Once the call completes successfully,
+     * stack deletion starts. Deleted stacks do not show up in the
+     * DescribeStacks API if the deletion has been completed successfully.
+     * </p>
+     *
+     * @param deleteStackRequest Container for the necessary parameters to
+     *           execute the DeleteStack operation on AmazonCloudFormation.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteStack service method, as returned by AmazonCloudFormation.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudFormation indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteStackAsync(DeleteStackRequest deleteStackRequest,
+            AsyncHandler<DeleteStackRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Returns AWS resource descriptions. If <code>StackName</code> is
@@ -258,5 +446,51 @@ public interface AmazonCloudFormationAsync extends AmazonCloudFormation {
     public Future<DescribeStackResourcesResult> describeStackResourcesAsync(DescribeStackResourcesRequest describeStackResourcesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Returns AWS resource descriptions. If <code>StackName</code> is
+     * specified, all the associated resources that are part of the stack are
+     * returned. If <code>PhysicalResourceId</code> is specified, all the
+     * associated resources of the stack the resource belongs to are
+     * returned.
+     * </p>
+     * <p>
+     * You must specify <code>StackName</code> or
+     * <code>PhysicalResourceId.</code> In addition, you can specify
+     * <code>LogicalResourceId</code> to filter the returned result. For more
+     * information about resources, the <code>LogicalResourceId</code> and
+     * <code>PhysicalResourceId</code> , go to the <a
+     * "http://docs.amazonwebservices.com/AWSCloudFormation/latest/CFNGuide">
+     * AWS CloudFormation User Guide </a> .
+     * </p>
+     * <p>
+     * <b>NOTE:</b> A ValidationError is returned if you specify both
+     * StackName and PhysicalResourceId in the same request.
+     * </p>
+     *
+     * @param describeStackResourcesRequest Container for the necessary
+     *           parameters to execute the DescribeStackResources operation on
+     *           AmazonCloudFormation.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeStackResources service method, as returned by
+     *         AmazonCloudFormation.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudFormation indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeStackResourcesResult> describeStackResourcesAsync(DescribeStackResourcesRequest describeStackResourcesRequest,
+            AsyncHandler<DescribeStackResourcesRequest, DescribeStackResourcesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
 }
         
\ No newline at end of file
@@ -16,13 +16,14 @@ package com.amazonaws.services.cloudformation;
             
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.util.InstrumentedThreadPoolExecutor;
 
 import com.amazonaws.services.cloudformation.model.*;
 
@@ -80,8 +81,9 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
     /**
      * Constructs a new asynchronous client to invoke service methods on 
      * AmazonCloudFormation using the specified AWS account credentials.
-     * Default client settings will be used, and a default cached thread pool will be 
-     * created for executing the asynchronous tasks.
+     * Default client settings will be used, and a default bounded thread pool will be 
+     * created for executing the asynchronous tasks (see
+     * {@link InstrumentedThreadPoolExecutor#newDefaultExecutor(String, ClientConfiguration)}).
      *
      * <p>
      * All calls made using this new client object are non-blocking, and will immediately
@@ -92,7 +94,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      *                       when authenticating with AWS services.
      */                                      
     public AmazonCloudFormationAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newCachedThreadPool());
+        this(awsCredentials, InstrumentedThreadPoolExecutor.newDefaultExecutor("AmazonCloudFormationAsyncClient", new ClientConfiguration()));
     }
 
     /**
@@ -188,6 +190,55 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
 		});
     }
     
+    /**
+     * <p>
+     * Creates a stack as specified in the template. Once the call completes
+     * successfully, the stack creation starts. You can check the status of
+     * the stack via the DescribeStacks API.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> Currently, the limit for stacks is 20 stacks per account
+     * per region.
+     * </p>
+     *
+     * @param createStackRequest Container for the necessary parameters to
+     *           execute the CreateStack operation on AmazonCloudFormation.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateStack service method, as returned by AmazonCloudFormation.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudFormation indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateStackResult> createStackAsync(
+            final CreateStackRequest createStackRequest,
+            final AsyncHandler<CreateStackRequest, CreateStackResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateStackResult>() {
+            public CreateStackResult call() throws Exception {
+                CreateStackResult result;
+                try {
+                    result = createStack(createStackRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createStackRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Validates a specified template.
@@ -216,6 +267,49 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
 		});
     }
     
+    /**
+     * <p>
+     * Validates a specified template.
+     * </p>
+     *
+     * @param validateTemplateRequest Container for the necessary parameters
+     *           to execute the ValidateTemplate operation on AmazonCloudFormation.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ValidateTemplate service method, as returned by AmazonCloudFormation.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudFormation indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ValidateTemplateResult> validateTemplateAsync(
+            final ValidateTemplateRequest validateTemplateRequest,
+            final AsyncHandler<ValidateTemplateRequest, ValidateTemplateResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ValidateTemplateResult>() {
+            public ValidateTemplateResult call() throws Exception {
+                ValidateTemplateResult result;
+                try {
+                    result = validateTemplate(validateTemplateRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(validateTemplateRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns the description for the specified stack; if no stack name was
@@ -245,6 +339,50 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
 		});
     }
     
+    /**
+     * <p>
+     * Returns the description for the specified stack; if no stack name was
+     * specified, then it returns the description for all the stacks created.
+     * </p>
+     *
+     * @param describeStacksRequest Container for the necessary parameters to
+     *           execute the DescribeStacks operation on AmazonCloudFormation.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeStacks service method, as returned by AmazonCloudFormation.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudFormation indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeStacksResult> describeStacksAsync(
+            final DescribeStacksRequest describeStacksRequest,
+            final AsyncHandler<DescribeStacksRequest, DescribeStacksResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeStacksResult>() {
+            public DescribeStacksResult call() throws Exception {
+                DescribeStacksResult result;
+                try {
+                    result = describeStacks(describeStacksRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeStacksRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns all the stack related events for the AWS account. If
@@ -285,6 +423,61 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
 		});
     }
     
+    /**
+     * <p>
+     * Returns all the stack related events for the AWS account. If
+     * <code>StackName</code> is specified, returns events related to all the
+     * stacks with the given name. If <code>StackName</code> is not
+     * specified, returns all the events for the account. For more
+     * information about a stack's event history, go to the <a
+     * "http://docs.amazonwebservices.com/AWSCloudFormation/latest/CFNGuide">
+     * AWS CloudFormation User Guide </a> .
+     * </p>
+     * <p>
+     * <b>NOTE:</b>Events are returned, even if the stack never existed or
+     * has been successfully deleted.
+     * </p>
+     *
+     * @param describeStackEventsRequest Container for the necessary
+     *           parameters to execute the DescribeStackEvents operation on
+     *           AmazonCloudFormation.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeStackEvents service method, as returned by
+     *         AmazonCloudFormation.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudFormation indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeStackEventsResult> describeStackEventsAsync(
+            final DescribeStackEventsRequest describeStackEventsRequest,
+            final AsyncHandler<DescribeStackEventsRequest, DescribeStackEventsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeStackEventsResult>() {
+            public DescribeStackEventsResult call() throws Exception {
+                DescribeStackEventsResult result;
+                try {
+                    result = describeStackEvents(describeStackEventsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeStackEventsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns the template body for a specified stack name.
@@ -317,6 +510,53 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
 		});
     }
     
+    /**
+     * <p>
+     * Returns the template body for a specified stack name.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> If the template does not exist, a ValidationError is
+     * returned.
+     * </p>
+     *
+     * @param getTemplateRequest Container for the necessary parameters to
+     *           execute the GetTemplate operation on AmazonCloudFormation.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetTemplate service method, as returned by AmazonCloudFormation.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudFormation indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetTemplateResult> getTemplateAsync(
+            final GetTemplateRequest getTemplateRequest,
+            final AsyncHandler<GetTemplateRequest, GetTemplateResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<GetTemplateResult>() {
+            public GetTemplateResult call() throws Exception {
+                GetTemplateResult result;
+                try {
+                    result = getTemplate(getTemplateRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(getTemplateRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes a specified stack. Once the call completes successfully,
@@ -348,6 +588,50 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
 		});
     }
     
+    /**
+     * <p>
+     * Deletes a specified stack. Once the call completes successfully,
+     * stack deletion starts. Deleted stacks do not show up in the
+     * DescribeStacks API if the deletion has been completed successfully.
+     * </p>
+     *
+     * @param deleteStackRequest Container for the necessary parameters to
+     *           execute the DeleteStack operation on AmazonCloudFormation.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteStack service method, as returned by AmazonCloudFormation.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudFormation indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteStackAsync(
+            final DeleteStackRequest deleteStackRequest,
+            final AsyncHandler<DeleteStackRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteStack(deleteStackRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteStackRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns AWS resource descriptions. If <code>StackName</code> is
@@ -395,5 +679,67 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
 		});
     }
     
+    /**
+     * <p>
+     * Returns AWS resource descriptions. If <code>StackName</code> is
+     * specified, all the associated resources that are part of the stack are
+     * returned. If <code>PhysicalResourceId</code> is specified, all the
+     * associated resources of the stack the resource belongs to are
+     * returned.
+     * </p>
+     * <p>
+     * You must specify <code>StackName</code> or
+     * <code>PhysicalResourceId.</code> In addition, you can specify
+     * <code>LogicalResourceId</code> to filter the returned result. For more
+     * information about resources, the <code>LogicalResourceId</code> and
+     * <code>PhysicalResourceId</code> , go to the <a
+     * "http://docs.amazonwebservices.com/AWSCloudFormation/latest/CFNGuide">
+     * AWS CloudFormation User Guide </a> .
+     * </p>
+     * <p>
+     * <b>NOTE:</b> A ValidationError is returned if you specify both
+     * StackName and PhysicalResourceId in the same request.
+     * </p>
+     *
+     * @param describeStackResourcesRequest Container for the necessary
+     *           parameters to execute the DescribeStackResources operation on
+     *           AmazonCloudFormation.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeStackResources service method, as returned by
+     *         AmazonCloudFormation.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudFormation indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeStackResourcesResult> describeStackResourcesAsync(
+            final DescribeStackResourcesRequest describeStackResourcesRequest,
+            final AsyncHandler<DescribeStackResourcesRequest, DescribeStackResourcesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeStackResourcesResult>() {
+            public DescribeStackResourcesResult call() throws Exception {
+                DescribeStackResourcesResult result;
+                try {
+                    result = describeStackResources(describeStackResourcesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeStackResourcesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
 }
         
\ No newline at end of file
@@ -92,6 +92,12 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient implement
      */
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers;
 
+    /**
+     * Handles error responses for all service calls, built once so its index
+     * of exception unmarshallers is shared across calls.
+     */
+    private final DefaultErrorResponseHandler errorResponseHandler;
+
     
     /** AWS signer for authenticating requests. */
     private QueryStringSigner signer;
@@ -137,6 +143,7 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient implement
         exceptionUnmarshallers.add(new LimitExceededExceptionUnmarshaller());
         
         exceptionUnmarshallers.add(new StandardErrorUnmarshaller());
+        errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
         setEndpoint("cloudformation.us-east-1.amazonaws.com");
 
         signer = new QueryStringSigner();
@@ -177,8 +184,8 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient implement
      */
     public CreateStackResult createStack(CreateStackRequest createStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateStackRequest> request = new CreateStackRequestMarshaller().marshall(createStackRequest);
-        return invoke(request, new CreateStackResultStaxUnmarshaller());
+        Request<CreateStackRequest> request = CreateStackRequestMarshaller.getInstance().marshall(createStackRequest);
+        return invoke(request, CreateStackResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -205,8 +212,8 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient implement
      */
     public ValidateTemplateResult validateTemplate(ValidateTemplateRequest validateTemplateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ValidateTemplateRequest> request = new ValidateTemplateRequestMarshaller().marshall(validateTemplateRequest);
-        return invoke(request, new ValidateTemplateResultStaxUnmarshaller());
+        Request<ValidateTemplateRequest> request = ValidateTemplateRequestMarshaller.getInstance().marshall(validateTemplateRequest);
+        return invoke(request, ValidateTemplateResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -232,8 +239,8 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient implement
      */
     public DescribeStacksResult describeStacks(DescribeStacksRequest describeStacksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeStacksRequest> request = new DescribeStacksRequestMarshaller().marshall(describeStacksRequest);
-        return invoke(request, new DescribeStacksResultStaxUnmarshaller());
+        Request<DescribeStacksRequest> request = DescribeStacksRequestMarshaller.getInstance().marshall(describeStacksRequest);
+        return invoke(request, DescribeStacksResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -269,8 +276,8 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient implement
      */
     public DescribeStackEventsResult describeStackEvents(DescribeStackEventsRequest describeStackEventsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeStackEventsRequest> request = new DescribeStackEventsRequestMarshaller().marshall(describeStackEventsRequest);
-        return invoke(request, new DescribeStackEventsResultStaxUnmarshaller());
+        Request<DescribeStackEventsRequest> request = DescribeStackEventsRequestMarshaller.getInstance().marshall(describeStackEventsRequest);
+        return invoke(request, DescribeStackEventsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -300,8 +307,8 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient implement
      */
     public GetTemplateResult getTemplate(GetTemplateRequest getTemplateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<GetTemplateRequest> request = new GetTemplateRequestMarshaller().marshall(getTemplateRequest);
-        return invoke(request, new GetTemplateResultStaxUnmarshaller());
+        Request<GetTemplateRequest> request = GetTemplateRequestMarshaller.getInstance().marshall(getTemplateRequest);
+        return invoke(request, GetTemplateResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -325,7 +332,7 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient implement
      */
     public void deleteStack(DeleteStackRequest deleteStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteStackRequest> request = new DeleteStackRequestMarshaller().marshall(deleteStackRequest);
+        Request<DeleteStackRequest> request = DeleteStackRequestMarshaller.getInstance().marshall(deleteStackRequest);
         invoke(request, null);
     }
     
@@ -370,8 +377,8 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient implement
      */
     public DescribeStackResourcesResult describeStackResources(DescribeStackResourcesRequest describeStackResourcesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeStackResourcesRequest> request = new DescribeStackResourcesRequestMarshaller().marshall(describeStackResourcesRequest);
-        return invoke(request, new DescribeStackResourcesResultStaxUnmarshaller());
+        Request<DescribeStackResourcesRequest> request = DescribeStackResourcesRequestMarshaller.getInstance().marshall(describeStackResourcesRequest);
+        return invoke(request, DescribeStackResourcesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -531,7 +538,6 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient implement
 
         
         StaxResponseHandler<X> responseHandler = new StaxResponseHandler<X>(unmarshaller);
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
 
         ExecutionContext executionContext = createExecutionContext();
         return (X)client.execute(request, responseHandler, errorResponseHandler, executionContext);
@@ -25,7 +25,7 @@ import com.amazonaws.services.cloudformation.model.AlreadyExistsException;
 public class AlreadyExistsExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public AlreadyExistsExceptionUnmarshaller() {
-        super(AlreadyExistsException.class);
+        super(AlreadyExistsException.class, "AlreadyExistsException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
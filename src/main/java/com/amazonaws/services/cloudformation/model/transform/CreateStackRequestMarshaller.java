@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.cloudformation.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,10 @@ import com.amazonaws.util.StringUtils;
  */
 public class CreateStackRequestMarshaller implements Marshaller<Request<CreateStackRequest>, CreateStackRequest> {
 
+    private static final ParameterNameTable PARAMETERS_MEMBER_PARAMETER_KEY_NAMES = new ParameterNameTable("Parameters.member.", ".ParameterKey");
+    private static final ParameterNameTable PARAMETERS_MEMBER_PARAMETER_VALUE_NAMES = new ParameterNameTable("Parameters.member.", ".ParameterValue");
+    private static final ParameterNameTable NOTIFICATION_ARNS_MEMBER_NAMES = new ParameterNameTable("NotificationARNs.member.", "");
+
     public Request<CreateStackRequest> marshall(CreateStackRequest createStackRequest) {
         Request<CreateStackRequest> request = new DefaultRequest<CreateStackRequest>(createStackRequest, "AmazonCloudFormation");
         request.addParameter("Action", "CreateStack");
@@ -55,12 +60,12 @@ public class CreateStackRequestMarshaller implements Marshaller<Request<CreateSt
             for (Parameter parametersListValue : parametersList) {
                 if (parametersListValue != null) {
                     if (parametersListValue.getParameterKey() != null) {
-                        request.addParameter("Parameters.member." + parametersListIndex + ".ParameterKey", StringUtils.fromString(parametersListValue.getParameterKey()));
+                        request.addParameter(PARAMETERS_MEMBER_PARAMETER_KEY_NAMES.get(parametersListIndex), StringUtils.fromString(parametersListValue.getParameterKey()));
                     }
                 }
                 if (parametersListValue != null) {
                     if (parametersListValue.getParameterValue() != null) {
-                        request.addParameter("Parameters.member." + parametersListIndex + ".ParameterValue", StringUtils.fromString(parametersListValue.getParameterValue()));
+                        request.addParameter(PARAMETERS_MEMBER_PARAMETER_VALUE_NAMES.get(parametersListIndex), StringUtils.fromString(parametersListValue.getParameterValue()));
                     }
                 }
 
@@ -83,7 +88,7 @@ public class CreateStackRequestMarshaller implements Marshaller<Request<CreateSt
 
             for (String notificationARNsListValue : notificationARNsList) {
                 if (notificationARNsListValue != null) {
-                    request.addParameter("NotificationARNs.member." + notificationARNsListIndex, StringUtils.fromString(notificationARNsListValue));
+                    request.addParameter(NOTIFICATION_ARNS_MEMBER_NAMES.get(notificationARNsListIndex), StringUtils.fromString(notificationARNsListValue));
                 }
                 notificationARNsListIndex++;
             }
@@ -92,4 +97,9 @@ public class CreateStackRequestMarshaller implements Marshaller<Request<CreateSt
 
         return request;
     }
+
+    private static final CreateStackRequestMarshaller instance = new CreateStackRequestMarshaller();
+    public static CreateStackRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class CreateStackResultStaxUnmarshaller implements Unmarshaller<CreateSta
         }
     }
 
-    private static CreateStackResultStaxUnmarshaller instance;
+    private static final CreateStackResultStaxUnmarshaller instance = new CreateStackResultStaxUnmarshaller();
     public static CreateStackResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateStackResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -42,4 +42,9 @@ public class DeleteStackRequestMarshaller implements Marshaller<Request<DeleteSt
 
         return request;
     }
+
+    private static final DeleteStackRequestMarshaller instance = new DeleteStackRequestMarshaller();
+    public static DeleteStackRequestMarshaller getInstance() {
+        return instance;
+    }
 }
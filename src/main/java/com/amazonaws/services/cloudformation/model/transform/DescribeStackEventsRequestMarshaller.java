@@ -47,4 +47,9 @@ public class DescribeStackEventsRequestMarshaller implements Marshaller<Request<
 
         return request;
     }
+
+    private static final DescribeStackEventsRequestMarshaller instance = new DescribeStackEventsRequestMarshaller();
+    public static DescribeStackEventsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -63,9 +63,8 @@ public class DescribeStackEventsResultStaxUnmarshaller implements Unmarshaller<D
         }
     }
 
-    private static DescribeStackEventsResultStaxUnmarshaller instance;
+    private static final DescribeStackEventsResultStaxUnmarshaller instance = new DescribeStackEventsResultStaxUnmarshaller();
     public static DescribeStackEventsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeStackEventsResultStaxUnmarshaller();
         return instance;
     }
 }
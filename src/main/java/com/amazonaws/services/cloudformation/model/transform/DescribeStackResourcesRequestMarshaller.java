@@ -52,4 +52,9 @@ public class DescribeStackResourcesRequestMarshaller implements Marshaller<Reque
 
         return request;
     }
+
+    private static final DescribeStackResourcesRequestMarshaller instance = new DescribeStackResourcesRequestMarshaller();
+    public static DescribeStackResourcesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
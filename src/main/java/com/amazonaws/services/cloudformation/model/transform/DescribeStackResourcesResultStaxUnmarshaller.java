@@ -59,9 +59,8 @@ public class DescribeStackResourcesResultStaxUnmarshaller implements Unmarshalle
         }
     }
 
-    private static DescribeStackResourcesResultStaxUnmarshaller instance;
+    private static final DescribeStackResourcesResultStaxUnmarshaller instance = new DescribeStackResourcesResultStaxUnmarshaller();
     public static DescribeStackResourcesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeStackResourcesResultStaxUnmarshaller();
         return instance;
     }
 }
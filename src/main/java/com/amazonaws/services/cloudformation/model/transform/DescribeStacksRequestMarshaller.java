@@ -42,4 +42,9 @@ public class DescribeStacksRequestMarshaller implements Marshaller<Request<Descr
 
         return request;
     }
+
+    private static final DescribeStacksRequestMarshaller instance = new DescribeStacksRequestMarshaller();
+    public static DescribeStacksRequestMarshaller getInstance() {
+        return instance;
+    }
 }
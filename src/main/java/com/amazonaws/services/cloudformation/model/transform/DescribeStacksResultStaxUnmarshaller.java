@@ -59,9 +59,8 @@ public class DescribeStacksResultStaxUnmarshaller implements Unmarshaller<Descri
         }
     }
 
-    private static DescribeStacksResultStaxUnmarshaller instance;
+    private static final DescribeStacksResultStaxUnmarshaller instance = new DescribeStacksResultStaxUnmarshaller();
     public static DescribeStacksResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeStacksResultStaxUnmarshaller();
         return instance;
     }
 }
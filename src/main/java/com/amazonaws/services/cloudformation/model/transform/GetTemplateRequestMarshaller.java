@@ -42,4 +42,9 @@ public class GetTemplateRequestMarshaller implements Marshaller<Request<GetTempl
 
         return request;
     }
+
+    private static final GetTemplateRequestMarshaller instance = new GetTemplateRequestMarshaller();
+    public static GetTemplateRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class GetTemplateResultStaxUnmarshaller implements Unmarshaller<GetTempla
         }
     }
 
-    private static GetTemplateResultStaxUnmarshaller instance;
+    private static final GetTemplateResultStaxUnmarshaller instance = new GetTemplateResultStaxUnmarshaller();
     public static GetTemplateResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new GetTemplateResultStaxUnmarshaller();
         return instance;
     }
 }
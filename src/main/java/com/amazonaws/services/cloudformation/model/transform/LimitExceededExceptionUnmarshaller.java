@@ -25,7 +25,7 @@ import com.amazonaws.services.cloudformation.model.LimitExceededException;
 public class LimitExceededExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public LimitExceededExceptionUnmarshaller() {
-        super(LimitExceededException.class);
+        super(LimitExceededException.class, "LimitExceededException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
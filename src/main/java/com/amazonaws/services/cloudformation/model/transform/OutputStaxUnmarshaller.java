@@ -67,9 +67,8 @@ public class OutputStaxUnmarshaller implements Unmarshaller<Output, StaxUnmarsha
         }
     }
 
-    private static OutputStaxUnmarshaller instance;
+    private static final OutputStaxUnmarshaller instance = new OutputStaxUnmarshaller();
     public static OutputStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new OutputStaxUnmarshaller();
         return instance;
     }
 }
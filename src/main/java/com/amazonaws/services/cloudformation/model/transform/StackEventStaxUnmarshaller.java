@@ -95,9 +95,8 @@ public class StackEventStaxUnmarshaller implements Unmarshaller<StackEvent, Stax
         }
     }
 
-    private static StackEventStaxUnmarshaller instance;
+    private static final StackEventStaxUnmarshaller instance = new StackEventStaxUnmarshaller();
     public static StackEventStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new StackEventStaxUnmarshaller();
         return instance;
     }
 }
@@ -91,9 +91,8 @@ public class StackResourceStaxUnmarshaller implements Unmarshaller<StackResource
         }
     }
 
-    private static StackResourceStaxUnmarshaller instance;
+    private static final StackResourceStaxUnmarshaller instance = new StackResourceStaxUnmarshaller();
     public static StackResourceStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new StackResourceStaxUnmarshaller();
         return instance;
     }
 }
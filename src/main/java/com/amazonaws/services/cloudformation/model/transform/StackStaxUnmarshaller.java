@@ -99,9 +99,8 @@ public class StackStaxUnmarshaller implements Unmarshaller<Stack, StaxUnmarshall
         }
     }
 
-    private static StackStaxUnmarshaller instance;
+    private static final StackStaxUnmarshaller instance = new StackStaxUnmarshaller();
     public static StackStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new StackStaxUnmarshaller();
         return instance;
     }
 }
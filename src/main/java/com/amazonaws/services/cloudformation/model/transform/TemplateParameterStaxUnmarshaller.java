@@ -71,9 +71,8 @@ public class TemplateParameterStaxUnmarshaller implements Unmarshaller<TemplateP
         }
     }
 
-    private static TemplateParameterStaxUnmarshaller instance;
+    private static final TemplateParameterStaxUnmarshaller instance = new TemplateParameterStaxUnmarshaller();
     public static TemplateParameterStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new TemplateParameterStaxUnmarshaller();
         return instance;
     }
 }
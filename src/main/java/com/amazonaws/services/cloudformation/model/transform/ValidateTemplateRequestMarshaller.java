@@ -47,4 +47,9 @@ public class ValidateTemplateRequestMarshaller implements Marshaller<Request<Val
 
         return request;
     }
+
+    private static final ValidateTemplateRequestMarshaller instance = new ValidateTemplateRequestMarshaller();
+    public static ValidateTemplateRequestMarshaller getInstance() {
+        return instance;
+    }
 }
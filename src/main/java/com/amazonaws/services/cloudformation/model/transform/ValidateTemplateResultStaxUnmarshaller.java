@@ -63,9 +63,8 @@ public class ValidateTemplateResultStaxUnmarshaller implements Unmarshaller<Vali
         }
     }
 
-    private static ValidateTemplateResultStaxUnmarshaller instance;
+    private static final ValidateTemplateResultStaxUnmarshaller instance = new ValidateTemplateResultStaxUnmarshaller();
     public static ValidateTemplateResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ValidateTemplateResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.cloudformation.model.ValidationErrorException;
 public class ValidationErrorExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public ValidationErrorExceptionUnmarshaller() {
-        super(ValidationErrorException.class);
+        super(ValidationErrorException.class, "ValidationErrorException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -16,13 +16,14 @@ package com.amazonaws.services.cloudwatch;
             
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.util.InstrumentedThreadPoolExecutor;
 
 import com.amazonaws.services.cloudwatch.model.*;
 
@@ -92,8 +93,9 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
     /**
      * Constructs a new asynchronous client to invoke service methods on 
      * AmazonCloudWatch using the specified AWS account credentials.
-     * Default client settings will be used, and a default cached thread pool will be 
-     * created for executing the asynchronous tasks.
+     * Default client settings will be used, and a default bounded thread pool will be 
+     * created for executing the asynchronous tasks (see
+     * {@link InstrumentedThreadPoolExecutor#newDefaultExecutor(String, ClientConfiguration)}).
      *
      * <p>
      * All calls made using this new client object are non-blocking, and will immediately
@@ -104,7 +106,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      *                       when authenticating with AWS services.
      */                                      
     public AmazonCloudWatchAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newCachedThreadPool());
+        this(awsCredentials, InstrumentedThreadPoolExecutor.newDefaultExecutor("AmazonCloudWatchAsyncClient", new ClientConfiguration()));
     }
 
     /**
@@ -207,6 +209,60 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
 		});
     }
     
+    /**
+     * <p>
+     * Creates or updates an alarm and associates it with the specified
+     * Amazon CloudWatch metric. Optionally, this operation can associate one
+     * or more Amazon Simple Notification Service resources with the alarm.
+     * </p>
+     * <p>
+     * When this operation creates an alarm, the alarm state is immediately
+     * set to <code>INSUFFICIENT_DATA</code> . The alarm is evaluated and
+     * its <code>StateValue</code> is set appropriately. Any actions
+     * associated with the <code>StateValue</code> is then executed.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> When updating an existing alarm, its StateValue is left
+     * unchanged.
+     * </p>
+     *
+     * @param putMetricAlarmRequest Container for the necessary parameters to
+     *           execute the PutMetricAlarm operation on AmazonCloudWatch.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         PutMetricAlarm service method, as returned by AmazonCloudWatch.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudWatch indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> putMetricAlarmAsync(
+            final PutMetricAlarmRequest putMetricAlarmRequest,
+            final AsyncHandler<PutMetricAlarmRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    putMetricAlarm(putMetricAlarmRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(putMetricAlarmRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Publishes metric data points to Amazon CloudWatch. Amazon Cloudwatch
@@ -254,6 +310,66 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
 		});
     }
     
+    /**
+     * <p>
+     * Publishes metric data points to Amazon CloudWatch. Amazon Cloudwatch
+     * associates the data points with the specified metric. If the specified
+     * metric does not exist, Amazon CloudWatch creates the metric.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> If you create a metric with the PutMetricData action,
+     * allow up to fifteen minutes for the metric to appear in calls to the
+     * ListMetrics action.
+     * </p>
+     * <p>
+     * The size of a PutMetricData request is limited to 8 KB for HTTP GET
+     * requests and 40 KB for HTTP POST requests.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> Although the Value parameter accepts numbers of type
+     * Double, Amazon CloudWatch truncates values with very large exponents.
+     * Values with base-10 exponents greater than 126 (1 x 10^126) are
+     * truncated. Likewise, values with base-10 exponents less than -130 (1 x
+     * 10^-130) are also truncated.
+     * </p>
+     *
+     * @param putMetricDataRequest Container for the necessary parameters to
+     *           execute the PutMetricData operation on AmazonCloudWatch.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         PutMetricData service method, as returned by AmazonCloudWatch.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudWatch indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> putMetricDataAsync(
+            final PutMetricDataRequest putMetricDataRequest,
+            final AsyncHandler<PutMetricDataRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    putMetricData(putMetricDataRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(putMetricDataRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns a list of valid metrics stored for the AWS account owner.
@@ -294,6 +410,61 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
 		});
     }
     
+    /**
+     * <p>
+     * Returns a list of valid metrics stored for the AWS account owner.
+     * Returned metrics can be used with <code>GetMetricStatistics</code> to
+     * obtain statistical data for a given metric.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> Up to 500 results are returned for any one call. To
+     * retrieve further results, use returned NextToken values with
+     * subsequent ListMetrics operations.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> If you create a metric with the PutMetricData action,
+     * allow up to fifteen minutes for the metric to appear in calls to the
+     * ListMetrics action.
+     * </p>
+     *
+     * @param listMetricsRequest Container for the necessary parameters to
+     *           execute the ListMetrics operation on AmazonCloudWatch.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListMetrics service method, as returned by AmazonCloudWatch.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudWatch indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListMetricsResult> listMetricsAsync(
+            final ListMetricsRequest listMetricsRequest,
+            final AsyncHandler<ListMetricsRequest, ListMetricsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ListMetricsResult>() {
+            public ListMetricsResult call() throws Exception {
+                ListMetricsResult result;
+                try {
+                    result = listMetrics(listMetricsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(listMetricsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Gets statistics for the specified metric.
@@ -356,6 +527,83 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
 		});
     }
     
+    /**
+     * <p>
+     * Gets statistics for the specified metric.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> The maximum number of data points returned from a single
+     * GetMetricStatistics request is 1,440. If a request is made that
+     * generates more than 1,440 data points, Amazon CloudWatch returns an
+     * error. In such a case, alter the request by narrowing the specified
+     * time range or increasing the specified period. Alternatively, make
+     * multiple requests across adjacent time ranges.
+     * </p>
+     * <p>
+     * Amazon CloudWatch aggregates data points based on the length of the
+     * <code>period</code> that you specify. For example, if you request
+     * statistics with a one-minute granularity, Amazon CloudWatch aggregates
+     * data points with time stamps that fall within the same one-minute
+     * period. In such a case, the data points queried can greatly outnumber
+     * the data points returned.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> The maximum number of data points that can be queried is
+     * 50,850; whereas the maximum number of data points returned is 1,440.
+     * </p>
+     * <p>
+     * The following examples show various statistics allowed by the data
+     * point query maximum of 50,850 when you call
+     * <code>GetMetricStatistics</code> on Amazon EC2 instances with detailed
+     * (one-minute) monitoring enabled:
+     * </p>
+     * 
+     * <ul>
+     * <li>Statistics for up to 400 instances for a span of one hour</li>
+     * <li>Statistics for up to 35 instances over a span of 24 hours</li>
+     * <li>Statistics for up to 2 instances over a span of 2 weeks</li>
+     * 
+     * </ul>
+     *
+     * @param getMetricStatisticsRequest Container for the necessary
+     *           parameters to execute the GetMetricStatistics operation on
+     *           AmazonCloudWatch.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetMetricStatistics service method, as returned by AmazonCloudWatch.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudWatch indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetMetricStatisticsResult> getMetricStatisticsAsync(
+            final GetMetricStatisticsRequest getMetricStatisticsRequest,
+            final AsyncHandler<GetMetricStatisticsRequest, GetMetricStatisticsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<GetMetricStatisticsResult>() {
+            public GetMetricStatisticsResult call() throws Exception {
+                GetMetricStatisticsResult result;
+                try {
+                    result = getMetricStatistics(getMetricStatisticsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(getMetricStatisticsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Disables actions for the specified alarms. When an alarm's actions
@@ -388,6 +636,51 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
 		});
     }
     
+    /**
+     * <p>
+     * Disables actions for the specified alarms. When an alarm's actions
+     * are disabled the alarm's state may change, but none of the alarm's
+     * actions will execute.
+     * </p>
+     *
+     * @param disableAlarmActionsRequest Container for the necessary
+     *           parameters to execute the DisableAlarmActions operation on
+     *           AmazonCloudWatch.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DisableAlarmActions service method, as returned by AmazonCloudWatch.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudWatch indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> disableAlarmActionsAsync(
+            final DisableAlarmActionsRequest disableAlarmActionsRequest,
+            final AsyncHandler<DisableAlarmActionsRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    disableAlarmActions(disableAlarmActionsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(disableAlarmActionsRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Retrieves alarms with the specified names. If no name is specified,
@@ -419,6 +712,52 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
 		});
     }
     
+    /**
+     * <p>
+     * Retrieves alarms with the specified names. If no name is specified,
+     * all alarms for the user are returned. Alarms can be retrieved by using
+     * only a prefix for the alarm name, the alarm state, or a prefix for any
+     * action.
+     * </p>
+     *
+     * @param describeAlarmsRequest Container for the necessary parameters to
+     *           execute the DescribeAlarms operation on AmazonCloudWatch.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeAlarms service method, as returned by AmazonCloudWatch.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudWatch indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeAlarmsResult> describeAlarmsAsync(
+            final DescribeAlarmsRequest describeAlarmsRequest,
+            final AsyncHandler<DescribeAlarmsRequest, DescribeAlarmsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeAlarmsResult>() {
+            public DescribeAlarmsResult call() throws Exception {
+                DescribeAlarmsResult result;
+                try {
+                    result = describeAlarms(describeAlarmsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeAlarmsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Retrieves all alarms for a single metric. Specify a statistic,
@@ -450,6 +789,52 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
 		});
     }
     
+    /**
+     * <p>
+     * Retrieves all alarms for a single metric. Specify a statistic,
+     * period, or unit to filter the set of alarms further.
+     * </p>
+     *
+     * @param describeAlarmsForMetricRequest Container for the necessary
+     *           parameters to execute the DescribeAlarmsForMetric operation on
+     *           AmazonCloudWatch.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeAlarmsForMetric service method, as returned by
+     *         AmazonCloudWatch.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudWatch indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeAlarmsForMetricResult> describeAlarmsForMetricAsync(
+            final DescribeAlarmsForMetricRequest describeAlarmsForMetricRequest,
+            final AsyncHandler<DescribeAlarmsForMetricRequest, DescribeAlarmsForMetricResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeAlarmsForMetricResult>() {
+            public DescribeAlarmsForMetricResult call() throws Exception {
+                DescribeAlarmsForMetricResult result;
+                try {
+                    result = describeAlarmsForMetric(describeAlarmsForMetricRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeAlarmsForMetricRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Retrieves history for the specified alarm. Filter alarms by date
@@ -485,6 +870,56 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
 		});
     }
     
+    /**
+     * <p>
+     * Retrieves history for the specified alarm. Filter alarms by date
+     * range or item type. If an alarm name is not specified, Amazon
+     * CloudWatch returns histories for all of the owner's alarms.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> Amazon CloudWatch retains the history of an alarm for two
+     * weeks, whether or not you delete the alarm.
+     * </p>
+     *
+     * @param describeAlarmHistoryRequest Container for the necessary
+     *           parameters to execute the DescribeAlarmHistory operation on
+     *           AmazonCloudWatch.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeAlarmHistory service method, as returned by AmazonCloudWatch.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudWatch indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeAlarmHistoryResult> describeAlarmHistoryAsync(
+            final DescribeAlarmHistoryRequest describeAlarmHistoryRequest,
+            final AsyncHandler<DescribeAlarmHistoryRequest, DescribeAlarmHistoryResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeAlarmHistoryResult>() {
+            public DescribeAlarmHistoryResult call() throws Exception {
+                DescribeAlarmHistoryResult result;
+                try {
+                    result = describeAlarmHistory(describeAlarmHistoryRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeAlarmHistoryRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Enables actions for the specified alarms.
@@ -515,6 +950,49 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
 		});
     }
     
+    /**
+     * <p>
+     * Enables actions for the specified alarms.
+     * </p>
+     *
+     * @param enableAlarmActionsRequest Container for the necessary
+     *           parameters to execute the EnableAlarmActions operation on
+     *           AmazonCloudWatch.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         EnableAlarmActions service method, as returned by AmazonCloudWatch.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudWatch indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> enableAlarmActionsAsync(
+            final EnableAlarmActionsRequest enableAlarmActionsRequest,
+            final AsyncHandler<EnableAlarmActionsRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    enableAlarmActions(enableAlarmActionsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(enableAlarmActionsRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes all specified alarms. In the event of an error, no alarms are
@@ -545,6 +1023,49 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
 		});
     }
     
+    /**
+     * <p>
+     * Deletes all specified alarms. In the event of an error, no alarms are
+     * deleted.
+     * </p>
+     *
+     * @param deleteAlarmsRequest Container for the necessary parameters to
+     *           execute the DeleteAlarms operation on AmazonCloudWatch.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteAlarms service method, as returned by AmazonCloudWatch.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudWatch indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteAlarmsAsync(
+            final DeleteAlarmsRequest deleteAlarmsRequest,
+            final AsyncHandler<DeleteAlarmsRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteAlarms(deleteAlarmsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteAlarmsRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Temporarily sets the state of an alarm. When the updated
@@ -578,5 +1099,51 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
 		});
     }
     
+    /**
+     * <p>
+     * Temporarily sets the state of an alarm. When the updated
+     * <code>StateValue</code> differs from the previous value, the action
+     * configured for the appropriate state is invoked. This is not a
+     * permanent change. The next periodic alarm check (in about a minute)
+     * will set the alarm to its actual state.
+     * </p>
+     *
+     * @param setAlarmStateRequest Container for the necessary parameters to
+     *           execute the SetAlarmState operation on AmazonCloudWatch.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         SetAlarmState service method, as returned by AmazonCloudWatch.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonCloudWatch indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setAlarmStateAsync(
+            final SetAlarmStateRequest setAlarmStateRequest,
+            final AsyncHandler<SetAlarmStateRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    setAlarmState(setAlarmStateRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(setAlarmStateRequest, null);
+                return null;
+		    }
+		});
+    }
+    
 }
         
\ No newline at end of file
@@ -104,6 +104,12 @@ public class AmazonCloudWatchClient extends AmazonWebServiceClient implements Am
      */
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers;
 
+    /**
+     * Handles error responses for all service calls, built once so its index
+     * of exception unmarshallers is shared across calls.
+     */
+    private final DefaultErrorResponseHandler errorResponseHandler;
+
     
     /** AWS signer for authenticating requests. */
     private QueryStringSigner signer;
@@ -154,6 +160,7 @@ public class AmazonCloudWatchClient extends AmazonWebServiceClient implements Am
         exceptionUnmarshallers.add(new InvalidParameterValueExceptionUnmarshaller());
         
         exceptionUnmarshallers.add(new StandardErrorUnmarshaller());
+        errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
         setEndpoint("monitoring.amazonaws.com");
 
         signer = new QueryStringSigner();
@@ -196,7 +203,7 @@ public class AmazonCloudWatchClient extends AmazonWebServiceClient implements Am
      */
     public void putMetricAlarm(PutMetricAlarmRequest putMetricAlarmRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<PutMetricAlarmRequest> request = new PutMetricAlarmRequestMarshaller().marshall(putMetricAlarmRequest);
+        Request<PutMetricAlarmRequest> request = PutMetricAlarmRequestMarshaller.getInstance().marshall(putMetricAlarmRequest);
         invoke(request, null);
     }
     
@@ -241,7 +248,7 @@ public class AmazonCloudWatchClient extends AmazonWebServiceClient implements Am
      */
     public void putMetricData(PutMetricDataRequest putMetricDataRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<PutMetricDataRequest> request = new PutMetricDataRequestMarshaller().marshall(putMetricDataRequest);
+        Request<PutMetricDataRequest> request = PutMetricDataRequestMarshaller.getInstance().marshall(putMetricDataRequest);
         invoke(request, null);
     }
     
@@ -281,8 +288,8 @@ public class AmazonCloudWatchClient extends AmazonWebServiceClient implements Am
      */
     public ListMetricsResult listMetrics(ListMetricsRequest listMetricsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ListMetricsRequest> request = new ListMetricsRequestMarshaller().marshall(listMetricsRequest);
-        return invoke(request, new ListMetricsResultStaxUnmarshaller());
+        Request<ListMetricsRequest> request = ListMetricsRequestMarshaller.getInstance().marshall(listMetricsRequest);
+        return invoke(request, ListMetricsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -345,8 +352,8 @@ public class AmazonCloudWatchClient extends AmazonWebServiceClient implements Am
      */
     public GetMetricStatisticsResult getMetricStatistics(GetMetricStatisticsRequest getMetricStatisticsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<GetMetricStatisticsRequest> request = new GetMetricStatisticsRequestMarshaller().marshall(getMetricStatisticsRequest);
-        return invoke(request, new GetMetricStatisticsResultStaxUnmarshaller());
+        Request<GetMetricStatisticsRequest> request = GetMetricStatisticsRequestMarshaller.getInstance().marshall(getMetricStatisticsRequest);
+        return invoke(request, GetMetricStatisticsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -371,7 +378,7 @@ public class AmazonCloudWatchClient extends AmazonWebServiceClient implements Am
      */
     public void disableAlarmActions(DisableAlarmActionsRequest disableAlarmActionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DisableAlarmActionsRequest> request = new DisableAlarmActionsRequestMarshaller().marshall(disableAlarmActionsRequest);
+        Request<DisableAlarmActionsRequest> request = DisableAlarmActionsRequestMarshaller.getInstance().marshall(disableAlarmActionsRequest);
         invoke(request, null);
     }
     
@@ -401,8 +408,8 @@ public class AmazonCloudWatchClient extends AmazonWebServiceClient implements Am
      */
     public DescribeAlarmsResult describeAlarms(DescribeAlarmsRequest describeAlarmsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeAlarmsRequest> request = new DescribeAlarmsRequestMarshaller().marshall(describeAlarmsRequest);
-        return invoke(request, new DescribeAlarmsResultStaxUnmarshaller());
+        Request<DescribeAlarmsRequest> request = DescribeAlarmsRequestMarshaller.getInstance().marshall(describeAlarmsRequest);
+        return invoke(request, DescribeAlarmsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -429,8 +436,8 @@ public class AmazonCloudWatchClient extends AmazonWebServiceClient implements Am
      */
     public DescribeAlarmsForMetricResult describeAlarmsForMetric(DescribeAlarmsForMetricRequest describeAlarmsForMetricRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeAlarmsForMetricRequest> request = new DescribeAlarmsForMetricRequestMarshaller().marshall(describeAlarmsForMetricRequest);
-        return invoke(request, new DescribeAlarmsForMetricResultStaxUnmarshaller());
+        Request<DescribeAlarmsForMetricRequest> request = DescribeAlarmsForMetricRequestMarshaller.getInstance().marshall(describeAlarmsForMetricRequest);
+        return invoke(request, DescribeAlarmsForMetricResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -463,8 +470,8 @@ public class AmazonCloudWatchClient extends AmazonWebServiceClient implements Am
      */
     public DescribeAlarmHistoryResult describeAlarmHistory(DescribeAlarmHistoryRequest describeAlarmHistoryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeAlarmHistoryRequest> request = new DescribeAlarmHistoryRequestMarshaller().marshall(describeAlarmHistoryRequest);
-        return invoke(request, new DescribeAlarmHistoryResultStaxUnmarshaller());
+        Request<DescribeAlarmHistoryRequest> request = DescribeAlarmHistoryRequestMarshaller.getInstance().marshall(describeAlarmHistoryRequest);
+        return invoke(request, DescribeAlarmHistoryResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -487,7 +494,7 @@ public class AmazonCloudWatchClient extends AmazonWebServiceClient implements Am
      */
     public void enableAlarmActions(EnableAlarmActionsRequest enableAlarmActionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<EnableAlarmActionsRequest> request = new EnableAlarmActionsRequestMarshaller().marshall(enableAlarmActionsRequest);
+        Request<EnableAlarmActionsRequest> request = EnableAlarmActionsRequestMarshaller.getInstance().marshall(enableAlarmActionsRequest);
         invoke(request, null);
     }
     
@@ -512,7 +519,7 @@ public class AmazonCloudWatchClient extends AmazonWebServiceClient implements Am
      */
     public void deleteAlarms(DeleteAlarmsRequest deleteAlarmsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteAlarmsRequest> request = new DeleteAlarmsRequestMarshaller().marshall(deleteAlarmsRequest);
+        Request<DeleteAlarmsRequest> request = DeleteAlarmsRequestMarshaller.getInstance().marshall(deleteAlarmsRequest);
         invoke(request, null);
     }
     
@@ -541,7 +548,7 @@ public class AmazonCloudWatchClient extends AmazonWebServiceClient implements Am
      */
     public void setAlarmState(SetAlarmStateRequest setAlarmStateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<SetAlarmStateRequest> request = new SetAlarmStateRequestMarshaller().marshall(setAlarmStateRequest);
+        Request<SetAlarmStateRequest> request = SetAlarmStateRequestMarshaller.getInstance().marshall(setAlarmStateRequest);
         invoke(request, null);
     }
     
@@ -676,7 +683,6 @@ public class AmazonCloudWatchClient extends AmazonWebServiceClient implements Am
 
         
         StaxResponseHandler<X> responseHandler = new StaxResponseHandler<X>(unmarshaller);
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
 
         ExecutionContext executionContext = createExecutionContext();
         return (X)client.execute(request, responseHandler, errorResponseHandler, executionContext);
@@ -75,9 +75,8 @@ public class AlarmHistoryItemStaxUnmarshaller implements Unmarshaller<AlarmHisto
         }
     }
 
-    private static AlarmHistoryItemStaxUnmarshaller instance;
+    private static final AlarmHistoryItemStaxUnmarshaller instance = new AlarmHistoryItemStaxUnmarshaller();
     public static AlarmHistoryItemStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new AlarmHistoryItemStaxUnmarshaller();
         return instance;
     }
 }
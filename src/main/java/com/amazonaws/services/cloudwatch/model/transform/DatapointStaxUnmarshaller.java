@@ -83,9 +83,8 @@ public class DatapointStaxUnmarshaller implements Unmarshaller<Datapoint, StaxUn
         }
     }
 
-    private static DatapointStaxUnmarshaller instance;
+    private static final DatapointStaxUnmarshaller instance = new DatapointStaxUnmarshaller();
     public static DatapointStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DatapointStaxUnmarshaller();
         return instance;
     }
 }
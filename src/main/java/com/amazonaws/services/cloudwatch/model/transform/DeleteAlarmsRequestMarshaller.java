@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.cloudwatch.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class DeleteAlarmsRequestMarshaller implements Marshaller<Request<DeleteAlarmsRequest>, DeleteAlarmsRequest> {
 
+    private static final ParameterNameTable ALARM_NAMES_MEMBER_NAMES = new ParameterNameTable("AlarmNames.member.", "");
+
     public Request<DeleteAlarmsRequest> marshall(DeleteAlarmsRequest deleteAlarmsRequest) {
         Request<DeleteAlarmsRequest> request = new DefaultRequest<DeleteAlarmsRequest>(deleteAlarmsRequest, "AmazonCloudWatch");
         request.addParameter("Action", "DeleteAlarms");
@@ -39,7 +42,7 @@ public class DeleteAlarmsRequestMarshaller implements Marshaller<Request<DeleteA
 
             for (String alarmNamesListValue : alarmNamesList) {
                 if (alarmNamesListValue != null) {
-                    request.addParameter("AlarmNames.member." + alarmNamesListIndex, StringUtils.fromString(alarmNamesListValue));
+                    request.addParameter(ALARM_NAMES_MEMBER_NAMES.get(alarmNamesListIndex), StringUtils.fromString(alarmNamesListValue));
                 }
                 alarmNamesListIndex++;
             }
@@ -48,4 +51,9 @@ public class DeleteAlarmsRequestMarshaller implements Marshaller<Request<DeleteA
 
         return request;
     }
+
+    private static final DeleteAlarmsRequestMarshaller instance = new DeleteAlarmsRequestMarshaller();
+    public static DeleteAlarmsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
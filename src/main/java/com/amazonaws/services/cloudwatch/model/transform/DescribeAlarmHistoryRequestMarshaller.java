@@ -67,4 +67,9 @@ public class DescribeAlarmHistoryRequestMarshaller implements Marshaller<Request
 
         return request;
     }
+
+    private static final DescribeAlarmHistoryRequestMarshaller instance = new DescribeAlarmHistoryRequestMarshaller();
+    public static DescribeAlarmHistoryRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -63,9 +63,8 @@ public class DescribeAlarmHistoryResultStaxUnmarshaller implements Unmarshaller<
         }
     }
 
-    private static DescribeAlarmHistoryResultStaxUnmarshaller instance;
+    private static final DescribeAlarmHistoryResultStaxUnmarshaller instance = new DescribeAlarmHistoryResultStaxUnmarshaller();
     public static DescribeAlarmHistoryResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeAlarmHistoryResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.cloudwatch.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,9 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeAlarmsForMetricRequestMarshaller implements Marshaller<Request<DescribeAlarmsForMetricRequest>, DescribeAlarmsForMetricRequest> {
 
+    private static final ParameterNameTable DIMENSIONS_MEMBER_NAME_NAMES = new ParameterNameTable("Dimensions.member.", ".Name");
+    private static final ParameterNameTable DIMENSIONS_MEMBER_VALUE_NAMES = new ParameterNameTable("Dimensions.member.", ".Value");
+
     public Request<DescribeAlarmsForMetricRequest> marshall(DescribeAlarmsForMetricRequest describeAlarmsForMetricRequest) {
         Request<DescribeAlarmsForMetricRequest> request = new DefaultRequest<DescribeAlarmsForMetricRequest>(describeAlarmsForMetricRequest, "AmazonCloudWatch");
         request.addParameter("Action", "DescribeAlarmsForMetric");
@@ -55,12 +59,12 @@ public class DescribeAlarmsForMetricRequestMarshaller implements Marshaller<Requ
             for (Dimension dimensionsListValue : dimensionsList) {
                 if (dimensionsListValue != null) {
                     if (dimensionsListValue.getName() != null) {
-                        request.addParameter("Dimensions.member." + dimensionsListIndex + ".Name", StringUtils.fromString(dimensionsListValue.getName()));
+                        request.addParameter(DIMENSIONS_MEMBER_NAME_NAMES.get(dimensionsListIndex), StringUtils.fromString(dimensionsListValue.getName()));
                     }
                 }
                 if (dimensionsListValue != null) {
                     if (dimensionsListValue.getValue() != null) {
-                        request.addParameter("Dimensions.member." + dimensionsListIndex + ".Value", StringUtils.fromString(dimensionsListValue.getValue()));
+                        request.addParameter(DIMENSIONS_MEMBER_VALUE_NAMES.get(dimensionsListIndex), StringUtils.fromString(dimensionsListValue.getValue()));
                     }
                 }
 
@@ -81,4 +85,9 @@ public class DescribeAlarmsForMetricRequestMarshaller implements Marshaller<Requ
 
         return request;
     }
+
+    private static final DescribeAlarmsForMetricRequestMarshaller instance = new DescribeAlarmsForMetricRequestMarshaller();
+    public static DescribeAlarmsForMetricRequestMarshaller getInstance() {
+        return instance;
+    }
 }
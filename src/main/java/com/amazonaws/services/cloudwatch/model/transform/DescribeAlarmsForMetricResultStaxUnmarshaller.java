@@ -59,9 +59,8 @@ public class DescribeAlarmsForMetricResultStaxUnmarshaller implements Unmarshall
         }
     }
 
-    private static DescribeAlarmsForMetricResultStaxUnmarshaller instance;
+    private static final DescribeAlarmsForMetricResultStaxUnmarshaller instance = new DescribeAlarmsForMetricResultStaxUnmarshaller();
     public static DescribeAlarmsForMetricResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeAlarmsForMetricResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.cloudwatch.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeAlarmsRequestMarshaller implements Marshaller<Request<DescribeAlarmsRequest>, DescribeAlarmsRequest> {
 
+    private static final ParameterNameTable ALARM_NAMES_MEMBER_NAMES = new ParameterNameTable("AlarmNames.member.", "");
+
     public Request<DescribeAlarmsRequest> marshall(DescribeAlarmsRequest describeAlarmsRequest) {
         Request<DescribeAlarmsRequest> request = new DefaultRequest<DescribeAlarmsRequest>(describeAlarmsRequest, "AmazonCloudWatch");
         request.addParameter("Action", "DescribeAlarms");
@@ -39,7 +42,7 @@ public class DescribeAlarmsRequestMarshaller implements Marshaller<Request<Descr
 
             for (String alarmNamesListValue : alarmNamesList) {
                 if (alarmNamesListValue != null) {
-                    request.addParameter("AlarmNames.member." + alarmNamesListIndex, StringUtils.fromString(alarmNamesListValue));
+                    request.addParameter(ALARM_NAMES_MEMBER_NAMES.get(alarmNamesListIndex), StringUtils.fromString(alarmNamesListValue));
                 }
                 alarmNamesListIndex++;
             }
@@ -73,4 +76,9 @@ public class DescribeAlarmsRequestMarshaller implements Marshaller<Request<Descr
 
         return request;
     }
+
+    private static final DescribeAlarmsRequestMarshaller instance = new DescribeAlarmsRequestMarshaller();
+    public static DescribeAlarmsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
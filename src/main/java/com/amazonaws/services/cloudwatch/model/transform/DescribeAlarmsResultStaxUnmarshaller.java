@@ -63,9 +63,8 @@ public class DescribeAlarmsResultStaxUnmarshaller implements Unmarshaller<Descri
         }
     }
 
-    private static DescribeAlarmsResultStaxUnmarshaller instance;
+    private static final DescribeAlarmsResultStaxUnmarshaller instance = new DescribeAlarmsResultStaxUnmarshaller();
     public static DescribeAlarmsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeAlarmsResultStaxUnmarshaller();
         return instance;
     }
 }
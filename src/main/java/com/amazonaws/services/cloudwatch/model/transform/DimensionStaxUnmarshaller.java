@@ -63,9 +63,8 @@ public class DimensionStaxUnmarshaller implements Unmarshaller<Dimension, StaxUn
         }
     }
 
-    private static DimensionStaxUnmarshaller instance;
+    private static final DimensionStaxUnmarshaller instance = new DimensionStaxUnmarshaller();
     public static DimensionStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DimensionStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.cloudwatch.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class DisableAlarmActionsRequestMarshaller implements Marshaller<Request<DisableAlarmActionsRequest>, DisableAlarmActionsRequest> {
 
+    private static final ParameterNameTable ALARM_NAMES_MEMBER_NAMES = new ParameterNameTable("AlarmNames.member.", "");
+
     public Request<DisableAlarmActionsRequest> marshall(DisableAlarmActionsRequest disableAlarmActionsRequest) {
         Request<DisableAlarmActionsRequest> request = new DefaultRequest<DisableAlarmActionsRequest>(disableAlarmActionsRequest, "AmazonCloudWatch");
         request.addParameter("Action", "DisableAlarmActions");
@@ -39,7 +42,7 @@ public class DisableAlarmActionsRequestMarshaller implements Marshaller<Request<
 
             for (String alarmNamesListValue : alarmNamesList) {
                 if (alarmNamesListValue != null) {
-                    request.addParameter("AlarmNames.member." + alarmNamesListIndex, StringUtils.fromString(alarmNamesListValue));
+                    request.addParameter(ALARM_NAMES_MEMBER_NAMES.get(alarmNamesListIndex), StringUtils.fromString(alarmNamesListValue));
                 }
                 alarmNamesListIndex++;
             }
@@ -48,4 +51,9 @@ public class DisableAlarmActionsRequestMarshaller implements Marshaller<Request<
 
         return request;
     }
+
+    private static final DisableAlarmActionsRequestMarshaller instance = new DisableAlarmActionsRequestMarshaller();
+    public static DisableAlarmActionsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
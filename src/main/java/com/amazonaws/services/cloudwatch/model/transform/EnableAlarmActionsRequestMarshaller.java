@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.cloudwatch.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class EnableAlarmActionsRequestMarshaller implements Marshaller<Request<EnableAlarmActionsRequest>, EnableAlarmActionsRequest> {
 
+    private static final ParameterNameTable ALARM_NAMES_MEMBER_NAMES = new ParameterNameTable("AlarmNames.member.", "");
+
     public Request<EnableAlarmActionsRequest> marshall(EnableAlarmActionsRequest enableAlarmActionsRequest) {
         Request<EnableAlarmActionsRequest> request = new DefaultRequest<EnableAlarmActionsRequest>(enableAlarmActionsRequest, "AmazonCloudWatch");
         request.addParameter("Action", "EnableAlarmActions");
@@ -39,7 +42,7 @@ public class EnableAlarmActionsRequestMarshaller implements Marshaller<Request<E
 
             for (String alarmNamesListValue : alarmNamesList) {
                 if (alarmNamesListValue != null) {
-                    request.addParameter("AlarmNames.member." + alarmNamesListIndex, StringUtils.fromString(alarmNamesListValue));
+                    request.addParameter(ALARM_NAMES_MEMBER_NAMES.get(alarmNamesListIndex), StringUtils.fromString(alarmNamesListValue));
                 }
                 alarmNamesListIndex++;
             }
@@ -48,4 +51,9 @@ public class EnableAlarmActionsRequestMarshaller implements Marshaller<Request<E
 
         return request;
     }
+
+    private static final EnableAlarmActionsRequestMarshaller instance = new EnableAlarmActionsRequestMarshaller();
+    public static EnableAlarmActionsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.cloudwatch.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,10 @@ import com.amazonaws.util.StringUtils;
  */
 public class GetMetricStatisticsRequestMarshaller implements Marshaller<Request<GetMetricStatisticsRequest>, GetMetricStatisticsRequest> {
 
+    private static final ParameterNameTable DIMENSIONS_MEMBER_NAME_NAMES = new ParameterNameTable("Dimensions.member.", ".Name");
+    private static final ParameterNameTable DIMENSIONS_MEMBER_VALUE_NAMES = new ParameterNameTable("Dimensions.member.", ".Value");
+    private static final ParameterNameTable STATISTICS_MEMBER_NAMES = new ParameterNameTable("Statistics.member.", "");
+
     public Request<GetMetricStatisticsRequest> marshall(GetMetricStatisticsRequest getMetricStatisticsRequest) {
         Request<GetMetricStatisticsRequest> request = new DefaultRequest<GetMetricStatisticsRequest>(getMetricStatisticsRequest, "AmazonCloudWatch");
         request.addParameter("Action", "GetMetricStatistics");
@@ -50,12 +55,12 @@ public class GetMetricStatisticsRequestMarshaller implements Marshaller<Request<
             for (Dimension dimensionsListValue : dimensionsList) {
                 if (dimensionsListValue != null) {
                     if (dimensionsListValue.getName() != null) {
-                        request.addParameter("Dimensions.member." + dimensionsListIndex + ".Name", StringUtils.fromString(dimensionsListValue.getName()));
+                        request.addParameter(DIMENSIONS_MEMBER_NAME_NAMES.get(dimensionsListIndex), StringUtils.fromString(dimensionsListValue.getName()));
                     }
                 }
                 if (dimensionsListValue != null) {
                     if (dimensionsListValue.getValue() != null) {
-                        request.addParameter("Dimensions.member." + dimensionsListIndex + ".Value", StringUtils.fromString(dimensionsListValue.getValue()));
+                        request.addParameter(DIMENSIONS_MEMBER_VALUE_NAMES.get(dimensionsListIndex), StringUtils.fromString(dimensionsListValue.getValue()));
                     }
                 }
 
@@ -83,7 +88,7 @@ public class GetMetricStatisticsRequestMarshaller implements Marshaller<Request<
 
             for (String statisticsListValue : statisticsList) {
                 if (statisticsListValue != null) {
-                    request.addParameter("Statistics.member." + statisticsListIndex, StringUtils.fromString(statisticsListValue));
+                    request.addParameter(STATISTICS_MEMBER_NAMES.get(statisticsListIndex), StringUtils.fromString(statisticsListValue));
                 }
                 statisticsListIndex++;
             }
@@ -97,4 +102,9 @@ public class GetMetricStatisticsRequestMarshaller implements Marshaller<Request<
 
         return request;
     }
+
+    private static final GetMetricStatisticsRequestMarshaller instance = new GetMetricStatisticsRequestMarshaller();
+    public static GetMetricStatisticsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -63,9 +63,8 @@ public class GetMetricStatisticsResultStaxUnmarshaller implements Unmarshaller<G
         }
     }
 
-    private static GetMetricStatisticsResultStaxUnmarshaller instance;
+    private static final GetMetricStatisticsResultStaxUnmarshaller instance = new GetMetricStatisticsResultStaxUnmarshaller();
     public static GetMetricStatisticsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new GetMetricStatisticsResultStaxUnmarshaller();
         return instance;
     }
 }
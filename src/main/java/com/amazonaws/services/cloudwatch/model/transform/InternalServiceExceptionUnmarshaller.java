@@ -25,7 +25,7 @@ import com.amazonaws.services.cloudwatch.model.InternalServiceException;
 public class InternalServiceExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InternalServiceExceptionUnmarshaller() {
-        super(InternalServiceException.class);
+        super(InternalServiceException.class, "InternalServiceError");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
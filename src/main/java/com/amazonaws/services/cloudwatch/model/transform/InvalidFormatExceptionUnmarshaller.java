@@ -25,7 +25,7 @@ import com.amazonaws.services.cloudwatch.model.InvalidFormatException;
 public class InvalidFormatExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidFormatExceptionUnmarshaller() {
-        super(InvalidFormatException.class);
+        super(InvalidFormatException.class, "InvalidFormat");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.cloudwatch.model.InvalidNextTokenException;
 public class InvalidNextTokenExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidNextTokenExceptionUnmarshaller() {
-        super(InvalidNextTokenException.class);
+        super(InvalidNextTokenException.class, "InvalidNextToken");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
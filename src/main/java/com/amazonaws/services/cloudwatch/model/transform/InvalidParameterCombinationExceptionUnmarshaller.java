@@ -25,7 +25,7 @@ import com.amazonaws.services.cloudwatch.model.InvalidParameterCombinationExcept
 public class InvalidParameterCombinationExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidParameterCombinationExceptionUnmarshaller() {
-        super(InvalidParameterCombinationException.class);
+        super(InvalidParameterCombinationException.class, "InvalidParameterCombination");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
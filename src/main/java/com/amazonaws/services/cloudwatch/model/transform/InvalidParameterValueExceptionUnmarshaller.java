@@ -25,7 +25,7 @@ import com.amazonaws.services.cloudwatch.model.InvalidParameterValueException;
 public class InvalidParameterValueExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidParameterValueExceptionUnmarshaller() {
-        super(InvalidParameterValueException.class);
+        super(InvalidParameterValueException.class, "InvalidParameterValue");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.cloudwatch.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,9 @@ import com.amazonaws.util.StringUtils;
  */
 public class ListMetricsRequestMarshaller implements Marshaller<Request<ListMetricsRequest>, ListMetricsRequest> {
 
+    private static final ParameterNameTable DIMENSIONS_MEMBER_NAME_NAMES = new ParameterNameTable("Dimensions.member.", ".Name");
+    private static final ParameterNameTable DIMENSIONS_MEMBER_VALUE_NAMES = new ParameterNameTable("Dimensions.member.", ".Value");
+
     public Request<ListMetricsRequest> marshall(ListMetricsRequest listMetricsRequest) {
         Request<ListMetricsRequest> request = new DefaultRequest<ListMetricsRequest>(listMetricsRequest, "AmazonCloudWatch");
         request.addParameter("Action", "ListMetrics");
@@ -50,12 +54,12 @@ public class ListMetricsRequestMarshaller implements Marshaller<Request<ListMetr
             for (DimensionFilter dimensionsListValue : dimensionsList) {
                 if (dimensionsListValue != null) {
                     if (dimensionsListValue.getName() != null) {
-                        request.addParameter("Dimensions.member." + dimensionsListIndex + ".Name", StringUtils.fromString(dimensionsListValue.getName()));
+                        request.addParameter(DIMENSIONS_MEMBER_NAME_NAMES.get(dimensionsListIndex), StringUtils.fromString(dimensionsListValue.getName()));
                     }
                 }
                 if (dimensionsListValue != null) {
                     if (dimensionsListValue.getValue() != null) {
-                        request.addParameter("Dimensions.member." + dimensionsListIndex + ".Value", StringUtils.fromString(dimensionsListValue.getValue()));
+                        request.addParameter(DIMENSIONS_MEMBER_VALUE_NAMES.get(dimensionsListIndex), StringUtils.fromString(dimensionsListValue.getValue()));
                     }
                 }
 
@@ -71,4 +75,9 @@ public class ListMetricsRequestMarshaller implements Marshaller<Request<ListMetr
 
         return request;
     }
+
+    private static final ListMetricsRequestMarshaller instance = new ListMetricsRequestMarshaller();
+    public static ListMetricsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -63,9 +63,8 @@ public class ListMetricsResultStaxUnmarshaller implements Unmarshaller<ListMetri
         }
     }
 
-    private static ListMetricsResultStaxUnmarshaller instance;
+    private static final ListMetricsResultStaxUnmarshaller instance = new ListMetricsResultStaxUnmarshaller();
     public static ListMetricsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ListMetricsResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -139,9 +139,8 @@ public class MetricAlarmStaxUnmarshaller implements Unmarshaller<MetricAlarm, St
         }
     }
 
-    private static MetricAlarmStaxUnmarshaller instance;
+    private static final MetricAlarmStaxUnmarshaller instance = new MetricAlarmStaxUnmarshaller();
     public static MetricAlarmStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new MetricAlarmStaxUnmarshaller();
         return instance;
     }
 }
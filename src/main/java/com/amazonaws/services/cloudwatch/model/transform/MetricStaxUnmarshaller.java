@@ -67,9 +67,8 @@ public class MetricStaxUnmarshaller implements Unmarshaller<Metric, StaxUnmarsha
         }
     }
 
-    private static MetricStaxUnmarshaller instance;
+    private static final MetricStaxUnmarshaller instance = new MetricStaxUnmarshaller();
     public static MetricStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new MetricStaxUnmarshaller();
         return instance;
     }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.cloudwatch.model.MissingRequiredParameterException
 public class MissingRequiredParameterExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public MissingRequiredParameterExceptionUnmarshaller() {
-        super(MissingRequiredParameterException.class);
+        super(MissingRequiredParameterException.class, "MissingParameter");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.cloudwatch.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,12 @@ import com.amazonaws.util.StringUtils;
  */
 public class PutMetricAlarmRequestMarshaller implements Marshaller<Request<PutMetricAlarmRequest>, PutMetricAlarmRequest> {
 
+    private static final ParameterNameTable OKACTIONS_MEMBER_NAMES = new ParameterNameTable("OKActions.member.", "");
+    private static final ParameterNameTable ALARM_ACTIONS_MEMBER_NAMES = new ParameterNameTable("AlarmActions.member.", "");
+    private static final ParameterNameTable INSUFFICIENT_DATA_ACTIONS_MEMBER_NAMES = new ParameterNameTable("InsufficientDataActions.member.", "");
+    private static final ParameterNameTable DIMENSIONS_MEMBER_NAME_NAMES = new ParameterNameTable("Dimensions.member.", ".Name");
+    private static final ParameterNameTable DIMENSIONS_MEMBER_VALUE_NAMES = new ParameterNameTable("Dimensions.member.", ".Value");
+
     public Request<PutMetricAlarmRequest> marshall(PutMetricAlarmRequest putMetricAlarmRequest) {
         Request<PutMetricAlarmRequest> request = new DefaultRequest<PutMetricAlarmRequest>(putMetricAlarmRequest, "AmazonCloudWatch");
         request.addParameter("Action", "PutMetricAlarm");
@@ -54,7 +61,7 @@ public class PutMetricAlarmRequestMarshaller implements Marshaller<Request<PutMe
 
             for (String oKActionsListValue : oKActionsList) {
                 if (oKActionsListValue != null) {
-                    request.addParameter("OKActions.member." + oKActionsListIndex, StringUtils.fromString(oKActionsListValue));
+                    request.addParameter(OKACTIONS_MEMBER_NAMES.get(oKActionsListIndex), StringUtils.fromString(oKActionsListValue));
                 }
                 oKActionsListIndex++;
             }
@@ -65,7 +72,7 @@ public class PutMetricAlarmRequestMarshaller implements Marshaller<Request<PutMe
 
             for (String alarmActionsListValue : alarmActionsList) {
                 if (alarmActionsListValue != null) {
-                    request.addParameter("AlarmActions.member." + alarmActionsListIndex, StringUtils.fromString(alarmActionsListValue));
+                    request.addParameter(ALARM_ACTIONS_MEMBER_NAMES.get(alarmActionsListIndex), StringUtils.fromString(alarmActionsListValue));
                 }
                 alarmActionsListIndex++;
             }
@@ -76,7 +83,7 @@ public class PutMetricAlarmRequestMarshaller implements Marshaller<Request<PutMe
 
             for (String insufficientDataActionsListValue : insufficientDataActionsList) {
                 if (insufficientDataActionsListValue != null) {
-                    request.addParameter("InsufficientDataActions.member." + insufficientDataActionsListIndex, StringUtils.fromString(insufficientDataActionsListValue));
+                    request.addParameter(INSUFFICIENT_DATA_ACTIONS_MEMBER_NAMES.get(insufficientDataActionsListIndex), StringUtils.fromString(insufficientDataActionsListValue));
                 }
                 insufficientDataActionsListIndex++;
             }
@@ -103,12 +110,12 @@ public class PutMetricAlarmRequestMarshaller implements Marshaller<Request<PutMe
             for (Dimension dimensionsListValue : dimensionsList) {
                 if (dimensionsListValue != null) {
                     if (dimensionsListValue.getName() != null) {
-                        request.addParameter("Dimensions.member." + dimensionsListIndex + ".Name", StringUtils.fromString(dimensionsListValue.getName()));
+                        request.addParameter(DIMENSIONS_MEMBER_NAME_NAMES.get(dimensionsListIndex), StringUtils.fromString(dimensionsListValue.getName()));
                     }
                 }
                 if (dimensionsListValue != null) {
                     if (dimensionsListValue.getValue() != null) {
-                        request.addParameter("Dimensions.member." + dimensionsListIndex + ".Value", StringUtils.fromString(dimensionsListValue.getValue()));
+                        request.addParameter(DIMENSIONS_MEMBER_VALUE_NAMES.get(dimensionsListIndex), StringUtils.fromString(dimensionsListValue.getValue()));
                     }
                 }
 
@@ -144,4 +151,9 @@ public class PutMetricAlarmRequestMarshaller implements Marshaller<Request<PutMe
 
         return request;
     }
+
+    private static final PutMetricAlarmRequestMarshaller instance = new PutMetricAlarmRequestMarshaller();
+    public static PutMetricAlarmRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.cloudwatch.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,17 @@ import com.amazonaws.util.StringUtils;
  */
 public class PutMetricDataRequestMarshaller implements Marshaller<Request<PutMetricDataRequest>, PutMetricDataRequest> {
 
+    private static final ParameterNameTable METRIC_DATA_MEMBER_METRIC_NAME_NAMES = new ParameterNameTable("MetricData.member.", ".MetricName");
+    private static final ParameterNameTable METRIC_DATA_MEMBER_DIMENSIONS_MEMBER_NAME_NAMES = new ParameterNameTable("MetricData.member.", ".Dimensions.member.", ".Name");
+    private static final ParameterNameTable METRIC_DATA_MEMBER_DIMENSIONS_MEMBER_VALUE_NAMES = new ParameterNameTable("MetricData.member.", ".Dimensions.member.", ".Value");
+    private static final ParameterNameTable METRIC_DATA_MEMBER_TIMESTAMP_NAMES = new ParameterNameTable("MetricData.member.", ".Timestamp");
+    private static final ParameterNameTable METRIC_DATA_MEMBER_VALUE_NAMES = new ParameterNameTable("MetricData.member.", ".Value");
+    private static final ParameterNameTable METRIC_DATA_MEMBER_STATISTIC_VALUES_SAMPLE_COUNT_NAMES = new ParameterNameTable("MetricData.member.", ".StatisticValues.SampleCount");
+    private static final ParameterNameTable METRIC_DATA_MEMBER_STATISTIC_VALUES_SUM_NAMES = new ParameterNameTable("MetricData.member.", ".StatisticValues.Sum");
+    private static final ParameterNameTable METRIC_DATA_MEMBER_STATISTIC_VALUES_MINIMUM_NAMES = new ParameterNameTable("MetricData.member.", ".StatisticValues.Minimum");
+    private static final ParameterNameTable METRIC_DATA_MEMBER_STATISTIC_VALUES_MAXIMUM_NAMES = new ParameterNameTable("MetricData.member.", ".StatisticValues.Maximum");
+    private static final ParameterNameTable METRIC_DATA_MEMBER_UNIT_NAMES = new ParameterNameTable("MetricData.member.", ".Unit");
+
     public Request<PutMetricDataRequest> marshall(PutMetricDataRequest putMetricDataRequest) {
         Request<PutMetricDataRequest> request = new DefaultRequest<PutMetricDataRequest>(putMetricDataRequest, "AmazonCloudWatch");
         request.addParameter("Action", "PutMetricData");
@@ -45,7 +57,7 @@ public class PutMetricDataRequestMarshaller implements Marshaller<Request<PutMet
             for (MetricDatum metricDataListValue : metricDataList) {
                 if (metricDataListValue != null) {
                     if (metricDataListValue.getMetricName() != null) {
-                        request.addParameter("MetricData.member." + metricDataListIndex + ".MetricName", StringUtils.fromString(metricDataListValue.getMetricName()));
+                        request.addParameter(METRIC_DATA_MEMBER_METRIC_NAME_NAMES.get(metricDataListIndex), StringUtils.fromString(metricDataListValue.getMetricName()));
                     }
                 }
 
@@ -55,12 +67,12 @@ public class PutMetricDataRequestMarshaller implements Marshaller<Request<PutMet
                     for (Dimension dimensionsListValue : dimensionsList) {
                         if (dimensionsListValue != null) {
                             if (dimensionsListValue.getName() != null) {
-                                request.addParameter("MetricData.member." + metricDataListIndex + ".Dimensions.member." + dimensionsListIndex + ".Name", StringUtils.fromString(dimensionsListValue.getName()));
+                                request.addParameter(METRIC_DATA_MEMBER_DIMENSIONS_MEMBER_NAME_NAMES.get(metricDataListIndex, dimensionsListIndex), StringUtils.fromString(dimensionsListValue.getName()));
                             }
                         }
                         if (dimensionsListValue != null) {
                             if (dimensionsListValue.getValue() != null) {
-                                request.addParameter("MetricData.member." + metricDataListIndex + ".Dimensions.member." + dimensionsListIndex + ".Value", StringUtils.fromString(dimensionsListValue.getValue()));
+                                request.addParameter(METRIC_DATA_MEMBER_DIMENSIONS_MEMBER_VALUE_NAMES.get(metricDataListIndex, dimensionsListIndex), StringUtils.fromString(dimensionsListValue.getValue()));
                             }
                         }
 
@@ -69,40 +81,40 @@ public class PutMetricDataRequestMarshaller implements Marshaller<Request<PutMet
                 }
                 if (metricDataListValue != null) {
                     if (metricDataListValue.getTimestamp() != null) {
-                        request.addParameter("MetricData.member." + metricDataListIndex + ".Timestamp", StringUtils.fromDate(metricDataListValue.getTimestamp()));
+                        request.addParameter(METRIC_DATA_MEMBER_TIMESTAMP_NAMES.get(metricDataListIndex), StringUtils.fromDate(metricDataListValue.getTimestamp()));
                     }
                 }
                 if (metricDataListValue != null) {
                     if (metricDataListValue.getValue() != null) {
-                        request.addParameter("MetricData.member." + metricDataListIndex + ".Value", StringUtils.fromDouble(metricDataListValue.getValue()));
+                        request.addParameter(METRIC_DATA_MEMBER_VALUE_NAMES.get(metricDataListIndex), StringUtils.fromDouble(metricDataListValue.getValue()));
                     }
                 }
                 if (metricDataListValue != null) {
                     StatisticSet statisticValues = metricDataListValue.getStatisticValues();
                     if (statisticValues != null) {
                         if (statisticValues.getSampleCount() != null) {
-                            request.addParameter("MetricData.member." + metricDataListIndex + ".StatisticValues.SampleCount", StringUtils.fromDouble(statisticValues.getSampleCount()));
+                            request.addParameter(METRIC_DATA_MEMBER_STATISTIC_VALUES_SAMPLE_COUNT_NAMES.get(metricDataListIndex), StringUtils.fromDouble(statisticValues.getSampleCount()));
                         }
                     }
                     if (statisticValues != null) {
                         if (statisticValues.getSum() != null) {
-                            request.addParameter("MetricData.member." + metricDataListIndex + ".StatisticValues.Sum", StringUtils.fromDouble(statisticValues.getSum()));
+                            request.addParameter(METRIC_DATA_MEMBER_STATISTIC_VALUES_SUM_NAMES.get(metricDataListIndex), StringUtils.fromDouble(statisticValues.getSum()));
                         }
                     }
                     if (statisticValues != null) {
                         if (statisticValues.getMinimum() != null) {
-                            request.addParameter("MetricData.member." + metricDataListIndex + ".StatisticValues.Minimum", StringUtils.fromDouble(statisticValues.getMinimum()));
+                            request.addParameter(METRIC_DATA_MEMBER_STATISTIC_VALUES_MINIMUM_NAMES.get(metricDataListIndex), StringUtils.fromDouble(statisticValues.getMinimum()));
                         }
                     }
                     if (statisticValues != null) {
                         if (statisticValues.getMaximum() != null) {
-                            request.addParameter("MetricData.member." + metricDataListIndex + ".StatisticValues.Maximum", StringUtils.fromDouble(statisticValues.getMaximum()));
+                            request.addParameter(METRIC_DATA_MEMBER_STATISTIC_VALUES_MAXIMUM_NAMES.get(metricDataListIndex), StringUtils.fromDouble(statisticValues.getMaximum()));
                         }
                     }
                 }
                 if (metricDataListValue != null) {
                     if (metricDataListValue.getUnit() != null) {
-                        request.addParameter("MetricData.member." + metricDataListIndex + ".Unit", StringUtils.fromString(metricDataListValue.getUnit()));
+                        request.addParameter(METRIC_DATA_MEMBER_UNIT_NAMES.get(metricDataListIndex), StringUtils.fromString(metricDataListValue.getUnit()));
                     }
                 }
 
@@ -113,4 +125,9 @@ public class PutMetricDataRequestMarshaller implements Marshaller<Request<PutMet
 
         return request;
     }
+
+    private static final PutMetricDataRequestMarshaller instance = new PutMetricDataRequestMarshaller();
+    public static PutMetricDataRequestMarshaller getInstance() {
+        return instance;
+    }
 }
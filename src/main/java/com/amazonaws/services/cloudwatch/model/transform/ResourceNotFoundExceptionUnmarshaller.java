@@ -25,7 +25,7 @@ import com.amazonaws.services.cloudwatch.model.ResourceNotFoundException;
 public class ResourceNotFoundExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public ResourceNotFoundExceptionUnmarshaller() {
-        super(ResourceNotFoundException.class);
+        super(ResourceNotFoundException.class, "ResourceNotFound");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -57,4 +57,9 @@ public class SetAlarmStateRequestMarshaller implements Marshaller<Request<SetAla
 
         return request;
     }
+
+    private static final SetAlarmStateRequestMarshaller instance = new SetAlarmStateRequestMarshaller();
+    public static SetAlarmStateRequestMarshaller getInstance() {
+        return instance;
+    }
 }
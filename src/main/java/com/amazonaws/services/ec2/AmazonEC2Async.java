@@ -18,6 +18,7 @@ import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.services.ec2.model.*;
 
 /**
@@ -72,6 +73,37 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<Void> rebootInstancesAsync(RebootInstancesRequest rebootInstancesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The RebootInstances operation requests a reboot of one or more
+     * instances. This operation is asynchronous; it only queues a request to
+     * reboot the specified instance(s). The operation will succeed if the
+     * instances are valid and belong to the user. Requests to reboot
+     * terminated instances are ignored.
+     * </p>
+     *
+     * @param rebootInstancesRequest Container for the necessary parameters
+     *           to execute the RebootInstances operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RebootInstances service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> rebootInstancesAsync(RebootInstancesRequest rebootInstancesRequest,
+            AsyncHandler<RebootInstancesRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The DescribeReservedInstances operation describes Reserved Instances
@@ -96,6 +128,35 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<DescribeReservedInstancesResult> describeReservedInstancesAsync(DescribeReservedInstancesRequest describeReservedInstancesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The DescribeReservedInstances operation describes Reserved Instances
+     * that were purchased for use with your account.
+     * </p>
+     *
+     * @param describeReservedInstancesRequest Container for the necessary
+     *           parameters to execute the DescribeReservedInstances operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeReservedInstances service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeReservedInstancesResult> describeReservedInstancesAsync(DescribeReservedInstancesRequest describeReservedInstancesRequest,
+            AsyncHandler<DescribeReservedInstancesRequest, DescribeReservedInstancesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The DescribeAvailabilityZones operation describes availability zones
@@ -126,6 +187,41 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<DescribeAvailabilityZonesResult> describeAvailabilityZonesAsync(DescribeAvailabilityZonesRequest describeAvailabilityZonesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The DescribeAvailabilityZones operation describes availability zones
+     * that are currently available to the account and their states.
+     * </p>
+     * <p>
+     * Availability zones are not the same across accounts. The availability
+     * zone <code>us-east-1a</code> for account A is not necessarily the same
+     * as <code>us-east-1a</code> for account B. Zone assignments are mapped
+     * independently for each account.
+     * </p>
+     *
+     * @param describeAvailabilityZonesRequest Container for the necessary
+     *           parameters to execute the DescribeAvailabilityZones operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeAvailabilityZones service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeAvailabilityZonesResult> describeAvailabilityZonesAsync(DescribeAvailabilityZonesRequest describeAvailabilityZonesRequest,
+            AsyncHandler<DescribeAvailabilityZonesRequest, DescribeAvailabilityZonesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Detach a previously attached volume from a running instance.
@@ -148,6 +244,33 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<DetachVolumeResult> detachVolumeAsync(DetachVolumeRequest detachVolumeRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Detach a previously attached volume from a running instance.
+     * </p>
+     *
+     * @param detachVolumeRequest Container for the necessary parameters to
+     *           execute the DetachVolume operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DetachVolume service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DetachVolumeResult> detachVolumeAsync(DetachVolumeRequest detachVolumeRequest,
+            AsyncHandler<DetachVolumeRequest, DetachVolumeResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The DeleteKeyPair operation deletes a key pair.
@@ -170,6 +293,33 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<Void> deleteKeyPairAsync(DeleteKeyPairRequest deleteKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The DeleteKeyPair operation deletes a key pair.
+     * </p>
+     *
+     * @param deleteKeyPairRequest Container for the necessary parameters to
+     *           execute the DeleteKeyPair operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteKeyPair service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteKeyPairAsync(DeleteKeyPairRequest deleteKeyPairRequest,
+            AsyncHandler<DeleteKeyPairRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Disables monitoring for a running instance.
@@ -192,6 +342,33 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<UnmonitorInstancesResult> unmonitorInstancesAsync(UnmonitorInstancesRequest unmonitorInstancesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Disables monitoring for a running instance.
+     * </p>
+     *
+     * @param unmonitorInstancesRequest Container for the necessary
+     *           parameters to execute the UnmonitorInstances operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         UnmonitorInstances service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<UnmonitorInstancesResult> unmonitorInstancesAsync(UnmonitorInstancesRequest unmonitorInstancesRequest,
+            AsyncHandler<UnmonitorInstancesRequest, UnmonitorInstancesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Attaches a VPN gateway to a VPC. This is the last step required to
@@ -217,6 +394,36 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<AttachVpnGatewayResult> attachVpnGatewayAsync(AttachVpnGatewayRequest attachVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Attaches a VPN gateway to a VPC. This is the last step required to
+     * get your VPC fully connected to your data center before launching
+     * instances in it. For more information, go to Process for Using Amazon
+     * VPC in the Amazon Virtual Private Cloud Developer Guide.
+     * </p>
+     *
+     * @param attachVpnGatewayRequest Container for the necessary parameters
+     *           to execute the AttachVpnGateway operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AttachVpnGateway service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<AttachVpnGatewayResult> attachVpnGatewayAsync(AttachVpnGatewayRequest attachVpnGatewayRequest,
+            AsyncHandler<AttachVpnGatewayRequest, AttachVpnGatewayResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Creates an Amazon EBS-backed AMI from a "running" or "stopped"
@@ -243,6 +450,37 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<CreateImageResult> createImageAsync(CreateImageRequest createImageRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Creates an Amazon EBS-backed AMI from a "running" or "stopped"
+     * instance. AMIs that use an Amazon EBS root device boot faster than
+     * AMIs that use instance stores. They can be up to 1 TiB in size, use
+     * storage that persists on instance failure, and can be stopped and
+     * started.
+     * </p>
+     *
+     * @param createImageRequest Container for the necessary parameters to
+     *           execute the CreateImage operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateImage service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateImageResult> createImageAsync(CreateImageRequest createImageRequest,
+            AsyncHandler<CreateImageRequest, CreateImageResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The DeleteSecurityGroup operation deletes a security group.
@@ -273,6 +511,41 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<Void> deleteSecurityGroupAsync(DeleteSecurityGroupRequest deleteSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The DeleteSecurityGroup operation deletes a security group.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> If you attempt to delete a security group that contains
+     * instances, a fault is returned. If you attempt to delete a security
+     * group that is referenced by another security group, a fault is
+     * returned. For example, if security group B has a rule that allows
+     * access from security group A, security group A cannot be deleted until
+     * the allow rule is removed.
+     * </p>
+     *
+     * @param deleteSecurityGroupRequest Container for the necessary
+     *           parameters to execute the DeleteSecurityGroup operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteSecurityGroup service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteSecurityGroupAsync(DeleteSecurityGroupRequest deleteSecurityGroupRequest,
+            AsyncHandler<DeleteSecurityGroupRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * This action applies only to security groups in a VPC; it's not
@@ -320,6 +593,58 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<Void> authorizeSecurityGroupEgressAsync(AuthorizeSecurityGroupEgressRequest authorizeSecurityGroupEgressRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * This action applies only to security groups in a VPC; it's not
+     * supported for EC2 security groups. For information about Amazon
+     * Virtual Private Cloud and VPC security groups, go to the Amazon
+     * Virtual Private Cloud User Guide.
+     * </p>
+     * <p>
+     * The action adds one or more egress rules to a VPC security group.
+     * Specifically, this permits instances in a security group to send
+     * traffic to either one or more destination CIDR IP address ranges, or
+     * to one or more destination security groups in the same VPC.
+     * </p>
+     * <p>
+     * Each rule consists of the protocol (e.g., TCP), plus either a CIDR
+     * range, or a source group. For the TCP and UDP protocols, you must also
+     * specify the destination port or port range. For the ICMP protocol, you
+     * must also specify the ICMP type and code. You can use <code>-1</code>
+     * as a wildcard for the ICMP type or code.
+     * </p>
+     * <p>
+     * Rule changes are propagated to instances within the security group as
+     * quickly as possible. However, a small delay might occur.
+     * </p>
+     * <p>
+     * <b>Important:</b> For VPC security groups: You can have up to 50
+     * rules total per group (covering both ingress and egress).
+     * </p>
+     *
+     * @param authorizeSecurityGroupEgressRequest Container for the necessary
+     *           parameters to execute the AuthorizeSecurityGroupEgress operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AuthorizeSecurityGroupEgress service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> authorizeSecurityGroupEgressAsync(AuthorizeSecurityGroupEgressRequest authorizeSecurityGroupEgressRequest,
+            AsyncHandler<AuthorizeSecurityGroupEgressRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Retrieves the encrypted administrator password for the instances
@@ -351,8 +676,42 @@ public interface AmazonEC2Async extends AmazonEC2 {
 
     /**
      * <p>
-     * Associates a set of DHCP options (that you've previously created)
-     * with the specified VPC. Or, associates the default DHCP options with
+     * Retrieves the encrypted administrator password for the instances
+     * running Windows.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> The Windows password is only generated the first time an
+     * AMI is launched. It is not generated for rebundled AMIs or after the
+     * password is changed on an instance. The password is encrypted using
+     * the key pair that you provided.
+     * </p>
+     *
+     * @param getPasswordDataRequest Container for the necessary parameters
+     *           to execute the GetPasswordData operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetPasswordData service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetPasswordDataResult> getPasswordDataAsync(GetPasswordDataRequest getPasswordDataRequest,
+            AsyncHandler<GetPasswordDataRequest, GetPasswordDataResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Associates a set of DHCP options (that you've previously created)
+     * with the specified VPC. Or, associates the default DHCP options with
      * the VPC. The default set consists of the standard EC2 host name, no
      * domain name, no DNS server, no NTP server, and no NetBIOS server or
      * node type. After you associate the options with the VPC, any existing
@@ -379,6 +738,41 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<Void> associateDhcpOptionsAsync(AssociateDhcpOptionsRequest associateDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Associates a set of DHCP options (that you've previously created)
+     * with the specified VPC. Or, associates the default DHCP options with
+     * the VPC. The default set consists of the standard EC2 host name, no
+     * domain name, no DNS server, no NTP server, and no NetBIOS server or
+     * node type. After you associate the options with the VPC, any existing
+     * instances and all new instances that you launch in that VPC use the
+     * options. For more information about the supported DHCP options and
+     * using them with Amazon VPC, go to Using DHCP Options in the Amazon
+     * Virtual Private Cloud Developer Guide.
+     * </p>
+     *
+     * @param associateDhcpOptionsRequest Container for the necessary
+     *           parameters to execute the AssociateDhcpOptions operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AssociateDhcpOptions service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> associateDhcpOptionsAsync(AssociateDhcpOptionsRequest associateDhcpOptionsRequest,
+            AsyncHandler<AssociateDhcpOptionsRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Stops an instance that uses an Amazon EBS volume as its root device.
@@ -413,6 +807,45 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<StopInstancesResult> stopInstancesAsync(StopInstancesRequest stopInstancesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Stops an instance that uses an Amazon EBS volume as its root device.
+     * Instances that use Amazon EBS volumes as their root devices can be
+     * quickly stopped and started. When an instance is stopped, the compute
+     * resources are released and you are not billed for hourly instance
+     * usage. However, your root partition Amazon EBS volume remains,
+     * continues to persist your data, and you are charged for Amazon EBS
+     * volume usage. You can restart your instance at any time.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> Before stopping an instance, make sure it is in a state
+     * from which it can be restarted. Stopping an instance does not preserve
+     * data stored in RAM. Performing this operation on an instance that uses
+     * an instance store as its root device returns an error.
+     * </p>
+     *
+     * @param stopInstancesRequest Container for the necessary parameters to
+     *           execute the StopInstances operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         StopInstances service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<StopInstancesResult> stopInstancesAsync(StopInstancesRequest stopInstancesRequest,
+            AsyncHandler<StopInstancesRequest, StopInstancesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Imports the public key from an RSA key pair created with a
@@ -455,6 +888,53 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<ImportKeyPairResult> importKeyPairAsync(ImportKeyPairRequest importKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Imports the public key from an RSA key pair created with a
+     * third-party tool. This operation differs from CreateKeyPair as the
+     * private key is never transferred between the caller and AWS servers.
+     * </p>
+     * <p>
+     * RSA key pairs are easily created on Microsoft Windows and Linux OS
+     * systems using the <code>ssh-keygen</code> command line tool provided
+     * with the standard OpenSSH installation. Standard library support for
+     * RSA key pair creation is also available for Java, Ruby, Python, and
+     * many other programming languages.
+     * </p>
+     * <p>
+     * The following formats are supported:
+     * </p>
+     * 
+     * <ul>
+     * <li> OpenSSH public key format, </li>
+     * <li> Base64 encoded DER format. </li>
+     * <li> SSH public key file format as specified in <a
+     * href="http://tools.ietf.org/html/rfc4716"> RFC4716 </a> . </li>
+     * 
+     * </ul>
+     *
+     * @param importKeyPairRequest Container for the necessary parameters to
+     *           execute the ImportKeyPair operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ImportKeyPair service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ImportKeyPairResult> importKeyPairAsync(ImportKeyPairRequest importKeyPairRequest,
+            AsyncHandler<ImportKeyPairRequest, ImportKeyPairResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The CreateSecurityGroup operation creates a new security group.
@@ -487,6 +967,43 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<CreateSecurityGroupResult> createSecurityGroupAsync(CreateSecurityGroupRequest createSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The CreateSecurityGroup operation creates a new security group.
+     * </p>
+     * <p>
+     * Every instance is launched in a security group. If no security group
+     * is specified during launch, the instances are launched in the default
+     * security group. Instances within the same security group have
+     * unrestricted network access to each other. Instances will reject
+     * network access attempts from other instances in a different security
+     * group. As the owner of instances you can grant or revoke specific
+     * permissions using the AuthorizeSecurityGroupIngress and
+     * RevokeSecurityGroupIngress operations.
+     * </p>
+     *
+     * @param createSecurityGroupRequest Container for the necessary
+     *           parameters to execute the CreateSecurityGroup operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateSecurityGroup service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateSecurityGroupResult> createSecurityGroupAsync(CreateSecurityGroupRequest createSecurityGroupRequest,
+            AsyncHandler<CreateSecurityGroupRequest, CreateSecurityGroupResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Describes the Spot Price history.
@@ -522,6 +1039,46 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<DescribeSpotPriceHistoryResult> describeSpotPriceHistoryAsync(DescribeSpotPriceHistoryRequest describeSpotPriceHistoryRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Describes the Spot Price history.
+     * </p>
+     * <p>
+     * Spot Instances are instances that Amazon EC2 starts on your behalf
+     * when the maximum price that you specify exceeds the current Spot
+     * Price. Amazon EC2 periodically sets the Spot Price based on available
+     * Spot Instance capacity and current spot instance requests.
+     * </p>
+     * <p>
+     * For conceptual information about Spot Instances, refer to the Amazon
+     * Elastic Compute Cloud Developer Guide or Amazon Elastic Compute Cloud
+     * User Guide .
+     * 
+     * </p>
+     *
+     * @param describeSpotPriceHistoryRequest Container for the necessary
+     *           parameters to execute the DescribeSpotPriceHistory operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeSpotPriceHistory service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeSpotPriceHistoryResult> describeSpotPriceHistoryAsync(DescribeSpotPriceHistoryRequest describeSpotPriceHistoryRequest,
+            AsyncHandler<DescribeSpotPriceHistoryRequest, DescribeSpotPriceHistoryResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The DescribeRegions operation describes regions zones that are
@@ -545,6 +1102,34 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<DescribeRegionsResult> describeRegionsAsync(DescribeRegionsRequest describeRegionsRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The DescribeRegions operation describes regions zones that are
+     * currently available to the account.
+     * </p>
+     *
+     * @param describeRegionsRequest Container for the necessary parameters
+     *           to execute the DescribeRegions operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeRegions service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeRegionsResult> describeRegionsAsync(DescribeRegionsRequest describeRegionsRequest,
+            AsyncHandler<DescribeRegionsRequest, DescribeRegionsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Creates a set of DHCP options that you can then associate with one or
@@ -573,6 +1158,39 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<CreateDhcpOptionsResult> createDhcpOptionsAsync(CreateDhcpOptionsRequest createDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Creates a set of DHCP options that you can then associate with one or
+     * more VPCs, causing all existing and new instances that you launch in
+     * those VPCs to use the set of DHCP options. The following table lists
+     * the individual DHCP options you can specify. For more information
+     * about the options, go to <a
+     * href="http://www.ietf.org/rfc/rfc2132.txt">
+     * http://www.ietf.org/rfc/rfc2132.txt </a>
+     * </p>
+     *
+     * @param createDhcpOptionsRequest Container for the necessary parameters
+     *           to execute the CreateDhcpOptions operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateDhcpOptions service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateDhcpOptionsResult> createDhcpOptionsAsync(CreateDhcpOptionsRequest createDhcpOptionsRequest,
+            AsyncHandler<CreateDhcpOptionsRequest, CreateDhcpOptionsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Resets permission settings for the specified snapshot.
@@ -598,17 +1216,19 @@ public interface AmazonEC2Async extends AmazonEC2 {
 
     /**
      * <p>
-     * Deletes a route from a route table in a VPC. For more information
-     * about route tables, go to <a
-     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
-     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
+     * Resets permission settings for the specified snapshot.
      * </p>
      *
-     * @param deleteRouteRequest Container for the necessary parameters to
-     *           execute the DeleteRoute operation on AmazonEC2.
+     * @param resetSnapshotAttributeRequest Container for the necessary
+     *           parameters to execute the ResetSnapshotAttribute operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         DeleteRoute service method, as returned by AmazonEC2.
+     *         ResetSnapshotAttribute service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -618,14 +1238,70 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteRouteAsync(DeleteRouteRequest deleteRouteRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<Void> resetSnapshotAttributeAsync(ResetSnapshotAttributeRequest resetSnapshotAttributeRequest,
+            AsyncHandler<ResetSnapshotAttributeRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Gives you information about your Internet gateways. You can filter
-     * the results to return information only about Internet gateways that
-     * match criteria you specify. For example, you could get information
+     * Deletes a route from a route table in a VPC. For more information
+     * about route tables, go to <a
+     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
+     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param deleteRouteRequest Container for the necessary parameters to
+     *           execute the DeleteRoute operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteRoute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteRouteAsync(DeleteRouteRequest deleteRouteRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Deletes a route from a route table in a VPC. For more information
+     * about route tables, go to <a
+     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
+     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param deleteRouteRequest Container for the necessary parameters to
+     *           execute the DeleteRoute operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteRoute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteRouteAsync(DeleteRouteRequest deleteRouteRequest,
+            AsyncHandler<DeleteRouteRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gives you information about your Internet gateways. You can filter
+     * the results to return information only about Internet gateways that
+     * match criteria you specify. For example, you could get information
      * only about gateways with particular tags. The Internet gateway must
      * match at least one of the specified values for it to be included in
      * the results.
@@ -664,6 +1340,54 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<DescribeInternetGatewaysResult> describeInternetGatewaysAsync(DescribeInternetGatewaysRequest describeInternetGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Gives you information about your Internet gateways. You can filter
+     * the results to return information only about Internet gateways that
+     * match criteria you specify. For example, you could get information
+     * only about gateways with particular tags. The Internet gateway must
+     * match at least one of the specified values for it to be included in
+     * the results.
+     * </p>
+     * <p>
+     * You can specify multiple filters (e.g., the Internet gateway is
+     * attached to a particular VPC and is tagged with a particular value).
+     * The result includes information for a particular Internet gateway only
+     * if the gateway matches all your filters. If there's no match, no
+     * special message is returned; the response is simply empty.
+     * </p>
+     * <p>
+     * You can use wildcards with the filter values: an asterisk matches
+     * zero or more characters, and <code>?</code> matches exactly one
+     * character. You can escape special characters using a backslash before
+     * the character. For example, a value of <code>\*amazon\?\\</code>
+     * searches for the literal string <code>*amazon?\</code> .
+     * 
+     * </p>
+     *
+     * @param describeInternetGatewaysRequest Container for the necessary
+     *           parameters to execute the DescribeInternetGateways operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeInternetGateways service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeInternetGatewaysResult> describeInternetGatewaysAsync(DescribeInternetGatewaysRequest describeInternetGatewaysRequest,
+            AsyncHandler<DescribeInternetGatewaysRequest, DescribeInternetGatewaysResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The DescribeSecurityGroups operation returns information about
@@ -694,6 +1418,41 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<DescribeSecurityGroupsResult> describeSecurityGroupsAsync(DescribeSecurityGroupsRequest describeSecurityGroupsRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The DescribeSecurityGroups operation returns information about
+     * security groups that you own.
+     * </p>
+     * <p>
+     * If you specify security group names, information about those security
+     * group is returned. Otherwise, information for all security group is
+     * returned. If you specify a group that does not exist, a fault is
+     * returned.
+     * </p>
+     *
+     * @param describeSecurityGroupsRequest Container for the necessary
+     *           parameters to execute the DescribeSecurityGroups operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeSecurityGroups service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeSecurityGroupsResult> describeSecurityGroupsAsync(DescribeSecurityGroupsRequest describeSecurityGroupsRequest,
+            AsyncHandler<DescribeSecurityGroupsRequest, DescribeSecurityGroupsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Detaches a VPN gateway from a VPC. You do this if you're planning to
@@ -723,6 +1482,40 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<Void> detachVpnGatewayAsync(DetachVpnGatewayRequest detachVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Detaches a VPN gateway from a VPC. You do this if you're planning to
+     * turn off the VPC and not use it anymore. You can confirm a VPN gateway
+     * has been completely detached from a VPC by describing the VPN gateway
+     * (any attachments to the VPN gateway are also described).
+     * </p>
+     * <p>
+     * You must wait for the attachment's state to switch to detached before
+     * you can delete the VPC or attach a different VPC to the VPN gateway.
+     * </p>
+     *
+     * @param detachVpnGatewayRequest Container for the necessary parameters
+     *           to execute the DetachVpnGateway operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DetachVpnGateway service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> detachVpnGatewayAsync(DetachVpnGatewayRequest detachVpnGatewayRequest,
+            AsyncHandler<DetachVpnGatewayRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The DeregisterImage operation deregisters an AMI. Once deregistered,
@@ -746,6 +1539,34 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<Void> deregisterImageAsync(DeregisterImageRequest deregisterImageRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The DeregisterImage operation deregisters an AMI. Once deregistered,
+     * instances of the AMI can no longer be launched.
+     * </p>
+     *
+     * @param deregisterImageRequest Container for the necessary parameters
+     *           to execute the DeregisterImage operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeregisterImage service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deregisterImageAsync(DeregisterImageRequest deregisterImageRequest,
+            AsyncHandler<DeregisterImageRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Describes the data feed for Spot Instances.
@@ -778,14 +1599,26 @@ public interface AmazonEC2Async extends AmazonEC2 {
 
     /**
      * <p>
-     * Deletes tags from the specified Amazon EC2 resources.
+     * Describes the data feed for Spot Instances.
+     * </p>
+     * <p>
+     * For conceptual information about Spot Instances, refer to the Amazon
+     * Elastic Compute Cloud Developer Guide or Amazon Elastic Compute Cloud
+     * User Guide .
+     * 
      * </p>
      *
-     * @param deleteTagsRequest Container for the necessary parameters to
-     *           execute the DeleteTags operation on AmazonEC2.
+     * @param describeSpotDatafeedSubscriptionRequest Container for the
+     *           necessary parameters to execute the DescribeSpotDatafeedSubscription
+     *           operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         DeleteTags service method, as returned by AmazonEC2.
+     *         DescribeSpotDatafeedSubscription service method, as returned by
+     *         AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -795,21 +1628,20 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteTagsAsync(DeleteTagsRequest deleteTagsRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<DescribeSpotDatafeedSubscriptionResult> describeSpotDatafeedSubscriptionAsync(DescribeSpotDatafeedSubscriptionRequest describeSpotDatafeedSubscriptionRequest,
+            AsyncHandler<DescribeSpotDatafeedSubscriptionRequest, DescribeSpotDatafeedSubscriptionResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Deletes a subnet from a VPC. You must terminate all running instances
-     * in the subnet before deleting it, otherwise Amazon VPC returns an
-     * error.
+     * Deletes tags from the specified Amazon EC2 resources.
      * </p>
      *
-     * @param deleteSubnetRequest Container for the necessary parameters to
-     *           execute the DeleteSubnet operation on AmazonEC2.
+     * @param deleteTagsRequest Container for the necessary parameters to
+     *           execute the DeleteTags operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DeleteSubnet service method, as returned by AmazonEC2.
+     *         DeleteTags service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -819,21 +1651,23 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteSubnetAsync(DeleteSubnetRequest deleteSubnetRequest) 
+    public Future<Void> deleteTagsAsync(DeleteTagsRequest deleteTagsRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Creates a new VPN gateway. A VPN gateway is the VPC-side endpoint for
-     * your VPN connection. You can create a VPN gateway before creating the
-     * VPC itself.
+     * Deletes tags from the specified Amazon EC2 resources.
      * </p>
      *
-     * @param createVpnGatewayRequest Container for the necessary parameters
-     *           to execute the CreateVpnGateway operation on AmazonEC2.
+     * @param deleteTagsRequest Container for the necessary parameters to
+     *           execute the DeleteTags operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         CreateVpnGateway service method, as returned by AmazonEC2.
+     *         DeleteTags service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -843,24 +1677,22 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpnGatewayResult> createVpnGatewayAsync(CreateVpnGatewayRequest createVpnGatewayRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<Void> deleteTagsAsync(DeleteTagsRequest deleteTagsRequest,
+            AsyncHandler<DeleteTagsRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Deletes a VPN gateway. Use this when you want to delete a VPC and all
-     * its associated components because you no longer need them. We
-     * recommend that before you delete a VPN gateway, you detach it from the
-     * VPC and delete the VPN connection. Note that you don't need to delete
-     * the VPN gateway if you just want to delete and re-create the VPN
-     * connection between your VPC and data center.
+     * Deletes a subnet from a VPC. You must terminate all running instances
+     * in the subnet before deleting it, otherwise Amazon VPC returns an
+     * error.
      * </p>
      *
-     * @param deleteVpnGatewayRequest Container for the necessary parameters
-     *           to execute the DeleteVpnGateway operation on AmazonEC2.
+     * @param deleteSubnetRequest Container for the necessary parameters to
+     *           execute the DeleteSubnet operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DeleteVpnGateway service method, as returned by AmazonEC2.
+     *         DeleteSubnet service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -870,19 +1702,25 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVpnGatewayAsync(DeleteVpnGatewayRequest deleteVpnGatewayRequest) 
+    public Future<Void> deleteSubnetAsync(DeleteSubnetRequest deleteSubnetRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Attach a previously created volume to a running instance.
+     * Deletes a subnet from a VPC. You must terminate all running instances
+     * in the subnet before deleting it, otherwise Amazon VPC returns an
+     * error.
      * </p>
      *
-     * @param attachVolumeRequest Container for the necessary parameters to
-     *           execute the AttachVolume operation on AmazonEC2.
+     * @param deleteSubnetRequest Container for the necessary parameters to
+     *           execute the DeleteSubnet operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         AttachVolume service method, as returned by AmazonEC2.
+     *         DeleteSubnet service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -892,21 +1730,22 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AttachVolumeResult> attachVolumeAsync(AttachVolumeRequest attachVolumeRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<Void> deleteSubnetAsync(DeleteSubnetRequest deleteSubnetRequest,
+            AsyncHandler<DeleteSubnetRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Provides details of a user's registered licenses. Zero or more IDs
-     * may be specified on the call. When one or more license IDs are
-     * specified, only data for the specified IDs are returned.
+     * Creates a new VPN gateway. A VPN gateway is the VPC-side endpoint for
+     * your VPN connection. You can create a VPN gateway before creating the
+     * VPC itself.
      * </p>
      *
-     * @param describeLicensesRequest Container for the necessary parameters
-     *           to execute the DescribeLicenses operation on AmazonEC2.
+     * @param createVpnGatewayRequest Container for the necessary parameters
+     *           to execute the CreateVpnGateway operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeLicenses service method, as returned by AmazonEC2.
+     *         CreateVpnGateway service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -916,20 +1755,25 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeLicensesResult> describeLicensesAsync(DescribeLicensesRequest describeLicensesRequest) 
+    public Future<CreateVpnGatewayResult> createVpnGatewayAsync(CreateVpnGatewayRequest createVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Activates a specific number of licenses for a 90-day period.
-     * Activations can be done against a specific license ID.
-     * </p>
+     * Creates a new VPN gateway. A VPN gateway is the VPC-side endpoint for
+     * your VPN connection. You can create a VPN gateway before creating the
+     * VPC itself.
+     * </p>
      *
-     * @param activateLicenseRequest Container for the necessary parameters
-     *           to execute the ActivateLicense operation on AmazonEC2.
+     * @param createVpnGatewayRequest Container for the necessary parameters
+     *           to execute the CreateVpnGateway operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         ActivateLicense service method, as returned by AmazonEC2.
+     *         CreateVpnGateway service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -939,23 +1783,25 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> activateLicenseAsync(ActivateLicenseRequest activateLicenseRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<CreateVpnGatewayResult> createVpnGatewayAsync(CreateVpnGatewayRequest createVpnGatewayRequest,
+            AsyncHandler<CreateVpnGatewayRequest, CreateVpnGatewayResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * The ResetImageAttribute operation resets an attribute of an AMI to
-     * its default value.
-     * </p>
-     * <p>
-     * <b>NOTE:</b> The productCodes attribute cannot be reset.
+     * Deletes a VPN gateway. Use this when you want to delete a VPC and all
+     * its associated components because you no longer need them. We
+     * recommend that before you delete a VPN gateway, you detach it from the
+     * VPC and delete the VPN connection. Note that you don't need to delete
+     * the VPN gateway if you just want to delete and re-create the VPN
+     * connection between your VPC and data center.
      * </p>
      *
-     * @param resetImageAttributeRequest Container for the necessary
-     *           parameters to execute the ResetImageAttribute operation on AmazonEC2.
+     * @param deleteVpnGatewayRequest Container for the necessary parameters
+     *           to execute the DeleteVpnGateway operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         ResetImageAttribute service method, as returned by AmazonEC2.
+     *         DeleteVpnGateway service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -965,35 +1811,28 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> resetImageAttributeAsync(ResetImageAttributeRequest resetImageAttributeRequest) 
+    public Future<Void> deleteVpnGatewayAsync(DeleteVpnGatewayRequest deleteVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Gives you information about your VPN connections.
-     * </p>
-     * <p>
-     * <b>IMPORTANT:</b> We strongly recommend you use HTTPS when calling
-     * this operation because the response contains sensitive cryptographic
-     * information for configuring your customer gateway. You can filter the
-     * results to return information only about VPN connections that match
-     * criteria you specify. For example, you could ask to get information
-     * about a particular VPN connection (or all) only if the VPN's state is
-     * pending or available. You can specify multiple filters (e.g., the VPN
-     * connection is associated with a particular VPN gateway, and the
-     * gateway's state is pending or available). The result includes
-     * information for a particular VPN connection only if the VPN connection
-     * matches all your filters. If there's no match, no special message is
-     * returned; the response is simply empty. The following table shows the
-     * available filters.
+     * Deletes a VPN gateway. Use this when you want to delete a VPC and all
+     * its associated components because you no longer need them. We
+     * recommend that before you delete a VPN gateway, you detach it from the
+     * VPC and delete the VPN connection. Note that you don't need to delete
+     * the VPN gateway if you just want to delete and re-create the VPN
+     * connection between your VPC and data center.
      * </p>
      *
-     * @param describeVpnConnectionsRequest Container for the necessary
-     *           parameters to execute the DescribeVpnConnections operation on
-     *           AmazonEC2.
+     * @param deleteVpnGatewayRequest Container for the necessary parameters
+     *           to execute the DeleteVpnGateway operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeVpnConnections service method, as returned by AmazonEC2.
+     *         DeleteVpnGateway service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1003,29 +1842,20 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpnConnectionsResult> describeVpnConnectionsAsync(DescribeVpnConnectionsRequest describeVpnConnectionsRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<Void> deleteVpnGatewayAsync(DeleteVpnGatewayRequest deleteVpnGatewayRequest,
+            AsyncHandler<DeleteVpnGatewayRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Create a snapshot of the volume identified by volume ID. A volume
-     * does not have to be detached at the time the snapshot is taken.
-     * </p>
-     * <p>
-     * <b>NOTE:</b> Snapshot creation requires that the system is in a
-     * consistent state. For instance, this means that if taking a snapshot
-     * of a database, the tables must be read-only locked to ensure that the
-     * snapshot will not contain a corrupted version of the database.
-     * Therefore, be careful when using this API to ensure that the system
-     * remains in the consistent state until the create snapshot status has
-     * returned.
+     * Attach a previously created volume to a running instance.
      * </p>
      *
-     * @param createSnapshotRequest Container for the necessary parameters to
-     *           execute the CreateSnapshot operation on AmazonEC2.
+     * @param attachVolumeRequest Container for the necessary parameters to
+     *           execute the AttachVolume operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         CreateSnapshot service method, as returned by AmazonEC2.
+     *         AttachVolume service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1035,20 +1865,23 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateSnapshotResult> createSnapshotAsync(CreateSnapshotRequest createSnapshotRequest) 
+    public Future<AttachVolumeResult> attachVolumeAsync(AttachVolumeRequest attachVolumeRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Deletes a previously created volume. Once successfully deleted, a
-     * new volume can be created with the same name.
+     * Attach a previously created volume to a running instance.
      * </p>
      *
-     * @param deleteVolumeRequest Container for the necessary parameters to
-     *           execute the DeleteVolume operation on AmazonEC2.
+     * @param attachVolumeRequest Container for the necessary parameters to
+     *           execute the AttachVolume operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         DeleteVolume service method, as returned by AmazonEC2.
+     *         AttachVolume service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1058,32 +1891,22 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVolumeAsync(DeleteVolumeRequest deleteVolumeRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<AttachVolumeResult> attachVolumeAsync(AttachVolumeRequest attachVolumeRequest,
+            AsyncHandler<AttachVolumeRequest, AttachVolumeResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Gives you information about your VPCs. You can filter the results to
-     * return information only about VPCs that match criteria you specify.
-     * </p>
-     * <p>
-     * For example, you could ask to get information about a particular VPC
-     * or VPCs (or all your VPCs) only if the VPC's state is available. You
-     * can specify multiple filters (e.g., the VPC uses one of several sets
-     * of DHCP options, and the VPC's state is available). The result
-     * includes information for a particular VPC only if the VPC matches all
-     * your filters.
-     * </p>
-     * <p>
-     * If there's no match, no special message is returned; the response is
-     * simply empty. The following table shows the available filters.
+     * Provides details of a user's registered licenses. Zero or more IDs
+     * may be specified on the call. When one or more license IDs are
+     * specified, only data for the specified IDs are returned.
      * </p>
      *
-     * @param describeVpcsRequest Container for the necessary parameters to
-     *           execute the DescribeVpcs operation on AmazonEC2.
+     * @param describeLicensesRequest Container for the necessary parameters
+     *           to execute the DescribeLicenses operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeVpcs service method, as returned by AmazonEC2.
+     *         DescribeLicenses service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1093,21 +1916,25 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcsResult> describeVpcsAsync(DescribeVpcsRequest describeVpcsRequest) 
+    public Future<DescribeLicensesResult> describeLicensesAsync(DescribeLicensesRequest describeLicensesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Deactivates a specific number of licenses. Deactivations can be done
-     * against a specific license ID after they have persisted for at least a
-     * 90-day period.
+     * Provides details of a user's registered licenses. Zero or more IDs
+     * may be specified on the call. When one or more license IDs are
+     * specified, only data for the specified IDs are returned.
      * </p>
      *
-     * @param deactivateLicenseRequest Container for the necessary parameters
-     *           to execute the DeactivateLicense operation on AmazonEC2.
+     * @param describeLicensesRequest Container for the necessary parameters
+     *           to execute the DescribeLicenses operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         DeactivateLicense service method, as returned by AmazonEC2.
+     *         DescribeLicenses service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1117,26 +1944,21 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deactivateLicenseAsync(DeactivateLicenseRequest deactivateLicenseRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<DescribeLicensesResult> describeLicensesAsync(DescribeLicensesRequest describeLicensesRequest,
+            AsyncHandler<DescribeLicensesRequest, DescribeLicensesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * The AssociateAddress operation associates an elastic IP address with
-     * an instance.
-     * </p>
-     * <p>
-     * If the IP address is currently assigned to another instance, the IP
-     * address is assigned to the new instance. This is an idempotent
-     * operation. If you enter it more than once, Amazon EC2 does not return
-     * an error.
+     * Activates a specific number of licenses for a 90-day period.
+     * Activations can be done against a specific license ID.
      * </p>
      *
-     * @param associateAddressRequest Container for the necessary parameters
-     *           to execute the AssociateAddress operation on AmazonEC2.
+     * @param activateLicenseRequest Container for the necessary parameters
+     *           to execute the ActivateLicense operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         AssociateAddress service method, as returned by AmazonEC2.
+     *         ActivateLicense service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1146,27 +1968,24 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AssociateAddressResult> associateAddressAsync(AssociateAddressRequest associateAddressRequest) 
+    public Future<Void> activateLicenseAsync(ActivateLicenseRequest activateLicenseRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Deletes a customer gateway. You must delete the VPN connection before
-     * deleting the customer gateway.
-     * </p>
-     * <p>
-     * You can have a single active customer gateway per AWS account (active
-     * means that you've created a VPN connection with that customer
-     * gateway). AWS might delete any customer gateway you leave inactive for
-     * an extended period of time.
+     * Activates a specific number of licenses for a 90-day period.
+     * Activations can be done against a specific license ID.
      * </p>
      *
-     * @param deleteCustomerGatewayRequest Container for the necessary
-     *           parameters to execute the DeleteCustomerGateway operation on
-     *           AmazonEC2.
+     * @param activateLicenseRequest Container for the necessary parameters
+     *           to execute the ActivateLicense operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         DeleteCustomerGateway service method, as returned by AmazonEC2.
+     *         ActivateLicense service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1176,39 +1995,24 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteCustomerGatewayAsync(DeleteCustomerGatewayRequest deleteCustomerGatewayRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<Void> activateLicenseAsync(ActivateLicenseRequest activateLicenseRequest,
+            AsyncHandler<ActivateLicenseRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Creates an entry (i.e., rule) in a network ACL with a rule number you
-     * specify. Each network ACL has a set of numbered ingress rules and a
-     * separate set of numbered egress rules. When determining whether a
-     * packet should be allowed in or out of a subnet associated with the
-     * ACL, Amazon VPC processes the entries in the ACL according to the rule
-     * numbers, in ascending order.
-     * </p>
-     * <p>
-     * <b>Important:</b> We recommend that you leave room between the rules
-     * (e.g., 100, 110, 120, etc.), and not number them sequentially (101,
-     * 102, 103, etc.). This allows you to easily add a new rule between
-     * existing ones without having to renumber the rules.
-     * </p>
-     * <p>
-     * After you add an entry, you can't modify it; you must either replace
-     * it, or create a new entry and delete the old one.
+     * The ResetImageAttribute operation resets an attribute of an AMI to
+     * its default value.
      * </p>
      * <p>
-     * For more information about network ACLs, go to Network ACLs in the
-     * Amazon Virtual Private Cloud User Guide.
+     * <b>NOTE:</b> The productCodes attribute cannot be reset.
      * </p>
      *
-     * @param createNetworkAclEntryRequest Container for the necessary
-     *           parameters to execute the CreateNetworkAclEntry operation on
-     *           AmazonEC2.
+     * @param resetImageAttributeRequest Container for the necessary
+     *           parameters to execute the ResetImageAttribute operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         CreateNetworkAclEntry service method, as returned by AmazonEC2.
+     *         ResetImageAttribute service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1218,28 +2022,27 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createNetworkAclEntryAsync(CreateNetworkAclEntryRequest createNetworkAclEntryRequest) 
+    public Future<Void> resetImageAttributeAsync(ResetImageAttributeRequest resetImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Detaches an Internet gateway from a VPC, disabling connectivity
-     * between the Internet and the VPC. The VPC must not contain any running
-     * instances with elastic IP addresses. For more information about your
-     * VPC and Internet gateway, go to Amazon Virtual Private Cloud User
-     * Guide.
+     * The ResetImageAttribute operation resets an attribute of an AMI to
+     * its default value.
      * </p>
      * <p>
-     * For more information about Amazon Virtual Private Cloud and Internet
-     * gateways, go to the Amazon Virtual Private Cloud User Guide.
+     * <b>NOTE:</b> The productCodes attribute cannot be reset.
      * </p>
      *
-     * @param detachInternetGatewayRequest Container for the necessary
-     *           parameters to execute the DetachInternetGateway operation on
-     *           AmazonEC2.
+     * @param resetImageAttributeRequest Container for the necessary
+     *           parameters to execute the ResetImageAttribute operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         DetachInternetGateway service method, as returned by AmazonEC2.
+     *         ResetImageAttribute service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1249,23 +2052,36 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> detachInternetGatewayAsync(DetachInternetGatewayRequest detachInternetGatewayRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<Void> resetImageAttributeAsync(ResetImageAttributeRequest resetImageAttributeRequest,
+            AsyncHandler<ResetImageAttributeRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Creates a new route table within a VPC. After you create a new route
-     * table, you can add routes and associate the table with a subnet. For
-     * more information about route tables, go to <a
-     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
-     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
+     * Gives you information about your VPN connections.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> We strongly recommend you use HTTPS when calling
+     * this operation because the response contains sensitive cryptographic
+     * information for configuring your customer gateway. You can filter the
+     * results to return information only about VPN connections that match
+     * criteria you specify. For example, you could ask to get information
+     * about a particular VPN connection (or all) only if the VPN's state is
+     * pending or available. You can specify multiple filters (e.g., the VPN
+     * connection is associated with a particular VPN gateway, and the
+     * gateway's state is pending or available). The result includes
+     * information for a particular VPN connection only if the VPN connection
+     * matches all your filters. If there's no match, no special message is
+     * returned; the response is simply empty. The following table shows the
+     * available filters.
      * </p>
      *
-     * @param createRouteTableRequest Container for the necessary parameters
-     *           to execute the CreateRouteTable operation on AmazonEC2.
+     * @param describeVpnConnectionsRequest Container for the necessary
+     *           parameters to execute the DescribeVpnConnections operation on
+     *           AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         CreateRouteTable service method, as returned by AmazonEC2.
+     *         DescribeVpnConnections service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1275,21 +2091,39 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateRouteTableResult> createRouteTableAsync(CreateRouteTableRequest createRouteTableRequest) 
+    public Future<DescribeVpnConnectionsResult> describeVpnConnectionsAsync(DescribeVpnConnectionsRequest describeVpnConnectionsRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Describes the status of the indicated volume or, in lieu of any
-     * specified, all volumes belonging to the caller. Volumes that have been
-     * deleted are not described.
+     * Gives you information about your VPN connections.
      * </p>
-     *
-     * @param describeVolumesRequest Container for the necessary parameters
-     *           to execute the DescribeVolumes operation on AmazonEC2.
-     * 
+     * <p>
+     * <b>IMPORTANT:</b> We strongly recommend you use HTTPS when calling
+     * this operation because the response contains sensitive cryptographic
+     * information for configuring your customer gateway. You can filter the
+     * results to return information only about VPN connections that match
+     * criteria you specify. For example, you could ask to get information
+     * about a particular VPN connection (or all) only if the VPN's state is
+     * pending or available. You can specify multiple filters (e.g., the VPN
+     * connection is associated with a particular VPN gateway, and the
+     * gateway's state is pending or available). The result includes
+     * information for a particular VPN connection only if the VPN connection
+     * matches all your filters. If there's no match, no special message is
+     * returned; the response is simply empty. The following table shows the
+     * available filters.
+     * </p>
+     *
+     * @param describeVpnConnectionsRequest Container for the necessary
+     *           parameters to execute the DescribeVpnConnections operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
      * @return A Java Future object containing the response from the
-     *         DescribeVolumes service method, as returned by AmazonEC2.
+     *         DescribeVpnConnections service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1299,39 +2133,30 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVolumesResult> describeVolumesAsync(DescribeVolumesRequest describeVolumesRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<DescribeVpnConnectionsResult> describeVpnConnectionsAsync(DescribeVpnConnectionsRequest describeVpnConnectionsRequest,
+            AsyncHandler<DescribeVpnConnectionsRequest, DescribeVpnConnectionsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Gives you information about your route tables. You can filter the
-     * results to return information only about tables that match criteria
-     * you specify. For example, you could get information only about a table
-     * associated with a particular subnet. You can specify multiple values
-     * for the filter. The table must match at least one of the specified
-     * values for it to be included in the results.
-     * </p>
-     * <p>
-     * You can specify multiple filters (e.g., the table has a particular
-     * route, and is associated with a particular subnet). The result
-     * includes information for a particular table only if it matches all
-     * your filters. If there's no match, no special message is returned; the
-     * response is simply empty.
+     * Create a snapshot of the volume identified by volume ID. A volume
+     * does not have to be detached at the time the snapshot is taken.
      * </p>
      * <p>
-     * You can use wildcards with the filter values: an asterisk matches
-     * zero or more characters, and <code>?</code> matches exactly one
-     * character. You can escape special characters using a backslash before
-     * the character. For example, a value of <code>\*amazon\?\\</code>
-     * searches for the literal string <code>*amazon?\</code> .
-     * 
+     * <b>NOTE:</b> Snapshot creation requires that the system is in a
+     * consistent state. For instance, this means that if taking a snapshot
+     * of a database, the tables must be read-only locked to ensure that the
+     * snapshot will not contain a corrupted version of the database.
+     * Therefore, be careful when using this API to ensure that the system
+     * remains in the consistent state until the create snapshot status has
+     * returned.
      * </p>
      *
-     * @param describeRouteTablesRequest Container for the necessary
-     *           parameters to execute the DescribeRouteTables operation on AmazonEC2.
+     * @param createSnapshotRequest Container for the necessary parameters to
+     *           execute the CreateSnapshot operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeRouteTables service method, as returned by AmazonEC2.
+     *         CreateSnapshot service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1341,19 +2166,33 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeRouteTablesResult> describeRouteTablesAsync(DescribeRouteTablesRequest describeRouteTablesRequest) 
+    public Future<CreateSnapshotResult> createSnapshotAsync(CreateSnapshotRequest createSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Enables monitoring for a running instance.
+     * Create a snapshot of the volume identified by volume ID. A volume
+     * does not have to be detached at the time the snapshot is taken.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> Snapshot creation requires that the system is in a
+     * consistent state. For instance, this means that if taking a snapshot
+     * of a database, the tables must be read-only locked to ensure that the
+     * snapshot will not contain a corrupted version of the database.
+     * Therefore, be careful when using this API to ensure that the system
+     * remains in the consistent state until the create snapshot status has
+     * returned.
      * </p>
      *
-     * @param monitorInstancesRequest Container for the necessary parameters
-     *           to execute the MonitorInstances operation on AmazonEC2.
+     * @param createSnapshotRequest Container for the necessary parameters to
+     *           execute the CreateSnapshot operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         MonitorInstances service method, as returned by AmazonEC2.
+     *         CreateSnapshot service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1363,27 +2202,21 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<MonitorInstancesResult> monitorInstancesAsync(MonitorInstancesRequest monitorInstancesRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<CreateSnapshotResult> createSnapshotAsync(CreateSnapshotRequest createSnapshotRequest,
+            AsyncHandler<CreateSnapshotRequest, CreateSnapshotResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Gives you information about one or more sets of DHCP options. You can
-     * specify one or more DHCP options set IDs, or no IDs (to describe all
-     * your sets of DHCP options). The returned information consists of:
+     * Deletes a previously created volume. Once successfully deleted, a
+     * new volume can be created with the same name.
      * </p>
-     * 
-     * <ul>
-     * <li> The DHCP options set ID </li>
-     * <li> The options </li>
-     * 
-     * </ul>
      *
-     * @param describeDhcpOptionsRequest Container for the necessary
-     *           parameters to execute the DescribeDhcpOptions operation on AmazonEC2.
+     * @param deleteVolumeRequest Container for the necessary parameters to
+     *           execute the DeleteVolume operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeDhcpOptions service method, as returned by AmazonEC2.
+     *         DeleteVolume service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1393,38 +2226,24 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeDhcpOptionsResult> describeDhcpOptionsAsync(DescribeDhcpOptionsRequest describeDhcpOptionsRequest) 
+    public Future<Void> deleteVolumeAsync(DeleteVolumeRequest deleteVolumeRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Gives you information about the network ACLs in your VPC. You can
-     * filter the results to return information only about ACLs that match
-     * criteria you specify. For example, you could get information only the
-     * ACL associated with a particular subnet. The ACL must match at least
-     * one of the specified values for it to be included in the results.
-     * </p>
-     * <p>
-     * You can specify multiple filters (e.g., the ACL is associated with a
-     * particular subnet and has an egress entry that denies traffic to a
-     * particular port). The result includes information for a particular ACL
-     * only if it matches all your filters. If there's no match, no special
-     * message is returned; the response is simply empty.
-     * </p>
-     * <p>
-     * You can use wildcards with the filter values: an asterisk matches
-     * zero or more characters, and <code>?</code> matches exactly one
-     * character. You can escape special characters using a backslash before
-     * the character. For example, a value of <code>\*amazon\?\\</code>
-     * searches for the literal string <code>*amazon?\</code> .
-     * 
+     * Deletes a previously created volume. Once successfully deleted, a
+     * new volume can be created with the same name.
      * </p>
      *
-     * @param describeNetworkAclsRequest Container for the necessary
-     *           parameters to execute the DescribeNetworkAcls operation on AmazonEC2.
+     * @param deleteVolumeRequest Container for the necessary parameters to
+     *           execute the DeleteVolume operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeNetworkAcls service method, as returned by AmazonEC2.
+     *         DeleteVolume service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1434,22 +2253,33 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeNetworkAclsResult> describeNetworkAclsAsync(DescribeNetworkAclsRequest describeNetworkAclsRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<Void> deleteVolumeAsync(DeleteVolumeRequest deleteVolumeRequest,
+            AsyncHandler<DeleteVolumeRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * The DescribeBundleTasks operation describes in-progress and recent
-     * bundle tasks. Complete and failed tasks are removed from the list a
-     * short time after completion. If no bundle ids are given, all bundle
-     * tasks are returned.
+     * Gives you information about your VPCs. You can filter the results to
+     * return information only about VPCs that match criteria you specify.
+     * </p>
+     * <p>
+     * For example, you could ask to get information about a particular VPC
+     * or VPCs (or all your VPCs) only if the VPC's state is available. You
+     * can specify multiple filters (e.g., the VPC uses one of several sets
+     * of DHCP options, and the VPC's state is available). The result
+     * includes information for a particular VPC only if the VPC matches all
+     * your filters.
+     * </p>
+     * <p>
+     * If there's no match, no special message is returned; the response is
+     * simply empty. The following table shows the available filters.
      * </p>
      *
-     * @param describeBundleTasksRequest Container for the necessary
-     *           parameters to execute the DescribeBundleTasks operation on AmazonEC2.
+     * @param describeVpcsRequest Container for the necessary parameters to
+     *           execute the DescribeVpcs operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeBundleTasks service method, as returned by AmazonEC2.
+     *         DescribeVpcs service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1459,33 +2289,36 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeBundleTasksResult> describeBundleTasksAsync(DescribeBundleTasksRequest describeBundleTasksRequest) 
+    public Future<DescribeVpcsResult> describeVpcsAsync(DescribeVpcsRequest describeVpcsRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * The RevokeSecurityGroupIngress operation revokes permissions from a
-     * security group. The permissions used to revoke must be specified using
-     * the same values used to grant the permissions.
+     * Gives you information about your VPCs. You can filter the results to
+     * return information only about VPCs that match criteria you specify.
      * </p>
      * <p>
-     * Permissions are specified by IP protocol (TCP, UDP, or ICMP), the
-     * source of the request (by IP range or an Amazon EC2 user-group pair),
-     * the source and destination port ranges (for TCP and UDP), and the ICMP
-     * codes and types (for ICMP).
+     * For example, you could ask to get information about a particular VPC
+     * or VPCs (or all your VPCs) only if the VPC's state is available. You
+     * can specify multiple filters (e.g., the VPC uses one of several sets
+     * of DHCP options, and the VPC's state is available). The result
+     * includes information for a particular VPC only if the VPC matches all
+     * your filters.
      * </p>
      * <p>
-     * Permission changes are quickly propagated to instances within the
-     * security group. However, depending on the number of instances in the
-     * group, a small delay might occur.
+     * If there's no match, no special message is returned; the response is
+     * simply empty. The following table shows the available filters.
      * </p>
      *
-     * @param revokeSecurityGroupIngressRequest Container for the necessary
-     *           parameters to execute the RevokeSecurityGroupIngress operation on
-     *           AmazonEC2.
+     * @param describeVpcsRequest Container for the necessary parameters to
+     *           execute the DescribeVpcs operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         RevokeSecurityGroupIngress service method, as returned by AmazonEC2.
+     *         DescribeVpcs service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1495,26 +2328,22 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> revokeSecurityGroupIngressAsync(RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<DescribeVpcsResult> describeVpcsAsync(DescribeVpcsRequest describeVpcsRequest,
+            AsyncHandler<DescribeVpcsRequest, DescribeVpcsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * The GetConsoleOutput operation retrieves console output for the
-     * specified instance.
-     * </p>
-     * <p>
-     * Instance console output is buffered and posted shortly after instance
-     * boot, reboot, and termination. Amazon EC2 preserves the most recent 64
-     * KB output which will be available for at least one hour after the most
-     * recent post.
+     * Deactivates a specific number of licenses. Deactivations can be done
+     * against a specific license ID after they have persisted for at least a
+     * 90-day period.
      * </p>
      *
-     * @param getConsoleOutputRequest Container for the necessary parameters
-     *           to execute the GetConsoleOutput operation on AmazonEC2.
+     * @param deactivateLicenseRequest Container for the necessary parameters
+     *           to execute the DeactivateLicense operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         GetConsoleOutput service method, as returned by AmazonEC2.
+     *         DeactivateLicense service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1524,24 +2353,25 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<GetConsoleOutputResult> getConsoleOutputAsync(GetConsoleOutputRequest getConsoleOutputRequest) 
+    public Future<Void> deactivateLicenseAsync(DeactivateLicenseRequest deactivateLicenseRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Creates a new Internet gateway in your AWS account. After creating
-     * the Internet gateway, you then attach it to a VPC using
-     * <code>AttachInternetGateway</code> . For more information about your
-     * VPC and Internet gateway, go to Amazon Virtual Private Cloud User
-     * Guide.
+     * Deactivates a specific number of licenses. Deactivations can be done
+     * against a specific license ID after they have persisted for at least a
+     * 90-day period.
      * </p>
      *
-     * @param createInternetGatewayRequest Container for the necessary
-     *           parameters to execute the CreateInternetGateway operation on
-     *           AmazonEC2.
+     * @param deactivateLicenseRequest Container for the necessary parameters
+     *           to execute the DeactivateLicense operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         CreateInternetGateway service method, as returned by AmazonEC2.
+     *         DeactivateLicense service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1551,19 +2381,27 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateInternetGatewayResult> createInternetGatewayAsync(CreateInternetGatewayRequest createInternetGatewayRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<Void> deactivateLicenseAsync(DeactivateLicenseRequest deactivateLicenseRequest,
+            AsyncHandler<DeactivateLicenseRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * The ModifyImageAttribute operation modifies an attribute of an AMI.
+     * The AssociateAddress operation associates an elastic IP address with
+     * an instance.
+     * </p>
+     * <p>
+     * If the IP address is currently assigned to another instance, the IP
+     * address is assigned to the new instance. This is an idempotent
+     * operation. If you enter it more than once, Amazon EC2 does not return
+     * an error.
      * </p>
      *
-     * @param modifyImageAttributeRequest Container for the necessary
-     *           parameters to execute the ModifyImageAttribute operation on AmazonEC2.
+     * @param associateAddressRequest Container for the necessary parameters
+     *           to execute the AssociateAddress operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         ModifyImageAttribute service method, as returned by AmazonEC2.
+     *         AssociateAddress service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1573,40 +2411,30 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyImageAttributeAsync(ModifyImageAttributeRequest modifyImageAttributeRequest) 
+    public Future<AssociateAddressResult> associateAddressAsync(AssociateAddressRequest associateAddressRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Provides information to AWS about your customer gateway device. The
-     * customer gateway is the appliance at your end of the VPN connection
-     * (compared to the VPN gateway, which is the device at the AWS side of
-     * the VPN connection). You can have a single active customer gateway per
-     * AWS account (active means that you've created a VPN connection to use
-     * with the customer gateway). AWS might delete any customer gateway that
-     * you create with this operation if you leave it inactive for an
-     * extended period of time.
+     * The AssociateAddress operation associates an elastic IP address with
+     * an instance.
      * </p>
      * <p>
-     * You must provide the Internet-routable IP address of the customer
-     * gateway's external interface. The IP address must be static.
-     * </p>
-     * <p>
-     * You must also provide the device's Border Gateway Protocol (BGP)
-     * Autonomous System Number (ASN). You can use an existing ASN assigned
-     * to your network. If you don't have an ASN already, you can use a
-     * private ASN (in the 64512 - 65534 range). For more information about
-     * ASNs, go to <a
-     * href="http://en.wikipedia.org/wiki/Autonomous_system_%28Internet%29">
-     * http://en.wikipedia.org/wiki/Autonomous_system_%28Internet%29 </a> .
+     * If the IP address is currently assigned to another instance, the IP
+     * address is assigned to the new instance. This is an idempotent
+     * operation. If you enter it more than once, Amazon EC2 does not return
+     * an error.
      * </p>
      *
-     * @param createCustomerGatewayRequest Container for the necessary
-     *           parameters to execute the CreateCustomerGateway operation on
-     *           AmazonEC2.
+     * @param associateAddressRequest Container for the necessary parameters
+     *           to execute the AssociateAddress operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         CreateCustomerGateway service method, as returned by AmazonEC2.
+     *         AssociateAddress service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1616,28 +2444,28 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateCustomerGatewayResult> createCustomerGatewayAsync(CreateCustomerGatewayRequest createCustomerGatewayRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<AssociateAddressResult> associateAddressAsync(AssociateAddressRequest associateAddressRequest,
+            AsyncHandler<AssociateAddressRequest, AssociateAddressResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Creates the data feed for Spot Instances, enabling you to view Spot
-     * Instance usage logs. You can create one data feed per account.
+     * Deletes a customer gateway. You must delete the VPN connection before
+     * deleting the customer gateway.
      * </p>
      * <p>
-     * For conceptual information about Spot Instances, refer to the Amazon
-     * Elastic Compute Cloud Developer Guide or Amazon Elastic Compute Cloud
-     * User Guide .
-     * 
+     * You can have a single active customer gateway per AWS account (active
+     * means that you've created a VPN connection with that customer
+     * gateway). AWS might delete any customer gateway you leave inactive for
+     * an extended period of time.
      * </p>
      *
-     * @param createSpotDatafeedSubscriptionRequest Container for the
-     *           necessary parameters to execute the CreateSpotDatafeedSubscription
-     *           operation on AmazonEC2.
+     * @param deleteCustomerGatewayRequest Container for the necessary
+     *           parameters to execute the DeleteCustomerGateway operation on
+     *           AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         CreateSpotDatafeedSubscription service method, as returned by
-     *         AmazonEC2.
+     *         DeleteCustomerGateway service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1647,22 +2475,31 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateSpotDatafeedSubscriptionResult> createSpotDatafeedSubscriptionAsync(CreateSpotDatafeedSubscriptionRequest createSpotDatafeedSubscriptionRequest) 
+    public Future<Void> deleteCustomerGatewayAsync(DeleteCustomerGatewayRequest deleteCustomerGatewayRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Attaches an Internet gateway to a VPC, enabling connectivity between
-     * the Internet and the VPC. For more information about your VPC and
-     * Internet gateway, go to the Amazon Virtual Private Cloud User Guide.
+     * Deletes a customer gateway. You must delete the VPN connection before
+     * deleting the customer gateway.
+     * </p>
+     * <p>
+     * You can have a single active customer gateway per AWS account (active
+     * means that you've created a VPN connection with that customer
+     * gateway). AWS might delete any customer gateway you leave inactive for
+     * an extended period of time.
      * </p>
      *
-     * @param attachInternetGatewayRequest Container for the necessary
-     *           parameters to execute the AttachInternetGateway operation on
+     * @param deleteCustomerGatewayRequest Container for the necessary
+     *           parameters to execute the DeleteCustomerGateway operation on
      *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         AttachInternetGateway service method, as returned by AmazonEC2.
+     *         DeleteCustomerGateway service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1672,31 +2509,40 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> attachInternetGatewayAsync(AttachInternetGatewayRequest attachInternetGatewayRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<Void> deleteCustomerGatewayAsync(DeleteCustomerGatewayRequest deleteCustomerGatewayRequest,
+            AsyncHandler<DeleteCustomerGatewayRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Deletes a VPN connection. Use this if you want to delete a VPC and
-     * all its associated components. Another reason to use this operation is
-     * if you believe the tunnel credentials for your VPN connection have
-     * been compromised. In that situation, you can delete the VPN connection
-     * and create a new one that has new keys, without needing to delete the
-     * VPC or VPN gateway. If you create a new VPN connection, you must
-     * reconfigure the customer gateway using the new configuration
-     * information returned with the new VPN connection ID.
+     * Creates an entry (i.e., rule) in a network ACL with a rule number you
+     * specify. Each network ACL has a set of numbered ingress rules and a
+     * separate set of numbered egress rules. When determining whether a
+     * packet should be allowed in or out of a subnet associated with the
+     * ACL, Amazon VPC processes the entries in the ACL according to the rule
+     * numbers, in ascending order.
      * </p>
      * <p>
-     * If you're deleting the VPC and all its associated parts, we recommend
-     * you detach the VPN gateway from the VPC and delete the VPC before
-     * deleting the VPN connection.
+     * <b>Important:</b> We recommend that you leave room between the rules
+     * (e.g., 100, 110, 120, etc.), and not number them sequentially (101,
+     * 102, 103, etc.). This allows you to easily add a new rule between
+     * existing ones without having to renumber the rules.
+     * </p>
+     * <p>
+     * After you add an entry, you can't modify it; you must either replace
+     * it, or create a new entry and delete the old one.
+     * </p>
+     * <p>
+     * For more information about network ACLs, go to Network ACLs in the
+     * Amazon Virtual Private Cloud User Guide.
      * </p>
      *
-     * @param deleteVpnConnectionRequest Container for the necessary
-     *           parameters to execute the DeleteVpnConnection operation on AmazonEC2.
+     * @param createNetworkAclEntryRequest Container for the necessary
+     *           parameters to execute the CreateNetworkAclEntry operation on
+     *           AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DeleteVpnConnection service method, as returned by AmazonEC2.
+     *         CreateNetworkAclEntry service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1706,38 +2552,43 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVpnConnectionAsync(DeleteVpnConnectionRequest deleteVpnConnectionRequest) 
+    public Future<Void> createNetworkAclEntryAsync(CreateNetworkAclEntryRequest createNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Creates a new VPN connection between an existing VPN gateway and
-     * customer gateway. The only supported connection type is ipsec.1.
+     * Creates an entry (i.e., rule) in a network ACL with a rule number you
+     * specify. Each network ACL has a set of numbered ingress rules and a
+     * separate set of numbered egress rules. When determining whether a
+     * packet should be allowed in or out of a subnet associated with the
+     * ACL, Amazon VPC processes the entries in the ACL according to the rule
+     * numbers, in ascending order.
      * </p>
      * <p>
-     * The response includes information that you need to configure your
-     * customer gateway, in XML format. We recommend you use the command line
-     * version of this operation ( <code>ec2-create-vpn-connection</code> ),
-     * which takes an <code>-f</code> option (for format) and returns
-     * configuration information formatted as expected by the vendor you
-     * specified, or in a generic, human readable format. For information
-     * about the command, go to <code>ec2-create-vpn-connection</code> in the
-     * Amazon Virtual Private Cloud Command Line Reference.
+     * <b>Important:</b> We recommend that you leave room between the rules
+     * (e.g., 100, 110, 120, etc.), and not number them sequentially (101,
+     * 102, 103, etc.). This allows you to easily add a new rule between
+     * existing ones without having to renumber the rules.
      * </p>
      * <p>
-     * <b>IMPORTANT:</b> We strongly recommend you use HTTPS when calling
-     * this operation because the response contains sensitive cryptographic
-     * information for configuring your customer gateway. If you decide to
-     * shut down your VPN connection for any reason and then create a new
-     * one, you must re-configure your customer gateway with the new
-     * information returned from this call.
+     * After you add an entry, you can't modify it; you must either replace
+     * it, or create a new entry and delete the old one.
+     * </p>
+     * <p>
+     * For more information about network ACLs, go to Network ACLs in the
+     * Amazon Virtual Private Cloud User Guide.
      * </p>
      *
-     * @param createVpnConnectionRequest Container for the necessary
-     *           parameters to execute the CreateVpnConnection operation on AmazonEC2.
+     * @param createNetworkAclEntryRequest Container for the necessary
+     *           parameters to execute the CreateNetworkAclEntry operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         CreateVpnConnection service method, as returned by AmazonEC2.
+     *         CreateNetworkAclEntry service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1747,21 +2598,29 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpnConnectionResult> createVpnConnectionAsync(CreateVpnConnectionRequest createVpnConnectionRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<Void> createNetworkAclEntryAsync(CreateNetworkAclEntryRequest createNetworkAclEntryRequest,
+            AsyncHandler<CreateNetworkAclEntryRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Returns information about an attribute of an instance. Only one
-     * attribute can be specified per call.
+     * Detaches an Internet gateway from a VPC, disabling connectivity
+     * between the Internet and the VPC. The VPC must not contain any running
+     * instances with elastic IP addresses. For more information about your
+     * VPC and Internet gateway, go to Amazon Virtual Private Cloud User
+     * Guide.
+     * </p>
+     * <p>
+     * For more information about Amazon Virtual Private Cloud and Internet
+     * gateways, go to the Amazon Virtual Private Cloud User Guide.
      * </p>
      *
-     * @param describeInstanceAttributeRequest Container for the necessary
-     *           parameters to execute the DescribeInstanceAttribute operation on
+     * @param detachInternetGatewayRequest Container for the necessary
+     *           parameters to execute the DetachInternetGateway operation on
      *           AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeInstanceAttribute service method, as returned by AmazonEC2.
+     *         DetachInternetGateway service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1771,33 +2630,32 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeInstanceAttributeResult> describeInstanceAttributeAsync(DescribeInstanceAttributeRequest describeInstanceAttributeRequest) 
+    public Future<Void> detachInternetGatewayAsync(DetachInternetGatewayRequest detachInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Gives you information about your subnets. You can filter the results
-     * to return information only about subnets that match criteria you
-     * specify.
-     * </p>
-     * <p>
-     * For example, you could ask to get information about a particular
-     * subnet (or all) only if the subnet's state is available. You can
-     * specify multiple filters (e.g., the subnet is in a particular VPC, and
-     * the subnet's state is available).
+     * Detaches an Internet gateway from a VPC, disabling connectivity
+     * between the Internet and the VPC. The VPC must not contain any running
+     * instances with elastic IP addresses. For more information about your
+     * VPC and Internet gateway, go to Amazon Virtual Private Cloud User
+     * Guide.
      * </p>
      * <p>
-     * The result includes information for a particular subnet only if the
-     * subnet matches all your filters. If there's no match, no special
-     * message is returned; the response is simply empty. The following table
-     * shows the available filters.
+     * For more information about Amazon Virtual Private Cloud and Internet
+     * gateways, go to the Amazon Virtual Private Cloud User Guide.
      * </p>
      *
-     * @param describeSubnetsRequest Container for the necessary parameters
-     *           to execute the DescribeSubnets operation on AmazonEC2.
+     * @param detachInternetGatewayRequest Container for the necessary
+     *           parameters to execute the DetachInternetGateway operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeSubnets service method, as returned by AmazonEC2.
+     *         DetachInternetGateway service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1807,68 +2665,24 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSubnetsResult> describeSubnetsAsync(DescribeSubnetsRequest describeSubnetsRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<Void> detachInternetGatewayAsync(DetachInternetGatewayRequest detachInternetGatewayRequest,
+            AsyncHandler<DetachInternetGatewayRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * The RunInstances operation launches a specified number of instances.
-     * </p>
-     * <p>
-     * If Amazon EC2 cannot launch the minimum number AMIs you request, no
-     * instances launch. If there is insufficient capacity to launch the
-     * maximum number of AMIs you request, Amazon EC2 launches as many as
-     * possible to satisfy the requested maximum values.
-     * </p>
-     * <p>
-     * Every instance is launched in a security group. If you do not specify
-     * a security group at launch, the instances start in your default
-     * security group. For more information on creating security groups, see
-     * CreateSecurityGroup.
-     * </p>
-     * <p>
-     * An optional instance type can be specified. For information about
-     * instance types, see Instance Types.
-     * </p>
-     * <p>
-     * You can provide an optional key pair ID for each image in the launch
-     * request (for more information, see CreateKeyPair). All instances that
-     * are created from images that use this key pair will have access to the
-     * associated public key at boot. You can use this key to provide secure
-     * access to an instance of an image on a per-instance basis. Amazon EC2
-     * public images use this feature to provide secure access without
-     * passwords.
-     * </p>
-     * <p>
-     * <b>IMPORTANT:</b> Launching public images without a key pair ID will
-     * leave them inaccessible. The public key material is made available to
-     * the instance at boot time by placing it in the openssh_id.pub file on
-     * a logical device that is exposed to the instance as /dev/sda2 (the
-     * ephemeral store). The format of this file is suitable for use as an
-     * entry within ~/.ssh/authorized_keys (the OpenSSH format). This can be
-     * done at boot (e.g., as part of rc.local) allowing for secure access
-     * without passwords. Optional user data can be provided in the launch
-     * request. All instances that collectively comprise the launch request
-     * have access to this data For more information, see Instance Metadata.
-     * </p>
-     * <p>
-     * <b>NOTE:</b> If any of the AMIs have a product code attached for which
-     * the user has not subscribed, the RunInstances call will fail.
-     * </p>
-     * <p>
-     * <b>IMPORTANT:</b> We strongly recommend using the 2.6.18 Xen stock
-     * kernel with the c1.medium and c1.xlarge instances. Although the
-     * default Amazon EC2 kernels will work, the new kernels provide greater
-     * stability and performance for these instance types. For more
-     * information about kernels, see Kernels, RAM Disks, and Block Device
-     * Mappings.
+     * Creates a new route table within a VPC. After you create a new route
+     * table, you can add routes and associate the table with a subnet. For
+     * more information about route tables, go to <a
+     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
+     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
      * </p>
      *
-     * @param runInstancesRequest Container for the necessary parameters to
-     *           execute the RunInstances operation on AmazonEC2.
+     * @param createRouteTableRequest Container for the necessary parameters
+     *           to execute the CreateRouteTable operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         RunInstances service method, as returned by AmazonEC2.
+     *         CreateRouteTable service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1878,21 +2692,2857 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RunInstancesResult> runInstancesAsync(RunInstancesRequest runInstancesRequest) 
+    public Future<CreateRouteTableResult> createRouteTableAsync(CreateRouteTableRequest createRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Returns information about one or more PlacementGroup instances in a
-     * user's account.
+     * Creates a new route table within a VPC. After you create a new route
+     * table, you can add routes and associate the table with a subnet. For
+     * more information about route tables, go to <a
+     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
+     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
      * </p>
      *
-     * @param describePlacementGroupsRequest Container for the necessary
-     *           parameters to execute the DescribePlacementGroups operation on
+     * @param createRouteTableRequest Container for the necessary parameters
+     *           to execute the CreateRouteTable operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateRouteTable service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateRouteTableResult> createRouteTableAsync(CreateRouteTableRequest createRouteTableRequest,
+            AsyncHandler<CreateRouteTableRequest, CreateRouteTableResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Describes the status of the indicated volume or, in lieu of any
+     * specified, all volumes belonging to the caller. Volumes that have been
+     * deleted are not described.
+     * </p>
+     *
+     * @param describeVolumesRequest Container for the necessary parameters
+     *           to execute the DescribeVolumes operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeVolumes service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeVolumesResult> describeVolumesAsync(DescribeVolumesRequest describeVolumesRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Describes the status of the indicated volume or, in lieu of any
+     * specified, all volumes belonging to the caller. Volumes that have been
+     * deleted are not described.
+     * </p>
+     *
+     * @param describeVolumesRequest Container for the necessary parameters
+     *           to execute the DescribeVolumes operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeVolumes service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeVolumesResult> describeVolumesAsync(DescribeVolumesRequest describeVolumesRequest,
+            AsyncHandler<DescribeVolumesRequest, DescribeVolumesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gives you information about your route tables. You can filter the
+     * results to return information only about tables that match criteria
+     * you specify. For example, you could get information only about a table
+     * associated with a particular subnet. You can specify multiple values
+     * for the filter. The table must match at least one of the specified
+     * values for it to be included in the results.
+     * </p>
+     * <p>
+     * You can specify multiple filters (e.g., the table has a particular
+     * route, and is associated with a particular subnet). The result
+     * includes information for a particular table only if it matches all
+     * your filters. If there's no match, no special message is returned; the
+     * response is simply empty.
+     * </p>
+     * <p>
+     * You can use wildcards with the filter values: an asterisk matches
+     * zero or more characters, and <code>?</code> matches exactly one
+     * character. You can escape special characters using a backslash before
+     * the character. For example, a value of <code>\*amazon\?\\</code>
+     * searches for the literal string <code>*amazon?\</code> .
+     * 
+     * </p>
+     *
+     * @param describeRouteTablesRequest Container for the necessary
+     *           parameters to execute the DescribeRouteTables operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeRouteTables service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeRouteTablesResult> describeRouteTablesAsync(DescribeRouteTablesRequest describeRouteTablesRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gives you information about your route tables. You can filter the
+     * results to return information only about tables that match criteria
+     * you specify. For example, you could get information only about a table
+     * associated with a particular subnet. You can specify multiple values
+     * for the filter. The table must match at least one of the specified
+     * values for it to be included in the results.
+     * </p>
+     * <p>
+     * You can specify multiple filters (e.g., the table has a particular
+     * route, and is associated with a particular subnet). The result
+     * includes information for a particular table only if it matches all
+     * your filters. If there's no match, no special message is returned; the
+     * response is simply empty.
+     * </p>
+     * <p>
+     * You can use wildcards with the filter values: an asterisk matches
+     * zero or more characters, and <code>?</code> matches exactly one
+     * character. You can escape special characters using a backslash before
+     * the character. For example, a value of <code>\*amazon\?\\</code>
+     * searches for the literal string <code>*amazon?\</code> .
+     * 
+     * </p>
+     *
+     * @param describeRouteTablesRequest Container for the necessary
+     *           parameters to execute the DescribeRouteTables operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeRouteTables service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeRouteTablesResult> describeRouteTablesAsync(DescribeRouteTablesRequest describeRouteTablesRequest,
+            AsyncHandler<DescribeRouteTablesRequest, DescribeRouteTablesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Enables monitoring for a running instance.
+     * </p>
+     *
+     * @param monitorInstancesRequest Container for the necessary parameters
+     *           to execute the MonitorInstances operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         MonitorInstances service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<MonitorInstancesResult> monitorInstancesAsync(MonitorInstancesRequest monitorInstancesRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Enables monitoring for a running instance.
+     * </p>
+     *
+     * @param monitorInstancesRequest Container for the necessary parameters
+     *           to execute the MonitorInstances operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         MonitorInstances service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<MonitorInstancesResult> monitorInstancesAsync(MonitorInstancesRequest monitorInstancesRequest,
+            AsyncHandler<MonitorInstancesRequest, MonitorInstancesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gives you information about one or more sets of DHCP options. You can
+     * specify one or more DHCP options set IDs, or no IDs (to describe all
+     * your sets of DHCP options). The returned information consists of:
+     * </p>
+     * 
+     * <ul>
+     * <li> The DHCP options set ID </li>
+     * <li> The options </li>
+     * 
+     * </ul>
+     *
+     * @param describeDhcpOptionsRequest Container for the necessary
+     *           parameters to execute the DescribeDhcpOptions operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeDhcpOptions service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeDhcpOptionsResult> describeDhcpOptionsAsync(DescribeDhcpOptionsRequest describeDhcpOptionsRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gives you information about one or more sets of DHCP options. You can
+     * specify one or more DHCP options set IDs, or no IDs (to describe all
+     * your sets of DHCP options). The returned information consists of:
+     * </p>
+     * 
+     * <ul>
+     * <li> The DHCP options set ID </li>
+     * <li> The options </li>
+     * 
+     * </ul>
+     *
+     * @param describeDhcpOptionsRequest Container for the necessary
+     *           parameters to execute the DescribeDhcpOptions operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeDhcpOptions service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeDhcpOptionsResult> describeDhcpOptionsAsync(DescribeDhcpOptionsRequest describeDhcpOptionsRequest,
+            AsyncHandler<DescribeDhcpOptionsRequest, DescribeDhcpOptionsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gives you information about the network ACLs in your VPC. You can
+     * filter the results to return information only about ACLs that match
+     * criteria you specify. For example, you could get information only the
+     * ACL associated with a particular subnet. The ACL must match at least
+     * one of the specified values for it to be included in the results.
+     * </p>
+     * <p>
+     * You can specify multiple filters (e.g., the ACL is associated with a
+     * particular subnet and has an egress entry that denies traffic to a
+     * particular port). The result includes information for a particular ACL
+     * only if it matches all your filters. If there's no match, no special
+     * message is returned; the response is simply empty.
+     * </p>
+     * <p>
+     * You can use wildcards with the filter values: an asterisk matches
+     * zero or more characters, and <code>?</code> matches exactly one
+     * character. You can escape special characters using a backslash before
+     * the character. For example, a value of <code>\*amazon\?\\</code>
+     * searches for the literal string <code>*amazon?\</code> .
+     * 
+     * </p>
+     *
+     * @param describeNetworkAclsRequest Container for the necessary
+     *           parameters to execute the DescribeNetworkAcls operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeNetworkAcls service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeNetworkAclsResult> describeNetworkAclsAsync(DescribeNetworkAclsRequest describeNetworkAclsRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gives you information about the network ACLs in your VPC. You can
+     * filter the results to return information only about ACLs that match
+     * criteria you specify. For example, you could get information only the
+     * ACL associated with a particular subnet. The ACL must match at least
+     * one of the specified values for it to be included in the results.
+     * </p>
+     * <p>
+     * You can specify multiple filters (e.g., the ACL is associated with a
+     * particular subnet and has an egress entry that denies traffic to a
+     * particular port). The result includes information for a particular ACL
+     * only if it matches all your filters. If there's no match, no special
+     * message is returned; the response is simply empty.
+     * </p>
+     * <p>
+     * You can use wildcards with the filter values: an asterisk matches
+     * zero or more characters, and <code>?</code> matches exactly one
+     * character. You can escape special characters using a backslash before
+     * the character. For example, a value of <code>\*amazon\?\\</code>
+     * searches for the literal string <code>*amazon?\</code> .
+     * 
+     * </p>
+     *
+     * @param describeNetworkAclsRequest Container for the necessary
+     *           parameters to execute the DescribeNetworkAcls operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeNetworkAcls service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeNetworkAclsResult> describeNetworkAclsAsync(DescribeNetworkAclsRequest describeNetworkAclsRequest,
+            AsyncHandler<DescribeNetworkAclsRequest, DescribeNetworkAclsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * The DescribeBundleTasks operation describes in-progress and recent
+     * bundle tasks. Complete and failed tasks are removed from the list a
+     * short time after completion. If no bundle ids are given, all bundle
+     * tasks are returned.
+     * </p>
+     *
+     * @param describeBundleTasksRequest Container for the necessary
+     *           parameters to execute the DescribeBundleTasks operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeBundleTasks service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeBundleTasksResult> describeBundleTasksAsync(DescribeBundleTasksRequest describeBundleTasksRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * The DescribeBundleTasks operation describes in-progress and recent
+     * bundle tasks. Complete and failed tasks are removed from the list a
+     * short time after completion. If no bundle ids are given, all bundle
+     * tasks are returned.
+     * </p>
+     *
+     * @param describeBundleTasksRequest Container for the necessary
+     *           parameters to execute the DescribeBundleTasks operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeBundleTasks service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeBundleTasksResult> describeBundleTasksAsync(DescribeBundleTasksRequest describeBundleTasksRequest,
+            AsyncHandler<DescribeBundleTasksRequest, DescribeBundleTasksResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * The RevokeSecurityGroupIngress operation revokes permissions from a
+     * security group. The permissions used to revoke must be specified using
+     * the same values used to grant the permissions.
+     * </p>
+     * <p>
+     * Permissions are specified by IP protocol (TCP, UDP, or ICMP), the
+     * source of the request (by IP range or an Amazon EC2 user-group pair),
+     * the source and destination port ranges (for TCP and UDP), and the ICMP
+     * codes and types (for ICMP).
+     * </p>
+     * <p>
+     * Permission changes are quickly propagated to instances within the
+     * security group. However, depending on the number of instances in the
+     * group, a small delay might occur.
+     * </p>
+     *
+     * @param revokeSecurityGroupIngressRequest Container for the necessary
+     *           parameters to execute the RevokeSecurityGroupIngress operation on
+     *           AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RevokeSecurityGroupIngress service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> revokeSecurityGroupIngressAsync(RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * The RevokeSecurityGroupIngress operation revokes permissions from a
+     * security group. The permissions used to revoke must be specified using
+     * the same values used to grant the permissions.
+     * </p>
+     * <p>
+     * Permissions are specified by IP protocol (TCP, UDP, or ICMP), the
+     * source of the request (by IP range or an Amazon EC2 user-group pair),
+     * the source and destination port ranges (for TCP and UDP), and the ICMP
+     * codes and types (for ICMP).
+     * </p>
+     * <p>
+     * Permission changes are quickly propagated to instances within the
+     * security group. However, depending on the number of instances in the
+     * group, a small delay might occur.
+     * </p>
+     *
+     * @param revokeSecurityGroupIngressRequest Container for the necessary
+     *           parameters to execute the RevokeSecurityGroupIngress operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RevokeSecurityGroupIngress service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> revokeSecurityGroupIngressAsync(RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest,
+            AsyncHandler<RevokeSecurityGroupIngressRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * The GetConsoleOutput operation retrieves console output for the
+     * specified instance.
+     * </p>
+     * <p>
+     * Instance console output is buffered and posted shortly after instance
+     * boot, reboot, and termination. Amazon EC2 preserves the most recent 64
+     * KB output which will be available for at least one hour after the most
+     * recent post.
+     * </p>
+     *
+     * @param getConsoleOutputRequest Container for the necessary parameters
+     *           to execute the GetConsoleOutput operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetConsoleOutput service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetConsoleOutputResult> getConsoleOutputAsync(GetConsoleOutputRequest getConsoleOutputRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * The GetConsoleOutput operation retrieves console output for the
+     * specified instance.
+     * </p>
+     * <p>
+     * Instance console output is buffered and posted shortly after instance
+     * boot, reboot, and termination. Amazon EC2 preserves the most recent 64
+     * KB output which will be available for at least one hour after the most
+     * recent post.
+     * </p>
+     *
+     * @param getConsoleOutputRequest Container for the necessary parameters
+     *           to execute the GetConsoleOutput operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetConsoleOutput service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetConsoleOutputResult> getConsoleOutputAsync(GetConsoleOutputRequest getConsoleOutputRequest,
+            AsyncHandler<GetConsoleOutputRequest, GetConsoleOutputResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Creates a new Internet gateway in your AWS account. After creating
+     * the Internet gateway, you then attach it to a VPC using
+     * <code>AttachInternetGateway</code> . For more information about your
+     * VPC and Internet gateway, go to Amazon Virtual Private Cloud User
+     * Guide.
+     * </p>
+     *
+     * @param createInternetGatewayRequest Container for the necessary
+     *           parameters to execute the CreateInternetGateway operation on
+     *           AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateInternetGateway service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateInternetGatewayResult> createInternetGatewayAsync(CreateInternetGatewayRequest createInternetGatewayRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Creates a new Internet gateway in your AWS account. After creating
+     * the Internet gateway, you then attach it to a VPC using
+     * <code>AttachInternetGateway</code> . For more information about your
+     * VPC and Internet gateway, go to Amazon Virtual Private Cloud User
+     * Guide.
+     * </p>
+     *
+     * @param createInternetGatewayRequest Container for the necessary
+     *           parameters to execute the CreateInternetGateway operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateInternetGateway service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateInternetGatewayResult> createInternetGatewayAsync(CreateInternetGatewayRequest createInternetGatewayRequest,
+            AsyncHandler<CreateInternetGatewayRequest, CreateInternetGatewayResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * The ModifyImageAttribute operation modifies an attribute of an AMI.
+     * </p>
+     *
+     * @param modifyImageAttributeRequest Container for the necessary
+     *           parameters to execute the ModifyImageAttribute operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ModifyImageAttribute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> modifyImageAttributeAsync(ModifyImageAttributeRequest modifyImageAttributeRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * The ModifyImageAttribute operation modifies an attribute of an AMI.
+     * </p>
+     *
+     * @param modifyImageAttributeRequest Container for the necessary
+     *           parameters to execute the ModifyImageAttribute operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ModifyImageAttribute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> modifyImageAttributeAsync(ModifyImageAttributeRequest modifyImageAttributeRequest,
+            AsyncHandler<ModifyImageAttributeRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Provides information to AWS about your customer gateway device. The
+     * customer gateway is the appliance at your end of the VPN connection
+     * (compared to the VPN gateway, which is the device at the AWS side of
+     * the VPN connection). You can have a single active customer gateway per
+     * AWS account (active means that you've created a VPN connection to use
+     * with the customer gateway). AWS might delete any customer gateway that
+     * you create with this operation if you leave it inactive for an
+     * extended period of time.
+     * </p>
+     * <p>
+     * You must provide the Internet-routable IP address of the customer
+     * gateway's external interface. The IP address must be static.
+     * </p>
+     * <p>
+     * You must also provide the device's Border Gateway Protocol (BGP)
+     * Autonomous System Number (ASN). You can use an existing ASN assigned
+     * to your network. If you don't have an ASN already, you can use a
+     * private ASN (in the 64512 - 65534 range). For more information about
+     * ASNs, go to <a
+     * href="http://en.wikipedia.org/wiki/Autonomous_system_%28Internet%29">
+     * http://en.wikipedia.org/wiki/Autonomous_system_%28Internet%29 </a> .
+     * </p>
+     *
+     * @param createCustomerGatewayRequest Container for the necessary
+     *           parameters to execute the CreateCustomerGateway operation on
+     *           AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateCustomerGateway service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateCustomerGatewayResult> createCustomerGatewayAsync(CreateCustomerGatewayRequest createCustomerGatewayRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Provides information to AWS about your customer gateway device. The
+     * customer gateway is the appliance at your end of the VPN connection
+     * (compared to the VPN gateway, which is the device at the AWS side of
+     * the VPN connection). You can have a single active customer gateway per
+     * AWS account (active means that you've created a VPN connection to use
+     * with the customer gateway). AWS might delete any customer gateway that
+     * you create with this operation if you leave it inactive for an
+     * extended period of time.
+     * </p>
+     * <p>
+     * You must provide the Internet-routable IP address of the customer
+     * gateway's external interface. The IP address must be static.
+     * </p>
+     * <p>
+     * You must also provide the device's Border Gateway Protocol (BGP)
+     * Autonomous System Number (ASN). You can use an existing ASN assigned
+     * to your network. If you don't have an ASN already, you can use a
+     * private ASN (in the 64512 - 65534 range). For more information about
+     * ASNs, go to <a
+     * href="http://en.wikipedia.org/wiki/Autonomous_system_%28Internet%29">
+     * http://en.wikipedia.org/wiki/Autonomous_system_%28Internet%29 </a> .
+     * </p>
+     *
+     * @param createCustomerGatewayRequest Container for the necessary
+     *           parameters to execute the CreateCustomerGateway operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateCustomerGateway service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateCustomerGatewayResult> createCustomerGatewayAsync(CreateCustomerGatewayRequest createCustomerGatewayRequest,
+            AsyncHandler<CreateCustomerGatewayRequest, CreateCustomerGatewayResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Creates the data feed for Spot Instances, enabling you to view Spot
+     * Instance usage logs. You can create one data feed per account.
+     * </p>
+     * <p>
+     * For conceptual information about Spot Instances, refer to the Amazon
+     * Elastic Compute Cloud Developer Guide or Amazon Elastic Compute Cloud
+     * User Guide .
+     * 
+     * </p>
+     *
+     * @param createSpotDatafeedSubscriptionRequest Container for the
+     *           necessary parameters to execute the CreateSpotDatafeedSubscription
+     *           operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateSpotDatafeedSubscription service method, as returned by
+     *         AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateSpotDatafeedSubscriptionResult> createSpotDatafeedSubscriptionAsync(CreateSpotDatafeedSubscriptionRequest createSpotDatafeedSubscriptionRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Creates the data feed for Spot Instances, enabling you to view Spot
+     * Instance usage logs. You can create one data feed per account.
+     * </p>
+     * <p>
+     * For conceptual information about Spot Instances, refer to the Amazon
+     * Elastic Compute Cloud Developer Guide or Amazon Elastic Compute Cloud
+     * User Guide .
+     * 
+     * </p>
+     *
+     * @param createSpotDatafeedSubscriptionRequest Container for the
+     *           necessary parameters to execute the CreateSpotDatafeedSubscription
+     *           operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateSpotDatafeedSubscription service method, as returned by
+     *         AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateSpotDatafeedSubscriptionResult> createSpotDatafeedSubscriptionAsync(CreateSpotDatafeedSubscriptionRequest createSpotDatafeedSubscriptionRequest,
+            AsyncHandler<CreateSpotDatafeedSubscriptionRequest, CreateSpotDatafeedSubscriptionResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Attaches an Internet gateway to a VPC, enabling connectivity between
+     * the Internet and the VPC. For more information about your VPC and
+     * Internet gateway, go to the Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param attachInternetGatewayRequest Container for the necessary
+     *           parameters to execute the AttachInternetGateway operation on
+     *           AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AttachInternetGateway service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> attachInternetGatewayAsync(AttachInternetGatewayRequest attachInternetGatewayRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Attaches an Internet gateway to a VPC, enabling connectivity between
+     * the Internet and the VPC. For more information about your VPC and
+     * Internet gateway, go to the Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param attachInternetGatewayRequest Container for the necessary
+     *           parameters to execute the AttachInternetGateway operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AttachInternetGateway service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> attachInternetGatewayAsync(AttachInternetGatewayRequest attachInternetGatewayRequest,
+            AsyncHandler<AttachInternetGatewayRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Deletes a VPN connection. Use this if you want to delete a VPC and
+     * all its associated components. Another reason to use this operation is
+     * if you believe the tunnel credentials for your VPN connection have
+     * been compromised. In that situation, you can delete the VPN connection
+     * and create a new one that has new keys, without needing to delete the
+     * VPC or VPN gateway. If you create a new VPN connection, you must
+     * reconfigure the customer gateway using the new configuration
+     * information returned with the new VPN connection ID.
+     * </p>
+     * <p>
+     * If you're deleting the VPC and all its associated parts, we recommend
+     * you detach the VPN gateway from the VPC and delete the VPC before
+     * deleting the VPN connection.
+     * </p>
+     *
+     * @param deleteVpnConnectionRequest Container for the necessary
+     *           parameters to execute the DeleteVpnConnection operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteVpnConnection service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteVpnConnectionAsync(DeleteVpnConnectionRequest deleteVpnConnectionRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Deletes a VPN connection. Use this if you want to delete a VPC and
+     * all its associated components. Another reason to use this operation is
+     * if you believe the tunnel credentials for your VPN connection have
+     * been compromised. In that situation, you can delete the VPN connection
+     * and create a new one that has new keys, without needing to delete the
+     * VPC or VPN gateway. If you create a new VPN connection, you must
+     * reconfigure the customer gateway using the new configuration
+     * information returned with the new VPN connection ID.
+     * </p>
+     * <p>
+     * If you're deleting the VPC and all its associated parts, we recommend
+     * you detach the VPN gateway from the VPC and delete the VPC before
+     * deleting the VPN connection.
+     * </p>
+     *
+     * @param deleteVpnConnectionRequest Container for the necessary
+     *           parameters to execute the DeleteVpnConnection operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteVpnConnection service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteVpnConnectionAsync(DeleteVpnConnectionRequest deleteVpnConnectionRequest,
+            AsyncHandler<DeleteVpnConnectionRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Creates a new VPN connection between an existing VPN gateway and
+     * customer gateway. The only supported connection type is ipsec.1.
+     * </p>
+     * <p>
+     * The response includes information that you need to configure your
+     * customer gateway, in XML format. We recommend you use the command line
+     * version of this operation ( <code>ec2-create-vpn-connection</code> ),
+     * which takes an <code>-f</code> option (for format) and returns
+     * configuration information formatted as expected by the vendor you
+     * specified, or in a generic, human readable format. For information
+     * about the command, go to <code>ec2-create-vpn-connection</code> in the
+     * Amazon Virtual Private Cloud Command Line Reference.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> We strongly recommend you use HTTPS when calling
+     * this operation because the response contains sensitive cryptographic
+     * information for configuring your customer gateway. If you decide to
+     * shut down your VPN connection for any reason and then create a new
+     * one, you must re-configure your customer gateway with the new
+     * information returned from this call.
+     * </p>
+     *
+     * @param createVpnConnectionRequest Container for the necessary
+     *           parameters to execute the CreateVpnConnection operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateVpnConnection service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateVpnConnectionResult> createVpnConnectionAsync(CreateVpnConnectionRequest createVpnConnectionRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Creates a new VPN connection between an existing VPN gateway and
+     * customer gateway. The only supported connection type is ipsec.1.
+     * </p>
+     * <p>
+     * The response includes information that you need to configure your
+     * customer gateway, in XML format. We recommend you use the command line
+     * version of this operation ( <code>ec2-create-vpn-connection</code> ),
+     * which takes an <code>-f</code> option (for format) and returns
+     * configuration information formatted as expected by the vendor you
+     * specified, or in a generic, human readable format. For information
+     * about the command, go to <code>ec2-create-vpn-connection</code> in the
+     * Amazon Virtual Private Cloud Command Line Reference.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> We strongly recommend you use HTTPS when calling
+     * this operation because the response contains sensitive cryptographic
+     * information for configuring your customer gateway. If you decide to
+     * shut down your VPN connection for any reason and then create a new
+     * one, you must re-configure your customer gateway with the new
+     * information returned from this call.
+     * </p>
+     *
+     * @param createVpnConnectionRequest Container for the necessary
+     *           parameters to execute the CreateVpnConnection operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateVpnConnection service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateVpnConnectionResult> createVpnConnectionAsync(CreateVpnConnectionRequest createVpnConnectionRequest,
+            AsyncHandler<CreateVpnConnectionRequest, CreateVpnConnectionResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Returns information about an attribute of an instance. Only one
+     * attribute can be specified per call.
+     * </p>
+     *
+     * @param describeInstanceAttributeRequest Container for the necessary
+     *           parameters to execute the DescribeInstanceAttribute operation on
+     *           AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeInstanceAttribute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeInstanceAttributeResult> describeInstanceAttributeAsync(DescribeInstanceAttributeRequest describeInstanceAttributeRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Returns information about an attribute of an instance. Only one
+     * attribute can be specified per call.
+     * </p>
+     *
+     * @param describeInstanceAttributeRequest Container for the necessary
+     *           parameters to execute the DescribeInstanceAttribute operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeInstanceAttribute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeInstanceAttributeResult> describeInstanceAttributeAsync(DescribeInstanceAttributeRequest describeInstanceAttributeRequest,
+            AsyncHandler<DescribeInstanceAttributeRequest, DescribeInstanceAttributeResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gives you information about your subnets. You can filter the results
+     * to return information only about subnets that match criteria you
+     * specify.
+     * </p>
+     * <p>
+     * For example, you could ask to get information about a particular
+     * subnet (or all) only if the subnet's state is available. You can
+     * specify multiple filters (e.g., the subnet is in a particular VPC, and
+     * the subnet's state is available).
+     * </p>
+     * <p>
+     * The result includes information for a particular subnet only if the
+     * subnet matches all your filters. If there's no match, no special
+     * message is returned; the response is simply empty. The following table
+     * shows the available filters.
+     * </p>
+     *
+     * @param describeSubnetsRequest Container for the necessary parameters
+     *           to execute the DescribeSubnets operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeSubnets service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeSubnetsResult> describeSubnetsAsync(DescribeSubnetsRequest describeSubnetsRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gives you information about your subnets. You can filter the results
+     * to return information only about subnets that match criteria you
+     * specify.
+     * </p>
+     * <p>
+     * For example, you could ask to get information about a particular
+     * subnet (or all) only if the subnet's state is available. You can
+     * specify multiple filters (e.g., the subnet is in a particular VPC, and
+     * the subnet's state is available).
+     * </p>
+     * <p>
+     * The result includes information for a particular subnet only if the
+     * subnet matches all your filters. If there's no match, no special
+     * message is returned; the response is simply empty. The following table
+     * shows the available filters.
+     * </p>
+     *
+     * @param describeSubnetsRequest Container for the necessary parameters
+     *           to execute the DescribeSubnets operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeSubnets service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeSubnetsResult> describeSubnetsAsync(DescribeSubnetsRequest describeSubnetsRequest,
+            AsyncHandler<DescribeSubnetsRequest, DescribeSubnetsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * The RunInstances operation launches a specified number of instances.
+     * </p>
+     * <p>
+     * If Amazon EC2 cannot launch the minimum number AMIs you request, no
+     * instances launch. If there is insufficient capacity to launch the
+     * maximum number of AMIs you request, Amazon EC2 launches as many as
+     * possible to satisfy the requested maximum values.
+     * </p>
+     * <p>
+     * Every instance is launched in a security group. If you do not specify
+     * a security group at launch, the instances start in your default
+     * security group. For more information on creating security groups, see
+     * CreateSecurityGroup.
+     * </p>
+     * <p>
+     * An optional instance type can be specified. For information about
+     * instance types, see Instance Types.
+     * </p>
+     * <p>
+     * You can provide an optional key pair ID for each image in the launch
+     * request (for more information, see CreateKeyPair). All instances that
+     * are created from images that use this key pair will have access to the
+     * associated public key at boot. You can use this key to provide secure
+     * access to an instance of an image on a per-instance basis. Amazon EC2
+     * public images use this feature to provide secure access without
+     * passwords.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> Launching public images without a key pair ID will
+     * leave them inaccessible. The public key material is made available to
+     * the instance at boot time by placing it in the openssh_id.pub file on
+     * a logical device that is exposed to the instance as /dev/sda2 (the
+     * ephemeral store). The format of this file is suitable for use as an
+     * entry within ~/.ssh/authorized_keys (the OpenSSH format). This can be
+     * done at boot (e.g., as part of rc.local) allowing for secure access
+     * without passwords. Optional user data can be provided in the launch
+     * request. All instances that collectively comprise the launch request
+     * have access to this data For more information, see Instance Metadata.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> If any of the AMIs have a product code attached for which
+     * the user has not subscribed, the RunInstances call will fail.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> We strongly recommend using the 2.6.18 Xen stock
+     * kernel with the c1.medium and c1.xlarge instances. Although the
+     * default Amazon EC2 kernels will work, the new kernels provide greater
+     * stability and performance for these instance types. For more
+     * information about kernels, see Kernels, RAM Disks, and Block Device
+     * Mappings.
+     * </p>
+     *
+     * @param runInstancesRequest Container for the necessary parameters to
+     *           execute the RunInstances operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RunInstances service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<RunInstancesResult> runInstancesAsync(RunInstancesRequest runInstancesRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * The RunInstances operation launches a specified number of instances.
+     * </p>
+     * <p>
+     * If Amazon EC2 cannot launch the minimum number AMIs you request, no
+     * instances launch. If there is insufficient capacity to launch the
+     * maximum number of AMIs you request, Amazon EC2 launches as many as
+     * possible to satisfy the requested maximum values.
+     * </p>
+     * <p>
+     * Every instance is launched in a security group. If you do not specify
+     * a security group at launch, the instances start in your default
+     * security group. For more information on creating security groups, see
+     * CreateSecurityGroup.
+     * </p>
+     * <p>
+     * An optional instance type can be specified. For information about
+     * instance types, see Instance Types.
+     * </p>
+     * <p>
+     * You can provide an optional key pair ID for each image in the launch
+     * request (for more information, see CreateKeyPair). All instances that
+     * are created from images that use this key pair will have access to the
+     * associated public key at boot. You can use this key to provide secure
+     * access to an instance of an image on a per-instance basis. Amazon EC2
+     * public images use this feature to provide secure access without
+     * passwords.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> Launching public images without a key pair ID will
+     * leave them inaccessible. The public key material is made available to
+     * the instance at boot time by placing it in the openssh_id.pub file on
+     * a logical device that is exposed to the instance as /dev/sda2 (the
+     * ephemeral store). The format of this file is suitable for use as an
+     * entry within ~/.ssh/authorized_keys (the OpenSSH format). This can be
+     * done at boot (e.g., as part of rc.local) allowing for secure access
+     * without passwords. Optional user data can be provided in the launch
+     * request. All instances that collectively comprise the launch request
+     * have access to this data For more information, see Instance Metadata.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> If any of the AMIs have a product code attached for which
+     * the user has not subscribed, the RunInstances call will fail.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> We strongly recommend using the 2.6.18 Xen stock
+     * kernel with the c1.medium and c1.xlarge instances. Although the
+     * default Amazon EC2 kernels will work, the new kernels provide greater
+     * stability and performance for these instance types. For more
+     * information about kernels, see Kernels, RAM Disks, and Block Device
+     * Mappings.
+     * </p>
+     *
+     * @param runInstancesRequest Container for the necessary parameters to
+     *           execute the RunInstances operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RunInstances service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<RunInstancesResult> runInstancesAsync(RunInstancesRequest runInstancesRequest,
+            AsyncHandler<RunInstancesRequest, RunInstancesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Returns information about one or more PlacementGroup instances in a
+     * user's account.
+     * </p>
+     *
+     * @param describePlacementGroupsRequest Container for the necessary
+     *           parameters to execute the DescribePlacementGroups operation on
+     *           AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribePlacementGroups service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribePlacementGroupsResult> describePlacementGroupsAsync(DescribePlacementGroupsRequest describePlacementGroupsRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Returns information about one or more PlacementGroup instances in a
+     * user's account.
+     * </p>
+     *
+     * @param describePlacementGroupsRequest Container for the necessary
+     *           parameters to execute the DescribePlacementGroups operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribePlacementGroups service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribePlacementGroupsResult> describePlacementGroupsAsync(DescribePlacementGroupsRequest describePlacementGroupsRequest,
+            AsyncHandler<DescribePlacementGroupsRequest, DescribePlacementGroupsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Associates a subnet with a route table. The subnet and route table
+     * must be in the same VPC. This association causes traffic originating
+     * from the subnet to be routed according to the routes in the route
+     * table. The action returns an association ID, which you need if you
+     * want to disassociate the route table from the subnet later. A route
+     * table can be associated with multiple subnets.
+     * </p>
+     * <p>
+     * For more information about route tables, go to <a
+     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
+     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param associateRouteTableRequest Container for the necessary
+     *           parameters to execute the AssociateRouteTable operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AssociateRouteTable service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<AssociateRouteTableResult> associateRouteTableAsync(AssociateRouteTableRequest associateRouteTableRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Associates a subnet with a route table. The subnet and route table
+     * must be in the same VPC. This association causes traffic originating
+     * from the subnet to be routed according to the routes in the route
+     * table. The action returns an association ID, which you need if you
+     * want to disassociate the route table from the subnet later. A route
+     * table can be associated with multiple subnets.
+     * </p>
+     * <p>
+     * For more information about route tables, go to <a
+     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
+     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param associateRouteTableRequest Container for the necessary
+     *           parameters to execute the AssociateRouteTable operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AssociateRouteTable service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<AssociateRouteTableResult> associateRouteTableAsync(AssociateRouteTableRequest associateRouteTableRequest,
+            AsyncHandler<AssociateRouteTableRequest, AssociateRouteTableResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * The DescribeInstances operation returns information about instances
+     * that you own.
+     * </p>
+     * <p>
+     * If you specify one or more instance IDs, Amazon EC2 returns
+     * information for those instances. If you do not specify instance IDs,
+     * Amazon EC2 returns information for all relevant instances. If you
+     * specify an invalid instance ID, a fault is returned. If you specify an
+     * instance that you do not own, it will not be included in the returned
+     * results.
+     * </p>
+     * <p>
+     * Recently terminated instances might appear in the returned results.
+     * This interval is usually less than one hour.
+     * </p>
+     *
+     * @param describeInstancesRequest Container for the necessary parameters
+     *           to execute the DescribeInstances operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeInstances service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeInstancesResult> describeInstancesAsync(DescribeInstancesRequest describeInstancesRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * The DescribeInstances operation returns information about instances
+     * that you own.
+     * </p>
+     * <p>
+     * If you specify one or more instance IDs, Amazon EC2 returns
+     * information for those instances. If you do not specify instance IDs,
+     * Amazon EC2 returns information for all relevant instances. If you
+     * specify an invalid instance ID, a fault is returned. If you specify an
+     * instance that you do not own, it will not be included in the returned
+     * results.
+     * </p>
+     * <p>
+     * Recently terminated instances might appear in the returned results.
+     * This interval is usually less than one hour.
+     * </p>
+     *
+     * @param describeInstancesRequest Container for the necessary parameters
+     *           to execute the DescribeInstances operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeInstances service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeInstancesResult> describeInstancesAsync(DescribeInstancesRequest describeInstancesRequest,
+            AsyncHandler<DescribeInstancesRequest, DescribeInstancesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Deletes a network ACL from a VPC. The ACL must not have any subnets
+     * associated with it. You can't delete the default network ACL. For more
+     * information about network ACLs, go to Network ACLs in the Amazon
+     * Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param deleteNetworkAclRequest Container for the necessary parameters
+     *           to execute the DeleteNetworkAcl operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteNetworkAcl service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteNetworkAclAsync(DeleteNetworkAclRequest deleteNetworkAclRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Deletes a network ACL from a VPC. The ACL must not have any subnets
+     * associated with it. You can't delete the default network ACL. For more
+     * information about network ACLs, go to Network ACLs in the Amazon
+     * Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param deleteNetworkAclRequest Container for the necessary parameters
+     *           to execute the DeleteNetworkAcl operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteNetworkAcl service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteNetworkAclAsync(DeleteNetworkAclRequest deleteNetworkAclRequest,
+            AsyncHandler<DeleteNetworkAclRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * The DescribeImages operation returns information about AMIs, AKIs,
+     * and ARIs available to the user. Information returned includes image
+     * type, product codes, architecture, and kernel and RAM disk IDs. Images
+     * available to the user include public images available for any user to
+     * launch, private images owned by the user making the request, and
+     * private images owned by other users for which the user has explicit
+     * launch permissions.
+     * </p>
+     * <p>
+     * Launch permissions fall into three categories:
+     * </p>
+     * 
+     * <ul>
+     * <li> <b>Public:</b> The owner of the AMI granted launch permissions
+     * for the AMI to the all group. All users have launch permissions for
+     * these AMIs. </li>
+     * <li> <b>Explicit:</b> The owner of the AMI granted launch permissions
+     * to a specific user. </li>
+     * <li> <b>Implicit:</b> A user has implicit launch permissions for all
+     * AMIs he or she owns. </li>
+     * 
+     * </ul>
+     * <p>
+     * The list of AMIs returned can be modified by specifying AMI IDs, AMI
+     * owners, or users with launch permissions. If no options are specified,
+     * Amazon EC2 returns all AMIs for which the user has launch permissions.
+     * </p>
+     * <p>
+     * If you specify one or more AMI IDs, only AMIs that have the specified
+     * IDs are returned. If you specify an invalid AMI ID, a fault is
+     * returned. If you specify an AMI ID for which you do not have access,
+     * it will not be included in the returned results.
+     * </p>
+     * <p>
+     * If you specify one or more AMI owners, only AMIs from the specified
+     * owners and for which you have access are returned. The results can
+     * include the account IDs of the specified owners, amazon for AMIs owned
+     * by Amazon or self for AMIs that you own.
+     * </p>
+     * <p>
+     * If you specify a list of executable users, only users that have
+     * launch permissions for the AMIs are returned. You can specify account
+     * IDs (if you own the AMI(s)), self for AMIs for which you own or have
+     * explicit permissions, or all for public AMIs.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> Deregistered images are included in the returned results
+     * for an unspecified interval after deregistration.
+     * </p>
+     *
+     * @param describeImagesRequest Container for the necessary parameters to
+     *           execute the DescribeImages operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeImages service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeImagesResult> describeImagesAsync(DescribeImagesRequest describeImagesRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * The DescribeImages operation returns information about AMIs, AKIs,
+     * and ARIs available to the user. Information returned includes image
+     * type, product codes, architecture, and kernel and RAM disk IDs. Images
+     * available to the user include public images available for any user to
+     * launch, private images owned by the user making the request, and
+     * private images owned by other users for which the user has explicit
+     * launch permissions.
+     * </p>
+     * <p>
+     * Launch permissions fall into three categories:
+     * </p>
+     * 
+     * <ul>
+     * <li> <b>Public:</b> The owner of the AMI granted launch permissions
+     * for the AMI to the all group. All users have launch permissions for
+     * these AMIs. </li>
+     * <li> <b>Explicit:</b> The owner of the AMI granted launch permissions
+     * to a specific user. </li>
+     * <li> <b>Implicit:</b> A user has implicit launch permissions for all
+     * AMIs he or she owns. </li>
+     * 
+     * </ul>
+     * <p>
+     * The list of AMIs returned can be modified by specifying AMI IDs, AMI
+     * owners, or users with launch permissions. If no options are specified,
+     * Amazon EC2 returns all AMIs for which the user has launch permissions.
+     * </p>
+     * <p>
+     * If you specify one or more AMI IDs, only AMIs that have the specified
+     * IDs are returned. If you specify an invalid AMI ID, a fault is
+     * returned. If you specify an AMI ID for which you do not have access,
+     * it will not be included in the returned results.
+     * </p>
+     * <p>
+     * If you specify one or more AMI owners, only AMIs from the specified
+     * owners and for which you have access are returned. The results can
+     * include the account IDs of the specified owners, amazon for AMIs owned
+     * by Amazon or self for AMIs that you own.
+     * </p>
+     * <p>
+     * If you specify a list of executable users, only users that have
+     * launch permissions for the AMIs are returned. You can specify account
+     * IDs (if you own the AMI(s)), self for AMIs for which you own or have
+     * explicit permissions, or all for public AMIs.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> Deregistered images are included in the returned results
+     * for an unspecified interval after deregistration.
+     * </p>
+     *
+     * @param describeImagesRequest Container for the necessary parameters to
+     *           execute the DescribeImages operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeImages service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeImagesResult> describeImagesAsync(DescribeImagesRequest describeImagesRequest,
+            AsyncHandler<DescribeImagesRequest, DescribeImagesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Starts an instance that uses an Amazon EBS volume as its root device.
+     * Instances that use Amazon EBS volumes as their root devices can be
+     * quickly stopped and started. When an instance is stopped, the compute
+     * resources are released and you are not billed for hourly instance
+     * usage. However, your root partition Amazon EBS volume remains,
+     * continues to persist your data, and you are charged for Amazon EBS
+     * volume usage. You can restart your instance at any time.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> Performing this operation on an instance that uses an
+     * instance store as its root device returns an error.
+     * </p>
+     *
+     * @param startInstancesRequest Container for the necessary parameters to
+     *           execute the StartInstances operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         StartInstances service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<StartInstancesResult> startInstancesAsync(StartInstancesRequest startInstancesRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Starts an instance that uses an Amazon EBS volume as its root device.
+     * Instances that use Amazon EBS volumes as their root devices can be
+     * quickly stopped and started. When an instance is stopped, the compute
+     * resources are released and you are not billed for hourly instance
+     * usage. However, your root partition Amazon EBS volume remains,
+     * continues to persist your data, and you are charged for Amazon EBS
+     * volume usage. You can restart your instance at any time.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> Performing this operation on an instance that uses an
+     * instance store as its root device returns an error.
+     * </p>
+     *
+     * @param startInstancesRequest Container for the necessary parameters to
+     *           execute the StartInstances operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         StartInstances service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<StartInstancesResult> startInstancesAsync(StartInstancesRequest startInstancesRequest,
+            AsyncHandler<StartInstancesRequest, StartInstancesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Modifies an attribute of an instance.
+     * </p>
+     *
+     * @param modifyInstanceAttributeRequest Container for the necessary
+     *           parameters to execute the ModifyInstanceAttribute operation on
+     *           AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ModifyInstanceAttribute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> modifyInstanceAttributeAsync(ModifyInstanceAttributeRequest modifyInstanceAttributeRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Modifies an attribute of an instance.
+     * </p>
+     *
+     * @param modifyInstanceAttributeRequest Container for the necessary
+     *           parameters to execute the ModifyInstanceAttribute operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ModifyInstanceAttribute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> modifyInstanceAttributeAsync(ModifyInstanceAttributeRequest modifyInstanceAttributeRequest,
+            AsyncHandler<ModifyInstanceAttributeRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Deletes a set of DHCP options that you specify. Amazon VPC returns an
+     * error if the set of options you specify is currently associated with a
+     * VPC. You can disassociate the set of options by associating either a
+     * new set of options or the default options with the VPC.
+     * </p>
+     *
+     * @param deleteDhcpOptionsRequest Container for the necessary parameters
+     *           to execute the DeleteDhcpOptions operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteDhcpOptions service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteDhcpOptionsAsync(DeleteDhcpOptionsRequest deleteDhcpOptionsRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Deletes a set of DHCP options that you specify. Amazon VPC returns an
+     * error if the set of options you specify is currently associated with a
+     * VPC. You can disassociate the set of options by associating either a
+     * new set of options or the default options with the VPC.
+     * </p>
+     *
+     * @param deleteDhcpOptionsRequest Container for the necessary parameters
+     *           to execute the DeleteDhcpOptions operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteDhcpOptions service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteDhcpOptionsAsync(DeleteDhcpOptionsRequest deleteDhcpOptionsRequest,
+            AsyncHandler<DeleteDhcpOptionsRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * The AuthorizeSecurityGroupIngress operation adds permissions to a
+     * security group.
+     * </p>
+     * <p>
+     * Permissions are specified by the IP protocol (TCP, UDP or ICMP), the
+     * source of the request (by IP range or an Amazon EC2 user-group pair),
+     * the source and destination port ranges (for TCP and UDP), and the ICMP
+     * codes and types (for ICMP). When authorizing ICMP, <code>-1</code> can
+     * be used as a wildcard in the type and code fields.
+     * </p>
+     * <p>
+     * Permission changes are propagated to instances within the security
+     * group as quickly as possible. However, depending on the number of
+     * instances, a small delay might occur.
+     * </p>
+     *
+     * @param authorizeSecurityGroupIngressRequest Container for the
+     *           necessary parameters to execute the AuthorizeSecurityGroupIngress
+     *           operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AuthorizeSecurityGroupIngress service method, as returned by
+     *         AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> authorizeSecurityGroupIngressAsync(AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * The AuthorizeSecurityGroupIngress operation adds permissions to a
+     * security group.
+     * </p>
+     * <p>
+     * Permissions are specified by the IP protocol (TCP, UDP or ICMP), the
+     * source of the request (by IP range or an Amazon EC2 user-group pair),
+     * the source and destination port ranges (for TCP and UDP), and the ICMP
+     * codes and types (for ICMP). When authorizing ICMP, <code>-1</code> can
+     * be used as a wildcard in the type and code fields.
+     * </p>
+     * <p>
+     * Permission changes are propagated to instances within the security
+     * group as quickly as possible. However, depending on the number of
+     * instances, a small delay might occur.
+     * </p>
+     *
+     * @param authorizeSecurityGroupIngressRequest Container for the
+     *           necessary parameters to execute the AuthorizeSecurityGroupIngress
+     *           operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AuthorizeSecurityGroupIngress service method, as returned by
+     *         AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> authorizeSecurityGroupIngressAsync(AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest,
+            AsyncHandler<AuthorizeSecurityGroupIngressRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Describes Spot Instance requests. Spot Instances are instances that
+     * Amazon EC2 starts on your behalf when the maximum price that you
+     * specify exceeds the current Spot Price. Amazon EC2 periodically sets
+     * the Spot Price based on available Spot Instance capacity and current
+     * spot instance requests. For conceptual information about Spot
+     * Instances, refer to the <a
+     * "http://docs.amazonwebservices.com/AWSEC2/2010-08-31/DeveloperGuide/">
+     * Amazon Elastic Compute Cloud Developer Guide </a> or <a
+     * href="http://docs.amazonwebservices.com/AWSEC2/2010-08-31/UserGuide/">
+     * Amazon Elastic Compute Cloud User Guide </a> .
+     * </p>
+     * <p>
+     * You can filter the results to return information only about Spot
+     * Instance requests that match criteria you specify. For example, you
+     * could get information about requests where the Spot Price you
+     * specified is a certain value (you can't use greater than or less than
+     * comparison, but you can use <code>*</code> and <code>?</code>
+     * wildcards). You can specify multiple values for a filter. A Spot
+     * Instance request must match at least one of the specified values for
+     * it to be included in the results.
+     * </p>
+     * <p>
+     * You can specify multiple filters (e.g., the Spot Price is equal to a
+     * particular value, and the instance type is <code>m1.small</code> ).
+     * The result includes information for a particular request only if it
+     * matches all your filters. If there's no match, no special message is
+     * returned; the response is simply empty.
+     * </p>
+     * <p>
+     * You can use wildcards with the filter values: an asterisk matches
+     * zero or more characters, and <code>?</code> matches exactly one
+     * character. You can escape special characters using a backslash before
+     * the character. For example, a value of <code>\*amazon\?\\</code>
+     * searches for the literal string <code>*amazon?\</code> .
+     * 
+     * </p>
+     *
+     * @param describeSpotInstanceRequestsRequest Container for the necessary
+     *           parameters to execute the DescribeSpotInstanceRequests operation on
+     *           AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeSpotInstanceRequests service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeSpotInstanceRequestsResult> describeSpotInstanceRequestsAsync(DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Describes Spot Instance requests. Spot Instances are instances that
+     * Amazon EC2 starts on your behalf when the maximum price that you
+     * specify exceeds the current Spot Price. Amazon EC2 periodically sets
+     * the Spot Price based on available Spot Instance capacity and current
+     * spot instance requests. For conceptual information about Spot
+     * Instances, refer to the <a
+     * "http://docs.amazonwebservices.com/AWSEC2/2010-08-31/DeveloperGuide/">
+     * Amazon Elastic Compute Cloud Developer Guide </a> or <a
+     * href="http://docs.amazonwebservices.com/AWSEC2/2010-08-31/UserGuide/">
+     * Amazon Elastic Compute Cloud User Guide </a> .
+     * </p>
+     * <p>
+     * You can filter the results to return information only about Spot
+     * Instance requests that match criteria you specify. For example, you
+     * could get information about requests where the Spot Price you
+     * specified is a certain value (you can't use greater than or less than
+     * comparison, but you can use <code>*</code> and <code>?</code>
+     * wildcards). You can specify multiple values for a filter. A Spot
+     * Instance request must match at least one of the specified values for
+     * it to be included in the results.
+     * </p>
+     * <p>
+     * You can specify multiple filters (e.g., the Spot Price is equal to a
+     * particular value, and the instance type is <code>m1.small</code> ).
+     * The result includes information for a particular request only if it
+     * matches all your filters. If there's no match, no special message is
+     * returned; the response is simply empty.
+     * </p>
+     * <p>
+     * You can use wildcards with the filter values: an asterisk matches
+     * zero or more characters, and <code>?</code> matches exactly one
+     * character. You can escape special characters using a backslash before
+     * the character. For example, a value of <code>\*amazon\?\\</code>
+     * searches for the literal string <code>*amazon?\</code> .
+     * 
+     * </p>
+     *
+     * @param describeSpotInstanceRequestsRequest Container for the necessary
+     *           parameters to execute the DescribeSpotInstanceRequests operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeSpotInstanceRequests service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeSpotInstanceRequestsResult> describeSpotInstanceRequestsAsync(DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest,
+            AsyncHandler<DescribeSpotInstanceRequestsRequest, DescribeSpotInstanceRequestsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Creates a VPC with the CIDR block you specify. The smallest VPC you
+     * can create uses a <code>/28</code> netmask (16 IP addresses), and the
+     * largest uses a <code>/18</code> netmask (16,384 IP addresses). To help
+     * you decide how big to make your VPC, go to the topic about creating
+     * VPCs in the Amazon Virtual Private Cloud Developer Guide.
+     * </p>
+     * <p>
+     * By default, each instance you launch in the VPC has the default DHCP
+     * options (the standard EC2 host name, no domain name, no DNS server, no
+     * NTP server, and no NetBIOS server or node type).
+     * </p>
+     *
+     * @param createVpcRequest Container for the necessary parameters to
+     *           execute the CreateVpc operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateVpc service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateVpcResult> createVpcAsync(CreateVpcRequest createVpcRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Creates a VPC with the CIDR block you specify. The smallest VPC you
+     * can create uses a <code>/28</code> netmask (16 IP addresses), and the
+     * largest uses a <code>/18</code> netmask (16,384 IP addresses). To help
+     * you decide how big to make your VPC, go to the topic about creating
+     * VPCs in the Amazon Virtual Private Cloud Developer Guide.
+     * </p>
+     * <p>
+     * By default, each instance you launch in the VPC has the default DHCP
+     * options (the standard EC2 host name, no domain name, no DNS server, no
+     * NTP server, and no NetBIOS server or node type).
+     * </p>
+     *
+     * @param createVpcRequest Container for the necessary parameters to
+     *           execute the CreateVpc operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateVpc service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateVpcResult> createVpcAsync(CreateVpcRequest createVpcRequest,
+            AsyncHandler<CreateVpcRequest, CreateVpcResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gives you information about your customer gateways. You can filter
+     * the results to return information only about customer gateways that
+     * match criteria you specify. For example, you could ask to get
+     * information about a particular customer gateway (or all) only if the
+     * gateway's state is pending or available. You can specify multiple
+     * filters (e.g., the customer gateway has a particular IP address for
+     * the Internet-routable external interface, and the gateway's state is
+     * pending or available). The result includes information for a
+     * particular customer gateway only if the gateway matches all your
+     * filters. If there's no match, no special message is returned; the
+     * response is simply empty. The following table shows the available
+     * filters.
+     * </p>
+     *
+     * @param describeCustomerGatewaysRequest Container for the necessary
+     *           parameters to execute the DescribeCustomerGateways operation on
+     *           AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeCustomerGateways service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeCustomerGatewaysResult> describeCustomerGatewaysAsync(DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gives you information about your customer gateways. You can filter
+     * the results to return information only about customer gateways that
+     * match criteria you specify. For example, you could ask to get
+     * information about a particular customer gateway (or all) only if the
+     * gateway's state is pending or available. You can specify multiple
+     * filters (e.g., the customer gateway has a particular IP address for
+     * the Internet-routable external interface, and the gateway's state is
+     * pending or available). The result includes information for a
+     * particular customer gateway only if the gateway matches all your
+     * filters. If there's no match, no special message is returned; the
+     * response is simply empty. The following table shows the available
+     * filters.
+     * </p>
+     *
+     * @param describeCustomerGatewaysRequest Container for the necessary
+     *           parameters to execute the DescribeCustomerGateways operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeCustomerGateways service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeCustomerGatewaysResult> describeCustomerGatewaysAsync(DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest,
+            AsyncHandler<DescribeCustomerGatewaysRequest, DescribeCustomerGatewaysResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Creates a new route in a route table within a VPC. The route's target
+     * can be either a gateway attached to the VPC or a NAT instance in the
+     * VPC.
+     * </p>
+     * <p>
+     * When determining how to route traffic, we use the route with the most
+     * specific match. For example, let's say the traffic is destined for
+     * <code>192.0.2.3</code> , and the route table includes the following
+     * two routes:
+     * </p>
+     * 
+     * <ul>
+     * <li> <code>192.0.2.0/24</code> (goes to some target A) </li>
+     * <li> <code>192.0.2.0/28</code> (goes to some target B) </li>
+     * 
+     * </ul>
+     * <p>
+     * Both routes apply to the traffic destined for <code>192.0.2.3</code>
+     * . However, the second route in the list is more specific, so we use
+     * that route to determine where to target the traffic.
+     * </p>
+     * <p>
+     * For more information about route tables, go to <a
+     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
+     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param createRouteRequest Container for the necessary parameters to
+     *           execute the CreateRoute operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateRoute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> createRouteAsync(CreateRouteRequest createRouteRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Creates a new route in a route table within a VPC. The route's target
+     * can be either a gateway attached to the VPC or a NAT instance in the
+     * VPC.
+     * </p>
+     * <p>
+     * When determining how to route traffic, we use the route with the most
+     * specific match. For example, let's say the traffic is destined for
+     * <code>192.0.2.3</code> , and the route table includes the following
+     * two routes:
+     * </p>
+     * 
+     * <ul>
+     * <li> <code>192.0.2.0/24</code> (goes to some target A) </li>
+     * <li> <code>192.0.2.0/28</code> (goes to some target B) </li>
+     * 
+     * </ul>
+     * <p>
+     * Both routes apply to the traffic destined for <code>192.0.2.3</code>
+     * . However, the second route in the list is more specific, so we use
+     * that route to determine where to target the traffic.
+     * </p>
+     * <p>
+     * For more information about route tables, go to <a
+     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
+     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param createRouteRequest Container for the necessary parameters to
+     *           execute the CreateRoute operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateRoute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> createRouteAsync(CreateRouteRequest createRouteRequest,
+            AsyncHandler<CreateRouteRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Deletes a route table from a VPC. The route table must not be
+     * associated with a subnet. You can't delete the main route table. For
+     * more information about route tables, go to <a
+     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
+     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param deleteRouteTableRequest Container for the necessary parameters
+     *           to execute the DeleteRouteTable operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteRouteTable service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteRouteTableAsync(DeleteRouteTableRequest deleteRouteTableRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Deletes a route table from a VPC. The route table must not be
+     * associated with a subnet. You can't delete the main route table. For
+     * more information about route tables, go to <a
+     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
+     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param deleteRouteTableRequest Container for the necessary parameters
+     *           to execute the DeleteRouteTable operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteRouteTable service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteRouteTableAsync(DeleteRouteTableRequest deleteRouteTableRequest,
+            AsyncHandler<DeleteRouteTableRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Creates a Spot Instance request.
+     * </p>
+     * <p>
+     * Spot Instances are instances that Amazon EC2 starts on your behalf
+     * when the maximum price that you specify exceeds the current Spot
+     * Price. Amazon EC2 periodically sets the Spot Price based on available
+     * Spot Instance capacity and current spot instance requests.
+     * </p>
+     * <p>
+     * For conceptual information about Spot Instances, refer to the Amazon
+     * Elastic Compute Cloud Developer Guide or Amazon Elastic Compute Cloud
+     * User Guide.
+     * </p>
+     *
+     * @param requestSpotInstancesRequest Container for the necessary
+     *           parameters to execute the RequestSpotInstances operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RequestSpotInstances service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<RequestSpotInstancesResult> requestSpotInstancesAsync(RequestSpotInstancesRequest requestSpotInstancesRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Creates a Spot Instance request.
+     * </p>
+     * <p>
+     * Spot Instances are instances that Amazon EC2 starts on your behalf
+     * when the maximum price that you specify exceeds the current Spot
+     * Price. Amazon EC2 periodically sets the Spot Price based on available
+     * Spot Instance capacity and current spot instance requests.
+     * </p>
+     * <p>
+     * For conceptual information about Spot Instances, refer to the Amazon
+     * Elastic Compute Cloud Developer Guide or Amazon Elastic Compute Cloud
+     * User Guide.
+     * </p>
+     *
+     * @param requestSpotInstancesRequest Container for the necessary
+     *           parameters to execute the RequestSpotInstances operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RequestSpotInstances service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<RequestSpotInstancesResult> requestSpotInstancesAsync(RequestSpotInstancesRequest requestSpotInstancesRequest,
+            AsyncHandler<RequestSpotInstancesRequest, RequestSpotInstancesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Adds or overwrites tags for the specified resources. Each resource
+     * can have a maximum of 10 tags. Each tag consists of a key-value pair.
+     * Tag keys must be unique per resource.
+     * </p>
+     *
+     * @param createTagsRequest Container for the necessary parameters to
+     *           execute the CreateTags operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateTags service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> createTagsAsync(CreateTagsRequest createTagsRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Adds or overwrites tags for the specified resources. Each resource
+     * can have a maximum of 10 tags. Each tag consists of a key-value pair.
+     * Tag keys must be unique per resource.
+     * </p>
+     *
+     * @param createTagsRequest Container for the necessary parameters to
+     *           execute the CreateTags operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateTags service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> createTagsAsync(CreateTagsRequest createTagsRequest,
+            AsyncHandler<CreateTagsRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Replaces an existing route within a route table in a VPC. For more
+     * information about route tables, go to <a
+     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
+     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param replaceRouteRequest Container for the necessary parameters to
+     *           execute the ReplaceRoute operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ReplaceRoute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> replaceRouteAsync(ReplaceRouteRequest replaceRouteRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Replaces an existing route within a route table in a VPC. For more
+     * information about route tables, go to <a
+     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
+     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param replaceRouteRequest Container for the necessary parameters to
+     *           execute the ReplaceRoute operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ReplaceRoute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> replaceRouteAsync(ReplaceRouteRequest replaceRouteRequest,
+            AsyncHandler<ReplaceRouteRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Describes the tags for the specified resources.
+     * </p>
+     *
+     * @param describeTagsRequest Container for the necessary parameters to
+     *           execute the DescribeTags operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeTags service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeTagsResult> describeTagsAsync(DescribeTagsRequest describeTagsRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Describes the tags for the specified resources.
+     * </p>
+     *
+     * @param describeTagsRequest Container for the necessary parameters to
+     *           execute the DescribeTags operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeTags service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeTagsResult> describeTagsAsync(DescribeTagsRequest describeTagsRequest,
+            AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * CancelBundleTask operation cancels a pending or in-progress bundling
+     * task. This is an asynchronous call and it make take a while for the
+     * task to be canceled. If a task is canceled while it is storing items,
+     * there may be parts of the incomplete AMI stored in S3. It is up to the
+     * caller to clean up these parts from S3.
+     * </p>
+     *
+     * @param cancelBundleTaskRequest Container for the necessary parameters
+     *           to execute the CancelBundleTask operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CancelBundleTask service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CancelBundleTaskResult> cancelBundleTaskAsync(CancelBundleTaskRequest cancelBundleTaskRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * CancelBundleTask operation cancels a pending or in-progress bundling
+     * task. This is an asynchronous call and it make take a while for the
+     * task to be canceled. If a task is canceled while it is storing items,
+     * there may be parts of the incomplete AMI stored in S3. It is up to the
+     * caller to clean up these parts from S3.
+     * </p>
+     *
+     * @param cancelBundleTaskRequest Container for the necessary parameters
+     *           to execute the CancelBundleTask operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CancelBundleTask service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CancelBundleTaskResult> cancelBundleTaskAsync(CancelBundleTaskRequest cancelBundleTaskRequest,
+            AsyncHandler<CancelBundleTaskRequest, CancelBundleTaskResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Cancels one or more Spot Instance requests.
+     * </p>
+     * <p>
+     * Spot Instances are instances that Amazon EC2 starts on your behalf
+     * when the maximum price that you specify exceeds the current Spot
+     * Price. Amazon EC2 periodically sets the Spot Price based on available
+     * Spot Instance capacity and current spot instance requests.
+     * </p>
+     * <p>
+     * For conceptual information about Spot Instances, refer to the Amazon
+     * Elastic Compute Cloud Developer Guide or Amazon Elastic Compute Cloud
+     * User Guide .
+     * 
+     * </p>
+     *
+     * @param cancelSpotInstanceRequestsRequest Container for the necessary
+     *           parameters to execute the CancelSpotInstanceRequests operation on
+     *           AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CancelSpotInstanceRequests service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CancelSpotInstanceRequestsResult> cancelSpotInstanceRequestsAsync(CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Cancels one or more Spot Instance requests.
+     * </p>
+     * <p>
+     * Spot Instances are instances that Amazon EC2 starts on your behalf
+     * when the maximum price that you specify exceeds the current Spot
+     * Price. Amazon EC2 periodically sets the Spot Price based on available
+     * Spot Instance capacity and current spot instance requests.
+     * </p>
+     * <p>
+     * For conceptual information about Spot Instances, refer to the Amazon
+     * Elastic Compute Cloud Developer Guide or Amazon Elastic Compute Cloud
+     * User Guide .
+     * 
+     * </p>
+     *
+     * @param cancelSpotInstanceRequestsRequest Container for the necessary
+     *           parameters to execute the CancelSpotInstanceRequests operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CancelSpotInstanceRequests service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CancelSpotInstanceRequestsResult> cancelSpotInstanceRequestsAsync(CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest,
+            AsyncHandler<CancelSpotInstanceRequestsRequest, CancelSpotInstanceRequestsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * The PurchaseReservedInstancesOffering operation purchases a Reserved
+     * Instance for use with your account. With Amazon EC2 Reserved
+     * Instances, you purchase the right to launch Amazon EC2 instances for a
+     * period of time (without getting insufficient capacity errors) and pay
+     * a lower usage rate for the actual time used.
+     * </p>
+     *
+     * @param purchaseReservedInstancesOfferingRequest Container for the
+     *           necessary parameters to execute the PurchaseReservedInstancesOffering
+     *           operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         PurchaseReservedInstancesOffering service method, as returned by
+     *         AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<PurchaseReservedInstancesOfferingResult> purchaseReservedInstancesOfferingAsync(PurchaseReservedInstancesOfferingRequest purchaseReservedInstancesOfferingRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * The PurchaseReservedInstancesOffering operation purchases a Reserved
+     * Instance for use with your account. With Amazon EC2 Reserved
+     * Instances, you purchase the right to launch Amazon EC2 instances for a
+     * period of time (without getting insufficient capacity errors) and pay
+     * a lower usage rate for the actual time used.
+     * </p>
+     *
+     * @param purchaseReservedInstancesOfferingRequest Container for the
+     *           necessary parameters to execute the PurchaseReservedInstancesOffering
+     *           operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         PurchaseReservedInstancesOffering service method, as returned by
+     *         AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<PurchaseReservedInstancesOfferingResult> purchaseReservedInstancesOfferingAsync(PurchaseReservedInstancesOfferingRequest purchaseReservedInstancesOfferingRequest,
+            AsyncHandler<PurchaseReservedInstancesOfferingRequest, PurchaseReservedInstancesOfferingResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Adds or remove permission settings for the specified snapshot.
+     * </p>
+     *
+     * @param modifySnapshotAttributeRequest Container for the necessary
+     *           parameters to execute the ModifySnapshotAttribute operation on
+     *           AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ModifySnapshotAttribute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> modifySnapshotAttributeAsync(ModifySnapshotAttributeRequest modifySnapshotAttributeRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Adds or remove permission settings for the specified snapshot.
+     * </p>
+     *
+     * @param modifySnapshotAttributeRequest Container for the necessary
+     *           parameters to execute the ModifySnapshotAttribute operation on
      *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribePlacementGroups service method, as returned by AmazonEC2.
+     *         ModifySnapshotAttribute service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1902,29 +5552,26 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribePlacementGroupsResult> describePlacementGroupsAsync(DescribePlacementGroupsRequest describePlacementGroupsRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<Void> modifySnapshotAttributeAsync(ModifySnapshotAttributeRequest modifySnapshotAttributeRequest,
+            AsyncHandler<ModifySnapshotAttributeRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Associates a subnet with a route table. The subnet and route table
-     * must be in the same VPC. This association causes traffic originating
-     * from the subnet to be routed according to the routes in the route
-     * table. The action returns an association ID, which you need if you
-     * want to disassociate the route table from the subnet later. A route
-     * table can be associated with multiple subnets.
+     * The TerminateInstances operation shuts down one or more instances.
+     * This operation is idempotent; if you terminate an instance more than
+     * once, each call will succeed.
      * </p>
      * <p>
-     * For more information about route tables, go to <a
-     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
-     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
+     * Terminated instances will remain visible after termination
+     * (approximately one hour).
      * </p>
      *
-     * @param associateRouteTableRequest Container for the necessary
-     *           parameters to execute the AssociateRouteTable operation on AmazonEC2.
+     * @param terminateInstancesRequest Container for the necessary
+     *           parameters to execute the TerminateInstances operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         AssociateRouteTable service method, as returned by AmazonEC2.
+     *         TerminateInstances service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1934,32 +5581,29 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AssociateRouteTableResult> associateRouteTableAsync(AssociateRouteTableRequest associateRouteTableRequest) 
+    public Future<TerminateInstancesResult> terminateInstancesAsync(TerminateInstancesRequest terminateInstancesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * The DescribeInstances operation returns information about instances
-     * that you own.
-     * </p>
-     * <p>
-     * If you specify one or more instance IDs, Amazon EC2 returns
-     * information for those instances. If you do not specify instance IDs,
-     * Amazon EC2 returns information for all relevant instances. If you
-     * specify an invalid instance ID, a fault is returned. If you specify an
-     * instance that you do not own, it will not be included in the returned
-     * results.
+     * The TerminateInstances operation shuts down one or more instances.
+     * This operation is idempotent; if you terminate an instance more than
+     * once, each call will succeed.
      * </p>
      * <p>
-     * Recently terminated instances might appear in the returned results.
-     * This interval is usually less than one hour.
+     * Terminated instances will remain visible after termination
+     * (approximately one hour).
      * </p>
      *
-     * @param describeInstancesRequest Container for the necessary parameters
-     *           to execute the DescribeInstances operation on AmazonEC2.
+     * @param terminateInstancesRequest Container for the necessary
+     *           parameters to execute the TerminateInstances operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeInstances service method, as returned by AmazonEC2.
+     *         TerminateInstances service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1969,22 +5613,28 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeInstancesResult> describeInstancesAsync(DescribeInstancesRequest describeInstancesRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<TerminateInstancesResult> terminateInstancesAsync(TerminateInstancesRequest terminateInstancesRequest,
+            AsyncHandler<TerminateInstancesRequest, TerminateInstancesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Deletes a network ACL from a VPC. The ACL must not have any subnets
-     * associated with it. You can't delete the default network ACL. For more
-     * information about network ACLs, go to Network ACLs in the Amazon
-     * Virtual Private Cloud User Guide.
+     * Deletes the data feed for Spot Instances.
+     * </p>
+     * <p>
+     * For conceptual information about Spot Instances, refer to the Amazon
+     * Elastic Compute Cloud Developer Guide or Amazon Elastic Compute Cloud
+     * User Guide .
+     * 
      * </p>
      *
-     * @param deleteNetworkAclRequest Container for the necessary parameters
-     *           to execute the DeleteNetworkAcl operation on AmazonEC2.
+     * @param deleteSpotDatafeedSubscriptionRequest Container for the
+     *           necessary parameters to execute the DeleteSpotDatafeedSubscription
+     *           operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DeleteNetworkAcl service method, as returned by AmazonEC2.
+     *         DeleteSpotDatafeedSubscription service method, as returned by
+     *         AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1994,66 +5644,120 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteNetworkAclAsync(DeleteNetworkAclRequest deleteNetworkAclRequest) 
+    public Future<Void> deleteSpotDatafeedSubscriptionAsync(DeleteSpotDatafeedSubscriptionRequest deleteSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * The DescribeImages operation returns information about AMIs, AKIs,
-     * and ARIs available to the user. Information returned includes image
-     * type, product codes, architecture, and kernel and RAM disk IDs. Images
-     * available to the user include public images available for any user to
-     * launch, private images owned by the user making the request, and
-     * private images owned by other users for which the user has explicit
-     * launch permissions.
+     * Deletes the data feed for Spot Instances.
      * </p>
      * <p>
-     * Launch permissions fall into three categories:
-     * </p>
-     * 
-     * <ul>
-     * <li> <b>Public:</b> The owner of the AMI granted launch permissions
-     * for the AMI to the all group. All users have launch permissions for
-     * these AMIs. </li>
-     * <li> <b>Explicit:</b> The owner of the AMI granted launch permissions
-     * to a specific user. </li>
-     * <li> <b>Implicit:</b> A user has implicit launch permissions for all
-     * AMIs he or she owns. </li>
+     * For conceptual information about Spot Instances, refer to the Amazon
+     * Elastic Compute Cloud Developer Guide or Amazon Elastic Compute Cloud
+     * User Guide .
      * 
-     * </ul>
-     * <p>
-     * The list of AMIs returned can be modified by specifying AMI IDs, AMI
-     * owners, or users with launch permissions. If no options are specified,
-     * Amazon EC2 returns all AMIs for which the user has launch permissions.
      * </p>
+     *
+     * @param deleteSpotDatafeedSubscriptionRequest Container for the
+     *           necessary parameters to execute the DeleteSpotDatafeedSubscription
+     *           operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteSpotDatafeedSubscription service method, as returned by
+     *         AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteSpotDatafeedSubscriptionAsync(DeleteSpotDatafeedSubscriptionRequest deleteSpotDatafeedSubscriptionRequest,
+            AsyncHandler<DeleteSpotDatafeedSubscriptionRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
      * <p>
-     * If you specify one or more AMI IDs, only AMIs that have the specified
-     * IDs are returned. If you specify an invalid AMI ID, a fault is
-     * returned. If you specify an AMI ID for which you do not have access,
-     * it will not be included in the returned results.
+     * Deletes an Internet gateway from your AWS account. The gateway must
+     * not be attached to a VPC. For more information about your VPC and
+     * Internet gateway, go to Amazon Virtual Private Cloud User Guide.
      * </p>
+     *
+     * @param deleteInternetGatewayRequest Container for the necessary
+     *           parameters to execute the DeleteInternetGateway operation on
+     *           AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteInternetGateway service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteInternetGatewayAsync(DeleteInternetGatewayRequest deleteInternetGatewayRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
      * <p>
-     * If you specify one or more AMI owners, only AMIs from the specified
-     * owners and for which you have access are returned. The results can
-     * include the account IDs of the specified owners, amazon for AMIs owned
-     * by Amazon or self for AMIs that you own.
+     * Deletes an Internet gateway from your AWS account. The gateway must
+     * not be attached to a VPC. For more information about your VPC and
+     * Internet gateway, go to Amazon Virtual Private Cloud User Guide.
      * </p>
+     *
+     * @param deleteInternetGatewayRequest Container for the necessary
+     *           parameters to execute the DeleteInternetGateway operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteInternetGateway service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteInternetGatewayAsync(DeleteInternetGatewayRequest deleteInternetGatewayRequest,
+            AsyncHandler<DeleteInternetGatewayRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
      * <p>
-     * If you specify a list of executable users, only users that have
-     * launch permissions for the AMIs are returned. You can specify account
-     * IDs (if you own the AMI(s)), self for AMIs for which you own or have
-     * explicit permissions, or all for public AMIs.
+     * Changes the route table associated with a given subnet in a VPC.
+     * After you execute this action, the subnet uses the routes in the new
+     * route table it's associated with. For more information about route
+     * tables, go to <a
+     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
+     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
      * </p>
      * <p>
-     * <b>NOTE:</b> Deregistered images are included in the returned results
-     * for an unspecified interval after deregistration.
+     * You can also use this to change which table is the main route table
+     * in the VPC. You just specify the main route table's association ID and
+     * the route table that you want to be the new main route table.
      * </p>
      *
-     * @param describeImagesRequest Container for the necessary parameters to
-     *           execute the DescribeImages operation on AmazonEC2.
+     * @param replaceRouteTableAssociationRequest Container for the necessary
+     *           parameters to execute the ReplaceRouteTableAssociation operation on
+     *           AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeImages service method, as returned by AmazonEC2.
+     *         ReplaceRouteTableAssociation service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2063,29 +5767,59 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeImagesResult> describeImagesAsync(DescribeImagesRequest describeImagesRequest) 
+    public Future<ReplaceRouteTableAssociationResult> replaceRouteTableAssociationAsync(ReplaceRouteTableAssociationRequest replaceRouteTableAssociationRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Starts an instance that uses an Amazon EBS volume as its root device.
-     * Instances that use Amazon EBS volumes as their root devices can be
-     * quickly stopped and started. When an instance is stopped, the compute
-     * resources are released and you are not billed for hourly instance
-     * usage. However, your root partition Amazon EBS volume remains,
-     * continues to persist your data, and you are charged for Amazon EBS
-     * volume usage. You can restart your instance at any time.
+     * Changes the route table associated with a given subnet in a VPC.
+     * After you execute this action, the subnet uses the routes in the new
+     * route table it's associated with. For more information about route
+     * tables, go to <a
+     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
+     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
      * </p>
      * <p>
-     * <b>NOTE:</b> Performing this operation on an instance that uses an
-     * instance store as its root device returns an error.
+     * You can also use this to change which table is the main route table
+     * in the VPC. You just specify the main route table's association ID and
+     * the route table that you want to be the new main route table.
      * </p>
      *
-     * @param startInstancesRequest Container for the necessary parameters to
-     *           execute the StartInstances operation on AmazonEC2.
+     * @param replaceRouteTableAssociationRequest Container for the necessary
+     *           parameters to execute the ReplaceRouteTableAssociation operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         StartInstances service method, as returned by AmazonEC2.
+     *         ReplaceRouteTableAssociation service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ReplaceRouteTableAssociationResult> replaceRouteTableAssociationAsync(ReplaceRouteTableAssociationRequest replaceRouteTableAssociationRequest,
+            AsyncHandler<ReplaceRouteTableAssociationRequest, ReplaceRouteTableAssociationResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Returns information about an attribute of a snapshot. Only one
+     * attribute can be specified per call.
+     * </p>
+     *
+     * @param describeSnapshotAttributeRequest Container for the necessary
+     *           parameters to execute the DescribeSnapshotAttribute operation on
+     *           AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeSnapshotAttribute service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2095,20 +5829,25 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<StartInstancesResult> startInstancesAsync(StartInstancesRequest startInstancesRequest) 
+    public Future<DescribeSnapshotAttributeResult> describeSnapshotAttributeAsync(DescribeSnapshotAttributeRequest describeSnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Modifies an attribute of an instance.
+     * Returns information about an attribute of a snapshot. Only one
+     * attribute can be specified per call.
      * </p>
      *
-     * @param modifyInstanceAttributeRequest Container for the necessary
-     *           parameters to execute the ModifyInstanceAttribute operation on
+     * @param describeSnapshotAttributeRequest Container for the necessary
+     *           parameters to execute the DescribeSnapshotAttribute operation on
      *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         ModifyInstanceAttribute service method, as returned by AmazonEC2.
+     *         DescribeSnapshotAttribute service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2118,22 +5857,21 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyInstanceAttributeAsync(ModifyInstanceAttributeRequest modifyInstanceAttributeRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<DescribeSnapshotAttributeResult> describeSnapshotAttributeAsync(DescribeSnapshotAttributeRequest describeSnapshotAttributeRequest,
+            AsyncHandler<DescribeSnapshotAttributeRequest, DescribeSnapshotAttributeResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Deletes a set of DHCP options that you specify. Amazon VPC returns an
-     * error if the set of options you specify is currently associated with a
-     * VPC. You can disassociate the set of options by associating either a
-     * new set of options or the default options with the VPC.
+     * The DescribeAddresses operation lists elastic IP addresses assigned
+     * to your account.
      * </p>
      *
-     * @param deleteDhcpOptionsRequest Container for the necessary parameters
-     *           to execute the DeleteDhcpOptions operation on AmazonEC2.
+     * @param describeAddressesRequest Container for the necessary parameters
+     *           to execute the DescribeAddresses operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DeleteDhcpOptions service method, as returned by AmazonEC2.
+     *         DescribeAddresses service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2143,34 +5881,24 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteDhcpOptionsAsync(DeleteDhcpOptionsRequest deleteDhcpOptionsRequest) 
+    public Future<DescribeAddressesResult> describeAddressesAsync(DescribeAddressesRequest describeAddressesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * The AuthorizeSecurityGroupIngress operation adds permissions to a
-     * security group.
-     * </p>
-     * <p>
-     * Permissions are specified by the IP protocol (TCP, UDP or ICMP), the
-     * source of the request (by IP range or an Amazon EC2 user-group pair),
-     * the source and destination port ranges (for TCP and UDP), and the ICMP
-     * codes and types (for ICMP). When authorizing ICMP, <code>-1</code> can
-     * be used as a wildcard in the type and code fields.
-     * </p>
-     * <p>
-     * Permission changes are propagated to instances within the security
-     * group as quickly as possible. However, depending on the number of
-     * instances, a small delay might occur.
+     * The DescribeAddresses operation lists elastic IP addresses assigned
+     * to your account.
      * </p>
      *
-     * @param authorizeSecurityGroupIngressRequest Container for the
-     *           necessary parameters to execute the AuthorizeSecurityGroupIngress
-     *           operation on AmazonEC2.
+     * @param describeAddressesRequest Container for the necessary parameters
+     *           to execute the DescribeAddresses operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         AuthorizeSecurityGroupIngress service method, as returned by
-     *         AmazonEC2.
+     *         DescribeAddresses service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2180,54 +5908,23 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> authorizeSecurityGroupIngressAsync(AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<DescribeAddressesResult> describeAddressesAsync(DescribeAddressesRequest describeAddressesRequest,
+            AsyncHandler<DescribeAddressesRequest, DescribeAddressesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Describes Spot Instance requests. Spot Instances are instances that
-     * Amazon EC2 starts on your behalf when the maximum price that you
-     * specify exceeds the current Spot Price. Amazon EC2 periodically sets
-     * the Spot Price based on available Spot Instance capacity and current
-     * spot instance requests. For conceptual information about Spot
-     * Instances, refer to the <a
-     * "http://docs.amazonwebservices.com/AWSEC2/2010-08-31/DeveloperGuide/">
-     * Amazon Elastic Compute Cloud Developer Guide </a> or <a
-     * href="http://docs.amazonwebservices.com/AWSEC2/2010-08-31/UserGuide/">
-     * Amazon Elastic Compute Cloud User Guide </a> .
-     * </p>
-     * <p>
-     * You can filter the results to return information only about Spot
-     * Instance requests that match criteria you specify. For example, you
-     * could get information about requests where the Spot Price you
-     * specified is a certain value (you can't use greater than or less than
-     * comparison, but you can use <code>*</code> and <code>?</code>
-     * wildcards). You can specify multiple values for a filter. A Spot
-     * Instance request must match at least one of the specified values for
-     * it to be included in the results.
-     * </p>
-     * <p>
-     * You can specify multiple filters (e.g., the Spot Price is equal to a
-     * particular value, and the instance type is <code>m1.small</code> ).
-     * The result includes information for a particular request only if it
-     * matches all your filters. If there's no match, no special message is
-     * returned; the response is simply empty.
-     * </p>
-     * <p>
-     * You can use wildcards with the filter values: an asterisk matches
-     * zero or more characters, and <code>?</code> matches exactly one
-     * character. You can escape special characters using a backslash before
-     * the character. For example, a value of <code>\*amazon\?\\</code>
-     * searches for the literal string <code>*amazon?\</code> .
-     * 
+     * The DescribeKeyPairs operation returns information about key pairs
+     * available to you. If you specify key pairs, information about those
+     * key pairs is returned. Otherwise, information for all registered key
+     * pairs is returned.
      * </p>
      *
-     * @param describeSpotInstanceRequestsRequest Container for the necessary
-     *           parameters to execute the DescribeSpotInstanceRequests operation on
-     *           AmazonEC2.
+     * @param describeKeyPairsRequest Container for the necessary parameters
+     *           to execute the DescribeKeyPairs operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeSpotInstanceRequests service method, as returned by AmazonEC2.
+     *         DescribeKeyPairs service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2237,28 +5934,26 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotInstanceRequestsResult> describeSpotInstanceRequestsAsync(DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest) 
+    public Future<DescribeKeyPairsResult> describeKeyPairsAsync(DescribeKeyPairsRequest describeKeyPairsRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Creates a VPC with the CIDR block you specify. The smallest VPC you
-     * can create uses a <code>/28</code> netmask (16 IP addresses), and the
-     * largest uses a <code>/18</code> netmask (16,384 IP addresses). To help
-     * you decide how big to make your VPC, go to the topic about creating
-     * VPCs in the Amazon Virtual Private Cloud Developer Guide.
-     * </p>
-     * <p>
-     * By default, each instance you launch in the VPC has the default DHCP
-     * options (the standard EC2 host name, no domain name, no DNS server, no
-     * NTP server, and no NetBIOS server or node type).
+     * The DescribeKeyPairs operation returns information about key pairs
+     * available to you. If you specify key pairs, information about those
+     * key pairs is returned. Otherwise, information for all registered key
+     * pairs is returned.
      * </p>
      *
-     * @param createVpcRequest Container for the necessary parameters to
-     *           execute the CreateVpc operation on AmazonEC2.
+     * @param describeKeyPairsRequest Container for the necessary parameters
+     *           to execute the DescribeKeyPairs operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         CreateVpc service method, as returned by AmazonEC2.
+     *         DescribeKeyPairs service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2268,31 +5963,22 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpcResult> createVpcAsync(CreateVpcRequest createVpcRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<DescribeKeyPairsResult> describeKeyPairsAsync(DescribeKeyPairsRequest describeKeyPairsRequest,
+            AsyncHandler<DescribeKeyPairsRequest, DescribeKeyPairsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Gives you information about your customer gateways. You can filter
-     * the results to return information only about customer gateways that
-     * match criteria you specify. For example, you could ask to get
-     * information about a particular customer gateway (or all) only if the
-     * gateway's state is pending or available. You can specify multiple
-     * filters (e.g., the customer gateway has a particular IP address for
-     * the Internet-routable external interface, and the gateway's state is
-     * pending or available). The result includes information for a
-     * particular customer gateway only if the gateway matches all your
-     * filters. If there's no match, no special message is returned; the
-     * response is simply empty. The following table shows the available
-     * filters.
+     * The DescribeImageAttribute operation returns information about an
+     * attribute of an AMI. Only one attribute can be specified per call.
      * </p>
      *
-     * @param describeCustomerGatewaysRequest Container for the necessary
-     *           parameters to execute the DescribeCustomerGateways operation on
+     * @param describeImageAttributeRequest Container for the necessary
+     *           parameters to execute the DescribeImageAttribute operation on
      *           AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeCustomerGateways service method, as returned by AmazonEC2.
+     *         DescribeImageAttribute service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2302,43 +5988,56 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeCustomerGatewaysResult> describeCustomerGatewaysAsync(DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest) 
+    public Future<DescribeImageAttributeResult> describeImageAttributeAsync(DescribeImageAttributeRequest describeImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Creates a new route in a route table within a VPC. The route's target
-     * can be either a gateway attached to the VPC or a NAT instance in the
-     * VPC.
-     * </p>
-     * <p>
-     * When determining how to route traffic, we use the route with the most
-     * specific match. For example, let's say the traffic is destined for
-     * <code>192.0.2.3</code> , and the route table includes the following
-     * two routes:
+     * The DescribeImageAttribute operation returns information about an
+     * attribute of an AMI. Only one attribute can be specified per call.
      * </p>
+     *
+     * @param describeImageAttributeRequest Container for the necessary
+     *           parameters to execute the DescribeImageAttribute operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
-     * <ul>
-     * <li> <code>192.0.2.0/24</code> (goes to some target A) </li>
-     * <li> <code>192.0.2.0/28</code> (goes to some target B) </li>
-     * 
-     * </ul>
+     * @return A Java Future object containing the response from the
+     *         DescribeImageAttribute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeImageAttributeResult> describeImageAttributeAsync(DescribeImageAttributeRequest describeImageAttributeRequest,
+            AsyncHandler<DescribeImageAttributeRequest, DescribeImageAttributeResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
      * <p>
-     * Both routes apply to the traffic destined for <code>192.0.2.3</code>
-     * . However, the second route in the list is more specific, so we use
-     * that route to determine where to target the traffic.
+     * Disassociates a subnet from a route table.
      * </p>
      * <p>
-     * For more information about route tables, go to <a
+     * After you perform this action, the subnet no longer uses the routes
+     * in the route table. Instead it uses the routes in the VPC's main route
+     * table. For more information about route tables, go to <a
      * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
      * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
      * </p>
      *
-     * @param createRouteRequest Container for the necessary parameters to
-     *           execute the CreateRoute operation on AmazonEC2.
+     * @param disassociateRouteTableRequest Container for the necessary
+     *           parameters to execute the DisassociateRouteTable operation on
+     *           AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         CreateRoute service method, as returned by AmazonEC2.
+     *         DisassociateRouteTable service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2348,23 +6047,31 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createRouteAsync(CreateRouteRequest createRouteRequest) 
+    public Future<Void> disassociateRouteTableAsync(DisassociateRouteTableRequest disassociateRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Deletes a route table from a VPC. The route table must not be
-     * associated with a subnet. You can't delete the main route table. For
-     * more information about route tables, go to <a
+     * Disassociates a subnet from a route table.
+     * </p>
+     * <p>
+     * After you perform this action, the subnet no longer uses the routes
+     * in the route table. Instead it uses the routes in the VPC's main route
+     * table. For more information about route tables, go to <a
      * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
      * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
      * </p>
      *
-     * @param deleteRouteTableRequest Container for the necessary parameters
-     *           to execute the DeleteRouteTable operation on AmazonEC2.
+     * @param disassociateRouteTableRequest Container for the necessary
+     *           parameters to execute the DisassociateRouteTable operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         DeleteRouteTable service method, as returned by AmazonEC2.
+     *         DisassociateRouteTable service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2374,30 +6081,29 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteRouteTableAsync(DeleteRouteTableRequest deleteRouteTableRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<Void> disassociateRouteTableAsync(DisassociateRouteTableRequest disassociateRouteTableRequest,
+            AsyncHandler<DisassociateRouteTableRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Creates a Spot Instance request.
-     * </p>
-     * <p>
-     * Spot Instances are instances that Amazon EC2 starts on your behalf
-     * when the maximum price that you specify exceeds the current Spot
-     * Price. Amazon EC2 periodically sets the Spot Price based on available
-     * Spot Instance capacity and current spot instance requests.
+     * The ConfirmProductInstance operation returns true if the specified
+     * product code is attached to the specified instance. The operation
+     * returns false if the product code is not attached to the instance.
      * </p>
      * <p>
-     * For conceptual information about Spot Instances, refer to the Amazon
-     * Elastic Compute Cloud Developer Guide or Amazon Elastic Compute Cloud
-     * User Guide.
+     * The ConfirmProductInstance operation can only be executed by the
+     * owner of the AMI. This feature is useful when an AMI owner is
+     * providing support and wants to verify whether a user's instance is
+     * eligible.
      * </p>
      *
-     * @param requestSpotInstancesRequest Container for the necessary
-     *           parameters to execute the RequestSpotInstances operation on AmazonEC2.
+     * @param confirmProductInstanceRequest Container for the necessary
+     *           parameters to execute the ConfirmProductInstance operation on
+     *           AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         RequestSpotInstances service method, as returned by AmazonEC2.
+     *         ConfirmProductInstance service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2407,21 +6113,32 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RequestSpotInstancesResult> requestSpotInstancesAsync(RequestSpotInstancesRequest requestSpotInstancesRequest) 
+    public Future<ConfirmProductInstanceResult> confirmProductInstanceAsync(ConfirmProductInstanceRequest confirmProductInstanceRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Adds or overwrites tags for the specified resources. Each resource
-     * can have a maximum of 10 tags. Each tag consists of a key-value pair.
-     * Tag keys must be unique per resource.
+     * The ConfirmProductInstance operation returns true if the specified
+     * product code is attached to the specified instance. The operation
+     * returns false if the product code is not attached to the instance.
+     * </p>
+     * <p>
+     * The ConfirmProductInstance operation can only be executed by the
+     * owner of the AMI. This feature is useful when an AMI owner is
+     * providing support and wants to verify whether a user's instance is
+     * eligible.
      * </p>
      *
-     * @param createTagsRequest Container for the necessary parameters to
-     *           execute the CreateTags operation on AmazonEC2.
+     * @param confirmProductInstanceRequest Container for the necessary
+     *           parameters to execute the ConfirmProductInstance operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         CreateTags service method, as returned by AmazonEC2.
+     *         ConfirmProductInstance service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2431,22 +6148,23 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createTagsAsync(CreateTagsRequest createTagsRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<ConfirmProductInstanceResult> confirmProductInstanceAsync(ConfirmProductInstanceRequest confirmProductInstanceRequest,
+            AsyncHandler<ConfirmProductInstanceRequest, ConfirmProductInstanceResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Replaces an existing route within a route table in a VPC. For more
-     * information about route tables, go to <a
-     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
-     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
+     * Deletes an ingress or egress entry (i.e., rule) from a network ACL.
+     * For more information about network ACLs, go to Network ACLs in the
+     * Amazon Virtual Private Cloud User Guide.
      * </p>
      *
-     * @param replaceRouteRequest Container for the necessary parameters to
-     *           execute the ReplaceRoute operation on AmazonEC2.
+     * @param deleteNetworkAclEntryRequest Container for the necessary
+     *           parameters to execute the DeleteNetworkAclEntry operation on
+     *           AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         ReplaceRoute service method, as returned by AmazonEC2.
+     *         DeleteNetworkAclEntry service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2456,19 +6174,26 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> replaceRouteAsync(ReplaceRouteRequest replaceRouteRequest) 
+    public Future<Void> deleteNetworkAclEntryAsync(DeleteNetworkAclEntryRequest deleteNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Describes the tags for the specified resources.
+     * Deletes an ingress or egress entry (i.e., rule) from a network ACL.
+     * For more information about network ACLs, go to Network ACLs in the
+     * Amazon Virtual Private Cloud User Guide.
      * </p>
      *
-     * @param describeTagsRequest Container for the necessary parameters to
-     *           execute the DescribeTags operation on AmazonEC2.
+     * @param deleteNetworkAclEntryRequest Container for the necessary
+     *           parameters to execute the DeleteNetworkAclEntry operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeTags service method, as returned by AmazonEC2.
+     *         DeleteNetworkAclEntry service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2478,23 +6203,40 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeTagsResult> describeTagsAsync(DescribeTagsRequest describeTagsRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<Void> deleteNetworkAclEntryAsync(DeleteNetworkAclEntryRequest deleteNetworkAclEntryRequest,
+            AsyncHandler<DeleteNetworkAclEntryRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * CancelBundleTask operation cancels a pending or in-progress bundling
-     * task. This is an asynchronous call and it make take a while for the
-     * task to be canceled. If a task is canceled while it is storing items,
-     * there may be parts of the incomplete AMI stored in S3. It is up to the
-     * caller to clean up these parts from S3.
+     * This action applies only to security groups in a VPC. It doesn't work
+     * with EC2 security groups. For information about Amazon Virtual Private
+     * Cloud and VPC security groups, go to the Amazon Virtual Private Cloud
+     * User Guide.
+     * </p>
+     * <p>
+     * The action removes one or more egress rules from a VPC security
+     * group. The values that you specify in the revoke request (e.g., ports,
+     * etc.) must match the existing rule's values in order for the rule to
+     * be revoked.
+     * </p>
+     * <p>
+     * Each rule consists of the protocol, and the CIDR range or destination
+     * security group. For the TCP and UDP protocols, you must also specify
+     * the destination port or range of ports. For the ICMP protocol, you
+     * must also specify the ICMP type and code.
+     * </p>
+     * <p>
+     * Rule changes are propagated to instances within the security group as
+     * quickly as possible. However, a small delay might occur.
      * </p>
      *
-     * @param cancelBundleTaskRequest Container for the necessary parameters
-     *           to execute the CancelBundleTask operation on AmazonEC2.
+     * @param revokeSecurityGroupEgressRequest Container for the necessary
+     *           parameters to execute the RevokeSecurityGroupEgress operation on
+     *           AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         CancelBundleTask service method, as returned by AmazonEC2.
+     *         RevokeSecurityGroupEgress service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2504,32 +6246,43 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CancelBundleTaskResult> cancelBundleTaskAsync(CancelBundleTaskRequest cancelBundleTaskRequest) 
+    public Future<Void> revokeSecurityGroupEgressAsync(RevokeSecurityGroupEgressRequest revokeSecurityGroupEgressRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Cancels one or more Spot Instance requests.
+     * This action applies only to security groups in a VPC. It doesn't work
+     * with EC2 security groups. For information about Amazon Virtual Private
+     * Cloud and VPC security groups, go to the Amazon Virtual Private Cloud
+     * User Guide.
      * </p>
      * <p>
-     * Spot Instances are instances that Amazon EC2 starts on your behalf
-     * when the maximum price that you specify exceeds the current Spot
-     * Price. Amazon EC2 periodically sets the Spot Price based on available
-     * Spot Instance capacity and current spot instance requests.
+     * The action removes one or more egress rules from a VPC security
+     * group. The values that you specify in the revoke request (e.g., ports,
+     * etc.) must match the existing rule's values in order for the rule to
+     * be revoked.
      * </p>
      * <p>
-     * For conceptual information about Spot Instances, refer to the Amazon
-     * Elastic Compute Cloud Developer Guide or Amazon Elastic Compute Cloud
-     * User Guide .
-     * 
+     * Each rule consists of the protocol, and the CIDR range or destination
+     * security group. For the TCP and UDP protocols, you must also specify
+     * the destination port or range of ports. For the ICMP protocol, you
+     * must also specify the ICMP type and code.
+     * </p>
+     * <p>
+     * Rule changes are propagated to instances within the security group as
+     * quickly as possible. However, a small delay might occur.
      * </p>
      *
-     * @param cancelSpotInstanceRequestsRequest Container for the necessary
-     *           parameters to execute the CancelSpotInstanceRequests operation on
+     * @param revokeSecurityGroupEgressRequest Container for the necessary
+     *           parameters to execute the RevokeSecurityGroupEgress operation on
      *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         CancelSpotInstanceRequests service method, as returned by AmazonEC2.
+     *         RevokeSecurityGroupEgress service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2539,25 +6292,20 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CancelSpotInstanceRequestsResult> cancelSpotInstanceRequestsAsync(CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<Void> revokeSecurityGroupEgressAsync(RevokeSecurityGroupEgressRequest revokeSecurityGroupEgressRequest,
+            AsyncHandler<RevokeSecurityGroupEgressRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * The PurchaseReservedInstancesOffering operation purchases a Reserved
-     * Instance for use with your account. With Amazon EC2 Reserved
-     * Instances, you purchase the right to launch Amazon EC2 instances for a
-     * period of time (without getting insufficient capacity errors) and pay
-     * a lower usage rate for the actual time used.
+     * Initializes an empty volume of a given size.
      * </p>
      *
-     * @param purchaseReservedInstancesOfferingRequest Container for the
-     *           necessary parameters to execute the PurchaseReservedInstancesOffering
-     *           operation on AmazonEC2.
+     * @param createVolumeRequest Container for the necessary parameters to
+     *           execute the CreateVolume operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         PurchaseReservedInstancesOffering service method, as returned by
-     *         AmazonEC2.
+     *         CreateVolume service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2567,20 +6315,23 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<PurchaseReservedInstancesOfferingResult> purchaseReservedInstancesOfferingAsync(PurchaseReservedInstancesOfferingRequest purchaseReservedInstancesOfferingRequest) 
+    public Future<CreateVolumeResult> createVolumeAsync(CreateVolumeRequest createVolumeRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Adds or remove permission settings for the specified snapshot.
+     * Initializes an empty volume of a given size.
      * </p>
      *
-     * @param modifySnapshotAttributeRequest Container for the necessary
-     *           parameters to execute the ModifySnapshotAttribute operation on
-     *           AmazonEC2.
+     * @param createVolumeRequest Container for the necessary parameters to
+     *           execute the CreateVolume operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         ModifySnapshotAttribute service method, as returned by AmazonEC2.
+     *         CreateVolume service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2590,25 +6341,35 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifySnapshotAttributeAsync(ModifySnapshotAttributeRequest modifySnapshotAttributeRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<CreateVolumeResult> createVolumeAsync(CreateVolumeRequest createVolumeRequest,
+            AsyncHandler<CreateVolumeRequest, CreateVolumeResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * The TerminateInstances operation shuts down one or more instances.
-     * This operation is idempotent; if you terminate an instance more than
-     * once, each call will succeed.
+     * Gives you information about your VPN gateways. You can filter the
+     * results to return information only about VPN gateways that match
+     * criteria you specify.
      * </p>
      * <p>
-     * Terminated instances will remain visible after termination
-     * (approximately one hour).
+     * For example, you could ask to get information about a particular VPN
+     * gateway (or all) only if the gateway's state is pending or available.
+     * You can specify multiple filters (e.g., the VPN gateway is in a
+     * particular Availability Zone and the gateway's state is pending or
+     * available).
+     * </p>
+     * <p>
+     * The result includes information for a particular VPN gateway only if
+     * the gateway matches all your filters. If there's no match, no special
+     * message is returned; the response is simply empty. The following table
+     * shows the available filters.
      * </p>
      *
-     * @param terminateInstancesRequest Container for the necessary
-     *           parameters to execute the TerminateInstances operation on AmazonEC2.
+     * @param describeVpnGatewaysRequest Container for the necessary
+     *           parameters to execute the DescribeVpnGateways operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         TerminateInstances service method, as returned by AmazonEC2.
+     *         DescribeVpnGateways service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2618,52 +6379,38 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<TerminateInstancesResult> terminateInstancesAsync(TerminateInstancesRequest terminateInstancesRequest) 
+    public Future<DescribeVpnGatewaysResult> describeVpnGatewaysAsync(DescribeVpnGatewaysRequest describeVpnGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Deletes the data feed for Spot Instances.
+     * Gives you information about your VPN gateways. You can filter the
+     * results to return information only about VPN gateways that match
+     * criteria you specify.
      * </p>
      * <p>
-     * For conceptual information about Spot Instances, refer to the Amazon
-     * Elastic Compute Cloud Developer Guide or Amazon Elastic Compute Cloud
-     * User Guide .
-     * 
+     * For example, you could ask to get information about a particular VPN
+     * gateway (or all) only if the gateway's state is pending or available.
+     * You can specify multiple filters (e.g., the VPN gateway is in a
+     * particular Availability Zone and the gateway's state is pending or
+     * available).
      * </p>
-     *
-     * @param deleteSpotDatafeedSubscriptionRequest Container for the
-     *           necessary parameters to execute the DeleteSpotDatafeedSubscription
-     *           operation on AmazonEC2.
-     * 
-     * @return A Java Future object containing the response from the
-     *         DeleteSpotDatafeedSubscription service method, as returned by
-     *         AmazonEC2.
-     *
-     * @throws AmazonClientException
-     *             If any internal errors are encountered inside the client while
-     *             attempting to make the request or handle the response.  For example
-     *             if a network connection is not available.
-     * @throws AmazonServiceException
-     *             If an error response is returned by AmazonEC2 indicating
-     *             either a problem with the data in the request, or a server side issue.
-     */
-    public Future<Void> deleteSpotDatafeedSubscriptionAsync(DeleteSpotDatafeedSubscriptionRequest deleteSpotDatafeedSubscriptionRequest) 
-            throws AmazonServiceException, AmazonClientException;
-
-    /**
      * <p>
-     * Deletes an Internet gateway from your AWS account. The gateway must
-     * not be attached to a VPC. For more information about your VPC and
-     * Internet gateway, go to Amazon Virtual Private Cloud User Guide.
+     * The result includes information for a particular VPN gateway only if
+     * the gateway matches all your filters. If there's no match, no special
+     * message is returned; the response is simply empty. The following table
+     * shows the available filters.
      * </p>
      *
-     * @param deleteInternetGatewayRequest Container for the necessary
-     *           parameters to execute the DeleteInternetGateway operation on
-     *           AmazonEC2.
+     * @param describeVpnGatewaysRequest Container for the necessary
+     *           parameters to execute the DescribeVpnGateways operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         DeleteInternetGateway service method, as returned by AmazonEC2.
+     *         DescribeVpnGateways service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2673,30 +6420,34 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteInternetGatewayAsync(DeleteInternetGatewayRequest deleteInternetGatewayRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<DescribeVpnGatewaysResult> describeVpnGatewaysAsync(DescribeVpnGatewaysRequest describeVpnGatewaysRequest,
+            AsyncHandler<DescribeVpnGatewaysRequest, DescribeVpnGatewaysResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Changes the route table associated with a given subnet in a VPC.
-     * After you execute this action, the subnet uses the routes in the new
-     * route table it's associated with. For more information about route
-     * tables, go to <a
-     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
-     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
+     * Creates a subnet in an existing VPC. You can create up to 20 subnets
+     * in a VPC. If you add more than one subnet to a VPC, they're set up in
+     * a star topology with a logical router in the middle. When you create
+     * each subnet, you provide the VPC ID and the CIDR block you want for
+     * the subnet. Once you create a subnet, you can't change its CIDR block.
+     * The subnet's CIDR block can be the same as the VPC's CIDR block
+     * (assuming you want only a single subnet in the VPC), or a subset of
+     * the VPC's CIDR block. If you create more than one subnet in a VPC, the
+     * subnets' CIDR blocks must not overlap. The smallest subnet (and VPC)
+     * you can create uses a <code>/28</code> netmask (16 IP addresses), and
+     * the largest uses a <code>/18</code> netmask (16,384 IP addresses).
      * </p>
      * <p>
-     * You can also use this to change which table is the main route table
-     * in the VPC. You just specify the main route table's association ID and
-     * the route table that you want to be the new main route table.
+     * <b>IMPORTANT:</b> AWS reserves both the first four and the last IP
+     * address in each subnet's CIDR block. They're not available for use.
      * </p>
      *
-     * @param replaceRouteTableAssociationRequest Container for the necessary
-     *           parameters to execute the ReplaceRouteTableAssociation operation on
-     *           AmazonEC2.
+     * @param createSubnetRequest Container for the necessary parameters to
+     *           execute the CreateSubnet operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         ReplaceRouteTableAssociation service method, as returned by AmazonEC2.
+     *         CreateSubnet service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2706,21 +6457,37 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ReplaceRouteTableAssociationResult> replaceRouteTableAssociationAsync(ReplaceRouteTableAssociationRequest replaceRouteTableAssociationRequest) 
+    public Future<CreateSubnetResult> createSubnetAsync(CreateSubnetRequest createSubnetRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Returns information about an attribute of a snapshot. Only one
-     * attribute can be specified per call.
+     * Creates a subnet in an existing VPC. You can create up to 20 subnets
+     * in a VPC. If you add more than one subnet to a VPC, they're set up in
+     * a star topology with a logical router in the middle. When you create
+     * each subnet, you provide the VPC ID and the CIDR block you want for
+     * the subnet. Once you create a subnet, you can't change its CIDR block.
+     * The subnet's CIDR block can be the same as the VPC's CIDR block
+     * (assuming you want only a single subnet in the VPC), or a subset of
+     * the VPC's CIDR block. If you create more than one subnet in a VPC, the
+     * subnets' CIDR blocks must not overlap. The smallest subnet (and VPC)
+     * you can create uses a <code>/28</code> netmask (16 IP addresses), and
+     * the largest uses a <code>/18</code> netmask (16,384 IP addresses).
      * </p>
-     *
-     * @param describeSnapshotAttributeRequest Container for the necessary
-     *           parameters to execute the DescribeSnapshotAttribute operation on
-     *           AmazonEC2.
+     * <p>
+     * <b>IMPORTANT:</b> AWS reserves both the first four and the last IP
+     * address in each subnet's CIDR block. They're not available for use.
+     * </p>
+     *
+     * @param createSubnetRequest Container for the necessary parameters to
+     *           execute the CreateSubnet operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeSnapshotAttribute service method, as returned by AmazonEC2.
+     *         CreateSubnet service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2730,20 +6497,26 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSnapshotAttributeResult> describeSnapshotAttributeAsync(DescribeSnapshotAttributeRequest describeSnapshotAttributeRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<CreateSubnetResult> createSubnetAsync(CreateSubnetRequest createSubnetRequest,
+            AsyncHandler<CreateSubnetRequest, CreateSubnetResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * The DescribeAddresses operation lists elastic IP addresses assigned
-     * to your account.
+     * The DescribeReservedInstancesOfferings operation describes Reserved
+     * Instance offerings that are available for purchase. With Amazon EC2
+     * Reserved Instances, you purchase the right to launch Amazon EC2
+     * instances for a period of time (without getting insufficient capacity
+     * errors) and pay a lower usage rate for the actual time used.
      * </p>
      *
-     * @param describeAddressesRequest Container for the necessary parameters
-     *           to execute the DescribeAddresses operation on AmazonEC2.
+     * @param describeReservedInstancesOfferingsRequest Container for the
+     *           necessary parameters to execute the DescribeReservedInstancesOfferings
+     *           operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeAddresses service method, as returned by AmazonEC2.
+     *         DescribeReservedInstancesOfferings service method, as returned by
+     *         AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2753,22 +6526,29 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeAddressesResult> describeAddressesAsync(DescribeAddressesRequest describeAddressesRequest) 
+    public Future<DescribeReservedInstancesOfferingsResult> describeReservedInstancesOfferingsAsync(DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * The DescribeKeyPairs operation returns information about key pairs
-     * available to you. If you specify key pairs, information about those
-     * key pairs is returned. Otherwise, information for all registered key
-     * pairs is returned.
+     * The DescribeReservedInstancesOfferings operation describes Reserved
+     * Instance offerings that are available for purchase. With Amazon EC2
+     * Reserved Instances, you purchase the right to launch Amazon EC2
+     * instances for a period of time (without getting insufficient capacity
+     * errors) and pay a lower usage rate for the actual time used.
      * </p>
      *
-     * @param describeKeyPairsRequest Container for the necessary parameters
-     *           to execute the DescribeKeyPairs operation on AmazonEC2.
+     * @param describeReservedInstancesOfferingsRequest Container for the
+     *           necessary parameters to execute the DescribeReservedInstancesOfferings
+     *           operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeKeyPairs service method, as returned by AmazonEC2.
+     *         DescribeReservedInstancesOfferings service method, as returned by
+     *         AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2778,21 +6558,21 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeKeyPairsResult> describeKeyPairsAsync(DescribeKeyPairsRequest describeKeyPairsRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<DescribeReservedInstancesOfferingsResult> describeReservedInstancesOfferingsAsync(DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest,
+            AsyncHandler<DescribeReservedInstancesOfferingsRequest, DescribeReservedInstancesOfferingsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * The DescribeImageAttribute operation returns information about an
-     * attribute of an AMI. Only one attribute can be specified per call.
+     * Deletes the snapshot identified by <code>snapshotId</code> .
+     * 
      * </p>
      *
-     * @param describeImageAttributeRequest Container for the necessary
-     *           parameters to execute the DescribeImageAttribute operation on
-     *           AmazonEC2.
+     * @param deleteSnapshotRequest Container for the necessary parameters to
+     *           execute the DeleteSnapshot operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeImageAttribute service method, as returned by AmazonEC2.
+     *         DeleteSnapshot service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2802,27 +6582,24 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeImageAttributeResult> describeImageAttributeAsync(DescribeImageAttributeRequest describeImageAttributeRequest) 
+    public Future<Void> deleteSnapshotAsync(DeleteSnapshotRequest deleteSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Disassociates a subnet from a route table.
-     * </p>
-     * <p>
-     * After you perform this action, the subnet no longer uses the routes
-     * in the route table. Instead it uses the routes in the VPC's main route
-     * table. For more information about route tables, go to <a
-     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
-     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
+     * Deletes the snapshot identified by <code>snapshotId</code> .
+     * 
      * </p>
      *
-     * @param disassociateRouteTableRequest Container for the necessary
-     *           parameters to execute the DisassociateRouteTable operation on
-     *           AmazonEC2.
+     * @param deleteSnapshotRequest Container for the necessary parameters to
+     *           execute the DeleteSnapshot operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         DisassociateRouteTable service method, as returned by AmazonEC2.
+     *         DeleteSnapshot service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2832,28 +6609,24 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> disassociateRouteTableAsync(DisassociateRouteTableRequest disassociateRouteTableRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<Void> deleteSnapshotAsync(DeleteSnapshotRequest deleteSnapshotRequest,
+            AsyncHandler<DeleteSnapshotRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * The ConfirmProductInstance operation returns true if the specified
-     * product code is attached to the specified instance. The operation
-     * returns false if the product code is not attached to the instance.
-     * </p>
-     * <p>
-     * The ConfirmProductInstance operation can only be executed by the
-     * owner of the AMI. This feature is useful when an AMI owner is
-     * providing support and wants to verify whether a user's instance is
-     * eligible.
+     * Changes which network ACL a subnet is associated with. By default
+     * when you create a subnet, it's automatically associated with the
+     * default network ACL. For more information about network ACLs, go to
+     * Network ACLs in the Amazon Virtual Private Cloud User Guide.
      * </p>
      *
-     * @param confirmProductInstanceRequest Container for the necessary
-     *           parameters to execute the ConfirmProductInstance operation on
+     * @param replaceNetworkAclAssociationRequest Container for the necessary
+     *           parameters to execute the ReplaceNetworkAclAssociation operation on
      *           AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         ConfirmProductInstance service method, as returned by AmazonEC2.
+     *         ReplaceNetworkAclAssociation service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2863,22 +6636,27 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ConfirmProductInstanceResult> confirmProductInstanceAsync(ConfirmProductInstanceRequest confirmProductInstanceRequest) 
+    public Future<ReplaceNetworkAclAssociationResult> replaceNetworkAclAssociationAsync(ReplaceNetworkAclAssociationRequest replaceNetworkAclAssociationRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Deletes an ingress or egress entry (i.e., rule) from a network ACL.
-     * For more information about network ACLs, go to Network ACLs in the
-     * Amazon Virtual Private Cloud User Guide.
+     * Changes which network ACL a subnet is associated with. By default
+     * when you create a subnet, it's automatically associated with the
+     * default network ACL. For more information about network ACLs, go to
+     * Network ACLs in the Amazon Virtual Private Cloud User Guide.
      * </p>
      *
-     * @param deleteNetworkAclEntryRequest Container for the necessary
-     *           parameters to execute the DeleteNetworkAclEntry operation on
+     * @param replaceNetworkAclAssociationRequest Container for the necessary
+     *           parameters to execute the ReplaceNetworkAclAssociation operation on
      *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         DeleteNetworkAclEntry service method, as returned by AmazonEC2.
+     *         ReplaceNetworkAclAssociation service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2888,39 +6666,23 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteNetworkAclEntryAsync(DeleteNetworkAclEntryRequest deleteNetworkAclEntryRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<ReplaceNetworkAclAssociationResult> replaceNetworkAclAssociationAsync(ReplaceNetworkAclAssociationRequest replaceNetworkAclAssociationRequest,
+            AsyncHandler<ReplaceNetworkAclAssociationRequest, ReplaceNetworkAclAssociationResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * This action applies only to security groups in a VPC. It doesn't work
-     * with EC2 security groups. For information about Amazon Virtual Private
-     * Cloud and VPC security groups, go to the Amazon Virtual Private Cloud
-     * User Guide.
-     * </p>
-     * <p>
-     * The action removes one or more egress rules from a VPC security
-     * group. The values that you specify in the revoke request (e.g., ports,
-     * etc.) must match the existing rule's values in order for the rule to
-     * be revoked.
-     * </p>
-     * <p>
-     * Each rule consists of the protocol, and the CIDR range or destination
-     * security group. For the TCP and UDP protocols, you must also specify
-     * the destination port or range of ports. For the ICMP protocol, you
-     * must also specify the ICMP type and code.
-     * </p>
-     * <p>
-     * Rule changes are propagated to instances within the security group as
-     * quickly as possible. However, a small delay might occur.
+     * The DisassociateAddress operation disassociates the specified elastic
+     * IP address from the instance to which it is assigned. This is an
+     * idempotent operation. If you enter it more than once, Amazon EC2 does
+     * not return an error.
      * </p>
      *
-     * @param revokeSecurityGroupEgressRequest Container for the necessary
-     *           parameters to execute the RevokeSecurityGroupEgress operation on
-     *           AmazonEC2.
+     * @param disassociateAddressRequest Container for the necessary
+     *           parameters to execute the DisassociateAddress operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         RevokeSecurityGroupEgress service method, as returned by AmazonEC2.
+     *         DisassociateAddress service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2930,19 +6692,26 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> revokeSecurityGroupEgressAsync(RevokeSecurityGroupEgressRequest revokeSecurityGroupEgressRequest) 
+    public Future<Void> disassociateAddressAsync(DisassociateAddressRequest disassociateAddressRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Initializes an empty volume of a given size.
+     * The DisassociateAddress operation disassociates the specified elastic
+     * IP address from the instance to which it is assigned. This is an
+     * idempotent operation. If you enter it more than once, Amazon EC2 does
+     * not return an error.
      * </p>
      *
-     * @param createVolumeRequest Container for the necessary parameters to
-     *           execute the CreateVolume operation on AmazonEC2.
+     * @param disassociateAddressRequest Container for the necessary
+     *           parameters to execute the DisassociateAddress operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         CreateVolume service method, as returned by AmazonEC2.
+     *         DisassociateAddress service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2952,34 +6721,22 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVolumeResult> createVolumeAsync(CreateVolumeRequest createVolumeRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<Void> disassociateAddressAsync(DisassociateAddressRequest disassociateAddressRequest,
+            AsyncHandler<DisassociateAddressRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Gives you information about your VPN gateways. You can filter the
-     * results to return information only about VPN gateways that match
-     * criteria you specify.
-     * </p>
-     * <p>
-     * For example, you could ask to get information about a particular VPN
-     * gateway (or all) only if the gateway's state is pending or available.
-     * You can specify multiple filters (e.g., the VPN gateway is in a
-     * particular Availability Zone and the gateway's state is pending or
-     * available).
-     * </p>
-     * <p>
-     * The result includes information for a particular VPN gateway only if
-     * the gateway matches all your filters. If there's no match, no special
-     * message is returned; the response is simply empty. The following table
-     * shows the available filters.
+     * Creates a PlacementGroup into which multiple Amazon EC2 instances can
+     * be launched. Users must give the group a name unique within the scope
+     * of the user account.
      * </p>
      *
-     * @param describeVpnGatewaysRequest Container for the necessary
-     *           parameters to execute the DescribeVpnGateways operation on AmazonEC2.
+     * @param createPlacementGroupRequest Container for the necessary
+     *           parameters to execute the CreatePlacementGroup operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeVpnGateways service method, as returned by AmazonEC2.
+     *         CreatePlacementGroup service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2989,33 +6746,25 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpnGatewaysResult> describeVpnGatewaysAsync(DescribeVpnGatewaysRequest describeVpnGatewaysRequest) 
+    public Future<Void> createPlacementGroupAsync(CreatePlacementGroupRequest createPlacementGroupRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Creates a subnet in an existing VPC. You can create up to 20 subnets
-     * in a VPC. If you add more than one subnet to a VPC, they're set up in
-     * a star topology with a logical router in the middle. When you create
-     * each subnet, you provide the VPC ID and the CIDR block you want for
-     * the subnet. Once you create a subnet, you can't change its CIDR block.
-     * The subnet's CIDR block can be the same as the VPC's CIDR block
-     * (assuming you want only a single subnet in the VPC), or a subset of
-     * the VPC's CIDR block. If you create more than one subnet in a VPC, the
-     * subnets' CIDR blocks must not overlap. The smallest subnet (and VPC)
-     * you can create uses a <code>/28</code> netmask (16 IP addresses), and
-     * the largest uses a <code>/18</code> netmask (16,384 IP addresses).
-     * </p>
-     * <p>
-     * <b>IMPORTANT:</b> AWS reserves both the first four and the last IP
-     * address in each subnet's CIDR block. They're not available for use.
+     * Creates a PlacementGroup into which multiple Amazon EC2 instances can
+     * be launched. Users must give the group a name unique within the scope
+     * of the user account.
      * </p>
      *
-     * @param createSubnetRequest Container for the necessary parameters to
-     *           execute the CreateSubnet operation on AmazonEC2.
+     * @param createPlacementGroupRequest Container for the necessary
+     *           parameters to execute the CreatePlacementGroup operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         CreateSubnet service method, as returned by AmazonEC2.
+     *         CreatePlacementGroup service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -3025,25 +6774,24 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateSubnetResult> createSubnetAsync(CreateSubnetRequest createSubnetRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<Void> createPlacementGroupAsync(CreatePlacementGroupRequest createPlacementGroupRequest,
+            AsyncHandler<CreatePlacementGroupRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * The DescribeReservedInstancesOfferings operation describes Reserved
-     * Instance offerings that are available for purchase. With Amazon EC2
-     * Reserved Instances, you purchase the right to launch Amazon EC2
-     * instances for a period of time (without getting insufficient capacity
-     * errors) and pay a lower usage rate for the actual time used.
+     * The BundleInstance operation request that an instance is bundled the
+     * next time it boots. The bundling process creates a new image from a
+     * running instance and stores the AMI data in S3. Once bundled, the
+     * image must be registered in the normal way using the RegisterImage
+     * API.
      * </p>
      *
-     * @param describeReservedInstancesOfferingsRequest Container for the
-     *           necessary parameters to execute the DescribeReservedInstancesOfferings
-     *           operation on AmazonEC2.
+     * @param bundleInstanceRequest Container for the necessary parameters to
+     *           execute the BundleInstance operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeReservedInstancesOfferings service method, as returned by
-     *         AmazonEC2.
+     *         BundleInstance service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -3053,20 +6801,27 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeReservedInstancesOfferingsResult> describeReservedInstancesOfferingsAsync(DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest) 
+    public Future<BundleInstanceResult> bundleInstanceAsync(BundleInstanceRequest bundleInstanceRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Deletes the snapshot identified by <code>snapshotId</code> .
-     * 
+     * The BundleInstance operation request that an instance is bundled the
+     * next time it boots. The bundling process creates a new image from a
+     * running instance and stores the AMI data in S3. Once bundled, the
+     * image must be registered in the normal way using the RegisterImage
+     * API.
      * </p>
      *
-     * @param deleteSnapshotRequest Container for the necessary parameters to
-     *           execute the DeleteSnapshot operation on AmazonEC2.
+     * @param bundleInstanceRequest Container for the necessary parameters to
+     *           execute the BundleInstance operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         DeleteSnapshot service method, as returned by AmazonEC2.
+     *         BundleInstance service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -3076,23 +6831,21 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteSnapshotAsync(DeleteSnapshotRequest deleteSnapshotRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<BundleInstanceResult> bundleInstanceAsync(BundleInstanceRequest bundleInstanceRequest,
+            AsyncHandler<BundleInstanceRequest, BundleInstanceResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Changes which network ACL a subnet is associated with. By default
-     * when you create a subnet, it's automatically associated with the
-     * default network ACL. For more information about network ACLs, go to
-     * Network ACLs in the Amazon Virtual Private Cloud User Guide.
+     * Deletes a PlacementGroup from a user's account. Terminate all Amazon
+     * EC2 instances in the placement group before deletion.
      * </p>
      *
-     * @param replaceNetworkAclAssociationRequest Container for the necessary
-     *           parameters to execute the ReplaceNetworkAclAssociation operation on
-     *           AmazonEC2.
+     * @param deletePlacementGroupRequest Container for the necessary
+     *           parameters to execute the DeletePlacementGroup operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         ReplaceNetworkAclAssociation service method, as returned by AmazonEC2.
+     *         DeletePlacementGroup service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -3102,22 +6855,24 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ReplaceNetworkAclAssociationResult> replaceNetworkAclAssociationAsync(ReplaceNetworkAclAssociationRequest replaceNetworkAclAssociationRequest) 
+    public Future<Void> deletePlacementGroupAsync(DeletePlacementGroupRequest deletePlacementGroupRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * The DisassociateAddress operation disassociates the specified elastic
-     * IP address from the instance to which it is assigned. This is an
-     * idempotent operation. If you enter it more than once, Amazon EC2 does
-     * not return an error.
+     * Deletes a PlacementGroup from a user's account. Terminate all Amazon
+     * EC2 instances in the placement group before deletion.
      * </p>
      *
-     * @param disassociateAddressRequest Container for the necessary
-     *           parameters to execute the DisassociateAddress operation on AmazonEC2.
+     * @param deletePlacementGroupRequest Container for the necessary
+     *           parameters to execute the DeletePlacementGroup operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         DisassociateAddress service method, as returned by AmazonEC2.
+     *         DeletePlacementGroup service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -3127,21 +6882,24 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> disassociateAddressAsync(DisassociateAddressRequest disassociateAddressRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<Void> deletePlacementGroupAsync(DeletePlacementGroupRequest deletePlacementGroupRequest,
+            AsyncHandler<DeletePlacementGroupRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Creates a PlacementGroup into which multiple Amazon EC2 instances can
-     * be launched. Users must give the group a name unique within the scope
-     * of the user account.
+     * Deletes a VPC. You must detach or delete all gateways or other
+     * objects that are dependent on the VPC first. For example, you must
+     * terminate all running instances, delete all VPC security groups
+     * (except the default), delete all the route tables (except the
+     * default), etc.
      * </p>
      *
-     * @param createPlacementGroupRequest Container for the necessary
-     *           parameters to execute the CreatePlacementGroup operation on AmazonEC2.
+     * @param deleteVpcRequest Container for the necessary parameters to
+     *           execute the DeleteVpc operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         CreatePlacementGroup service method, as returned by AmazonEC2.
+     *         DeleteVpc service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -3151,23 +6909,27 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createPlacementGroupAsync(CreatePlacementGroupRequest createPlacementGroupRequest) 
+    public Future<Void> deleteVpcAsync(DeleteVpcRequest deleteVpcRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * The BundleInstance operation request that an instance is bundled the
-     * next time it boots. The bundling process creates a new image from a
-     * running instance and stores the AMI data in S3. Once bundled, the
-     * image must be registered in the normal way using the RegisterImage
-     * API.
+     * Deletes a VPC. You must detach or delete all gateways or other
+     * objects that are dependent on the VPC first. For example, you must
+     * terminate all running instances, delete all VPC security groups
+     * (except the default), delete all the route tables (except the
+     * default), etc.
      * </p>
      *
-     * @param bundleInstanceRequest Container for the necessary parameters to
-     *           execute the BundleInstance operation on AmazonEC2.
+     * @param deleteVpcRequest Container for the necessary parameters to
+     *           execute the DeleteVpc operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         BundleInstance service method, as returned by AmazonEC2.
+     *         DeleteVpc service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -3177,20 +6939,21 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<BundleInstanceResult> bundleInstanceAsync(BundleInstanceRequest bundleInstanceRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<Void> deleteVpcAsync(DeleteVpcRequest deleteVpcRequest,
+            AsyncHandler<DeleteVpcRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Deletes a PlacementGroup from a user's account. Terminate all Amazon
-     * EC2 instances in the placement group before deletion.
+     * The AllocateAddress operation acquires an elastic IP address for use
+     * with your account.
      * </p>
      *
-     * @param deletePlacementGroupRequest Container for the necessary
-     *           parameters to execute the DeletePlacementGroup operation on AmazonEC2.
+     * @param allocateAddressRequest Container for the necessary parameters
+     *           to execute the AllocateAddress operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DeletePlacementGroup service method, as returned by AmazonEC2.
+     *         AllocateAddress service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -3200,23 +6963,24 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deletePlacementGroupAsync(DeletePlacementGroupRequest deletePlacementGroupRequest) 
+    public Future<AllocateAddressResult> allocateAddressAsync(AllocateAddressRequest allocateAddressRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Deletes a VPC. You must detach or delete all gateways or other
-     * objects that are dependent on the VPC first. For example, you must
-     * terminate all running instances, delete all VPC security groups
-     * (except the default), delete all the route tables (except the
-     * default), etc.
+     * The AllocateAddress operation acquires an elastic IP address for use
+     * with your account.
      * </p>
      *
-     * @param deleteVpcRequest Container for the necessary parameters to
-     *           execute the DeleteVpc operation on AmazonEC2.
+     * @param allocateAddressRequest Container for the necessary parameters
+     *           to execute the AllocateAddress operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         DeleteVpc service method, as returned by AmazonEC2.
+     *         AllocateAddress service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -3226,20 +6990,35 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVpcAsync(DeleteVpcRequest deleteVpcRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<AllocateAddressResult> allocateAddressAsync(AllocateAddressRequest allocateAddressRequest,
+            AsyncHandler<AllocateAddressRequest, AllocateAddressResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * The AllocateAddress operation acquires an elastic IP address for use
-     * with your account.
+     * The ReleaseAddress operation releases an elastic IP address
+     * associated with your account.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> Releasing an IP address automatically disassociates it
+     * from any instance with which it is associated. For more information,
+     * see DisassociateAddress.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> After releasing an elastic IP address, it is
+     * released to the IP address pool and might no longer be available to
+     * your account. Make sure to update your DNS records and any servers or
+     * devices that communicate with the address. If you run this operation
+     * on an elastic IP address that is already released, the address might
+     * be assigned to another account which will cause Amazon EC2 to return
+     * an error.
      * </p>
      *
-     * @param allocateAddressRequest Container for the necessary parameters
-     *           to execute the AllocateAddress operation on AmazonEC2.
+     * @param releaseAddressRequest Container for the necessary parameters to
+     *           execute the ReleaseAddress operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         AllocateAddress service method, as returned by AmazonEC2.
+     *         ReleaseAddress service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -3249,7 +7028,7 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AllocateAddressResult> allocateAddressAsync(AllocateAddressRequest allocateAddressRequest) 
+    public Future<Void> releaseAddressAsync(ReleaseAddressRequest releaseAddressRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
@@ -3274,6 +7053,10 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *
      * @param releaseAddressRequest Container for the necessary parameters to
      *           execute the ReleaseAddress operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
      *         ReleaseAddress service method, as returned by AmazonEC2.
@@ -3286,8 +7069,9 @@ public interface AmazonEC2Async extends AmazonEC2 {
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> releaseAddressAsync(ReleaseAddressRequest releaseAddressRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<Void> releaseAddressAsync(ReleaseAddressRequest releaseAddressRequest,
+            AsyncHandler<ReleaseAddressRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
@@ -3312,6 +7096,34 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<Void> resetInstanceAttributeAsync(ResetInstanceAttributeRequest resetInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Resets an attribute of an instance to its default value.
+     * </p>
+     *
+     * @param resetInstanceAttributeRequest Container for the necessary
+     *           parameters to execute the ResetInstanceAttribute operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ResetInstanceAttribute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> resetInstanceAttributeAsync(ResetInstanceAttributeRequest resetInstanceAttributeRequest,
+            AsyncHandler<ResetInstanceAttributeRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The CreateKeyPair operation creates a new 2048 bit RSA key pair and
@@ -3336,6 +7148,35 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<CreateKeyPairResult> createKeyPairAsync(CreateKeyPairRequest createKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The CreateKeyPair operation creates a new 2048 bit RSA key pair and
+     * returns a unique ID that can be used to reference this key pair when
+     * launching new instances. For more information, see RunInstances.
+     * </p>
+     *
+     * @param createKeyPairRequest Container for the necessary parameters to
+     *           execute the CreateKeyPair operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateKeyPair service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateKeyPairResult> createKeyPairAsync(CreateKeyPairRequest createKeyPairRequest,
+            AsyncHandler<CreateKeyPairRequest, CreateKeyPairResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Replaces an entry (i.e., rule) in a network ACL. For more information
@@ -3361,6 +7202,36 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<Void> replaceNetworkAclEntryAsync(ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Replaces an entry (i.e., rule) in a network ACL. For more information
+     * about network ACLs, go to Network ACLs in the Amazon Virtual Private
+     * Cloud User Guide.
+     * </p>
+     *
+     * @param replaceNetworkAclEntryRequest Container for the necessary
+     *           parameters to execute the ReplaceNetworkAclEntry operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ReplaceNetworkAclEntry service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> replaceNetworkAclEntryAsync(ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest,
+            AsyncHandler<ReplaceNetworkAclEntryRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Returns information about the Amazon EBS snapshots available to you.
@@ -3387,6 +7258,37 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<DescribeSnapshotsResult> describeSnapshotsAsync(DescribeSnapshotsRequest describeSnapshotsRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Returns information about the Amazon EBS snapshots available to you.
+     * Snapshots available to you include public snapshots available for any
+     * AWS account to launch, private snapshots you own, and private
+     * snapshots owned by another AWS account but for which you've been given
+     * explicit create volume permissions.
+     * </p>
+     *
+     * @param describeSnapshotsRequest Container for the necessary parameters
+     *           to execute the DescribeSnapshots operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeSnapshots service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeSnapshotsResult> describeSnapshotsAsync(DescribeSnapshotsRequest describeSnapshotsRequest,
+            AsyncHandler<DescribeSnapshotsRequest, DescribeSnapshotsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Creates a new network ACL in a VPC. Network ACLs provide an optional
@@ -3412,6 +7314,36 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<CreateNetworkAclResult> createNetworkAclAsync(CreateNetworkAclRequest createNetworkAclRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Creates a new network ACL in a VPC. Network ACLs provide an optional
+     * layer of security (on top of security groups) for the instances in
+     * your VPC. For more information about network ACLs, go to Network ACLs
+     * in the Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param createNetworkAclRequest Container for the necessary parameters
+     *           to execute the CreateNetworkAcl operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateNetworkAcl service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateNetworkAclResult> createNetworkAclAsync(CreateNetworkAclRequest createNetworkAclRequest,
+            AsyncHandler<CreateNetworkAclRequest, CreateNetworkAclResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The RegisterImage operation registers an AMI with Amazon EC2. Images
@@ -3450,5 +7382,48 @@ public interface AmazonEC2Async extends AmazonEC2 {
     public Future<RegisterImageResult> registerImageAsync(RegisterImageRequest registerImageRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The RegisterImage operation registers an AMI with Amazon EC2. Images
+     * must be registered before they can be launched. For more information,
+     * see RunInstances.
+     * </p>
+     * <p>
+     * Each AMI is associated with an unique ID which is provided by the
+     * Amazon EC2 service through the RegisterImage operation. During
+     * registration, Amazon EC2 retrieves the specified image manifest from
+     * Amazon S3 and verifies that the image is owned by the user registering
+     * the image.
+     * </p>
+     * <p>
+     * The image manifest is retrieved once and stored within the Amazon
+     * EC2. Any modifications to an image in Amazon S3 invalidates this
+     * registration. If you make changes to an image, deregister the previous
+     * image and register the new image. For more information, see
+     * DeregisterImage.
+     * </p>
+     *
+     * @param registerImageRequest Container for the necessary parameters to
+     *           execute the RegisterImage operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RegisterImage service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<RegisterImageResult> registerImageAsync(RegisterImageRequest registerImageRequest,
+            AsyncHandler<RegisterImageRequest, RegisterImageResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
 }
         
\ No newline at end of file
@@ -16,13 +16,14 @@ package com.amazonaws.services.ec2;
             
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.util.InstrumentedThreadPoolExecutor;
 
 import com.amazonaws.services.ec2.model.*;
 
@@ -66,8 +67,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
     /**
      * Constructs a new asynchronous client to invoke service methods on 
      * AmazonEC2 using the specified AWS account credentials.
-     * Default client settings will be used, and a default cached thread pool will be 
-     * created for executing the asynchronous tasks.
+     * Default client settings will be used, and a default bounded thread pool will be 
+     * created for executing the asynchronous tasks (see
+     * {@link InstrumentedThreadPoolExecutor#newDefaultExecutor(String, ClientConfiguration)}).
      *
      * <p>
      * All calls made using this new client object are non-blocking, and will immediately
@@ -78,7 +80,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *                       when authenticating with AWS services.
      */                                      
     public AmazonEC2AsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newCachedThreadPool());
+        this(awsCredentials, InstrumentedThreadPoolExecutor.newDefaultExecutor("AmazonEC2AsyncClient", new ClientConfiguration()));
     }
 
     /**
@@ -173,6 +175,52 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * The RebootInstances operation requests a reboot of one or more
+     * instances. This operation is asynchronous; it only queues a request to
+     * reboot the specified instance(s). The operation will succeed if the
+     * instances are valid and belong to the user. Requests to reboot
+     * terminated instances are ignored.
+     * </p>
+     *
+     * @param rebootInstancesRequest Container for the necessary parameters
+     *           to execute the RebootInstances operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RebootInstances service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> rebootInstancesAsync(
+            final RebootInstancesRequest rebootInstancesRequest,
+            final AsyncHandler<RebootInstancesRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    rebootInstances(rebootInstancesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(rebootInstancesRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The DescribeReservedInstances operation describes Reserved Instances
@@ -203,6 +251,51 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * The DescribeReservedInstances operation describes Reserved Instances
+     * that were purchased for use with your account.
+     * </p>
+     *
+     * @param describeReservedInstancesRequest Container for the necessary
+     *           parameters to execute the DescribeReservedInstances operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeReservedInstances service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeReservedInstancesResult> describeReservedInstancesAsync(
+            final DescribeReservedInstancesRequest describeReservedInstancesRequest,
+            final AsyncHandler<DescribeReservedInstancesRequest, DescribeReservedInstancesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeReservedInstancesResult>() {
+            public DescribeReservedInstancesResult call() throws Exception {
+                DescribeReservedInstancesResult result;
+                try {
+                    result = describeReservedInstances(describeReservedInstancesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeReservedInstancesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The DescribeAvailabilityZones operation describes availability zones
@@ -239,6 +332,57 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * The DescribeAvailabilityZones operation describes availability zones
+     * that are currently available to the account and their states.
+     * </p>
+     * <p>
+     * Availability zones are not the same across accounts. The availability
+     * zone <code>us-east-1a</code> for account A is not necessarily the same
+     * as <code>us-east-1a</code> for account B. Zone assignments are mapped
+     * independently for each account.
+     * </p>
+     *
+     * @param describeAvailabilityZonesRequest Container for the necessary
+     *           parameters to execute the DescribeAvailabilityZones operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeAvailabilityZones service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeAvailabilityZonesResult> describeAvailabilityZonesAsync(
+            final DescribeAvailabilityZonesRequest describeAvailabilityZonesRequest,
+            final AsyncHandler<DescribeAvailabilityZonesRequest, DescribeAvailabilityZonesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeAvailabilityZonesResult>() {
+            public DescribeAvailabilityZonesResult call() throws Exception {
+                DescribeAvailabilityZonesResult result;
+                try {
+                    result = describeAvailabilityZones(describeAvailabilityZonesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeAvailabilityZonesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Detach a previously attached volume from a running instance.
@@ -267,6 +411,49 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Detach a previously attached volume from a running instance.
+     * </p>
+     *
+     * @param detachVolumeRequest Container for the necessary parameters to
+     *           execute the DetachVolume operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DetachVolume service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DetachVolumeResult> detachVolumeAsync(
+            final DetachVolumeRequest detachVolumeRequest,
+            final AsyncHandler<DetachVolumeRequest, DetachVolumeResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DetachVolumeResult>() {
+            public DetachVolumeResult call() throws Exception {
+                DetachVolumeResult result;
+                try {
+                    result = detachVolume(detachVolumeRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(detachVolumeRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The DeleteKeyPair operation deletes a key pair.
@@ -296,6 +483,48 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * The DeleteKeyPair operation deletes a key pair.
+     * </p>
+     *
+     * @param deleteKeyPairRequest Container for the necessary parameters to
+     *           execute the DeleteKeyPair operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteKeyPair service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteKeyPairAsync(
+            final DeleteKeyPairRequest deleteKeyPairRequest,
+            final AsyncHandler<DeleteKeyPairRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteKeyPair(deleteKeyPairRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteKeyPairRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Disables monitoring for a running instance.
@@ -324,6 +553,49 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Disables monitoring for a running instance.
+     * </p>
+     *
+     * @param unmonitorInstancesRequest Container for the necessary
+     *           parameters to execute the UnmonitorInstances operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         UnmonitorInstances service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<UnmonitorInstancesResult> unmonitorInstancesAsync(
+            final UnmonitorInstancesRequest unmonitorInstancesRequest,
+            final AsyncHandler<UnmonitorInstancesRequest, UnmonitorInstancesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<UnmonitorInstancesResult>() {
+            public UnmonitorInstancesResult call() throws Exception {
+                UnmonitorInstancesResult result;
+                try {
+                    result = unmonitorInstances(unmonitorInstancesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(unmonitorInstancesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Attaches a VPN gateway to a VPC. This is the last step required to
@@ -355,6 +627,52 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Attaches a VPN gateway to a VPC. This is the last step required to
+     * get your VPC fully connected to your data center before launching
+     * instances in it. For more information, go to Process for Using Amazon
+     * VPC in the Amazon Virtual Private Cloud Developer Guide.
+     * </p>
+     *
+     * @param attachVpnGatewayRequest Container for the necessary parameters
+     *           to execute the AttachVpnGateway operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AttachVpnGateway service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<AttachVpnGatewayResult> attachVpnGatewayAsync(
+            final AttachVpnGatewayRequest attachVpnGatewayRequest,
+            final AsyncHandler<AttachVpnGatewayRequest, AttachVpnGatewayResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<AttachVpnGatewayResult>() {
+            public AttachVpnGatewayResult call() throws Exception {
+                AttachVpnGatewayResult result;
+                try {
+                    result = attachVpnGateway(attachVpnGatewayRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(attachVpnGatewayRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Creates an Amazon EBS-backed AMI from a "running" or "stopped"
@@ -387,6 +705,53 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Creates an Amazon EBS-backed AMI from a "running" or "stopped"
+     * instance. AMIs that use an Amazon EBS root device boot faster than
+     * AMIs that use instance stores. They can be up to 1 TiB in size, use
+     * storage that persists on instance failure, and can be stopped and
+     * started.
+     * </p>
+     *
+     * @param createImageRequest Container for the necessary parameters to
+     *           execute the CreateImage operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateImage service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateImageResult> createImageAsync(
+            final CreateImageRequest createImageRequest,
+            final AsyncHandler<CreateImageRequest, CreateImageResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateImageResult>() {
+            public CreateImageResult call() throws Exception {
+                CreateImageResult result;
+                try {
+                    result = createImage(createImageRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createImageRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The DeleteSecurityGroup operation deletes a security group.
@@ -426,36 +791,86 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
     
     /**
      * <p>
-     * This action applies only to security groups in a VPC; it's not
-     * supported for EC2 security groups. For information about Amazon
-     * Virtual Private Cloud and VPC security groups, go to the Amazon
-     * Virtual Private Cloud User Guide.
-     * </p>
-     * <p>
-     * The action adds one or more egress rules to a VPC security group.
-     * Specifically, this permits instances in a security group to send
-     * traffic to either one or more destination CIDR IP address ranges, or
-     * to one or more destination security groups in the same VPC.
-     * </p>
-     * <p>
-     * Each rule consists of the protocol (e.g., TCP), plus either a CIDR
-     * range, or a source group. For the TCP and UDP protocols, you must also
-     * specify the destination port or port range. For the ICMP protocol, you
-     * must also specify the ICMP type and code. You can use <code>-1</code>
-     * as a wildcard for the ICMP type or code.
-     * </p>
-     * <p>
-     * Rule changes are propagated to instances within the security group as
-     * quickly as possible. However, a small delay might occur.
+     * The DeleteSecurityGroup operation deletes a security group.
      * </p>
      * <p>
-     * <b>Important:</b> For VPC security groups: You can have up to 50
-     * rules total per group (covering both ingress and egress).
+     * <b>NOTE:</b> If you attempt to delete a security group that contains
+     * instances, a fault is returned. If you attempt to delete a security
+     * group that is referenced by another security group, a fault is
+     * returned. For example, if security group B has a rule that allows
+     * access from security group A, security group A cannot be deleted until
+     * the allow rule is removed.
      * </p>
      *
-     * @param authorizeSecurityGroupEgressRequest Container for the necessary
-     *           parameters to execute the AuthorizeSecurityGroupEgress operation on
-     *           AmazonEC2.
+     * @param deleteSecurityGroupRequest Container for the necessary
+     *           parameters to execute the DeleteSecurityGroup operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteSecurityGroup service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteSecurityGroupAsync(
+            final DeleteSecurityGroupRequest deleteSecurityGroupRequest,
+            final AsyncHandler<DeleteSecurityGroupRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteSecurityGroup(deleteSecurityGroupRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteSecurityGroupRequest, null);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * This action applies only to security groups in a VPC; it's not
+     * supported for EC2 security groups. For information about Amazon
+     * Virtual Private Cloud and VPC security groups, go to the Amazon
+     * Virtual Private Cloud User Guide.
+     * </p>
+     * <p>
+     * The action adds one or more egress rules to a VPC security group.
+     * Specifically, this permits instances in a security group to send
+     * traffic to either one or more destination CIDR IP address ranges, or
+     * to one or more destination security groups in the same VPC.
+     * </p>
+     * <p>
+     * Each rule consists of the protocol (e.g., TCP), plus either a CIDR
+     * range, or a source group. For the TCP and UDP protocols, you must also
+     * specify the destination port or port range. For the ICMP protocol, you
+     * must also specify the ICMP type and code. You can use <code>-1</code>
+     * as a wildcard for the ICMP type or code.
+     * </p>
+     * <p>
+     * Rule changes are propagated to instances within the security group as
+     * quickly as possible. However, a small delay might occur.
+     * </p>
+     * <p>
+     * <b>Important:</b> For VPC security groups: You can have up to 50
+     * rules total per group (covering both ingress and egress).
+     * </p>
+     *
+     * @param authorizeSecurityGroupEgressRequest Container for the necessary
+     *           parameters to execute the AuthorizeSecurityGroupEgress operation on
+     *           AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
      *         AuthorizeSecurityGroupEgress service method, as returned by AmazonEC2.
@@ -478,6 +893,73 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * This action applies only to security groups in a VPC; it's not
+     * supported for EC2 security groups. For information about Amazon
+     * Virtual Private Cloud and VPC security groups, go to the Amazon
+     * Virtual Private Cloud User Guide.
+     * </p>
+     * <p>
+     * The action adds one or more egress rules to a VPC security group.
+     * Specifically, this permits instances in a security group to send
+     * traffic to either one or more destination CIDR IP address ranges, or
+     * to one or more destination security groups in the same VPC.
+     * </p>
+     * <p>
+     * Each rule consists of the protocol (e.g., TCP), plus either a CIDR
+     * range, or a source group. For the TCP and UDP protocols, you must also
+     * specify the destination port or port range. For the ICMP protocol, you
+     * must also specify the ICMP type and code. You can use <code>-1</code>
+     * as a wildcard for the ICMP type or code.
+     * </p>
+     * <p>
+     * Rule changes are propagated to instances within the security group as
+     * quickly as possible. However, a small delay might occur.
+     * </p>
+     * <p>
+     * <b>Important:</b> For VPC security groups: You can have up to 50
+     * rules total per group (covering both ingress and egress).
+     * </p>
+     *
+     * @param authorizeSecurityGroupEgressRequest Container for the necessary
+     *           parameters to execute the AuthorizeSecurityGroupEgress operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AuthorizeSecurityGroupEgress service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> authorizeSecurityGroupEgressAsync(
+            final AuthorizeSecurityGroupEgressRequest authorizeSecurityGroupEgressRequest,
+            final AsyncHandler<AuthorizeSecurityGroupEgressRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    authorizeSecurityGroupEgress(authorizeSecurityGroupEgressRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(authorizeSecurityGroupEgressRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Retrieves the encrypted administrator password for the instances
@@ -513,6 +995,56 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Retrieves the encrypted administrator password for the instances
+     * running Windows.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> The Windows password is only generated the first time an
+     * AMI is launched. It is not generated for rebundled AMIs or after the
+     * password is changed on an instance. The password is encrypted using
+     * the key pair that you provided.
+     * </p>
+     *
+     * @param getPasswordDataRequest Container for the necessary parameters
+     *           to execute the GetPasswordData operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetPasswordData service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetPasswordDataResult> getPasswordDataAsync(
+            final GetPasswordDataRequest getPasswordDataRequest,
+            final AsyncHandler<GetPasswordDataRequest, GetPasswordDataResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<GetPasswordDataResult>() {
+            public GetPasswordDataResult call() throws Exception {
+                GetPasswordDataResult result;
+                try {
+                    result = getPasswordData(getPasswordDataRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(getPasswordDataRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Associates a set of DHCP options (that you've previously created)
@@ -550,6 +1082,56 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Associates a set of DHCP options (that you've previously created)
+     * with the specified VPC. Or, associates the default DHCP options with
+     * the VPC. The default set consists of the standard EC2 host name, no
+     * domain name, no DNS server, no NTP server, and no NetBIOS server or
+     * node type. After you associate the options with the VPC, any existing
+     * instances and all new instances that you launch in that VPC use the
+     * options. For more information about the supported DHCP options and
+     * using them with Amazon VPC, go to Using DHCP Options in the Amazon
+     * Virtual Private Cloud Developer Guide.
+     * </p>
+     *
+     * @param associateDhcpOptionsRequest Container for the necessary
+     *           parameters to execute the AssociateDhcpOptions operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AssociateDhcpOptions service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> associateDhcpOptionsAsync(
+            final AssociateDhcpOptionsRequest associateDhcpOptionsRequest,
+            final AsyncHandler<AssociateDhcpOptionsRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    associateDhcpOptions(associateDhcpOptionsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(associateDhcpOptionsRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Stops an instance that uses an Amazon EBS volume as its root device.
@@ -590,6 +1172,61 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Stops an instance that uses an Amazon EBS volume as its root device.
+     * Instances that use Amazon EBS volumes as their root devices can be
+     * quickly stopped and started. When an instance is stopped, the compute
+     * resources are released and you are not billed for hourly instance
+     * usage. However, your root partition Amazon EBS volume remains,
+     * continues to persist your data, and you are charged for Amazon EBS
+     * volume usage. You can restart your instance at any time.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> Before stopping an instance, make sure it is in a state
+     * from which it can be restarted. Stopping an instance does not preserve
+     * data stored in RAM. Performing this operation on an instance that uses
+     * an instance store as its root device returns an error.
+     * </p>
+     *
+     * @param stopInstancesRequest Container for the necessary parameters to
+     *           execute the StopInstances operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         StopInstances service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<StopInstancesResult> stopInstancesAsync(
+            final StopInstancesRequest stopInstancesRequest,
+            final AsyncHandler<StopInstancesRequest, StopInstancesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<StopInstancesResult>() {
+            public StopInstancesResult call() throws Exception {
+                StopInstancesResult result;
+                try {
+                    result = stopInstances(stopInstancesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(stopInstancesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Imports the public key from an RSA key pair created with a
@@ -638,6 +1275,69 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Imports the public key from an RSA key pair created with a
+     * third-party tool. This operation differs from CreateKeyPair as the
+     * private key is never transferred between the caller and AWS servers.
+     * </p>
+     * <p>
+     * RSA key pairs are easily created on Microsoft Windows and Linux OS
+     * systems using the <code>ssh-keygen</code> command line tool provided
+     * with the standard OpenSSH installation. Standard library support for
+     * RSA key pair creation is also available for Java, Ruby, Python, and
+     * many other programming languages.
+     * </p>
+     * <p>
+     * The following formats are supported:
+     * </p>
+     * 
+     * <ul>
+     * <li> OpenSSH public key format, </li>
+     * <li> Base64 encoded DER format. </li>
+     * <li> SSH public key file format as specified in <a
+     * href="http://tools.ietf.org/html/rfc4716"> RFC4716 </a> . </li>
+     * 
+     * </ul>
+     *
+     * @param importKeyPairRequest Container for the necessary parameters to
+     *           execute the ImportKeyPair operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ImportKeyPair service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ImportKeyPairResult> importKeyPairAsync(
+            final ImportKeyPairRequest importKeyPairRequest,
+            final AsyncHandler<ImportKeyPairRequest, ImportKeyPairResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ImportKeyPairResult>() {
+            public ImportKeyPairResult call() throws Exception {
+                ImportKeyPairResult result;
+                try {
+                    result = importKeyPair(importKeyPairRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(importKeyPairRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The CreateSecurityGroup operation creates a new security group.
@@ -678,11 +1378,64 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
     
     /**
      * <p>
-     * Describes the Spot Price history.
+     * The CreateSecurityGroup operation creates a new security group.
      * </p>
      * <p>
-     * Spot Instances are instances that Amazon EC2 starts on your behalf
-     * when the maximum price that you specify exceeds the current Spot
+     * Every instance is launched in a security group. If no security group
+     * is specified during launch, the instances are launched in the default
+     * security group. Instances within the same security group have
+     * unrestricted network access to each other. Instances will reject
+     * network access attempts from other instances in a different security
+     * group. As the owner of instances you can grant or revoke specific
+     * permissions using the AuthorizeSecurityGroupIngress and
+     * RevokeSecurityGroupIngress operations.
+     * </p>
+     *
+     * @param createSecurityGroupRequest Container for the necessary
+     *           parameters to execute the CreateSecurityGroup operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateSecurityGroup service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateSecurityGroupResult> createSecurityGroupAsync(
+            final CreateSecurityGroupRequest createSecurityGroupRequest,
+            final AsyncHandler<CreateSecurityGroupRequest, CreateSecurityGroupResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateSecurityGroupResult>() {
+            public CreateSecurityGroupResult call() throws Exception {
+                CreateSecurityGroupResult result;
+                try {
+                    result = createSecurityGroup(createSecurityGroupRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createSecurityGroupRequest, result);
+                return result;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Describes the Spot Price history.
+     * </p>
+     * <p>
+     * Spot Instances are instances that Amazon EC2 starts on your behalf
+     * when the maximum price that you specify exceeds the current Spot
      * Price. Amazon EC2 periodically sets the Spot Price based on available
      * Spot Instance capacity and current spot instance requests.
      * </p>
@@ -717,6 +1470,62 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Describes the Spot Price history.
+     * </p>
+     * <p>
+     * Spot Instances are instances that Amazon EC2 starts on your behalf
+     * when the maximum price that you specify exceeds the current Spot
+     * Price. Amazon EC2 periodically sets the Spot Price based on available
+     * Spot Instance capacity and current spot instance requests.
+     * </p>
+     * <p>
+     * For conceptual information about Spot Instances, refer to the Amazon
+     * Elastic Compute Cloud Developer Guide or Amazon Elastic Compute Cloud
+     * User Guide .
+     * 
+     * </p>
+     *
+     * @param describeSpotPriceHistoryRequest Container for the necessary
+     *           parameters to execute the DescribeSpotPriceHistory operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeSpotPriceHistory service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeSpotPriceHistoryResult> describeSpotPriceHistoryAsync(
+            final DescribeSpotPriceHistoryRequest describeSpotPriceHistoryRequest,
+            final AsyncHandler<DescribeSpotPriceHistoryRequest, DescribeSpotPriceHistoryResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeSpotPriceHistoryResult>() {
+            public DescribeSpotPriceHistoryResult call() throws Exception {
+                DescribeSpotPriceHistoryResult result;
+                try {
+                    result = describeSpotPriceHistory(describeSpotPriceHistoryRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeSpotPriceHistoryRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The DescribeRegions operation describes regions zones that are
@@ -746,6 +1555,50 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * The DescribeRegions operation describes regions zones that are
+     * currently available to the account.
+     * </p>
+     *
+     * @param describeRegionsRequest Container for the necessary parameters
+     *           to execute the DescribeRegions operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeRegions service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeRegionsResult> describeRegionsAsync(
+            final DescribeRegionsRequest describeRegionsRequest,
+            final AsyncHandler<DescribeRegionsRequest, DescribeRegionsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeRegionsResult>() {
+            public DescribeRegionsResult call() throws Exception {
+                DescribeRegionsResult result;
+                try {
+                    result = describeRegions(describeRegionsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeRegionsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Creates a set of DHCP options that you can then associate with one or
@@ -780,6 +1633,55 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Creates a set of DHCP options that you can then associate with one or
+     * more VPCs, causing all existing and new instances that you launch in
+     * those VPCs to use the set of DHCP options. The following table lists
+     * the individual DHCP options you can specify. For more information
+     * about the options, go to <a
+     * href="http://www.ietf.org/rfc/rfc2132.txt">
+     * http://www.ietf.org/rfc/rfc2132.txt </a>
+     * </p>
+     *
+     * @param createDhcpOptionsRequest Container for the necessary parameters
+     *           to execute the CreateDhcpOptions operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateDhcpOptions service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateDhcpOptionsResult> createDhcpOptionsAsync(
+            final CreateDhcpOptionsRequest createDhcpOptionsRequest,
+            final AsyncHandler<CreateDhcpOptionsRequest, CreateDhcpOptionsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateDhcpOptionsResult>() {
+            public CreateDhcpOptionsResult call() throws Exception {
+                CreateDhcpOptionsResult result;
+                try {
+                    result = createDhcpOptions(createDhcpOptionsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createDhcpOptionsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Resets permission settings for the specified snapshot.
@@ -810,6 +1712,49 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Resets permission settings for the specified snapshot.
+     * </p>
+     *
+     * @param resetSnapshotAttributeRequest Container for the necessary
+     *           parameters to execute the ResetSnapshotAttribute operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ResetSnapshotAttribute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> resetSnapshotAttributeAsync(
+            final ResetSnapshotAttributeRequest resetSnapshotAttributeRequest,
+            final AsyncHandler<ResetSnapshotAttributeRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    resetSnapshotAttribute(resetSnapshotAttributeRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(resetSnapshotAttributeRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes a route from a route table in a VPC. For more information
@@ -842,6 +1787,51 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Deletes a route from a route table in a VPC. For more information
+     * about route tables, go to <a
+     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
+     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param deleteRouteRequest Container for the necessary parameters to
+     *           execute the DeleteRoute operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteRoute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteRouteAsync(
+            final DeleteRouteRequest deleteRouteRequest,
+            final AsyncHandler<DeleteRouteRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteRoute(deleteRouteRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteRouteRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Gives you information about your Internet gateways. You can filter
@@ -891,6 +1881,70 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Gives you information about your Internet gateways. You can filter
+     * the results to return information only about Internet gateways that
+     * match criteria you specify. For example, you could get information
+     * only about gateways with particular tags. The Internet gateway must
+     * match at least one of the specified values for it to be included in
+     * the results.
+     * </p>
+     * <p>
+     * You can specify multiple filters (e.g., the Internet gateway is
+     * attached to a particular VPC and is tagged with a particular value).
+     * The result includes information for a particular Internet gateway only
+     * if the gateway matches all your filters. If there's no match, no
+     * special message is returned; the response is simply empty.
+     * </p>
+     * <p>
+     * You can use wildcards with the filter values: an asterisk matches
+     * zero or more characters, and <code>?</code> matches exactly one
+     * character. You can escape special characters using a backslash before
+     * the character. For example, a value of <code>\*amazon\?\\</code>
+     * searches for the literal string <code>*amazon?\</code> .
+     * 
+     * </p>
+     *
+     * @param describeInternetGatewaysRequest Container for the necessary
+     *           parameters to execute the DescribeInternetGateways operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeInternetGateways service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeInternetGatewaysResult> describeInternetGatewaysAsync(
+            final DescribeInternetGatewaysRequest describeInternetGatewaysRequest,
+            final AsyncHandler<DescribeInternetGatewaysRequest, DescribeInternetGatewaysResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeInternetGatewaysResult>() {
+            public DescribeInternetGatewaysResult call() throws Exception {
+                DescribeInternetGatewaysResult result;
+                try {
+                    result = describeInternetGateways(describeInternetGatewaysRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeInternetGatewaysRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The DescribeSecurityGroups operation returns information about
@@ -929,21 +1983,27 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
     
     /**
      * <p>
-     * Detaches a VPN gateway from a VPC. You do this if you're planning to
-     * turn off the VPC and not use it anymore. You can confirm a VPN gateway
-     * has been completely detached from a VPC by describing the VPN gateway
-     * (any attachments to the VPN gateway are also described).
+     * The DescribeSecurityGroups operation returns information about
+     * security groups that you own.
      * </p>
      * <p>
-     * You must wait for the attachment's state to switch to detached before
-     * you can delete the VPC or attach a different VPC to the VPN gateway.
+     * If you specify security group names, information about those security
+     * group is returned. Otherwise, information for all security group is
+     * returned. If you specify a group that does not exist, a fault is
+     * returned.
      * </p>
      *
-     * @param detachVpnGatewayRequest Container for the necessary parameters
-     *           to execute the DetachVpnGateway operation on AmazonEC2.
+     * @param describeSecurityGroupsRequest Container for the necessary
+     *           parameters to execute the DescribeSecurityGroups operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
-     *         DetachVpnGateway service method, as returned by AmazonEC2.
+     *         DescribeSecurityGroups service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -953,9 +2013,54 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> detachVpnGatewayAsync(final DetachVpnGatewayRequest detachVpnGatewayRequest) 
-            throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+    public Future<DescribeSecurityGroupsResult> describeSecurityGroupsAsync(
+            final DescribeSecurityGroupsRequest describeSecurityGroupsRequest,
+            final AsyncHandler<DescribeSecurityGroupsRequest, DescribeSecurityGroupsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeSecurityGroupsResult>() {
+            public DescribeSecurityGroupsResult call() throws Exception {
+                DescribeSecurityGroupsResult result;
+                try {
+                    result = describeSecurityGroups(describeSecurityGroupsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeSecurityGroupsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Detaches a VPN gateway from a VPC. You do this if you're planning to
+     * turn off the VPC and not use it anymore. You can confirm a VPN gateway
+     * has been completely detached from a VPC by describing the VPN gateway
+     * (any attachments to the VPN gateway are also described).
+     * </p>
+     * <p>
+     * You must wait for the attachment's state to switch to detached before
+     * you can delete the VPC or attach a different VPC to the VPN gateway.
+     * </p>
+     *
+     * @param detachVpnGatewayRequest Container for the necessary parameters
+     *           to execute the DetachVpnGateway operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DetachVpnGateway service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> detachVpnGatewayAsync(final DetachVpnGatewayRequest detachVpnGatewayRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
             public Void call() throws Exception {
                 detachVpnGateway(detachVpnGatewayRequest);
                 return null;
@@ -963,6 +2068,55 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Detaches a VPN gateway from a VPC. You do this if you're planning to
+     * turn off the VPC and not use it anymore. You can confirm a VPN gateway
+     * has been completely detached from a VPC by describing the VPN gateway
+     * (any attachments to the VPN gateway are also described).
+     * </p>
+     * <p>
+     * You must wait for the attachment's state to switch to detached before
+     * you can delete the VPC or attach a different VPC to the VPN gateway.
+     * </p>
+     *
+     * @param detachVpnGatewayRequest Container for the necessary parameters
+     *           to execute the DetachVpnGateway operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DetachVpnGateway service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> detachVpnGatewayAsync(
+            final DetachVpnGatewayRequest detachVpnGatewayRequest,
+            final AsyncHandler<DetachVpnGatewayRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    detachVpnGateway(detachVpnGatewayRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(detachVpnGatewayRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The DeregisterImage operation deregisters an AMI. Once deregistered,
@@ -993,6 +2147,49 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * The DeregisterImage operation deregisters an AMI. Once deregistered,
+     * instances of the AMI can no longer be launched.
+     * </p>
+     *
+     * @param deregisterImageRequest Container for the necessary parameters
+     *           to execute the DeregisterImage operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeregisterImage service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deregisterImageAsync(
+            final DeregisterImageRequest deregisterImageRequest,
+            final AsyncHandler<DeregisterImageRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deregisterImage(deregisterImageRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deregisterImageRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Describes the data feed for Spot Instances.
@@ -1029,6 +2226,57 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Describes the data feed for Spot Instances.
+     * </p>
+     * <p>
+     * For conceptual information about Spot Instances, refer to the Amazon
+     * Elastic Compute Cloud Developer Guide or Amazon Elastic Compute Cloud
+     * User Guide .
+     * 
+     * </p>
+     *
+     * @param describeSpotDatafeedSubscriptionRequest Container for the
+     *           necessary parameters to execute the DescribeSpotDatafeedSubscription
+     *           operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeSpotDatafeedSubscription service method, as returned by
+     *         AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeSpotDatafeedSubscriptionResult> describeSpotDatafeedSubscriptionAsync(
+            final DescribeSpotDatafeedSubscriptionRequest describeSpotDatafeedSubscriptionRequest,
+            final AsyncHandler<DescribeSpotDatafeedSubscriptionRequest, DescribeSpotDatafeedSubscriptionResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeSpotDatafeedSubscriptionResult>() {
+            public DescribeSpotDatafeedSubscriptionResult call() throws Exception {
+                DescribeSpotDatafeedSubscriptionResult result;
+                try {
+                    result = describeSpotDatafeedSubscription(describeSpotDatafeedSubscriptionRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeSpotDatafeedSubscriptionRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes tags from the specified Amazon EC2 resources.
@@ -1060,16 +2308,19 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
     
     /**
      * <p>
-     * Deletes a subnet from a VPC. You must terminate all running instances
-     * in the subnet before deleting it, otherwise Amazon VPC returns an
-     * error.
+     * Deletes tags from the specified Amazon EC2 resources.
      * </p>
      *
-     * @param deleteSubnetRequest Container for the necessary parameters to
-     *           execute the DeleteSubnet operation on AmazonEC2.
+     * @param deleteTagsRequest Container for the necessary parameters to
+     *           execute the DeleteTags operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
-     *         DeleteSubnet service method, as returned by AmazonEC2.
+     *         DeleteTags service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1079,11 +2330,19 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteSubnetAsync(final DeleteSubnetRequest deleteSubnetRequest) 
-            throws AmazonServiceException, AmazonClientException {
+    public Future<Void> deleteTagsAsync(
+            final DeleteTagsRequest deleteTagsRequest,
+            final AsyncHandler<DeleteTagsRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<Void>() {
             public Void call() throws Exception {
-                deleteSubnet(deleteSubnetRequest);
+                try {
+                    deleteTags(deleteTagsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteTagsRequest, null);
                 return null;
 		    }
 		});
@@ -1091,16 +2350,16 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
     
     /**
      * <p>
-     * Creates a new VPN gateway. A VPN gateway is the VPC-side endpoint for
-     * your VPN connection. You can create a VPN gateway before creating the
-     * VPC itself.
+     * Deletes a subnet from a VPC. You must terminate all running instances
+     * in the subnet before deleting it, otherwise Amazon VPC returns an
+     * error.
      * </p>
      *
-     * @param createVpnGatewayRequest Container for the necessary parameters
-     *           to execute the CreateVpnGateway operation on AmazonEC2.
+     * @param deleteSubnetRequest Container for the necessary parameters to
+     *           execute the DeleteSubnet operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         CreateVpnGateway service method, as returned by AmazonEC2.
+     *         DeleteSubnet service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1110,30 +2369,33 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpnGatewayResult> createVpnGatewayAsync(final CreateVpnGatewayRequest createVpnGatewayRequest) 
+    public Future<Void> deleteSubnetAsync(final DeleteSubnetRequest deleteSubnetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnGatewayResult>() {
-            public CreateVpnGatewayResult call() throws Exception {
-                return createVpnGateway(createVpnGatewayRequest);
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                deleteSubnet(deleteSubnetRequest);
+                return null;
 		    }
 		});
     }
     
     /**
      * <p>
-     * Deletes a VPN gateway. Use this when you want to delete a VPC and all
-     * its associated components because you no longer need them. We
-     * recommend that before you delete a VPN gateway, you detach it from the
-     * VPC and delete the VPN connection. Note that you don't need to delete
-     * the VPN gateway if you just want to delete and re-create the VPN
-     * connection between your VPC and data center.
+     * Deletes a subnet from a VPC. You must terminate all running instances
+     * in the subnet before deleting it, otherwise Amazon VPC returns an
+     * error.
      * </p>
      *
-     * @param deleteVpnGatewayRequest Container for the necessary parameters
-     *           to execute the DeleteVpnGateway operation on AmazonEC2.
+     * @param deleteSubnetRequest Container for the necessary parameters to
+     *           execute the DeleteSubnet operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
-     *         DeleteVpnGateway service method, as returned by AmazonEC2.
+     *         DeleteSubnet service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1143,11 +2405,19 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVpnGatewayAsync(final DeleteVpnGatewayRequest deleteVpnGatewayRequest) 
-            throws AmazonServiceException, AmazonClientException {
+    public Future<Void> deleteSubnetAsync(
+            final DeleteSubnetRequest deleteSubnetRequest,
+            final AsyncHandler<DeleteSubnetRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<Void>() {
             public Void call() throws Exception {
-                deleteVpnGateway(deleteVpnGatewayRequest);
+                try {
+                    deleteSubnet(deleteSubnetRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteSubnetRequest, null);
                 return null;
 		    }
 		});
@@ -1155,14 +2425,16 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
     
     /**
      * <p>
-     * Attach a previously created volume to a running instance.
+     * Creates a new VPN gateway. A VPN gateway is the VPC-side endpoint for
+     * your VPN connection. You can create a VPN gateway before creating the
+     * VPC itself.
      * </p>
      *
-     * @param attachVolumeRequest Container for the necessary parameters to
-     *           execute the AttachVolume operation on AmazonEC2.
+     * @param createVpnGatewayRequest Container for the necessary parameters
+     *           to execute the CreateVpnGateway operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         AttachVolume service method, as returned by AmazonEC2.
+     *         CreateVpnGateway service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1172,27 +2444,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AttachVolumeResult> attachVolumeAsync(final AttachVolumeRequest attachVolumeRequest) 
+    public Future<CreateVpnGatewayResult> createVpnGatewayAsync(final CreateVpnGatewayRequest createVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVolumeResult>() {
-            public AttachVolumeResult call() throws Exception {
-                return attachVolume(attachVolumeRequest);
+        return executorService.submit(new Callable<CreateVpnGatewayResult>() {
+            public CreateVpnGatewayResult call() throws Exception {
+                return createVpnGateway(createVpnGatewayRequest);
 		    }
 		});
     }
     
     /**
      * <p>
-     * Provides details of a user's registered licenses. Zero or more IDs
-     * may be specified on the call. When one or more license IDs are
-     * specified, only data for the specified IDs are returned.
+     * Creates a new VPN gateway. A VPN gateway is the VPC-side endpoint for
+     * your VPN connection. You can create a VPN gateway before creating the
+     * VPC itself.
      * </p>
      *
-     * @param describeLicensesRequest Container for the necessary parameters
-     *           to execute the DescribeLicenses operation on AmazonEC2.
+     * @param createVpnGatewayRequest Container for the necessary parameters
+     *           to execute the CreateVpnGateway operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeLicenses service method, as returned by AmazonEC2.
+     *         CreateVpnGateway service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1202,26 +2479,40 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeLicensesResult> describeLicensesAsync(final DescribeLicensesRequest describeLicensesRequest) 
-            throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLicensesResult>() {
-            public DescribeLicensesResult call() throws Exception {
-                return describeLicenses(describeLicensesRequest);
+    public Future<CreateVpnGatewayResult> createVpnGatewayAsync(
+            final CreateVpnGatewayRequest createVpnGatewayRequest,
+            final AsyncHandler<CreateVpnGatewayRequest, CreateVpnGatewayResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateVpnGatewayResult>() {
+            public CreateVpnGatewayResult call() throws Exception {
+                CreateVpnGatewayResult result;
+                try {
+                    result = createVpnGateway(createVpnGatewayRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createVpnGatewayRequest, result);
+                return result;
 		    }
 		});
     }
     
     /**
      * <p>
-     * Activates a specific number of licenses for a 90-day period.
-     * Activations can be done against a specific license ID.
+     * Deletes a VPN gateway. Use this when you want to delete a VPC and all
+     * its associated components because you no longer need them. We
+     * recommend that before you delete a VPN gateway, you detach it from the
+     * VPC and delete the VPN connection. Note that you don't need to delete
+     * the VPN gateway if you just want to delete and re-create the VPN
+     * connection between your VPC and data center.
      * </p>
      *
-     * @param activateLicenseRequest Container for the necessary parameters
-     *           to execute the ActivateLicense operation on AmazonEC2.
+     * @param deleteVpnGatewayRequest Container for the necessary parameters
+     *           to execute the DeleteVpnGateway operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         ActivateLicense service method, as returned by AmazonEC2.
+     *         DeleteVpnGateway service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1231,11 +2522,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> activateLicenseAsync(final ActivateLicenseRequest activateLicenseRequest) 
+    public Future<Void> deleteVpnGatewayAsync(final DeleteVpnGatewayRequest deleteVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<Void>() {
             public Void call() throws Exception {
-                activateLicense(activateLicenseRequest);
+                deleteVpnGateway(deleteVpnGatewayRequest);
                 return null;
 		    }
 		});
@@ -1243,18 +2534,24 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
     
     /**
      * <p>
-     * The ResetImageAttribute operation resets an attribute of an AMI to
-     * its default value.
-     * </p>
-     * <p>
-     * <b>NOTE:</b> The productCodes attribute cannot be reset.
+     * Deletes a VPN gateway. Use this when you want to delete a VPC and all
+     * its associated components because you no longer need them. We
+     * recommend that before you delete a VPN gateway, you detach it from the
+     * VPC and delete the VPN connection. Note that you don't need to delete
+     * the VPN gateway if you just want to delete and re-create the VPN
+     * connection between your VPC and data center.
      * </p>
      *
-     * @param resetImageAttributeRequest Container for the necessary
-     *           parameters to execute the ResetImageAttribute operation on AmazonEC2.
+     * @param deleteVpnGatewayRequest Container for the necessary parameters
+     *           to execute the DeleteVpnGateway operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
-     *         ResetImageAttribute service method, as returned by AmazonEC2.
+     *         DeleteVpnGateway service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1264,11 +2561,19 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> resetImageAttributeAsync(final ResetImageAttributeRequest resetImageAttributeRequest) 
-            throws AmazonServiceException, AmazonClientException {
+    public Future<Void> deleteVpnGatewayAsync(
+            final DeleteVpnGatewayRequest deleteVpnGatewayRequest,
+            final AsyncHandler<DeleteVpnGatewayRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<Void>() {
             public Void call() throws Exception {
-                resetImageAttribute(resetImageAttributeRequest);
+                try {
+                    deleteVpnGateway(deleteVpnGatewayRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteVpnGatewayRequest, null);
                 return null;
 		    }
 		});
@@ -1276,7 +2581,305 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
     
     /**
      * <p>
-     * Gives you information about your VPN connections.
+     * Attach a previously created volume to a running instance.
+     * </p>
+     *
+     * @param attachVolumeRequest Container for the necessary parameters to
+     *           execute the AttachVolume operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AttachVolume service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<AttachVolumeResult> attachVolumeAsync(final AttachVolumeRequest attachVolumeRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<AttachVolumeResult>() {
+            public AttachVolumeResult call() throws Exception {
+                return attachVolume(attachVolumeRequest);
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Attach a previously created volume to a running instance.
+     * </p>
+     *
+     * @param attachVolumeRequest Container for the necessary parameters to
+     *           execute the AttachVolume operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AttachVolume service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<AttachVolumeResult> attachVolumeAsync(
+            final AttachVolumeRequest attachVolumeRequest,
+            final AsyncHandler<AttachVolumeRequest, AttachVolumeResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<AttachVolumeResult>() {
+            public AttachVolumeResult call() throws Exception {
+                AttachVolumeResult result;
+                try {
+                    result = attachVolume(attachVolumeRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(attachVolumeRequest, result);
+                return result;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Provides details of a user's registered licenses. Zero or more IDs
+     * may be specified on the call. When one or more license IDs are
+     * specified, only data for the specified IDs are returned.
+     * </p>
+     *
+     * @param describeLicensesRequest Container for the necessary parameters
+     *           to execute the DescribeLicenses operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeLicenses service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeLicensesResult> describeLicensesAsync(final DescribeLicensesRequest describeLicensesRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeLicensesResult>() {
+            public DescribeLicensesResult call() throws Exception {
+                return describeLicenses(describeLicensesRequest);
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Provides details of a user's registered licenses. Zero or more IDs
+     * may be specified on the call. When one or more license IDs are
+     * specified, only data for the specified IDs are returned.
+     * </p>
+     *
+     * @param describeLicensesRequest Container for the necessary parameters
+     *           to execute the DescribeLicenses operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeLicenses service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeLicensesResult> describeLicensesAsync(
+            final DescribeLicensesRequest describeLicensesRequest,
+            final AsyncHandler<DescribeLicensesRequest, DescribeLicensesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeLicensesResult>() {
+            public DescribeLicensesResult call() throws Exception {
+                DescribeLicensesResult result;
+                try {
+                    result = describeLicenses(describeLicensesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeLicensesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Activates a specific number of licenses for a 90-day period.
+     * Activations can be done against a specific license ID.
+     * </p>
+     *
+     * @param activateLicenseRequest Container for the necessary parameters
+     *           to execute the ActivateLicense operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ActivateLicense service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> activateLicenseAsync(final ActivateLicenseRequest activateLicenseRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                activateLicense(activateLicenseRequest);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Activates a specific number of licenses for a 90-day period.
+     * Activations can be done against a specific license ID.
+     * </p>
+     *
+     * @param activateLicenseRequest Container for the necessary parameters
+     *           to execute the ActivateLicense operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ActivateLicense service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> activateLicenseAsync(
+            final ActivateLicenseRequest activateLicenseRequest,
+            final AsyncHandler<ActivateLicenseRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    activateLicense(activateLicenseRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(activateLicenseRequest, null);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * The ResetImageAttribute operation resets an attribute of an AMI to
+     * its default value.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> The productCodes attribute cannot be reset.
+     * </p>
+     *
+     * @param resetImageAttributeRequest Container for the necessary
+     *           parameters to execute the ResetImageAttribute operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ResetImageAttribute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> resetImageAttributeAsync(final ResetImageAttributeRequest resetImageAttributeRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                resetImageAttribute(resetImageAttributeRequest);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * The ResetImageAttribute operation resets an attribute of an AMI to
+     * its default value.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> The productCodes attribute cannot be reset.
+     * </p>
+     *
+     * @param resetImageAttributeRequest Container for the necessary
+     *           parameters to execute the ResetImageAttribute operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ResetImageAttribute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> resetImageAttributeAsync(
+            final ResetImageAttributeRequest resetImageAttributeRequest,
+            final AsyncHandler<ResetImageAttributeRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    resetImageAttribute(resetImageAttributeRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(resetImageAttributeRequest, null);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Gives you information about your VPN connections.
      * </p>
      * <p>
      * <b>IMPORTANT:</b> We strongly recommend you use HTTPS when calling
@@ -1318,6 +2921,65 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Gives you information about your VPN connections.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> We strongly recommend you use HTTPS when calling
+     * this operation because the response contains sensitive cryptographic
+     * information for configuring your customer gateway. You can filter the
+     * results to return information only about VPN connections that match
+     * criteria you specify. For example, you could ask to get information
+     * about a particular VPN connection (or all) only if the VPN's state is
+     * pending or available. You can specify multiple filters (e.g., the VPN
+     * connection is associated with a particular VPN gateway, and the
+     * gateway's state is pending or available). The result includes
+     * information for a particular VPN connection only if the VPN connection
+     * matches all your filters. If there's no match, no special message is
+     * returned; the response is simply empty. The following table shows the
+     * available filters.
+     * </p>
+     *
+     * @param describeVpnConnectionsRequest Container for the necessary
+     *           parameters to execute the DescribeVpnConnections operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeVpnConnections service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeVpnConnectionsResult> describeVpnConnectionsAsync(
+            final DescribeVpnConnectionsRequest describeVpnConnectionsRequest,
+            final AsyncHandler<DescribeVpnConnectionsRequest, DescribeVpnConnectionsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeVpnConnectionsResult>() {
+            public DescribeVpnConnectionsResult call() throws Exception {
+                DescribeVpnConnectionsResult result;
+                try {
+                    result = describeVpnConnections(describeVpnConnectionsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeVpnConnectionsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Create a snapshot of the volume identified by volume ID. A volume
@@ -1356,6 +3018,59 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Create a snapshot of the volume identified by volume ID. A volume
+     * does not have to be detached at the time the snapshot is taken.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> Snapshot creation requires that the system is in a
+     * consistent state. For instance, this means that if taking a snapshot
+     * of a database, the tables must be read-only locked to ensure that the
+     * snapshot will not contain a corrupted version of the database.
+     * Therefore, be careful when using this API to ensure that the system
+     * remains in the consistent state until the create snapshot status has
+     * returned.
+     * </p>
+     *
+     * @param createSnapshotRequest Container for the necessary parameters to
+     *           execute the CreateSnapshot operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateSnapshot service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateSnapshotResult> createSnapshotAsync(
+            final CreateSnapshotRequest createSnapshotRequest,
+            final AsyncHandler<CreateSnapshotRequest, CreateSnapshotResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateSnapshotResult>() {
+            public CreateSnapshotResult call() throws Exception {
+                CreateSnapshotResult result;
+                try {
+                    result = createSnapshot(createSnapshotRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createSnapshotRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes a previously created volume. Once successfully deleted, a
@@ -1386,6 +3101,49 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Deletes a previously created volume. Once successfully deleted, a
+     * new volume can be created with the same name.
+     * </p>
+     *
+     * @param deleteVolumeRequest Container for the necessary parameters to
+     *           execute the DeleteVolume operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteVolume service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteVolumeAsync(
+            final DeleteVolumeRequest deleteVolumeRequest,
+            final AsyncHandler<DeleteVolumeRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteVolume(deleteVolumeRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteVolumeRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Gives you information about your VPCs. You can filter the results to
@@ -1404,11 +3162,97 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      * simply empty. The following table shows the available filters.
      * </p>
      *
-     * @param describeVpcsRequest Container for the necessary parameters to
-     *           execute the DescribeVpcs operation on AmazonEC2.
+     * @param describeVpcsRequest Container for the necessary parameters to
+     *           execute the DescribeVpcs operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeVpcs service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeVpcsResult> describeVpcsAsync(final DescribeVpcsRequest describeVpcsRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeVpcsResult>() {
+            public DescribeVpcsResult call() throws Exception {
+                return describeVpcs(describeVpcsRequest);
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Gives you information about your VPCs. You can filter the results to
+     * return information only about VPCs that match criteria you specify.
+     * </p>
+     * <p>
+     * For example, you could ask to get information about a particular VPC
+     * or VPCs (or all your VPCs) only if the VPC's state is available. You
+     * can specify multiple filters (e.g., the VPC uses one of several sets
+     * of DHCP options, and the VPC's state is available). The result
+     * includes information for a particular VPC only if the VPC matches all
+     * your filters.
+     * </p>
+     * <p>
+     * If there's no match, no special message is returned; the response is
+     * simply empty. The following table shows the available filters.
+     * </p>
+     *
+     * @param describeVpcsRequest Container for the necessary parameters to
+     *           execute the DescribeVpcs operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeVpcs service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeVpcsResult> describeVpcsAsync(
+            final DescribeVpcsRequest describeVpcsRequest,
+            final AsyncHandler<DescribeVpcsRequest, DescribeVpcsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeVpcsResult>() {
+            public DescribeVpcsResult call() throws Exception {
+                DescribeVpcsResult result;
+                try {
+                    result = describeVpcs(describeVpcsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeVpcsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Deactivates a specific number of licenses. Deactivations can be done
+     * against a specific license ID after they have persisted for at least a
+     * 90-day period.
+     * </p>
+     *
+     * @param deactivateLicenseRequest Container for the necessary parameters
+     *           to execute the DeactivateLicense operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeVpcs service method, as returned by AmazonEC2.
+     *         DeactivateLicense service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1418,11 +3262,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcsResult> describeVpcsAsync(final DescribeVpcsRequest describeVpcsRequest) 
+    public Future<Void> deactivateLicenseAsync(final DeactivateLicenseRequest deactivateLicenseRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcsResult>() {
-            public DescribeVpcsResult call() throws Exception {
-                return describeVpcs(describeVpcsRequest);
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                deactivateLicense(deactivateLicenseRequest);
+                return null;
 		    }
 		});
     }
@@ -1436,6 +3281,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *
      * @param deactivateLicenseRequest Container for the necessary parameters
      *           to execute the DeactivateLicense operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
      *         DeactivateLicense service method, as returned by AmazonEC2.
@@ -1448,11 +3298,19 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deactivateLicenseAsync(final DeactivateLicenseRequest deactivateLicenseRequest) 
-            throws AmazonServiceException, AmazonClientException {
+    public Future<Void> deactivateLicenseAsync(
+            final DeactivateLicenseRequest deactivateLicenseRequest,
+            final AsyncHandler<DeactivateLicenseRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<Void>() {
             public Void call() throws Exception {
-                deactivateLicense(deactivateLicenseRequest);
+                try {
+                    deactivateLicense(deactivateLicenseRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deactivateLicenseRequest, null);
                 return null;
 		    }
 		});
@@ -1493,6 +3351,56 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * The AssociateAddress operation associates an elastic IP address with
+     * an instance.
+     * </p>
+     * <p>
+     * If the IP address is currently assigned to another instance, the IP
+     * address is assigned to the new instance. This is an idempotent
+     * operation. If you enter it more than once, Amazon EC2 does not return
+     * an error.
+     * </p>
+     *
+     * @param associateAddressRequest Container for the necessary parameters
+     *           to execute the AssociateAddress operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AssociateAddress service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<AssociateAddressResult> associateAddressAsync(
+            final AssociateAddressRequest associateAddressRequest,
+            final AsyncHandler<AssociateAddressRequest, AssociateAddressResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<AssociateAddressResult>() {
+            public AssociateAddressResult call() throws Exception {
+                AssociateAddressResult result;
+                try {
+                    result = associateAddress(associateAddressRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(associateAddressRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes a customer gateway. You must delete the VPN connection before
@@ -1530,6 +3438,56 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Deletes a customer gateway. You must delete the VPN connection before
+     * deleting the customer gateway.
+     * </p>
+     * <p>
+     * You can have a single active customer gateway per AWS account (active
+     * means that you've created a VPN connection with that customer
+     * gateway). AWS might delete any customer gateway you leave inactive for
+     * an extended period of time.
+     * </p>
+     *
+     * @param deleteCustomerGatewayRequest Container for the necessary
+     *           parameters to execute the DeleteCustomerGateway operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteCustomerGateway service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteCustomerGatewayAsync(
+            final DeleteCustomerGatewayRequest deleteCustomerGatewayRequest,
+            final AsyncHandler<DeleteCustomerGatewayRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteCustomerGateway(deleteCustomerGatewayRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteCustomerGatewayRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Creates an entry (i.e., rule) in a network ACL with a rule number you
@@ -1579,6 +3537,68 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Creates an entry (i.e., rule) in a network ACL with a rule number you
+     * specify. Each network ACL has a set of numbered ingress rules and a
+     * separate set of numbered egress rules. When determining whether a
+     * packet should be allowed in or out of a subnet associated with the
+     * ACL, Amazon VPC processes the entries in the ACL according to the rule
+     * numbers, in ascending order.
+     * </p>
+     * <p>
+     * <b>Important:</b> We recommend that you leave room between the rules
+     * (e.g., 100, 110, 120, etc.), and not number them sequentially (101,
+     * 102, 103, etc.). This allows you to easily add a new rule between
+     * existing ones without having to renumber the rules.
+     * </p>
+     * <p>
+     * After you add an entry, you can't modify it; you must either replace
+     * it, or create a new entry and delete the old one.
+     * </p>
+     * <p>
+     * For more information about network ACLs, go to Network ACLs in the
+     * Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param createNetworkAclEntryRequest Container for the necessary
+     *           parameters to execute the CreateNetworkAclEntry operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateNetworkAclEntry service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> createNetworkAclEntryAsync(
+            final CreateNetworkAclEntryRequest createNetworkAclEntryRequest,
+            final AsyncHandler<CreateNetworkAclEntryRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    createNetworkAclEntry(createNetworkAclEntryRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createNetworkAclEntryRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Detaches an Internet gateway from a VPC, disabling connectivity
@@ -1617,6 +3637,89 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Detaches an Internet gateway from a VPC, disabling connectivity
+     * between the Internet and the VPC. The VPC must not contain any running
+     * instances with elastic IP addresses. For more information about your
+     * VPC and Internet gateway, go to Amazon Virtual Private Cloud User
+     * Guide.
+     * </p>
+     * <p>
+     * For more information about Amazon Virtual Private Cloud and Internet
+     * gateways, go to the Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param detachInternetGatewayRequest Container for the necessary
+     *           parameters to execute the DetachInternetGateway operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DetachInternetGateway service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> detachInternetGatewayAsync(
+            final DetachInternetGatewayRequest detachInternetGatewayRequest,
+            final AsyncHandler<DetachInternetGatewayRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    detachInternetGateway(detachInternetGatewayRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(detachInternetGatewayRequest, null);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Creates a new route table within a VPC. After you create a new route
+     * table, you can add routes and associate the table with a subnet. For
+     * more information about route tables, go to <a
+     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
+     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param createRouteTableRequest Container for the necessary parameters
+     *           to execute the CreateRouteTable operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateRouteTable service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateRouteTableResult> createRouteTableAsync(final CreateRouteTableRequest createRouteTableRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateRouteTableResult>() {
+            public CreateRouteTableResult call() throws Exception {
+                return createRouteTable(createRouteTableRequest);
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Creates a new route table within a VPC. After you create a new route
@@ -1626,11 +3729,91 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
      * </p>
      *
-     * @param createRouteTableRequest Container for the necessary parameters
-     *           to execute the CreateRouteTable operation on AmazonEC2.
+     * @param createRouteTableRequest Container for the necessary parameters
+     *           to execute the CreateRouteTable operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateRouteTable service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateRouteTableResult> createRouteTableAsync(
+            final CreateRouteTableRequest createRouteTableRequest,
+            final AsyncHandler<CreateRouteTableRequest, CreateRouteTableResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateRouteTableResult>() {
+            public CreateRouteTableResult call() throws Exception {
+                CreateRouteTableResult result;
+                try {
+                    result = createRouteTable(createRouteTableRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createRouteTableRequest, result);
+                return result;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Describes the status of the indicated volume or, in lieu of any
+     * specified, all volumes belonging to the caller. Volumes that have been
+     * deleted are not described.
+     * </p>
+     *
+     * @param describeVolumesRequest Container for the necessary parameters
+     *           to execute the DescribeVolumes operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeVolumes service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeVolumesResult> describeVolumesAsync(final DescribeVolumesRequest describeVolumesRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeVolumesResult>() {
+            public DescribeVolumesResult call() throws Exception {
+                return describeVolumes(describeVolumesRequest);
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Describes the status of the indicated volume or, in lieu of any
+     * specified, all volumes belonging to the caller. Volumes that have been
+     * deleted are not described.
+     * </p>
+     *
+     * @param describeVolumesRequest Container for the necessary parameters
+     *           to execute the DescribeVolumes operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
-     *         CreateRouteTable service method, as returned by AmazonEC2.
+     *         DescribeVolumes service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1640,27 +3823,55 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateRouteTableResult> createRouteTableAsync(final CreateRouteTableRequest createRouteTableRequest) 
-            throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteTableResult>() {
-            public CreateRouteTableResult call() throws Exception {
-                return createRouteTable(createRouteTableRequest);
+    public Future<DescribeVolumesResult> describeVolumesAsync(
+            final DescribeVolumesRequest describeVolumesRequest,
+            final AsyncHandler<DescribeVolumesRequest, DescribeVolumesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeVolumesResult>() {
+            public DescribeVolumesResult call() throws Exception {
+                DescribeVolumesResult result;
+                try {
+                    result = describeVolumes(describeVolumesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeVolumesRequest, result);
+                return result;
 		    }
 		});
     }
     
     /**
      * <p>
-     * Describes the status of the indicated volume or, in lieu of any
-     * specified, all volumes belonging to the caller. Volumes that have been
-     * deleted are not described.
+     * Gives you information about your route tables. You can filter the
+     * results to return information only about tables that match criteria
+     * you specify. For example, you could get information only about a table
+     * associated with a particular subnet. You can specify multiple values
+     * for the filter. The table must match at least one of the specified
+     * values for it to be included in the results.
+     * </p>
+     * <p>
+     * You can specify multiple filters (e.g., the table has a particular
+     * route, and is associated with a particular subnet). The result
+     * includes information for a particular table only if it matches all
+     * your filters. If there's no match, no special message is returned; the
+     * response is simply empty.
+     * </p>
+     * <p>
+     * You can use wildcards with the filter values: an asterisk matches
+     * zero or more characters, and <code>?</code> matches exactly one
+     * character. You can escape special characters using a backslash before
+     * the character. For example, a value of <code>\*amazon\?\\</code>
+     * searches for the literal string <code>*amazon?\</code> .
+     * 
      * </p>
      *
-     * @param describeVolumesRequest Container for the necessary parameters
-     *           to execute the DescribeVolumes operation on AmazonEC2.
+     * @param describeRouteTablesRequest Container for the necessary
+     *           parameters to execute the DescribeRouteTables operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeVolumes service method, as returned by AmazonEC2.
+     *         DescribeRouteTables service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1670,11 +3881,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVolumesResult> describeVolumesAsync(final DescribeVolumesRequest describeVolumesRequest) 
+    public Future<DescribeRouteTablesResult> describeRouteTablesAsync(final DescribeRouteTablesRequest describeRouteTablesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumesResult>() {
-            public DescribeVolumesResult call() throws Exception {
-                return describeVolumes(describeVolumesRequest);
+        return executorService.submit(new Callable<DescribeRouteTablesResult>() {
+            public DescribeRouteTablesResult call() throws Exception {
+                return describeRouteTables(describeRouteTablesRequest);
 		    }
 		});
     }
@@ -1706,6 +3917,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *
      * @param describeRouteTablesRequest Container for the necessary
      *           parameters to execute the DescribeRouteTables operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
      *         DescribeRouteTables service method, as returned by AmazonEC2.
@@ -1718,11 +3934,21 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeRouteTablesResult> describeRouteTablesAsync(final DescribeRouteTablesRequest describeRouteTablesRequest) 
-            throws AmazonServiceException, AmazonClientException {
+    public Future<DescribeRouteTablesResult> describeRouteTablesAsync(
+            final DescribeRouteTablesRequest describeRouteTablesRequest,
+            final AsyncHandler<DescribeRouteTablesRequest, DescribeRouteTablesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<DescribeRouteTablesResult>() {
             public DescribeRouteTablesResult call() throws Exception {
-                return describeRouteTables(describeRouteTablesRequest);
+                DescribeRouteTablesResult result;
+                try {
+                    result = describeRouteTables(describeRouteTablesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeRouteTablesRequest, result);
+                return result;
 		    }
 		});
     }
@@ -1755,6 +3981,49 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Enables monitoring for a running instance.
+     * </p>
+     *
+     * @param monitorInstancesRequest Container for the necessary parameters
+     *           to execute the MonitorInstances operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         MonitorInstances service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<MonitorInstancesResult> monitorInstancesAsync(
+            final MonitorInstancesRequest monitorInstancesRequest,
+            final AsyncHandler<MonitorInstancesRequest, MonitorInstancesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<MonitorInstancesResult>() {
+            public MonitorInstancesResult call() throws Exception {
+                MonitorInstancesResult result;
+                try {
+                    result = monitorInstances(monitorInstancesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(monitorInstancesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Gives you information about one or more sets of DHCP options. You can
@@ -1791,6 +4060,57 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Gives you information about one or more sets of DHCP options. You can
+     * specify one or more DHCP options set IDs, or no IDs (to describe all
+     * your sets of DHCP options). The returned information consists of:
+     * </p>
+     * 
+     * <ul>
+     * <li> The DHCP options set ID </li>
+     * <li> The options </li>
+     * 
+     * </ul>
+     *
+     * @param describeDhcpOptionsRequest Container for the necessary
+     *           parameters to execute the DescribeDhcpOptions operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeDhcpOptions service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeDhcpOptionsResult> describeDhcpOptionsAsync(
+            final DescribeDhcpOptionsRequest describeDhcpOptionsRequest,
+            final AsyncHandler<DescribeDhcpOptionsRequest, DescribeDhcpOptionsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeDhcpOptionsResult>() {
+            public DescribeDhcpOptionsResult call() throws Exception {
+                DescribeDhcpOptionsResult result;
+                try {
+                    result = describeDhcpOptions(describeDhcpOptionsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeDhcpOptionsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Gives you information about the network ACLs in your VPC. You can
@@ -1838,6 +4158,68 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Gives you information about the network ACLs in your VPC. You can
+     * filter the results to return information only about ACLs that match
+     * criteria you specify. For example, you could get information only the
+     * ACL associated with a particular subnet. The ACL must match at least
+     * one of the specified values for it to be included in the results.
+     * </p>
+     * <p>
+     * You can specify multiple filters (e.g., the ACL is associated with a
+     * particular subnet and has an egress entry that denies traffic to a
+     * particular port). The result includes information for a particular ACL
+     * only if it matches all your filters. If there's no match, no special
+     * message is returned; the response is simply empty.
+     * </p>
+     * <p>
+     * You can use wildcards with the filter values: an asterisk matches
+     * zero or more characters, and <code>?</code> matches exactly one
+     * character. You can escape special characters using a backslash before
+     * the character. For example, a value of <code>\*amazon\?\\</code>
+     * searches for the literal string <code>*amazon?\</code> .
+     * 
+     * </p>
+     *
+     * @param describeNetworkAclsRequest Container for the necessary
+     *           parameters to execute the DescribeNetworkAcls operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeNetworkAcls service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeNetworkAclsResult> describeNetworkAclsAsync(
+            final DescribeNetworkAclsRequest describeNetworkAclsRequest,
+            final AsyncHandler<DescribeNetworkAclsRequest, DescribeNetworkAclsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeNetworkAclsResult>() {
+            public DescribeNetworkAclsResult call() throws Exception {
+                DescribeNetworkAclsResult result;
+                try {
+                    result = describeNetworkAcls(describeNetworkAclsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeNetworkAclsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The DescribeBundleTasks operation describes in-progress and recent
@@ -1869,6 +4251,52 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * The DescribeBundleTasks operation describes in-progress and recent
+     * bundle tasks. Complete and failed tasks are removed from the list a
+     * short time after completion. If no bundle ids are given, all bundle
+     * tasks are returned.
+     * </p>
+     *
+     * @param describeBundleTasksRequest Container for the necessary
+     *           parameters to execute the DescribeBundleTasks operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeBundleTasks service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeBundleTasksResult> describeBundleTasksAsync(
+            final DescribeBundleTasksRequest describeBundleTasksRequest,
+            final AsyncHandler<DescribeBundleTasksRequest, DescribeBundleTasksResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeBundleTasksResult>() {
+            public DescribeBundleTasksResult call() throws Exception {
+                DescribeBundleTasksResult result;
+                try {
+                    result = describeBundleTasks(describeBundleTasksRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeBundleTasksRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The RevokeSecurityGroupIngress operation revokes permissions from a
@@ -1912,6 +4340,97 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * The RevokeSecurityGroupIngress operation revokes permissions from a
+     * security group. The permissions used to revoke must be specified using
+     * the same values used to grant the permissions.
+     * </p>
+     * <p>
+     * Permissions are specified by IP protocol (TCP, UDP, or ICMP), the
+     * source of the request (by IP range or an Amazon EC2 user-group pair),
+     * the source and destination port ranges (for TCP and UDP), and the ICMP
+     * codes and types (for ICMP).
+     * </p>
+     * <p>
+     * Permission changes are quickly propagated to instances within the
+     * security group. However, depending on the number of instances in the
+     * group, a small delay might occur.
+     * </p>
+     *
+     * @param revokeSecurityGroupIngressRequest Container for the necessary
+     *           parameters to execute the RevokeSecurityGroupIngress operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RevokeSecurityGroupIngress service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> revokeSecurityGroupIngressAsync(
+            final RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest,
+            final AsyncHandler<RevokeSecurityGroupIngressRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    revokeSecurityGroupIngress(revokeSecurityGroupIngressRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(revokeSecurityGroupIngressRequest, null);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * The GetConsoleOutput operation retrieves console output for the
+     * specified instance.
+     * </p>
+     * <p>
+     * Instance console output is buffered and posted shortly after instance
+     * boot, reboot, and termination. Amazon EC2 preserves the most recent 64
+     * KB output which will be available for at least one hour after the most
+     * recent post.
+     * </p>
+     *
+     * @param getConsoleOutputRequest Container for the necessary parameters
+     *           to execute the GetConsoleOutput operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetConsoleOutput service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetConsoleOutputResult> getConsoleOutputAsync(final GetConsoleOutputRequest getConsoleOutputRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<GetConsoleOutputResult>() {
+            public GetConsoleOutputResult call() throws Exception {
+                return getConsoleOutput(getConsoleOutputRequest);
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The GetConsoleOutput operation retrieves console output for the
@@ -1926,6 +4445,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *
      * @param getConsoleOutputRequest Container for the necessary parameters
      *           to execute the GetConsoleOutput operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
      *         GetConsoleOutput service method, as returned by AmazonEC2.
@@ -1938,11 +4462,21 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<GetConsoleOutputResult> getConsoleOutputAsync(final GetConsoleOutputRequest getConsoleOutputRequest) 
-            throws AmazonServiceException, AmazonClientException {
+    public Future<GetConsoleOutputResult> getConsoleOutputAsync(
+            final GetConsoleOutputRequest getConsoleOutputRequest,
+            final AsyncHandler<GetConsoleOutputRequest, GetConsoleOutputResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<GetConsoleOutputResult>() {
             public GetConsoleOutputResult call() throws Exception {
-                return getConsoleOutput(getConsoleOutputRequest);
+                GetConsoleOutputResult result;
+                try {
+                    result = getConsoleOutput(getConsoleOutputRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(getConsoleOutputRequest, result);
+                return result;
 		    }
 		});
     }
@@ -1980,6 +4514,54 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Creates a new Internet gateway in your AWS account. After creating
+     * the Internet gateway, you then attach it to a VPC using
+     * <code>AttachInternetGateway</code> . For more information about your
+     * VPC and Internet gateway, go to Amazon Virtual Private Cloud User
+     * Guide.
+     * </p>
+     *
+     * @param createInternetGatewayRequest Container for the necessary
+     *           parameters to execute the CreateInternetGateway operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateInternetGateway service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateInternetGatewayResult> createInternetGatewayAsync(
+            final CreateInternetGatewayRequest createInternetGatewayRequest,
+            final AsyncHandler<CreateInternetGatewayRequest, CreateInternetGatewayResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateInternetGatewayResult>() {
+            public CreateInternetGatewayResult call() throws Exception {
+                CreateInternetGatewayResult result;
+                try {
+                    result = createInternetGateway(createInternetGatewayRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createInternetGatewayRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The ModifyImageAttribute operation modifies an attribute of an AMI.
@@ -2009,6 +4591,48 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * The ModifyImageAttribute operation modifies an attribute of an AMI.
+     * </p>
+     *
+     * @param modifyImageAttributeRequest Container for the necessary
+     *           parameters to execute the ModifyImageAttribute operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ModifyImageAttribute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> modifyImageAttributeAsync(
+            final ModifyImageAttributeRequest modifyImageAttributeRequest,
+            final AsyncHandler<ModifyImageAttributeRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    modifyImageAttribute(modifyImageAttributeRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(modifyImageAttributeRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Provides information to AWS about your customer gateway device. The
@@ -2058,6 +4682,70 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Provides information to AWS about your customer gateway device. The
+     * customer gateway is the appliance at your end of the VPN connection
+     * (compared to the VPN gateway, which is the device at the AWS side of
+     * the VPN connection). You can have a single active customer gateway per
+     * AWS account (active means that you've created a VPN connection to use
+     * with the customer gateway). AWS might delete any customer gateway that
+     * you create with this operation if you leave it inactive for an
+     * extended period of time.
+     * </p>
+     * <p>
+     * You must provide the Internet-routable IP address of the customer
+     * gateway's external interface. The IP address must be static.
+     * </p>
+     * <p>
+     * You must also provide the device's Border Gateway Protocol (BGP)
+     * Autonomous System Number (ASN). You can use an existing ASN assigned
+     * to your network. If you don't have an ASN already, you can use a
+     * private ASN (in the 64512 - 65534 range). For more information about
+     * ASNs, go to <a
+     * href="http://en.wikipedia.org/wiki/Autonomous_system_%28Internet%29">
+     * http://en.wikipedia.org/wiki/Autonomous_system_%28Internet%29 </a> .
+     * </p>
+     *
+     * @param createCustomerGatewayRequest Container for the necessary
+     *           parameters to execute the CreateCustomerGateway operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateCustomerGateway service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateCustomerGatewayResult> createCustomerGatewayAsync(
+            final CreateCustomerGatewayRequest createCustomerGatewayRequest,
+            final AsyncHandler<CreateCustomerGatewayRequest, CreateCustomerGatewayResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateCustomerGatewayResult>() {
+            public CreateCustomerGatewayResult call() throws Exception {
+                CreateCustomerGatewayResult result;
+                try {
+                    result = createCustomerGateway(createCustomerGatewayRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createCustomerGatewayRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Creates the data feed for Spot Instances, enabling you to view Spot
@@ -2095,6 +4783,58 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Creates the data feed for Spot Instances, enabling you to view Spot
+     * Instance usage logs. You can create one data feed per account.
+     * </p>
+     * <p>
+     * For conceptual information about Spot Instances, refer to the Amazon
+     * Elastic Compute Cloud Developer Guide or Amazon Elastic Compute Cloud
+     * User Guide .
+     * 
+     * </p>
+     *
+     * @param createSpotDatafeedSubscriptionRequest Container for the
+     *           necessary parameters to execute the CreateSpotDatafeedSubscription
+     *           operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateSpotDatafeedSubscription service method, as returned by
+     *         AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateSpotDatafeedSubscriptionResult> createSpotDatafeedSubscriptionAsync(
+            final CreateSpotDatafeedSubscriptionRequest createSpotDatafeedSubscriptionRequest,
+            final AsyncHandler<CreateSpotDatafeedSubscriptionRequest, CreateSpotDatafeedSubscriptionResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateSpotDatafeedSubscriptionResult>() {
+            public CreateSpotDatafeedSubscriptionResult call() throws Exception {
+                CreateSpotDatafeedSubscriptionResult result;
+                try {
+                    result = createSpotDatafeedSubscription(createSpotDatafeedSubscriptionRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createSpotDatafeedSubscriptionRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Attaches an Internet gateway to a VPC, enabling connectivity between
@@ -2127,6 +4867,92 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Attaches an Internet gateway to a VPC, enabling connectivity between
+     * the Internet and the VPC. For more information about your VPC and
+     * Internet gateway, go to the Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param attachInternetGatewayRequest Container for the necessary
+     *           parameters to execute the AttachInternetGateway operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AttachInternetGateway service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> attachInternetGatewayAsync(
+            final AttachInternetGatewayRequest attachInternetGatewayRequest,
+            final AsyncHandler<AttachInternetGatewayRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    attachInternetGateway(attachInternetGatewayRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(attachInternetGatewayRequest, null);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Deletes a VPN connection. Use this if you want to delete a VPC and
+     * all its associated components. Another reason to use this operation is
+     * if you believe the tunnel credentials for your VPN connection have
+     * been compromised. In that situation, you can delete the VPN connection
+     * and create a new one that has new keys, without needing to delete the
+     * VPC or VPN gateway. If you create a new VPN connection, you must
+     * reconfigure the customer gateway using the new configuration
+     * information returned with the new VPN connection ID.
+     * </p>
+     * <p>
+     * If you're deleting the VPC and all its associated parts, we recommend
+     * you detach the VPN gateway from the VPC and delete the VPC before
+     * deleting the VPN connection.
+     * </p>
+     *
+     * @param deleteVpnConnectionRequest Container for the necessary
+     *           parameters to execute the DeleteVpnConnection operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteVpnConnection service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteVpnConnectionAsync(final DeleteVpnConnectionRequest deleteVpnConnectionRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                deleteVpnConnection(deleteVpnConnectionRequest);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes a VPN connection. Use this if you want to delete a VPC and
@@ -2146,9 +4972,70 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *
      * @param deleteVpnConnectionRequest Container for the necessary
      *           parameters to execute the DeleteVpnConnection operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteVpnConnection service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteVpnConnectionAsync(
+            final DeleteVpnConnectionRequest deleteVpnConnectionRequest,
+            final AsyncHandler<DeleteVpnConnectionRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteVpnConnection(deleteVpnConnectionRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteVpnConnectionRequest, null);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Creates a new VPN connection between an existing VPN gateway and
+     * customer gateway. The only supported connection type is ipsec.1.
+     * </p>
+     * <p>
+     * The response includes information that you need to configure your
+     * customer gateway, in XML format. We recommend you use the command line
+     * version of this operation ( <code>ec2-create-vpn-connection</code> ),
+     * which takes an <code>-f</code> option (for format) and returns
+     * configuration information formatted as expected by the vendor you
+     * specified, or in a generic, human readable format. For information
+     * about the command, go to <code>ec2-create-vpn-connection</code> in the
+     * Amazon Virtual Private Cloud Command Line Reference.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> We strongly recommend you use HTTPS when calling
+     * this operation because the response contains sensitive cryptographic
+     * information for configuring your customer gateway. If you decide to
+     * shut down your VPN connection for any reason and then create a new
+     * one, you must re-configure your customer gateway with the new
+     * information returned from this call.
+     * </p>
+     *
+     * @param createVpnConnectionRequest Container for the necessary
+     *           parameters to execute the CreateVpnConnection operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DeleteVpnConnection service method, as returned by AmazonEC2.
+     *         CreateVpnConnection service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2158,12 +5045,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVpnConnectionAsync(final DeleteVpnConnectionRequest deleteVpnConnectionRequest) 
+    public Future<CreateVpnConnectionResult> createVpnConnectionAsync(final CreateVpnConnectionRequest createVpnConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVpnConnection(deleteVpnConnectionRequest);
-                return null;
+        return executorService.submit(new Callable<CreateVpnConnectionResult>() {
+            public CreateVpnConnectionResult call() throws Exception {
+                return createVpnConnection(createVpnConnectionRequest);
 		    }
 		});
     }
@@ -2194,6 +5080,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *
      * @param createVpnConnectionRequest Container for the necessary
      *           parameters to execute the CreateVpnConnection operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
      *         CreateVpnConnection service method, as returned by AmazonEC2.
@@ -2206,11 +5097,21 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpnConnectionResult> createVpnConnectionAsync(final CreateVpnConnectionRequest createVpnConnectionRequest) 
-            throws AmazonServiceException, AmazonClientException {
+    public Future<CreateVpnConnectionResult> createVpnConnectionAsync(
+            final CreateVpnConnectionRequest createVpnConnectionRequest,
+            final AsyncHandler<CreateVpnConnectionRequest, CreateVpnConnectionResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<CreateVpnConnectionResult>() {
             public CreateVpnConnectionResult call() throws Exception {
-                return createVpnConnection(createVpnConnectionRequest);
+                CreateVpnConnectionResult result;
+                try {
+                    result = createVpnConnection(createVpnConnectionRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createVpnConnectionRequest, result);
+                return result;
 		    }
 		});
     }
@@ -2245,6 +5146,51 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Returns information about an attribute of an instance. Only one
+     * attribute can be specified per call.
+     * </p>
+     *
+     * @param describeInstanceAttributeRequest Container for the necessary
+     *           parameters to execute the DescribeInstanceAttribute operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeInstanceAttribute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeInstanceAttributeResult> describeInstanceAttributeAsync(
+            final DescribeInstanceAttributeRequest describeInstanceAttributeRequest,
+            final AsyncHandler<DescribeInstanceAttributeRequest, DescribeInstanceAttributeResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeInstanceAttributeResult>() {
+            public DescribeInstanceAttributeResult call() throws Exception {
+                DescribeInstanceAttributeResult result;
+                try {
+                    result = describeInstanceAttribute(describeInstanceAttributeRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeInstanceAttributeRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Gives you information about your subnets. You can filter the results
@@ -2287,6 +5233,63 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Gives you information about your subnets. You can filter the results
+     * to return information only about subnets that match criteria you
+     * specify.
+     * </p>
+     * <p>
+     * For example, you could ask to get information about a particular
+     * subnet (or all) only if the subnet's state is available. You can
+     * specify multiple filters (e.g., the subnet is in a particular VPC, and
+     * the subnet's state is available).
+     * </p>
+     * <p>
+     * The result includes information for a particular subnet only if the
+     * subnet matches all your filters. If there's no match, no special
+     * message is returned; the response is simply empty. The following table
+     * shows the available filters.
+     * </p>
+     *
+     * @param describeSubnetsRequest Container for the necessary parameters
+     *           to execute the DescribeSubnets operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeSubnets service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeSubnetsResult> describeSubnetsAsync(
+            final DescribeSubnetsRequest describeSubnetsRequest,
+            final AsyncHandler<DescribeSubnetsRequest, DescribeSubnetsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeSubnetsResult>() {
+            public DescribeSubnetsResult call() throws Exception {
+                DescribeSubnetsResult result;
+                try {
+                    result = describeSubnets(describeSubnetsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeSubnetsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The RunInstances operation launches a specified number of instances.
@@ -2364,6 +5367,98 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * The RunInstances operation launches a specified number of instances.
+     * </p>
+     * <p>
+     * If Amazon EC2 cannot launch the minimum number AMIs you request, no
+     * instances launch. If there is insufficient capacity to launch the
+     * maximum number of AMIs you request, Amazon EC2 launches as many as
+     * possible to satisfy the requested maximum values.
+     * </p>
+     * <p>
+     * Every instance is launched in a security group. If you do not specify
+     * a security group at launch, the instances start in your default
+     * security group. For more information on creating security groups, see
+     * CreateSecurityGroup.
+     * </p>
+     * <p>
+     * An optional instance type can be specified. For information about
+     * instance types, see Instance Types.
+     * </p>
+     * <p>
+     * You can provide an optional key pair ID for each image in the launch
+     * request (for more information, see CreateKeyPair). All instances that
+     * are created from images that use this key pair will have access to the
+     * associated public key at boot. You can use this key to provide secure
+     * access to an instance of an image on a per-instance basis. Amazon EC2
+     * public images use this feature to provide secure access without
+     * passwords.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> Launching public images without a key pair ID will
+     * leave them inaccessible. The public key material is made available to
+     * the instance at boot time by placing it in the openssh_id.pub file on
+     * a logical device that is exposed to the instance as /dev/sda2 (the
+     * ephemeral store). The format of this file is suitable for use as an
+     * entry within ~/.ssh/authorized_keys (the OpenSSH format). This can be
+     * done at boot (e.g., as part of rc.local) allowing for secure access
+     * without passwords. Optional user data can be provided in the launch
+     * request. All instances that collectively comprise the launch request
+     * have access to this data For more information, see Instance Metadata.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> If any of the AMIs have a product code attached for which
+     * the user has not subscribed, the RunInstances call will fail.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> We strongly recommend using the 2.6.18 Xen stock
+     * kernel with the c1.medium and c1.xlarge instances. Although the
+     * default Amazon EC2 kernels will work, the new kernels provide greater
+     * stability and performance for these instance types. For more
+     * information about kernels, see Kernels, RAM Disks, and Block Device
+     * Mappings.
+     * </p>
+     *
+     * @param runInstancesRequest Container for the necessary parameters to
+     *           execute the RunInstances operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RunInstances service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<RunInstancesResult> runInstancesAsync(
+            final RunInstancesRequest runInstancesRequest,
+            final AsyncHandler<RunInstancesRequest, RunInstancesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<RunInstancesResult>() {
+            public RunInstancesResult call() throws Exception {
+                RunInstancesResult result;
+                try {
+                    result = runInstances(runInstancesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(runInstancesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns information about one or more PlacementGroup instances in a
@@ -2394,6 +5489,89 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Returns information about one or more PlacementGroup instances in a
+     * user's account.
+     * </p>
+     *
+     * @param describePlacementGroupsRequest Container for the necessary
+     *           parameters to execute the DescribePlacementGroups operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribePlacementGroups service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribePlacementGroupsResult> describePlacementGroupsAsync(
+            final DescribePlacementGroupsRequest describePlacementGroupsRequest,
+            final AsyncHandler<DescribePlacementGroupsRequest, DescribePlacementGroupsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribePlacementGroupsResult>() {
+            public DescribePlacementGroupsResult call() throws Exception {
+                DescribePlacementGroupsResult result;
+                try {
+                    result = describePlacementGroups(describePlacementGroupsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describePlacementGroupsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Associates a subnet with a route table. The subnet and route table
+     * must be in the same VPC. This association causes traffic originating
+     * from the subnet to be routed according to the routes in the route
+     * table. The action returns an association ID, which you need if you
+     * want to disassociate the route table from the subnet later. A route
+     * table can be associated with multiple subnets.
+     * </p>
+     * <p>
+     * For more information about route tables, go to <a
+     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
+     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param associateRouteTableRequest Container for the necessary
+     *           parameters to execute the AssociateRouteTable operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AssociateRouteTable service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<AssociateRouteTableResult> associateRouteTableAsync(final AssociateRouteTableRequest associateRouteTableRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<AssociateRouteTableResult>() {
+            public AssociateRouteTableResult call() throws Exception {
+                return associateRouteTable(associateRouteTableRequest);
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Associates a subnet with a route table. The subnet and route table
@@ -2409,11 +5587,67 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
      * </p>
      *
-     * @param associateRouteTableRequest Container for the necessary
-     *           parameters to execute the AssociateRouteTable operation on AmazonEC2.
+     * @param associateRouteTableRequest Container for the necessary
+     *           parameters to execute the AssociateRouteTable operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AssociateRouteTable service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<AssociateRouteTableResult> associateRouteTableAsync(
+            final AssociateRouteTableRequest associateRouteTableRequest,
+            final AsyncHandler<AssociateRouteTableRequest, AssociateRouteTableResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<AssociateRouteTableResult>() {
+            public AssociateRouteTableResult call() throws Exception {
+                AssociateRouteTableResult result;
+                try {
+                    result = associateRouteTable(associateRouteTableRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(associateRouteTableRequest, result);
+                return result;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * The DescribeInstances operation returns information about instances
+     * that you own.
+     * </p>
+     * <p>
+     * If you specify one or more instance IDs, Amazon EC2 returns
+     * information for those instances. If you do not specify instance IDs,
+     * Amazon EC2 returns information for all relevant instances. If you
+     * specify an invalid instance ID, a fault is returned. If you specify an
+     * instance that you do not own, it will not be included in the returned
+     * results.
+     * </p>
+     * <p>
+     * Recently terminated instances might appear in the returned results.
+     * This interval is usually less than one hour.
+     * </p>
+     *
+     * @param describeInstancesRequest Container for the necessary parameters
+     *           to execute the DescribeInstances operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         AssociateRouteTable service method, as returned by AmazonEC2.
+     *         DescribeInstances service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2423,11 +5657,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AssociateRouteTableResult> associateRouteTableAsync(final AssociateRouteTableRequest associateRouteTableRequest) 
+    public Future<DescribeInstancesResult> describeInstancesAsync(final DescribeInstancesRequest describeInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateRouteTableResult>() {
-            public AssociateRouteTableResult call() throws Exception {
-                return associateRouteTable(associateRouteTableRequest);
+        return executorService.submit(new Callable<DescribeInstancesResult>() {
+            public DescribeInstancesResult call() throws Exception {
+                return describeInstances(describeInstancesRequest);
 		    }
 		});
     }
@@ -2452,6 +5686,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *
      * @param describeInstancesRequest Container for the necessary parameters
      *           to execute the DescribeInstances operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
      *         DescribeInstances service method, as returned by AmazonEC2.
@@ -2464,11 +5703,21 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeInstancesResult> describeInstancesAsync(final DescribeInstancesRequest describeInstancesRequest) 
-            throws AmazonServiceException, AmazonClientException {
+    public Future<DescribeInstancesResult> describeInstancesAsync(
+            final DescribeInstancesRequest describeInstancesRequest,
+            final AsyncHandler<DescribeInstancesRequest, DescribeInstancesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<DescribeInstancesResult>() {
             public DescribeInstancesResult call() throws Exception {
-                return describeInstances(describeInstancesRequest);
+                DescribeInstancesResult result;
+                try {
+                    result = describeInstances(describeInstancesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeInstancesRequest, result);
+                return result;
 		    }
 		});
     }
@@ -2505,6 +5754,51 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Deletes a network ACL from a VPC. The ACL must not have any subnets
+     * associated with it. You can't delete the default network ACL. For more
+     * information about network ACLs, go to Network ACLs in the Amazon
+     * Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param deleteNetworkAclRequest Container for the necessary parameters
+     *           to execute the DeleteNetworkAcl operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteNetworkAcl service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteNetworkAclAsync(
+            final DeleteNetworkAclRequest deleteNetworkAclRequest,
+            final AsyncHandler<DeleteNetworkAclRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteNetworkAcl(deleteNetworkAclRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteNetworkAclRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The DescribeImages operation returns information about AMIs, AKIs,
@@ -2580,6 +5874,96 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * The DescribeImages operation returns information about AMIs, AKIs,
+     * and ARIs available to the user. Information returned includes image
+     * type, product codes, architecture, and kernel and RAM disk IDs. Images
+     * available to the user include public images available for any user to
+     * launch, private images owned by the user making the request, and
+     * private images owned by other users for which the user has explicit
+     * launch permissions.
+     * </p>
+     * <p>
+     * Launch permissions fall into three categories:
+     * </p>
+     * 
+     * <ul>
+     * <li> <b>Public:</b> The owner of the AMI granted launch permissions
+     * for the AMI to the all group. All users have launch permissions for
+     * these AMIs. </li>
+     * <li> <b>Explicit:</b> The owner of the AMI granted launch permissions
+     * to a specific user. </li>
+     * <li> <b>Implicit:</b> A user has implicit launch permissions for all
+     * AMIs he or she owns. </li>
+     * 
+     * </ul>
+     * <p>
+     * The list of AMIs returned can be modified by specifying AMI IDs, AMI
+     * owners, or users with launch permissions. If no options are specified,
+     * Amazon EC2 returns all AMIs for which the user has launch permissions.
+     * </p>
+     * <p>
+     * If you specify one or more AMI IDs, only AMIs that have the specified
+     * IDs are returned. If you specify an invalid AMI ID, a fault is
+     * returned. If you specify an AMI ID for which you do not have access,
+     * it will not be included in the returned results.
+     * </p>
+     * <p>
+     * If you specify one or more AMI owners, only AMIs from the specified
+     * owners and for which you have access are returned. The results can
+     * include the account IDs of the specified owners, amazon for AMIs owned
+     * by Amazon or self for AMIs that you own.
+     * </p>
+     * <p>
+     * If you specify a list of executable users, only users that have
+     * launch permissions for the AMIs are returned. You can specify account
+     * IDs (if you own the AMI(s)), self for AMIs for which you own or have
+     * explicit permissions, or all for public AMIs.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> Deregistered images are included in the returned results
+     * for an unspecified interval after deregistration.
+     * </p>
+     *
+     * @param describeImagesRequest Container for the necessary parameters to
+     *           execute the DescribeImages operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeImages service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeImagesResult> describeImagesAsync(
+            final DescribeImagesRequest describeImagesRequest,
+            final AsyncHandler<DescribeImagesRequest, DescribeImagesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeImagesResult>() {
+            public DescribeImagesResult call() throws Exception {
+                DescribeImagesResult result;
+                try {
+                    result = describeImages(describeImagesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeImagesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Starts an instance that uses an Amazon EBS volume as its root device.
@@ -2618,6 +6002,59 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Starts an instance that uses an Amazon EBS volume as its root device.
+     * Instances that use Amazon EBS volumes as their root devices can be
+     * quickly stopped and started. When an instance is stopped, the compute
+     * resources are released and you are not billed for hourly instance
+     * usage. However, your root partition Amazon EBS volume remains,
+     * continues to persist your data, and you are charged for Amazon EBS
+     * volume usage. You can restart your instance at any time.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> Performing this operation on an instance that uses an
+     * instance store as its root device returns an error.
+     * </p>
+     *
+     * @param startInstancesRequest Container for the necessary parameters to
+     *           execute the StartInstances operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         StartInstances service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<StartInstancesResult> startInstancesAsync(
+            final StartInstancesRequest startInstancesRequest,
+            final AsyncHandler<StartInstancesRequest, StartInstancesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<StartInstancesResult>() {
+            public StartInstancesResult call() throws Exception {
+                StartInstancesResult result;
+                try {
+                    result = startInstances(startInstancesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(startInstancesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Modifies an attribute of an instance.
@@ -2648,6 +6085,49 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Modifies an attribute of an instance.
+     * </p>
+     *
+     * @param modifyInstanceAttributeRequest Container for the necessary
+     *           parameters to execute the ModifyInstanceAttribute operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ModifyInstanceAttribute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> modifyInstanceAttributeAsync(
+            final ModifyInstanceAttributeRequest modifyInstanceAttributeRequest,
+            final AsyncHandler<ModifyInstanceAttributeRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    modifyInstanceAttribute(modifyInstanceAttributeRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(modifyInstanceAttributeRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes a set of DHCP options that you specify. Amazon VPC returns an
@@ -2674,7 +6154,96 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<Void>() {
             public Void call() throws Exception {
-                deleteDhcpOptions(deleteDhcpOptionsRequest);
+                deleteDhcpOptions(deleteDhcpOptionsRequest);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Deletes a set of DHCP options that you specify. Amazon VPC returns an
+     * error if the set of options you specify is currently associated with a
+     * VPC. You can disassociate the set of options by associating either a
+     * new set of options or the default options with the VPC.
+     * </p>
+     *
+     * @param deleteDhcpOptionsRequest Container for the necessary parameters
+     *           to execute the DeleteDhcpOptions operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteDhcpOptions service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteDhcpOptionsAsync(
+            final DeleteDhcpOptionsRequest deleteDhcpOptionsRequest,
+            final AsyncHandler<DeleteDhcpOptionsRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteDhcpOptions(deleteDhcpOptionsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteDhcpOptionsRequest, null);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * The AuthorizeSecurityGroupIngress operation adds permissions to a
+     * security group.
+     * </p>
+     * <p>
+     * Permissions are specified by the IP protocol (TCP, UDP or ICMP), the
+     * source of the request (by IP range or an Amazon EC2 user-group pair),
+     * the source and destination port ranges (for TCP and UDP), and the ICMP
+     * codes and types (for ICMP). When authorizing ICMP, <code>-1</code> can
+     * be used as a wildcard in the type and code fields.
+     * </p>
+     * <p>
+     * Permission changes are propagated to instances within the security
+     * group as quickly as possible. However, depending on the number of
+     * instances, a small delay might occur.
+     * </p>
+     *
+     * @param authorizeSecurityGroupIngressRequest Container for the
+     *           necessary parameters to execute the AuthorizeSecurityGroupIngress
+     *           operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AuthorizeSecurityGroupIngress service method, as returned by
+     *         AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> authorizeSecurityGroupIngressAsync(final AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                authorizeSecurityGroupIngress(authorizeSecurityGroupIngressRequest);
                 return null;
 		    }
 		});
@@ -2701,6 +6270,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      * @param authorizeSecurityGroupIngressRequest Container for the
      *           necessary parameters to execute the AuthorizeSecurityGroupIngress
      *           operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
      *         AuthorizeSecurityGroupIngress service method, as returned by
@@ -2714,11 +6288,19 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> authorizeSecurityGroupIngressAsync(final AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest) 
-            throws AmazonServiceException, AmazonClientException {
+    public Future<Void> authorizeSecurityGroupIngressAsync(
+            final AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest,
+            final AsyncHandler<AuthorizeSecurityGroupIngressRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<Void>() {
             public Void call() throws Exception {
-                authorizeSecurityGroupIngress(authorizeSecurityGroupIngressRequest);
+                try {
+                    authorizeSecurityGroupIngress(authorizeSecurityGroupIngressRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(authorizeSecurityGroupIngressRequest, null);
                 return null;
 		    }
 		});
@@ -2787,6 +6369,84 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Describes Spot Instance requests. Spot Instances are instances that
+     * Amazon EC2 starts on your behalf when the maximum price that you
+     * specify exceeds the current Spot Price. Amazon EC2 periodically sets
+     * the Spot Price based on available Spot Instance capacity and current
+     * spot instance requests. For conceptual information about Spot
+     * Instances, refer to the <a
+     * "http://docs.amazonwebservices.com/AWSEC2/2010-08-31/DeveloperGuide/">
+     * Amazon Elastic Compute Cloud Developer Guide </a> or <a
+     * href="http://docs.amazonwebservices.com/AWSEC2/2010-08-31/UserGuide/">
+     * Amazon Elastic Compute Cloud User Guide </a> .
+     * </p>
+     * <p>
+     * You can filter the results to return information only about Spot
+     * Instance requests that match criteria you specify. For example, you
+     * could get information about requests where the Spot Price you
+     * specified is a certain value (you can't use greater than or less than
+     * comparison, but you can use <code>*</code> and <code>?</code>
+     * wildcards). You can specify multiple values for a filter. A Spot
+     * Instance request must match at least one of the specified values for
+     * it to be included in the results.
+     * </p>
+     * <p>
+     * You can specify multiple filters (e.g., the Spot Price is equal to a
+     * particular value, and the instance type is <code>m1.small</code> ).
+     * The result includes information for a particular request only if it
+     * matches all your filters. If there's no match, no special message is
+     * returned; the response is simply empty.
+     * </p>
+     * <p>
+     * You can use wildcards with the filter values: an asterisk matches
+     * zero or more characters, and <code>?</code> matches exactly one
+     * character. You can escape special characters using a backslash before
+     * the character. For example, a value of <code>\*amazon\?\\</code>
+     * searches for the literal string <code>*amazon?\</code> .
+     * 
+     * </p>
+     *
+     * @param describeSpotInstanceRequestsRequest Container for the necessary
+     *           parameters to execute the DescribeSpotInstanceRequests operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeSpotInstanceRequests service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeSpotInstanceRequestsResult> describeSpotInstanceRequestsAsync(
+            final DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest,
+            final AsyncHandler<DescribeSpotInstanceRequestsRequest, DescribeSpotInstanceRequestsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeSpotInstanceRequestsResult>() {
+            public DescribeSpotInstanceRequestsResult call() throws Exception {
+                DescribeSpotInstanceRequestsResult result;
+                try {
+                    result = describeSpotInstanceRequests(describeSpotInstanceRequestsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeSpotInstanceRequestsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Creates a VPC with the CIDR block you specify. The smallest VPC you
@@ -2824,6 +6484,58 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Creates a VPC with the CIDR block you specify. The smallest VPC you
+     * can create uses a <code>/28</code> netmask (16 IP addresses), and the
+     * largest uses a <code>/18</code> netmask (16,384 IP addresses). To help
+     * you decide how big to make your VPC, go to the topic about creating
+     * VPCs in the Amazon Virtual Private Cloud Developer Guide.
+     * </p>
+     * <p>
+     * By default, each instance you launch in the VPC has the default DHCP
+     * options (the standard EC2 host name, no domain name, no DNS server, no
+     * NTP server, and no NetBIOS server or node type).
+     * </p>
+     *
+     * @param createVpcRequest Container for the necessary parameters to
+     *           execute the CreateVpc operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateVpc service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateVpcResult> createVpcAsync(
+            final CreateVpcRequest createVpcRequest,
+            final AsyncHandler<CreateVpcRequest, CreateVpcResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateVpcResult>() {
+            public CreateVpcResult call() throws Exception {
+                CreateVpcResult result;
+                try {
+                    result = createVpc(createVpcRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createVpcRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Gives you information about your customer gateways. You can filter
@@ -2864,6 +6576,61 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Gives you information about your customer gateways. You can filter
+     * the results to return information only about customer gateways that
+     * match criteria you specify. For example, you could ask to get
+     * information about a particular customer gateway (or all) only if the
+     * gateway's state is pending or available. You can specify multiple
+     * filters (e.g., the customer gateway has a particular IP address for
+     * the Internet-routable external interface, and the gateway's state is
+     * pending or available). The result includes information for a
+     * particular customer gateway only if the gateway matches all your
+     * filters. If there's no match, no special message is returned; the
+     * response is simply empty. The following table shows the available
+     * filters.
+     * </p>
+     *
+     * @param describeCustomerGatewaysRequest Container for the necessary
+     *           parameters to execute the DescribeCustomerGateways operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeCustomerGateways service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeCustomerGatewaysResult> describeCustomerGatewaysAsync(
+            final DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest,
+            final AsyncHandler<DescribeCustomerGatewaysRequest, DescribeCustomerGatewaysResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeCustomerGatewaysResult>() {
+            public DescribeCustomerGatewaysResult call() throws Exception {
+                DescribeCustomerGatewaysResult result;
+                try {
+                    result = describeCustomerGateways(describeCustomerGatewaysRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeCustomerGatewaysRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Creates a new route in a route table within a VPC. The route's target
@@ -2917,6 +6684,105 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Creates a new route in a route table within a VPC. The route's target
+     * can be either a gateway attached to the VPC or a NAT instance in the
+     * VPC.
+     * </p>
+     * <p>
+     * When determining how to route traffic, we use the route with the most
+     * specific match. For example, let's say the traffic is destined for
+     * <code>192.0.2.3</code> , and the route table includes the following
+     * two routes:
+     * </p>
+     * 
+     * <ul>
+     * <li> <code>192.0.2.0/24</code> (goes to some target A) </li>
+     * <li> <code>192.0.2.0/28</code> (goes to some target B) </li>
+     * 
+     * </ul>
+     * <p>
+     * Both routes apply to the traffic destined for <code>192.0.2.3</code>
+     * . However, the second route in the list is more specific, so we use
+     * that route to determine where to target the traffic.
+     * </p>
+     * <p>
+     * For more information about route tables, go to <a
+     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
+     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param createRouteRequest Container for the necessary parameters to
+     *           execute the CreateRoute operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateRoute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> createRouteAsync(
+            final CreateRouteRequest createRouteRequest,
+            final AsyncHandler<CreateRouteRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    createRoute(createRouteRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createRouteRequest, null);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Deletes a route table from a VPC. The route table must not be
+     * associated with a subnet. You can't delete the main route table. For
+     * more information about route tables, go to <a
+     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
+     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param deleteRouteTableRequest Container for the necessary parameters
+     *           to execute the DeleteRouteTable operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteRouteTable service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteRouteTableAsync(final DeleteRouteTableRequest deleteRouteTableRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                deleteRouteTable(deleteRouteTableRequest);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes a route table from a VPC. The route table must not be
@@ -2926,11 +6792,64 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
      * </p>
      *
-     * @param deleteRouteTableRequest Container for the necessary parameters
-     *           to execute the DeleteRouteTable operation on AmazonEC2.
+     * @param deleteRouteTableRequest Container for the necessary parameters
+     *           to execute the DeleteRouteTable operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteRouteTable service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteRouteTableAsync(
+            final DeleteRouteTableRequest deleteRouteTableRequest,
+            final AsyncHandler<DeleteRouteTableRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteRouteTable(deleteRouteTableRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteRouteTableRequest, null);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Creates a Spot Instance request.
+     * </p>
+     * <p>
+     * Spot Instances are instances that Amazon EC2 starts on your behalf
+     * when the maximum price that you specify exceeds the current Spot
+     * Price. Amazon EC2 periodically sets the Spot Price based on available
+     * Spot Instance capacity and current spot instance requests.
+     * </p>
+     * <p>
+     * For conceptual information about Spot Instances, refer to the Amazon
+     * Elastic Compute Cloud Developer Guide or Amazon Elastic Compute Cloud
+     * User Guide.
+     * </p>
+     *
+     * @param requestSpotInstancesRequest Container for the necessary
+     *           parameters to execute the RequestSpotInstances operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DeleteRouteTable service method, as returned by AmazonEC2.
+     *         RequestSpotInstances service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -2940,12 +6859,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteRouteTableAsync(final DeleteRouteTableRequest deleteRouteTableRequest) 
+    public Future<RequestSpotInstancesResult> requestSpotInstancesAsync(final RequestSpotInstancesRequest requestSpotInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteRouteTable(deleteRouteTableRequest);
-                return null;
+        return executorService.submit(new Callable<RequestSpotInstancesResult>() {
+            public RequestSpotInstancesResult call() throws Exception {
+                return requestSpotInstances(requestSpotInstancesRequest);
 		    }
 		});
     }
@@ -2968,6 +6886,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *
      * @param requestSpotInstancesRequest Container for the necessary
      *           parameters to execute the RequestSpotInstances operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
      *         RequestSpotInstances service method, as returned by AmazonEC2.
@@ -2980,11 +6903,21 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RequestSpotInstancesResult> requestSpotInstancesAsync(final RequestSpotInstancesRequest requestSpotInstancesRequest) 
-            throws AmazonServiceException, AmazonClientException {
+    public Future<RequestSpotInstancesResult> requestSpotInstancesAsync(
+            final RequestSpotInstancesRequest requestSpotInstancesRequest,
+            final AsyncHandler<RequestSpotInstancesRequest, RequestSpotInstancesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<RequestSpotInstancesResult>() {
             public RequestSpotInstancesResult call() throws Exception {
-                return requestSpotInstances(requestSpotInstancesRequest);
+                RequestSpotInstancesResult result;
+                try {
+                    result = requestSpotInstances(requestSpotInstancesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(requestSpotInstancesRequest, result);
+                return result;
 		    }
 		});
     }
@@ -3020,6 +6953,50 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Adds or overwrites tags for the specified resources. Each resource
+     * can have a maximum of 10 tags. Each tag consists of a key-value pair.
+     * Tag keys must be unique per resource.
+     * </p>
+     *
+     * @param createTagsRequest Container for the necessary parameters to
+     *           execute the CreateTags operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateTags service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> createTagsAsync(
+            final CreateTagsRequest createTagsRequest,
+            final AsyncHandler<CreateTagsRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    createTags(createTagsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createTagsRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Replaces an existing route within a route table in a VPC. For more
@@ -3052,6 +7029,51 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Replaces an existing route within a route table in a VPC. For more
+     * information about route tables, go to <a
+     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
+     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param replaceRouteRequest Container for the necessary parameters to
+     *           execute the ReplaceRoute operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ReplaceRoute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> replaceRouteAsync(
+            final ReplaceRouteRequest replaceRouteRequest,
+            final AsyncHandler<ReplaceRouteRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    replaceRoute(replaceRouteRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(replaceRouteRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Describes the tags for the specified resources.
@@ -3080,6 +7102,49 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Describes the tags for the specified resources.
+     * </p>
+     *
+     * @param describeTagsRequest Container for the necessary parameters to
+     *           execute the DescribeTags operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeTags service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeTagsResult> describeTagsAsync(
+            final DescribeTagsRequest describeTagsRequest,
+            final AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeTagsResult>() {
+            public DescribeTagsResult call() throws Exception {
+                DescribeTagsResult result;
+                try {
+                    result = describeTags(describeTagsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeTagsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * CancelBundleTask operation cancels a pending or in-progress bundling
@@ -3112,6 +7177,53 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * CancelBundleTask operation cancels a pending or in-progress bundling
+     * task. This is an asynchronous call and it make take a while for the
+     * task to be canceled. If a task is canceled while it is storing items,
+     * there may be parts of the incomplete AMI stored in S3. It is up to the
+     * caller to clean up these parts from S3.
+     * </p>
+     *
+     * @param cancelBundleTaskRequest Container for the necessary parameters
+     *           to execute the CancelBundleTask operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CancelBundleTask service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CancelBundleTaskResult> cancelBundleTaskAsync(
+            final CancelBundleTaskRequest cancelBundleTaskRequest,
+            final AsyncHandler<CancelBundleTaskRequest, CancelBundleTaskResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CancelBundleTaskResult>() {
+            public CancelBundleTaskResult call() throws Exception {
+                CancelBundleTaskResult result;
+                try {
+                    result = cancelBundleTask(cancelBundleTaskRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(cancelBundleTaskRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Cancels one or more Spot Instance requests.
@@ -3153,6 +7265,62 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Cancels one or more Spot Instance requests.
+     * </p>
+     * <p>
+     * Spot Instances are instances that Amazon EC2 starts on your behalf
+     * when the maximum price that you specify exceeds the current Spot
+     * Price. Amazon EC2 periodically sets the Spot Price based on available
+     * Spot Instance capacity and current spot instance requests.
+     * </p>
+     * <p>
+     * For conceptual information about Spot Instances, refer to the Amazon
+     * Elastic Compute Cloud Developer Guide or Amazon Elastic Compute Cloud
+     * User Guide .
+     * 
+     * </p>
+     *
+     * @param cancelSpotInstanceRequestsRequest Container for the necessary
+     *           parameters to execute the CancelSpotInstanceRequests operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CancelSpotInstanceRequests service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CancelSpotInstanceRequestsResult> cancelSpotInstanceRequestsAsync(
+            final CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest,
+            final AsyncHandler<CancelSpotInstanceRequestsRequest, CancelSpotInstanceRequestsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CancelSpotInstanceRequestsResult>() {
+            public CancelSpotInstanceRequestsResult call() throws Exception {
+                CancelSpotInstanceRequestsResult result;
+                try {
+                    result = cancelSpotInstanceRequests(cancelSpotInstanceRequestsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(cancelSpotInstanceRequestsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The PurchaseReservedInstancesOffering operation purchases a Reserved
@@ -3187,6 +7355,85 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * The PurchaseReservedInstancesOffering operation purchases a Reserved
+     * Instance for use with your account. With Amazon EC2 Reserved
+     * Instances, you purchase the right to launch Amazon EC2 instances for a
+     * period of time (without getting insufficient capacity errors) and pay
+     * a lower usage rate for the actual time used.
+     * </p>
+     *
+     * @param purchaseReservedInstancesOfferingRequest Container for the
+     *           necessary parameters to execute the PurchaseReservedInstancesOffering
+     *           operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         PurchaseReservedInstancesOffering service method, as returned by
+     *         AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<PurchaseReservedInstancesOfferingResult> purchaseReservedInstancesOfferingAsync(
+            final PurchaseReservedInstancesOfferingRequest purchaseReservedInstancesOfferingRequest,
+            final AsyncHandler<PurchaseReservedInstancesOfferingRequest, PurchaseReservedInstancesOfferingResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<PurchaseReservedInstancesOfferingResult>() {
+            public PurchaseReservedInstancesOfferingResult call() throws Exception {
+                PurchaseReservedInstancesOfferingResult result;
+                try {
+                    result = purchaseReservedInstancesOffering(purchaseReservedInstancesOfferingRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(purchaseReservedInstancesOfferingRequest, result);
+                return result;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Adds or remove permission settings for the specified snapshot.
+     * </p>
+     *
+     * @param modifySnapshotAttributeRequest Container for the necessary
+     *           parameters to execute the ModifySnapshotAttribute operation on
+     *           AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ModifySnapshotAttribute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> modifySnapshotAttributeAsync(final ModifySnapshotAttributeRequest modifySnapshotAttributeRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                modifySnapshotAttribute(modifySnapshotAttributeRequest);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Adds or remove permission settings for the specified snapshot.
@@ -3195,9 +7442,57 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      * @param modifySnapshotAttributeRequest Container for the necessary
      *           parameters to execute the ModifySnapshotAttribute operation on
      *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ModifySnapshotAttribute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> modifySnapshotAttributeAsync(
+            final ModifySnapshotAttributeRequest modifySnapshotAttributeRequest,
+            final AsyncHandler<ModifySnapshotAttributeRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    modifySnapshotAttribute(modifySnapshotAttributeRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(modifySnapshotAttributeRequest, null);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * The TerminateInstances operation shuts down one or more instances.
+     * This operation is idempotent; if you terminate an instance more than
+     * once, each call will succeed.
+     * </p>
+     * <p>
+     * Terminated instances will remain visible after termination
+     * (approximately one hour).
+     * </p>
+     *
+     * @param terminateInstancesRequest Container for the necessary
+     *           parameters to execute the TerminateInstances operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         ModifySnapshotAttribute service method, as returned by AmazonEC2.
+     *         TerminateInstances service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -3207,12 +7502,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifySnapshotAttributeAsync(final ModifySnapshotAttributeRequest modifySnapshotAttributeRequest) 
+    public Future<TerminateInstancesResult> terminateInstancesAsync(final TerminateInstancesRequest terminateInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifySnapshotAttribute(modifySnapshotAttributeRequest);
-                return null;
+        return executorService.submit(new Callable<TerminateInstancesResult>() {
+            public TerminateInstancesResult call() throws Exception {
+                return terminateInstances(terminateInstancesRequest);
 		    }
 		});
     }
@@ -3230,6 +7524,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *
      * @param terminateInstancesRequest Container for the necessary
      *           parameters to execute the TerminateInstances operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
      *         TerminateInstances service method, as returned by AmazonEC2.
@@ -3242,11 +7541,21 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<TerminateInstancesResult> terminateInstancesAsync(final TerminateInstancesRequest terminateInstancesRequest) 
-            throws AmazonServiceException, AmazonClientException {
+    public Future<TerminateInstancesResult> terminateInstancesAsync(
+            final TerminateInstancesRequest terminateInstancesRequest,
+            final AsyncHandler<TerminateInstancesRequest, TerminateInstancesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<TerminateInstancesResult>() {
             public TerminateInstancesResult call() throws Exception {
-                return terminateInstances(terminateInstancesRequest);
+                TerminateInstancesResult result;
+                try {
+                    result = terminateInstances(terminateInstancesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(terminateInstancesRequest, result);
+                return result;
 		    }
 		});
     }
@@ -3288,6 +7597,56 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Deletes the data feed for Spot Instances.
+     * </p>
+     * <p>
+     * For conceptual information about Spot Instances, refer to the Amazon
+     * Elastic Compute Cloud Developer Guide or Amazon Elastic Compute Cloud
+     * User Guide .
+     * 
+     * </p>
+     *
+     * @param deleteSpotDatafeedSubscriptionRequest Container for the
+     *           necessary parameters to execute the DeleteSpotDatafeedSubscription
+     *           operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteSpotDatafeedSubscription service method, as returned by
+     *         AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteSpotDatafeedSubscriptionAsync(
+            final DeleteSpotDatafeedSubscriptionRequest deleteSpotDatafeedSubscriptionRequest,
+            final AsyncHandler<DeleteSpotDatafeedSubscriptionRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteSpotDatafeedSubscription(deleteSpotDatafeedSubscriptionRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteSpotDatafeedSubscriptionRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes an Internet gateway from your AWS account. The gateway must
@@ -3320,6 +7679,51 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Deletes an Internet gateway from your AWS account. The gateway must
+     * not be attached to a VPC. For more information about your VPC and
+     * Internet gateway, go to Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param deleteInternetGatewayRequest Container for the necessary
+     *           parameters to execute the DeleteInternetGateway operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteInternetGateway service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteInternetGatewayAsync(
+            final DeleteInternetGatewayRequest deleteInternetGatewayRequest,
+            final AsyncHandler<DeleteInternetGatewayRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteInternetGateway(deleteInternetGatewayRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteInternetGatewayRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Changes the route table associated with a given subnet in a VPC.
@@ -3359,6 +7763,60 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Changes the route table associated with a given subnet in a VPC.
+     * After you execute this action, the subnet uses the routes in the new
+     * route table it's associated with. For more information about route
+     * tables, go to <a
+     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
+     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
+     * </p>
+     * <p>
+     * You can also use this to change which table is the main route table
+     * in the VPC. You just specify the main route table's association ID and
+     * the route table that you want to be the new main route table.
+     * </p>
+     *
+     * @param replaceRouteTableAssociationRequest Container for the necessary
+     *           parameters to execute the ReplaceRouteTableAssociation operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ReplaceRouteTableAssociation service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ReplaceRouteTableAssociationResult> replaceRouteTableAssociationAsync(
+            final ReplaceRouteTableAssociationRequest replaceRouteTableAssociationRequest,
+            final AsyncHandler<ReplaceRouteTableAssociationRequest, ReplaceRouteTableAssociationResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ReplaceRouteTableAssociationResult>() {
+            public ReplaceRouteTableAssociationResult call() throws Exception {
+                ReplaceRouteTableAssociationResult result;
+                try {
+                    result = replaceRouteTableAssociation(replaceRouteTableAssociationRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(replaceRouteTableAssociationRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns information about an attribute of a snapshot. Only one
@@ -3389,6 +7847,51 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Returns information about an attribute of a snapshot. Only one
+     * attribute can be specified per call.
+     * </p>
+     *
+     * @param describeSnapshotAttributeRequest Container for the necessary
+     *           parameters to execute the DescribeSnapshotAttribute operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeSnapshotAttribute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeSnapshotAttributeResult> describeSnapshotAttributeAsync(
+            final DescribeSnapshotAttributeRequest describeSnapshotAttributeRequest,
+            final AsyncHandler<DescribeSnapshotAttributeRequest, DescribeSnapshotAttributeResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeSnapshotAttributeResult>() {
+            public DescribeSnapshotAttributeResult call() throws Exception {
+                DescribeSnapshotAttributeResult result;
+                try {
+                    result = describeSnapshotAttribute(describeSnapshotAttributeRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeSnapshotAttributeRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The DescribeAddresses operation lists elastic IP addresses assigned
@@ -3418,6 +7921,81 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * The DescribeAddresses operation lists elastic IP addresses assigned
+     * to your account.
+     * </p>
+     *
+     * @param describeAddressesRequest Container for the necessary parameters
+     *           to execute the DescribeAddresses operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeAddresses service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeAddressesResult> describeAddressesAsync(
+            final DescribeAddressesRequest describeAddressesRequest,
+            final AsyncHandler<DescribeAddressesRequest, DescribeAddressesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeAddressesResult>() {
+            public DescribeAddressesResult call() throws Exception {
+                DescribeAddressesResult result;
+                try {
+                    result = describeAddresses(describeAddressesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeAddressesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * The DescribeKeyPairs operation returns information about key pairs
+     * available to you. If you specify key pairs, information about those
+     * key pairs is returned. Otherwise, information for all registered key
+     * pairs is returned.
+     * </p>
+     *
+     * @param describeKeyPairsRequest Container for the necessary parameters
+     *           to execute the DescribeKeyPairs operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeKeyPairs service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeKeyPairsResult> describeKeyPairsAsync(final DescribeKeyPairsRequest describeKeyPairsRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeKeyPairsResult>() {
+            public DescribeKeyPairsResult call() throws Exception {
+                return describeKeyPairs(describeKeyPairsRequest);
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The DescribeKeyPairs operation returns information about key pairs
@@ -3428,9 +8006,89 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *
      * @param describeKeyPairsRequest Container for the necessary parameters
      *           to execute the DescribeKeyPairs operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeKeyPairs service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeKeyPairsResult> describeKeyPairsAsync(
+            final DescribeKeyPairsRequest describeKeyPairsRequest,
+            final AsyncHandler<DescribeKeyPairsRequest, DescribeKeyPairsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeKeyPairsResult>() {
+            public DescribeKeyPairsResult call() throws Exception {
+                DescribeKeyPairsResult result;
+                try {
+                    result = describeKeyPairs(describeKeyPairsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeKeyPairsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * The DescribeImageAttribute operation returns information about an
+     * attribute of an AMI. Only one attribute can be specified per call.
+     * </p>
+     *
+     * @param describeImageAttributeRequest Container for the necessary
+     *           parameters to execute the DescribeImageAttribute operation on
+     *           AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeImageAttribute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeImageAttributeResult> describeImageAttributeAsync(final DescribeImageAttributeRequest describeImageAttributeRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeImageAttributeResult>() {
+            public DescribeImageAttributeResult call() throws Exception {
+                return describeImageAttribute(describeImageAttributeRequest);
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * The DescribeImageAttribute operation returns information about an
+     * attribute of an AMI. Only one attribute can be specified per call.
+     * </p>
+     *
+     * @param describeImageAttributeRequest Container for the necessary
+     *           parameters to execute the DescribeImageAttribute operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeKeyPairs service method, as returned by AmazonEC2.
+     *         DescribeImageAttribute service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -3440,27 +8098,43 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeKeyPairsResult> describeKeyPairsAsync(final DescribeKeyPairsRequest describeKeyPairsRequest) 
-            throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyPairsResult>() {
-            public DescribeKeyPairsResult call() throws Exception {
-                return describeKeyPairs(describeKeyPairsRequest);
+    public Future<DescribeImageAttributeResult> describeImageAttributeAsync(
+            final DescribeImageAttributeRequest describeImageAttributeRequest,
+            final AsyncHandler<DescribeImageAttributeRequest, DescribeImageAttributeResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeImageAttributeResult>() {
+            public DescribeImageAttributeResult call() throws Exception {
+                DescribeImageAttributeResult result;
+                try {
+                    result = describeImageAttribute(describeImageAttributeRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeImageAttributeRequest, result);
+                return result;
 		    }
 		});
     }
     
     /**
      * <p>
-     * The DescribeImageAttribute operation returns information about an
-     * attribute of an AMI. Only one attribute can be specified per call.
+     * Disassociates a subnet from a route table.
+     * </p>
+     * <p>
+     * After you perform this action, the subnet no longer uses the routes
+     * in the route table. Instead it uses the routes in the VPC's main route
+     * table. For more information about route tables, go to <a
+     * azonwebservices.com/AmazonVPC/latest/UserGuide/VPC_Route_Tables.html">
+     * Route Tables </a> in the Amazon Virtual Private Cloud User Guide.
      * </p>
      *
-     * @param describeImageAttributeRequest Container for the necessary
-     *           parameters to execute the DescribeImageAttribute operation on
+     * @param disassociateRouteTableRequest Container for the necessary
+     *           parameters to execute the DisassociateRouteTable operation on
      *           AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeImageAttribute service method, as returned by AmazonEC2.
+     *         DisassociateRouteTable service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -3470,11 +8144,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeImageAttributeResult> describeImageAttributeAsync(final DescribeImageAttributeRequest describeImageAttributeRequest) 
+    public Future<Void> disassociateRouteTableAsync(final DisassociateRouteTableRequest disassociateRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImageAttributeResult>() {
-            public DescribeImageAttributeResult call() throws Exception {
-                return describeImageAttribute(describeImageAttributeRequest);
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                disassociateRouteTable(disassociateRouteTableRequest);
+                return null;
 		    }
 		});
     }
@@ -3494,6 +8169,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      * @param disassociateRouteTableRequest Container for the necessary
      *           parameters to execute the DisassociateRouteTable operation on
      *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
      *         DisassociateRouteTable service method, as returned by AmazonEC2.
@@ -3506,11 +8186,19 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> disassociateRouteTableAsync(final DisassociateRouteTableRequest disassociateRouteTableRequest) 
-            throws AmazonServiceException, AmazonClientException {
+    public Future<Void> disassociateRouteTableAsync(
+            final DisassociateRouteTableRequest disassociateRouteTableRequest,
+            final AsyncHandler<DisassociateRouteTableRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<Void>() {
             public Void call() throws Exception {
-                disassociateRouteTable(disassociateRouteTableRequest);
+                try {
+                    disassociateRouteTable(disassociateRouteTableRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(disassociateRouteTableRequest, null);
                 return null;
 		    }
 		});
@@ -3553,6 +8241,58 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * The ConfirmProductInstance operation returns true if the specified
+     * product code is attached to the specified instance. The operation
+     * returns false if the product code is not attached to the instance.
+     * </p>
+     * <p>
+     * The ConfirmProductInstance operation can only be executed by the
+     * owner of the AMI. This feature is useful when an AMI owner is
+     * providing support and wants to verify whether a user's instance is
+     * eligible.
+     * </p>
+     *
+     * @param confirmProductInstanceRequest Container for the necessary
+     *           parameters to execute the ConfirmProductInstance operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ConfirmProductInstance service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ConfirmProductInstanceResult> confirmProductInstanceAsync(
+            final ConfirmProductInstanceRequest confirmProductInstanceRequest,
+            final AsyncHandler<ConfirmProductInstanceRequest, ConfirmProductInstanceResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ConfirmProductInstanceResult>() {
+            public ConfirmProductInstanceResult call() throws Exception {
+                ConfirmProductInstanceResult result;
+                try {
+                    result = confirmProductInstance(confirmProductInstanceRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(confirmProductInstanceRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes an ingress or egress entry (i.e., rule) from a network ACL.
@@ -3585,6 +8325,51 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Deletes an ingress or egress entry (i.e., rule) from a network ACL.
+     * For more information about network ACLs, go to Network ACLs in the
+     * Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param deleteNetworkAclEntryRequest Container for the necessary
+     *           parameters to execute the DeleteNetworkAclEntry operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteNetworkAclEntry service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteNetworkAclEntryAsync(
+            final DeleteNetworkAclEntryRequest deleteNetworkAclEntryRequest,
+            final AsyncHandler<DeleteNetworkAclEntryRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteNetworkAclEntry(deleteNetworkAclEntryRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteNetworkAclEntryRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * This action applies only to security groups in a VPC. It doesn't work
@@ -3634,6 +8419,68 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * This action applies only to security groups in a VPC. It doesn't work
+     * with EC2 security groups. For information about Amazon Virtual Private
+     * Cloud and VPC security groups, go to the Amazon Virtual Private Cloud
+     * User Guide.
+     * </p>
+     * <p>
+     * The action removes one or more egress rules from a VPC security
+     * group. The values that you specify in the revoke request (e.g., ports,
+     * etc.) must match the existing rule's values in order for the rule to
+     * be revoked.
+     * </p>
+     * <p>
+     * Each rule consists of the protocol, and the CIDR range or destination
+     * security group. For the TCP and UDP protocols, you must also specify
+     * the destination port or range of ports. For the ICMP protocol, you
+     * must also specify the ICMP type and code.
+     * </p>
+     * <p>
+     * Rule changes are propagated to instances within the security group as
+     * quickly as possible. However, a small delay might occur.
+     * </p>
+     *
+     * @param revokeSecurityGroupEgressRequest Container for the necessary
+     *           parameters to execute the RevokeSecurityGroupEgress operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RevokeSecurityGroupEgress service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> revokeSecurityGroupEgressAsync(
+            final RevokeSecurityGroupEgressRequest revokeSecurityGroupEgressRequest,
+            final AsyncHandler<RevokeSecurityGroupEgressRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    revokeSecurityGroupEgress(revokeSecurityGroupEgressRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(revokeSecurityGroupEgressRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Initializes an empty volume of a given size.
@@ -3662,6 +8509,92 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Initializes an empty volume of a given size.
+     * </p>
+     *
+     * @param createVolumeRequest Container for the necessary parameters to
+     *           execute the CreateVolume operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateVolume service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateVolumeResult> createVolumeAsync(
+            final CreateVolumeRequest createVolumeRequest,
+            final AsyncHandler<CreateVolumeRequest, CreateVolumeResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateVolumeResult>() {
+            public CreateVolumeResult call() throws Exception {
+                CreateVolumeResult result;
+                try {
+                    result = createVolume(createVolumeRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createVolumeRequest, result);
+                return result;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Gives you information about your VPN gateways. You can filter the
+     * results to return information only about VPN gateways that match
+     * criteria you specify.
+     * </p>
+     * <p>
+     * For example, you could ask to get information about a particular VPN
+     * gateway (or all) only if the gateway's state is pending or available.
+     * You can specify multiple filters (e.g., the VPN gateway is in a
+     * particular Availability Zone and the gateway's state is pending or
+     * available).
+     * </p>
+     * <p>
+     * The result includes information for a particular VPN gateway only if
+     * the gateway matches all your filters. If there's no match, no special
+     * message is returned; the response is simply empty. The following table
+     * shows the available filters.
+     * </p>
+     *
+     * @param describeVpnGatewaysRequest Container for the necessary
+     *           parameters to execute the DescribeVpnGateways operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeVpnGateways service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeVpnGatewaysResult> describeVpnGatewaysAsync(final DescribeVpnGatewaysRequest describeVpnGatewaysRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeVpnGatewaysResult>() {
+            public DescribeVpnGatewaysResult call() throws Exception {
+                return describeVpnGateways(describeVpnGatewaysRequest);
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Gives you information about your VPN gateways. You can filter the
@@ -3676,17 +8609,74 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      * available).
      * </p>
      * <p>
-     * The result includes information for a particular VPN gateway only if
-     * the gateway matches all your filters. If there's no match, no special
-     * message is returned; the response is simply empty. The following table
-     * shows the available filters.
+     * The result includes information for a particular VPN gateway only if
+     * the gateway matches all your filters. If there's no match, no special
+     * message is returned; the response is simply empty. The following table
+     * shows the available filters.
+     * </p>
+     *
+     * @param describeVpnGatewaysRequest Container for the necessary
+     *           parameters to execute the DescribeVpnGateways operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeVpnGateways service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeVpnGatewaysResult> describeVpnGatewaysAsync(
+            final DescribeVpnGatewaysRequest describeVpnGatewaysRequest,
+            final AsyncHandler<DescribeVpnGatewaysRequest, DescribeVpnGatewaysResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeVpnGatewaysResult>() {
+            public DescribeVpnGatewaysResult call() throws Exception {
+                DescribeVpnGatewaysResult result;
+                try {
+                    result = describeVpnGateways(describeVpnGatewaysRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeVpnGatewaysRequest, result);
+                return result;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Creates a subnet in an existing VPC. You can create up to 20 subnets
+     * in a VPC. If you add more than one subnet to a VPC, they're set up in
+     * a star topology with a logical router in the middle. When you create
+     * each subnet, you provide the VPC ID and the CIDR block you want for
+     * the subnet. Once you create a subnet, you can't change its CIDR block.
+     * The subnet's CIDR block can be the same as the VPC's CIDR block
+     * (assuming you want only a single subnet in the VPC), or a subset of
+     * the VPC's CIDR block. If you create more than one subnet in a VPC, the
+     * subnets' CIDR blocks must not overlap. The smallest subnet (and VPC)
+     * you can create uses a <code>/28</code> netmask (16 IP addresses), and
+     * the largest uses a <code>/18</code> netmask (16,384 IP addresses).
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> AWS reserves both the first four and the last IP
+     * address in each subnet's CIDR block. They're not available for use.
      * </p>
      *
-     * @param describeVpnGatewaysRequest Container for the necessary
-     *           parameters to execute the DescribeVpnGateways operation on AmazonEC2.
+     * @param createSubnetRequest Container for the necessary parameters to
+     *           execute the CreateSubnet operation on AmazonEC2.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeVpnGateways service method, as returned by AmazonEC2.
+     *         CreateSubnet service method, as returned by AmazonEC2.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -3696,11 +8686,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpnGatewaysResult> describeVpnGatewaysAsync(final DescribeVpnGatewaysRequest describeVpnGatewaysRequest) 
+    public Future<CreateSubnetResult> createSubnetAsync(final CreateSubnetRequest createSubnetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnGatewaysResult>() {
-            public DescribeVpnGatewaysResult call() throws Exception {
-                return describeVpnGateways(describeVpnGatewaysRequest);
+        return executorService.submit(new Callable<CreateSubnetResult>() {
+            public CreateSubnetResult call() throws Exception {
+                return createSubnet(createSubnetRequest);
 		    }
 		});
     }
@@ -3726,6 +8716,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *
      * @param createSubnetRequest Container for the necessary parameters to
      *           execute the CreateSubnet operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
      *         CreateSubnet service method, as returned by AmazonEC2.
@@ -3738,11 +8733,21 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateSubnetResult> createSubnetAsync(final CreateSubnetRequest createSubnetRequest) 
-            throws AmazonServiceException, AmazonClientException {
+    public Future<CreateSubnetResult> createSubnetAsync(
+            final CreateSubnetRequest createSubnetRequest,
+            final AsyncHandler<CreateSubnetRequest, CreateSubnetResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<CreateSubnetResult>() {
             public CreateSubnetResult call() throws Exception {
-                return createSubnet(createSubnetRequest);
+                CreateSubnetResult result;
+                try {
+                    result = createSubnet(createSubnetRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createSubnetRequest, result);
+                return result;
 		    }
 		});
     }
@@ -3781,6 +8786,55 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * The DescribeReservedInstancesOfferings operation describes Reserved
+     * Instance offerings that are available for purchase. With Amazon EC2
+     * Reserved Instances, you purchase the right to launch Amazon EC2
+     * instances for a period of time (without getting insufficient capacity
+     * errors) and pay a lower usage rate for the actual time used.
+     * </p>
+     *
+     * @param describeReservedInstancesOfferingsRequest Container for the
+     *           necessary parameters to execute the DescribeReservedInstancesOfferings
+     *           operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeReservedInstancesOfferings service method, as returned by
+     *         AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeReservedInstancesOfferingsResult> describeReservedInstancesOfferingsAsync(
+            final DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest,
+            final AsyncHandler<DescribeReservedInstancesOfferingsRequest, DescribeReservedInstancesOfferingsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeReservedInstancesOfferingsResult>() {
+            public DescribeReservedInstancesOfferingsResult call() throws Exception {
+                DescribeReservedInstancesOfferingsResult result;
+                try {
+                    result = describeReservedInstancesOfferings(describeReservedInstancesOfferingsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeReservedInstancesOfferingsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes the snapshot identified by <code>snapshotId</code> .
@@ -3811,6 +8865,49 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Deletes the snapshot identified by <code>snapshotId</code> .
+     * 
+     * </p>
+     *
+     * @param deleteSnapshotRequest Container for the necessary parameters to
+     *           execute the DeleteSnapshot operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteSnapshot service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteSnapshotAsync(
+            final DeleteSnapshotRequest deleteSnapshotRequest,
+            final AsyncHandler<DeleteSnapshotRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteSnapshot(deleteSnapshotRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteSnapshotRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Changes which network ACL a subnet is associated with. By default
@@ -3843,6 +8940,53 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Changes which network ACL a subnet is associated with. By default
+     * when you create a subnet, it's automatically associated with the
+     * default network ACL. For more information about network ACLs, go to
+     * Network ACLs in the Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param replaceNetworkAclAssociationRequest Container for the necessary
+     *           parameters to execute the ReplaceNetworkAclAssociation operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ReplaceNetworkAclAssociation service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ReplaceNetworkAclAssociationResult> replaceNetworkAclAssociationAsync(
+            final ReplaceNetworkAclAssociationRequest replaceNetworkAclAssociationRequest,
+            final AsyncHandler<ReplaceNetworkAclAssociationRequest, ReplaceNetworkAclAssociationResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ReplaceNetworkAclAssociationResult>() {
+            public ReplaceNetworkAclAssociationResult call() throws Exception {
+                ReplaceNetworkAclAssociationResult result;
+                try {
+                    result = replaceNetworkAclAssociation(replaceNetworkAclAssociationRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(replaceNetworkAclAssociationRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The DisassociateAddress operation disassociates the specified elastic
@@ -3875,6 +9019,51 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * The DisassociateAddress operation disassociates the specified elastic
+     * IP address from the instance to which it is assigned. This is an
+     * idempotent operation. If you enter it more than once, Amazon EC2 does
+     * not return an error.
+     * </p>
+     *
+     * @param disassociateAddressRequest Container for the necessary
+     *           parameters to execute the DisassociateAddress operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DisassociateAddress service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> disassociateAddressAsync(
+            final DisassociateAddressRequest disassociateAddressRequest,
+            final AsyncHandler<DisassociateAddressRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    disassociateAddress(disassociateAddressRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(disassociateAddressRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Creates a PlacementGroup into which multiple Amazon EC2 instances can
@@ -3906,6 +9095,50 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Creates a PlacementGroup into which multiple Amazon EC2 instances can
+     * be launched. Users must give the group a name unique within the scope
+     * of the user account.
+     * </p>
+     *
+     * @param createPlacementGroupRequest Container for the necessary
+     *           parameters to execute the CreatePlacementGroup operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreatePlacementGroup service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> createPlacementGroupAsync(
+            final CreatePlacementGroupRequest createPlacementGroupRequest,
+            final AsyncHandler<CreatePlacementGroupRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    createPlacementGroup(createPlacementGroupRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createPlacementGroupRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The BundleInstance operation request that an instance is bundled the
@@ -3938,6 +9171,83 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * The BundleInstance operation request that an instance is bundled the
+     * next time it boots. The bundling process creates a new image from a
+     * running instance and stores the AMI data in S3. Once bundled, the
+     * image must be registered in the normal way using the RegisterImage
+     * API.
+     * </p>
+     *
+     * @param bundleInstanceRequest Container for the necessary parameters to
+     *           execute the BundleInstance operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         BundleInstance service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<BundleInstanceResult> bundleInstanceAsync(
+            final BundleInstanceRequest bundleInstanceRequest,
+            final AsyncHandler<BundleInstanceRequest, BundleInstanceResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<BundleInstanceResult>() {
+            public BundleInstanceResult call() throws Exception {
+                BundleInstanceResult result;
+                try {
+                    result = bundleInstance(bundleInstanceRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(bundleInstanceRequest, result);
+                return result;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Deletes a PlacementGroup from a user's account. Terminate all Amazon
+     * EC2 instances in the placement group before deletion.
+     * </p>
+     *
+     * @param deletePlacementGroupRequest Container for the necessary
+     *           parameters to execute the DeletePlacementGroup operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeletePlacementGroup service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deletePlacementGroupAsync(final DeletePlacementGroupRequest deletePlacementGroupRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                deletePlacementGroup(deletePlacementGroupRequest);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes a PlacementGroup from a user's account. Terminate all Amazon
@@ -3946,6 +9256,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *
      * @param deletePlacementGroupRequest Container for the necessary
      *           parameters to execute the DeletePlacementGroup operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
      *         DeletePlacementGroup service method, as returned by AmazonEC2.
@@ -3958,11 +9273,52 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deletePlacementGroupAsync(final DeletePlacementGroupRequest deletePlacementGroupRequest) 
+    public Future<Void> deletePlacementGroupAsync(
+            final DeletePlacementGroupRequest deletePlacementGroupRequest,
+            final AsyncHandler<DeletePlacementGroupRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deletePlacementGroup(deletePlacementGroupRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deletePlacementGroupRequest, null);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Deletes a VPC. You must detach or delete all gateways or other
+     * objects that are dependent on the VPC first. For example, you must
+     * terminate all running instances, delete all VPC security groups
+     * (except the default), delete all the route tables (except the
+     * default), etc.
+     * </p>
+     *
+     * @param deleteVpcRequest Container for the necessary parameters to
+     *           execute the DeleteVpc operation on AmazonEC2.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteVpc service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteVpcAsync(final DeleteVpcRequest deleteVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<Void>() {
             public Void call() throws Exception {
-                deletePlacementGroup(deletePlacementGroupRequest);
+                deleteVpc(deleteVpcRequest);
                 return null;
 		    }
 		});
@@ -3979,6 +9335,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *
      * @param deleteVpcRequest Container for the necessary parameters to
      *           execute the DeleteVpc operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
      *         DeleteVpc service method, as returned by AmazonEC2.
@@ -3991,11 +9352,19 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVpcAsync(final DeleteVpcRequest deleteVpcRequest) 
-            throws AmazonServiceException, AmazonClientException {
+    public Future<Void> deleteVpcAsync(
+            final DeleteVpcRequest deleteVpcRequest,
+            final AsyncHandler<DeleteVpcRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<Void>() {
             public Void call() throws Exception {
-                deleteVpc(deleteVpcRequest);
+                try {
+                    deleteVpc(deleteVpcRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteVpcRequest, null);
                 return null;
 		    }
 		});
@@ -4030,6 +9399,50 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * The AllocateAddress operation acquires an elastic IP address for use
+     * with your account.
+     * </p>
+     *
+     * @param allocateAddressRequest Container for the necessary parameters
+     *           to execute the AllocateAddress operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AllocateAddress service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<AllocateAddressResult> allocateAddressAsync(
+            final AllocateAddressRequest allocateAddressRequest,
+            final AsyncHandler<AllocateAddressRequest, AllocateAddressResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<AllocateAddressResult>() {
+            public AllocateAddressResult call() throws Exception {
+                AllocateAddressResult result;
+                try {
+                    result = allocateAddress(allocateAddressRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(allocateAddressRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The ReleaseAddress operation releases an elastic IP address
@@ -4074,6 +9487,63 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * The ReleaseAddress operation releases an elastic IP address
+     * associated with your account.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> Releasing an IP address automatically disassociates it
+     * from any instance with which it is associated. For more information,
+     * see DisassociateAddress.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> After releasing an elastic IP address, it is
+     * released to the IP address pool and might no longer be available to
+     * your account. Make sure to update your DNS records and any servers or
+     * devices that communicate with the address. If you run this operation
+     * on an elastic IP address that is already released, the address might
+     * be assigned to another account which will cause Amazon EC2 to return
+     * an error.
+     * </p>
+     *
+     * @param releaseAddressRequest Container for the necessary parameters to
+     *           execute the ReleaseAddress operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ReleaseAddress service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> releaseAddressAsync(
+            final ReleaseAddressRequest releaseAddressRequest,
+            final AsyncHandler<ReleaseAddressRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    releaseAddress(releaseAddressRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(releaseAddressRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Resets an attribute of an instance to its default value.
@@ -4104,6 +9574,49 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Resets an attribute of an instance to its default value.
+     * </p>
+     *
+     * @param resetInstanceAttributeRequest Container for the necessary
+     *           parameters to execute the ResetInstanceAttribute operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ResetInstanceAttribute service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> resetInstanceAttributeAsync(
+            final ResetInstanceAttributeRequest resetInstanceAttributeRequest,
+            final AsyncHandler<ResetInstanceAttributeRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    resetInstanceAttribute(resetInstanceAttributeRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(resetInstanceAttributeRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The CreateKeyPair operation creates a new 2048 bit RSA key pair and
@@ -4134,6 +9647,51 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * The CreateKeyPair operation creates a new 2048 bit RSA key pair and
+     * returns a unique ID that can be used to reference this key pair when
+     * launching new instances. For more information, see RunInstances.
+     * </p>
+     *
+     * @param createKeyPairRequest Container for the necessary parameters to
+     *           execute the CreateKeyPair operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateKeyPair service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateKeyPairResult> createKeyPairAsync(
+            final CreateKeyPairRequest createKeyPairRequest,
+            final AsyncHandler<CreateKeyPairRequest, CreateKeyPairResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateKeyPairResult>() {
+            public CreateKeyPairResult call() throws Exception {
+                CreateKeyPairResult result;
+                try {
+                    result = createKeyPair(createKeyPairRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createKeyPairRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Replaces an entry (i.e., rule) in a network ACL. For more information
@@ -4166,6 +9724,51 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Replaces an entry (i.e., rule) in a network ACL. For more information
+     * about network ACLs, go to Network ACLs in the Amazon Virtual Private
+     * Cloud User Guide.
+     * </p>
+     *
+     * @param replaceNetworkAclEntryRequest Container for the necessary
+     *           parameters to execute the ReplaceNetworkAclEntry operation on
+     *           AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ReplaceNetworkAclEntry service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> replaceNetworkAclEntryAsync(
+            final ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest,
+            final AsyncHandler<ReplaceNetworkAclEntryRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    replaceNetworkAclEntry(replaceNetworkAclEntryRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(replaceNetworkAclEntryRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns information about the Amazon EBS snapshots available to you.
@@ -4198,6 +9801,53 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Returns information about the Amazon EBS snapshots available to you.
+     * Snapshots available to you include public snapshots available for any
+     * AWS account to launch, private snapshots you own, and private
+     * snapshots owned by another AWS account but for which you've been given
+     * explicit create volume permissions.
+     * </p>
+     *
+     * @param describeSnapshotsRequest Container for the necessary parameters
+     *           to execute the DescribeSnapshots operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeSnapshots service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeSnapshotsResult> describeSnapshotsAsync(
+            final DescribeSnapshotsRequest describeSnapshotsRequest,
+            final AsyncHandler<DescribeSnapshotsRequest, DescribeSnapshotsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeSnapshotsResult>() {
+            public DescribeSnapshotsResult call() throws Exception {
+                DescribeSnapshotsResult result;
+                try {
+                    result = describeSnapshots(describeSnapshotsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeSnapshotsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Creates a new network ACL in a VPC. Network ACLs provide an optional
@@ -4229,6 +9879,52 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * Creates a new network ACL in a VPC. Network ACLs provide an optional
+     * layer of security (on top of security groups) for the instances in
+     * your VPC. For more information about network ACLs, go to Network ACLs
+     * in the Amazon Virtual Private Cloud User Guide.
+     * </p>
+     *
+     * @param createNetworkAclRequest Container for the necessary parameters
+     *           to execute the CreateNetworkAcl operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateNetworkAcl service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateNetworkAclResult> createNetworkAclAsync(
+            final CreateNetworkAclRequest createNetworkAclRequest,
+            final AsyncHandler<CreateNetworkAclRequest, CreateNetworkAclResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateNetworkAclResult>() {
+            public CreateNetworkAclResult call() throws Exception {
+                CreateNetworkAclResult result;
+                try {
+                    result = createNetworkAcl(createNetworkAclRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createNetworkAclRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The RegisterImage operation registers an AMI with Amazon EC2. Images
@@ -4273,5 +9969,64 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
 		});
     }
     
+    /**
+     * <p>
+     * The RegisterImage operation registers an AMI with Amazon EC2. Images
+     * must be registered before they can be launched. For more information,
+     * see RunInstances.
+     * </p>
+     * <p>
+     * Each AMI is associated with an unique ID which is provided by the
+     * Amazon EC2 service through the RegisterImage operation. During
+     * registration, Amazon EC2 retrieves the specified image manifest from
+     * Amazon S3 and verifies that the image is owned by the user registering
+     * the image.
+     * </p>
+     * <p>
+     * The image manifest is retrieved once and stored within the Amazon
+     * EC2. Any modifications to an image in Amazon S3 invalidates this
+     * registration. If you make changes to an image, deregister the previous
+     * image and register the new image. For more information, see
+     * DeregisterImage.
+     * </p>
+     *
+     * @param registerImageRequest Container for the necessary parameters to
+     *           execute the RegisterImage operation on AmazonEC2.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RegisterImage service method, as returned by AmazonEC2.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonEC2 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<RegisterImageResult> registerImageAsync(
+            final RegisterImageRequest registerImageRequest,
+            final AsyncHandler<RegisterImageRequest, RegisterImageResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<RegisterImageResult>() {
+            public RegisterImageResult call() throws Exception {
+                RegisterImageResult result;
+                try {
+                    result = registerImage(registerImageRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(registerImageRequest, result);
+                return result;
+		    }
+		});
+    }
+    
 }
         
\ No newline at end of file
@@ -78,6 +78,12 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers;
 
+    /**
+     * Handles error responses for all service calls, built once so its index
+     * of exception unmarshallers is shared across calls.
+     */
+    private final DefaultErrorResponseHandler errorResponseHandler;
+
     
     /** AWS signer for authenticating requests. */
     private QueryStringSigner signer;
@@ -120,6 +126,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
         exceptionUnmarshallers = new ArrayList<Unmarshaller<AmazonServiceException, Node>>();
         
         exceptionUnmarshallers.add(new LegacyErrorUnmarshaller());
+        errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
         setEndpoint("ec2.amazonaws.com");
 
         signer = new QueryStringSigner();
@@ -153,7 +160,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void rebootInstances(RebootInstancesRequest rebootInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<RebootInstancesRequest> request = new RebootInstancesRequestMarshaller().marshall(rebootInstancesRequest);
+        Request<RebootInstancesRequest> request = RebootInstancesRequestMarshaller.getInstance().marshall(rebootInstancesRequest);
         invoke(request, null);
     }
     
@@ -181,8 +188,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeReservedInstancesResult describeReservedInstances(DescribeReservedInstancesRequest describeReservedInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeReservedInstancesRequest> request = new DescribeReservedInstancesRequestMarshaller().marshall(describeReservedInstancesRequest);
-        return invoke(request, new DescribeReservedInstancesResultStaxUnmarshaller());
+        Request<DescribeReservedInstancesRequest> request = DescribeReservedInstancesRequestMarshaller.getInstance().marshall(describeReservedInstancesRequest);
+        return invoke(request, DescribeReservedInstancesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -215,8 +222,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeAvailabilityZonesResult describeAvailabilityZones(DescribeAvailabilityZonesRequest describeAvailabilityZonesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeAvailabilityZonesRequest> request = new DescribeAvailabilityZonesRequestMarshaller().marshall(describeAvailabilityZonesRequest);
-        return invoke(request, new DescribeAvailabilityZonesResultStaxUnmarshaller());
+        Request<DescribeAvailabilityZonesRequest> request = DescribeAvailabilityZonesRequestMarshaller.getInstance().marshall(describeAvailabilityZonesRequest);
+        return invoke(request, DescribeAvailabilityZonesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -241,8 +248,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DetachVolumeResult detachVolume(DetachVolumeRequest detachVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DetachVolumeRequest> request = new DetachVolumeRequestMarshaller().marshall(detachVolumeRequest);
-        return invoke(request, new DetachVolumeResultStaxUnmarshaller());
+        Request<DetachVolumeRequest> request = DetachVolumeRequestMarshaller.getInstance().marshall(detachVolumeRequest);
+        return invoke(request, DetachVolumeResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -264,7 +271,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void deleteKeyPair(DeleteKeyPairRequest deleteKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteKeyPairRequest> request = new DeleteKeyPairRequestMarshaller().marshall(deleteKeyPairRequest);
+        Request<DeleteKeyPairRequest> request = DeleteKeyPairRequestMarshaller.getInstance().marshall(deleteKeyPairRequest);
         invoke(request, null);
     }
     
@@ -291,8 +298,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public UnmonitorInstancesResult unmonitorInstances(UnmonitorInstancesRequest unmonitorInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<UnmonitorInstancesRequest> request = new UnmonitorInstancesRequestMarshaller().marshall(unmonitorInstancesRequest);
-        return invoke(request, new UnmonitorInstancesResultStaxUnmarshaller());
+        Request<UnmonitorInstancesRequest> request = UnmonitorInstancesRequestMarshaller.getInstance().marshall(unmonitorInstancesRequest);
+        return invoke(request, UnmonitorInstancesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -320,8 +327,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public AttachVpnGatewayResult attachVpnGateway(AttachVpnGatewayRequest attachVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<AttachVpnGatewayRequest> request = new AttachVpnGatewayRequestMarshaller().marshall(attachVpnGatewayRequest);
-        return invoke(request, new AttachVpnGatewayResultStaxUnmarshaller());
+        Request<AttachVpnGatewayRequest> request = AttachVpnGatewayRequestMarshaller.getInstance().marshall(attachVpnGatewayRequest);
+        return invoke(request, AttachVpnGatewayResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -350,8 +357,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public CreateImageResult createImage(CreateImageRequest createImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateImageRequest> request = new CreateImageRequestMarshaller().marshall(createImageRequest);
-        return invoke(request, new CreateImageResultStaxUnmarshaller());
+        Request<CreateImageRequest> request = CreateImageRequestMarshaller.getInstance().marshall(createImageRequest);
+        return invoke(request, CreateImageResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -382,7 +389,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void deleteSecurityGroup(DeleteSecurityGroupRequest deleteSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteSecurityGroupRequest> request = new DeleteSecurityGroupRequestMarshaller().marshall(deleteSecurityGroupRequest);
+        Request<DeleteSecurityGroupRequest> request = DeleteSecurityGroupRequestMarshaller.getInstance().marshall(deleteSecurityGroupRequest);
         invoke(request, null);
     }
     
@@ -430,7 +437,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void authorizeSecurityGroupEgress(AuthorizeSecurityGroupEgressRequest authorizeSecurityGroupEgressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<AuthorizeSecurityGroupEgressRequest> request = new AuthorizeSecurityGroupEgressRequestMarshaller().marshall(authorizeSecurityGroupEgressRequest);
+        Request<AuthorizeSecurityGroupEgressRequest> request = AuthorizeSecurityGroupEgressRequestMarshaller.getInstance().marshall(authorizeSecurityGroupEgressRequest);
         invoke(request, null);
     }
     
@@ -463,8 +470,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public GetPasswordDataResult getPasswordData(GetPasswordDataRequest getPasswordDataRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<GetPasswordDataRequest> request = new GetPasswordDataRequestMarshaller().marshall(getPasswordDataRequest);
-        return invoke(request, new GetPasswordDataResultStaxUnmarshaller());
+        Request<GetPasswordDataRequest> request = GetPasswordDataRequestMarshaller.getInstance().marshall(getPasswordDataRequest);
+        return invoke(request, GetPasswordDataResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -495,7 +502,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void associateDhcpOptions(AssociateDhcpOptionsRequest associateDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<AssociateDhcpOptionsRequest> request = new AssociateDhcpOptionsRequestMarshaller().marshall(associateDhcpOptionsRequest);
+        Request<AssociateDhcpOptionsRequest> request = AssociateDhcpOptionsRequestMarshaller.getInstance().marshall(associateDhcpOptionsRequest);
         invoke(request, null);
     }
     
@@ -533,8 +540,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public StopInstancesResult stopInstances(StopInstancesRequest stopInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<StopInstancesRequest> request = new StopInstancesRequestMarshaller().marshall(stopInstancesRequest);
-        return invoke(request, new StopInstancesResultStaxUnmarshaller());
+        Request<StopInstancesRequest> request = StopInstancesRequestMarshaller.getInstance().marshall(stopInstancesRequest);
+        return invoke(request, StopInstancesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -579,8 +586,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public ImportKeyPairResult importKeyPair(ImportKeyPairRequest importKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ImportKeyPairRequest> request = new ImportKeyPairRequestMarshaller().marshall(importKeyPairRequest);
-        return invoke(request, new ImportKeyPairResultStaxUnmarshaller());
+        Request<ImportKeyPairRequest> request = ImportKeyPairRequestMarshaller.getInstance().marshall(importKeyPairRequest);
+        return invoke(request, ImportKeyPairResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -616,8 +623,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public CreateSecurityGroupResult createSecurityGroup(CreateSecurityGroupRequest createSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateSecurityGroupRequest> request = new CreateSecurityGroupRequestMarshaller().marshall(createSecurityGroupRequest);
-        return invoke(request, new CreateSecurityGroupResultStaxUnmarshaller());
+        Request<CreateSecurityGroupRequest> request = CreateSecurityGroupRequestMarshaller.getInstance().marshall(createSecurityGroupRequest);
+        return invoke(request, CreateSecurityGroupResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -655,8 +662,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeSpotPriceHistoryResult describeSpotPriceHistory(DescribeSpotPriceHistoryRequest describeSpotPriceHistoryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeSpotPriceHistoryRequest> request = new DescribeSpotPriceHistoryRequestMarshaller().marshall(describeSpotPriceHistoryRequest);
-        return invoke(request, new DescribeSpotPriceHistoryResultStaxUnmarshaller());
+        Request<DescribeSpotPriceHistoryRequest> request = DescribeSpotPriceHistoryRequestMarshaller.getInstance().marshall(describeSpotPriceHistoryRequest);
+        return invoke(request, DescribeSpotPriceHistoryResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -682,8 +689,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeRegionsResult describeRegions(DescribeRegionsRequest describeRegionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeRegionsRequest> request = new DescribeRegionsRequestMarshaller().marshall(describeRegionsRequest);
-        return invoke(request, new DescribeRegionsResultStaxUnmarshaller());
+        Request<DescribeRegionsRequest> request = DescribeRegionsRequestMarshaller.getInstance().marshall(describeRegionsRequest);
+        return invoke(request, DescribeRegionsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -714,8 +721,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public CreateDhcpOptionsResult createDhcpOptions(CreateDhcpOptionsRequest createDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateDhcpOptionsRequest> request = new CreateDhcpOptionsRequestMarshaller().marshall(createDhcpOptionsRequest);
-        return invoke(request, new CreateDhcpOptionsResultStaxUnmarshaller());
+        Request<CreateDhcpOptionsRequest> request = CreateDhcpOptionsRequestMarshaller.getInstance().marshall(createDhcpOptionsRequest);
+        return invoke(request, CreateDhcpOptionsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -738,7 +745,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void resetSnapshotAttribute(ResetSnapshotAttributeRequest resetSnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ResetSnapshotAttributeRequest> request = new ResetSnapshotAttributeRequestMarshaller().marshall(resetSnapshotAttributeRequest);
+        Request<ResetSnapshotAttributeRequest> request = ResetSnapshotAttributeRequestMarshaller.getInstance().marshall(resetSnapshotAttributeRequest);
         invoke(request, null);
     }
     
@@ -764,7 +771,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void deleteRoute(DeleteRouteRequest deleteRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteRouteRequest> request = new DeleteRouteRequestMarshaller().marshall(deleteRouteRequest);
+        Request<DeleteRouteRequest> request = DeleteRouteRequestMarshaller.getInstance().marshall(deleteRouteRequest);
         invoke(request, null);
     }
     
@@ -811,8 +818,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeInternetGatewaysResult describeInternetGateways(DescribeInternetGatewaysRequest describeInternetGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeInternetGatewaysRequest> request = new DescribeInternetGatewaysRequestMarshaller().marshall(describeInternetGatewaysRequest);
-        return invoke(request, new DescribeInternetGatewaysResultStaxUnmarshaller());
+        Request<DescribeInternetGatewaysRequest> request = DescribeInternetGatewaysRequestMarshaller.getInstance().marshall(describeInternetGatewaysRequest);
+        return invoke(request, DescribeInternetGatewaysResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -845,8 +852,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeSecurityGroupsResult describeSecurityGroups(DescribeSecurityGroupsRequest describeSecurityGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeSecurityGroupsRequest> request = new DescribeSecurityGroupsRequestMarshaller().marshall(describeSecurityGroupsRequest);
-        return invoke(request, new DescribeSecurityGroupsResultStaxUnmarshaller());
+        Request<DescribeSecurityGroupsRequest> request = DescribeSecurityGroupsRequestMarshaller.getInstance().marshall(describeSecurityGroupsRequest);
+        return invoke(request, DescribeSecurityGroupsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -875,7 +882,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void detachVpnGateway(DetachVpnGatewayRequest detachVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DetachVpnGatewayRequest> request = new DetachVpnGatewayRequestMarshaller().marshall(detachVpnGatewayRequest);
+        Request<DetachVpnGatewayRequest> request = DetachVpnGatewayRequestMarshaller.getInstance().marshall(detachVpnGatewayRequest);
         invoke(request, null);
     }
     
@@ -899,7 +906,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void deregisterImage(DeregisterImageRequest deregisterImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeregisterImageRequest> request = new DeregisterImageRequestMarshaller().marshall(deregisterImageRequest);
+        Request<DeregisterImageRequest> request = DeregisterImageRequestMarshaller.getInstance().marshall(deregisterImageRequest);
         invoke(request, null);
     }
     
@@ -932,8 +939,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeSpotDatafeedSubscriptionResult describeSpotDatafeedSubscription(DescribeSpotDatafeedSubscriptionRequest describeSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeSpotDatafeedSubscriptionRequest> request = new DescribeSpotDatafeedSubscriptionRequestMarshaller().marshall(describeSpotDatafeedSubscriptionRequest);
-        return invoke(request, new DescribeSpotDatafeedSubscriptionResultStaxUnmarshaller());
+        Request<DescribeSpotDatafeedSubscriptionRequest> request = DescribeSpotDatafeedSubscriptionRequestMarshaller.getInstance().marshall(describeSpotDatafeedSubscriptionRequest);
+        return invoke(request, DescribeSpotDatafeedSubscriptionResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -955,7 +962,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void deleteTags(DeleteTagsRequest deleteTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteTagsRequest> request = new DeleteTagsRequestMarshaller().marshall(deleteTagsRequest);
+        Request<DeleteTagsRequest> request = DeleteTagsRequestMarshaller.getInstance().marshall(deleteTagsRequest);
         invoke(request, null);
     }
     
@@ -980,7 +987,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void deleteSubnet(DeleteSubnetRequest deleteSubnetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteSubnetRequest> request = new DeleteSubnetRequestMarshaller().marshall(deleteSubnetRequest);
+        Request<DeleteSubnetRequest> request = DeleteSubnetRequestMarshaller.getInstance().marshall(deleteSubnetRequest);
         invoke(request, null);
     }
     
@@ -1008,8 +1015,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public CreateVpnGatewayResult createVpnGateway(CreateVpnGatewayRequest createVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateVpnGatewayRequest> request = new CreateVpnGatewayRequestMarshaller().marshall(createVpnGatewayRequest);
-        return invoke(request, new CreateVpnGatewayResultStaxUnmarshaller());
+        Request<CreateVpnGatewayRequest> request = CreateVpnGatewayRequestMarshaller.getInstance().marshall(createVpnGatewayRequest);
+        return invoke(request, CreateVpnGatewayResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1036,7 +1043,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void deleteVpnGateway(DeleteVpnGatewayRequest deleteVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteVpnGatewayRequest> request = new DeleteVpnGatewayRequestMarshaller().marshall(deleteVpnGatewayRequest);
+        Request<DeleteVpnGatewayRequest> request = DeleteVpnGatewayRequestMarshaller.getInstance().marshall(deleteVpnGatewayRequest);
         invoke(request, null);
     }
     
@@ -1062,8 +1069,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public AttachVolumeResult attachVolume(AttachVolumeRequest attachVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<AttachVolumeRequest> request = new AttachVolumeRequestMarshaller().marshall(attachVolumeRequest);
-        return invoke(request, new AttachVolumeResultStaxUnmarshaller());
+        Request<AttachVolumeRequest> request = AttachVolumeRequestMarshaller.getInstance().marshall(attachVolumeRequest);
+        return invoke(request, AttachVolumeResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1090,8 +1097,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeLicensesResult describeLicenses(DescribeLicensesRequest describeLicensesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeLicensesRequest> request = new DescribeLicensesRequestMarshaller().marshall(describeLicensesRequest);
-        return invoke(request, new DescribeLicensesResultStaxUnmarshaller());
+        Request<DescribeLicensesRequest> request = DescribeLicensesRequestMarshaller.getInstance().marshall(describeLicensesRequest);
+        return invoke(request, DescribeLicensesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1114,7 +1121,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void activateLicense(ActivateLicenseRequest activateLicenseRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ActivateLicenseRequest> request = new ActivateLicenseRequestMarshaller().marshall(activateLicenseRequest);
+        Request<ActivateLicenseRequest> request = ActivateLicenseRequestMarshaller.getInstance().marshall(activateLicenseRequest);
         invoke(request, null);
     }
     
@@ -1142,7 +1149,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void resetImageAttribute(ResetImageAttributeRequest resetImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ResetImageAttributeRequest> request = new ResetImageAttributeRequestMarshaller().marshall(resetImageAttributeRequest);
+        Request<ResetImageAttributeRequest> request = ResetImageAttributeRequestMarshaller.getInstance().marshall(resetImageAttributeRequest);
         invoke(request, null);
     }
     
@@ -1184,8 +1191,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeVpnConnectionsResult describeVpnConnections(DescribeVpnConnectionsRequest describeVpnConnectionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeVpnConnectionsRequest> request = new DescribeVpnConnectionsRequestMarshaller().marshall(describeVpnConnectionsRequest);
-        return invoke(request, new DescribeVpnConnectionsResultStaxUnmarshaller());
+        Request<DescribeVpnConnectionsRequest> request = DescribeVpnConnectionsRequestMarshaller.getInstance().marshall(describeVpnConnectionsRequest);
+        return invoke(request, DescribeVpnConnectionsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1220,8 +1227,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public CreateSnapshotResult createSnapshot(CreateSnapshotRequest createSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateSnapshotRequest> request = new CreateSnapshotRequestMarshaller().marshall(createSnapshotRequest);
-        return invoke(request, new CreateSnapshotResultStaxUnmarshaller());
+        Request<CreateSnapshotRequest> request = CreateSnapshotRequestMarshaller.getInstance().marshall(createSnapshotRequest);
+        return invoke(request, CreateSnapshotResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1244,7 +1251,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void deleteVolume(DeleteVolumeRequest deleteVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteVolumeRequest> request = new DeleteVolumeRequestMarshaller().marshall(deleteVolumeRequest);
+        Request<DeleteVolumeRequest> request = DeleteVolumeRequestMarshaller.getInstance().marshall(deleteVolumeRequest);
         invoke(request, null);
     }
     
@@ -1283,8 +1290,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeVpcsResult describeVpcs(DescribeVpcsRequest describeVpcsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeVpcsRequest> request = new DescribeVpcsRequestMarshaller().marshall(describeVpcsRequest);
-        return invoke(request, new DescribeVpcsResultStaxUnmarshaller());
+        Request<DescribeVpcsRequest> request = DescribeVpcsRequestMarshaller.getInstance().marshall(describeVpcsRequest);
+        return invoke(request, DescribeVpcsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1308,7 +1315,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void deactivateLicense(DeactivateLicenseRequest deactivateLicenseRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeactivateLicenseRequest> request = new DeactivateLicenseRequestMarshaller().marshall(deactivateLicenseRequest);
+        Request<DeactivateLicenseRequest> request = DeactivateLicenseRequestMarshaller.getInstance().marshall(deactivateLicenseRequest);
         invoke(request, null);
     }
     
@@ -1341,8 +1348,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public AssociateAddressResult associateAddress(AssociateAddressRequest associateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<AssociateAddressRequest> request = new AssociateAddressRequestMarshaller().marshall(associateAddressRequest);
-        return invoke(request, new AssociateAddressResultStaxUnmarshaller());
+        Request<AssociateAddressRequest> request = AssociateAddressRequestMarshaller.getInstance().marshall(associateAddressRequest);
+        return invoke(request, AssociateAddressResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1372,7 +1379,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void deleteCustomerGateway(DeleteCustomerGatewayRequest deleteCustomerGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteCustomerGatewayRequest> request = new DeleteCustomerGatewayRequestMarshaller().marshall(deleteCustomerGatewayRequest);
+        Request<DeleteCustomerGatewayRequest> request = DeleteCustomerGatewayRequestMarshaller.getInstance().marshall(deleteCustomerGatewayRequest);
         invoke(request, null);
     }
     
@@ -1415,7 +1422,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void createNetworkAclEntry(CreateNetworkAclEntryRequest createNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateNetworkAclEntryRequest> request = new CreateNetworkAclEntryRequestMarshaller().marshall(createNetworkAclEntryRequest);
+        Request<CreateNetworkAclEntryRequest> request = CreateNetworkAclEntryRequestMarshaller.getInstance().marshall(createNetworkAclEntryRequest);
         invoke(request, null);
     }
     
@@ -1447,7 +1454,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void detachInternetGateway(DetachInternetGatewayRequest detachInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DetachInternetGatewayRequest> request = new DetachInternetGatewayRequestMarshaller().marshall(detachInternetGatewayRequest);
+        Request<DetachInternetGatewayRequest> request = DetachInternetGatewayRequestMarshaller.getInstance().marshall(detachInternetGatewayRequest);
         invoke(request, null);
     }
     
@@ -1477,8 +1484,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public CreateRouteTableResult createRouteTable(CreateRouteTableRequest createRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateRouteTableRequest> request = new CreateRouteTableRequestMarshaller().marshall(createRouteTableRequest);
-        return invoke(request, new CreateRouteTableResultStaxUnmarshaller());
+        Request<CreateRouteTableRequest> request = CreateRouteTableRequestMarshaller.getInstance().marshall(createRouteTableRequest);
+        return invoke(request, CreateRouteTableResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1505,8 +1512,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeVolumesResult describeVolumes(DescribeVolumesRequest describeVolumesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeVolumesRequest> request = new DescribeVolumesRequestMarshaller().marshall(describeVolumesRequest);
-        return invoke(request, new DescribeVolumesResultStaxUnmarshaller());
+        Request<DescribeVolumesRequest> request = DescribeVolumesRequestMarshaller.getInstance().marshall(describeVolumesRequest);
+        return invoke(request, DescribeVolumesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1552,8 +1559,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeRouteTablesResult describeRouteTables(DescribeRouteTablesRequest describeRouteTablesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeRouteTablesRequest> request = new DescribeRouteTablesRequestMarshaller().marshall(describeRouteTablesRequest);
-        return invoke(request, new DescribeRouteTablesResultStaxUnmarshaller());
+        Request<DescribeRouteTablesRequest> request = DescribeRouteTablesRequestMarshaller.getInstance().marshall(describeRouteTablesRequest);
+        return invoke(request, DescribeRouteTablesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1578,8 +1585,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public MonitorInstancesResult monitorInstances(MonitorInstancesRequest monitorInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<MonitorInstancesRequest> request = new MonitorInstancesRequestMarshaller().marshall(monitorInstancesRequest);
-        return invoke(request, new MonitorInstancesResultStaxUnmarshaller());
+        Request<MonitorInstancesRequest> request = MonitorInstancesRequestMarshaller.getInstance().marshall(monitorInstancesRequest);
+        return invoke(request, MonitorInstancesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1613,8 +1620,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeDhcpOptionsResult describeDhcpOptions(DescribeDhcpOptionsRequest describeDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeDhcpOptionsRequest> request = new DescribeDhcpOptionsRequestMarshaller().marshall(describeDhcpOptionsRequest);
-        return invoke(request, new DescribeDhcpOptionsResultStaxUnmarshaller());
+        Request<DescribeDhcpOptionsRequest> request = DescribeDhcpOptionsRequestMarshaller.getInstance().marshall(describeDhcpOptionsRequest);
+        return invoke(request, DescribeDhcpOptionsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1659,8 +1666,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeNetworkAclsResult describeNetworkAcls(DescribeNetworkAclsRequest describeNetworkAclsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeNetworkAclsRequest> request = new DescribeNetworkAclsRequestMarshaller().marshall(describeNetworkAclsRequest);
-        return invoke(request, new DescribeNetworkAclsResultStaxUnmarshaller());
+        Request<DescribeNetworkAclsRequest> request = DescribeNetworkAclsRequestMarshaller.getInstance().marshall(describeNetworkAclsRequest);
+        return invoke(request, DescribeNetworkAclsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1689,8 +1696,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeBundleTasksResult describeBundleTasks(DescribeBundleTasksRequest describeBundleTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeBundleTasksRequest> request = new DescribeBundleTasksRequestMarshaller().marshall(describeBundleTasksRequest);
-        return invoke(request, new DescribeBundleTasksResultStaxUnmarshaller());
+        Request<DescribeBundleTasksRequest> request = DescribeBundleTasksRequestMarshaller.getInstance().marshall(describeBundleTasksRequest);
+        return invoke(request, DescribeBundleTasksResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1726,7 +1733,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void revokeSecurityGroupIngress(RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<RevokeSecurityGroupIngressRequest> request = new RevokeSecurityGroupIngressRequestMarshaller().marshall(revokeSecurityGroupIngressRequest);
+        Request<RevokeSecurityGroupIngressRequest> request = RevokeSecurityGroupIngressRequestMarshaller.getInstance().marshall(revokeSecurityGroupIngressRequest);
         invoke(request, null);
     }
     
@@ -1759,8 +1766,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public GetConsoleOutputResult getConsoleOutput(GetConsoleOutputRequest getConsoleOutputRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<GetConsoleOutputRequest> request = new GetConsoleOutputRequestMarshaller().marshall(getConsoleOutputRequest);
-        return invoke(request, new GetConsoleOutputResultStaxUnmarshaller());
+        Request<GetConsoleOutputRequest> request = GetConsoleOutputRequestMarshaller.getInstance().marshall(getConsoleOutputRequest);
+        return invoke(request, GetConsoleOutputResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1790,8 +1797,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public CreateInternetGatewayResult createInternetGateway(CreateInternetGatewayRequest createInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateInternetGatewayRequest> request = new CreateInternetGatewayRequestMarshaller().marshall(createInternetGatewayRequest);
-        return invoke(request, new CreateInternetGatewayResultStaxUnmarshaller());
+        Request<CreateInternetGatewayRequest> request = CreateInternetGatewayRequestMarshaller.getInstance().marshall(createInternetGatewayRequest);
+        return invoke(request, CreateInternetGatewayResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1814,7 +1821,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void modifyImageAttribute(ModifyImageAttributeRequest modifyImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ModifyImageAttributeRequest> request = new ModifyImageAttributeRequestMarshaller().marshall(modifyImageAttributeRequest);
+        Request<ModifyImageAttributeRequest> request = ModifyImageAttributeRequestMarshaller.getInstance().marshall(modifyImageAttributeRequest);
         invoke(request, null);
     }
     
@@ -1861,8 +1868,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public CreateCustomerGatewayResult createCustomerGateway(CreateCustomerGatewayRequest createCustomerGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateCustomerGatewayRequest> request = new CreateCustomerGatewayRequestMarshaller().marshall(createCustomerGatewayRequest);
-        return invoke(request, new CreateCustomerGatewayResultStaxUnmarshaller());
+        Request<CreateCustomerGatewayRequest> request = CreateCustomerGatewayRequestMarshaller.getInstance().marshall(createCustomerGatewayRequest);
+        return invoke(request, CreateCustomerGatewayResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1895,8 +1902,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public CreateSpotDatafeedSubscriptionResult createSpotDatafeedSubscription(CreateSpotDatafeedSubscriptionRequest createSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateSpotDatafeedSubscriptionRequest> request = new CreateSpotDatafeedSubscriptionRequestMarshaller().marshall(createSpotDatafeedSubscriptionRequest);
-        return invoke(request, new CreateSpotDatafeedSubscriptionResultStaxUnmarshaller());
+        Request<CreateSpotDatafeedSubscriptionRequest> request = CreateSpotDatafeedSubscriptionRequestMarshaller.getInstance().marshall(createSpotDatafeedSubscriptionRequest);
+        return invoke(request, CreateSpotDatafeedSubscriptionResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1921,7 +1928,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void attachInternetGateway(AttachInternetGatewayRequest attachInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<AttachInternetGatewayRequest> request = new AttachInternetGatewayRequestMarshaller().marshall(attachInternetGatewayRequest);
+        Request<AttachInternetGatewayRequest> request = AttachInternetGatewayRequestMarshaller.getInstance().marshall(attachInternetGatewayRequest);
         invoke(request, null);
     }
     
@@ -1957,7 +1964,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void deleteVpnConnection(DeleteVpnConnectionRequest deleteVpnConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteVpnConnectionRequest> request = new DeleteVpnConnectionRequestMarshaller().marshall(deleteVpnConnectionRequest);
+        Request<DeleteVpnConnectionRequest> request = DeleteVpnConnectionRequestMarshaller.getInstance().marshall(deleteVpnConnectionRequest);
         invoke(request, null);
     }
     
@@ -2003,8 +2010,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public CreateVpnConnectionResult createVpnConnection(CreateVpnConnectionRequest createVpnConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateVpnConnectionRequest> request = new CreateVpnConnectionRequestMarshaller().marshall(createVpnConnectionRequest);
-        return invoke(request, new CreateVpnConnectionResultStaxUnmarshaller());
+        Request<CreateVpnConnectionRequest> request = CreateVpnConnectionRequestMarshaller.getInstance().marshall(createVpnConnectionRequest);
+        return invoke(request, CreateVpnConnectionResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -2031,8 +2038,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeInstanceAttributeResult describeInstanceAttribute(DescribeInstanceAttributeRequest describeInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeInstanceAttributeRequest> request = new DescribeInstanceAttributeRequestMarshaller().marshall(describeInstanceAttributeRequest);
-        return invoke(request, new DescribeInstanceAttributeResultStaxUnmarshaller());
+        Request<DescribeInstanceAttributeRequest> request = DescribeInstanceAttributeRequestMarshaller.getInstance().marshall(describeInstanceAttributeRequest);
+        return invoke(request, DescribeInstanceAttributeResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -2071,8 +2078,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeSubnetsResult describeSubnets(DescribeSubnetsRequest describeSubnetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeSubnetsRequest> request = new DescribeSubnetsRequestMarshaller().marshall(describeSubnetsRequest);
-        return invoke(request, new DescribeSubnetsResultStaxUnmarshaller());
+        Request<DescribeSubnetsRequest> request = DescribeSubnetsRequestMarshaller.getInstance().marshall(describeSubnetsRequest);
+        return invoke(request, DescribeSubnetsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -2146,8 +2153,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public RunInstancesResult runInstances(RunInstancesRequest runInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<RunInstancesRequest> request = new RunInstancesRequestMarshaller().marshall(runInstancesRequest);
-        return invoke(request, new RunInstancesResultStaxUnmarshaller());
+        Request<RunInstancesRequest> request = RunInstancesRequestMarshaller.getInstance().marshall(runInstancesRequest);
+        return invoke(request, RunInstancesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -2174,8 +2181,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribePlacementGroupsResult describePlacementGroups(DescribePlacementGroupsRequest describePlacementGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribePlacementGroupsRequest> request = new DescribePlacementGroupsRequestMarshaller().marshall(describePlacementGroupsRequest);
-        return invoke(request, new DescribePlacementGroupsResultStaxUnmarshaller());
+        Request<DescribePlacementGroupsRequest> request = DescribePlacementGroupsRequestMarshaller.getInstance().marshall(describePlacementGroupsRequest);
+        return invoke(request, DescribePlacementGroupsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -2211,8 +2218,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public AssociateRouteTableResult associateRouteTable(AssociateRouteTableRequest associateRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<AssociateRouteTableRequest> request = new AssociateRouteTableRequestMarshaller().marshall(associateRouteTableRequest);
-        return invoke(request, new AssociateRouteTableResultStaxUnmarshaller());
+        Request<AssociateRouteTableRequest> request = AssociateRouteTableRequestMarshaller.getInstance().marshall(associateRouteTableRequest);
+        return invoke(request, AssociateRouteTableResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -2250,8 +2257,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeInstancesResult describeInstances(DescribeInstancesRequest describeInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeInstancesRequest> request = new DescribeInstancesRequestMarshaller().marshall(describeInstancesRequest);
-        return invoke(request, new DescribeInstancesResultStaxUnmarshaller());
+        Request<DescribeInstancesRequest> request = DescribeInstancesRequestMarshaller.getInstance().marshall(describeInstancesRequest);
+        return invoke(request, DescribeInstancesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -2276,7 +2283,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void deleteNetworkAcl(DeleteNetworkAclRequest deleteNetworkAclRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteNetworkAclRequest> request = new DeleteNetworkAclRequestMarshaller().marshall(deleteNetworkAclRequest);
+        Request<DeleteNetworkAclRequest> request = DeleteNetworkAclRequestMarshaller.getInstance().marshall(deleteNetworkAclRequest);
         invoke(request, null);
     }
     
@@ -2349,8 +2356,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeImagesResult describeImages(DescribeImagesRequest describeImagesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeImagesRequest> request = new DescribeImagesRequestMarshaller().marshall(describeImagesRequest);
-        return invoke(request, new DescribeImagesResultStaxUnmarshaller());
+        Request<DescribeImagesRequest> request = DescribeImagesRequestMarshaller.getInstance().marshall(describeImagesRequest);
+        return invoke(request, DescribeImagesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -2385,8 +2392,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public StartInstancesResult startInstances(StartInstancesRequest startInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<StartInstancesRequest> request = new StartInstancesRequestMarshaller().marshall(startInstancesRequest);
-        return invoke(request, new StartInstancesResultStaxUnmarshaller());
+        Request<StartInstancesRequest> request = StartInstancesRequestMarshaller.getInstance().marshall(startInstancesRequest);
+        return invoke(request, StartInstancesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -2409,7 +2416,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void modifyInstanceAttribute(ModifyInstanceAttributeRequest modifyInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ModifyInstanceAttributeRequest> request = new ModifyInstanceAttributeRequestMarshaller().marshall(modifyInstanceAttributeRequest);
+        Request<ModifyInstanceAttributeRequest> request = ModifyInstanceAttributeRequestMarshaller.getInstance().marshall(modifyInstanceAttributeRequest);
         invoke(request, null);
     }
     
@@ -2435,7 +2442,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void deleteDhcpOptions(DeleteDhcpOptionsRequest deleteDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteDhcpOptionsRequest> request = new DeleteDhcpOptionsRequestMarshaller().marshall(deleteDhcpOptionsRequest);
+        Request<DeleteDhcpOptionsRequest> request = DeleteDhcpOptionsRequestMarshaller.getInstance().marshall(deleteDhcpOptionsRequest);
         invoke(request, null);
     }
     
@@ -2472,7 +2479,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void authorizeSecurityGroupIngress(AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<AuthorizeSecurityGroupIngressRequest> request = new AuthorizeSecurityGroupIngressRequestMarshaller().marshall(authorizeSecurityGroupIngressRequest);
+        Request<AuthorizeSecurityGroupIngressRequest> request = AuthorizeSecurityGroupIngressRequestMarshaller.getInstance().marshall(authorizeSecurityGroupIngressRequest);
         invoke(request, null);
     }
     
@@ -2533,8 +2540,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeSpotInstanceRequestsResult describeSpotInstanceRequests(DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeSpotInstanceRequestsRequest> request = new DescribeSpotInstanceRequestsRequestMarshaller().marshall(describeSpotInstanceRequestsRequest);
-        return invoke(request, new DescribeSpotInstanceRequestsResultStaxUnmarshaller());
+        Request<DescribeSpotInstanceRequestsRequest> request = DescribeSpotInstanceRequestsRequestMarshaller.getInstance().marshall(describeSpotInstanceRequestsRequest);
+        return invoke(request, DescribeSpotInstanceRequestsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -2568,8 +2575,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public CreateVpcResult createVpc(CreateVpcRequest createVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateVpcRequest> request = new CreateVpcRequestMarshaller().marshall(createVpcRequest);
-        return invoke(request, new CreateVpcResultStaxUnmarshaller());
+        Request<CreateVpcRequest> request = CreateVpcRequestMarshaller.getInstance().marshall(createVpcRequest);
+        return invoke(request, CreateVpcResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -2606,8 +2613,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeCustomerGatewaysResult describeCustomerGateways(DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeCustomerGatewaysRequest> request = new DescribeCustomerGatewaysRequestMarshaller().marshall(describeCustomerGatewaysRequest);
-        return invoke(request, new DescribeCustomerGatewaysResultStaxUnmarshaller());
+        Request<DescribeCustomerGatewaysRequest> request = DescribeCustomerGatewaysRequestMarshaller.getInstance().marshall(describeCustomerGatewaysRequest);
+        return invoke(request, DescribeCustomerGatewaysResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -2653,7 +2660,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void createRoute(CreateRouteRequest createRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateRouteRequest> request = new CreateRouteRequestMarshaller().marshall(createRouteRequest);
+        Request<CreateRouteRequest> request = CreateRouteRequestMarshaller.getInstance().marshall(createRouteRequest);
         invoke(request, null);
     }
     
@@ -2680,7 +2687,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void deleteRouteTable(DeleteRouteTableRequest deleteRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteRouteTableRequest> request = new DeleteRouteTableRequestMarshaller().marshall(deleteRouteTableRequest);
+        Request<DeleteRouteTableRequest> request = DeleteRouteTableRequestMarshaller.getInstance().marshall(deleteRouteTableRequest);
         invoke(request, null);
     }
     
@@ -2718,8 +2725,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public RequestSpotInstancesResult requestSpotInstances(RequestSpotInstancesRequest requestSpotInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<RequestSpotInstancesRequest> request = new RequestSpotInstancesRequestMarshaller().marshall(requestSpotInstancesRequest);
-        return invoke(request, new RequestSpotInstancesResultStaxUnmarshaller());
+        Request<RequestSpotInstancesRequest> request = RequestSpotInstancesRequestMarshaller.getInstance().marshall(requestSpotInstancesRequest);
+        return invoke(request, RequestSpotInstancesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -2743,7 +2750,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void createTags(CreateTagsRequest createTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateTagsRequest> request = new CreateTagsRequestMarshaller().marshall(createTagsRequest);
+        Request<CreateTagsRequest> request = CreateTagsRequestMarshaller.getInstance().marshall(createTagsRequest);
         invoke(request, null);
     }
     
@@ -2769,7 +2776,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void replaceRoute(ReplaceRouteRequest replaceRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ReplaceRouteRequest> request = new ReplaceRouteRequestMarshaller().marshall(replaceRouteRequest);
+        Request<ReplaceRouteRequest> request = ReplaceRouteRequestMarshaller.getInstance().marshall(replaceRouteRequest);
         invoke(request, null);
     }
     
@@ -2795,8 +2802,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeTagsResult describeTags(DescribeTagsRequest describeTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeTagsRequest> request = new DescribeTagsRequestMarshaller().marshall(describeTagsRequest);
-        return invoke(request, new DescribeTagsResultStaxUnmarshaller());
+        Request<DescribeTagsRequest> request = DescribeTagsRequestMarshaller.getInstance().marshall(describeTagsRequest);
+        return invoke(request, DescribeTagsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -2825,8 +2832,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public CancelBundleTaskResult cancelBundleTask(CancelBundleTaskRequest cancelBundleTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CancelBundleTaskRequest> request = new CancelBundleTaskRequestMarshaller().marshall(cancelBundleTaskRequest);
-        return invoke(request, new CancelBundleTaskResultStaxUnmarshaller());
+        Request<CancelBundleTaskRequest> request = CancelBundleTaskRequestMarshaller.getInstance().marshall(cancelBundleTaskRequest);
+        return invoke(request, CancelBundleTaskResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -2864,8 +2871,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public CancelSpotInstanceRequestsResult cancelSpotInstanceRequests(CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CancelSpotInstanceRequestsRequest> request = new CancelSpotInstanceRequestsRequestMarshaller().marshall(cancelSpotInstanceRequestsRequest);
-        return invoke(request, new CancelSpotInstanceRequestsResultStaxUnmarshaller());
+        Request<CancelSpotInstanceRequestsRequest> request = CancelSpotInstanceRequestsRequestMarshaller.getInstance().marshall(cancelSpotInstanceRequestsRequest);
+        return invoke(request, CancelSpotInstanceRequestsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -2895,8 +2902,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public PurchaseReservedInstancesOfferingResult purchaseReservedInstancesOffering(PurchaseReservedInstancesOfferingRequest purchaseReservedInstancesOfferingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<PurchaseReservedInstancesOfferingRequest> request = new PurchaseReservedInstancesOfferingRequestMarshaller().marshall(purchaseReservedInstancesOfferingRequest);
-        return invoke(request, new PurchaseReservedInstancesOfferingResultStaxUnmarshaller());
+        Request<PurchaseReservedInstancesOfferingRequest> request = PurchaseReservedInstancesOfferingRequestMarshaller.getInstance().marshall(purchaseReservedInstancesOfferingRequest);
+        return invoke(request, PurchaseReservedInstancesOfferingResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -2919,7 +2926,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void modifySnapshotAttribute(ModifySnapshotAttributeRequest modifySnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ModifySnapshotAttributeRequest> request = new ModifySnapshotAttributeRequestMarshaller().marshall(modifySnapshotAttributeRequest);
+        Request<ModifySnapshotAttributeRequest> request = ModifySnapshotAttributeRequestMarshaller.getInstance().marshall(modifySnapshotAttributeRequest);
         invoke(request, null);
     }
     
@@ -2952,8 +2959,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public TerminateInstancesResult terminateInstances(TerminateInstancesRequest terminateInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<TerminateInstancesRequest> request = new TerminateInstancesRequestMarshaller().marshall(terminateInstancesRequest);
-        return invoke(request, new TerminateInstancesResultStaxUnmarshaller());
+        Request<TerminateInstancesRequest> request = TerminateInstancesRequestMarshaller.getInstance().marshall(terminateInstancesRequest);
+        return invoke(request, TerminateInstancesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -2982,7 +2989,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void deleteSpotDatafeedSubscription(DeleteSpotDatafeedSubscriptionRequest deleteSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteSpotDatafeedSubscriptionRequest> request = new DeleteSpotDatafeedSubscriptionRequestMarshaller().marshall(deleteSpotDatafeedSubscriptionRequest);
+        Request<DeleteSpotDatafeedSubscriptionRequest> request = DeleteSpotDatafeedSubscriptionRequestMarshaller.getInstance().marshall(deleteSpotDatafeedSubscriptionRequest);
         invoke(request, null);
     }
     
@@ -3008,7 +3015,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void deleteInternetGateway(DeleteInternetGatewayRequest deleteInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteInternetGatewayRequest> request = new DeleteInternetGatewayRequestMarshaller().marshall(deleteInternetGatewayRequest);
+        Request<DeleteInternetGatewayRequest> request = DeleteInternetGatewayRequestMarshaller.getInstance().marshall(deleteInternetGatewayRequest);
         invoke(request, null);
     }
     
@@ -3045,8 +3052,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public ReplaceRouteTableAssociationResult replaceRouteTableAssociation(ReplaceRouteTableAssociationRequest replaceRouteTableAssociationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ReplaceRouteTableAssociationRequest> request = new ReplaceRouteTableAssociationRequestMarshaller().marshall(replaceRouteTableAssociationRequest);
-        return invoke(request, new ReplaceRouteTableAssociationResultStaxUnmarshaller());
+        Request<ReplaceRouteTableAssociationRequest> request = ReplaceRouteTableAssociationRequestMarshaller.getInstance().marshall(replaceRouteTableAssociationRequest);
+        return invoke(request, ReplaceRouteTableAssociationResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -3073,8 +3080,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeSnapshotAttributeResult describeSnapshotAttribute(DescribeSnapshotAttributeRequest describeSnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeSnapshotAttributeRequest> request = new DescribeSnapshotAttributeRequestMarshaller().marshall(describeSnapshotAttributeRequest);
-        return invoke(request, new DescribeSnapshotAttributeResultStaxUnmarshaller());
+        Request<DescribeSnapshotAttributeRequest> request = DescribeSnapshotAttributeRequestMarshaller.getInstance().marshall(describeSnapshotAttributeRequest);
+        return invoke(request, DescribeSnapshotAttributeResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -3100,8 +3107,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeAddressesResult describeAddresses(DescribeAddressesRequest describeAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeAddressesRequest> request = new DescribeAddressesRequestMarshaller().marshall(describeAddressesRequest);
-        return invoke(request, new DescribeAddressesResultStaxUnmarshaller());
+        Request<DescribeAddressesRequest> request = DescribeAddressesRequestMarshaller.getInstance().marshall(describeAddressesRequest);
+        return invoke(request, DescribeAddressesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -3129,8 +3136,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeKeyPairsResult describeKeyPairs(DescribeKeyPairsRequest describeKeyPairsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeKeyPairsRequest> request = new DescribeKeyPairsRequestMarshaller().marshall(describeKeyPairsRequest);
-        return invoke(request, new DescribeKeyPairsResultStaxUnmarshaller());
+        Request<DescribeKeyPairsRequest> request = DescribeKeyPairsRequestMarshaller.getInstance().marshall(describeKeyPairsRequest);
+        return invoke(request, DescribeKeyPairsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -3157,8 +3164,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeImageAttributeResult describeImageAttribute(DescribeImageAttributeRequest describeImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeImageAttributeRequest> request = new DescribeImageAttributeRequestMarshaller().marshall(describeImageAttributeRequest);
-        return invoke(request, new DescribeImageAttributeResultStaxUnmarshaller());
+        Request<DescribeImageAttributeRequest> request = DescribeImageAttributeRequestMarshaller.getInstance().marshall(describeImageAttributeRequest);
+        return invoke(request, DescribeImageAttributeResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -3188,7 +3195,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void disassociateRouteTable(DisassociateRouteTableRequest disassociateRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DisassociateRouteTableRequest> request = new DisassociateRouteTableRequestMarshaller().marshall(disassociateRouteTableRequest);
+        Request<DisassociateRouteTableRequest> request = DisassociateRouteTableRequestMarshaller.getInstance().marshall(disassociateRouteTableRequest);
         invoke(request, null);
     }
     
@@ -3223,8 +3230,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public ConfirmProductInstanceResult confirmProductInstance(ConfirmProductInstanceRequest confirmProductInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ConfirmProductInstanceRequest> request = new ConfirmProductInstanceRequestMarshaller().marshall(confirmProductInstanceRequest);
-        return invoke(request, new ConfirmProductInstanceResultStaxUnmarshaller());
+        Request<ConfirmProductInstanceRequest> request = ConfirmProductInstanceRequestMarshaller.getInstance().marshall(confirmProductInstanceRequest);
+        return invoke(request, ConfirmProductInstanceResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -3249,7 +3256,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void deleteNetworkAclEntry(DeleteNetworkAclEntryRequest deleteNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteNetworkAclEntryRequest> request = new DeleteNetworkAclEntryRequestMarshaller().marshall(deleteNetworkAclEntryRequest);
+        Request<DeleteNetworkAclEntryRequest> request = DeleteNetworkAclEntryRequestMarshaller.getInstance().marshall(deleteNetworkAclEntryRequest);
         invoke(request, null);
     }
     
@@ -3292,7 +3299,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void revokeSecurityGroupEgress(RevokeSecurityGroupEgressRequest revokeSecurityGroupEgressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<RevokeSecurityGroupEgressRequest> request = new RevokeSecurityGroupEgressRequestMarshaller().marshall(revokeSecurityGroupEgressRequest);
+        Request<RevokeSecurityGroupEgressRequest> request = RevokeSecurityGroupEgressRequestMarshaller.getInstance().marshall(revokeSecurityGroupEgressRequest);
         invoke(request, null);
     }
     
@@ -3318,8 +3325,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public CreateVolumeResult createVolume(CreateVolumeRequest createVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateVolumeRequest> request = new CreateVolumeRequestMarshaller().marshall(createVolumeRequest);
-        return invoke(request, new CreateVolumeResultStaxUnmarshaller());
+        Request<CreateVolumeRequest> request = CreateVolumeRequestMarshaller.getInstance().marshall(createVolumeRequest);
+        return invoke(request, CreateVolumeResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -3360,8 +3367,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeVpnGatewaysResult describeVpnGateways(DescribeVpnGatewaysRequest describeVpnGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeVpnGatewaysRequest> request = new DescribeVpnGatewaysRequestMarshaller().marshall(describeVpnGatewaysRequest);
-        return invoke(request, new DescribeVpnGatewaysResultStaxUnmarshaller());
+        Request<DescribeVpnGatewaysRequest> request = DescribeVpnGatewaysRequestMarshaller.getInstance().marshall(describeVpnGatewaysRequest);
+        return invoke(request, DescribeVpnGatewaysResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -3400,8 +3407,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public CreateSubnetResult createSubnet(CreateSubnetRequest createSubnetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateSubnetRequest> request = new CreateSubnetRequestMarshaller().marshall(createSubnetRequest);
-        return invoke(request, new CreateSubnetResultStaxUnmarshaller());
+        Request<CreateSubnetRequest> request = CreateSubnetRequestMarshaller.getInstance().marshall(createSubnetRequest);
+        return invoke(request, CreateSubnetResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -3431,8 +3438,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeReservedInstancesOfferingsResult describeReservedInstancesOfferings(DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeReservedInstancesOfferingsRequest> request = new DescribeReservedInstancesOfferingsRequestMarshaller().marshall(describeReservedInstancesOfferingsRequest);
-        return invoke(request, new DescribeReservedInstancesOfferingsResultStaxUnmarshaller());
+        Request<DescribeReservedInstancesOfferingsRequest> request = DescribeReservedInstancesOfferingsRequestMarshaller.getInstance().marshall(describeReservedInstancesOfferingsRequest);
+        return invoke(request, DescribeReservedInstancesOfferingsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -3455,7 +3462,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void deleteSnapshot(DeleteSnapshotRequest deleteSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteSnapshotRequest> request = new DeleteSnapshotRequestMarshaller().marshall(deleteSnapshotRequest);
+        Request<DeleteSnapshotRequest> request = DeleteSnapshotRequestMarshaller.getInstance().marshall(deleteSnapshotRequest);
         invoke(request, null);
     }
     
@@ -3485,8 +3492,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public ReplaceNetworkAclAssociationResult replaceNetworkAclAssociation(ReplaceNetworkAclAssociationRequest replaceNetworkAclAssociationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ReplaceNetworkAclAssociationRequest> request = new ReplaceNetworkAclAssociationRequestMarshaller().marshall(replaceNetworkAclAssociationRequest);
-        return invoke(request, new ReplaceNetworkAclAssociationResultStaxUnmarshaller());
+        Request<ReplaceNetworkAclAssociationRequest> request = ReplaceNetworkAclAssociationRequestMarshaller.getInstance().marshall(replaceNetworkAclAssociationRequest);
+        return invoke(request, ReplaceNetworkAclAssociationResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -3512,7 +3519,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void disassociateAddress(DisassociateAddressRequest disassociateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DisassociateAddressRequest> request = new DisassociateAddressRequestMarshaller().marshall(disassociateAddressRequest);
+        Request<DisassociateAddressRequest> request = DisassociateAddressRequestMarshaller.getInstance().marshall(disassociateAddressRequest);
         invoke(request, null);
     }
     
@@ -3538,7 +3545,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void createPlacementGroup(CreatePlacementGroupRequest createPlacementGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreatePlacementGroupRequest> request = new CreatePlacementGroupRequestMarshaller().marshall(createPlacementGroupRequest);
+        Request<CreatePlacementGroupRequest> request = CreatePlacementGroupRequestMarshaller.getInstance().marshall(createPlacementGroupRequest);
         invoke(request, null);
     }
     
@@ -3568,8 +3575,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public BundleInstanceResult bundleInstance(BundleInstanceRequest bundleInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<BundleInstanceRequest> request = new BundleInstanceRequestMarshaller().marshall(bundleInstanceRequest);
-        return invoke(request, new BundleInstanceResultStaxUnmarshaller());
+        Request<BundleInstanceRequest> request = BundleInstanceRequestMarshaller.getInstance().marshall(bundleInstanceRequest);
+        return invoke(request, BundleInstanceResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -3593,7 +3600,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void deletePlacementGroup(DeletePlacementGroupRequest deletePlacementGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeletePlacementGroupRequest> request = new DeletePlacementGroupRequestMarshaller().marshall(deletePlacementGroupRequest);
+        Request<DeletePlacementGroupRequest> request = DeletePlacementGroupRequestMarshaller.getInstance().marshall(deletePlacementGroupRequest);
         invoke(request, null);
     }
     
@@ -3620,7 +3627,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void deleteVpc(DeleteVpcRequest deleteVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteVpcRequest> request = new DeleteVpcRequestMarshaller().marshall(deleteVpcRequest);
+        Request<DeleteVpcRequest> request = DeleteVpcRequestMarshaller.getInstance().marshall(deleteVpcRequest);
         invoke(request, null);
     }
     
@@ -3647,8 +3654,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public AllocateAddressResult allocateAddress(AllocateAddressRequest allocateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<AllocateAddressRequest> request = new AllocateAddressRequestMarshaller().marshall(allocateAddressRequest);
-        return invoke(request, new AllocateAddressResultStaxUnmarshaller());
+        Request<AllocateAddressRequest> request = AllocateAddressRequestMarshaller.getInstance().marshall(allocateAddressRequest);
+        return invoke(request, AllocateAddressResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -3685,7 +3692,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void releaseAddress(ReleaseAddressRequest releaseAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ReleaseAddressRequest> request = new ReleaseAddressRequestMarshaller().marshall(releaseAddressRequest);
+        Request<ReleaseAddressRequest> request = ReleaseAddressRequestMarshaller.getInstance().marshall(releaseAddressRequest);
         invoke(request, null);
     }
     
@@ -3709,7 +3716,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void resetInstanceAttribute(ResetInstanceAttributeRequest resetInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ResetInstanceAttributeRequest> request = new ResetInstanceAttributeRequestMarshaller().marshall(resetInstanceAttributeRequest);
+        Request<ResetInstanceAttributeRequest> request = ResetInstanceAttributeRequestMarshaller.getInstance().marshall(resetInstanceAttributeRequest);
         invoke(request, null);
     }
     
@@ -3737,8 +3744,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public CreateKeyPairResult createKeyPair(CreateKeyPairRequest createKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateKeyPairRequest> request = new CreateKeyPairRequestMarshaller().marshall(createKeyPairRequest);
-        return invoke(request, new CreateKeyPairResultStaxUnmarshaller());
+        Request<CreateKeyPairRequest> request = CreateKeyPairRequestMarshaller.getInstance().marshall(createKeyPairRequest);
+        return invoke(request, CreateKeyPairResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -3763,7 +3770,7 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public void replaceNetworkAclEntry(ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ReplaceNetworkAclEntryRequest> request = new ReplaceNetworkAclEntryRequestMarshaller().marshall(replaceNetworkAclEntryRequest);
+        Request<ReplaceNetworkAclEntryRequest> request = ReplaceNetworkAclEntryRequestMarshaller.getInstance().marshall(replaceNetworkAclEntryRequest);
         invoke(request, null);
     }
     
@@ -3793,8 +3800,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public DescribeSnapshotsResult describeSnapshots(DescribeSnapshotsRequest describeSnapshotsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeSnapshotsRequest> request = new DescribeSnapshotsRequestMarshaller().marshall(describeSnapshotsRequest);
-        return invoke(request, new DescribeSnapshotsResultStaxUnmarshaller());
+        Request<DescribeSnapshotsRequest> request = DescribeSnapshotsRequestMarshaller.getInstance().marshall(describeSnapshotsRequest);
+        return invoke(request, DescribeSnapshotsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -3822,8 +3829,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public CreateNetworkAclResult createNetworkAcl(CreateNetworkAclRequest createNetworkAclRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateNetworkAclRequest> request = new CreateNetworkAclRequestMarshaller().marshall(createNetworkAclRequest);
-        return invoke(request, new CreateNetworkAclResultStaxUnmarshaller());
+        Request<CreateNetworkAclRequest> request = CreateNetworkAclRequestMarshaller.getInstance().marshall(createNetworkAclRequest);
+        return invoke(request, CreateNetworkAclResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -3864,8 +3871,8 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
      */
     public RegisterImageResult registerImage(RegisterImageRequest registerImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<RegisterImageRequest> request = new RegisterImageRequestMarshaller().marshall(registerImageRequest);
-        return invoke(request, new RegisterImageResultStaxUnmarshaller());
+        Request<RegisterImageRequest> request = RegisterImageRequestMarshaller.getInstance().marshall(registerImageRequest);
+        return invoke(request, RegisterImageResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -4990,7 +4997,6 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements AmazonEC2
 
         
         StaxResponseHandler<X> responseHandler = new StaxResponseHandler<X>(unmarshaller);
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
 
         ExecutionContext executionContext = createExecutionContext();
         return (X)client.execute(request, responseHandler, errorResponseHandler, executionContext);
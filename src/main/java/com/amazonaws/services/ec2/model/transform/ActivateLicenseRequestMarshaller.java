@@ -47,4 +47,9 @@ public class ActivateLicenseRequestMarshaller implements Marshaller<Request<Acti
 
         return request;
     }
+
+    private static final ActivateLicenseRequestMarshaller instance = new ActivateLicenseRequestMarshaller();
+    public static ActivateLicenseRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -63,9 +63,8 @@ public class AddressStaxUnmarshaller implements Unmarshaller<Address, StaxUnmars
         }
     }
 
-    private static AddressStaxUnmarshaller instance;
+    private static final AddressStaxUnmarshaller instance = new AddressStaxUnmarshaller();
     public static AddressStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new AddressStaxUnmarshaller();
         return instance;
     }
 }
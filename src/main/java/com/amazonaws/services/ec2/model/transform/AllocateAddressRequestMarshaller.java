@@ -42,4 +42,9 @@ public class AllocateAddressRequestMarshaller implements Marshaller<Request<Allo
 
         return request;
     }
+
+    private static final AllocateAddressRequestMarshaller instance = new AllocateAddressRequestMarshaller();
+    public static AllocateAddressRequestMarshaller getInstance() {
+        return instance;
+    }
 }
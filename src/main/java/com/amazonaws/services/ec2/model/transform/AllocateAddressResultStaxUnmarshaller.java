@@ -67,9 +67,8 @@ public class AllocateAddressResultStaxUnmarshaller implements Unmarshaller<Alloc
         }
     }
 
-    private static AllocateAddressResultStaxUnmarshaller instance;
+    private static final AllocateAddressResultStaxUnmarshaller instance = new AllocateAddressResultStaxUnmarshaller();
     public static AllocateAddressResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new AllocateAddressResultStaxUnmarshaller();
         return instance;
     }
 }
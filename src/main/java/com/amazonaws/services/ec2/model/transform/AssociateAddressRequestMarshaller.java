@@ -52,4 +52,9 @@ public class AssociateAddressRequestMarshaller implements Marshaller<Request<Ass
 
         return request;
     }
+
+    private static final AssociateAddressRequestMarshaller instance = new AssociateAddressRequestMarshaller();
+    public static AssociateAddressRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class AssociateAddressResultStaxUnmarshaller implements Unmarshaller<Asso
         }
     }
 
-    private static AssociateAddressResultStaxUnmarshaller instance;
+    private static final AssociateAddressResultStaxUnmarshaller instance = new AssociateAddressResultStaxUnmarshaller();
     public static AssociateAddressResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new AssociateAddressResultStaxUnmarshaller();
         return instance;
     }
 }
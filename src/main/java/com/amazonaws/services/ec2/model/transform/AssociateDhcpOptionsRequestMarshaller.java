@@ -47,4 +47,9 @@ public class AssociateDhcpOptionsRequestMarshaller implements Marshaller<Request
 
         return request;
     }
+
+    private static final AssociateDhcpOptionsRequestMarshaller instance = new AssociateDhcpOptionsRequestMarshaller();
+    public static AssociateDhcpOptionsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
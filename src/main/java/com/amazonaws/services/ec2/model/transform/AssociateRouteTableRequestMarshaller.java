@@ -47,4 +47,9 @@ public class AssociateRouteTableRequestMarshaller implements Marshaller<Request<
 
         return request;
     }
+
+    private static final AssociateRouteTableRequestMarshaller instance = new AssociateRouteTableRequestMarshaller();
+    public static AssociateRouteTableRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class AssociateRouteTableResultStaxUnmarshaller implements Unmarshaller<A
         }
     }
 
-    private static AssociateRouteTableResultStaxUnmarshaller instance;
+    private static final AssociateRouteTableResultStaxUnmarshaller instance = new AssociateRouteTableResultStaxUnmarshaller();
     public static AssociateRouteTableResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new AssociateRouteTableResultStaxUnmarshaller();
         return instance;
     }
 }
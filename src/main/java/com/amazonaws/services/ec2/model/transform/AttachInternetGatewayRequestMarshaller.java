@@ -47,4 +47,9 @@ public class AttachInternetGatewayRequestMarshaller implements Marshaller<Reques
 
         return request;
     }
+
+    private static final AttachInternetGatewayRequestMarshaller instance = new AttachInternetGatewayRequestMarshaller();
+    public static AttachInternetGatewayRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -52,4 +52,9 @@ public class AttachVolumeRequestMarshaller implements Marshaller<Request<AttachV
 
         return request;
     }
+
+    private static final AttachVolumeRequestMarshaller instance = new AttachVolumeRequestMarshaller();
+    public static AttachVolumeRequestMarshaller getInstance() {
+        return instance;
+    }
 }
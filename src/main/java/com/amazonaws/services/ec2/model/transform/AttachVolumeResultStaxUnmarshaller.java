@@ -59,9 +59,8 @@ public class AttachVolumeResultStaxUnmarshaller implements Unmarshaller<AttachVo
         }
     }
 
-    private static AttachVolumeResultStaxUnmarshaller instance;
+    private static final AttachVolumeResultStaxUnmarshaller instance = new AttachVolumeResultStaxUnmarshaller();
     public static AttachVolumeResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new AttachVolumeResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -47,4 +47,9 @@ public class AttachVpnGatewayRequestMarshaller implements Marshaller<Request<Att
 
         return request;
     }
+
+    private static final AttachVpnGatewayRequestMarshaller instance = new AttachVpnGatewayRequestMarshaller();
+    public static AttachVpnGatewayRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class AttachVpnGatewayResultStaxUnmarshaller implements Unmarshaller<Atta
         }
     }
 
-    private static AttachVpnGatewayResultStaxUnmarshaller instance;
+    private static final AttachVpnGatewayResultStaxUnmarshaller instance = new AttachVpnGatewayResultStaxUnmarshaller();
     public static AttachVpnGatewayResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new AttachVpnGatewayResultStaxUnmarshaller();
         return instance;
     }
 }
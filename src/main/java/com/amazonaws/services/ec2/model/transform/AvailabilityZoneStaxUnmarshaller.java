@@ -67,9 +67,8 @@ public class AvailabilityZoneStaxUnmarshaller implements Unmarshaller<Availabili
         }
     }
 
-    private static AvailabilityZoneStaxUnmarshaller instance;
+    private static final AvailabilityZoneStaxUnmarshaller instance = new AvailabilityZoneStaxUnmarshaller();
     public static AvailabilityZoneStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new AvailabilityZoneStaxUnmarshaller();
         return instance;
     }
 }
@@ -73,4 +73,9 @@ public class BundleInstanceRequestMarshaller implements Marshaller<Request<Bundl
 
         return request;
     }
+
+    private static final BundleInstanceRequestMarshaller instance = new BundleInstanceRequestMarshaller();
+    public static BundleInstanceRequestMarshaller getInstance() {
+        return instance;
+    }
 }
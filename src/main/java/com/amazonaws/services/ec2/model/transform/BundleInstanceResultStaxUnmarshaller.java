@@ -59,9 +59,8 @@ public class BundleInstanceResultStaxUnmarshaller implements Unmarshaller<Bundle
         }
     }
 
-    private static BundleInstanceResultStaxUnmarshaller instance;
+    private static final BundleInstanceResultStaxUnmarshaller instance = new BundleInstanceResultStaxUnmarshaller();
     public static BundleInstanceResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new BundleInstanceResultStaxUnmarshaller();
         return instance;
     }
 }
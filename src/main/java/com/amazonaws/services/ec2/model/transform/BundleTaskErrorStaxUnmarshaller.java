@@ -63,9 +63,8 @@ public class BundleTaskErrorStaxUnmarshaller implements Unmarshaller<BundleTaskE
         }
     }
 
-    private static BundleTaskErrorStaxUnmarshaller instance;
+    private static final BundleTaskErrorStaxUnmarshaller instance = new BundleTaskErrorStaxUnmarshaller();
     public static BundleTaskErrorStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new BundleTaskErrorStaxUnmarshaller();
         return instance;
     }
 }
@@ -87,9 +87,8 @@ public class BundleTaskStaxUnmarshaller implements Unmarshaller<BundleTask, Stax
         }
     }
 
-    private static BundleTaskStaxUnmarshaller instance;
+    private static final BundleTaskStaxUnmarshaller instance = new BundleTaskStaxUnmarshaller();
     public static BundleTaskStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new BundleTaskStaxUnmarshaller();
         return instance;
     }
 }
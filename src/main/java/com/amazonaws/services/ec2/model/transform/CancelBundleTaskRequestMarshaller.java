@@ -42,4 +42,9 @@ public class CancelBundleTaskRequestMarshaller implements Marshaller<Request<Can
 
         return request;
     }
+
+    private static final CancelBundleTaskRequestMarshaller instance = new CancelBundleTaskRequestMarshaller();
+    public static CancelBundleTaskRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class CancelBundleTaskResultStaxUnmarshaller implements Unmarshaller<Canc
         }
     }
 
-    private static CancelBundleTaskResultStaxUnmarshaller instance;
+    private static final CancelBundleTaskResultStaxUnmarshaller instance = new CancelBundleTaskResultStaxUnmarshaller();
     public static CancelBundleTaskResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CancelBundleTaskResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class CancelSpotInstanceRequestsRequestMarshaller implements Marshaller<Request<CancelSpotInstanceRequestsRequest>, CancelSpotInstanceRequestsRequest> {
 
+    private static final ParameterNameTable SPOT_INSTANCE_REQUEST_ID_NAMES = new ParameterNameTable("SpotInstanceRequestId.", "");
+
     public Request<CancelSpotInstanceRequestsRequest> marshall(CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest) {
         Request<CancelSpotInstanceRequestsRequest> request = new DefaultRequest<CancelSpotInstanceRequestsRequest>(cancelSpotInstanceRequestsRequest, "AmazonEC2");
         request.addParameter("Action", "CancelSpotInstanceRequests");
@@ -39,7 +42,7 @@ public class CancelSpotInstanceRequestsRequestMarshaller implements Marshaller<R
 
             for (String spotInstanceRequestIdsListValue : spotInstanceRequestIdsList) {
                 if (spotInstanceRequestIdsListValue != null) {
-                    request.addParameter("SpotInstanceRequestId." + spotInstanceRequestIdsListIndex, StringUtils.fromString(spotInstanceRequestIdsListValue));
+                    request.addParameter(SPOT_INSTANCE_REQUEST_ID_NAMES.get(spotInstanceRequestIdsListIndex), StringUtils.fromString(spotInstanceRequestIdsListValue));
                 }
                 spotInstanceRequestIdsListIndex++;
             }
@@ -48,4 +51,9 @@ public class CancelSpotInstanceRequestsRequestMarshaller implements Marshaller<R
 
         return request;
     }
+
+    private static final CancelSpotInstanceRequestsRequestMarshaller instance = new CancelSpotInstanceRequestsRequestMarshaller();
+    public static CancelSpotInstanceRequestsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
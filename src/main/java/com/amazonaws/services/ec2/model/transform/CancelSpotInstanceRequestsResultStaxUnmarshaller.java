@@ -59,9 +59,8 @@ public class CancelSpotInstanceRequestsResultStaxUnmarshaller implements Unmarsh
         }
     }
 
-    private static CancelSpotInstanceRequestsResultStaxUnmarshaller instance;
+    private static final CancelSpotInstanceRequestsResultStaxUnmarshaller instance = new CancelSpotInstanceRequestsResultStaxUnmarshaller();
     public static CancelSpotInstanceRequestsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CancelSpotInstanceRequestsResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -63,9 +63,8 @@ public class CancelledSpotInstanceRequestStaxUnmarshaller implements Unmarshalle
         }
     }
 
-    private static CancelledSpotInstanceRequestStaxUnmarshaller instance;
+    private static final CancelledSpotInstanceRequestStaxUnmarshaller instance = new CancelledSpotInstanceRequestStaxUnmarshaller();
     public static CancelledSpotInstanceRequestStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CancelledSpotInstanceRequestStaxUnmarshaller();
         return instance;
     }
 }
@@ -47,4 +47,9 @@ public class ConfirmProductInstanceRequestMarshaller implements Marshaller<Reque
 
         return request;
     }
+
+    private static final ConfirmProductInstanceRequestMarshaller instance = new ConfirmProductInstanceRequestMarshaller();
+    public static ConfirmProductInstanceRequestMarshaller getInstance() {
+        return instance;
+    }
 }
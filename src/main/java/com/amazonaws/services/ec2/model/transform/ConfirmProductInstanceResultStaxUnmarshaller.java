@@ -59,9 +59,8 @@ public class ConfirmProductInstanceResultStaxUnmarshaller implements Unmarshalle
         }
     }
 
-    private static ConfirmProductInstanceResultStaxUnmarshaller instance;
+    private static final ConfirmProductInstanceResultStaxUnmarshaller instance = new ConfirmProductInstanceResultStaxUnmarshaller();
     public static ConfirmProductInstanceResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ConfirmProductInstanceResultStaxUnmarshaller();
         return instance;
     }
 }
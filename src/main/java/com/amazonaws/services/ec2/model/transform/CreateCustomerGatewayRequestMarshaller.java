@@ -52,4 +52,9 @@ public class CreateCustomerGatewayRequestMarshaller implements Marshaller<Reques
 
         return request;
     }
+
+    private static final CreateCustomerGatewayRequestMarshaller instance = new CreateCustomerGatewayRequestMarshaller();
+    public static CreateCustomerGatewayRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class CreateCustomerGatewayResultStaxUnmarshaller implements Unmarshaller
         }
     }
 
-    private static CreateCustomerGatewayResultStaxUnmarshaller instance;
+    private static final CreateCustomerGatewayResultStaxUnmarshaller instance = new CreateCustomerGatewayResultStaxUnmarshaller();
     public static CreateCustomerGatewayResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateCustomerGatewayResultStaxUnmarshaller();
         return instance;
     }
 }
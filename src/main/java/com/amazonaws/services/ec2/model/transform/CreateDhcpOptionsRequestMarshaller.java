@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,9 @@ import com.amazonaws.util.StringUtils;
  */
 public class CreateDhcpOptionsRequestMarshaller implements Marshaller<Request<CreateDhcpOptionsRequest>, CreateDhcpOptionsRequest> {
 
+    private static final ParameterNameTable DHCP_CONFIGURATION_KEY_NAMES = new ParameterNameTable("DhcpConfiguration.", ".Key");
+    private static final ParameterNameTable DHCP_CONFIGURATION_VALUE_NAMES = new ParameterNameTable("DhcpConfiguration.", ".Value.", "");
+
     public Request<CreateDhcpOptionsRequest> marshall(CreateDhcpOptionsRequest createDhcpOptionsRequest) {
         Request<CreateDhcpOptionsRequest> request = new DefaultRequest<CreateDhcpOptionsRequest>(createDhcpOptionsRequest, "AmazonEC2");
         request.addParameter("Action", "CreateDhcpOptions");
@@ -40,7 +44,7 @@ public class CreateDhcpOptionsRequestMarshaller implements Marshaller<Request<Cr
             for (DhcpConfiguration dhcpConfigurationsListValue : dhcpConfigurationsList) {
                 if (dhcpConfigurationsListValue != null) {
                     if (dhcpConfigurationsListValue.getKey() != null) {
-                        request.addParameter("DhcpConfiguration." + dhcpConfigurationsListIndex + ".Key", StringUtils.fromString(dhcpConfigurationsListValue.getKey()));
+                        request.addParameter(DHCP_CONFIGURATION_KEY_NAMES.get(dhcpConfigurationsListIndex), StringUtils.fromString(dhcpConfigurationsListValue.getKey()));
                     }
                 }
                 if (dhcpConfigurationsListValue != null) {
@@ -49,7 +53,7 @@ public class CreateDhcpOptionsRequestMarshaller implements Marshaller<Request<Cr
 
                     for (String valuesListValue : valuesList) {
                         if (valuesListValue != null) {
-                            request.addParameter("DhcpConfiguration." + dhcpConfigurationsListIndex + ".Value." + valuesListIndex, StringUtils.fromString(valuesListValue));
+                            request.addParameter(DHCP_CONFIGURATION_VALUE_NAMES.get(dhcpConfigurationsListIndex, valuesListIndex), StringUtils.fromString(valuesListValue));
                         }
                         valuesListIndex++;
                     }
@@ -62,4 +66,9 @@ public class CreateDhcpOptionsRequestMarshaller implements Marshaller<Request<Cr
 
         return request;
     }
+
+    private static final CreateDhcpOptionsRequestMarshaller instance = new CreateDhcpOptionsRequestMarshaller();
+    public static CreateDhcpOptionsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class CreateDhcpOptionsResultStaxUnmarshaller implements Unmarshaller<Cre
         }
     }
 
-    private static CreateDhcpOptionsResultStaxUnmarshaller instance;
+    private static final CreateDhcpOptionsResultStaxUnmarshaller instance = new CreateDhcpOptionsResultStaxUnmarshaller();
     public static CreateDhcpOptionsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateDhcpOptionsResultStaxUnmarshaller();
         return instance;
     }
 }
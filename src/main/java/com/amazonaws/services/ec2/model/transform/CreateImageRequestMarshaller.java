@@ -57,4 +57,9 @@ public class CreateImageRequestMarshaller implements Marshaller<Request<CreateIm
 
         return request;
     }
+
+    private static final CreateImageRequestMarshaller instance = new CreateImageRequestMarshaller();
+    public static CreateImageRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class CreateImageResultStaxUnmarshaller implements Unmarshaller<CreateIma
         }
     }
 
-    private static CreateImageResultStaxUnmarshaller instance;
+    private static final CreateImageResultStaxUnmarshaller instance = new CreateImageResultStaxUnmarshaller();
     public static CreateImageResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateImageResultStaxUnmarshaller();
         return instance;
     }
 }
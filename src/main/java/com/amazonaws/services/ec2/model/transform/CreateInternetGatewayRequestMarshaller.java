@@ -37,4 +37,9 @@ public class CreateInternetGatewayRequestMarshaller implements Marshaller<Reques
 
         return request;
     }
+
+    private static final CreateInternetGatewayRequestMarshaller instance = new CreateInternetGatewayRequestMarshaller();
+    public static CreateInternetGatewayRequestMarshaller getInstance() {
+        return instance;
+    }
 }
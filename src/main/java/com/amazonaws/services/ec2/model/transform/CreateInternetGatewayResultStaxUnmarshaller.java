@@ -59,9 +59,8 @@ public class CreateInternetGatewayResultStaxUnmarshaller implements Unmarshaller
         }
     }
 
-    private static CreateInternetGatewayResultStaxUnmarshaller instance;
+    private static final CreateInternetGatewayResultStaxUnmarshaller instance = new CreateInternetGatewayResultStaxUnmarshaller();
     public static CreateInternetGatewayResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateInternetGatewayResultStaxUnmarshaller();
         return instance;
     }
 }
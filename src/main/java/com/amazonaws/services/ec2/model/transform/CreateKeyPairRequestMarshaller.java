@@ -42,4 +42,9 @@ public class CreateKeyPairRequestMarshaller implements Marshaller<Request<Create
 
         return request;
     }
+
+    private static final CreateKeyPairRequestMarshaller instance = new CreateKeyPairRequestMarshaller();
+    public static CreateKeyPairRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class CreateKeyPairResultStaxUnmarshaller implements Unmarshaller<CreateK
         }
     }
 
-    private static CreateKeyPairResultStaxUnmarshaller instance;
+    private static final CreateKeyPairResultStaxUnmarshaller instance = new CreateKeyPairResultStaxUnmarshaller();
     public static CreateKeyPairResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateKeyPairResultStaxUnmarshaller();
         return instance;
     }
 }
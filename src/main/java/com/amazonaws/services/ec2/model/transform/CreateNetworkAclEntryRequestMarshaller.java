@@ -93,4 +93,9 @@ public class CreateNetworkAclEntryRequestMarshaller implements Marshaller<Reques
 
         return request;
     }
+
+    private static final CreateNetworkAclEntryRequestMarshaller instance = new CreateNetworkAclEntryRequestMarshaller();
+    public static CreateNetworkAclEntryRequestMarshaller getInstance() {
+        return instance;
+    }
 }
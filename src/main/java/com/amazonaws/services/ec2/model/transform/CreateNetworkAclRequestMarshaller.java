@@ -42,4 +42,9 @@ public class CreateNetworkAclRequestMarshaller implements Marshaller<Request<Cre
 
         return request;
     }
+
+    private static final CreateNetworkAclRequestMarshaller instance = new CreateNetworkAclRequestMarshaller();
+    public static CreateNetworkAclRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class CreateNetworkAclResultStaxUnmarshaller implements Unmarshaller<Crea
         }
     }
 
-    private static CreateNetworkAclResultStaxUnmarshaller instance;
+    private static final CreateNetworkAclResultStaxUnmarshaller instance = new CreateNetworkAclResultStaxUnmarshaller();
     public static CreateNetworkAclResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateNetworkAclResultStaxUnmarshaller();
         return instance;
     }
 }
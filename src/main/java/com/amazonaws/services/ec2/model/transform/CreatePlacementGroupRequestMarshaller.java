@@ -47,4 +47,9 @@ public class CreatePlacementGroupRequestMarshaller implements Marshaller<Request
 
         return request;
     }
+
+    private static final CreatePlacementGroupRequestMarshaller instance = new CreatePlacementGroupRequestMarshaller();
+    public static CreatePlacementGroupRequestMarshaller getInstance() {
+        return instance;
+    }
 }
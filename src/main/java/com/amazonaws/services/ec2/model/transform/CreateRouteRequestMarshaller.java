@@ -57,4 +57,9 @@ public class CreateRouteRequestMarshaller implements Marshaller<Request<CreateRo
 
         return request;
     }
+
+    private static final CreateRouteRequestMarshaller instance = new CreateRouteRequestMarshaller();
+    public static CreateRouteRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -42,4 +42,9 @@ public class CreateRouteTableRequestMarshaller implements Marshaller<Request<Cre
 
         return request;
     }
+
+    private static final CreateRouteTableRequestMarshaller instance = new CreateRouteTableRequestMarshaller();
+    public static CreateRouteTableRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class CreateRouteTableResultStaxUnmarshaller implements Unmarshaller<Crea
         }
     }
 
-    private static CreateRouteTableResultStaxUnmarshaller instance;
+    private static final CreateRouteTableResultStaxUnmarshaller instance = new CreateRouteTableResultStaxUnmarshaller();
     public static CreateRouteTableResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateRouteTableResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -52,4 +52,9 @@ public class CreateSecurityGroupRequestMarshaller implements Marshaller<Request<
 
         return request;
     }
+
+    private static final CreateSecurityGroupRequestMarshaller instance = new CreateSecurityGroupRequestMarshaller();
+    public static CreateSecurityGroupRequestMarshaller getInstance() {
+        return instance;
+    }
 }
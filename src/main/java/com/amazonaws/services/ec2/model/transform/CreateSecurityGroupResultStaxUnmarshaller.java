@@ -59,9 +59,8 @@ public class CreateSecurityGroupResultStaxUnmarshaller implements Unmarshaller<C
         }
     }
 
-    private static CreateSecurityGroupResultStaxUnmarshaller instance;
+    private static final CreateSecurityGroupResultStaxUnmarshaller instance = new CreateSecurityGroupResultStaxUnmarshaller();
     public static CreateSecurityGroupResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateSecurityGroupResultStaxUnmarshaller();
         return instance;
     }
 }
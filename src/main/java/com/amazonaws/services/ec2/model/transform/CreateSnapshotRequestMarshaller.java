@@ -47,4 +47,9 @@ public class CreateSnapshotRequestMarshaller implements Marshaller<Request<Creat
 
         return request;
     }
+
+    private static final CreateSnapshotRequestMarshaller instance = new CreateSnapshotRequestMarshaller();
+    public static CreateSnapshotRequestMarshaller getInstance() {
+        return instance;
+    }
 }
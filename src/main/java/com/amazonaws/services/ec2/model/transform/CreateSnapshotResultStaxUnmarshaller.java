@@ -59,9 +59,8 @@ public class CreateSnapshotResultStaxUnmarshaller implements Unmarshaller<Create
         }
     }
 
-    private static CreateSnapshotResultStaxUnmarshaller instance;
+    private static final CreateSnapshotResultStaxUnmarshaller instance = new CreateSnapshotResultStaxUnmarshaller();
     public static CreateSnapshotResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateSnapshotResultStaxUnmarshaller();
         return instance;
     }
 }
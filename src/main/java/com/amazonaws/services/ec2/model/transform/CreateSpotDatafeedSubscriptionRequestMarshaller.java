@@ -47,4 +47,9 @@ public class CreateSpotDatafeedSubscriptionRequestMarshaller implements Marshall
 
         return request;
     }
+
+    private static final CreateSpotDatafeedSubscriptionRequestMarshaller instance = new CreateSpotDatafeedSubscriptionRequestMarshaller();
+    public static CreateSpotDatafeedSubscriptionRequestMarshaller getInstance() {
+        return instance;
+    }
 }
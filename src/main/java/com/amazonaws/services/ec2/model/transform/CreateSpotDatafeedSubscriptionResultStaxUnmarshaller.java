@@ -59,9 +59,8 @@ public class CreateSpotDatafeedSubscriptionResultStaxUnmarshaller implements Unm
         }
     }
 
-    private static CreateSpotDatafeedSubscriptionResultStaxUnmarshaller instance;
+    private static final CreateSpotDatafeedSubscriptionResultStaxUnmarshaller instance = new CreateSpotDatafeedSubscriptionResultStaxUnmarshaller();
     public static CreateSpotDatafeedSubscriptionResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateSpotDatafeedSubscriptionResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -52,4 +52,9 @@ public class CreateSubnetRequestMarshaller implements Marshaller<Request<CreateS
 
         return request;
     }
+
+    private static final CreateSubnetRequestMarshaller instance = new CreateSubnetRequestMarshaller();
+    public static CreateSubnetRequestMarshaller getInstance() {
+        return instance;
+    }
 }
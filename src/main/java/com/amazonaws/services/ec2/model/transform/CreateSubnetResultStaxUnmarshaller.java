@@ -59,9 +59,8 @@ public class CreateSubnetResultStaxUnmarshaller implements Unmarshaller<CreateSu
         }
     }
 
-    private static CreateSubnetResultStaxUnmarshaller instance;
+    private static final CreateSubnetResultStaxUnmarshaller instance = new CreateSubnetResultStaxUnmarshaller();
     public static CreateSubnetResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateSubnetResultStaxUnmarshaller();
         return instance;
     }
 }
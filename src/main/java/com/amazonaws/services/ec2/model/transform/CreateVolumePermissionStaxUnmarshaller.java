@@ -63,9 +63,8 @@ public class CreateVolumePermissionStaxUnmarshaller implements Unmarshaller<Crea
         }
     }
 
-    private static CreateVolumePermissionStaxUnmarshaller instance;
+    private static final CreateVolumePermissionStaxUnmarshaller instance = new CreateVolumePermissionStaxUnmarshaller();
     public static CreateVolumePermissionStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateVolumePermissionStaxUnmarshaller();
         return instance;
     }
 }
@@ -52,4 +52,9 @@ public class CreateVolumeRequestMarshaller implements Marshaller<Request<CreateV
 
         return request;
     }
+
+    private static final CreateVolumeRequestMarshaller instance = new CreateVolumeRequestMarshaller();
+    public static CreateVolumeRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class CreateVolumeResultStaxUnmarshaller implements Unmarshaller<CreateVo
         }
     }
 
-    private static CreateVolumeResultStaxUnmarshaller instance;
+    private static final CreateVolumeResultStaxUnmarshaller instance = new CreateVolumeResultStaxUnmarshaller();
     public static CreateVolumeResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateVolumeResultStaxUnmarshaller();
         return instance;
     }
 }
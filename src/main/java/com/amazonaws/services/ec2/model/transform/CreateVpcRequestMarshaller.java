@@ -47,4 +47,9 @@ public class CreateVpcRequestMarshaller implements Marshaller<Request<CreateVpcR
 
         return request;
     }
+
+    private static final CreateVpcRequestMarshaller instance = new CreateVpcRequestMarshaller();
+    public static CreateVpcRequestMarshaller getInstance() {
+        return instance;
+    }
 }
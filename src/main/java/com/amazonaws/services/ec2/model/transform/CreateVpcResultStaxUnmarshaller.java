@@ -59,9 +59,8 @@ public class CreateVpcResultStaxUnmarshaller implements Unmarshaller<CreateVpcRe
         }
     }
 
-    private static CreateVpcResultStaxUnmarshaller instance;
+    private static final CreateVpcResultStaxUnmarshaller instance = new CreateVpcResultStaxUnmarshaller();
     public static CreateVpcResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateVpcResultStaxUnmarshaller();
         return instance;
     }
 }
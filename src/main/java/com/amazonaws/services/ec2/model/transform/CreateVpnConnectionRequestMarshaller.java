@@ -52,4 +52,9 @@ public class CreateVpnConnectionRequestMarshaller implements Marshaller<Request<
 
         return request;
     }
+
+    private static final CreateVpnConnectionRequestMarshaller instance = new CreateVpnConnectionRequestMarshaller();
+    public static CreateVpnConnectionRequestMarshaller getInstance() {
+        return instance;
+    }
 }
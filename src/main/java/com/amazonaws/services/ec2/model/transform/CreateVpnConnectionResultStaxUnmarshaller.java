@@ -59,9 +59,8 @@ public class CreateVpnConnectionResultStaxUnmarshaller implements Unmarshaller<C
         }
     }
 
-    private static CreateVpnConnectionResultStaxUnmarshaller instance;
+    private static final CreateVpnConnectionResultStaxUnmarshaller instance = new CreateVpnConnectionResultStaxUnmarshaller();
     public static CreateVpnConnectionResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateVpnConnectionResultStaxUnmarshaller();
         return instance;
     }
 }
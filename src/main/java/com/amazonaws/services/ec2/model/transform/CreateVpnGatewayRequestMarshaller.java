@@ -47,4 +47,9 @@ public class CreateVpnGatewayRequestMarshaller implements Marshaller<Request<Cre
 
         return request;
     }
+
+    private static final CreateVpnGatewayRequestMarshaller instance = new CreateVpnGatewayRequestMarshaller();
+    public static CreateVpnGatewayRequestMarshaller getInstance() {
+        return instance;
+    }
 }
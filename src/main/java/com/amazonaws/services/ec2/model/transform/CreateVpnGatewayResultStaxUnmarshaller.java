@@ -59,9 +59,8 @@ public class CreateVpnGatewayResultStaxUnmarshaller implements Unmarshaller<Crea
         }
     }
 
-    private static CreateVpnGatewayResultStaxUnmarshaller instance;
+    private static final CreateVpnGatewayResultStaxUnmarshaller instance = new CreateVpnGatewayResultStaxUnmarshaller();
     public static CreateVpnGatewayResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateVpnGatewayResultStaxUnmarshaller();
         return instance;
     }
 }
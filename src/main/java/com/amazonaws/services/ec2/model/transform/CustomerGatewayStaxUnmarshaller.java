@@ -79,9 +79,8 @@ public class CustomerGatewayStaxUnmarshaller implements Unmarshaller<CustomerGat
         }
     }
 
-    private static CustomerGatewayStaxUnmarshaller instance;
+    private static final CustomerGatewayStaxUnmarshaller instance = new CustomerGatewayStaxUnmarshaller();
     public static CustomerGatewayStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CustomerGatewayStaxUnmarshaller();
         return instance;
     }
 }
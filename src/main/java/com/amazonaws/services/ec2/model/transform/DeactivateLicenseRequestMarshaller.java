@@ -47,4 +47,9 @@ public class DeactivateLicenseRequestMarshaller implements Marshaller<Request<De
 
         return request;
     }
+
+    private static final DeactivateLicenseRequestMarshaller instance = new DeactivateLicenseRequestMarshaller();
+    public static DeactivateLicenseRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -42,4 +42,9 @@ public class DeleteCustomerGatewayRequestMarshaller implements Marshaller<Reques
 
         return request;
     }
+
+    private static final DeleteCustomerGatewayRequestMarshaller instance = new DeleteCustomerGatewayRequestMarshaller();
+    public static DeleteCustomerGatewayRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -42,4 +42,9 @@ public class DeleteDhcpOptionsRequestMarshaller implements Marshaller<Request<De
 
         return request;
     }
+
+    private static final DeleteDhcpOptionsRequestMarshaller instance = new DeleteDhcpOptionsRequestMarshaller();
+    public static DeleteDhcpOptionsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
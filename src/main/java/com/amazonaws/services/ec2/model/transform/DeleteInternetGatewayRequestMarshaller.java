@@ -42,4 +42,9 @@ public class DeleteInternetGatewayRequestMarshaller implements Marshaller<Reques
 
         return request;
     }
+
+    private static final DeleteInternetGatewayRequestMarshaller instance = new DeleteInternetGatewayRequestMarshaller();
+    public static DeleteInternetGatewayRequestMarshaller getInstance() {
+        return instance;
+    }
 }
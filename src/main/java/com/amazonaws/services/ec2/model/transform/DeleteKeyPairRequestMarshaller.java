@@ -42,4 +42,9 @@ public class DeleteKeyPairRequestMarshaller implements Marshaller<Request<Delete
 
         return request;
     }
+
+    private static final DeleteKeyPairRequestMarshaller instance = new DeleteKeyPairRequestMarshaller();
+    public static DeleteKeyPairRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -52,4 +52,9 @@ public class DeleteNetworkAclEntryRequestMarshaller implements Marshaller<Reques
 
         return request;
     }
+
+    private static final DeleteNetworkAclEntryRequestMarshaller instance = new DeleteNetworkAclEntryRequestMarshaller();
+    public static DeleteNetworkAclEntryRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -42,4 +42,9 @@ public class DeleteNetworkAclRequestMarshaller implements Marshaller<Request<Del
 
         return request;
     }
+
+    private static final DeleteNetworkAclRequestMarshaller instance = new DeleteNetworkAclRequestMarshaller();
+    public static DeleteNetworkAclRequestMarshaller getInstance() {
+        return instance;
+    }
 }
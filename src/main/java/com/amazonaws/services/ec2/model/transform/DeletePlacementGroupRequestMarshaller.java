@@ -42,4 +42,9 @@ public class DeletePlacementGroupRequestMarshaller implements Marshaller<Request
 
         return request;
     }
+
+    private static final DeletePlacementGroupRequestMarshaller instance = new DeletePlacementGroupRequestMarshaller();
+    public static DeletePlacementGroupRequestMarshaller getInstance() {
+        return instance;
+    }
 }
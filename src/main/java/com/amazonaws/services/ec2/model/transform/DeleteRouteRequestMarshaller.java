@@ -47,4 +47,9 @@ public class DeleteRouteRequestMarshaller implements Marshaller<Request<DeleteRo
 
         return request;
     }
+
+    private static final DeleteRouteRequestMarshaller instance = new DeleteRouteRequestMarshaller();
+    public static DeleteRouteRequestMarshaller getInstance() {
+        return instance;
+    }
 }
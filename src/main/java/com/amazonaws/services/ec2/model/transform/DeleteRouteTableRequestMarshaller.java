@@ -42,4 +42,9 @@ public class DeleteRouteTableRequestMarshaller implements Marshaller<Request<Del
 
         return request;
     }
+
+    private static final DeleteRouteTableRequestMarshaller instance = new DeleteRouteTableRequestMarshaller();
+    public static DeleteRouteTableRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -47,4 +47,9 @@ public class DeleteSecurityGroupRequestMarshaller implements Marshaller<Request<
 
         return request;
     }
+
+    private static final DeleteSecurityGroupRequestMarshaller instance = new DeleteSecurityGroupRequestMarshaller();
+    public static DeleteSecurityGroupRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -42,4 +42,9 @@ public class DeleteSnapshotRequestMarshaller implements Marshaller<Request<Delet
 
         return request;
     }
+
+    private static final DeleteSnapshotRequestMarshaller instance = new DeleteSnapshotRequestMarshaller();
+    public static DeleteSnapshotRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -37,4 +37,9 @@ public class DeleteSpotDatafeedSubscriptionRequestMarshaller implements Marshall
 
         return request;
     }
+
+    private static final DeleteSpotDatafeedSubscriptionRequestMarshaller instance = new DeleteSpotDatafeedSubscriptionRequestMarshaller();
+    public static DeleteSpotDatafeedSubscriptionRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -42,4 +42,9 @@ public class DeleteSubnetRequestMarshaller implements Marshaller<Request<DeleteS
 
         return request;
     }
+
+    private static final DeleteSubnetRequestMarshaller instance = new DeleteSubnetRequestMarshaller();
+    public static DeleteSubnetRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,10 @@ import com.amazonaws.util.StringUtils;
  */
 public class DeleteTagsRequestMarshaller implements Marshaller<Request<DeleteTagsRequest>, DeleteTagsRequest> {
 
+    private static final ParameterNameTable RESOURCE_ID_NAMES = new ParameterNameTable("ResourceId.", "");
+    private static final ParameterNameTable TAG_KEY_NAMES = new ParameterNameTable("Tag.", ".Key");
+    private static final ParameterNameTable TAG_VALUE_NAMES = new ParameterNameTable("Tag.", ".Value");
+
     public Request<DeleteTagsRequest> marshall(DeleteTagsRequest deleteTagsRequest) {
         Request<DeleteTagsRequest> request = new DefaultRequest<DeleteTagsRequest>(deleteTagsRequest, "AmazonEC2");
         request.addParameter("Action", "DeleteTags");
@@ -39,7 +44,7 @@ public class DeleteTagsRequestMarshaller implements Marshaller<Request<DeleteTag
 
             for (String resourcesListValue : resourcesList) {
                 if (resourcesListValue != null) {
-                    request.addParameter("ResourceId." + resourcesListIndex, StringUtils.fromString(resourcesListValue));
+                    request.addParameter(RESOURCE_ID_NAMES.get(resourcesListIndex), StringUtils.fromString(resourcesListValue));
                 }
                 resourcesListIndex++;
             }
@@ -51,12 +56,12 @@ public class DeleteTagsRequestMarshaller implements Marshaller<Request<DeleteTag
             for (Tag tagsListValue : tagsList) {
                 if (tagsListValue != null) {
                     if (tagsListValue.getKey() != null) {
-                        request.addParameter("Tag." + tagsListIndex + ".Key", StringUtils.fromString(tagsListValue.getKey()));
+                        request.addParameter(TAG_KEY_NAMES.get(tagsListIndex), StringUtils.fromString(tagsListValue.getKey()));
                     }
                 }
                 if (tagsListValue != null) {
                     if (tagsListValue.getValue() != null) {
-                        request.addParameter("Tag." + tagsListIndex + ".Value", StringUtils.fromString(tagsListValue.getValue()));
+                        request.addParameter(TAG_VALUE_NAMES.get(tagsListIndex), StringUtils.fromString(tagsListValue.getValue()));
                     }
                 }
 
@@ -67,4 +72,9 @@ public class DeleteTagsRequestMarshaller implements Marshaller<Request<DeleteTag
 
         return request;
     }
+
+    private static final DeleteTagsRequestMarshaller instance = new DeleteTagsRequestMarshaller();
+    public static DeleteTagsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
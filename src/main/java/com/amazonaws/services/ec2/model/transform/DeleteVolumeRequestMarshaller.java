@@ -42,4 +42,9 @@ public class DeleteVolumeRequestMarshaller implements Marshaller<Request<DeleteV
 
         return request;
     }
+
+    private static final DeleteVolumeRequestMarshaller instance = new DeleteVolumeRequestMarshaller();
+    public static DeleteVolumeRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -42,4 +42,9 @@ public class DeleteVpcRequestMarshaller implements Marshaller<Request<DeleteVpcR
 
         return request;
     }
+
+    private static final DeleteVpcRequestMarshaller instance = new DeleteVpcRequestMarshaller();
+    public static DeleteVpcRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -42,4 +42,9 @@ public class DeleteVpnConnectionRequestMarshaller implements Marshaller<Request<
 
         return request;
     }
+
+    private static final DeleteVpnConnectionRequestMarshaller instance = new DeleteVpnConnectionRequestMarshaller();
+    public static DeleteVpnConnectionRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -42,4 +42,9 @@ public class DeleteVpnGatewayRequestMarshaller implements Marshaller<Request<Del
 
         return request;
     }
+
+    private static final DeleteVpnGatewayRequestMarshaller instance = new DeleteVpnGatewayRequestMarshaller();
+    public static DeleteVpnGatewayRequestMarshaller getInstance() {
+        return instance;
+    }
 }
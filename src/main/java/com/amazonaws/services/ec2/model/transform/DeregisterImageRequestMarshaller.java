@@ -42,4 +42,9 @@ public class DeregisterImageRequestMarshaller implements Marshaller<Request<Dere
 
         return request;
     }
+
+    private static final DeregisterImageRequestMarshaller instance = new DeregisterImageRequestMarshaller();
+    public static DeregisterImageRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,11 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeAddressesRequestMarshaller implements Marshaller<Request<DescribeAddressesRequest>, DescribeAddressesRequest> {
 
+    private static final ParameterNameTable PUBLIC_IP_NAMES = new ParameterNameTable("PublicIp.", "");
+    private static final ParameterNameTable FILTER_NAME_NAMES = new ParameterNameTable("Filter.", ".Name");
+    private static final ParameterNameTable FILTER_VALUE_NAMES = new ParameterNameTable("Filter.", ".Value.", "");
+    private static final ParameterNameTable ALLOCATION_ID_NAMES = new ParameterNameTable("AllocationId.", "");
+
     public Request<DescribeAddressesRequest> marshall(DescribeAddressesRequest describeAddressesRequest) {
         Request<DescribeAddressesRequest> request = new DefaultRequest<DescribeAddressesRequest>(describeAddressesRequest, "AmazonEC2");
         request.addParameter("Action", "DescribeAddresses");
@@ -39,7 +45,7 @@ public class DescribeAddressesRequestMarshaller implements Marshaller<Request<De
 
             for (String publicIpsListValue : publicIpsList) {
                 if (publicIpsListValue != null) {
-                    request.addParameter("PublicIp." + publicIpsListIndex, StringUtils.fromString(publicIpsListValue));
+                    request.addParameter(PUBLIC_IP_NAMES.get(publicIpsListIndex), StringUtils.fromString(publicIpsListValue));
                 }
                 publicIpsListIndex++;
             }
@@ -51,7 +57,7 @@ public class DescribeAddressesRequestMarshaller implements Marshaller<Request<De
             for (Filter filtersListValue : filtersList) {
                 if (filtersListValue != null) {
                     if (filtersListValue.getName() != null) {
-                        request.addParameter("Filter." + filtersListIndex + ".Name", StringUtils.fromString(filtersListValue.getName()));
+                        request.addParameter(FILTER_NAME_NAMES.get(filtersListIndex), StringUtils.fromString(filtersListValue.getName()));
                     }
                 }
                 if (filtersListValue != null) {
@@ -60,7 +66,7 @@ public class DescribeAddressesRequestMarshaller implements Marshaller<Request<De
 
                     for (String valuesListValue : valuesList) {
                         if (valuesListValue != null) {
-                            request.addParameter("Filter." + filtersListIndex + ".Value." + valuesListIndex, StringUtils.fromString(valuesListValue));
+                            request.addParameter(FILTER_VALUE_NAMES.get(filtersListIndex, valuesListIndex), StringUtils.fromString(valuesListValue));
                         }
                         valuesListIndex++;
                     }
@@ -75,7 +81,7 @@ public class DescribeAddressesRequestMarshaller implements Marshaller<Request<De
 
             for (String allocationIdsListValue : allocationIdsList) {
                 if (allocationIdsListValue != null) {
-                    request.addParameter("AllocationId." + allocationIdsListIndex, StringUtils.fromString(allocationIdsListValue));
+                    request.addParameter(ALLOCATION_ID_NAMES.get(allocationIdsListIndex), StringUtils.fromString(allocationIdsListValue));
                 }
                 allocationIdsListIndex++;
             }
@@ -84,4 +90,9 @@ public class DescribeAddressesRequestMarshaller implements Marshaller<Request<De
 
         return request;
     }
+
+    private static final DescribeAddressesRequestMarshaller instance = new DescribeAddressesRequestMarshaller();
+    public static DescribeAddressesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
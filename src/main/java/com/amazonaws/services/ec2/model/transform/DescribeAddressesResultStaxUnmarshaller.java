@@ -59,9 +59,8 @@ public class DescribeAddressesResultStaxUnmarshaller implements Unmarshaller<Des
         }
     }
 
-    private static DescribeAddressesResultStaxUnmarshaller instance;
+    private static final DescribeAddressesResultStaxUnmarshaller instance = new DescribeAddressesResultStaxUnmarshaller();
     public static DescribeAddressesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeAddressesResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,10 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeAvailabilityZonesRequestMarshaller implements Marshaller<Request<DescribeAvailabilityZonesRequest>, DescribeAvailabilityZonesRequest> {
 
+    private static final ParameterNameTable ZONE_NAME_NAMES = new ParameterNameTable("ZoneName.", "");
+    private static final ParameterNameTable FILTER_NAME_NAMES = new ParameterNameTable("Filter.", ".Name");
+    private static final ParameterNameTable FILTER_VALUE_NAMES = new ParameterNameTable("Filter.", ".Value.", "");
+
     public Request<DescribeAvailabilityZonesRequest> marshall(DescribeAvailabilityZonesRequest describeAvailabilityZonesRequest) {
         Request<DescribeAvailabilityZonesRequest> request = new DefaultRequest<DescribeAvailabilityZonesRequest>(describeAvailabilityZonesRequest, "AmazonEC2");
         request.addParameter("Action", "DescribeAvailabilityZones");
@@ -39,7 +44,7 @@ public class DescribeAvailabilityZonesRequestMarshaller implements Marshaller<Re
 
             for (String zoneNamesListValue : zoneNamesList) {
                 if (zoneNamesListValue != null) {
-                    request.addParameter("ZoneName." + zoneNamesListIndex, StringUtils.fromString(zoneNamesListValue));
+                    request.addParameter(ZONE_NAME_NAMES.get(zoneNamesListIndex), StringUtils.fromString(zoneNamesListValue));
                 }
                 zoneNamesListIndex++;
             }
@@ -51,7 +56,7 @@ public class DescribeAvailabilityZonesRequestMarshaller implements Marshaller<Re
             for (Filter filtersListValue : filtersList) {
                 if (filtersListValue != null) {
                     if (filtersListValue.getName() != null) {
-                        request.addParameter("Filter." + filtersListIndex + ".Name", StringUtils.fromString(filtersListValue.getName()));
+                        request.addParameter(FILTER_NAME_NAMES.get(filtersListIndex), StringUtils.fromString(filtersListValue.getName()));
                     }
                 }
                 if (filtersListValue != null) {
@@ -60,7 +65,7 @@ public class DescribeAvailabilityZonesRequestMarshaller implements Marshaller<Re
 
                     for (String valuesListValue : valuesList) {
                         if (valuesListValue != null) {
-                            request.addParameter("Filter." + filtersListIndex + ".Value." + valuesListIndex, StringUtils.fromString(valuesListValue));
+                            request.addParameter(FILTER_VALUE_NAMES.get(filtersListIndex, valuesListIndex), StringUtils.fromString(valuesListValue));
                         }
                         valuesListIndex++;
                     }
@@ -73,4 +78,9 @@ public class DescribeAvailabilityZonesRequestMarshaller implements Marshaller<Re
 
         return request;
     }
+
+    private static final DescribeAvailabilityZonesRequestMarshaller instance = new DescribeAvailabilityZonesRequestMarshaller();
+    public static DescribeAvailabilityZonesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class DescribeAvailabilityZonesResultStaxUnmarshaller implements Unmarsha
         }
     }
 
-    private static DescribeAvailabilityZonesResultStaxUnmarshaller instance;
+    private static final DescribeAvailabilityZonesResultStaxUnmarshaller instance = new DescribeAvailabilityZonesResultStaxUnmarshaller();
     public static DescribeAvailabilityZonesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeAvailabilityZonesResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -59,9 +59,8 @@ public class DescribeBundleTasksResultStaxUnmarshaller implements Unmarshaller<D
         }
     }
 
-    private static DescribeBundleTasksResultStaxUnmarshaller instance;
+    private static final DescribeBundleTasksResultStaxUnmarshaller instance = new DescribeBundleTasksResultStaxUnmarshaller();
     public static DescribeBundleTasksResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeBundleTasksResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,10 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeCustomerGatewaysRequestMarshaller implements Marshaller<Request<DescribeCustomerGatewaysRequest>, DescribeCustomerGatewaysRequest> {
 
+    private static final ParameterNameTable CUSTOMER_GATEWAY_ID_NAMES = new ParameterNameTable("CustomerGatewayId.", "");
+    private static final ParameterNameTable FILTER_NAME_NAMES = new ParameterNameTable("Filter.", ".Name");
+    private static final ParameterNameTable FILTER_VALUE_NAMES = new ParameterNameTable("Filter.", ".Value.", "");
+
     public Request<DescribeCustomerGatewaysRequest> marshall(DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest) {
         Request<DescribeCustomerGatewaysRequest> request = new DefaultRequest<DescribeCustomerGatewaysRequest>(describeCustomerGatewaysRequest, "AmazonEC2");
         request.addParameter("Action", "DescribeCustomerGateways");
@@ -39,7 +44,7 @@ public class DescribeCustomerGatewaysRequestMarshaller implements Marshaller<Req
 
             for (String customerGatewayIdsListValue : customerGatewayIdsList) {
                 if (customerGatewayIdsListValue != null) {
-                    request.addParameter("CustomerGatewayId." + customerGatewayIdsListIndex, StringUtils.fromString(customerGatewayIdsListValue));
+                    request.addParameter(CUSTOMER_GATEWAY_ID_NAMES.get(customerGatewayIdsListIndex), StringUtils.fromString(customerGatewayIdsListValue));
                 }
                 customerGatewayIdsListIndex++;
             }
@@ -51,7 +56,7 @@ public class DescribeCustomerGatewaysRequestMarshaller implements Marshaller<Req
             for (Filter filtersListValue : filtersList) {
                 if (filtersListValue != null) {
                     if (filtersListValue.getName() != null) {
-                        request.addParameter("Filter." + filtersListIndex + ".Name", StringUtils.fromString(filtersListValue.getName()));
+                        request.addParameter(FILTER_NAME_NAMES.get(filtersListIndex), StringUtils.fromString(filtersListValue.getName()));
                     }
                 }
                 if (filtersListValue != null) {
@@ -60,7 +65,7 @@ public class DescribeCustomerGatewaysRequestMarshaller implements Marshaller<Req
 
                     for (String valuesListValue : valuesList) {
                         if (valuesListValue != null) {
-                            request.addParameter("Filter." + filtersListIndex + ".Value." + valuesListIndex, StringUtils.fromString(valuesListValue));
+                            request.addParameter(FILTER_VALUE_NAMES.get(filtersListIndex, valuesListIndex), StringUtils.fromString(valuesListValue));
                         }
                         valuesListIndex++;
                     }
@@ -73,4 +78,9 @@ public class DescribeCustomerGatewaysRequestMarshaller implements Marshaller<Req
 
         return request;
     }
+
+    private static final DescribeCustomerGatewaysRequestMarshaller instance = new DescribeCustomerGatewaysRequestMarshaller();
+    public static DescribeCustomerGatewaysRequestMarshaller getInstance() {
+        return instance;
+    }
 }
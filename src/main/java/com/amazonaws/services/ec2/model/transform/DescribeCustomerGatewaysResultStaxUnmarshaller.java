@@ -59,9 +59,8 @@ public class DescribeCustomerGatewaysResultStaxUnmarshaller implements Unmarshal
         }
     }
 
-    private static DescribeCustomerGatewaysResultStaxUnmarshaller instance;
+    private static final DescribeCustomerGatewaysResultStaxUnmarshaller instance = new DescribeCustomerGatewaysResultStaxUnmarshaller();
     public static DescribeCustomerGatewaysResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeCustomerGatewaysResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,10 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeDhcpOptionsRequestMarshaller implements Marshaller<Request<DescribeDhcpOptionsRequest>, DescribeDhcpOptionsRequest> {
 
+    private static final ParameterNameTable DHCP_OPTIONS_ID_NAMES = new ParameterNameTable("DhcpOptionsId.", "");
+    private static final ParameterNameTable FILTER_NAME_NAMES = new ParameterNameTable("Filter.", ".Name");
+    private static final ParameterNameTable FILTER_VALUE_NAMES = new ParameterNameTable("Filter.", ".Value.", "");
+
     public Request<DescribeDhcpOptionsRequest> marshall(DescribeDhcpOptionsRequest describeDhcpOptionsRequest) {
         Request<DescribeDhcpOptionsRequest> request = new DefaultRequest<DescribeDhcpOptionsRequest>(describeDhcpOptionsRequest, "AmazonEC2");
         request.addParameter("Action", "DescribeDhcpOptions");
@@ -39,7 +44,7 @@ public class DescribeDhcpOptionsRequestMarshaller implements Marshaller<Request<
 
             for (String dhcpOptionsIdsListValue : dhcpOptionsIdsList) {
                 if (dhcpOptionsIdsListValue != null) {
-                    request.addParameter("DhcpOptionsId." + dhcpOptionsIdsListIndex, StringUtils.fromString(dhcpOptionsIdsListValue));
+                    request.addParameter(DHCP_OPTIONS_ID_NAMES.get(dhcpOptionsIdsListIndex), StringUtils.fromString(dhcpOptionsIdsListValue));
                 }
                 dhcpOptionsIdsListIndex++;
             }
@@ -51,7 +56,7 @@ public class DescribeDhcpOptionsRequestMarshaller implements Marshaller<Request<
             for (Filter filtersListValue : filtersList) {
                 if (filtersListValue != null) {
                     if (filtersListValue.getName() != null) {
-                        request.addParameter("Filter." + filtersListIndex + ".Name", StringUtils.fromString(filtersListValue.getName()));
+                        request.addParameter(FILTER_NAME_NAMES.get(filtersListIndex), StringUtils.fromString(filtersListValue.getName()));
                     }
                 }
                 if (filtersListValue != null) {
@@ -60,7 +65,7 @@ public class DescribeDhcpOptionsRequestMarshaller implements Marshaller<Request<
 
                     for (String valuesListValue : valuesList) {
                         if (valuesListValue != null) {
-                            request.addParameter("Filter." + filtersListIndex + ".Value." + valuesListIndex, StringUtils.fromString(valuesListValue));
+                            request.addParameter(FILTER_VALUE_NAMES.get(filtersListIndex, valuesListIndex), StringUtils.fromString(valuesListValue));
                         }
                         valuesListIndex++;
                     }
@@ -73,4 +78,9 @@ public class DescribeDhcpOptionsRequestMarshaller implements Marshaller<Request<
 
         return request;
     }
+
+    private static final DescribeDhcpOptionsRequestMarshaller instance = new DescribeDhcpOptionsRequestMarshaller();
+    public static DescribeDhcpOptionsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class DescribeDhcpOptionsResultStaxUnmarshaller implements Unmarshaller<D
         }
     }
 
-    private static DescribeDhcpOptionsResultStaxUnmarshaller instance;
+    private static final DescribeDhcpOptionsResultStaxUnmarshaller instance = new DescribeDhcpOptionsResultStaxUnmarshaller();
     public static DescribeDhcpOptionsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeDhcpOptionsResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -47,4 +47,9 @@ public class DescribeImageAttributeRequestMarshaller implements Marshaller<Reque
 
         return request;
     }
+
+    private static final DescribeImageAttributeRequestMarshaller instance = new DescribeImageAttributeRequestMarshaller();
+    public static DescribeImageAttributeRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class DescribeImageAttributeResultStaxUnmarshaller implements Unmarshalle
         }
     }
 
-    private static DescribeImageAttributeResultStaxUnmarshaller instance;
+    private static final DescribeImageAttributeResultStaxUnmarshaller instance = new DescribeImageAttributeResultStaxUnmarshaller();
     public static DescribeImageAttributeResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeImageAttributeResultStaxUnmarshaller();
         return instance;
     }
 }
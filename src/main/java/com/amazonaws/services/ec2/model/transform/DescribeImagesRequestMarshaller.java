@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,12 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeImagesRequestMarshaller implements Marshaller<Request<DescribeImagesRequest>, DescribeImagesRequest> {
 
+    private static final ParameterNameTable IMAGE_ID_NAMES = new ParameterNameTable("ImageId.", "");
+    private static final ParameterNameTable OWNER_NAMES = new ParameterNameTable("Owner.", "");
+    private static final ParameterNameTable EXECUTABLE_BY_NAMES = new ParameterNameTable("ExecutableBy.", "");
+    private static final ParameterNameTable FILTER_NAME_NAMES = new ParameterNameTable("Filter.", ".Name");
+    private static final ParameterNameTable FILTER_VALUE_NAMES = new ParameterNameTable("Filter.", ".Value.", "");
+
     public Request<DescribeImagesRequest> marshall(DescribeImagesRequest describeImagesRequest) {
         Request<DescribeImagesRequest> request = new DefaultRequest<DescribeImagesRequest>(describeImagesRequest, "AmazonEC2");
         request.addParameter("Action", "DescribeImages");
@@ -39,7 +46,7 @@ public class DescribeImagesRequestMarshaller implements Marshaller<Request<Descr
 
             for (String imageIdsListValue : imageIdsList) {
                 if (imageIdsListValue != null) {
-                    request.addParameter("ImageId." + imageIdsListIndex, StringUtils.fromString(imageIdsListValue));
+                    request.addParameter(IMAGE_ID_NAMES.get(imageIdsListIndex), StringUtils.fromString(imageIdsListValue));
                 }
                 imageIdsListIndex++;
             }
@@ -50,7 +57,7 @@ public class DescribeImagesRequestMarshaller implements Marshaller<Request<Descr
 
             for (String ownersListValue : ownersList) {
                 if (ownersListValue != null) {
-                    request.addParameter("Owner." + ownersListIndex, StringUtils.fromString(ownersListValue));
+                    request.addParameter(OWNER_NAMES.get(ownersListIndex), StringUtils.fromString(ownersListValue));
                 }
                 ownersListIndex++;
             }
@@ -61,7 +68,7 @@ public class DescribeImagesRequestMarshaller implements Marshaller<Request<Descr
 
             for (String executableUsersListValue : executableUsersList) {
                 if (executableUsersListValue != null) {
-                    request.addParameter("ExecutableBy." + executableUsersListIndex, StringUtils.fromString(executableUsersListValue));
+                    request.addParameter(EXECUTABLE_BY_NAMES.get(executableUsersListIndex), StringUtils.fromString(executableUsersListValue));
                 }
                 executableUsersListIndex++;
             }
@@ -73,7 +80,7 @@ public class DescribeImagesRequestMarshaller implements Marshaller<Request<Descr
             for (Filter filtersListValue : filtersList) {
                 if (filtersListValue != null) {
                     if (filtersListValue.getName() != null) {
-                        request.addParameter("Filter." + filtersListIndex + ".Name", StringUtils.fromString(filtersListValue.getName()));
+                        request.addParameter(FILTER_NAME_NAMES.get(filtersListIndex), StringUtils.fromString(filtersListValue.getName()));
                     }
                 }
                 if (filtersListValue != null) {
@@ -82,7 +89,7 @@ public class DescribeImagesRequestMarshaller implements Marshaller<Request<Descr
 
                     for (String valuesListValue : valuesList) {
                         if (valuesListValue != null) {
-                            request.addParameter("Filter." + filtersListIndex + ".Value." + valuesListIndex, StringUtils.fromString(valuesListValue));
+                            request.addParameter(FILTER_VALUE_NAMES.get(filtersListIndex, valuesListIndex), StringUtils.fromString(valuesListValue));
                         }
                         valuesListIndex++;
                     }
@@ -95,4 +102,9 @@ public class DescribeImagesRequestMarshaller implements Marshaller<Request<Descr
 
         return request;
     }
+
+    private static final DescribeImagesRequestMarshaller instance = new DescribeImagesRequestMarshaller();
+    public static DescribeImagesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
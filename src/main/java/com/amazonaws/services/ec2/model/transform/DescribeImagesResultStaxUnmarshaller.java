@@ -59,9 +59,8 @@ public class DescribeImagesResultStaxUnmarshaller implements Unmarshaller<Descri
         }
     }
 
-    private static DescribeImagesResultStaxUnmarshaller instance;
+    private static final DescribeImagesResultStaxUnmarshaller instance = new DescribeImagesResultStaxUnmarshaller();
     public static DescribeImagesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeImagesResultStaxUnmarshaller();
         return instance;
     }
 }
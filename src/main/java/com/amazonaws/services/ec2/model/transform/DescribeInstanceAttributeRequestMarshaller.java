@@ -47,4 +47,9 @@ public class DescribeInstanceAttributeRequestMarshaller implements Marshaller<Re
 
         return request;
     }
+
+    private static final DescribeInstanceAttributeRequestMarshaller instance = new DescribeInstanceAttributeRequestMarshaller();
+    public static DescribeInstanceAttributeRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class DescribeInstanceAttributeResultStaxUnmarshaller implements Unmarsha
         }
     }
 
-    private static DescribeInstanceAttributeResultStaxUnmarshaller instance;
+    private static final DescribeInstanceAttributeResultStaxUnmarshaller instance = new DescribeInstanceAttributeResultStaxUnmarshaller();
     public static DescribeInstanceAttributeResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeInstanceAttributeResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,10 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeInstancesRequestMarshaller implements Marshaller<Request<DescribeInstancesRequest>, DescribeInstancesRequest> {
 
+    private static final ParameterNameTable INSTANCE_ID_NAMES = new ParameterNameTable("InstanceId.", "");
+    private static final ParameterNameTable FILTER_NAME_NAMES = new ParameterNameTable("Filter.", ".Name");
+    private static final ParameterNameTable FILTER_VALUE_NAMES = new ParameterNameTable("Filter.", ".Value.", "");
+
     public Request<DescribeInstancesRequest> marshall(DescribeInstancesRequest describeInstancesRequest) {
         Request<DescribeInstancesRequest> request = new DefaultRequest<DescribeInstancesRequest>(describeInstancesRequest, "AmazonEC2");
         request.addParameter("Action", "DescribeInstances");
@@ -39,7 +44,7 @@ public class DescribeInstancesRequestMarshaller implements Marshaller<Request<De
 
             for (String instanceIdsListValue : instanceIdsList) {
                 if (instanceIdsListValue != null) {
-                    request.addParameter("InstanceId." + instanceIdsListIndex, StringUtils.fromString(instanceIdsListValue));
+                    request.addParameter(INSTANCE_ID_NAMES.get(instanceIdsListIndex), StringUtils.fromString(instanceIdsListValue));
                 }
                 instanceIdsListIndex++;
             }
@@ -51,7 +56,7 @@ public class DescribeInstancesRequestMarshaller implements Marshaller<Request<De
             for (Filter filtersListValue : filtersList) {
                 if (filtersListValue != null) {
                     if (filtersListValue.getName() != null) {
-                        request.addParameter("Filter." + filtersListIndex + ".Name", StringUtils.fromString(filtersListValue.getName()));
+                        request.addParameter(FILTER_NAME_NAMES.get(filtersListIndex), StringUtils.fromString(filtersListValue.getName()));
                     }
                 }
                 if (filtersListValue != null) {
@@ -60,7 +65,7 @@ public class DescribeInstancesRequestMarshaller implements Marshaller<Request<De
 
                     for (String valuesListValue : valuesList) {
                         if (valuesListValue != null) {
-                            request.addParameter("Filter." + filtersListIndex + ".Value." + valuesListIndex, StringUtils.fromString(valuesListValue));
+                            request.addParameter(FILTER_VALUE_NAMES.get(filtersListIndex, valuesListIndex), StringUtils.fromString(valuesListValue));
                         }
                         valuesListIndex++;
                     }
@@ -73,4 +78,9 @@ public class DescribeInstancesRequestMarshaller implements Marshaller<Request<De
 
         return request;
     }
+
+    private static final DescribeInstancesRequestMarshaller instance = new DescribeInstancesRequestMarshaller();
+    public static DescribeInstancesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class DescribeInstancesResultStaxUnmarshaller implements Unmarshaller<Des
         }
     }
 
-    private static DescribeInstancesResultStaxUnmarshaller instance;
+    private static final DescribeInstancesResultStaxUnmarshaller instance = new DescribeInstancesResultStaxUnmarshaller();
     public static DescribeInstancesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeInstancesResultStaxUnmarshaller();
         return instance;
     }
 }
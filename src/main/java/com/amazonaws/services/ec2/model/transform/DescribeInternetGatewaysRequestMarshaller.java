@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,10 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeInternetGatewaysRequestMarshaller implements Marshaller<Request<DescribeInternetGatewaysRequest>, DescribeInternetGatewaysRequest> {
 
+    private static final ParameterNameTable INTERNET_GATEWAY_ID_NAMES = new ParameterNameTable("InternetGatewayId.", "");
+    private static final ParameterNameTable FILTER_NAME_NAMES = new ParameterNameTable("Filter.", ".Name");
+    private static final ParameterNameTable FILTER_VALUE_NAMES = new ParameterNameTable("Filter.", ".Value.", "");
+
     public Request<DescribeInternetGatewaysRequest> marshall(DescribeInternetGatewaysRequest describeInternetGatewaysRequest) {
         Request<DescribeInternetGatewaysRequest> request = new DefaultRequest<DescribeInternetGatewaysRequest>(describeInternetGatewaysRequest, "AmazonEC2");
         request.addParameter("Action", "DescribeInternetGateways");
@@ -39,7 +44,7 @@ public class DescribeInternetGatewaysRequestMarshaller implements Marshaller<Req
 
             for (String internetGatewayIdsListValue : internetGatewayIdsList) {
                 if (internetGatewayIdsListValue != null) {
-                    request.addParameter("InternetGatewayId." + internetGatewayIdsListIndex, StringUtils.fromString(internetGatewayIdsListValue));
+                    request.addParameter(INTERNET_GATEWAY_ID_NAMES.get(internetGatewayIdsListIndex), StringUtils.fromString(internetGatewayIdsListValue));
                 }
                 internetGatewayIdsListIndex++;
             }
@@ -51,7 +56,7 @@ public class DescribeInternetGatewaysRequestMarshaller implements Marshaller<Req
             for (Filter filtersListValue : filtersList) {
                 if (filtersListValue != null) {
                     if (filtersListValue.getName() != null) {
-                        request.addParameter("Filter." + filtersListIndex + ".Name", StringUtils.fromString(filtersListValue.getName()));
+                        request.addParameter(FILTER_NAME_NAMES.get(filtersListIndex), StringUtils.fromString(filtersListValue.getName()));
                     }
                 }
                 if (filtersListValue != null) {
@@ -60,7 +65,7 @@ public class DescribeInternetGatewaysRequestMarshaller implements Marshaller<Req
 
                     for (String valuesListValue : valuesList) {
                         if (valuesListValue != null) {
-                            request.addParameter("Filter." + filtersListIndex + ".Value." + valuesListIndex, StringUtils.fromString(valuesListValue));
+                            request.addParameter(FILTER_VALUE_NAMES.get(filtersListIndex, valuesListIndex), StringUtils.fromString(valuesListValue));
                         }
                         valuesListIndex++;
                     }
@@ -73,4 +78,9 @@ public class DescribeInternetGatewaysRequestMarshaller implements Marshaller<Req
 
         return request;
     }
+
+    private static final DescribeInternetGatewaysRequestMarshaller instance = new DescribeInternetGatewaysRequestMarshaller();
+    public static DescribeInternetGatewaysRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class DescribeInternetGatewaysResultStaxUnmarshaller implements Unmarshal
         }
     }
 
-    private static DescribeInternetGatewaysResultStaxUnmarshaller instance;
+    private static final DescribeInternetGatewaysResultStaxUnmarshaller instance = new DescribeInternetGatewaysResultStaxUnmarshaller();
     public static DescribeInternetGatewaysResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeInternetGatewaysResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,10 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeKeyPairsRequestMarshaller implements Marshaller<Request<DescribeKeyPairsRequest>, DescribeKeyPairsRequest> {
 
+    private static final ParameterNameTable KEY_NAME_NAMES = new ParameterNameTable("KeyName.", "");
+    private static final ParameterNameTable FILTER_NAME_NAMES = new ParameterNameTable("Filter.", ".Name");
+    private static final ParameterNameTable FILTER_VALUE_NAMES = new ParameterNameTable("Filter.", ".Value.", "");
+
     public Request<DescribeKeyPairsRequest> marshall(DescribeKeyPairsRequest describeKeyPairsRequest) {
         Request<DescribeKeyPairsRequest> request = new DefaultRequest<DescribeKeyPairsRequest>(describeKeyPairsRequest, "AmazonEC2");
         request.addParameter("Action", "DescribeKeyPairs");
@@ -39,7 +44,7 @@ public class DescribeKeyPairsRequestMarshaller implements Marshaller<Request<Des
 
             for (String keyNamesListValue : keyNamesList) {
                 if (keyNamesListValue != null) {
-                    request.addParameter("KeyName." + keyNamesListIndex, StringUtils.fromString(keyNamesListValue));
+                    request.addParameter(KEY_NAME_NAMES.get(keyNamesListIndex), StringUtils.fromString(keyNamesListValue));
                 }
                 keyNamesListIndex++;
             }
@@ -51,7 +56,7 @@ public class DescribeKeyPairsRequestMarshaller implements Marshaller<Request<Des
             for (Filter filtersListValue : filtersList) {
                 if (filtersListValue != null) {
                     if (filtersListValue.getName() != null) {
-                        request.addParameter("Filter." + filtersListIndex + ".Name", StringUtils.fromString(filtersListValue.getName()));
+                        request.addParameter(FILTER_NAME_NAMES.get(filtersListIndex), StringUtils.fromString(filtersListValue.getName()));
                     }
                 }
                 if (filtersListValue != null) {
@@ -60,7 +65,7 @@ public class DescribeKeyPairsRequestMarshaller implements Marshaller<Request<Des
 
                     for (String valuesListValue : valuesList) {
                         if (valuesListValue != null) {
-                            request.addParameter("Filter." + filtersListIndex + ".Value." + valuesListIndex, StringUtils.fromString(valuesListValue));
+                            request.addParameter(FILTER_VALUE_NAMES.get(filtersListIndex, valuesListIndex), StringUtils.fromString(valuesListValue));
                         }
                         valuesListIndex++;
                     }
@@ -73,4 +78,9 @@ public class DescribeKeyPairsRequestMarshaller implements Marshaller<Request<Des
 
         return request;
     }
+
+    private static final DescribeKeyPairsRequestMarshaller instance = new DescribeKeyPairsRequestMarshaller();
+    public static DescribeKeyPairsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class DescribeKeyPairsResultStaxUnmarshaller implements Unmarshaller<Desc
         }
     }
 
-    private static DescribeKeyPairsResultStaxUnmarshaller instance;
+    private static final DescribeKeyPairsResultStaxUnmarshaller instance = new DescribeKeyPairsResultStaxUnmarshaller();
     public static DescribeKeyPairsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeKeyPairsResultStaxUnmarshaller();
         return instance;
     }
 }
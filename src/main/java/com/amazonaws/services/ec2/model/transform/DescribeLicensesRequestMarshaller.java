@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,10 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeLicensesRequestMarshaller implements Marshaller<Request<DescribeLicensesRequest>, DescribeLicensesRequest> {
 
+    private static final ParameterNameTable LICENSE_ID_NAMES = new ParameterNameTable("LicenseId.", "");
+    private static final ParameterNameTable FILTER_NAME_NAMES = new ParameterNameTable("Filter.", ".Name");
+    private static final ParameterNameTable FILTER_VALUE_NAMES = new ParameterNameTable("Filter.", ".Value.", "");
+
     public Request<DescribeLicensesRequest> marshall(DescribeLicensesRequest describeLicensesRequest) {
         Request<DescribeLicensesRequest> request = new DefaultRequest<DescribeLicensesRequest>(describeLicensesRequest, "AmazonEC2");
         request.addParameter("Action", "DescribeLicenses");
@@ -39,7 +44,7 @@ public class DescribeLicensesRequestMarshaller implements Marshaller<Request<Des
 
             for (String licenseIdsListValue : licenseIdsList) {
                 if (licenseIdsListValue != null) {
-                    request.addParameter("LicenseId." + licenseIdsListIndex, StringUtils.fromString(licenseIdsListValue));
+                    request.addParameter(LICENSE_ID_NAMES.get(licenseIdsListIndex), StringUtils.fromString(licenseIdsListValue));
                 }
                 licenseIdsListIndex++;
             }
@@ -51,7 +56,7 @@ public class DescribeLicensesRequestMarshaller implements Marshaller<Request<Des
             for (Filter filtersListValue : filtersList) {
                 if (filtersListValue != null) {
                     if (filtersListValue.getName() != null) {
-                        request.addParameter("Filter." + filtersListIndex + ".Name", StringUtils.fromString(filtersListValue.getName()));
+                        request.addParameter(FILTER_NAME_NAMES.get(filtersListIndex), StringUtils.fromString(filtersListValue.getName()));
                     }
                 }
                 if (filtersListValue != null) {
@@ -60,7 +65,7 @@ public class DescribeLicensesRequestMarshaller implements Marshaller<Request<Des
 
                     for (String valuesListValue : valuesList) {
                         if (valuesListValue != null) {
-                            request.addParameter("Filter." + filtersListIndex + ".Value." + valuesListIndex, StringUtils.fromString(valuesListValue));
+                            request.addParameter(FILTER_VALUE_NAMES.get(filtersListIndex, valuesListIndex), StringUtils.fromString(valuesListValue));
                         }
                         valuesListIndex++;
                     }
@@ -73,4 +78,9 @@ public class DescribeLicensesRequestMarshaller implements Marshaller<Request<Des
 
         return request;
     }
+
+    private static final DescribeLicensesRequestMarshaller instance = new DescribeLicensesRequestMarshaller();
+    public static DescribeLicensesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
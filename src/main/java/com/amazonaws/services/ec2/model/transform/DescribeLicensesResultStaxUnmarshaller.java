@@ -59,9 +59,8 @@ public class DescribeLicensesResultStaxUnmarshaller implements Unmarshaller<Desc
         }
     }
 
-    private static DescribeLicensesResultStaxUnmarshaller instance;
+    private static final DescribeLicensesResultStaxUnmarshaller instance = new DescribeLicensesResultStaxUnmarshaller();
     public static DescribeLicensesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeLicensesResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,10 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeNetworkAclsRequestMarshaller implements Marshaller<Request<DescribeNetworkAclsRequest>, DescribeNetworkAclsRequest> {
 
+    private static final ParameterNameTable NETWORK_ACL_ID_NAMES = new ParameterNameTable("NetworkAclId.", "");
+    private static final ParameterNameTable FILTER_NAME_NAMES = new ParameterNameTable("Filter.", ".Name");
+    private static final ParameterNameTable FILTER_VALUE_NAMES = new ParameterNameTable("Filter.", ".Value.", "");
+
     public Request<DescribeNetworkAclsRequest> marshall(DescribeNetworkAclsRequest describeNetworkAclsRequest) {
         Request<DescribeNetworkAclsRequest> request = new DefaultRequest<DescribeNetworkAclsRequest>(describeNetworkAclsRequest, "AmazonEC2");
         request.addParameter("Action", "DescribeNetworkAcls");
@@ -39,7 +44,7 @@ public class DescribeNetworkAclsRequestMarshaller implements Marshaller<Request<
 
             for (String networkAclIdsListValue : networkAclIdsList) {
                 if (networkAclIdsListValue != null) {
-                    request.addParameter("NetworkAclId." + networkAclIdsListIndex, StringUtils.fromString(networkAclIdsListValue));
+                    request.addParameter(NETWORK_ACL_ID_NAMES.get(networkAclIdsListIndex), StringUtils.fromString(networkAclIdsListValue));
                 }
                 networkAclIdsListIndex++;
             }
@@ -51,7 +56,7 @@ public class DescribeNetworkAclsRequestMarshaller implements Marshaller<Request<
             for (Filter filtersListValue : filtersList) {
                 if (filtersListValue != null) {
                     if (filtersListValue.getName() != null) {
-                        request.addParameter("Filter." + filtersListIndex + ".Name", StringUtils.fromString(filtersListValue.getName()));
+                        request.addParameter(FILTER_NAME_NAMES.get(filtersListIndex), StringUtils.fromString(filtersListValue.getName()));
                     }
                 }
                 if (filtersListValue != null) {
@@ -60,7 +65,7 @@ public class DescribeNetworkAclsRequestMarshaller implements Marshaller<Request<
 
                     for (String valuesListValue : valuesList) {
                         if (valuesListValue != null) {
-                            request.addParameter("Filter." + filtersListIndex + ".Value." + valuesListIndex, StringUtils.fromString(valuesListValue));
+                            request.addParameter(FILTER_VALUE_NAMES.get(filtersListIndex, valuesListIndex), StringUtils.fromString(valuesListValue));
                         }
                         valuesListIndex++;
                     }
@@ -73,4 +78,9 @@ public class DescribeNetworkAclsRequestMarshaller implements Marshaller<Request<
 
         return request;
     }
+
+    private static final DescribeNetworkAclsRequestMarshaller instance = new DescribeNetworkAclsRequestMarshaller();
+    public static DescribeNetworkAclsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
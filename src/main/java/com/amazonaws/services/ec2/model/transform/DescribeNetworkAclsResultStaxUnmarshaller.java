@@ -59,9 +59,8 @@ public class DescribeNetworkAclsResultStaxUnmarshaller implements Unmarshaller<D
         }
     }
 
-    private static DescribeNetworkAclsResultStaxUnmarshaller instance;
+    private static final DescribeNetworkAclsResultStaxUnmarshaller instance = new DescribeNetworkAclsResultStaxUnmarshaller();
     public static DescribeNetworkAclsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeNetworkAclsResultStaxUnmarshaller();
         return instance;
     }
 }
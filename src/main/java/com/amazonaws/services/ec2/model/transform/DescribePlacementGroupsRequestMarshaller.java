@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,10 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribePlacementGroupsRequestMarshaller implements Marshaller<Request<DescribePlacementGroupsRequest>, DescribePlacementGroupsRequest> {
 
+    private static final ParameterNameTable GROUP_NAME_NAMES = new ParameterNameTable("GroupName.", "");
+    private static final ParameterNameTable FILTER_NAME_NAMES = new ParameterNameTable("Filter.", ".Name");
+    private static final ParameterNameTable FILTER_VALUE_NAMES = new ParameterNameTable("Filter.", ".Value.", "");
+
     public Request<DescribePlacementGroupsRequest> marshall(DescribePlacementGroupsRequest describePlacementGroupsRequest) {
         Request<DescribePlacementGroupsRequest> request = new DefaultRequest<DescribePlacementGroupsRequest>(describePlacementGroupsRequest, "AmazonEC2");
         request.addParameter("Action", "DescribePlacementGroups");
@@ -39,7 +44,7 @@ public class DescribePlacementGroupsRequestMarshaller implements Marshaller<Requ
 
             for (String groupNamesListValue : groupNamesList) {
                 if (groupNamesListValue != null) {
-                    request.addParameter("GroupName." + groupNamesListIndex, StringUtils.fromString(groupNamesListValue));
+                    request.addParameter(GROUP_NAME_NAMES.get(groupNamesListIndex), StringUtils.fromString(groupNamesListValue));
                 }
                 groupNamesListIndex++;
             }
@@ -51,7 +56,7 @@ public class DescribePlacementGroupsRequestMarshaller implements Marshaller<Requ
             for (Filter filtersListValue : filtersList) {
                 if (filtersListValue != null) {
                     if (filtersListValue.getName() != null) {
-                        request.addParameter("Filter." + filtersListIndex + ".Name", StringUtils.fromString(filtersListValue.getName()));
+                        request.addParameter(FILTER_NAME_NAMES.get(filtersListIndex), StringUtils.fromString(filtersListValue.getName()));
                     }
                 }
                 if (filtersListValue != null) {
@@ -60,7 +65,7 @@ public class DescribePlacementGroupsRequestMarshaller implements Marshaller<Requ
 
                     for (String valuesListValue : valuesList) {
                         if (valuesListValue != null) {
-                            request.addParameter("Filter." + filtersListIndex + ".Value." + valuesListIndex, StringUtils.fromString(valuesListValue));
+                            request.addParameter(FILTER_VALUE_NAMES.get(filtersListIndex, valuesListIndex), StringUtils.fromString(valuesListValue));
                         }
                         valuesListIndex++;
                     }
@@ -73,4 +78,9 @@ public class DescribePlacementGroupsRequestMarshaller implements Marshaller<Requ
 
         return request;
     }
+
+    private static final DescribePlacementGroupsRequestMarshaller instance = new DescribePlacementGroupsRequestMarshaller();
+    public static DescribePlacementGroupsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class DescribePlacementGroupsResultStaxUnmarshaller implements Unmarshall
         }
     }
 
-    private static DescribePlacementGroupsResultStaxUnmarshaller instance;
+    private static final DescribePlacementGroupsResultStaxUnmarshaller instance = new DescribePlacementGroupsResultStaxUnmarshaller();
     public static DescribePlacementGroupsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribePlacementGroupsResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -59,9 +59,8 @@ public class DescribeRegionsResultStaxUnmarshaller implements Unmarshaller<Descr
         }
     }
 
-    private static DescribeRegionsResultStaxUnmarshaller instance;
+    private static final DescribeRegionsResultStaxUnmarshaller instance = new DescribeRegionsResultStaxUnmarshaller();
     public static DescribeRegionsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeRegionsResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,10 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeReservedInstancesOfferingsRequestMarshaller implements Marshaller<Request<DescribeReservedInstancesOfferingsRequest>, DescribeReservedInstancesOfferingsRequest> {
 
+    private static final ParameterNameTable RESERVED_INSTANCES_OFFERING_ID_NAMES = new ParameterNameTable("ReservedInstancesOfferingId.", "");
+    private static final ParameterNameTable FILTER_NAME_NAMES = new ParameterNameTable("Filter.", ".Name");
+    private static final ParameterNameTable FILTER_VALUE_NAMES = new ParameterNameTable("Filter.", ".Value.", "");
+
     public Request<DescribeReservedInstancesOfferingsRequest> marshall(DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest) {
         Request<DescribeReservedInstancesOfferingsRequest> request = new DefaultRequest<DescribeReservedInstancesOfferingsRequest>(describeReservedInstancesOfferingsRequest, "AmazonEC2");
         request.addParameter("Action", "DescribeReservedInstancesOfferings");
@@ -39,7 +44,7 @@ public class DescribeReservedInstancesOfferingsRequestMarshaller implements Mars
 
             for (String reservedInstancesOfferingIdsListValue : reservedInstancesOfferingIdsList) {
                 if (reservedInstancesOfferingIdsListValue != null) {
-                    request.addParameter("ReservedInstancesOfferingId." + reservedInstancesOfferingIdsListIndex, StringUtils.fromString(reservedInstancesOfferingIdsListValue));
+                    request.addParameter(RESERVED_INSTANCES_OFFERING_ID_NAMES.get(reservedInstancesOfferingIdsListIndex), StringUtils.fromString(reservedInstancesOfferingIdsListValue));
                 }
                 reservedInstancesOfferingIdsListIndex++;
             }
@@ -66,7 +71,7 @@ public class DescribeReservedInstancesOfferingsRequestMarshaller implements Mars
             for (Filter filtersListValue : filtersList) {
                 if (filtersListValue != null) {
                     if (filtersListValue.getName() != null) {
-                        request.addParameter("Filter." + filtersListIndex + ".Name", StringUtils.fromString(filtersListValue.getName()));
+                        request.addParameter(FILTER_NAME_NAMES.get(filtersListIndex), StringUtils.fromString(filtersListValue.getName()));
                     }
                 }
                 if (filtersListValue != null) {
@@ -75,7 +80,7 @@ public class DescribeReservedInstancesOfferingsRequestMarshaller implements Mars
 
                     for (String valuesListValue : valuesList) {
                         if (valuesListValue != null) {
-                            request.addParameter("Filter." + filtersListIndex + ".Value." + valuesListIndex, StringUtils.fromString(valuesListValue));
+                            request.addParameter(FILTER_VALUE_NAMES.get(filtersListIndex, valuesListIndex), StringUtils.fromString(valuesListValue));
                         }
                         valuesListIndex++;
                     }
@@ -93,4 +98,9 @@ public class DescribeReservedInstancesOfferingsRequestMarshaller implements Mars
 
         return request;
     }
+
+    private static final DescribeReservedInstancesOfferingsRequestMarshaller instance = new DescribeReservedInstancesOfferingsRequestMarshaller();
+    public static DescribeReservedInstancesOfferingsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
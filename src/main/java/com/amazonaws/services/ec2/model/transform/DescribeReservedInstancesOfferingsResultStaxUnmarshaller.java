@@ -59,9 +59,8 @@ public class DescribeReservedInstancesOfferingsResultStaxUnmarshaller implements
         }
     }
 
-    private static DescribeReservedInstancesOfferingsResultStaxUnmarshaller instance;
+    private static final DescribeReservedInstancesOfferingsResultStaxUnmarshaller instance = new DescribeReservedInstancesOfferingsResultStaxUnmarshaller();
     public static DescribeReservedInstancesOfferingsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeReservedInstancesOfferingsResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,10 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeReservedInstancesRequestMarshaller implements Marshaller<Request<DescribeReservedInstancesRequest>, DescribeReservedInstancesRequest> {
 
+    private static final ParameterNameTable RESERVED_INSTANCES_ID_NAMES = new ParameterNameTable("ReservedInstancesId.", "");
+    private static final ParameterNameTable FILTER_NAME_NAMES = new ParameterNameTable("Filter.", ".Name");
+    private static final ParameterNameTable FILTER_VALUE_NAMES = new ParameterNameTable("Filter.", ".Value.", "");
+
     public Request<DescribeReservedInstancesRequest> marshall(DescribeReservedInstancesRequest describeReservedInstancesRequest) {
         Request<DescribeReservedInstancesRequest> request = new DefaultRequest<DescribeReservedInstancesRequest>(describeReservedInstancesRequest, "AmazonEC2");
         request.addParameter("Action", "DescribeReservedInstances");
@@ -39,7 +44,7 @@ public class DescribeReservedInstancesRequestMarshaller implements Marshaller<Re
 
             for (String reservedInstancesIdsListValue : reservedInstancesIdsList) {
                 if (reservedInstancesIdsListValue != null) {
-                    request.addParameter("ReservedInstancesId." + reservedInstancesIdsListIndex, StringUtils.fromString(reservedInstancesIdsListValue));
+                    request.addParameter(RESERVED_INSTANCES_ID_NAMES.get(reservedInstancesIdsListIndex), StringUtils.fromString(reservedInstancesIdsListValue));
                 }
                 reservedInstancesIdsListIndex++;
             }
@@ -51,7 +56,7 @@ public class DescribeReservedInstancesRequestMarshaller implements Marshaller<Re
             for (Filter filtersListValue : filtersList) {
                 if (filtersListValue != null) {
                     if (filtersListValue.getName() != null) {
-                        request.addParameter("Filter." + filtersListIndex + ".Name", StringUtils.fromString(filtersListValue.getName()));
+                        request.addParameter(FILTER_NAME_NAMES.get(filtersListIndex), StringUtils.fromString(filtersListValue.getName()));
                     }
                 }
                 if (filtersListValue != null) {
@@ -60,7 +65,7 @@ public class DescribeReservedInstancesRequestMarshaller implements Marshaller<Re
 
                     for (String valuesListValue : valuesList) {
                         if (valuesListValue != null) {
-                            request.addParameter("Filter." + filtersListIndex + ".Value." + valuesListIndex, StringUtils.fromString(valuesListValue));
+                            request.addParameter(FILTER_VALUE_NAMES.get(filtersListIndex, valuesListIndex), StringUtils.fromString(valuesListValue));
                         }
                         valuesListIndex++;
                     }
@@ -73,4 +78,9 @@ public class DescribeReservedInstancesRequestMarshaller implements Marshaller<Re
 
         return request;
     }
+
+    private static final DescribeReservedInstancesRequestMarshaller instance = new DescribeReservedInstancesRequestMarshaller();
+    public static DescribeReservedInstancesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
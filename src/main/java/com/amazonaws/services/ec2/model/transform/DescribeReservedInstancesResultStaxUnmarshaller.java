@@ -59,9 +59,8 @@ public class DescribeReservedInstancesResultStaxUnmarshaller implements Unmarsha
         }
     }
 
-    private static DescribeReservedInstancesResultStaxUnmarshaller instance;
+    private static final DescribeReservedInstancesResultStaxUnmarshaller instance = new DescribeReservedInstancesResultStaxUnmarshaller();
     public static DescribeReservedInstancesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeReservedInstancesResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -59,9 +59,8 @@ public class DescribeRouteTablesResultStaxUnmarshaller implements Unmarshaller<D
         }
     }
 
-    private static DescribeRouteTablesResultStaxUnmarshaller instance;
+    private static final DescribeRouteTablesResultStaxUnmarshaller instance = new DescribeRouteTablesResultStaxUnmarshaller();
     public static DescribeRouteTablesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeRouteTablesResultStaxUnmarshaller();
         return instance;
     }
 }
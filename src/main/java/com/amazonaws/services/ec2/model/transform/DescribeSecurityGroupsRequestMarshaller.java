@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,11 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeSecurityGroupsRequestMarshaller implements Marshaller<Request<DescribeSecurityGroupsRequest>, DescribeSecurityGroupsRequest> {
 
+    private static final ParameterNameTable GROUP_NAME_NAMES = new ParameterNameTable("GroupName.", "");
+    private static final ParameterNameTable GROUP_ID_NAMES = new ParameterNameTable("GroupId.", "");
+    private static final ParameterNameTable FILTER_NAME_NAMES = new ParameterNameTable("Filter.", ".Name");
+    private static final ParameterNameTable FILTER_VALUE_NAMES = new ParameterNameTable("Filter.", ".Value.", "");
+
     public Request<DescribeSecurityGroupsRequest> marshall(DescribeSecurityGroupsRequest describeSecurityGroupsRequest) {
         Request<DescribeSecurityGroupsRequest> request = new DefaultRequest<DescribeSecurityGroupsRequest>(describeSecurityGroupsRequest, "AmazonEC2");
         request.addParameter("Action", "DescribeSecurityGroups");
@@ -39,7 +45,7 @@ public class DescribeSecurityGroupsRequestMarshaller implements Marshaller<Reque
 
             for (String groupNamesListValue : groupNamesList) {
                 if (groupNamesListValue != null) {
-                    request.addParameter("GroupName." + groupNamesListIndex, StringUtils.fromString(groupNamesListValue));
+                    request.addParameter(GROUP_NAME_NAMES.get(groupNamesListIndex), StringUtils.fromString(groupNamesListValue));
                 }
                 groupNamesListIndex++;
             }
@@ -50,7 +56,7 @@ public class DescribeSecurityGroupsRequestMarshaller implements Marshaller<Reque
 
             for (String groupIdsListValue : groupIdsList) {
                 if (groupIdsListValue != null) {
-                    request.addParameter("GroupId." + groupIdsListIndex, StringUtils.fromString(groupIdsListValue));
+                    request.addParameter(GROUP_ID_NAMES.get(groupIdsListIndex), StringUtils.fromString(groupIdsListValue));
                 }
                 groupIdsListIndex++;
             }
@@ -62,7 +68,7 @@ public class DescribeSecurityGroupsRequestMarshaller implements Marshaller<Reque
             for (Filter filtersListValue : filtersList) {
                 if (filtersListValue != null) {
                     if (filtersListValue.getName() != null) {
-                        request.addParameter("Filter." + filtersListIndex + ".Name", StringUtils.fromString(filtersListValue.getName()));
+                        request.addParameter(FILTER_NAME_NAMES.get(filtersListIndex), StringUtils.fromString(filtersListValue.getName()));
                     }
                 }
                 if (filtersListValue != null) {
@@ -71,7 +77,7 @@ public class DescribeSecurityGroupsRequestMarshaller implements Marshaller<Reque
 
                     for (String valuesListValue : valuesList) {
                         if (valuesListValue != null) {
-                            request.addParameter("Filter." + filtersListIndex + ".Value." + valuesListIndex, StringUtils.fromString(valuesListValue));
+                            request.addParameter(FILTER_VALUE_NAMES.get(filtersListIndex, valuesListIndex), StringUtils.fromString(valuesListValue));
                         }
                         valuesListIndex++;
                     }
@@ -84,4 +90,9 @@ public class DescribeSecurityGroupsRequestMarshaller implements Marshaller<Reque
 
         return request;
     }
+
+    private static final DescribeSecurityGroupsRequestMarshaller instance = new DescribeSecurityGroupsRequestMarshaller();
+    public static DescribeSecurityGroupsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
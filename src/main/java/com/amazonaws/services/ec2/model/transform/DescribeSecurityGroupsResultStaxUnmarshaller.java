@@ -59,9 +59,8 @@ public class DescribeSecurityGroupsResultStaxUnmarshaller implements Unmarshalle
         }
     }
 
-    private static DescribeSecurityGroupsResultStaxUnmarshaller instance;
+    private static final DescribeSecurityGroupsResultStaxUnmarshaller instance = new DescribeSecurityGroupsResultStaxUnmarshaller();
     public static DescribeSecurityGroupsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeSecurityGroupsResultStaxUnmarshaller();
         return instance;
     }
 }
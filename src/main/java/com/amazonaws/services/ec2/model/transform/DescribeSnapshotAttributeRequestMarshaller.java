@@ -47,4 +47,9 @@ public class DescribeSnapshotAttributeRequestMarshaller implements Marshaller<Re
 
         return request;
     }
+
+    private static final DescribeSnapshotAttributeRequestMarshaller instance = new DescribeSnapshotAttributeRequestMarshaller();
+    public static DescribeSnapshotAttributeRequestMarshaller getInstance() {
+        return instance;
+    }
 }
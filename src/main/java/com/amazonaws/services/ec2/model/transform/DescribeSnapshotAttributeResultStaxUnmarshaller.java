@@ -63,9 +63,8 @@ public class DescribeSnapshotAttributeResultStaxUnmarshaller implements Unmarsha
         }
     }
 
-    private static DescribeSnapshotAttributeResultStaxUnmarshaller instance;
+    private static final DescribeSnapshotAttributeResultStaxUnmarshaller instance = new DescribeSnapshotAttributeResultStaxUnmarshaller();
     public static DescribeSnapshotAttributeResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeSnapshotAttributeResultStaxUnmarshaller();
         return instance;
     }
 }
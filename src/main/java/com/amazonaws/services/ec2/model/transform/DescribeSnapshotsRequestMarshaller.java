@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,12 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeSnapshotsRequestMarshaller implements Marshaller<Request<DescribeSnapshotsRequest>, DescribeSnapshotsRequest> {
 
+    private static final ParameterNameTable SNAPSHOT_ID_NAMES = new ParameterNameTable("SnapshotId.", "");
+    private static final ParameterNameTable OWNER_NAMES = new ParameterNameTable("Owner.", "");
+    private static final ParameterNameTable RESTORABLE_BY_NAMES = new ParameterNameTable("RestorableBy.", "");
+    private static final ParameterNameTable FILTER_NAME_NAMES = new ParameterNameTable("Filter.", ".Name");
+    private static final ParameterNameTable FILTER_VALUE_NAMES = new ParameterNameTable("Filter.", ".Value.", "");
+
     public Request<DescribeSnapshotsRequest> marshall(DescribeSnapshotsRequest describeSnapshotsRequest) {
         Request<DescribeSnapshotsRequest> request = new DefaultRequest<DescribeSnapshotsRequest>(describeSnapshotsRequest, "AmazonEC2");
         request.addParameter("Action", "DescribeSnapshots");
@@ -39,7 +46,7 @@ public class DescribeSnapshotsRequestMarshaller implements Marshaller<Request<De
 
             for (String snapshotIdsListValue : snapshotIdsList) {
                 if (snapshotIdsListValue != null) {
-                    request.addParameter("SnapshotId." + snapshotIdsListIndex, StringUtils.fromString(snapshotIdsListValue));
+                    request.addParameter(SNAPSHOT_ID_NAMES.get(snapshotIdsListIndex), StringUtils.fromString(snapshotIdsListValue));
                 }
                 snapshotIdsListIndex++;
             }
@@ -50,7 +57,7 @@ public class DescribeSnapshotsRequestMarshaller implements Marshaller<Request<De
 
             for (String ownerIdsListValue : ownerIdsList) {
                 if (ownerIdsListValue != null) {
-                    request.addParameter("Owner." + ownerIdsListIndex, StringUtils.fromString(ownerIdsListValue));
+                    request.addParameter(OWNER_NAMES.get(ownerIdsListIndex), StringUtils.fromString(ownerIdsListValue));
                 }
                 ownerIdsListIndex++;
             }
@@ -61,7 +68,7 @@ public class DescribeSnapshotsRequestMarshaller implements Marshaller<Request<De
 
             for (String restorableByUserIdsListValue : restorableByUserIdsList) {
                 if (restorableByUserIdsListValue != null) {
-                    request.addParameter("RestorableBy." + restorableByUserIdsListIndex, StringUtils.fromString(restorableByUserIdsListValue));
+                    request.addParameter(RESTORABLE_BY_NAMES.get(restorableByUserIdsListIndex), StringUtils.fromString(restorableByUserIdsListValue));
                 }
                 restorableByUserIdsListIndex++;
             }
@@ -73,7 +80,7 @@ public class DescribeSnapshotsRequestMarshaller implements Marshaller<Request<De
             for (Filter filtersListValue : filtersList) {
                 if (filtersListValue != null) {
                     if (filtersListValue.getName() != null) {
-                        request.addParameter("Filter." + filtersListIndex + ".Name", StringUtils.fromString(filtersListValue.getName()));
+                        request.addParameter(FILTER_NAME_NAMES.get(filtersListIndex), StringUtils.fromString(filtersListValue.getName()));
                     }
                 }
                 if (filtersListValue != null) {
@@ -82,7 +89,7 @@ public class DescribeSnapshotsRequestMarshaller implements Marshaller<Request<De
 
                     for (String valuesListValue : valuesList) {
                         if (valuesListValue != null) {
-                            request.addParameter("Filter." + filtersListIndex + ".Value." + valuesListIndex, StringUtils.fromString(valuesListValue));
+                            request.addParameter(FILTER_VALUE_NAMES.get(filtersListIndex, valuesListIndex), StringUtils.fromString(valuesListValue));
                         }
                         valuesListIndex++;
                     }
@@ -95,4 +102,9 @@ public class DescribeSnapshotsRequestMarshaller implements Marshaller<Request<De
 
         return request;
     }
+
+    private static final DescribeSnapshotsRequestMarshaller instance = new DescribeSnapshotsRequestMarshaller();
+    public static DescribeSnapshotsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
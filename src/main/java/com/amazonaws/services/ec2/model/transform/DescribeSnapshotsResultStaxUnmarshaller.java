@@ -59,9 +59,8 @@ public class DescribeSnapshotsResultStaxUnmarshaller implements Unmarshaller<Des
         }
     }
 
-    private static DescribeSnapshotsResultStaxUnmarshaller instance;
+    private static final DescribeSnapshotsResultStaxUnmarshaller instance = new DescribeSnapshotsResultStaxUnmarshaller();
     public static DescribeSnapshotsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeSnapshotsResultStaxUnmarshaller();
         return instance;
     }
 }
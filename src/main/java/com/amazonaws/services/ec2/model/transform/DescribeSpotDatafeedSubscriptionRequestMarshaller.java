@@ -37,4 +37,9 @@ public class DescribeSpotDatafeedSubscriptionRequestMarshaller implements Marsha
 
         return request;
     }
+
+    private static final DescribeSpotDatafeedSubscriptionRequestMarshaller instance = new DescribeSpotDatafeedSubscriptionRequestMarshaller();
+    public static DescribeSpotDatafeedSubscriptionRequestMarshaller getInstance() {
+        return instance;
+    }
 }
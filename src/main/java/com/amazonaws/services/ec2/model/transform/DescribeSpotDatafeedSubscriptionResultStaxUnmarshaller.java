@@ -59,9 +59,8 @@ public class DescribeSpotDatafeedSubscriptionResultStaxUnmarshaller implements U
         }
     }
 
-    private static DescribeSpotDatafeedSubscriptionResultStaxUnmarshaller instance;
+    private static final DescribeSpotDatafeedSubscriptionResultStaxUnmarshaller instance = new DescribeSpotDatafeedSubscriptionResultStaxUnmarshaller();
     public static DescribeSpotDatafeedSubscriptionResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeSpotDatafeedSubscriptionResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -59,9 +59,8 @@ public class DescribeSpotInstanceRequestsResultStaxUnmarshaller implements Unmar
         }
     }
 
-    private static DescribeSpotInstanceRequestsResultStaxUnmarshaller instance;
+    private static final DescribeSpotInstanceRequestsResultStaxUnmarshaller instance = new DescribeSpotInstanceRequestsResultStaxUnmarshaller();
     public static DescribeSpotInstanceRequestsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeSpotInstanceRequestsResultStaxUnmarshaller();
         return instance;
     }
 }
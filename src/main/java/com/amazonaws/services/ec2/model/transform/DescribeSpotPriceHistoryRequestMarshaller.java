@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,11 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeSpotPriceHistoryRequestMarshaller implements Marshaller<Request<DescribeSpotPriceHistoryRequest>, DescribeSpotPriceHistoryRequest> {
 
+    private static final ParameterNameTable INSTANCE_TYPE_NAMES = new ParameterNameTable("InstanceType.", "");
+    private static final ParameterNameTable PRODUCT_DESCRIPTION_NAMES = new ParameterNameTable("ProductDescription.", "");
+    private static final ParameterNameTable FILTER_NAME_NAMES = new ParameterNameTable("Filter.", ".Name");
+    private static final ParameterNameTable FILTER_VALUE_NAMES = new ParameterNameTable("Filter.", ".Value.", "");
+
     public Request<DescribeSpotPriceHistoryRequest> marshall(DescribeSpotPriceHistoryRequest describeSpotPriceHistoryRequest) {
         Request<DescribeSpotPriceHistoryRequest> request = new DefaultRequest<DescribeSpotPriceHistoryRequest>(describeSpotPriceHistoryRequest, "AmazonEC2");
         request.addParameter("Action", "DescribeSpotPriceHistory");
@@ -49,7 +55,7 @@ public class DescribeSpotPriceHistoryRequestMarshaller implements Marshaller<Req
 
             for (String instanceTypesListValue : instanceTypesList) {
                 if (instanceTypesListValue != null) {
-                    request.addParameter("InstanceType." + instanceTypesListIndex, StringUtils.fromString(instanceTypesListValue));
+                    request.addParameter(INSTANCE_TYPE_NAMES.get(instanceTypesListIndex), StringUtils.fromString(instanceTypesListValue));
                 }
                 instanceTypesListIndex++;
             }
@@ -60,7 +66,7 @@ public class DescribeSpotPriceHistoryRequestMarshaller implements Marshaller<Req
 
             for (String productDescriptionsListValue : productDescriptionsList) {
                 if (productDescriptionsListValue != null) {
-                    request.addParameter("ProductDescription." + productDescriptionsListIndex, StringUtils.fromString(productDescriptionsListValue));
+                    request.addParameter(PRODUCT_DESCRIPTION_NAMES.get(productDescriptionsListIndex), StringUtils.fromString(productDescriptionsListValue));
                 }
                 productDescriptionsListIndex++;
             }
@@ -72,7 +78,7 @@ public class DescribeSpotPriceHistoryRequestMarshaller implements Marshaller<Req
             for (Filter filtersListValue : filtersList) {
                 if (filtersListValue != null) {
                     if (filtersListValue.getName() != null) {
-                        request.addParameter("Filter." + filtersListIndex + ".Name", StringUtils.fromString(filtersListValue.getName()));
+                        request.addParameter(FILTER_NAME_NAMES.get(filtersListIndex), StringUtils.fromString(filtersListValue.getName()));
                     }
                 }
                 if (filtersListValue != null) {
@@ -81,7 +87,7 @@ public class DescribeSpotPriceHistoryRequestMarshaller implements Marshaller<Req
 
                     for (String valuesListValue : valuesList) {
                         if (valuesListValue != null) {
-                            request.addParameter("Filter." + filtersListIndex + ".Value." + valuesListIndex, StringUtils.fromString(valuesListValue));
+                            request.addParameter(FILTER_VALUE_NAMES.get(filtersListIndex, valuesListIndex), StringUtils.fromString(valuesListValue));
                         }
                         valuesListIndex++;
                     }
@@ -94,4 +100,9 @@ public class DescribeSpotPriceHistoryRequestMarshaller implements Marshaller<Req
 
         return request;
     }
+
+    private static final DescribeSpotPriceHistoryRequestMarshaller instance = new DescribeSpotPriceHistoryRequestMarshaller();
+    public static DescribeSpotPriceHistoryRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class DescribeSpotPriceHistoryResultStaxUnmarshaller implements Unmarshal
         }
     }
 
-    private static DescribeSpotPriceHistoryResultStaxUnmarshaller instance;
+    private static final DescribeSpotPriceHistoryResultStaxUnmarshaller instance = new DescribeSpotPriceHistoryResultStaxUnmarshaller();
     public static DescribeSpotPriceHistoryResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeSpotPriceHistoryResultStaxUnmarshaller();
         return instance;
     }
 }
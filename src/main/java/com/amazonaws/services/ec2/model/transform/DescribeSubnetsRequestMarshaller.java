@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,10 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeSubnetsRequestMarshaller implements Marshaller<Request<DescribeSubnetsRequest>, DescribeSubnetsRequest> {
 
+    private static final ParameterNameTable SUBNET_ID_NAMES = new ParameterNameTable("SubnetId.", "");
+    private static final ParameterNameTable FILTER_NAME_NAMES = new ParameterNameTable("Filter.", ".Name");
+    private static final ParameterNameTable FILTER_VALUE_NAMES = new ParameterNameTable("Filter.", ".Value.", "");
+
     public Request<DescribeSubnetsRequest> marshall(DescribeSubnetsRequest describeSubnetsRequest) {
         Request<DescribeSubnetsRequest> request = new DefaultRequest<DescribeSubnetsRequest>(describeSubnetsRequest, "AmazonEC2");
         request.addParameter("Action", "DescribeSubnets");
@@ -39,7 +44,7 @@ public class DescribeSubnetsRequestMarshaller implements Marshaller<Request<Desc
 
             for (String subnetIdsListValue : subnetIdsList) {
                 if (subnetIdsListValue != null) {
-                    request.addParameter("SubnetId." + subnetIdsListIndex, StringUtils.fromString(subnetIdsListValue));
+                    request.addParameter(SUBNET_ID_NAMES.get(subnetIdsListIndex), StringUtils.fromString(subnetIdsListValue));
                 }
                 subnetIdsListIndex++;
             }
@@ -51,7 +56,7 @@ public class DescribeSubnetsRequestMarshaller implements Marshaller<Request<Desc
             for (Filter filtersListValue : filtersList) {
                 if (filtersListValue != null) {
                     if (filtersListValue.getName() != null) {
-                        request.addParameter("Filter." + filtersListIndex + ".Name", StringUtils.fromString(filtersListValue.getName()));
+                        request.addParameter(FILTER_NAME_NAMES.get(filtersListIndex), StringUtils.fromString(filtersListValue.getName()));
                     }
                 }
                 if (filtersListValue != null) {
@@ -60,7 +65,7 @@ public class DescribeSubnetsRequestMarshaller implements Marshaller<Request<Desc
 
                     for (String valuesListValue : valuesList) {
                         if (valuesListValue != null) {
-                            request.addParameter("Filter." + filtersListIndex + ".Value." + valuesListIndex, StringUtils.fromString(valuesListValue));
+                            request.addParameter(FILTER_VALUE_NAMES.get(filtersListIndex, valuesListIndex), StringUtils.fromString(valuesListValue));
                         }
                         valuesListIndex++;
                     }
@@ -73,4 +78,9 @@ public class DescribeSubnetsRequestMarshaller implements Marshaller<Request<Desc
 
         return request;
     }
+
+    private static final DescribeSubnetsRequestMarshaller instance = new DescribeSubnetsRequestMarshaller();
+    public static DescribeSubnetsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class DescribeSubnetsResultStaxUnmarshaller implements Unmarshaller<Descr
         }
     }
 
-    private static DescribeSubnetsResultStaxUnmarshaller instance;
+    private static final DescribeSubnetsResultStaxUnmarshaller instance = new DescribeSubnetsResultStaxUnmarshaller();
     public static DescribeSubnetsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeSubnetsResultStaxUnmarshaller();
         return instance;
     }
 }
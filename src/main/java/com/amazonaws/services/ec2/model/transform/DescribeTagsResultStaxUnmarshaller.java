@@ -59,9 +59,8 @@ public class DescribeTagsResultStaxUnmarshaller implements Unmarshaller<Describe
         }
     }
 
-    private static DescribeTagsResultStaxUnmarshaller instance;
+    private static final DescribeTagsResultStaxUnmarshaller instance = new DescribeTagsResultStaxUnmarshaller();
     public static DescribeTagsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeTagsResultStaxUnmarshaller();
         return instance;
     }
 }
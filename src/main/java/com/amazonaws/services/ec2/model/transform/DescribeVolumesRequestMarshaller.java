@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,10 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeVolumesRequestMarshaller implements Marshaller<Request<DescribeVolumesRequest>, DescribeVolumesRequest> {
 
+    private static final ParameterNameTable VOLUME_ID_NAMES = new ParameterNameTable("VolumeId.", "");
+    private static final ParameterNameTable FILTER_NAME_NAMES = new ParameterNameTable("Filter.", ".Name");
+    private static final ParameterNameTable FILTER_VALUE_NAMES = new ParameterNameTable("Filter.", ".Value.", "");
+
     public Request<DescribeVolumesRequest> marshall(DescribeVolumesRequest describeVolumesRequest) {
         Request<DescribeVolumesRequest> request = new DefaultRequest<DescribeVolumesRequest>(describeVolumesRequest, "AmazonEC2");
         request.addParameter("Action", "DescribeVolumes");
@@ -39,7 +44,7 @@ public class DescribeVolumesRequestMarshaller implements Marshaller<Request<Desc
 
             for (String volumeIdsListValue : volumeIdsList) {
                 if (volumeIdsListValue != null) {
-                    request.addParameter("VolumeId." + volumeIdsListIndex, StringUtils.fromString(volumeIdsListValue));
+                    request.addParameter(VOLUME_ID_NAMES.get(volumeIdsListIndex), StringUtils.fromString(volumeIdsListValue));
                 }
                 volumeIdsListIndex++;
             }
@@ -51,7 +56,7 @@ public class DescribeVolumesRequestMarshaller implements Marshaller<Request<Desc
             for (Filter filtersListValue : filtersList) {
                 if (filtersListValue != null) {
                     if (filtersListValue.getName() != null) {
-                        request.addParameter("Filter." + filtersListIndex + ".Name", StringUtils.fromString(filtersListValue.getName()));
+                        request.addParameter(FILTER_NAME_NAMES.get(filtersListIndex), StringUtils.fromString(filtersListValue.getName()));
                     }
                 }
                 if (filtersListValue != null) {
@@ -60,7 +65,7 @@ public class DescribeVolumesRequestMarshaller implements Marshaller<Request<Desc
 
                     for (String valuesListValue : valuesList) {
                         if (valuesListValue != null) {
-                            request.addParameter("Filter." + filtersListIndex + ".Value." + valuesListIndex, StringUtils.fromString(valuesListValue));
+                            request.addParameter(FILTER_VALUE_NAMES.get(filtersListIndex, valuesListIndex), StringUtils.fromString(valuesListValue));
                         }
                         valuesListIndex++;
                     }
@@ -73,4 +78,9 @@ public class DescribeVolumesRequestMarshaller implements Marshaller<Request<Desc
 
         return request;
     }
+
+    private static final DescribeVolumesRequestMarshaller instance = new DescribeVolumesRequestMarshaller();
+    public static DescribeVolumesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class DescribeVolumesResultStaxUnmarshaller implements Unmarshaller<Descr
         }
     }
 
-    private static DescribeVolumesResultStaxUnmarshaller instance;
+    private static final DescribeVolumesResultStaxUnmarshaller instance = new DescribeVolumesResultStaxUnmarshaller();
     public static DescribeVolumesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeVolumesResultStaxUnmarshaller();
         return instance;
     }
 }
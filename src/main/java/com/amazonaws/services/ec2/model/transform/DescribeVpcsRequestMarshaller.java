@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,10 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeVpcsRequestMarshaller implements Marshaller<Request<DescribeVpcsRequest>, DescribeVpcsRequest> {
 
+    private static final ParameterNameTable VPC_ID_NAMES = new ParameterNameTable("VpcId.", "");
+    private static final ParameterNameTable FILTER_NAME_NAMES = new ParameterNameTable("Filter.", ".Name");
+    private static final ParameterNameTable FILTER_VALUE_NAMES = new ParameterNameTable("Filter.", ".Value.", "");
+
     public Request<DescribeVpcsRequest> marshall(DescribeVpcsRequest describeVpcsRequest) {
         Request<DescribeVpcsRequest> request = new DefaultRequest<DescribeVpcsRequest>(describeVpcsRequest, "AmazonEC2");
         request.addParameter("Action", "DescribeVpcs");
@@ -39,7 +44,7 @@ public class DescribeVpcsRequestMarshaller implements Marshaller<Request<Describ
 
             for (String vpcIdsListValue : vpcIdsList) {
                 if (vpcIdsListValue != null) {
-                    request.addParameter("VpcId." + vpcIdsListIndex, StringUtils.fromString(vpcIdsListValue));
+                    request.addParameter(VPC_ID_NAMES.get(vpcIdsListIndex), StringUtils.fromString(vpcIdsListValue));
                 }
                 vpcIdsListIndex++;
             }
@@ -51,7 +56,7 @@ public class DescribeVpcsRequestMarshaller implements Marshaller<Request<Describ
             for (Filter filtersListValue : filtersList) {
                 if (filtersListValue != null) {
                     if (filtersListValue.getName() != null) {
-                        request.addParameter("Filter." + filtersListIndex + ".Name", StringUtils.fromString(filtersListValue.getName()));
+                        request.addParameter(FILTER_NAME_NAMES.get(filtersListIndex), StringUtils.fromString(filtersListValue.getName()));
                     }
                 }
                 if (filtersListValue != null) {
@@ -60,7 +65,7 @@ public class DescribeVpcsRequestMarshaller implements Marshaller<Request<Describ
 
                     for (String valuesListValue : valuesList) {
                         if (valuesListValue != null) {
-                            request.addParameter("Filter." + filtersListIndex + ".Value." + valuesListIndex, StringUtils.fromString(valuesListValue));
+                            request.addParameter(FILTER_VALUE_NAMES.get(filtersListIndex, valuesListIndex), StringUtils.fromString(valuesListValue));
                         }
                         valuesListIndex++;
                     }
@@ -73,4 +78,9 @@ public class DescribeVpcsRequestMarshaller implements Marshaller<Request<Describ
 
         return request;
     }
+
+    private static final DescribeVpcsRequestMarshaller instance = new DescribeVpcsRequestMarshaller();
+    public static DescribeVpcsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class DescribeVpcsResultStaxUnmarshaller implements Unmarshaller<Describe
         }
     }
 
-    private static DescribeVpcsResultStaxUnmarshaller instance;
+    private static final DescribeVpcsResultStaxUnmarshaller instance = new DescribeVpcsResultStaxUnmarshaller();
     public static DescribeVpcsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeVpcsResultStaxUnmarshaller();
         return instance;
     }
 }
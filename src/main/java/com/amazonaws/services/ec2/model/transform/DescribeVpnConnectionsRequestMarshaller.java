@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,10 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeVpnConnectionsRequestMarshaller implements Marshaller<Request<DescribeVpnConnectionsRequest>, DescribeVpnConnectionsRequest> {
 
+    private static final ParameterNameTable VPN_CONNECTION_ID_NAMES = new ParameterNameTable("VpnConnectionId.", "");
+    private static final ParameterNameTable FILTER_NAME_NAMES = new ParameterNameTable("Filter.", ".Name");
+    private static final ParameterNameTable FILTER_VALUE_NAMES = new ParameterNameTable("Filter.", ".Value.", "");
+
     public Request<DescribeVpnConnectionsRequest> marshall(DescribeVpnConnectionsRequest describeVpnConnectionsRequest) {
         Request<DescribeVpnConnectionsRequest> request = new DefaultRequest<DescribeVpnConnectionsRequest>(describeVpnConnectionsRequest, "AmazonEC2");
         request.addParameter("Action", "DescribeVpnConnections");
@@ -39,7 +44,7 @@ public class DescribeVpnConnectionsRequestMarshaller implements Marshaller<Reque
 
             for (String vpnConnectionIdsListValue : vpnConnectionIdsList) {
                 if (vpnConnectionIdsListValue != null) {
-                    request.addParameter("VpnConnectionId." + vpnConnectionIdsListIndex, StringUtils.fromString(vpnConnectionIdsListValue));
+                    request.addParameter(VPN_CONNECTION_ID_NAMES.get(vpnConnectionIdsListIndex), StringUtils.fromString(vpnConnectionIdsListValue));
                 }
                 vpnConnectionIdsListIndex++;
             }
@@ -51,7 +56,7 @@ public class DescribeVpnConnectionsRequestMarshaller implements Marshaller<Reque
             for (Filter filtersListValue : filtersList) {
                 if (filtersListValue != null) {
                     if (filtersListValue.getName() != null) {
-                        request.addParameter("Filter." + filtersListIndex + ".Name", StringUtils.fromString(filtersListValue.getName()));
+                        request.addParameter(FILTER_NAME_NAMES.get(filtersListIndex), StringUtils.fromString(filtersListValue.getName()));
                     }
                 }
                 if (filtersListValue != null) {
@@ -60,7 +65,7 @@ public class DescribeVpnConnectionsRequestMarshaller implements Marshaller<Reque
 
                     for (String valuesListValue : valuesList) {
                         if (valuesListValue != null) {
-                            request.addParameter("Filter." + filtersListIndex + ".Value." + valuesListIndex, StringUtils.fromString(valuesListValue));
+                            request.addParameter(FILTER_VALUE_NAMES.get(filtersListIndex, valuesListIndex), StringUtils.fromString(valuesListValue));
                         }
                         valuesListIndex++;
                     }
@@ -73,4 +78,9 @@ public class DescribeVpnConnectionsRequestMarshaller implements Marshaller<Reque
 
         return request;
     }
+
+    private static final DescribeVpnConnectionsRequestMarshaller instance = new DescribeVpnConnectionsRequestMarshaller();
+    public static DescribeVpnConnectionsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
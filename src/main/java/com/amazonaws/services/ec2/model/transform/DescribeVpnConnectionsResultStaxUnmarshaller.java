@@ -59,9 +59,8 @@ public class DescribeVpnConnectionsResultStaxUnmarshaller implements Unmarshalle
         }
     }
 
-    private static DescribeVpnConnectionsResultStaxUnmarshaller instance;
+    private static final DescribeVpnConnectionsResultStaxUnmarshaller instance = new DescribeVpnConnectionsResultStaxUnmarshaller();
     public static DescribeVpnConnectionsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeVpnConnectionsResultStaxUnmarshaller();
         return instance;
     }
 }
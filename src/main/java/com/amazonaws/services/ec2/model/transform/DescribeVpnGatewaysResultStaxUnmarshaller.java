@@ -59,9 +59,8 @@ public class DescribeVpnGatewaysResultStaxUnmarshaller implements Unmarshaller<D
         }
     }
 
-    private static DescribeVpnGatewaysResultStaxUnmarshaller instance;
+    private static final DescribeVpnGatewaysResultStaxUnmarshaller instance = new DescribeVpnGatewaysResultStaxUnmarshaller();
     public static DescribeVpnGatewaysResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeVpnGatewaysResultStaxUnmarshaller();
         return instance;
     }
 }
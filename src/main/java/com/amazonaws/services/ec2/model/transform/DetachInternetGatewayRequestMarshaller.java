@@ -47,4 +47,9 @@ public class DetachInternetGatewayRequestMarshaller implements Marshaller<Reques
 
         return request;
     }
+
+    private static final DetachInternetGatewayRequestMarshaller instance = new DetachInternetGatewayRequestMarshaller();
+    public static DetachInternetGatewayRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -57,4 +57,9 @@ public class DetachVolumeRequestMarshaller implements Marshaller<Request<DetachV
 
         return request;
     }
+
+    private static final DetachVolumeRequestMarshaller instance = new DetachVolumeRequestMarshaller();
+    public static DetachVolumeRequestMarshaller getInstance() {
+        return instance;
+    }
 }
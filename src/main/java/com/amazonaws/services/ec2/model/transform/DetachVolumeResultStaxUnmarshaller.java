@@ -59,9 +59,8 @@ public class DetachVolumeResultStaxUnmarshaller implements Unmarshaller<DetachVo
         }
     }
 
-    private static DetachVolumeResultStaxUnmarshaller instance;
+    private static final DetachVolumeResultStaxUnmarshaller instance = new DetachVolumeResultStaxUnmarshaller();
     public static DetachVolumeResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DetachVolumeResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -47,4 +47,9 @@ public class DetachVpnGatewayRequestMarshaller implements Marshaller<Request<Det
 
         return request;
     }
+
+    private static final DetachVpnGatewayRequestMarshaller instance = new DetachVpnGatewayRequestMarshaller();
+    public static DetachVpnGatewayRequestMarshaller getInstance() {
+        return instance;
+    }
 }
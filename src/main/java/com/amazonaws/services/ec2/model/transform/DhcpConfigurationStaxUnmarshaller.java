@@ -63,9 +63,8 @@ public class DhcpConfigurationStaxUnmarshaller implements Unmarshaller<DhcpConfi
         }
     }
 
-    private static DhcpConfigurationStaxUnmarshaller instance;
+    private static final DhcpConfigurationStaxUnmarshaller instance = new DhcpConfigurationStaxUnmarshaller();
     public static DhcpConfigurationStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DhcpConfigurationStaxUnmarshaller();
         return instance;
     }
 }
@@ -67,9 +67,8 @@ public class DhcpOptionsStaxUnmarshaller implements Unmarshaller<DhcpOptions, St
         }
     }
 
-    private static DhcpOptionsStaxUnmarshaller instance;
+    private static final DhcpOptionsStaxUnmarshaller instance = new DhcpOptionsStaxUnmarshaller();
     public static DhcpOptionsStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DhcpOptionsStaxUnmarshaller();
         return instance;
     }
 }
@@ -47,4 +47,9 @@ public class DisassociateAddressRequestMarshaller implements Marshaller<Request<
 
         return request;
     }
+
+    private static final DisassociateAddressRequestMarshaller instance = new DisassociateAddressRequestMarshaller();
+    public static DisassociateAddressRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -42,4 +42,9 @@ public class DisassociateRouteTableRequestMarshaller implements Marshaller<Reque
 
         return request;
     }
+
+    private static final DisassociateRouteTableRequestMarshaller instance = new DisassociateRouteTableRequestMarshaller();
+    public static DisassociateRouteTableRequestMarshaller getInstance() {
+        return instance;
+    }
 }
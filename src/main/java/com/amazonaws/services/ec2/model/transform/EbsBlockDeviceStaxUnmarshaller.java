@@ -67,9 +67,8 @@ public class EbsBlockDeviceStaxUnmarshaller implements Unmarshaller<EbsBlockDevi
         }
     }
 
-    private static EbsBlockDeviceStaxUnmarshaller instance;
+    private static final EbsBlockDeviceStaxUnmarshaller instance = new EbsBlockDeviceStaxUnmarshaller();
     public static EbsBlockDeviceStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new EbsBlockDeviceStaxUnmarshaller();
         return instance;
     }
 }
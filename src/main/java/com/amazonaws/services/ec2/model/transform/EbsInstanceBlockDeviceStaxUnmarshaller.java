@@ -71,9 +71,8 @@ public class EbsInstanceBlockDeviceStaxUnmarshaller implements Unmarshaller<EbsI
         }
     }
 
-    private static EbsInstanceBlockDeviceStaxUnmarshaller instance;
+    private static final EbsInstanceBlockDeviceStaxUnmarshaller instance = new EbsInstanceBlockDeviceStaxUnmarshaller();
     public static EbsInstanceBlockDeviceStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new EbsInstanceBlockDeviceStaxUnmarshaller();
         return instance;
     }
 }
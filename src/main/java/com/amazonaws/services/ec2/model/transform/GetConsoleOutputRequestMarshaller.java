@@ -42,4 +42,9 @@ public class GetConsoleOutputRequestMarshaller implements Marshaller<Request<Get
 
         return request;
     }
+
+    private static final GetConsoleOutputRequestMarshaller instance = new GetConsoleOutputRequestMarshaller();
+    public static GetConsoleOutputRequestMarshaller getInstance() {
+        return instance;
+    }
 }
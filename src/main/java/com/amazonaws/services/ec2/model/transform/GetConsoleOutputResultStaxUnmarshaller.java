@@ -67,9 +67,8 @@ public class GetConsoleOutputResultStaxUnmarshaller implements Unmarshaller<GetC
         }
     }
 
-    private static GetConsoleOutputResultStaxUnmarshaller instance;
+    private static final GetConsoleOutputResultStaxUnmarshaller instance = new GetConsoleOutputResultStaxUnmarshaller();
     public static GetConsoleOutputResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new GetConsoleOutputResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -42,4 +42,9 @@ public class GetPasswordDataRequestMarshaller implements Marshaller<Request<GetP
 
         return request;
     }
+
+    private static final GetPasswordDataRequestMarshaller instance = new GetPasswordDataRequestMarshaller();
+    public static GetPasswordDataRequestMarshaller getInstance() {
+        return instance;
+    }
 }
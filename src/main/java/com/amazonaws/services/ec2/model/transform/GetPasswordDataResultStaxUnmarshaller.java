@@ -67,9 +67,8 @@ public class GetPasswordDataResultStaxUnmarshaller implements Unmarshaller<GetPa
         }
     }
 
-    private static GetPasswordDataResultStaxUnmarshaller instance;
+    private static final GetPasswordDataResultStaxUnmarshaller instance = new GetPasswordDataResultStaxUnmarshaller();
     public static GetPasswordDataResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new GetPasswordDataResultStaxUnmarshaller();
         return instance;
     }
 }
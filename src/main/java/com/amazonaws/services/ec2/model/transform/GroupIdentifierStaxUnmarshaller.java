@@ -63,9 +63,8 @@ public class GroupIdentifierStaxUnmarshaller implements Unmarshaller<GroupIdenti
         }
     }
 
-    private static GroupIdentifierStaxUnmarshaller instance;
+    private static final GroupIdentifierStaxUnmarshaller instance = new GroupIdentifierStaxUnmarshaller();
     public static GroupIdentifierStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new GroupIdentifierStaxUnmarshaller();
         return instance;
     }
 }
@@ -63,9 +63,8 @@ public class IcmpTypeCodeStaxUnmarshaller implements Unmarshaller<IcmpTypeCode,
         }
     }
 
-    private static IcmpTypeCodeStaxUnmarshaller instance;
+    private static final IcmpTypeCodeStaxUnmarshaller instance = new IcmpTypeCodeStaxUnmarshaller();
     public static IcmpTypeCodeStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new IcmpTypeCodeStaxUnmarshaller();
         return instance;
     }
 }
@@ -83,9 +83,8 @@ public class ImageAttributeStaxUnmarshaller implements Unmarshaller<ImageAttribu
         }
     }
 
-    private static ImageAttributeStaxUnmarshaller instance;
+    private static final ImageAttributeStaxUnmarshaller instance = new ImageAttributeStaxUnmarshaller();
     public static ImageAttributeStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ImageAttributeStaxUnmarshaller();
         return instance;
     }
 }
@@ -135,9 +135,8 @@ public class ImageStaxUnmarshaller implements Unmarshaller<Image, StaxUnmarshall
         }
     }
 
-    private static ImageStaxUnmarshaller instance;
+    private static final ImageStaxUnmarshaller instance = new ImageStaxUnmarshaller();
     public static ImageStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ImageStaxUnmarshaller();
         return instance;
     }
 }
@@ -47,4 +47,9 @@ public class ImportKeyPairRequestMarshaller implements Marshaller<Request<Import
 
         return request;
     }
+
+    private static final ImportKeyPairRequestMarshaller instance = new ImportKeyPairRequestMarshaller();
+    public static ImportKeyPairRequestMarshaller getInstance() {
+        return instance;
+    }
 }
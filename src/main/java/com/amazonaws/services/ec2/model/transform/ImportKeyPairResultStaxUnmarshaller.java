@@ -63,9 +63,8 @@ public class ImportKeyPairResultStaxUnmarshaller implements Unmarshaller<ImportK
         }
     }
 
-    private static ImportKeyPairResultStaxUnmarshaller instance;
+    private static final ImportKeyPairResultStaxUnmarshaller instance = new ImportKeyPairResultStaxUnmarshaller();
     public static ImportKeyPairResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ImportKeyPairResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -91,9 +91,8 @@ public class InstanceAttributeStaxUnmarshaller implements Unmarshaller<InstanceA
         }
     }
 
-    private static InstanceAttributeStaxUnmarshaller instance;
+    private static final InstanceAttributeStaxUnmarshaller instance = new InstanceAttributeStaxUnmarshaller();
     public static InstanceAttributeStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new InstanceAttributeStaxUnmarshaller();
         return instance;
     }
 }
@@ -63,9 +63,8 @@ public class InstanceBlockDeviceMappingStaxUnmarshaller implements Unmarshaller<
         }
     }
 
-    private static InstanceBlockDeviceMappingStaxUnmarshaller instance;
+    private static final InstanceBlockDeviceMappingStaxUnmarshaller instance = new InstanceBlockDeviceMappingStaxUnmarshaller();
     public static InstanceBlockDeviceMappingStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new InstanceBlockDeviceMappingStaxUnmarshaller();
         return instance;
     }
 }
@@ -59,9 +59,8 @@ public class InstanceLicenseStaxUnmarshaller implements Unmarshaller<InstanceLic
         }
     }
 
-    private static InstanceLicenseStaxUnmarshaller instance;
+    private static final InstanceLicenseStaxUnmarshaller instance = new InstanceLicenseStaxUnmarshaller();
     public static InstanceLicenseStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new InstanceLicenseStaxUnmarshaller();
         return instance;
     }
 }
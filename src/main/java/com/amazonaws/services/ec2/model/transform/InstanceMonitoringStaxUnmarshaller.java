@@ -63,9 +63,8 @@ public class InstanceMonitoringStaxUnmarshaller implements Unmarshaller<Instance
         }
     }
 
-    private static InstanceMonitoringStaxUnmarshaller instance;
+    private static final InstanceMonitoringStaxUnmarshaller instance = new InstanceMonitoringStaxUnmarshaller();
     public static InstanceMonitoringStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new InstanceMonitoringStaxUnmarshaller();
         return instance;
     }
 }
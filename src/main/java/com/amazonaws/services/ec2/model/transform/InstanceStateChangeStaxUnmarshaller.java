@@ -67,9 +67,8 @@ public class InstanceStateChangeStaxUnmarshaller implements Unmarshaller<Instanc
         }
     }
 
-    private static InstanceStateChangeStaxUnmarshaller instance;
+    private static final InstanceStateChangeStaxUnmarshaller instance = new InstanceStateChangeStaxUnmarshaller();
     public static InstanceStateChangeStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new InstanceStateChangeStaxUnmarshaller();
         return instance;
     }
 }
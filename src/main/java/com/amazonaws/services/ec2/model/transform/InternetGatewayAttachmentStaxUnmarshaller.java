@@ -63,9 +63,8 @@ public class InternetGatewayAttachmentStaxUnmarshaller implements Unmarshaller<I
         }
     }
 
-    private static InternetGatewayAttachmentStaxUnmarshaller instance;
+    private static final InternetGatewayAttachmentStaxUnmarshaller instance = new InternetGatewayAttachmentStaxUnmarshaller();
     public static InternetGatewayAttachmentStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new InternetGatewayAttachmentStaxUnmarshaller();
         return instance;
     }
 }
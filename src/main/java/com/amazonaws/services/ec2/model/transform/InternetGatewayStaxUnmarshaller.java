@@ -67,9 +67,8 @@ public class InternetGatewayStaxUnmarshaller implements Unmarshaller<InternetGat
         }
     }
 
-    private static InternetGatewayStaxUnmarshaller instance;
+    private static final InternetGatewayStaxUnmarshaller instance = new InternetGatewayStaxUnmarshaller();
     public static InternetGatewayStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new InternetGatewayStaxUnmarshaller();
         return instance;
     }
 }
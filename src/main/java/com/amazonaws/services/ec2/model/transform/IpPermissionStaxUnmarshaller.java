@@ -75,9 +75,8 @@ public class IpPermissionStaxUnmarshaller implements Unmarshaller<IpPermission,
         }
     }
 
-    private static IpPermissionStaxUnmarshaller instance;
+    private static final IpPermissionStaxUnmarshaller instance = new IpPermissionStaxUnmarshaller();
     public static IpPermissionStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new IpPermissionStaxUnmarshaller();
         return instance;
     }
 }
@@ -63,9 +63,8 @@ public class KeyPairInfoStaxUnmarshaller implements Unmarshaller<KeyPairInfo, St
         }
     }
 
-    private static KeyPairInfoStaxUnmarshaller instance;
+    private static final KeyPairInfoStaxUnmarshaller instance = new KeyPairInfoStaxUnmarshaller();
     public static KeyPairInfoStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new KeyPairInfoStaxUnmarshaller();
         return instance;
     }
 }
@@ -67,9 +67,8 @@ public class KeyPairStaxUnmarshaller implements Unmarshaller<KeyPair, StaxUnmars
         }
     }
 
-    private static KeyPairStaxUnmarshaller instance;
+    private static final KeyPairStaxUnmarshaller instance = new KeyPairStaxUnmarshaller();
     public static KeyPairStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new KeyPairStaxUnmarshaller();
         return instance;
     }
 }
@@ -63,9 +63,8 @@ public class LaunchPermissionStaxUnmarshaller implements Unmarshaller<LaunchPerm
         }
     }
 
-    private static LaunchPermissionStaxUnmarshaller instance;
+    private static final LaunchPermissionStaxUnmarshaller instance = new LaunchPermissionStaxUnmarshaller();
     public static LaunchPermissionStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new LaunchPermissionStaxUnmarshaller();
         return instance;
     }
 }
@@ -107,9 +107,8 @@ public class LaunchSpecificationStaxUnmarshaller implements Unmarshaller<LaunchS
         }
     }
 
-    private static LaunchSpecificationStaxUnmarshaller instance;
+    private static final LaunchSpecificationStaxUnmarshaller instance = new LaunchSpecificationStaxUnmarshaller();
     public static LaunchSpecificationStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new LaunchSpecificationStaxUnmarshaller();
         return instance;
     }
 }
@@ -71,9 +71,8 @@ public class LicenseCapacityStaxUnmarshaller implements Unmarshaller<LicenseCapa
         }
     }
 
-    private static LicenseCapacityStaxUnmarshaller instance;
+    private static final LicenseCapacityStaxUnmarshaller instance = new LicenseCapacityStaxUnmarshaller();
     public static LicenseCapacityStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new LicenseCapacityStaxUnmarshaller();
         return instance;
     }
 }
@@ -75,9 +75,8 @@ public class LicenseStaxUnmarshaller implements Unmarshaller<License, StaxUnmars
         }
     }
 
-    private static LicenseStaxUnmarshaller instance;
+    private static final LicenseStaxUnmarshaller instance = new LicenseStaxUnmarshaller();
     public static LicenseStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new LicenseStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,10 @@ import com.amazonaws.util.StringUtils;
  */
 public class ModifyImageAttributeRequestMarshaller implements Marshaller<Request<ModifyImageAttributeRequest>, ModifyImageAttributeRequest> {
 
+    private static final ParameterNameTable USER_ID_NAMES = new ParameterNameTable("UserId.", "");
+    private static final ParameterNameTable USER_GROUP_NAMES = new ParameterNameTable("UserGroup.", "");
+    private static final ParameterNameTable PRODUCT_CODE_NAMES = new ParameterNameTable("ProductCode.", "");
+
     public Request<ModifyImageAttributeRequest> marshall(ModifyImageAttributeRequest modifyImageAttributeRequest) {
         Request<ModifyImageAttributeRequest> request = new DefaultRequest<ModifyImageAttributeRequest>(modifyImageAttributeRequest, "AmazonEC2");
         request.addParameter("Action", "ModifyImageAttribute");
@@ -54,7 +59,7 @@ public class ModifyImageAttributeRequestMarshaller implements Marshaller<Request
 
             for (String userIdsListValue : userIdsList) {
                 if (userIdsListValue != null) {
-                    request.addParameter("UserId." + userIdsListIndex, StringUtils.fromString(userIdsListValue));
+                    request.addParameter(USER_ID_NAMES.get(userIdsListIndex), StringUtils.fromString(userIdsListValue));
                 }
                 userIdsListIndex++;
             }
@@ -65,7 +70,7 @@ public class ModifyImageAttributeRequestMarshaller implements Marshaller<Request
 
             for (String userGroupsListValue : userGroupsList) {
                 if (userGroupsListValue != null) {
-                    request.addParameter("UserGroup." + userGroupsListIndex, StringUtils.fromString(userGroupsListValue));
+                    request.addParameter(USER_GROUP_NAMES.get(userGroupsListIndex), StringUtils.fromString(userGroupsListValue));
                 }
                 userGroupsListIndex++;
             }
@@ -76,7 +81,7 @@ public class ModifyImageAttributeRequestMarshaller implements Marshaller<Request
 
             for (String productCodesListValue : productCodesList) {
                 if (productCodesListValue != null) {
-                    request.addParameter("ProductCode." + productCodesListIndex, StringUtils.fromString(productCodesListValue));
+                    request.addParameter(PRODUCT_CODE_NAMES.get(productCodesListIndex), StringUtils.fromString(productCodesListValue));
                 }
                 productCodesListIndex++;
             }
@@ -90,4 +95,9 @@ public class ModifyImageAttributeRequestMarshaller implements Marshaller<Request
 
         return request;
     }
+
+    private static final ModifyImageAttributeRequestMarshaller instance = new ModifyImageAttributeRequestMarshaller();
+    public static ModifyImageAttributeRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,13 @@ import com.amazonaws.util.StringUtils;
  */
 public class ModifyInstanceAttributeRequestMarshaller implements Marshaller<Request<ModifyInstanceAttributeRequest>, ModifyInstanceAttributeRequest> {
 
+    private static final ParameterNameTable BLOCK_DEVICE_MAPPING_DEVICE_NAME_NAMES = new ParameterNameTable("BlockDeviceMapping.", ".DeviceName");
+    private static final ParameterNameTable BLOCK_DEVICE_MAPPING_EBS_VOLUME_ID_NAMES = new ParameterNameTable("BlockDeviceMapping.", ".Ebs.VolumeId");
+    private static final ParameterNameTable BLOCK_DEVICE_MAPPING_EBS_DELETE_ON_TERMINATION_NAMES = new ParameterNameTable("BlockDeviceMapping.", ".Ebs.DeleteOnTermination");
+    private static final ParameterNameTable BLOCK_DEVICE_MAPPING_VIRTUAL_NAME_NAMES = new ParameterNameTable("BlockDeviceMapping.", ".VirtualName");
+    private static final ParameterNameTable BLOCK_DEVICE_MAPPING_NO_DEVICE_NAMES = new ParameterNameTable("BlockDeviceMapping.", ".NoDevice");
+    private static final ParameterNameTable GROUP_ID_NAMES = new ParameterNameTable("GroupId.", "");
+
     public Request<ModifyInstanceAttributeRequest> marshall(ModifyInstanceAttributeRequest modifyInstanceAttributeRequest) {
         Request<ModifyInstanceAttributeRequest> request = new DefaultRequest<ModifyInstanceAttributeRequest>(modifyInstanceAttributeRequest, "AmazonEC2");
         request.addParameter("Action", "ModifyInstanceAttribute");
@@ -55,30 +63,30 @@ public class ModifyInstanceAttributeRequestMarshaller implements Marshaller<Requ
             for (InstanceBlockDeviceMappingSpecification blockDeviceMappingsListValue : blockDeviceMappingsList) {
                 if (blockDeviceMappingsListValue != null) {
                     if (blockDeviceMappingsListValue.getDeviceName() != null) {
-                        request.addParameter("BlockDeviceMapping." + blockDeviceMappingsListIndex + ".DeviceName", StringUtils.fromString(blockDeviceMappingsListValue.getDeviceName()));
+                        request.addParameter(BLOCK_DEVICE_MAPPING_DEVICE_NAME_NAMES.get(blockDeviceMappingsListIndex), StringUtils.fromString(blockDeviceMappingsListValue.getDeviceName()));
                     }
                 }
                 if (blockDeviceMappingsListValue != null) {
                     EbsInstanceBlockDeviceSpecification ebs = blockDeviceMappingsListValue.getEbs();
                     if (ebs != null) {
                         if (ebs.getVolumeId() != null) {
-                            request.addParameter("BlockDeviceMapping." + blockDeviceMappingsListIndex + ".Ebs.VolumeId", StringUtils.fromString(ebs.getVolumeId()));
+                            request.addParameter(BLOCK_DEVICE_MAPPING_EBS_VOLUME_ID_NAMES.get(blockDeviceMappingsListIndex), StringUtils.fromString(ebs.getVolumeId()));
                         }
                     }
                     if (ebs != null) {
                         if (ebs.isDeleteOnTermination() != null) {
-                            request.addParameter("BlockDeviceMapping." + blockDeviceMappingsListIndex + ".Ebs.DeleteOnTermination", StringUtils.fromBoolean(ebs.isDeleteOnTermination()));
+                            request.addParameter(BLOCK_DEVICE_MAPPING_EBS_DELETE_ON_TERMINATION_NAMES.get(blockDeviceMappingsListIndex), StringUtils.fromBoolean(ebs.isDeleteOnTermination()));
                         }
                     }
                 }
                 if (blockDeviceMappingsListValue != null) {
                     if (blockDeviceMappingsListValue.getVirtualName() != null) {
-                        request.addParameter("BlockDeviceMapping." + blockDeviceMappingsListIndex + ".VirtualName", StringUtils.fromString(blockDeviceMappingsListValue.getVirtualName()));
+                        request.addParameter(BLOCK_DEVICE_MAPPING_VIRTUAL_NAME_NAMES.get(blockDeviceMappingsListIndex), StringUtils.fromString(blockDeviceMappingsListValue.getVirtualName()));
                     }
                 }
                 if (blockDeviceMappingsListValue != null) {
                     if (blockDeviceMappingsListValue.getNoDevice() != null) {
-                        request.addParameter("BlockDeviceMapping." + blockDeviceMappingsListIndex + ".NoDevice", StringUtils.fromString(blockDeviceMappingsListValue.getNoDevice()));
+                        request.addParameter(BLOCK_DEVICE_MAPPING_NO_DEVICE_NAMES.get(blockDeviceMappingsListIndex), StringUtils.fromString(blockDeviceMappingsListValue.getNoDevice()));
                     }
                 }
 
@@ -96,7 +104,7 @@ public class ModifyInstanceAttributeRequestMarshaller implements Marshaller<Requ
 
             for (String groupsListValue : groupsList) {
                 if (groupsListValue != null) {
-                    request.addParameter("GroupId." + groupsListIndex, StringUtils.fromString(groupsListValue));
+                    request.addParameter(GROUP_ID_NAMES.get(groupsListIndex), StringUtils.fromString(groupsListValue));
                 }
                 groupsListIndex++;
             }
@@ -105,4 +113,9 @@ public class ModifyInstanceAttributeRequestMarshaller implements Marshaller<Requ
 
         return request;
     }
+
+    private static final ModifyInstanceAttributeRequestMarshaller instance = new ModifyInstanceAttributeRequestMarshaller();
+    public static ModifyInstanceAttributeRequestMarshaller getInstance() {
+        return instance;
+    }
 }
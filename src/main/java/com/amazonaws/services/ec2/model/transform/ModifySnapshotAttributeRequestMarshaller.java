@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,9 @@ import com.amazonaws.util.StringUtils;
  */
 public class ModifySnapshotAttributeRequestMarshaller implements Marshaller<Request<ModifySnapshotAttributeRequest>, ModifySnapshotAttributeRequest> {
 
+    private static final ParameterNameTable USER_ID_NAMES = new ParameterNameTable("UserId.", "");
+    private static final ParameterNameTable USER_GROUP_NAMES = new ParameterNameTable("UserGroup.", "");
+
     public Request<ModifySnapshotAttributeRequest> marshall(ModifySnapshotAttributeRequest modifySnapshotAttributeRequest) {
         Request<ModifySnapshotAttributeRequest> request = new DefaultRequest<ModifySnapshotAttributeRequest>(modifySnapshotAttributeRequest, "AmazonEC2");
         request.addParameter("Action", "ModifySnapshotAttribute");
@@ -54,7 +58,7 @@ public class ModifySnapshotAttributeRequestMarshaller implements Marshaller<Requ
 
             for (String userIdsListValue : userIdsList) {
                 if (userIdsListValue != null) {
-                    request.addParameter("UserId." + userIdsListIndex, StringUtils.fromString(userIdsListValue));
+                    request.addParameter(USER_ID_NAMES.get(userIdsListIndex), StringUtils.fromString(userIdsListValue));
                 }
                 userIdsListIndex++;
             }
@@ -65,7 +69,7 @@ public class ModifySnapshotAttributeRequestMarshaller implements Marshaller<Requ
 
             for (String groupNamesListValue : groupNamesList) {
                 if (groupNamesListValue != null) {
-                    request.addParameter("UserGroup." + groupNamesListIndex, StringUtils.fromString(groupNamesListValue));
+                    request.addParameter(USER_GROUP_NAMES.get(groupNamesListIndex), StringUtils.fromString(groupNamesListValue));
                 }
                 groupNamesListIndex++;
             }
@@ -74,4 +78,9 @@ public class ModifySnapshotAttributeRequestMarshaller implements Marshaller<Requ
 
         return request;
     }
+
+    private static final ModifySnapshotAttributeRequestMarshaller instance = new ModifySnapshotAttributeRequestMarshaller();
+    public static ModifySnapshotAttributeRequestMarshaller getInstance() {
+        return instance;
+    }
 }
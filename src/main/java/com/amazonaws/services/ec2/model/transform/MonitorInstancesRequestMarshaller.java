@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class MonitorInstancesRequestMarshaller implements Marshaller<Request<MonitorInstancesRequest>, MonitorInstancesRequest> {
 
+    private static final ParameterNameTable INSTANCE_ID_NAMES = new ParameterNameTable("InstanceId.", "");
+
     public Request<MonitorInstancesRequest> marshall(MonitorInstancesRequest monitorInstancesRequest) {
         Request<MonitorInstancesRequest> request = new DefaultRequest<MonitorInstancesRequest>(monitorInstancesRequest, "AmazonEC2");
         request.addParameter("Action", "MonitorInstances");
@@ -39,7 +42,7 @@ public class MonitorInstancesRequestMarshaller implements Marshaller<Request<Mon
 
             for (String instanceIdsListValue : instanceIdsList) {
                 if (instanceIdsListValue != null) {
-                    request.addParameter("InstanceId." + instanceIdsListIndex, StringUtils.fromString(instanceIdsListValue));
+                    request.addParameter(INSTANCE_ID_NAMES.get(instanceIdsListIndex), StringUtils.fromString(instanceIdsListValue));
                 }
                 instanceIdsListIndex++;
             }
@@ -48,4 +51,9 @@ public class MonitorInstancesRequestMarshaller implements Marshaller<Request<Mon
 
         return request;
     }
+
+    private static final MonitorInstancesRequestMarshaller instance = new MonitorInstancesRequestMarshaller();
+    public static MonitorInstancesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class MonitorInstancesResultStaxUnmarshaller implements Unmarshaller<Moni
         }
     }
 
-    private static MonitorInstancesResultStaxUnmarshaller instance;
+    private static final MonitorInstancesResultStaxUnmarshaller instance = new MonitorInstancesResultStaxUnmarshaller();
     public static MonitorInstancesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new MonitorInstancesResultStaxUnmarshaller();
         return instance;
     }
 }
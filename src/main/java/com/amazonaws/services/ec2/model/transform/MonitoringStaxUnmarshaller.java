@@ -59,9 +59,8 @@ public class MonitoringStaxUnmarshaller implements Unmarshaller<Monitoring, Stax
         }
     }
 
-    private static MonitoringStaxUnmarshaller instance;
+    private static final MonitoringStaxUnmarshaller instance = new MonitoringStaxUnmarshaller();
     public static MonitoringStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new MonitoringStaxUnmarshaller();
         return instance;
     }
 }
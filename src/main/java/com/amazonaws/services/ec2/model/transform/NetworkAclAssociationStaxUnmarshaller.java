@@ -67,9 +67,8 @@ public class NetworkAclAssociationStaxUnmarshaller implements Unmarshaller<Netwo
         }
     }
 
-    private static NetworkAclAssociationStaxUnmarshaller instance;
+    private static final NetworkAclAssociationStaxUnmarshaller instance = new NetworkAclAssociationStaxUnmarshaller();
     public static NetworkAclAssociationStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new NetworkAclAssociationStaxUnmarshaller();
         return instance;
     }
 }
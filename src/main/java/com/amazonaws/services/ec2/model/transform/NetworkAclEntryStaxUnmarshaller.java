@@ -83,9 +83,8 @@ public class NetworkAclEntryStaxUnmarshaller implements Unmarshaller<NetworkAclE
         }
     }
 
-    private static NetworkAclEntryStaxUnmarshaller instance;
+    private static final NetworkAclEntryStaxUnmarshaller instance = new NetworkAclEntryStaxUnmarshaller();
     public static NetworkAclEntryStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new NetworkAclEntryStaxUnmarshaller();
         return instance;
     }
 }
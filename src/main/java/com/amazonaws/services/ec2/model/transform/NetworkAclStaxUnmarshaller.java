@@ -79,9 +79,8 @@ public class NetworkAclStaxUnmarshaller implements Unmarshaller<NetworkAcl, Stax
         }
     }
 
-    private static NetworkAclStaxUnmarshaller instance;
+    private static final NetworkAclStaxUnmarshaller instance = new NetworkAclStaxUnmarshaller();
     public static NetworkAclStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new NetworkAclStaxUnmarshaller();
         return instance;
     }
 }
@@ -67,9 +67,8 @@ public class PlacementGroupStaxUnmarshaller implements Unmarshaller<PlacementGro
         }
     }
 
-    private static PlacementGroupStaxUnmarshaller instance;
+    private static final PlacementGroupStaxUnmarshaller instance = new PlacementGroupStaxUnmarshaller();
     public static PlacementGroupStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new PlacementGroupStaxUnmarshaller();
         return instance;
     }
 }
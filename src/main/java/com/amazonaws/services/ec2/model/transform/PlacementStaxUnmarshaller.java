@@ -67,9 +67,8 @@ public class PlacementStaxUnmarshaller implements Unmarshaller<Placement, StaxUn
         }
     }
 
-    private static PlacementStaxUnmarshaller instance;
+    private static final PlacementStaxUnmarshaller instance = new PlacementStaxUnmarshaller();
     public static PlacementStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new PlacementStaxUnmarshaller();
         return instance;
     }
 }
@@ -63,9 +63,8 @@ public class PortRangeStaxUnmarshaller implements Unmarshaller<PortRange, StaxUn
         }
     }
 
-    private static PortRangeStaxUnmarshaller instance;
+    private static final PortRangeStaxUnmarshaller instance = new PortRangeStaxUnmarshaller();
     public static PortRangeStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new PortRangeStaxUnmarshaller();
         return instance;
     }
 }
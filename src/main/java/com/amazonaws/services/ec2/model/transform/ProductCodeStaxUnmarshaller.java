@@ -59,9 +59,8 @@ public class ProductCodeStaxUnmarshaller implements Unmarshaller<ProductCode, St
         }
     }
 
-    private static ProductCodeStaxUnmarshaller instance;
+    private static final ProductCodeStaxUnmarshaller instance = new ProductCodeStaxUnmarshaller();
     public static ProductCodeStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ProductCodeStaxUnmarshaller();
         return instance;
     }
 }
@@ -47,4 +47,9 @@ public class PurchaseReservedInstancesOfferingRequestMarshaller implements Marsh
 
         return request;
     }
+
+    private static final PurchaseReservedInstancesOfferingRequestMarshaller instance = new PurchaseReservedInstancesOfferingRequestMarshaller();
+    public static PurchaseReservedInstancesOfferingRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class PurchaseReservedInstancesOfferingResultStaxUnmarshaller implements
         }
     }
 
-    private static PurchaseReservedInstancesOfferingResultStaxUnmarshaller instance;
+    private static final PurchaseReservedInstancesOfferingResultStaxUnmarshaller instance = new PurchaseReservedInstancesOfferingResultStaxUnmarshaller();
     public static PurchaseReservedInstancesOfferingResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new PurchaseReservedInstancesOfferingResultStaxUnmarshaller();
         return instance;
     }
 }
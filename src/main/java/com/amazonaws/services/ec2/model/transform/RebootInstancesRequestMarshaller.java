@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class RebootInstancesRequestMarshaller implements Marshaller<Request<RebootInstancesRequest>, RebootInstancesRequest> {
 
+    private static final ParameterNameTable INSTANCE_ID_NAMES = new ParameterNameTable("InstanceId.", "");
+
     public Request<RebootInstancesRequest> marshall(RebootInstancesRequest rebootInstancesRequest) {
         Request<RebootInstancesRequest> request = new DefaultRequest<RebootInstancesRequest>(rebootInstancesRequest, "AmazonEC2");
         request.addParameter("Action", "RebootInstances");
@@ -39,7 +42,7 @@ public class RebootInstancesRequestMarshaller implements Marshaller<Request<Rebo
 
             for (String instanceIdsListValue : instanceIdsList) {
                 if (instanceIdsListValue != null) {
-                    request.addParameter("InstanceId." + instanceIdsListIndex, StringUtils.fromString(instanceIdsListValue));
+                    request.addParameter(INSTANCE_ID_NAMES.get(instanceIdsListIndex), StringUtils.fromString(instanceIdsListValue));
                 }
                 instanceIdsListIndex++;
             }
@@ -48,4 +51,9 @@ public class RebootInstancesRequestMarshaller implements Marshaller<Request<Rebo
 
         return request;
     }
+
+    private static final RebootInstancesRequestMarshaller instance = new RebootInstancesRequestMarshaller();
+    public static RebootInstancesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
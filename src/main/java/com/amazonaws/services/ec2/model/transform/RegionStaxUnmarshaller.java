@@ -63,9 +63,8 @@ public class RegionStaxUnmarshaller implements Unmarshaller<Region, StaxUnmarsha
         }
     }
 
-    private static RegionStaxUnmarshaller instance;
+    private static final RegionStaxUnmarshaller instance = new RegionStaxUnmarshaller();
     public static RegionStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new RegionStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,13 @@ import com.amazonaws.util.StringUtils;
  */
 public class RegisterImageRequestMarshaller implements Marshaller<Request<RegisterImageRequest>, RegisterImageRequest> {
 
+    private static final ParameterNameTable BLOCK_DEVICE_MAPPING_VIRTUAL_NAME_NAMES = new ParameterNameTable("BlockDeviceMapping.", ".VirtualName");
+    private static final ParameterNameTable BLOCK_DEVICE_MAPPING_DEVICE_NAME_NAMES = new ParameterNameTable("BlockDeviceMapping.", ".DeviceName");
+    private static final ParameterNameTable BLOCK_DEVICE_MAPPING_EBS_SNAPSHOT_ID_NAMES = new ParameterNameTable("BlockDeviceMapping.", ".Ebs.SnapshotId");
+    private static final ParameterNameTable BLOCK_DEVICE_MAPPING_EBS_VOLUME_SIZE_NAMES = new ParameterNameTable("BlockDeviceMapping.", ".Ebs.VolumeSize");
+    private static final ParameterNameTable BLOCK_DEVICE_MAPPING_EBS_DELETE_ON_TERMINATION_NAMES = new ParameterNameTable("BlockDeviceMapping.", ".Ebs.DeleteOnTermination");
+    private static final ParameterNameTable BLOCK_DEVICE_MAPPING_NO_DEVICE_NAMES = new ParameterNameTable("BlockDeviceMapping.", ".NoDevice");
+
     public Request<RegisterImageRequest> marshall(RegisterImageRequest registerImageRequest) {
         Request<RegisterImageRequest> request = new DefaultRequest<RegisterImageRequest>(registerImageRequest, "AmazonEC2");
         request.addParameter("Action", "RegisterImage");
@@ -75,35 +83,35 @@ public class RegisterImageRequestMarshaller implements Marshaller<Request<Regist
             for (BlockDeviceMapping blockDeviceMappingsListValue : blockDeviceMappingsList) {
                 if (blockDeviceMappingsListValue != null) {
                     if (blockDeviceMappingsListValue.getVirtualName() != null) {
-                        request.addParameter("BlockDeviceMapping." + blockDeviceMappingsListIndex + ".VirtualName", StringUtils.fromString(blockDeviceMappingsListValue.getVirtualName()));
+                        request.addParameter(BLOCK_DEVICE_MAPPING_VIRTUAL_NAME_NAMES.get(blockDeviceMappingsListIndex), StringUtils.fromString(blockDeviceMappingsListValue.getVirtualName()));
                     }
                 }
                 if (blockDeviceMappingsListValue != null) {
                     if (blockDeviceMappingsListValue.getDeviceName() != null) {
-                        request.addParameter("BlockDeviceMapping." + blockDeviceMappingsListIndex + ".DeviceName", StringUtils.fromString(blockDeviceMappingsListValue.getDeviceName()));
+                        request.addParameter(BLOCK_DEVICE_MAPPING_DEVICE_NAME_NAMES.get(blockDeviceMappingsListIndex), StringUtils.fromString(blockDeviceMappingsListValue.getDeviceName()));
                     }
                 }
                 if (blockDeviceMappingsListValue != null) {
                     EbsBlockDevice ebs = blockDeviceMappingsListValue.getEbs();
                     if (ebs != null) {
                         if (ebs.getSnapshotId() != null) {
-                            request.addParameter("BlockDeviceMapping." + blockDeviceMappingsListIndex + ".Ebs.SnapshotId", StringUtils.fromString(ebs.getSnapshotId()));
+                            request.addParameter(BLOCK_DEVICE_MAPPING_EBS_SNAPSHOT_ID_NAMES.get(blockDeviceMappingsListIndex), StringUtils.fromString(ebs.getSnapshotId()));
                         }
                     }
                     if (ebs != null) {
                         if (ebs.getVolumeSize() != null) {
-                            request.addParameter("BlockDeviceMapping." + blockDeviceMappingsListIndex + ".Ebs.VolumeSize", StringUtils.fromInteger(ebs.getVolumeSize()));
+                            request.addParameter(BLOCK_DEVICE_MAPPING_EBS_VOLUME_SIZE_NAMES.get(blockDeviceMappingsListIndex), StringUtils.fromInteger(ebs.getVolumeSize()));
                         }
                     }
                     if (ebs != null) {
                         if (ebs.isDeleteOnTermination() != null) {
-                            request.addParameter("BlockDeviceMapping." + blockDeviceMappingsListIndex + ".Ebs.DeleteOnTermination", StringUtils.fromBoolean(ebs.isDeleteOnTermination()));
+                            request.addParameter(BLOCK_DEVICE_MAPPING_EBS_DELETE_ON_TERMINATION_NAMES.get(blockDeviceMappingsListIndex), StringUtils.fromBoolean(ebs.isDeleteOnTermination()));
                         }
                     }
                 }
                 if (blockDeviceMappingsListValue != null) {
                     if (blockDeviceMappingsListValue.getNoDevice() != null) {
-                        request.addParameter("BlockDeviceMapping." + blockDeviceMappingsListIndex + ".NoDevice", StringUtils.fromString(blockDeviceMappingsListValue.getNoDevice()));
+                        request.addParameter(BLOCK_DEVICE_MAPPING_NO_DEVICE_NAMES.get(blockDeviceMappingsListIndex), StringUtils.fromString(blockDeviceMappingsListValue.getNoDevice()));
                     }
                 }
 
@@ -114,4 +122,9 @@ public class RegisterImageRequestMarshaller implements Marshaller<Request<Regist
 
         return request;
     }
+
+    private static final RegisterImageRequestMarshaller instance = new RegisterImageRequestMarshaller();
+    public static RegisterImageRequestMarshaller getInstance() {
+        return instance;
+    }
 }
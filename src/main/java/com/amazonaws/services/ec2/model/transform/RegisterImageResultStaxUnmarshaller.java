@@ -59,9 +59,8 @@ public class RegisterImageResultStaxUnmarshaller implements Unmarshaller<Registe
         }
     }
 
-    private static RegisterImageResultStaxUnmarshaller instance;
+    private static final RegisterImageResultStaxUnmarshaller instance = new RegisterImageResultStaxUnmarshaller();
     public static RegisterImageResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new RegisterImageResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -47,4 +47,9 @@ public class ReleaseAddressRequestMarshaller implements Marshaller<Request<Relea
 
         return request;
     }
+
+    private static final ReleaseAddressRequestMarshaller instance = new ReleaseAddressRequestMarshaller();
+    public static ReleaseAddressRequestMarshaller getInstance() {
+        return instance;
+    }
 }
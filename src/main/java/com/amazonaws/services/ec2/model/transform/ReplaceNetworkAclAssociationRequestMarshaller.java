@@ -47,4 +47,9 @@ public class ReplaceNetworkAclAssociationRequestMarshaller implements Marshaller
 
         return request;
     }
+
+    private static final ReplaceNetworkAclAssociationRequestMarshaller instance = new ReplaceNetworkAclAssociationRequestMarshaller();
+    public static ReplaceNetworkAclAssociationRequestMarshaller getInstance() {
+        return instance;
+    }
 }
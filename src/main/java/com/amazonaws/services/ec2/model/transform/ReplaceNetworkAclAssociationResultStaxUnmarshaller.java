@@ -59,9 +59,8 @@ public class ReplaceNetworkAclAssociationResultStaxUnmarshaller implements Unmar
         }
     }
 
-    private static ReplaceNetworkAclAssociationResultStaxUnmarshaller instance;
+    private static final ReplaceNetworkAclAssociationResultStaxUnmarshaller instance = new ReplaceNetworkAclAssociationResultStaxUnmarshaller();
     public static ReplaceNetworkAclAssociationResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ReplaceNetworkAclAssociationResultStaxUnmarshaller();
         return instance;
     }
 }
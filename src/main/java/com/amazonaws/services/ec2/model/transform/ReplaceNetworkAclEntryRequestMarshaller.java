@@ -93,4 +93,9 @@ public class ReplaceNetworkAclEntryRequestMarshaller implements Marshaller<Reque
 
         return request;
     }
+
+    private static final ReplaceNetworkAclEntryRequestMarshaller instance = new ReplaceNetworkAclEntryRequestMarshaller();
+    public static ReplaceNetworkAclEntryRequestMarshaller getInstance() {
+        return instance;
+    }
 }
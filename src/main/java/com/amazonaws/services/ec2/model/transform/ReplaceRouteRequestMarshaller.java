@@ -57,4 +57,9 @@ public class ReplaceRouteRequestMarshaller implements Marshaller<Request<Replace
 
         return request;
     }
+
+    private static final ReplaceRouteRequestMarshaller instance = new ReplaceRouteRequestMarshaller();
+    public static ReplaceRouteRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -47,4 +47,9 @@ public class ReplaceRouteTableAssociationRequestMarshaller implements Marshaller
 
         return request;
     }
+
+    private static final ReplaceRouteTableAssociationRequestMarshaller instance = new ReplaceRouteTableAssociationRequestMarshaller();
+    public static ReplaceRouteTableAssociationRequestMarshaller getInstance() {
+        return instance;
+    }
 }
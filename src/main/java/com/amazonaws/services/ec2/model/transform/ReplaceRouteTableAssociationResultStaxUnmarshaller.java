@@ -59,9 +59,8 @@ public class ReplaceRouteTableAssociationResultStaxUnmarshaller implements Unmar
         }
     }
 
-    private static ReplaceRouteTableAssociationResultStaxUnmarshaller instance;
+    private static final ReplaceRouteTableAssociationResultStaxUnmarshaller instance = new ReplaceRouteTableAssociationResultStaxUnmarshaller();
     public static ReplaceRouteTableAssociationResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ReplaceRouteTableAssociationResultStaxUnmarshaller();
         return instance;
     }
 }
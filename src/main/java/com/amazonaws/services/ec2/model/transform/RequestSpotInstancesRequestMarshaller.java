@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,16 @@ import com.amazonaws.util.StringUtils;
  */
 public class RequestSpotInstancesRequestMarshaller implements Marshaller<Request<RequestSpotInstancesRequest>, RequestSpotInstancesRequest> {
 
+    private static final ParameterNameTable LAUNCH_SPECIFICATION_GROUP_SET_GROUP_NAME_NAMES = new ParameterNameTable("LaunchSpecification.GroupSet.", ".GroupName");
+    private static final ParameterNameTable LAUNCH_SPECIFICATION_GROUP_SET_GROUP_ID_NAMES = new ParameterNameTable("LaunchSpecification.GroupSet.", ".GroupId");
+    private static final ParameterNameTable LAUNCH_SPECIFICATION_SECURITY_GROUP_NAMES = new ParameterNameTable("LaunchSpecification.SecurityGroup.", "");
+    private static final ParameterNameTable LAUNCH_SPECIFICATION_BLOCK_DEVICE_MAPPING_VIRTUAL_NAME_NAMES = new ParameterNameTable("LaunchSpecification.BlockDeviceMapping.", ".VirtualName");
+    private static final ParameterNameTable LAUNCH_SPECIFICATION_BLOCK_DEVICE_MAPPING_DEVICE_NAME_NAMES = new ParameterNameTable("LaunchSpecification.BlockDeviceMapping.", ".DeviceName");
+    private static final ParameterNameTable LAUNCH_SPECIFICATION_BLOCK_DEVICE_MAPPING_EBS_SNAPSHOT_ID_NAMES = new ParameterNameTable("LaunchSpecification.BlockDeviceMapping.", ".Ebs.SnapshotId");
+    private static final ParameterNameTable LAUNCH_SPECIFICATION_BLOCK_DEVICE_MAPPING_EBS_VOLUME_SIZE_NAMES = new ParameterNameTable("LaunchSpecification.BlockDeviceMapping.", ".Ebs.VolumeSize");
+    private static final ParameterNameTable LAUNCH_SPECIFICATION_BLOCK_DEVICE_MAPPING_EBS_DELETE_ON_TERMINATION_NAMES = new ParameterNameTable("LaunchSpecification.BlockDeviceMapping.", ".Ebs.DeleteOnTermination");
+    private static final ParameterNameTable LAUNCH_SPECIFICATION_BLOCK_DEVICE_MAPPING_NO_DEVICE_NAMES = new ParameterNameTable("LaunchSpecification.BlockDeviceMapping.", ".NoDevice");
+
     public Request<RequestSpotInstancesRequest> marshall(RequestSpotInstancesRequest requestSpotInstancesRequest) {
         Request<RequestSpotInstancesRequest> request = new DefaultRequest<RequestSpotInstancesRequest>(requestSpotInstancesRequest, "AmazonEC2");
         request.addParameter("Action", "RequestSpotInstances");
@@ -87,12 +98,12 @@ public class RequestSpotInstancesRequestMarshaller implements Marshaller<Request
                 for (GroupIdentifier allSecurityGroupsListValue : allSecurityGroupsList) {
                     if (allSecurityGroupsListValue != null) {
                         if (allSecurityGroupsListValue.getGroupName() != null) {
-                            request.addParameter("LaunchSpecification.GroupSet." + allSecurityGroupsListIndex + ".GroupName", StringUtils.fromString(allSecurityGroupsListValue.getGroupName()));
+                            request.addParameter(LAUNCH_SPECIFICATION_GROUP_SET_GROUP_NAME_NAMES.get(allSecurityGroupsListIndex), StringUtils.fromString(allSecurityGroupsListValue.getGroupName()));
                         }
                     }
                     if (allSecurityGroupsListValue != null) {
                         if (allSecurityGroupsListValue.getGroupId() != null) {
-                            request.addParameter("LaunchSpecification.GroupSet." + allSecurityGroupsListIndex + ".GroupId", StringUtils.fromString(allSecurityGroupsListValue.getGroupId()));
+                            request.addParameter(LAUNCH_SPECIFICATION_GROUP_SET_GROUP_ID_NAMES.get(allSecurityGroupsListIndex), StringUtils.fromString(allSecurityGroupsListValue.getGroupId()));
                         }
                     }
 
@@ -105,7 +116,7 @@ public class RequestSpotInstancesRequestMarshaller implements Marshaller<Request
 
                 for (String securityGroupsListValue : securityGroupsList) {
                     if (securityGroupsListValue != null) {
-                        request.addParameter("LaunchSpecification.SecurityGroup." + securityGroupsListIndex, StringUtils.fromString(securityGroupsListValue));
+                        request.addParameter(LAUNCH_SPECIFICATION_SECURITY_GROUP_NAMES.get(securityGroupsListIndex), StringUtils.fromString(securityGroupsListValue));
                     }
                     securityGroupsListIndex++;
                 }
@@ -155,35 +166,35 @@ public class RequestSpotInstancesRequestMarshaller implements Marshaller<Request
                 for (BlockDeviceMapping blockDeviceMappingsListValue : blockDeviceMappingsList) {
                     if (blockDeviceMappingsListValue != null) {
                         if (blockDeviceMappingsListValue.getVirtualName() != null) {
-                            request.addParameter("LaunchSpecification.BlockDeviceMapping." + blockDeviceMappingsListIndex + ".VirtualName", StringUtils.fromString(blockDeviceMappingsListValue.getVirtualName()));
+                            request.addParameter(LAUNCH_SPECIFICATION_BLOCK_DEVICE_MAPPING_VIRTUAL_NAME_NAMES.get(blockDeviceMappingsListIndex), StringUtils.fromString(blockDeviceMappingsListValue.getVirtualName()));
                         }
                     }
                     if (blockDeviceMappingsListValue != null) {
                         if (blockDeviceMappingsListValue.getDeviceName() != null) {
-                            request.addParameter("LaunchSpecification.BlockDeviceMapping." + blockDeviceMappingsListIndex + ".DeviceName", StringUtils.fromString(blockDeviceMappingsListValue.getDeviceName()));
+                            request.addParameter(LAUNCH_SPECIFICATION_BLOCK_DEVICE_MAPPING_DEVICE_NAME_NAMES.get(blockDeviceMappingsListIndex), StringUtils.fromString(blockDeviceMappingsListValue.getDeviceName()));
                         }
                     }
                     if (blockDeviceMappingsListValue != null) {
                         EbsBlockDevice ebs = blockDeviceMappingsListValue.getEbs();
                         if (ebs != null) {
                             if (ebs.getSnapshotId() != null) {
-                                request.addParameter("LaunchSpecification.BlockDeviceMapping." + blockDeviceMappingsListIndex + ".Ebs.SnapshotId", StringUtils.fromString(ebs.getSnapshotId()));
+                                request.addParameter(LAUNCH_SPECIFICATION_BLOCK_DEVICE_MAPPING_EBS_SNAPSHOT_ID_NAMES.get(blockDeviceMappingsListIndex), StringUtils.fromString(ebs.getSnapshotId()));
                             }
                         }
                         if (ebs != null) {
                             if (ebs.getVolumeSize() != null) {
-                                request.addParameter("LaunchSpecification.BlockDeviceMapping." + blockDeviceMappingsListIndex + ".Ebs.VolumeSize", StringUtils.fromInteger(ebs.getVolumeSize()));
+                                request.addParameter(LAUNCH_SPECIFICATION_BLOCK_DEVICE_MAPPING_EBS_VOLUME_SIZE_NAMES.get(blockDeviceMappingsListIndex), StringUtils.fromInteger(ebs.getVolumeSize()));
                             }
                         }
                         if (ebs != null) {
                             if (ebs.isDeleteOnTermination() != null) {
-                                request.addParameter("LaunchSpecification.BlockDeviceMapping." + blockDeviceMappingsListIndex + ".Ebs.DeleteOnTermination", StringUtils.fromBoolean(ebs.isDeleteOnTermination()));
+                                request.addParameter(LAUNCH_SPECIFICATION_BLOCK_DEVICE_MAPPING_EBS_DELETE_ON_TERMINATION_NAMES.get(blockDeviceMappingsListIndex), StringUtils.fromBoolean(ebs.isDeleteOnTermination()));
                             }
                         }
                     }
                     if (blockDeviceMappingsListValue != null) {
                         if (blockDeviceMappingsListValue.getNoDevice() != null) {
-                            request.addParameter("LaunchSpecification.BlockDeviceMapping." + blockDeviceMappingsListIndex + ".NoDevice", StringUtils.fromString(blockDeviceMappingsListValue.getNoDevice()));
+                            request.addParameter(LAUNCH_SPECIFICATION_BLOCK_DEVICE_MAPPING_NO_DEVICE_NAMES.get(blockDeviceMappingsListIndex), StringUtils.fromString(blockDeviceMappingsListValue.getNoDevice()));
                         }
                     }
 
@@ -205,4 +216,9 @@ public class RequestSpotInstancesRequestMarshaller implements Marshaller<Request
 
         return request;
     }
+
+    private static final RequestSpotInstancesRequestMarshaller instance = new RequestSpotInstancesRequestMarshaller();
+    public static RequestSpotInstancesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class RequestSpotInstancesResultStaxUnmarshaller implements Unmarshaller<
         }
     }
 
-    private static RequestSpotInstancesResultStaxUnmarshaller instance;
+    private static final RequestSpotInstancesResultStaxUnmarshaller instance = new RequestSpotInstancesResultStaxUnmarshaller();
     public static RequestSpotInstancesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new RequestSpotInstancesResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -79,9 +79,8 @@ public class ReservationStaxUnmarshaller implements Unmarshaller<Reservation, St
         }
     }
 
-    private static ReservationStaxUnmarshaller instance;
+    private static final ReservationStaxUnmarshaller instance = new ReservationStaxUnmarshaller();
     public static ReservationStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ReservationStaxUnmarshaller();
         return instance;
     }
 }
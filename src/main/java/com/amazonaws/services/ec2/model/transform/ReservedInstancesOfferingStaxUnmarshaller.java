@@ -91,9 +91,8 @@ public class ReservedInstancesOfferingStaxUnmarshaller implements Unmarshaller<R
         }
     }
 
-    private static ReservedInstancesOfferingStaxUnmarshaller instance;
+    private static final ReservedInstancesOfferingStaxUnmarshaller instance = new ReservedInstancesOfferingStaxUnmarshaller();
     public static ReservedInstancesOfferingStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ReservedInstancesOfferingStaxUnmarshaller();
         return instance;
     }
 }
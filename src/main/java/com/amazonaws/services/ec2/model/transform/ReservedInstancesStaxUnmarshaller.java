@@ -107,9 +107,8 @@ public class ReservedInstancesStaxUnmarshaller implements Unmarshaller<ReservedI
         }
     }
 
-    private static ReservedInstancesStaxUnmarshaller instance;
+    private static final ReservedInstancesStaxUnmarshaller instance = new ReservedInstancesStaxUnmarshaller();
     public static ReservedInstancesStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ReservedInstancesStaxUnmarshaller();
         return instance;
     }
 }
@@ -47,4 +47,9 @@ public class ResetImageAttributeRequestMarshaller implements Marshaller<Request<
 
         return request;
     }
+
+    private static final ResetImageAttributeRequestMarshaller instance = new ResetImageAttributeRequestMarshaller();
+    public static ResetImageAttributeRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -47,4 +47,9 @@ public class ResetInstanceAttributeRequestMarshaller implements Marshaller<Reque
 
         return request;
     }
+
+    private static final ResetInstanceAttributeRequestMarshaller instance = new ResetInstanceAttributeRequestMarshaller();
+    public static ResetInstanceAttributeRequestMarshaller getInstance() {
+        return instance;
+    }
 }
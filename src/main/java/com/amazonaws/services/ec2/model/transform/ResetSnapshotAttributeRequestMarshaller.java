@@ -47,4 +47,9 @@ public class ResetSnapshotAttributeRequestMarshaller implements Marshaller<Reque
 
         return request;
     }
+
+    private static final ResetSnapshotAttributeRequestMarshaller instance = new ResetSnapshotAttributeRequestMarshaller();
+    public static ResetSnapshotAttributeRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,14 @@ import com.amazonaws.util.StringUtils;
  */
 public class RevokeSecurityGroupIngressRequestMarshaller implements Marshaller<Request<RevokeSecurityGroupIngressRequest>, RevokeSecurityGroupIngressRequest> {
 
+    private static final ParameterNameTable IP_PERMISSIONS_IP_PROTOCOL_NAMES = new ParameterNameTable("IpPermissions.", ".IpProtocol");
+    private static final ParameterNameTable IP_PERMISSIONS_FROM_PORT_NAMES = new ParameterNameTable("IpPermissions.", ".FromPort");
+    private static final ParameterNameTable IP_PERMISSIONS_TO_PORT_NAMES = new ParameterNameTable("IpPermissions.", ".ToPort");
+    private static final ParameterNameTable IP_PERMISSIONS_GROUPS_USER_ID_NAMES = new ParameterNameTable("IpPermissions.", ".Groups.", ".UserId");
+    private static final ParameterNameTable IP_PERMISSIONS_GROUPS_GROUP_NAME_NAMES = new ParameterNameTable("IpPermissions.", ".Groups.", ".GroupName");
+    private static final ParameterNameTable IP_PERMISSIONS_GROUPS_GROUP_ID_NAMES = new ParameterNameTable("IpPermissions.", ".Groups.", ".GroupId");
+    private static final ParameterNameTable IP_PERMISSIONS_IP_RANGES_CIDR_IP_NAMES = new ParameterNameTable("IpPermissions.", ".IpRanges.", ".CidrIp");
+
     public Request<RevokeSecurityGroupIngressRequest> marshall(RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest) {
         Request<RevokeSecurityGroupIngressRequest> request = new DefaultRequest<RevokeSecurityGroupIngressRequest>(revokeSecurityGroupIngressRequest, "AmazonEC2");
         request.addParameter("Action", "RevokeSecurityGroupIngress");
@@ -80,17 +89,17 @@ public class RevokeSecurityGroupIngressRequestMarshaller implements Marshaller<R
             for (IpPermission ipPermissionsListValue : ipPermissionsList) {
                 if (ipPermissionsListValue != null) {
                     if (ipPermissionsListValue.getIpProtocol() != null) {
-                        request.addParameter("IpPermissions." + ipPermissionsListIndex + ".IpProtocol", StringUtils.fromString(ipPermissionsListValue.getIpProtocol()));
+                        request.addParameter(IP_PERMISSIONS_IP_PROTOCOL_NAMES.get(ipPermissionsListIndex), StringUtils.fromString(ipPermissionsListValue.getIpProtocol()));
                     }
                 }
                 if (ipPermissionsListValue != null) {
                     if (ipPermissionsListValue.getFromPort() != null) {
-                        request.addParameter("IpPermissions." + ipPermissionsListIndex + ".FromPort", StringUtils.fromInteger(ipPermissionsListValue.getFromPort()));
+                        request.addParameter(IP_PERMISSIONS_FROM_PORT_NAMES.get(ipPermissionsListIndex), StringUtils.fromInteger(ipPermissionsListValue.getFromPort()));
                     }
                 }
                 if (ipPermissionsListValue != null) {
                     if (ipPermissionsListValue.getToPort() != null) {
-                        request.addParameter("IpPermissions." + ipPermissionsListIndex + ".ToPort", StringUtils.fromInteger(ipPermissionsListValue.getToPort()));
+                        request.addParameter(IP_PERMISSIONS_TO_PORT_NAMES.get(ipPermissionsListIndex), StringUtils.fromInteger(ipPermissionsListValue.getToPort()));
                     }
                 }
 
@@ -100,17 +109,17 @@ public class RevokeSecurityGroupIngressRequestMarshaller implements Marshaller<R
                     for (UserIdGroupPair userIdGroupPairsListValue : userIdGroupPairsList) {
                         if (userIdGroupPairsListValue != null) {
                             if (userIdGroupPairsListValue.getUserId() != null) {
-                                request.addParameter("IpPermissions." + ipPermissionsListIndex + ".Groups." + userIdGroupPairsListIndex + ".UserId", StringUtils.fromString(userIdGroupPairsListValue.getUserId()));
+                                request.addParameter(IP_PERMISSIONS_GROUPS_USER_ID_NAMES.get(ipPermissionsListIndex, userIdGroupPairsListIndex), StringUtils.fromString(userIdGroupPairsListValue.getUserId()));
                             }
                         }
                         if (userIdGroupPairsListValue != null) {
                             if (userIdGroupPairsListValue.getGroupName() != null) {
-                                request.addParameter("IpPermissions." + ipPermissionsListIndex + ".Groups." + userIdGroupPairsListIndex + ".GroupName", StringUtils.fromString(userIdGroupPairsListValue.getGroupName()));
+                                request.addParameter(IP_PERMISSIONS_GROUPS_GROUP_NAME_NAMES.get(ipPermissionsListIndex, userIdGroupPairsListIndex), StringUtils.fromString(userIdGroupPairsListValue.getGroupName()));
                             }
                         }
                         if (userIdGroupPairsListValue != null) {
                             if (userIdGroupPairsListValue.getGroupId() != null) {
-                                request.addParameter("IpPermissions." + ipPermissionsListIndex + ".Groups." + userIdGroupPairsListIndex + ".GroupId", StringUtils.fromString(userIdGroupPairsListValue.getGroupId()));
+                                request.addParameter(IP_PERMISSIONS_GROUPS_GROUP_ID_NAMES.get(ipPermissionsListIndex, userIdGroupPairsListIndex), StringUtils.fromString(userIdGroupPairsListValue.getGroupId()));
                             }
                         }
 
@@ -123,7 +132,7 @@ public class RevokeSecurityGroupIngressRequestMarshaller implements Marshaller<R
 
                     for (String ipRangesListValue : ipRangesList) {
                         if (ipRangesListValue != null) {
-                            request.addParameter("IpPermissions." + ipPermissionsListIndex + ".IpRanges." + ipRangesListIndex + ".CidrIp", StringUtils.fromString(ipRangesListValue));
+                            request.addParameter(IP_PERMISSIONS_IP_RANGES_CIDR_IP_NAMES.get(ipPermissionsListIndex, ipRangesListIndex), StringUtils.fromString(ipRangesListValue));
                         }
                         ipRangesListIndex++;
                     }
@@ -136,4 +145,9 @@ public class RevokeSecurityGroupIngressRequestMarshaller implements Marshaller<R
 
         return request;
     }
+
+    private static final RevokeSecurityGroupIngressRequestMarshaller instance = new RevokeSecurityGroupIngressRequestMarshaller();
+    public static RevokeSecurityGroupIngressRequestMarshaller getInstance() {
+        return instance;
+    }
 }
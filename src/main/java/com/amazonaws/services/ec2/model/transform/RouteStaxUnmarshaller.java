@@ -71,9 +71,8 @@ public class RouteStaxUnmarshaller implements Unmarshaller<Route, StaxUnmarshall
         }
     }
 
-    private static RouteStaxUnmarshaller instance;
+    private static final RouteStaxUnmarshaller instance = new RouteStaxUnmarshaller();
     public static RouteStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new RouteStaxUnmarshaller();
         return instance;
     }
 }
@@ -71,9 +71,8 @@ public class RouteTableAssociationStaxUnmarshaller implements Unmarshaller<Route
         }
     }
 
-    private static RouteTableAssociationStaxUnmarshaller instance;
+    private static final RouteTableAssociationStaxUnmarshaller instance = new RouteTableAssociationStaxUnmarshaller();
     public static RouteTableAssociationStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new RouteTableAssociationStaxUnmarshaller();
         return instance;
     }
 }
@@ -75,9 +75,8 @@ public class RouteTableStaxUnmarshaller implements Unmarshaller<RouteTable, Stax
         }
     }
 
-    private static RouteTableStaxUnmarshaller instance;
+    private static final RouteTableStaxUnmarshaller instance = new RouteTableStaxUnmarshaller();
     public static RouteTableStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new RouteTableStaxUnmarshaller();
         return instance;
     }
 }
@@ -59,9 +59,8 @@ public class RunInstancesResultStaxUnmarshaller implements Unmarshaller<RunInsta
         }
     }
 
-    private static RunInstancesResultStaxUnmarshaller instance;
+    private static final RunInstancesResultStaxUnmarshaller instance = new RunInstancesResultStaxUnmarshaller();
     public static RunInstancesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new RunInstancesResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -75,9 +75,8 @@ public class S3StorageStaxUnmarshaller implements Unmarshaller<S3Storage, StaxUn
         }
     }
 
-    private static S3StorageStaxUnmarshaller instance;
+    private static final S3StorageStaxUnmarshaller instance = new S3StorageStaxUnmarshaller();
     public static S3StorageStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new S3StorageStaxUnmarshaller();
         return instance;
     }
 }
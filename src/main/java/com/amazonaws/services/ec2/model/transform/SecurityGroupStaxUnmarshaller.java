@@ -87,9 +87,8 @@ public class SecurityGroupStaxUnmarshaller implements Unmarshaller<SecurityGroup
         }
     }
 
-    private static SecurityGroupStaxUnmarshaller instance;
+    private static final SecurityGroupStaxUnmarshaller instance = new SecurityGroupStaxUnmarshaller();
     public static SecurityGroupStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new SecurityGroupStaxUnmarshaller();
         return instance;
     }
 }
@@ -95,9 +95,8 @@ public class SnapshotStaxUnmarshaller implements Unmarshaller<Snapshot, StaxUnma
         }
     }
 
-    private static SnapshotStaxUnmarshaller instance;
+    private static final SnapshotStaxUnmarshaller instance = new SnapshotStaxUnmarshaller();
     public static SnapshotStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new SnapshotStaxUnmarshaller();
         return instance;
     }
 }
@@ -75,9 +75,8 @@ public class SpotDatafeedSubscriptionStaxUnmarshaller implements Unmarshaller<Sp
         }
     }
 
-    private static SpotDatafeedSubscriptionStaxUnmarshaller instance;
+    private static final SpotDatafeedSubscriptionStaxUnmarshaller instance = new SpotDatafeedSubscriptionStaxUnmarshaller();
     public static SpotDatafeedSubscriptionStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new SpotDatafeedSubscriptionStaxUnmarshaller();
         return instance;
     }
 }
@@ -111,9 +111,8 @@ public class SpotInstanceRequestStaxUnmarshaller implements Unmarshaller<SpotIns
         }
     }
 
-    private static SpotInstanceRequestStaxUnmarshaller instance;
+    private static final SpotInstanceRequestStaxUnmarshaller instance = new SpotInstanceRequestStaxUnmarshaller();
     public static SpotInstanceRequestStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new SpotInstanceRequestStaxUnmarshaller();
         return instance;
     }
 }
@@ -63,9 +63,8 @@ public class SpotInstanceStateFaultStaxUnmarshaller implements Unmarshaller<Spot
         }
     }
 
-    private static SpotInstanceStateFaultStaxUnmarshaller instance;
+    private static final SpotInstanceStateFaultStaxUnmarshaller instance = new SpotInstanceStateFaultStaxUnmarshaller();
     public static SpotInstanceStateFaultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new SpotInstanceStateFaultStaxUnmarshaller();
         return instance;
     }
 }
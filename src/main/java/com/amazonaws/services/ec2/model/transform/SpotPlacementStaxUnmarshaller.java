@@ -63,9 +63,8 @@ public class SpotPlacementStaxUnmarshaller implements Unmarshaller<SpotPlacement
         }
     }
 
-    private static SpotPlacementStaxUnmarshaller instance;
+    private static final SpotPlacementStaxUnmarshaller instance = new SpotPlacementStaxUnmarshaller();
     public static SpotPlacementStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new SpotPlacementStaxUnmarshaller();
         return instance;
     }
 }
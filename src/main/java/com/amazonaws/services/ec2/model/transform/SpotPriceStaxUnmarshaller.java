@@ -71,9 +71,8 @@ public class SpotPriceStaxUnmarshaller implements Unmarshaller<SpotPrice, StaxUn
         }
     }
 
-    private static SpotPriceStaxUnmarshaller instance;
+    private static final SpotPriceStaxUnmarshaller instance = new SpotPriceStaxUnmarshaller();
     public static SpotPriceStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new SpotPriceStaxUnmarshaller();
         return instance;
     }
 }
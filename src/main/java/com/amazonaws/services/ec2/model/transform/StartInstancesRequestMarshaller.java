@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class StartInstancesRequestMarshaller implements Marshaller<Request<StartInstancesRequest>, StartInstancesRequest> {
 
+    private static final ParameterNameTable INSTANCE_ID_NAMES = new ParameterNameTable("InstanceId.", "");
+
     public Request<StartInstancesRequest> marshall(StartInstancesRequest startInstancesRequest) {
         Request<StartInstancesRequest> request = new DefaultRequest<StartInstancesRequest>(startInstancesRequest, "AmazonEC2");
         request.addParameter("Action", "StartInstances");
@@ -39,7 +42,7 @@ public class StartInstancesRequestMarshaller implements Marshaller<Request<Start
 
             for (String instanceIdsListValue : instanceIdsList) {
                 if (instanceIdsListValue != null) {
-                    request.addParameter("InstanceId." + instanceIdsListIndex, StringUtils.fromString(instanceIdsListValue));
+                    request.addParameter(INSTANCE_ID_NAMES.get(instanceIdsListIndex), StringUtils.fromString(instanceIdsListValue));
                 }
                 instanceIdsListIndex++;
             }
@@ -48,4 +51,9 @@ public class StartInstancesRequestMarshaller implements Marshaller<Request<Start
 
         return request;
     }
+
+    private static final StartInstancesRequestMarshaller instance = new StartInstancesRequestMarshaller();
+    public static StartInstancesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class StartInstancesResultStaxUnmarshaller implements Unmarshaller<StartI
         }
     }
 
-    private static StartInstancesResultStaxUnmarshaller instance;
+    private static final StartInstancesResultStaxUnmarshaller instance = new StartInstancesResultStaxUnmarshaller();
     public static StartInstancesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new StartInstancesResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -63,9 +63,8 @@ public class StateReasonStaxUnmarshaller implements Unmarshaller<StateReason, St
         }
     }
 
-    private static StateReasonStaxUnmarshaller instance;
+    private static final StateReasonStaxUnmarshaller instance = new StateReasonStaxUnmarshaller();
     public static StateReasonStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new StateReasonStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class StopInstancesRequestMarshaller implements Marshaller<Request<StopInstancesRequest>, StopInstancesRequest> {
 
+    private static final ParameterNameTable INSTANCE_ID_NAMES = new ParameterNameTable("InstanceId.", "");
+
     public Request<StopInstancesRequest> marshall(StopInstancesRequest stopInstancesRequest) {
         Request<StopInstancesRequest> request = new DefaultRequest<StopInstancesRequest>(stopInstancesRequest, "AmazonEC2");
         request.addParameter("Action", "StopInstances");
@@ -39,7 +42,7 @@ public class StopInstancesRequestMarshaller implements Marshaller<Request<StopIn
 
             for (String instanceIdsListValue : instanceIdsList) {
                 if (instanceIdsListValue != null) {
-                    request.addParameter("InstanceId." + instanceIdsListIndex, StringUtils.fromString(instanceIdsListValue));
+                    request.addParameter(INSTANCE_ID_NAMES.get(instanceIdsListIndex), StringUtils.fromString(instanceIdsListValue));
                 }
                 instanceIdsListIndex++;
             }
@@ -53,4 +56,9 @@ public class StopInstancesRequestMarshaller implements Marshaller<Request<StopIn
 
         return request;
     }
+
+    private static final StopInstancesRequestMarshaller instance = new StopInstancesRequestMarshaller();
+    public static StopInstancesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
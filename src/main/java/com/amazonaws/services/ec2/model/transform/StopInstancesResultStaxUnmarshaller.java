@@ -59,9 +59,8 @@ public class StopInstancesResultStaxUnmarshaller implements Unmarshaller<StopIns
         }
     }
 
-    private static StopInstancesResultStaxUnmarshaller instance;
+    private static final StopInstancesResultStaxUnmarshaller instance = new StopInstancesResultStaxUnmarshaller();
     public static StopInstancesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new StopInstancesResultStaxUnmarshaller();
         return instance;
     }
 }
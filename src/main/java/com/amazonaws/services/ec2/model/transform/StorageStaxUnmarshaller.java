@@ -59,9 +59,8 @@ public class StorageStaxUnmarshaller implements Unmarshaller<Storage, StaxUnmars
         }
     }
 
-    private static StorageStaxUnmarshaller instance;
+    private static final StorageStaxUnmarshaller instance = new StorageStaxUnmarshaller();
     public static StorageStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new StorageStaxUnmarshaller();
         return instance;
     }
 }
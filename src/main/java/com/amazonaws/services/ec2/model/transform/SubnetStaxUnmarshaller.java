@@ -83,9 +83,8 @@ public class SubnetStaxUnmarshaller implements Unmarshaller<Subnet, StaxUnmarsha
         }
     }
 
-    private static SubnetStaxUnmarshaller instance;
+    private static final SubnetStaxUnmarshaller instance = new SubnetStaxUnmarshaller();
     public static SubnetStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new SubnetStaxUnmarshaller();
         return instance;
     }
 }
@@ -71,9 +71,8 @@ public class TagDescriptionStaxUnmarshaller implements Unmarshaller<TagDescripti
         }
     }
 
-    private static TagDescriptionStaxUnmarshaller instance;
+    private static final TagDescriptionStaxUnmarshaller instance = new TagDescriptionStaxUnmarshaller();
     public static TagDescriptionStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new TagDescriptionStaxUnmarshaller();
         return instance;
     }
 }
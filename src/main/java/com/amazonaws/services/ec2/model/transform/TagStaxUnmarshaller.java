@@ -63,9 +63,8 @@ public class TagStaxUnmarshaller implements Unmarshaller<Tag, StaxUnmarshallerCo
         }
     }
 
-    private static TagStaxUnmarshaller instance;
+    private static final TagStaxUnmarshaller instance = new TagStaxUnmarshaller();
     public static TagStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new TagStaxUnmarshaller();
         return instance;
     }
 }
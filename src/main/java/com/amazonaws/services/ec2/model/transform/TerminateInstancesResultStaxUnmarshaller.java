@@ -59,9 +59,8 @@ public class TerminateInstancesResultStaxUnmarshaller implements Unmarshaller<Te
         }
     }
 
-    private static TerminateInstancesResultStaxUnmarshaller instance;
+    private static final TerminateInstancesResultStaxUnmarshaller instance = new TerminateInstancesResultStaxUnmarshaller();
     public static TerminateInstancesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new TerminateInstancesResultStaxUnmarshaller();
         return instance;
     }
 }
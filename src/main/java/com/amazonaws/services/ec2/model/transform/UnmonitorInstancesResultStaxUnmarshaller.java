@@ -59,9 +59,8 @@ public class UnmonitorInstancesResultStaxUnmarshaller implements Unmarshaller<Un
         }
     }
 
-    private static UnmonitorInstancesResultStaxUnmarshaller instance;
+    private static final UnmonitorInstancesResultStaxUnmarshaller instance = new UnmonitorInstancesResultStaxUnmarshaller();
     public static UnmonitorInstancesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new UnmonitorInstancesResultStaxUnmarshaller();
         return instance;
     }
 }
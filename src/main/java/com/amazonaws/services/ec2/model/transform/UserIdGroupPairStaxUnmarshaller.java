@@ -67,9 +67,8 @@ public class UserIdGroupPairStaxUnmarshaller implements Unmarshaller<UserIdGroup
         }
     }
 
-    private static UserIdGroupPairStaxUnmarshaller instance;
+    private static final UserIdGroupPairStaxUnmarshaller instance = new UserIdGroupPairStaxUnmarshaller();
     public static UserIdGroupPairStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new UserIdGroupPairStaxUnmarshaller();
         return instance;
     }
 }
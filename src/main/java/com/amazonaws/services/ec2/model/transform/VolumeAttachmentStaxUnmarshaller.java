@@ -79,9 +79,8 @@ public class VolumeAttachmentStaxUnmarshaller implements Unmarshaller<VolumeAtta
         }
     }
 
-    private static VolumeAttachmentStaxUnmarshaller instance;
+    private static final VolumeAttachmentStaxUnmarshaller instance = new VolumeAttachmentStaxUnmarshaller();
     public static VolumeAttachmentStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new VolumeAttachmentStaxUnmarshaller();
         return instance;
     }
 }
@@ -87,9 +87,8 @@ public class VolumeStaxUnmarshaller implements Unmarshaller<Volume, StaxUnmarsha
         }
     }
 
-    private static VolumeStaxUnmarshaller instance;
+    private static final VolumeStaxUnmarshaller instance = new VolumeStaxUnmarshaller();
     public static VolumeStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new VolumeStaxUnmarshaller();
         return instance;
     }
 }
@@ -63,9 +63,8 @@ public class VpcAttachmentStaxUnmarshaller implements Unmarshaller<VpcAttachment
         }
     }
 
-    private static VpcAttachmentStaxUnmarshaller instance;
+    private static final VpcAttachmentStaxUnmarshaller instance = new VpcAttachmentStaxUnmarshaller();
     public static VpcAttachmentStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new VpcAttachmentStaxUnmarshaller();
         return instance;
     }
 }
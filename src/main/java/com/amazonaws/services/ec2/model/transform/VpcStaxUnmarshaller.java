@@ -79,9 +79,8 @@ public class VpcStaxUnmarshaller implements Unmarshaller<Vpc, StaxUnmarshallerCo
         }
     }
 
-    private static VpcStaxUnmarshaller instance;
+    private static final VpcStaxUnmarshaller instance = new VpcStaxUnmarshaller();
     public static VpcStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new VpcStaxUnmarshaller();
         return instance;
     }
 }
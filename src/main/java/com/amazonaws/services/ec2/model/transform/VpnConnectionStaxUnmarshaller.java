@@ -83,9 +83,8 @@ public class VpnConnectionStaxUnmarshaller implements Unmarshaller<VpnConnection
         }
     }
 
-    private static VpnConnectionStaxUnmarshaller instance;
+    private static final VpnConnectionStaxUnmarshaller instance = new VpnConnectionStaxUnmarshaller();
     public static VpnConnectionStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new VpnConnectionStaxUnmarshaller();
         return instance;
     }
 }
@@ -79,9 +79,8 @@ public class VpnGatewayStaxUnmarshaller implements Unmarshaller<VpnGateway, Stax
         }
     }
 
-    private static VpnGatewayStaxUnmarshaller instance;
+    private static final VpnGatewayStaxUnmarshaller instance = new VpnGatewayStaxUnmarshaller();
     public static VpnGatewayStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new VpnGatewayStaxUnmarshaller();
         return instance;
     }
 }
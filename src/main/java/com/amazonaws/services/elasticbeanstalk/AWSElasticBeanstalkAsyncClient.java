@@ -16,13 +16,14 @@ package com.amazonaws.services.elasticbeanstalk;
             
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.util.InstrumentedThreadPoolExecutor;
 
 import com.amazonaws.services.elasticbeanstalk.model.*;
 
@@ -63,8 +64,9 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
     /**
      * Constructs a new asynchronous client to invoke service methods on 
      * AWSElasticBeanstalk using the specified AWS account credentials.
-     * Default client settings will be used, and a default cached thread pool will be 
-     * created for executing the asynchronous tasks.
+     * Default client settings will be used, and a default bounded thread pool will be 
+     * created for executing the asynchronous tasks (see
+     * {@link InstrumentedThreadPoolExecutor#newDefaultExecutor(String, ClientConfiguration)}).
      *
      * <p>
      * All calls made using this new client object are non-blocking, and will immediately
@@ -75,7 +77,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      *                       when authenticating with AWS services.
      */                                      
     public AWSElasticBeanstalkAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newCachedThreadPool());
+        this(awsCredentials, InstrumentedThreadPoolExecutor.newDefaultExecutor("AWSElasticBeanstalkAsyncClient", new ClientConfiguration()));
     }
 
     /**
@@ -167,6 +169,51 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
 		});
     }
     
+    /**
+     * <p>
+     * Checks if the specified CNAME is available.
+     * </p>
+     *
+     * @param checkDNSAvailabilityRequest Container for the necessary
+     *           parameters to execute the CheckDNSAvailability operation on
+     *           AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CheckDNSAvailability service method, as returned by
+     *         AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CheckDNSAvailabilityResult> checkDNSAvailabilityAsync(
+            final CheckDNSAvailabilityRequest checkDNSAvailabilityRequest,
+            final AsyncHandler<CheckDNSAvailabilityRequest, CheckDNSAvailabilityResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CheckDNSAvailabilityResult>() {
+            public CheckDNSAvailabilityResult call() throws Exception {
+                CheckDNSAvailabilityResult result;
+                try {
+                    result = checkDNSAvailability(checkDNSAvailabilityRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(checkDNSAvailabilityRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Describes the configuration options that are used in a particular
@@ -201,6 +248,55 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
 		});
     }
     
+    /**
+     * <p>
+     * Describes the configuration options that are used in a particular
+     * configuration template or environment, or that a specified solution
+     * stack defines. The description includes the values the options, their
+     * default values, and an indication of the required action on a running
+     * environment if an option value is changed.
+     * </p>
+     *
+     * @param describeConfigurationOptionsRequest Container for the necessary
+     *           parameters to execute the DescribeConfigurationOptions operation on
+     *           AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeConfigurationOptions service method, as returned by
+     *         AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeConfigurationOptionsResult> describeConfigurationOptionsAsync(
+            final DescribeConfigurationOptionsRequest describeConfigurationOptionsRequest,
+            final AsyncHandler<DescribeConfigurationOptionsRequest, DescribeConfigurationOptionsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeConfigurationOptionsResult>() {
+            public DescribeConfigurationOptionsResult call() throws Exception {
+                DescribeConfigurationOptionsResult result;
+                try {
+                    result = describeConfigurationOptions(describeConfigurationOptionsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeConfigurationOptionsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes the specified configuration template.
@@ -238,6 +334,56 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
 		});
     }
     
+    /**
+     * <p>
+     * Deletes the specified configuration template.
+     * </p>
+     * <p>
+     * <b>NOTE:</b>When you launch an environment using a configuration
+     * template, the environment gets a copy of the template. You can delete
+     * or modify the environment's copy of the template without affecting the
+     * running environment.
+     * </p>
+     *
+     * @param deleteConfigurationTemplateRequest Container for the necessary
+     *           parameters to execute the DeleteConfigurationTemplate operation on
+     *           AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteConfigurationTemplate service method, as returned by
+     *         AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteConfigurationTemplateAsync(
+            final DeleteConfigurationTemplateRequest deleteConfigurationTemplateRequest,
+            final AsyncHandler<DeleteConfigurationTemplateRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteConfigurationTemplate(deleteConfigurationTemplateRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteConfigurationTemplateRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Launches an environment for the specified application using the
@@ -267,6 +413,50 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
 		});
     }
     
+    /**
+     * <p>
+     * Launches an environment for the specified application using the
+     * specified configuration.
+     * </p>
+     *
+     * @param createEnvironmentRequest Container for the necessary parameters
+     *           to execute the CreateEnvironment operation on AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateEnvironment service method, as returned by AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateEnvironmentResult> createEnvironmentAsync(
+            final CreateEnvironmentRequest createEnvironmentRequest,
+            final AsyncHandler<CreateEnvironmentRequest, CreateEnvironmentResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateEnvironmentResult>() {
+            public CreateEnvironmentResult call() throws Exception {
+                CreateEnvironmentResult result;
+                try {
+                    result = createEnvironment(createEnvironmentRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createEnvironmentRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Creates the Amazon S3 storage location for the account.
@@ -300,6 +490,54 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
 		});
     }
     
+    /**
+     * <p>
+     * Creates the Amazon S3 storage location for the account.
+     * </p>
+     * <p>
+     * This location is used to store user log files.
+     * </p>
+     *
+     * @param createStorageLocationRequest Container for the necessary
+     *           parameters to execute the CreateStorageLocation operation on
+     *           AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateStorageLocation service method, as returned by
+     *         AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateStorageLocationResult> createStorageLocationAsync(
+            final CreateStorageLocationRequest createStorageLocationRequest,
+            final AsyncHandler<CreateStorageLocationRequest, CreateStorageLocationResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateStorageLocationResult>() {
+            public CreateStorageLocationResult call() throws Exception {
+                CreateStorageLocationResult result;
+                try {
+                    result = createStorageLocation(createStorageLocationRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createStorageLocationRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Initiates a request to compile the specified type of information of
@@ -346,6 +584,65 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
 		});
     }
     
+    /**
+     * <p>
+     * Initiates a request to compile the specified type of information of
+     * the deployed environment.
+     * </p>
+     * <p>
+     * Setting the <code>InfoType</code> to <code>tail</code> compiles the
+     * last lines from the application server log files of every Amazon EC2
+     * instance in your environment. Use RetrieveEnvironmentInfo to access
+     * the compiled information.
+     * </p>
+     * <p>
+     * Related Topics
+     * </p>
+     * 
+     * <ul>
+     * <li> RetrieveEnvironmentInfo </li>
+     * 
+     * </ul>
+     *
+     * @param requestEnvironmentInfoRequest Container for the necessary
+     *           parameters to execute the RequestEnvironmentInfo operation on
+     *           AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RequestEnvironmentInfo service method, as returned by
+     *         AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> requestEnvironmentInfoAsync(
+            final RequestEnvironmentInfoRequest requestEnvironmentInfoRequest,
+            final AsyncHandler<RequestEnvironmentInfoRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    requestEnvironmentInfo(requestEnvironmentInfoRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(requestEnvironmentInfoRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Creates an application version for the specified application.
@@ -385,19 +682,27 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
     
     /**
      * <p>
-     * Deletes the specified version from the specified application.
+     * Creates an application version for the specified application.
      * </p>
      * <p>
-     * <b>NOTE:</b>You cannot delete an application version that is
-     * associated with a running environment.
+     * <b>NOTE:</b>Once you create an application version with a specified
+     * Amazon S3 bucket and key location, you cannot change that Amazon S3
+     * location. If you change the Amazon S3 location, you receive an
+     * exception when you attempt to launch an environment from the
+     * application version.
      * </p>
      *
-     * @param deleteApplicationVersionRequest Container for the necessary
-     *           parameters to execute the DeleteApplicationVersion operation on
+     * @param createApplicationVersionRequest Container for the necessary
+     *           parameters to execute the CreateApplicationVersion operation on
      *           AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
-     *         DeleteApplicationVersion service method, as returned by
+     *         CreateApplicationVersion service method, as returned by
      *         AWSElasticBeanstalk.
      *
      * @throws AmazonClientException
@@ -408,27 +713,40 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      *             If an error response is returned by AWSElasticBeanstalk indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteApplicationVersionAsync(final DeleteApplicationVersionRequest deleteApplicationVersionRequest) 
-            throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteApplicationVersion(deleteApplicationVersionRequest);
-                return null;
+    public Future<CreateApplicationVersionResult> createApplicationVersionAsync(
+            final CreateApplicationVersionRequest createApplicationVersionRequest,
+            final AsyncHandler<CreateApplicationVersionRequest, CreateApplicationVersionResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateApplicationVersionResult>() {
+            public CreateApplicationVersionResult call() throws Exception {
+                CreateApplicationVersionResult result;
+                try {
+                    result = createApplicationVersion(createApplicationVersionRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createApplicationVersionRequest, result);
+                return result;
 		    }
 		});
     }
     
     /**
      * <p>
-     * Returns descriptions for existing application versions.
+     * Deletes the specified version from the specified application.
+     * </p>
+     * <p>
+     * <b>NOTE:</b>You cannot delete an application version that is
+     * associated with a running environment.
      * </p>
      *
-     * @param describeApplicationVersionsRequest Container for the necessary
-     *           parameters to execute the DescribeApplicationVersions operation on
+     * @param deleteApplicationVersionRequest Container for the necessary
+     *           parameters to execute the DeleteApplicationVersion operation on
      *           AWSElasticBeanstalk.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeApplicationVersions service method, as returned by
+     *         DeleteApplicationVersion service method, as returned by
      *         AWSElasticBeanstalk.
      *
      * @throws AmazonClientException
@@ -439,30 +757,37 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      *             If an error response is returned by AWSElasticBeanstalk indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeApplicationVersionsResult> describeApplicationVersionsAsync(final DescribeApplicationVersionsRequest describeApplicationVersionsRequest) 
+    public Future<Void> deleteApplicationVersionAsync(final DeleteApplicationVersionRequest deleteApplicationVersionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeApplicationVersionsResult>() {
-            public DescribeApplicationVersionsResult call() throws Exception {
-                return describeApplicationVersions(describeApplicationVersionsRequest);
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                deleteApplicationVersion(deleteApplicationVersionRequest);
+                return null;
 		    }
 		});
     }
     
     /**
      * <p>
-     * Deletes the specified application along with all associated versions
-     * and configurations.
+     * Deletes the specified version from the specified application.
      * </p>
      * <p>
-     * <b>NOTE:</b>You cannot delete an application that has a running
-     * environment.
+     * <b>NOTE:</b>You cannot delete an application version that is
+     * associated with a running environment.
      * </p>
      *
-     * @param deleteApplicationRequest Container for the necessary parameters
-     *           to execute the DeleteApplication operation on AWSElasticBeanstalk.
+     * @param deleteApplicationVersionRequest Container for the necessary
+     *           parameters to execute the DeleteApplicationVersion operation on
+     *           AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
-     *         DeleteApplication service method, as returned by AWSElasticBeanstalk.
+     *         DeleteApplicationVersion service method, as returned by
+     *         AWSElasticBeanstalk.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -472,11 +797,19 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      *             If an error response is returned by AWSElasticBeanstalk indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteApplicationAsync(final DeleteApplicationRequest deleteApplicationRequest) 
-            throws AmazonServiceException, AmazonClientException {
+    public Future<Void> deleteApplicationVersionAsync(
+            final DeleteApplicationVersionRequest deleteApplicationVersionRequest,
+            final AsyncHandler<DeleteApplicationVersionRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<Void>() {
             public Void call() throws Exception {
-                deleteApplication(deleteApplicationRequest);
+                try {
+                    deleteApplicationVersion(deleteApplicationVersionRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteApplicationVersionRequest, null);
                 return null;
 		    }
 		});
@@ -484,8 +817,164 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
     
     /**
      * <p>
-     * Updates the specified application version to have the specified
-     * properties.
+     * Returns descriptions for existing application versions.
+     * </p>
+     *
+     * @param describeApplicationVersionsRequest Container for the necessary
+     *           parameters to execute the DescribeApplicationVersions operation on
+     *           AWSElasticBeanstalk.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeApplicationVersions service method, as returned by
+     *         AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeApplicationVersionsResult> describeApplicationVersionsAsync(final DescribeApplicationVersionsRequest describeApplicationVersionsRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeApplicationVersionsResult>() {
+            public DescribeApplicationVersionsResult call() throws Exception {
+                return describeApplicationVersions(describeApplicationVersionsRequest);
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Returns descriptions for existing application versions.
+     * </p>
+     *
+     * @param describeApplicationVersionsRequest Container for the necessary
+     *           parameters to execute the DescribeApplicationVersions operation on
+     *           AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeApplicationVersions service method, as returned by
+     *         AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeApplicationVersionsResult> describeApplicationVersionsAsync(
+            final DescribeApplicationVersionsRequest describeApplicationVersionsRequest,
+            final AsyncHandler<DescribeApplicationVersionsRequest, DescribeApplicationVersionsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeApplicationVersionsResult>() {
+            public DescribeApplicationVersionsResult call() throws Exception {
+                DescribeApplicationVersionsResult result;
+                try {
+                    result = describeApplicationVersions(describeApplicationVersionsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeApplicationVersionsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Deletes the specified application along with all associated versions
+     * and configurations.
+     * </p>
+     * <p>
+     * <b>NOTE:</b>You cannot delete an application that has a running
+     * environment.
+     * </p>
+     *
+     * @param deleteApplicationRequest Container for the necessary parameters
+     *           to execute the DeleteApplication operation on AWSElasticBeanstalk.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteApplication service method, as returned by AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteApplicationAsync(final DeleteApplicationRequest deleteApplicationRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                deleteApplication(deleteApplicationRequest);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Deletes the specified application along with all associated versions
+     * and configurations.
+     * </p>
+     * <p>
+     * <b>NOTE:</b>You cannot delete an application that has a running
+     * environment.
+     * </p>
+     *
+     * @param deleteApplicationRequest Container for the necessary parameters
+     *           to execute the DeleteApplication operation on AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteApplication service method, as returned by AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteApplicationAsync(
+            final DeleteApplicationRequest deleteApplicationRequest,
+            final AsyncHandler<DeleteApplicationRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteApplication(deleteApplicationRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteApplicationRequest, null);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Updates the specified application version to have the specified
+     * properties.
      * </p>
      * <p>
      * <b>NOTE:</b> If a property (for example, description) is not provided,
@@ -518,6 +1007,57 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
 		});
     }
     
+    /**
+     * <p>
+     * Updates the specified application version to have the specified
+     * properties.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> If a property (for example, description) is not provided,
+     * the value remains unchanged. To clear properties, specify an empty
+     * string.
+     * </p>
+     *
+     * @param updateApplicationVersionRequest Container for the necessary
+     *           parameters to execute the UpdateApplicationVersion operation on
+     *           AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         UpdateApplicationVersion service method, as returned by
+     *         AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<UpdateApplicationVersionResult> updateApplicationVersionAsync(
+            final UpdateApplicationVersionRequest updateApplicationVersionRequest,
+            final AsyncHandler<UpdateApplicationVersionRequest, UpdateApplicationVersionResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<UpdateApplicationVersionResult>() {
+            public UpdateApplicationVersionResult call() throws Exception {
+                UpdateApplicationVersionResult result;
+                try {
+                    result = updateApplicationVersion(updateApplicationVersionRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(updateApplicationVersionRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Creates an application that has one configuration template named
@@ -552,6 +1092,55 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
 		});
     }
     
+    /**
+     * <p>
+     * Creates an application that has one configuration template named
+     * <code>default</code> and no application versions.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> The default configuration template is for a 32-bit
+     * version of the Amazon Linux operating system running the Tomcat 6
+     * application container.
+     * </p>
+     *
+     * @param createApplicationRequest Container for the necessary parameters
+     *           to execute the CreateApplication operation on AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateApplication service method, as returned by AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateApplicationResult> createApplicationAsync(
+            final CreateApplicationRequest createApplicationRequest,
+            final AsyncHandler<CreateApplicationRequest, CreateApplicationResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateApplicationResult>() {
+            public CreateApplicationResult call() throws Exception {
+                CreateApplicationResult result;
+                try {
+                    result = createApplication(createApplicationRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createApplicationRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Updates the specified configuration template to have the specified
@@ -596,6 +1185,65 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
 		});
     }
     
+    /**
+     * <p>
+     * Updates the specified configuration template to have the specified
+     * properties or configuration option values.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> If a property (for example, ApplicationName) is not
+     * provided, its value remains unchanged. To clear such properties,
+     * specify an empty string.
+     * </p>
+     * <p>
+     * Related Topics
+     * </p>
+     * 
+     * <ul>
+     * <li> DescribeConfigurationOptions </li>
+     * 
+     * </ul>
+     *
+     * @param updateConfigurationTemplateRequest Container for the necessary
+     *           parameters to execute the UpdateConfigurationTemplate operation on
+     *           AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         UpdateConfigurationTemplate service method, as returned by
+     *         AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<UpdateConfigurationTemplateResult> updateConfigurationTemplateAsync(
+            final UpdateConfigurationTemplateRequest updateConfigurationTemplateRequest,
+            final AsyncHandler<UpdateConfigurationTemplateRequest, UpdateConfigurationTemplateResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<UpdateConfigurationTemplateResult>() {
+            public UpdateConfigurationTemplateResult call() throws Exception {
+                UpdateConfigurationTemplateResult result;
+                try {
+                    result = updateConfigurationTemplate(updateConfigurationTemplateRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(updateConfigurationTemplateRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Retrieves the compiled information from a RequestEnvironmentInfo
@@ -635,6 +1283,60 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
 		});
     }
     
+    /**
+     * <p>
+     * Retrieves the compiled information from a RequestEnvironmentInfo
+     * request.
+     * </p>
+     * <p>
+     * Related Topics
+     * </p>
+     * 
+     * <ul>
+     * <li> RequestEnvironmentInfo </li>
+     * 
+     * </ul>
+     *
+     * @param retrieveEnvironmentInfoRequest Container for the necessary
+     *           parameters to execute the RetrieveEnvironmentInfo operation on
+     *           AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RetrieveEnvironmentInfo service method, as returned by
+     *         AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<RetrieveEnvironmentInfoResult> retrieveEnvironmentInfoAsync(
+            final RetrieveEnvironmentInfoRequest retrieveEnvironmentInfoRequest,
+            final AsyncHandler<RetrieveEnvironmentInfoRequest, RetrieveEnvironmentInfoResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<RetrieveEnvironmentInfoResult>() {
+            public RetrieveEnvironmentInfoResult call() throws Exception {
+                RetrieveEnvironmentInfoResult result;
+                try {
+                    result = retrieveEnvironmentInfo(retrieveEnvironmentInfoRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(retrieveEnvironmentInfoRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns a list of the available solution stack names.
@@ -665,6 +1367,51 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
 		});
     }
     
+    /**
+     * <p>
+     * Returns a list of the available solution stack names.
+     * </p>
+     *
+     * @param listAvailableSolutionStacksRequest Container for the necessary
+     *           parameters to execute the ListAvailableSolutionStacks operation on
+     *           AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListAvailableSolutionStacks service method, as returned by
+     *         AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListAvailableSolutionStacksResult> listAvailableSolutionStacksAsync(
+            final ListAvailableSolutionStacksRequest listAvailableSolutionStacksRequest,
+            final AsyncHandler<ListAvailableSolutionStacksRequest, ListAvailableSolutionStacksResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ListAvailableSolutionStacksResult>() {
+            public ListAvailableSolutionStacksResult call() throws Exception {
+                ListAvailableSolutionStacksResult result;
+                try {
+                    result = listAvailableSolutionStacks(listAvailableSolutionStacksRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(listAvailableSolutionStacksRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Updates the specified application to have the specified properties.
@@ -698,6 +1445,54 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
 		});
     }
     
+    /**
+     * <p>
+     * Updates the specified application to have the specified properties.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> If a property (for example, description) is not provided,
+     * the value remains unchanged. To clear these properties, specify an
+     * empty string.
+     * </p>
+     *
+     * @param updateApplicationRequest Container for the necessary parameters
+     *           to execute the UpdateApplication operation on AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         UpdateApplication service method, as returned by AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<UpdateApplicationResult> updateApplicationAsync(
+            final UpdateApplicationRequest updateApplicationRequest,
+            final AsyncHandler<UpdateApplicationRequest, UpdateApplicationResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<UpdateApplicationResult>() {
+            public UpdateApplicationResult call() throws Exception {
+                UpdateApplicationResult result;
+                try {
+                    result = updateApplication(updateApplicationRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(updateApplicationRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns descriptions for existing environments.
@@ -728,6 +1523,51 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
 		});
     }
     
+    /**
+     * <p>
+     * Returns descriptions for existing environments.
+     * </p>
+     *
+     * @param describeEnvironmentsRequest Container for the necessary
+     *           parameters to execute the DescribeEnvironments operation on
+     *           AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeEnvironments service method, as returned by
+     *         AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeEnvironmentsResult> describeEnvironmentsAsync(
+            final DescribeEnvironmentsRequest describeEnvironmentsRequest,
+            final AsyncHandler<DescribeEnvironmentsRequest, DescribeEnvironmentsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeEnvironmentsResult>() {
+            public DescribeEnvironmentsResult call() throws Exception {
+                DescribeEnvironmentsResult result;
+                try {
+                    result = describeEnvironments(describeEnvironmentsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeEnvironmentsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns AWS resources for this environment.
@@ -758,6 +1598,51 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
 		});
     }
     
+    /**
+     * <p>
+     * Returns AWS resources for this environment.
+     * </p>
+     *
+     * @param describeEnvironmentResourcesRequest Container for the necessary
+     *           parameters to execute the DescribeEnvironmentResources operation on
+     *           AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeEnvironmentResources service method, as returned by
+     *         AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeEnvironmentResourcesResult> describeEnvironmentResourcesAsync(
+            final DescribeEnvironmentResourcesRequest describeEnvironmentResourcesRequest,
+            final AsyncHandler<DescribeEnvironmentResourcesRequest, DescribeEnvironmentResourcesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeEnvironmentResourcesResult>() {
+            public DescribeEnvironmentResourcesResult call() throws Exception {
+                DescribeEnvironmentResourcesResult result;
+                try {
+                    result = describeEnvironmentResources(describeEnvironmentResourcesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeEnvironmentResourcesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Terminates the specified environment.
@@ -788,6 +1673,51 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
 		});
     }
     
+    /**
+     * <p>
+     * Terminates the specified environment.
+     * </p>
+     *
+     * @param terminateEnvironmentRequest Container for the necessary
+     *           parameters to execute the TerminateEnvironment operation on
+     *           AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         TerminateEnvironment service method, as returned by
+     *         AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<TerminateEnvironmentResult> terminateEnvironmentAsync(
+            final TerminateEnvironmentRequest terminateEnvironmentRequest,
+            final AsyncHandler<TerminateEnvironmentRequest, TerminateEnvironmentResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<TerminateEnvironmentResult>() {
+            public TerminateEnvironmentResult call() throws Exception {
+                TerminateEnvironmentResult result;
+                try {
+                    result = terminateEnvironment(terminateEnvironmentRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(terminateEnvironmentRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Takes a set of configuration settings and either a configuration
@@ -795,17 +1725,132 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      * valid.
      * </p>
      * <p>
-     * This action returns a list of messages indicating any errors or
-     * warnings associated with the selection of option values.
+     * This action returns a list of messages indicating any errors or
+     * warnings associated with the selection of option values.
+     * </p>
+     *
+     * @param validateConfigurationSettingsRequest Container for the
+     *           necessary parameters to execute the ValidateConfigurationSettings
+     *           operation on AWSElasticBeanstalk.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ValidateConfigurationSettings service method, as returned by
+     *         AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ValidateConfigurationSettingsResult> validateConfigurationSettingsAsync(final ValidateConfigurationSettingsRequest validateConfigurationSettingsRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ValidateConfigurationSettingsResult>() {
+            public ValidateConfigurationSettingsResult call() throws Exception {
+                return validateConfigurationSettings(validateConfigurationSettingsRequest);
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Takes a set of configuration settings and either a configuration
+     * template or environment, and determines whether those values are
+     * valid.
+     * </p>
+     * <p>
+     * This action returns a list of messages indicating any errors or
+     * warnings associated with the selection of option values.
+     * </p>
+     *
+     * @param validateConfigurationSettingsRequest Container for the
+     *           necessary parameters to execute the ValidateConfigurationSettings
+     *           operation on AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ValidateConfigurationSettings service method, as returned by
+     *         AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ValidateConfigurationSettingsResult> validateConfigurationSettingsAsync(
+            final ValidateConfigurationSettingsRequest validateConfigurationSettingsRequest,
+            final AsyncHandler<ValidateConfigurationSettingsRequest, ValidateConfigurationSettingsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ValidateConfigurationSettingsResult>() {
+            public ValidateConfigurationSettingsResult call() throws Exception {
+                ValidateConfigurationSettingsResult result;
+                try {
+                    result = validateConfigurationSettings(validateConfigurationSettingsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(validateConfigurationSettingsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Causes the environment to restart the application container server
+     * running on each Amazon EC2 instance.
+     * </p>
+     *
+     * @param restartAppServerRequest Container for the necessary parameters
+     *           to execute the RestartAppServer operation on AWSElasticBeanstalk.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RestartAppServer service method, as returned by AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> restartAppServerAsync(final RestartAppServerRequest restartAppServerRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                restartAppServer(restartAppServerRequest);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Causes the environment to restart the application container server
+     * running on each Amazon EC2 instance.
      * </p>
      *
-     * @param validateConfigurationSettingsRequest Container for the
-     *           necessary parameters to execute the ValidateConfigurationSettings
-     *           operation on AWSElasticBeanstalk.
+     * @param restartAppServerRequest Container for the necessary parameters
+     *           to execute the RestartAppServer operation on AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
-     *         ValidateConfigurationSettings service method, as returned by
-     *         AWSElasticBeanstalk.
+     *         RestartAppServer service method, as returned by AWSElasticBeanstalk.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -815,26 +1860,46 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      *             If an error response is returned by AWSElasticBeanstalk indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ValidateConfigurationSettingsResult> validateConfigurationSettingsAsync(final ValidateConfigurationSettingsRequest validateConfigurationSettingsRequest) 
-            throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ValidateConfigurationSettingsResult>() {
-            public ValidateConfigurationSettingsResult call() throws Exception {
-                return validateConfigurationSettings(validateConfigurationSettingsRequest);
+    public Future<Void> restartAppServerAsync(
+            final RestartAppServerRequest restartAppServerRequest,
+            final AsyncHandler<RestartAppServerRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    restartAppServer(restartAppServerRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(restartAppServerRequest, null);
+                return null;
 		    }
 		});
     }
     
     /**
      * <p>
-     * Causes the environment to restart the application container server
-     * running on each Amazon EC2 instance.
+     * Deletes the draft configuration associated with the running
+     * environment.
+     * </p>
+     * <p>
+     * Updating a running environment with any configuration changes creates
+     * a draft configuration set. You can get the draft configuration using
+     * DescribeConfigurationSettings while the update is in progress or if
+     * the update fails. The <code>DeploymentStatus</code> for the draft
+     * configuration indicates whether the deployment is in process or has
+     * failed. The draft configuration remains in existence until it is
+     * deleted with this action.
      * </p>
      *
-     * @param restartAppServerRequest Container for the necessary parameters
-     *           to execute the RestartAppServer operation on AWSElasticBeanstalk.
+     * @param deleteEnvironmentConfigurationRequest Container for the
+     *           necessary parameters to execute the DeleteEnvironmentConfiguration
+     *           operation on AWSElasticBeanstalk.
      * 
      * @return A Java Future object containing the response from the
-     *         RestartAppServer service method, as returned by AWSElasticBeanstalk.
+     *         DeleteEnvironmentConfiguration service method, as returned by
+     *         AWSElasticBeanstalk.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -844,11 +1909,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      *             If an error response is returned by AWSElasticBeanstalk indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> restartAppServerAsync(final RestartAppServerRequest restartAppServerRequest) 
+    public Future<Void> deleteEnvironmentConfigurationAsync(final DeleteEnvironmentConfigurationRequest deleteEnvironmentConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<Void>() {
             public Void call() throws Exception {
-                restartAppServer(restartAppServerRequest);
+                deleteEnvironmentConfiguration(deleteEnvironmentConfigurationRequest);
                 return null;
 		    }
 		});
@@ -872,6 +1937,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      * @param deleteEnvironmentConfigurationRequest Container for the
      *           necessary parameters to execute the DeleteEnvironmentConfiguration
      *           operation on AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
      *         DeleteEnvironmentConfiguration service method, as returned by
@@ -885,11 +1955,19 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      *             If an error response is returned by AWSElasticBeanstalk indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteEnvironmentConfigurationAsync(final DeleteEnvironmentConfigurationRequest deleteEnvironmentConfigurationRequest) 
-            throws AmazonServiceException, AmazonClientException {
+    public Future<Void> deleteEnvironmentConfigurationAsync(
+            final DeleteEnvironmentConfigurationRequest deleteEnvironmentConfigurationRequest,
+            final AsyncHandler<DeleteEnvironmentConfigurationRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<Void>() {
             public Void call() throws Exception {
-                deleteEnvironmentConfiguration(deleteEnvironmentConfigurationRequest);
+                try {
+                    deleteEnvironmentConfiguration(deleteEnvironmentConfigurationRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteEnvironmentConfigurationRequest, null);
                 return null;
 		    }
 		});
@@ -937,6 +2015,63 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
 		});
     }
     
+    /**
+     * <p>
+     * Updates the environment description, deploys a new application
+     * version, updates the configuration settings to an entirely new
+     * configuration template, or updates select configuration option values
+     * in the running environment.
+     * </p>
+     * <p>
+     * Attempting to update both the release and configuration is not
+     * allowed and AWS Elastic Beanstalk returns an
+     * <code>InvalidParameterCombination</code> error.
+     * </p>
+     * <p>
+     * When updating the configuration settings to a new template or
+     * individual settings, a draft configuration is created and
+     * DescribeConfigurationSettings for this environment returns two setting
+     * descriptions with different <code>DeploymentStatus</code> values.
+     * </p>
+     *
+     * @param updateEnvironmentRequest Container for the necessary parameters
+     *           to execute the UpdateEnvironment operation on AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         UpdateEnvironment service method, as returned by AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<UpdateEnvironmentResult> updateEnvironmentAsync(
+            final UpdateEnvironmentRequest updateEnvironmentRequest,
+            final AsyncHandler<UpdateEnvironmentRequest, UpdateEnvironmentResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<UpdateEnvironmentResult>() {
+            public UpdateEnvironmentResult call() throws Exception {
+                UpdateEnvironmentResult result;
+                try {
+                    result = updateEnvironment(updateEnvironmentRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(updateEnvironmentRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Creates a configuration template. Templates are associated with a
@@ -979,6 +2114,63 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
 		});
     }
     
+    /**
+     * <p>
+     * Creates a configuration template. Templates are associated with a
+     * specific application and are used to deploy different versions of the
+     * application with the same configuration settings.
+     * </p>
+     * <p>
+     * Related Topics
+     * </p>
+     * 
+     * <ul>
+     * <li> DescribeConfigurationOptions </li>
+     * <li> DescribeConfigurationSettings </li>
+     * <li> ListAvailableSolutionStacks </li>
+     * 
+     * </ul>
+     *
+     * @param createConfigurationTemplateRequest Container for the necessary
+     *           parameters to execute the CreateConfigurationTemplate operation on
+     *           AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateConfigurationTemplate service method, as returned by
+     *         AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateConfigurationTemplateResult> createConfigurationTemplateAsync(
+            final CreateConfigurationTemplateRequest createConfigurationTemplateRequest,
+            final AsyncHandler<CreateConfigurationTemplateRequest, CreateConfigurationTemplateResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateConfigurationTemplateResult>() {
+            public CreateConfigurationTemplateResult call() throws Exception {
+                CreateConfigurationTemplateResult result;
+                try {
+                    result = createConfigurationTemplate(createConfigurationTemplateRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createConfigurationTemplateRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns a description of the settings for the specified configuration
@@ -1026,6 +2218,68 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
 		});
     }
     
+    /**
+     * <p>
+     * Returns a description of the settings for the specified configuration
+     * set, that is, either a configuration template or the configuration set
+     * associated with a running environment.
+     * </p>
+     * <p>
+     * When describing the settings for the configuration set associated
+     * with a running environment, it is possible to receive two sets of
+     * setting descriptions. One is the deployed configuration set, and the
+     * other is a draft configuration of an environment that is either in the
+     * process of deployment or that failed to deploy.
+     * </p>
+     * <p>
+     * Related Topics
+     * </p>
+     * 
+     * <ul>
+     * <li> DeleteEnvironmentConfiguration </li>
+     * 
+     * </ul>
+     *
+     * @param describeConfigurationSettingsRequest Container for the
+     *           necessary parameters to execute the DescribeConfigurationSettings
+     *           operation on AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeConfigurationSettings service method, as returned by
+     *         AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeConfigurationSettingsResult> describeConfigurationSettingsAsync(
+            final DescribeConfigurationSettingsRequest describeConfigurationSettingsRequest,
+            final AsyncHandler<DescribeConfigurationSettingsRequest, DescribeConfigurationSettingsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeConfigurationSettingsResult>() {
+            public DescribeConfigurationSettingsResult call() throws Exception {
+                DescribeConfigurationSettingsResult result;
+                try {
+                    result = describeConfigurationSettings(describeConfigurationSettingsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeConfigurationSettingsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns the descriptions of existing applications.
@@ -1056,6 +2310,51 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
 		});
     }
     
+    /**
+     * <p>
+     * Returns the descriptions of existing applications.
+     * </p>
+     *
+     * @param describeApplicationsRequest Container for the necessary
+     *           parameters to execute the DescribeApplications operation on
+     *           AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeApplications service method, as returned by
+     *         AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeApplicationsResult> describeApplicationsAsync(
+            final DescribeApplicationsRequest describeApplicationsRequest,
+            final AsyncHandler<DescribeApplicationsRequest, DescribeApplicationsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeApplicationsResult>() {
+            public DescribeApplicationsResult call() throws Exception {
+                DescribeApplicationsResult result;
+                try {
+                    result = describeApplications(describeApplicationsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeApplicationsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes and recreates all of the AWS resources (for example: the Auto
@@ -1088,6 +2387,51 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
 		});
     }
     
+    /**
+     * <p>
+     * Deletes and recreates all of the AWS resources (for example: the Auto
+     * Scaling group, load balancer, etc.) for a specified environment and
+     * forces a restart.
+     * </p>
+     *
+     * @param rebuildEnvironmentRequest Container for the necessary
+     *           parameters to execute the RebuildEnvironment operation on
+     *           AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RebuildEnvironment service method, as returned by AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> rebuildEnvironmentAsync(
+            final RebuildEnvironmentRequest rebuildEnvironmentRequest,
+            final AsyncHandler<RebuildEnvironmentRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    rebuildEnvironment(rebuildEnvironmentRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(rebuildEnvironmentRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns list of event descriptions matching criteria.
@@ -1120,5 +2464,52 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
 		});
     }
     
+    /**
+     * <p>
+     * Returns list of event descriptions matching criteria.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> This action returns the most recent 1,000 events from the
+     * specified NextToken.
+     * </p>
+     *
+     * @param describeEventsRequest Container for the necessary parameters to
+     *           execute the DescribeEvents operation on AWSElasticBeanstalk.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeEvents service method, as returned by AWSElasticBeanstalk.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AWSElasticBeanstalk indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeEventsResult> describeEventsAsync(
+            final DescribeEventsRequest describeEventsRequest,
+            final AsyncHandler<DescribeEventsRequest, DescribeEventsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeEventsResult>() {
+            public DescribeEventsResult call() throws Exception {
+                DescribeEventsResult result;
+                try {
+                    result = describeEvents(describeEventsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeEventsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
 }
         
\ No newline at end of file
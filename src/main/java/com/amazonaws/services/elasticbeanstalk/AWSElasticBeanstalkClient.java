@@ -75,6 +75,12 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers;
 
+    /**
+     * Handles error responses for all service calls, built once so its index
+     * of exception unmarshallers is shared across calls.
+     */
+    private final DefaultErrorResponseHandler errorResponseHandler;
+
     
     /** AWS signer for authenticating requests. */
     private QueryStringSigner signer;
@@ -128,6 +134,7 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
         exceptionUnmarshallers.add(new InvalidParameterCombinationExceptionUnmarshaller());
         
         exceptionUnmarshallers.add(new StandardErrorUnmarshaller());
+        errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
         setEndpoint("elasticbeanstalk.us-east-1.amazonaws.com");
 
         signer = new QueryStringSigner();
@@ -161,8 +168,8 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public CheckDNSAvailabilityResult checkDNSAvailability(CheckDNSAvailabilityRequest checkDNSAvailabilityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CheckDNSAvailabilityRequest> request = new CheckDNSAvailabilityRequestMarshaller().marshall(checkDNSAvailabilityRequest);
-        return invoke(request, new CheckDNSAvailabilityResultStaxUnmarshaller());
+        Request<CheckDNSAvailabilityRequest> request = CheckDNSAvailabilityRequestMarshaller.getInstance().marshall(checkDNSAvailabilityRequest);
+        return invoke(request, CheckDNSAvailabilityResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -195,8 +202,8 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public DescribeConfigurationOptionsResult describeConfigurationOptions(DescribeConfigurationOptionsRequest describeConfigurationOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeConfigurationOptionsRequest> request = new DescribeConfigurationOptionsRequestMarshaller().marshall(describeConfigurationOptionsRequest);
-        return invoke(request, new DescribeConfigurationOptionsResultStaxUnmarshaller());
+        Request<DescribeConfigurationOptionsRequest> request = DescribeConfigurationOptionsRequestMarshaller.getInstance().marshall(describeConfigurationOptionsRequest);
+        return invoke(request, DescribeConfigurationOptionsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -229,7 +236,7 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public void deleteConfigurationTemplate(DeleteConfigurationTemplateRequest deleteConfigurationTemplateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteConfigurationTemplateRequest> request = new DeleteConfigurationTemplateRequestMarshaller().marshall(deleteConfigurationTemplateRequest);
+        Request<DeleteConfigurationTemplateRequest> request = DeleteConfigurationTemplateRequestMarshaller.getInstance().marshall(deleteConfigurationTemplateRequest);
         invoke(request, null);
     }
     
@@ -261,8 +268,8 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public CreateEnvironmentResult createEnvironment(CreateEnvironmentRequest createEnvironmentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateEnvironmentRequest> request = new CreateEnvironmentRequestMarshaller().marshall(createEnvironmentRequest);
-        return invoke(request, new CreateEnvironmentResultStaxUnmarshaller());
+        Request<CreateEnvironmentRequest> request = CreateEnvironmentRequestMarshaller.getInstance().marshall(createEnvironmentRequest);
+        return invoke(request, CreateEnvironmentResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -293,8 +300,8 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public CreateStorageLocationResult createStorageLocation(CreateStorageLocationRequest createStorageLocationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateStorageLocationRequest> request = new CreateStorageLocationRequestMarshaller().marshall(createStorageLocationRequest);
-        return invoke(request, new CreateStorageLocationResultStaxUnmarshaller());
+        Request<CreateStorageLocationRequest> request = CreateStorageLocationRequestMarshaller.getInstance().marshall(createStorageLocationRequest);
+        return invoke(request, CreateStorageLocationResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -334,7 +341,7 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public void requestEnvironmentInfo(RequestEnvironmentInfoRequest requestEnvironmentInfoRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<RequestEnvironmentInfoRequest> request = new RequestEnvironmentInfoRequestMarshaller().marshall(requestEnvironmentInfoRequest);
+        Request<RequestEnvironmentInfoRequest> request = RequestEnvironmentInfoRequestMarshaller.getInstance().marshall(requestEnvironmentInfoRequest);
         invoke(request, null);
     }
     
@@ -372,8 +379,8 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public CreateApplicationVersionResult createApplicationVersion(CreateApplicationVersionRequest createApplicationVersionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateApplicationVersionRequest> request = new CreateApplicationVersionRequestMarshaller().marshall(createApplicationVersionRequest);
-        return invoke(request, new CreateApplicationVersionResultStaxUnmarshaller());
+        Request<CreateApplicationVersionRequest> request = CreateApplicationVersionRequestMarshaller.getInstance().marshall(createApplicationVersionRequest);
+        return invoke(request, CreateApplicationVersionResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -403,7 +410,7 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public void deleteApplicationVersion(DeleteApplicationVersionRequest deleteApplicationVersionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteApplicationVersionRequest> request = new DeleteApplicationVersionRequestMarshaller().marshall(deleteApplicationVersionRequest);
+        Request<DeleteApplicationVersionRequest> request = DeleteApplicationVersionRequestMarshaller.getInstance().marshall(deleteApplicationVersionRequest);
         invoke(request, null);
     }
     
@@ -430,8 +437,8 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public DescribeApplicationVersionsResult describeApplicationVersions(DescribeApplicationVersionsRequest describeApplicationVersionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeApplicationVersionsRequest> request = new DescribeApplicationVersionsRequestMarshaller().marshall(describeApplicationVersionsRequest);
-        return invoke(request, new DescribeApplicationVersionsResultStaxUnmarshaller());
+        Request<DescribeApplicationVersionsRequest> request = DescribeApplicationVersionsRequestMarshaller.getInstance().marshall(describeApplicationVersionsRequest);
+        return invoke(request, DescribeApplicationVersionsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -461,7 +468,7 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public void deleteApplication(DeleteApplicationRequest deleteApplicationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteApplicationRequest> request = new DeleteApplicationRequestMarshaller().marshall(deleteApplicationRequest);
+        Request<DeleteApplicationRequest> request = DeleteApplicationRequestMarshaller.getInstance().marshall(deleteApplicationRequest);
         invoke(request, null);
     }
     
@@ -496,8 +503,8 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public UpdateApplicationVersionResult updateApplicationVersion(UpdateApplicationVersionRequest updateApplicationVersionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<UpdateApplicationVersionRequest> request = new UpdateApplicationVersionRequestMarshaller().marshall(updateApplicationVersionRequest);
-        return invoke(request, new UpdateApplicationVersionResultStaxUnmarshaller());
+        Request<UpdateApplicationVersionRequest> request = UpdateApplicationVersionRequestMarshaller.getInstance().marshall(updateApplicationVersionRequest);
+        return invoke(request, UpdateApplicationVersionResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -532,8 +539,8 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public CreateApplicationResult createApplication(CreateApplicationRequest createApplicationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateApplicationRequest> request = new CreateApplicationRequestMarshaller().marshall(createApplicationRequest);
-        return invoke(request, new CreateApplicationResultStaxUnmarshaller());
+        Request<CreateApplicationRequest> request = CreateApplicationRequestMarshaller.getInstance().marshall(createApplicationRequest);
+        return invoke(request, CreateApplicationResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -577,8 +584,8 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public UpdateConfigurationTemplateResult updateConfigurationTemplate(UpdateConfigurationTemplateRequest updateConfigurationTemplateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<UpdateConfigurationTemplateRequest> request = new UpdateConfigurationTemplateRequestMarshaller().marshall(updateConfigurationTemplateRequest);
-        return invoke(request, new UpdateConfigurationTemplateResultStaxUnmarshaller());
+        Request<UpdateConfigurationTemplateRequest> request = UpdateConfigurationTemplateRequestMarshaller.getInstance().marshall(updateConfigurationTemplateRequest);
+        return invoke(request, UpdateConfigurationTemplateResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -615,8 +622,8 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public RetrieveEnvironmentInfoResult retrieveEnvironmentInfo(RetrieveEnvironmentInfoRequest retrieveEnvironmentInfoRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<RetrieveEnvironmentInfoRequest> request = new RetrieveEnvironmentInfoRequestMarshaller().marshall(retrieveEnvironmentInfoRequest);
-        return invoke(request, new RetrieveEnvironmentInfoResultStaxUnmarshaller());
+        Request<RetrieveEnvironmentInfoRequest> request = RetrieveEnvironmentInfoRequestMarshaller.getInstance().marshall(retrieveEnvironmentInfoRequest);
+        return invoke(request, RetrieveEnvironmentInfoResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -642,8 +649,8 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public ListAvailableSolutionStacksResult listAvailableSolutionStacks(ListAvailableSolutionStacksRequest listAvailableSolutionStacksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ListAvailableSolutionStacksRequest> request = new ListAvailableSolutionStacksRequestMarshaller().marshall(listAvailableSolutionStacksRequest);
-        return invoke(request, new ListAvailableSolutionStacksResultStaxUnmarshaller());
+        Request<ListAvailableSolutionStacksRequest> request = ListAvailableSolutionStacksRequestMarshaller.getInstance().marshall(listAvailableSolutionStacksRequest);
+        return invoke(request, ListAvailableSolutionStacksResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -676,8 +683,8 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public UpdateApplicationResult updateApplication(UpdateApplicationRequest updateApplicationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<UpdateApplicationRequest> request = new UpdateApplicationRequestMarshaller().marshall(updateApplicationRequest);
-        return invoke(request, new UpdateApplicationResultStaxUnmarshaller());
+        Request<UpdateApplicationRequest> request = UpdateApplicationRequestMarshaller.getInstance().marshall(updateApplicationRequest);
+        return invoke(request, UpdateApplicationResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -703,8 +710,8 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public DescribeEnvironmentsResult describeEnvironments(DescribeEnvironmentsRequest describeEnvironmentsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeEnvironmentsRequest> request = new DescribeEnvironmentsRequestMarshaller().marshall(describeEnvironmentsRequest);
-        return invoke(request, new DescribeEnvironmentsResultStaxUnmarshaller());
+        Request<DescribeEnvironmentsRequest> request = DescribeEnvironmentsRequestMarshaller.getInstance().marshall(describeEnvironmentsRequest);
+        return invoke(request, DescribeEnvironmentsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -732,8 +739,8 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public DescribeEnvironmentResourcesResult describeEnvironmentResources(DescribeEnvironmentResourcesRequest describeEnvironmentResourcesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeEnvironmentResourcesRequest> request = new DescribeEnvironmentResourcesRequestMarshaller().marshall(describeEnvironmentResourcesRequest);
-        return invoke(request, new DescribeEnvironmentResourcesResultStaxUnmarshaller());
+        Request<DescribeEnvironmentResourcesRequest> request = DescribeEnvironmentResourcesRequestMarshaller.getInstance().marshall(describeEnvironmentResourcesRequest);
+        return invoke(request, DescribeEnvironmentResourcesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -761,8 +768,8 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public TerminateEnvironmentResult terminateEnvironment(TerminateEnvironmentRequest terminateEnvironmentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<TerminateEnvironmentRequest> request = new TerminateEnvironmentRequestMarshaller().marshall(terminateEnvironmentRequest);
-        return invoke(request, new TerminateEnvironmentResultStaxUnmarshaller());
+        Request<TerminateEnvironmentRequest> request = TerminateEnvironmentRequestMarshaller.getInstance().marshall(terminateEnvironmentRequest);
+        return invoke(request, TerminateEnvironmentResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -794,8 +801,8 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public ValidateConfigurationSettingsResult validateConfigurationSettings(ValidateConfigurationSettingsRequest validateConfigurationSettingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ValidateConfigurationSettingsRequest> request = new ValidateConfigurationSettingsRequestMarshaller().marshall(validateConfigurationSettingsRequest);
-        return invoke(request, new ValidateConfigurationSettingsResultStaxUnmarshaller());
+        Request<ValidateConfigurationSettingsRequest> request = ValidateConfigurationSettingsRequestMarshaller.getInstance().marshall(validateConfigurationSettingsRequest);
+        return invoke(request, ValidateConfigurationSettingsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -820,7 +827,7 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public void restartAppServer(RestartAppServerRequest restartAppServerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<RestartAppServerRequest> request = new RestartAppServerRequestMarshaller().marshall(restartAppServerRequest);
+        Request<RestartAppServerRequest> request = RestartAppServerRequestMarshaller.getInstance().marshall(restartAppServerRequest);
         invoke(request, null);
     }
     
@@ -858,7 +865,7 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public void deleteEnvironmentConfiguration(DeleteEnvironmentConfigurationRequest deleteEnvironmentConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteEnvironmentConfigurationRequest> request = new DeleteEnvironmentConfigurationRequestMarshaller().marshall(deleteEnvironmentConfigurationRequest);
+        Request<DeleteEnvironmentConfigurationRequest> request = DeleteEnvironmentConfigurationRequestMarshaller.getInstance().marshall(deleteEnvironmentConfigurationRequest);
         invoke(request, null);
     }
     
@@ -902,8 +909,8 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public UpdateEnvironmentResult updateEnvironment(UpdateEnvironmentRequest updateEnvironmentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<UpdateEnvironmentRequest> request = new UpdateEnvironmentRequestMarshaller().marshall(updateEnvironmentRequest);
-        return invoke(request, new UpdateEnvironmentResultStaxUnmarshaller());
+        Request<UpdateEnvironmentRequest> request = UpdateEnvironmentRequestMarshaller.getInstance().marshall(updateEnvironmentRequest);
+        return invoke(request, UpdateEnvironmentResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -945,8 +952,8 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public CreateConfigurationTemplateResult createConfigurationTemplate(CreateConfigurationTemplateRequest createConfigurationTemplateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateConfigurationTemplateRequest> request = new CreateConfigurationTemplateRequestMarshaller().marshall(createConfigurationTemplateRequest);
-        return invoke(request, new CreateConfigurationTemplateResultStaxUnmarshaller());
+        Request<CreateConfigurationTemplateRequest> request = CreateConfigurationTemplateRequestMarshaller.getInstance().marshall(createConfigurationTemplateRequest);
+        return invoke(request, CreateConfigurationTemplateResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -992,8 +999,8 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public DescribeConfigurationSettingsResult describeConfigurationSettings(DescribeConfigurationSettingsRequest describeConfigurationSettingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeConfigurationSettingsRequest> request = new DescribeConfigurationSettingsRequestMarshaller().marshall(describeConfigurationSettingsRequest);
-        return invoke(request, new DescribeConfigurationSettingsResultStaxUnmarshaller());
+        Request<DescribeConfigurationSettingsRequest> request = DescribeConfigurationSettingsRequestMarshaller.getInstance().marshall(describeConfigurationSettingsRequest);
+        return invoke(request, DescribeConfigurationSettingsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1019,8 +1026,8 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public DescribeApplicationsResult describeApplications(DescribeApplicationsRequest describeApplicationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeApplicationsRequest> request = new DescribeApplicationsRequestMarshaller().marshall(describeApplicationsRequest);
-        return invoke(request, new DescribeApplicationsResultStaxUnmarshaller());
+        Request<DescribeApplicationsRequest> request = DescribeApplicationsRequestMarshaller.getInstance().marshall(describeApplicationsRequest);
+        return invoke(request, DescribeApplicationsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1047,7 +1054,7 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public void rebuildEnvironment(RebuildEnvironmentRequest rebuildEnvironmentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<RebuildEnvironmentRequest> request = new RebuildEnvironmentRequestMarshaller().marshall(rebuildEnvironmentRequest);
+        Request<RebuildEnvironmentRequest> request = RebuildEnvironmentRequestMarshaller.getInstance().marshall(rebuildEnvironmentRequest);
         invoke(request, null);
     }
     
@@ -1077,8 +1084,8 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
      */
     public DescribeEventsResult describeEvents(DescribeEventsRequest describeEventsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeEventsRequest> request = new DescribeEventsRequestMarshaller().marshall(describeEventsRequest);
-        return invoke(request, new DescribeEventsResultStaxUnmarshaller());
+        Request<DescribeEventsRequest> request = DescribeEventsRequestMarshaller.getInstance().marshall(describeEventsRequest);
+        return invoke(request, DescribeEventsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1259,7 +1266,6 @@ public class AWSElasticBeanstalkClient extends AmazonWebServiceClient implements
 
         
         StaxResponseHandler<X> responseHandler = new StaxResponseHandler<X>(unmarshaller);
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
 
         ExecutionContext executionContext = createExecutionContext();
         return (X)client.execute(request, responseHandler, errorResponseHandler, executionContext);
@@ -79,9 +79,8 @@ public class ApplicationDescriptionStaxUnmarshaller implements Unmarshaller<Appl
         }
     }
 
-    private static ApplicationDescriptionStaxUnmarshaller instance;
+    private static final ApplicationDescriptionStaxUnmarshaller instance = new ApplicationDescriptionStaxUnmarshaller();
     public static ApplicationDescriptionStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ApplicationDescriptionStaxUnmarshaller();
         return instance;
     }
 }
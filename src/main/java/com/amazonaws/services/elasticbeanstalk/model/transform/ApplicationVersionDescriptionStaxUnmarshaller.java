@@ -79,9 +79,8 @@ public class ApplicationVersionDescriptionStaxUnmarshaller implements Unmarshall
         }
     }
 
-    private static ApplicationVersionDescriptionStaxUnmarshaller instance;
+    private static final ApplicationVersionDescriptionStaxUnmarshaller instance = new ApplicationVersionDescriptionStaxUnmarshaller();
     public static ApplicationVersionDescriptionStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ApplicationVersionDescriptionStaxUnmarshaller();
         return instance;
     }
 }
@@ -59,9 +59,8 @@ public class AutoScalingGroupStaxUnmarshaller implements Unmarshaller<AutoScalin
         }
     }
 
-    private static AutoScalingGroupStaxUnmarshaller instance;
+    private static final AutoScalingGroupStaxUnmarshaller instance = new AutoScalingGroupStaxUnmarshaller();
     public static AutoScalingGroupStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new AutoScalingGroupStaxUnmarshaller();
         return instance;
     }
 }
@@ -42,4 +42,9 @@ public class CheckDNSAvailabilityRequestMarshaller implements Marshaller<Request
 
         return request;
     }
+
+    private static final CheckDNSAvailabilityRequestMarshaller instance = new CheckDNSAvailabilityRequestMarshaller();
+    public static CheckDNSAvailabilityRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -63,9 +63,8 @@ public class CheckDNSAvailabilityResultStaxUnmarshaller implements Unmarshaller<
         }
     }
 
-    private static CheckDNSAvailabilityResultStaxUnmarshaller instance;
+    private static final CheckDNSAvailabilityResultStaxUnmarshaller instance = new CheckDNSAvailabilityResultStaxUnmarshaller();
     public static CheckDNSAvailabilityResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CheckDNSAvailabilityResultStaxUnmarshaller();
         return instance;
     }
 }
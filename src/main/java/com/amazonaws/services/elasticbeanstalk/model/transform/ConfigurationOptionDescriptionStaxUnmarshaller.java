@@ -99,9 +99,8 @@ public class ConfigurationOptionDescriptionStaxUnmarshaller implements Unmarshal
         }
     }
 
-    private static ConfigurationOptionDescriptionStaxUnmarshaller instance;
+    private static final ConfigurationOptionDescriptionStaxUnmarshaller instance = new ConfigurationOptionDescriptionStaxUnmarshaller();
     public static ConfigurationOptionDescriptionStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ConfigurationOptionDescriptionStaxUnmarshaller();
         return instance;
     }
 }
@@ -67,9 +67,8 @@ public class ConfigurationOptionSettingStaxUnmarshaller implements Unmarshaller<
         }
     }
 
-    private static ConfigurationOptionSettingStaxUnmarshaller instance;
+    private static final ConfigurationOptionSettingStaxUnmarshaller instance = new ConfigurationOptionSettingStaxUnmarshaller();
     public static ConfigurationOptionSettingStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ConfigurationOptionSettingStaxUnmarshaller();
         return instance;
     }
 }
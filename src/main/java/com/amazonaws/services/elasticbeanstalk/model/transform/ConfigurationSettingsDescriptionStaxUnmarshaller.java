@@ -91,9 +91,8 @@ public class ConfigurationSettingsDescriptionStaxUnmarshaller implements Unmarsh
         }
     }
 
-    private static ConfigurationSettingsDescriptionStaxUnmarshaller instance;
+    private static final ConfigurationSettingsDescriptionStaxUnmarshaller instance = new ConfigurationSettingsDescriptionStaxUnmarshaller();
     public static ConfigurationSettingsDescriptionStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ConfigurationSettingsDescriptionStaxUnmarshaller();
         return instance;
     }
 }
@@ -47,4 +47,9 @@ public class CreateApplicationRequestMarshaller implements Marshaller<Request<Cr
 
         return request;
     }
+
+    private static final CreateApplicationRequestMarshaller instance = new CreateApplicationRequestMarshaller();
+    public static CreateApplicationRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class CreateApplicationResultStaxUnmarshaller implements Unmarshaller<Cre
         }
     }
 
-    private static CreateApplicationResultStaxUnmarshaller instance;
+    private static final CreateApplicationResultStaxUnmarshaller instance = new CreateApplicationResultStaxUnmarshaller();
     public static CreateApplicationResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateApplicationResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -70,4 +70,9 @@ public class CreateApplicationVersionRequestMarshaller implements Marshaller<Req
 
         return request;
     }
+
+    private static final CreateApplicationVersionRequestMarshaller instance = new CreateApplicationVersionRequestMarshaller();
+    public static CreateApplicationVersionRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class CreateApplicationVersionResultStaxUnmarshaller implements Unmarshal
         }
     }
 
-    private static CreateApplicationVersionResultStaxUnmarshaller instance;
+    private static final CreateApplicationVersionResultStaxUnmarshaller instance = new CreateApplicationVersionResultStaxUnmarshaller();
     public static CreateApplicationVersionResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateApplicationVersionResultStaxUnmarshaller();
         return instance;
     }
 }
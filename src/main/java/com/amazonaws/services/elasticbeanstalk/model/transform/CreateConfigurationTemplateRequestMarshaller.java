@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.elasticbeanstalk.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,10 @@ import com.amazonaws.util.StringUtils;
  */
 public class CreateConfigurationTemplateRequestMarshaller implements Marshaller<Request<CreateConfigurationTemplateRequest>, CreateConfigurationTemplateRequest> {
 
+    private static final ParameterNameTable OPTION_SETTINGS_MEMBER_NAMESPACE_NAMES = new ParameterNameTable("OptionSettings.member.", ".Namespace");
+    private static final ParameterNameTable OPTION_SETTINGS_MEMBER_OPTION_NAME_NAMES = new ParameterNameTable("OptionSettings.member.", ".OptionName");
+    private static final ParameterNameTable OPTION_SETTINGS_MEMBER_VALUE_NAMES = new ParameterNameTable("OptionSettings.member.", ".Value");
+
     public Request<CreateConfigurationTemplateRequest> marshall(CreateConfigurationTemplateRequest createConfigurationTemplateRequest) {
         Request<CreateConfigurationTemplateRequest> request = new DefaultRequest<CreateConfigurationTemplateRequest>(createConfigurationTemplateRequest, "AWSElasticBeanstalk");
         request.addParameter("Action", "CreateConfigurationTemplate");
@@ -73,17 +78,17 @@ public class CreateConfigurationTemplateRequestMarshaller implements Marshaller<
             for (ConfigurationOptionSetting optionSettingsListValue : optionSettingsList) {
                 if (optionSettingsListValue != null) {
                     if (optionSettingsListValue.getNamespace() != null) {
-                        request.addParameter("OptionSettings.member." + optionSettingsListIndex + ".Namespace", StringUtils.fromString(optionSettingsListValue.getNamespace()));
+                        request.addParameter(OPTION_SETTINGS_MEMBER_NAMESPACE_NAMES.get(optionSettingsListIndex), StringUtils.fromString(optionSettingsListValue.getNamespace()));
                     }
                 }
                 if (optionSettingsListValue != null) {
                     if (optionSettingsListValue.getOptionName() != null) {
-                        request.addParameter("OptionSettings.member." + optionSettingsListIndex + ".OptionName", StringUtils.fromString(optionSettingsListValue.getOptionName()));
+                        request.addParameter(OPTION_SETTINGS_MEMBER_OPTION_NAME_NAMES.get(optionSettingsListIndex), StringUtils.fromString(optionSettingsListValue.getOptionName()));
                     }
                 }
                 if (optionSettingsListValue != null) {
                     if (optionSettingsListValue.getValue() != null) {
-                        request.addParameter("OptionSettings.member." + optionSettingsListIndex + ".Value", StringUtils.fromString(optionSettingsListValue.getValue()));
+                        request.addParameter(OPTION_SETTINGS_MEMBER_VALUE_NAMES.get(optionSettingsListIndex), StringUtils.fromString(optionSettingsListValue.getValue()));
                     }
                 }
 
@@ -94,4 +99,9 @@ public class CreateConfigurationTemplateRequestMarshaller implements Marshaller<
 
         return request;
     }
+
+    private static final CreateConfigurationTemplateRequestMarshaller instance = new CreateConfigurationTemplateRequestMarshaller();
+    public static CreateConfigurationTemplateRequestMarshaller getInstance() {
+        return instance;
+    }
 }
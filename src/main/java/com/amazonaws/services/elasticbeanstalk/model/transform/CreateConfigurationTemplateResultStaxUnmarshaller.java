@@ -91,9 +91,8 @@ public class CreateConfigurationTemplateResultStaxUnmarshaller implements Unmars
         }
     }
 
-    private static CreateConfigurationTemplateResultStaxUnmarshaller instance;
+    private static final CreateConfigurationTemplateResultStaxUnmarshaller instance = new CreateConfigurationTemplateResultStaxUnmarshaller();
     public static CreateConfigurationTemplateResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateConfigurationTemplateResultStaxUnmarshaller();
         return instance;
     }
 }
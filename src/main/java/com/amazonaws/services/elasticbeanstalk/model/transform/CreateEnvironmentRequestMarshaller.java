@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.elasticbeanstalk.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,12 @@ import com.amazonaws.util.StringUtils;
  */
 public class CreateEnvironmentRequestMarshaller implements Marshaller<Request<CreateEnvironmentRequest>, CreateEnvironmentRequest> {
 
+    private static final ParameterNameTable OPTION_SETTINGS_MEMBER_NAMESPACE_NAMES = new ParameterNameTable("OptionSettings.member.", ".Namespace");
+    private static final ParameterNameTable OPTION_SETTINGS_MEMBER_OPTION_NAME_NAMES = new ParameterNameTable("OptionSettings.member.", ".OptionName");
+    private static final ParameterNameTable OPTION_SETTINGS_MEMBER_VALUE_NAMES = new ParameterNameTable("OptionSettings.member.", ".Value");
+    private static final ParameterNameTable OPTIONS_TO_REMOVE_MEMBER_NAMESPACE_NAMES = new ParameterNameTable("OptionsToRemove.member.", ".Namespace");
+    private static final ParameterNameTable OPTIONS_TO_REMOVE_MEMBER_OPTION_NAME_NAMES = new ParameterNameTable("OptionsToRemove.member.", ".OptionName");
+
     public Request<CreateEnvironmentRequest> marshall(CreateEnvironmentRequest createEnvironmentRequest) {
         Request<CreateEnvironmentRequest> request = new DefaultRequest<CreateEnvironmentRequest>(createEnvironmentRequest, "AWSElasticBeanstalk");
         request.addParameter("Action", "CreateEnvironment");
@@ -75,17 +82,17 @@ public class CreateEnvironmentRequestMarshaller implements Marshaller<Request<Cr
             for (ConfigurationOptionSetting optionSettingsListValue : optionSettingsList) {
                 if (optionSettingsListValue != null) {
                     if (optionSettingsListValue.getNamespace() != null) {
-                        request.addParameter("OptionSettings.member." + optionSettingsListIndex + ".Namespace", StringUtils.fromString(optionSettingsListValue.getNamespace()));
+                        request.addParameter(OPTION_SETTINGS_MEMBER_NAMESPACE_NAMES.get(optionSettingsListIndex), StringUtils.fromString(optionSettingsListValue.getNamespace()));
                     }
                 }
                 if (optionSettingsListValue != null) {
                     if (optionSettingsListValue.getOptionName() != null) {
-                        request.addParameter("OptionSettings.member." + optionSettingsListIndex + ".OptionName", StringUtils.fromString(optionSettingsListValue.getOptionName()));
+                        request.addParameter(OPTION_SETTINGS_MEMBER_OPTION_NAME_NAMES.get(optionSettingsListIndex), StringUtils.fromString(optionSettingsListValue.getOptionName()));
                     }
                 }
                 if (optionSettingsListValue != null) {
                     if (optionSettingsListValue.getValue() != null) {
-                        request.addParameter("OptionSettings.member." + optionSettingsListIndex + ".Value", StringUtils.fromString(optionSettingsListValue.getValue()));
+                        request.addParameter(OPTION_SETTINGS_MEMBER_VALUE_NAMES.get(optionSettingsListIndex), StringUtils.fromString(optionSettingsListValue.getValue()));
                     }
                 }
 
@@ -99,12 +106,12 @@ public class CreateEnvironmentRequestMarshaller implements Marshaller<Request<Cr
             for (OptionSpecification optionsToRemoveListValue : optionsToRemoveList) {
                 if (optionsToRemoveListValue != null) {
                     if (optionsToRemoveListValue.getNamespace() != null) {
-                        request.addParameter("OptionsToRemove.member." + optionsToRemoveListIndex + ".Namespace", StringUtils.fromString(optionsToRemoveListValue.getNamespace()));
+                        request.addParameter(OPTIONS_TO_REMOVE_MEMBER_NAMESPACE_NAMES.get(optionsToRemoveListIndex), StringUtils.fromString(optionsToRemoveListValue.getNamespace()));
                     }
                 }
                 if (optionsToRemoveListValue != null) {
                     if (optionsToRemoveListValue.getOptionName() != null) {
-                        request.addParameter("OptionsToRemove.member." + optionsToRemoveListIndex + ".OptionName", StringUtils.fromString(optionsToRemoveListValue.getOptionName()));
+                        request.addParameter(OPTIONS_TO_REMOVE_MEMBER_OPTION_NAME_NAMES.get(optionsToRemoveListIndex), StringUtils.fromString(optionsToRemoveListValue.getOptionName()));
                     }
                 }
 
@@ -115,4 +122,9 @@ public class CreateEnvironmentRequestMarshaller implements Marshaller<Request<Cr
 
         return request;
     }
+
+    private static final CreateEnvironmentRequestMarshaller instance = new CreateEnvironmentRequestMarshaller();
+    public static CreateEnvironmentRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -107,9 +107,8 @@ public class CreateEnvironmentResultStaxUnmarshaller implements Unmarshaller<Cre
         }
     }
 
-    private static CreateEnvironmentResultStaxUnmarshaller instance;
+    private static final CreateEnvironmentResultStaxUnmarshaller instance = new CreateEnvironmentResultStaxUnmarshaller();
     public static CreateEnvironmentResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateEnvironmentResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -37,4 +37,9 @@ public class CreateStorageLocationRequestMarshaller implements Marshaller<Reques
 
         return request;
     }
+
+    private static final CreateStorageLocationRequestMarshaller instance = new CreateStorageLocationRequestMarshaller();
+    public static CreateStorageLocationRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class CreateStorageLocationResultStaxUnmarshaller implements Unmarshaller
         }
     }
 
-    private static CreateStorageLocationResultStaxUnmarshaller instance;
+    private static final CreateStorageLocationResultStaxUnmarshaller instance = new CreateStorageLocationResultStaxUnmarshaller();
     public static CreateStorageLocationResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateStorageLocationResultStaxUnmarshaller();
         return instance;
     }
 }
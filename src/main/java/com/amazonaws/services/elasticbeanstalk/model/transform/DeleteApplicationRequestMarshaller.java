@@ -42,4 +42,9 @@ public class DeleteApplicationRequestMarshaller implements Marshaller<Request<De
 
         return request;
     }
+
+    private static final DeleteApplicationRequestMarshaller instance = new DeleteApplicationRequestMarshaller();
+    public static DeleteApplicationRequestMarshaller getInstance() {
+        return instance;
+    }
 }
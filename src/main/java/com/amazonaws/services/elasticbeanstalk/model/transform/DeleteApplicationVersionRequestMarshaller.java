@@ -52,4 +52,9 @@ public class DeleteApplicationVersionRequestMarshaller implements Marshaller<Req
 
         return request;
     }
+
+    private static final DeleteApplicationVersionRequestMarshaller instance = new DeleteApplicationVersionRequestMarshaller();
+    public static DeleteApplicationVersionRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -47,4 +47,9 @@ public class DeleteConfigurationTemplateRequestMarshaller implements Marshaller<
 
         return request;
     }
+
+    private static final DeleteConfigurationTemplateRequestMarshaller instance = new DeleteConfigurationTemplateRequestMarshaller();
+    public static DeleteConfigurationTemplateRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -47,4 +47,9 @@ public class DeleteEnvironmentConfigurationRequestMarshaller implements Marshall
 
         return request;
     }
+
+    private static final DeleteEnvironmentConfigurationRequestMarshaller instance = new DeleteEnvironmentConfigurationRequestMarshaller();
+    public static DeleteEnvironmentConfigurationRequestMarshaller getInstance() {
+        return instance;
+    }
 }
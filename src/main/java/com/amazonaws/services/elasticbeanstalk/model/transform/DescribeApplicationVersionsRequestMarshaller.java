@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.elasticbeanstalk.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeApplicationVersionsRequestMarshaller implements Marshaller<Request<DescribeApplicationVersionsRequest>, DescribeApplicationVersionsRequest> {
 
+    private static final ParameterNameTable VERSION_LABELS_MEMBER_NAMES = new ParameterNameTable("VersionLabels.member.", "");
+
     public Request<DescribeApplicationVersionsRequest> marshall(DescribeApplicationVersionsRequest describeApplicationVersionsRequest) {
         Request<DescribeApplicationVersionsRequest> request = new DefaultRequest<DescribeApplicationVersionsRequest>(describeApplicationVersionsRequest, "AWSElasticBeanstalk");
         request.addParameter("Action", "DescribeApplicationVersions");
@@ -44,7 +47,7 @@ public class DescribeApplicationVersionsRequestMarshaller implements Marshaller<
 
             for (String versionLabelsListValue : versionLabelsList) {
                 if (versionLabelsListValue != null) {
-                    request.addParameter("VersionLabels.member." + versionLabelsListIndex, StringUtils.fromString(versionLabelsListValue));
+                    request.addParameter(VERSION_LABELS_MEMBER_NAMES.get(versionLabelsListIndex), StringUtils.fromString(versionLabelsListValue));
                 }
                 versionLabelsListIndex++;
             }
@@ -53,4 +56,9 @@ public class DescribeApplicationVersionsRequestMarshaller implements Marshaller<
 
         return request;
     }
+
+    private static final DescribeApplicationVersionsRequestMarshaller instance = new DescribeApplicationVersionsRequestMarshaller();
+    public static DescribeApplicationVersionsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class DescribeApplicationVersionsResultStaxUnmarshaller implements Unmars
         }
     }
 
-    private static DescribeApplicationVersionsResultStaxUnmarshaller instance;
+    private static final DescribeApplicationVersionsResultStaxUnmarshaller instance = new DescribeApplicationVersionsResultStaxUnmarshaller();
     public static DescribeApplicationVersionsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeApplicationVersionsResultStaxUnmarshaller();
         return instance;
     }
 }
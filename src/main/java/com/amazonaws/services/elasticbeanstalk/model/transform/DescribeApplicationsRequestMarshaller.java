@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.elasticbeanstalk.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeApplicationsRequestMarshaller implements Marshaller<Request<DescribeApplicationsRequest>, DescribeApplicationsRequest> {
 
+    private static final ParameterNameTable APPLICATION_NAMES_MEMBER_NAMES = new ParameterNameTable("ApplicationNames.member.", "");
+
     public Request<DescribeApplicationsRequest> marshall(DescribeApplicationsRequest describeApplicationsRequest) {
         Request<DescribeApplicationsRequest> request = new DefaultRequest<DescribeApplicationsRequest>(describeApplicationsRequest, "AWSElasticBeanstalk");
         request.addParameter("Action", "DescribeApplications");
@@ -39,7 +42,7 @@ public class DescribeApplicationsRequestMarshaller implements Marshaller<Request
 
             for (String applicationNamesListValue : applicationNamesList) {
                 if (applicationNamesListValue != null) {
-                    request.addParameter("ApplicationNames.member." + applicationNamesListIndex, StringUtils.fromString(applicationNamesListValue));
+                    request.addParameter(APPLICATION_NAMES_MEMBER_NAMES.get(applicationNamesListIndex), StringUtils.fromString(applicationNamesListValue));
                 }
                 applicationNamesListIndex++;
             }
@@ -48,4 +51,9 @@ public class DescribeApplicationsRequestMarshaller implements Marshaller<Request
 
         return request;
     }
+
+    private static final DescribeApplicationsRequestMarshaller instance = new DescribeApplicationsRequestMarshaller();
+    public static DescribeApplicationsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class DescribeApplicationsResultStaxUnmarshaller implements Unmarshaller<
         }
     }
 
-    private static DescribeApplicationsResultStaxUnmarshaller instance;
+    private static final DescribeApplicationsResultStaxUnmarshaller instance = new DescribeApplicationsResultStaxUnmarshaller();
     public static DescribeApplicationsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeApplicationsResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.elasticbeanstalk.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,9 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeConfigurationOptionsRequestMarshaller implements Marshaller<Request<DescribeConfigurationOptionsRequest>, DescribeConfigurationOptionsRequest> {
 
+    private static final ParameterNameTable OPTIONS_MEMBER_NAMESPACE_NAMES = new ParameterNameTable("Options.member.", ".Namespace");
+    private static final ParameterNameTable OPTIONS_MEMBER_OPTION_NAME_NAMES = new ParameterNameTable("Options.member.", ".OptionName");
+
     public Request<DescribeConfigurationOptionsRequest> marshall(DescribeConfigurationOptionsRequest describeConfigurationOptionsRequest) {
         Request<DescribeConfigurationOptionsRequest> request = new DefaultRequest<DescribeConfigurationOptionsRequest>(describeConfigurationOptionsRequest, "AWSElasticBeanstalk");
         request.addParameter("Action", "DescribeConfigurationOptions");
@@ -60,12 +64,12 @@ public class DescribeConfigurationOptionsRequestMarshaller implements Marshaller
             for (OptionSpecification optionsListValue : optionsList) {
                 if (optionsListValue != null) {
                     if (optionsListValue.getNamespace() != null) {
-                        request.addParameter("Options.member." + optionsListIndex + ".Namespace", StringUtils.fromString(optionsListValue.getNamespace()));
+                        request.addParameter(OPTIONS_MEMBER_NAMESPACE_NAMES.get(optionsListIndex), StringUtils.fromString(optionsListValue.getNamespace()));
                     }
                 }
                 if (optionsListValue != null) {
                     if (optionsListValue.getOptionName() != null) {
-                        request.addParameter("Options.member." + optionsListIndex + ".OptionName", StringUtils.fromString(optionsListValue.getOptionName()));
+                        request.addParameter(OPTIONS_MEMBER_OPTION_NAME_NAMES.get(optionsListIndex), StringUtils.fromString(optionsListValue.getOptionName()));
                     }
                 }
 
@@ -76,4 +80,9 @@ public class DescribeConfigurationOptionsRequestMarshaller implements Marshaller
 
         return request;
     }
+
+    private static final DescribeConfigurationOptionsRequestMarshaller instance = new DescribeConfigurationOptionsRequestMarshaller();
+    public static DescribeConfigurationOptionsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
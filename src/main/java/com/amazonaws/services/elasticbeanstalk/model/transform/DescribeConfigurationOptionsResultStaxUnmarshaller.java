@@ -63,9 +63,8 @@ public class DescribeConfigurationOptionsResultStaxUnmarshaller implements Unmar
         }
     }
 
-    private static DescribeConfigurationOptionsResultStaxUnmarshaller instance;
+    private static final DescribeConfigurationOptionsResultStaxUnmarshaller instance = new DescribeConfigurationOptionsResultStaxUnmarshaller();
     public static DescribeConfigurationOptionsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeConfigurationOptionsResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -52,4 +52,9 @@ public class DescribeConfigurationSettingsRequestMarshaller implements Marshalle
 
         return request;
     }
+
+    private static final DescribeConfigurationSettingsRequestMarshaller instance = new DescribeConfigurationSettingsRequestMarshaller();
+    public static DescribeConfigurationSettingsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
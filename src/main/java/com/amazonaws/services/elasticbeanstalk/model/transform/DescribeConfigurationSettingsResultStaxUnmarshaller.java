@@ -59,9 +59,8 @@ public class DescribeConfigurationSettingsResultStaxUnmarshaller implements Unma
         }
     }
 
-    private static DescribeConfigurationSettingsResultStaxUnmarshaller instance;
+    private static final DescribeConfigurationSettingsResultStaxUnmarshaller instance = new DescribeConfigurationSettingsResultStaxUnmarshaller();
     public static DescribeConfigurationSettingsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeConfigurationSettingsResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -47,4 +47,9 @@ public class DescribeEnvironmentResourcesRequestMarshaller implements Marshaller
 
         return request;
     }
+
+    private static final DescribeEnvironmentResourcesRequestMarshaller instance = new DescribeEnvironmentResourcesRequestMarshaller();
+    public static DescribeEnvironmentResourcesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
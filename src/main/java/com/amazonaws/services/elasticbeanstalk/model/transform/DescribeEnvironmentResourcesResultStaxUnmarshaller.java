@@ -59,9 +59,8 @@ public class DescribeEnvironmentResourcesResultStaxUnmarshaller implements Unmar
         }
     }
 
-    private static DescribeEnvironmentResourcesResultStaxUnmarshaller instance;
+    private static final DescribeEnvironmentResourcesResultStaxUnmarshaller instance = new DescribeEnvironmentResourcesResultStaxUnmarshaller();
     public static DescribeEnvironmentResourcesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeEnvironmentResourcesResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.elasticbeanstalk.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,9 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeEnvironmentsRequestMarshaller implements Marshaller<Request<DescribeEnvironmentsRequest>, DescribeEnvironmentsRequest> {
 
+    private static final ParameterNameTable ENVIRONMENT_IDS_MEMBER_NAMES = new ParameterNameTable("EnvironmentIds.member.", "");
+    private static final ParameterNameTable ENVIRONMENT_NAMES_MEMBER_NAMES = new ParameterNameTable("EnvironmentNames.member.", "");
+
     public Request<DescribeEnvironmentsRequest> marshall(DescribeEnvironmentsRequest describeEnvironmentsRequest) {
         Request<DescribeEnvironmentsRequest> request = new DefaultRequest<DescribeEnvironmentsRequest>(describeEnvironmentsRequest, "AWSElasticBeanstalk");
         request.addParameter("Action", "DescribeEnvironments");
@@ -49,7 +53,7 @@ public class DescribeEnvironmentsRequestMarshaller implements Marshaller<Request
 
             for (String environmentIdsListValue : environmentIdsList) {
                 if (environmentIdsListValue != null) {
-                    request.addParameter("EnvironmentIds.member." + environmentIdsListIndex, StringUtils.fromString(environmentIdsListValue));
+                    request.addParameter(ENVIRONMENT_IDS_MEMBER_NAMES.get(environmentIdsListIndex), StringUtils.fromString(environmentIdsListValue));
                 }
                 environmentIdsListIndex++;
             }
@@ -60,7 +64,7 @@ public class DescribeEnvironmentsRequestMarshaller implements Marshaller<Request
 
             for (String environmentNamesListValue : environmentNamesList) {
                 if (environmentNamesListValue != null) {
-                    request.addParameter("EnvironmentNames.member." + environmentNamesListIndex, StringUtils.fromString(environmentNamesListValue));
+                    request.addParameter(ENVIRONMENT_NAMES_MEMBER_NAMES.get(environmentNamesListIndex), StringUtils.fromString(environmentNamesListValue));
                 }
                 environmentNamesListIndex++;
             }
@@ -79,4 +83,9 @@ public class DescribeEnvironmentsRequestMarshaller implements Marshaller<Request
 
         return request;
     }
+
+    private static final DescribeEnvironmentsRequestMarshaller instance = new DescribeEnvironmentsRequestMarshaller();
+    public static DescribeEnvironmentsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class DescribeEnvironmentsResultStaxUnmarshaller implements Unmarshaller<
         }
     }
 
-    private static DescribeEnvironmentsResultStaxUnmarshaller instance;
+    private static final DescribeEnvironmentsResultStaxUnmarshaller instance = new DescribeEnvironmentsResultStaxUnmarshaller();
     public static DescribeEnvironmentsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeEnvironmentsResultStaxUnmarshaller();
         return instance;
     }
 }
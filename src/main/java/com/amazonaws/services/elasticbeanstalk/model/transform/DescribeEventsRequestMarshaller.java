@@ -87,4 +87,9 @@ public class DescribeEventsRequestMarshaller implements Marshaller<Request<Descr
 
         return request;
     }
+
+    private static final DescribeEventsRequestMarshaller instance = new DescribeEventsRequestMarshaller();
+    public static DescribeEventsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
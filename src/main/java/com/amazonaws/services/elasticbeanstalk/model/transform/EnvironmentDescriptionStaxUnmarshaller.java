@@ -107,9 +107,8 @@ public class EnvironmentDescriptionStaxUnmarshaller implements Unmarshaller<Envi
         }
     }
 
-    private static EnvironmentDescriptionStaxUnmarshaller instance;
+    private static final EnvironmentDescriptionStaxUnmarshaller instance = new EnvironmentDescriptionStaxUnmarshaller();
     public static EnvironmentDescriptionStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new EnvironmentDescriptionStaxUnmarshaller();
         return instance;
     }
 }
@@ -71,9 +71,8 @@ public class EnvironmentInfoDescriptionStaxUnmarshaller implements Unmarshaller<
         }
     }
 
-    private static EnvironmentInfoDescriptionStaxUnmarshaller instance;
+    private static final EnvironmentInfoDescriptionStaxUnmarshaller instance = new EnvironmentInfoDescriptionStaxUnmarshaller();
     public static EnvironmentInfoDescriptionStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new EnvironmentInfoDescriptionStaxUnmarshaller();
         return instance;
     }
 }
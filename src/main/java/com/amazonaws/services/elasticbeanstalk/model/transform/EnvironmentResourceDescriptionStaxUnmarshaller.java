@@ -79,9 +79,8 @@ public class EnvironmentResourceDescriptionStaxUnmarshaller implements Unmarshal
         }
     }
 
-    private static EnvironmentResourceDescriptionStaxUnmarshaller instance;
+    private static final EnvironmentResourceDescriptionStaxUnmarshaller instance = new EnvironmentResourceDescriptionStaxUnmarshaller();
     public static EnvironmentResourceDescriptionStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new EnvironmentResourceDescriptionStaxUnmarshaller();
         return instance;
     }
 }
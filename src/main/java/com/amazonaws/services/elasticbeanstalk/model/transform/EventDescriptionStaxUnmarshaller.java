@@ -87,9 +87,8 @@ public class EventDescriptionStaxUnmarshaller implements Unmarshaller<EventDescr
         }
     }
 
-    private static EventDescriptionStaxUnmarshaller instance;
+    private static final EventDescriptionStaxUnmarshaller instance = new EventDescriptionStaxUnmarshaller();
     public static EventDescriptionStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new EventDescriptionStaxUnmarshaller();
         return instance;
     }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticbeanstalk.model.InvalidParameterCombination
 public class InvalidParameterCombinationExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidParameterCombinationExceptionUnmarshaller() {
-        super(InvalidParameterCombinationException.class);
+        super(InvalidParameterCombinationException.class, "InvalidParameterCombinationException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticbeanstalk.model.InvalidParameterValueExcept
 public class InvalidParameterValueExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidParameterValueExceptionUnmarshaller() {
-        super(InvalidParameterValueException.class);
+        super(InvalidParameterValueException.class, "InvalidParameterValueException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -37,4 +37,9 @@ public class ListAvailableSolutionStacksRequestMarshaller implements Marshaller<
 
         return request;
     }
+
+    private static final ListAvailableSolutionStacksRequestMarshaller instance = new ListAvailableSolutionStacksRequestMarshaller();
+    public static ListAvailableSolutionStacksRequestMarshaller getInstance() {
+        return instance;
+    }
 }
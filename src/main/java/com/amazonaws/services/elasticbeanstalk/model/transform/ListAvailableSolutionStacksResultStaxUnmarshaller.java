@@ -59,9 +59,8 @@ public class ListAvailableSolutionStacksResultStaxUnmarshaller implements Unmars
         }
     }
 
-    private static ListAvailableSolutionStacksResultStaxUnmarshaller instance;
+    private static final ListAvailableSolutionStacksResultStaxUnmarshaller instance = new ListAvailableSolutionStacksResultStaxUnmarshaller();
     public static ListAvailableSolutionStacksResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ListAvailableSolutionStacksResultStaxUnmarshaller();
         return instance;
     }
 }
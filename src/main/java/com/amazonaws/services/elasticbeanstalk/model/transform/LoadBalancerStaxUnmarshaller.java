@@ -59,9 +59,8 @@ public class LoadBalancerStaxUnmarshaller implements Unmarshaller<LoadBalancer,
         }
     }
 
-    private static LoadBalancerStaxUnmarshaller instance;
+    private static final LoadBalancerStaxUnmarshaller instance = new LoadBalancerStaxUnmarshaller();
     public static LoadBalancerStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new LoadBalancerStaxUnmarshaller();
         return instance;
     }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticbeanstalk.model.MissingRequiredParameterExc
 public class MissingRequiredParameterExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public MissingRequiredParameterExceptionUnmarshaller() {
-        super(MissingRequiredParameterException.class);
+        super(MissingRequiredParameterException.class, "MissingRequiredParameterException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
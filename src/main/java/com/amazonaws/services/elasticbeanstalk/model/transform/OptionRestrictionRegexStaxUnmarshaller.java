@@ -63,9 +63,8 @@ public class OptionRestrictionRegexStaxUnmarshaller implements Unmarshaller<Opti
         }
     }
 
-    private static OptionRestrictionRegexStaxUnmarshaller instance;
+    private static final OptionRestrictionRegexStaxUnmarshaller instance = new OptionRestrictionRegexStaxUnmarshaller();
     public static OptionRestrictionRegexStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new OptionRestrictionRegexStaxUnmarshaller();
         return instance;
     }
 }
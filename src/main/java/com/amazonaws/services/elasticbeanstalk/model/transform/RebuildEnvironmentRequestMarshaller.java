@@ -47,4 +47,9 @@ public class RebuildEnvironmentRequestMarshaller implements Marshaller<Request<R
 
         return request;
     }
+
+    private static final RebuildEnvironmentRequestMarshaller instance = new RebuildEnvironmentRequestMarshaller();
+    public static RebuildEnvironmentRequestMarshaller getInstance() {
+        return instance;
+    }
 }
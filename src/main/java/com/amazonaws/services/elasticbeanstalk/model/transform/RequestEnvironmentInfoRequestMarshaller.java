@@ -52,4 +52,9 @@ public class RequestEnvironmentInfoRequestMarshaller implements Marshaller<Reque
 
         return request;
     }
+
+    private static final RequestEnvironmentInfoRequestMarshaller instance = new RequestEnvironmentInfoRequestMarshaller();
+    public static RequestEnvironmentInfoRequestMarshaller getInstance() {
+        return instance;
+    }
 }
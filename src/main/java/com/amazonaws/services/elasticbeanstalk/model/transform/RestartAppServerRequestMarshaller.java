@@ -47,4 +47,9 @@ public class RestartAppServerRequestMarshaller implements Marshaller<Request<Res
 
         return request;
     }
+
+    private static final RestartAppServerRequestMarshaller instance = new RestartAppServerRequestMarshaller();
+    public static RestartAppServerRequestMarshaller getInstance() {
+        return instance;
+    }
 }
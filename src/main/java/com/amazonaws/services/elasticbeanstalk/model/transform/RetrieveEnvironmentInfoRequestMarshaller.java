@@ -52,4 +52,9 @@ public class RetrieveEnvironmentInfoRequestMarshaller implements Marshaller<Requ
 
         return request;
     }
+
+    private static final RetrieveEnvironmentInfoRequestMarshaller instance = new RetrieveEnvironmentInfoRequestMarshaller();
+    public static RetrieveEnvironmentInfoRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class RetrieveEnvironmentInfoResultStaxUnmarshaller implements Unmarshall
         }
     }
 
-    private static RetrieveEnvironmentInfoResultStaxUnmarshaller instance;
+    private static final RetrieveEnvironmentInfoResultStaxUnmarshaller instance = new RetrieveEnvironmentInfoResultStaxUnmarshaller();
     public static RetrieveEnvironmentInfoResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new RetrieveEnvironmentInfoResultStaxUnmarshaller();
         return instance;
     }
 }
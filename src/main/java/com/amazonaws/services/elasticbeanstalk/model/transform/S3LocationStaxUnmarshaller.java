@@ -63,9 +63,8 @@ public class S3LocationStaxUnmarshaller implements Unmarshaller<S3Location, Stax
         }
     }
 
-    private static S3LocationStaxUnmarshaller instance;
+    private static final S3LocationStaxUnmarshaller instance = new S3LocationStaxUnmarshaller();
     public static S3LocationStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new S3LocationStaxUnmarshaller();
         return instance;
     }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticbeanstalk.model.S3SubscriptionRequiredExcep
 public class S3SubscriptionRequiredExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public S3SubscriptionRequiredExceptionUnmarshaller() {
-        super(S3SubscriptionRequiredException.class);
+        super(S3SubscriptionRequiredException.class, "S3SubscriptionRequiredException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticbeanstalk.model.SourceBundleDeletionExcepti
 public class SourceBundleDeletionExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public SourceBundleDeletionExceptionUnmarshaller() {
-        super(SourceBundleDeletionException.class);
+        super(SourceBundleDeletionException.class, "SourceBundleDeletionFailure");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -52,4 +52,9 @@ public class TerminateEnvironmentRequestMarshaller implements Marshaller<Request
 
         return request;
     }
+
+    private static final TerminateEnvironmentRequestMarshaller instance = new TerminateEnvironmentRequestMarshaller();
+    public static TerminateEnvironmentRequestMarshaller getInstance() {
+        return instance;
+    }
 }
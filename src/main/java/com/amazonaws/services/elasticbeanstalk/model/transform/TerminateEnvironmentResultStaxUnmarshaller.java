@@ -107,9 +107,8 @@ public class TerminateEnvironmentResultStaxUnmarshaller implements Unmarshaller<
         }
     }
 
-    private static TerminateEnvironmentResultStaxUnmarshaller instance;
+    private static final TerminateEnvironmentResultStaxUnmarshaller instance = new TerminateEnvironmentResultStaxUnmarshaller();
     public static TerminateEnvironmentResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new TerminateEnvironmentResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticbeanstalk.model.TooManyApplicationVersionsE
 public class TooManyApplicationVersionsExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public TooManyApplicationVersionsExceptionUnmarshaller() {
-        super(TooManyApplicationVersionsException.class);
+        super(TooManyApplicationVersionsException.class, "TooManyApplicationVersionsException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
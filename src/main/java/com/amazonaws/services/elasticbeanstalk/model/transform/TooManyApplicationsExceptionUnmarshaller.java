@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticbeanstalk.model.TooManyApplicationsExceptio
 public class TooManyApplicationsExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public TooManyApplicationsExceptionUnmarshaller() {
-        super(TooManyApplicationsException.class);
+        super(TooManyApplicationsException.class, "TooManyApplicationsException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticbeanstalk.model.TooManyBucketsException;
 public class TooManyBucketsExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public TooManyBucketsExceptionUnmarshaller() {
-        super(TooManyBucketsException.class);
+        super(TooManyBucketsException.class, "TooManyBucketsException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticbeanstalk.model.TooManyConfigurationTemplat
 public class TooManyConfigurationTemplatesExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public TooManyConfigurationTemplatesExceptionUnmarshaller() {
-        super(TooManyConfigurationTemplatesException.class);
+        super(TooManyConfigurationTemplatesException.class, "TooManyConfigurationTemplatesException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
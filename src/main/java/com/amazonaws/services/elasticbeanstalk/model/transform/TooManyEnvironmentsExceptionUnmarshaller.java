@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticbeanstalk.model.TooManyEnvironmentsExceptio
 public class TooManyEnvironmentsExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public TooManyEnvironmentsExceptionUnmarshaller() {
-        super(TooManyEnvironmentsException.class);
+        super(TooManyEnvironmentsException.class, "TooManyEnvironmentsException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
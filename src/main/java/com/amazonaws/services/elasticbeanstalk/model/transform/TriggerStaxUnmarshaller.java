@@ -59,9 +59,8 @@ public class TriggerStaxUnmarshaller implements Unmarshaller<Trigger, StaxUnmars
         }
     }
 
-    private static TriggerStaxUnmarshaller instance;
+    private static final TriggerStaxUnmarshaller instance = new TriggerStaxUnmarshaller();
     public static TriggerStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new TriggerStaxUnmarshaller();
         return instance;
     }
 }
@@ -47,4 +47,9 @@ public class UpdateApplicationRequestMarshaller implements Marshaller<Request<Up
 
         return request;
     }
+
+    private static final UpdateApplicationRequestMarshaller instance = new UpdateApplicationRequestMarshaller();
+    public static UpdateApplicationRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class UpdateApplicationResultStaxUnmarshaller implements Unmarshaller<Upd
         }
     }
 
-    private static UpdateApplicationResultStaxUnmarshaller instance;
+    private static final UpdateApplicationResultStaxUnmarshaller instance = new UpdateApplicationResultStaxUnmarshaller();
     public static UpdateApplicationResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new UpdateApplicationResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -52,4 +52,9 @@ public class UpdateApplicationVersionRequestMarshaller implements Marshaller<Req
 
         return request;
     }
+
+    private static final UpdateApplicationVersionRequestMarshaller instance = new UpdateApplicationVersionRequestMarshaller();
+    public static UpdateApplicationVersionRequestMarshaller getInstance() {
+        return instance;
+    }
 }
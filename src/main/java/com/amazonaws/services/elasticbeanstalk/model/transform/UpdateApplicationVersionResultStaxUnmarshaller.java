@@ -59,9 +59,8 @@ public class UpdateApplicationVersionResultStaxUnmarshaller implements Unmarshal
         }
     }
 
-    private static UpdateApplicationVersionResultStaxUnmarshaller instance;
+    private static final UpdateApplicationVersionResultStaxUnmarshaller instance = new UpdateApplicationVersionResultStaxUnmarshaller();
     public static UpdateApplicationVersionResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new UpdateApplicationVersionResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -91,9 +91,8 @@ public class UpdateConfigurationTemplateResultStaxUnmarshaller implements Unmars
         }
     }
 
-    private static UpdateConfigurationTemplateResultStaxUnmarshaller instance;
+    private static final UpdateConfigurationTemplateResultStaxUnmarshaller instance = new UpdateConfigurationTemplateResultStaxUnmarshaller();
     public static UpdateConfigurationTemplateResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new UpdateConfigurationTemplateResultStaxUnmarshaller();
         return instance;
     }
 }
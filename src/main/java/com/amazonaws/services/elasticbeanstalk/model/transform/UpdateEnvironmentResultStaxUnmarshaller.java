@@ -107,9 +107,8 @@ public class UpdateEnvironmentResultStaxUnmarshaller implements Unmarshaller<Upd
         }
     }
 
-    private static UpdateEnvironmentResultStaxUnmarshaller instance;
+    private static final UpdateEnvironmentResultStaxUnmarshaller instance = new UpdateEnvironmentResultStaxUnmarshaller();
     public static UpdateEnvironmentResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new UpdateEnvironmentResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -59,9 +59,8 @@ public class ValidateConfigurationSettingsResultStaxUnmarshaller implements Unma
         }
     }
 
-    private static ValidateConfigurationSettingsResultStaxUnmarshaller instance;
+    private static final ValidateConfigurationSettingsResultStaxUnmarshaller instance = new ValidateConfigurationSettingsResultStaxUnmarshaller();
     public static ValidateConfigurationSettingsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ValidateConfigurationSettingsResultStaxUnmarshaller();
         return instance;
     }
 }
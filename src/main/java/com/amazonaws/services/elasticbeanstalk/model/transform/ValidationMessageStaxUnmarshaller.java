@@ -71,9 +71,8 @@ public class ValidationMessageStaxUnmarshaller implements Unmarshaller<Validatio
         }
     }
 
-    private static ValidationMessageStaxUnmarshaller instance;
+    private static final ValidationMessageStaxUnmarshaller instance = new ValidationMessageStaxUnmarshaller();
     public static ValidationMessageStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ValidationMessageStaxUnmarshaller();
         return instance;
     }
 }
@@ -18,6 +18,7 @@ import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.services.elasticloadbalancing.model.*;
 
 /**
@@ -60,6 +61,38 @@ public interface AmazonElasticLoadBalancingAsync extends AmazonElasticLoadBalanc
     public Future<Void> createLoadBalancerListenersAsync(CreateLoadBalancerListenersRequest createLoadBalancerListenersRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Creates one or more listeners on a LoadBalancer for the specified
+     * port. If a listener with the given port does not already exist, it
+     * will be created; otherwise, the properties of the new listener must
+     * match the properties of the existing listener.
+     * </p>
+     *
+     * @param createLoadBalancerListenersRequest Container for the necessary
+     *           parameters to execute the CreateLoadBalancerListeners operation on
+     *           AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateLoadBalancerListeners service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> createLoadBalancerListenersAsync(CreateLoadBalancerListenersRequest createLoadBalancerListenersRequest,
+            AsyncHandler<CreateLoadBalancerListenersRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Deletes listeners from the LoadBalancer for the specified port.
@@ -84,6 +117,35 @@ public interface AmazonElasticLoadBalancingAsync extends AmazonElasticLoadBalanc
     public Future<Void> deleteLoadBalancerListenersAsync(DeleteLoadBalancerListenersRequest deleteLoadBalancerListenersRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Deletes listeners from the LoadBalancer for the specified port.
+     * </p>
+     *
+     * @param deleteLoadBalancerListenersRequest Container for the necessary
+     *           parameters to execute the DeleteLoadBalancerListeners operation on
+     *           AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteLoadBalancerListeners service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteLoadBalancerListenersAsync(DeleteLoadBalancerListenersRequest deleteLoadBalancerListenersRequest,
+            AsyncHandler<DeleteLoadBalancerListenersRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Enables the client to define an application healthcheck for the
@@ -109,6 +171,36 @@ public interface AmazonElasticLoadBalancingAsync extends AmazonElasticLoadBalanc
     public Future<ConfigureHealthCheckResult> configureHealthCheckAsync(ConfigureHealthCheckRequest configureHealthCheckRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Enables the client to define an application healthcheck for the
+     * instances.
+     * </p>
+     *
+     * @param configureHealthCheckRequest Container for the necessary
+     *           parameters to execute the ConfigureHealthCheck operation on
+     *           AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ConfigureHealthCheck service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ConfigureHealthCheckResult> configureHealthCheckAsync(ConfigureHealthCheckRequest configureHealthCheckRequest,
+            AsyncHandler<ConfigureHealthCheckRequest, ConfigureHealthCheckResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Returns detailed configuration information for the specified
@@ -142,6 +234,44 @@ public interface AmazonElasticLoadBalancingAsync extends AmazonElasticLoadBalanc
     public Future<DescribeLoadBalancersResult> describeLoadBalancersAsync(DescribeLoadBalancersRequest describeLoadBalancersRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Returns detailed configuration information for the specified
+     * LoadBalancers. If no LoadBalancers are specified, the operation
+     * returns configuration information for all LoadBalancers created by the
+     * caller.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> The client must have created the specified input
+     * LoadBalancers in order to retrieve this information; the client must
+     * provide the same account credentials as those that were used to create
+     * the LoadBalancer.
+     * </p>
+     *
+     * @param describeLoadBalancersRequest Container for the necessary
+     *           parameters to execute the DescribeLoadBalancers operation on
+     *           AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeLoadBalancers service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeLoadBalancersResult> describeLoadBalancersAsync(DescribeLoadBalancersRequest describeLoadBalancersRequest,
+            AsyncHandler<DescribeLoadBalancersRequest, DescribeLoadBalancersResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Generates a stickiness policy with sticky session lifetimes
@@ -184,6 +314,53 @@ public interface AmazonElasticLoadBalancingAsync extends AmazonElasticLoadBalanc
     public Future<CreateLBCookieStickinessPolicyResult> createLBCookieStickinessPolicyAsync(CreateLBCookieStickinessPolicyRequest createLBCookieStickinessPolicyRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Generates a stickiness policy with sticky session lifetimes
+     * controlled by the lifetime of the browser (user-agent) or a specified
+     * expiration period. This policy can only be associated only with HTTP
+     * listeners.
+     * </p>
+     * <p>
+     * When a load balancer implements this policy, the load balancer uses a
+     * special cookie to track the backend server instance for each request.
+     * When the load balancer receives a request, it first checks to see if
+     * this cookie is present in the request. If so, the load balancer sends
+     * the request to the application server specified in the cookie. If not,
+     * the load balancer sends the request to a server that is chosen based
+     * on the existing load balancing algorithm.
+     * </p>
+     * <p>
+     * A cookie is inserted into the response for binding subsequent
+     * requests from the same user to that server. The validity of the cookie
+     * is based on the cookie expiration time, which is specified in the
+     * policy configuration.
+     * </p>
+     *
+     * @param createLBCookieStickinessPolicyRequest Container for the
+     *           necessary parameters to execute the CreateLBCookieStickinessPolicy
+     *           operation on AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateLBCookieStickinessPolicy service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateLBCookieStickinessPolicyResult> createLBCookieStickinessPolicyAsync(CreateLBCookieStickinessPolicyRequest createLBCookieStickinessPolicyRequest,
+            AsyncHandler<CreateLBCookieStickinessPolicyRequest, CreateLBCookieStickinessPolicyResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Adds one or more EC2 Availability Zones to the LoadBalancer.
@@ -220,6 +397,47 @@ public interface AmazonElasticLoadBalancingAsync extends AmazonElasticLoadBalanc
     public Future<EnableAvailabilityZonesForLoadBalancerResult> enableAvailabilityZonesForLoadBalancerAsync(EnableAvailabilityZonesForLoadBalancerRequest enableAvailabilityZonesForLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Adds one or more EC2 Availability Zones to the LoadBalancer.
+     * </p>
+     * <p>
+     * The LoadBalancer evenly distributes requests across all its
+     * registered Availability Zones that contain instances. As a result, the
+     * client must ensure that its LoadBalancer is appropriately scaled for
+     * each registered Availability Zone.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> The new EC2 Availability Zones to be added must be in the
+     * same EC2 Region as the Availability Zones for which the LoadBalancer
+     * was created.
+     * </p>
+     *
+     * @param enableAvailabilityZonesForLoadBalancerRequest Container for the
+     *           necessary parameters to execute the
+     *           EnableAvailabilityZonesForLoadBalancer operation on
+     *           AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         EnableAvailabilityZonesForLoadBalancer service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<EnableAvailabilityZonesForLoadBalancerResult> enableAvailabilityZonesForLoadBalancerAsync(EnableAvailabilityZonesForLoadBalancerRequest enableAvailabilityZonesForLoadBalancerRequest,
+            AsyncHandler<EnableAvailabilityZonesForLoadBalancerRequest, EnableAvailabilityZonesForLoadBalancerResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Returns the current state of the instances of the specified
@@ -252,6 +470,43 @@ public interface AmazonElasticLoadBalancingAsync extends AmazonElasticLoadBalanc
     public Future<DescribeInstanceHealthResult> describeInstanceHealthAsync(DescribeInstanceHealthRequest describeInstanceHealthRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Returns the current state of the instances of the specified
+     * LoadBalancer. If no instances are specified, the state of all the
+     * instances for the LoadBalancer is returned.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> The client must have created the specified input
+     * LoadBalancer in order to retrieve this information; the client must
+     * provide the same account credentials as those that were used to create
+     * the LoadBalancer.
+     * </p>
+     *
+     * @param describeInstanceHealthRequest Container for the necessary
+     *           parameters to execute the DescribeInstanceHealth operation on
+     *           AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeInstanceHealth service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeInstanceHealthResult> describeInstanceHealthAsync(DescribeInstanceHealthRequest describeInstanceHealthRequest,
+            AsyncHandler<DescribeInstanceHealthRequest, DescribeInstanceHealthResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Sets the certificate that terminates the specified listener's SSL
@@ -279,6 +534,38 @@ public interface AmazonElasticLoadBalancingAsync extends AmazonElasticLoadBalanc
     public Future<Void> setLoadBalancerListenerSSLCertificateAsync(SetLoadBalancerListenerSSLCertificateRequest setLoadBalancerListenerSSLCertificateRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Sets the certificate that terminates the specified listener's SSL
+     * connections. The specified certificate replaces any prior certificate
+     * that was used on the same LoadBalancer and port.
+     * </p>
+     *
+     * @param setLoadBalancerListenerSSLCertificateRequest Container for the
+     *           necessary parameters to execute the
+     *           SetLoadBalancerListenerSSLCertificate operation on
+     *           AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         SetLoadBalancerListenerSSLCertificate service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setLoadBalancerListenerSSLCertificateAsync(SetLoadBalancerListenerSSLCertificateRequest setLoadBalancerListenerSSLCertificateRequest,
+            AsyncHandler<SetLoadBalancerListenerSSLCertificateRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Associates, updates, or disables a policy with a listener on the load
@@ -305,6 +592,37 @@ public interface AmazonElasticLoadBalancingAsync extends AmazonElasticLoadBalanc
     public Future<SetLoadBalancerPoliciesOfListenerResult> setLoadBalancerPoliciesOfListenerAsync(SetLoadBalancerPoliciesOfListenerRequest setLoadBalancerPoliciesOfListenerRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Associates, updates, or disables a policy with a listener on the load
+     * balancer. Currently only zero (0) or one (1) policy can be associated
+     * with a listener.
+     * </p>
+     *
+     * @param setLoadBalancerPoliciesOfListenerRequest Container for the
+     *           necessary parameters to execute the SetLoadBalancerPoliciesOfListener
+     *           operation on AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         SetLoadBalancerPoliciesOfListener service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<SetLoadBalancerPoliciesOfListenerResult> setLoadBalancerPoliciesOfListenerAsync(SetLoadBalancerPoliciesOfListenerRequest setLoadBalancerPoliciesOfListenerRequest,
+            AsyncHandler<SetLoadBalancerPoliciesOfListenerRequest, SetLoadBalancerPoliciesOfListenerResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Creates a new LoadBalancer.
@@ -350,6 +668,56 @@ public interface AmazonElasticLoadBalancingAsync extends AmazonElasticLoadBalanc
     public Future<CreateLoadBalancerResult> createLoadBalancerAsync(CreateLoadBalancerRequest createLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Creates a new LoadBalancer.
+     * </p>
+     * <p>
+     * Once the call has completed successfully, a new LoadBalancer is
+     * created; however, it will not be usable until at least one instance
+     * has been registered. When the LoadBalancer creation is completed, the
+     * client can check whether or not it is usable by using the
+     * DescribeInstanceHealth API. The LoadBalancer is usable as soon as any
+     * registered instance is <i>InService</i> .
+     * 
+     * </p>
+     * <p>
+     * <b>NOTE:</b> Currently, the client's quota of LoadBalancers is limited
+     * to five per Region.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> Load balancer DNS names vary depending on the Region
+     * they're created in. For load balancers created in the United States,
+     * the DNS name ends with: us-east-1.elb.amazonaws.com (for the US
+     * Standard Region) us-west-1.elb.amazonaws.com (for the Northern
+     * California Region) For load balancers created in the EU (Ireland)
+     * Region, the DNS name ends with: eu-west-1.elb.amazonaws.com
+     * </p>
+     *
+     * @param createLoadBalancerRequest Container for the necessary
+     *           parameters to execute the CreateLoadBalancer operation on
+     *           AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateLoadBalancer service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateLoadBalancerResult> createLoadBalancerAsync(CreateLoadBalancerRequest createLoadBalancerRequest,
+            AsyncHandler<CreateLoadBalancerRequest, CreateLoadBalancerResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Adds new instances to the LoadBalancer.
@@ -392,6 +760,53 @@ public interface AmazonElasticLoadBalancingAsync extends AmazonElasticLoadBalanc
     public Future<RegisterInstancesWithLoadBalancerResult> registerInstancesWithLoadBalancerAsync(RegisterInstancesWithLoadBalancerRequest registerInstancesWithLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Adds new instances to the LoadBalancer.
+     * </p>
+     * <p>
+     * Once the instance is registered, it starts receiving traffic and
+     * requests from the LoadBalancer. Any instance that is not in any of the
+     * Availability Zones registered for the LoadBalancer will be moved to
+     * the <i>OutOfService</i> state. It will move to the <i>InService</i>
+     * state when the Availability Zone is added to the LoadBalancer.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> In order for this call to be successful, the client must
+     * have created the LoadBalancer. The client must provide the same
+     * account credentials as those that were used to create the
+     * LoadBalancer.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> Completion of this API does not guarantee that operation
+     * has completed. Rather, it means that the request has been registered
+     * and the changes will happen shortly.
+     * </p>
+     *
+     * @param registerInstancesWithLoadBalancerRequest Container for the
+     *           necessary parameters to execute the RegisterInstancesWithLoadBalancer
+     *           operation on AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RegisterInstancesWithLoadBalancer service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<RegisterInstancesWithLoadBalancerResult> registerInstancesWithLoadBalancerAsync(RegisterInstancesWithLoadBalancerRequest registerInstancesWithLoadBalancerRequest,
+            AsyncHandler<RegisterInstancesWithLoadBalancerRequest, RegisterInstancesWithLoadBalancerResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Generates a stickiness policy with sticky session lifetimes that
@@ -430,6 +845,49 @@ public interface AmazonElasticLoadBalancingAsync extends AmazonElasticLoadBalanc
     public Future<CreateAppCookieStickinessPolicyResult> createAppCookieStickinessPolicyAsync(CreateAppCookieStickinessPolicyRequest createAppCookieStickinessPolicyRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Generates a stickiness policy with sticky session lifetimes that
+     * follow that of an application-generated cookie. This policy can only
+     * be associated with HTTP listeners.
+     * </p>
+     * <p>
+     * This policy is similar to the policy created by
+     * CreateLBCookieStickinessPolicy, except that the lifetime of the
+     * special Elastic Load Balancing cookie follows the lifetime of the
+     * application-generated cookie specified in the policy configuration.
+     * The load balancer only inserts a new stickiness cookie when the
+     * application response includes a new application cookie.
+     * </p>
+     * <p>
+     * If the application cookie is explicitly removed or expires, the
+     * session stops being sticky until a new application cookie is issued.
+     * </p>
+     *
+     * @param createAppCookieStickinessPolicyRequest Container for the
+     *           necessary parameters to execute the CreateAppCookieStickinessPolicy
+     *           operation on AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateAppCookieStickinessPolicy service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateAppCookieStickinessPolicyResult> createAppCookieStickinessPolicyAsync(CreateAppCookieStickinessPolicyRequest createAppCookieStickinessPolicyRequest,
+            AsyncHandler<CreateAppCookieStickinessPolicyRequest, CreateAppCookieStickinessPolicyResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Deletes the specified LoadBalancer.
@@ -471,6 +929,52 @@ public interface AmazonElasticLoadBalancingAsync extends AmazonElasticLoadBalanc
     public Future<Void> deleteLoadBalancerAsync(DeleteLoadBalancerRequest deleteLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Deletes the specified LoadBalancer.
+     * </p>
+     * <p>
+     * If attempting to recreate the LoadBalancer, the client must
+     * reconfigure all the settings. The DNS name associated with a deleted
+     * LoadBalancer will no longer be usable. Once deleted, the name and
+     * associated DNS record of the LoadBalancer no longer exist and traffic
+     * sent to any of its IP addresses will no longer be delivered to client
+     * instances. The client will not receive the same DNS name even if a new
+     * LoadBalancer with same LoadBalancerName is created.
+     * </p>
+     * <p>
+     * To successfully call this API, the client must provide the same
+     * account credentials as were used to create the LoadBalancer.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> By design, if the LoadBalancer does not exist or has
+     * already been deleted, DeleteLoadBalancer still succeeds.
+     * </p>
+     *
+     * @param deleteLoadBalancerRequest Container for the necessary
+     *           parameters to execute the DeleteLoadBalancer operation on
+     *           AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteLoadBalancer service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteLoadBalancerAsync(DeleteLoadBalancerRequest deleteLoadBalancerRequest,
+            AsyncHandler<DeleteLoadBalancerRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Removes the specified EC2 Availability Zones from the set of
@@ -514,6 +1018,54 @@ public interface AmazonElasticLoadBalancingAsync extends AmazonElasticLoadBalanc
     public Future<DisableAvailabilityZonesForLoadBalancerResult> disableAvailabilityZonesForLoadBalancerAsync(DisableAvailabilityZonesForLoadBalancerRequest disableAvailabilityZonesForLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Removes the specified EC2 Availability Zones from the set of
+     * configured Availability Zones for the LoadBalancer.
+     * </p>
+     * <p>
+     * There must be at least one Availability Zone registered with a
+     * LoadBalancer at all times. A client cannot remove all the Availability
+     * Zones from a LoadBalancer. Once an Availability Zone is removed, all
+     * the instances registered with the LoadBalancer that are in the removed
+     * Availability Zone go into the OutOfService state. Upon Availability
+     * Zone removal, the LoadBalancer attempts to equally balance the traffic
+     * among its remaining usable Availability Zones. Trying to remove an
+     * Availability Zone that was not associated with the LoadBalancer does
+     * nothing.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> In order for this call to be successful, the client must
+     * have created the LoadBalancer. The client must provide the same
+     * account credentials as those that were used to create the
+     * LoadBalancer.
+     * </p>
+     *
+     * @param disableAvailabilityZonesForLoadBalancerRequest Container for
+     *           the necessary parameters to execute the
+     *           DisableAvailabilityZonesForLoadBalancer operation on
+     *           AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DisableAvailabilityZonesForLoadBalancer service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DisableAvailabilityZonesForLoadBalancerResult> disableAvailabilityZonesForLoadBalancerAsync(DisableAvailabilityZonesForLoadBalancerRequest disableAvailabilityZonesForLoadBalancerRequest,
+            AsyncHandler<DisableAvailabilityZonesForLoadBalancerRequest, DisableAvailabilityZonesForLoadBalancerResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Deletes a policy from the LoadBalancer. The specified policy must not
@@ -539,6 +1091,36 @@ public interface AmazonElasticLoadBalancingAsync extends AmazonElasticLoadBalanc
     public Future<DeleteLoadBalancerPolicyResult> deleteLoadBalancerPolicyAsync(DeleteLoadBalancerPolicyRequest deleteLoadBalancerPolicyRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Deletes a policy from the LoadBalancer. The specified policy must not
+     * be enabled for any listeners.
+     * </p>
+     *
+     * @param deleteLoadBalancerPolicyRequest Container for the necessary
+     *           parameters to execute the DeleteLoadBalancerPolicy operation on
+     *           AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteLoadBalancerPolicy service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DeleteLoadBalancerPolicyResult> deleteLoadBalancerPolicyAsync(DeleteLoadBalancerPolicyRequest deleteLoadBalancerPolicyRequest,
+            AsyncHandler<DeleteLoadBalancerPolicyRequest, DeleteLoadBalancerPolicyResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Deregisters instances from the LoadBalancer. Once the instance is
@@ -569,5 +1151,40 @@ public interface AmazonElasticLoadBalancingAsync extends AmazonElasticLoadBalanc
     public Future<DeregisterInstancesFromLoadBalancerResult> deregisterInstancesFromLoadBalancerAsync(DeregisterInstancesFromLoadBalancerRequest deregisterInstancesFromLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Deregisters instances from the LoadBalancer. Once the instance is
+     * deregistered, it will stop receiving traffic from the LoadBalancer.
+     * </p>
+     * <p>
+     * In order to successfully call this API, the same account credentials
+     * as those used to create the LoadBalancer must be provided.
+     * </p>
+     *
+     * @param deregisterInstancesFromLoadBalancerRequest Container for the
+     *           necessary parameters to execute the
+     *           DeregisterInstancesFromLoadBalancer operation on
+     *           AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeregisterInstancesFromLoadBalancer service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DeregisterInstancesFromLoadBalancerResult> deregisterInstancesFromLoadBalancerAsync(DeregisterInstancesFromLoadBalancerRequest deregisterInstancesFromLoadBalancerRequest,
+            AsyncHandler<DeregisterInstancesFromLoadBalancerRequest, DeregisterInstancesFromLoadBalancerResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
 }
         
\ No newline at end of file
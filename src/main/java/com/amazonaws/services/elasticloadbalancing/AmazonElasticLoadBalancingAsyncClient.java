@@ -16,13 +16,14 @@ package com.amazonaws.services.elasticloadbalancing;
             
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.util.InstrumentedThreadPoolExecutor;
 
 import com.amazonaws.services.elasticloadbalancing.model.*;
 
@@ -53,8 +54,9 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     /**
      * Constructs a new asynchronous client to invoke service methods on 
      * AmazonElasticLoadBalancing using the specified AWS account credentials.
-     * Default client settings will be used, and a default cached thread pool will be 
-     * created for executing the asynchronous tasks.
+     * Default client settings will be used, and a default bounded thread pool will be 
+     * created for executing the asynchronous tasks (see
+     * {@link InstrumentedThreadPoolExecutor#newDefaultExecutor(String, ClientConfiguration)}).
      *
      * <p>
      * All calls made using this new client object are non-blocking, and will immediately
@@ -65,7 +67,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *                       when authenticating with AWS services.
      */                                      
     public AmazonElasticLoadBalancingAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newCachedThreadPool());
+        this(awsCredentials, InstrumentedThreadPoolExecutor.newDefaultExecutor("AmazonElasticLoadBalancingAsyncClient", new ClientConfiguration()));
     }
 
     /**
@@ -161,6 +163,53 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
 		});
     }
     
+    /**
+     * <p>
+     * Creates one or more listeners on a LoadBalancer for the specified
+     * port. If a listener with the given port does not already exist, it
+     * will be created; otherwise, the properties of the new listener must
+     * match the properties of the existing listener.
+     * </p>
+     *
+     * @param createLoadBalancerListenersRequest Container for the necessary
+     *           parameters to execute the CreateLoadBalancerListeners operation on
+     *           AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateLoadBalancerListeners service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> createLoadBalancerListenersAsync(
+            final CreateLoadBalancerListenersRequest createLoadBalancerListenersRequest,
+            final AsyncHandler<CreateLoadBalancerListenersRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    createLoadBalancerListeners(createLoadBalancerListenersRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createLoadBalancerListenersRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes listeners from the LoadBalancer for the specified port.
@@ -192,6 +241,50 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
 		});
     }
     
+    /**
+     * <p>
+     * Deletes listeners from the LoadBalancer for the specified port.
+     * </p>
+     *
+     * @param deleteLoadBalancerListenersRequest Container for the necessary
+     *           parameters to execute the DeleteLoadBalancerListeners operation on
+     *           AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteLoadBalancerListeners service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteLoadBalancerListenersAsync(
+            final DeleteLoadBalancerListenersRequest deleteLoadBalancerListenersRequest,
+            final AsyncHandler<DeleteLoadBalancerListenersRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteLoadBalancerListeners(deleteLoadBalancerListenersRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteLoadBalancerListenersRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Enables the client to define an application healthcheck for the
@@ -223,6 +316,52 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
 		});
     }
     
+    /**
+     * <p>
+     * Enables the client to define an application healthcheck for the
+     * instances.
+     * </p>
+     *
+     * @param configureHealthCheckRequest Container for the necessary
+     *           parameters to execute the ConfigureHealthCheck operation on
+     *           AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ConfigureHealthCheck service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ConfigureHealthCheckResult> configureHealthCheckAsync(
+            final ConfigureHealthCheckRequest configureHealthCheckRequest,
+            final AsyncHandler<ConfigureHealthCheckRequest, ConfigureHealthCheckResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ConfigureHealthCheckResult>() {
+            public ConfigureHealthCheckResult call() throws Exception {
+                ConfigureHealthCheckResult result;
+                try {
+                    result = configureHealthCheck(configureHealthCheckRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(configureHealthCheckRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns detailed configuration information for the specified
@@ -262,6 +401,60 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
 		});
     }
     
+    /**
+     * <p>
+     * Returns detailed configuration information for the specified
+     * LoadBalancers. If no LoadBalancers are specified, the operation
+     * returns configuration information for all LoadBalancers created by the
+     * caller.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> The client must have created the specified input
+     * LoadBalancers in order to retrieve this information; the client must
+     * provide the same account credentials as those that were used to create
+     * the LoadBalancer.
+     * </p>
+     *
+     * @param describeLoadBalancersRequest Container for the necessary
+     *           parameters to execute the DescribeLoadBalancers operation on
+     *           AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeLoadBalancers service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeLoadBalancersResult> describeLoadBalancersAsync(
+            final DescribeLoadBalancersRequest describeLoadBalancersRequest,
+            final AsyncHandler<DescribeLoadBalancersRequest, DescribeLoadBalancersResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeLoadBalancersResult>() {
+            public DescribeLoadBalancersResult call() throws Exception {
+                DescribeLoadBalancersResult result;
+                try {
+                    result = describeLoadBalancers(describeLoadBalancersRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeLoadBalancersRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Generates a stickiness policy with sticky session lifetimes
@@ -310,6 +503,69 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
 		});
     }
     
+    /**
+     * <p>
+     * Generates a stickiness policy with sticky session lifetimes
+     * controlled by the lifetime of the browser (user-agent) or a specified
+     * expiration period. This policy can only be associated only with HTTP
+     * listeners.
+     * </p>
+     * <p>
+     * When a load balancer implements this policy, the load balancer uses a
+     * special cookie to track the backend server instance for each request.
+     * When the load balancer receives a request, it first checks to see if
+     * this cookie is present in the request. If so, the load balancer sends
+     * the request to the application server specified in the cookie. If not,
+     * the load balancer sends the request to a server that is chosen based
+     * on the existing load balancing algorithm.
+     * </p>
+     * <p>
+     * A cookie is inserted into the response for binding subsequent
+     * requests from the same user to that server. The validity of the cookie
+     * is based on the cookie expiration time, which is specified in the
+     * policy configuration.
+     * </p>
+     *
+     * @param createLBCookieStickinessPolicyRequest Container for the
+     *           necessary parameters to execute the CreateLBCookieStickinessPolicy
+     *           operation on AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateLBCookieStickinessPolicy service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateLBCookieStickinessPolicyResult> createLBCookieStickinessPolicyAsync(
+            final CreateLBCookieStickinessPolicyRequest createLBCookieStickinessPolicyRequest,
+            final AsyncHandler<CreateLBCookieStickinessPolicyRequest, CreateLBCookieStickinessPolicyResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateLBCookieStickinessPolicyResult>() {
+            public CreateLBCookieStickinessPolicyResult call() throws Exception {
+                CreateLBCookieStickinessPolicyResult result;
+                try {
+                    result = createLBCookieStickinessPolicy(createLBCookieStickinessPolicyRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createLBCookieStickinessPolicyRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Adds one or more EC2 Availability Zones to the LoadBalancer.
@@ -352,6 +608,63 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
 		});
     }
     
+    /**
+     * <p>
+     * Adds one or more EC2 Availability Zones to the LoadBalancer.
+     * </p>
+     * <p>
+     * The LoadBalancer evenly distributes requests across all its
+     * registered Availability Zones that contain instances. As a result, the
+     * client must ensure that its LoadBalancer is appropriately scaled for
+     * each registered Availability Zone.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> The new EC2 Availability Zones to be added must be in the
+     * same EC2 Region as the Availability Zones for which the LoadBalancer
+     * was created.
+     * </p>
+     *
+     * @param enableAvailabilityZonesForLoadBalancerRequest Container for the
+     *           necessary parameters to execute the
+     *           EnableAvailabilityZonesForLoadBalancer operation on
+     *           AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         EnableAvailabilityZonesForLoadBalancer service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<EnableAvailabilityZonesForLoadBalancerResult> enableAvailabilityZonesForLoadBalancerAsync(
+            final EnableAvailabilityZonesForLoadBalancerRequest enableAvailabilityZonesForLoadBalancerRequest,
+            final AsyncHandler<EnableAvailabilityZonesForLoadBalancerRequest, EnableAvailabilityZonesForLoadBalancerResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<EnableAvailabilityZonesForLoadBalancerResult>() {
+            public EnableAvailabilityZonesForLoadBalancerResult call() throws Exception {
+                EnableAvailabilityZonesForLoadBalancerResult result;
+                try {
+                    result = enableAvailabilityZonesForLoadBalancer(enableAvailabilityZonesForLoadBalancerRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(enableAvailabilityZonesForLoadBalancerRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns the current state of the instances of the specified
@@ -390,6 +703,59 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
 		});
     }
     
+    /**
+     * <p>
+     * Returns the current state of the instances of the specified
+     * LoadBalancer. If no instances are specified, the state of all the
+     * instances for the LoadBalancer is returned.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> The client must have created the specified input
+     * LoadBalancer in order to retrieve this information; the client must
+     * provide the same account credentials as those that were used to create
+     * the LoadBalancer.
+     * </p>
+     *
+     * @param describeInstanceHealthRequest Container for the necessary
+     *           parameters to execute the DescribeInstanceHealth operation on
+     *           AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeInstanceHealth service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeInstanceHealthResult> describeInstanceHealthAsync(
+            final DescribeInstanceHealthRequest describeInstanceHealthRequest,
+            final AsyncHandler<DescribeInstanceHealthRequest, DescribeInstanceHealthResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeInstanceHealthResult>() {
+            public DescribeInstanceHealthResult call() throws Exception {
+                DescribeInstanceHealthResult result;
+                try {
+                    result = describeInstanceHealth(describeInstanceHealthRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeInstanceHealthRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Sets the certificate that terminates the specified listener's SSL
@@ -424,6 +790,85 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
 		});
     }
     
+    /**
+     * <p>
+     * Sets the certificate that terminates the specified listener's SSL
+     * connections. The specified certificate replaces any prior certificate
+     * that was used on the same LoadBalancer and port.
+     * </p>
+     *
+     * @param setLoadBalancerListenerSSLCertificateRequest Container for the
+     *           necessary parameters to execute the
+     *           SetLoadBalancerListenerSSLCertificate operation on
+     *           AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         SetLoadBalancerListenerSSLCertificate service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setLoadBalancerListenerSSLCertificateAsync(
+            final SetLoadBalancerListenerSSLCertificateRequest setLoadBalancerListenerSSLCertificateRequest,
+            final AsyncHandler<SetLoadBalancerListenerSSLCertificateRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    setLoadBalancerListenerSSLCertificate(setLoadBalancerListenerSSLCertificateRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(setLoadBalancerListenerSSLCertificateRequest, null);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Associates, updates, or disables a policy with a listener on the load
+     * balancer. Currently only zero (0) or one (1) policy can be associated
+     * with a listener.
+     * </p>
+     *
+     * @param setLoadBalancerPoliciesOfListenerRequest Container for the
+     *           necessary parameters to execute the SetLoadBalancerPoliciesOfListener
+     *           operation on AmazonElasticLoadBalancing.
+     * 
+     * @return A Java Future object containing the response from the
+     *         SetLoadBalancerPoliciesOfListener service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<SetLoadBalancerPoliciesOfListenerResult> setLoadBalancerPoliciesOfListenerAsync(final SetLoadBalancerPoliciesOfListenerRequest setLoadBalancerPoliciesOfListenerRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<SetLoadBalancerPoliciesOfListenerResult>() {
+            public SetLoadBalancerPoliciesOfListenerResult call() throws Exception {
+                return setLoadBalancerPoliciesOfListener(setLoadBalancerPoliciesOfListenerRequest);
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Associates, updates, or disables a policy with a listener on the load
@@ -434,9 +879,75 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      * @param setLoadBalancerPoliciesOfListenerRequest Container for the
      *           necessary parameters to execute the SetLoadBalancerPoliciesOfListener
      *           operation on AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         SetLoadBalancerPoliciesOfListener service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<SetLoadBalancerPoliciesOfListenerResult> setLoadBalancerPoliciesOfListenerAsync(
+            final SetLoadBalancerPoliciesOfListenerRequest setLoadBalancerPoliciesOfListenerRequest,
+            final AsyncHandler<SetLoadBalancerPoliciesOfListenerRequest, SetLoadBalancerPoliciesOfListenerResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<SetLoadBalancerPoliciesOfListenerResult>() {
+            public SetLoadBalancerPoliciesOfListenerResult call() throws Exception {
+                SetLoadBalancerPoliciesOfListenerResult result;
+                try {
+                    result = setLoadBalancerPoliciesOfListener(setLoadBalancerPoliciesOfListenerRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(setLoadBalancerPoliciesOfListenerRequest, result);
+                return result;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Creates a new LoadBalancer.
+     * </p>
+     * <p>
+     * Once the call has completed successfully, a new LoadBalancer is
+     * created; however, it will not be usable until at least one instance
+     * has been registered. When the LoadBalancer creation is completed, the
+     * client can check whether or not it is usable by using the
+     * DescribeInstanceHealth API. The LoadBalancer is usable as soon as any
+     * registered instance is <i>InService</i> .
+     * 
+     * </p>
+     * <p>
+     * <b>NOTE:</b> Currently, the client's quota of LoadBalancers is limited
+     * to five per Region.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> Load balancer DNS names vary depending on the Region
+     * they're created in. For load balancers created in the United States,
+     * the DNS name ends with: us-east-1.elb.amazonaws.com (for the US
+     * Standard Region) us-west-1.elb.amazonaws.com (for the Northern
+     * California Region) For load balancers created in the EU (Ireland)
+     * Region, the DNS name ends with: eu-west-1.elb.amazonaws.com
+     * </p>
+     *
+     * @param createLoadBalancerRequest Container for the necessary
+     *           parameters to execute the CreateLoadBalancer operation on
+     *           AmazonElasticLoadBalancing.
      * 
      * @return A Java Future object containing the response from the
-     *         SetLoadBalancerPoliciesOfListener service method, as returned by
+     *         CreateLoadBalancer service method, as returned by
      *         AmazonElasticLoadBalancing.
      *
      * @throws AmazonClientException
@@ -447,11 +958,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             If an error response is returned by AmazonElasticLoadBalancing indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<SetLoadBalancerPoliciesOfListenerResult> setLoadBalancerPoliciesOfListenerAsync(final SetLoadBalancerPoliciesOfListenerRequest setLoadBalancerPoliciesOfListenerRequest) 
+    public Future<CreateLoadBalancerResult> createLoadBalancerAsync(final CreateLoadBalancerRequest createLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetLoadBalancerPoliciesOfListenerResult>() {
-            public SetLoadBalancerPoliciesOfListenerResult call() throws Exception {
-                return setLoadBalancerPoliciesOfListener(setLoadBalancerPoliciesOfListenerRequest);
+        return executorService.submit(new Callable<CreateLoadBalancerResult>() {
+            public CreateLoadBalancerResult call() throws Exception {
+                return createLoadBalancer(createLoadBalancerRequest);
 		    }
 		});
     }
@@ -485,6 +996,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      * @param createLoadBalancerRequest Container for the necessary
      *           parameters to execute the CreateLoadBalancer operation on
      *           AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
      *         CreateLoadBalancer service method, as returned by
@@ -498,11 +1014,21 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             If an error response is returned by AmazonElasticLoadBalancing indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateLoadBalancerResult> createLoadBalancerAsync(final CreateLoadBalancerRequest createLoadBalancerRequest) 
-            throws AmazonServiceException, AmazonClientException {
+    public Future<CreateLoadBalancerResult> createLoadBalancerAsync(
+            final CreateLoadBalancerRequest createLoadBalancerRequest,
+            final AsyncHandler<CreateLoadBalancerRequest, CreateLoadBalancerResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<CreateLoadBalancerResult>() {
             public CreateLoadBalancerResult call() throws Exception {
-                return createLoadBalancer(createLoadBalancerRequest);
+                CreateLoadBalancerResult result;
+                try {
+                    result = createLoadBalancer(createLoadBalancerRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createLoadBalancerRequest, result);
+                return result;
 		    }
 		});
     }
@@ -555,6 +1081,69 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
 		});
     }
     
+    /**
+     * <p>
+     * Adds new instances to the LoadBalancer.
+     * </p>
+     * <p>
+     * Once the instance is registered, it starts receiving traffic and
+     * requests from the LoadBalancer. Any instance that is not in any of the
+     * Availability Zones registered for the LoadBalancer will be moved to
+     * the <i>OutOfService</i> state. It will move to the <i>InService</i>
+     * state when the Availability Zone is added to the LoadBalancer.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> In order for this call to be successful, the client must
+     * have created the LoadBalancer. The client must provide the same
+     * account credentials as those that were used to create the
+     * LoadBalancer.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> Completion of this API does not guarantee that operation
+     * has completed. Rather, it means that the request has been registered
+     * and the changes will happen shortly.
+     * </p>
+     *
+     * @param registerInstancesWithLoadBalancerRequest Container for the
+     *           necessary parameters to execute the RegisterInstancesWithLoadBalancer
+     *           operation on AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RegisterInstancesWithLoadBalancer service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<RegisterInstancesWithLoadBalancerResult> registerInstancesWithLoadBalancerAsync(
+            final RegisterInstancesWithLoadBalancerRequest registerInstancesWithLoadBalancerRequest,
+            final AsyncHandler<RegisterInstancesWithLoadBalancerRequest, RegisterInstancesWithLoadBalancerResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<RegisterInstancesWithLoadBalancerResult>() {
+            public RegisterInstancesWithLoadBalancerResult call() throws Exception {
+                RegisterInstancesWithLoadBalancerResult result;
+                try {
+                    result = registerInstancesWithLoadBalancer(registerInstancesWithLoadBalancerRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(registerInstancesWithLoadBalancerRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Generates a stickiness policy with sticky session lifetimes that
@@ -599,6 +1188,65 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
 		});
     }
     
+    /**
+     * <p>
+     * Generates a stickiness policy with sticky session lifetimes that
+     * follow that of an application-generated cookie. This policy can only
+     * be associated with HTTP listeners.
+     * </p>
+     * <p>
+     * This policy is similar to the policy created by
+     * CreateLBCookieStickinessPolicy, except that the lifetime of the
+     * special Elastic Load Balancing cookie follows the lifetime of the
+     * application-generated cookie specified in the policy configuration.
+     * The load balancer only inserts a new stickiness cookie when the
+     * application response includes a new application cookie.
+     * </p>
+     * <p>
+     * If the application cookie is explicitly removed or expires, the
+     * session stops being sticky until a new application cookie is issued.
+     * </p>
+     *
+     * @param createAppCookieStickinessPolicyRequest Container for the
+     *           necessary parameters to execute the CreateAppCookieStickinessPolicy
+     *           operation on AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateAppCookieStickinessPolicy service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateAppCookieStickinessPolicyResult> createAppCookieStickinessPolicyAsync(
+            final CreateAppCookieStickinessPolicyRequest createAppCookieStickinessPolicyRequest,
+            final AsyncHandler<CreateAppCookieStickinessPolicyRequest, CreateAppCookieStickinessPolicyResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateAppCookieStickinessPolicyResult>() {
+            public CreateAppCookieStickinessPolicyResult call() throws Exception {
+                CreateAppCookieStickinessPolicyResult result;
+                try {
+                    result = createAppCookieStickinessPolicy(createAppCookieStickinessPolicyRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createAppCookieStickinessPolicyRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes the specified LoadBalancer.
@@ -647,6 +1295,67 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
 		});
     }
     
+    /**
+     * <p>
+     * Deletes the specified LoadBalancer.
+     * </p>
+     * <p>
+     * If attempting to recreate the LoadBalancer, the client must
+     * reconfigure all the settings. The DNS name associated with a deleted
+     * LoadBalancer will no longer be usable. Once deleted, the name and
+     * associated DNS record of the LoadBalancer no longer exist and traffic
+     * sent to any of its IP addresses will no longer be delivered to client
+     * instances. The client will not receive the same DNS name even if a new
+     * LoadBalancer with same LoadBalancerName is created.
+     * </p>
+     * <p>
+     * To successfully call this API, the client must provide the same
+     * account credentials as were used to create the LoadBalancer.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> By design, if the LoadBalancer does not exist or has
+     * already been deleted, DeleteLoadBalancer still succeeds.
+     * </p>
+     *
+     * @param deleteLoadBalancerRequest Container for the necessary
+     *           parameters to execute the DeleteLoadBalancer operation on
+     *           AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteLoadBalancer service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteLoadBalancerAsync(
+            final DeleteLoadBalancerRequest deleteLoadBalancerRequest,
+            final AsyncHandler<DeleteLoadBalancerRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteLoadBalancer(deleteLoadBalancerRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteLoadBalancerRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Removes the specified EC2 Availability Zones from the set of
@@ -696,6 +1405,70 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
 		});
     }
     
+    /**
+     * <p>
+     * Removes the specified EC2 Availability Zones from the set of
+     * configured Availability Zones for the LoadBalancer.
+     * </p>
+     * <p>
+     * There must be at least one Availability Zone registered with a
+     * LoadBalancer at all times. A client cannot remove all the Availability
+     * Zones from a LoadBalancer. Once an Availability Zone is removed, all
+     * the instances registered with the LoadBalancer that are in the removed
+     * Availability Zone go into the OutOfService state. Upon Availability
+     * Zone removal, the LoadBalancer attempts to equally balance the traffic
+     * among its remaining usable Availability Zones. Trying to remove an
+     * Availability Zone that was not associated with the LoadBalancer does
+     * nothing.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> In order for this call to be successful, the client must
+     * have created the LoadBalancer. The client must provide the same
+     * account credentials as those that were used to create the
+     * LoadBalancer.
+     * </p>
+     *
+     * @param disableAvailabilityZonesForLoadBalancerRequest Container for
+     *           the necessary parameters to execute the
+     *           DisableAvailabilityZonesForLoadBalancer operation on
+     *           AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DisableAvailabilityZonesForLoadBalancer service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DisableAvailabilityZonesForLoadBalancerResult> disableAvailabilityZonesForLoadBalancerAsync(
+            final DisableAvailabilityZonesForLoadBalancerRequest disableAvailabilityZonesForLoadBalancerRequest,
+            final AsyncHandler<DisableAvailabilityZonesForLoadBalancerRequest, DisableAvailabilityZonesForLoadBalancerResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DisableAvailabilityZonesForLoadBalancerResult>() {
+            public DisableAvailabilityZonesForLoadBalancerResult call() throws Exception {
+                DisableAvailabilityZonesForLoadBalancerResult result;
+                try {
+                    result = disableAvailabilityZonesForLoadBalancer(disableAvailabilityZonesForLoadBalancerRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(disableAvailabilityZonesForLoadBalancerRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes a policy from the LoadBalancer. The specified policy must not
@@ -727,6 +1500,52 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
 		});
     }
     
+    /**
+     * <p>
+     * Deletes a policy from the LoadBalancer. The specified policy must not
+     * be enabled for any listeners.
+     * </p>
+     *
+     * @param deleteLoadBalancerPolicyRequest Container for the necessary
+     *           parameters to execute the DeleteLoadBalancerPolicy operation on
+     *           AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteLoadBalancerPolicy service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DeleteLoadBalancerPolicyResult> deleteLoadBalancerPolicyAsync(
+            final DeleteLoadBalancerPolicyRequest deleteLoadBalancerPolicyRequest,
+            final AsyncHandler<DeleteLoadBalancerPolicyRequest, DeleteLoadBalancerPolicyResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DeleteLoadBalancerPolicyResult>() {
+            public DeleteLoadBalancerPolicyResult call() throws Exception {
+                DeleteLoadBalancerPolicyResult result;
+                try {
+                    result = deleteLoadBalancerPolicy(deleteLoadBalancerPolicyRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteLoadBalancerPolicyRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deregisters instances from the LoadBalancer. Once the instance is
@@ -763,5 +1582,56 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
 		});
     }
     
+    /**
+     * <p>
+     * Deregisters instances from the LoadBalancer. Once the instance is
+     * deregistered, it will stop receiving traffic from the LoadBalancer.
+     * </p>
+     * <p>
+     * In order to successfully call this API, the same account credentials
+     * as those used to create the LoadBalancer must be provided.
+     * </p>
+     *
+     * @param deregisterInstancesFromLoadBalancerRequest Container for the
+     *           necessary parameters to execute the
+     *           DeregisterInstancesFromLoadBalancer operation on
+     *           AmazonElasticLoadBalancing.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeregisterInstancesFromLoadBalancer service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticLoadBalancing indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DeregisterInstancesFromLoadBalancerResult> deregisterInstancesFromLoadBalancerAsync(
+            final DeregisterInstancesFromLoadBalancerRequest deregisterInstancesFromLoadBalancerRequest,
+            final AsyncHandler<DeregisterInstancesFromLoadBalancerRequest, DeregisterInstancesFromLoadBalancerResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DeregisterInstancesFromLoadBalancerResult>() {
+            public DeregisterInstancesFromLoadBalancerResult call() throws Exception {
+                DeregisterInstancesFromLoadBalancerResult result;
+                try {
+                    result = deregisterInstancesFromLoadBalancer(deregisterInstancesFromLoadBalancerRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deregisterInstancesFromLoadBalancerRequest, result);
+                return result;
+		    }
+		});
+    }
+    
 }
         
\ No newline at end of file
@@ -65,6 +65,12 @@ public class AmazonElasticLoadBalancingClient extends AmazonWebServiceClient imp
      */
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers;
 
+    /**
+     * Handles error responses for all service calls, built once so its index
+     * of exception unmarshallers is shared across calls.
+     */
+    private final DefaultErrorResponseHandler errorResponseHandler;
+
     
     /** AWS signer for authenticating requests. */
     private QueryStringSigner signer;
@@ -118,6 +124,7 @@ public class AmazonElasticLoadBalancingClient extends AmazonWebServiceClient imp
         exceptionUnmarshallers.add(new DuplicateLoadBalancerNameExceptionUnmarshaller());
         
         exceptionUnmarshallers.add(new StandardErrorUnmarshaller());
+        errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
         setEndpoint("elasticloadbalancing.amazonaws.com");
 
         signer = new QueryStringSigner();
@@ -155,7 +162,7 @@ public class AmazonElasticLoadBalancingClient extends AmazonWebServiceClient imp
      */
     public void createLoadBalancerListeners(CreateLoadBalancerListenersRequest createLoadBalancerListenersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateLoadBalancerListenersRequest> request = new CreateLoadBalancerListenersRequestMarshaller().marshall(createLoadBalancerListenersRequest);
+        Request<CreateLoadBalancerListenersRequest> request = CreateLoadBalancerListenersRequestMarshaller.getInstance().marshall(createLoadBalancerListenersRequest);
         invoke(request, null);
     }
     
@@ -180,7 +187,7 @@ public class AmazonElasticLoadBalancingClient extends AmazonWebServiceClient imp
      */
     public void deleteLoadBalancerListeners(DeleteLoadBalancerListenersRequest deleteLoadBalancerListenersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteLoadBalancerListenersRequest> request = new DeleteLoadBalancerListenersRequestMarshaller().marshall(deleteLoadBalancerListenersRequest);
+        Request<DeleteLoadBalancerListenersRequest> request = DeleteLoadBalancerListenersRequestMarshaller.getInstance().marshall(deleteLoadBalancerListenersRequest);
         invoke(request, null);
     }
     
@@ -209,8 +216,8 @@ public class AmazonElasticLoadBalancingClient extends AmazonWebServiceClient imp
      */
     public ConfigureHealthCheckResult configureHealthCheck(ConfigureHealthCheckRequest configureHealthCheckRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ConfigureHealthCheckRequest> request = new ConfigureHealthCheckRequestMarshaller().marshall(configureHealthCheckRequest);
-        return invoke(request, new ConfigureHealthCheckResultStaxUnmarshaller());
+        Request<ConfigureHealthCheckRequest> request = ConfigureHealthCheckRequestMarshaller.getInstance().marshall(configureHealthCheckRequest);
+        return invoke(request, ConfigureHealthCheckResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -246,8 +253,8 @@ public class AmazonElasticLoadBalancingClient extends AmazonWebServiceClient imp
      */
     public DescribeLoadBalancersResult describeLoadBalancers(DescribeLoadBalancersRequest describeLoadBalancersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeLoadBalancersRequest> request = new DescribeLoadBalancersRequestMarshaller().marshall(describeLoadBalancersRequest);
-        return invoke(request, new DescribeLoadBalancersResultStaxUnmarshaller());
+        Request<DescribeLoadBalancersRequest> request = DescribeLoadBalancersRequestMarshaller.getInstance().marshall(describeLoadBalancersRequest);
+        return invoke(request, DescribeLoadBalancersResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -295,8 +302,8 @@ public class AmazonElasticLoadBalancingClient extends AmazonWebServiceClient imp
      */
     public CreateLBCookieStickinessPolicyResult createLBCookieStickinessPolicy(CreateLBCookieStickinessPolicyRequest createLBCookieStickinessPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateLBCookieStickinessPolicyRequest> request = new CreateLBCookieStickinessPolicyRequestMarshaller().marshall(createLBCookieStickinessPolicyRequest);
-        return invoke(request, new CreateLBCookieStickinessPolicyResultStaxUnmarshaller());
+        Request<CreateLBCookieStickinessPolicyRequest> request = CreateLBCookieStickinessPolicyRequestMarshaller.getInstance().marshall(createLBCookieStickinessPolicyRequest);
+        return invoke(request, CreateLBCookieStickinessPolicyResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -335,8 +342,8 @@ public class AmazonElasticLoadBalancingClient extends AmazonWebServiceClient imp
      */
     public EnableAvailabilityZonesForLoadBalancerResult enableAvailabilityZonesForLoadBalancer(EnableAvailabilityZonesForLoadBalancerRequest enableAvailabilityZonesForLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<EnableAvailabilityZonesForLoadBalancerRequest> request = new EnableAvailabilityZonesForLoadBalancerRequestMarshaller().marshall(enableAvailabilityZonesForLoadBalancerRequest);
-        return invoke(request, new EnableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller());
+        Request<EnableAvailabilityZonesForLoadBalancerRequest> request = EnableAvailabilityZonesForLoadBalancerRequestMarshaller.getInstance().marshall(enableAvailabilityZonesForLoadBalancerRequest);
+        return invoke(request, EnableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -372,8 +379,8 @@ public class AmazonElasticLoadBalancingClient extends AmazonWebServiceClient imp
      */
     public DescribeInstanceHealthResult describeInstanceHealth(DescribeInstanceHealthRequest describeInstanceHealthRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeInstanceHealthRequest> request = new DescribeInstanceHealthRequestMarshaller().marshall(describeInstanceHealthRequest);
-        return invoke(request, new DescribeInstanceHealthResultStaxUnmarshaller());
+        Request<DescribeInstanceHealthRequest> request = DescribeInstanceHealthRequestMarshaller.getInstance().marshall(describeInstanceHealthRequest);
+        return invoke(request, DescribeInstanceHealthResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -403,7 +410,7 @@ public class AmazonElasticLoadBalancingClient extends AmazonWebServiceClient imp
      */
     public void setLoadBalancerListenerSSLCertificate(SetLoadBalancerListenerSSLCertificateRequest setLoadBalancerListenerSSLCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<SetLoadBalancerListenerSSLCertificateRequest> request = new SetLoadBalancerListenerSSLCertificateRequestMarshaller().marshall(setLoadBalancerListenerSSLCertificateRequest);
+        Request<SetLoadBalancerListenerSSLCertificateRequest> request = SetLoadBalancerListenerSSLCertificateRequestMarshaller.getInstance().marshall(setLoadBalancerListenerSSLCertificateRequest);
         invoke(request, null);
     }
     
@@ -436,8 +443,8 @@ public class AmazonElasticLoadBalancingClient extends AmazonWebServiceClient imp
      */
     public SetLoadBalancerPoliciesOfListenerResult setLoadBalancerPoliciesOfListener(SetLoadBalancerPoliciesOfListenerRequest setLoadBalancerPoliciesOfListenerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<SetLoadBalancerPoliciesOfListenerRequest> request = new SetLoadBalancerPoliciesOfListenerRequestMarshaller().marshall(setLoadBalancerPoliciesOfListenerRequest);
-        return invoke(request, new SetLoadBalancerPoliciesOfListenerResultStaxUnmarshaller());
+        Request<SetLoadBalancerPoliciesOfListenerRequest> request = SetLoadBalancerPoliciesOfListenerRequestMarshaller.getInstance().marshall(setLoadBalancerPoliciesOfListenerRequest);
+        return invoke(request, SetLoadBalancerPoliciesOfListenerResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -488,8 +495,8 @@ public class AmazonElasticLoadBalancingClient extends AmazonWebServiceClient imp
      */
     public CreateLoadBalancerResult createLoadBalancer(CreateLoadBalancerRequest createLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateLoadBalancerRequest> request = new CreateLoadBalancerRequestMarshaller().marshall(createLoadBalancerRequest);
-        return invoke(request, new CreateLoadBalancerResultStaxUnmarshaller());
+        Request<CreateLoadBalancerRequest> request = CreateLoadBalancerRequestMarshaller.getInstance().marshall(createLoadBalancerRequest);
+        return invoke(request, CreateLoadBalancerResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -535,8 +542,8 @@ public class AmazonElasticLoadBalancingClient extends AmazonWebServiceClient imp
      */
     public RegisterInstancesWithLoadBalancerResult registerInstancesWithLoadBalancer(RegisterInstancesWithLoadBalancerRequest registerInstancesWithLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<RegisterInstancesWithLoadBalancerRequest> request = new RegisterInstancesWithLoadBalancerRequestMarshaller().marshall(registerInstancesWithLoadBalancerRequest);
-        return invoke(request, new RegisterInstancesWithLoadBalancerResultStaxUnmarshaller());
+        Request<RegisterInstancesWithLoadBalancerRequest> request = RegisterInstancesWithLoadBalancerRequestMarshaller.getInstance().marshall(registerInstancesWithLoadBalancerRequest);
+        return invoke(request, RegisterInstancesWithLoadBalancerResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -580,8 +587,8 @@ public class AmazonElasticLoadBalancingClient extends AmazonWebServiceClient imp
      */
     public CreateAppCookieStickinessPolicyResult createAppCookieStickinessPolicy(CreateAppCookieStickinessPolicyRequest createAppCookieStickinessPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateAppCookieStickinessPolicyRequest> request = new CreateAppCookieStickinessPolicyRequestMarshaller().marshall(createAppCookieStickinessPolicyRequest);
-        return invoke(request, new CreateAppCookieStickinessPolicyResultStaxUnmarshaller());
+        Request<CreateAppCookieStickinessPolicyRequest> request = CreateAppCookieStickinessPolicyRequestMarshaller.getInstance().marshall(createAppCookieStickinessPolicyRequest);
+        return invoke(request, CreateAppCookieStickinessPolicyResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -621,7 +628,7 @@ public class AmazonElasticLoadBalancingClient extends AmazonWebServiceClient imp
      */
     public void deleteLoadBalancer(DeleteLoadBalancerRequest deleteLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteLoadBalancerRequest> request = new DeleteLoadBalancerRequestMarshaller().marshall(deleteLoadBalancerRequest);
+        Request<DeleteLoadBalancerRequest> request = DeleteLoadBalancerRequestMarshaller.getInstance().marshall(deleteLoadBalancerRequest);
         invoke(request, null);
     }
     
@@ -669,8 +676,8 @@ public class AmazonElasticLoadBalancingClient extends AmazonWebServiceClient imp
      */
     public DisableAvailabilityZonesForLoadBalancerResult disableAvailabilityZonesForLoadBalancer(DisableAvailabilityZonesForLoadBalancerRequest disableAvailabilityZonesForLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DisableAvailabilityZonesForLoadBalancerRequest> request = new DisableAvailabilityZonesForLoadBalancerRequestMarshaller().marshall(disableAvailabilityZonesForLoadBalancerRequest);
-        return invoke(request, new DisableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller());
+        Request<DisableAvailabilityZonesForLoadBalancerRequest> request = DisableAvailabilityZonesForLoadBalancerRequestMarshaller.getInstance().marshall(disableAvailabilityZonesForLoadBalancerRequest);
+        return invoke(request, DisableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -699,8 +706,8 @@ public class AmazonElasticLoadBalancingClient extends AmazonWebServiceClient imp
      */
     public DeleteLoadBalancerPolicyResult deleteLoadBalancerPolicy(DeleteLoadBalancerPolicyRequest deleteLoadBalancerPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteLoadBalancerPolicyRequest> request = new DeleteLoadBalancerPolicyRequestMarshaller().marshall(deleteLoadBalancerPolicyRequest);
-        return invoke(request, new DeleteLoadBalancerPolicyResultStaxUnmarshaller());
+        Request<DeleteLoadBalancerPolicyRequest> request = DeleteLoadBalancerPolicyRequestMarshaller.getInstance().marshall(deleteLoadBalancerPolicyRequest);
+        return invoke(request, DeleteLoadBalancerPolicyResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -734,8 +741,8 @@ public class AmazonElasticLoadBalancingClient extends AmazonWebServiceClient imp
      */
     public DeregisterInstancesFromLoadBalancerResult deregisterInstancesFromLoadBalancer(DeregisterInstancesFromLoadBalancerRequest deregisterInstancesFromLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeregisterInstancesFromLoadBalancerRequest> request = new DeregisterInstancesFromLoadBalancerRequestMarshaller().marshall(deregisterInstancesFromLoadBalancerRequest);
-        return invoke(request, new DeregisterInstancesFromLoadBalancerResultStaxUnmarshaller());
+        Request<DeregisterInstancesFromLoadBalancerRequest> request = DeregisterInstancesFromLoadBalancerRequestMarshaller.getInstance().marshall(deregisterInstancesFromLoadBalancerRequest);
+        return invoke(request, DeregisterInstancesFromLoadBalancerResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -812,7 +819,6 @@ public class AmazonElasticLoadBalancingClient extends AmazonWebServiceClient imp
 
         
         StaxResponseHandler<X> responseHandler = new StaxResponseHandler<X>(unmarshaller);
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
 
         ExecutionContext executionContext = createExecutionContext();
         return (X)client.execute(request, responseHandler, errorResponseHandler, executionContext);
@@ -63,9 +63,8 @@ public class AppCookieStickinessPolicyStaxUnmarshaller implements Unmarshaller<A
         }
     }
 
-    private static AppCookieStickinessPolicyStaxUnmarshaller instance;
+    private static final AppCookieStickinessPolicyStaxUnmarshaller instance = new AppCookieStickinessPolicyStaxUnmarshaller();
     public static AppCookieStickinessPolicyStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new AppCookieStickinessPolicyStaxUnmarshaller();
         return instance;
     }
 }
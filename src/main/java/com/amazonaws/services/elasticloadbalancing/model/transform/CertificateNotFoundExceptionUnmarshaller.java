@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticloadbalancing.model.CertificateNotFoundExce
 public class CertificateNotFoundExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public CertificateNotFoundExceptionUnmarshaller() {
-        super(CertificateNotFoundException.class);
+        super(CertificateNotFoundException.class, "CertificateNotFound");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -70,4 +70,9 @@ public class ConfigureHealthCheckRequestMarshaller implements Marshaller<Request
 
         return request;
     }
+
+    private static final ConfigureHealthCheckRequestMarshaller instance = new ConfigureHealthCheckRequestMarshaller();
+    public static ConfigureHealthCheckRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class ConfigureHealthCheckResultStaxUnmarshaller implements Unmarshaller<
         }
     }
 
-    private static ConfigureHealthCheckResultStaxUnmarshaller instance;
+    private static final ConfigureHealthCheckResultStaxUnmarshaller instance = new ConfigureHealthCheckResultStaxUnmarshaller();
     public static ConfigureHealthCheckResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ConfigureHealthCheckResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -52,4 +52,9 @@ public class CreateAppCookieStickinessPolicyRequestMarshaller implements Marshal
 
         return request;
     }
+
+    private static final CreateAppCookieStickinessPolicyRequestMarshaller instance = new CreateAppCookieStickinessPolicyRequestMarshaller();
+    public static CreateAppCookieStickinessPolicyRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -55,9 +55,8 @@ public class CreateAppCookieStickinessPolicyResultStaxUnmarshaller implements Un
         }
     }
 
-    private static CreateAppCookieStickinessPolicyResultStaxUnmarshaller instance;
+    private static final CreateAppCookieStickinessPolicyResultStaxUnmarshaller instance = new CreateAppCookieStickinessPolicyResultStaxUnmarshaller();
     public static CreateAppCookieStickinessPolicyResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateAppCookieStickinessPolicyResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -52,4 +52,9 @@ public class CreateLBCookieStickinessPolicyRequestMarshaller implements Marshall
 
         return request;
     }
+
+    private static final CreateLBCookieStickinessPolicyRequestMarshaller instance = new CreateLBCookieStickinessPolicyRequestMarshaller();
+    public static CreateLBCookieStickinessPolicyRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -55,9 +55,8 @@ public class CreateLBCookieStickinessPolicyResultStaxUnmarshaller implements Unm
         }
     }
 
-    private static CreateLBCookieStickinessPolicyResultStaxUnmarshaller instance;
+    private static final CreateLBCookieStickinessPolicyResultStaxUnmarshaller instance = new CreateLBCookieStickinessPolicyResultStaxUnmarshaller();
     public static CreateLBCookieStickinessPolicyResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateLBCookieStickinessPolicyResultStaxUnmarshaller();
         return instance;
     }
 }
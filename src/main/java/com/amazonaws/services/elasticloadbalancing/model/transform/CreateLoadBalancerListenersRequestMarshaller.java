@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.elasticloadbalancing.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,11 @@ import com.amazonaws.util.StringUtils;
  */
 public class CreateLoadBalancerListenersRequestMarshaller implements Marshaller<Request<CreateLoadBalancerListenersRequest>, CreateLoadBalancerListenersRequest> {
 
+    private static final ParameterNameTable LISTENERS_MEMBER_PROTOCOL_NAMES = new ParameterNameTable("Listeners.member.", ".Protocol");
+    private static final ParameterNameTable LISTENERS_MEMBER_LOAD_BALANCER_PORT_NAMES = new ParameterNameTable("Listeners.member.", ".LoadBalancerPort");
+    private static final ParameterNameTable LISTENERS_MEMBER_INSTANCE_PORT_NAMES = new ParameterNameTable("Listeners.member.", ".InstancePort");
+    private static final ParameterNameTable LISTENERS_MEMBER_SSLCERTIFICATE_ID_NAMES = new ParameterNameTable("Listeners.member.", ".SSLCertificateId");
+
     public Request<CreateLoadBalancerListenersRequest> marshall(CreateLoadBalancerListenersRequest createLoadBalancerListenersRequest) {
         Request<CreateLoadBalancerListenersRequest> request = new DefaultRequest<CreateLoadBalancerListenersRequest>(createLoadBalancerListenersRequest, "AmazonElasticLoadBalancing");
         request.addParameter("Action", "CreateLoadBalancerListeners");
@@ -45,22 +51,22 @@ public class CreateLoadBalancerListenersRequestMarshaller implements Marshaller<
             for (Listener listenersListValue : listenersList) {
                 if (listenersListValue != null) {
                     if (listenersListValue.getProtocol() != null) {
-                        request.addParameter("Listeners.member." + listenersListIndex + ".Protocol", StringUtils.fromString(listenersListValue.getProtocol()));
+                        request.addParameter(LISTENERS_MEMBER_PROTOCOL_NAMES.get(listenersListIndex), StringUtils.fromString(listenersListValue.getProtocol()));
                     }
                 }
                 if (listenersListValue != null) {
                     if (listenersListValue.getLoadBalancerPort() != null) {
-                        request.addParameter("Listeners.member." + listenersListIndex + ".LoadBalancerPort", StringUtils.fromInteger(listenersListValue.getLoadBalancerPort()));
+                        request.addParameter(LISTENERS_MEMBER_LOAD_BALANCER_PORT_NAMES.get(listenersListIndex), StringUtils.fromInteger(listenersListValue.getLoadBalancerPort()));
                     }
                 }
                 if (listenersListValue != null) {
                     if (listenersListValue.getInstancePort() != null) {
-                        request.addParameter("Listeners.member." + listenersListIndex + ".InstancePort", StringUtils.fromInteger(listenersListValue.getInstancePort()));
+                        request.addParameter(LISTENERS_MEMBER_INSTANCE_PORT_NAMES.get(listenersListIndex), StringUtils.fromInteger(listenersListValue.getInstancePort()));
                     }
                 }
                 if (listenersListValue != null) {
                     if (listenersListValue.getSSLCertificateId() != null) {
-                        request.addParameter("Listeners.member." + listenersListIndex + ".SSLCertificateId", StringUtils.fromString(listenersListValue.getSSLCertificateId()));
+                        request.addParameter(LISTENERS_MEMBER_SSLCERTIFICATE_ID_NAMES.get(listenersListIndex), StringUtils.fromString(listenersListValue.getSSLCertificateId()));
                     }
                 }
 
@@ -71,4 +77,9 @@ public class CreateLoadBalancerListenersRequestMarshaller implements Marshaller<
 
         return request;
     }
+
+    private static final CreateLoadBalancerListenersRequestMarshaller instance = new CreateLoadBalancerListenersRequestMarshaller();
+    public static CreateLoadBalancerListenersRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.elasticloadbalancing.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,12 @@ import com.amazonaws.util.StringUtils;
  */
 public class CreateLoadBalancerRequestMarshaller implements Marshaller<Request<CreateLoadBalancerRequest>, CreateLoadBalancerRequest> {
 
+    private static final ParameterNameTable LISTENERS_MEMBER_PROTOCOL_NAMES = new ParameterNameTable("Listeners.member.", ".Protocol");
+    private static final ParameterNameTable LISTENERS_MEMBER_LOAD_BALANCER_PORT_NAMES = new ParameterNameTable("Listeners.member.", ".LoadBalancerPort");
+    private static final ParameterNameTable LISTENERS_MEMBER_INSTANCE_PORT_NAMES = new ParameterNameTable("Listeners.member.", ".InstancePort");
+    private static final ParameterNameTable LISTENERS_MEMBER_SSLCERTIFICATE_ID_NAMES = new ParameterNameTable("Listeners.member.", ".SSLCertificateId");
+    private static final ParameterNameTable AVAILABILITY_ZONES_MEMBER_NAMES = new ParameterNameTable("AvailabilityZones.member.", "");
+
     public Request<CreateLoadBalancerRequest> marshall(CreateLoadBalancerRequest createLoadBalancerRequest) {
         Request<CreateLoadBalancerRequest> request = new DefaultRequest<CreateLoadBalancerRequest>(createLoadBalancerRequest, "AmazonElasticLoadBalancing");
         request.addParameter("Action", "CreateLoadBalancer");
@@ -45,22 +52,22 @@ public class CreateLoadBalancerRequestMarshaller implements Marshaller<Request<C
             for (Listener listenersListValue : listenersList) {
                 if (listenersListValue != null) {
                     if (listenersListValue.getProtocol() != null) {
-                        request.addParameter("Listeners.member." + listenersListIndex + ".Protocol", StringUtils.fromString(listenersListValue.getProtocol()));
+                        request.addParameter(LISTENERS_MEMBER_PROTOCOL_NAMES.get(listenersListIndex), StringUtils.fromString(listenersListValue.getProtocol()));
                     }
                 }
                 if (listenersListValue != null) {
                     if (listenersListValue.getLoadBalancerPort() != null) {
-                        request.addParameter("Listeners.member." + listenersListIndex + ".LoadBalancerPort", StringUtils.fromInteger(listenersListValue.getLoadBalancerPort()));
+                        request.addParameter(LISTENERS_MEMBER_LOAD_BALANCER_PORT_NAMES.get(listenersListIndex), StringUtils.fromInteger(listenersListValue.getLoadBalancerPort()));
                     }
                 }
                 if (listenersListValue != null) {
                     if (listenersListValue.getInstancePort() != null) {
-                        request.addParameter("Listeners.member." + listenersListIndex + ".InstancePort", StringUtils.fromInteger(listenersListValue.getInstancePort()));
+                        request.addParameter(LISTENERS_MEMBER_INSTANCE_PORT_NAMES.get(listenersListIndex), StringUtils.fromInteger(listenersListValue.getInstancePort()));
                     }
                 }
                 if (listenersListValue != null) {
                     if (listenersListValue.getSSLCertificateId() != null) {
-                        request.addParameter("Listeners.member." + listenersListIndex + ".SSLCertificateId", StringUtils.fromString(listenersListValue.getSSLCertificateId()));
+                        request.addParameter(LISTENERS_MEMBER_SSLCERTIFICATE_ID_NAMES.get(listenersListIndex), StringUtils.fromString(listenersListValue.getSSLCertificateId()));
                     }
                 }
 
@@ -73,7 +80,7 @@ public class CreateLoadBalancerRequestMarshaller implements Marshaller<Request<C
 
             for (String availabilityZonesListValue : availabilityZonesList) {
                 if (availabilityZonesListValue != null) {
-                    request.addParameter("AvailabilityZones.member." + availabilityZonesListIndex, StringUtils.fromString(availabilityZonesListValue));
+                    request.addParameter(AVAILABILITY_ZONES_MEMBER_NAMES.get(availabilityZonesListIndex), StringUtils.fromString(availabilityZonesListValue));
                 }
                 availabilityZonesListIndex++;
             }
@@ -82,4 +89,9 @@ public class CreateLoadBalancerRequestMarshaller implements Marshaller<Request<C
 
         return request;
     }
+
+    private static final CreateLoadBalancerRequestMarshaller instance = new CreateLoadBalancerRequestMarshaller();
+    public static CreateLoadBalancerRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class CreateLoadBalancerResultStaxUnmarshaller implements Unmarshaller<Cr
         }
     }
 
-    private static CreateLoadBalancerResultStaxUnmarshaller instance;
+    private static final CreateLoadBalancerResultStaxUnmarshaller instance = new CreateLoadBalancerResultStaxUnmarshaller();
     public static CreateLoadBalancerResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateLoadBalancerResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.elasticloadbalancing.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class DeleteLoadBalancerListenersRequestMarshaller implements Marshaller<Request<DeleteLoadBalancerListenersRequest>, DeleteLoadBalancerListenersRequest> {
 
+    private static final ParameterNameTable LOAD_BALANCER_PORTS_MEMBER_NAMES = new ParameterNameTable("LoadBalancerPorts.member.", "");
+
     public Request<DeleteLoadBalancerListenersRequest> marshall(DeleteLoadBalancerListenersRequest deleteLoadBalancerListenersRequest) {
         Request<DeleteLoadBalancerListenersRequest> request = new DefaultRequest<DeleteLoadBalancerListenersRequest>(deleteLoadBalancerListenersRequest, "AmazonElasticLoadBalancing");
         request.addParameter("Action", "DeleteLoadBalancerListeners");
@@ -44,7 +47,7 @@ public class DeleteLoadBalancerListenersRequestMarshaller implements Marshaller<
 
             for (Integer loadBalancerPortsListValue : loadBalancerPortsList) {
                 if (loadBalancerPortsListValue != null) {
-                    request.addParameter("LoadBalancerPorts.member." + loadBalancerPortsListIndex, StringUtils.fromInteger(loadBalancerPortsListValue));
+                    request.addParameter(LOAD_BALANCER_PORTS_MEMBER_NAMES.get(loadBalancerPortsListIndex), StringUtils.fromInteger(loadBalancerPortsListValue));
                 }
                 loadBalancerPortsListIndex++;
             }
@@ -53,4 +56,9 @@ public class DeleteLoadBalancerListenersRequestMarshaller implements Marshaller<
 
         return request;
     }
+
+    private static final DeleteLoadBalancerListenersRequestMarshaller instance = new DeleteLoadBalancerListenersRequestMarshaller();
+    public static DeleteLoadBalancerListenersRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -47,4 +47,9 @@ public class DeleteLoadBalancerPolicyRequestMarshaller implements Marshaller<Req
 
         return request;
     }
+
+    private static final DeleteLoadBalancerPolicyRequestMarshaller instance = new DeleteLoadBalancerPolicyRequestMarshaller();
+    public static DeleteLoadBalancerPolicyRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -55,9 +55,8 @@ public class DeleteLoadBalancerPolicyResultStaxUnmarshaller implements Unmarshal
         }
     }
 
-    private static DeleteLoadBalancerPolicyResultStaxUnmarshaller instance;
+    private static final DeleteLoadBalancerPolicyResultStaxUnmarshaller instance = new DeleteLoadBalancerPolicyResultStaxUnmarshaller();
     public static DeleteLoadBalancerPolicyResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DeleteLoadBalancerPolicyResultStaxUnmarshaller();
         return instance;
     }
 }
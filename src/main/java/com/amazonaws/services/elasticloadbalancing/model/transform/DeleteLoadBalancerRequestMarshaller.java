@@ -42,4 +42,9 @@ public class DeleteLoadBalancerRequestMarshaller implements Marshaller<Request<D
 
         return request;
     }
+
+    private static final DeleteLoadBalancerRequestMarshaller instance = new DeleteLoadBalancerRequestMarshaller();
+    public static DeleteLoadBalancerRequestMarshaller getInstance() {
+        return instance;
+    }
 }
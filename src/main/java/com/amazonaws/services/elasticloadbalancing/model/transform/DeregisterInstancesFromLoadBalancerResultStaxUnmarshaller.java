@@ -59,9 +59,8 @@ public class DeregisterInstancesFromLoadBalancerResultStaxUnmarshaller implement
         }
     }
 
-    private static DeregisterInstancesFromLoadBalancerResultStaxUnmarshaller instance;
+    private static final DeregisterInstancesFromLoadBalancerResultStaxUnmarshaller instance = new DeregisterInstancesFromLoadBalancerResultStaxUnmarshaller();
     public static DeregisterInstancesFromLoadBalancerResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DeregisterInstancesFromLoadBalancerResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.elasticloadbalancing.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeInstanceHealthRequestMarshaller implements Marshaller<Request<DescribeInstanceHealthRequest>, DescribeInstanceHealthRequest> {
 
+    private static final ParameterNameTable INSTANCES_MEMBER_INSTANCE_ID_NAMES = new ParameterNameTable("Instances.member.", ".InstanceId");
+
     public Request<DescribeInstanceHealthRequest> marshall(DescribeInstanceHealthRequest describeInstanceHealthRequest) {
         Request<DescribeInstanceHealthRequest> request = new DefaultRequest<DescribeInstanceHealthRequest>(describeInstanceHealthRequest, "AmazonElasticLoadBalancing");
         request.addParameter("Action", "DescribeInstanceHealth");
@@ -45,7 +48,7 @@ public class DescribeInstanceHealthRequestMarshaller implements Marshaller<Reque
             for (Instance instancesListValue : instancesList) {
                 if (instancesListValue != null) {
                     if (instancesListValue.getInstanceId() != null) {
-                        request.addParameter("Instances.member." + instancesListIndex + ".InstanceId", StringUtils.fromString(instancesListValue.getInstanceId()));
+                        request.addParameter(INSTANCES_MEMBER_INSTANCE_ID_NAMES.get(instancesListIndex), StringUtils.fromString(instancesListValue.getInstanceId()));
                     }
                 }
 
@@ -56,4 +59,9 @@ public class DescribeInstanceHealthRequestMarshaller implements Marshaller<Reque
 
         return request;
     }
+
+    private static final DescribeInstanceHealthRequestMarshaller instance = new DescribeInstanceHealthRequestMarshaller();
+    public static DescribeInstanceHealthRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class DescribeInstanceHealthResultStaxUnmarshaller implements Unmarshalle
         }
     }
 
-    private static DescribeInstanceHealthResultStaxUnmarshaller instance;
+    private static final DescribeInstanceHealthResultStaxUnmarshaller instance = new DescribeInstanceHealthResultStaxUnmarshaller();
     public static DescribeInstanceHealthResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeInstanceHealthResultStaxUnmarshaller();
         return instance;
     }
 }
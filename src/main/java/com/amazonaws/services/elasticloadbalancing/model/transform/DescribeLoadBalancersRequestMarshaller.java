@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.elasticloadbalancing.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeLoadBalancersRequestMarshaller implements Marshaller<Request<DescribeLoadBalancersRequest>, DescribeLoadBalancersRequest> {
 
+    private static final ParameterNameTable LOAD_BALANCER_NAMES_MEMBER_NAMES = new ParameterNameTable("LoadBalancerNames.member.", "");
+
     public Request<DescribeLoadBalancersRequest> marshall(DescribeLoadBalancersRequest describeLoadBalancersRequest) {
         Request<DescribeLoadBalancersRequest> request = new DefaultRequest<DescribeLoadBalancersRequest>(describeLoadBalancersRequest, "AmazonElasticLoadBalancing");
         request.addParameter("Action", "DescribeLoadBalancers");
@@ -39,7 +42,7 @@ public class DescribeLoadBalancersRequestMarshaller implements Marshaller<Reques
 
             for (String loadBalancerNamesListValue : loadBalancerNamesList) {
                 if (loadBalancerNamesListValue != null) {
-                    request.addParameter("LoadBalancerNames.member." + loadBalancerNamesListIndex, StringUtils.fromString(loadBalancerNamesListValue));
+                    request.addParameter(LOAD_BALANCER_NAMES_MEMBER_NAMES.get(loadBalancerNamesListIndex), StringUtils.fromString(loadBalancerNamesListValue));
                 }
                 loadBalancerNamesListIndex++;
             }
@@ -48,4 +51,9 @@ public class DescribeLoadBalancersRequestMarshaller implements Marshaller<Reques
 
         return request;
     }
+
+    private static final DescribeLoadBalancersRequestMarshaller instance = new DescribeLoadBalancersRequestMarshaller();
+    public static DescribeLoadBalancersRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class DescribeLoadBalancersResultStaxUnmarshaller implements Unmarshaller
         }
     }
 
-    private static DescribeLoadBalancersResultStaxUnmarshaller instance;
+    private static final DescribeLoadBalancersResultStaxUnmarshaller instance = new DescribeLoadBalancersResultStaxUnmarshaller();
     public static DescribeLoadBalancersResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeLoadBalancersResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -59,9 +59,8 @@ public class DisableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller imple
         }
     }
 
-    private static DisableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller instance;
+    private static final DisableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller instance = new DisableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller();
     public static DisableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DisableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticloadbalancing.model.DuplicateListenerExcept
 public class DuplicateListenerExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public DuplicateListenerExceptionUnmarshaller() {
-        super(DuplicateListenerException.class);
+        super(DuplicateListenerException.class, "DuplicateListener");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
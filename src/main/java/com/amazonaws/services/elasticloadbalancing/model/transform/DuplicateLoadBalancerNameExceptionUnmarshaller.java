@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticloadbalancing.model.DuplicateLoadBalancerNa
 public class DuplicateLoadBalancerNameExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public DuplicateLoadBalancerNameExceptionUnmarshaller() {
-        super(DuplicateLoadBalancerNameException.class);
+        super(DuplicateLoadBalancerNameException.class, "DuplicateLoadBalancerName");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticloadbalancing.model.DuplicatePolicyNameExce
 public class DuplicatePolicyNameExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public DuplicatePolicyNameExceptionUnmarshaller() {
-        super(DuplicatePolicyNameException.class);
+        super(DuplicatePolicyNameException.class, "DuplicatePolicyName");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
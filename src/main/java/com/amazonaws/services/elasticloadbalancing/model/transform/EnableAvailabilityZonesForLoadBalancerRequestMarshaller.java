@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.elasticloadbalancing.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class EnableAvailabilityZonesForLoadBalancerRequestMarshaller implements Marshaller<Request<EnableAvailabilityZonesForLoadBalancerRequest>, EnableAvailabilityZonesForLoadBalancerRequest> {
 
+    private static final ParameterNameTable AVAILABILITY_ZONES_MEMBER_NAMES = new ParameterNameTable("AvailabilityZones.member.", "");
+
     public Request<EnableAvailabilityZonesForLoadBalancerRequest> marshall(EnableAvailabilityZonesForLoadBalancerRequest enableAvailabilityZonesForLoadBalancerRequest) {
         Request<EnableAvailabilityZonesForLoadBalancerRequest> request = new DefaultRequest<EnableAvailabilityZonesForLoadBalancerRequest>(enableAvailabilityZonesForLoadBalancerRequest, "AmazonElasticLoadBalancing");
         request.addParameter("Action", "EnableAvailabilityZonesForLoadBalancer");
@@ -44,7 +47,7 @@ public class EnableAvailabilityZonesForLoadBalancerRequestMarshaller implements
 
             for (String availabilityZonesListValue : availabilityZonesList) {
                 if (availabilityZonesListValue != null) {
-                    request.addParameter("AvailabilityZones.member." + availabilityZonesListIndex, StringUtils.fromString(availabilityZonesListValue));
+                    request.addParameter(AVAILABILITY_ZONES_MEMBER_NAMES.get(availabilityZonesListIndex), StringUtils.fromString(availabilityZonesListValue));
                 }
                 availabilityZonesListIndex++;
             }
@@ -53,4 +56,9 @@ public class EnableAvailabilityZonesForLoadBalancerRequestMarshaller implements
 
         return request;
     }
+
+    private static final EnableAvailabilityZonesForLoadBalancerRequestMarshaller instance = new EnableAvailabilityZonesForLoadBalancerRequestMarshaller();
+    public static EnableAvailabilityZonesForLoadBalancerRequestMarshaller getInstance() {
+        return instance;
+    }
 }
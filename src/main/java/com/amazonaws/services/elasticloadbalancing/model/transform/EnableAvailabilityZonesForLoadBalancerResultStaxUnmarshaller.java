@@ -59,9 +59,8 @@ public class EnableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller implem
         }
     }
 
-    private static EnableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller instance;
+    private static final EnableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller instance = new EnableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller();
     public static EnableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new EnableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller();
         return instance;
     }
 }
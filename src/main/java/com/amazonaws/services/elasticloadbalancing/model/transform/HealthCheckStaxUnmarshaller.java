@@ -75,9 +75,8 @@ public class HealthCheckStaxUnmarshaller implements Unmarshaller<HealthCheck, St
         }
     }
 
-    private static HealthCheckStaxUnmarshaller instance;
+    private static final HealthCheckStaxUnmarshaller instance = new HealthCheckStaxUnmarshaller();
     public static HealthCheckStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new HealthCheckStaxUnmarshaller();
         return instance;
     }
 }
@@ -71,9 +71,8 @@ public class InstanceStateStaxUnmarshaller implements Unmarshaller<InstanceState
         }
     }
 
-    private static InstanceStateStaxUnmarshaller instance;
+    private static final InstanceStateStaxUnmarshaller instance = new InstanceStateStaxUnmarshaller();
     public static InstanceStateStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new InstanceStateStaxUnmarshaller();
         return instance;
     }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticloadbalancing.model.InvalidConfigurationReq
 public class InvalidConfigurationRequestExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidConfigurationRequestExceptionUnmarshaller() {
-        super(InvalidConfigurationRequestException.class);
+        super(InvalidConfigurationRequestException.class, "InvalidConfigurationRequest");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticloadbalancing.model.InvalidInstanceExceptio
 public class InvalidInstanceExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidInstanceExceptionUnmarshaller() {
-        super(InvalidInstanceException.class);
+        super(InvalidInstanceException.class, "InvalidInstance");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -63,9 +63,8 @@ public class LBCookieStickinessPolicyStaxUnmarshaller implements Unmarshaller<LB
         }
     }
 
-    private static LBCookieStickinessPolicyStaxUnmarshaller instance;
+    private static final LBCookieStickinessPolicyStaxUnmarshaller instance = new LBCookieStickinessPolicyStaxUnmarshaller();
     public static LBCookieStickinessPolicyStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new LBCookieStickinessPolicyStaxUnmarshaller();
         return instance;
     }
 }
@@ -63,9 +63,8 @@ public class ListenerDescriptionStaxUnmarshaller implements Unmarshaller<Listene
         }
     }
 
-    private static ListenerDescriptionStaxUnmarshaller instance;
+    private static final ListenerDescriptionStaxUnmarshaller instance = new ListenerDescriptionStaxUnmarshaller();
     public static ListenerDescriptionStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ListenerDescriptionStaxUnmarshaller();
         return instance;
     }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticloadbalancing.model.ListenerNotFoundExcepti
 public class ListenerNotFoundExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public ListenerNotFoundExceptionUnmarshaller() {
-        super(ListenerNotFoundException.class);
+        super(ListenerNotFoundException.class, "ListenerNotFound");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
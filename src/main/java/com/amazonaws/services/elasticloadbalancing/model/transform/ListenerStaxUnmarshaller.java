@@ -71,9 +71,8 @@ public class ListenerStaxUnmarshaller implements Unmarshaller<Listener, StaxUnma
         }
     }
 
-    private static ListenerStaxUnmarshaller instance;
+    private static final ListenerStaxUnmarshaller instance = new ListenerStaxUnmarshaller();
     public static ListenerStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ListenerStaxUnmarshaller();
         return instance;
     }
 }
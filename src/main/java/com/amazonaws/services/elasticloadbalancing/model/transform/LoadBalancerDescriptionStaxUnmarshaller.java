@@ -87,9 +87,8 @@ public class LoadBalancerDescriptionStaxUnmarshaller implements Unmarshaller<Loa
         }
     }
 
-    private static LoadBalancerDescriptionStaxUnmarshaller instance;
+    private static final LoadBalancerDescriptionStaxUnmarshaller instance = new LoadBalancerDescriptionStaxUnmarshaller();
     public static LoadBalancerDescriptionStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new LoadBalancerDescriptionStaxUnmarshaller();
         return instance;
     }
 }
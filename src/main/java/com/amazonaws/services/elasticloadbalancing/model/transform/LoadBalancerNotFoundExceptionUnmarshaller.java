@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticloadbalancing.model.LoadBalancerNotFoundExc
 public class LoadBalancerNotFoundExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public LoadBalancerNotFoundExceptionUnmarshaller() {
-        super(LoadBalancerNotFoundException.class);
+        super(LoadBalancerNotFoundException.class, "LoadBalancerNotFound");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -63,9 +63,8 @@ public class PoliciesStaxUnmarshaller implements Unmarshaller<Policies, StaxUnma
         }
     }
 
-    private static PoliciesStaxUnmarshaller instance;
+    private static final PoliciesStaxUnmarshaller instance = new PoliciesStaxUnmarshaller();
     public static PoliciesStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new PoliciesStaxUnmarshaller();
         return instance;
     }
 }
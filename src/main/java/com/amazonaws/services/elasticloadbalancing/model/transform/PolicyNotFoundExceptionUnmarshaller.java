@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticloadbalancing.model.PolicyNotFoundException
 public class PolicyNotFoundExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public PolicyNotFoundExceptionUnmarshaller() {
-        super(PolicyNotFoundException.class);
+        super(PolicyNotFoundException.class, "PolicyNotFound");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.elasticloadbalancing.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class RegisterInstancesWithLoadBalancerRequestMarshaller implements Marshaller<Request<RegisterInstancesWithLoadBalancerRequest>, RegisterInstancesWithLoadBalancerRequest> {
 
+    private static final ParameterNameTable INSTANCES_MEMBER_INSTANCE_ID_NAMES = new ParameterNameTable("Instances.member.", ".InstanceId");
+
     public Request<RegisterInstancesWithLoadBalancerRequest> marshall(RegisterInstancesWithLoadBalancerRequest registerInstancesWithLoadBalancerRequest) {
         Request<RegisterInstancesWithLoadBalancerRequest> request = new DefaultRequest<RegisterInstancesWithLoadBalancerRequest>(registerInstancesWithLoadBalancerRequest, "AmazonElasticLoadBalancing");
         request.addParameter("Action", "RegisterInstancesWithLoadBalancer");
@@ -45,7 +48,7 @@ public class RegisterInstancesWithLoadBalancerRequestMarshaller implements Marsh
             for (Instance instancesListValue : instancesList) {
                 if (instancesListValue != null) {
                     if (instancesListValue.getInstanceId() != null) {
-                        request.addParameter("Instances.member." + instancesListIndex + ".InstanceId", StringUtils.fromString(instancesListValue.getInstanceId()));
+                        request.addParameter(INSTANCES_MEMBER_INSTANCE_ID_NAMES.get(instancesListIndex), StringUtils.fromString(instancesListValue.getInstanceId()));
                     }
                 }
 
@@ -56,4 +59,9 @@ public class RegisterInstancesWithLoadBalancerRequestMarshaller implements Marsh
 
         return request;
     }
+
+    private static final RegisterInstancesWithLoadBalancerRequestMarshaller instance = new RegisterInstancesWithLoadBalancerRequestMarshaller();
+    public static RegisterInstancesWithLoadBalancerRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class RegisterInstancesWithLoadBalancerResultStaxUnmarshaller implements
         }
     }
 
-    private static RegisterInstancesWithLoadBalancerResultStaxUnmarshaller instance;
+    private static final RegisterInstancesWithLoadBalancerResultStaxUnmarshaller instance = new RegisterInstancesWithLoadBalancerResultStaxUnmarshaller();
     public static RegisterInstancesWithLoadBalancerResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new RegisterInstancesWithLoadBalancerResultStaxUnmarshaller();
         return instance;
     }
 }
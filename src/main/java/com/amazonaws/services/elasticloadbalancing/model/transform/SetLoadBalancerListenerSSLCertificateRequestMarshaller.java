@@ -52,4 +52,9 @@ public class SetLoadBalancerListenerSSLCertificateRequestMarshaller implements M
 
         return request;
     }
+
+    private static final SetLoadBalancerListenerSSLCertificateRequestMarshaller instance = new SetLoadBalancerListenerSSLCertificateRequestMarshaller();
+    public static SetLoadBalancerListenerSSLCertificateRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.elasticloadbalancing.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class SetLoadBalancerPoliciesOfListenerRequestMarshaller implements Marshaller<Request<SetLoadBalancerPoliciesOfListenerRequest>, SetLoadBalancerPoliciesOfListenerRequest> {
 
+    private static final ParameterNameTable POLICY_NAMES_MEMBER_NAMES = new ParameterNameTable("PolicyNames.member.", "");
+
     public Request<SetLoadBalancerPoliciesOfListenerRequest> marshall(SetLoadBalancerPoliciesOfListenerRequest setLoadBalancerPoliciesOfListenerRequest) {
         Request<SetLoadBalancerPoliciesOfListenerRequest> request = new DefaultRequest<SetLoadBalancerPoliciesOfListenerRequest>(setLoadBalancerPoliciesOfListenerRequest, "AmazonElasticLoadBalancing");
         request.addParameter("Action", "SetLoadBalancerPoliciesOfListener");
@@ -50,7 +53,7 @@ public class SetLoadBalancerPoliciesOfListenerRequestMarshaller implements Marsh
             if (policyNamesList.isEmpty()) request.addParameter("PolicyNames", "");
             for (String policyNamesListValue : policyNamesList) {
                 if (policyNamesListValue != null) {
-                    request.addParameter("PolicyNames.member." + policyNamesListIndex, StringUtils.fromString(policyNamesListValue));
+                    request.addParameter(POLICY_NAMES_MEMBER_NAMES.get(policyNamesListIndex), StringUtils.fromString(policyNamesListValue));
                 }
                 policyNamesListIndex++;
             }
@@ -59,4 +62,9 @@ public class SetLoadBalancerPoliciesOfListenerRequestMarshaller implements Marsh
 
         return request;
     }
+
+    private static final SetLoadBalancerPoliciesOfListenerRequestMarshaller instance = new SetLoadBalancerPoliciesOfListenerRequestMarshaller();
+    public static SetLoadBalancerPoliciesOfListenerRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -55,9 +55,8 @@ public class SetLoadBalancerPoliciesOfListenerResultStaxUnmarshaller implements
         }
     }
 
-    private static SetLoadBalancerPoliciesOfListenerResultStaxUnmarshaller instance;
+    private static final SetLoadBalancerPoliciesOfListenerResultStaxUnmarshaller instance = new SetLoadBalancerPoliciesOfListenerResultStaxUnmarshaller();
     public static SetLoadBalancerPoliciesOfListenerResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new SetLoadBalancerPoliciesOfListenerResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticloadbalancing.model.TooManyLoadBalancersExc
 public class TooManyLoadBalancersExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public TooManyLoadBalancersExceptionUnmarshaller() {
-        super(TooManyLoadBalancersException.class);
+        super(TooManyLoadBalancersException.class, "TooManyLoadBalancers");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticloadbalancing.model.TooManyPoliciesExceptio
 public class TooManyPoliciesExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public TooManyPoliciesExceptionUnmarshaller() {
-        super(TooManyPoliciesException.class);
+        super(TooManyPoliciesException.class, "TooManyPolicies");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -18,6 +18,7 @@ import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.services.elasticmapreduce.model.*;
 
 /**
@@ -60,6 +61,34 @@ public interface AmazonElasticMapReduceAsync extends AmazonElasticMapReduce {
     public Future<AddInstanceGroupsResult> addInstanceGroupsAsync(AddInstanceGroupsRequest addInstanceGroupsRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * AddInstanceGroups adds an instance group to a running cluster.
+     * </p>
+     *
+     * @param addInstanceGroupsRequest Container for the necessary parameters
+     *           to execute the AddInstanceGroups operation on AmazonElasticMapReduce.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AddInstanceGroups service method, as returned by
+     *         AmazonElasticMapReduce.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticMapReduce indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<AddInstanceGroupsResult> addInstanceGroupsAsync(AddInstanceGroupsRequest addInstanceGroupsRequest,
+            AsyncHandler<AddInstanceGroupsRequest, AddInstanceGroupsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * AddJobFlowSteps adds new steps to a running job flow. A maximum of
@@ -100,6 +129,51 @@ public interface AmazonElasticMapReduceAsync extends AmazonElasticMapReduce {
     public Future<Void> addJobFlowStepsAsync(AddJobFlowStepsRequest addJobFlowStepsRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * AddJobFlowSteps adds new steps to a running job flow. A maximum of
+     * 256 steps are allowed in each job flow.
+     * </p>
+     * <p>
+     * A step specifies the location of a JAR file stored either on the
+     * master node of the job flow or in Amazon S3. Each step is performed by
+     * the main function of the main class of the JAR file. The main class
+     * can be specified either in the manifest of the JAR or by using the
+     * MainFunction parameter of the step.
+     * </p>
+     * <p>
+     * Elastic MapReduce executes each step in the order listed. For a step
+     * to be considered complete, the main function must exit with a zero
+     * exit code and all Hadoop jobs started while the step was running must
+     * have completed and run successfully.
+     * </p>
+     * <p>
+     * You can only add steps to a job flow that is in one of the following
+     * states: STARTING, BOOTSTRAPPING, RUNNING, or WAITING.
+     * </p>
+     *
+     * @param addJobFlowStepsRequest Container for the necessary parameters
+     *           to execute the AddJobFlowSteps operation on AmazonElasticMapReduce.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AddJobFlowSteps service method, as returned by AmazonElasticMapReduce.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticMapReduce indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> addJobFlowStepsAsync(AddJobFlowStepsRequest addJobFlowStepsRequest,
+            AsyncHandler<AddJobFlowStepsRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * TerminateJobFlows shuts a list of job flows down. When a job flow is
@@ -127,6 +201,38 @@ public interface AmazonElasticMapReduceAsync extends AmazonElasticMapReduce {
     public Future<Void> terminateJobFlowsAsync(TerminateJobFlowsRequest terminateJobFlowsRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * TerminateJobFlows shuts a list of job flows down. When a job flow is
+     * shut down, any step not yet completed is canceled and the EC2
+     * instances on which the job flow is running are stopped. Any log files
+     * not already saved are uploaded to Amazon S3 if a LogUri was specified
+     * when the job flow was created.
+     * </p>
+     *
+     * @param terminateJobFlowsRequest Container for the necessary parameters
+     *           to execute the TerminateJobFlows operation on AmazonElasticMapReduce.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         TerminateJobFlows service method, as returned by
+     *         AmazonElasticMapReduce.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticMapReduce indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> terminateJobFlowsAsync(TerminateJobFlowsRequest terminateJobFlowsRequest,
+            AsyncHandler<TerminateJobFlowsRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * DescribeJobFlows returns a list of job flows that match all of the
@@ -176,6 +282,60 @@ public interface AmazonElasticMapReduceAsync extends AmazonElasticMapReduce {
     public Future<DescribeJobFlowsResult> describeJobFlowsAsync(DescribeJobFlowsRequest describeJobFlowsRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * DescribeJobFlows returns a list of job flows that match all of the
+     * supplied parameters. The parameters can include a list of job flow
+     * IDs, job flow states, and restrictions on job flow creation date and
+     * time.
+     * </p>
+     * <p>
+     * Regardless of supplied parameters, only job flows created within the
+     * last two months are returned.
+     * </p>
+     * <p>
+     * If no parameters are supplied, then job flows matching either of the
+     * following criteria are returned:
+     * </p>
+     * 
+     * <ul>
+     * <li>Job flows created and completed in the last two weeks</li>
+     * <li> Job flows created within the last two months that are in one of
+     * the following states: <code>RUNNING</code> ,
+     * <code>WAITING</code> ,
+     * <code>SHUTTING_DOWN</code> ,
+     * 
+     * <code>STARTING</code> </li>
+     * 
+     * </ul>
+     * <p>
+     * Amazon Elastic MapReduce can return a maximum of 512 job flow
+     * descriptions.
+     * </p>
+     *
+     * @param describeJobFlowsRequest Container for the necessary parameters
+     *           to execute the DescribeJobFlows operation on AmazonElasticMapReduce.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeJobFlows service method, as returned by
+     *         AmazonElasticMapReduce.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticMapReduce indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeJobFlowsResult> describeJobFlowsAsync(DescribeJobFlowsRequest describeJobFlowsRequest,
+            AsyncHandler<DescribeJobFlowsRequest, DescribeJobFlowsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * SetTerminationProtection locks a job flow so the Amazon EC2 instances
@@ -225,6 +385,60 @@ public interface AmazonElasticMapReduceAsync extends AmazonElasticMapReduce {
     public Future<Void> setTerminationProtectionAsync(SetTerminationProtectionRequest setTerminationProtectionRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * SetTerminationProtection locks a job flow so the Amazon EC2 instances
+     * in the cluster cannot be terminated by user intervention, an API call,
+     * or in the event of a job-flow error. The cluster still terminates upon
+     * successful completion of the job flow. Calling
+     * SetTerminationProtection on a job flow is analogous to calling the
+     * Amazon EC2 DisableAPITermination API on all of the EC2 instances in a
+     * cluster.
+     * </p>
+     * <p>
+     * SetTerminationProtection is used to prevent accidental termination of
+     * a job flow and to ensure that in the event of an error, the instances
+     * will persist so you can recover any data stored in their ephemeral
+     * instance storage.
+     * </p>
+     * <p>
+     * To terminate a job flow that has been locked by setting
+     * SetTerminationProtection to <code>true</code> ,
+     * you must first unlock the job flow by a subsequent call to
+     * SetTerminationProtection in which you set the value to
+     * <code>false</code> .
+     * </p>
+     * <p>
+     * For more information, go to <a
+     * cMapReduce/latest/DeveloperGuide/UsingEMR_TerminationProtection.html">
+     * Protecting a Job Flow from Termination </a> in the <i>Amazon Elastic
+     * MapReduce Developer's Guide.</i>
+     * </p>
+     *
+     * @param setTerminationProtectionRequest Container for the necessary
+     *           parameters to execute the SetTerminationProtection operation on
+     *           AmazonElasticMapReduce.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         SetTerminationProtection service method, as returned by
+     *         AmazonElasticMapReduce.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticMapReduce indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setTerminationProtectionAsync(SetTerminationProtectionRequest setTerminationProtectionRequest,
+            AsyncHandler<SetTerminationProtectionRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * RunJobFlow creates and starts running a new job flow. The job flow
@@ -267,6 +481,53 @@ public interface AmazonElasticMapReduceAsync extends AmazonElasticMapReduce {
     public Future<RunJobFlowResult> runJobFlowAsync(RunJobFlowRequest runJobFlowRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * RunJobFlow creates and starts running a new job flow. The job flow
+     * will run the steps specified. Once the job flow completes, the cluster
+     * is stopped and the HDFS partition is lost. To prevent loss of data,
+     * configure the last step of the job flow to store results in Amazon S3.
+     * If the JobFlowInstancesDetail <code>KeepJobFlowAliveWhenNoSteps</code>
+     * parameter is set to <code>TRUE</code> , the job flow will transition
+     * to the WAITING state rather than shutting down once the steps have
+     * completed.
+     * </p>
+     * <p>
+     * For additional protection, you can set the JobFlowInstancesDetail
+     * <code>TerminationProtected</code> parameter to <code>TRUE</code> to
+     * lock the job flow and prevent it from being terminated by API call,
+     * user intervention, or in the event of a job flow error.
+     * </p>
+     * <p>
+     * A maximum of 256 steps are allowed in each job flow.
+     * </p>
+     * <p>
+     * For long running job flows, we recommended that you periodically store
+     * your results.
+     * </p>
+     *
+     * @param runJobFlowRequest Container for the necessary parameters to
+     *           execute the RunJobFlow operation on AmazonElasticMapReduce.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RunJobFlow service method, as returned by AmazonElasticMapReduce.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticMapReduce indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<RunJobFlowResult> runJobFlowAsync(RunJobFlowRequest runJobFlowRequest,
+            AsyncHandler<RunJobFlowRequest, RunJobFlowResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * ModifyInstanceGroups modifies the number of nodes and configuration
@@ -294,5 +555,37 @@ public interface AmazonElasticMapReduceAsync extends AmazonElasticMapReduce {
     public Future<Void> modifyInstanceGroupsAsync(ModifyInstanceGroupsRequest modifyInstanceGroupsRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * ModifyInstanceGroups modifies the number of nodes and configuration
+     * settings of an instance group. The input parameters include the new
+     * target instance count for the group and the instance group ID. The
+     * call will either succeed or fail atomically.
+     * </p>
+     *
+     * @param modifyInstanceGroupsRequest Container for the necessary
+     *           parameters to execute the ModifyInstanceGroups operation on
+     *           AmazonElasticMapReduce.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ModifyInstanceGroups service method, as returned by
+     *         AmazonElasticMapReduce.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticMapReduce indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> modifyInstanceGroupsAsync(ModifyInstanceGroupsRequest modifyInstanceGroupsRequest,
+            AsyncHandler<ModifyInstanceGroupsRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
 }
         
\ No newline at end of file
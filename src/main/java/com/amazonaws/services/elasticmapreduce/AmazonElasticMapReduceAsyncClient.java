@@ -16,13 +16,14 @@ package com.amazonaws.services.elasticmapreduce;
             
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.util.InstrumentedThreadPoolExecutor;
 
 import com.amazonaws.services.elasticmapreduce.model.*;
 
@@ -57,8 +58,9 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
     /**
      * Constructs a new asynchronous client to invoke service methods on 
      * AmazonElasticMapReduce using the specified AWS account credentials.
-     * Default client settings will be used, and a default cached thread pool will be 
-     * created for executing the asynchronous tasks.
+     * Default client settings will be used, and a default bounded thread pool will be 
+     * created for executing the asynchronous tasks (see
+     * {@link InstrumentedThreadPoolExecutor#newDefaultExecutor(String, ClientConfiguration)}).
      *
      * <p>
      * All calls made using this new client object are non-blocking, and will immediately
@@ -69,7 +71,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      *                       when authenticating with AWS services.
      */                                      
     public AmazonElasticMapReduceAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newCachedThreadPool());
+        this(awsCredentials, InstrumentedThreadPoolExecutor.newDefaultExecutor("AmazonElasticMapReduceAsyncClient", new ClientConfiguration()));
     }
 
     /**
@@ -160,6 +162,50 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
 		});
     }
     
+    /**
+     * <p>
+     * AddInstanceGroups adds an instance group to a running cluster.
+     * </p>
+     *
+     * @param addInstanceGroupsRequest Container for the necessary parameters
+     *           to execute the AddInstanceGroups operation on AmazonElasticMapReduce.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AddInstanceGroups service method, as returned by
+     *         AmazonElasticMapReduce.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticMapReduce indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<AddInstanceGroupsResult> addInstanceGroupsAsync(
+            final AddInstanceGroupsRequest addInstanceGroupsRequest,
+            final AsyncHandler<AddInstanceGroupsRequest, AddInstanceGroupsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<AddInstanceGroupsResult>() {
+            public AddInstanceGroupsResult call() throws Exception {
+                AddInstanceGroupsResult result;
+                try {
+                    result = addInstanceGroups(addInstanceGroupsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(addInstanceGroupsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * AddJobFlowSteps adds new steps to a running job flow. A maximum of
@@ -207,6 +253,66 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
 		});
     }
     
+    /**
+     * <p>
+     * AddJobFlowSteps adds new steps to a running job flow. A maximum of
+     * 256 steps are allowed in each job flow.
+     * </p>
+     * <p>
+     * A step specifies the location of a JAR file stored either on the
+     * master node of the job flow or in Amazon S3. Each step is performed by
+     * the main function of the main class of the JAR file. The main class
+     * can be specified either in the manifest of the JAR or by using the
+     * MainFunction parameter of the step.
+     * </p>
+     * <p>
+     * Elastic MapReduce executes each step in the order listed. For a step
+     * to be considered complete, the main function must exit with a zero
+     * exit code and all Hadoop jobs started while the step was running must
+     * have completed and run successfully.
+     * </p>
+     * <p>
+     * You can only add steps to a job flow that is in one of the following
+     * states: STARTING, BOOTSTRAPPING, RUNNING, or WAITING.
+     * </p>
+     *
+     * @param addJobFlowStepsRequest Container for the necessary parameters
+     *           to execute the AddJobFlowSteps operation on AmazonElasticMapReduce.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AddJobFlowSteps service method, as returned by AmazonElasticMapReduce.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticMapReduce indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> addJobFlowStepsAsync(
+            final AddJobFlowStepsRequest addJobFlowStepsRequest,
+            final AsyncHandler<AddJobFlowStepsRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    addJobFlowSteps(addJobFlowStepsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(addJobFlowStepsRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * TerminateJobFlows shuts a list of job flows down. When a job flow is
@@ -241,6 +347,53 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
 		});
     }
     
+    /**
+     * <p>
+     * TerminateJobFlows shuts a list of job flows down. When a job flow is
+     * shut down, any step not yet completed is canceled and the EC2
+     * instances on which the job flow is running are stopped. Any log files
+     * not already saved are uploaded to Amazon S3 if a LogUri was specified
+     * when the job flow was created.
+     * </p>
+     *
+     * @param terminateJobFlowsRequest Container for the necessary parameters
+     *           to execute the TerminateJobFlows operation on AmazonElasticMapReduce.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         TerminateJobFlows service method, as returned by
+     *         AmazonElasticMapReduce.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticMapReduce indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> terminateJobFlowsAsync(
+            final TerminateJobFlowsRequest terminateJobFlowsRequest,
+            final AsyncHandler<TerminateJobFlowsRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    terminateJobFlows(terminateJobFlowsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(terminateJobFlowsRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * DescribeJobFlows returns a list of job flows that match all of the
@@ -296,6 +449,76 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
 		});
     }
     
+    /**
+     * <p>
+     * DescribeJobFlows returns a list of job flows that match all of the
+     * supplied parameters. The parameters can include a list of job flow
+     * IDs, job flow states, and restrictions on job flow creation date and
+     * time.
+     * </p>
+     * <p>
+     * Regardless of supplied parameters, only job flows created within the
+     * last two months are returned.
+     * </p>
+     * <p>
+     * If no parameters are supplied, then job flows matching either of the
+     * following criteria are returned:
+     * </p>
+     * 
+     * <ul>
+     * <li>Job flows created and completed in the last two weeks</li>
+     * <li> Job flows created within the last two months that are in one of
+     * the following states: <code>RUNNING</code> ,
+     * <code>WAITING</code> ,
+     * <code>SHUTTING_DOWN</code> ,
+     * 
+     * <code>STARTING</code> </li>
+     * 
+     * </ul>
+     * <p>
+     * Amazon Elastic MapReduce can return a maximum of 512 job flow
+     * descriptions.
+     * </p>
+     *
+     * @param describeJobFlowsRequest Container for the necessary parameters
+     *           to execute the DescribeJobFlows operation on AmazonElasticMapReduce.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeJobFlows service method, as returned by
+     *         AmazonElasticMapReduce.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticMapReduce indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeJobFlowsResult> describeJobFlowsAsync(
+            final DescribeJobFlowsRequest describeJobFlowsRequest,
+            final AsyncHandler<DescribeJobFlowsRequest, DescribeJobFlowsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeJobFlowsResult>() {
+            public DescribeJobFlowsResult call() throws Exception {
+                DescribeJobFlowsResult result;
+                try {
+                    result = describeJobFlows(describeJobFlowsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeJobFlowsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * SetTerminationProtection locks a job flow so the Amazon EC2 instances
@@ -352,6 +575,75 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
 		});
     }
     
+    /**
+     * <p>
+     * SetTerminationProtection locks a job flow so the Amazon EC2 instances
+     * in the cluster cannot be terminated by user intervention, an API call,
+     * or in the event of a job-flow error. The cluster still terminates upon
+     * successful completion of the job flow. Calling
+     * SetTerminationProtection on a job flow is analogous to calling the
+     * Amazon EC2 DisableAPITermination API on all of the EC2 instances in a
+     * cluster.
+     * </p>
+     * <p>
+     * SetTerminationProtection is used to prevent accidental termination of
+     * a job flow and to ensure that in the event of an error, the instances
+     * will persist so you can recover any data stored in their ephemeral
+     * instance storage.
+     * </p>
+     * <p>
+     * To terminate a job flow that has been locked by setting
+     * SetTerminationProtection to <code>true</code> ,
+     * you must first unlock the job flow by a subsequent call to
+     * SetTerminationProtection in which you set the value to
+     * <code>false</code> .
+     * </p>
+     * <p>
+     * For more information, go to <a
+     * cMapReduce/latest/DeveloperGuide/UsingEMR_TerminationProtection.html">
+     * Protecting a Job Flow from Termination </a> in the <i>Amazon Elastic
+     * MapReduce Developer's Guide.</i>
+     * </p>
+     *
+     * @param setTerminationProtectionRequest Container for the necessary
+     *           parameters to execute the SetTerminationProtection operation on
+     *           AmazonElasticMapReduce.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         SetTerminationProtection service method, as returned by
+     *         AmazonElasticMapReduce.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticMapReduce indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setTerminationProtectionAsync(
+            final SetTerminationProtectionRequest setTerminationProtectionRequest,
+            final AsyncHandler<SetTerminationProtectionRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    setTerminationProtection(setTerminationProtectionRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(setTerminationProtectionRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * RunJobFlow creates and starts running a new job flow. The job flow
@@ -400,6 +692,69 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
 		});
     }
     
+    /**
+     * <p>
+     * RunJobFlow creates and starts running a new job flow. The job flow
+     * will run the steps specified. Once the job flow completes, the cluster
+     * is stopped and the HDFS partition is lost. To prevent loss of data,
+     * configure the last step of the job flow to store results in Amazon S3.
+     * If the JobFlowInstancesDetail <code>KeepJobFlowAliveWhenNoSteps</code>
+     * parameter is set to <code>TRUE</code> , the job flow will transition
+     * to the WAITING state rather than shutting down once the steps have
+     * completed.
+     * </p>
+     * <p>
+     * For additional protection, you can set the JobFlowInstancesDetail
+     * <code>TerminationProtected</code> parameter to <code>TRUE</code> to
+     * lock the job flow and prevent it from being terminated by API call,
+     * user intervention, or in the event of a job flow error.
+     * </p>
+     * <p>
+     * A maximum of 256 steps are allowed in each job flow.
+     * </p>
+     * <p>
+     * For long running job flows, we recommended that you periodically store
+     * your results.
+     * </p>
+     *
+     * @param runJobFlowRequest Container for the necessary parameters to
+     *           execute the RunJobFlow operation on AmazonElasticMapReduce.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RunJobFlow service method, as returned by AmazonElasticMapReduce.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticMapReduce indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<RunJobFlowResult> runJobFlowAsync(
+            final RunJobFlowRequest runJobFlowRequest,
+            final AsyncHandler<RunJobFlowRequest, RunJobFlowResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<RunJobFlowResult>() {
+            public RunJobFlowResult call() throws Exception {
+                RunJobFlowResult result;
+                try {
+                    result = runJobFlow(runJobFlowRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(runJobFlowRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * ModifyInstanceGroups modifies the number of nodes and configuration
@@ -434,5 +789,52 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
 		});
     }
     
+    /**
+     * <p>
+     * ModifyInstanceGroups modifies the number of nodes and configuration
+     * settings of an instance group. The input parameters include the new
+     * target instance count for the group and the instance group ID. The
+     * call will either succeed or fail atomically.
+     * </p>
+     *
+     * @param modifyInstanceGroupsRequest Container for the necessary
+     *           parameters to execute the ModifyInstanceGroups operation on
+     *           AmazonElasticMapReduce.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ModifyInstanceGroups service method, as returned by
+     *         AmazonElasticMapReduce.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonElasticMapReduce indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> modifyInstanceGroupsAsync(
+            final ModifyInstanceGroupsRequest modifyInstanceGroupsRequest,
+            final AsyncHandler<ModifyInstanceGroupsRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    modifyInstanceGroups(modifyInstanceGroupsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(modifyInstanceGroupsRequest, null);
+                return null;
+		    }
+		});
+    }
+    
 }
         
\ No newline at end of file
@@ -69,6 +69,12 @@ public class AmazonElasticMapReduceClient extends AmazonWebServiceClient impleme
      */
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers;
 
+    /**
+     * Handles error responses for all service calls, built once so its index
+     * of exception unmarshallers is shared across calls.
+     */
+    private final DefaultErrorResponseHandler errorResponseHandler;
+
     
     /** AWS signer for authenticating requests. */
     private QueryStringSigner signer;
@@ -112,6 +118,7 @@ public class AmazonElasticMapReduceClient extends AmazonWebServiceClient impleme
         exceptionUnmarshallers.add(new InternalServerErrorExceptionUnmarshaller());
         
         exceptionUnmarshallers.add(new StandardErrorUnmarshaller());
+        errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
         setEndpoint("elasticmapreduce.amazonaws.com");
 
         signer = new QueryStringSigner();
@@ -146,8 +153,8 @@ public class AmazonElasticMapReduceClient extends AmazonWebServiceClient impleme
      */
     public AddInstanceGroupsResult addInstanceGroups(AddInstanceGroupsRequest addInstanceGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<AddInstanceGroupsRequest> request = new AddInstanceGroupsRequestMarshaller().marshall(addInstanceGroupsRequest);
-        return invoke(request, new AddInstanceGroupsResultStaxUnmarshaller());
+        Request<AddInstanceGroupsRequest> request = AddInstanceGroupsRequestMarshaller.getInstance().marshall(addInstanceGroupsRequest);
+        return invoke(request, AddInstanceGroupsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -189,7 +196,7 @@ public class AmazonElasticMapReduceClient extends AmazonWebServiceClient impleme
      */
     public void addJobFlowSteps(AddJobFlowStepsRequest addJobFlowStepsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<AddJobFlowStepsRequest> request = new AddJobFlowStepsRequestMarshaller().marshall(addJobFlowStepsRequest);
+        Request<AddJobFlowStepsRequest> request = AddJobFlowStepsRequestMarshaller.getInstance().marshall(addJobFlowStepsRequest);
         invoke(request, null);
     }
     
@@ -218,7 +225,7 @@ public class AmazonElasticMapReduceClient extends AmazonWebServiceClient impleme
      */
     public void terminateJobFlows(TerminateJobFlowsRequest terminateJobFlowsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<TerminateJobFlowsRequest> request = new TerminateJobFlowsRequestMarshaller().marshall(terminateJobFlowsRequest);
+        Request<TerminateJobFlowsRequest> request = TerminateJobFlowsRequestMarshaller.getInstance().marshall(terminateJobFlowsRequest);
         invoke(request, null);
     }
     
@@ -272,8 +279,8 @@ public class AmazonElasticMapReduceClient extends AmazonWebServiceClient impleme
      */
     public DescribeJobFlowsResult describeJobFlows(DescribeJobFlowsRequest describeJobFlowsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeJobFlowsRequest> request = new DescribeJobFlowsRequestMarshaller().marshall(describeJobFlowsRequest);
-        return invoke(request, new DescribeJobFlowsResultStaxUnmarshaller());
+        Request<DescribeJobFlowsRequest> request = DescribeJobFlowsRequestMarshaller.getInstance().marshall(describeJobFlowsRequest);
+        return invoke(request, DescribeJobFlowsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -322,7 +329,7 @@ public class AmazonElasticMapReduceClient extends AmazonWebServiceClient impleme
      */
     public void setTerminationProtection(SetTerminationProtectionRequest setTerminationProtectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<SetTerminationProtectionRequest> request = new SetTerminationProtectionRequestMarshaller().marshall(setTerminationProtectionRequest);
+        Request<SetTerminationProtectionRequest> request = SetTerminationProtectionRequestMarshaller.getInstance().marshall(setTerminationProtectionRequest);
         invoke(request, null);
     }
     
@@ -369,8 +376,8 @@ public class AmazonElasticMapReduceClient extends AmazonWebServiceClient impleme
      */
     public RunJobFlowResult runJobFlow(RunJobFlowRequest runJobFlowRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<RunJobFlowRequest> request = new RunJobFlowRequestMarshaller().marshall(runJobFlowRequest);
-        return invoke(request, new RunJobFlowResultStaxUnmarshaller());
+        Request<RunJobFlowRequest> request = RunJobFlowRequestMarshaller.getInstance().marshall(runJobFlowRequest);
+        return invoke(request, RunJobFlowResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -397,7 +404,7 @@ public class AmazonElasticMapReduceClient extends AmazonWebServiceClient impleme
      */
     public void modifyInstanceGroups(ModifyInstanceGroupsRequest modifyInstanceGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ModifyInstanceGroupsRequest> request = new ModifyInstanceGroupsRequestMarshaller().marshall(modifyInstanceGroupsRequest);
+        Request<ModifyInstanceGroupsRequest> request = ModifyInstanceGroupsRequestMarshaller.getInstance().marshall(modifyInstanceGroupsRequest);
         invoke(request, null);
     }
     
@@ -514,7 +521,6 @@ public class AmazonElasticMapReduceClient extends AmazonWebServiceClient impleme
 
         
         StaxResponseHandler<X> responseHandler = new StaxResponseHandler<X>(unmarshaller);
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
 
         ExecutionContext executionContext = createExecutionContext();
         return (X)client.execute(request, responseHandler, errorResponseHandler, executionContext);
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.elasticmapreduce.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,12 @@ import com.amazonaws.util.StringUtils;
  */
 public class AddInstanceGroupsRequestMarshaller implements Marshaller<Request<AddInstanceGroupsRequest>, AddInstanceGroupsRequest> {
 
+    private static final ParameterNameTable INSTANCE_GROUPS_MEMBER_NAME_NAMES = new ParameterNameTable("InstanceGroups.member.", ".Name");
+    private static final ParameterNameTable INSTANCE_GROUPS_MEMBER_MARKET_NAMES = new ParameterNameTable("InstanceGroups.member.", ".Market");
+    private static final ParameterNameTable INSTANCE_GROUPS_MEMBER_INSTANCE_ROLE_NAMES = new ParameterNameTable("InstanceGroups.member.", ".InstanceRole");
+    private static final ParameterNameTable INSTANCE_GROUPS_MEMBER_INSTANCE_TYPE_NAMES = new ParameterNameTable("InstanceGroups.member.", ".InstanceType");
+    private static final ParameterNameTable INSTANCE_GROUPS_MEMBER_INSTANCE_COUNT_NAMES = new ParameterNameTable("InstanceGroups.member.", ".InstanceCount");
+
     public Request<AddInstanceGroupsRequest> marshall(AddInstanceGroupsRequest addInstanceGroupsRequest) {
         Request<AddInstanceGroupsRequest> request = new DefaultRequest<AddInstanceGroupsRequest>(addInstanceGroupsRequest, "AmazonElasticMapReduce");
         request.addParameter("Action", "AddInstanceGroups");
@@ -40,27 +47,27 @@ public class AddInstanceGroupsRequestMarshaller implements Marshaller<Request<Ad
             for (InstanceGroupConfig instanceGroupsListValue : instanceGroupsList) {
                 if (instanceGroupsListValue != null) {
                     if (instanceGroupsListValue.getName() != null) {
-                        request.addParameter("InstanceGroups.member." + instanceGroupsListIndex + ".Name", StringUtils.fromString(instanceGroupsListValue.getName()));
+                        request.addParameter(INSTANCE_GROUPS_MEMBER_NAME_NAMES.get(instanceGroupsListIndex), StringUtils.fromString(instanceGroupsListValue.getName()));
                     }
                 }
                 if (instanceGroupsListValue != null) {
                     if (instanceGroupsListValue.getMarket() != null) {
-                        request.addParameter("InstanceGroups.member." + instanceGroupsListIndex + ".Market", StringUtils.fromString(instanceGroupsListValue.getMarket()));
+                        request.addParameter(INSTANCE_GROUPS_MEMBER_MARKET_NAMES.get(instanceGroupsListIndex), StringUtils.fromString(instanceGroupsListValue.getMarket()));
                     }
                 }
                 if (instanceGroupsListValue != null) {
                     if (instanceGroupsListValue.getInstanceRole() != null) {
-                        request.addParameter("InstanceGroups.member." + instanceGroupsListIndex + ".InstanceRole", StringUtils.fromString(instanceGroupsListValue.getInstanceRole()));
+                        request.addParameter(INSTANCE_GROUPS_MEMBER_INSTANCE_ROLE_NAMES.get(instanceGroupsListIndex), StringUtils.fromString(instanceGroupsListValue.getInstanceRole()));
                     }
                 }
                 if (instanceGroupsListValue != null) {
                     if (instanceGroupsListValue.getInstanceType() != null) {
-                        request.addParameter("InstanceGroups.member." + instanceGroupsListIndex + ".InstanceType", StringUtils.fromString(instanceGroupsListValue.getInstanceType()));
+                        request.addParameter(INSTANCE_GROUPS_MEMBER_INSTANCE_TYPE_NAMES.get(instanceGroupsListIndex), StringUtils.fromString(instanceGroupsListValue.getInstanceType()));
                     }
                 }
                 if (instanceGroupsListValue != null) {
                     if (instanceGroupsListValue.getInstanceCount() != null) {
-                        request.addParameter("InstanceGroups.member." + instanceGroupsListIndex + ".InstanceCount", StringUtils.fromInteger(instanceGroupsListValue.getInstanceCount()));
+                        request.addParameter(INSTANCE_GROUPS_MEMBER_INSTANCE_COUNT_NAMES.get(instanceGroupsListIndex), StringUtils.fromInteger(instanceGroupsListValue.getInstanceCount()));
                     }
                 }
 
@@ -76,4 +83,9 @@ public class AddInstanceGroupsRequestMarshaller implements Marshaller<Request<Ad
 
         return request;
     }
+
+    private static final AddInstanceGroupsRequestMarshaller instance = new AddInstanceGroupsRequestMarshaller();
+    public static AddInstanceGroupsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
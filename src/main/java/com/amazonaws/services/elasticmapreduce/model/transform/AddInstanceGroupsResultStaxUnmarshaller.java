@@ -63,9 +63,8 @@ public class AddInstanceGroupsResultStaxUnmarshaller implements Unmarshaller<Add
         }
     }
 
-    private static AddInstanceGroupsResultStaxUnmarshaller instance;
+    private static final AddInstanceGroupsResultStaxUnmarshaller instance = new AddInstanceGroupsResultStaxUnmarshaller();
     public static AddInstanceGroupsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new AddInstanceGroupsResultStaxUnmarshaller();
         return instance;
     }
 }
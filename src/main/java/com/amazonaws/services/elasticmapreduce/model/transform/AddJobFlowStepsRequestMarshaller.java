@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.elasticmapreduce.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,14 @@ import com.amazonaws.util.StringUtils;
  */
 public class AddJobFlowStepsRequestMarshaller implements Marshaller<Request<AddJobFlowStepsRequest>, AddJobFlowStepsRequest> {
 
+    private static final ParameterNameTable STEPS_MEMBER_NAME_NAMES = new ParameterNameTable("Steps.member.", ".Name");
+    private static final ParameterNameTable STEPS_MEMBER_ACTION_ON_FAILURE_NAMES = new ParameterNameTable("Steps.member.", ".ActionOnFailure");
+    private static final ParameterNameTable STEPS_MEMBER_HADOOP_JAR_STEP_PROPERTIES_MEMBER_KEY_NAMES = new ParameterNameTable("Steps.member.", ".HadoopJarStep.Properties.member.", ".Key");
+    private static final ParameterNameTable STEPS_MEMBER_HADOOP_JAR_STEP_PROPERTIES_MEMBER_VALUE_NAMES = new ParameterNameTable("Steps.member.", ".HadoopJarStep.Properties.member.", ".Value");
+    private static final ParameterNameTable STEPS_MEMBER_HADOOP_JAR_STEP_JAR_NAMES = new ParameterNameTable("Steps.member.", ".HadoopJarStep.Jar");
+    private static final ParameterNameTable STEPS_MEMBER_HADOOP_JAR_STEP_MAIN_CLASS_NAMES = new ParameterNameTable("Steps.member.", ".HadoopJarStep.MainClass");
+    private static final ParameterNameTable STEPS_MEMBER_HADOOP_JAR_STEP_ARGS_MEMBER_NAMES = new ParameterNameTable("Steps.member.", ".HadoopJarStep.Args.member.", "");
+
     public Request<AddJobFlowStepsRequest> marshall(AddJobFlowStepsRequest addJobFlowStepsRequest) {
         Request<AddJobFlowStepsRequest> request = new DefaultRequest<AddJobFlowStepsRequest>(addJobFlowStepsRequest, "AmazonElasticMapReduce");
         request.addParameter("Action", "AddJobFlowSteps");
@@ -45,12 +54,12 @@ public class AddJobFlowStepsRequestMarshaller implements Marshaller<Request<AddJ
             for (StepConfig stepsListValue : stepsList) {
                 if (stepsListValue != null) {
                     if (stepsListValue.getName() != null) {
-                        request.addParameter("Steps.member." + stepsListIndex + ".Name", StringUtils.fromString(stepsListValue.getName()));
+                        request.addParameter(STEPS_MEMBER_NAME_NAMES.get(stepsListIndex), StringUtils.fromString(stepsListValue.getName()));
                     }
                 }
                 if (stepsListValue != null) {
                     if (stepsListValue.getActionOnFailure() != null) {
-                        request.addParameter("Steps.member." + stepsListIndex + ".ActionOnFailure", StringUtils.fromString(stepsListValue.getActionOnFailure()));
+                        request.addParameter(STEPS_MEMBER_ACTION_ON_FAILURE_NAMES.get(stepsListIndex), StringUtils.fromString(stepsListValue.getActionOnFailure()));
                     }
                 }
                 if (stepsListValue != null) {
@@ -62,12 +71,12 @@ public class AddJobFlowStepsRequestMarshaller implements Marshaller<Request<AddJ
                         for (KeyValue propertiesListValue : propertiesList) {
                             if (propertiesListValue != null) {
                                 if (propertiesListValue.getKey() != null) {
-                                    request.addParameter("Steps.member." + stepsListIndex + ".HadoopJarStep.Properties.member." + propertiesListIndex + ".Key", StringUtils.fromString(propertiesListValue.getKey()));
+                                    request.addParameter(STEPS_MEMBER_HADOOP_JAR_STEP_PROPERTIES_MEMBER_KEY_NAMES.get(stepsListIndex, propertiesListIndex), StringUtils.fromString(propertiesListValue.getKey()));
                                 }
                             }
                             if (propertiesListValue != null) {
                                 if (propertiesListValue.getValue() != null) {
-                                    request.addParameter("Steps.member." + stepsListIndex + ".HadoopJarStep.Properties.member." + propertiesListIndex + ".Value", StringUtils.fromString(propertiesListValue.getValue()));
+                                    request.addParameter(STEPS_MEMBER_HADOOP_JAR_STEP_PROPERTIES_MEMBER_VALUE_NAMES.get(stepsListIndex, propertiesListIndex), StringUtils.fromString(propertiesListValue.getValue()));
                                 }
                             }
 
@@ -76,12 +85,12 @@ public class AddJobFlowStepsRequestMarshaller implements Marshaller<Request<AddJ
                     }
                     if (hadoopJarStep != null) {
                         if (hadoopJarStep.getJar() != null) {
-                            request.addParameter("Steps.member." + stepsListIndex + ".HadoopJarStep.Jar", StringUtils.fromString(hadoopJarStep.getJar()));
+                            request.addParameter(STEPS_MEMBER_HADOOP_JAR_STEP_JAR_NAMES.get(stepsListIndex), StringUtils.fromString(hadoopJarStep.getJar()));
                         }
                     }
                     if (hadoopJarStep != null) {
                         if (hadoopJarStep.getMainClass() != null) {
-                            request.addParameter("Steps.member." + stepsListIndex + ".HadoopJarStep.MainClass", StringUtils.fromString(hadoopJarStep.getMainClass()));
+                            request.addParameter(STEPS_MEMBER_HADOOP_JAR_STEP_MAIN_CLASS_NAMES.get(stepsListIndex), StringUtils.fromString(hadoopJarStep.getMainClass()));
                         }
                     }
                     if (hadoopJarStep != null) {
@@ -90,7 +99,7 @@ public class AddJobFlowStepsRequestMarshaller implements Marshaller<Request<AddJ
 
                         for (String argsListValue : argsList) {
                             if (argsListValue != null) {
-                                request.addParameter("Steps.member." + stepsListIndex + ".HadoopJarStep.Args.member." + argsListIndex, StringUtils.fromString(argsListValue));
+                                request.addParameter(STEPS_MEMBER_HADOOP_JAR_STEP_ARGS_MEMBER_NAMES.get(stepsListIndex, argsListIndex), StringUtils.fromString(argsListValue));
                             }
                             argsListIndex++;
                         }
@@ -104,4 +113,9 @@ public class AddJobFlowStepsRequestMarshaller implements Marshaller<Request<AddJ
 
         return request;
     }
+
+    private static final AddJobFlowStepsRequestMarshaller instance = new AddJobFlowStepsRequestMarshaller();
+    public static AddJobFlowStepsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -63,9 +63,8 @@ public class BootstrapActionConfigStaxUnmarshaller implements Unmarshaller<Boots
         }
     }
 
-    private static BootstrapActionConfigStaxUnmarshaller instance;
+    private static final BootstrapActionConfigStaxUnmarshaller instance = new BootstrapActionConfigStaxUnmarshaller();
     public static BootstrapActionConfigStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new BootstrapActionConfigStaxUnmarshaller();
         return instance;
     }
 }
@@ -59,9 +59,8 @@ public class BootstrapActionDetailStaxUnmarshaller implements Unmarshaller<Boots
         }
     }
 
-    private static BootstrapActionDetailStaxUnmarshaller instance;
+    private static final BootstrapActionDetailStaxUnmarshaller instance = new BootstrapActionDetailStaxUnmarshaller();
     public static BootstrapActionDetailStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new BootstrapActionDetailStaxUnmarshaller();
         return instance;
     }
 }
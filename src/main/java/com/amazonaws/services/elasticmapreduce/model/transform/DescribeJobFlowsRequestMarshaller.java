@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.elasticmapreduce.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,9 @@ import com.amazonaws.util.StringUtils;
  */
 public class DescribeJobFlowsRequestMarshaller implements Marshaller<Request<DescribeJobFlowsRequest>, DescribeJobFlowsRequest> {
 
+    private static final ParameterNameTable JOB_FLOW_IDS_MEMBER_NAMES = new ParameterNameTable("JobFlowIds.member.", "");
+    private static final ParameterNameTable JOB_FLOW_STATES_MEMBER_NAMES = new ParameterNameTable("JobFlowStates.member.", "");
+
     public Request<DescribeJobFlowsRequest> marshall(DescribeJobFlowsRequest describeJobFlowsRequest) {
         Request<DescribeJobFlowsRequest> request = new DefaultRequest<DescribeJobFlowsRequest>(describeJobFlowsRequest, "AmazonElasticMapReduce");
         request.addParameter("Action", "DescribeJobFlows");
@@ -49,7 +53,7 @@ public class DescribeJobFlowsRequestMarshaller implements Marshaller<Request<Des
 
             for (String jobFlowIdsListValue : jobFlowIdsList) {
                 if (jobFlowIdsListValue != null) {
-                    request.addParameter("JobFlowIds.member." + jobFlowIdsListIndex, StringUtils.fromString(jobFlowIdsListValue));
+                    request.addParameter(JOB_FLOW_IDS_MEMBER_NAMES.get(jobFlowIdsListIndex), StringUtils.fromString(jobFlowIdsListValue));
                 }
                 jobFlowIdsListIndex++;
             }
@@ -60,7 +64,7 @@ public class DescribeJobFlowsRequestMarshaller implements Marshaller<Request<Des
 
             for (String jobFlowStatesListValue : jobFlowStatesList) {
                 if (jobFlowStatesListValue != null) {
-                    request.addParameter("JobFlowStates.member." + jobFlowStatesListIndex, StringUtils.fromString(jobFlowStatesListValue));
+                    request.addParameter(JOB_FLOW_STATES_MEMBER_NAMES.get(jobFlowStatesListIndex), StringUtils.fromString(jobFlowStatesListValue));
                 }
                 jobFlowStatesListIndex++;
             }
@@ -69,4 +73,9 @@ public class DescribeJobFlowsRequestMarshaller implements Marshaller<Request<Des
 
         return request;
     }
+
+    private static final DescribeJobFlowsRequestMarshaller instance = new DescribeJobFlowsRequestMarshaller();
+    public static DescribeJobFlowsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
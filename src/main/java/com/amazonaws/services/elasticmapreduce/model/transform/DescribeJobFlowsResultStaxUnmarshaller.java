@@ -59,9 +59,8 @@ public class DescribeJobFlowsResultStaxUnmarshaller implements Unmarshaller<Desc
         }
     }
 
-    private static DescribeJobFlowsResultStaxUnmarshaller instance;
+    private static final DescribeJobFlowsResultStaxUnmarshaller instance = new DescribeJobFlowsResultStaxUnmarshaller();
     public static DescribeJobFlowsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeJobFlowsResultStaxUnmarshaller();
         return instance;
     }
 }
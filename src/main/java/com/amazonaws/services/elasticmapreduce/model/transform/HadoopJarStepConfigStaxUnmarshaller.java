@@ -71,9 +71,8 @@ public class HadoopJarStepConfigStaxUnmarshaller implements Unmarshaller<HadoopJ
         }
     }
 
-    private static HadoopJarStepConfigStaxUnmarshaller instance;
+    private static final HadoopJarStepConfigStaxUnmarshaller instance = new HadoopJarStepConfigStaxUnmarshaller();
     public static HadoopJarStepConfigStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new HadoopJarStepConfigStaxUnmarshaller();
         return instance;
     }
 }
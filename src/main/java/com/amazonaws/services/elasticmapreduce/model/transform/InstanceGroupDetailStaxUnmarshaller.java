@@ -107,9 +107,8 @@ public class InstanceGroupDetailStaxUnmarshaller implements Unmarshaller<Instanc
         }
     }
 
-    private static InstanceGroupDetailStaxUnmarshaller instance;
+    private static final InstanceGroupDetailStaxUnmarshaller instance = new InstanceGroupDetailStaxUnmarshaller();
     public static InstanceGroupDetailStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new InstanceGroupDetailStaxUnmarshaller();
         return instance;
     }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.elasticmapreduce.model.InternalServerErrorExceptio
 public class InternalServerErrorExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InternalServerErrorExceptionUnmarshaller() {
-        super(InternalServerErrorException.class);
+        super(InternalServerErrorException.class, "InternalFailure");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -83,9 +83,8 @@ public class JobFlowDetailStaxUnmarshaller implements Unmarshaller<JobFlowDetail
         }
     }
 
-    private static JobFlowDetailStaxUnmarshaller instance;
+    private static final JobFlowDetailStaxUnmarshaller instance = new JobFlowDetailStaxUnmarshaller();
     public static JobFlowDetailStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new JobFlowDetailStaxUnmarshaller();
         return instance;
     }
 }
@@ -79,9 +79,8 @@ public class JobFlowExecutionStatusDetailStaxUnmarshaller implements Unmarshalle
         }
     }
 
-    private static JobFlowExecutionStatusDetailStaxUnmarshaller instance;
+    private static final JobFlowExecutionStatusDetailStaxUnmarshaller instance = new JobFlowExecutionStatusDetailStaxUnmarshaller();
     public static JobFlowExecutionStatusDetailStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new JobFlowExecutionStatusDetailStaxUnmarshaller();
         return instance;
     }
 }
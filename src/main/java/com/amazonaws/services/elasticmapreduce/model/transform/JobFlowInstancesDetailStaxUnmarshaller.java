@@ -103,9 +103,8 @@ public class JobFlowInstancesDetailStaxUnmarshaller implements Unmarshaller<JobF
         }
     }
 
-    private static JobFlowInstancesDetailStaxUnmarshaller instance;
+    private static final JobFlowInstancesDetailStaxUnmarshaller instance = new JobFlowInstancesDetailStaxUnmarshaller();
     public static JobFlowInstancesDetailStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new JobFlowInstancesDetailStaxUnmarshaller();
         return instance;
     }
 }
@@ -63,9 +63,8 @@ public class KeyValueStaxUnmarshaller implements Unmarshaller<KeyValue, StaxUnma
         }
     }
 
-    private static KeyValueStaxUnmarshaller instance;
+    private static final KeyValueStaxUnmarshaller instance = new KeyValueStaxUnmarshaller();
     public static KeyValueStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new KeyValueStaxUnmarshaller();
         return instance;
     }
 }
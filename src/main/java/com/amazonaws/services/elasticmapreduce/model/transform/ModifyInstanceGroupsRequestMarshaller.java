@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.elasticmapreduce.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,9 @@ import com.amazonaws.util.StringUtils;
  */
 public class ModifyInstanceGroupsRequestMarshaller implements Marshaller<Request<ModifyInstanceGroupsRequest>, ModifyInstanceGroupsRequest> {
 
+    private static final ParameterNameTable INSTANCE_GROUPS_MEMBER_INSTANCE_GROUP_ID_NAMES = new ParameterNameTable("InstanceGroups.member.", ".InstanceGroupId");
+    private static final ParameterNameTable INSTANCE_GROUPS_MEMBER_INSTANCE_COUNT_NAMES = new ParameterNameTable("InstanceGroups.member.", ".InstanceCount");
+
     public Request<ModifyInstanceGroupsRequest> marshall(ModifyInstanceGroupsRequest modifyInstanceGroupsRequest) {
         Request<ModifyInstanceGroupsRequest> request = new DefaultRequest<ModifyInstanceGroupsRequest>(modifyInstanceGroupsRequest, "AmazonElasticMapReduce");
         request.addParameter("Action", "ModifyInstanceGroups");
@@ -40,12 +44,12 @@ public class ModifyInstanceGroupsRequestMarshaller implements Marshaller<Request
             for (InstanceGroupModifyConfig instanceGroupsListValue : instanceGroupsList) {
                 if (instanceGroupsListValue != null) {
                     if (instanceGroupsListValue.getInstanceGroupId() != null) {
-                        request.addParameter("InstanceGroups.member." + instanceGroupsListIndex + ".InstanceGroupId", StringUtils.fromString(instanceGroupsListValue.getInstanceGroupId()));
+                        request.addParameter(INSTANCE_GROUPS_MEMBER_INSTANCE_GROUP_ID_NAMES.get(instanceGroupsListIndex), StringUtils.fromString(instanceGroupsListValue.getInstanceGroupId()));
                     }
                 }
                 if (instanceGroupsListValue != null) {
                     if (instanceGroupsListValue.getInstanceCount() != null) {
-                        request.addParameter("InstanceGroups.member." + instanceGroupsListIndex + ".InstanceCount", StringUtils.fromInteger(instanceGroupsListValue.getInstanceCount()));
+                        request.addParameter(INSTANCE_GROUPS_MEMBER_INSTANCE_COUNT_NAMES.get(instanceGroupsListIndex), StringUtils.fromInteger(instanceGroupsListValue.getInstanceCount()));
                     }
                 }
 
@@ -56,4 +60,9 @@ public class ModifyInstanceGroupsRequestMarshaller implements Marshaller<Request
 
         return request;
     }
+
+    private static final ModifyInstanceGroupsRequestMarshaller instance = new ModifyInstanceGroupsRequestMarshaller();
+    public static ModifyInstanceGroupsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
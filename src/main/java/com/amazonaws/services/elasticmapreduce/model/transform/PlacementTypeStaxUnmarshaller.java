@@ -59,9 +59,8 @@ public class PlacementTypeStaxUnmarshaller implements Unmarshaller<PlacementType
         }
     }
 
-    private static PlacementTypeStaxUnmarshaller instance;
+    private static final PlacementTypeStaxUnmarshaller instance = new PlacementTypeStaxUnmarshaller();
     public static PlacementTypeStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new PlacementTypeStaxUnmarshaller();
         return instance;
     }
 }
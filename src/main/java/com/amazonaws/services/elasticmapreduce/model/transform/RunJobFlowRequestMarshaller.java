@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.elasticmapreduce.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,22 @@ import com.amazonaws.util.StringUtils;
  */
 public class RunJobFlowRequestMarshaller implements Marshaller<Request<RunJobFlowRequest>, RunJobFlowRequest> {
 
+    private static final ParameterNameTable INSTANCES_INSTANCE_GROUPS_MEMBER_NAME_NAMES = new ParameterNameTable("Instances.InstanceGroups.member.", ".Name");
+    private static final ParameterNameTable INSTANCES_INSTANCE_GROUPS_MEMBER_MARKET_NAMES = new ParameterNameTable("Instances.InstanceGroups.member.", ".Market");
+    private static final ParameterNameTable INSTANCES_INSTANCE_GROUPS_MEMBER_INSTANCE_ROLE_NAMES = new ParameterNameTable("Instances.InstanceGroups.member.", ".InstanceRole");
+    private static final ParameterNameTable INSTANCES_INSTANCE_GROUPS_MEMBER_INSTANCE_TYPE_NAMES = new ParameterNameTable("Instances.InstanceGroups.member.", ".InstanceType");
+    private static final ParameterNameTable INSTANCES_INSTANCE_GROUPS_MEMBER_INSTANCE_COUNT_NAMES = new ParameterNameTable("Instances.InstanceGroups.member.", ".InstanceCount");
+    private static final ParameterNameTable STEPS_MEMBER_NAME_NAMES = new ParameterNameTable("Steps.member.", ".Name");
+    private static final ParameterNameTable STEPS_MEMBER_ACTION_ON_FAILURE_NAMES = new ParameterNameTable("Steps.member.", ".ActionOnFailure");
+    private static final ParameterNameTable STEPS_MEMBER_HADOOP_JAR_STEP_PROPERTIES_MEMBER_KEY_NAMES = new ParameterNameTable("Steps.member.", ".HadoopJarStep.Properties.member.", ".Key");
+    private static final ParameterNameTable STEPS_MEMBER_HADOOP_JAR_STEP_PROPERTIES_MEMBER_VALUE_NAMES = new ParameterNameTable("Steps.member.", ".HadoopJarStep.Properties.member.", ".Value");
+    private static final ParameterNameTable STEPS_MEMBER_HADOOP_JAR_STEP_JAR_NAMES = new ParameterNameTable("Steps.member.", ".HadoopJarStep.Jar");
+    private static final ParameterNameTable STEPS_MEMBER_HADOOP_JAR_STEP_MAIN_CLASS_NAMES = new ParameterNameTable("Steps.member.", ".HadoopJarStep.MainClass");
+    private static final ParameterNameTable STEPS_MEMBER_HADOOP_JAR_STEP_ARGS_MEMBER_NAMES = new ParameterNameTable("Steps.member.", ".HadoopJarStep.Args.member.", "");
+    private static final ParameterNameTable BOOTSTRAP_ACTIONS_MEMBER_NAME_NAMES = new ParameterNameTable("BootstrapActions.member.", ".Name");
+    private static final ParameterNameTable BOOTSTRAP_ACTIONS_MEMBER_SCRIPT_BOOTSTRAP_ACTION_PATH_NAMES = new ParameterNameTable("BootstrapActions.member.", ".ScriptBootstrapAction.Path");
+    private static final ParameterNameTable BOOTSTRAP_ACTIONS_MEMBER_SCRIPT_BOOTSTRAP_ACTION_ARGS_MEMBER_NAMES = new ParameterNameTable("BootstrapActions.member.", ".ScriptBootstrapAction.Args.member.", "");
+
     public Request<RunJobFlowRequest> marshall(RunJobFlowRequest runJobFlowRequest) {
         Request<RunJobFlowRequest> request = new DefaultRequest<RunJobFlowRequest>(runJobFlowRequest, "AmazonElasticMapReduce");
         request.addParameter("Action", "RunJobFlow");
@@ -72,27 +89,27 @@ public class RunJobFlowRequestMarshaller implements Marshaller<Request<RunJobFlo
                 for (InstanceGroupConfig instanceGroupsListValue : instanceGroupsList) {
                     if (instanceGroupsListValue != null) {
                         if (instanceGroupsListValue.getName() != null) {
-                            request.addParameter("Instances.InstanceGroups.member." + instanceGroupsListIndex + ".Name", StringUtils.fromString(instanceGroupsListValue.getName()));
+                            request.addParameter(INSTANCES_INSTANCE_GROUPS_MEMBER_NAME_NAMES.get(instanceGroupsListIndex), StringUtils.fromString(instanceGroupsListValue.getName()));
                         }
                     }
                     if (instanceGroupsListValue != null) {
                         if (instanceGroupsListValue.getMarket() != null) {
-                            request.addParameter("Instances.InstanceGroups.member." + instanceGroupsListIndex + ".Market", StringUtils.fromString(instanceGroupsListValue.getMarket()));
+                            request.addParameter(INSTANCES_INSTANCE_GROUPS_MEMBER_MARKET_NAMES.get(instanceGroupsListIndex), StringUtils.fromString(instanceGroupsListValue.getMarket()));
                         }
                     }
                     if (instanceGroupsListValue != null) {
                         if (instanceGroupsListValue.getInstanceRole() != null) {
-                            request.addParameter("Instances.InstanceGroups.member." + instanceGroupsListIndex + ".InstanceRole", StringUtils.fromString(instanceGroupsListValue.getInstanceRole()));
+                            request.addParameter(INSTANCES_INSTANCE_GROUPS_MEMBER_INSTANCE_ROLE_NAMES.get(instanceGroupsListIndex), StringUtils.fromString(instanceGroupsListValue.getInstanceRole()));
                         }
                     }
                     if (instanceGroupsListValue != null) {
                         if (instanceGroupsListValue.getInstanceType() != null) {
-                            request.addParameter("Instances.InstanceGroups.member." + instanceGroupsListIndex + ".InstanceType", StringUtils.fromString(instanceGroupsListValue.getInstanceType()));
+                            request.addParameter(INSTANCES_INSTANCE_GROUPS_MEMBER_INSTANCE_TYPE_NAMES.get(instanceGroupsListIndex), StringUtils.fromString(instanceGroupsListValue.getInstanceType()));
                         }
                     }
                     if (instanceGroupsListValue != null) {
                         if (instanceGroupsListValue.getInstanceCount() != null) {
-                            request.addParameter("Instances.InstanceGroups.member." + instanceGroupsListIndex + ".InstanceCount", StringUtils.fromInteger(instanceGroupsListValue.getInstanceCount()));
+                            request.addParameter(INSTANCES_INSTANCE_GROUPS_MEMBER_INSTANCE_COUNT_NAMES.get(instanceGroupsListIndex), StringUtils.fromInteger(instanceGroupsListValue.getInstanceCount()));
                         }
                     }
 
@@ -135,12 +152,12 @@ public class RunJobFlowRequestMarshaller implements Marshaller<Request<RunJobFlo
             for (StepConfig stepsListValue : stepsList) {
                 if (stepsListValue != null) {
                     if (stepsListValue.getName() != null) {
-                        request.addParameter("Steps.member." + stepsListIndex + ".Name", StringUtils.fromString(stepsListValue.getName()));
+                        request.addParameter(STEPS_MEMBER_NAME_NAMES.get(stepsListIndex), StringUtils.fromString(stepsListValue.getName()));
                     }
                 }
                 if (stepsListValue != null) {
                     if (stepsListValue.getActionOnFailure() != null) {
-                        request.addParameter("Steps.member." + stepsListIndex + ".ActionOnFailure", StringUtils.fromString(stepsListValue.getActionOnFailure()));
+                        request.addParameter(STEPS_MEMBER_ACTION_ON_FAILURE_NAMES.get(stepsListIndex), StringUtils.fromString(stepsListValue.getActionOnFailure()));
                     }
                 }
                 if (stepsListValue != null) {
@@ -152,12 +169,12 @@ public class RunJobFlowRequestMarshaller implements Marshaller<Request<RunJobFlo
                         for (KeyValue propertiesListValue : propertiesList) {
                             if (propertiesListValue != null) {
                                 if (propertiesListValue.getKey() != null) {
-                                    request.addParameter("Steps.member." + stepsListIndex + ".HadoopJarStep.Properties.member." + propertiesListIndex + ".Key", StringUtils.fromString(propertiesListValue.getKey()));
+                                    request.addParameter(STEPS_MEMBER_HADOOP_JAR_STEP_PROPERTIES_MEMBER_KEY_NAMES.get(stepsListIndex, propertiesListIndex), StringUtils.fromString(propertiesListValue.getKey()));
                                 }
                             }
                             if (propertiesListValue != null) {
                                 if (propertiesListValue.getValue() != null) {
-                                    request.addParameter("Steps.member." + stepsListIndex + ".HadoopJarStep.Properties.member." + propertiesListIndex + ".Value", StringUtils.fromString(propertiesListValue.getValue()));
+                                    request.addParameter(STEPS_MEMBER_HADOOP_JAR_STEP_PROPERTIES_MEMBER_VALUE_NAMES.get(stepsListIndex, propertiesListIndex), StringUtils.fromString(propertiesListValue.getValue()));
                                 }
                             }
 
@@ -166,12 +183,12 @@ public class RunJobFlowRequestMarshaller implements Marshaller<Request<RunJobFlo
                     }
                     if (hadoopJarStep != null) {
                         if (hadoopJarStep.getJar() != null) {
-                            request.addParameter("Steps.member." + stepsListIndex + ".HadoopJarStep.Jar", StringUtils.fromString(hadoopJarStep.getJar()));
+                            request.addParameter(STEPS_MEMBER_HADOOP_JAR_STEP_JAR_NAMES.get(stepsListIndex), StringUtils.fromString(hadoopJarStep.getJar()));
                         }
                     }
                     if (hadoopJarStep != null) {
                         if (hadoopJarStep.getMainClass() != null) {
-                            request.addParameter("Steps.member." + stepsListIndex + ".HadoopJarStep.MainClass", StringUtils.fromString(hadoopJarStep.getMainClass()));
+                            request.addParameter(STEPS_MEMBER_HADOOP_JAR_STEP_MAIN_CLASS_NAMES.get(stepsListIndex), StringUtils.fromString(hadoopJarStep.getMainClass()));
                         }
                     }
                     if (hadoopJarStep != null) {
@@ -180,7 +197,7 @@ public class RunJobFlowRequestMarshaller implements Marshaller<Request<RunJobFlo
 
                         for (String argsListValue : argsList) {
                             if (argsListValue != null) {
-                                request.addParameter("Steps.member." + stepsListIndex + ".HadoopJarStep.Args.member." + argsListIndex, StringUtils.fromString(argsListValue));
+                                request.addParameter(STEPS_MEMBER_HADOOP_JAR_STEP_ARGS_MEMBER_NAMES.get(stepsListIndex, argsListIndex), StringUtils.fromString(argsListValue));
                             }
                             argsListIndex++;
                         }
@@ -197,14 +214,14 @@ public class RunJobFlowRequestMarshaller implements Marshaller<Request<RunJobFlo
             for (BootstrapActionConfig bootstrapActionsListValue : bootstrapActionsList) {
                 if (bootstrapActionsListValue != null) {
                     if (bootstrapActionsListValue.getName() != null) {
-                        request.addParameter("BootstrapActions.member." + bootstrapActionsListIndex + ".Name", StringUtils.fromString(bootstrapActionsListValue.getName()));
+                        request.addParameter(BOOTSTRAP_ACTIONS_MEMBER_NAME_NAMES.get(bootstrapActionsListIndex), StringUtils.fromString(bootstrapActionsListValue.getName()));
                     }
                 }
                 if (bootstrapActionsListValue != null) {
                     ScriptBootstrapActionConfig scriptBootstrapAction = bootstrapActionsListValue.getScriptBootstrapAction();
                     if (scriptBootstrapAction != null) {
                         if (scriptBootstrapAction.getPath() != null) {
-                            request.addParameter("BootstrapActions.member." + bootstrapActionsListIndex + ".ScriptBootstrapAction.Path", StringUtils.fromString(scriptBootstrapAction.getPath()));
+                            request.addParameter(BOOTSTRAP_ACTIONS_MEMBER_SCRIPT_BOOTSTRAP_ACTION_PATH_NAMES.get(bootstrapActionsListIndex), StringUtils.fromString(scriptBootstrapAction.getPath()));
                         }
                     }
                     if (scriptBootstrapAction != null) {
@@ -213,7 +230,7 @@ public class RunJobFlowRequestMarshaller implements Marshaller<Request<RunJobFlo
 
                         for (String argsListValue : argsList) {
                             if (argsListValue != null) {
-                                request.addParameter("BootstrapActions.member." + bootstrapActionsListIndex + ".ScriptBootstrapAction.Args.member." + argsListIndex, StringUtils.fromString(argsListValue));
+                                request.addParameter(BOOTSTRAP_ACTIONS_MEMBER_SCRIPT_BOOTSTRAP_ACTION_ARGS_MEMBER_NAMES.get(bootstrapActionsListIndex, argsListIndex), StringUtils.fromString(argsListValue));
                             }
                             argsListIndex++;
                         }
@@ -227,4 +244,9 @@ public class RunJobFlowRequestMarshaller implements Marshaller<Request<RunJobFlo
 
         return request;
     }
+
+    private static final RunJobFlowRequestMarshaller instance = new RunJobFlowRequestMarshaller();
+    public static RunJobFlowRequestMarshaller getInstance() {
+        return instance;
+    }
 }
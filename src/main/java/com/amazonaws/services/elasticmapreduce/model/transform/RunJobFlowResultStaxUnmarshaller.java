@@ -59,9 +59,8 @@ public class RunJobFlowResultStaxUnmarshaller implements Unmarshaller<RunJobFlow
         }
     }
 
-    private static RunJobFlowResultStaxUnmarshaller instance;
+    private static final RunJobFlowResultStaxUnmarshaller instance = new RunJobFlowResultStaxUnmarshaller();
     public static RunJobFlowResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new RunJobFlowResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -63,9 +63,8 @@ public class ScriptBootstrapActionConfigStaxUnmarshaller implements Unmarshaller
         }
     }
 
-    private static ScriptBootstrapActionConfigStaxUnmarshaller instance;
+    private static final ScriptBootstrapActionConfigStaxUnmarshaller instance = new ScriptBootstrapActionConfigStaxUnmarshaller();
     public static ScriptBootstrapActionConfigStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ScriptBootstrapActionConfigStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.elasticmapreduce.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class SetTerminationProtectionRequestMarshaller implements Marshaller<Request<SetTerminationProtectionRequest>, SetTerminationProtectionRequest> {
 
+    private static final ParameterNameTable JOB_FLOW_IDS_MEMBER_NAMES = new ParameterNameTable("JobFlowIds.member.", "");
+
     public Request<SetTerminationProtectionRequest> marshall(SetTerminationProtectionRequest setTerminationProtectionRequest) {
         Request<SetTerminationProtectionRequest> request = new DefaultRequest<SetTerminationProtectionRequest>(setTerminationProtectionRequest, "AmazonElasticMapReduce");
         request.addParameter("Action", "SetTerminationProtection");
@@ -39,7 +42,7 @@ public class SetTerminationProtectionRequestMarshaller implements Marshaller<Req
 
             for (String jobFlowIdsListValue : jobFlowIdsList) {
                 if (jobFlowIdsListValue != null) {
-                    request.addParameter("JobFlowIds.member." + jobFlowIdsListIndex, StringUtils.fromString(jobFlowIdsListValue));
+                    request.addParameter(JOB_FLOW_IDS_MEMBER_NAMES.get(jobFlowIdsListIndex), StringUtils.fromString(jobFlowIdsListValue));
                 }
                 jobFlowIdsListIndex++;
             }
@@ -53,4 +56,9 @@ public class SetTerminationProtectionRequestMarshaller implements Marshaller<Req
 
         return request;
     }
+
+    private static final SetTerminationProtectionRequestMarshaller instance = new SetTerminationProtectionRequestMarshaller();
+    public static SetTerminationProtectionRequestMarshaller getInstance() {
+        return instance;
+    }
 }
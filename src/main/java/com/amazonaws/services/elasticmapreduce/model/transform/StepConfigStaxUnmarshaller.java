@@ -67,9 +67,8 @@ public class StepConfigStaxUnmarshaller implements Unmarshaller<StepConfig, Stax
         }
     }
 
-    private static StepConfigStaxUnmarshaller instance;
+    private static final StepConfigStaxUnmarshaller instance = new StepConfigStaxUnmarshaller();
     public static StepConfigStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new StepConfigStaxUnmarshaller();
         return instance;
     }
 }
@@ -63,9 +63,8 @@ public class StepDetailStaxUnmarshaller implements Unmarshaller<StepDetail, Stax
         }
     }
 
-    private static StepDetailStaxUnmarshaller instance;
+    private static final StepDetailStaxUnmarshaller instance = new StepDetailStaxUnmarshaller();
     public static StepDetailStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new StepDetailStaxUnmarshaller();
         return instance;
     }
 }
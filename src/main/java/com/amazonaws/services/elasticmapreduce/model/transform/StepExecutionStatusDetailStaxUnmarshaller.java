@@ -75,9 +75,8 @@ public class StepExecutionStatusDetailStaxUnmarshaller implements Unmarshaller<S
         }
     }
 
-    private static StepExecutionStatusDetailStaxUnmarshaller instance;
+    private static final StepExecutionStatusDetailStaxUnmarshaller instance = new StepExecutionStatusDetailStaxUnmarshaller();
     public static StepExecutionStatusDetailStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new StepExecutionStatusDetailStaxUnmarshaller();
         return instance;
     }
 }
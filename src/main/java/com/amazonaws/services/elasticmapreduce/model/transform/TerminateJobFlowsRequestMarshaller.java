@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.elasticmapreduce.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class TerminateJobFlowsRequestMarshaller implements Marshaller<Request<TerminateJobFlowsRequest>, TerminateJobFlowsRequest> {
 
+    private static final ParameterNameTable JOB_FLOW_IDS_MEMBER_NAMES = new ParameterNameTable("JobFlowIds.member.", "");
+
     public Request<TerminateJobFlowsRequest> marshall(TerminateJobFlowsRequest terminateJobFlowsRequest) {
         Request<TerminateJobFlowsRequest> request = new DefaultRequest<TerminateJobFlowsRequest>(terminateJobFlowsRequest, "AmazonElasticMapReduce");
         request.addParameter("Action", "TerminateJobFlows");
@@ -39,7 +42,7 @@ public class TerminateJobFlowsRequestMarshaller implements Marshaller<Request<Te
 
             for (String jobFlowIdsListValue : jobFlowIdsList) {
                 if (jobFlowIdsListValue != null) {
-                    request.addParameter("JobFlowIds.member." + jobFlowIdsListIndex, StringUtils.fromString(jobFlowIdsListValue));
+                    request.addParameter(JOB_FLOW_IDS_MEMBER_NAMES.get(jobFlowIdsListIndex), StringUtils.fromString(jobFlowIdsListValue));
                 }
                 jobFlowIdsListIndex++;
             }
@@ -48,4 +51,9 @@ public class TerminateJobFlowsRequestMarshaller implements Marshaller<Request<Te
 
         return request;
     }
+
+    private static final TerminateJobFlowsRequestMarshaller instance = new TerminateJobFlowsRequestMarshaller();
+    public static TerminateJobFlowsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -18,6 +18,7 @@ import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.services.identitymanagement.model.*;
 
 /**
@@ -82,6 +83,37 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<ListGroupsResult> listGroupsAsync(ListGroupsRequest listGroupsRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Lists the groups that have the specified path prefix.
+     * </p>
+     * <p>
+     * You can paginate the results using the <code>MaxItems</code> and
+     * <code>Marker</code> parameters.
+     * </p>
+     *
+     * @param listGroupsRequest Container for the necessary parameters to
+     *           execute the ListGroups operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListGroups service method, as returned by AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListGroupsResult> listGroupsAsync(ListGroupsRequest listGroupsRequest,
+            AsyncHandler<ListGroupsRequest, ListGroupsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Deletes the access key associated with the specified User.
@@ -112,6 +144,41 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<Void> deleteAccessKeyAsync(DeleteAccessKeyRequest deleteAccessKeyRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Deletes the access key associated with the specified User.
+     * </p>
+     * <p>
+     * If you do not specify a User name, IAM determines the User name
+     * implicitly based on the AWS Access Key ID signing the request. Because
+     * this action works for access keys under the AWS Account, you can use
+     * this API to manage root credentials even if the AWS Account has no
+     * associated Users.
+     * </p>
+     *
+     * @param deleteAccessKeyRequest Container for the necessary parameters
+     *           to execute the DeleteAccessKey operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteAccessKey service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteAccessKeyAsync(DeleteAccessKeyRequest deleteAccessKeyRequest,
+            AsyncHandler<DeleteAccessKeyRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Deletes the specified AWS Account alias. For information about using
@@ -140,6 +207,39 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<Void> deleteAccountAliasAsync(DeleteAccountAliasRequest deleteAccountAliasRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Deletes the specified AWS Account alias. For information about using
+     * an AWS Account alias, see <a
+     * ://docs.amazonwebservices.com/IAM/latest/UserGuide/AccountAlias.html">
+     * Using an Alias for Your AWS Account ID </a> in <i>Using AWS Identity
+     * and Access Management</i> .
+     * </p>
+     *
+     * @param deleteAccountAliasRequest Container for the necessary
+     *           parameters to execute the DeleteAccountAlias operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteAccountAlias service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteAccountAliasAsync(DeleteAccountAliasRequest deleteAccountAliasRequest,
+            AsyncHandler<DeleteAccountAliasRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Returns information about the signing certificates associated with the
@@ -177,6 +277,48 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<ListSigningCertificatesResult> listSigningCertificatesAsync(ListSigningCertificatesRequest listSigningCertificatesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Returns information about the signing certificates associated with the
+     * specified User. If there are none, the action returns an empty list.
+     * </p>
+     * <p>
+     * Although each User is limited to a small number of signing
+     * certificates, you can still paginate the results using the
+     * <code>MaxItems</code> and <code>Marker</code> parameters.
+     * </p>
+     * <p>
+     * If the <code>UserName</code> field is not specified, the UserName is
+     * determined implicitly based on the AWS Access Key ID used to sign the
+     * request. Because this action works for access keys under the AWS
+     * Account, this API can be used to manage root credentials even if the
+     * AWS Account has no associated Users.
+     * </p>
+     *
+     * @param listSigningCertificatesRequest Container for the necessary
+     *           parameters to execute the ListSigningCertificates operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListSigningCertificates service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListSigningCertificatesResult> listSigningCertificatesAsync(ListSigningCertificatesRequest listSigningCertificatesRequest,
+            AsyncHandler<ListSigningCertificatesRequest, ListSigningCertificatesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Uploads an X.509 signing certificate and associates it with the
@@ -218,6 +360,52 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<UploadSigningCertificateResult> uploadSigningCertificateAsync(UploadSigningCertificateRequest uploadSigningCertificateRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Uploads an X.509 signing certificate and associates it with the
+     * specified User. Some AWS services use X.509 signing certificates to
+     * validate requests that are signed with a corresponding private key.
+     * When you upload the certificate, its default status is
+     * <code>Active</code> .
+     * </p>
+     * <p>
+     * If the <code>UserName</code> field is not specified, the User name is
+     * determined implicitly based on the AWS Access Key ID used to sign the
+     * request. Because this action works for access keys under the AWS
+     * Account, this API can be used to manage root credentials even if the
+     * AWS Account has no associated Users.
+     * </p>
+     * <p>
+     * <b>NOTE:</b>Because the body of a X.509 certificate can be large, you
+     * should use POST rather than GET when calling UploadSigningCertificate.
+     * For more information, see Making Query Requests in Using AWS Identity
+     * and Access Management.
+     * </p>
+     *
+     * @param uploadSigningCertificateRequest Container for the necessary
+     *           parameters to execute the UploadSigningCertificate operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         UploadSigningCertificate service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<UploadSigningCertificateResult> uploadSigningCertificateAsync(UploadSigningCertificateRequest uploadSigningCertificateRequest,
+            AsyncHandler<UploadSigningCertificateRequest, UploadSigningCertificateResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Deletes the specified policy associated with the specified User.
@@ -241,6 +429,34 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<Void> deleteUserPolicyAsync(DeleteUserPolicyRequest deleteUserPolicyRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Deletes the specified policy associated with the specified User.
+     * </p>
+     *
+     * @param deleteUserPolicyRequest Container for the necessary parameters
+     *           to execute the DeleteUserPolicy operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteUserPolicy service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteUserPolicyAsync(DeleteUserPolicyRequest deleteUserPolicyRequest,
+            AsyncHandler<DeleteUserPolicyRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Adds (or updates) a policy document associated with the specified
@@ -279,6 +495,49 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<Void> putUserPolicyAsync(PutUserPolicyRequest putUserPolicyRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Adds (or updates) a policy document associated with the specified
+     * User. For information about policies, refer to <a
+     * ebservices.com/IAM/latest/UserGuide/index.html?PoliciesOverview.html">
+     * Overview of Policies </a> in <i>Using AWS Identity and Access
+     * Management</i> .
+     * </p>
+     * <p>
+     * For information about limits on the number of policies you can
+     * associate with a User, see <a
+     * s.com/IAM/2010-05-08/UserGuide/index.html?LimitationsOnEntities.html">
+     * Limitations on IAM Entities </a> in <i>Using AWS Identity and Access
+     * Management</i> .
+     * </p>
+     * <p>
+     * <b>NOTE:</b>Because policy documents can be large, you should use POST
+     * rather than GET when calling PutUserPolicy. For more information, see
+     * Making Query Requests in Using AWS Identity and Access Management.
+     * </p>
+     *
+     * @param putUserPolicyRequest Container for the necessary parameters to
+     *           execute the PutUserPolicy operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         PutUserPolicy service method, as returned by AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> putUserPolicyAsync(PutUserPolicyRequest putUserPolicyRequest,
+            AsyncHandler<PutUserPolicyRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Lists the server certificates that have the specified path prefix. If
@@ -308,6 +567,40 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<ListServerCertificatesResult> listServerCertificatesAsync(ListServerCertificatesRequest listServerCertificatesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Lists the server certificates that have the specified path prefix. If
+     * none exist, the action returns an empty list.
+     * </p>
+     * <p>
+     * You can paginate the results using the <code>MaxItems</code> and
+     * <code>Marker</code> parameters.
+     * </p>
+     *
+     * @param listServerCertificatesRequest Container for the necessary
+     *           parameters to execute the ListServerCertificates operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListServerCertificates service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListServerCertificatesResult> listServerCertificatesAsync(ListServerCertificatesRequest listServerCertificatesRequest,
+            AsyncHandler<ListServerCertificatesRequest, ListServerCertificatesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Retrieves the specified policy document for the specified User. The
@@ -336,17 +629,22 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
 
     /**
      * <p>
-     * Updates the login profile for the specified User. Use this API to
-     * change the User's password.
+     * Retrieves the specified policy document for the specified User. The
+     * returned policy is URL-encoded according to RFC 3986. For more
+     * information about RFC 3986, go to <a
+     * href="http://www.faqs.org/rfcs/rfc3986.html">
+     * http://www.faqs.org/rfcs/rfc3986.html </a> .
      * </p>
      *
-     * @param updateLoginProfileRequest Container for the necessary
-     *           parameters to execute the UpdateLoginProfile operation on
-     *           AmazonIdentityManagement.
+     * @param getUserPolicyRequest Container for the necessary parameters to
+     *           execute the GetUserPolicy operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         UpdateLoginProfile service method, as returned by
-     *         AmazonIdentityManagement.
+     *         GetUserPolicy service method, as returned by AmazonIdentityManagement.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -356,12 +654,68 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
      *             If an error response is returned by AmazonIdentityManagement indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> updateLoginProfileAsync(UpdateLoginProfileRequest updateLoginProfileRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<GetUserPolicyResult> getUserPolicyAsync(GetUserPolicyRequest getUserPolicyRequest,
+            AsyncHandler<GetUserPolicyRequest, GetUserPolicyResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Updates the name and/or the path of the specified server certificate.
+     * Updates the login profile for the specified User. Use this API to
+     * change the User's password.
+     * </p>
+     *
+     * @param updateLoginProfileRequest Container for the necessary
+     *           parameters to execute the UpdateLoginProfile operation on
+     *           AmazonIdentityManagement.
+     * 
+     * @return A Java Future object containing the response from the
+     *         UpdateLoginProfile service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> updateLoginProfileAsync(UpdateLoginProfileRequest updateLoginProfileRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Updates the login profile for the specified User. Use this API to
+     * change the User's password.
+     * </p>
+     *
+     * @param updateLoginProfileRequest Container for the necessary
+     *           parameters to execute the UpdateLoginProfile operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         UpdateLoginProfile service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> updateLoginProfileAsync(UpdateLoginProfileRequest updateLoginProfileRequest,
+            AsyncHandler<UpdateLoginProfileRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Updates the name and/or the path of the specified server certificate.
      * </p>
      * <p>
      * <b>IMPORTANT:</b> You should understand the implications of changing a
@@ -396,6 +750,48 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<Void> updateServerCertificateAsync(UpdateServerCertificateRequest updateServerCertificateRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Updates the name and/or the path of the specified server certificate.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> You should understand the implications of changing a
+     * server certificate's path or name. For more information, see Managing
+     * Server Certificates in Using AWS Identity and Access Management.
+     * </p>
+     * <p>
+     * <b>NOTE:</b>To change a server certificate name the requester must
+     * have appropriate permissions on both the source object and the target
+     * object. For example, to change the name from ProductionCert to
+     * ProdCert, the entity making the request must have permission on
+     * ProductionCert and ProdCert, or must have permission on all (*). For
+     * more information about permissions, see Permissions and Policies.
+     * </p>
+     *
+     * @param updateServerCertificateRequest Container for the necessary
+     *           parameters to execute the UpdateServerCertificate operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         UpdateServerCertificate service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> updateServerCertificateAsync(UpdateServerCertificateRequest updateServerCertificateRequest,
+            AsyncHandler<UpdateServerCertificateRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Updates the name and/or the path of the specified User.
@@ -430,6 +826,45 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<Void> updateUserAsync(UpdateUserRequest updateUserRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Updates the name and/or the path of the specified User.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> You should understand the implications of changing a
+     * User's path or name. For more information, see Renaming Users and
+     * Groups in Using AWS Identity and Access Management.
+     * </p>
+     * <p>
+     * <b>NOTE:</b>To change a User name the requester must have appropriate
+     * permissions on both the source object and the target object. For
+     * example, to change Bob to Robert, the entity making the request must
+     * have permission on Bob and Robert, or must have permission on all (*).
+     * For more information about permissions, see Permissions and Policies.
+     * </p>
+     *
+     * @param updateUserRequest Container for the necessary parameters to
+     *           execute the UpdateUser operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         UpdateUser service method, as returned by AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> updateUserAsync(UpdateUserRequest updateUserRequest,
+            AsyncHandler<UpdateUserRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Deletes the login profile for the specified User, which terminates the
@@ -462,6 +897,43 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<Void> deleteLoginProfileAsync(DeleteLoginProfileRequest deleteLoginProfileRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Deletes the login profile for the specified User, which terminates the
+     * User's ability to access AWS services through the IAM login page.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b>Deleting a User's login profile does not prevent a
+     * User from accessing IAM through the command line interface or the API.
+     * To prevent all User access you must also either make the access key
+     * inactive or delete it. For more information about making keys
+     * inactive or deleting them, see UpdateAccessKey and DeleteAccessKey.
+     * </p>
+     *
+     * @param deleteLoginProfileRequest Container for the necessary
+     *           parameters to execute the DeleteLoginProfile operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteLoginProfile service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteLoginProfileAsync(DeleteLoginProfileRequest deleteLoginProfileRequest,
+            AsyncHandler<DeleteLoginProfileRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Changes the status of the specified signing certificate from active to
@@ -501,6 +973,50 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<Void> updateSigningCertificateAsync(UpdateSigningCertificateRequest updateSigningCertificateRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Changes the status of the specified signing certificate from active to
+     * disabled, or vice versa. This action can be used to disable a User's
+     * signing certificate as part of a certificate rotation workflow.
+     * </p>
+     * <p>
+     * If the <code>UserName</code> field is not specified, the UserName is
+     * determined implicitly based on the AWS Access Key ID used to sign the
+     * request. Because this action works for access keys under the AWS
+     * Account, this API can be used to manage root credentials even if the
+     * AWS Account has no associated Users.
+     * </p>
+     * <p>
+     * For information about rotating certificates, see <a
+     * ervices.com/IAM/latest/UserGuide/index.html?ManagingCredentials.html">
+     * Managing Keys and Certificates </a> in <i>Using AWS Identity and
+     * Access Management</i> .
+     * </p>
+     *
+     * @param updateSigningCertificateRequest Container for the necessary
+     *           parameters to execute the UpdateSigningCertificate operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         UpdateSigningCertificate service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> updateSigningCertificateAsync(UpdateSigningCertificateRequest updateSigningCertificateRequest,
+            AsyncHandler<UpdateSigningCertificateRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Deletes the specified policy that is associated with the specified
@@ -526,6 +1042,36 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<Void> deleteGroupPolicyAsync(DeleteGroupPolicyRequest deleteGroupPolicyRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Deletes the specified policy that is associated with the specified
+     * group.
+     * </p>
+     *
+     * @param deleteGroupPolicyRequest Container for the necessary parameters
+     *           to execute the DeleteGroupPolicy operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteGroupPolicy service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteGroupPolicyAsync(DeleteGroupPolicyRequest deleteGroupPolicyRequest,
+            AsyncHandler<DeleteGroupPolicyRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Lists the Users that have the specified path prefix. If there are
@@ -553,6 +1099,38 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<ListUsersResult> listUsersAsync(ListUsersRequest listUsersRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Lists the Users that have the specified path prefix. If there are
+     * none, the action returns an empty list.
+     * </p>
+     * <p>
+     * You can paginate the results using the <code>MaxItems</code> and
+     * <code>Marker</code> parameters.
+     * </p>
+     *
+     * @param listUsersRequest Container for the necessary parameters to
+     *           execute the ListUsers operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListUsers service method, as returned by AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListUsersResult> listUsersAsync(ListUsersRequest listUsersRequest,
+            AsyncHandler<ListUsersRequest, ListUsersResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Updates the name and/or the path of the specified group.
@@ -590,16 +1168,31 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
 
     /**
      * <p>
-     * Retrieves information about the specified server certificate.
+     * Updates the name and/or the path of the specified group.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> You should understand the implications of changing a
+     * group's path or name. For more information, see Renaming Users and
+     * Groups in Using AWS Identity and Access Management.
+     * </p>
+     * <p>
+     * <b>NOTE:</b>To change a group name the requester must have appropriate
+     * permissions on both the source object and the target object. For
+     * example, to change Managers to MGRs, the entity making the request
+     * must have permission on Managers and MGRs, or must have permission on
+     * all (*). For more information about permissions, see Permissions and
+     * Policies.
      * </p>
      *
-     * @param getServerCertificateRequest Container for the necessary
-     *           parameters to execute the GetServerCertificate operation on
-     *           AmazonIdentityManagement.
+     * @param updateGroupRequest Container for the necessary parameters to
+     *           execute the UpdateGroup operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         GetServerCertificate service method, as returned by
-     *         AmazonIdentityManagement.
+     *         UpdateGroup service method, as returned by AmazonIdentityManagement.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -609,13 +1202,67 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
      *             If an error response is returned by AmazonIdentityManagement indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<GetServerCertificateResult> getServerCertificateAsync(GetServerCertificateRequest getServerCertificateRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<Void> updateGroupAsync(UpdateGroupRequest updateGroupRequest,
+            AsyncHandler<UpdateGroupRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Adds (or updates) a policy document associated with the specified
-     * group. For information about policies, refer to <a
+     * Retrieves information about the specified server certificate.
+     * </p>
+     *
+     * @param getServerCertificateRequest Container for the necessary
+     *           parameters to execute the GetServerCertificate operation on
+     *           AmazonIdentityManagement.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetServerCertificate service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetServerCertificateResult> getServerCertificateAsync(GetServerCertificateRequest getServerCertificateRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Retrieves information about the specified server certificate.
+     * </p>
+     *
+     * @param getServerCertificateRequest Container for the necessary
+     *           parameters to execute the GetServerCertificate operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetServerCertificate service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetServerCertificateResult> getServerCertificateAsync(GetServerCertificateRequest getServerCertificateRequest,
+            AsyncHandler<GetServerCertificateRequest, GetServerCertificateResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Adds (or updates) a policy document associated with the specified
+     * group. For information about policies, refer to <a
      * ebservices.com/IAM/latest/UserGuide/index.html?PoliciesOverview.html">
      * Overview of Policies </a> in <i>Using AWS Identity and Access
      * Management</i> .
@@ -651,6 +1298,50 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<Void> putGroupPolicyAsync(PutGroupPolicyRequest putGroupPolicyRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Adds (or updates) a policy document associated with the specified
+     * group. For information about policies, refer to <a
+     * ebservices.com/IAM/latest/UserGuide/index.html?PoliciesOverview.html">
+     * Overview of Policies </a> in <i>Using AWS Identity and Access
+     * Management</i> .
+     * </p>
+     * <p>
+     * For information about limits on the number of policies you can
+     * associate with a group, see <a
+     * s.com/IAM/2010-05-08/UserGuide/index.html?LimitationsOnEntities.html">
+     * Limitations on IAM Entities </a> in <i>Using AWS Identity and Access
+     * Management</i> .
+     * </p>
+     * <p>
+     * <b>NOTE:</b>Because policy documents can be large, you should use POST
+     * rather than GET when calling PutGroupPolicy. For more information, see
+     * Making Query Requests in Using AWS Identity and Access Management.
+     * </p>
+     *
+     * @param putGroupPolicyRequest Container for the necessary parameters to
+     *           execute the PutGroupPolicy operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         PutGroupPolicy service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> putGroupPolicyAsync(PutGroupPolicyRequest putGroupPolicyRequest,
+            AsyncHandler<PutGroupPolicyRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Creates a new User for your AWS Account.
@@ -680,6 +1371,40 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<CreateUserResult> createUserAsync(CreateUserRequest createUserRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Creates a new User for your AWS Account.
+     * </p>
+     * <p>
+     * For information about limitations on the number of Users you can
+     * create, see <a
+     * vices.com/IAM/latest/UserGuide/index.html?LimitationsOnEntities.html">
+     * Limitations on IAM Entities </a> in <i>Using AWS Identity and Access
+     * Management</i> .
+     * </p>
+     *
+     * @param createUserRequest Container for the necessary parameters to
+     *           execute the CreateUser operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateUser service method, as returned by AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateUserResult> createUserAsync(CreateUserRequest createUserRequest,
+            AsyncHandler<CreateUserRequest, CreateUserResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Deletes the specified signing certificate associated with the
@@ -712,6 +1437,43 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<Void> deleteSigningCertificateAsync(DeleteSigningCertificateRequest deleteSigningCertificateRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Deletes the specified signing certificate associated with the
+     * specified User.
+     * </p>
+     * <p>
+     * If you do not specify a User name, IAM determines the User name
+     * implicitly based on the AWS Access Key ID signing the request. Because
+     * this action works for access keys under the AWS Account, you can use
+     * this API to manage root credentials even if the AWS Account has no
+     * associated Users.
+     * </p>
+     *
+     * @param deleteSigningCertificateRequest Container for the necessary
+     *           parameters to execute the DeleteSigningCertificate operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteSigningCertificate service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteSigningCertificateAsync(DeleteSigningCertificateRequest deleteSigningCertificateRequest,
+            AsyncHandler<DeleteSigningCertificateRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Enables the specified MFA device and associates it with the specified
@@ -737,6 +1499,36 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<Void> enableMFADeviceAsync(EnableMFADeviceRequest enableMFADeviceRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Enables the specified MFA device and associates it with the specified
+     * User name. When enabled, the MFA device is required for every
+     * subsequent login by the User name associated with the device.
+     * </p>
+     *
+     * @param enableMFADeviceRequest Container for the necessary parameters
+     *           to execute the EnableMFADevice operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         EnableMFADevice service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> enableMFADeviceAsync(EnableMFADeviceRequest enableMFADeviceRequest,
+            AsyncHandler<EnableMFADeviceRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Lists the names of the policies associated with the specified User. If
@@ -765,6 +1557,39 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<ListUserPoliciesResult> listUserPoliciesAsync(ListUserPoliciesRequest listUserPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Lists the names of the policies associated with the specified User. If
+     * there are none, the action returns an empty list.
+     * </p>
+     * <p>
+     * You can paginate the results using the <code>MaxItems</code> and
+     * <code>Marker</code> parameters.
+     * </p>
+     *
+     * @param listUserPoliciesRequest Container for the necessary parameters
+     *           to execute the ListUserPolicies operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListUserPolicies service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListUserPoliciesResult> listUserPoliciesAsync(ListUserPoliciesRequest listUserPoliciesRequest,
+            AsyncHandler<ListUserPoliciesRequest, ListUserPoliciesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Returns information about the Access Key IDs associated with the
@@ -807,14 +1632,35 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
 
     /**
      * <p>
-     * Retrieves the login profile for the specified User.
+     * Returns information about the Access Key IDs associated with the
+     * specified User. If there are none, the action returns an empty list.
+     * </p>
+     * <p>
+     * Although each User is limited to a small number of keys, you can still
+     * paginate the results using the <code>MaxItems</code> and
+     * <code>Marker</code> parameters.
+     * </p>
+     * <p>
+     * If the <code>UserName</code> field is not specified, the UserName is
+     * determined implicitly based on the AWS Access Key ID used to sign the
+     * request. Because this action works for access keys under the AWS
+     * Account, this API can be used to manage root credentials even if the
+     * AWS Account has no associated Users.
+     * </p>
+     * <p>
+     * <b>NOTE:</b>To ensure the security of your AWS Account, the secret
+     * access key is accessible only during key and User creation.
      * </p>
      *
-     * @param getLoginProfileRequest Container for the necessary parameters
-     *           to execute the GetLoginProfile operation on AmazonIdentityManagement.
+     * @param listAccessKeysRequest Container for the necessary parameters to
+     *           execute the ListAccessKeys operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         GetLoginProfile service method, as returned by
+     *         ListAccessKeys service method, as returned by
      *         AmazonIdentityManagement.
      *
      * @throws AmazonClientException
@@ -825,24 +1671,20 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
      *             If an error response is returned by AmazonIdentityManagement indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<GetLoginProfileResult> getLoginProfileAsync(GetLoginProfileRequest getLoginProfileRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<ListAccessKeysResult> listAccessKeysAsync(ListAccessKeysRequest listAccessKeysRequest,
+            AsyncHandler<ListAccessKeysRequest, ListAccessKeysResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Lists the groups the specified User belongs to.
-     * </p>
-     * <p>
-     * You can paginate the results using the <code>MaxItems</code> and
-     * <code>Marker</code> parameters.
+     * Retrieves the login profile for the specified User.
      * </p>
      *
-     * @param listGroupsForUserRequest Container for the necessary parameters
-     *           to execute the ListGroupsForUser operation on
-     *           AmazonIdentityManagement.
+     * @param getLoginProfileRequest Container for the necessary parameters
+     *           to execute the GetLoginProfile operation on AmazonIdentityManagement.
      * 
      * @return A Java Future object containing the response from the
-     *         ListGroupsForUser service method, as returned by
+     *         GetLoginProfile service method, as returned by
      *         AmazonIdentityManagement.
      *
      * @throws AmazonClientException
@@ -853,25 +1695,24 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
      *             If an error response is returned by AmazonIdentityManagement indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ListGroupsForUserResult> listGroupsForUserAsync(ListGroupsForUserRequest listGroupsForUserRequest) 
+    public Future<GetLoginProfileResult> getLoginProfileAsync(GetLoginProfileRequest getLoginProfileRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Creates a new group.
-     * </p>
-     * <p>
-     * For information about the number of groups you can create, see <a
-     * vices.com/IAM/latest/UserGuide/index.html?LimitationsOnEntities.html">
-     * Limitations on IAM Entities </a> in <i>Using AWS Identity and Access
-     * Management</i> .
+     * Retrieves the login profile for the specified User.
      * </p>
      *
-     * @param createGroupRequest Container for the necessary parameters to
-     *           execute the CreateGroup operation on AmazonIdentityManagement.
+     * @param getLoginProfileRequest Container for the necessary parameters
+     *           to execute the GetLoginProfile operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
-     *         CreateGroup service method, as returned by AmazonIdentityManagement.
+     *         GetLoginProfile service method, as returned by
+     *         AmazonIdentityManagement.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -881,18 +1722,141 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
      *             If an error response is returned by AmazonIdentityManagement indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateGroupResult> createGroupAsync(CreateGroupRequest createGroupRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<GetLoginProfileResult> getLoginProfileAsync(GetLoginProfileRequest getLoginProfileRequest,
+            AsyncHandler<GetLoginProfileRequest, GetLoginProfileResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
-     * Uploads a server certificate entity for the AWS Account. The server
-     * certificate entity includes a public key certificate, a private key,
-     * and an optional certificate chain, which should all be PEM-encoded.
+     * Lists the groups the specified User belongs to.
      * </p>
      * <p>
-     * For information about the number of server certificates you can
-     * upload, see <a
+     * You can paginate the results using the <code>MaxItems</code> and
+     * <code>Marker</code> parameters.
+     * </p>
+     *
+     * @param listGroupsForUserRequest Container for the necessary parameters
+     *           to execute the ListGroupsForUser operation on
+     *           AmazonIdentityManagement.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListGroupsForUser service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListGroupsForUserResult> listGroupsForUserAsync(ListGroupsForUserRequest listGroupsForUserRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Lists the groups the specified User belongs to.
+     * </p>
+     * <p>
+     * You can paginate the results using the <code>MaxItems</code> and
+     * <code>Marker</code> parameters.
+     * </p>
+     *
+     * @param listGroupsForUserRequest Container for the necessary parameters
+     *           to execute the ListGroupsForUser operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListGroupsForUser service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListGroupsForUserResult> listGroupsForUserAsync(ListGroupsForUserRequest listGroupsForUserRequest,
+            AsyncHandler<ListGroupsForUserRequest, ListGroupsForUserResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Creates a new group.
+     * </p>
+     * <p>
+     * For information about the number of groups you can create, see <a
+     * vices.com/IAM/latest/UserGuide/index.html?LimitationsOnEntities.html">
+     * Limitations on IAM Entities </a> in <i>Using AWS Identity and Access
+     * Management</i> .
+     * </p>
+     *
+     * @param createGroupRequest Container for the necessary parameters to
+     *           execute the CreateGroup operation on AmazonIdentityManagement.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateGroup service method, as returned by AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateGroupResult> createGroupAsync(CreateGroupRequest createGroupRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Creates a new group.
+     * </p>
+     * <p>
+     * For information about the number of groups you can create, see <a
+     * vices.com/IAM/latest/UserGuide/index.html?LimitationsOnEntities.html">
+     * Limitations on IAM Entities </a> in <i>Using AWS Identity and Access
+     * Management</i> .
+     * </p>
+     *
+     * @param createGroupRequest Container for the necessary parameters to
+     *           execute the CreateGroup operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateGroup service method, as returned by AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateGroupResult> createGroupAsync(CreateGroupRequest createGroupRequest,
+            AsyncHandler<CreateGroupRequest, CreateGroupResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Uploads a server certificate entity for the AWS Account. The server
+     * certificate entity includes a public key certificate, a private key,
+     * and an optional certificate chain, which should all be PEM-encoded.
+     * </p>
+     * <p>
+     * For information about the number of server certificates you can
+     * upload, see <a
      * vices.com/IAM/latest/UserGuide/index.html?LimitationsOnEntities.html">
      * Limitations on IAM Entities </a> in <i>Using AWS Identity and Access
      * Management</i> .
@@ -924,6 +1888,51 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<UploadServerCertificateResult> uploadServerCertificateAsync(UploadServerCertificateRequest uploadServerCertificateRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Uploads a server certificate entity for the AWS Account. The server
+     * certificate entity includes a public key certificate, a private key,
+     * and an optional certificate chain, which should all be PEM-encoded.
+     * </p>
+     * <p>
+     * For information about the number of server certificates you can
+     * upload, see <a
+     * vices.com/IAM/latest/UserGuide/index.html?LimitationsOnEntities.html">
+     * Limitations on IAM Entities </a> in <i>Using AWS Identity and Access
+     * Management</i> .
+     * </p>
+     * <p>
+     * <b>NOTE:</b>Because the body of the public key certificate, private
+     * key, and the certificate chain can be large, you should use POST
+     * rather than GET when calling UploadServerCertificate. For more
+     * information, see Making Query Requests in Using AWS Identity and
+     * Access Management.
+     * </p>
+     *
+     * @param uploadServerCertificateRequest Container for the necessary
+     *           parameters to execute the UploadServerCertificate operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         UploadServerCertificate service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<UploadServerCertificateResult> uploadServerCertificateAsync(UploadServerCertificateRequest uploadServerCertificateRequest,
+            AsyncHandler<UploadServerCertificateRequest, UploadServerCertificateResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * This action creates an alias for your AWS Account. For information
@@ -952,6 +1961,39 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<Void> createAccountAliasAsync(CreateAccountAliasRequest createAccountAliasRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * This action creates an alias for your AWS Account. For information
+     * about using an AWS Account alias, see <a
+     * ://docs.amazonwebservices.com/IAM/latest/UserGuide/AccountAlias.html">
+     * Using an Alias for Your AWS Account ID </a> in <i>Using AWS Identity
+     * and Access Management</i> .
+     * </p>
+     *
+     * @param createAccountAliasRequest Container for the necessary
+     *           parameters to execute the CreateAccountAlias operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateAccountAlias service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> createAccountAliasAsync(CreateAccountAliasRequest createAccountAliasRequest,
+            AsyncHandler<CreateAccountAliasRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Retrieves the specified policy document for the specified group. The
@@ -979,6 +2021,38 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<GetGroupPolicyResult> getGroupPolicyAsync(GetGroupPolicyRequest getGroupPolicyRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Retrieves the specified policy document for the specified group. The
+     * returned policy is URL-encoded according to RFC 3986. For more
+     * information about RFC 3986, go to <a
+     * href="http://www.faqs.org/rfcs/rfc3986.html">
+     * http://www.faqs.org/rfcs/rfc3986.html </a> .
+     * </p>
+     *
+     * @param getGroupPolicyRequest Container for the necessary parameters to
+     *           execute the GetGroupPolicy operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetGroupPolicy service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetGroupPolicyResult> getGroupPolicyAsync(GetGroupPolicyRequest getGroupPolicyRequest,
+            AsyncHandler<GetGroupPolicyRequest, GetGroupPolicyResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Deletes the specified User. The User must not belong to any groups,
@@ -1002,6 +2076,34 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<Void> deleteUserAsync(DeleteUserRequest deleteUserRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Deletes the specified User. The User must not belong to any groups,
+     * have any keys or signing certificates, or have any attached policies.
+     * </p>
+     *
+     * @param deleteUserRequest Container for the necessary parameters to
+     *           execute the DeleteUser operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteUser service method, as returned by AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteUserAsync(DeleteUserRequest deleteUserRequest,
+            AsyncHandler<DeleteUserRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Deactivates the specified MFA device and removes it from association
@@ -1027,6 +2129,36 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<Void> deactivateMFADeviceAsync(DeactivateMFADeviceRequest deactivateMFADeviceRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Deactivates the specified MFA device and removes it from association
+     * with the User name for which it was originally enabled.
+     * </p>
+     *
+     * @param deactivateMFADeviceRequest Container for the necessary
+     *           parameters to execute the DeactivateMFADevice operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeactivateMFADevice service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deactivateMFADeviceAsync(DeactivateMFADeviceRequest deactivateMFADeviceRequest,
+            AsyncHandler<DeactivateMFADeviceRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Removes the specified User from the specified group.
@@ -1051,6 +2183,35 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<Void> removeUserFromGroupAsync(RemoveUserFromGroupRequest removeUserFromGroupRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Removes the specified User from the specified group.
+     * </p>
+     *
+     * @param removeUserFromGroupRequest Container for the necessary
+     *           parameters to execute the RemoveUserFromGroup operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RemoveUserFromGroup service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> removeUserFromGroupAsync(RemoveUserFromGroupRequest removeUserFromGroupRequest,
+            AsyncHandler<RemoveUserFromGroupRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Deletes the specified server certificate.
@@ -1085,6 +2246,45 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<Void> deleteServerCertificateAsync(DeleteServerCertificateRequest deleteServerCertificateRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Deletes the specified server certificate.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b>If your Elastic Load Balancing instances are using a
+     * server certificate, deleting the certificate could have implications
+     * for your application. If your Elastic Load Balancing instances do not
+     * detect the deletion of bound certificates, they may continue to use
+     * the certificates. This could cause them to stop accepting traffic.
+     * We recommend that you remove the reference to the certificate from
+     * your Elastic Load Balancing instances before using this command to
+     * delete the certificate.
+     * </p>
+     *
+     * @param deleteServerCertificateRequest Container for the necessary
+     *           parameters to execute the DeleteServerCertificate operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteServerCertificate service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteServerCertificateAsync(DeleteServerCertificateRequest deleteServerCertificateRequest,
+            AsyncHandler<DeleteServerCertificateRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Lists the names of the policies associated with the specified group.
@@ -1116,20 +2316,134 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
 
     /**
      * <p>
-     * Creates a login profile for the specified User, giving the User the
-     * ability to access AWS services such as the AWS Management Console.
-     * For more information about login profiles, see <a
-     * .com/IAM/latest/UserGuide/index.html?Using_ManagingLoginsAndMFA.html">
-     * Managing Login Profiles and MFA Devices </a> in <i>Using AWS Identity
-     * and Access Management</i> .
+     * Lists the names of the policies associated with the specified group.
+     * If there are none, the action returns an empty list.
+     * </p>
+     * <p>
+     * You can paginate the results using the <code>MaxItems</code> and
+     * <code>Marker</code> parameters.
+     * </p>
+     *
+     * @param listGroupPoliciesRequest Container for the necessary parameters
+     *           to execute the ListGroupPolicies operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListGroupPolicies service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListGroupPoliciesResult> listGroupPoliciesAsync(ListGroupPoliciesRequest listGroupPoliciesRequest,
+            AsyncHandler<ListGroupPoliciesRequest, ListGroupPoliciesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Creates a login profile for the specified User, giving the User the
+     * ability to access AWS services such as the AWS Management Console.
+     * For more information about login profiles, see <a
+     * .com/IAM/latest/UserGuide/index.html?Using_ManagingLoginsAndMFA.html">
+     * Managing Login Profiles and MFA Devices </a> in <i>Using AWS Identity
+     * and Access Management</i> .
+     * </p>
+     *
+     * @param createLoginProfileRequest Container for the necessary
+     *           parameters to execute the CreateLoginProfile operation on
+     *           AmazonIdentityManagement.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateLoginProfile service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateLoginProfileResult> createLoginProfileAsync(CreateLoginProfileRequest createLoginProfileRequest) 
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Creates a login profile for the specified User, giving the User the
+     * ability to access AWS services such as the AWS Management Console.
+     * For more information about login profiles, see <a
+     * .com/IAM/latest/UserGuide/index.html?Using_ManagingLoginsAndMFA.html">
+     * Managing Login Profiles and MFA Devices </a> in <i>Using AWS Identity
+     * and Access Management</i> .
+     * </p>
+     *
+     * @param createLoginProfileRequest Container for the necessary
+     *           parameters to execute the CreateLoginProfile operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateLoginProfile service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateLoginProfileResult> createLoginProfileAsync(CreateLoginProfileRequest createLoginProfileRequest,
+            AsyncHandler<CreateLoginProfileRequest, CreateLoginProfileResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Creates a new AWS Secret Access Key and corresponding AWS Access Key
+     * ID for the specified User. The default status for new keys is
+     * <code>Active</code> .
+     * </p>
+     * <p>
+     * If you do not specify a User name, IAM determines the User name
+     * implicitly based on the AWS Access Key ID signing the request. Because
+     * this action works for access keys under the AWS Account, you can use
+     * this API to manage root credentials even if the AWS Account has no
+     * associated Users.
+     * </p>
+     * <p>
+     * For information about limits on the number of keys you can create, see
+     * <a
+     * s.com/IAM/2010-05-08/UserGuide/index.html?LimitationsOnEntities.html">
+     * Limitations on IAM Entities </a> in <i>Using AWS Identity and Access
+     * Management</i> .
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b>To ensure the security of your AWS Account, the
+     * Secret Access Key is accessible only during key and User creation.
+     * You must save the key (for example, in a text file) if you want to be
+     * able to access it again. If a secret key is lost, you can delete the
+     * access keys for the associated User and then create new keys.
      * </p>
      *
-     * @param createLoginProfileRequest Container for the necessary
-     *           parameters to execute the CreateLoginProfile operation on
-     *           AmazonIdentityManagement.
+     * @param createAccessKeyRequest Container for the necessary parameters
+     *           to execute the CreateAccessKey operation on AmazonIdentityManagement.
      * 
      * @return A Java Future object containing the response from the
-     *         CreateLoginProfile service method, as returned by
+     *         CreateAccessKey service method, as returned by
      *         AmazonIdentityManagement.
      *
      * @throws AmazonClientException
@@ -1140,7 +2454,7 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
      *             If an error response is returned by AmazonIdentityManagement indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateLoginProfileResult> createLoginProfileAsync(CreateLoginProfileRequest createLoginProfileRequest) 
+    public Future<CreateAccessKeyResult> createAccessKeyAsync(CreateAccessKeyRequest createAccessKeyRequest) 
             throws AmazonServiceException, AmazonClientException;
 
     /**
@@ -1173,6 +2487,10 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
      *
      * @param createAccessKeyRequest Container for the necessary parameters
      *           to execute the CreateAccessKey operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
      * 
      * @return A Java Future object containing the response from the
      *         CreateAccessKey service method, as returned by
@@ -1186,8 +2504,9 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
      *             If an error response is returned by AmazonIdentityManagement indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateAccessKeyResult> createAccessKeyAsync(CreateAccessKeyRequest createAccessKeyRequest) 
-            throws AmazonServiceException, AmazonClientException;
+    public Future<CreateAccessKeyResult> createAccessKeyAsync(CreateAccessKeyRequest createAccessKeyRequest,
+            AsyncHandler<CreateAccessKeyRequest, CreateAccessKeyResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
 
     /**
      * <p>
@@ -1216,6 +2535,38 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<GetUserResult> getUserAsync(GetUserRequest getUserRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Retrieves information about the specified User, including the User's
+     * path, GUID, and ARN.
+     * </p>
+     * <p>
+     * If you do not specify a User name, IAM determines the User name
+     * implicitly based on the AWS Access Key ID signing the request.
+     * </p>
+     *
+     * @param getUserRequest Container for the necessary parameters to
+     *           execute the GetUser operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the GetUser
+     *         service method, as returned by AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetUserResult> getUserAsync(GetUserRequest getUserRequest,
+            AsyncHandler<GetUserRequest, GetUserResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Synchronizes the specified MFA device with AWS servers.
@@ -1239,6 +2590,34 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<Void> resyncMFADeviceAsync(ResyncMFADeviceRequest resyncMFADeviceRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Synchronizes the specified MFA device with AWS servers.
+     * </p>
+     *
+     * @param resyncMFADeviceRequest Container for the necessary parameters
+     *           to execute the ResyncMFADevice operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ResyncMFADevice service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> resyncMFADeviceAsync(ResyncMFADeviceRequest resyncMFADeviceRequest,
+            AsyncHandler<ResyncMFADeviceRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Lists the MFA devices associated with the specified User name.
@@ -1266,6 +2645,38 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<ListMFADevicesResult> listMFADevicesAsync(ListMFADevicesRequest listMFADevicesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Lists the MFA devices associated with the specified User name.
+     * </p>
+     * <p>
+     * You can paginate the results using the <code>MaxItems</code> and
+     * <code>Marker</code> parameters.
+     * </p>
+     *
+     * @param listMFADevicesRequest Container for the necessary parameters to
+     *           execute the ListMFADevices operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListMFADevices service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListMFADevicesResult> listMFADevicesAsync(ListMFADevicesRequest listMFADevicesRequest,
+            AsyncHandler<ListMFADevicesRequest, ListMFADevicesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Changes the status of the specified access key from Active to
@@ -1304,6 +2715,49 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<Void> updateAccessKeyAsync(UpdateAccessKeyRequest updateAccessKeyRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Changes the status of the specified access key from Active to
+     * Inactive, or vice versa. This action can be used to disable a User's
+     * key as part of a key rotation workflow.
+     * </p>
+     * <p>
+     * If the <code>UserName</code> field is not specified, the UserName is
+     * determined implicitly based on the AWS Access Key ID used to sign the
+     * request. Because this action works for access keys under the AWS
+     * Account, this API can be used to manage root credentials even if the
+     * AWS Account has no associated Users.
+     * </p>
+     * <p>
+     * For information about rotating keys, see <a
+     * ervices.com/IAM/latest/UserGuide/index.html?ManagingCredentials.html">
+     * Managing Keys and Certificates </a> in <i>Using AWS Identity and
+     * Access Management</i> .
+     * </p>
+     *
+     * @param updateAccessKeyRequest Container for the necessary parameters
+     *           to execute the UpdateAccessKey operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         UpdateAccessKey service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> updateAccessKeyAsync(UpdateAccessKeyRequest updateAccessKeyRequest,
+            AsyncHandler<UpdateAccessKeyRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Retrieves account level information about account entity usage and IAM
@@ -1335,6 +2789,42 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<GetAccountSummaryResult> getAccountSummaryAsync(GetAccountSummaryRequest getAccountSummaryRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Retrieves account level information about account entity usage and IAM
+     * quotas.
+     * </p>
+     * <p>
+     * For information about limitations on IAM entities, see <a
+     * vices.com/IAM/latest/UserGuide/index.html?LimitationsOnEntities.html">
+     * Limitations on IAM Entities </a> in <i>Using AWS Identity and Access
+     * Management</i> .
+     * </p>
+     *
+     * @param getAccountSummaryRequest Container for the necessary parameters
+     *           to execute the GetAccountSummary operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetAccountSummary service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetAccountSummaryResult> getAccountSummaryAsync(GetAccountSummaryRequest getAccountSummaryRequest,
+            AsyncHandler<GetAccountSummaryRequest, GetAccountSummaryResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Adds the specified User to the specified group.
@@ -1358,6 +2848,34 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<Void> addUserToGroupAsync(AddUserToGroupRequest addUserToGroupRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Adds the specified User to the specified group.
+     * </p>
+     *
+     * @param addUserToGroupRequest Container for the necessary parameters to
+     *           execute the AddUserToGroup operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AddUserToGroup service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> addUserToGroupAsync(AddUserToGroupRequest addUserToGroupRequest,
+            AsyncHandler<AddUserToGroupRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Returns a list of Users that are in the specified group. You can
@@ -1382,6 +2900,35 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<GetGroupResult> getGroupAsync(GetGroupRequest getGroupRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Returns a list of Users that are in the specified group. You can
+     * paginate the results using the <code>MaxItems</code> and
+     * <code>Marker</code> parameters.
+     * </p>
+     *
+     * @param getGroupRequest Container for the necessary parameters to
+     *           execute the GetGroup operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the GetGroup
+     *         service method, as returned by AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetGroupResult> getGroupAsync(GetGroupRequest getGroupRequest,
+            AsyncHandler<GetGroupRequest, GetGroupResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Lists the account aliases associated with the account. For information
@@ -1414,6 +2961,43 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<ListAccountAliasesResult> listAccountAliasesAsync(ListAccountAliasesRequest listAccountAliasesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Lists the account aliases associated with the account. For information
+     * about using an AWS Account alias, see <a
+     * ://docs.amazonwebservices.com/IAM/latest/UserGuide/AccountAlias.html">
+     * Using an Alias for Your AWS Account ID </a> in <i>Using AWS Identity
+     * and Access Management</i> .
+     * </p>
+     * <p>
+     * You can paginate the results using the <code>MaxItems</code> and
+     * <code>Marker</code> parameters.
+     * </p>
+     *
+     * @param listAccountAliasesRequest Container for the necessary
+     *           parameters to execute the ListAccountAliases operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListAccountAliases service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListAccountAliasesResult> listAccountAliasesAsync(ListAccountAliasesRequest listAccountAliasesRequest,
+            AsyncHandler<ListAccountAliasesRequest, ListAccountAliasesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Deletes the specified group. The group must not contain any Users or
@@ -1437,5 +3021,33 @@ public interface AmazonIdentityManagementAsync extends AmazonIdentityManagement
     public Future<Void> deleteGroupAsync(DeleteGroupRequest deleteGroupRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Deletes the specified group. The group must not contain any Users or
+     * have any attached policies.
+     * </p>
+     *
+     * @param deleteGroupRequest Container for the necessary parameters to
+     *           execute the DeleteGroup operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteGroup service method, as returned by AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteGroupAsync(DeleteGroupRequest deleteGroupRequest,
+            AsyncHandler<DeleteGroupRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
 }
         
\ No newline at end of file
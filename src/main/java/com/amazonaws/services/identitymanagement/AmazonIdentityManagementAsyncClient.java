@@ -16,13 +16,14 @@ package com.amazonaws.services.identitymanagement;
             
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.util.InstrumentedThreadPoolExecutor;
 
 import com.amazonaws.services.identitymanagement.model.*;
 
@@ -76,8 +77,9 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
     /**
      * Constructs a new asynchronous client to invoke service methods on 
      * AmazonIdentityManagement using the specified AWS account credentials.
-     * Default client settings will be used, and a default cached thread pool will be 
-     * created for executing the asynchronous tasks.
+     * Default client settings will be used, and a default bounded thread pool will be 
+     * created for executing the asynchronous tasks (see
+     * {@link InstrumentedThreadPoolExecutor#newDefaultExecutor(String, ClientConfiguration)}).
      *
      * <p>
      * All calls made using this new client object are non-blocking, and will immediately
@@ -88,7 +90,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      *                       when authenticating with AWS services.
      */                                      
     public AmazonIdentityManagementAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newCachedThreadPool());
+        this(awsCredentials, InstrumentedThreadPoolExecutor.newDefaultExecutor("AmazonIdentityManagementAsyncClient", new ClientConfiguration()));
     }
 
     /**
@@ -182,6 +184,53 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Lists the groups that have the specified path prefix.
+     * </p>
+     * <p>
+     * You can paginate the results using the <code>MaxItems</code> and
+     * <code>Marker</code> parameters.
+     * </p>
+     *
+     * @param listGroupsRequest Container for the necessary parameters to
+     *           execute the ListGroups operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListGroups service method, as returned by AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListGroupsResult> listGroupsAsync(
+            final ListGroupsRequest listGroupsRequest,
+            final AsyncHandler<ListGroupsRequest, ListGroupsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ListGroupsResult>() {
+            public ListGroupsResult call() throws Exception {
+                ListGroupsResult result;
+                try {
+                    result = listGroups(listGroupsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(listGroupsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes the access key associated with the specified User.
@@ -219,6 +268,56 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Deletes the access key associated with the specified User.
+     * </p>
+     * <p>
+     * If you do not specify a User name, IAM determines the User name
+     * implicitly based on the AWS Access Key ID signing the request. Because
+     * this action works for access keys under the AWS Account, you can use
+     * this API to manage root credentials even if the AWS Account has no
+     * associated Users.
+     * </p>
+     *
+     * @param deleteAccessKeyRequest Container for the necessary parameters
+     *           to execute the DeleteAccessKey operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteAccessKey service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteAccessKeyAsync(
+            final DeleteAccessKeyRequest deleteAccessKeyRequest,
+            final AsyncHandler<DeleteAccessKeyRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteAccessKey(deleteAccessKeyRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteAccessKeyRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes the specified AWS Account alias. For information about using
@@ -254,6 +353,54 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Deletes the specified AWS Account alias. For information about using
+     * an AWS Account alias, see <a
+     * ://docs.amazonwebservices.com/IAM/latest/UserGuide/AccountAlias.html">
+     * Using an Alias for Your AWS Account ID </a> in <i>Using AWS Identity
+     * and Access Management</i> .
+     * </p>
+     *
+     * @param deleteAccountAliasRequest Container for the necessary
+     *           parameters to execute the DeleteAccountAlias operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteAccountAlias service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteAccountAliasAsync(
+            final DeleteAccountAliasRequest deleteAccountAliasRequest,
+            final AsyncHandler<DeleteAccountAliasRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteAccountAlias(deleteAccountAliasRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteAccountAliasRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns information about the signing certificates associated with the
@@ -297,6 +444,64 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Returns information about the signing certificates associated with the
+     * specified User. If there are none, the action returns an empty list.
+     * </p>
+     * <p>
+     * Although each User is limited to a small number of signing
+     * certificates, you can still paginate the results using the
+     * <code>MaxItems</code> and <code>Marker</code> parameters.
+     * </p>
+     * <p>
+     * If the <code>UserName</code> field is not specified, the UserName is
+     * determined implicitly based on the AWS Access Key ID used to sign the
+     * request. Because this action works for access keys under the AWS
+     * Account, this API can be used to manage root credentials even if the
+     * AWS Account has no associated Users.
+     * </p>
+     *
+     * @param listSigningCertificatesRequest Container for the necessary
+     *           parameters to execute the ListSigningCertificates operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListSigningCertificates service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListSigningCertificatesResult> listSigningCertificatesAsync(
+            final ListSigningCertificatesRequest listSigningCertificatesRequest,
+            final AsyncHandler<ListSigningCertificatesRequest, ListSigningCertificatesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ListSigningCertificatesResult>() {
+            public ListSigningCertificatesResult call() throws Exception {
+                ListSigningCertificatesResult result;
+                try {
+                    result = listSigningCertificates(listSigningCertificatesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(listSigningCertificatesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Uploads an X.509 signing certificate and associates it with the
@@ -344,6 +549,68 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Uploads an X.509 signing certificate and associates it with the
+     * specified User. Some AWS services use X.509 signing certificates to
+     * validate requests that are signed with a corresponding private key.
+     * When you upload the certificate, its default status is
+     * <code>Active</code> .
+     * </p>
+     * <p>
+     * If the <code>UserName</code> field is not specified, the User name is
+     * determined implicitly based on the AWS Access Key ID used to sign the
+     * request. Because this action works for access keys under the AWS
+     * Account, this API can be used to manage root credentials even if the
+     * AWS Account has no associated Users.
+     * </p>
+     * <p>
+     * <b>NOTE:</b>Because the body of a X.509 certificate can be large, you
+     * should use POST rather than GET when calling UploadSigningCertificate.
+     * For more information, see Making Query Requests in Using AWS Identity
+     * and Access Management.
+     * </p>
+     *
+     * @param uploadSigningCertificateRequest Container for the necessary
+     *           parameters to execute the UploadSigningCertificate operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         UploadSigningCertificate service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<UploadSigningCertificateResult> uploadSigningCertificateAsync(
+            final UploadSigningCertificateRequest uploadSigningCertificateRequest,
+            final AsyncHandler<UploadSigningCertificateRequest, UploadSigningCertificateResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<UploadSigningCertificateResult>() {
+            public UploadSigningCertificateResult call() throws Exception {
+                UploadSigningCertificateResult result;
+                try {
+                    result = uploadSigningCertificate(uploadSigningCertificateRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(uploadSigningCertificateRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes the specified policy associated with the specified User.
@@ -374,6 +641,49 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Deletes the specified policy associated with the specified User.
+     * </p>
+     *
+     * @param deleteUserPolicyRequest Container for the necessary parameters
+     *           to execute the DeleteUserPolicy operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteUserPolicy service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteUserPolicyAsync(
+            final DeleteUserPolicyRequest deleteUserPolicyRequest,
+            final AsyncHandler<DeleteUserPolicyRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteUserPolicy(deleteUserPolicyRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteUserPolicyRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Adds (or updates) a policy document associated with the specified
@@ -419,6 +729,64 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Adds (or updates) a policy document associated with the specified
+     * User. For information about policies, refer to <a
+     * ebservices.com/IAM/latest/UserGuide/index.html?PoliciesOverview.html">
+     * Overview of Policies </a> in <i>Using AWS Identity and Access
+     * Management</i> .
+     * </p>
+     * <p>
+     * For information about limits on the number of policies you can
+     * associate with a User, see <a
+     * s.com/IAM/2010-05-08/UserGuide/index.html?LimitationsOnEntities.html">
+     * Limitations on IAM Entities </a> in <i>Using AWS Identity and Access
+     * Management</i> .
+     * </p>
+     * <p>
+     * <b>NOTE:</b>Because policy documents can be large, you should use POST
+     * rather than GET when calling PutUserPolicy. For more information, see
+     * Making Query Requests in Using AWS Identity and Access Management.
+     * </p>
+     *
+     * @param putUserPolicyRequest Container for the necessary parameters to
+     *           execute the PutUserPolicy operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         PutUserPolicy service method, as returned by AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> putUserPolicyAsync(
+            final PutUserPolicyRequest putUserPolicyRequest,
+            final AsyncHandler<PutUserPolicyRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    putUserPolicy(putUserPolicyRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(putUserPolicyRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Lists the server certificates that have the specified path prefix. If
@@ -456,13 +824,63 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
     
     /**
      * <p>
-     * Retrieves the specified policy document for the specified User. The
-     * returned policy is URL-encoded according to RFC 3986. For more
-     * information about RFC 3986, go to <a
-     * href="http://www.faqs.org/rfcs/rfc3986.html">
-     * http://www.faqs.org/rfcs/rfc3986.html </a> .
+     * Lists the server certificates that have the specified path prefix. If
+     * none exist, the action returns an empty list.
      * </p>
-     *
+     * <p>
+     * You can paginate the results using the <code>MaxItems</code> and
+     * <code>Marker</code> parameters.
+     * </p>
+     *
+     * @param listServerCertificatesRequest Container for the necessary
+     *           parameters to execute the ListServerCertificates operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListServerCertificates service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListServerCertificatesResult> listServerCertificatesAsync(
+            final ListServerCertificatesRequest listServerCertificatesRequest,
+            final AsyncHandler<ListServerCertificatesRequest, ListServerCertificatesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ListServerCertificatesResult>() {
+            public ListServerCertificatesResult call() throws Exception {
+                ListServerCertificatesResult result;
+                try {
+                    result = listServerCertificates(listServerCertificatesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(listServerCertificatesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Retrieves the specified policy document for the specified User. The
+     * returned policy is URL-encoded according to RFC 3986. For more
+     * information about RFC 3986, go to <a
+     * href="http://www.faqs.org/rfcs/rfc3986.html">
+     * http://www.faqs.org/rfcs/rfc3986.html </a> .
+     * </p>
+     *
      * @param getUserPolicyRequest Container for the necessary parameters to
      *           execute the GetUserPolicy operation on AmazonIdentityManagement.
      * 
@@ -486,6 +904,53 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Retrieves the specified policy document for the specified User. The
+     * returned policy is URL-encoded according to RFC 3986. For more
+     * information about RFC 3986, go to <a
+     * href="http://www.faqs.org/rfcs/rfc3986.html">
+     * http://www.faqs.org/rfcs/rfc3986.html </a> .
+     * </p>
+     *
+     * @param getUserPolicyRequest Container for the necessary parameters to
+     *           execute the GetUserPolicy operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetUserPolicy service method, as returned by AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetUserPolicyResult> getUserPolicyAsync(
+            final GetUserPolicyRequest getUserPolicyRequest,
+            final AsyncHandler<GetUserPolicyRequest, GetUserPolicyResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<GetUserPolicyResult>() {
+            public GetUserPolicyResult call() throws Exception {
+                GetUserPolicyResult result;
+                try {
+                    result = getUserPolicy(getUserPolicyRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(getUserPolicyRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Updates the login profile for the specified User. Use this API to
@@ -518,6 +983,51 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Updates the login profile for the specified User. Use this API to
+     * change the User's password.
+     * </p>
+     *
+     * @param updateLoginProfileRequest Container for the necessary
+     *           parameters to execute the UpdateLoginProfile operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         UpdateLoginProfile service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> updateLoginProfileAsync(
+            final UpdateLoginProfileRequest updateLoginProfileRequest,
+            final AsyncHandler<UpdateLoginProfileRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    updateLoginProfile(updateLoginProfileRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(updateLoginProfileRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Updates the name and/or the path of the specified server certificate.
@@ -562,6 +1072,63 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Updates the name and/or the path of the specified server certificate.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> You should understand the implications of changing a
+     * server certificate's path or name. For more information, see Managing
+     * Server Certificates in Using AWS Identity and Access Management.
+     * </p>
+     * <p>
+     * <b>NOTE:</b>To change a server certificate name the requester must
+     * have appropriate permissions on both the source object and the target
+     * object. For example, to change the name from ProductionCert to
+     * ProdCert, the entity making the request must have permission on
+     * ProductionCert and ProdCert, or must have permission on all (*). For
+     * more information about permissions, see Permissions and Policies.
+     * </p>
+     *
+     * @param updateServerCertificateRequest Container for the necessary
+     *           parameters to execute the UpdateServerCertificate operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         UpdateServerCertificate service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> updateServerCertificateAsync(
+            final UpdateServerCertificateRequest updateServerCertificateRequest,
+            final AsyncHandler<UpdateServerCertificateRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    updateServerCertificate(updateServerCertificateRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(updateServerCertificateRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Updates the name and/or the path of the specified User.
@@ -603,6 +1170,60 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Updates the name and/or the path of the specified User.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> You should understand the implications of changing a
+     * User's path or name. For more information, see Renaming Users and
+     * Groups in Using AWS Identity and Access Management.
+     * </p>
+     * <p>
+     * <b>NOTE:</b>To change a User name the requester must have appropriate
+     * permissions on both the source object and the target object. For
+     * example, to change Bob to Robert, the entity making the request must
+     * have permission on Bob and Robert, or must have permission on all (*).
+     * For more information about permissions, see Permissions and Policies.
+     * </p>
+     *
+     * @param updateUserRequest Container for the necessary parameters to
+     *           execute the UpdateUser operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         UpdateUser service method, as returned by AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> updateUserAsync(
+            final UpdateUserRequest updateUserRequest,
+            final AsyncHandler<UpdateUserRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    updateUser(updateUserRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(updateUserRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes the login profile for the specified User, which terminates the
@@ -642,6 +1263,58 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Deletes the login profile for the specified User, which terminates the
+     * User's ability to access AWS services through the IAM login page.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b>Deleting a User's login profile does not prevent a
+     * User from accessing IAM through the command line interface or the API.
+     * To prevent all User access you must also either make the access key
+     * inactive or delete it. For more information about making keys
+     * inactive or deleting them, see UpdateAccessKey and DeleteAccessKey.
+     * </p>
+     *
+     * @param deleteLoginProfileRequest Container for the necessary
+     *           parameters to execute the DeleteLoginProfile operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteLoginProfile service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteLoginProfileAsync(
+            final DeleteLoginProfileRequest deleteLoginProfileRequest,
+            final AsyncHandler<DeleteLoginProfileRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteLoginProfile(deleteLoginProfileRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteLoginProfileRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Changes the status of the specified signing certificate from active to
@@ -690,16 +1363,35 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
     
     /**
      * <p>
-     * Deletes the specified policy that is associated with the specified
-     * group.
+     * Changes the status of the specified signing certificate from active to
+     * disabled, or vice versa. This action can be used to disable a User's
+     * signing certificate as part of a certificate rotation workflow.
+     * </p>
+     * <p>
+     * If the <code>UserName</code> field is not specified, the UserName is
+     * determined implicitly based on the AWS Access Key ID used to sign the
+     * request. Because this action works for access keys under the AWS
+     * Account, this API can be used to manage root credentials even if the
+     * AWS Account has no associated Users.
+     * </p>
+     * <p>
+     * For information about rotating certificates, see <a
+     * ervices.com/IAM/latest/UserGuide/index.html?ManagingCredentials.html">
+     * Managing Keys and Certificates </a> in <i>Using AWS Identity and
+     * Access Management</i> .
      * </p>
      *
-     * @param deleteGroupPolicyRequest Container for the necessary parameters
-     *           to execute the DeleteGroupPolicy operation on
+     * @param updateSigningCertificateRequest Container for the necessary
+     *           parameters to execute the UpdateSigningCertificate operation on
      *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
-     *         DeleteGroupPolicy service method, as returned by
+     *         UpdateSigningCertificate service method, as returned by
      *         AmazonIdentityManagement.
      *
      * @throws AmazonClientException
@@ -710,11 +1402,19 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      *             If an error response is returned by AmazonIdentityManagement indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteGroupPolicyAsync(final DeleteGroupPolicyRequest deleteGroupPolicyRequest) 
-            throws AmazonServiceException, AmazonClientException {
+    public Future<Void> updateSigningCertificateAsync(
+            final UpdateSigningCertificateRequest updateSigningCertificateRequest,
+            final AsyncHandler<UpdateSigningCertificateRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<Void>() {
             public Void call() throws Exception {
-                deleteGroupPolicy(deleteGroupPolicyRequest);
+                try {
+                    updateSigningCertificate(updateSigningCertificateRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(updateSigningCertificateRequest, null);
                 return null;
 		    }
 		});
@@ -722,19 +1422,17 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
     
     /**
      * <p>
-     * Lists the Users that have the specified path prefix. If there are
-     * none, the action returns an empty list.
-     * </p>
-     * <p>
-     * You can paginate the results using the <code>MaxItems</code> and
-     * <code>Marker</code> parameters.
+     * Deletes the specified policy that is associated with the specified
+     * group.
      * </p>
      *
-     * @param listUsersRequest Container for the necessary parameters to
-     *           execute the ListUsers operation on AmazonIdentityManagement.
+     * @param deleteGroupPolicyRequest Container for the necessary parameters
+     *           to execute the DeleteGroupPolicy operation on
+     *           AmazonIdentityManagement.
      * 
      * @return A Java Future object containing the response from the
-     *         ListUsers service method, as returned by AmazonIdentityManagement.
+     *         DeleteGroupPolicy service method, as returned by
+     *         AmazonIdentityManagement.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -744,15 +1442,142 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      *             If an error response is returned by AmazonIdentityManagement indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ListUsersResult> listUsersAsync(final ListUsersRequest listUsersRequest) 
+    public Future<Void> deleteGroupPolicyAsync(final DeleteGroupPolicyRequest deleteGroupPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUsersResult>() {
-            public ListUsersResult call() throws Exception {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                deleteGroupPolicy(deleteGroupPolicyRequest);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Deletes the specified policy that is associated with the specified
+     * group.
+     * </p>
+     *
+     * @param deleteGroupPolicyRequest Container for the necessary parameters
+     *           to execute the DeleteGroupPolicy operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteGroupPolicy service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteGroupPolicyAsync(
+            final DeleteGroupPolicyRequest deleteGroupPolicyRequest,
+            final AsyncHandler<DeleteGroupPolicyRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteGroupPolicy(deleteGroupPolicyRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteGroupPolicyRequest, null);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Lists the Users that have the specified path prefix. If there are
+     * none, the action returns an empty list.
+     * </p>
+     * <p>
+     * You can paginate the results using the <code>MaxItems</code> and
+     * <code>Marker</code> parameters.
+     * </p>
+     *
+     * @param listUsersRequest Container for the necessary parameters to
+     *           execute the ListUsers operation on AmazonIdentityManagement.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListUsers service method, as returned by AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListUsersResult> listUsersAsync(final ListUsersRequest listUsersRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ListUsersResult>() {
+            public ListUsersResult call() throws Exception {
                 return listUsers(listUsersRequest);
 		    }
 		});
     }
     
+    /**
+     * <p>
+     * Lists the Users that have the specified path prefix. If there are
+     * none, the action returns an empty list.
+     * </p>
+     * <p>
+     * You can paginate the results using the <code>MaxItems</code> and
+     * <code>Marker</code> parameters.
+     * </p>
+     *
+     * @param listUsersRequest Container for the necessary parameters to
+     *           execute the ListUsers operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListUsers service method, as returned by AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListUsersResult> listUsersAsync(
+            final ListUsersRequest listUsersRequest,
+            final AsyncHandler<ListUsersRequest, ListUsersResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ListUsersResult>() {
+            public ListUsersResult call() throws Exception {
+                ListUsersResult result;
+                try {
+                    result = listUsers(listUsersRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(listUsersRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Updates the name and/or the path of the specified group.
@@ -795,6 +1620,61 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Updates the name and/or the path of the specified group.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> You should understand the implications of changing a
+     * group's path or name. For more information, see Renaming Users and
+     * Groups in Using AWS Identity and Access Management.
+     * </p>
+     * <p>
+     * <b>NOTE:</b>To change a group name the requester must have appropriate
+     * permissions on both the source object and the target object. For
+     * example, to change Managers to MGRs, the entity making the request
+     * must have permission on Managers and MGRs, or must have permission on
+     * all (*). For more information about permissions, see Permissions and
+     * Policies.
+     * </p>
+     *
+     * @param updateGroupRequest Container for the necessary parameters to
+     *           execute the UpdateGroup operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         UpdateGroup service method, as returned by AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> updateGroupAsync(
+            final UpdateGroupRequest updateGroupRequest,
+            final AsyncHandler<UpdateGroupRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    updateGroup(updateGroupRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(updateGroupRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Retrieves information about the specified server certificate.
@@ -825,6 +1705,51 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Retrieves information about the specified server certificate.
+     * </p>
+     *
+     * @param getServerCertificateRequest Container for the necessary
+     *           parameters to execute the GetServerCertificate operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetServerCertificate service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetServerCertificateResult> getServerCertificateAsync(
+            final GetServerCertificateRequest getServerCertificateRequest,
+            final AsyncHandler<GetServerCertificateRequest, GetServerCertificateResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<GetServerCertificateResult>() {
+            public GetServerCertificateResult call() throws Exception {
+                GetServerCertificateResult result;
+                try {
+                    result = getServerCertificate(getServerCertificateRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(getServerCertificateRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Adds (or updates) a policy document associated with the specified
@@ -871,6 +1796,65 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Adds (or updates) a policy document associated with the specified
+     * group. For information about policies, refer to <a
+     * ebservices.com/IAM/latest/UserGuide/index.html?PoliciesOverview.html">
+     * Overview of Policies </a> in <i>Using AWS Identity and Access
+     * Management</i> .
+     * </p>
+     * <p>
+     * For information about limits on the number of policies you can
+     * associate with a group, see <a
+     * s.com/IAM/2010-05-08/UserGuide/index.html?LimitationsOnEntities.html">
+     * Limitations on IAM Entities </a> in <i>Using AWS Identity and Access
+     * Management</i> .
+     * </p>
+     * <p>
+     * <b>NOTE:</b>Because policy documents can be large, you should use POST
+     * rather than GET when calling PutGroupPolicy. For more information, see
+     * Making Query Requests in Using AWS Identity and Access Management.
+     * </p>
+     *
+     * @param putGroupPolicyRequest Container for the necessary parameters to
+     *           execute the PutGroupPolicy operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         PutGroupPolicy service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> putGroupPolicyAsync(
+            final PutGroupPolicyRequest putGroupPolicyRequest,
+            final AsyncHandler<PutGroupPolicyRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    putGroupPolicy(putGroupPolicyRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(putGroupPolicyRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Creates a new User for your AWS Account.
@@ -906,6 +1890,56 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Creates a new User for your AWS Account.
+     * </p>
+     * <p>
+     * For information about limitations on the number of Users you can
+     * create, see <a
+     * vices.com/IAM/latest/UserGuide/index.html?LimitationsOnEntities.html">
+     * Limitations on IAM Entities </a> in <i>Using AWS Identity and Access
+     * Management</i> .
+     * </p>
+     *
+     * @param createUserRequest Container for the necessary parameters to
+     *           execute the CreateUser operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateUser service method, as returned by AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateUserResult> createUserAsync(
+            final CreateUserRequest createUserRequest,
+            final AsyncHandler<CreateUserRequest, CreateUserResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateUserResult>() {
+            public CreateUserResult call() throws Exception {
+                CreateUserResult result;
+                try {
+                    result = createUser(createUserRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createUserRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes the specified signing certificate associated with the
@@ -947,16 +1981,28 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
     
     /**
      * <p>
-     * Enables the specified MFA device and associates it with the specified
-     * User name. When enabled, the MFA device is required for every
-     * subsequent login by the User name associated with the device.
+     * Deletes the specified signing certificate associated with the
+     * specified User.
+     * </p>
+     * <p>
+     * If you do not specify a User name, IAM determines the User name
+     * implicitly based on the AWS Access Key ID signing the request. Because
+     * this action works for access keys under the AWS Account, you can use
+     * this API to manage root credentials even if the AWS Account has no
+     * associated Users.
      * </p>
      *
-     * @param enableMFADeviceRequest Container for the necessary parameters
-     *           to execute the EnableMFADevice operation on AmazonIdentityManagement.
+     * @param deleteSigningCertificateRequest Container for the necessary
+     *           parameters to execute the DeleteSigningCertificate operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
-     *         EnableMFADevice service method, as returned by
+     *         DeleteSigningCertificate service method, as returned by
      *         AmazonIdentityManagement.
      *
      * @throws AmazonClientException
@@ -967,7 +2013,47 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      *             If an error response is returned by AmazonIdentityManagement indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> enableMFADeviceAsync(final EnableMFADeviceRequest enableMFADeviceRequest) 
+    public Future<Void> deleteSigningCertificateAsync(
+            final DeleteSigningCertificateRequest deleteSigningCertificateRequest,
+            final AsyncHandler<DeleteSigningCertificateRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteSigningCertificate(deleteSigningCertificateRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteSigningCertificateRequest, null);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Enables the specified MFA device and associates it with the specified
+     * User name. When enabled, the MFA device is required for every
+     * subsequent login by the User name associated with the device.
+     * </p>
+     *
+     * @param enableMFADeviceRequest Container for the necessary parameters
+     *           to execute the EnableMFADevice operation on AmazonIdentityManagement.
+     * 
+     * @return A Java Future object containing the response from the
+     *         EnableMFADevice service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> enableMFADeviceAsync(final EnableMFADeviceRequest enableMFADeviceRequest) 
             throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<Void>() {
             public Void call() throws Exception {
@@ -977,6 +2063,51 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Enables the specified MFA device and associates it with the specified
+     * User name. When enabled, the MFA device is required for every
+     * subsequent login by the User name associated with the device.
+     * </p>
+     *
+     * @param enableMFADeviceRequest Container for the necessary parameters
+     *           to execute the EnableMFADevice operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         EnableMFADevice service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> enableMFADeviceAsync(
+            final EnableMFADeviceRequest enableMFADeviceRequest,
+            final AsyncHandler<EnableMFADeviceRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    enableMFADevice(enableMFADeviceRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(enableMFADeviceRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Lists the names of the policies associated with the specified User. If
@@ -1011,6 +2142,55 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Lists the names of the policies associated with the specified User. If
+     * there are none, the action returns an empty list.
+     * </p>
+     * <p>
+     * You can paginate the results using the <code>MaxItems</code> and
+     * <code>Marker</code> parameters.
+     * </p>
+     *
+     * @param listUserPoliciesRequest Container for the necessary parameters
+     *           to execute the ListUserPolicies operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListUserPolicies service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListUserPoliciesResult> listUserPoliciesAsync(
+            final ListUserPoliciesRequest listUserPoliciesRequest,
+            final AsyncHandler<ListUserPoliciesRequest, ListUserPoliciesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ListUserPoliciesResult>() {
+            public ListUserPoliciesResult call() throws Exception {
+                ListUserPoliciesResult result;
+                try {
+                    result = listUserPolicies(listUserPoliciesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(listUserPoliciesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns information about the Access Key IDs associated with the
@@ -1057,6 +2237,67 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Returns information about the Access Key IDs associated with the
+     * specified User. If there are none, the action returns an empty list.
+     * </p>
+     * <p>
+     * Although each User is limited to a small number of keys, you can still
+     * paginate the results using the <code>MaxItems</code> and
+     * <code>Marker</code> parameters.
+     * </p>
+     * <p>
+     * If the <code>UserName</code> field is not specified, the UserName is
+     * determined implicitly based on the AWS Access Key ID used to sign the
+     * request. Because this action works for access keys under the AWS
+     * Account, this API can be used to manage root credentials even if the
+     * AWS Account has no associated Users.
+     * </p>
+     * <p>
+     * <b>NOTE:</b>To ensure the security of your AWS Account, the secret
+     * access key is accessible only during key and User creation.
+     * </p>
+     *
+     * @param listAccessKeysRequest Container for the necessary parameters to
+     *           execute the ListAccessKeys operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListAccessKeys service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListAccessKeysResult> listAccessKeysAsync(
+            final ListAccessKeysRequest listAccessKeysRequest,
+            final AsyncHandler<ListAccessKeysRequest, ListAccessKeysResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ListAccessKeysResult>() {
+            public ListAccessKeysResult call() throws Exception {
+                ListAccessKeysResult result;
+                try {
+                    result = listAccessKeys(listAccessKeysRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(listAccessKeysRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Retrieves the login profile for the specified User.
@@ -1086,6 +2327,50 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Retrieves the login profile for the specified User.
+     * </p>
+     *
+     * @param getLoginProfileRequest Container for the necessary parameters
+     *           to execute the GetLoginProfile operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetLoginProfile service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetLoginProfileResult> getLoginProfileAsync(
+            final GetLoginProfileRequest getLoginProfileRequest,
+            final AsyncHandler<GetLoginProfileRequest, GetLoginProfileResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<GetLoginProfileResult>() {
+            public GetLoginProfileResult call() throws Exception {
+                GetLoginProfileResult result;
+                try {
+                    result = getLoginProfile(getLoginProfileRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(getLoginProfileRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Lists the groups the specified User belongs to.
@@ -1120,6 +2405,55 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Lists the groups the specified User belongs to.
+     * </p>
+     * <p>
+     * You can paginate the results using the <code>MaxItems</code> and
+     * <code>Marker</code> parameters.
+     * </p>
+     *
+     * @param listGroupsForUserRequest Container for the necessary parameters
+     *           to execute the ListGroupsForUser operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListGroupsForUser service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListGroupsForUserResult> listGroupsForUserAsync(
+            final ListGroupsForUserRequest listGroupsForUserRequest,
+            final AsyncHandler<ListGroupsForUserRequest, ListGroupsForUserResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ListGroupsForUserResult>() {
+            public ListGroupsForUserResult call() throws Exception {
+                ListGroupsForUserResult result;
+                try {
+                    result = listGroupsForUser(listGroupsForUserRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(listGroupsForUserRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Creates a new group.
@@ -1154,6 +2488,101 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Creates a new group.
+     * </p>
+     * <p>
+     * For information about the number of groups you can create, see <a
+     * vices.com/IAM/latest/UserGuide/index.html?LimitationsOnEntities.html">
+     * Limitations on IAM Entities </a> in <i>Using AWS Identity and Access
+     * Management</i> .
+     * </p>
+     *
+     * @param createGroupRequest Container for the necessary parameters to
+     *           execute the CreateGroup operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateGroup service method, as returned by AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateGroupResult> createGroupAsync(
+            final CreateGroupRequest createGroupRequest,
+            final AsyncHandler<CreateGroupRequest, CreateGroupResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateGroupResult>() {
+            public CreateGroupResult call() throws Exception {
+                CreateGroupResult result;
+                try {
+                    result = createGroup(createGroupRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createGroupRequest, result);
+                return result;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Uploads a server certificate entity for the AWS Account. The server
+     * certificate entity includes a public key certificate, a private key,
+     * and an optional certificate chain, which should all be PEM-encoded.
+     * </p>
+     * <p>
+     * For information about the number of server certificates you can
+     * upload, see <a
+     * vices.com/IAM/latest/UserGuide/index.html?LimitationsOnEntities.html">
+     * Limitations on IAM Entities </a> in <i>Using AWS Identity and Access
+     * Management</i> .
+     * </p>
+     * <p>
+     * <b>NOTE:</b>Because the body of the public key certificate, private
+     * key, and the certificate chain can be large, you should use POST
+     * rather than GET when calling UploadServerCertificate. For more
+     * information, see Making Query Requests in Using AWS Identity and
+     * Access Management.
+     * </p>
+     *
+     * @param uploadServerCertificateRequest Container for the necessary
+     *           parameters to execute the UploadServerCertificate operation on
+     *           AmazonIdentityManagement.
+     * 
+     * @return A Java Future object containing the response from the
+     *         UploadServerCertificate service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<UploadServerCertificateResult> uploadServerCertificateAsync(final UploadServerCertificateRequest uploadServerCertificateRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<UploadServerCertificateResult>() {
+            public UploadServerCertificateResult call() throws Exception {
+                return uploadServerCertificate(uploadServerCertificateRequest);
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Uploads a server certificate entity for the AWS Account. The server
@@ -1168,20 +2597,263 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      * Management</i> .
      * </p>
      * <p>
-     * <b>NOTE:</b>Because the body of the public key certificate, private
-     * key, and the certificate chain can be large, you should use POST
-     * rather than GET when calling UploadServerCertificate. For more
-     * information, see Making Query Requests in Using AWS Identity and
-     * Access Management.
+     * <b>NOTE:</b>Because the body of the public key certificate, private
+     * key, and the certificate chain can be large, you should use POST
+     * rather than GET when calling UploadServerCertificate. For more
+     * information, see Making Query Requests in Using AWS Identity and
+     * Access Management.
+     * </p>
+     *
+     * @param uploadServerCertificateRequest Container for the necessary
+     *           parameters to execute the UploadServerCertificate operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         UploadServerCertificate service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<UploadServerCertificateResult> uploadServerCertificateAsync(
+            final UploadServerCertificateRequest uploadServerCertificateRequest,
+            final AsyncHandler<UploadServerCertificateRequest, UploadServerCertificateResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<UploadServerCertificateResult>() {
+            public UploadServerCertificateResult call() throws Exception {
+                UploadServerCertificateResult result;
+                try {
+                    result = uploadServerCertificate(uploadServerCertificateRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(uploadServerCertificateRequest, result);
+                return result;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * This action creates an alias for your AWS Account. For information
+     * about using an AWS Account alias, see <a
+     * ://docs.amazonwebservices.com/IAM/latest/UserGuide/AccountAlias.html">
+     * Using an Alias for Your AWS Account ID </a> in <i>Using AWS Identity
+     * and Access Management</i> .
+     * </p>
+     *
+     * @param createAccountAliasRequest Container for the necessary
+     *           parameters to execute the CreateAccountAlias operation on
+     *           AmazonIdentityManagement.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateAccountAlias service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> createAccountAliasAsync(final CreateAccountAliasRequest createAccountAliasRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                createAccountAlias(createAccountAliasRequest);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * This action creates an alias for your AWS Account. For information
+     * about using an AWS Account alias, see <a
+     * ://docs.amazonwebservices.com/IAM/latest/UserGuide/AccountAlias.html">
+     * Using an Alias for Your AWS Account ID </a> in <i>Using AWS Identity
+     * and Access Management</i> .
+     * </p>
+     *
+     * @param createAccountAliasRequest Container for the necessary
+     *           parameters to execute the CreateAccountAlias operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateAccountAlias service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> createAccountAliasAsync(
+            final CreateAccountAliasRequest createAccountAliasRequest,
+            final AsyncHandler<CreateAccountAliasRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    createAccountAlias(createAccountAliasRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createAccountAliasRequest, null);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Retrieves the specified policy document for the specified group. The
+     * returned policy is URL-encoded according to RFC 3986. For more
+     * information about RFC 3986, go to <a
+     * href="http://www.faqs.org/rfcs/rfc3986.html">
+     * http://www.faqs.org/rfcs/rfc3986.html </a> .
+     * </p>
+     *
+     * @param getGroupPolicyRequest Container for the necessary parameters to
+     *           execute the GetGroupPolicy operation on AmazonIdentityManagement.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetGroupPolicy service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetGroupPolicyResult> getGroupPolicyAsync(final GetGroupPolicyRequest getGroupPolicyRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<GetGroupPolicyResult>() {
+            public GetGroupPolicyResult call() throws Exception {
+                return getGroupPolicy(getGroupPolicyRequest);
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Retrieves the specified policy document for the specified group. The
+     * returned policy is URL-encoded according to RFC 3986. For more
+     * information about RFC 3986, go to <a
+     * href="http://www.faqs.org/rfcs/rfc3986.html">
+     * http://www.faqs.org/rfcs/rfc3986.html </a> .
+     * </p>
+     *
+     * @param getGroupPolicyRequest Container for the necessary parameters to
+     *           execute the GetGroupPolicy operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetGroupPolicy service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetGroupPolicyResult> getGroupPolicyAsync(
+            final GetGroupPolicyRequest getGroupPolicyRequest,
+            final AsyncHandler<GetGroupPolicyRequest, GetGroupPolicyResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<GetGroupPolicyResult>() {
+            public GetGroupPolicyResult call() throws Exception {
+                GetGroupPolicyResult result;
+                try {
+                    result = getGroupPolicy(getGroupPolicyRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(getGroupPolicyRequest, result);
+                return result;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Deletes the specified User. The User must not belong to any groups,
+     * have any keys or signing certificates, or have any attached policies.
+     * </p>
+     *
+     * @param deleteUserRequest Container for the necessary parameters to
+     *           execute the DeleteUser operation on AmazonIdentityManagement.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteUser service method, as returned by AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteUserAsync(final DeleteUserRequest deleteUserRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                deleteUser(deleteUserRequest);
+                return null;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Deletes the specified User. The User must not belong to any groups,
+     * have any keys or signing certificates, or have any attached policies.
      * </p>
      *
-     * @param uploadServerCertificateRequest Container for the necessary
-     *           parameters to execute the UploadServerCertificate operation on
-     *           AmazonIdentityManagement.
+     * @param deleteUserRequest Container for the necessary parameters to
+     *           execute the DeleteUser operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
-     *         UploadServerCertificate service method, as returned by
-     *         AmazonIdentityManagement.
+     *         DeleteUser service method, as returned by AmazonIdentityManagement.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1191,30 +2863,36 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      *             If an error response is returned by AmazonIdentityManagement indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<UploadServerCertificateResult> uploadServerCertificateAsync(final UploadServerCertificateRequest uploadServerCertificateRequest) 
-            throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UploadServerCertificateResult>() {
-            public UploadServerCertificateResult call() throws Exception {
-                return uploadServerCertificate(uploadServerCertificateRequest);
+    public Future<Void> deleteUserAsync(
+            final DeleteUserRequest deleteUserRequest,
+            final AsyncHandler<DeleteUserRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteUser(deleteUserRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteUserRequest, null);
+                return null;
 		    }
 		});
     }
     
     /**
      * <p>
-     * This action creates an alias for your AWS Account. For information
-     * about using an AWS Account alias, see <a
-     * ://docs.amazonwebservices.com/IAM/latest/UserGuide/AccountAlias.html">
-     * Using an Alias for Your AWS Account ID </a> in <i>Using AWS Identity
-     * and Access Management</i> .
+     * Deactivates the specified MFA device and removes it from association
+     * with the User name for which it was originally enabled.
      * </p>
      *
-     * @param createAccountAliasRequest Container for the necessary
-     *           parameters to execute the CreateAccountAlias operation on
+     * @param deactivateMFADeviceRequest Container for the necessary
+     *           parameters to execute the DeactivateMFADevice operation on
      *           AmazonIdentityManagement.
      * 
      * @return A Java Future object containing the response from the
-     *         CreateAccountAlias service method, as returned by
+     *         DeactivateMFADevice service method, as returned by
      *         AmazonIdentityManagement.
      *
      * @throws AmazonClientException
@@ -1225,11 +2903,11 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      *             If an error response is returned by AmazonIdentityManagement indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createAccountAliasAsync(final CreateAccountAliasRequest createAccountAliasRequest) 
+    public Future<Void> deactivateMFADeviceAsync(final DeactivateMFADeviceRequest deactivateMFADeviceRequest) 
             throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<Void>() {
             public Void call() throws Exception {
-                createAccountAlias(createAccountAliasRequest);
+                deactivateMFADevice(deactivateMFADeviceRequest);
                 return null;
 		    }
 		});
@@ -1237,18 +2915,21 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
     
     /**
      * <p>
-     * Retrieves the specified policy document for the specified group. The
-     * returned policy is URL-encoded according to RFC 3986. For more
-     * information about RFC 3986, go to <a
-     * href="http://www.faqs.org/rfcs/rfc3986.html">
-     * http://www.faqs.org/rfcs/rfc3986.html </a> .
+     * Deactivates the specified MFA device and removes it from association
+     * with the User name for which it was originally enabled.
      * </p>
      *
-     * @param getGroupPolicyRequest Container for the necessary parameters to
-     *           execute the GetGroupPolicy operation on AmazonIdentityManagement.
+     * @param deactivateMFADeviceRequest Container for the necessary
+     *           parameters to execute the DeactivateMFADevice operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
-     *         GetGroupPolicy service method, as returned by
+     *         DeactivateMFADevice service method, as returned by
      *         AmazonIdentityManagement.
      *
      * @throws AmazonClientException
@@ -1259,26 +2940,36 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      *             If an error response is returned by AmazonIdentityManagement indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<GetGroupPolicyResult> getGroupPolicyAsync(final GetGroupPolicyRequest getGroupPolicyRequest) 
-            throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetGroupPolicyResult>() {
-            public GetGroupPolicyResult call() throws Exception {
-                return getGroupPolicy(getGroupPolicyRequest);
+    public Future<Void> deactivateMFADeviceAsync(
+            final DeactivateMFADeviceRequest deactivateMFADeviceRequest,
+            final AsyncHandler<DeactivateMFADeviceRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deactivateMFADevice(deactivateMFADeviceRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deactivateMFADeviceRequest, null);
+                return null;
 		    }
 		});
     }
     
     /**
      * <p>
-     * Deletes the specified User. The User must not belong to any groups,
-     * have any keys or signing certificates, or have any attached policies.
+     * Removes the specified User from the specified group.
      * </p>
      *
-     * @param deleteUserRequest Container for the necessary parameters to
-     *           execute the DeleteUser operation on AmazonIdentityManagement.
+     * @param removeUserFromGroupRequest Container for the necessary
+     *           parameters to execute the RemoveUserFromGroup operation on
+     *           AmazonIdentityManagement.
      * 
      * @return A Java Future object containing the response from the
-     *         DeleteUser service method, as returned by AmazonIdentityManagement.
+     *         RemoveUserFromGroup service method, as returned by
+     *         AmazonIdentityManagement.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -1288,11 +2979,11 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      *             If an error response is returned by AmazonIdentityManagement indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteUserAsync(final DeleteUserRequest deleteUserRequest) 
+    public Future<Void> removeUserFromGroupAsync(final RemoveUserFromGroupRequest removeUserFromGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<Void>() {
             public Void call() throws Exception {
-                deleteUser(deleteUserRequest);
+                removeUserFromGroup(removeUserFromGroupRequest);
                 return null;
 		    }
 		});
@@ -1300,16 +2991,20 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
     
     /**
      * <p>
-     * Deactivates the specified MFA device and removes it from association
-     * with the User name for which it was originally enabled.
+     * Removes the specified User from the specified group.
      * </p>
      *
-     * @param deactivateMFADeviceRequest Container for the necessary
-     *           parameters to execute the DeactivateMFADevice operation on
+     * @param removeUserFromGroupRequest Container for the necessary
+     *           parameters to execute the RemoveUserFromGroup operation on
      *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
-     *         DeactivateMFADevice service method, as returned by
+     *         RemoveUserFromGroup service method, as returned by
      *         AmazonIdentityManagement.
      *
      * @throws AmazonClientException
@@ -1320,11 +3015,19 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      *             If an error response is returned by AmazonIdentityManagement indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deactivateMFADeviceAsync(final DeactivateMFADeviceRequest deactivateMFADeviceRequest) 
-            throws AmazonServiceException, AmazonClientException {
+    public Future<Void> removeUserFromGroupAsync(
+            final RemoveUserFromGroupRequest removeUserFromGroupRequest,
+            final AsyncHandler<RemoveUserFromGroupRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<Void>() {
             public Void call() throws Exception {
-                deactivateMFADevice(deactivateMFADeviceRequest);
+                try {
+                    removeUserFromGroup(removeUserFromGroupRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(removeUserFromGroupRequest, null);
                 return null;
 		    }
 		});
@@ -1332,15 +3035,25 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
     
     /**
      * <p>
-     * Removes the specified User from the specified group.
+     * Deletes the specified server certificate.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b>If your Elastic Load Balancing instances are using a
+     * server certificate, deleting the certificate could have implications
+     * for your application. If your Elastic Load Balancing instances do not
+     * detect the deletion of bound certificates, they may continue to use
+     * the certificates. This could cause them to stop accepting traffic.
+     * We recommend that you remove the reference to the certificate from
+     * your Elastic Load Balancing instances before using this command to
+     * delete the certificate.
      * </p>
      *
-     * @param removeUserFromGroupRequest Container for the necessary
-     *           parameters to execute the RemoveUserFromGroup operation on
+     * @param deleteServerCertificateRequest Container for the necessary
+     *           parameters to execute the DeleteServerCertificate operation on
      *           AmazonIdentityManagement.
      * 
      * @return A Java Future object containing the response from the
-     *         RemoveUserFromGroup service method, as returned by
+     *         DeleteServerCertificate service method, as returned by
      *         AmazonIdentityManagement.
      *
      * @throws AmazonClientException
@@ -1351,11 +3064,11 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      *             If an error response is returned by AmazonIdentityManagement indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> removeUserFromGroupAsync(final RemoveUserFromGroupRequest removeUserFromGroupRequest) 
+    public Future<Void> deleteServerCertificateAsync(final DeleteServerCertificateRequest deleteServerCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<Void>() {
             public Void call() throws Exception {
-                removeUserFromGroup(removeUserFromGroupRequest);
+                deleteServerCertificate(deleteServerCertificateRequest);
                 return null;
 		    }
 		});
@@ -1379,6 +3092,11 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      * @param deleteServerCertificateRequest Container for the necessary
      *           parameters to execute the DeleteServerCertificate operation on
      *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
      *         DeleteServerCertificate service method, as returned by
@@ -1392,11 +3110,19 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      *             If an error response is returned by AmazonIdentityManagement indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteServerCertificateAsync(final DeleteServerCertificateRequest deleteServerCertificateRequest) 
-            throws AmazonServiceException, AmazonClientException {
+    public Future<Void> deleteServerCertificateAsync(
+            final DeleteServerCertificateRequest deleteServerCertificateRequest,
+            final AsyncHandler<DeleteServerCertificateRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<Void>() {
             public Void call() throws Exception {
-                deleteServerCertificate(deleteServerCertificateRequest);
+                try {
+                    deleteServerCertificate(deleteServerCertificateRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteServerCertificateRequest, null);
                 return null;
 		    }
 		});
@@ -1437,6 +3163,56 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Lists the names of the policies associated with the specified group.
+     * If there are none, the action returns an empty list.
+     * </p>
+     * <p>
+     * You can paginate the results using the <code>MaxItems</code> and
+     * <code>Marker</code> parameters.
+     * </p>
+     *
+     * @param listGroupPoliciesRequest Container for the necessary parameters
+     *           to execute the ListGroupPolicies operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListGroupPolicies service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListGroupPoliciesResult> listGroupPoliciesAsync(
+            final ListGroupPoliciesRequest listGroupPoliciesRequest,
+            final AsyncHandler<ListGroupPoliciesRequest, ListGroupPoliciesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ListGroupPoliciesResult>() {
+            public ListGroupPoliciesResult call() throws Exception {
+                ListGroupPoliciesResult result;
+                try {
+                    result = listGroupPolicies(listGroupPoliciesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(listGroupPoliciesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Creates a login profile for the specified User, giving the User the
@@ -1472,6 +3248,56 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Creates a login profile for the specified User, giving the User the
+     * ability to access AWS services such as the AWS Management Console.
+     * For more information about login profiles, see <a
+     * .com/IAM/latest/UserGuide/index.html?Using_ManagingLoginsAndMFA.html">
+     * Managing Login Profiles and MFA Devices </a> in <i>Using AWS Identity
+     * and Access Management</i> .
+     * </p>
+     *
+     * @param createLoginProfileRequest Container for the necessary
+     *           parameters to execute the CreateLoginProfile operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateLoginProfile service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateLoginProfileResult> createLoginProfileAsync(
+            final CreateLoginProfileRequest createLoginProfileRequest,
+            final AsyncHandler<CreateLoginProfileRequest, CreateLoginProfileResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateLoginProfileResult>() {
+            public CreateLoginProfileResult call() throws Exception {
+                CreateLoginProfileResult result;
+                try {
+                    result = createLoginProfile(createLoginProfileRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createLoginProfileRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Creates a new AWS Secret Access Key and corresponding AWS Access Key
@@ -1524,6 +3350,106 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Creates a new AWS Secret Access Key and corresponding AWS Access Key
+     * ID for the specified User. The default status for new keys is
+     * <code>Active</code> .
+     * </p>
+     * <p>
+     * If you do not specify a User name, IAM determines the User name
+     * implicitly based on the AWS Access Key ID signing the request. Because
+     * this action works for access keys under the AWS Account, you can use
+     * this API to manage root credentials even if the AWS Account has no
+     * associated Users.
+     * </p>
+     * <p>
+     * For information about limits on the number of keys you can create, see
+     * <a
+     * s.com/IAM/2010-05-08/UserGuide/index.html?LimitationsOnEntities.html">
+     * Limitations on IAM Entities </a> in <i>Using AWS Identity and Access
+     * Management</i> .
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b>To ensure the security of your AWS Account, the
+     * Secret Access Key is accessible only during key and User creation.
+     * You must save the key (for example, in a text file) if you want to be
+     * able to access it again. If a secret key is lost, you can delete the
+     * access keys for the associated User and then create new keys.
+     * </p>
+     *
+     * @param createAccessKeyRequest Container for the necessary parameters
+     *           to execute the CreateAccessKey operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateAccessKey service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateAccessKeyResult> createAccessKeyAsync(
+            final CreateAccessKeyRequest createAccessKeyRequest,
+            final AsyncHandler<CreateAccessKeyRequest, CreateAccessKeyResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateAccessKeyResult>() {
+            public CreateAccessKeyResult call() throws Exception {
+                CreateAccessKeyResult result;
+                try {
+                    result = createAccessKey(createAccessKeyRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createAccessKeyRequest, result);
+                return result;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * Retrieves information about the specified User, including the User's
+     * path, GUID, and ARN.
+     * </p>
+     * <p>
+     * If you do not specify a User name, IAM determines the User name
+     * implicitly based on the AWS Access Key ID signing the request.
+     * </p>
+     *
+     * @param getUserRequest Container for the necessary parameters to
+     *           execute the GetUser operation on AmazonIdentityManagement.
+     * 
+     * @return A Java Future object containing the response from the GetUser
+     *         service method, as returned by AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetUserResult> getUserAsync(final GetUserRequest getUserRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<GetUserResult>() {
+            public GetUserResult call() throws Exception {
+                return getUser(getUserRequest);
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Retrieves information about the specified User, including the User's
@@ -1536,6 +3462,11 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      *
      * @param getUserRequest Container for the necessary parameters to
      *           execute the GetUser operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the GetUser
      *         service method, as returned by AmazonIdentityManagement.
@@ -1548,11 +3479,21 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      *             If an error response is returned by AmazonIdentityManagement indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<GetUserResult> getUserAsync(final GetUserRequest getUserRequest) 
-            throws AmazonServiceException, AmazonClientException {
+    public Future<GetUserResult> getUserAsync(
+            final GetUserRequest getUserRequest,
+            final AsyncHandler<GetUserRequest, GetUserResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<GetUserResult>() {
             public GetUserResult call() throws Exception {
-                return getUser(getUserRequest);
+                GetUserResult result;
+                try {
+                    result = getUser(getUserRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(getUserRequest, result);
+                return result;
 		    }
 		});
     }
@@ -1587,6 +3528,49 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Synchronizes the specified MFA device with AWS servers.
+     * </p>
+     *
+     * @param resyncMFADeviceRequest Container for the necessary parameters
+     *           to execute the ResyncMFADevice operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ResyncMFADevice service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> resyncMFADeviceAsync(
+            final ResyncMFADeviceRequest resyncMFADeviceRequest,
+            final AsyncHandler<ResyncMFADeviceRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    resyncMFADevice(resyncMFADeviceRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(resyncMFADeviceRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Lists the MFA devices associated with the specified User name.
@@ -1620,6 +3604,54 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Lists the MFA devices associated with the specified User name.
+     * </p>
+     * <p>
+     * You can paginate the results using the <code>MaxItems</code> and
+     * <code>Marker</code> parameters.
+     * </p>
+     *
+     * @param listMFADevicesRequest Container for the necessary parameters to
+     *           execute the ListMFADevices operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListMFADevices service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListMFADevicesResult> listMFADevicesAsync(
+            final ListMFADevicesRequest listMFADevicesRequest,
+            final AsyncHandler<ListMFADevicesRequest, ListMFADevicesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ListMFADevicesResult>() {
+            public ListMFADevicesResult call() throws Exception {
+                ListMFADevicesResult result;
+                try {
+                    result = listMFADevices(listMFADevicesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(listMFADevicesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Changes the status of the specified access key from Active to
@@ -1665,6 +3697,64 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Changes the status of the specified access key from Active to
+     * Inactive, or vice versa. This action can be used to disable a User's
+     * key as part of a key rotation workflow.
+     * </p>
+     * <p>
+     * If the <code>UserName</code> field is not specified, the UserName is
+     * determined implicitly based on the AWS Access Key ID used to sign the
+     * request. Because this action works for access keys under the AWS
+     * Account, this API can be used to manage root credentials even if the
+     * AWS Account has no associated Users.
+     * </p>
+     * <p>
+     * For information about rotating keys, see <a
+     * ervices.com/IAM/latest/UserGuide/index.html?ManagingCredentials.html">
+     * Managing Keys and Certificates </a> in <i>Using AWS Identity and
+     * Access Management</i> .
+     * </p>
+     *
+     * @param updateAccessKeyRequest Container for the necessary parameters
+     *           to execute the UpdateAccessKey operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         UpdateAccessKey service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> updateAccessKeyAsync(
+            final UpdateAccessKeyRequest updateAccessKeyRequest,
+            final AsyncHandler<UpdateAccessKeyRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    updateAccessKey(updateAccessKeyRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(updateAccessKeyRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Retrieves account level information about account entity usage and IAM
@@ -1702,6 +3792,58 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Retrieves account level information about account entity usage and IAM
+     * quotas.
+     * </p>
+     * <p>
+     * For information about limitations on IAM entities, see <a
+     * vices.com/IAM/latest/UserGuide/index.html?LimitationsOnEntities.html">
+     * Limitations on IAM Entities </a> in <i>Using AWS Identity and Access
+     * Management</i> .
+     * </p>
+     *
+     * @param getAccountSummaryRequest Container for the necessary parameters
+     *           to execute the GetAccountSummary operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetAccountSummary service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetAccountSummaryResult> getAccountSummaryAsync(
+            final GetAccountSummaryRequest getAccountSummaryRequest,
+            final AsyncHandler<GetAccountSummaryRequest, GetAccountSummaryResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<GetAccountSummaryResult>() {
+            public GetAccountSummaryResult call() throws Exception {
+                GetAccountSummaryResult result;
+                try {
+                    result = getAccountSummary(getAccountSummaryRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(getAccountSummaryRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Adds the specified User to the specified group.
@@ -1732,6 +3874,49 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Adds the specified User to the specified group.
+     * </p>
+     *
+     * @param addUserToGroupRequest Container for the necessary parameters to
+     *           execute the AddUserToGroup operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AddUserToGroup service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> addUserToGroupAsync(
+            final AddUserToGroupRequest addUserToGroupRequest,
+            final AsyncHandler<AddUserToGroupRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    addUserToGroup(addUserToGroupRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(addUserToGroupRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns a list of Users that are in the specified group. You can
@@ -1762,6 +3947,51 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Returns a list of Users that are in the specified group. You can
+     * paginate the results using the <code>MaxItems</code> and
+     * <code>Marker</code> parameters.
+     * </p>
+     *
+     * @param getGroupRequest Container for the necessary parameters to
+     *           execute the GetGroup operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the GetGroup
+     *         service method, as returned by AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetGroupResult> getGroupAsync(
+            final GetGroupRequest getGroupRequest,
+            final AsyncHandler<GetGroupRequest, GetGroupResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<GetGroupResult>() {
+            public GetGroupResult call() throws Exception {
+                GetGroupResult result;
+                try {
+                    result = getGroup(getGroupRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(getGroupRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Lists the account aliases associated with the account. For information
@@ -1800,6 +4030,59 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Lists the account aliases associated with the account. For information
+     * about using an AWS Account alias, see <a
+     * ://docs.amazonwebservices.com/IAM/latest/UserGuide/AccountAlias.html">
+     * Using an Alias for Your AWS Account ID </a> in <i>Using AWS Identity
+     * and Access Management</i> .
+     * </p>
+     * <p>
+     * You can paginate the results using the <code>MaxItems</code> and
+     * <code>Marker</code> parameters.
+     * </p>
+     *
+     * @param listAccountAliasesRequest Container for the necessary
+     *           parameters to execute the ListAccountAliases operation on
+     *           AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListAccountAliases service method, as returned by
+     *         AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListAccountAliasesResult> listAccountAliasesAsync(
+            final ListAccountAliasesRequest listAccountAliasesRequest,
+            final AsyncHandler<ListAccountAliasesRequest, ListAccountAliasesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ListAccountAliasesResult>() {
+            public ListAccountAliasesResult call() throws Exception {
+                ListAccountAliasesResult result;
+                try {
+                    result = listAccountAliases(listAccountAliasesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(listAccountAliasesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes the specified group. The group must not contain any Users or
@@ -1830,5 +4113,48 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
 		});
     }
     
+    /**
+     * <p>
+     * Deletes the specified group. The group must not contain any Users or
+     * have any attached policies.
+     * </p>
+     *
+     * @param deleteGroupRequest Container for the necessary parameters to
+     *           execute the DeleteGroup operation on AmazonIdentityManagement.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteGroup service method, as returned by AmazonIdentityManagement.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonIdentityManagement indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteGroupAsync(
+            final DeleteGroupRequest deleteGroupRequest,
+            final AsyncHandler<DeleteGroupRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteGroup(deleteGroupRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteGroupRequest, null);
+                return null;
+		    }
+		});
+    }
+    
 }
         
\ No newline at end of file
@@ -88,6 +88,12 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers;
 
+    /**
+     * Handles error responses for all service calls, built once so its index
+     * of exception unmarshallers is shared across calls.
+     */
+    private final DefaultErrorResponseHandler errorResponseHandler;
+
     
     /** AWS signer for authenticating requests. */
     private QueryStringSigner signer;
@@ -141,6 +147,7 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
         exceptionUnmarshallers.add(new NoSuchEntityExceptionUnmarshaller());
         
         exceptionUnmarshallers.add(new StandardErrorUnmarshaller());
+        errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
         setEndpoint("iam.amazonaws.com");
 
         signer = new QueryStringSigner();
@@ -177,8 +184,8 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public ListGroupsResult listGroups(ListGroupsRequest listGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ListGroupsRequest> request = new ListGroupsRequestMarshaller().marshall(listGroupsRequest);
-        return invoke(request, new ListGroupsResultStaxUnmarshaller());
+        Request<ListGroupsRequest> request = ListGroupsRequestMarshaller.getInstance().marshall(listGroupsRequest);
+        return invoke(request, ListGroupsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -209,7 +216,7 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public void deleteAccessKey(DeleteAccessKeyRequest deleteAccessKeyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteAccessKeyRequest> request = new DeleteAccessKeyRequestMarshaller().marshall(deleteAccessKeyRequest);
+        Request<DeleteAccessKeyRequest> request = DeleteAccessKeyRequestMarshaller.getInstance().marshall(deleteAccessKeyRequest);
         invoke(request, null);
     }
     
@@ -238,7 +245,7 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public void deleteAccountAlias(DeleteAccountAliasRequest deleteAccountAliasRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteAccountAliasRequest> request = new DeleteAccountAliasRequestMarshaller().marshall(deleteAccountAliasRequest);
+        Request<DeleteAccountAliasRequest> request = DeleteAccountAliasRequestMarshaller.getInstance().marshall(deleteAccountAliasRequest);
         invoke(request, null);
     }
     
@@ -279,8 +286,8 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public ListSigningCertificatesResult listSigningCertificates(ListSigningCertificatesRequest listSigningCertificatesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ListSigningCertificatesRequest> request = new ListSigningCertificatesRequestMarshaller().marshall(listSigningCertificatesRequest);
-        return invoke(request, new ListSigningCertificatesResultStaxUnmarshaller());
+        Request<ListSigningCertificatesRequest> request = ListSigningCertificatesRequestMarshaller.getInstance().marshall(listSigningCertificatesRequest);
+        return invoke(request, ListSigningCertificatesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -329,8 +336,8 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public UploadSigningCertificateResult uploadSigningCertificate(UploadSigningCertificateRequest uploadSigningCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<UploadSigningCertificateRequest> request = new UploadSigningCertificateRequestMarshaller().marshall(uploadSigningCertificateRequest);
-        return invoke(request, new UploadSigningCertificateResultStaxUnmarshaller());
+        Request<UploadSigningCertificateRequest> request = UploadSigningCertificateRequestMarshaller.getInstance().marshall(uploadSigningCertificateRequest);
+        return invoke(request, UploadSigningCertificateResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -354,7 +361,7 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public void deleteUserPolicy(DeleteUserPolicyRequest deleteUserPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteUserPolicyRequest> request = new DeleteUserPolicyRequestMarshaller().marshall(deleteUserPolicyRequest);
+        Request<DeleteUserPolicyRequest> request = DeleteUserPolicyRequestMarshaller.getInstance().marshall(deleteUserPolicyRequest);
         invoke(request, null);
     }
     
@@ -396,7 +403,7 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public void putUserPolicy(PutUserPolicyRequest putUserPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<PutUserPolicyRequest> request = new PutUserPolicyRequestMarshaller().marshall(putUserPolicyRequest);
+        Request<PutUserPolicyRequest> request = PutUserPolicyRequestMarshaller.getInstance().marshall(putUserPolicyRequest);
         invoke(request, null);
     }
     
@@ -428,8 +435,8 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public ListServerCertificatesResult listServerCertificates(ListServerCertificatesRequest listServerCertificatesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ListServerCertificatesRequest> request = new ListServerCertificatesRequestMarshaller().marshall(listServerCertificatesRequest);
-        return invoke(request, new ListServerCertificatesResultStaxUnmarshaller());
+        Request<ListServerCertificatesRequest> request = ListServerCertificatesRequestMarshaller.getInstance().marshall(listServerCertificatesRequest);
+        return invoke(request, ListServerCertificatesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -459,8 +466,8 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public GetUserPolicyResult getUserPolicy(GetUserPolicyRequest getUserPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<GetUserPolicyRequest> request = new GetUserPolicyRequestMarshaller().marshall(getUserPolicyRequest);
-        return invoke(request, new GetUserPolicyResultStaxUnmarshaller());
+        Request<GetUserPolicyRequest> request = GetUserPolicyRequestMarshaller.getInstance().marshall(getUserPolicyRequest);
+        return invoke(request, GetUserPolicyResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -486,7 +493,7 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public void updateLoginProfile(UpdateLoginProfileRequest updateLoginProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<UpdateLoginProfileRequest> request = new UpdateLoginProfileRequestMarshaller().marshall(updateLoginProfileRequest);
+        Request<UpdateLoginProfileRequest> request = UpdateLoginProfileRequestMarshaller.getInstance().marshall(updateLoginProfileRequest);
         invoke(request, null);
     }
     
@@ -525,7 +532,7 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public void updateServerCertificate(UpdateServerCertificateRequest updateServerCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<UpdateServerCertificateRequest> request = new UpdateServerCertificateRequestMarshaller().marshall(updateServerCertificateRequest);
+        Request<UpdateServerCertificateRequest> request = UpdateServerCertificateRequestMarshaller.getInstance().marshall(updateServerCertificateRequest);
         invoke(request, null);
     }
     
@@ -563,7 +570,7 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public void updateUser(UpdateUserRequest updateUserRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<UpdateUserRequest> request = new UpdateUserRequestMarshaller().marshall(updateUserRequest);
+        Request<UpdateUserRequest> request = UpdateUserRequestMarshaller.getInstance().marshall(updateUserRequest);
         invoke(request, null);
     }
     
@@ -597,7 +604,7 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public void deleteLoginProfile(DeleteLoginProfileRequest deleteLoginProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteLoginProfileRequest> request = new DeleteLoginProfileRequestMarshaller().marshall(deleteLoginProfileRequest);
+        Request<DeleteLoginProfileRequest> request = DeleteLoginProfileRequestMarshaller.getInstance().marshall(deleteLoginProfileRequest);
         invoke(request, null);
     }
     
@@ -637,7 +644,7 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public void updateSigningCertificate(UpdateSigningCertificateRequest updateSigningCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<UpdateSigningCertificateRequest> request = new UpdateSigningCertificateRequestMarshaller().marshall(updateSigningCertificateRequest);
+        Request<UpdateSigningCertificateRequest> request = UpdateSigningCertificateRequestMarshaller.getInstance().marshall(updateSigningCertificateRequest);
         invoke(request, null);
     }
     
@@ -663,7 +670,7 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public void deleteGroupPolicy(DeleteGroupPolicyRequest deleteGroupPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteGroupPolicyRequest> request = new DeleteGroupPolicyRequestMarshaller().marshall(deleteGroupPolicyRequest);
+        Request<DeleteGroupPolicyRequest> request = DeleteGroupPolicyRequestMarshaller.getInstance().marshall(deleteGroupPolicyRequest);
         invoke(request, null);
     }
     
@@ -694,8 +701,8 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public ListUsersResult listUsers(ListUsersRequest listUsersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ListUsersRequest> request = new ListUsersRequestMarshaller().marshall(listUsersRequest);
-        return invoke(request, new ListUsersResultStaxUnmarshaller());
+        Request<ListUsersRequest> request = ListUsersRequestMarshaller.getInstance().marshall(listUsersRequest);
+        return invoke(request, ListUsersResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -732,7 +739,7 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public void updateGroup(UpdateGroupRequest updateGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<UpdateGroupRequest> request = new UpdateGroupRequestMarshaller().marshall(updateGroupRequest);
+        Request<UpdateGroupRequest> request = UpdateGroupRequestMarshaller.getInstance().marshall(updateGroupRequest);
         invoke(request, null);
     }
     
@@ -760,8 +767,8 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public GetServerCertificateResult getServerCertificate(GetServerCertificateRequest getServerCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<GetServerCertificateRequest> request = new GetServerCertificateRequestMarshaller().marshall(getServerCertificateRequest);
-        return invoke(request, new GetServerCertificateResultStaxUnmarshaller());
+        Request<GetServerCertificateRequest> request = GetServerCertificateRequestMarshaller.getInstance().marshall(getServerCertificateRequest);
+        return invoke(request, GetServerCertificateResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -802,7 +809,7 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public void putGroupPolicy(PutGroupPolicyRequest putGroupPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<PutGroupPolicyRequest> request = new PutGroupPolicyRequestMarshaller().marshall(putGroupPolicyRequest);
+        Request<PutGroupPolicyRequest> request = PutGroupPolicyRequestMarshaller.getInstance().marshall(putGroupPolicyRequest);
         invoke(request, null);
     }
     
@@ -838,8 +845,8 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public CreateUserResult createUser(CreateUserRequest createUserRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateUserRequest> request = new CreateUserRequestMarshaller().marshall(createUserRequest);
-        return invoke(request, new CreateUserResultStaxUnmarshaller());
+        Request<CreateUserRequest> request = CreateUserRequestMarshaller.getInstance().marshall(createUserRequest);
+        return invoke(request, CreateUserResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -871,7 +878,7 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public void deleteSigningCertificate(DeleteSigningCertificateRequest deleteSigningCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteSigningCertificateRequest> request = new DeleteSigningCertificateRequestMarshaller().marshall(deleteSigningCertificateRequest);
+        Request<DeleteSigningCertificateRequest> request = DeleteSigningCertificateRequestMarshaller.getInstance().marshall(deleteSigningCertificateRequest);
         invoke(request, null);
     }
     
@@ -902,7 +909,7 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public void enableMFADevice(EnableMFADeviceRequest enableMFADeviceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<EnableMFADeviceRequest> request = new EnableMFADeviceRequestMarshaller().marshall(enableMFADeviceRequest);
+        Request<EnableMFADeviceRequest> request = EnableMFADeviceRequestMarshaller.getInstance().marshall(enableMFADeviceRequest);
         invoke(request, null);
     }
     
@@ -935,8 +942,8 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public ListUserPoliciesResult listUserPolicies(ListUserPoliciesRequest listUserPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ListUserPoliciesRequest> request = new ListUserPoliciesRequestMarshaller().marshall(listUserPoliciesRequest);
-        return invoke(request, new ListUserPoliciesResultStaxUnmarshaller());
+        Request<ListUserPoliciesRequest> request = ListUserPoliciesRequestMarshaller.getInstance().marshall(listUserPoliciesRequest);
+        return invoke(request, ListUserPoliciesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -979,8 +986,8 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public ListAccessKeysResult listAccessKeys(ListAccessKeysRequest listAccessKeysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ListAccessKeysRequest> request = new ListAccessKeysRequestMarshaller().marshall(listAccessKeysRequest);
-        return invoke(request, new ListAccessKeysResultStaxUnmarshaller());
+        Request<ListAccessKeysRequest> request = ListAccessKeysRequestMarshaller.getInstance().marshall(listAccessKeysRequest);
+        return invoke(request, ListAccessKeysResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1007,8 +1014,8 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public GetLoginProfileResult getLoginProfile(GetLoginProfileRequest getLoginProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<GetLoginProfileRequest> request = new GetLoginProfileRequestMarshaller().marshall(getLoginProfileRequest);
-        return invoke(request, new GetLoginProfileResultStaxUnmarshaller());
+        Request<GetLoginProfileRequest> request = GetLoginProfileRequestMarshaller.getInstance().marshall(getLoginProfileRequest);
+        return invoke(request, GetLoginProfileResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1039,8 +1046,8 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public ListGroupsForUserResult listGroupsForUser(ListGroupsForUserRequest listGroupsForUserRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ListGroupsForUserRequest> request = new ListGroupsForUserRequestMarshaller().marshall(listGroupsForUserRequest);
-        return invoke(request, new ListGroupsForUserResultStaxUnmarshaller());
+        Request<ListGroupsForUserRequest> request = ListGroupsForUserRequestMarshaller.getInstance().marshall(listGroupsForUserRequest);
+        return invoke(request, ListGroupsForUserResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1074,8 +1081,8 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public CreateGroupResult createGroup(CreateGroupRequest createGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateGroupRequest> request = new CreateGroupRequestMarshaller().marshall(createGroupRequest);
-        return invoke(request, new CreateGroupResultStaxUnmarshaller());
+        Request<CreateGroupRequest> request = CreateGroupRequestMarshaller.getInstance().marshall(createGroupRequest);
+        return invoke(request, CreateGroupResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1121,8 +1128,8 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public UploadServerCertificateResult uploadServerCertificate(UploadServerCertificateRequest uploadServerCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<UploadServerCertificateRequest> request = new UploadServerCertificateRequestMarshaller().marshall(uploadServerCertificateRequest);
-        return invoke(request, new UploadServerCertificateResultStaxUnmarshaller());
+        Request<UploadServerCertificateRequest> request = UploadServerCertificateRequestMarshaller.getInstance().marshall(uploadServerCertificateRequest);
+        return invoke(request, UploadServerCertificateResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1150,7 +1157,7 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public void createAccountAlias(CreateAccountAliasRequest createAccountAliasRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateAccountAliasRequest> request = new CreateAccountAliasRequestMarshaller().marshall(createAccountAliasRequest);
+        Request<CreateAccountAliasRequest> request = CreateAccountAliasRequestMarshaller.getInstance().marshall(createAccountAliasRequest);
         invoke(request, null);
     }
     
@@ -1181,8 +1188,8 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public GetGroupPolicyResult getGroupPolicy(GetGroupPolicyRequest getGroupPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<GetGroupPolicyRequest> request = new GetGroupPolicyRequestMarshaller().marshall(getGroupPolicyRequest);
-        return invoke(request, new GetGroupPolicyResultStaxUnmarshaller());
+        Request<GetGroupPolicyRequest> request = GetGroupPolicyRequestMarshaller.getInstance().marshall(getGroupPolicyRequest);
+        return invoke(request, GetGroupPolicyResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1207,7 +1214,7 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public void deleteUser(DeleteUserRequest deleteUserRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteUserRequest> request = new DeleteUserRequestMarshaller().marshall(deleteUserRequest);
+        Request<DeleteUserRequest> request = DeleteUserRequestMarshaller.getInstance().marshall(deleteUserRequest);
         invoke(request, null);
     }
     
@@ -1234,7 +1241,7 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public void deactivateMFADevice(DeactivateMFADeviceRequest deactivateMFADeviceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeactivateMFADeviceRequest> request = new DeactivateMFADeviceRequestMarshaller().marshall(deactivateMFADeviceRequest);
+        Request<DeactivateMFADeviceRequest> request = DeactivateMFADeviceRequestMarshaller.getInstance().marshall(deactivateMFADeviceRequest);
         invoke(request, null);
     }
     
@@ -1259,7 +1266,7 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public void removeUserFromGroup(RemoveUserFromGroupRequest removeUserFromGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<RemoveUserFromGroupRequest> request = new RemoveUserFromGroupRequestMarshaller().marshall(removeUserFromGroupRequest);
+        Request<RemoveUserFromGroupRequest> request = RemoveUserFromGroupRequestMarshaller.getInstance().marshall(removeUserFromGroupRequest);
         invoke(request, null);
     }
     
@@ -1295,7 +1302,7 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public void deleteServerCertificate(DeleteServerCertificateRequest deleteServerCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteServerCertificateRequest> request = new DeleteServerCertificateRequestMarshaller().marshall(deleteServerCertificateRequest);
+        Request<DeleteServerCertificateRequest> request = DeleteServerCertificateRequestMarshaller.getInstance().marshall(deleteServerCertificateRequest);
         invoke(request, null);
     }
     
@@ -1328,8 +1335,8 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public ListGroupPoliciesResult listGroupPolicies(ListGroupPoliciesRequest listGroupPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ListGroupPoliciesRequest> request = new ListGroupPoliciesRequestMarshaller().marshall(listGroupPoliciesRequest);
-        return invoke(request, new ListGroupPoliciesResultStaxUnmarshaller());
+        Request<ListGroupPoliciesRequest> request = ListGroupPoliciesRequestMarshaller.getInstance().marshall(listGroupPoliciesRequest);
+        return invoke(request, ListGroupPoliciesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1362,8 +1369,8 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public CreateLoginProfileResult createLoginProfile(CreateLoginProfileRequest createLoginProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateLoginProfileRequest> request = new CreateLoginProfileRequestMarshaller().marshall(createLoginProfileRequest);
-        return invoke(request, new CreateLoginProfileResultStaxUnmarshaller());
+        Request<CreateLoginProfileRequest> request = CreateLoginProfileRequestMarshaller.getInstance().marshall(createLoginProfileRequest);
+        return invoke(request, CreateLoginProfileResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1414,8 +1421,8 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public CreateAccessKeyResult createAccessKey(CreateAccessKeyRequest createAccessKeyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateAccessKeyRequest> request = new CreateAccessKeyRequestMarshaller().marshall(createAccessKeyRequest);
-        return invoke(request, new CreateAccessKeyResultStaxUnmarshaller());
+        Request<CreateAccessKeyRequest> request = CreateAccessKeyRequestMarshaller.getInstance().marshall(createAccessKeyRequest);
+        return invoke(request, CreateAccessKeyResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1446,8 +1453,8 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public GetUserResult getUser(GetUserRequest getUserRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<GetUserRequest> request = new GetUserRequestMarshaller().marshall(getUserRequest);
-        return invoke(request, new GetUserResultStaxUnmarshaller());
+        Request<GetUserRequest> request = GetUserRequestMarshaller.getInstance().marshall(getUserRequest);
+        return invoke(request, GetUserResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1472,7 +1479,7 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public void resyncMFADevice(ResyncMFADeviceRequest resyncMFADeviceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ResyncMFADeviceRequest> request = new ResyncMFADeviceRequestMarshaller().marshall(resyncMFADeviceRequest);
+        Request<ResyncMFADeviceRequest> request = ResyncMFADeviceRequestMarshaller.getInstance().marshall(resyncMFADeviceRequest);
         invoke(request, null);
     }
     
@@ -1503,8 +1510,8 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public ListMFADevicesResult listMFADevices(ListMFADevicesRequest listMFADevicesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ListMFADevicesRequest> request = new ListMFADevicesRequestMarshaller().marshall(listMFADevicesRequest);
-        return invoke(request, new ListMFADevicesResultStaxUnmarshaller());
+        Request<ListMFADevicesRequest> request = ListMFADevicesRequestMarshaller.getInstance().marshall(listMFADevicesRequest);
+        return invoke(request, ListMFADevicesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1543,7 +1550,7 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public void updateAccessKey(UpdateAccessKeyRequest updateAccessKeyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<UpdateAccessKeyRequest> request = new UpdateAccessKeyRequestMarshaller().marshall(updateAccessKeyRequest);
+        Request<UpdateAccessKeyRequest> request = UpdateAccessKeyRequestMarshaller.getInstance().marshall(updateAccessKeyRequest);
         invoke(request, null);
     }
     
@@ -1577,8 +1584,8 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public GetAccountSummaryResult getAccountSummary(GetAccountSummaryRequest getAccountSummaryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<GetAccountSummaryRequest> request = new GetAccountSummaryRequestMarshaller().marshall(getAccountSummaryRequest);
-        return invoke(request, new GetAccountSummaryResultStaxUnmarshaller());
+        Request<GetAccountSummaryRequest> request = GetAccountSummaryRequestMarshaller.getInstance().marshall(getAccountSummaryRequest);
+        return invoke(request, GetAccountSummaryResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1602,7 +1609,7 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public void addUserToGroup(AddUserToGroupRequest addUserToGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<AddUserToGroupRequest> request = new AddUserToGroupRequestMarshaller().marshall(addUserToGroupRequest);
+        Request<AddUserToGroupRequest> request = AddUserToGroupRequestMarshaller.getInstance().marshall(addUserToGroupRequest);
         invoke(request, null);
     }
     
@@ -1631,8 +1638,8 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public GetGroupResult getGroup(GetGroupRequest getGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<GetGroupRequest> request = new GetGroupRequestMarshaller().marshall(getGroupRequest);
-        return invoke(request, new GetGroupResultStaxUnmarshaller());
+        Request<GetGroupRequest> request = GetGroupRequestMarshaller.getInstance().marshall(getGroupRequest);
+        return invoke(request, GetGroupResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1666,8 +1673,8 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public ListAccountAliasesResult listAccountAliases(ListAccountAliasesRequest listAccountAliasesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ListAccountAliasesRequest> request = new ListAccountAliasesRequestMarshaller().marshall(listAccountAliasesRequest);
-        return invoke(request, new ListAccountAliasesResultStaxUnmarshaller());
+        Request<ListAccountAliasesRequest> request = ListAccountAliasesRequestMarshaller.getInstance().marshall(listAccountAliasesRequest);
+        return invoke(request, ListAccountAliasesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1692,7 +1699,7 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
      */
     public void deleteGroup(DeleteGroupRequest deleteGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteGroupRequest> request = new DeleteGroupRequestMarshaller().marshall(deleteGroupRequest);
+        Request<DeleteGroupRequest> request = DeleteGroupRequestMarshaller.getInstance().marshall(deleteGroupRequest);
         invoke(request, null);
     }
     
@@ -2020,7 +2027,6 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient imple
 
         
         StaxResponseHandler<X> responseHandler = new StaxResponseHandler<X>(unmarshaller);
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
 
         ExecutionContext executionContext = createExecutionContext();
         return (X)client.execute(request, responseHandler, errorResponseHandler, executionContext);
@@ -71,9 +71,8 @@ public class AccessKeyMetadataStaxUnmarshaller implements Unmarshaller<AccessKey
         }
     }
 
-    private static AccessKeyMetadataStaxUnmarshaller instance;
+    private static final AccessKeyMetadataStaxUnmarshaller instance = new AccessKeyMetadataStaxUnmarshaller();
     public static AccessKeyMetadataStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new AccessKeyMetadataStaxUnmarshaller();
         return instance;
     }
 }
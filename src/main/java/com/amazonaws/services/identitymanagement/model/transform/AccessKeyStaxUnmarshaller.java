@@ -75,9 +75,8 @@ public class AccessKeyStaxUnmarshaller implements Unmarshaller<AccessKey, StaxUn
         }
     }
 
-    private static AccessKeyStaxUnmarshaller instance;
+    private static final AccessKeyStaxUnmarshaller instance = new AccessKeyStaxUnmarshaller();
     public static AccessKeyStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new AccessKeyStaxUnmarshaller();
         return instance;
     }
 }
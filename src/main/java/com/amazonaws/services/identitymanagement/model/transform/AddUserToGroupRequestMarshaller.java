@@ -47,4 +47,9 @@ public class AddUserToGroupRequestMarshaller implements Marshaller<Request<AddUs
 
         return request;
     }
+
+    private static final AddUserToGroupRequestMarshaller instance = new AddUserToGroupRequestMarshaller();
+    public static AddUserToGroupRequestMarshaller getInstance() {
+        return instance;
+    }
 }
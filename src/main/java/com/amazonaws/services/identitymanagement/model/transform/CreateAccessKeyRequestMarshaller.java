@@ -42,4 +42,9 @@ public class CreateAccessKeyRequestMarshaller implements Marshaller<Request<Crea
 
         return request;
     }
+
+    private static final CreateAccessKeyRequestMarshaller instance = new CreateAccessKeyRequestMarshaller();
+    public static CreateAccessKeyRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class CreateAccessKeyResultStaxUnmarshaller implements Unmarshaller<Creat
         }
     }
 
-    private static CreateAccessKeyResultStaxUnmarshaller instance;
+    private static final CreateAccessKeyResultStaxUnmarshaller instance = new CreateAccessKeyResultStaxUnmarshaller();
     public static CreateAccessKeyResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateAccessKeyResultStaxUnmarshaller();
         return instance;
     }
 }
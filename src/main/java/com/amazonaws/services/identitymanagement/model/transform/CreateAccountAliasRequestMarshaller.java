@@ -42,4 +42,9 @@ public class CreateAccountAliasRequestMarshaller implements Marshaller<Request<C
 
         return request;
     }
+
+    private static final CreateAccountAliasRequestMarshaller instance = new CreateAccountAliasRequestMarshaller();
+    public static CreateAccountAliasRequestMarshaller getInstance() {
+        return instance;
+    }
 }
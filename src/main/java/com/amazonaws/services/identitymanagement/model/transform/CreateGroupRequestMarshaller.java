@@ -47,4 +47,9 @@ public class CreateGroupRequestMarshaller implements Marshaller<Request<CreateGr
 
         return request;
     }
+
+    private static final CreateGroupRequestMarshaller instance = new CreateGroupRequestMarshaller();
+    public static CreateGroupRequestMarshaller getInstance() {
+        return instance;
+    }
 }
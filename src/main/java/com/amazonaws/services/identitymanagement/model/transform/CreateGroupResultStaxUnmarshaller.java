@@ -59,9 +59,8 @@ public class CreateGroupResultStaxUnmarshaller implements Unmarshaller<CreateGro
         }
     }
 
-    private static CreateGroupResultStaxUnmarshaller instance;
+    private static final CreateGroupResultStaxUnmarshaller instance = new CreateGroupResultStaxUnmarshaller();
     public static CreateGroupResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateGroupResultStaxUnmarshaller();
         return instance;
     }
 }
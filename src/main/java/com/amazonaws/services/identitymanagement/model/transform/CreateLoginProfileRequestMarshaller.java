@@ -47,4 +47,9 @@ public class CreateLoginProfileRequestMarshaller implements Marshaller<Request<C
 
         return request;
     }
+
+    private static final CreateLoginProfileRequestMarshaller instance = new CreateLoginProfileRequestMarshaller();
+    public static CreateLoginProfileRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class CreateLoginProfileResultStaxUnmarshaller implements Unmarshaller<Cr
         }
     }
 
-    private static CreateLoginProfileResultStaxUnmarshaller instance;
+    private static final CreateLoginProfileResultStaxUnmarshaller instance = new CreateLoginProfileResultStaxUnmarshaller();
     public static CreateLoginProfileResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateLoginProfileResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -47,4 +47,9 @@ public class CreateUserRequestMarshaller implements Marshaller<Request<CreateUse
 
         return request;
     }
+
+    private static final CreateUserRequestMarshaller instance = new CreateUserRequestMarshaller();
+    public static CreateUserRequestMarshaller getInstance() {
+        return instance;
+    }
 }
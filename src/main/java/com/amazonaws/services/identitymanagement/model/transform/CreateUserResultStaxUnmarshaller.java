@@ -59,9 +59,8 @@ public class CreateUserResultStaxUnmarshaller implements Unmarshaller<CreateUser
         }
     }
 
-    private static CreateUserResultStaxUnmarshaller instance;
+    private static final CreateUserResultStaxUnmarshaller instance = new CreateUserResultStaxUnmarshaller();
     public static CreateUserResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateUserResultStaxUnmarshaller();
         return instance;
     }
 }
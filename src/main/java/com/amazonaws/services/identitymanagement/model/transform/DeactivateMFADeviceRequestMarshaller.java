@@ -47,4 +47,9 @@ public class DeactivateMFADeviceRequestMarshaller implements Marshaller<Request<
 
         return request;
     }
+
+    private static final DeactivateMFADeviceRequestMarshaller instance = new DeactivateMFADeviceRequestMarshaller();
+    public static DeactivateMFADeviceRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -47,4 +47,9 @@ public class DeleteAccessKeyRequestMarshaller implements Marshaller<Request<Dele
 
         return request;
     }
+
+    private static final DeleteAccessKeyRequestMarshaller instance = new DeleteAccessKeyRequestMarshaller();
+    public static DeleteAccessKeyRequestMarshaller getInstance() {
+        return instance;
+    }
 }
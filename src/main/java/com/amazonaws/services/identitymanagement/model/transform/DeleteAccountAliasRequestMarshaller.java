@@ -42,4 +42,9 @@ public class DeleteAccountAliasRequestMarshaller implements Marshaller<Request<D
 
         return request;
     }
+
+    private static final DeleteAccountAliasRequestMarshaller instance = new DeleteAccountAliasRequestMarshaller();
+    public static DeleteAccountAliasRequestMarshaller getInstance() {
+        return instance;
+    }
 }
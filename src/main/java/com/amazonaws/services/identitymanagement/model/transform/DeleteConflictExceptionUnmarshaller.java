@@ -25,7 +25,7 @@ import com.amazonaws.services.identitymanagement.model.DeleteConflictException;
 public class DeleteConflictExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public DeleteConflictExceptionUnmarshaller() {
-        super(DeleteConflictException.class);
+        super(DeleteConflictException.class, "DeleteConflict");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -47,4 +47,9 @@ public class DeleteGroupPolicyRequestMarshaller implements Marshaller<Request<De
 
         return request;
     }
+
+    private static final DeleteGroupPolicyRequestMarshaller instance = new DeleteGroupPolicyRequestMarshaller();
+    public static DeleteGroupPolicyRequestMarshaller getInstance() {
+        return instance;
+    }
 }
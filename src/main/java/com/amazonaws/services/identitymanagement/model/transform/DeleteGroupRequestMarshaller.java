@@ -42,4 +42,9 @@ public class DeleteGroupRequestMarshaller implements Marshaller<Request<DeleteGr
 
         return request;
     }
+
+    private static final DeleteGroupRequestMarshaller instance = new DeleteGroupRequestMarshaller();
+    public static DeleteGroupRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -42,4 +42,9 @@ public class DeleteLoginProfileRequestMarshaller implements Marshaller<Request<D
 
         return request;
     }
+
+    private static final DeleteLoginProfileRequestMarshaller instance = new DeleteLoginProfileRequestMarshaller();
+    public static DeleteLoginProfileRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -42,4 +42,9 @@ public class DeleteServerCertificateRequestMarshaller implements Marshaller<Requ
 
         return request;
     }
+
+    private static final DeleteServerCertificateRequestMarshaller instance = new DeleteServerCertificateRequestMarshaller();
+    public static DeleteServerCertificateRequestMarshaller getInstance() {
+        return instance;
+    }
 }
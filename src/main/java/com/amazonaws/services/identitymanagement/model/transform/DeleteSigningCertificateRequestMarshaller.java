@@ -47,4 +47,9 @@ public class DeleteSigningCertificateRequestMarshaller implements Marshaller<Req
 
         return request;
     }
+
+    private static final DeleteSigningCertificateRequestMarshaller instance = new DeleteSigningCertificateRequestMarshaller();
+    public static DeleteSigningCertificateRequestMarshaller getInstance() {
+        return instance;
+    }
 }
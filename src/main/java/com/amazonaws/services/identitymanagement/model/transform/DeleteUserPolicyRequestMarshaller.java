@@ -47,4 +47,9 @@ public class DeleteUserPolicyRequestMarshaller implements Marshaller<Request<Del
 
         return request;
     }
+
+    private static final DeleteUserPolicyRequestMarshaller instance = new DeleteUserPolicyRequestMarshaller();
+    public static DeleteUserPolicyRequestMarshaller getInstance() {
+        return instance;
+    }
 }
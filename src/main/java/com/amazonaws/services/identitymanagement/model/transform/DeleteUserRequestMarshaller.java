@@ -42,4 +42,9 @@ public class DeleteUserRequestMarshaller implements Marshaller<Request<DeleteUse
 
         return request;
     }
+
+    private static final DeleteUserRequestMarshaller instance = new DeleteUserRequestMarshaller();
+    public static DeleteUserRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.identitymanagement.model.DuplicateCertificateExcep
 public class DuplicateCertificateExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public DuplicateCertificateExceptionUnmarshaller() {
-        super(DuplicateCertificateException.class);
+        super(DuplicateCertificateException.class, "DuplicateCertificate");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -57,4 +57,9 @@ public class EnableMFADeviceRequestMarshaller implements Marshaller<Request<Enab
 
         return request;
     }
+
+    private static final EnableMFADeviceRequestMarshaller instance = new EnableMFADeviceRequestMarshaller();
+    public static EnableMFADeviceRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.identitymanagement.model.EntityAlreadyExistsExcept
 public class EntityAlreadyExistsExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public EntityAlreadyExistsExceptionUnmarshaller() {
-        super(EntityAlreadyExistsException.class);
+        super(EntityAlreadyExistsException.class, "EntityAlreadyExists");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.identitymanagement.model.EntityTemporarilyUnmodifi
 public class EntityTemporarilyUnmodifiableExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public EntityTemporarilyUnmodifiableExceptionUnmarshaller() {
-        super(EntityTemporarilyUnmodifiableException.class);
+        super(EntityTemporarilyUnmodifiableException.class, "EntityTemporarilyUnmodifiable");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -37,4 +37,9 @@ public class GetAccountSummaryRequestMarshaller implements Marshaller<Request<Ge
 
         return request;
     }
+
+    private static final GetAccountSummaryRequestMarshaller instance = new GetAccountSummaryRequestMarshaller();
+    public static GetAccountSummaryRequestMarshaller getInstance() {
+        return instance;
+    }
 }
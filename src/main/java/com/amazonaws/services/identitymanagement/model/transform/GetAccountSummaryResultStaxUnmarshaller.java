@@ -61,9 +61,8 @@ public class GetAccountSummaryResultStaxUnmarshaller implements Unmarshaller<Get
             }
         }
 
-        private static SummaryMapMapEntryUnmarshaller instance;
+        private static final SummaryMapMapEntryUnmarshaller instance = new SummaryMapMapEntryUnmarshaller();
         public static SummaryMapMapEntryUnmarshaller getInstance() {
-            if (instance == null) instance = new SummaryMapMapEntryUnmarshaller();
             return instance;
         }
 
@@ -96,9 +95,8 @@ public class GetAccountSummaryResultStaxUnmarshaller implements Unmarshaller<Get
         }
     }
 
-    private static GetAccountSummaryResultStaxUnmarshaller instance;
+    private static final GetAccountSummaryResultStaxUnmarshaller instance = new GetAccountSummaryResultStaxUnmarshaller();
     public static GetAccountSummaryResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new GetAccountSummaryResultStaxUnmarshaller();
         return instance;
     }
 }
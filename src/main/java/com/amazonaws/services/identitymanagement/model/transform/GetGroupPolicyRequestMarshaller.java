@@ -47,4 +47,9 @@ public class GetGroupPolicyRequestMarshaller implements Marshaller<Request<GetGr
 
         return request;
     }
+
+    private static final GetGroupPolicyRequestMarshaller instance = new GetGroupPolicyRequestMarshaller();
+    public static GetGroupPolicyRequestMarshaller getInstance() {
+        return instance;
+    }
 }
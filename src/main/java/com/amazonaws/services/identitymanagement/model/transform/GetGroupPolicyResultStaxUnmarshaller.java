@@ -67,9 +67,8 @@ public class GetGroupPolicyResultStaxUnmarshaller implements Unmarshaller<GetGro
         }
     }
 
-    private static GetGroupPolicyResultStaxUnmarshaller instance;
+    private static final GetGroupPolicyResultStaxUnmarshaller instance = new GetGroupPolicyResultStaxUnmarshaller();
     public static GetGroupPolicyResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new GetGroupPolicyResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -52,4 +52,9 @@ public class GetGroupRequestMarshaller implements Marshaller<Request<GetGroupReq
 
         return request;
     }
+
+    private static final GetGroupRequestMarshaller instance = new GetGroupRequestMarshaller();
+    public static GetGroupRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -71,9 +71,8 @@ public class GetGroupResultStaxUnmarshaller implements Unmarshaller<GetGroupResu
         }
     }
 
-    private static GetGroupResultStaxUnmarshaller instance;
+    private static final GetGroupResultStaxUnmarshaller instance = new GetGroupResultStaxUnmarshaller();
     public static GetGroupResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new GetGroupResultStaxUnmarshaller();
         return instance;
     }
 }
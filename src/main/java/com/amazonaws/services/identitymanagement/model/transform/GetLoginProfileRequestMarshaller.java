@@ -42,4 +42,9 @@ public class GetLoginProfileRequestMarshaller implements Marshaller<Request<GetL
 
         return request;
     }
+
+    private static final GetLoginProfileRequestMarshaller instance = new GetLoginProfileRequestMarshaller();
+    public static GetLoginProfileRequestMarshaller getInstance() {
+        return instance;
+    }
 }
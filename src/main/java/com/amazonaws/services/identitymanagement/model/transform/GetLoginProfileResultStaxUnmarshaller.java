@@ -59,9 +59,8 @@ public class GetLoginProfileResultStaxUnmarshaller implements Unmarshaller<GetLo
         }
     }
 
-    private static GetLoginProfileResultStaxUnmarshaller instance;
+    private static final GetLoginProfileResultStaxUnmarshaller instance = new GetLoginProfileResultStaxUnmarshaller();
     public static GetLoginProfileResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new GetLoginProfileResultStaxUnmarshaller();
         return instance;
     }
 }
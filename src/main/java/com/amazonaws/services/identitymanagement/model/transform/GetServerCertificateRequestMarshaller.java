@@ -42,4 +42,9 @@ public class GetServerCertificateRequestMarshaller implements Marshaller<Request
 
         return request;
     }
+
+    private static final GetServerCertificateRequestMarshaller instance = new GetServerCertificateRequestMarshaller();
+    public static GetServerCertificateRequestMarshaller getInstance() {
+        return instance;
+    }
 }
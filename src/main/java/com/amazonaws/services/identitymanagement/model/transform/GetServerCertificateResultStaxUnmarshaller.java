@@ -59,9 +59,8 @@ public class GetServerCertificateResultStaxUnmarshaller implements Unmarshaller<
         }
     }
 
-    private static GetServerCertificateResultStaxUnmarshaller instance;
+    private static final GetServerCertificateResultStaxUnmarshaller instance = new GetServerCertificateResultStaxUnmarshaller();
     public static GetServerCertificateResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new GetServerCertificateResultStaxUnmarshaller();
         return instance;
     }
 }
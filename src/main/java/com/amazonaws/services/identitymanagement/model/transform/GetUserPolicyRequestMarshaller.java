@@ -47,4 +47,9 @@ public class GetUserPolicyRequestMarshaller implements Marshaller<Request<GetUse
 
         return request;
     }
+
+    private static final GetUserPolicyRequestMarshaller instance = new GetUserPolicyRequestMarshaller();
+    public static GetUserPolicyRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -67,9 +67,8 @@ public class GetUserPolicyResultStaxUnmarshaller implements Unmarshaller<GetUser
         }
     }
 
-    private static GetUserPolicyResultStaxUnmarshaller instance;
+    private static final GetUserPolicyResultStaxUnmarshaller instance = new GetUserPolicyResultStaxUnmarshaller();
     public static GetUserPolicyResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new GetUserPolicyResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -42,4 +42,9 @@ public class GetUserRequestMarshaller implements Marshaller<Request<GetUserReque
 
         return request;
     }
+
+    private static final GetUserRequestMarshaller instance = new GetUserRequestMarshaller();
+    public static GetUserRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class GetUserResultStaxUnmarshaller implements Unmarshaller<GetUserResult
         }
     }
 
-    private static GetUserResultStaxUnmarshaller instance;
+    private static final GetUserResultStaxUnmarshaller instance = new GetUserResultStaxUnmarshaller();
     public static GetUserResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new GetUserResultStaxUnmarshaller();
         return instance;
     }
 }
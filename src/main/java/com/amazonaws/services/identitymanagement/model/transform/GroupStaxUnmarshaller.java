@@ -75,9 +75,8 @@ public class GroupStaxUnmarshaller implements Unmarshaller<Group, StaxUnmarshall
         }
     }
 
-    private static GroupStaxUnmarshaller instance;
+    private static final GroupStaxUnmarshaller instance = new GroupStaxUnmarshaller();
     public static GroupStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new GroupStaxUnmarshaller();
         return instance;
     }
 }
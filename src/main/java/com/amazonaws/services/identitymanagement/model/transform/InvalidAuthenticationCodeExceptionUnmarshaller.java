@@ -25,7 +25,7 @@ import com.amazonaws.services.identitymanagement.model.InvalidAuthenticationCode
 public class InvalidAuthenticationCodeExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidAuthenticationCodeExceptionUnmarshaller() {
-        super(InvalidAuthenticationCodeException.class);
+        super(InvalidAuthenticationCodeException.class, "InvalidAuthenticationCode");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
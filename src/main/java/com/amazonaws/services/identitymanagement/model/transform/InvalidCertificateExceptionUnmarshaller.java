@@ -25,7 +25,7 @@ import com.amazonaws.services.identitymanagement.model.InvalidCertificateExcepti
 public class InvalidCertificateExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidCertificateExceptionUnmarshaller() {
-        super(InvalidCertificateException.class);
+        super(InvalidCertificateException.class, "InvalidCertificate");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.identitymanagement.model.KeyPairMismatchException;
 public class KeyPairMismatchExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public KeyPairMismatchExceptionUnmarshaller() {
-        super(KeyPairMismatchException.class);
+        super(KeyPairMismatchException.class, "KeyPairMismatch");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
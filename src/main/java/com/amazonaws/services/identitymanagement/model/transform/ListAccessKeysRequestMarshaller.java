@@ -52,4 +52,9 @@ public class ListAccessKeysRequestMarshaller implements Marshaller<Request<ListA
 
         return request;
     }
+
+    private static final ListAccessKeysRequestMarshaller instance = new ListAccessKeysRequestMarshaller();
+    public static ListAccessKeysRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -67,9 +67,8 @@ public class ListAccessKeysResultStaxUnmarshaller implements Unmarshaller<ListAc
         }
     }
 
-    private static ListAccessKeysResultStaxUnmarshaller instance;
+    private static final ListAccessKeysResultStaxUnmarshaller instance = new ListAccessKeysResultStaxUnmarshaller();
     public static ListAccessKeysResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ListAccessKeysResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -47,4 +47,9 @@ public class ListAccountAliasesRequestMarshaller implements Marshaller<Request<L
 
         return request;
     }
+
+    private static final ListAccountAliasesRequestMarshaller instance = new ListAccountAliasesRequestMarshaller();
+    public static ListAccountAliasesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
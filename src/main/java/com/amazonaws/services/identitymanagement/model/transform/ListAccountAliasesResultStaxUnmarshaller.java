@@ -67,9 +67,8 @@ public class ListAccountAliasesResultStaxUnmarshaller implements Unmarshaller<Li
         }
     }
 
-    private static ListAccountAliasesResultStaxUnmarshaller instance;
+    private static final ListAccountAliasesResultStaxUnmarshaller instance = new ListAccountAliasesResultStaxUnmarshaller();
     public static ListAccountAliasesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ListAccountAliasesResultStaxUnmarshaller();
         return instance;
     }
 }
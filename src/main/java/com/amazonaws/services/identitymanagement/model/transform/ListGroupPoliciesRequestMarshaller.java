@@ -52,4 +52,9 @@ public class ListGroupPoliciesRequestMarshaller implements Marshaller<Request<Li
 
         return request;
     }
+
+    private static final ListGroupPoliciesRequestMarshaller instance = new ListGroupPoliciesRequestMarshaller();
+    public static ListGroupPoliciesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -67,9 +67,8 @@ public class ListGroupPoliciesResultStaxUnmarshaller implements Unmarshaller<Lis
         }
     }
 
-    private static ListGroupPoliciesResultStaxUnmarshaller instance;
+    private static final ListGroupPoliciesResultStaxUnmarshaller instance = new ListGroupPoliciesResultStaxUnmarshaller();
     public static ListGroupPoliciesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ListGroupPoliciesResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -52,4 +52,9 @@ public class ListGroupsForUserRequestMarshaller implements Marshaller<Request<Li
 
         return request;
     }
+
+    private static final ListGroupsForUserRequestMarshaller instance = new ListGroupsForUserRequestMarshaller();
+    public static ListGroupsForUserRequestMarshaller getInstance() {
+        return instance;
+    }
 }
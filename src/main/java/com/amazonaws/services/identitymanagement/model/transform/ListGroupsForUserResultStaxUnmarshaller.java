@@ -67,9 +67,8 @@ public class ListGroupsForUserResultStaxUnmarshaller implements Unmarshaller<Lis
         }
     }
 
-    private static ListGroupsForUserResultStaxUnmarshaller instance;
+    private static final ListGroupsForUserResultStaxUnmarshaller instance = new ListGroupsForUserResultStaxUnmarshaller();
     public static ListGroupsForUserResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ListGroupsForUserResultStaxUnmarshaller();
         return instance;
     }
 }
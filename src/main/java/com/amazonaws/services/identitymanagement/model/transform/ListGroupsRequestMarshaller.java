@@ -52,4 +52,9 @@ public class ListGroupsRequestMarshaller implements Marshaller<Request<ListGroup
 
         return request;
     }
+
+    private static final ListGroupsRequestMarshaller instance = new ListGroupsRequestMarshaller();
+    public static ListGroupsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -67,9 +67,8 @@ public class ListGroupsResultStaxUnmarshaller implements Unmarshaller<ListGroups
         }
     }
 
-    private static ListGroupsResultStaxUnmarshaller instance;
+    private static final ListGroupsResultStaxUnmarshaller instance = new ListGroupsResultStaxUnmarshaller();
     public static ListGroupsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ListGroupsResultStaxUnmarshaller();
         return instance;
     }
 }
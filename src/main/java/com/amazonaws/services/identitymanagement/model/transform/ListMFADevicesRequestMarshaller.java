@@ -52,4 +52,9 @@ public class ListMFADevicesRequestMarshaller implements Marshaller<Request<ListM
 
         return request;
     }
+
+    private static final ListMFADevicesRequestMarshaller instance = new ListMFADevicesRequestMarshaller();
+    public static ListMFADevicesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -67,9 +67,8 @@ public class ListMFADevicesResultStaxUnmarshaller implements Unmarshaller<ListMF
         }
     }
 
-    private static ListMFADevicesResultStaxUnmarshaller instance;
+    private static final ListMFADevicesResultStaxUnmarshaller instance = new ListMFADevicesResultStaxUnmarshaller();
     public static ListMFADevicesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ListMFADevicesResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -52,4 +52,9 @@ public class ListServerCertificatesRequestMarshaller implements Marshaller<Reque
 
         return request;
     }
+
+    private static final ListServerCertificatesRequestMarshaller instance = new ListServerCertificatesRequestMarshaller();
+    public static ListServerCertificatesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
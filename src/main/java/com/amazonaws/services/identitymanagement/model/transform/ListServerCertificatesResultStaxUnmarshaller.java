@@ -67,9 +67,8 @@ public class ListServerCertificatesResultStaxUnmarshaller implements Unmarshalle
         }
     }
 
-    private static ListServerCertificatesResultStaxUnmarshaller instance;
+    private static final ListServerCertificatesResultStaxUnmarshaller instance = new ListServerCertificatesResultStaxUnmarshaller();
     public static ListServerCertificatesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ListServerCertificatesResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -52,4 +52,9 @@ public class ListSigningCertificatesRequestMarshaller implements Marshaller<Requ
 
         return request;
     }
+
+    private static final ListSigningCertificatesRequestMarshaller instance = new ListSigningCertificatesRequestMarshaller();
+    public static ListSigningCertificatesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -67,9 +67,8 @@ public class ListSigningCertificatesResultStaxUnmarshaller implements Unmarshall
         }
     }
 
-    private static ListSigningCertificatesResultStaxUnmarshaller instance;
+    private static final ListSigningCertificatesResultStaxUnmarshaller instance = new ListSigningCertificatesResultStaxUnmarshaller();
     public static ListSigningCertificatesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ListSigningCertificatesResultStaxUnmarshaller();
         return instance;
     }
 }
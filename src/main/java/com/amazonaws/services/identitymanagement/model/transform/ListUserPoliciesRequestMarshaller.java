@@ -52,4 +52,9 @@ public class ListUserPoliciesRequestMarshaller implements Marshaller<Request<Lis
 
         return request;
     }
+
+    private static final ListUserPoliciesRequestMarshaller instance = new ListUserPoliciesRequestMarshaller();
+    public static ListUserPoliciesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
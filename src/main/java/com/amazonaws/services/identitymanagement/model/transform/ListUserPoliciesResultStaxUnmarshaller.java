@@ -67,9 +67,8 @@ public class ListUserPoliciesResultStaxUnmarshaller implements Unmarshaller<List
         }
     }
 
-    private static ListUserPoliciesResultStaxUnmarshaller instance;
+    private static final ListUserPoliciesResultStaxUnmarshaller instance = new ListUserPoliciesResultStaxUnmarshaller();
     public static ListUserPoliciesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ListUserPoliciesResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -52,4 +52,9 @@ public class ListUsersRequestMarshaller implements Marshaller<Request<ListUsersR
 
         return request;
     }
+
+    private static final ListUsersRequestMarshaller instance = new ListUsersRequestMarshaller();
+    public static ListUsersRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -67,9 +67,8 @@ public class ListUsersResultStaxUnmarshaller implements Unmarshaller<ListUsersRe
         }
     }
 
-    private static ListUsersResultStaxUnmarshaller instance;
+    private static final ListUsersResultStaxUnmarshaller instance = new ListUsersResultStaxUnmarshaller();
     public static ListUsersResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ListUsersResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -63,9 +63,8 @@ public class LoginProfileStaxUnmarshaller implements Unmarshaller<LoginProfile,
         }
     }
 
-    private static LoginProfileStaxUnmarshaller instance;
+    private static final LoginProfileStaxUnmarshaller instance = new LoginProfileStaxUnmarshaller();
     public static LoginProfileStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new LoginProfileStaxUnmarshaller();
         return instance;
     }
 }
@@ -67,9 +67,8 @@ public class MFADeviceStaxUnmarshaller implements Unmarshaller<MFADevice, StaxUn
         }
     }
 
-    private static MFADeviceStaxUnmarshaller instance;
+    private static final MFADeviceStaxUnmarshaller instance = new MFADeviceStaxUnmarshaller();
     public static MFADeviceStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new MFADeviceStaxUnmarshaller();
         return instance;
     }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.identitymanagement.model.MalformedCertificateExcep
 public class MalformedCertificateExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public MalformedCertificateExceptionUnmarshaller() {
-        super(MalformedCertificateException.class);
+        super(MalformedCertificateException.class, "MalformedCertificate");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
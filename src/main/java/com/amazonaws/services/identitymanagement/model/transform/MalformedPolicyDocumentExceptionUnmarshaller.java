@@ -25,7 +25,7 @@ import com.amazonaws.services.identitymanagement.model.MalformedPolicyDocumentEx
 public class MalformedPolicyDocumentExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public MalformedPolicyDocumentExceptionUnmarshaller() {
-        super(MalformedPolicyDocumentException.class);
+        super(MalformedPolicyDocumentException.class, "MalformedPolicyDocument");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.identitymanagement.model.NoSuchEntityException;
 public class NoSuchEntityExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public NoSuchEntityExceptionUnmarshaller() {
-        super(NoSuchEntityException.class);
+        super(NoSuchEntityException.class, "NoSuchEntity");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
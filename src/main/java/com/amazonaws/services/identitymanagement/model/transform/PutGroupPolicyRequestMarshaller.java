@@ -52,4 +52,9 @@ public class PutGroupPolicyRequestMarshaller implements Marshaller<Request<PutGr
 
         return request;
     }
+
+    private static final PutGroupPolicyRequestMarshaller instance = new PutGroupPolicyRequestMarshaller();
+    public static PutGroupPolicyRequestMarshaller getInstance() {
+        return instance;
+    }
 }
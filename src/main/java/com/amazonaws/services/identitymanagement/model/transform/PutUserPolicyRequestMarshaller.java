@@ -52,4 +52,9 @@ public class PutUserPolicyRequestMarshaller implements Marshaller<Request<PutUse
 
         return request;
     }
+
+    private static final PutUserPolicyRequestMarshaller instance = new PutUserPolicyRequestMarshaller();
+    public static PutUserPolicyRequestMarshaller getInstance() {
+        return instance;
+    }
 }
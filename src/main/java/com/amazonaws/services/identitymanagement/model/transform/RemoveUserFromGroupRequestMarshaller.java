@@ -47,4 +47,9 @@ public class RemoveUserFromGroupRequestMarshaller implements Marshaller<Request<
 
         return request;
     }
+
+    private static final RemoveUserFromGroupRequestMarshaller instance = new RemoveUserFromGroupRequestMarshaller();
+    public static RemoveUserFromGroupRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -57,4 +57,9 @@ public class ResyncMFADeviceRequestMarshaller implements Marshaller<Request<Resy
 
         return request;
     }
+
+    private static final ResyncMFADeviceRequestMarshaller instance = new ResyncMFADeviceRequestMarshaller();
+    public static ResyncMFADeviceRequestMarshaller getInstance() {
+        return instance;
+    }
 }
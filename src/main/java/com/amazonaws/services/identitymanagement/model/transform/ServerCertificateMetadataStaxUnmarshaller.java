@@ -75,9 +75,8 @@ public class ServerCertificateMetadataStaxUnmarshaller implements Unmarshaller<S
         }
     }
 
-    private static ServerCertificateMetadataStaxUnmarshaller instance;
+    private static final ServerCertificateMetadataStaxUnmarshaller instance = new ServerCertificateMetadataStaxUnmarshaller();
     public static ServerCertificateMetadataStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ServerCertificateMetadataStaxUnmarshaller();
         return instance;
     }
 }
@@ -67,9 +67,8 @@ public class ServerCertificateStaxUnmarshaller implements Unmarshaller<ServerCer
         }
     }
 
-    private static ServerCertificateStaxUnmarshaller instance;
+    private static final ServerCertificateStaxUnmarshaller instance = new ServerCertificateStaxUnmarshaller();
     public static ServerCertificateStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ServerCertificateStaxUnmarshaller();
         return instance;
     }
 }
@@ -75,9 +75,8 @@ public class SigningCertificateStaxUnmarshaller implements Unmarshaller<SigningC
         }
     }
 
-    private static SigningCertificateStaxUnmarshaller instance;
+    private static final SigningCertificateStaxUnmarshaller instance = new SigningCertificateStaxUnmarshaller();
     public static SigningCertificateStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new SigningCertificateStaxUnmarshaller();
         return instance;
     }
 }
@@ -52,4 +52,9 @@ public class UpdateAccessKeyRequestMarshaller implements Marshaller<Request<Upda
 
         return request;
     }
+
+    private static final UpdateAccessKeyRequestMarshaller instance = new UpdateAccessKeyRequestMarshaller();
+    public static UpdateAccessKeyRequestMarshaller getInstance() {
+        return instance;
+    }
 }
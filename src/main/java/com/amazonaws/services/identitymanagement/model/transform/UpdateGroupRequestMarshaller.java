@@ -52,4 +52,9 @@ public class UpdateGroupRequestMarshaller implements Marshaller<Request<UpdateGr
 
         return request;
     }
+
+    private static final UpdateGroupRequestMarshaller instance = new UpdateGroupRequestMarshaller();
+    public static UpdateGroupRequestMarshaller getInstance() {
+        return instance;
+    }
 }
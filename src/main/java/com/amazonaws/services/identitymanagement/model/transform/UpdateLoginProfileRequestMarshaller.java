@@ -47,4 +47,9 @@ public class UpdateLoginProfileRequestMarshaller implements Marshaller<Request<U
 
         return request;
     }
+
+    private static final UpdateLoginProfileRequestMarshaller instance = new UpdateLoginProfileRequestMarshaller();
+    public static UpdateLoginProfileRequestMarshaller getInstance() {
+        return instance;
+    }
 }
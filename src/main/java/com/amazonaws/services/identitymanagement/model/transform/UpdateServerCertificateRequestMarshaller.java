@@ -52,4 +52,9 @@ public class UpdateServerCertificateRequestMarshaller implements Marshaller<Requ
 
         return request;
     }
+
+    private static final UpdateServerCertificateRequestMarshaller instance = new UpdateServerCertificateRequestMarshaller();
+    public static UpdateServerCertificateRequestMarshaller getInstance() {
+        return instance;
+    }
 }
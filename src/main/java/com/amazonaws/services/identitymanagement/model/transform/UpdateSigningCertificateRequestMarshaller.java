@@ -52,4 +52,9 @@ public class UpdateSigningCertificateRequestMarshaller implements Marshaller<Req
 
         return request;
     }
+
+    private static final UpdateSigningCertificateRequestMarshaller instance = new UpdateSigningCertificateRequestMarshaller();
+    public static UpdateSigningCertificateRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -52,4 +52,9 @@ public class UpdateUserRequestMarshaller implements Marshaller<Request<UpdateUse
 
         return request;
     }
+
+    private static final UpdateUserRequestMarshaller instance = new UpdateUserRequestMarshaller();
+    public static UpdateUserRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -62,4 +62,9 @@ public class UploadServerCertificateRequestMarshaller implements Marshaller<Requ
 
         return request;
     }
+
+    private static final UploadServerCertificateRequestMarshaller instance = new UploadServerCertificateRequestMarshaller();
+    public static UploadServerCertificateRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class UploadServerCertificateResultStaxUnmarshaller implements Unmarshall
         }
     }
 
-    private static UploadServerCertificateResultStaxUnmarshaller instance;
+    private static final UploadServerCertificateResultStaxUnmarshaller instance = new UploadServerCertificateResultStaxUnmarshaller();
     public static UploadServerCertificateResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new UploadServerCertificateResultStaxUnmarshaller();
         return instance;
     }
 }
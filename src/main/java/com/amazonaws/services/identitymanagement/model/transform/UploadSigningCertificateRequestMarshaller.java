@@ -47,4 +47,9 @@ public class UploadSigningCertificateRequestMarshaller implements Marshaller<Req
 
         return request;
     }
+
+    private static final UploadSigningCertificateRequestMarshaller instance = new UploadSigningCertificateRequestMarshaller();
+    public static UploadSigningCertificateRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class UploadSigningCertificateResultStaxUnmarshaller implements Unmarshal
         }
     }
 
-    private static UploadSigningCertificateResultStaxUnmarshaller instance;
+    private static final UploadSigningCertificateResultStaxUnmarshaller instance = new UploadSigningCertificateResultStaxUnmarshaller();
     public static UploadSigningCertificateResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new UploadSigningCertificateResultStaxUnmarshaller();
         return instance;
     }
 }
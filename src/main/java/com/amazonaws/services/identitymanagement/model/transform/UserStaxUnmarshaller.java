@@ -75,9 +75,8 @@ public class UserStaxUnmarshaller implements Unmarshaller<User, StaxUnmarshaller
         }
     }
 
-    private static UserStaxUnmarshaller instance;
+    private static final UserStaxUnmarshaller instance = new UserStaxUnmarshaller();
     public static UserStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new UserStaxUnmarshaller();
         return instance;
     }
 }
@@ -16,13 +16,14 @@ package com.amazonaws.services.importexport;
             
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.util.InstrumentedThreadPoolExecutor;
 
 import com.amazonaws.services.importexport.model.*;
 
@@ -54,8 +55,9 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
     /**
      * Constructs a new asynchronous client to invoke service methods on 
      * AmazonImportExport using the specified AWS account credentials.
-     * Default client settings will be used, and a default cached thread pool will be 
-     * created for executing the asynchronous tasks.
+     * Default client settings will be used, and a default bounded thread pool will be 
+     * created for executing the asynchronous tasks (see
+     * {@link InstrumentedThreadPoolExecutor#newDefaultExecutor(String, ClientConfiguration)}).
      *
      * <p>
      * All calls made using this new client object are non-blocking, and will immediately
@@ -66,7 +68,7 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
      *                       when authenticating with AWS services.
      */                                      
     public AmazonImportExportAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newCachedThreadPool());
+        this(awsCredentials, InstrumentedThreadPoolExecutor.newDefaultExecutor("AmazonImportExportAsyncClient", new ClientConfiguration()));
     }
 
     /**
@@ -161,6 +163,54 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
 		});
     }
     
+    /**
+     * <p>
+     * This operation initiates the process of scheduling an upload or
+     * download of your data. You include in the request a manifest that
+     * describes the data transfer specifics. The response to the request
+     * includes a job ID, which you can use in other operations, a signature
+     * that you use to identify your storage device, and the address where
+     * you should ship your storage device.
+     * </p>
+     *
+     * @param createJobRequest Container for the necessary parameters to
+     *           execute the CreateJob operation on AmazonImportExport.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateJob service method, as returned by AmazonImportExport.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonImportExport indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateJobResult> createJobAsync(
+            final CreateJobRequest createJobRequest,
+            final AsyncHandler<CreateJobRequest, CreateJobResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateJobResult>() {
+            public CreateJobResult call() throws Exception {
+                CreateJobResult result;
+                try {
+                    result = createJob(createJobRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createJobRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * This operation cancels a specified job. Only the job owner can cancel
@@ -190,6 +240,50 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
 		});
     }
     
+    /**
+     * <p>
+     * This operation cancels a specified job. Only the job owner can cancel
+     * it. The operation fails if the job has already started or is complete.
+     * </p>
+     *
+     * @param cancelJobRequest Container for the necessary parameters to
+     *           execute the CancelJob operation on AmazonImportExport.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CancelJob service method, as returned by AmazonImportExport.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonImportExport indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CancelJobResult> cancelJobAsync(
+            final CancelJobRequest cancelJobRequest,
+            final AsyncHandler<CancelJobRequest, CancelJobResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CancelJobResult>() {
+            public CancelJobResult call() throws Exception {
+                CancelJobResult result;
+                try {
+                    result = cancelJob(cancelJobRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(cancelJobRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * This operation returns information about a job, including where the
@@ -221,6 +315,52 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
 		});
     }
     
+    /**
+     * <p>
+     * This operation returns information about a job, including where the
+     * job is in the processing pipeline, the status of the results, and the
+     * signature value associated with the job. You can only return
+     * information about jobs you own.
+     * </p>
+     *
+     * @param getStatusRequest Container for the necessary parameters to
+     *           execute the GetStatus operation on AmazonImportExport.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetStatus service method, as returned by AmazonImportExport.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonImportExport indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetStatusResult> getStatusAsync(
+            final GetStatusRequest getStatusRequest,
+            final AsyncHandler<GetStatusRequest, GetStatusResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<GetStatusResult>() {
+            public GetStatusResult call() throws Exception {
+                GetStatusResult result;
+                try {
+                    result = getStatus(getStatusRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(getStatusRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * This operation returns the jobs associated with the requester. AWS
@@ -253,6 +393,53 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
 		});
     }
     
+    /**
+     * <p>
+     * This operation returns the jobs associated with the requester. AWS
+     * Import/Export lists the jobs in reverse chronological order based on
+     * the date of creation. For example if Job Test1 was created 2009Dec30
+     * and Test2 was created 2010Feb05, the ListJobs operation would return
+     * Test2 followed by Test1.
+     * </p>
+     *
+     * @param listJobsRequest Container for the necessary parameters to
+     *           execute the ListJobs operation on AmazonImportExport.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the ListJobs
+     *         service method, as returned by AmazonImportExport.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonImportExport indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListJobsResult> listJobsAsync(
+            final ListJobsRequest listJobsRequest,
+            final AsyncHandler<ListJobsRequest, ListJobsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ListJobsResult>() {
+            public ListJobsResult call() throws Exception {
+                ListJobsResult result;
+                try {
+                    result = listJobs(listJobsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(listJobsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * You use this operation to change the parameters specified in the
@@ -285,5 +472,52 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
 		});
     }
     
+    /**
+     * <p>
+     * You use this operation to change the parameters specified in the
+     * original manifest file by supplying a new manifest file. The manifest
+     * file attached to this request replaces the original manifest file. You
+     * can only use the operation after a CreateJob request but before the
+     * data transfer starts and you can only use it on jobs you own.
+     * </p>
+     *
+     * @param updateJobRequest Container for the necessary parameters to
+     *           execute the UpdateJob operation on AmazonImportExport.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         UpdateJob service method, as returned by AmazonImportExport.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonImportExport indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<UpdateJobResult> updateJobAsync(
+            final UpdateJobRequest updateJobRequest,
+            final AsyncHandler<UpdateJobRequest, UpdateJobResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<UpdateJobResult>() {
+            public UpdateJobResult call() throws Exception {
+                UpdateJobResult result;
+                try {
+                    result = updateJob(updateJobRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(updateJobRequest, result);
+                return result;
+		    }
+		});
+    }
+    
 }
         
\ No newline at end of file
@@ -66,6 +66,12 @@ public class AmazonImportExportClient extends AmazonWebServiceClient implements
      */
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers;
 
+    /**
+     * Handles error responses for all service calls, built once so its index
+     * of exception unmarshallers is shared across calls.
+     */
+    private final DefaultErrorResponseHandler errorResponseHandler;
+
     
     /** AWS signer for authenticating requests. */
     private QueryStringSigner signer;
@@ -125,6 +131,7 @@ public class AmazonImportExportClient extends AmazonWebServiceClient implements
         exceptionUnmarshallers.add(new InvalidCustomsExceptionUnmarshaller());
         
         exceptionUnmarshallers.add(new StandardErrorUnmarshaller());
+        errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
         setEndpoint("importexport.amazonaws.com");
 
         signer = new QueryStringSigner();
@@ -175,8 +182,8 @@ public class AmazonImportExportClient extends AmazonWebServiceClient implements
      */
     public CreateJobResult createJob(CreateJobRequest createJobRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateJobRequest> request = new CreateJobRequestMarshaller().marshall(createJobRequest);
-        return invoke(request, new CreateJobResultStaxUnmarshaller());
+        Request<CreateJobRequest> request = CreateJobRequestMarshaller.getInstance().marshall(createJobRequest);
+        return invoke(request, CreateJobResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -207,8 +214,8 @@ public class AmazonImportExportClient extends AmazonWebServiceClient implements
      */
     public CancelJobResult cancelJob(CancelJobRequest cancelJobRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CancelJobRequest> request = new CancelJobRequestMarshaller().marshall(cancelJobRequest);
-        return invoke(request, new CancelJobResultStaxUnmarshaller());
+        Request<CancelJobRequest> request = CancelJobRequestMarshaller.getInstance().marshall(cancelJobRequest);
+        return invoke(request, CancelJobResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -240,8 +247,8 @@ public class AmazonImportExportClient extends AmazonWebServiceClient implements
      */
     public GetStatusResult getStatus(GetStatusRequest getStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<GetStatusRequest> request = new GetStatusRequestMarshaller().marshall(getStatusRequest);
-        return invoke(request, new GetStatusResultStaxUnmarshaller());
+        Request<GetStatusRequest> request = GetStatusRequestMarshaller.getInstance().marshall(getStatusRequest);
+        return invoke(request, GetStatusResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -272,8 +279,8 @@ public class AmazonImportExportClient extends AmazonWebServiceClient implements
      */
     public ListJobsResult listJobs(ListJobsRequest listJobsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ListJobsRequest> request = new ListJobsRequestMarshaller().marshall(listJobsRequest);
-        return invoke(request, new ListJobsResultStaxUnmarshaller());
+        Request<ListJobsRequest> request = ListJobsRequestMarshaller.getInstance().marshall(listJobsRequest);
+        return invoke(request, ListJobsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -318,8 +325,8 @@ public class AmazonImportExportClient extends AmazonWebServiceClient implements
      */
     public UpdateJobResult updateJob(UpdateJobRequest updateJobRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<UpdateJobRequest> request = new UpdateJobRequestMarshaller().marshall(updateJobRequest);
-        return invoke(request, new UpdateJobResultStaxUnmarshaller());
+        Request<UpdateJobRequest> request = UpdateJobRequestMarshaller.getInstance().marshall(updateJobRequest);
+        return invoke(request, UpdateJobResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -392,7 +399,6 @@ public class AmazonImportExportClient extends AmazonWebServiceClient implements
 
         
         StaxResponseHandler<X> responseHandler = new StaxResponseHandler<X>(unmarshaller);
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
 
         ExecutionContext executionContext = createExecutionContext();
         return (X)client.execute(request, responseHandler, errorResponseHandler, executionContext);
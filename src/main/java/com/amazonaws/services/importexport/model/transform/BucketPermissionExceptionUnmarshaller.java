@@ -25,7 +25,7 @@ import com.amazonaws.services.importexport.model.BucketPermissionException;
 public class BucketPermissionExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public BucketPermissionExceptionUnmarshaller() {
-        super(BucketPermissionException.class);
+        super(BucketPermissionException.class, "BucketPermissionException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
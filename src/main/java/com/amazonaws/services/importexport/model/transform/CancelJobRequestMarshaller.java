@@ -42,4 +42,9 @@ public class CancelJobRequestMarshaller implements Marshaller<Request<CancelJobR
 
         return request;
     }
+
+    private static final CancelJobRequestMarshaller instance = new CancelJobRequestMarshaller();
+    public static CancelJobRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class CancelJobResultStaxUnmarshaller implements Unmarshaller<CancelJobRe
         }
     }
 
-    private static CancelJobResultStaxUnmarshaller instance;
+    private static final CancelJobResultStaxUnmarshaller instance = new CancelJobResultStaxUnmarshaller();
     public static CancelJobResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CancelJobResultStaxUnmarshaller();
         return instance;
     }
 }
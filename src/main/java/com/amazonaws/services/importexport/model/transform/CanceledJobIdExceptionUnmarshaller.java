@@ -25,7 +25,7 @@ import com.amazonaws.services.importexport.model.CanceledJobIdException;
 public class CanceledJobIdExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public CanceledJobIdExceptionUnmarshaller() {
-        super(CanceledJobIdException.class);
+        super(CanceledJobIdException.class, "CanceledJobIdException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -57,4 +57,9 @@ public class CreateJobRequestMarshaller implements Marshaller<Request<CreateJobR
 
         return request;
     }
+
+    private static final CreateJobRequestMarshaller instance = new CreateJobRequestMarshaller();
+    public static CreateJobRequestMarshaller getInstance() {
+        return instance;
+    }
 }
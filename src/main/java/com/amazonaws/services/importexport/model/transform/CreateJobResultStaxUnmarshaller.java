@@ -79,9 +79,8 @@ public class CreateJobResultStaxUnmarshaller implements Unmarshaller<CreateJobRe
         }
     }
 
-    private static CreateJobResultStaxUnmarshaller instance;
+    private static final CreateJobResultStaxUnmarshaller instance = new CreateJobResultStaxUnmarshaller();
     public static CreateJobResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateJobResultStaxUnmarshaller();
         return instance;
     }
 }
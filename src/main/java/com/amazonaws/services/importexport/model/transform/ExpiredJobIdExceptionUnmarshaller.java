@@ -25,7 +25,7 @@ import com.amazonaws.services.importexport.model.ExpiredJobIdException;
 public class ExpiredJobIdExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public ExpiredJobIdExceptionUnmarshaller() {
-        super(ExpiredJobIdException.class);
+        super(ExpiredJobIdException.class, "ExpiredJobIdException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -42,4 +42,9 @@ public class GetStatusRequestMarshaller implements Marshaller<Request<GetStatusR
 
         return request;
     }
+
+    private static final GetStatusRequestMarshaller instance = new GetStatusRequestMarshaller();
+    public static GetStatusRequestMarshaller getInstance() {
+        return instance;
+    }
 }
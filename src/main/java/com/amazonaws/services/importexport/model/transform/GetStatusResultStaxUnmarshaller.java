@@ -119,9 +119,8 @@ public class GetStatusResultStaxUnmarshaller implements Unmarshaller<GetStatusRe
         }
     }
 
-    private static GetStatusResultStaxUnmarshaller instance;
+    private static final GetStatusResultStaxUnmarshaller instance = new GetStatusResultStaxUnmarshaller();
     public static GetStatusResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new GetStatusResultStaxUnmarshaller();
         return instance;
     }
 }
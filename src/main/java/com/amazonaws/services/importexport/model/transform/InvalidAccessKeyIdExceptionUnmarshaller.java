@@ -25,7 +25,7 @@ import com.amazonaws.services.importexport.model.InvalidAccessKeyIdException;
 public class InvalidAccessKeyIdExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidAccessKeyIdExceptionUnmarshaller() {
-        super(InvalidAccessKeyIdException.class);
+        super(InvalidAccessKeyIdException.class, "InvalidAccessKeyIdException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
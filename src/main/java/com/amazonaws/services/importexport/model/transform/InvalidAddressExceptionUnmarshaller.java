@@ -25,7 +25,7 @@ import com.amazonaws.services.importexport.model.InvalidAddressException;
 public class InvalidAddressExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidAddressExceptionUnmarshaller() {
-        super(InvalidAddressException.class);
+        super(InvalidAddressException.class, "InvalidAddressException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.importexport.model.InvalidCustomsException;
 public class InvalidCustomsExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidCustomsExceptionUnmarshaller() {
-        super(InvalidCustomsException.class);
+        super(InvalidCustomsException.class, "InvalidCustomsException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
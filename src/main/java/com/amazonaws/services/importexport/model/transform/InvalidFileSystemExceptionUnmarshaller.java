@@ -25,7 +25,7 @@ import com.amazonaws.services.importexport.model.InvalidFileSystemException;
 public class InvalidFileSystemExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidFileSystemExceptionUnmarshaller() {
-        super(InvalidFileSystemException.class);
+        super(InvalidFileSystemException.class, "InvalidFileSystemException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
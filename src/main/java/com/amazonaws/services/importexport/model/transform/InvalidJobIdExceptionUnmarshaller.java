@@ -25,7 +25,7 @@ import com.amazonaws.services.importexport.model.InvalidJobIdException;
 public class InvalidJobIdExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidJobIdExceptionUnmarshaller() {
-        super(InvalidJobIdException.class);
+        super(InvalidJobIdException.class, "InvalidJobIdException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.importexport.model.InvalidManifestFieldException;
 public class InvalidManifestFieldExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidManifestFieldExceptionUnmarshaller() {
-        super(InvalidManifestFieldException.class);
+        super(InvalidManifestFieldException.class, "InvalidManifestFieldException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
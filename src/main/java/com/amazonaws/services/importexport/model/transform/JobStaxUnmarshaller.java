@@ -71,9 +71,8 @@ public class JobStaxUnmarshaller implements Unmarshaller<Job, StaxUnmarshallerCo
         }
     }
 
-    private static JobStaxUnmarshaller instance;
+    private static final JobStaxUnmarshaller instance = new JobStaxUnmarshaller();
     public static JobStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new JobStaxUnmarshaller();
         return instance;
     }
 }
@@ -47,4 +47,9 @@ public class ListJobsRequestMarshaller implements Marshaller<Request<ListJobsReq
 
         return request;
     }
+
+    private static final ListJobsRequestMarshaller instance = new ListJobsRequestMarshaller();
+    public static ListJobsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -63,9 +63,8 @@ public class ListJobsResultStaxUnmarshaller implements Unmarshaller<ListJobsResu
         }
     }
 
-    private static ListJobsResultStaxUnmarshaller instance;
+    private static final ListJobsResultStaxUnmarshaller instance = new ListJobsResultStaxUnmarshaller();
     public static ListJobsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ListJobsResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.importexport.model.MalformedManifestException;
 public class MalformedManifestExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public MalformedManifestExceptionUnmarshaller() {
-        super(MalformedManifestException.class);
+        super(MalformedManifestException.class, "MalformedManifestException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.importexport.model.MissingCustomsException;
 public class MissingCustomsExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public MissingCustomsExceptionUnmarshaller() {
-        super(MissingCustomsException.class);
+        super(MissingCustomsException.class, "MissingCustomsException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
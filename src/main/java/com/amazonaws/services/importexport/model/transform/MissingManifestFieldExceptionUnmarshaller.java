@@ -25,7 +25,7 @@ import com.amazonaws.services.importexport.model.MissingManifestFieldException;
 public class MissingManifestFieldExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public MissingManifestFieldExceptionUnmarshaller() {
-        super(MissingManifestFieldException.class);
+        super(MissingManifestFieldException.class, "MissingManifestFieldException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.importexport.model.MissingParameterException;
 public class MissingParameterExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public MissingParameterExceptionUnmarshaller() {
-        super(MissingParameterException.class);
+        super(MissingParameterException.class, "MissingParameterException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
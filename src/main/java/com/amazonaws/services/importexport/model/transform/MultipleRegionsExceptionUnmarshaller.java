@@ -25,7 +25,7 @@ import com.amazonaws.services.importexport.model.MultipleRegionsException;
 public class MultipleRegionsExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public MultipleRegionsExceptionUnmarshaller() {
-        super(MultipleRegionsException.class);
+        super(MultipleRegionsException.class, "MultipleRegionsException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.importexport.model.NoSuchBucketException;
 public class NoSuchBucketExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public NoSuchBucketExceptionUnmarshaller() {
-        super(NoSuchBucketException.class);
+        super(NoSuchBucketException.class, "NoSuchBucketException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.importexport.model.UnableToCancelJobIdException;
 public class UnableToCancelJobIdExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public UnableToCancelJobIdExceptionUnmarshaller() {
-        super(UnableToCancelJobIdException.class);
+        super(UnableToCancelJobIdException.class, "UnableToCancelJobIdException");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -57,4 +57,9 @@ public class UpdateJobRequestMarshaller implements Marshaller<Request<UpdateJobR
 
         return request;
     }
+
+    private static final UpdateJobRequestMarshaller instance = new UpdateJobRequestMarshaller();
+    public static UpdateJobRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -63,9 +63,8 @@ public class UpdateJobResultStaxUnmarshaller implements Unmarshaller<UpdateJobRe
         }
     }
 
-    private static UpdateJobResultStaxUnmarshaller instance;
+    private static final UpdateJobResultStaxUnmarshaller instance = new UpdateJobResultStaxUnmarshaller();
     public static UpdateJobResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new UpdateJobResultStaxUnmarshaller();
         return instance;
     }
 }
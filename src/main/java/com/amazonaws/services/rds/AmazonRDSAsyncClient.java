@@ -16,13 +16,14 @@ package com.amazonaws.services.rds;
             
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.util.InstrumentedThreadPoolExecutor;
 
 import com.amazonaws.services.rds.model.*;
 
@@ -64,8 +65,9 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
     /**
      * Constructs a new asynchronous client to invoke service methods on 
      * AmazonRDS using the specified AWS account credentials.
-     * Default client settings will be used, and a default cached thread pool will be 
-     * created for executing the asynchronous tasks.
+     * Default client settings will be used, and a default bounded thread pool will be 
+     * created for executing the asynchronous tasks (see
+     * {@link InstrumentedThreadPoolExecutor#newDefaultExecutor(String, ClientConfiguration)}).
      *
      * <p>
      * All calls made using this new client object are non-blocking, and will immediately
@@ -76,7 +78,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      *                       when authenticating with AWS services.
      */                                      
     public AmazonRDSAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newCachedThreadPool());
+        this(awsCredentials, InstrumentedThreadPoolExecutor.newDefaultExecutor("AmazonRDSAsyncClient", new ClientConfiguration()));
     }
 
     /**
@@ -173,6 +175,54 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * This API deletes a particular DBParameterGroup. The DBParameterGroup
+     * cannot be associated with any RDS instances to be deleted.
+     * </p>
+     * <p>
+     * <b>NOTE:</b> The specified database parameter group cannot be
+     * associated with any DB Instances.
+     * </p>
+     *
+     * @param deleteDBParameterGroupRequest Container for the necessary
+     *           parameters to execute the DeleteDBParameterGroup operation on
+     *           AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteDBParameterGroup service method, as returned by AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteDBParameterGroupAsync(
+            final DeleteDBParameterGroupRequest deleteDBParameterGroupRequest,
+            final AsyncHandler<DeleteDBParameterGroupRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteDBParameterGroup(deleteDBParameterGroupRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteDBParameterGroupRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * This API is used to delete a DBSnapshot.
@@ -205,6 +255,53 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * This API is used to delete a DBSnapshot.
+     * </p>
+     * <p>
+     * <b>NOTE:</b>The DBSnapshot must be in the available state to be
+     * deleted.
+     * </p>
+     *
+     * @param deleteDBSnapshotRequest Container for the necessary parameters
+     *           to execute the DeleteDBSnapshot operation on AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteDBSnapshot service method, as returned by AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DBSnapshot> deleteDBSnapshotAsync(
+            final DeleteDBSnapshotRequest deleteDBSnapshotRequest,
+            final AsyncHandler<DeleteDBSnapshotRequest, DBSnapshot> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DBSnapshot>() {
+            public DBSnapshot call() throws Exception {
+                DBSnapshot result;
+                try {
+                    result = deleteDBSnapshot(deleteDBSnapshotRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteDBSnapshotRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * This API modifies the parameters of a DBParameterGroup. To modify
@@ -237,6 +334,53 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * This API modifies the parameters of a DBParameterGroup. To modify
+     * more than one parameter submit a list of the following: ParameterName,
+     * ParameterValue, and ApplyMethod. A maximum of 20 parameters can be
+     * modified in a single request.
+     * </p>
+     *
+     * @param modifyDBParameterGroupRequest Container for the necessary
+     *           parameters to execute the ModifyDBParameterGroup operation on
+     *           AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ModifyDBParameterGroup service method, as returned by AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ModifyDBParameterGroupResult> modifyDBParameterGroupAsync(
+            final ModifyDBParameterGroupRequest modifyDBParameterGroupRequest,
+            final AsyncHandler<ModifyDBParameterGroupRequest, ModifyDBParameterGroupResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ModifyDBParameterGroupResult>() {
+            public ModifyDBParameterGroupResult call() throws Exception {
+                ModifyDBParameterGroupResult result;
+                try {
+                    result = modifyDBParameterGroup(modifyDBParameterGroupRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(modifyDBParameterGroupRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * This API revokes ingress from a DBSecurityGroup for previously
@@ -269,6 +413,53 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * This API revokes ingress from a DBSecurityGroup for previously
+     * authorized IP ranges or EC2 Security Groups. Required parameters for
+     * this API are one of CIDRIP or (EC2SecurityGroupName AND
+     * EC2SecurityGroupOwnerId).
+     * </p>
+     *
+     * @param revokeDBSecurityGroupIngressRequest Container for the necessary
+     *           parameters to execute the RevokeDBSecurityGroupIngress operation on
+     *           AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RevokeDBSecurityGroupIngress service method, as returned by AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DBSecurityGroup> revokeDBSecurityGroupIngressAsync(
+            final RevokeDBSecurityGroupIngressRequest revokeDBSecurityGroupIngressRequest,
+            final AsyncHandler<RevokeDBSecurityGroupIngressRequest, DBSecurityGroup> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DBSecurityGroup>() {
+            public DBSecurityGroup call() throws Exception {
+                DBSecurityGroup result;
+                try {
+                    result = revokeDBSecurityGroupIngress(revokeDBSecurityGroupIngressRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(revokeDBSecurityGroupIngressRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * This API returns the detailed parameter list for a particular
@@ -298,6 +489,50 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * This API returns the detailed parameter list for a particular
+     * DBParameterGroup.
+     * </p>
+     *
+     * @param describeDBParametersRequest Container for the necessary
+     *           parameters to execute the DescribeDBParameters operation on AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeDBParameters service method, as returned by AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeDBParametersResult> describeDBParametersAsync(
+            final DescribeDBParametersRequest describeDBParametersRequest,
+            final AsyncHandler<DescribeDBParametersRequest, DescribeDBParametersResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeDBParametersResult>() {
+            public DescribeDBParametersResult call() throws Exception {
+                DescribeDBParametersResult result;
+                try {
+                    result = describeDBParameters(describeDBParametersRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeDBParametersRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * This API returns events related to DB Instances, DB Security Groups,
@@ -331,6 +566,54 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * This API returns events related to DB Instances, DB Security Groups,
+     * DB Snapshots and DB Parameter Groups for the past 14 das. Events
+     * specific to a particular DB Instance, database security group,
+     * database snapshot or database parameter group can be obtained by
+     * providing the name as a parameter. By default, the past hour of events
+     * are returned.
+     * </p>
+     *
+     * @param describeEventsRequest Container for the necessary parameters to
+     *           execute the DescribeEvents operation on AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeEvents service method, as returned by AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeEventsResult> describeEventsAsync(
+            final DescribeEventsRequest describeEventsRequest,
+            final AsyncHandler<DescribeEventsRequest, DescribeEventsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeEventsResult>() {
+            public DescribeEventsResult call() throws Exception {
+                DescribeEventsResult result;
+                try {
+                    result = describeEvents(describeEventsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeEventsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * This API creates a new database security group. Database Security
@@ -361,6 +644,51 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * This API creates a new database security group. Database Security
+     * groups control access to a database instance.
+     * </p>
+     *
+     * @param createDBSecurityGroupRequest Container for the necessary
+     *           parameters to execute the CreateDBSecurityGroup operation on
+     *           AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateDBSecurityGroup service method, as returned by AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DBSecurityGroup> createDBSecurityGroupAsync(
+            final CreateDBSecurityGroupRequest createDBSecurityGroupRequest,
+            final AsyncHandler<CreateDBSecurityGroupRequest, DBSecurityGroup> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DBSecurityGroup>() {
+            public DBSecurityGroup call() throws Exception {
+                DBSecurityGroup result;
+                try {
+                    result = createDBSecurityGroup(createDBSecurityGroupRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createDBSecurityGroupRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * This API is used to retrieve information about provisioned RDS
@@ -390,6 +718,50 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * This API is used to retrieve information about provisioned RDS
+     * instances. DescribeDBInstances supports pagination.
+     * </p>
+     *
+     * @param describeDBInstancesRequest Container for the necessary
+     *           parameters to execute the DescribeDBInstances operation on AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeDBInstances service method, as returned by AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeDBInstancesResult> describeDBInstancesAsync(
+            final DescribeDBInstancesRequest describeDBInstancesRequest,
+            final AsyncHandler<DescribeDBInstancesRequest, DescribeDBInstancesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeDBInstancesResult>() {
+            public DescribeDBInstancesResult call() throws Exception {
+                DescribeDBInstancesResult result;
+                try {
+                    result = describeDBInstances(describeDBInstancesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeDBInstancesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * This API returns a list of DBParameterGroup descriptions. If a
@@ -421,6 +793,52 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * This API returns a list of DBParameterGroup descriptions. If a
+     * DBParameterGroupName is specified, the list will contain only the
+     * descriptions of the specified DBParameterGroup.
+     * </p>
+     *
+     * @param describeDBParameterGroupsRequest Container for the necessary
+     *           parameters to execute the DescribeDBParameterGroups operation on
+     *           AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeDBParameterGroups service method, as returned by AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeDBParameterGroupsResult> describeDBParameterGroupsAsync(
+            final DescribeDBParameterGroupsRequest describeDBParameterGroupsRequest,
+            final AsyncHandler<DescribeDBParameterGroupsRequest, DescribeDBParameterGroupsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeDBParameterGroupsResult>() {
+            public DescribeDBParameterGroupsResult call() throws Exception {
+                DescribeDBParameterGroupsResult result;
+                try {
+                    result = describeDBParameterGroups(describeDBParameterGroupsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeDBParameterGroupsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * This API is used to create a DBSnapshot. The source DBInstance must
@@ -450,6 +868,50 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * This API is used to create a DBSnapshot. The source DBInstance must
+     * be in "available" state.
+     * </p>
+     *
+     * @param createDBSnapshotRequest Container for the necessary parameters
+     *           to execute the CreateDBSnapshot operation on AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateDBSnapshot service method, as returned by AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DBSnapshot> createDBSnapshotAsync(
+            final CreateDBSnapshotRequest createDBSnapshotRequest,
+            final AsyncHandler<CreateDBSnapshotRequest, DBSnapshot> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DBSnapshot>() {
+            public DBSnapshot call() throws Exception {
+                DBSnapshot result;
+                try {
+                    result = createDBSnapshot(createDBSnapshotRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createDBSnapshotRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns a list of the available DB engines.
@@ -479,6 +941,50 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * Returns a list of the available DB engines.
+     * </p>
+     *
+     * @param describeDBEngineVersionsRequest Container for the necessary
+     *           parameters to execute the DescribeDBEngineVersions operation on
+     *           AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeDBEngineVersions service method, as returned by AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeDBEngineVersionsResult> describeDBEngineVersionsAsync(
+            final DescribeDBEngineVersionsRequest describeDBEngineVersionsRequest,
+            final AsyncHandler<DescribeDBEngineVersionsRequest, DescribeDBEngineVersionsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeDBEngineVersionsResult>() {
+            public DescribeDBEngineVersionsResult call() throws Exception {
+                DescribeDBEngineVersionsResult result;
+                try {
+                    result = describeDBEngineVersions(describeDBEngineVersionsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeDBEngineVersionsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The RebootDBInstance API reboots a previously provisioned RDS
@@ -513,6 +1019,55 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * The RebootDBInstance API reboots a previously provisioned RDS
+     * instance. This API results in the application of modified
+     * DBParameterGroup parameters with ApplyStatus of pending-reboot to the
+     * RDS instance. This action is taken as soon as possible, and results in
+     * a momentary outage to the RDS instance during which the RDS instance
+     * status is set to rebooting. A DBInstance event is created when the
+     * reboot is completed.
+     * </p>
+     *
+     * @param rebootDBInstanceRequest Container for the necessary parameters
+     *           to execute the RebootDBInstance operation on AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RebootDBInstance service method, as returned by AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DBInstance> rebootDBInstanceAsync(
+            final RebootDBInstanceRequest rebootDBInstanceRequest,
+            final AsyncHandler<RebootDBInstanceRequest, DBInstance> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DBInstance>() {
+            public DBInstance call() throws Exception {
+                DBInstance result;
+                try {
+                    result = rebootDBInstance(rebootDBInstanceRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(rebootDBInstanceRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * This API allows for ingress to a DBSecurityGroup using one of two
@@ -558,6 +1113,66 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * This API allows for ingress to a DBSecurityGroup using one of two
+     * forms of authorization. First, EC2 Security Groups can be added to the
+     * DBSecurityGroup if the application using the database is running on
+     * EC2 instances. Second, IP ranges are available if the application
+     * accessing your database is running on the Internet. Required
+     * parameters for this API are one of CIDR range or (EC2SecurityGroupName
+     * AND EC2SecurityGroupOwnerId).
+     * </p>
+     * <p>
+     * <b>NOTE:</b> You cannot authorize ingress from an EC2 security group
+     * in one Region to an Amazon RDS DB Instance in another.
+     * </p>
+     * <p>
+     * For an overview of CIDR ranges, go to the <a
+     * href="http://en.wikipedia.org/wiki/Classless_Inter-Domain_Routing">
+     * Wikipedia Tutorial </a> .
+     * </p>
+     *
+     * @param authorizeDBSecurityGroupIngressRequest Container for the
+     *           necessary parameters to execute the AuthorizeDBSecurityGroupIngress
+     *           operation on AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AuthorizeDBSecurityGroupIngress service method, as returned by
+     *         AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DBSecurityGroup> authorizeDBSecurityGroupIngressAsync(
+            final AuthorizeDBSecurityGroupIngressRequest authorizeDBSecurityGroupIngressRequest,
+            final AsyncHandler<AuthorizeDBSecurityGroupIngressRequest, DBSecurityGroup> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DBSecurityGroup>() {
+            public DBSecurityGroup call() throws Exception {
+                DBSecurityGroup result;
+                try {
+                    result = authorizeDBSecurityGroupIngress(authorizeDBSecurityGroupIngressRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(authorizeDBSecurityGroupIngressRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * This API creates a new RDS instance from a point-in-time system
@@ -592,6 +1207,55 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * This API creates a new RDS instance from a point-in-time system
+     * snapshot. The target database is created from the source database
+     * restore point with the same configuration as the original source
+     * database, except that the new RDS instance is created with the default
+     * security group.
+     * </p>
+     *
+     * @param restoreDBInstanceToPointInTimeRequest Container for the
+     *           necessary parameters to execute the RestoreDBInstanceToPointInTime
+     *           operation on AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RestoreDBInstanceToPointInTime service method, as returned by
+     *         AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DBInstance> restoreDBInstanceToPointInTimeAsync(
+            final RestoreDBInstanceToPointInTimeRequest restoreDBInstanceToPointInTimeRequest,
+            final AsyncHandler<RestoreDBInstanceToPointInTimeRequest, DBInstance> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DBInstance>() {
+            public DBInstance call() throws Exception {
+                DBInstance result;
+                try {
+                    result = restoreDBInstanceToPointInTime(restoreDBInstanceToPointInTimeRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(restoreDBInstanceToPointInTimeRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * This API is used to retrieve information about DBSnapshots. This API
@@ -621,6 +1285,50 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * This API is used to retrieve information about DBSnapshots. This API
+     * supports pagination.
+     * </p>
+     *
+     * @param describeDBSnapshotsRequest Container for the necessary
+     *           parameters to execute the DescribeDBSnapshots operation on AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeDBSnapshots service method, as returned by AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeDBSnapshotsResult> describeDBSnapshotsAsync(
+            final DescribeDBSnapshotsRequest describeDBSnapshotsRequest,
+            final AsyncHandler<DescribeDBSnapshotsRequest, DescribeDBSnapshotsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeDBSnapshotsResult>() {
+            public DescribeDBSnapshotsResult call() throws Exception {
+                DescribeDBSnapshotsResult result;
+                try {
+                    result = describeDBSnapshots(describeDBSnapshotsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeDBSnapshotsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Lists available reserved DB Instance offerings.
@@ -651,6 +1359,51 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * Lists available reserved DB Instance offerings.
+     * </p>
+     *
+     * @param describeReservedDBInstancesOfferingsRequest Container for the
+     *           necessary parameters to execute the
+     *           DescribeReservedDBInstancesOfferings operation on AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeReservedDBInstancesOfferings service method, as returned by
+     *         AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeReservedDBInstancesOfferingsResult> describeReservedDBInstancesOfferingsAsync(
+            final DescribeReservedDBInstancesOfferingsRequest describeReservedDBInstancesOfferingsRequest,
+            final AsyncHandler<DescribeReservedDBInstancesOfferingsRequest, DescribeReservedDBInstancesOfferingsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeReservedDBInstancesOfferingsResult>() {
+            public DescribeReservedDBInstancesOfferingsResult call() throws Exception {
+                DescribeReservedDBInstancesOfferingsResult result;
+                try {
+                    result = describeReservedDBInstancesOfferings(describeReservedDBInstancesOfferingsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeReservedDBInstancesOfferingsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * This API returns the default engine and system parameter information
@@ -682,6 +1435,52 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * This API returns the default engine and system parameter information
+     * for the specified database engine.
+     * </p>
+     *
+     * @param describeEngineDefaultParametersRequest Container for the
+     *           necessary parameters to execute the DescribeEngineDefaultParameters
+     *           operation on AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeEngineDefaultParameters service method, as returned by
+     *         AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<EngineDefaults> describeEngineDefaultParametersAsync(
+            final DescribeEngineDefaultParametersRequest describeEngineDefaultParametersRequest,
+            final AsyncHandler<DescribeEngineDefaultParametersRequest, EngineDefaults> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<EngineDefaults>() {
+            public EngineDefaults call() throws Exception {
+                EngineDefaults result;
+                try {
+                    result = describeEngineDefaultParameters(describeEngineDefaultParametersRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeEngineDefaultParametersRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The DeleteDBInstance API deletes a previously provisioned RDS
@@ -715,6 +1514,54 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * The DeleteDBInstance API deletes a previously provisioned RDS
+     * instance. A successful response from the web service indicates the
+     * request was received correctly. If a final DBSnapshot is requested the
+     * status of the RDS instance will be "deleting" until the DBSnapshot is
+     * created. DescribeDBInstance is used to monitor the status of this
+     * operation. This cannot be canceled or reverted once submitted.
+     * </p>
+     *
+     * @param deleteDBInstanceRequest Container for the necessary parameters
+     *           to execute the DeleteDBInstance operation on AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteDBInstance service method, as returned by AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DBInstance> deleteDBInstanceAsync(
+            final DeleteDBInstanceRequest deleteDBInstanceRequest,
+            final AsyncHandler<DeleteDBInstanceRequest, DBInstance> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DBInstance>() {
+            public DBInstance call() throws Exception {
+                DBInstance result;
+                try {
+                    result = deleteDBInstance(deleteDBInstanceRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteDBInstanceRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * This API returns a list of DBSecurityGroup descriptions. If a
@@ -732,7 +1579,86 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      *           AmazonRDS.
      * 
      * @return A Java Future object containing the response from the
-     *         DescribeDBSecurityGroups service method, as returned by AmazonRDS.
+     *         DescribeDBSecurityGroups service method, as returned by AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeDBSecurityGroupsResult> describeDBSecurityGroupsAsync(final DescribeDBSecurityGroupsRequest describeDBSecurityGroupsRequest) 
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeDBSecurityGroupsResult>() {
+            public DescribeDBSecurityGroupsResult call() throws Exception {
+                return describeDBSecurityGroups(describeDBSecurityGroupsRequest);
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * This API returns a list of DBSecurityGroup descriptions. If a
+     * DBSecurityGroupName is specified, the list will contain only the
+     * descriptions of the specified DBSecurityGroup.
+     * </p>
+     * <p>
+     * For an overview of CIDR ranges, go to the <a
+     * href="http://en.wikipedia.org/wiki/Classless_Inter-Domain_Routing">
+     * Wikipedia Tutorial </a> .
+     * </p>
+     *
+     * @param describeDBSecurityGroupsRequest Container for the necessary
+     *           parameters to execute the DescribeDBSecurityGroups operation on
+     *           AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeDBSecurityGroups service method, as returned by AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeDBSecurityGroupsResult> describeDBSecurityGroupsAsync(
+            final DescribeDBSecurityGroupsRequest describeDBSecurityGroupsRequest,
+            final AsyncHandler<DescribeDBSecurityGroupsRequest, DescribeDBSecurityGroupsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeDBSecurityGroupsResult>() {
+            public DescribeDBSecurityGroupsResult call() throws Exception {
+                DescribeDBSecurityGroupsResult result;
+                try {
+                    result = describeDBSecurityGroups(describeDBSecurityGroupsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeDBSecurityGroupsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
+    /**
+     * <p>
+     * This API creates a new DB instance.
+     * </p>
+     *
+     * @param createDBInstanceRequest Container for the necessary parameters
+     *           to execute the CreateDBInstance operation on AmazonRDS.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateDBInstance service method, as returned by AmazonRDS.
      *
      * @throws AmazonClientException
      *             If any internal errors are encountered inside the client while
@@ -742,11 +1668,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      *             If an error response is returned by AmazonRDS indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeDBSecurityGroupsResult> describeDBSecurityGroupsAsync(final DescribeDBSecurityGroupsRequest describeDBSecurityGroupsRequest) 
+    public Future<DBInstance> createDBInstanceAsync(final CreateDBInstanceRequest createDBInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBSecurityGroupsResult>() {
-            public DescribeDBSecurityGroupsResult call() throws Exception {
-                return describeDBSecurityGroups(describeDBSecurityGroupsRequest);
+        return executorService.submit(new Callable<DBInstance>() {
+            public DBInstance call() throws Exception {
+                return createDBInstance(createDBInstanceRequest);
 		    }
 		});
     }
@@ -758,6 +1684,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      *
      * @param createDBInstanceRequest Container for the necessary parameters
      *           to execute the CreateDBInstance operation on AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
      * 
      * @return A Java Future object containing the response from the
      *         CreateDBInstance service method, as returned by AmazonRDS.
@@ -770,11 +1701,21 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      *             If an error response is returned by AmazonRDS indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DBInstance> createDBInstanceAsync(final CreateDBInstanceRequest createDBInstanceRequest) 
-            throws AmazonServiceException, AmazonClientException {
+    public Future<DBInstance> createDBInstanceAsync(
+            final CreateDBInstanceRequest createDBInstanceRequest,
+            final AsyncHandler<CreateDBInstanceRequest, DBInstance> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
         return executorService.submit(new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
-                return createDBInstance(createDBInstanceRequest);
+                DBInstance result;
+                try {
+                    result = createDBInstance(createDBInstanceRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createDBInstanceRequest, result);
+                return result;
 		    }
 		});
     }
@@ -815,6 +1756,57 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * This API modifies the parameters of a DBParameterGroup to the
+     * engine/system default value. To reset specific parameters submit a
+     * list of the following: ParameterName and ApplyMethod. To reset the
+     * entire DBParameterGroup specify the DBParameterGroup name and
+     * ResetAllParameters parameters. When resetting the entire group,
+     * dynamic parameters are updated immediately and static parameters are
+     * set to pending-reboot to take effect on the next MySQL reboot or
+     * RebootDBInstance request.
+     * </p>
+     *
+     * @param resetDBParameterGroupRequest Container for the necessary
+     *           parameters to execute the ResetDBParameterGroup operation on
+     *           AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ResetDBParameterGroup service method, as returned by AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ResetDBParameterGroupResult> resetDBParameterGroupAsync(
+            final ResetDBParameterGroupRequest resetDBParameterGroupRequest,
+            final AsyncHandler<ResetDBParameterGroupRequest, ResetDBParameterGroupResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ResetDBParameterGroupResult>() {
+            public ResetDBParameterGroupResult call() throws Exception {
+                ResetDBParameterGroupResult result;
+                try {
+                    result = resetDBParameterGroup(resetDBParameterGroupRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(resetDBParameterGroupRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * This API is used to change RDS Instance settings. Users call the
@@ -846,6 +1838,52 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * This API is used to change RDS Instance settings. Users call the
+     * ModifyDBInstance API to change one or more database configuration
+     * parameters by specifying these parameters and the new values in the
+     * request.
+     * </p>
+     *
+     * @param modifyDBInstanceRequest Container for the necessary parameters
+     *           to execute the ModifyDBInstance operation on AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ModifyDBInstance service method, as returned by AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DBInstance> modifyDBInstanceAsync(
+            final ModifyDBInstanceRequest modifyDBInstanceRequest,
+            final AsyncHandler<ModifyDBInstanceRequest, DBInstance> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DBInstance>() {
+            public DBInstance call() throws Exception {
+                DBInstance result;
+                try {
+                    result = modifyDBInstance(modifyDBInstanceRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(modifyDBInstanceRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * This API creates a new DB Instance to an arbitrary point-in-time.
@@ -881,6 +1919,56 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * This API creates a new DB Instance to an arbitrary point-in-time.
+     * Users can restore to any point in time before the latestRestorableTime
+     * for up to backupRetentionPeriod days. The target database is created
+     * from the source database with the same configuration as the original
+     * database except that the DB instance is created with the default DB
+     * security group.
+     * </p>
+     *
+     * @param restoreDBInstanceFromDBSnapshotRequest Container for the
+     *           necessary parameters to execute the RestoreDBInstanceFromDBSnapshot
+     *           operation on AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RestoreDBInstanceFromDBSnapshot service method, as returned by
+     *         AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DBInstance> restoreDBInstanceFromDBSnapshotAsync(
+            final RestoreDBInstanceFromDBSnapshotRequest restoreDBInstanceFromDBSnapshotRequest,
+            final AsyncHandler<RestoreDBInstanceFromDBSnapshotRequest, DBInstance> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DBInstance>() {
+            public DBInstance call() throws Exception {
+                DBInstance result;
+                try {
+                    result = restoreDBInstanceFromDBSnapshot(restoreDBInstanceFromDBSnapshotRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(restoreDBInstanceFromDBSnapshotRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns information about reserved DB Instances for this account, or
@@ -911,6 +1999,51 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * Returns information about reserved DB Instances for this account, or
+     * about a specified reserved DB Instance.
+     * </p>
+     *
+     * @param describeReservedDBInstancesRequest Container for the necessary
+     *           parameters to execute the DescribeReservedDBInstances operation on
+     *           AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DescribeReservedDBInstances service method, as returned by AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DescribeReservedDBInstancesResult> describeReservedDBInstancesAsync(
+            final DescribeReservedDBInstancesRequest describeReservedDBInstancesRequest,
+            final AsyncHandler<DescribeReservedDBInstancesRequest, DescribeReservedDBInstancesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DescribeReservedDBInstancesResult>() {
+            public DescribeReservedDBInstancesResult call() throws Exception {
+                DescribeReservedDBInstancesResult result;
+                try {
+                    result = describeReservedDBInstances(describeReservedDBInstancesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(describeReservedDBInstancesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * This API creates a new database parameter group.
@@ -940,6 +2073,50 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * This API creates a new database parameter group.
+     * </p>
+     *
+     * @param createDBParameterGroupRequest Container for the necessary
+     *           parameters to execute the CreateDBParameterGroup operation on
+     *           AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateDBParameterGroup service method, as returned by AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DBParameterGroup> createDBParameterGroupAsync(
+            final CreateDBParameterGroupRequest createDBParameterGroupRequest,
+            final AsyncHandler<CreateDBParameterGroupRequest, DBParameterGroup> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DBParameterGroup>() {
+            public DBParameterGroup call() throws Exception {
+                DBParameterGroup result;
+                try {
+                    result = createDBParameterGroup(createDBParameterGroupRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createDBParameterGroupRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * This API deletes a database security group.
@@ -974,6 +2151,53 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * This API deletes a database security group.
+     * </p>
+     * <p>
+     * <b>NOTE:</b>The specified database security group must not be
+     * associated with any DB instances.
+     * </p>
+     *
+     * @param deleteDBSecurityGroupRequest Container for the necessary
+     *           parameters to execute the DeleteDBSecurityGroup operation on
+     *           AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteDBSecurityGroup service method, as returned by AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteDBSecurityGroupAsync(
+            final DeleteDBSecurityGroupRequest deleteDBSecurityGroupRequest,
+            final AsyncHandler<DeleteDBSecurityGroupRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteDBSecurityGroup(deleteDBSecurityGroupRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteDBSecurityGroupRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Creates a DB Instance that acts as a Read Replica of a source DB
@@ -1014,6 +2238,61 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * Creates a DB Instance that acts as a Read Replica of a source DB
+     * Instance.
+     * </p>
+     * <p>
+     * All Read Replica DB Instances are created as Single-AZ deployments
+     * with backups disabled. All other DB Instance attributes (including DB
+     * Security Groups and DB Parameter Groups) are inherited from the source
+     * DB Instance, except as specified below.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> The source DB Instance must have backup retention
+     * enabled.
+     * </p>
+     *
+     * @param createDBInstanceReadReplicaRequest Container for the necessary
+     *           parameters to execute the CreateDBInstanceReadReplica operation on
+     *           AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateDBInstanceReadReplica service method, as returned by AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<DBInstance> createDBInstanceReadReplicaAsync(
+            final CreateDBInstanceReadReplicaRequest createDBInstanceReadReplicaRequest,
+            final AsyncHandler<CreateDBInstanceReadReplicaRequest, DBInstance> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<DBInstance>() {
+            public DBInstance call() throws Exception {
+                DBInstance result;
+                try {
+                    result = createDBInstanceReadReplica(createDBInstanceReadReplicaRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createDBInstanceReadReplicaRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Purchases a reserved DB Instance offering.
@@ -1044,5 +2323,50 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
 		});
     }
     
+    /**
+     * <p>
+     * Purchases a reserved DB Instance offering.
+     * </p>
+     *
+     * @param purchaseReservedDBInstancesOfferingRequest Container for the
+     *           necessary parameters to execute the
+     *           PurchaseReservedDBInstancesOffering operation on AmazonRDS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         PurchaseReservedDBInstancesOffering service method, as returned by
+     *         AmazonRDS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonRDS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ReservedDBInstance> purchaseReservedDBInstancesOfferingAsync(
+            final PurchaseReservedDBInstancesOfferingRequest purchaseReservedDBInstancesOfferingRequest,
+            final AsyncHandler<PurchaseReservedDBInstancesOfferingRequest, ReservedDBInstance> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ReservedDBInstance>() {
+            public ReservedDBInstance call() throws Exception {
+                ReservedDBInstance result;
+                try {
+                    result = purchaseReservedDBInstancesOffering(purchaseReservedDBInstancesOfferingRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(purchaseReservedDBInstancesOfferingRequest, result);
+                return result;
+		    }
+		});
+    }
+    
 }
         
\ No newline at end of file
@@ -76,6 +76,12 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers;
 
+    /**
+     * Handles error responses for all service calls, built once so its index
+     * of exception unmarshallers is shared across calls.
+     */
+    private final DefaultErrorResponseHandler errorResponseHandler;
+
     
     /** AWS signer for authenticating requests. */
     private QueryStringSigner signer;
@@ -144,6 +150,7 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
         exceptionUnmarshallers.add(new InvalidDBInstanceStateExceptionUnmarshaller());
         
         exceptionUnmarshallers.add(new StandardErrorUnmarshaller());
+        errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
         setEndpoint("rds.amazonaws.com");
 
         signer = new QueryStringSigner();
@@ -181,7 +188,7 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public void deleteDBParameterGroup(DeleteDBParameterGroupRequest deleteDBParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteDBParameterGroupRequest> request = new DeleteDBParameterGroupRequestMarshaller().marshall(deleteDBParameterGroupRequest);
+        Request<DeleteDBParameterGroupRequest> request = DeleteDBParameterGroupRequestMarshaller.getInstance().marshall(deleteDBParameterGroupRequest);
         invoke(request, null);
     }
     
@@ -213,8 +220,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public DBSnapshot deleteDBSnapshot(DeleteDBSnapshotRequest deleteDBSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteDBSnapshotRequest> request = new DeleteDBSnapshotRequestMarshaller().marshall(deleteDBSnapshotRequest);
-        return invoke(request, new DBSnapshotStaxUnmarshaller());
+        Request<DeleteDBSnapshotRequest> request = DeleteDBSnapshotRequestMarshaller.getInstance().marshall(deleteDBSnapshotRequest);
+        return invoke(request, DBSnapshotStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -245,8 +252,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public ModifyDBParameterGroupResult modifyDBParameterGroup(ModifyDBParameterGroupRequest modifyDBParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ModifyDBParameterGroupRequest> request = new ModifyDBParameterGroupRequestMarshaller().marshall(modifyDBParameterGroupRequest);
-        return invoke(request, new ModifyDBParameterGroupResultStaxUnmarshaller());
+        Request<ModifyDBParameterGroupRequest> request = ModifyDBParameterGroupRequestMarshaller.getInstance().marshall(modifyDBParameterGroupRequest);
+        return invoke(request, ModifyDBParameterGroupResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -278,8 +285,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public DBSecurityGroup revokeDBSecurityGroupIngress(RevokeDBSecurityGroupIngressRequest revokeDBSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<RevokeDBSecurityGroupIngressRequest> request = new RevokeDBSecurityGroupIngressRequestMarshaller().marshall(revokeDBSecurityGroupIngressRequest);
-        return invoke(request, new DBSecurityGroupStaxUnmarshaller());
+        Request<RevokeDBSecurityGroupIngressRequest> request = RevokeDBSecurityGroupIngressRequestMarshaller.getInstance().marshall(revokeDBSecurityGroupIngressRequest);
+        return invoke(request, DBSecurityGroupStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -307,8 +314,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public DescribeDBParametersResult describeDBParameters(DescribeDBParametersRequest describeDBParametersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeDBParametersRequest> request = new DescribeDBParametersRequestMarshaller().marshall(describeDBParametersRequest);
-        return invoke(request, new DescribeDBParametersResultStaxUnmarshaller());
+        Request<DescribeDBParametersRequest> request = DescribeDBParametersRequestMarshaller.getInstance().marshall(describeDBParametersRequest);
+        return invoke(request, DescribeDBParametersResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -338,8 +345,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public DescribeEventsResult describeEvents(DescribeEventsRequest describeEventsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeEventsRequest> request = new DescribeEventsRequestMarshaller().marshall(describeEventsRequest);
-        return invoke(request, new DescribeEventsResultStaxUnmarshaller());
+        Request<DescribeEventsRequest> request = DescribeEventsRequestMarshaller.getInstance().marshall(describeEventsRequest);
+        return invoke(request, DescribeEventsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -368,8 +375,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public DBSecurityGroup createDBSecurityGroup(CreateDBSecurityGroupRequest createDBSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateDBSecurityGroupRequest> request = new CreateDBSecurityGroupRequestMarshaller().marshall(createDBSecurityGroupRequest);
-        return invoke(request, new DBSecurityGroupStaxUnmarshaller());
+        Request<CreateDBSecurityGroupRequest> request = CreateDBSecurityGroupRequestMarshaller.getInstance().marshall(createDBSecurityGroupRequest);
+        return invoke(request, DBSecurityGroupStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -397,8 +404,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public DescribeDBInstancesResult describeDBInstances(DescribeDBInstancesRequest describeDBInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeDBInstancesRequest> request = new DescribeDBInstancesRequestMarshaller().marshall(describeDBInstancesRequest);
-        return invoke(request, new DescribeDBInstancesResultStaxUnmarshaller());
+        Request<DescribeDBInstancesRequest> request = DescribeDBInstancesRequestMarshaller.getInstance().marshall(describeDBInstancesRequest);
+        return invoke(request, DescribeDBInstancesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -427,8 +434,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public DescribeDBParameterGroupsResult describeDBParameterGroups(DescribeDBParameterGroupsRequest describeDBParameterGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeDBParameterGroupsRequest> request = new DescribeDBParameterGroupsRequestMarshaller().marshall(describeDBParameterGroupsRequest);
-        return invoke(request, new DescribeDBParameterGroupsResultStaxUnmarshaller());
+        Request<DescribeDBParameterGroupsRequest> request = DescribeDBParameterGroupsRequestMarshaller.getInstance().marshall(describeDBParameterGroupsRequest);
+        return invoke(request, DescribeDBParameterGroupsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -458,8 +465,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public DBSnapshot createDBSnapshot(CreateDBSnapshotRequest createDBSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateDBSnapshotRequest> request = new CreateDBSnapshotRequestMarshaller().marshall(createDBSnapshotRequest);
-        return invoke(request, new DBSnapshotStaxUnmarshaller());
+        Request<CreateDBSnapshotRequest> request = CreateDBSnapshotRequestMarshaller.getInstance().marshall(createDBSnapshotRequest);
+        return invoke(request, DBSnapshotStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -485,8 +492,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public DescribeDBEngineVersionsResult describeDBEngineVersions(DescribeDBEngineVersionsRequest describeDBEngineVersionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeDBEngineVersionsRequest> request = new DescribeDBEngineVersionsRequestMarshaller().marshall(describeDBEngineVersionsRequest);
-        return invoke(request, new DescribeDBEngineVersionsResultStaxUnmarshaller());
+        Request<DescribeDBEngineVersionsRequest> request = DescribeDBEngineVersionsRequestMarshaller.getInstance().marshall(describeDBEngineVersionsRequest);
+        return invoke(request, DescribeDBEngineVersionsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -519,8 +526,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public DBInstance rebootDBInstance(RebootDBInstanceRequest rebootDBInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<RebootDBInstanceRequest> request = new RebootDBInstanceRequestMarshaller().marshall(rebootDBInstanceRequest);
-        return invoke(request, new DBInstanceStaxUnmarshaller());
+        Request<RebootDBInstanceRequest> request = RebootDBInstanceRequestMarshaller.getInstance().marshall(rebootDBInstanceRequest);
+        return invoke(request, DBInstanceStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -565,8 +572,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public DBSecurityGroup authorizeDBSecurityGroupIngress(AuthorizeDBSecurityGroupIngressRequest authorizeDBSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<AuthorizeDBSecurityGroupIngressRequest> request = new AuthorizeDBSecurityGroupIngressRequestMarshaller().marshall(authorizeDBSecurityGroupIngressRequest);
-        return invoke(request, new DBSecurityGroupStaxUnmarshaller());
+        Request<AuthorizeDBSecurityGroupIngressRequest> request = AuthorizeDBSecurityGroupIngressRequestMarshaller.getInstance().marshall(authorizeDBSecurityGroupIngressRequest);
+        return invoke(request, DBSecurityGroupStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -603,8 +610,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public DBInstance restoreDBInstanceToPointInTime(RestoreDBInstanceToPointInTimeRequest restoreDBInstanceToPointInTimeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<RestoreDBInstanceToPointInTimeRequest> request = new RestoreDBInstanceToPointInTimeRequestMarshaller().marshall(restoreDBInstanceToPointInTimeRequest);
-        return invoke(request, new DBInstanceStaxUnmarshaller());
+        Request<RestoreDBInstanceToPointInTimeRequest> request = RestoreDBInstanceToPointInTimeRequestMarshaller.getInstance().marshall(restoreDBInstanceToPointInTimeRequest);
+        return invoke(request, DBInstanceStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -632,8 +639,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public DescribeDBSnapshotsResult describeDBSnapshots(DescribeDBSnapshotsRequest describeDBSnapshotsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeDBSnapshotsRequest> request = new DescribeDBSnapshotsRequestMarshaller().marshall(describeDBSnapshotsRequest);
-        return invoke(request, new DescribeDBSnapshotsResultStaxUnmarshaller());
+        Request<DescribeDBSnapshotsRequest> request = DescribeDBSnapshotsRequestMarshaller.getInstance().marshall(describeDBSnapshotsRequest);
+        return invoke(request, DescribeDBSnapshotsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -660,8 +667,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public DescribeReservedDBInstancesOfferingsResult describeReservedDBInstancesOfferings(DescribeReservedDBInstancesOfferingsRequest describeReservedDBInstancesOfferingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeReservedDBInstancesOfferingsRequest> request = new DescribeReservedDBInstancesOfferingsRequestMarshaller().marshall(describeReservedDBInstancesOfferingsRequest);
-        return invoke(request, new DescribeReservedDBInstancesOfferingsResultStaxUnmarshaller());
+        Request<DescribeReservedDBInstancesOfferingsRequest> request = DescribeReservedDBInstancesOfferingsRequestMarshaller.getInstance().marshall(describeReservedDBInstancesOfferingsRequest);
+        return invoke(request, DescribeReservedDBInstancesOfferingsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -688,8 +695,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public EngineDefaults describeEngineDefaultParameters(DescribeEngineDefaultParametersRequest describeEngineDefaultParametersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeEngineDefaultParametersRequest> request = new DescribeEngineDefaultParametersRequestMarshaller().marshall(describeEngineDefaultParametersRequest);
-        return invoke(request, new EngineDefaultsStaxUnmarshaller());
+        Request<DescribeEngineDefaultParametersRequest> request = DescribeEngineDefaultParametersRequestMarshaller.getInstance().marshall(describeEngineDefaultParametersRequest);
+        return invoke(request, EngineDefaultsStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -723,8 +730,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public DBInstance deleteDBInstance(DeleteDBInstanceRequest deleteDBInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteDBInstanceRequest> request = new DeleteDBInstanceRequestMarshaller().marshall(deleteDBInstanceRequest);
-        return invoke(request, new DBInstanceStaxUnmarshaller());
+        Request<DeleteDBInstanceRequest> request = DeleteDBInstanceRequestMarshaller.getInstance().marshall(deleteDBInstanceRequest);
+        return invoke(request, DBInstanceStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -758,8 +765,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public DescribeDBSecurityGroupsResult describeDBSecurityGroups(DescribeDBSecurityGroupsRequest describeDBSecurityGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeDBSecurityGroupsRequest> request = new DescribeDBSecurityGroupsRequestMarshaller().marshall(describeDBSecurityGroupsRequest);
-        return invoke(request, new DescribeDBSecurityGroupsResultStaxUnmarshaller());
+        Request<DescribeDBSecurityGroupsRequest> request = DescribeDBSecurityGroupsRequestMarshaller.getInstance().marshall(describeDBSecurityGroupsRequest);
+        return invoke(request, DescribeDBSecurityGroupsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -790,8 +797,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public DBInstance createDBInstance(CreateDBInstanceRequest createDBInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateDBInstanceRequest> request = new CreateDBInstanceRequestMarshaller().marshall(createDBInstanceRequest);
-        return invoke(request, new DBInstanceStaxUnmarshaller());
+        Request<CreateDBInstanceRequest> request = CreateDBInstanceRequestMarshaller.getInstance().marshall(createDBInstanceRequest);
+        return invoke(request, DBInstanceStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -826,8 +833,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public ResetDBParameterGroupResult resetDBParameterGroup(ResetDBParameterGroupRequest resetDBParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ResetDBParameterGroupRequest> request = new ResetDBParameterGroupRequestMarshaller().marshall(resetDBParameterGroupRequest);
-        return invoke(request, new ResetDBParameterGroupResultStaxUnmarshaller());
+        Request<ResetDBParameterGroupRequest> request = ResetDBParameterGroupRequestMarshaller.getInstance().marshall(resetDBParameterGroupRequest);
+        return invoke(request, ResetDBParameterGroupResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -861,8 +868,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public DBInstance modifyDBInstance(ModifyDBInstanceRequest modifyDBInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ModifyDBInstanceRequest> request = new ModifyDBInstanceRequestMarshaller().marshall(modifyDBInstanceRequest);
-        return invoke(request, new DBInstanceStaxUnmarshaller());
+        Request<ModifyDBInstanceRequest> request = ModifyDBInstanceRequestMarshaller.getInstance().marshall(modifyDBInstanceRequest);
+        return invoke(request, DBInstanceStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -899,8 +906,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public DBInstance restoreDBInstanceFromDBSnapshot(RestoreDBInstanceFromDBSnapshotRequest restoreDBInstanceFromDBSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<RestoreDBInstanceFromDBSnapshotRequest> request = new RestoreDBInstanceFromDBSnapshotRequestMarshaller().marshall(restoreDBInstanceFromDBSnapshotRequest);
-        return invoke(request, new DBInstanceStaxUnmarshaller());
+        Request<RestoreDBInstanceFromDBSnapshotRequest> request = RestoreDBInstanceFromDBSnapshotRequestMarshaller.getInstance().marshall(restoreDBInstanceFromDBSnapshotRequest);
+        return invoke(request, DBInstanceStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -928,8 +935,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public DescribeReservedDBInstancesResult describeReservedDBInstances(DescribeReservedDBInstancesRequest describeReservedDBInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DescribeReservedDBInstancesRequest> request = new DescribeReservedDBInstancesRequestMarshaller().marshall(describeReservedDBInstancesRequest);
-        return invoke(request, new DescribeReservedDBInstancesResultStaxUnmarshaller());
+        Request<DescribeReservedDBInstancesRequest> request = DescribeReservedDBInstancesRequestMarshaller.getInstance().marshall(describeReservedDBInstancesRequest);
+        return invoke(request, DescribeReservedDBInstancesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -957,8 +964,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public DBParameterGroup createDBParameterGroup(CreateDBParameterGroupRequest createDBParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateDBParameterGroupRequest> request = new CreateDBParameterGroupRequestMarshaller().marshall(createDBParameterGroupRequest);
-        return invoke(request, new DBParameterGroupStaxUnmarshaller());
+        Request<CreateDBParameterGroupRequest> request = CreateDBParameterGroupRequestMarshaller.getInstance().marshall(createDBParameterGroupRequest);
+        return invoke(request, DBParameterGroupStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -987,7 +994,7 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public void deleteDBSecurityGroup(DeleteDBSecurityGroupRequest deleteDBSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteDBSecurityGroupRequest> request = new DeleteDBSecurityGroupRequestMarshaller().marshall(deleteDBSecurityGroupRequest);
+        Request<DeleteDBSecurityGroupRequest> request = DeleteDBSecurityGroupRequestMarshaller.getInstance().marshall(deleteDBSecurityGroupRequest);
         invoke(request, null);
     }
     
@@ -1033,8 +1040,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public DBInstance createDBInstanceReadReplica(CreateDBInstanceReadReplicaRequest createDBInstanceReadReplicaRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateDBInstanceReadReplicaRequest> request = new CreateDBInstanceReadReplicaRequestMarshaller().marshall(createDBInstanceReadReplicaRequest);
-        return invoke(request, new DBInstanceStaxUnmarshaller());
+        Request<CreateDBInstanceReadReplicaRequest> request = CreateDBInstanceReadReplicaRequestMarshaller.getInstance().marshall(createDBInstanceReadReplicaRequest);
+        return invoke(request, DBInstanceStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1063,8 +1070,8 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
      */
     public ReservedDBInstance purchaseReservedDBInstancesOffering(PurchaseReservedDBInstancesOfferingRequest purchaseReservedDBInstancesOfferingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<PurchaseReservedDBInstancesOfferingRequest> request = new PurchaseReservedDBInstancesOfferingRequestMarshaller().marshall(purchaseReservedDBInstancesOfferingRequest);
-        return invoke(request, new ReservedDBInstanceStaxUnmarshaller());
+        Request<PurchaseReservedDBInstancesOfferingRequest> request = PurchaseReservedDBInstancesOfferingRequestMarshaller.getInstance().marshall(purchaseReservedDBInstancesOfferingRequest);
+        return invoke(request, ReservedDBInstanceStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -1301,7 +1308,6 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements AmazonRDS
 
         
         StaxResponseHandler<X> responseHandler = new StaxResponseHandler<X>(unmarshaller);
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
 
         ExecutionContext executionContext = createExecutionContext();
         return (X)client.execute(request, responseHandler, errorResponseHandler, executionContext);
@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.AuthorizationAlreadyExistsException;
 public class AuthorizationAlreadyExistsExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public AuthorizationAlreadyExistsExceptionUnmarshaller() {
-        super(AuthorizationAlreadyExistsException.class);
+        super(AuthorizationAlreadyExistsException.class, "AuthorizationAlreadyExists");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.AuthorizationNotFoundException;
 public class AuthorizationNotFoundExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public AuthorizationNotFoundExceptionUnmarshaller() {
-        super(AuthorizationNotFoundException.class);
+        super(AuthorizationNotFoundException.class, "AuthorizationNotFound");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.AuthorizationQuotaExceededException;
 public class AuthorizationQuotaExceededExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public AuthorizationQuotaExceededExceptionUnmarshaller() {
-        super(AuthorizationQuotaExceededException.class);
+        super(AuthorizationQuotaExceededException.class, "AuthorizationQuotaExceeded");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -57,4 +57,9 @@ public class AuthorizeDBSecurityGroupIngressRequestMarshaller implements Marshal
 
         return request;
     }
+
+    private static final AuthorizeDBSecurityGroupIngressRequestMarshaller instance = new AuthorizeDBSecurityGroupIngressRequestMarshaller();
+    public static AuthorizeDBSecurityGroupIngressRequestMarshaller getInstance() {
+        return instance;
+    }
 }
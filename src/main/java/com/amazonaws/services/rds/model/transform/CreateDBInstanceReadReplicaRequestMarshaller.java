@@ -67,4 +67,9 @@ public class CreateDBInstanceReadReplicaRequestMarshaller implements Marshaller<
 
         return request;
     }
+
+    private static final CreateDBInstanceReadReplicaRequestMarshaller instance = new CreateDBInstanceReadReplicaRequestMarshaller();
+    public static CreateDBInstanceReadReplicaRequestMarshaller getInstance() {
+        return instance;
+    }
 }
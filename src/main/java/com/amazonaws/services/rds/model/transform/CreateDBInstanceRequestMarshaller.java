@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.rds.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class CreateDBInstanceRequestMarshaller implements Marshaller<Request<CreateDBInstanceRequest>, CreateDBInstanceRequest> {
 
+    private static final ParameterNameTable DBSECURITY_GROUPS_MEMBER_NAMES = new ParameterNameTable("DBSecurityGroups.member.", "");
+
     public Request<CreateDBInstanceRequest> marshall(CreateDBInstanceRequest createDBInstanceRequest) {
         Request<CreateDBInstanceRequest> request = new DefaultRequest<CreateDBInstanceRequest>(createDBInstanceRequest, "AmazonRDS");
         request.addParameter("Action", "CreateDBInstance");
@@ -74,7 +77,7 @@ public class CreateDBInstanceRequestMarshaller implements Marshaller<Request<Cre
 
             for (String dBSecurityGroupsListValue : dBSecurityGroupsList) {
                 if (dBSecurityGroupsListValue != null) {
-                    request.addParameter("DBSecurityGroups.member." + dBSecurityGroupsListIndex, StringUtils.fromString(dBSecurityGroupsListValue));
+                    request.addParameter(DBSECURITY_GROUPS_MEMBER_NAMES.get(dBSecurityGroupsListIndex), StringUtils.fromString(dBSecurityGroupsListValue));
                 }
                 dBSecurityGroupsListIndex++;
             }
@@ -128,4 +131,9 @@ public class CreateDBInstanceRequestMarshaller implements Marshaller<Request<Cre
 
         return request;
     }
+
+    private static final CreateDBInstanceRequestMarshaller instance = new CreateDBInstanceRequestMarshaller();
+    public static CreateDBInstanceRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -52,4 +52,9 @@ public class CreateDBParameterGroupRequestMarshaller implements Marshaller<Reque
 
         return request;
     }
+
+    private static final CreateDBParameterGroupRequestMarshaller instance = new CreateDBParameterGroupRequestMarshaller();
+    public static CreateDBParameterGroupRequestMarshaller getInstance() {
+        return instance;
+    }
 }
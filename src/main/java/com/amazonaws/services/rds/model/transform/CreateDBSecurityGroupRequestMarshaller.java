@@ -47,4 +47,9 @@ public class CreateDBSecurityGroupRequestMarshaller implements Marshaller<Reques
 
         return request;
     }
+
+    private static final CreateDBSecurityGroupRequestMarshaller instance = new CreateDBSecurityGroupRequestMarshaller();
+    public static CreateDBSecurityGroupRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -47,4 +47,9 @@ public class CreateDBSnapshotRequestMarshaller implements Marshaller<Request<Cre
 
         return request;
     }
+
+    private static final CreateDBSnapshotRequestMarshaller instance = new CreateDBSnapshotRequestMarshaller();
+    public static CreateDBSnapshotRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -67,9 +67,8 @@ public class DBEngineVersionStaxUnmarshaller implements Unmarshaller<DBEngineVer
         }
     }
 
-    private static DBEngineVersionStaxUnmarshaller instance;
+    private static final DBEngineVersionStaxUnmarshaller instance = new DBEngineVersionStaxUnmarshaller();
     public static DBEngineVersionStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DBEngineVersionStaxUnmarshaller();
         return instance;
     }
 }
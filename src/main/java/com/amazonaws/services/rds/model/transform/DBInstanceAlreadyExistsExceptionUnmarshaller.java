@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.DBInstanceAlreadyExistsException;
 public class DBInstanceAlreadyExistsExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public DBInstanceAlreadyExistsExceptionUnmarshaller() {
-        super(DBInstanceAlreadyExistsException.class);
+        super(DBInstanceAlreadyExistsException.class, "DBInstanceAlreadyExists");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.DBInstanceNotFoundException;
 public class DBInstanceNotFoundExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public DBInstanceNotFoundExceptionUnmarshaller() {
-        super(DBInstanceNotFoundException.class);
+        super(DBInstanceNotFoundException.class, "DBInstanceNotFound");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -145,9 +145,8 @@ public class DBInstanceStaxUnmarshaller implements Unmarshaller<DBInstance, Stax
         }
     }
 
-    private static DBInstanceStaxUnmarshaller instance;
+    private static final DBInstanceStaxUnmarshaller instance = new DBInstanceStaxUnmarshaller();
     public static DBInstanceStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DBInstanceStaxUnmarshaller();
         return instance;
     }
 }
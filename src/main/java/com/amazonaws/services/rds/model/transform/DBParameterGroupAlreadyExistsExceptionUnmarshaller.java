@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.DBParameterGroupAlreadyExistsException;
 public class DBParameterGroupAlreadyExistsExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public DBParameterGroupAlreadyExistsExceptionUnmarshaller() {
-        super(DBParameterGroupAlreadyExistsException.class);
+        super(DBParameterGroupAlreadyExistsException.class, "DBParameterGroupAlreadyExists");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.DBParameterGroupNotFoundException;
 public class DBParameterGroupNotFoundExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public DBParameterGroupNotFoundExceptionUnmarshaller() {
-        super(DBParameterGroupNotFoundException.class);
+        super(DBParameterGroupNotFoundException.class, "DBParameterGroupNotFound");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.DBParameterGroupQuotaExceededException;
 public class DBParameterGroupQuotaExceededExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public DBParameterGroupQuotaExceededExceptionUnmarshaller() {
-        super(DBParameterGroupQuotaExceededException.class);
+        super(DBParameterGroupQuotaExceededException.class, "DBParameterGroupQuotaExceeded");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -63,9 +63,8 @@ public class DBParameterGroupStatusStaxUnmarshaller implements Unmarshaller<DBPa
         }
     }
 
-    private static DBParameterGroupStatusStaxUnmarshaller instance;
+    private static final DBParameterGroupStatusStaxUnmarshaller instance = new DBParameterGroupStatusStaxUnmarshaller();
     public static DBParameterGroupStatusStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DBParameterGroupStatusStaxUnmarshaller();
         return instance;
     }
 }
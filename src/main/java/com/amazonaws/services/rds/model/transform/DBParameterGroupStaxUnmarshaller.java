@@ -69,9 +69,8 @@ public class DBParameterGroupStaxUnmarshaller implements Unmarshaller<DBParamete
         }
     }
 
-    private static DBParameterGroupStaxUnmarshaller instance;
+    private static final DBParameterGroupStaxUnmarshaller instance = new DBParameterGroupStaxUnmarshaller();
     public static DBParameterGroupStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DBParameterGroupStaxUnmarshaller();
         return instance;
     }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.DBSecurityGroupAlreadyExistsException;
 public class DBSecurityGroupAlreadyExistsExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public DBSecurityGroupAlreadyExistsExceptionUnmarshaller() {
-        super(DBSecurityGroupAlreadyExistsException.class);
+        super(DBSecurityGroupAlreadyExistsException.class, "DBSecurityGroupAlreadyExists");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
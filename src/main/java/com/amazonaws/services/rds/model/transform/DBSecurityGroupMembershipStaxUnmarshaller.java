@@ -63,9 +63,8 @@ public class DBSecurityGroupMembershipStaxUnmarshaller implements Unmarshaller<D
         }
     }
 
-    private static DBSecurityGroupMembershipStaxUnmarshaller instance;
+    private static final DBSecurityGroupMembershipStaxUnmarshaller instance = new DBSecurityGroupMembershipStaxUnmarshaller();
     public static DBSecurityGroupMembershipStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DBSecurityGroupMembershipStaxUnmarshaller();
         return instance;
     }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.DBSecurityGroupNotFoundException;
 public class DBSecurityGroupNotFoundExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public DBSecurityGroupNotFoundExceptionUnmarshaller() {
-        super(DBSecurityGroupNotFoundException.class);
+        super(DBSecurityGroupNotFoundException.class, "DBSecurityGroupNotFound");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.DBSecurityGroupQuotaExceededException;
 public class DBSecurityGroupQuotaExceededExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public DBSecurityGroupQuotaExceededExceptionUnmarshaller() {
-        super(DBSecurityGroupQuotaExceededException.class);
+        super(DBSecurityGroupQuotaExceededException.class, "QuotaExceeded.DBSecurityGroup");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -77,9 +77,8 @@ public class DBSecurityGroupStaxUnmarshaller implements Unmarshaller<DBSecurityG
         }
     }
 
-    private static DBSecurityGroupStaxUnmarshaller instance;
+    private static final DBSecurityGroupStaxUnmarshaller instance = new DBSecurityGroupStaxUnmarshaller();
     public static DBSecurityGroupStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DBSecurityGroupStaxUnmarshaller();
         return instance;
     }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.DBSnapshotAlreadyExistsException;
 public class DBSnapshotAlreadyExistsExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public DBSnapshotAlreadyExistsExceptionUnmarshaller() {
-        super(DBSnapshotAlreadyExistsException.class);
+        super(DBSnapshotAlreadyExistsException.class, "DBSnapshotAlreadyExists");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.DBSnapshotNotFoundException;
 public class DBSnapshotNotFoundExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public DBSnapshotNotFoundExceptionUnmarshaller() {
-        super(DBSnapshotNotFoundException.class);
+        super(DBSnapshotNotFoundException.class, "DBSnapshotNotFound");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -101,9 +101,8 @@ public class DBSnapshotStaxUnmarshaller implements Unmarshaller<DBSnapshot, Stax
         }
     }
 
-    private static DBSnapshotStaxUnmarshaller instance;
+    private static final DBSnapshotStaxUnmarshaller instance = new DBSnapshotStaxUnmarshaller();
     public static DBSnapshotStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DBSnapshotStaxUnmarshaller();
         return instance;
     }
 }
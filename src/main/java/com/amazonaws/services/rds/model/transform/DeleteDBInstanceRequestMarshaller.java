@@ -52,4 +52,9 @@ public class DeleteDBInstanceRequestMarshaller implements Marshaller<Request<Del
 
         return request;
     }
+
+    private static final DeleteDBInstanceRequestMarshaller instance = new DeleteDBInstanceRequestMarshaller();
+    public static DeleteDBInstanceRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -42,4 +42,9 @@ public class DeleteDBParameterGroupRequestMarshaller implements Marshaller<Reque
 
         return request;
     }
+
+    private static final DeleteDBParameterGroupRequestMarshaller instance = new DeleteDBParameterGroupRequestMarshaller();
+    public static DeleteDBParameterGroupRequestMarshaller getInstance() {
+        return instance;
+    }
 }
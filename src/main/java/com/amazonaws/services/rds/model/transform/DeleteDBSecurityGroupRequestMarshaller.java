@@ -42,4 +42,9 @@ public class DeleteDBSecurityGroupRequestMarshaller implements Marshaller<Reques
 
         return request;
     }
+
+    private static final DeleteDBSecurityGroupRequestMarshaller instance = new DeleteDBSecurityGroupRequestMarshaller();
+    public static DeleteDBSecurityGroupRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -42,4 +42,9 @@ public class DeleteDBSnapshotRequestMarshaller implements Marshaller<Request<Del
 
         return request;
     }
+
+    private static final DeleteDBSnapshotRequestMarshaller instance = new DeleteDBSnapshotRequestMarshaller();
+    public static DeleteDBSnapshotRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -67,4 +67,9 @@ public class DescribeDBEngineVersionsRequestMarshaller implements Marshaller<Req
 
         return request;
     }
+
+    private static final DescribeDBEngineVersionsRequestMarshaller instance = new DescribeDBEngineVersionsRequestMarshaller();
+    public static DescribeDBEngineVersionsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -63,9 +63,8 @@ public class DescribeDBEngineVersionsResultStaxUnmarshaller implements Unmarshal
         }
     }
 
-    private static DescribeDBEngineVersionsResultStaxUnmarshaller instance;
+    private static final DescribeDBEngineVersionsResultStaxUnmarshaller instance = new DescribeDBEngineVersionsResultStaxUnmarshaller();
     public static DescribeDBEngineVersionsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeDBEngineVersionsResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -52,4 +52,9 @@ public class DescribeDBInstancesRequestMarshaller implements Marshaller<Request<
 
         return request;
     }
+
+    private static final DescribeDBInstancesRequestMarshaller instance = new DescribeDBInstancesRequestMarshaller();
+    public static DescribeDBInstancesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
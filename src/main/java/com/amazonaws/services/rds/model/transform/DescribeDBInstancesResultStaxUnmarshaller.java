@@ -63,9 +63,8 @@ public class DescribeDBInstancesResultStaxUnmarshaller implements Unmarshaller<D
         }
     }
 
-    private static DescribeDBInstancesResultStaxUnmarshaller instance;
+    private static final DescribeDBInstancesResultStaxUnmarshaller instance = new DescribeDBInstancesResultStaxUnmarshaller();
     public static DescribeDBInstancesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeDBInstancesResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -52,4 +52,9 @@ public class DescribeDBParameterGroupsRequestMarshaller implements Marshaller<Re
 
         return request;
     }
+
+    private static final DescribeDBParameterGroupsRequestMarshaller instance = new DescribeDBParameterGroupsRequestMarshaller();
+    public static DescribeDBParameterGroupsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
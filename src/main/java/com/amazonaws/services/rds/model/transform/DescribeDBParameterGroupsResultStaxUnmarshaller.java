@@ -63,9 +63,8 @@ public class DescribeDBParameterGroupsResultStaxUnmarshaller implements Unmarsha
         }
     }
 
-    private static DescribeDBParameterGroupsResultStaxUnmarshaller instance;
+    private static final DescribeDBParameterGroupsResultStaxUnmarshaller instance = new DescribeDBParameterGroupsResultStaxUnmarshaller();
     public static DescribeDBParameterGroupsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeDBParameterGroupsResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -57,4 +57,9 @@ public class DescribeDBParametersRequestMarshaller implements Marshaller<Request
 
         return request;
     }
+
+    private static final DescribeDBParametersRequestMarshaller instance = new DescribeDBParametersRequestMarshaller();
+    public static DescribeDBParametersRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -63,9 +63,8 @@ public class DescribeDBParametersResultStaxUnmarshaller implements Unmarshaller<
         }
     }
 
-    private static DescribeDBParametersResultStaxUnmarshaller instance;
+    private static final DescribeDBParametersResultStaxUnmarshaller instance = new DescribeDBParametersResultStaxUnmarshaller();
     public static DescribeDBParametersResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeDBParametersResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -52,4 +52,9 @@ public class DescribeDBSecurityGroupsRequestMarshaller implements Marshaller<Req
 
         return request;
     }
+
+    private static final DescribeDBSecurityGroupsRequestMarshaller instance = new DescribeDBSecurityGroupsRequestMarshaller();
+    public static DescribeDBSecurityGroupsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -63,9 +63,8 @@ public class DescribeDBSecurityGroupsResultStaxUnmarshaller implements Unmarshal
         }
     }
 
-    private static DescribeDBSecurityGroupsResultStaxUnmarshaller instance;
+    private static final DescribeDBSecurityGroupsResultStaxUnmarshaller instance = new DescribeDBSecurityGroupsResultStaxUnmarshaller();
     public static DescribeDBSecurityGroupsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeDBSecurityGroupsResultStaxUnmarshaller();
         return instance;
     }
 }
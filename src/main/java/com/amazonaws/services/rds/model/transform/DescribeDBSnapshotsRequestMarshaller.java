@@ -57,4 +57,9 @@ public class DescribeDBSnapshotsRequestMarshaller implements Marshaller<Request<
 
         return request;
     }
+
+    private static final DescribeDBSnapshotsRequestMarshaller instance = new DescribeDBSnapshotsRequestMarshaller();
+    public static DescribeDBSnapshotsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -63,9 +63,8 @@ public class DescribeDBSnapshotsResultStaxUnmarshaller implements Unmarshaller<D
         }
     }
 
-    private static DescribeDBSnapshotsResultStaxUnmarshaller instance;
+    private static final DescribeDBSnapshotsResultStaxUnmarshaller instance = new DescribeDBSnapshotsResultStaxUnmarshaller();
     public static DescribeDBSnapshotsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeDBSnapshotsResultStaxUnmarshaller();
         return instance;
     }
 }
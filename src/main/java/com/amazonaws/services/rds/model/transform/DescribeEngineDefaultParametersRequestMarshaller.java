@@ -52,4 +52,9 @@ public class DescribeEngineDefaultParametersRequestMarshaller implements Marshal
 
         return request;
     }
+
+    private static final DescribeEngineDefaultParametersRequestMarshaller instance = new DescribeEngineDefaultParametersRequestMarshaller();
+    public static DescribeEngineDefaultParametersRequestMarshaller getInstance() {
+        return instance;
+    }
 }
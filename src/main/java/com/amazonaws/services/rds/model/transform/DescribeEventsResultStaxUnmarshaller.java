@@ -63,9 +63,8 @@ public class DescribeEventsResultStaxUnmarshaller implements Unmarshaller<Descri
         }
     }
 
-    private static DescribeEventsResultStaxUnmarshaller instance;
+    private static final DescribeEventsResultStaxUnmarshaller instance = new DescribeEventsResultStaxUnmarshaller();
     public static DescribeEventsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeEventsResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -72,4 +72,9 @@ public class DescribeReservedDBInstancesOfferingsRequestMarshaller implements Ma
 
         return request;
     }
+
+    private static final DescribeReservedDBInstancesOfferingsRequestMarshaller instance = new DescribeReservedDBInstancesOfferingsRequestMarshaller();
+    public static DescribeReservedDBInstancesOfferingsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
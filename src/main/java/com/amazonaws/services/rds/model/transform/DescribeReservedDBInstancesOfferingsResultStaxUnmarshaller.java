@@ -63,9 +63,8 @@ public class DescribeReservedDBInstancesOfferingsResultStaxUnmarshaller implemen
         }
     }
 
-    private static DescribeReservedDBInstancesOfferingsResultStaxUnmarshaller instance;
+    private static final DescribeReservedDBInstancesOfferingsResultStaxUnmarshaller instance = new DescribeReservedDBInstancesOfferingsResultStaxUnmarshaller();
     public static DescribeReservedDBInstancesOfferingsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeReservedDBInstancesOfferingsResultStaxUnmarshaller();
         return instance;
     }
 }
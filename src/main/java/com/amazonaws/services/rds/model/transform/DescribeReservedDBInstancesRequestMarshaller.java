@@ -77,4 +77,9 @@ public class DescribeReservedDBInstancesRequestMarshaller implements Marshaller<
 
         return request;
     }
+
+    private static final DescribeReservedDBInstancesRequestMarshaller instance = new DescribeReservedDBInstancesRequestMarshaller();
+    public static DescribeReservedDBInstancesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
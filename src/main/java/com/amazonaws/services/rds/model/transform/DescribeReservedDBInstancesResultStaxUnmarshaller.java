@@ -63,9 +63,8 @@ public class DescribeReservedDBInstancesResultStaxUnmarshaller implements Unmars
         }
     }
 
-    private static DescribeReservedDBInstancesResultStaxUnmarshaller instance;
+    private static final DescribeReservedDBInstancesResultStaxUnmarshaller instance = new DescribeReservedDBInstancesResultStaxUnmarshaller();
     public static DescribeReservedDBInstancesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DescribeReservedDBInstancesResultStaxUnmarshaller();
         return instance;
     }
 }
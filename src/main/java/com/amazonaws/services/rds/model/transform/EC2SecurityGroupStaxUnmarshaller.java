@@ -67,9 +67,8 @@ public class EC2SecurityGroupStaxUnmarshaller implements Unmarshaller<EC2Securit
         }
     }
 
-    private static EC2SecurityGroupStaxUnmarshaller instance;
+    private static final EC2SecurityGroupStaxUnmarshaller instance = new EC2SecurityGroupStaxUnmarshaller();
     public static EC2SecurityGroupStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new EC2SecurityGroupStaxUnmarshaller();
         return instance;
     }
 }
@@ -63,9 +63,8 @@ public class EndpointStaxUnmarshaller implements Unmarshaller<Endpoint, StaxUnma
         }
     }
 
-    private static EndpointStaxUnmarshaller instance;
+    private static final EndpointStaxUnmarshaller instance = new EndpointStaxUnmarshaller();
     public static EndpointStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new EndpointStaxUnmarshaller();
         return instance;
     }
 }
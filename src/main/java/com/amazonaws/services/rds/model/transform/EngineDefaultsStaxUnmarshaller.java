@@ -69,9 +69,8 @@ public class EngineDefaultsStaxUnmarshaller implements Unmarshaller<EngineDefaul
         }
     }
 
-    private static EngineDefaultsStaxUnmarshaller instance;
+    private static final EngineDefaultsStaxUnmarshaller instance = new EngineDefaultsStaxUnmarshaller();
     public static EngineDefaultsStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new EngineDefaultsStaxUnmarshaller();
         return instance;
     }
 }
@@ -71,9 +71,8 @@ public class EventStaxUnmarshaller implements Unmarshaller<Event, StaxUnmarshall
         }
     }
 
-    private static EventStaxUnmarshaller instance;
+    private static final EventStaxUnmarshaller instance = new EventStaxUnmarshaller();
     public static EventStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new EventStaxUnmarshaller();
         return instance;
     }
 }
@@ -63,9 +63,8 @@ public class IPRangeStaxUnmarshaller implements Unmarshaller<IPRange, StaxUnmars
         }
     }
 
-    private static IPRangeStaxUnmarshaller instance;
+    private static final IPRangeStaxUnmarshaller instance = new IPRangeStaxUnmarshaller();
     public static IPRangeStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new IPRangeStaxUnmarshaller();
         return instance;
     }
 }
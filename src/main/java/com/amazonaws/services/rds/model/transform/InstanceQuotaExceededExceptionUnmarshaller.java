@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.InstanceQuotaExceededException;
 public class InstanceQuotaExceededExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InstanceQuotaExceededExceptionUnmarshaller() {
-        super(InstanceQuotaExceededException.class);
+        super(InstanceQuotaExceededException.class, "InstanceQuotaExceeded");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
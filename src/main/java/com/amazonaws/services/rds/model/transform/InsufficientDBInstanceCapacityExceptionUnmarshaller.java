@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.InsufficientDBInstanceCapacityException;
 public class InsufficientDBInstanceCapacityExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InsufficientDBInstanceCapacityExceptionUnmarshaller() {
-        super(InsufficientDBInstanceCapacityException.class);
+        super(InsufficientDBInstanceCapacityException.class, "InsufficientDBInstanceCapacity");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
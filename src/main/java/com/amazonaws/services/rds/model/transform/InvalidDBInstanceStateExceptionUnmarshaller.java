@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.InvalidDBInstanceStateException;
 public class InvalidDBInstanceStateExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidDBInstanceStateExceptionUnmarshaller() {
-        super(InvalidDBInstanceStateException.class);
+        super(InvalidDBInstanceStateException.class, "InvalidDBInstanceState");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
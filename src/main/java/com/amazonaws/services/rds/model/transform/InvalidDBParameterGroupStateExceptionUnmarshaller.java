@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.InvalidDBParameterGroupStateException;
 public class InvalidDBParameterGroupStateExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidDBParameterGroupStateExceptionUnmarshaller() {
-        super(InvalidDBParameterGroupStateException.class);
+        super(InvalidDBParameterGroupStateException.class, "InvalidDBParameterGroupState");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.InvalidDBSecurityGroupStateException;
 public class InvalidDBSecurityGroupStateExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidDBSecurityGroupStateExceptionUnmarshaller() {
-        super(InvalidDBSecurityGroupStateException.class);
+        super(InvalidDBSecurityGroupStateException.class, "InvalidDBSecurityGroupState");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.InvalidDBSnapshotStateException;
 public class InvalidDBSnapshotStateExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidDBSnapshotStateExceptionUnmarshaller() {
-        super(InvalidDBSnapshotStateException.class);
+        super(InvalidDBSnapshotStateException.class, "InvalidDBSnapshotState");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
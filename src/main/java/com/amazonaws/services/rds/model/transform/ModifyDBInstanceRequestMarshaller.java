@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.rds.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class ModifyDBInstanceRequestMarshaller implements Marshaller<Request<ModifyDBInstanceRequest>, ModifyDBInstanceRequest> {
 
+    private static final ParameterNameTable DBSECURITY_GROUPS_MEMBER_NAMES = new ParameterNameTable("DBSecurityGroups.member.", "");
+
     public Request<ModifyDBInstanceRequest> marshall(ModifyDBInstanceRequest modifyDBInstanceRequest) {
         Request<ModifyDBInstanceRequest> request = new DefaultRequest<ModifyDBInstanceRequest>(modifyDBInstanceRequest, "AmazonRDS");
         request.addParameter("Action", "ModifyDBInstance");
@@ -54,7 +57,7 @@ public class ModifyDBInstanceRequestMarshaller implements Marshaller<Request<Mod
 
             for (String dBSecurityGroupsListValue : dBSecurityGroupsList) {
                 if (dBSecurityGroupsListValue != null) {
-                    request.addParameter("DBSecurityGroups.member." + dBSecurityGroupsListIndex, StringUtils.fromString(dBSecurityGroupsListValue));
+                    request.addParameter(DBSECURITY_GROUPS_MEMBER_NAMES.get(dBSecurityGroupsListIndex), StringUtils.fromString(dBSecurityGroupsListValue));
                 }
                 dBSecurityGroupsListIndex++;
             }
@@ -113,4 +116,9 @@ public class ModifyDBInstanceRequestMarshaller implements Marshaller<Request<Mod
 
         return request;
     }
+
+    private static final ModifyDBInstanceRequestMarshaller instance = new ModifyDBInstanceRequestMarshaller();
+    public static ModifyDBInstanceRequestMarshaller getInstance() {
+        return instance;
+    }
 }
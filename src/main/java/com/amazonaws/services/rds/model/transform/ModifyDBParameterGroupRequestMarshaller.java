@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.rds.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,17 @@ import com.amazonaws.util.StringUtils;
  */
 public class ModifyDBParameterGroupRequestMarshaller implements Marshaller<Request<ModifyDBParameterGroupRequest>, ModifyDBParameterGroupRequest> {
 
+    private static final ParameterNameTable PARAMETERS_MEMBER_PARAMETER_NAME_NAMES = new ParameterNameTable("Parameters.member.", ".ParameterName");
+    private static final ParameterNameTable PARAMETERS_MEMBER_PARAMETER_VALUE_NAMES = new ParameterNameTable("Parameters.member.", ".ParameterValue");
+    private static final ParameterNameTable PARAMETERS_MEMBER_DESCRIPTION_NAMES = new ParameterNameTable("Parameters.member.", ".Description");
+    private static final ParameterNameTable PARAMETERS_MEMBER_SOURCE_NAMES = new ParameterNameTable("Parameters.member.", ".Source");
+    private static final ParameterNameTable PARAMETERS_MEMBER_APPLY_TYPE_NAMES = new ParameterNameTable("Parameters.member.", ".ApplyType");
+    private static final ParameterNameTable PARAMETERS_MEMBER_DATA_TYPE_NAMES = new ParameterNameTable("Parameters.member.", ".DataType");
+    private static final ParameterNameTable PARAMETERS_MEMBER_ALLOWED_VALUES_NAMES = new ParameterNameTable("Parameters.member.", ".AllowedValues");
+    private static final ParameterNameTable PARAMETERS_MEMBER_IS_MODIFIABLE_NAMES = new ParameterNameTable("Parameters.member.", ".IsModifiable");
+    private static final ParameterNameTable PARAMETERS_MEMBER_MINIMUM_ENGINE_VERSION_NAMES = new ParameterNameTable("Parameters.member.", ".MinimumEngineVersion");
+    private static final ParameterNameTable PARAMETERS_MEMBER_APPLY_METHOD_NAMES = new ParameterNameTable("Parameters.member.", ".ApplyMethod");
+
     public Request<ModifyDBParameterGroupRequest> marshall(ModifyDBParameterGroupRequest modifyDBParameterGroupRequest) {
         Request<ModifyDBParameterGroupRequest> request = new DefaultRequest<ModifyDBParameterGroupRequest>(modifyDBParameterGroupRequest, "AmazonRDS");
         request.addParameter("Action", "ModifyDBParameterGroup");
@@ -45,52 +57,52 @@ public class ModifyDBParameterGroupRequestMarshaller implements Marshaller<Reque
             for (Parameter parametersListValue : parametersList) {
                 if (parametersListValue != null) {
                     if (parametersListValue.getParameterName() != null) {
-                        request.addParameter("Parameters.member." + parametersListIndex + ".ParameterName", StringUtils.fromString(parametersListValue.getParameterName()));
+                        request.addParameter(PARAMETERS_MEMBER_PARAMETER_NAME_NAMES.get(parametersListIndex), StringUtils.fromString(parametersListValue.getParameterName()));
                     }
                 }
                 if (parametersListValue != null) {
                     if (parametersListValue.getParameterValue() != null) {
-                        request.addParameter("Parameters.member." + parametersListIndex + ".ParameterValue", StringUtils.fromString(parametersListValue.getParameterValue()));
+                        request.addParameter(PARAMETERS_MEMBER_PARAMETER_VALUE_NAMES.get(parametersListIndex), StringUtils.fromString(parametersListValue.getParameterValue()));
                     }
                 }
                 if (parametersListValue != null) {
                     if (parametersListValue.getDescription() != null) {
-                        request.addParameter("Parameters.member." + parametersListIndex + ".Description", StringUtils.fromString(parametersListValue.getDescription()));
+                        request.addParameter(PARAMETERS_MEMBER_DESCRIPTION_NAMES.get(parametersListIndex), StringUtils.fromString(parametersListValue.getDescription()));
                     }
                 }
                 if (parametersListValue != null) {
                     if (parametersListValue.getSource() != null) {
-                        request.addParameter("Parameters.member." + parametersListIndex + ".Source", StringUtils.fromString(parametersListValue.getSource()));
+                        request.addParameter(PARAMETERS_MEMBER_SOURCE_NAMES.get(parametersListIndex), StringUtils.fromString(parametersListValue.getSource()));
                     }
                 }
                 if (parametersListValue != null) {
                     if (parametersListValue.getApplyType() != null) {
-                        request.addParameter("Parameters.member." + parametersListIndex + ".ApplyType", StringUtils.fromString(parametersListValue.getApplyType()));
+                        request.addParameter(PARAMETERS_MEMBER_APPLY_TYPE_NAMES.get(parametersListIndex), StringUtils.fromString(parametersListValue.getApplyType()));
                     }
                 }
                 if (parametersListValue != null) {
                     if (parametersListValue.getDataType() != null) {
-                        request.addParameter("Parameters.member." + parametersListIndex + ".DataType", StringUtils.fromString(parametersListValue.getDataType()));
+                        request.addParameter(PARAMETERS_MEMBER_DATA_TYPE_NAMES.get(parametersListIndex), StringUtils.fromString(parametersListValue.getDataType()));
                     }
                 }
                 if (parametersListValue != null) {
                     if (parametersListValue.getAllowedValues() != null) {
-                        request.addParameter("Parameters.member." + parametersListIndex + ".AllowedValues", StringUtils.fromString(parametersListValue.getAllowedValues()));
+                        request.addParameter(PARAMETERS_MEMBER_ALLOWED_VALUES_NAMES.get(parametersListIndex), StringUtils.fromString(parametersListValue.getAllowedValues()));
                     }
                 }
                 if (parametersListValue != null) {
                     if (parametersListValue.isModifiable() != null) {
-                        request.addParameter("Parameters.member." + parametersListIndex + ".IsModifiable", StringUtils.fromBoolean(parametersListValue.isModifiable()));
+                        request.addParameter(PARAMETERS_MEMBER_IS_MODIFIABLE_NAMES.get(parametersListIndex), StringUtils.fromBoolean(parametersListValue.isModifiable()));
                     }
                 }
                 if (parametersListValue != null) {
                     if (parametersListValue.getMinimumEngineVersion() != null) {
-                        request.addParameter("Parameters.member." + parametersListIndex + ".MinimumEngineVersion", StringUtils.fromString(parametersListValue.getMinimumEngineVersion()));
+                        request.addParameter(PARAMETERS_MEMBER_MINIMUM_ENGINE_VERSION_NAMES.get(parametersListIndex), StringUtils.fromString(parametersListValue.getMinimumEngineVersion()));
                     }
                 }
                 if (parametersListValue != null) {
                     if (parametersListValue.getApplyMethod() != null) {
-                        request.addParameter("Parameters.member." + parametersListIndex + ".ApplyMethod", StringUtils.fromString(parametersListValue.getApplyMethod()));
+                        request.addParameter(PARAMETERS_MEMBER_APPLY_METHOD_NAMES.get(parametersListIndex), StringUtils.fromString(parametersListValue.getApplyMethod()));
                     }
                 }
 
@@ -101,4 +113,9 @@ public class ModifyDBParameterGroupRequestMarshaller implements Marshaller<Reque
 
         return request;
     }
+
+    private static final ModifyDBParameterGroupRequestMarshaller instance = new ModifyDBParameterGroupRequestMarshaller();
+    public static ModifyDBParameterGroupRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class ModifyDBParameterGroupResultStaxUnmarshaller implements Unmarshalle
         }
     }
 
-    private static ModifyDBParameterGroupResultStaxUnmarshaller instance;
+    private static final ModifyDBParameterGroupResultStaxUnmarshaller instance = new ModifyDBParameterGroupResultStaxUnmarshaller();
     public static ModifyDBParameterGroupResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ModifyDBParameterGroupResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -95,9 +95,8 @@ public class ParameterStaxUnmarshaller implements Unmarshaller<Parameter, StaxUn
         }
     }
 
-    private static ParameterStaxUnmarshaller instance;
+    private static final ParameterStaxUnmarshaller instance = new ParameterStaxUnmarshaller();
     public static ParameterStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ParameterStaxUnmarshaller();
         return instance;
     }
 }
@@ -83,9 +83,8 @@ public class PendingModifiedValuesStaxUnmarshaller implements Unmarshaller<Pendi
         }
     }
 
-    private static PendingModifiedValuesStaxUnmarshaller instance;
+    private static final PendingModifiedValuesStaxUnmarshaller instance = new PendingModifiedValuesStaxUnmarshaller();
     public static PendingModifiedValuesStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new PendingModifiedValuesStaxUnmarshaller();
         return instance;
     }
 }
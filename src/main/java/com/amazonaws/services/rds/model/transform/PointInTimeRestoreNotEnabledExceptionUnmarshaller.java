@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.PointInTimeRestoreNotEnabledException;
 public class PointInTimeRestoreNotEnabledExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public PointInTimeRestoreNotEnabledExceptionUnmarshaller() {
-        super(PointInTimeRestoreNotEnabledException.class);
+        super(PointInTimeRestoreNotEnabledException.class, "PointInTimeRestoreNotEnabled");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -52,4 +52,9 @@ public class PurchaseReservedDBInstancesOfferingRequestMarshaller implements Mar
 
         return request;
     }
+
+    private static final PurchaseReservedDBInstancesOfferingRequestMarshaller instance = new PurchaseReservedDBInstancesOfferingRequestMarshaller();
+    public static PurchaseReservedDBInstancesOfferingRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -42,4 +42,9 @@ public class RebootDBInstanceRequestMarshaller implements Marshaller<Request<Reb
 
         return request;
     }
+
+    private static final RebootDBInstanceRequestMarshaller instance = new RebootDBInstanceRequestMarshaller();
+    public static RebootDBInstanceRequestMarshaller getInstance() {
+        return instance;
+    }
 }
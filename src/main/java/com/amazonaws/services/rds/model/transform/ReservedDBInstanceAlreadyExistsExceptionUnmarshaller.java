@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.ReservedDBInstanceAlreadyExistsException
 public class ReservedDBInstanceAlreadyExistsExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public ReservedDBInstanceAlreadyExistsExceptionUnmarshaller() {
-        super(ReservedDBInstanceAlreadyExistsException.class);
+        super(ReservedDBInstanceAlreadyExistsException.class, "ReservedDBInstanceAlreadyExists");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.ReservedDBInstanceNotFoundException;
 public class ReservedDBInstanceNotFoundExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public ReservedDBInstanceNotFoundExceptionUnmarshaller() {
-        super(ReservedDBInstanceNotFoundException.class);
+        super(ReservedDBInstanceNotFoundException.class, "ReservedDBInstanceNotFound");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
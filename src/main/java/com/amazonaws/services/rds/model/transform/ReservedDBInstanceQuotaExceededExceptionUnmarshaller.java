@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.ReservedDBInstanceQuotaExceededException
 public class ReservedDBInstanceQuotaExceededExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public ReservedDBInstanceQuotaExceededExceptionUnmarshaller() {
-        super(ReservedDBInstanceQuotaExceededException.class);
+        super(ReservedDBInstanceQuotaExceededException.class, "ReservedDBInstanceQuotaExceeded");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -101,9 +101,8 @@ public class ReservedDBInstanceStaxUnmarshaller implements Unmarshaller<Reserved
         }
     }
 
-    private static ReservedDBInstanceStaxUnmarshaller instance;
+    private static final ReservedDBInstanceStaxUnmarshaller instance = new ReservedDBInstanceStaxUnmarshaller();
     public static ReservedDBInstanceStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ReservedDBInstanceStaxUnmarshaller();
         return instance;
     }
 }
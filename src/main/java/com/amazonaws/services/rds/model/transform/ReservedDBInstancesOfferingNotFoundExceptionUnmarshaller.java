@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.ReservedDBInstancesOfferingNotFoundExcep
 public class ReservedDBInstancesOfferingNotFoundExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public ReservedDBInstancesOfferingNotFoundExceptionUnmarshaller() {
-        super(ReservedDBInstancesOfferingNotFoundException.class);
+        super(ReservedDBInstancesOfferingNotFoundException.class, "ReservedDBInstancesOfferingNotFound");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -85,9 +85,8 @@ public class ReservedDBInstancesOfferingStaxUnmarshaller implements Unmarshaller
         }
     }
 
-    private static ReservedDBInstancesOfferingStaxUnmarshaller instance;
+    private static final ReservedDBInstancesOfferingStaxUnmarshaller instance = new ReservedDBInstancesOfferingStaxUnmarshaller();
     public static ReservedDBInstancesOfferingStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ReservedDBInstancesOfferingStaxUnmarshaller();
         return instance;
     }
 }
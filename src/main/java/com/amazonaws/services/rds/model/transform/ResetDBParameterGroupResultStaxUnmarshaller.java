@@ -59,9 +59,8 @@ public class ResetDBParameterGroupResultStaxUnmarshaller implements Unmarshaller
         }
     }
 
-    private static ResetDBParameterGroupResultStaxUnmarshaller instance;
+    private static final ResetDBParameterGroupResultStaxUnmarshaller instance = new ResetDBParameterGroupResultStaxUnmarshaller();
     public static ResetDBParameterGroupResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ResetDBParameterGroupResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -72,4 +72,9 @@ public class RestoreDBInstanceFromDBSnapshotRequestMarshaller implements Marshal
 
         return request;
     }
+
+    private static final RestoreDBInstanceFromDBSnapshotRequestMarshaller instance = new RestoreDBInstanceFromDBSnapshotRequestMarshaller();
+    public static RestoreDBInstanceFromDBSnapshotRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -82,4 +82,9 @@ public class RestoreDBInstanceToPointInTimeRequestMarshaller implements Marshall
 
         return request;
     }
+
+    private static final RestoreDBInstanceToPointInTimeRequestMarshaller instance = new RestoreDBInstanceToPointInTimeRequestMarshaller();
+    public static RestoreDBInstanceToPointInTimeRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -57,4 +57,9 @@ public class RevokeDBSecurityGroupIngressRequestMarshaller implements Marshaller
 
         return request;
     }
+
+    private static final RevokeDBSecurityGroupIngressRequestMarshaller instance = new RevokeDBSecurityGroupIngressRequestMarshaller();
+    public static RevokeDBSecurityGroupIngressRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.SnapshotQuotaExceededException;
 public class SnapshotQuotaExceededExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public SnapshotQuotaExceededExceptionUnmarshaller() {
-        super(SnapshotQuotaExceededException.class);
+        super(SnapshotQuotaExceededException.class, "SnapshotQuotaExceeded");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
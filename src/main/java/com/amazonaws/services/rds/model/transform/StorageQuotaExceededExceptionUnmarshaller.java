@@ -25,7 +25,7 @@ import com.amazonaws.services.rds.model.StorageQuotaExceededException;
 public class StorageQuotaExceededExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public StorageQuotaExceededExceptionUnmarshaller() {
-        super(StorageQuotaExceededException.class);
+        super(StorageQuotaExceededException.class, "StorageQuotaExceeded");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -34,10 +34,13 @@ import com.amazonaws.services.s3.model.BucketPolicy;
 import com.amazonaws.services.s3.model.BucketVersioningConfiguration;
 import com.amazonaws.services.s3.model.BucketWebsiteConfiguration;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ChannelResponseBodyConsumer;
 import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
 import com.amazonaws.services.s3.model.CopyObjectRequest;
 import com.amazonaws.services.s3.model.CopyObjectResult;
+import com.amazonaws.services.s3.model.CopyPartRequest;
+import com.amazonaws.services.s3.model.CopyPartResult;
 import com.amazonaws.services.s3.model.CreateBucketRequest;
 import com.amazonaws.services.s3.model.DeleteBucketRequest;
 import com.amazonaws.services.s3.model.DeleteBucketWebsiteConfigurationRequest;
@@ -65,6 +68,7 @@ import com.amazonaws.services.s3.model.Permission;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.PutObjectResult;
 import com.amazonaws.services.s3.model.Region;
+import com.amazonaws.services.s3.model.ResponseBodyConsumer;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.SetBucketLoggingConfigurationRequest;
 import com.amazonaws.services.s3.model.SetBucketVersioningConfigurationRequest;
@@ -1747,6 +1751,53 @@ public interface AmazonS3 {
     public ObjectMetadata getObject(GetObjectRequest getObjectRequest, File destinationFile)
             throws AmazonClientException, AmazonServiceException;
 
+    /**
+     * <p>
+     * Gets the object stored in Amazon S3 under the specified bucket and key,
+     * and pushes its metadata and content to the specified consumer.
+     * Returns <code>null</code> if the specified constraints weren't met.
+     * </p>
+     * <p>
+     * The client reads the object content into buffers supplied by the
+     * consumer, using large reads, and passes each filled buffer to it. Unlike
+     * {@link AmazonS3#getObject(GetObjectRequest)}, no stream is handed back to
+     * the caller: the underlying HTTP connection is released as soon as this
+     * method returns, even if the consumer stops the transfer early or fails.
+     * </p>
+     * <p>
+     * To get an object from Amazon S3, the caller must have {@link Permission#Read}
+     * access to the object.
+     * </p>
+     * <p>
+     * When specifying constraints in the request object, the client needs to be
+     * prepared to handle this method returning <code>null</code>
+     * if the provided constraints aren't met when Amazon S3 receives the request.
+     * In that case the consumer isn't called.
+     * </p>
+     *
+     * @param getObjectRequest
+     *            The request object containing all the options on how to
+     *            download the Amazon S3 object content.
+     * @param consumer
+     *            The consumer to push the object metadata and content to.
+     *
+     * @return All S3 object metadata for the specified object.
+     *         Returns <code>null</code> if constraints were specified but not met.
+     *
+     * @throws AmazonClientException
+     *             If any errors are encountered in the client while making the
+     *             request, handling the response, or passing the incoming data
+     *             from S3 to the consumer.
+     * @throws AmazonServiceException
+     *             If any errors occurred in Amazon S3 while processing the
+     *             request.
+     *
+     * @see ResponseBodyConsumer
+     * @see ChannelResponseBodyConsumer
+     */
+    public ObjectMetadata getObject(GetObjectRequest getObjectRequest, ResponseBodyConsumer consumer)
+            throws AmazonClientException, AmazonServiceException;
+
     /**
      * <p>
      * Deletes the specified bucket. All objects (and all object versions, if versioning
@@ -3083,6 +3134,40 @@ public interface AmazonS3 {
     public UploadPartResult uploadPart(UploadPartRequest request)
             throws AmazonClientException, AmazonServiceException;
 
+    /**
+     * Copies a source object, or a byte range of a source object, to a part of
+     * a multipart upload. The data is copied within Amazon S3, so large
+     * objects can be copied in parallel parts without passing through the
+     * client.
+     * <p>
+     * As with {@link #uploadPart(UploadPartRequest)}, the upload ID returned
+     * by {@link #initiateMultipartUpload(InitiateMultipartUploadRequest)} and
+     * a part number between 1 and 10,000 must be specified. The returned
+     * CopyPartResult contains the part's ETag, which must be included in the
+     * final CompleteMultipartUpload request.
+     * <p>
+     * If any of the constraints specified in the request (ex: matching ETag,
+     * modified since date, etc.) aren't met, no part is copied and
+     * <code>null</code> is returned.
+     *
+     * @param copyPartRequest
+     *            The CopyPartRequest object that specifies all the parameters
+     *            of this operation.
+     *
+     * @return A CopyPartResult from Amazon S3 containing the part number and
+     *         ETag of the new part, or <code>null</code> if the specified
+     *         constraints weren't met.
+     *
+     * @throws AmazonClientException
+     *             If any errors are encountered in the client while making the
+     *             request or handling the response.
+     * @throws AmazonServiceException
+     *             If any errors occurred in Amazon S3 while processing the
+     *             request.
+     */
+    public CopyPartResult copyPart(CopyPartRequest copyPartRequest)
+            throws AmazonClientException, AmazonServiceException;
+
     /**
      * Lists the parts that have been uploaded for a specific multipart upload.
      * <p>
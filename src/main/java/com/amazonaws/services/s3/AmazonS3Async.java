@@ -0,0 +1,1748 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.services.s3.model.*;
+
+/**
+ * Interface for accessing Amazon S3 asynchronously, using Java Futures.
+ * <p>
+ * Covers the object, listing, multipart upload and bucket configuration
+ * operations of {@link AmazonS3}. Operations that take a request object also
+ * accept an {@link AsyncHandler} to be notified when the call completes.
+ * <p>
+ * Object content can be delivered to a caller-supplied file or stream with
+ * {@link #getObjectAsync(GetObjectRequest, File)} and
+ * {@link #getObjectAsync(GetObjectRequest, OutputStream)}, or pushed to a
+ * {@link ResponseBodyConsumer} with
+ * {@link #getObjectAsync(GetObjectRequest, ResponseBodyConsumer)}. The content is
+ * transferred by the client's executor, and the connection released, before
+ * the returned Future completes, so callers never have to hold a thread of
+ * their own open while the body downloads.
+ */
+public interface AmazonS3Async extends AmazonS3 {
+
+    /**
+     * <p>
+     * Returns a list of summary information about the objects in the
+     * specified bucket. Results may be truncated; use
+     * {@link AmazonS3#listNextBatchOfObjects(ObjectListing)} or
+     * {@link #listNextBatchOfObjectsAsync(ObjectListing)} to page through
+     * them.
+     * </p>
+     *
+     * @param listObjectsRequest
+     *            Container for the necessary parameters to execute the
+     *            ListObjects operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         ListObjects service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ObjectListing> listObjectsAsync(ListObjectsRequest listObjectsRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Returns a list of summary information about the objects in the
+     * specified bucket. Results may be truncated; use
+     * {@link AmazonS3#listNextBatchOfObjects(ObjectListing)} or
+     * {@link #listNextBatchOfObjectsAsync(ObjectListing)} to page through
+     * them.
+     * </p>
+     *
+     * @param listObjectsRequest
+     *            Container for the necessary parameters to execute the
+     *            ListObjects operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         ListObjects service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ObjectListing> listObjectsAsync(ListObjectsRequest listObjectsRequest,
+            AsyncHandler<ListObjectsRequest, ObjectListing> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Returns the next page of results from a previous truncated object
+     * listing.
+     * </p>
+     *
+     * @param previousObjectListing The previous truncated object listing.
+     *
+     * @return A Java Future object containing the response from the
+     *         ListNextBatchOfObjects service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ObjectListing> listNextBatchOfObjectsAsync(ObjectListing previousObjectListing)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Returns a list of summary information about the versions in the
+     * specified bucket.
+     * </p>
+     *
+     * @param listVersionsRequest
+     *            Container for the necessary parameters to execute the
+     *            ListVersions operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         ListVersions service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<VersionListing> listVersionsAsync(ListVersionsRequest listVersionsRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Returns a list of summary information about the versions in the
+     * specified bucket.
+     * </p>
+     *
+     * @param listVersionsRequest
+     *            Container for the necessary parameters to execute the
+     *            ListVersions operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         ListVersions service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<VersionListing> listVersionsAsync(ListVersionsRequest listVersionsRequest,
+            AsyncHandler<ListVersionsRequest, VersionListing> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Returns the next page of results from a previous truncated version
+     * listing.
+     * </p>
+     *
+     * @param previousVersionListing The previous truncated version listing.
+     *
+     * @return A Java Future object containing the response from the
+     *         ListNextBatchOfVersions service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<VersionListing> listNextBatchOfVersionsAsync(VersionListing previousVersionListing)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Returns a list of all Amazon S3 buckets that the authenticated sender
+     * of the request owns.
+     * </p>
+     *
+     * @param listBucketsRequest
+     *            Container for the necessary parameters to execute the
+     *            ListBuckets operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         ListBuckets service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<List<Bucket>> listBucketsAsync(ListBucketsRequest listBucketsRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Returns a list of all Amazon S3 buckets that the authenticated sender
+     * of the request owns.
+     * </p>
+     *
+     * @param listBucketsRequest
+     *            Container for the necessary parameters to execute the
+     *            ListBuckets operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         ListBuckets service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<List<Bucket>> listBucketsAsync(ListBucketsRequest listBucketsRequest,
+            AsyncHandler<ListBucketsRequest, List<Bucket>> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gets the geographical region where Amazon S3 stores the specified
+     * bucket.
+     * </p>
+     *
+     * @param getBucketLocationRequest
+     *            Container for the necessary parameters to execute the
+     *            GetBucketLocation operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetBucketLocation service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<String> getBucketLocationAsync(GetBucketLocationRequest getBucketLocationRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gets the geographical region where Amazon S3 stores the specified
+     * bucket.
+     * </p>
+     *
+     * @param getBucketLocationRequest
+     *            Container for the necessary parameters to execute the
+     *            GetBucketLocation operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetBucketLocation service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<String> getBucketLocationAsync(GetBucketLocationRequest getBucketLocationRequest,
+            AsyncHandler<GetBucketLocationRequest, String> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Creates a new Amazon S3 bucket in the region given in the request.
+     * </p>
+     *
+     * @param createBucketRequest
+     *            Container for the necessary parameters to execute the
+     *            CreateBucket operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         CreateBucket service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Bucket> createBucketAsync(CreateBucketRequest createBucketRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Creates a new Amazon S3 bucket in the region given in the request.
+     * </p>
+     *
+     * @param createBucketRequest
+     *            Container for the necessary parameters to execute the
+     *            CreateBucket operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         CreateBucket service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Bucket> createBucketAsync(CreateBucketRequest createBucketRequest,
+            AsyncHandler<CreateBucketRequest, Bucket> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Deletes the specified bucket. All objects (including all object
+     * versions and delete markers) in the bucket must be deleted before the
+     * bucket itself can be deleted.
+     * </p>
+     *
+     * @param deleteBucketRequest
+     *            Container for the necessary parameters to execute the
+     *            DeleteBucket operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         DeleteBucket service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteBucketAsync(DeleteBucketRequest deleteBucketRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Deletes the specified bucket. All objects (including all object
+     * versions and delete markers) in the bucket must be deleted before the
+     * bucket itself can be deleted.
+     * </p>
+     *
+     * @param deleteBucketRequest
+     *            Container for the necessary parameters to execute the
+     *            DeleteBucket operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         DeleteBucket service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteBucketAsync(DeleteBucketRequest deleteBucketRequest,
+            AsyncHandler<DeleteBucketRequest, Void> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gets the {@link AccessControlList} (ACL) for the specified Amazon S3
+     * bucket.
+     * </p>
+     *
+     * @param bucketName The name of the bucket.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetBucketAcl service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<AccessControlList> getBucketAclAsync(String bucketName)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Sets the {@link AccessControlList} for the specified Amazon S3 bucket.
+     * </p>
+     *
+     * @param bucketName The name of the bucket.
+     * @param acl The new access control list.
+     *
+     * @return A Java Future object containing the response from the
+     *         SetBucketAcl service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setBucketAclAsync(String bucketName, AccessControlList acl)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gets the metadata for the specified Amazon S3 object without actually
+     * fetching the object itself.
+     * </p>
+     *
+     * @param getObjectMetadataRequest
+     *            Container for the necessary parameters to execute the
+     *            GetObjectMetadata operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetObjectMetadata service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ObjectMetadata> getObjectMetadataAsync(GetObjectMetadataRequest getObjectMetadataRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gets the metadata for the specified Amazon S3 object without actually
+     * fetching the object itself.
+     * </p>
+     *
+     * @param getObjectMetadataRequest
+     *            Container for the necessary parameters to execute the
+     *            GetObjectMetadata operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetObjectMetadata service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ObjectMetadata> getObjectMetadataAsync(GetObjectMetadataRequest getObjectMetadataRequest,
+            AsyncHandler<GetObjectMetadataRequest, ObjectMetadata> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gets the object stored in Amazon S3 under the specified bucket and
+     * key. The returned object's content stream is still open, and is read
+     * by the caller once the Future completes; to have the content
+     * transferred on the executor instead, use
+     * {@link #getObjectAsync(GetObjectRequest, File)} or
+     * {@link #getObjectAsync(GetObjectRequest, OutputStream)}.
+     * </p>
+     *
+     * @param getObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            GetObject operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<S3Object> getObjectAsync(GetObjectRequest getObjectRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gets the object stored in Amazon S3 under the specified bucket and
+     * key. The returned object's content stream is still open, and is read
+     * by the caller once the Future completes; to have the content
+     * transferred on the executor instead, use
+     * {@link #getObjectAsync(GetObjectRequest, File)} or
+     * {@link #getObjectAsync(GetObjectRequest, OutputStream)}.
+     * </p>
+     *
+     * @param getObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            GetObject operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<S3Object> getObjectAsync(GetObjectRequest getObjectRequest,
+            AsyncHandler<GetObjectRequest, S3Object> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gets the object metadata for the object stored in Amazon S3 under the
+     * specified bucket and key, and saves the object contents to the
+     * specified file. The whole body is written to the file by the executor
+     * before the Future completes, so no caller thread is held while the
+     * content is transferred.
+     * </p>
+     *
+     * @param getObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            GetObject operation on AmazonS3.
+     * @param destinationFile The file to which the object contents are written.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ObjectMetadata> getObjectAsync(GetObjectRequest getObjectRequest, File destinationFile)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gets the object metadata for the object stored in Amazon S3 under the
+     * specified bucket and key, and saves the object contents to the
+     * specified file. The whole body is written to the file by the executor
+     * before the Future completes, so no caller thread is held while the
+     * content is transferred.
+     * </p>
+     *
+     * @param getObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            GetObject operation on AmazonS3.
+     * @param destinationFile The file to which the object contents are written.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ObjectMetadata> getObjectAsync(GetObjectRequest getObjectRequest, File destinationFile,
+            AsyncHandler<GetObjectRequest, ObjectMetadata> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gets the object stored in Amazon S3 under the specified bucket and
+     * key, and copies the object contents to the specified stream. The whole
+     * body is copied by the executor, and the connection released, before
+     * the Future completes, so no caller thread is held while the content is
+     * transferred. The stream is flushed but not closed.
+     * </p>
+     *
+     * @param getObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            GetObject operation on AmazonS3.
+     * @param outputStream The stream to which the object contents are copied.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ObjectMetadata> getObjectAsync(GetObjectRequest getObjectRequest, OutputStream outputStream)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gets the object stored in Amazon S3 under the specified bucket and
+     * key, and copies the object contents to the specified stream. The whole
+     * body is copied by the executor, and the connection released, before
+     * the Future completes, so no caller thread is held while the content is
+     * transferred. The stream is flushed but not closed.
+     * </p>
+     *
+     * @param getObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            GetObject operation on AmazonS3.
+     * @param outputStream The stream to which the object contents are copied.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ObjectMetadata> getObjectAsync(GetObjectRequest getObjectRequest, OutputStream outputStream,
+            AsyncHandler<GetObjectRequest, ObjectMetadata> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gets the object stored in Amazon S3 under the specified bucket and
+     * key, and pushes its metadata and content to the specified consumer.
+     * The content is read into the consumer's buffers by the executor, and
+     * the connection released, before the Future completes.
+     * </p>
+     *
+     * @param getObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            GetObject operation on AmazonS3.
+     * @param consumer The consumer to push the object metadata and content to.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ObjectMetadata> getObjectAsync(GetObjectRequest getObjectRequest, ResponseBodyConsumer consumer)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gets the object stored in Amazon S3 under the specified bucket and
+     * key, and pushes its metadata and content to the specified consumer.
+     * The content is read into the consumer's buffers by the executor, and
+     * the connection released, before the Future completes.
+     * </p>
+     *
+     * @param getObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            GetObject operation on AmazonS3.
+     * @param consumer The consumer to push the object metadata and content to.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ObjectMetadata> getObjectAsync(GetObjectRequest getObjectRequest, ResponseBodyConsumer consumer,
+            AsyncHandler<GetObjectRequest, ObjectMetadata> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Uploads a new object to the specified Amazon S3 bucket.
+     * </p>
+     *
+     * @param putObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            PutObject operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         PutObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<PutObjectResult> putObjectAsync(PutObjectRequest putObjectRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Uploads a new object to the specified Amazon S3 bucket.
+     * </p>
+     *
+     * @param putObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            PutObject operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         PutObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<PutObjectResult> putObjectAsync(PutObjectRequest putObjectRequest,
+            AsyncHandler<PutObjectRequest, PutObjectResult> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Copies a source object to a new destination in Amazon S3.
+     * </p>
+     *
+     * @param copyObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            CopyObject operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         CopyObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CopyObjectResult> copyObjectAsync(CopyObjectRequest copyObjectRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Copies a source object to a new destination in Amazon S3.
+     * </p>
+     *
+     * @param copyObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            CopyObject operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         CopyObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CopyObjectResult> copyObjectAsync(CopyObjectRequest copyObjectRequest,
+            AsyncHandler<CopyObjectRequest, CopyObjectResult> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Deletes the specified object in the specified bucket.
+     * </p>
+     *
+     * @param deleteObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            DeleteObject operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         DeleteObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteObjectAsync(DeleteObjectRequest deleteObjectRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Deletes the specified object in the specified bucket.
+     * </p>
+     *
+     * @param deleteObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            DeleteObject operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         DeleteObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteObjectAsync(DeleteObjectRequest deleteObjectRequest,
+            AsyncHandler<DeleteObjectRequest, Void> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Deletes a specific version of an object in the specified bucket.
+     * </p>
+     *
+     * @param deleteVersionRequest
+     *            Container for the necessary parameters to execute the
+     *            DeleteVersion operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         DeleteVersion service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteVersionAsync(DeleteVersionRequest deleteVersionRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Deletes a specific version of an object in the specified bucket.
+     * </p>
+     *
+     * @param deleteVersionRequest
+     *            Container for the necessary parameters to execute the
+     *            DeleteVersion operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         DeleteVersion service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteVersionAsync(DeleteVersionRequest deleteVersionRequest,
+            AsyncHandler<DeleteVersionRequest, Void> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gets the {@link AccessControlList} (ACL) for the specified object, or
+     * for the specified version of the object if a version ID is given.
+     * </p>
+     *
+     * @param bucketName The name of the bucket.
+     * @param key The key of the object.
+     * @param versionId The version ID of the object, or null for the latest
+     *           version.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetObjectAcl service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<AccessControlList> getObjectAclAsync(String bucketName, String key, String versionId)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Sets the {@link AccessControlList} for the specified object, or for
+     * the specified version of the object if a version ID is given.
+     * </p>
+     *
+     * @param bucketName The name of the bucket.
+     * @param key The key of the object.
+     * @param versionId The version ID of the object, or null for the latest
+     *           version.
+     * @param acl The new access control list.
+     *
+     * @return A Java Future object containing the response from the
+     *         SetObjectAcl service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setObjectAclAsync(String bucketName, String key, String versionId, AccessControlList acl)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Initiates a multipart upload and returns an
+     * InitiateMultipartUploadResult which contains an upload ID.
+     * </p>
+     *
+     * @param initiateMultipartUploadRequest
+     *            Container for the necessary parameters to execute the
+     *            InitiateMultipartUpload operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         InitiateMultipartUpload service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<InitiateMultipartUploadResult> initiateMultipartUploadAsync(InitiateMultipartUploadRequest initiateMultipartUploadRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Initiates a multipart upload and returns an
+     * InitiateMultipartUploadResult which contains an upload ID.
+     * </p>
+     *
+     * @param initiateMultipartUploadRequest
+     *            Container for the necessary parameters to execute the
+     *            InitiateMultipartUpload operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         InitiateMultipartUpload service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<InitiateMultipartUploadResult> initiateMultipartUploadAsync(InitiateMultipartUploadRequest initiateMultipartUploadRequest,
+            AsyncHandler<InitiateMultipartUploadRequest, InitiateMultipartUploadResult> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Uploads a part in a multipart upload.
+     * </p>
+     *
+     * @param uploadPartRequest
+     *            Container for the necessary parameters to execute the
+     *            UploadPart operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         UploadPart service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<UploadPartResult> uploadPartAsync(UploadPartRequest uploadPartRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Uploads a part in a multipart upload.
+     * </p>
+     *
+     * @param uploadPartRequest
+     *            Container for the necessary parameters to execute the
+     *            UploadPart operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         UploadPart service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<UploadPartResult> uploadPartAsync(UploadPartRequest uploadPartRequest,
+            AsyncHandler<UploadPartRequest, UploadPartResult> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Copies a source object to a part of a multipart upload.
+     * </p>
+     *
+     * @param copyPartRequest
+     *            Container for the necessary parameters to execute the
+     *            CopyPart operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         CopyPart service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CopyPartResult> copyPartAsync(CopyPartRequest copyPartRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Copies a source object to a part of a multipart upload.
+     * </p>
+     *
+     * @param copyPartRequest
+     *            Container for the necessary parameters to execute the
+     *            CopyPart operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         CopyPart service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CopyPartResult> copyPartAsync(CopyPartRequest copyPartRequest,
+            AsyncHandler<CopyPartRequest, CopyPartResult> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Lists the parts that have been uploaded for a specific multipart
+     * upload.
+     * </p>
+     *
+     * @param listPartsRequest
+     *            Container for the necessary parameters to execute the
+     *            ListParts operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         ListParts service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<PartListing> listPartsAsync(ListPartsRequest listPartsRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Lists the parts that have been uploaded for a specific multipart
+     * upload.
+     * </p>
+     *
+     * @param listPartsRequest
+     *            Container for the necessary parameters to execute the
+     *            ListParts operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         ListParts service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<PartListing> listPartsAsync(ListPartsRequest listPartsRequest,
+            AsyncHandler<ListPartsRequest, PartListing> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Aborts a multipart upload, freeing any storage consumed by previously
+     * uploaded parts.
+     * </p>
+     *
+     * @param abortMultipartUploadRequest
+     *            Container for the necessary parameters to execute the
+     *            AbortMultipartUpload operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         AbortMultipartUpload service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> abortMultipartUploadAsync(AbortMultipartUploadRequest abortMultipartUploadRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Aborts a multipart upload, freeing any storage consumed by previously
+     * uploaded parts.
+     * </p>
+     *
+     * @param abortMultipartUploadRequest
+     *            Container for the necessary parameters to execute the
+     *            AbortMultipartUpload operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         AbortMultipartUpload service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> abortMultipartUploadAsync(AbortMultipartUploadRequest abortMultipartUploadRequest,
+            AsyncHandler<AbortMultipartUploadRequest, Void> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Completes a multipart upload by assembling previously uploaded parts.
+     * </p>
+     *
+     * @param completeMultipartUploadRequest
+     *            Container for the necessary parameters to execute the
+     *            CompleteMultipartUpload operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         CompleteMultipartUpload service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CompleteMultipartUploadResult> completeMultipartUploadAsync(CompleteMultipartUploadRequest completeMultipartUploadRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Completes a multipart upload by assembling previously uploaded parts.
+     * </p>
+     *
+     * @param completeMultipartUploadRequest
+     *            Container for the necessary parameters to execute the
+     *            CompleteMultipartUpload operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         CompleteMultipartUpload service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CompleteMultipartUploadResult> completeMultipartUploadAsync(CompleteMultipartUploadRequest completeMultipartUploadRequest,
+            AsyncHandler<CompleteMultipartUploadRequest, CompleteMultipartUploadResult> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Lists in-progress multipart uploads.
+     * </p>
+     *
+     * @param listMultipartUploadsRequest
+     *            Container for the necessary parameters to execute the
+     *            ListMultipartUploads operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         ListMultipartUploads service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<MultipartUploadListing> listMultipartUploadsAsync(ListMultipartUploadsRequest listMultipartUploadsRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Lists in-progress multipart uploads.
+     * </p>
+     *
+     * @param listMultipartUploadsRequest
+     *            Container for the necessary parameters to execute the
+     *            ListMultipartUploads operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         ListMultipartUploads service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<MultipartUploadListing> listMultipartUploadsAsync(ListMultipartUploadsRequest listMultipartUploadsRequest,
+            AsyncHandler<ListMultipartUploadsRequest, MultipartUploadListing> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gets the logging configuration for the specified bucket.
+     * </p>
+     *
+     * @param bucketName The name of the bucket.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetBucketLoggingConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<BucketLoggingConfiguration> getBucketLoggingConfigurationAsync(String bucketName)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Sets the logging configuration for the specified bucket.
+     * </p>
+     *
+     * @param setBucketLoggingConfigurationRequest
+     *            Container for the necessary parameters to execute the
+     *            SetBucketLoggingConfiguration operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         SetBucketLoggingConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setBucketLoggingConfigurationAsync(SetBucketLoggingConfigurationRequest setBucketLoggingConfigurationRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Sets the logging configuration for the specified bucket.
+     * </p>
+     *
+     * @param setBucketLoggingConfigurationRequest
+     *            Container for the necessary parameters to execute the
+     *            SetBucketLoggingConfiguration operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         SetBucketLoggingConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setBucketLoggingConfigurationAsync(SetBucketLoggingConfigurationRequest setBucketLoggingConfigurationRequest,
+            AsyncHandler<SetBucketLoggingConfigurationRequest, Void> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Returns the versioning configuration for the specified bucket.
+     * </p>
+     *
+     * @param bucketName The name of the bucket.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetBucketVersioningConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<BucketVersioningConfiguration> getBucketVersioningConfigurationAsync(String bucketName)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Sets the versioning configuration for the specified bucket.
+     * </p>
+     *
+     * @param setBucketVersioningConfigurationRequest
+     *            Container for the necessary parameters to execute the
+     *            SetBucketVersioningConfiguration operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         SetBucketVersioningConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setBucketVersioningConfigurationAsync(SetBucketVersioningConfigurationRequest setBucketVersioningConfigurationRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Sets the versioning configuration for the specified bucket.
+     * </p>
+     *
+     * @param setBucketVersioningConfigurationRequest
+     *            Container for the necessary parameters to execute the
+     *            SetBucketVersioningConfiguration operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         SetBucketVersioningConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setBucketVersioningConfigurationAsync(SetBucketVersioningConfigurationRequest setBucketVersioningConfigurationRequest,
+            AsyncHandler<SetBucketVersioningConfigurationRequest, Void> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Gets the notification configuration for the specified bucket.
+     * </p>
+     *
+     * @param bucketName The name of the bucket.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetBucketNotificationConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<BucketNotificationConfiguration> getBucketNotificationConfigurationAsync(String bucketName)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Sets the notification configuration for the specified bucket.
+     * </p>
+     *
+     * @param setBucketNotificationConfigurationRequest
+     *            Container for the necessary parameters to execute the
+     *            SetBucketNotificationConfiguration operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         SetBucketNotificationConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setBucketNotificationConfigurationAsync(SetBucketNotificationConfigurationRequest setBucketNotificationConfigurationRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Sets the notification configuration for the specified bucket.
+     * </p>
+     *
+     * @param setBucketNotificationConfigurationRequest
+     *            Container for the necessary parameters to execute the
+     *            SetBucketNotificationConfiguration operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         SetBucketNotificationConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setBucketNotificationConfigurationAsync(SetBucketNotificationConfigurationRequest setBucketNotificationConfigurationRequest,
+            AsyncHandler<SetBucketNotificationConfigurationRequest, Void> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Returns the website configuration for the specified bucket, or null if
+     * the bucket has no website configuration.
+     * </p>
+     *
+     * @param getBucketWebsiteConfigurationRequest
+     *            Container for the necessary parameters to execute the
+     *            GetBucketWebsiteConfiguration operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetBucketWebsiteConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<BucketWebsiteConfiguration> getBucketWebsiteConfigurationAsync(GetBucketWebsiteConfigurationRequest getBucketWebsiteConfigurationRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Returns the website configuration for the specified bucket, or null if
+     * the bucket has no website configuration.
+     * </p>
+     *
+     * @param getBucketWebsiteConfigurationRequest
+     *            Container for the necessary parameters to execute the
+     *            GetBucketWebsiteConfiguration operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetBucketWebsiteConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<BucketWebsiteConfiguration> getBucketWebsiteConfigurationAsync(GetBucketWebsiteConfigurationRequest getBucketWebsiteConfigurationRequest,
+            AsyncHandler<GetBucketWebsiteConfigurationRequest, BucketWebsiteConfiguration> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Sets the website configuration for the specified bucket.
+     * </p>
+     *
+     * @param setBucketWebsiteConfigurationRequest
+     *            Container for the necessary parameters to execute the
+     *            SetBucketWebsiteConfiguration operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         SetBucketWebsiteConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setBucketWebsiteConfigurationAsync(SetBucketWebsiteConfigurationRequest setBucketWebsiteConfigurationRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Sets the website configuration for the specified bucket.
+     * </p>
+     *
+     * @param setBucketWebsiteConfigurationRequest
+     *            Container for the necessary parameters to execute the
+     *            SetBucketWebsiteConfiguration operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         SetBucketWebsiteConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setBucketWebsiteConfigurationAsync(SetBucketWebsiteConfigurationRequest setBucketWebsiteConfigurationRequest,
+            AsyncHandler<SetBucketWebsiteConfigurationRequest, Void> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Removes the website configuration for the specified bucket.
+     * </p>
+     *
+     * @param deleteBucketWebsiteConfigurationRequest
+     *            Container for the necessary parameters to execute the
+     *            DeleteBucketWebsiteConfiguration operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         DeleteBucketWebsiteConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteBucketWebsiteConfigurationAsync(DeleteBucketWebsiteConfigurationRequest deleteBucketWebsiteConfigurationRequest)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Removes the website configuration for the specified bucket.
+     * </p>
+     *
+     * @param deleteBucketWebsiteConfigurationRequest
+     *            Container for the necessary parameters to execute the
+     *            DeleteBucketWebsiteConfiguration operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error.
+     *
+     * @return A Java Future object containing the response from the
+     *         DeleteBucketWebsiteConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteBucketWebsiteConfigurationAsync(DeleteBucketWebsiteConfigurationRequest deleteBucketWebsiteConfigurationRequest,
+            AsyncHandler<DeleteBucketWebsiteConfigurationRequest, Void> asyncHandler)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Returns the policy for the specified bucket.
+     * </p>
+     *
+     * @param bucketName The name of the bucket.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetBucketPolicy service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<BucketPolicy> getBucketPolicyAsync(String bucketName)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Sets the policy associated with the specified bucket.
+     * </p>
+     *
+     * @param bucketName The name of the bucket.
+     * @param policyText The policy to apply to the bucket.
+     *
+     * @return A Java Future object containing the response from the
+     *         SetBucketPolicy service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setBucketPolicyAsync(String bucketName, String policyText)
+            throws AmazonServiceException, AmazonClientException;
+
+    /**
+     * <p>
+     * Deletes the policy associated with the specified bucket.
+     * </p>
+     *
+     * @param bucketName The name of the bucket.
+     *
+     * @return A Java Future object containing the response from the
+     *         DeleteBucketPolicy service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteBucketPolicyAsync(String bucketName)
+            throws AmazonServiceException, AmazonClientException;
+}
@@ -0,0 +1,2537 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.util.InstrumentedThreadPoolExecutor;
+
+import com.amazonaws.services.s3.model.*;
+
+/**
+ * Client for accessing Amazon S3.  All calls made using this client are
+ * non-blocking and will immediately return a Java Future. Callers must use the
+ * Future object to determine when the service call has actually completed.
+ * <p>
+ * Calls are executed in the client's executor service. When object content is
+ * fetched into a file or stream, the whole body is transferred in the
+ * executor, so the number of concurrent downloads is bounded by the size of
+ * the executor's thread pool and the client's maximum number of connections.
+ */
+public class AmazonS3AsyncClient extends AmazonS3Client
+        implements AmazonS3Async {
+
+    /** The size of the buffer used to copy object content to a stream. */
+    private static final int COPY_BUFFER_SIZE = 1024 * 10;
+
+    /**
+     * Executor service for executing asynchronous requests.
+     */
+    private ExecutorService executorService;
+
+    /**
+     * Constructs a new asynchronous client to invoke service methods on
+     * Amazon S3 using the specified AWS account credentials.
+     * Default client settings will be used, and a default bounded thread pool will be
+     * created for executing the asynchronous tasks (see
+     * {@link InstrumentedThreadPoolExecutor#newDefaultExecutor(String, ClientConfiguration)}).
+     *
+     * <p>
+     * All calls made using this new client object are non-blocking, and will immediately
+     * return a Java Future object that the caller can later check to see if the service
+     * call has actually completed.
+     *
+     * @param awsCredentials The AWS credentials (access key ID and secret key) to use
+     *                       when authenticating with AWS services.
+     */
+    public AmazonS3AsyncClient(AWSCredentials awsCredentials) {
+        this(awsCredentials, InstrumentedThreadPoolExecutor.newDefaultExecutor("AmazonS3AsyncClient", new ClientConfiguration()));
+    }
+
+    /**
+     * Constructs a new asynchronous client to invoke service methods on
+     * Amazon S3 using the specified AWS account credentials
+     * and executor service.  Default client settings will be used.
+     *
+     * <p>
+     * All calls made using this new client object are non-blocking, and will immediately
+     * return a Java Future object that the caller can later check to see if the service
+     * call has actually completed.
+     *
+     * @param awsCredentials
+     *            The AWS credentials (access key ID and secret key) to use
+     *            when authenticating with AWS services.
+     * @param executorService
+     *            The executor service by which all asynchronous requests will
+     *            be executed.
+     */
+    public AmazonS3AsyncClient(AWSCredentials awsCredentials, ExecutorService executorService) {
+        super(awsCredentials);
+        this.executorService = executorService;
+    }
+
+    /**
+     * Constructs a new asynchronous client to invoke service methods on
+     * Amazon S3 using the specified AWS account credentials,
+     * executor service, and client configuration options.
+     *
+     * <p>
+     * All calls made using this new client object are non-blocking, and will immediately
+     * return a Java Future object that the caller can later check to see if the service
+     * call has actually completed.
+     *
+     * @param awsCredentials
+     *            The AWS credentials (access key ID and secret key) to use
+     *            when authenticating with AWS services.
+     * @param clientConfiguration
+     *            Client configuration options (ex: max retry limit, proxy
+     *            settings, etc).
+     * @param executorService
+     *            The executor service by which all asynchronous requests will
+     *            be executed.
+     */
+    public AmazonS3AsyncClient(AWSCredentials awsCredentials,
+                ClientConfiguration clientConfiguration, ExecutorService executorService) {
+        super(awsCredentials, clientConfiguration);
+        this.executorService = executorService;
+    }
+
+    /**
+     * Returns the executor service used by this async client to execute
+     * requests.
+     *
+     * @return The executor service used by this async client to execute
+     *         requests.
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * <p>
+     * Returns a list of summary information about the objects in the
+     * specified bucket. Results may be truncated; use
+     * {@link AmazonS3#listNextBatchOfObjects(ObjectListing)} or
+     * {@link #listNextBatchOfObjectsAsync(ObjectListing)} to page through
+     * them.
+     * </p>
+     *
+     * @param listObjectsRequest
+     *            Container for the necessary parameters to execute the
+     *            ListObjects operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         ListObjects service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ObjectListing> listObjectsAsync(final ListObjectsRequest listObjectsRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ObjectListing>() {
+            public ObjectListing call() throws Exception {
+                return listObjects(listObjectsRequest);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Returns a list of summary information about the objects in the
+     * specified bucket. Results may be truncated; use
+     * {@link AmazonS3#listNextBatchOfObjects(ObjectListing)} or
+     * {@link #listNextBatchOfObjectsAsync(ObjectListing)} to page through
+     * them.
+     * </p>
+     *
+     * @param listObjectsRequest
+     *            Container for the necessary parameters to execute the
+     *            ListObjects operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         ListObjects service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ObjectListing> listObjectsAsync(final ListObjectsRequest listObjectsRequest,
+            final AsyncHandler<ListObjectsRequest, ObjectListing> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ObjectListing>() {
+            public ObjectListing call() throws Exception {
+                ObjectListing result;
+                try {
+                    result = listObjects(listObjectsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(listObjectsRequest, result);
+                return result;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Returns the next page of results from a previous truncated object
+     * listing.
+     * </p>
+     *
+     * @param previousObjectListing The previous truncated object listing.
+     *
+     * @return A Java Future object containing the response from the
+     *         ListNextBatchOfObjects service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ObjectListing> listNextBatchOfObjectsAsync(final ObjectListing previousObjectListing)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ObjectListing>() {
+            public ObjectListing call() throws Exception {
+                return listNextBatchOfObjects(previousObjectListing);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Returns a list of summary information about the versions in the
+     * specified bucket.
+     * </p>
+     *
+     * @param listVersionsRequest
+     *            Container for the necessary parameters to execute the
+     *            ListVersions operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         ListVersions service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<VersionListing> listVersionsAsync(final ListVersionsRequest listVersionsRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<VersionListing>() {
+            public VersionListing call() throws Exception {
+                return listVersions(listVersionsRequest);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Returns a list of summary information about the versions in the
+     * specified bucket.
+     * </p>
+     *
+     * @param listVersionsRequest
+     *            Container for the necessary parameters to execute the
+     *            ListVersions operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         ListVersions service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<VersionListing> listVersionsAsync(final ListVersionsRequest listVersionsRequest,
+            final AsyncHandler<ListVersionsRequest, VersionListing> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<VersionListing>() {
+            public VersionListing call() throws Exception {
+                VersionListing result;
+                try {
+                    result = listVersions(listVersionsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(listVersionsRequest, result);
+                return result;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Returns the next page of results from a previous truncated version
+     * listing.
+     * </p>
+     *
+     * @param previousVersionListing The previous truncated version listing.
+     *
+     * @return A Java Future object containing the response from the
+     *         ListNextBatchOfVersions service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<VersionListing> listNextBatchOfVersionsAsync(final VersionListing previousVersionListing)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<VersionListing>() {
+            public VersionListing call() throws Exception {
+                return listNextBatchOfVersions(previousVersionListing);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Returns a list of all Amazon S3 buckets that the authenticated sender
+     * of the request owns.
+     * </p>
+     *
+     * @param listBucketsRequest
+     *            Container for the necessary parameters to execute the
+     *            ListBuckets operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         ListBuckets service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<List<Bucket>> listBucketsAsync(final ListBucketsRequest listBucketsRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<List<Bucket>>() {
+            public List<Bucket> call() throws Exception {
+                return listBuckets(listBucketsRequest);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Returns a list of all Amazon S3 buckets that the authenticated sender
+     * of the request owns.
+     * </p>
+     *
+     * @param listBucketsRequest
+     *            Container for the necessary parameters to execute the
+     *            ListBuckets operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         ListBuckets service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<List<Bucket>> listBucketsAsync(final ListBucketsRequest listBucketsRequest,
+            final AsyncHandler<ListBucketsRequest, List<Bucket>> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<List<Bucket>>() {
+            public List<Bucket> call() throws Exception {
+                List<Bucket> result;
+                try {
+                    result = listBuckets(listBucketsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(listBucketsRequest, result);
+                return result;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Gets the geographical region where Amazon S3 stores the specified
+     * bucket.
+     * </p>
+     *
+     * @param getBucketLocationRequest
+     *            Container for the necessary parameters to execute the
+     *            GetBucketLocation operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetBucketLocation service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<String> getBucketLocationAsync(final GetBucketLocationRequest getBucketLocationRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<String>() {
+            public String call() throws Exception {
+                return getBucketLocation(getBucketLocationRequest);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Gets the geographical region where Amazon S3 stores the specified
+     * bucket.
+     * </p>
+     *
+     * @param getBucketLocationRequest
+     *            Container for the necessary parameters to execute the
+     *            GetBucketLocation operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetBucketLocation service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<String> getBucketLocationAsync(final GetBucketLocationRequest getBucketLocationRequest,
+            final AsyncHandler<GetBucketLocationRequest, String> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<String>() {
+            public String call() throws Exception {
+                String result;
+                try {
+                    result = getBucketLocation(getBucketLocationRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(getBucketLocationRequest, result);
+                return result;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Creates a new Amazon S3 bucket in the region given in the request.
+     * </p>
+     *
+     * @param createBucketRequest
+     *            Container for the necessary parameters to execute the
+     *            CreateBucket operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         CreateBucket service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Bucket> createBucketAsync(final CreateBucketRequest createBucketRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Bucket>() {
+            public Bucket call() throws Exception {
+                return createBucket(createBucketRequest);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Creates a new Amazon S3 bucket in the region given in the request.
+     * </p>
+     *
+     * @param createBucketRequest
+     *            Container for the necessary parameters to execute the
+     *            CreateBucket operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         CreateBucket service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Bucket> createBucketAsync(final CreateBucketRequest createBucketRequest,
+            final AsyncHandler<CreateBucketRequest, Bucket> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Bucket>() {
+            public Bucket call() throws Exception {
+                Bucket result;
+                try {
+                    result = createBucket(createBucketRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createBucketRequest, result);
+                return result;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Deletes the specified bucket. All objects (including all object
+     * versions and delete markers) in the bucket must be deleted before the
+     * bucket itself can be deleted.
+     * </p>
+     *
+     * @param deleteBucketRequest
+     *            Container for the necessary parameters to execute the
+     *            DeleteBucket operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         DeleteBucket service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteBucketAsync(final DeleteBucketRequest deleteBucketRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                deleteBucket(deleteBucketRequest);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Deletes the specified bucket. All objects (including all object
+     * versions and delete markers) in the bucket must be deleted before the
+     * bucket itself can be deleted.
+     * </p>
+     *
+     * @param deleteBucketRequest
+     *            Container for the necessary parameters to execute the
+     *            DeleteBucket operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         DeleteBucket service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteBucketAsync(final DeleteBucketRequest deleteBucketRequest,
+            final AsyncHandler<DeleteBucketRequest, Void> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteBucket(deleteBucketRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteBucketRequest, null);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Gets the {@link AccessControlList} (ACL) for the specified Amazon S3
+     * bucket.
+     * </p>
+     *
+     * @param bucketName The name of the bucket.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetBucketAcl service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<AccessControlList> getBucketAclAsync(final String bucketName)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<AccessControlList>() {
+            public AccessControlList call() throws Exception {
+                return getBucketAcl(bucketName);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Sets the {@link AccessControlList} for the specified Amazon S3 bucket.
+     * </p>
+     *
+     * @param bucketName The name of the bucket.
+     * @param acl The new access control list.
+     *
+     * @return A Java Future object containing the response from the
+     *         SetBucketAcl service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setBucketAclAsync(final String bucketName, final AccessControlList acl)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                setBucketAcl(bucketName, acl);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Gets the metadata for the specified Amazon S3 object without actually
+     * fetching the object itself.
+     * </p>
+     *
+     * @param getObjectMetadataRequest
+     *            Container for the necessary parameters to execute the
+     *            GetObjectMetadata operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetObjectMetadata service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ObjectMetadata> getObjectMetadataAsync(final GetObjectMetadataRequest getObjectMetadataRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ObjectMetadata>() {
+            public ObjectMetadata call() throws Exception {
+                return getObjectMetadata(getObjectMetadataRequest);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Gets the metadata for the specified Amazon S3 object without actually
+     * fetching the object itself.
+     * </p>
+     *
+     * @param getObjectMetadataRequest
+     *            Container for the necessary parameters to execute the
+     *            GetObjectMetadata operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetObjectMetadata service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ObjectMetadata> getObjectMetadataAsync(final GetObjectMetadataRequest getObjectMetadataRequest,
+            final AsyncHandler<GetObjectMetadataRequest, ObjectMetadata> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ObjectMetadata>() {
+            public ObjectMetadata call() throws Exception {
+                ObjectMetadata result;
+                try {
+                    result = getObjectMetadata(getObjectMetadataRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(getObjectMetadataRequest, result);
+                return result;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Gets the object stored in Amazon S3 under the specified bucket and
+     * key. The returned object's content stream is still open, and is read
+     * by the caller once the Future completes; to have the content
+     * transferred on the executor instead, use
+     * {@link #getObjectAsync(GetObjectRequest, File)} or
+     * {@link #getObjectAsync(GetObjectRequest, OutputStream)}.
+     * </p>
+     *
+     * @param getObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            GetObject operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<S3Object> getObjectAsync(final GetObjectRequest getObjectRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<S3Object>() {
+            public S3Object call() throws Exception {
+                return getObject(getObjectRequest);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Gets the object stored in Amazon S3 under the specified bucket and
+     * key. The returned object's content stream is still open, and is read
+     * by the caller once the Future completes; to have the content
+     * transferred on the executor instead, use
+     * {@link #getObjectAsync(GetObjectRequest, File)} or
+     * {@link #getObjectAsync(GetObjectRequest, OutputStream)}.
+     * </p>
+     *
+     * @param getObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            GetObject operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<S3Object> getObjectAsync(final GetObjectRequest getObjectRequest,
+            final AsyncHandler<GetObjectRequest, S3Object> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<S3Object>() {
+            public S3Object call() throws Exception {
+                S3Object result;
+                try {
+                    result = getObject(getObjectRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(getObjectRequest, result);
+                return result;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Gets the object metadata for the object stored in Amazon S3 under the
+     * specified bucket and key, and saves the object contents to the
+     * specified file. The whole body is written to the file by the executor
+     * before the Future completes, so no caller thread is held while the
+     * content is transferred.
+     * </p>
+     *
+     * @param getObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            GetObject operation on AmazonS3.
+     * @param destinationFile The file to which the object contents are written.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ObjectMetadata> getObjectAsync(final GetObjectRequest getObjectRequest, final File destinationFile)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ObjectMetadata>() {
+            public ObjectMetadata call() throws Exception {
+                return getObject(getObjectRequest, destinationFile);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Gets the object metadata for the object stored in Amazon S3 under the
+     * specified bucket and key, and saves the object contents to the
+     * specified file. The whole body is written to the file by the executor
+     * before the Future completes, so no caller thread is held while the
+     * content is transferred.
+     * </p>
+     *
+     * @param getObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            GetObject operation on AmazonS3.
+     * @param destinationFile The file to which the object contents are written.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ObjectMetadata> getObjectAsync(final GetObjectRequest getObjectRequest, final File destinationFile,
+            final AsyncHandler<GetObjectRequest, ObjectMetadata> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ObjectMetadata>() {
+            public ObjectMetadata call() throws Exception {
+                ObjectMetadata result;
+                try {
+                    result = getObject(getObjectRequest, destinationFile);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(getObjectRequest, result);
+                return result;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Gets the object stored in Amazon S3 under the specified bucket and
+     * key, and copies the object contents to the specified stream. The whole
+     * body is copied by the executor, and the connection released, before
+     * the Future completes, so no caller thread is held while the content is
+     * transferred. The stream is flushed but not closed.
+     * </p>
+     *
+     * @param getObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            GetObject operation on AmazonS3.
+     * @param outputStream The stream to which the object contents are copied.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ObjectMetadata> getObjectAsync(final GetObjectRequest getObjectRequest, final OutputStream outputStream)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ObjectMetadata>() {
+            public ObjectMetadata call() throws Exception {
+                return copyObjectContent(getObjectRequest, outputStream);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Gets the object stored in Amazon S3 under the specified bucket and
+     * key, and copies the object contents to the specified stream. The whole
+     * body is copied by the executor, and the connection released, before
+     * the Future completes, so no caller thread is held while the content is
+     * transferred. The stream is flushed but not closed.
+     * </p>
+     *
+     * @param getObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            GetObject operation on AmazonS3.
+     * @param outputStream The stream to which the object contents are copied.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ObjectMetadata> getObjectAsync(final GetObjectRequest getObjectRequest, final OutputStream outputStream,
+            final AsyncHandler<GetObjectRequest, ObjectMetadata> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ObjectMetadata>() {
+            public ObjectMetadata call() throws Exception {
+                ObjectMetadata result;
+                try {
+                    result = copyObjectContent(getObjectRequest, outputStream);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(getObjectRequest, result);
+                return result;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Gets the object stored in Amazon S3 under the specified bucket and
+     * key, and pushes its metadata and content to the specified consumer.
+     * The content is read into the consumer's buffers by the executor, and
+     * the connection released, before the Future completes.
+     * </p>
+     *
+     * @param getObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            GetObject operation on AmazonS3.
+     * @param consumer The consumer to push the object metadata and content to.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ObjectMetadata> getObjectAsync(final GetObjectRequest getObjectRequest, final ResponseBodyConsumer consumer)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ObjectMetadata>() {
+            public ObjectMetadata call() throws Exception {
+                return getObject(getObjectRequest, consumer);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Gets the object stored in Amazon S3 under the specified bucket and
+     * key, and pushes its metadata and content to the specified consumer.
+     * The content is read into the consumer's buffers by the executor, and
+     * the connection released, before the Future completes.
+     * </p>
+     *
+     * @param getObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            GetObject operation on AmazonS3.
+     * @param consumer The consumer to push the object metadata and content to.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ObjectMetadata> getObjectAsync(final GetObjectRequest getObjectRequest, final ResponseBodyConsumer consumer,
+            final AsyncHandler<GetObjectRequest, ObjectMetadata> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ObjectMetadata>() {
+            public ObjectMetadata call() throws Exception {
+                ObjectMetadata result;
+                try {
+                    result = getObject(getObjectRequest, consumer);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(getObjectRequest, result);
+                return result;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Uploads a new object to the specified Amazon S3 bucket.
+     * </p>
+     *
+     * @param putObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            PutObject operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         PutObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<PutObjectResult> putObjectAsync(final PutObjectRequest putObjectRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<PutObjectResult>() {
+            public PutObjectResult call() throws Exception {
+                return putObject(putObjectRequest);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Uploads a new object to the specified Amazon S3 bucket.
+     * </p>
+     *
+     * @param putObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            PutObject operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         PutObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<PutObjectResult> putObjectAsync(final PutObjectRequest putObjectRequest,
+            final AsyncHandler<PutObjectRequest, PutObjectResult> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<PutObjectResult>() {
+            public PutObjectResult call() throws Exception {
+                PutObjectResult result;
+                try {
+                    result = putObject(putObjectRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(putObjectRequest, result);
+                return result;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Copies a source object to a new destination in Amazon S3.
+     * </p>
+     *
+     * @param copyObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            CopyObject operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         CopyObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CopyObjectResult> copyObjectAsync(final CopyObjectRequest copyObjectRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CopyObjectResult>() {
+            public CopyObjectResult call() throws Exception {
+                return copyObject(copyObjectRequest);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Copies a source object to a new destination in Amazon S3.
+     * </p>
+     *
+     * @param copyObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            CopyObject operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         CopyObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CopyObjectResult> copyObjectAsync(final CopyObjectRequest copyObjectRequest,
+            final AsyncHandler<CopyObjectRequest, CopyObjectResult> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CopyObjectResult>() {
+            public CopyObjectResult call() throws Exception {
+                CopyObjectResult result;
+                try {
+                    result = copyObject(copyObjectRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(copyObjectRequest, result);
+                return result;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Deletes the specified object in the specified bucket.
+     * </p>
+     *
+     * @param deleteObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            DeleteObject operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         DeleteObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteObjectAsync(final DeleteObjectRequest deleteObjectRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                deleteObject(deleteObjectRequest);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Deletes the specified object in the specified bucket.
+     * </p>
+     *
+     * @param deleteObjectRequest
+     *            Container for the necessary parameters to execute the
+     *            DeleteObject operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         DeleteObject service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteObjectAsync(final DeleteObjectRequest deleteObjectRequest,
+            final AsyncHandler<DeleteObjectRequest, Void> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteObject(deleteObjectRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteObjectRequest, null);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Deletes a specific version of an object in the specified bucket.
+     * </p>
+     *
+     * @param deleteVersionRequest
+     *            Container for the necessary parameters to execute the
+     *            DeleteVersion operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         DeleteVersion service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteVersionAsync(final DeleteVersionRequest deleteVersionRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                deleteVersion(deleteVersionRequest);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Deletes a specific version of an object in the specified bucket.
+     * </p>
+     *
+     * @param deleteVersionRequest
+     *            Container for the necessary parameters to execute the
+     *            DeleteVersion operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         DeleteVersion service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteVersionAsync(final DeleteVersionRequest deleteVersionRequest,
+            final AsyncHandler<DeleteVersionRequest, Void> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteVersion(deleteVersionRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteVersionRequest, null);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Gets the {@link AccessControlList} (ACL) for the specified object, or
+     * for the specified version of the object if a version ID is given.
+     * </p>
+     *
+     * @param bucketName The name of the bucket.
+     * @param key The key of the object.
+     * @param versionId The version ID of the object, or null for the latest
+     *           version.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetObjectAcl service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<AccessControlList> getObjectAclAsync(final String bucketName, final String key, final String versionId)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<AccessControlList>() {
+            public AccessControlList call() throws Exception {
+                return getObjectAcl(bucketName, key, versionId);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Sets the {@link AccessControlList} for the specified object, or for
+     * the specified version of the object if a version ID is given.
+     * </p>
+     *
+     * @param bucketName The name of the bucket.
+     * @param key The key of the object.
+     * @param versionId The version ID of the object, or null for the latest
+     *           version.
+     * @param acl The new access control list.
+     *
+     * @return A Java Future object containing the response from the
+     *         SetObjectAcl service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setObjectAclAsync(final String bucketName, final String key, final String versionId, final AccessControlList acl)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                setObjectAcl(bucketName, key, versionId, acl);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Initiates a multipart upload and returns an
+     * InitiateMultipartUploadResult which contains an upload ID.
+     * </p>
+     *
+     * @param initiateMultipartUploadRequest
+     *            Container for the necessary parameters to execute the
+     *            InitiateMultipartUpload operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         InitiateMultipartUpload service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<InitiateMultipartUploadResult> initiateMultipartUploadAsync(final InitiateMultipartUploadRequest initiateMultipartUploadRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<InitiateMultipartUploadResult>() {
+            public InitiateMultipartUploadResult call() throws Exception {
+                return initiateMultipartUpload(initiateMultipartUploadRequest);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Initiates a multipart upload and returns an
+     * InitiateMultipartUploadResult which contains an upload ID.
+     * </p>
+     *
+     * @param initiateMultipartUploadRequest
+     *            Container for the necessary parameters to execute the
+     *            InitiateMultipartUpload operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         InitiateMultipartUpload service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<InitiateMultipartUploadResult> initiateMultipartUploadAsync(final InitiateMultipartUploadRequest initiateMultipartUploadRequest,
+            final AsyncHandler<InitiateMultipartUploadRequest, InitiateMultipartUploadResult> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<InitiateMultipartUploadResult>() {
+            public InitiateMultipartUploadResult call() throws Exception {
+                InitiateMultipartUploadResult result;
+                try {
+                    result = initiateMultipartUpload(initiateMultipartUploadRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(initiateMultipartUploadRequest, result);
+                return result;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Uploads a part in a multipart upload.
+     * </p>
+     *
+     * @param uploadPartRequest
+     *            Container for the necessary parameters to execute the
+     *            UploadPart operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         UploadPart service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<UploadPartResult> uploadPartAsync(final UploadPartRequest uploadPartRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<UploadPartResult>() {
+            public UploadPartResult call() throws Exception {
+                return uploadPart(uploadPartRequest);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Uploads a part in a multipart upload.
+     * </p>
+     *
+     * @param uploadPartRequest
+     *            Container for the necessary parameters to execute the
+     *            UploadPart operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         UploadPart service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<UploadPartResult> uploadPartAsync(final UploadPartRequest uploadPartRequest,
+            final AsyncHandler<UploadPartRequest, UploadPartResult> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<UploadPartResult>() {
+            public UploadPartResult call() throws Exception {
+                UploadPartResult result;
+                try {
+                    result = uploadPart(uploadPartRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(uploadPartRequest, result);
+                return result;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Copies a source object to a part of a multipart upload.
+     * </p>
+     *
+     * @param copyPartRequest
+     *            Container for the necessary parameters to execute the
+     *            CopyPart operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         CopyPart service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CopyPartResult> copyPartAsync(final CopyPartRequest copyPartRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CopyPartResult>() {
+            public CopyPartResult call() throws Exception {
+                return copyPart(copyPartRequest);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Copies a source object to a part of a multipart upload.
+     * </p>
+     *
+     * @param copyPartRequest
+     *            Container for the necessary parameters to execute the
+     *            CopyPart operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         CopyPart service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CopyPartResult> copyPartAsync(final CopyPartRequest copyPartRequest,
+            final AsyncHandler<CopyPartRequest, CopyPartResult> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CopyPartResult>() {
+            public CopyPartResult call() throws Exception {
+                CopyPartResult result;
+                try {
+                    result = copyPart(copyPartRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(copyPartRequest, result);
+                return result;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Lists the parts that have been uploaded for a specific multipart
+     * upload.
+     * </p>
+     *
+     * @param listPartsRequest
+     *            Container for the necessary parameters to execute the
+     *            ListParts operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         ListParts service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<PartListing> listPartsAsync(final ListPartsRequest listPartsRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<PartListing>() {
+            public PartListing call() throws Exception {
+                return listParts(listPartsRequest);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Lists the parts that have been uploaded for a specific multipart
+     * upload.
+     * </p>
+     *
+     * @param listPartsRequest
+     *            Container for the necessary parameters to execute the
+     *            ListParts operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         ListParts service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<PartListing> listPartsAsync(final ListPartsRequest listPartsRequest,
+            final AsyncHandler<ListPartsRequest, PartListing> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<PartListing>() {
+            public PartListing call() throws Exception {
+                PartListing result;
+                try {
+                    result = listParts(listPartsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(listPartsRequest, result);
+                return result;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Aborts a multipart upload, freeing any storage consumed by previously
+     * uploaded parts.
+     * </p>
+     *
+     * @param abortMultipartUploadRequest
+     *            Container for the necessary parameters to execute the
+     *            AbortMultipartUpload operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         AbortMultipartUpload service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> abortMultipartUploadAsync(final AbortMultipartUploadRequest abortMultipartUploadRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                abortMultipartUpload(abortMultipartUploadRequest);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Aborts a multipart upload, freeing any storage consumed by previously
+     * uploaded parts.
+     * </p>
+     *
+     * @param abortMultipartUploadRequest
+     *            Container for the necessary parameters to execute the
+     *            AbortMultipartUpload operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         AbortMultipartUpload service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> abortMultipartUploadAsync(final AbortMultipartUploadRequest abortMultipartUploadRequest,
+            final AsyncHandler<AbortMultipartUploadRequest, Void> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    abortMultipartUpload(abortMultipartUploadRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(abortMultipartUploadRequest, null);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Completes a multipart upload by assembling previously uploaded parts.
+     * </p>
+     *
+     * @param completeMultipartUploadRequest
+     *            Container for the necessary parameters to execute the
+     *            CompleteMultipartUpload operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         CompleteMultipartUpload service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CompleteMultipartUploadResult> completeMultipartUploadAsync(final CompleteMultipartUploadRequest completeMultipartUploadRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CompleteMultipartUploadResult>() {
+            public CompleteMultipartUploadResult call() throws Exception {
+                return completeMultipartUpload(completeMultipartUploadRequest);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Completes a multipart upload by assembling previously uploaded parts.
+     * </p>
+     *
+     * @param completeMultipartUploadRequest
+     *            Container for the necessary parameters to execute the
+     *            CompleteMultipartUpload operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         CompleteMultipartUpload service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CompleteMultipartUploadResult> completeMultipartUploadAsync(final CompleteMultipartUploadRequest completeMultipartUploadRequest,
+            final AsyncHandler<CompleteMultipartUploadRequest, CompleteMultipartUploadResult> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CompleteMultipartUploadResult>() {
+            public CompleteMultipartUploadResult call() throws Exception {
+                CompleteMultipartUploadResult result;
+                try {
+                    result = completeMultipartUpload(completeMultipartUploadRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(completeMultipartUploadRequest, result);
+                return result;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Lists in-progress multipart uploads.
+     * </p>
+     *
+     * @param listMultipartUploadsRequest
+     *            Container for the necessary parameters to execute the
+     *            ListMultipartUploads operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         ListMultipartUploads service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<MultipartUploadListing> listMultipartUploadsAsync(final ListMultipartUploadsRequest listMultipartUploadsRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<MultipartUploadListing>() {
+            public MultipartUploadListing call() throws Exception {
+                return listMultipartUploads(listMultipartUploadsRequest);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Lists in-progress multipart uploads.
+     * </p>
+     *
+     * @param listMultipartUploadsRequest
+     *            Container for the necessary parameters to execute the
+     *            ListMultipartUploads operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         ListMultipartUploads service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<MultipartUploadListing> listMultipartUploadsAsync(final ListMultipartUploadsRequest listMultipartUploadsRequest,
+            final AsyncHandler<ListMultipartUploadsRequest, MultipartUploadListing> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<MultipartUploadListing>() {
+            public MultipartUploadListing call() throws Exception {
+                MultipartUploadListing result;
+                try {
+                    result = listMultipartUploads(listMultipartUploadsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(listMultipartUploadsRequest, result);
+                return result;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Gets the logging configuration for the specified bucket.
+     * </p>
+     *
+     * @param bucketName The name of the bucket.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetBucketLoggingConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<BucketLoggingConfiguration> getBucketLoggingConfigurationAsync(final String bucketName)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<BucketLoggingConfiguration>() {
+            public BucketLoggingConfiguration call() throws Exception {
+                return getBucketLoggingConfiguration(bucketName);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Sets the logging configuration for the specified bucket.
+     * </p>
+     *
+     * @param setBucketLoggingConfigurationRequest
+     *            Container for the necessary parameters to execute the
+     *            SetBucketLoggingConfiguration operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         SetBucketLoggingConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setBucketLoggingConfigurationAsync(final SetBucketLoggingConfigurationRequest setBucketLoggingConfigurationRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                setBucketLoggingConfiguration(setBucketLoggingConfigurationRequest);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Sets the logging configuration for the specified bucket.
+     * </p>
+     *
+     * @param setBucketLoggingConfigurationRequest
+     *            Container for the necessary parameters to execute the
+     *            SetBucketLoggingConfiguration operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         SetBucketLoggingConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setBucketLoggingConfigurationAsync(final SetBucketLoggingConfigurationRequest setBucketLoggingConfigurationRequest,
+            final AsyncHandler<SetBucketLoggingConfigurationRequest, Void> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    setBucketLoggingConfiguration(setBucketLoggingConfigurationRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(setBucketLoggingConfigurationRequest, null);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Returns the versioning configuration for the specified bucket.
+     * </p>
+     *
+     * @param bucketName The name of the bucket.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetBucketVersioningConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<BucketVersioningConfiguration> getBucketVersioningConfigurationAsync(final String bucketName)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<BucketVersioningConfiguration>() {
+            public BucketVersioningConfiguration call() throws Exception {
+                return getBucketVersioningConfiguration(bucketName);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Sets the versioning configuration for the specified bucket.
+     * </p>
+     *
+     * @param setBucketVersioningConfigurationRequest
+     *            Container for the necessary parameters to execute the
+     *            SetBucketVersioningConfiguration operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         SetBucketVersioningConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setBucketVersioningConfigurationAsync(final SetBucketVersioningConfigurationRequest setBucketVersioningConfigurationRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                setBucketVersioningConfiguration(setBucketVersioningConfigurationRequest);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Sets the versioning configuration for the specified bucket.
+     * </p>
+     *
+     * @param setBucketVersioningConfigurationRequest
+     *            Container for the necessary parameters to execute the
+     *            SetBucketVersioningConfiguration operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         SetBucketVersioningConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setBucketVersioningConfigurationAsync(final SetBucketVersioningConfigurationRequest setBucketVersioningConfigurationRequest,
+            final AsyncHandler<SetBucketVersioningConfigurationRequest, Void> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    setBucketVersioningConfiguration(setBucketVersioningConfigurationRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(setBucketVersioningConfigurationRequest, null);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Gets the notification configuration for the specified bucket.
+     * </p>
+     *
+     * @param bucketName The name of the bucket.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetBucketNotificationConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<BucketNotificationConfiguration> getBucketNotificationConfigurationAsync(final String bucketName)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<BucketNotificationConfiguration>() {
+            public BucketNotificationConfiguration call() throws Exception {
+                return getBucketNotificationConfiguration(bucketName);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Sets the notification configuration for the specified bucket.
+     * </p>
+     *
+     * @param setBucketNotificationConfigurationRequest
+     *            Container for the necessary parameters to execute the
+     *            SetBucketNotificationConfiguration operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         SetBucketNotificationConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setBucketNotificationConfigurationAsync(final SetBucketNotificationConfigurationRequest setBucketNotificationConfigurationRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                setBucketNotificationConfiguration(setBucketNotificationConfigurationRequest.getBucket(),
+                        setBucketNotificationConfigurationRequest.getBucketNotificationConfiguration());
+                return null;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Sets the notification configuration for the specified bucket.
+     * </p>
+     *
+     * @param setBucketNotificationConfigurationRequest
+     *            Container for the necessary parameters to execute the
+     *            SetBucketNotificationConfiguration operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         SetBucketNotificationConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setBucketNotificationConfigurationAsync(final SetBucketNotificationConfigurationRequest setBucketNotificationConfigurationRequest,
+            final AsyncHandler<SetBucketNotificationConfigurationRequest, Void> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    setBucketNotificationConfiguration(setBucketNotificationConfigurationRequest.getBucket(),
+                            setBucketNotificationConfigurationRequest.getBucketNotificationConfiguration());
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(setBucketNotificationConfigurationRequest, null);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Returns the website configuration for the specified bucket, or null if
+     * the bucket has no website configuration.
+     * </p>
+     *
+     * @param getBucketWebsiteConfigurationRequest
+     *            Container for the necessary parameters to execute the
+     *            GetBucketWebsiteConfiguration operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetBucketWebsiteConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<BucketWebsiteConfiguration> getBucketWebsiteConfigurationAsync(final GetBucketWebsiteConfigurationRequest getBucketWebsiteConfigurationRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<BucketWebsiteConfiguration>() {
+            public BucketWebsiteConfiguration call() throws Exception {
+                return getBucketWebsiteConfiguration(getBucketWebsiteConfigurationRequest);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Returns the website configuration for the specified bucket, or null if
+     * the bucket has no website configuration.
+     * </p>
+     *
+     * @param getBucketWebsiteConfigurationRequest
+     *            Container for the necessary parameters to execute the
+     *            GetBucketWebsiteConfiguration operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetBucketWebsiteConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<BucketWebsiteConfiguration> getBucketWebsiteConfigurationAsync(final GetBucketWebsiteConfigurationRequest getBucketWebsiteConfigurationRequest,
+            final AsyncHandler<GetBucketWebsiteConfigurationRequest, BucketWebsiteConfiguration> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<BucketWebsiteConfiguration>() {
+            public BucketWebsiteConfiguration call() throws Exception {
+                BucketWebsiteConfiguration result;
+                try {
+                    result = getBucketWebsiteConfiguration(getBucketWebsiteConfigurationRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(getBucketWebsiteConfigurationRequest, result);
+                return result;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Sets the website configuration for the specified bucket.
+     * </p>
+     *
+     * @param setBucketWebsiteConfigurationRequest
+     *            Container for the necessary parameters to execute the
+     *            SetBucketWebsiteConfiguration operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         SetBucketWebsiteConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setBucketWebsiteConfigurationAsync(final SetBucketWebsiteConfigurationRequest setBucketWebsiteConfigurationRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                setBucketWebsiteConfiguration(setBucketWebsiteConfigurationRequest);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Sets the website configuration for the specified bucket.
+     * </p>
+     *
+     * @param setBucketWebsiteConfigurationRequest
+     *            Container for the necessary parameters to execute the
+     *            SetBucketWebsiteConfiguration operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         SetBucketWebsiteConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setBucketWebsiteConfigurationAsync(final SetBucketWebsiteConfigurationRequest setBucketWebsiteConfigurationRequest,
+            final AsyncHandler<SetBucketWebsiteConfigurationRequest, Void> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    setBucketWebsiteConfiguration(setBucketWebsiteConfigurationRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(setBucketWebsiteConfigurationRequest, null);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Removes the website configuration for the specified bucket.
+     * </p>
+     *
+     * @param deleteBucketWebsiteConfigurationRequest
+     *            Container for the necessary parameters to execute the
+     *            DeleteBucketWebsiteConfiguration operation on AmazonS3.
+     *
+     * @return A Java Future object containing the response from the
+     *         DeleteBucketWebsiteConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteBucketWebsiteConfigurationAsync(final DeleteBucketWebsiteConfigurationRequest deleteBucketWebsiteConfigurationRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                deleteBucketWebsiteConfiguration(deleteBucketWebsiteConfigurationRequest);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Removes the website configuration for the specified bucket.
+     * </p>
+     *
+     * @param deleteBucketWebsiteConfigurationRequest
+     *            Container for the necessary parameters to execute the
+     *            DeleteBucketWebsiteConfiguration operation on AmazonS3.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           operation completes, successfully or with an error. May be
+     *           null.
+     *
+     * @return A Java Future object containing the response from the
+     *         DeleteBucketWebsiteConfiguration service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteBucketWebsiteConfigurationAsync(final DeleteBucketWebsiteConfigurationRequest deleteBucketWebsiteConfigurationRequest,
+            final AsyncHandler<DeleteBucketWebsiteConfigurationRequest, Void> asyncHandler)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteBucketWebsiteConfiguration(deleteBucketWebsiteConfigurationRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteBucketWebsiteConfigurationRequest, null);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Returns the policy for the specified bucket.
+     * </p>
+     *
+     * @param bucketName The name of the bucket.
+     *
+     * @return A Java Future object containing the response from the
+     *         GetBucketPolicy service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<BucketPolicy> getBucketPolicyAsync(final String bucketName)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<BucketPolicy>() {
+            public BucketPolicy call() throws Exception {
+                return getBucketPolicy(bucketName);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Sets the policy associated with the specified bucket.
+     * </p>
+     *
+     * @param bucketName The name of the bucket.
+     * @param policyText The policy to apply to the bucket.
+     *
+     * @return A Java Future object containing the response from the
+     *         SetBucketPolicy service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setBucketPolicyAsync(final String bucketName, final String policyText)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                setBucketPolicy(bucketName, policyText);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Deletes the policy associated with the specified bucket.
+     * </p>
+     *
+     * @param bucketName The name of the bucket.
+     *
+     * @return A Java Future object containing the response from the
+     *         DeleteBucketPolicy service method, as returned by AmazonS3.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonS3 indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteBucketPolicyAsync(final String bucketName)
+            throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                deleteBucketPolicy(bucketName);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Copies the content of the specified object to the specified stream,
+     * always closing the object's content stream so that the connection is
+     * released, even if the copy fails.
+     */
+    private ObjectMetadata copyObjectContent(GetObjectRequest getObjectRequest, OutputStream outputStream) {
+        if (outputStream == null) {
+            throw new IllegalArgumentException(
+                    "The output stream parameter must be specified when downloading an object to a stream");
+        }
+
+        S3Object s3Object = getObject(getObjectRequest);
+        // getObject can return null if constraints were specified but not met
+        if (s3Object == null) return null;
+
+        InputStream input = s3Object.getObjectContent();
+        try {
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            int bytesRead;
+            while ((bytesRead = input.read(buffer)) > -1) {
+                outputStream.write(buffer, 0, bytesRead);
+            }
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new AmazonClientException(
+                    "Unable to copy object contents to stream: " + e.getMessage(), e);
+        } finally {
+            try {input.close();} catch (Exception e) {}
+        }
+
+        return s3Object.getObjectMetadata();
+    }
+
+}
@@ -24,7 +24,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
-import java.net.URISyntaxException;
 import java.net.URL;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
@@ -53,6 +52,7 @@ import com.amazonaws.handlers.RequestHandler;
 import com.amazonaws.http.ExecutionContext;
 import com.amazonaws.http.HttpMethodName;
 import com.amazonaws.http.HttpResponseHandler;
+import com.amazonaws.services.s3.internal.BucketEndpointCache;
 import com.amazonaws.services.s3.internal.BucketNameUtils;
 import com.amazonaws.services.s3.internal.Constants;
 import com.amazonaws.services.s3.internal.CopyObjectResponseHandler;
@@ -64,6 +64,7 @@ import com.amazonaws.services.s3.internal.RepeatableFileInputStream;
 import com.amazonaws.services.s3.internal.RepeatableInputStream;
 import com.amazonaws.services.s3.internal.S3ErrorResponseHandler;
 import com.amazonaws.services.s3.internal.S3MetadataResponseHandler;
+import com.amazonaws.services.s3.internal.S3ObjectConsumerResponseHandler;
 import com.amazonaws.services.s3.internal.S3ObjectResponseHandler;
 import com.amazonaws.services.s3.internal.S3QueryStringSigner;
 import com.amazonaws.services.s3.internal.S3Signer;
@@ -85,6 +86,8 @@ import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
 import com.amazonaws.services.s3.model.CopyObjectRequest;
 import com.amazonaws.services.s3.model.CopyObjectResult;
+import com.amazonaws.services.s3.model.CopyPartRequest;
+import com.amazonaws.services.s3.model.CopyPartResult;
 import com.amazonaws.services.s3.model.CreateBucketRequest;
 import com.amazonaws.services.s3.model.DeleteBucketRequest;
 import com.amazonaws.services.s3.model.DeleteBucketWebsiteConfigurationRequest;
@@ -117,6 +120,7 @@ import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.PutObjectResult;
 import com.amazonaws.services.s3.model.Region;
 import com.amazonaws.services.s3.model.ResponseHeaderOverrides;
+import com.amazonaws.services.s3.model.ResponseBodyConsumer;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.SetBucketLoggingConfigurationRequest;
 import com.amazonaws.services.s3.model.SetBucketNotificationConfigurationRequest;
@@ -177,6 +181,12 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
     /** Utilities for validating bucket names */
     private final BucketNameUtils bucketNameUtils = new BucketNameUtils();
 
+    /**
+     * Endpoints to use for recently addressed buckets, learned from redirects
+     * and bucket location lookups.
+     */
+    private final BucketEndpointCache bucketEndpointCache = new BucketEndpointCache();
+
     /** Shared factory for converting configuration objects to XML */
     private static final BucketConfigurationXmlFactory bucketConfigurationXmlFactory = new BucketConfigurationXmlFactory();
 
@@ -441,7 +451,9 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         Request<GetBucketLocationRequest> request = createRequest(bucketName, null, getBucketLocationRequest, HttpMethodName.GET);
         request.addParameter("location", null);
 
-        return invoke(request, new Unmarshallers.BucketLocationUnmarshaller(), bucketName, null);
+        String location = invoke(request, new Unmarshallers.BucketLocationUnmarshaller(), bucketName, null);
+        bucketEndpointCache.updateFromLocation(bucketName, location, endpoint);
+        return location;
     }
 
     /* (non-Javadoc)
@@ -690,35 +702,7 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
      */
     public S3Object getObject(GetObjectRequest getObjectRequest)
             throws AmazonClientException, AmazonServiceException {
-        assertParameterNotNull(getObjectRequest,
-                "The GetObjectRequest parameter must be specified when requesting an object");
-        assertParameterNotNull(getObjectRequest.getBucketName(),
-                "The bucket name parameter must be specified when requesting an object");
-        assertParameterNotNull(getObjectRequest.getKey(),
-                "The key parameter must be specified when requesting an object");
-
-        Request<GetObjectRequest> request = createRequest(getObjectRequest.getBucketName(), getObjectRequest.getKey(), getObjectRequest, HttpMethodName.GET);
-
-        if (getObjectRequest.getVersionId() != null) {
-            request.addParameter("versionId", getObjectRequest.getVersionId());
-        }
-
-        // Range
-        if (getObjectRequest.getRange() != null) {
-            long[] range = getObjectRequest.getRange();
-            request.addHeader(Headers.RANGE, "bytes=" + Long.toString(range[0]) + "-" + Long.toString(range[1]));
-        }
-
-        addResponseHeaderParameters(request, getObjectRequest.getResponseHeaders());
-
-        addDateHeader(request, Headers.GET_OBJECT_IF_MODIFIED_SINCE,
-                getObjectRequest.getModifiedSinceConstraint());
-        addDateHeader(request, Headers.GET_OBJECT_IF_UNMODIFIED_SINCE,
-                getObjectRequest.getUnmodifiedSinceConstraint());
-        addStringListHeader(request, Headers.GET_OBJECT_IF_MATCH,
-                getObjectRequest.getMatchingETagConstraints());
-        addStringListHeader(request, Headers.GET_OBJECT_IF_NONE_MATCH,
-                getObjectRequest.getNonmatchingETagConstraints());
+        Request<GetObjectRequest> request = createGetObjectRequest(getObjectRequest);
 
         try {
             S3Object s3Object = invoke(request, new S3ObjectResponseHandler(), getObjectRequest.getBucketName(), getObjectRequest.getKey());
@@ -758,6 +742,66 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         }
     }
 
+    /* (non-Javadoc)
+     * @see com.amazonaws.services.s3.AmazonS3#getObject(com.amazonaws.services.s3.model.GetObjectRequest, com.amazonaws.services.s3.model.ResponseBodyConsumer)
+     */
+    public ObjectMetadata getObject(GetObjectRequest getObjectRequest, ResponseBodyConsumer consumer)
+            throws AmazonClientException, AmazonServiceException {
+        assertParameterNotNull(consumer,
+                "The response body consumer parameter must be specified when downloading an object to a consumer");
+        Request<GetObjectRequest> request = createGetObjectRequest(getObjectRequest);
+
+        try {
+            return invoke(request, new S3ObjectConsumerResponseHandler(consumer), getObjectRequest.getBucketName(), getObjectRequest.getKey());
+        } catch (AmazonS3Exception ase) {
+            // Constraints that weren't met are reported the same way as getObject(GetObjectRequest)
+            if (ase.getStatusCode() == 412 || ase.getStatusCode() == 304) {
+                return null;
+            }
+
+            throw ase;
+        }
+    }
+
+    /**
+     * Validates the specified get object request and creates the request to
+     * send to Amazon S3 for it, including any range, response header overrides
+     * and constraints.
+     */
+    private Request<GetObjectRequest> createGetObjectRequest(GetObjectRequest getObjectRequest) {
+        assertParameterNotNull(getObjectRequest,
+                "The GetObjectRequest parameter must be specified when requesting an object");
+        assertParameterNotNull(getObjectRequest.getBucketName(),
+                "The bucket name parameter must be specified when requesting an object");
+        assertParameterNotNull(getObjectRequest.getKey(),
+                "The key parameter must be specified when requesting an object");
+
+        Request<GetObjectRequest> request = createRequest(getObjectRequest.getBucketName(), getObjectRequest.getKey(), getObjectRequest, HttpMethodName.GET);
+
+        if (getObjectRequest.getVersionId() != null) {
+            request.addParameter("versionId", getObjectRequest.getVersionId());
+        }
+
+        // Range
+        if (getObjectRequest.getRange() != null) {
+            long[] range = getObjectRequest.getRange();
+            request.addHeader(Headers.RANGE, "bytes=" + Long.toString(range[0]) + "-" + Long.toString(range[1]));
+        }
+
+        addResponseHeaderParameters(request, getObjectRequest.getResponseHeaders());
+
+        addDateHeader(request, Headers.GET_OBJECT_IF_MODIFIED_SINCE,
+                getObjectRequest.getModifiedSinceConstraint());
+        addDateHeader(request, Headers.GET_OBJECT_IF_UNMODIFIED_SINCE,
+                getObjectRequest.getUnmodifiedSinceConstraint());
+        addStringListHeader(request, Headers.GET_OBJECT_IF_MATCH,
+                getObjectRequest.getMatchingETagConstraints());
+        addStringListHeader(request, Headers.GET_OBJECT_IF_NONE_MATCH,
+                getObjectRequest.getNonmatchingETagConstraints());
+
+        return request;
+    }
+
     /* (non-Javadoc)
      * @see com.amazonaws.services.s3.AmazonS3#getObject(com.amazonaws.services.s3.model.GetObjectRequest, java.io.File)
      */
@@ -824,6 +868,7 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
 
         Request<DeleteBucketRequest> request = createRequest(bucketName, null, deleteBucketRequest, HttpMethodName.DELETE);
         invoke(request, voidResponseHandler, bucketName, null);
+        bucketEndpointCache.remove(bucketName);
     }
 
     /* (non-Javadoc)
@@ -1058,22 +1103,7 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
          * success/error (per request), but it's probably overkill for this
          * one special case.
          */
-        if (copyObjectResultHandler.getErrorCode() != null) {
-            String errorCode = copyObjectResultHandler.getErrorCode();
-            String errorMessage = copyObjectResultHandler.getErrorMessage();
-            String requestId = copyObjectResultHandler.getErrorRequestId();
-            String hostId = copyObjectResultHandler.getErrorHostId();
-
-            AmazonS3Exception ase = new AmazonS3Exception(errorMessage);
-            ase.setErrorCode(errorCode);
-            ase.setErrorType(ErrorType.Service);
-            ase.setRequestId(requestId);
-            ase.setExtendedRequestId(hostId);
-            ase.setServiceName(request.getServiceName());
-            ase.setStatusCode(200);
-
-            throw ase;
-        }
+        throwIfErrorResponse(request, copyObjectResultHandler);
 
         // TODO: Might be nice to create this in our custom CopyObjectResponseHandler
         CopyObjectResult copyObjectResult = new CopyObjectResult();
@@ -1085,6 +1115,55 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         return copyObjectResult;
     }
 
+    /* (non-Javadoc)
+     * @see com.amazonaws.services.s3.AmazonS3#copyPart(com.amazonaws.services.s3.model.CopyPartRequest)
+     */
+    public CopyPartResult copyPart(CopyPartRequest copyPartRequest)
+            throws AmazonClientException, AmazonServiceException {
+        assertParameterNotNull(copyPartRequest.getSourceBucketName(),
+                "The source bucket name must be specified when copying a part");
+        assertParameterNotNull(copyPartRequest.getSourceKey(),
+                "The source object key must be specified when copying a part");
+        assertParameterNotNull(copyPartRequest.getDestinationBucketName(),
+                "The destination bucket name must be specified when copying a part");
+        assertParameterNotNull(copyPartRequest.getDestinationKey(),
+                "The destination object key must be specified when copying a part");
+        assertParameterNotNull(copyPartRequest.getUploadId(),
+                "The upload ID must be specified when copying a part");
+
+        String destinationKey = copyPartRequest.getDestinationKey();
+        String destinationBucketName = copyPartRequest.getDestinationBucketName();
+
+        Request<CopyPartRequest> request = createRequest(destinationBucketName, destinationKey, copyPartRequest, HttpMethodName.PUT);
+        request.addParameter("uploadId", copyPartRequest.getUploadId());
+        request.addParameter("partNumber", Integer.toString(copyPartRequest.getPartNumber()));
+
+        populateRequestWithCopyPartParameters(request, copyPartRequest);
+        request.getHeaders().remove(Headers.CONTENT_LENGTH);
+
+        CopyObjectResultHandler copyObjectResultHandler = null;
+        try {
+            copyObjectResultHandler = invoke(request, new CopyObjectResponseHandler(), destinationBucketName, destinationKey);
+        } catch (AmazonS3Exception ase) {
+            // Same as copyObject: unmet constraints are reported as a null result
+            if (ase.getStatusCode() == Constants.FAILED_PRECONDITION_STATUS_CODE) {
+               return null;
+            }
+
+            throw ase;
+        }
+
+        // Like CopyObject, UploadPartCopy can return an error inside a 200 OK response
+        throwIfErrorResponse(request, copyObjectResultHandler);
+
+        CopyPartResult copyPartResult = new CopyPartResult();
+        copyPartResult.setPartNumber(copyPartRequest.getPartNumber());
+        copyPartResult.setETag(copyObjectResultHandler.getETag());
+        copyPartResult.setLastModifiedDate(copyObjectResultHandler.getLastModified());
+
+        return copyPartResult;
+    }
+
     /* (non-Javadoc)
      * @see com.amazonaws.services.s3.AmazonS3#deleteObject(java.lang.String, java.lang.String)
      */
@@ -1907,26 +1986,6 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         }
     }
 
-    /**
-     * Converts the current endpoint set for this client into virtual addressing
-     * style, by placing the name of the specified bucket before the S3 service
-     * endpoint.
-     *
-     * @param bucketName
-     *            The name of the bucket to use in the virtual addressing style
-     *            of the returned URI.
-     *
-     * @return A new URI, creating from the current service endpoint URI and the
-     *         specified bucket.
-     */
-    private URI convertToVirtualHostEndpoint(String bucketName) {
-        try {
-            return new URI(endpoint.getScheme() + "://" + bucketName + "." + endpoint.getAuthority());
-        } catch (URISyntaxException e) {
-            throw new AmazonClientException("Can't turn bucket name into a URI: " + e.getMessage(), e);
-        }
-    }
-
     /**
      * <p>
      * Populates the specified request object with the appropriate headers from
@@ -1998,13 +2057,8 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
      *            Amazon S3.
      */
     private static void populateRequestWithCopyObjectParameters(Request<?> request, CopyObjectRequest copyObjectRequest) {
-        String copySourceHeader =
-             "/" + ServiceUtils.urlEncode(copyObjectRequest.getSourceBucketName())
-           + "/" + ServiceUtils.urlEncode(copyObjectRequest.getSourceKey());
-        if (copyObjectRequest.getSourceVersionId() != null) {
-            copySourceHeader += "?versionId=" + copyObjectRequest.getSourceVersionId();
-        }
-        request.addHeader("x-amz-copy-source", copySourceHeader);
+        addCopySourceHeader(request, copyObjectRequest.getSourceBucketName(),
+                copyObjectRequest.getSourceKey(), copyObjectRequest.getSourceVersionId());
 
         addDateHeader(request, Headers.COPY_SOURCE_IF_MODIFIED_SINCE,
                 copyObjectRequest.getModifiedSinceConstraint());
@@ -2032,6 +2086,80 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         }
     }
 
+    /**
+     * <p>
+     * Populates the specified request object with the appropriate headers from
+     * the {@link CopyPartRequest} object.
+     * </p>
+     *
+     * @param request
+     *            The request to populate with headers.
+     * @param copyPartRequest
+     *            The copy part request containing all the data needed to
+     *            populate the headers.
+     */
+    private static void populateRequestWithCopyPartParameters(Request<?> request, CopyPartRequest copyPartRequest) {
+        addCopySourceHeader(request, copyPartRequest.getSourceBucketName(),
+                copyPartRequest.getSourceKey(), copyPartRequest.getSourceVersionId());
+
+        if (copyPartRequest.getFirstByte() != null && copyPartRequest.getLastByte() != null) {
+            request.addHeader(Headers.COPY_PART_RANGE,
+                    "bytes=" + copyPartRequest.getFirstByte() + "-" + copyPartRequest.getLastByte());
+        }
+
+        addDateHeader(request, Headers.COPY_SOURCE_IF_MODIFIED_SINCE,
+                copyPartRequest.getModifiedSinceConstraint());
+        addDateHeader(request, Headers.COPY_SOURCE_IF_UNMODIFIED_SINCE,
+                copyPartRequest.getUnmodifiedSinceConstraint());
+
+        addStringListHeader(request, Headers.COPY_SOURCE_IF_MATCH,
+                copyPartRequest.getMatchingETagConstraints());
+        addStringListHeader(request, Headers.COPY_SOURCE_IF_NO_MATCH,
+                copyPartRequest.getNonmatchingETagConstraints());
+    }
+
+    /**
+     * <p>
+     * Adds the header naming the source object of a copy to the specified
+     * request.
+     * </p>
+     */
+    private static void addCopySourceHeader(Request<?> request, String sourceBucketName,
+            String sourceKey, String sourceVersionId) {
+        String copySourceHeader =
+             "/" + ServiceUtils.urlEncode(sourceBucketName)
+           + "/" + ServiceUtils.urlEncode(sourceKey);
+        if (sourceVersionId != null) {
+            copySourceHeader += "?versionId=" + sourceVersionId;
+        }
+        request.addHeader(Headers.COPY_SOURCE, copySourceHeader);
+    }
+
+    /**
+     * <p>
+     * Throws the error contained in the body of a successful (200 OK) copy
+     * object or copy part response, if there is one.
+     * </p>
+     */
+    private static void throwIfErrorResponse(Request<?> request, CopyObjectResultHandler copyObjectResultHandler) {
+        if (copyObjectResultHandler.getErrorCode() != null) {
+            String errorCode = copyObjectResultHandler.getErrorCode();
+            String errorMessage = copyObjectResultHandler.getErrorMessage();
+            String requestId = copyObjectResultHandler.getErrorRequestId();
+            String hostId = copyObjectResultHandler.getErrorHostId();
+
+            AmazonS3Exception ase = new AmazonS3Exception(errorMessage);
+            ase.setErrorCode(errorCode);
+            ase.setErrorType(ErrorType.Service);
+            ase.setRequestId(requestId);
+            ase.setExtendedRequestId(hostId);
+            ase.setServiceName(request.getServiceName());
+            ase.setStatusCode(200);
+
+            throw ase;
+        }
+    }
+
     /**
      * <p>
      * Adds the specified date header in RFC 822 date format to the specified
@@ -2136,11 +2264,14 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
     protected <X extends AmazonWebServiceRequest> Request<X> createRequest(String bucketName, String key, X originalRequest, HttpMethodName httpMethod) {
         Request<X> request = new DefaultRequest<X>(originalRequest, Constants.S3_SERVICE_NAME);
         request.setHttpMethod(httpMethod);
-        if (bucketNameUtils.isValidV2BucketName(bucketName)) {
-            request.setEndpoint(convertToVirtualHostEndpoint(bucketName));
+
+        BucketEndpointCache.BucketEndpoint bucketEndpoint =
+            (bucketName == null) ? null : bucketEndpointCache.get(bucketName, endpoint);
+        if (bucketEndpoint != null && bucketEndpoint.isVirtualHost()) {
+            request.setEndpoint(bucketEndpoint.getEndpoint());
             request.setResourcePath(ServiceUtils.urlEncode(key));
         } else {
-            request.setEndpoint(endpoint);
+            request.setEndpoint(bucketEndpoint != null ? bucketEndpoint.getEndpoint() : endpoint);
 
             if (bucketName != null) {
                 /*
@@ -2195,7 +2326,42 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         executionContext.setSigner(createSigner(request, bucket, key));
         executionContext.setCredentials(credentials);
 
-        return (X)client.execute(request, responseHandler, errorResponseHandler, executionContext);
+        try {
+            return (X)client.execute(request, responseHandler, errorResponseHandler, executionContext);
+        } catch (AmazonServiceException ase) {
+            /*
+             * A redirect, or a bad request such as one signed for the wrong
+             * region, can mean the bucket isn't (or is no longer) served from
+             * the endpoint we used, so don't keep using it. Any redirect
+             * location is recorded below.
+             */
+            int statusCode = ase.getStatusCode();
+            if (bucket != null && (statusCode == 301 || statusCode == 307 || statusCode == 400)) {
+                bucketEndpointCache.remove(bucket);
+            }
+            throw ase;
+        } finally {
+            /*
+             * Remember where Amazon S3 redirected this bucket's request, so
+             * later requests can skip the redirect round trip.
+             */
+            if (bucket != null && executionContext.getRedirectedURI() != null) {
+                bucketEndpointCache.updateFromRedirect(bucket, executionContext.getRedirectedURI());
+            }
+        }
+    }
+
+    /**
+     * Overrides the default endpoint for this client, and forgets any
+     * endpoints learned for individual buckets, since those are only valid
+     * for the previous endpoint.
+     *
+     * @see com.amazonaws.AmazonWebServiceClient#setEndpoint(java.lang.String)
+     */
+    @Override
+    public void setEndpoint(String endpoint) throws IllegalArgumentException {
+        super.setEndpoint(endpoint);
+        bucketEndpointCache.clear();
     }
 
 }
@@ -15,13 +15,25 @@
 package com.amazonaws.services.s3;
 
 import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.HashMap;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
@@ -31,12 +43,15 @@ import org.apache.commons.logging.LogFactory;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceRequest;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.services.s3.internal.S3ObjectConsumerResponseHandler;
 import com.amazonaws.services.s3.internal.crypto.ByteRangeCapturingInputStream;
 import com.amazonaws.services.s3.internal.crypto.EncryptedUploadContext;
 import com.amazonaws.services.s3.internal.crypto.EncryptionInstruction;
 import com.amazonaws.services.s3.internal.crypto.EncryptionUtils;
+import com.amazonaws.services.s3.internal.crypto.EnvelopeKeyCache;
 import com.amazonaws.services.s3.internal.crypto.JceEncryptionConstants;
 import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
@@ -44,6 +59,7 @@ import com.amazonaws.services.s3.model.CryptoConfiguration;
 import com.amazonaws.services.s3.model.CryptoStorageMode;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
 import com.amazonaws.services.s3.model.EncryptionMaterials;
+import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
 import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.GroupGrantee;
 import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
@@ -52,6 +68,7 @@ import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.Permission;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.ResponseBodyConsumer;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.UploadPartRequest;
 import com.amazonaws.services.s3.model.UploadPartResult;
@@ -66,11 +83,20 @@ public class AmazonS3EncryptionClient extends AmazonS3Client {
     private EncryptionMaterials encryptionMaterials;
     private CryptoConfiguration cryptoConfig;
 
+    /** Cache of decrypted envelope keys and of materials returned by the materials accessor */
+    private final EnvelopeKeyCache envelopeKeyCache;
+
+    /** Size of the buffers used when decrypting object contents to a file */
+    private static final int DECRYPTION_BUFFER_SIZE = 128 * 1024;
+
     /** Shared logger for encryption client events */
     private static Log log = LogFactory.getLog(AmazonS3EncryptionClient.class);
 
-    /** Map of data about in progress encrypted multipart uploads. */
-    private Map<String, EncryptedUploadContext> currentMultipartUploadSecretKeys = new HashMap<String, EncryptedUploadContext>();
+    /**
+     * Map of data about in progress encrypted multipart uploads. Parts of
+     * counter mode uploads may be uploaded from several threads at once.
+     */
+    private Map<String, EncryptedUploadContext> currentMultipartUploadSecretKeys = new ConcurrentHashMap<String, EncryptedUploadContext>();
 
     
     /**
@@ -206,6 +232,28 @@ public class AmazonS3EncryptionClient extends AmazonS3Client {
         assertParameterNotNull(cryptoConfig, "CryptoConfiguration parameter must not be null.");
         this.encryptionMaterials = encryptionMaterials;
         this.cryptoConfig = cryptoConfig;
+        this.envelopeKeyCache = new EnvelopeKeyCache(cryptoConfig.getKeyCacheSize(), cryptoConfig.getKeyCacheTimeToLiveMillis());
+    }
+
+    /**
+     * Returns the crypto configuration of this client.
+     *
+     * @return The crypto configuration whose parameters are used to encrypt
+     *         and decrypt data.
+     */
+    public CryptoConfiguration getCryptoConfiguration() {
+        return cryptoConfig;
+    }
+
+    /**
+     * Returns the cache of decrypted envelope keys used by this client, whose
+     * hit and miss counts show how many envelope key decryptions (and
+     * materials accessor lookups) it has saved.
+     *
+     * @return The cache of decrypted envelope keys used by this client.
+     */
+    public EnvelopeKeyCache getEnvelopeKeyCache() {
+        return envelopeKeyCache;
     }
 
     /* (non-Javadoc)
@@ -241,12 +289,12 @@ public class AmazonS3EncryptionClient extends AmazonS3Client {
         S3Object objectToBeReturned;
         // Check if encryption info is in object metadata
         if (EncryptionUtils.isEncryptionInfoInMetadata(retrievedObject)) {
-            objectToBeReturned = decryptObjectUsingMetadata(retrievedObject);
+            objectToBeReturned = decryptObjectUsingMetadata(retrievedObject, adjustedCryptoRange);
         } else {
             // Check if encrypted info is in an instruction file
             S3Object instructionFile = getInstructionFile(getObjectRequest);
             if (EncryptionUtils.isEncryptionInfoInInstructionFile(instructionFile)) {
-                objectToBeReturned = decryptObjectUsingInstructionFile(retrievedObject, instructionFile);
+                objectToBeReturned = decryptObjectUsingInstructionFile(retrievedObject, instructionFile, adjustedCryptoRange);
             } else {
                 // The object was not encrypted to begin with.  Return the object without decrypting it.
                 log.warn(String.format("Unable to detect encryption information for object '%s' in bucket '%s'. " +
@@ -269,23 +317,30 @@ public class AmazonS3EncryptionClient extends AmazonS3Client {
         assertParameterNotNull(destinationFile,
         "The destination file parameter must be specified when downloading an object directly to a file");
 
-        S3Object s3Object = getObject(getObjectRequest);
+        // Ranges have to be trimmed to the bytes requested, which the decrypted stream takes care of
+        if (getObjectRequest.getRange() != null) return getObjectUsingStream(getObjectRequest, destinationFile);
+
+        S3Object s3Object = super.getObject(getObjectRequest);
         // getObject can return null if constraints were specified but not met
         if (s3Object == null) return null;
 
-        OutputStream outputStream = null;
+        RandomAccessFile file = null;
         try {
-            outputStream = new BufferedOutputStream(new FileOutputStream(destinationFile));
-            byte[] buffer = new byte[1024*10];
-            int bytesRead;
-            while ((bytesRead = s3Object.getObjectContent().read(buffer)) > -1) {
-                outputStream.write(buffer, 0, bytesRead);
+            EncryptionInstruction instruction = getDecryptionInstruction(getObjectRequest, s3Object.getObjectMetadata());
+
+            file = new RandomAccessFile(destinationFile, "rw");
+            file.setLength(0);
+            if (instruction == null) {
+                // The object was not encrypted to begin with.  Store the object without decrypting it.
+                writeToFile(s3Object.getObjectContent(), file.getChannel(), 0, null);
+            } else {
+                writeToFile(s3Object.getObjectContent(), file.getChannel(), 0, instruction.getSymmetricCipher());
             }
         } catch (IOException e) {
             throw new AmazonClientException(
                     "Unable to store object contents to disk: " + e.getMessage(), e);
         } finally {
-            try {outputStream.close();} catch (Exception e) {}
+            try {if (file != null) file.close();} catch (Exception e) {}
             try {s3Object.getObjectContent().close();} catch (Exception e) {}
         }
 
@@ -298,6 +353,168 @@ public class AmazonS3EncryptionClient extends AmazonS3Client {
         return s3Object.getObjectMetadata();
     }
 
+    /* (non-Javadoc)
+     * @see com.amazonaws.services.s3.AmazonS3#getObject(com.amazonaws.services.s3.model.GetObjectRequest, com.amazonaws.services.s3.model.ResponseBodyConsumer)
+     */
+    @Override
+    public ObjectMetadata getObject(GetObjectRequest getObjectRequest, ResponseBodyConsumer consumer)
+    throws AmazonClientException, AmazonServiceException {
+        assertParameterNotNull(consumer,
+        "The response body consumer parameter must be specified when downloading an object to a consumer");
+
+        // The consumer is given decrypted content, read from the decrypting stream
+        S3Object s3Object = getObject(getObjectRequest);
+        // getObject can return null if constraints were specified but not met
+        if (s3Object == null) return null;
+
+        InputStream content = s3Object.getObjectContent();
+        try {
+            S3ObjectConsumerResponseHandler.deliver(s3Object.getObjectMetadata(), content, consumer);
+        } catch (IOException e) {
+            throw new AmazonClientException(
+                    "Unable to pass object contents to the consumer: " + e.getMessage(), e);
+        } finally {
+            try {content.close();} catch (Exception e) {}
+        }
+
+        return s3Object.getObjectMetadata();
+    }
+
+    /**
+     * Gets the object metadata for the object stored in Amazon S3 under the
+     * specified bucket and key, and saves the decrypted object contents to
+     * the specified file, fetching and decrypting separate ranges of the
+     * object concurrently in the specified thread pool.
+     * <p>
+     * Each range is decrypted independently, straight into its place in the
+     * destination file, so large objects can be downloaded and decrypted at
+     * close to network speed instead of being limited by a single decrypting
+     * stream. Requests with a range or constraints, and objects no larger
+     * than a single range, are downloaded with a single request as by
+     * {@link #getObject(GetObjectRequest, File)}.
+     *
+     * @param getObjectRequest
+     *            The request object containing all the options on how to
+     *            download the Amazon S3 object content.
+     * @param destinationFile
+     *            Indicates the file (which might already exist) where to save
+     *            the object content being downloading from Amazon S3.
+     * @param threadPool
+     *            The thread pool in which to fetch and decrypt ranges. While
+     *            it waits for the ranges, the calling thread fetches and
+     *            decrypts any that no pool thread has started, so it may
+     *            itself be one of the pool's threads.
+     * @param rangeSize
+     *            The size, in bytes, of the ranges to fetch. Rounded up to a
+     *            multiple of the cipher block size.
+     *
+     * @return All S3 object metadata for the specified object, or null if
+     *         constraints were specified but not met.
+     *
+     * @throws AmazonClientException
+     *             If any errors are encountered in the client while making the
+     *             request, handling the response, or writing the object
+     *             content to the specified destination file.
+     * @throws AmazonServiceException
+     *             If any errors occurred in Amazon S3 while processing the
+     *             request.
+     */
+    public ObjectMetadata getObject(GetObjectRequest getObjectRequest, File destinationFile,
+            ExecutorService threadPool, long rangeSize)
+    throws AmazonClientException, AmazonServiceException {
+        assertParameterNotNull(destinationFile,
+        "The destination file parameter must be specified when downloading an object directly to a file");
+        assertParameterNotNull(threadPool, "The thread pool parameter must be specified when downloading an object in ranges");
+
+        if (getObjectRequest.getRange() != null || hasConstraints(getObjectRequest)) {
+            return getObject(getObjectRequest, destinationFile);
+        }
+
+        final long blockSize = JceEncryptionConstants.SYMMETRIC_CIPHER_BLOCK_SIZE;
+        rangeSize = Math.max(blockSize, (rangeSize + blockSize - 1) / blockSize * blockSize);
+
+        GetObjectMetadataRequest getObjectMetadataRequest = new GetObjectMetadataRequest(
+                getObjectRequest.getBucketName(), getObjectRequest.getKey(), getObjectRequest.getVersionId());
+        copyClientMarker(getObjectRequest, getObjectMetadataRequest);
+        final ObjectMetadata metadata = super.getObjectMetadata(getObjectMetadataRequest);
+
+        final long contentLength = metadata.getContentLength();
+        final EncryptionInstruction instruction = getDecryptionInstruction(getObjectRequest, metadata);
+        if (instruction == null || contentLength <= rangeSize) {
+            return getObject(getObjectRequest, destinationFile);
+        }
+        final boolean isCounterMode = EncryptionUtils.isCounterMode(instruction.getSymmetricCipher());
+
+        RandomAccessFile file = null;
+        List<FutureTask<Void>> futures = new ArrayList<FutureTask<Void>>();
+        boolean succeeded = false;
+        try {
+            file = new RandomAccessFile(destinationFile, "rw");
+            file.setLength(contentLength);
+            final FileChannel channel = file.getChannel();
+
+            for (long offset = 0; offset < contentLength; offset += rangeSize) {
+                final long rangeStart = offset;
+                final long rangeEnd = Math.min(offset + rangeSize, contentLength) - 1;
+                final GetObjectRequest rangeRequest = new GetObjectRequest(
+                        getObjectRequest.getBucketName(), getObjectRequest.getKey(), getObjectRequest.getVersionId())
+                    .withMatchingETagConstraint(metadata.getETag());
+                copyClientMarker(getObjectRequest, rangeRequest);
+
+                // Chained blocks are decrypted with the preceding cipher block as their IV
+                long fetchStart = (isCounterMode || rangeStart == 0) ? rangeStart : rangeStart - blockSize;
+                rangeRequest.setRange(fetchStart, rangeEnd);
+
+                FutureTask<Void> future = new FutureTask<Void>(new Callable<Void>() {
+                    public Void call() throws Exception {
+                        decryptRangeToFile(rangeRequest, rangeStart, instruction, channel);
+                        return null;
+                    }
+                });
+                futures.add(future);
+                try {
+                    threadPool.execute(future);
+                } catch (RejectedExecutionException e) {
+                    // Run below, in this thread
+                }
+            }
+
+            for (FutureTask<Void> future : futures) {
+                /*
+                 * Run ranges still waiting for a pool thread here, so the
+                 * download can't deadlock when this thread is one of the pool's
+                 * threads and every other pool thread is also waiting. Running
+                 * a task that has already started or finished does nothing.
+                 */
+                future.run();
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof AmazonClientException) throw (AmazonClientException)cause;
+                    throw new AmazonClientException("Unable to download object range: " + cause.getMessage(), cause);
+                }
+            }
+
+            if (!isCounterMode) removePadding(file, contentLength);
+            succeeded = true;
+        } catch (IOException e) {
+            throw new AmazonClientException(
+                    "Unable to store object contents to disk: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException("Interrupted while downloading object", e);
+        } finally {
+            if (!succeeded) {
+                for (FutureTask<Void> future : futures) future.cancel(true);
+            }
+            try {if (file != null) file.close();} catch (Exception e) {}
+            if (!succeeded) destinationFile.delete();
+        }
+
+        return metadata;
+    }
+
     /* (non-Javadoc)
      * @see com.amazonaws.services.s3.AmazonS3Client#deleteObject(com.amazonaws.services.s3.model.DeleteObjectRequest)
      */
@@ -333,7 +550,8 @@ public class AmazonS3EncryptionClient extends AmazonS3Client {
 	        Cipher symmetricCipher = EncryptionUtils.createSymmetricCipher(
 	        		encryptedUploadContext.getEnvelopeEncryptionKey(), 
 	        		Cipher.ENCRYPT_MODE, cryptoConfig.getCryptoProvider(), 
-	        		encryptedUploadContext.getFirstInitializationVector());
+	        		encryptedUploadContext.getFirstInitializationVector(),
+	        		encryptedUploadContext.getCipherMethod());
 	        
 	        // Encrypt the envelope symmetric key
 	        byte[] encryptedEnvelopeSymmetricKey = EncryptionUtils.getEncryptedSymmetricKey(encryptedUploadContext.getEnvelopeEncryptionKey(), encryptionMaterials, cryptoConfig.getCryptoProvider());
@@ -357,7 +575,8 @@ public class AmazonS3EncryptionClient extends AmazonS3Client {
 
         // Generate a one-time use symmetric key and initialize a cipher to encrypt object data
         SecretKey envelopeSymmetricKey = EncryptionUtils.generateOneTimeUseSymmetricKey();
-        Cipher symmetricCipher = EncryptionUtils.createSymmetricCipher(envelopeSymmetricKey, Cipher.ENCRYPT_MODE, cryptoConfig.getCryptoProvider(), null);
+        String cipherMethod = EncryptionUtils.getCipherMethod(cryptoConfig.getCipherMode());
+        Cipher symmetricCipher = EncryptionUtils.createSymmetricCipher(envelopeSymmetricKey, Cipher.ENCRYPT_MODE, cryptoConfig.getCryptoProvider(), null, cipherMethod);
 
 		if (cryptoConfig.getStorageMode() == CryptoStorageMode.ObjectMetadata) {
 			// Encrypt the envelope symmetric key
@@ -371,7 +590,7 @@ public class AmazonS3EncryptionClient extends AmazonS3Client {
 		}
 
 		InitiateMultipartUploadResult result = super.initiateMultipartUpload(initiateMultipartUploadRequest);
-		EncryptedUploadContext encryptedUploadContext = new EncryptedUploadContext(initiateMultipartUploadRequest.getBucketName(), initiateMultipartUploadRequest.getKey(), envelopeSymmetricKey);
+		EncryptedUploadContext encryptedUploadContext = new EncryptedUploadContext(initiateMultipartUploadRequest.getBucketName(), initiateMultipartUploadRequest.getKey(), envelopeSymmetricKey, cipherMethod);
 		encryptedUploadContext.setNextInitializationVector(symmetricCipher.getIV());
 		encryptedUploadContext.setFirstInitializationVector(symmetricCipher.getIV());
 		currentMultipartUploadSecretKeys.put(result.getUploadId(), encryptedUploadContext);
@@ -401,8 +620,20 @@ public class AmazonS3EncryptionClient extends AmazonS3Client {
     	if (encryptedUploadContext == null) throw new AmazonClientException("No client-side information available on upload ID " + uploadId);
     	
         SecretKey envelopeSymmetricKey = encryptedUploadContext.getEnvelopeEncryptionKey();
-        byte[] iv = encryptedUploadContext.getNextInitializationVector();
-        Cipher symmetricCipher = EncryptionUtils.createSymmetricCipher(envelopeSymmetricKey, Cipher.ENCRYPT_MODE, cryptoConfig.getCryptoProvider(), iv);
+        boolean isCounterMode = JceEncryptionConstants.SYMMETRIC_CTR_CIPHER_METHOD.equals(encryptedUploadContext.getCipherMethod());
+        byte[] iv;
+        if (isCounterMode) {
+            // A part's counter follows from its offset in the object, so parts can be encrypted in any order
+            long offset = (uploadPartRequest.getFile() != null) ? uploadPartRequest.getFileOffset() : getStreamPartOffset(uploadPartRequest, encryptedUploadContext);
+            if (!encryptedUploadContext.claimOffset(offset, uploadPartRequest.getPartNumber())) {
+                throw new AmazonClientException("Invalid part offset: another part of this encrypted multipart upload starts at offset " + offset + ".  " +
+                        "Parts uploaded from a file must be uploaded from a single file containing the whole object.");
+            }
+            iv = EncryptionUtils.getCounterModeInitializationVector(encryptedUploadContext.getFirstInitializationVector(), offset);
+        } else {
+            iv = encryptedUploadContext.getNextInitializationVector();
+        }
+        Cipher symmetricCipher = EncryptionUtils.createSymmetricCipher(envelopeSymmetricKey, Cipher.ENCRYPT_MODE, cryptoConfig.getCryptoProvider(), iv, encryptedUploadContext.getCipherMethod());
 
         // Create encrypted input stream
         InputStream encryptedInputStream = EncryptionUtils.getEncryptedInputStream(uploadPartRequest, symmetricCipher);
@@ -429,11 +660,14 @@ public class AmazonS3EncryptionClient extends AmazonS3Client {
 
     	UploadPartResult result = super.uploadPart(uploadPartRequest);
 
-    	if (encryptedInputStream instanceof ByteRangeCapturingInputStream) {
-    		ByteRangeCapturingInputStream bris = (ByteRangeCapturingInputStream)encryptedInputStream;
-    		encryptedUploadContext.setNextInitializationVector(bris.getBlock());
-    	} else {
-    		throw new AmazonClientException("Unable to access last block of encrypted data");
+    	// In counter mode, no state is carried over to the next part
+    	if (!isCounterMode) {
+    		if (encryptedInputStream instanceof ByteRangeCapturingInputStream) {
+    			ByteRangeCapturingInputStream bris = (ByteRangeCapturingInputStream)encryptedInputStream;
+    			encryptedUploadContext.setNextInitializationVector(bris.getBlock());
+    		} else {
+    			throw new AmazonClientException("Unable to access last block of encrypted data");
+    		}
     	}
 
 		return result;
@@ -444,6 +678,28 @@ public class AmazonS3EncryptionClient extends AmazonS3Client {
      * Private helper methods
      */
 
+    /**
+     * Returns the offset in the object of a part uploaded from a stream in an
+     * encrypted multipart upload using counter mode. The offset follows from
+     * the part's number and the size of the upload's other stream parts, so a
+     * part that's retried or uploaded again gets the same counter block.
+     */
+    private static long getStreamPartOffset(UploadPartRequest uploadPartRequest, EncryptedUploadContext encryptedUploadContext) {
+        int partNumber = uploadPartRequest.getPartNumber();
+        if (!uploadPartRequest.isLastPart() && !encryptedUploadContext.claimStreamPartSize(uploadPartRequest.getPartSize())) {
+            throw new AmazonClientException("Invalid part size: parts of an encrypted multipart upload that are uploaded from a stream " +
+                    "must all be the same size (" + encryptedUploadContext.getStreamPartSize() + ") with the exception of the last part.");
+        }
+        if (partNumber == 1) return 0;
+
+        long partSize = encryptedUploadContext.getStreamPartSize();
+        if (partSize == 0) {
+            throw new AmazonClientException("Unable to determine the offset of part " + partNumber + ": the last part of an encrypted " +
+                    "multipart upload from a stream must be uploaded after at least one of the other parts.");
+        }
+        return (partNumber - 1) * partSize;
+    }
+
     /**
      * Puts an encrypted object into S3 and stores encryption info in the object metadata.
      *
@@ -462,7 +718,7 @@ public class AmazonS3EncryptionClient extends AmazonS3Client {
      */
     private PutObjectResult putObjectUsingMetadata(PutObjectRequest putObjectRequest)
     throws AmazonClientException, AmazonServiceException {
-        putObjectRequest = EncryptionUtils.encryptRequestUsingMetadata(putObjectRequest, this.encryptionMaterials, this.cryptoConfig.getCryptoProvider());
+        putObjectRequest = EncryptionUtils.encryptRequestUsingMetadata(putObjectRequest, this.encryptionMaterials, this.cryptoConfig.getCryptoProvider(), this.cryptoConfig.getCipherMode());
         return super.putObject(putObjectRequest);
     }
 
@@ -485,7 +741,7 @@ public class AmazonS3EncryptionClient extends AmazonS3Client {
     private PutObjectResult putObjectUsingInstructionFile(PutObjectRequest putObjectRequest)
     throws AmazonClientException, AmazonServiceException {
         // Create instruction
-        EncryptionInstruction instruction = EncryptionUtils.generateInstruction(this.encryptionMaterials, this.cryptoConfig.getCryptoProvider());
+        EncryptionInstruction instruction = EncryptionUtils.generateInstruction(this.encryptionMaterials, this.cryptoConfig.getCryptoProvider(), this.cryptoConfig.getCipherMode());
 
         // Encrypt the object data with the instruction
         PutObjectRequest encryptedObjectRequest = EncryptionUtils.encryptRequestUsingInstruction(putObjectRequest, instruction);
@@ -506,11 +762,14 @@ public class AmazonS3EncryptionClient extends AmazonS3Client {
      *
      * @param object
      *      The S3Object to be decrypted.
+     * @param cryptoRange
+     *      The range of encrypted bytes retrieved, or null if the whole object was retrieved.
      * @return
      *      An S3Object with decrypted object contents.  If decryption is not possible, returns null.
      */
-    private S3Object decryptObjectUsingMetadata(S3Object object) {
-        return EncryptionUtils.decryptObjectUsingMetadata(object, this.encryptionMaterials, this.cryptoConfig.getCryptoProvider());
+    private S3Object decryptObjectUsingMetadata(S3Object object, long[] cryptoRange) {
+        return EncryptionUtils.decryptObjectUsingMetadata(object, this.encryptionMaterials, this.cryptoConfig.getCryptoProvider(),
+                cryptoRange, this.envelopeKeyCache);
     }
 
     /**
@@ -520,15 +779,18 @@ public class AmazonS3EncryptionClient extends AmazonS3Client {
      *      The S3Object to be decrypted.
      * @param instructionFile
      *      The S3Object instruction file to be used to decrypt the object.
+     * @param cryptoRange
+     *      The range of encrypted bytes retrieved, or null if the whole object was retrieved.
      * @return
      *      An S3Object with decrypted object contents.
      */
-    private S3Object decryptObjectUsingInstructionFile(S3Object object, S3Object instructionFile) {
+    private S3Object decryptObjectUsingInstructionFile(S3Object object, S3Object instructionFile, long[] cryptoRange) {
         // Create an instruction object from the retrieved instruction file
-        EncryptionInstruction instruction = EncryptionUtils.buildInstructionFromInstructionFile(instructionFile, this.encryptionMaterials, this.cryptoConfig.getCryptoProvider());
+        EncryptionInstruction instruction = EncryptionUtils.buildInstructionFromInstructionFile(instructionFile, this.encryptionMaterials,
+                this.cryptoConfig.getCryptoProvider(), this.envelopeKeyCache);
 
         // Decrypt the object file with the instruction
-        return EncryptionUtils.decryptObjectUsingInstruction(object, instruction);
+        return EncryptionUtils.decryptObjectUsingInstruction(object, instruction, cryptoRange);
     }
 
     /**
@@ -551,6 +813,146 @@ public class AmazonS3EncryptionClient extends AmazonS3Client {
         }
     }
 
+    /**
+     * Saves the decrypted contents of a ranged request to a file, through the
+     * decrypting stream returned by {@link #getObject(GetObjectRequest)}.
+     */
+    private ObjectMetadata getObjectUsingStream(GetObjectRequest getObjectRequest, File destinationFile) {
+        S3Object s3Object = getObject(getObjectRequest);
+        // getObject can return null if constraints were specified but not met
+        if (s3Object == null) return null;
+
+        OutputStream outputStream = null;
+        try {
+            outputStream = new BufferedOutputStream(new FileOutputStream(destinationFile));
+            byte[] buffer = new byte[1024*10];
+            int bytesRead;
+            while ((bytesRead = s3Object.getObjectContent().read(buffer)) > -1) {
+                outputStream.write(buffer, 0, bytesRead);
+            }
+        } catch (IOException e) {
+            throw new AmazonClientException(
+                    "Unable to store object contents to disk: " + e.getMessage(), e);
+        } finally {
+            try {outputStream.close();} catch (Exception e) {}
+            try {s3Object.getObjectContent().close();} catch (Exception e) {}
+        }
+
+        return s3Object.getObjectMetadata();
+    }
+
+    /**
+     * Returns the instruction to decrypt the object with the specified
+     * metadata, read from the metadata or from the object's instruction file,
+     * or null if the object isn't encrypted.
+     */
+    private EncryptionInstruction getDecryptionInstruction(GetObjectRequest getObjectRequest, ObjectMetadata metadata) {
+        if (EncryptionUtils.isEncryptionInfoInMetadata(metadata)) {
+            return EncryptionUtils.buildInstructionFromObjectMetadata(metadata, getObjectRequest.getBucketName(),
+                    getObjectRequest.getKey(), this.encryptionMaterials, this.cryptoConfig.getCryptoProvider(), this.envelopeKeyCache);
+        }
+
+        S3Object instructionFile = getInstructionFile(getObjectRequest);
+        if (EncryptionUtils.isEncryptionInfoInInstructionFile(instructionFile)) {
+            return EncryptionUtils.buildInstructionFromInstructionFile(instructionFile, this.encryptionMaterials,
+                    this.cryptoConfig.getCryptoProvider(), this.envelopeKeyCache);
+        }
+
+        log.warn(String.format("Unable to detect encryption information for object '%s' in bucket '%s'. " +
+                "Returning object without decryption.",
+                getObjectRequest.getKey(), getObjectRequest.getBucketName()));
+        return null;
+    }
+
+    /**
+     * Fetches one range of encrypted object data and writes it, decrypted, at
+     * the same offset in the destination file.
+     */
+    private void decryptRangeToFile(GetObjectRequest rangeRequest, long rangeStart,
+            EncryptionInstruction instruction, FileChannel channel) throws IOException {
+        S3Object range = super.getObject(rangeRequest);
+        if (range == null) {
+            throw new AmazonClientException("Object '" + rangeRequest.getKey() + "' in bucket '"
+                    + rangeRequest.getBucketName() + "' changed while it was being downloaded");
+        }
+
+        InputStream input = range.getObjectContent();
+        try {
+            byte[] precedingCipherBlock = null;
+            if (rangeRequest.getRange()[0] < rangeStart) {
+                precedingCipherBlock = new byte[JceEncryptionConstants.SYMMETRIC_CIPHER_BLOCK_SIZE];
+                new DataInputStream(input).readFully(precedingCipherBlock);
+            }
+            Cipher cipher = EncryptionUtils.createRangeDecryptionCipher(instruction, rangeStart, precedingCipherBlock);
+            writeToFile(input, channel, rangeStart, cipher);
+        } finally {
+            try {input.close();} catch (Exception e) {}
+        }
+    }
+
+    /**
+     * Writes the specified stream to a file starting at the specified
+     * position, decrypting it with the specified cipher if it isn't null.
+     * Data is decrypted in large chunks with {@link Cipher#update}, which is
+     * much faster than reading through a {@link javax.crypto.CipherInputStream}.
+     */
+    private static void writeToFile(InputStream input, FileChannel channel, long position, Cipher cipher) throws IOException {
+        byte[] buffer = new byte[DECRYPTION_BUFFER_SIZE];
+        byte[] output = (cipher == null) ? buffer : new byte[DECRYPTION_BUFFER_SIZE + 2 * JceEncryptionConstants.SYMMETRIC_CIPHER_BLOCK_SIZE];
+        try {
+            int bytesRead;
+            while ((bytesRead = input.read(buffer)) > -1) {
+                int outputLength = (cipher == null) ? bytesRead : cipher.update(buffer, 0, bytesRead, output);
+                position += writeFully(channel, output, outputLength, position);
+            }
+            if (cipher != null) {
+                writeFully(channel, output, cipher.doFinal(output, 0), position);
+            }
+        } catch (GeneralSecurityException e) {
+            throw new AmazonClientException("Unable to decrypt object contents: " + e.getMessage(), e);
+        }
+    }
+
+    private static int writeFully(FileChannel channel, byte[] data, int length, long position) throws IOException {
+        ByteBuffer byteBuffer = ByteBuffer.wrap(data, 0, length);
+        while (byteBuffer.hasRemaining()) {
+            position += channel.write(byteBuffer, position);
+        }
+        return length;
+    }
+
+    /**
+     * Removes the PKCS5 padding from the end of a file decrypted in ranges
+     * with an unpadded chained block cipher.
+     */
+    private static void removePadding(RandomAccessFile file, long length) throws IOException {
+        int blockSize = JceEncryptionConstants.SYMMETRIC_CIPHER_BLOCK_SIZE;
+        byte[] lastBlock = new byte[blockSize];
+        file.seek(length - blockSize);
+        file.readFully(lastBlock);
+
+        int padding = lastBlock[blockSize - 1] & 0xff;
+        boolean isValid = padding >= 1 && padding <= blockSize;
+        for (int i = blockSize - padding; isValid && i < blockSize; i++) {
+            isValid = (lastBlock[i] & 0xff) == padding;
+        }
+        if (!isValid) throw new AmazonClientException("Unable to decrypt object contents: invalid padding");
+
+        file.setLength(length - padding);
+    }
+
+    private static boolean hasConstraints(GetObjectRequest getObjectRequest) {
+        return !getObjectRequest.getMatchingETagConstraints().isEmpty()
+            || !getObjectRequest.getNonmatchingETagConstraints().isEmpty()
+            || getObjectRequest.getModifiedSinceConstraint() != null
+            || getObjectRequest.getUnmodifiedSinceConstraint() != null;
+    }
+
+    private static void copyClientMarker(AmazonWebServiceRequest from, AmazonWebServiceRequest to) {
+        String clientMarker = from.getRequestClientOptions().getClientMarker();
+        if (clientMarker != null) to.getRequestClientOptions().addClientMarker(clientMarker.trim());
+    }
+
     /**
      * Asserts that the specified parameter value is not null and if it is,
      * throws an IllegalArgumentException with the specified error message.
@@ -84,6 +84,12 @@ public interface Headers {
     /** Modified since constraint header for the copy object request */
     public static final String COPY_SOURCE_IF_MODIFIED_SINCE = "x-amz-copy-source-if-modified-since";
 
+    /** Source object header for the copy object and copy part requests */
+    public static final String COPY_SOURCE = "x-amz-copy-source";
+
+    /** Source byte range header for the copy part request */
+    public static final String COPY_PART_RANGE = "x-amz-copy-source-range";
+
     /** Range header for the get object request */
     public static final String RANGE = "Range";
 
@@ -105,6 +111,9 @@ public interface Headers {
     /** Initialization vector (IV) header that is used in the symmetric and envelope encryption mechanisms */
     public static final String CRYPTO_IV = "x-amz-iv";
 
+    /** Content cipher algorithm header, present when object data isn't encrypted with the default algorithm */
+    public static final String CRYPTO_CEK_ALGORITHM = "x-amz-cek-alg";
+
     /** JSON-encoded description of encryption materials used during encryption */ 
     public static final String MATERIALS_DESCRIPTION = "x-amz-matdesc";
     
@@ -68,6 +68,16 @@ public abstract class AbstractS3ResponseHandler<T>
         return false;
     }
 
+    /**
+     * Returns true, since the result is built entirely from the response and
+     * can be shared with other callers.
+     *
+     * @see com.amazonaws.http.HttpResponseHandler#isCoalescable()
+     */
+    public boolean isCoalescable() {
+        return true;
+    }
+
     /**
      * Parses the S3 response metadata (ex: AWS request ID) from the specified
      * response, and returns a AmazonWebServiceResponse<T> object ready for the
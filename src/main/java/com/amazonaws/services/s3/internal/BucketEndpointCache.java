@@ -0,0 +1,256 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.amazonaws.AmazonClientException;
+
+/**
+ * Bounded, concurrent cache of the endpoint to use for each bucket.
+ * <p>
+ * Entries are created the first time a bucket is addressed, so the bucket
+ * name only has to be validated and the virtual host URI only has to be built
+ * once per bucket. Entries are updated when Amazon S3 redirects a request to
+ * another endpoint, or when a bucket's location is looked up, so that later
+ * requests for the bucket go straight to the right endpoint instead of paying
+ * for another redirect.
+ * <p>
+ * Entries expire after a time to live, so that a bucket that has been
+ * recreated in another region, or whose redirect has changed, is resolved
+ * again rather than addressed at a stale endpoint until the client is
+ * rebuilt.
+ * <p>
+ * Once the max size has been reached, an arbitrary entry is dropped as new
+ * entries are added; dropped buckets are simply resolved again the next time
+ * they're addressed.
+ */
+public class BucketEndpointCache {
+
+    /** The default maximum number of buckets to cache endpoints for. */
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    /** The default time, in milliseconds, for which endpoints are cached. */
+    public static final long DEFAULT_TIME_TO_LIVE_MILLIS = 15 * 60 * 1000;
+
+    /** Utilities for validating bucket names */
+    private final BucketNameUtils bucketNameUtils = new BucketNameUtils();
+
+    private final int maxEntries;
+    private final long timeToLiveMillis;
+    private final ConcurrentMap<String, Entry> endpoints;
+
+    /**
+     * Creates a new cache that will contain at most the default number of
+     * entries, for the default time to live.
+     */
+    public BucketEndpointCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_TIME_TO_LIVE_MILLIS);
+    }
+
+    /**
+     * Creates a new cache that will contain at most the specified number of
+     * entries, for the default time to live.
+     *
+     * @param maxEntries
+     *            The maximum size of this cache.
+     */
+    public BucketEndpointCache(int maxEntries) {
+        this(maxEntries, DEFAULT_TIME_TO_LIVE_MILLIS);
+    }
+
+    /**
+     * Creates a new cache that will contain at most the specified number of
+     * entries, each for at most the specified time.
+     *
+     * @param maxEntries
+     *            The maximum size of this cache.
+     * @param timeToLiveMillis
+     *            The time, in milliseconds, after which a cached endpoint
+     *            is resolved again.
+     */
+    public BucketEndpointCache(int maxEntries, long timeToLiveMillis) {
+        this.maxEntries = maxEntries;
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.endpoints = new ConcurrentHashMap<String, Entry>();
+    }
+
+    /**
+     * Returns the endpoint to use for the specified bucket, resolving it
+     * against the specified service endpoint if it isn't already cached.
+     *
+     * @param bucketName
+     *            The name of the bucket being addressed.
+     * @param serviceEndpoint
+     *            The endpoint currently configured for the client.
+     *
+     * @return The endpoint to use for the bucket.
+     */
+    public BucketEndpoint get(String bucketName, URI serviceEndpoint) {
+        Entry entry = endpoints.get(bucketName);
+        if (entry != null) {
+            if (System.currentTimeMillis() < entry.expiryTime) return entry.bucketEndpoint;
+            endpoints.remove(bucketName, entry);
+        }
+
+        BucketEndpoint bucketEndpoint;
+        if (bucketNameUtils.isValidV2BucketName(bucketName)) {
+            bucketEndpoint = new BucketEndpoint(toVirtualHostEndpoint(bucketName, serviceEndpoint), true);
+        } else {
+            bucketEndpoint = new BucketEndpoint(serviceEndpoint, false);
+        }
+        store(bucketName, bucketEndpoint);
+        return bucketEndpoint;
+    }
+
+    /**
+     * Records that a request for the specified bucket was redirected to the
+     * specified location, so that later requests for the bucket are sent to
+     * the same host.
+     *
+     * @param bucketName
+     *            The name of the bucket whose request was redirected.
+     * @param redirectedLocation
+     *            The location the request was redirected to.
+     */
+    public void updateFromRedirect(String bucketName, URI redirectedLocation) {
+        boolean virtualHost = bucketNameUtils.isValidV2BucketName(bucketName);
+        store(bucketName, new BucketEndpoint(toEndpoint(redirectedLocation), virtualHost));
+    }
+
+    /**
+     * Records the location of the specified bucket, as returned by Amazon S3,
+     * so that later requests for the bucket are sent to the regional endpoint
+     * for that location. Only applies when the client is configured with the
+     * default, US Standard endpoint.
+     *
+     * @param bucketName
+     *            The name of the bucket.
+     * @param location
+     *            The location of the bucket (ex: "US", "EU", "us-west-1").
+     * @param serviceEndpoint
+     *            The endpoint currently configured for the client.
+     */
+    public void updateFromLocation(String bucketName, String location, URI serviceEndpoint) {
+        if (location == null || location.equals("US")) return;
+        if (!Constants.S3_HOSTNAME.equals(serviceEndpoint.getAuthority())) return;
+
+        String region = location.equals("EU") ? "eu-west-1" : location;
+        URI regionalEndpoint = URI.create(serviceEndpoint.getScheme() + "://s3-" + region + ".amazonaws.com");
+
+        if (bucketNameUtils.isValidV2BucketName(bucketName)) {
+            store(bucketName, new BucketEndpoint(toVirtualHostEndpoint(bucketName, regionalEndpoint), true));
+        } else {
+            store(bucketName, new BucketEndpoint(regionalEndpoint, false));
+        }
+    }
+
+    /**
+     * Removes any cached endpoint for the specified bucket, for example after
+     * the bucket has been deleted or a cached endpoint turned out to be
+     * wrong.
+     *
+     * @param bucketName
+     *            The name of the bucket.
+     */
+    public void remove(String bucketName) {
+        endpoints.remove(bucketName);
+    }
+
+    /**
+     * Removes all cached endpoints, for example after the client's endpoint
+     * has been changed.
+     */
+    public void clear() {
+        endpoints.clear();
+    }
+
+    private void store(String bucketName, BucketEndpoint bucketEndpoint) {
+        if (endpoints.size() >= maxEntries && !endpoints.containsKey(bucketName)) {
+            Iterator<String> iterator = endpoints.keySet().iterator();
+            if (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        endpoints.put(bucketName, new Entry(bucketEndpoint, System.currentTimeMillis() + timeToLiveMillis));
+    }
+
+    /**
+     * Converts the specified endpoint into virtual addressing style, by placing
+     * the name of the specified bucket before the endpoint's host.
+     */
+    private static URI toVirtualHostEndpoint(String bucketName, URI serviceEndpoint) {
+        try {
+            return new URI(serviceEndpoint.getScheme() + "://" + bucketName + "." + serviceEndpoint.getAuthority());
+        } catch (URISyntaxException e) {
+            throw new AmazonClientException("Can't turn bucket name into a URI: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Strips the path and query from a redirect location, leaving just the
+     * endpoint.
+     */
+    private static URI toEndpoint(URI location) {
+        try {
+            return new URI(location.getScheme() + "://" + location.getAuthority());
+        } catch (URISyntaxException e) {
+            throw new AmazonClientException("Invalid redirect location: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * A cached endpoint, and the time (in milliseconds since the epoch) at
+     * which it expires.
+     */
+    private static final class Entry {
+        private final BucketEndpoint bucketEndpoint;
+        private final long expiryTime;
+
+        private Entry(BucketEndpoint bucketEndpoint, long expiryTime) {
+            this.bucketEndpoint = bucketEndpoint;
+            this.expiryTime = expiryTime;
+        }
+    }
+
+    /**
+     * The endpoint to use for a bucket, and whether the bucket is addressed in
+     * virtual host style (bucket name in the host) or path style (bucket name
+     * in the resource path).
+     */
+    public static final class BucketEndpoint {
+        private final URI endpoint;
+        private final boolean virtualHost;
+
+        public BucketEndpoint(URI endpoint, boolean virtualHost) {
+            this.endpoint = endpoint;
+            this.virtualHost = virtualHost;
+        }
+
+        public URI getEndpoint() {
+            return endpoint;
+        }
+
+        public boolean isVirtualHost() {
+            return virtualHost;
+        }
+    }
+
+}
@@ -109,4 +109,14 @@ public class S3ErrorResponseHandler
         return false;
     }
 
+    /**
+     * Returns true, since the result is built entirely from the response and
+     * can be shared with other callers.
+     *
+     * @see com.amazonaws.http.HttpResponseHandler#isCoalescable()
+     */
+    public boolean isCoalescable() {
+        return true;
+    }
+
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.conn.ConnectionReleaseTrigger;
+
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.ResponseBodyConsumer;
+
+/**
+ * S3 HTTP response handler that pulls object metadata out of an HTTP response
+ * and pushes the object content to a {@link ResponseBodyConsumer}.
+ * <p>
+ * Unlike {@link S3ObjectResponseHandler}, the whole response is handled before
+ * this handler returns, so the HTTP connection doesn't need to be left open
+ * and is released as soon as the consumer is done. If the consumer stops early
+ * or fails, the connection is aborted instead of being drained.
+ */
+public class S3ObjectConsumerResponseHandler extends AbstractS3ResponseHandler<ObjectMetadata> {
+
+    private static final Log log = LogFactory.getLog(S3ObjectConsumerResponseHandler.class);
+
+    /** The size of the scratch array used to fill buffers without an array. */
+    private static final int SCRATCH_SIZE = 64 * 1024;
+
+    /** The consumer receiving the object content. */
+    private final ResponseBodyConsumer consumer;
+
+    public S3ObjectConsumerResponseHandler(ResponseBodyConsumer consumer) {
+        this.consumer = consumer;
+    }
+
+    /**
+     * @see com.amazonaws.http.HttpResponseHandler#handle(com.amazonaws.http.HttpResponse)
+     */
+    public AmazonWebServiceResponse<ObjectMetadata> handle(HttpResponse response) throws Exception {
+        ObjectMetadata metadata = new ObjectMetadata();
+        populateObjectMetadata(response, metadata);
+
+        InputStream content = response.getContent();
+        boolean completed = false;
+        try {
+            completed = deliver(metadata, content, consumer);
+        } finally {
+            if (!completed) abort(content);
+        }
+
+        AmazonWebServiceResponse<ObjectMetadata> awsResponse = parseResponseMetadata(response);
+        awsResponse.setResult(metadata);
+        return awsResponse;
+    }
+
+    /**
+     * Returns false, since the object content is pushed to this handler's
+     * consumer, which the other callers of a coalesced request would never
+     * hear from.
+     *
+     * @see com.amazonaws.http.HttpResponseHandler#isCoalescable()
+     */
+    @Override
+    public boolean isCoalescable() {
+        return false;
+    }
+
+    /**
+     * Delivers object metadata and content to the specified consumer, reading
+     * the content into the buffers it supplies until the content is exhausted
+     * or the consumer stops the transfer. The content stream isn't closed.
+     *
+     * @param metadata
+     *            The metadata of the object being delivered.
+     * @param content
+     *            The object content, or null if the response had no content.
+     * @param consumer
+     *            The consumer to deliver the object to.
+     *
+     * @return True if all of the content was delivered, or false if the
+     *         consumer stopped the transfer early.
+     *
+     * @throws IOException
+     *             If the content couldn't be read, or the consumer failed.
+     */
+    public static boolean deliver(ObjectMetadata metadata, InputStream content, ResponseBodyConsumer consumer)
+            throws IOException {
+        consumer.onStart(metadata);
+
+        byte[] scratch = null;
+        boolean endOfContent = (content == null);
+        while (!endOfContent) {
+            ByteBuffer buffer = consumer.getBuffer();
+            if (buffer == null || !buffer.hasRemaining()) {
+                throw new IllegalStateException("The response body consumer must supply a buffer with space remaining");
+            }
+
+            if (buffer.hasArray()) {
+                byte[] array = buffer.array();
+                while (buffer.hasRemaining()) {
+                    int bytesRead = content.read(array, buffer.arrayOffset() + buffer.position(), buffer.remaining());
+                    if (bytesRead < 0) {
+                        endOfContent = true;
+                        break;
+                    }
+                    buffer.position(buffer.position() + bytesRead);
+                }
+            } else {
+                if (scratch == null) scratch = new byte[SCRATCH_SIZE];
+                while (buffer.hasRemaining()) {
+                    int bytesRead = content.read(scratch, 0, Math.min(scratch.length, buffer.remaining()));
+                    if (bytesRead < 0) {
+                        endOfContent = true;
+                        break;
+                    }
+                    buffer.put(scratch, 0, bytesRead);
+                }
+            }
+
+            buffer.flip();
+            if (buffer.hasRemaining() && !consumer.onContent(buffer)) return false;
+        }
+
+        consumer.onComplete();
+        return true;
+    }
+
+    /**
+     * Aborts the connection the specified content is being read from, so that
+     * it's closed rather than drained when the content stream is closed.
+     */
+    private static void abort(InputStream content) {
+        if (content instanceof ConnectionReleaseTrigger) {
+            try {
+                ((ConnectionReleaseTrigger)content).abortConnection();
+            } catch (IOException e) {
+                log.debug("Unable to abort HTTP connection", e);
+            }
+        }
+    }
+
+}
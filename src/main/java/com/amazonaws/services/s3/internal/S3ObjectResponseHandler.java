@@ -54,4 +54,15 @@ public class S3ObjectResponseHandler extends AbstractS3ResponseHandler<S3Object>
         return true;
     }
 
+    /**
+     * Returns false, since the object content can only be streamed off by a
+     * single caller.
+     *
+     * @see com.amazonaws.http.HttpResponseHandler#isCoalescable()
+     */
+    @Override
+    public boolean isCoalescable() {
+        return false;
+    }
+
 }
@@ -14,6 +14,9 @@
  */
 package com.amazonaws.services.s3.internal.crypto;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import javax.crypto.SecretKey;
 
 /**
@@ -21,20 +24,32 @@ import javax.crypto.SecretKey;
  * including the envelope encryption key used to encrypt each individual
  * part in a multipart upload, and the next initialization vector (IV) for
  * the next part to encrypt.
+ * <p>
+ * In counter mode, parts don't depend on each other, so the context is only
+ * used to look up the key and first IV, and parts may be encrypted
+ * concurrently.
  */
 public class EncryptedUploadContext {
 	private final String bucketName;
 	private final String key;
 	private final SecretKey envelopeEncryptionKey;
+	private final String cipherMethod;
 	
-	private byte[] firstIV;
-	private byte[] nextIV;
-	private boolean hasFinalPartBeenSeen;
+	private volatile byte[] firstIV;
+	private volatile byte[] nextIV;
+	private long streamPartSize;
+	private volatile boolean hasFinalPartBeenSeen;
+	private final ConcurrentMap<Long, Integer> partNumbersByOffset = new ConcurrentHashMap<Long, Integer>();
 
 	public EncryptedUploadContext(String bucketName, String key, SecretKey envelopeEncryptionKey) {
+		this(bucketName, key, envelopeEncryptionKey, JceEncryptionConstants.SYMMETRIC_CIPHER_METHOD);
+	}
+
+	public EncryptedUploadContext(String bucketName, String key, SecretKey envelopeEncryptionKey, String cipherMethod) {
 		this.bucketName = bucketName;
 		this.key = key;
 		this.envelopeEncryptionKey = envelopeEncryptionKey;
+		this.cipherMethod = cipherMethod;
 	}
 
 	public String getBucketName() {
@@ -49,6 +64,40 @@ public class EncryptedUploadContext {
 		return envelopeEncryptionKey;
 	}
 
+	public String getCipherMethod() {
+		return cipherMethod;
+	}
+
+	/**
+	 * Records the size of the parts uploaded from a stream, other than the
+	 * last part, which together with a part's number determines where the
+	 * part starts and so, in counter mode, its IV. Returns false if stream
+	 * parts of a different size were already uploaded.
+	 */
+	public synchronized boolean claimStreamPartSize(long partSize) {
+		if (streamPartSize == 0) streamPartSize = partSize;
+		return streamPartSize == partSize;
+	}
+
+	/**
+	 * Returns the size of the parts uploaded from a stream, other than the
+	 * last part, or 0 if none have been uploaded yet.
+	 */
+	public synchronized long getStreamPartSize() {
+		return streamPartSize;
+	}
+
+	/**
+	 * Records that the part with the specified number starts at the
+	 * specified offset. Returns false if a different part already starts
+	 * there, in which case encrypting the part in counter mode would reuse
+	 * that part's key stream.
+	 */
+	public boolean claimOffset(long offset, int partNumber) {
+		Integer previous = partNumbersByOffset.putIfAbsent(offset, partNumber);
+		return previous == null || previous.intValue() == partNumber;
+	}
+
 	public void setNextInitializationVector(byte[] nextIV) {
 		this.nextIV = nextIV;
 	}
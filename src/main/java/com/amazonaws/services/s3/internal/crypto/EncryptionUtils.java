@@ -41,6 +41,7 @@ import com.amazonaws.services.s3.Headers;
 import com.amazonaws.services.s3.internal.InputSubstream;
 import com.amazonaws.services.s3.internal.Mimetypes;
 import com.amazonaws.services.s3.internal.RepeatableFileInputStream;
+import com.amazonaws.services.s3.model.CryptoCipherMode;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
 import com.amazonaws.services.s3.model.EncryptionMaterials;
 import com.amazonaws.services.s3.model.EncryptionMaterialsAccessor;
@@ -77,9 +78,29 @@ public class EncryptionUtils {
      *      the encrypted contents.
      */
     public static PutObjectRequest encryptRequestUsingMetadata(PutObjectRequest request, EncryptionMaterials materials, Provider cryptoProvider) {
+        return encryptRequestUsingMetadata(request, materials, cryptoProvider, CryptoCipherMode.CBC);
+    }
+
+    /**
+     * Returns an updated request where the metadata contains encryption information and the input stream contains
+     * the object contents encrypted in the specified cipher mode.
+     *
+     * @param request
+     *      The request whose contents are to be encrypted.
+     * @param materials
+     *      The encryption materials to be used to encrypt and decrypt data.
+     * @param cryptoProvider
+     *      The crypto provider whose encryption implementation will be used to encrypt data
+     * @param cipherMode
+     *      The cipher mode in which to encrypt the object contents.
+     * @return
+     *      The updated request where the metadata is set up for encryption and input stream contains
+     *      the encrypted contents.
+     */
+    public static PutObjectRequest encryptRequestUsingMetadata(PutObjectRequest request, EncryptionMaterials materials, Provider cryptoProvider, CryptoCipherMode cipherMode) {
         // Generate a one-time use symmetric key and initialize a cipher to encrypt object data
         SecretKey envelopeSymmetricKey = generateOneTimeUseSymmetricKey();
-        Cipher symmetricCipher = createSymmetricCipher(envelopeSymmetricKey, Cipher.ENCRYPT_MODE, cryptoProvider, null);
+        Cipher symmetricCipher = createSymmetricCipher(envelopeSymmetricKey, Cipher.ENCRYPT_MODE, cryptoProvider, null, getCipherMethod(cipherMode));
 
         // Encrypt the envelope symmetric key
         byte[] encryptedEnvelopeSymmetricKey = getEncryptedSymmetricKey(envelopeSymmetricKey, materials, cryptoProvider);
@@ -113,44 +134,143 @@ public class EncryptionUtils {
      *      The updated object where the object content input stream contains the decrypted contents.
      */
     public static S3Object decryptObjectUsingMetadata(S3Object object, EncryptionMaterials materials, Provider cryptoProvider) {
-        ObjectMetadata metadata = object.getObjectMetadata();
+        return decryptObjectUsingMetadata(object, materials, cryptoProvider, null);
+    }
+
+    /**
+     * Returns an updated object where the object content input stream contains the decrypted contents.
+     *
+     * @param object
+     *      The object whose contents are to be decrypted.
+     * @param materials
+     *      The encryption materials to be used to encrypt and decrypt data.
+     * @param cryptoProvider
+     *      The crypto provider whose encryption implementation will be used to decrypt data
+     * @param cryptoRange
+     *      The range of encrypted bytes the object contains, as returned by
+     *      {@link #getAdjustedCryptoRange(long[])}, or null if it contains the whole object.
+     * @return
+     *      The updated object where the object content input stream contains the decrypted contents.
+     */
+    public static S3Object decryptObjectUsingMetadata(S3Object object, EncryptionMaterials materials, Provider cryptoProvider, long[] cryptoRange) {
+        return decryptObjectUsingMetadata(object, materials, cryptoProvider, cryptoRange, null);
+    }
 
+    /**
+     * Returns an updated object where the object content input stream contains the decrypted contents,
+     * using and updating the specified cache of decrypted envelope keys.
+     *
+     * @param object
+     *      The object whose contents are to be decrypted.
+     * @param materials
+     *      The encryption materials to be used to encrypt and decrypt data.
+     * @param cryptoProvider
+     *      The crypto provider whose encryption implementation will be used to decrypt data
+     * @param cryptoRange
+     *      The range of encrypted bytes the object contains, as returned by
+     *      {@link #getAdjustedCryptoRange(long[])}, or null if it contains the whole object.
+     * @param keyCache
+     *      The cache of decrypted envelope keys, or null to always decrypt the envelope key.
+     * @return
+     *      The updated object where the object content input stream contains the decrypted contents.
+     */
+    public static S3Object decryptObjectUsingMetadata(S3Object object, EncryptionMaterials materials, Provider cryptoProvider,
+            long[] cryptoRange, EnvelopeKeyCache keyCache) {
+        EncryptionInstruction instruction = buildInstructionFromObjectMetadata(object.getObjectMetadata(),
+                object.getBucketName(), object.getKey(), materials, cryptoProvider, keyCache);
+        return decryptObjectUsingInstruction(object, instruction, cryptoRange);
+    }
+
+    /**
+     * Builds an instruction object from the encryption info in an object's metadata.
+     *
+     * @param metadata
+     *      The metadata of an encrypted object.
+     * @param bucketName
+     *      The name of the bucket containing the object, used in error messages.
+     * @param key
+     *      The key of the object, used in error messages.
+     * @param materials
+     *      The encryption materials to be used to encrypt and decrypt data.
+     * @param cryptoProvider
+     *      The crypto provider whose encryption implementation will be used to decrypt data
+     * @return
+     *      An instruction object whose cipher decrypts the object from its first byte.
+     */
+    public static EncryptionInstruction buildInstructionFromObjectMetadata(ObjectMetadata metadata, String bucketName, String key,
+            EncryptionMaterials materials, Provider cryptoProvider) {
+        return buildInstructionFromObjectMetadata(metadata, bucketName, key, materials, cryptoProvider, null);
+    }
+
+    /**
+     * Builds an instruction object from the encryption info in an object's metadata, using and
+     * updating the specified cache of decrypted envelope keys.
+     *
+     * @param metadata
+     *      The metadata of an encrypted object.
+     * @param bucketName
+     *      The name of the bucket containing the object, used in error messages.
+     * @param key
+     *      The key of the object, used in error messages.
+     * @param materials
+     *      The encryption materials to be used to encrypt and decrypt data.
+     * @param cryptoProvider
+     *      The crypto provider whose encryption implementation will be used to decrypt data
+     * @param keyCache
+     *      The cache of decrypted envelope keys, or null to always decrypt the envelope key.
+     * @return
+     *      An instruction object whose cipher decrypts the object from its first byte.
+     */
+    public static EncryptionInstruction buildInstructionFromObjectMetadata(ObjectMetadata metadata, String bucketName, String key,
+            EncryptionMaterials materials, Provider cryptoProvider, EnvelopeKeyCache keyCache) {
         // Get encryption info from metadata.
         byte[] encryptedSymmetricKeyBytes = getCryptoBytesFromMetadata(Headers.CRYPTO_KEY, metadata);
         byte[] initVectorBytes = getCryptoBytesFromMetadata(Headers.CRYPTO_IV, metadata);
         String materialsDescriptionString = getStringFromMetadata(Headers.MATERIALS_DESCRIPTION, metadata);
-        Map<String, String> materialsDescription = convertJSONToMap(materialsDescriptionString);
+        String cipherMethod = getStringFromMetadata(Headers.CRYPTO_CEK_ALGORITHM, metadata);
+        if (cipherMethod == null) cipherMethod = JceEncryptionConstants.SYMMETRIC_CIPHER_METHOD;
 
-        if (encryptedSymmetricKeyBytes == null || initVectorBytes == null || materialsDescription == null) {
+        if (encryptedSymmetricKeyBytes == null || initVectorBytes == null || materialsDescriptionString == null) {
             // If necessary encryption info was not found in the metadata, throw an exception.
             throw new AmazonClientException(
                     String.format("Necessary encryption info not found in the metadata of '%s' in bucket '%s'",
-                            object.getKey(), object.getBucketName()));
+                            key, bucketName));
         }
 
-        // If the original encryption materials that encrypted the object are not the same as the current
-        // encryption materials, then try to retrieve the original encryption materials.
-        if (!materialsDescription.equals(materials.getMaterialsDescription())) {
-            materials = retrieveOriginalMaterials(materialsDescription, materials.getAccessor());
-            // If we're unable to retrieve the original encryption materials, we can't decrypt the object, so
-            // throw an exception.
-            if (materials == null) {
-                throw new AmazonClientException(
-                        String.format("Unable to retrieve the encryption materials that originally " +
-                        "encrypted object '%s' in bucket '%s'.",
-                        object.getKey(), object.getBucketName()));
-            }
-        }
-
-        // Decrypt the envelope symmetric key
-        SecretKey payloadSymmetricKey = getDecryptedSymmetricKey(encryptedSymmetricKeyBytes, materials, cryptoProvider);
+        EncryptionInstruction envelopeKey = getDecryptedEnvelopeKey(materialsDescriptionString, encryptedSymmetricKeyBytes,
+                materials, cryptoProvider, keyCache, String.format("object '%s' in bucket '%s'", key, bucketName));
 
-        // Create decrypted input stream.
-        Cipher symmetricCipher = createSymmetricCipher(payloadSymmetricKey, Cipher.DECRYPT_MODE, cryptoProvider, initVectorBytes);
-        InputStream decryptedInputStream = new CipherInputStream(object.getObjectContent(), symmetricCipher);
+        Cipher symmetricCipher = createSymmetricCipher(envelopeKey.getSymmetricKey(), Cipher.DECRYPT_MODE, cryptoProvider, initVectorBytes, cipherMethod);
+        return new EncryptionInstruction(envelopeKey.getMaterialsDescription(), encryptedSymmetricKeyBytes, envelopeKey.getSymmetricKey(), symmetricCipher);
+    }
 
-        object.setObjectContent(decryptedInputStream);
-        return object;
+    /**
+     * Creates a cipher that decrypts the encrypted bytes of an object starting at the specified
+     * offset, without removing any padding, so that separate ranges of an object can be decrypted
+     * independently (and concurrently) and written at the same offsets in the decrypted output.
+     * <p>
+     * Chained block cipher ranges are decrypted with the preceding cipher block as their IV, so
+     * they must be retrieved starting one block early; padding is left at the end of the output,
+     * to be removed once the last range has been decrypted.
+     *
+     * @param instruction
+     *      The instruction that decrypts the whole object.
+     * @param offset
+     *      The offset of the range, which must be a multiple of the cipher block size.
+     * @param precedingCipherBlock
+     *      The encrypted block before the range, for chained block ciphers when the offset isn't 0.
+     * @return
+     *      A cipher that decrypts the range.
+     */
+    public static Cipher createRangeDecryptionCipher(EncryptionInstruction instruction, long offset, byte[] precedingCipherBlock) {
+        Cipher objectCipher = instruction.getSymmetricCipher();
+        if (isCounterMode(objectCipher)) {
+            return createSymmetricCipher(instruction.getSymmetricKey(), Cipher.DECRYPT_MODE, objectCipher.getProvider(),
+                    getCounterModeInitializationVector(objectCipher.getIV(), offset), objectCipher.getAlgorithm());
+        }
+        byte[] initVector = (offset == 0) ? objectCipher.getIV() : precedingCipherBlock;
+        return createSymmetricCipher(instruction.getSymmetricKey(), Cipher.DECRYPT_MODE, objectCipher.getProvider(),
+                initVector, JceEncryptionConstants.SYMMETRIC_UNPADDED_CIPHER_METHOD);
     }
 
     /**
@@ -164,9 +284,25 @@ public class EncryptionUtils {
      *      The instruction that will be used to encrypt an object.
      */
     public static EncryptionInstruction generateInstruction(EncryptionMaterials materials, Provider cryptoProvider) {
+        return generateInstruction(materials, cryptoProvider, CryptoCipherMode.CBC);
+    }
+
+    /**
+     * Generates an instruction that will be used to encrypt an object in the specified cipher mode.
+     *
+     * @param materials
+     *      The encryption materials to be used to encrypt and decrypt data.
+     * @param cryptoProvider
+     *      The crypto provider whose encryption implementation will be used to encrypt and decrypt data.
+     * @param cipherMode
+     *      The cipher mode in which to encrypt the object contents.
+     * @return
+     *      The instruction that will be used to encrypt an object.
+     */
+    public static EncryptionInstruction generateInstruction(EncryptionMaterials materials, Provider cryptoProvider, CryptoCipherMode cipherMode) {
         // Generate a one-time use symmetric key and initialize a cipher to encrypt object data
         SecretKey envelopeSymmetricKey = generateOneTimeUseSymmetricKey();
-        Cipher symmetricCipher = createSymmetricCipher(envelopeSymmetricKey, Cipher.ENCRYPT_MODE, cryptoProvider, null);
+        Cipher symmetricCipher = createSymmetricCipher(envelopeSymmetricKey, Cipher.ENCRYPT_MODE, cryptoProvider, null, getCipherMethod(cipherMode));
 
         // Encrypt the envelope symmetric key
         byte[] encryptedEnvelopeSymmetricKey = getEncryptedSymmetricKey(envelopeSymmetricKey, materials, cryptoProvider);
@@ -189,49 +325,96 @@ public class EncryptionUtils {
      *      An instruction object containing encryption information
      */
     public static EncryptionInstruction buildInstructionFromInstructionFile(S3Object instructionFile, EncryptionMaterials materials, Provider cryptoProvider) {
+        return buildInstructionFromInstructionFile(instructionFile, materials, cryptoProvider, null);
+    }
+
+    /**
+     * Builds an instruction object from the contents of an instruction file, using and updating the
+     * specified cache of decrypted envelope keys.
+     *
+     * @param instructionFile
+     *      An instruction file retrieved from S3 that contains encryption information
+     * @param materials
+     *      The encryption materials to be used to encrypt and decrypt data.
+     * @param cryptoProvider
+     *      The crypto provider whose encryption implementation will be used to encrypt and decrypt data.
+     * @param keyCache
+     *      The cache of decrypted envelope keys, or null to always decrypt the envelope key.
+     * @return
+     *      An instruction object containing encryption information
+     */
+    public static EncryptionInstruction buildInstructionFromInstructionFile(S3Object instructionFile, EncryptionMaterials materials,
+            Provider cryptoProvider, EnvelopeKeyCache keyCache) {
         JSONObject instructionJSON = parseJSONInstruction(instructionFile);
         try {
             // Get fields from instruction object
             byte[] encryptedSymmetricKeyBytes = instructionJSON.getString(Headers.CRYPTO_KEY).getBytes();
             byte[] initVectorBytes = instructionJSON.getString(Headers.CRYPTO_IV).getBytes();
             String materialsDescriptionString = instructionJSON.getString(Headers.MATERIALS_DESCRIPTION);
-            Map<String, String> materialsDescription = convertJSONToMap(materialsDescriptionString);
+            String cipherMethod = instructionJSON.optString(Headers.CRYPTO_CEK_ALGORITHM, JceEncryptionConstants.SYMMETRIC_CIPHER_METHOD);
 
             // Decode from Base 64 to standard binary bytes
             encryptedSymmetricKeyBytes = Base64.decodeBase64(encryptedSymmetricKeyBytes);
             initVectorBytes = Base64.decodeBase64(initVectorBytes);
 
-            if (encryptedSymmetricKeyBytes == null || initVectorBytes == null || materialsDescription == null) {
+            if (encryptedSymmetricKeyBytes == null || initVectorBytes == null || materialsDescriptionString == null) {
                 // If necessary encryption info was not found in the instruction file, throw an exception.
                 throw new AmazonClientException(
                         String.format("Necessary encryption info not found in the instruction file '%s' in bucket '%s'",
                                       instructionFile.getKey(), instructionFile.getBucketName()));
             }
 
-            // If the original encryption materials that encrypted the object are not the same as the current
-            // encryption materials, then try to retrieve the original encryption materials.
-            if (!materialsDescription.equals(materials.getMaterialsDescription())) {
-                materials = retrieveOriginalMaterials(materialsDescription, materials.getAccessor());
-                // If we're unable to retrieve the original encryption materials, we can't decrypt the object, so
-                // throw an exception.
-                if (materials == null) {
-                    throw new AmazonClientException(
-                            String.format("Unable to retrieve the encryption materials that originally " +
-                                    "encrypted object corresponding to instruction file '%s' in bucket '%s'.",
-                                    instructionFile.getKey(), instructionFile.getBucketName()));
-                }
-            }
+            EncryptionInstruction envelopeKey = getDecryptedEnvelopeKey(materialsDescriptionString, encryptedSymmetricKeyBytes,
+                    materials, cryptoProvider, keyCache, String.format("object corresponding to instruction file '%s' in bucket '%s'",
+                            instructionFile.getKey(), instructionFile.getBucketName()));
 
-            // Decrypt the symmetric key and create the symmetric cipher
-            SecretKey symmetricKey = getDecryptedSymmetricKey(encryptedSymmetricKeyBytes, materials, cryptoProvider);
-            Cipher cipher = createSymmetricCipher(symmetricKey, Cipher.DECRYPT_MODE, cryptoProvider, initVectorBytes);
+            // Create the symmetric cipher
+            Cipher cipher = createSymmetricCipher(envelopeKey.getSymmetricKey(), Cipher.DECRYPT_MODE, cryptoProvider, initVectorBytes, cipherMethod);
 
-            return new EncryptionInstruction(materialsDescription, encryptedSymmetricKeyBytes, symmetricKey, cipher);
+            return new EncryptionInstruction(envelopeKey.getMaterialsDescription(), encryptedSymmetricKeyBytes, envelopeKey.getSymmetricKey(), cipher);
         } catch (JSONException e) {
             throw new AmazonClientException("Unable to parse retrieved instruction file : " + e.getMessage());
         }
     }
 
+    /**
+     * Returns the decrypted envelope key stored with the specified materials description, as an instruction
+     * without a cipher.  The key is taken from the cache if it's there; otherwise the materials that
+     * encrypted it are found (through the cache, or the materials accessor), the key is decrypted, and the
+     * result is cached.
+     */
+    private static EncryptionInstruction getDecryptedEnvelopeKey(String materialsDescriptionString, byte[] encryptedSymmetricKeyBytes,
+            EncryptionMaterials materials, Provider cryptoProvider, EnvelopeKeyCache keyCache, String encryptedObject) {
+        if (keyCache != null) {
+            EncryptionInstruction cachedKey = keyCache.getDecryptedKey(materialsDescriptionString, encryptedSymmetricKeyBytes);
+            if (cachedKey != null) return cachedKey;
+        }
+
+        Map<String, String> materialsDescription = convertJSONToMap(materialsDescriptionString);
+
+        // If the original encryption materials that encrypted the object are not the same as the current
+        // encryption materials, then try to retrieve the original encryption materials.
+        if (!materialsDescription.equals(materials.getMaterialsDescription())) {
+            if (keyCache != null) {
+                materials = keyCache.getMaterials(materialsDescription, materials.getAccessor());
+            } else {
+                materials = retrieveOriginalMaterials(materialsDescription, materials.getAccessor());
+            }
+            // If we're unable to retrieve the original encryption materials, we can't decrypt the object, so
+            // throw an exception.
+            if (materials == null) {
+                throw new AmazonClientException(
+                        "Unable to retrieve the encryption materials that originally encrypted " + encryptedObject + ".");
+            }
+        }
+
+        // Decrypt the envelope symmetric key
+        SecretKey symmetricKey = getDecryptedSymmetricKey(encryptedSymmetricKeyBytes, materials, cryptoProvider);
+        EncryptionInstruction envelopeKey = new EncryptionInstruction(materialsDescription, encryptedSymmetricKeyBytes, symmetricKey, null);
+        if (keyCache != null) keyCache.putDecryptedKey(materialsDescriptionString, envelopeKey);
+        return envelopeKey;
+    }
+
     /**
      * Returns an updated request where the input stream contains the encrypted object contents.
      * The specified instruction will be used to encrypt data.
@@ -280,7 +463,31 @@ public class EncryptionUtils {
      *      The updated object where the object content input stream contains the decrypted contents.
      */
     public static S3Object decryptObjectUsingInstruction(S3Object object, EncryptionInstruction instruction) {
-        InputStream decryptedInputStream = new CipherInputStream(object.getObjectContent(), instruction.getSymmetricCipher());
+        return decryptObjectUsingInstruction(object, instruction, null);
+    }
+
+    /**
+     * Returns an updated object where the object content input stream contains the decrypted contents.
+     *
+     * @param object
+     *      The object whose contents are to be decrypted.
+     * @param instruction
+     *      The instruction that will be used to decrypt the object data.
+     * @param cryptoRange
+     *      The range of encrypted bytes the object contains, as returned by
+     *      {@link #getAdjustedCryptoRange(long[])}, or null if it contains the whole object.
+     * @return
+     *      The updated object where the object content input stream contains the decrypted contents.
+     */
+    public static S3Object decryptObjectUsingInstruction(S3Object object, EncryptionInstruction instruction, long[] cryptoRange) {
+        Cipher symmetricCipher = instruction.getSymmetricCipher();
+        if (isCounterMode(symmetricCipher) && cryptoRange != null && cryptoRange[0] > 0) {
+            // Start the counter at the first block retrieved rather than the first block of the object
+            byte[] initVector = getInitializationVectorForRange(symmetricCipher.getIV(), symmetricCipher.getAlgorithm(), cryptoRange);
+            symmetricCipher = createSymmetricCipher(instruction.getSymmetricKey(), Cipher.DECRYPT_MODE,
+                    symmetricCipher.getProvider(), initVector, symmetricCipher.getAlgorithm());
+        }
+        InputStream decryptedInputStream = new CipherInputStream(object.getObjectContent(), symmetricCipher);
         object.setObjectContent(decryptedInputStream);
         return object;
     }
@@ -363,7 +570,20 @@ public class EncryptionUtils {
      *      metadata, false otherwise.
      */
     public static boolean isEncryptionInfoInMetadata(S3Object retrievedObject) {
-        Map<String, String> metadata = retrievedObject.getObjectMetadata().getUserMetadata();
+        return isEncryptionInfoInMetadata(retrievedObject.getObjectMetadata());
+    }
+
+    /**
+     * Returns true if the specified object metadata contains encryption info,
+     * false otherwise.
+     *
+     * @param objectMetadata
+     *      The metadata of an object
+     * @return
+     *      True if the specified metadata contains encryption info, false otherwise.
+     */
+    public static boolean isEncryptionInfoInMetadata(ObjectMetadata objectMetadata) {
+        Map<String, String> metadata = objectMetadata.getUserMetadata();
         if (metadata == null) {
             return false;
         }
@@ -469,12 +689,26 @@ public class EncryptionUtils {
      * the default JCE crypto provider will be used.
      */
     public static Cipher createSymmetricCipher(SecretKey symmetricCryptoKey, int encryptMode, Provider cryptoProvider, byte[] initVector) {
+        return createSymmetricCipher(symmetricCryptoKey, encryptMode, cryptoProvider, initVector, JceEncryptionConstants.SYMMETRIC_CIPHER_METHOD);
+    }
+
+    /**
+     * Creates a symmetric cipher for the specified algorithm, mode, and padding, in the specified encrypt
+     * mode, from the given symmetric key and IV.  Only the methods in {@link JceEncryptionConstants} are
+     * accepted, since the method can come from an object's metadata.
+     */
+    public static Cipher createSymmetricCipher(SecretKey symmetricCryptoKey, int encryptMode, Provider cryptoProvider, byte[] initVector, String cipherMethod) {
+        if (!JceEncryptionConstants.SYMMETRIC_CIPHER_METHOD.equals(cipherMethod)
+                && !JceEncryptionConstants.SYMMETRIC_UNPADDED_CIPHER_METHOD.equals(cipherMethod)
+                && !JceEncryptionConstants.SYMMETRIC_CTR_CIPHER_METHOD.equals(cipherMethod)) {
+            throw new AmazonClientException("Unsupported content encryption algorithm: " + cipherMethod);
+        }
         try {
             Cipher cipher;
             if (cryptoProvider != null) {
-                cipher = Cipher.getInstance(JceEncryptionConstants.SYMMETRIC_CIPHER_METHOD, cryptoProvider);
+                cipher = Cipher.getInstance(cipherMethod, cryptoProvider);
             } else {
-                cipher = Cipher.getInstance(JceEncryptionConstants.SYMMETRIC_CIPHER_METHOD);
+                cipher = Cipher.getInstance(cipherMethod);
             }
             if (initVector != null) {
                 cipher.init(encryptMode, symmetricCryptoKey, new IvParameterSpec(initVector));
@@ -487,6 +721,60 @@ public class EncryptionUtils {
         }
     }
 
+    /**
+     * Returns the name of the algorithm, mode, and padding used for the specified cipher mode.
+     */
+    public static String getCipherMethod(CryptoCipherMode cipherMode) {
+        if (cipherMode == CryptoCipherMode.CTR) return JceEncryptionConstants.SYMMETRIC_CTR_CIPHER_METHOD;
+        return JceEncryptionConstants.SYMMETRIC_CIPHER_METHOD;
+    }
+
+    /**
+     * Returns true if the specified cipher encrypts in counter mode, in which case any block can be
+     * encrypted or decrypted without the blocks before it.
+     */
+    public static boolean isCounterMode(Cipher symmetricCipher) {
+        return JceEncryptionConstants.SYMMETRIC_CTR_CIPHER_METHOD.equals(symmetricCipher.getAlgorithm());
+    }
+
+    /**
+     * Returns the counter mode IV (the initial counter block) for the cipher block starting at the
+     * specified offset into the data, by adding the number of preceding blocks to the initial IV
+     * as a 128-bit big-endian integer.
+     *
+     * @param initVector
+     *      The IV of the first block of data.
+     * @param offset
+     *      The offset of the block, which must be a multiple of the cipher block size.
+     * @return
+     *      The IV for the block at the specified offset.
+     */
+    public static byte[] getCounterModeInitializationVector(byte[] initVector, long offset) {
+        if (offset % JceEncryptionConstants.SYMMETRIC_CIPHER_BLOCK_SIZE != 0) {
+            throw new AmazonClientException("Counter mode offsets must be multiples of the cipher block size ("
+                    + JceEncryptionConstants.SYMMETRIC_CIPHER_BLOCK_SIZE + "): " + offset);
+        }
+        byte[] counter = initVector.clone();
+        long carry = offset / JceEncryptionConstants.SYMMETRIC_CIPHER_BLOCK_SIZE;
+        for (int i = counter.length - 1; i >= 0 && carry != 0; i--) {
+            long sum = (counter[i] & 0xff) + (carry & 0xff);
+            counter[i] = (byte)sum;
+            carry = (carry >>> 8) + (sum >>> 8);
+        }
+        return counter;
+    }
+
+    /**
+     * Returns the IV to decrypt data starting at the beginning of the specified crypto range.  Chained
+     * block ciphers always start from the object's IV (the first block retrieved is discarded), counter
+     * mode ciphers start from the counter of the first block retrieved.
+     */
+    private static byte[] getInitializationVectorForRange(byte[] initVector, String cipherMethod, long[] cryptoRange) {
+        if (cryptoRange == null || cryptoRange[0] == 0) return initVector;
+        if (!JceEncryptionConstants.SYMMETRIC_CTR_CIPHER_METHOD.equals(cipherMethod)) return initVector;
+        return getCounterModeInitializationVector(initVector, cryptoRange[0]);
+    }
+
     /**
      * Encrypts a symmetric key using the provided encryption materials and returns
      * it in raw byte array form.
@@ -568,6 +856,9 @@ public class EncryptionUtils {
 
     		originalInputStream = new CipherInputStream(originalInputStream, symmetricCipher);
 
+    		// Counter mode adds no padding, and parts don't depend on each other
+    		if (isCounterMode(symmetricCipher)) return originalInputStream;
+
     		if (request.isLastPart() == false) {
     			// We want to prevent the final padding from being sent on the stream...
     			originalInputStream = new InputSubstream(originalInputStream, 0, request.getPartSize());
@@ -667,6 +958,11 @@ public class EncryptionUtils {
         initVectorBytes = Base64.encodeBase64(initVectorBytes);
         metadata.addUserMetadata(Headers.CRYPTO_IV, new String(initVectorBytes));
 
+        // Only record the content cipher if it isn't the default, which older clients assume
+        if (isCounterMode(symmetricCipher)) {
+            metadata.addUserMetadata(Headers.CRYPTO_CEK_ALGORITHM, symmetricCipher.getAlgorithm());
+        }
+
         // Put the materials description into the object metadata as JSON
         JSONObject descriptionJSON = new JSONObject(materialsDescription);
         metadata.addUserMetadata(Headers.MATERIALS_DESCRIPTION, descriptionJSON.toString());
@@ -708,6 +1004,8 @@ public class EncryptionUtils {
         } else {
             return 0;
         }
+        // Counter mode doesn't pad
+        if (isCounterMode(symmetricCipher)) return plaintextLength;
         long cipherBlockSize = symmetricCipher.getBlockSize();
         long offset = cipherBlockSize - (plaintextLength % cipherBlockSize);
         return plaintextLength + offset;
@@ -723,6 +1021,8 @@ public class EncryptionUtils {
         } else {
             return 0;
         }
+        // Counter mode doesn't pad
+        if (isCounterMode(symmetricCipher)) return plaintextLength;
         long cipherBlockSize = symmetricCipher.getBlockSize();
         long offset = cipherBlockSize - (plaintextLength % cipherBlockSize);
         return plaintextLength + offset;
@@ -743,6 +1043,9 @@ public class EncryptionUtils {
             instructionJSON.put(Headers.MATERIALS_DESCRIPTION, materialsDescriptionJSON.toString());
             instructionJSON.put(Headers.CRYPTO_KEY, new String(encryptedKeyBytes));
             instructionJSON.put(Headers.CRYPTO_IV, new String(initVector));
+            if (isCounterMode(instruction.getSymmetricCipher())) {
+                instructionJSON.put(Headers.CRYPTO_CEK_ALGORITHM, instruction.getSymmetricCipher().getAlgorithm());
+            }
 
         } catch (JSONException e) {} // Keys are never null, so JSONException will never be thrown.
         return instructionJSON;
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal.crypto;
+
+import java.util.Map;
+
+import org.apache.commons.codec.binary.Base64;
+
+import com.amazonaws.services.s3.model.EncryptionMaterials;
+import com.amazonaws.services.s3.model.EncryptionMaterialsAccessor;
+import com.amazonaws.util.ExpiringCache;
+
+/**
+ * Bounded, expiring cache of decrypted envelope keys and of the encryption
+ * materials looked up through an {@link EncryptionMaterialsAccessor}.
+ * <p>
+ * Decrypting an envelope key with an asymmetric key pair is expensive, and
+ * reading the same object (or instruction file) repeatedly decrypts the same
+ * envelope key every time. Decrypted keys are cached by their encrypted bytes
+ * and the raw materials description they were stored with, so a hit skips
+ * both parsing the description and decrypting the key. Materials accessor
+ * lookups are cached by materials description, since an accessor may well be
+ * backed by a slow key store.
+ * <p>
+ * Entries expire after the configured time to live, so that decrypted keys
+ * don't stay in memory indefinitely, and rotated materials are eventually
+ * looked up again. A cache with a maximum size of zero caches nothing.
+ */
+public class EnvelopeKeyCache {
+
+    /** Decrypted keys, without ciphers, by materials description and encrypted key */
+    private final ExpiringCache<String, EncryptionInstruction> keys;
+
+    /** Materials returned by the accessor, by materials description */
+    private final ExpiringCache<Map<String, String>, EncryptionMaterials> materials;
+
+    /**
+     * Creates a new cache that will contain at most the specified number of
+     * decrypted keys (and of materials), each of which expires after the
+     * specified time.
+     *
+     * @param maxEntries
+     *            The maximum number of decrypted keys to cache, or zero to
+     *            disable caching.
+     * @param timeToLiveMillis
+     *            The time, in milliseconds, after which an entry expires.
+     */
+    public EnvelopeKeyCache(int maxEntries, long timeToLiveMillis) {
+        if (maxEntries > 0) {
+            this.keys = new ExpiringCache<String, EncryptionInstruction>(maxEntries, timeToLiveMillis);
+            this.materials = new ExpiringCache<Map<String, String>, EncryptionMaterials>(maxEntries, timeToLiveMillis);
+        } else {
+            this.keys = null;
+            this.materials = null;
+        }
+    }
+
+    /**
+     * Returns the decrypted envelope key for the specified encrypted key and
+     * materials description, as an instruction without a cipher, or null if
+     * it isn't cached.
+     *
+     * @param materialsDescription
+     *            The JSON materials description stored with the key.
+     * @param encryptedSymmetricKey
+     *            The encrypted envelope key.
+     *
+     * @return The cached instruction, or null.
+     */
+    public EncryptionInstruction getDecryptedKey(String materialsDescription, byte[] encryptedSymmetricKey) {
+        if (keys == null) return null;
+        return keys.get(toCacheKey(materialsDescription, encryptedSymmetricKey));
+    }
+
+    /**
+     * Caches a decrypted envelope key. Ciphers are stateful, so only the
+     * instruction's key and description are kept.
+     *
+     * @param materialsDescription
+     *            The JSON materials description stored with the key.
+     * @param instruction
+     *            The instruction containing the encrypted and decrypted key.
+     */
+    public void putDecryptedKey(String materialsDescription, EncryptionInstruction instruction) {
+        if (keys == null) return;
+        keys.put(toCacheKey(materialsDescription, instruction.getEncryptedSymmetricKey()),
+                new EncryptionInstruction(instruction.getMaterialsDescription(),
+                        instruction.getEncryptedSymmetricKey(), instruction.getSymmetricKey(), null));
+    }
+
+    /**
+     * Returns the materials matching the specified description, looking them
+     * up through the specified accessor if they aren't cached.
+     *
+     * @param materialsDescription
+     *            The description of the desired materials.
+     * @param accessor
+     *            The accessor through which to look up the materials, or null.
+     *
+     * @return The matching materials, or null if there are none.
+     */
+    public EncryptionMaterials getMaterials(Map<String, String> materialsDescription, EncryptionMaterialsAccessor accessor) {
+        if (accessor == null) return null;
+        if (materials == null) return accessor.getEncryptionMaterials(materialsDescription);
+
+        EncryptionMaterials result = materials.get(materialsDescription);
+        if (result == null) {
+            result = accessor.getEncryptionMaterials(materialsDescription);
+            if (result != null) materials.put(materialsDescription, result);
+        }
+        return result;
+    }
+
+    /**
+     * Removes all decrypted keys and materials from this cache.
+     */
+    public void clear() {
+        if (keys == null) return;
+        keys.clear();
+        materials.clear();
+    }
+
+    /**
+     * Returns the number of decrypted key lookups that found a cached key.
+     *
+     * @return The number of decrypted key cache hits.
+     */
+    public long getKeyHitCount() {
+        return (keys == null) ? 0 : keys.getHitCount();
+    }
+
+    /**
+     * Returns the number of decrypted key lookups that had to decrypt the key.
+     *
+     * @return The number of decrypted key cache misses.
+     */
+    public long getKeyMissCount() {
+        return (keys == null) ? 0 : keys.getMissCount();
+    }
+
+    /**
+     * Returns the number of decrypted keys evicted to make room for new ones.
+     *
+     * @return The number of decrypted key evictions.
+     */
+    public long getKeyEvictionCount() {
+        return (keys == null) ? 0 : keys.getEvictionCount();
+    }
+
+    /**
+     * Returns the number of materials lookups that found cached materials.
+     *
+     * @return The number of materials cache hits.
+     */
+    public long getMaterialsHitCount() {
+        return (materials == null) ? 0 : materials.getHitCount();
+    }
+
+    /**
+     * Returns the number of materials lookups that went to the accessor.
+     *
+     * @return The number of materials cache misses.
+     */
+    public long getMaterialsMissCount() {
+        return (materials == null) ? 0 : materials.getMissCount();
+    }
+
+    private static String toCacheKey(String materialsDescription, byte[] encryptedSymmetricKey) {
+        return new String(Base64.encodeBase64(encryptedSymmetricKey)) + ":" + materialsDescription;
+    }
+}
@@ -25,6 +25,12 @@ public class JceEncryptionConstants {
     
     /** Name of the algorithm, mode, and padding we will use in the symmetric cipher for encryption */
     public static String SYMMETRIC_CIPHER_METHOD = "AES/CBC/PKCS5Padding";
+
+    /** Name of the algorithm and mode of the symmetric cipher, without padding, for decrypting ranges of chained blocks */
+    public static String SYMMETRIC_UNPADDED_CIPHER_METHOD = "AES/CBC/NoPadding";
+
+    /** Name of the algorithm, mode, and padding we will use in the symmetric cipher for counter mode encryption */
+    public static String SYMMETRIC_CTR_CIPHER_METHOD = "AES/CTR/NoPadding";
     
     /** Minimum length of the generated symmetric key */
     public static int SYMMETRIC_KEY_LENGTH = 256;
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Response body consumer that writes object content to a
+ * {@link WritableByteChannel}, such as a <code>FileChannel</code> or a socket
+ * channel, reading the content through a single reusable buffer.
+ * <p>
+ * The channel isn't closed once the content has been written; it is owned by
+ * the caller.
+ */
+public class ChannelResponseBodyConsumer implements ResponseBodyConsumer {
+
+    /** The default size, in bytes, of the buffer content is read into. */
+    public static final int DEFAULT_BUFFER_SIZE = 128 * 1024;
+
+    /** The channel the object content is written to. */
+    private final WritableByteChannel channel;
+
+    /** The buffer reused for every chunk of content. */
+    private final ByteBuffer buffer;
+
+    /** The metadata of the object being written, once the response arrives. */
+    private ObjectMetadata metadata;
+
+    /** The number of bytes written to the channel so far. */
+    private long bytesWritten;
+
+    /**
+     * Constructs a new consumer that writes object content to the specified
+     * channel, reading it through a buffer of the default size.
+     *
+     * @param channel
+     *            The channel to write the object content to.
+     */
+    public ChannelResponseBodyConsumer(WritableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs a new consumer that writes object content to the specified
+     * channel, reading it through a buffer of the specified size.
+     *
+     * @param channel
+     *            The channel to write the object content to.
+     * @param bufferSize
+     *            The size, in bytes, of the buffer content is read into.
+     */
+    public ChannelResponseBodyConsumer(WritableByteChannel channel, int bufferSize) {
+        if (channel == null) throw new IllegalArgumentException("channel must be specified");
+        if (bufferSize < 1) throw new IllegalArgumentException("bufferSize must be at least one");
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+    }
+
+    public void onStart(ObjectMetadata metadata) throws IOException {
+        this.metadata = metadata;
+    }
+
+    public ByteBuffer getBuffer() {
+        buffer.clear();
+        return buffer;
+    }
+
+    public boolean onContent(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            bytesWritten += channel.write(buffer);
+        }
+        return true;
+    }
+
+    public void onComplete() throws IOException {
+    }
+
+    /**
+     * Returns the metadata of the object written by this consumer, or null if
+     * no response has been received yet.
+     *
+     * @return The metadata of the object written by this consumer.
+     */
+    public ObjectMetadata getObjectMetadata() {
+        return metadata;
+    }
+
+    /**
+     * Returns the number of bytes written to the channel so far.
+     *
+     * @return The number of bytes written to the channel so far.
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+}
@@ -0,0 +1,620 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.model;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.amazonaws.AmazonWebServiceRequest;
+
+/**
+ * Contains the parameters used for the UploadPartCopy operation on Amazon S3,
+ * which creates a part of a multipart upload by copying a byte range of an
+ * existing object, without downloading and re-uploading the data.
+ * <p>
+ * If no byte range is specified, the whole source object is copied into the
+ * new part. As with {@link CopyObjectRequest}, optional constraints on the
+ * source object's ETag and last modified date can be specified; the copy is
+ * only performed if all of them are met.
+ * <p>
+ * Required Parameters: SourceBucketName, SourceKey, DestinationBucketName,
+ * DestinationKey, UploadId, PartNumber
+ *
+ * @see AmazonS3#copyPart(CopyPartRequest)
+ */
+public class CopyPartRequest extends AmazonWebServiceRequest {
+
+    /**
+     * The ID of the existing, initiated multipart upload with which the new
+     * part will be associated
+     */
+    private String uploadId;
+
+    /**
+     * The part number describing the new part's position relative to the other
+     * parts in the multipart upload
+     */
+    private int partNumber;
+
+    /** The name of the bucket containing the source object to be copied */
+    private String sourceBucketName;
+
+    /** The key in the source bucket under which the source object is stored */
+    private String sourceKey;
+
+    /**
+     * The optional version ID specifying which version of the source object to
+     * copy
+     */
+    private String sourceVersionId;
+
+    /** The name of the bucket containing the initiated multipart upload */
+    private String destinationBucketName;
+
+    /** The key of the initiated multipart upload */
+    private String destinationKey;
+
+    /**
+     * The optional zero-based byte offset of the first byte of the source
+     * object to copy
+     */
+    private Long firstByte;
+
+    /**
+     * The optional zero-based byte offset of the last byte of the source object
+     * to copy (inclusive)
+     */
+    private Long lastByte;
+
+    /**
+     * Optional list of ETag values that constrain the copy request to only be
+     * executed if the source object's ETag matches one of them.
+     */
+    private List<String> matchingETagConstraints = new ArrayList<String>();
+
+    /**
+     * Optional list of ETag values that constrain the copy request to only be
+     * executed if the source object's ETag doesn't match any of them.
+     */
+    private List<String> nonmatchingETagConstraints = new ArrayList<String>();
+
+    /**
+     * Optional field that constrains the copy request to only be executed if
+     * the source object has not been modified since the specified date.
+     */
+    private Date unmodifiedSinceConstraint;
+
+    /**
+     * Optional field that constrains the copy request to only be executed if
+     * the source object has been modified since the specified date.
+     */
+    private Date modifiedSinceConstraint;
+
+
+    /**
+     * Returns the ID of the existing, initiated multipart upload with which the
+     * new part will be associated.
+     *
+     * @return The ID of the existing, initiated multipart upload with which the
+     *         new part will be associated.
+     */
+    public String getUploadId() {
+        return uploadId;
+    }
+
+    /**
+     * Sets the ID of the existing, initiated multipart upload with which the
+     * new part will be associated.
+     *
+     * @param uploadId
+     *            The ID of the existing, initiated multipart upload with which
+     *            the new part will be associated.
+     */
+    public void setUploadId(String uploadId) {
+        this.uploadId = uploadId;
+    }
+
+    /**
+     * Sets the ID of the existing, initiated multipart upload with which the
+     * new part will be associated, and returns this updated object so that
+     * additional method
+     * calls can be chained together.
+     *
+     * @param uploadId
+     *            The ID of the existing, initiated multipart upload with which
+     *            the new part will be associated.
+     *
+     * @return This updated CopyPartRequest object.
+     */
+    public CopyPartRequest withUploadId(String uploadId) {
+        setUploadId(uploadId);
+        return this;
+    }
+
+    /**
+     * Returns the part number describing the new part's position relative to
+     * the other parts in the multipart upload.
+     *
+     * @return The part number describing the new part's position relative to
+     *         the other parts in the multipart upload.
+     */
+    public int getPartNumber() {
+        return partNumber;
+    }
+
+    /**
+     * Sets the part number describing the new part's position relative to the
+     * other parts in the multipart upload.
+     *
+     * @param partNumber
+     *            The part number describing the new part's position relative to
+     *            the other parts in the multipart upload.
+     */
+    public void setPartNumber(int partNumber) {
+        this.partNumber = partNumber;
+    }
+
+    /**
+     * Sets the part number describing the new part's position relative to the
+     * other parts in the multipart upload, and returns this updated object so
+     * that additional method
+     * calls can be chained together.
+     *
+     * @param partNumber
+     *            The part number describing the new part's position relative to
+     *            the other parts in the multipart upload.
+     *
+     * @return This updated CopyPartRequest object.
+     */
+    public CopyPartRequest withPartNumber(int partNumber) {
+        setPartNumber(partNumber);
+        return this;
+    }
+
+    /**
+     * Returns the name of the bucket containing the source object to be copied.
+     *
+     * @return The name of the bucket containing the source object to be copied.
+     */
+    public String getSourceBucketName() {
+        return sourceBucketName;
+    }
+
+    /**
+     * Sets the name of the bucket containing the source object to be copied.
+     *
+     * @param sourceBucketName
+     *            The name of the bucket containing the source object to be
+     *            copied.
+     */
+    public void setSourceBucketName(String sourceBucketName) {
+        this.sourceBucketName = sourceBucketName;
+    }
+
+    /**
+     * Sets the name of the bucket containing the source object to be copied,
+     * and returns this updated object so that additional method
+     * calls can be chained together.
+     *
+     * @param sourceBucketName
+     *            The name of the bucket containing the source object to be
+     *            copied.
+     *
+     * @return This updated CopyPartRequest object.
+     */
+    public CopyPartRequest withSourceBucketName(String sourceBucketName) {
+        setSourceBucketName(sourceBucketName);
+        return this;
+    }
+
+    /**
+     * Returns the key in the source bucket under which the source object is
+     * stored.
+     *
+     * @return The key in the source bucket under which the source object is
+     *         stored.
+     */
+    public String getSourceKey() {
+        return sourceKey;
+    }
+
+    /**
+     * Sets the key in the source bucket under which the source object is
+     * stored.
+     *
+     * @param sourceKey
+     *            The key in the source bucket under which the source object is
+     *            stored.
+     */
+    public void setSourceKey(String sourceKey) {
+        this.sourceKey = sourceKey;
+    }
+
+    /**
+     * Sets the key in the source bucket under which the source object is
+     * stored, and returns this updated object so that additional method
+     * calls can be chained together.
+     *
+     * @param sourceKey
+     *            The key in the source bucket under which the source object is
+     *            stored.
+     *
+     * @return This updated CopyPartRequest object.
+     */
+    public CopyPartRequest withSourceKey(String sourceKey) {
+        setSourceKey(sourceKey);
+        return this;
+    }
+
+    /**
+     * Returns the optional version ID specifying which version of the source
+     * object to copy.
+     *
+     * @return The optional version ID specifying which version of the source
+     *         object to copy.
+     */
+    public String getSourceVersionId() {
+        return sourceVersionId;
+    }
+
+    /**
+     * Sets the optional version ID specifying which version of the source
+     * object to copy.
+     *
+     * @param sourceVersionId
+     *            The optional version ID specifying which version of the source
+     *            object to copy.
+     */
+    public void setSourceVersionId(String sourceVersionId) {
+        this.sourceVersionId = sourceVersionId;
+    }
+
+    /**
+     * Sets the optional version ID specifying which version of the source
+     * object to copy, and returns this updated object so that additional method
+     * calls can be chained together.
+     *
+     * @param sourceVersionId
+     *            The optional version ID specifying which version of the source
+     *            object to copy.
+     *
+     * @return This updated CopyPartRequest object.
+     */
+    public CopyPartRequest withSourceVersionId(String sourceVersionId) {
+        setSourceVersionId(sourceVersionId);
+        return this;
+    }
+
+    /**
+     * Returns the name of the bucket containing the initiated multipart upload.
+     *
+     * @return The name of the bucket containing the initiated multipart upload.
+     */
+    public String getDestinationBucketName() {
+        return destinationBucketName;
+    }
+
+    /**
+     * Sets the name of the bucket containing the initiated multipart upload.
+     *
+     * @param destinationBucketName
+     *            The name of the bucket containing the initiated multipart
+     *            upload.
+     */
+    public void setDestinationBucketName(String destinationBucketName) {
+        this.destinationBucketName = destinationBucketName;
+    }
+
+    /**
+     * Sets the name of the bucket containing the initiated multipart upload,
+     * and returns this updated object so that additional method
+     * calls can be chained together.
+     *
+     * @param destinationBucketName
+     *            The name of the bucket containing the initiated multipart
+     *            upload.
+     *
+     * @return This updated CopyPartRequest object.
+     */
+    public CopyPartRequest withDestinationBucketName(String destinationBucketName) {
+        setDestinationBucketName(destinationBucketName);
+        return this;
+    }
+
+    /**
+     * Returns the key of the initiated multipart upload.
+     *
+     * @return The key of the initiated multipart upload.
+     */
+    public String getDestinationKey() {
+        return destinationKey;
+    }
+
+    /**
+     * Sets the key of the initiated multipart upload.
+     *
+     * @param destinationKey
+     *            The key of the initiated multipart upload.
+     */
+    public void setDestinationKey(String destinationKey) {
+        this.destinationKey = destinationKey;
+    }
+
+    /**
+     * Sets the key of the initiated multipart upload, and returns this updated
+     * object so that additional method
+     * calls can be chained together.
+     *
+     * @param destinationKey
+     *            The key of the initiated multipart upload.
+     *
+     * @return This updated CopyPartRequest object.
+     */
+    public CopyPartRequest withDestinationKey(String destinationKey) {
+        setDestinationKey(destinationKey);
+        return this;
+    }
+
+    /**
+     * Returns the optional zero-based byte offset of the first byte of the
+     * source object to copy.
+     *
+     * @return The optional zero-based byte offset of the first byte of the
+     *         source object to copy.
+     */
+    public Long getFirstByte() {
+        return firstByte;
+    }
+
+    /**
+     * Sets the optional zero-based byte offset of the first byte of the source
+     * object to copy.
+     *
+     * @param firstByte
+     *            The optional zero-based byte offset of the first byte of the
+     *            source object to copy.
+     */
+    public void setFirstByte(Long firstByte) {
+        this.firstByte = firstByte;
+    }
+
+    /**
+     * Sets the optional zero-based byte offset of the first byte of the source
+     * object to copy, and returns this updated object so that additional method
+     * calls can be chained together.
+     *
+     * @param firstByte
+     *            The optional zero-based byte offset of the first byte of the
+     *            source object to copy.
+     *
+     * @return This updated CopyPartRequest object.
+     */
+    public CopyPartRequest withFirstByte(Long firstByte) {
+        setFirstByte(firstByte);
+        return this;
+    }
+
+    /**
+     * Returns the optional zero-based byte offset of the last byte of the
+     * source object to copy (inclusive).
+     *
+     * @return The optional zero-based byte offset of the last byte of the
+     *         source object to copy (inclusive).
+     */
+    public Long getLastByte() {
+        return lastByte;
+    }
+
+    /**
+     * Sets the optional zero-based byte offset of the last byte of the source
+     * object to copy (inclusive).
+     *
+     * @param lastByte
+     *            The optional zero-based byte offset of the last byte of the
+     *            source object to copy (inclusive).
+     */
+    public void setLastByte(Long lastByte) {
+        this.lastByte = lastByte;
+    }
+
+    /**
+     * Sets the optional zero-based byte offset of the last byte of the source
+     * object to copy (inclusive), and returns this updated object so that
+     * additional method
+     * calls can be chained together.
+     *
+     * @param lastByte
+     *            The optional zero-based byte offset of the last byte of the
+     *            source object to copy (inclusive).
+     *
+     * @return This updated CopyPartRequest object.
+     */
+    public CopyPartRequest withLastByte(Long lastByte) {
+        setLastByte(lastByte);
+        return this;
+    }
+
+    /**
+     * Sets the zero-based, inclusive byte range of the source object to copy
+     * into the new part, and returns this updated object so that additional
+     * method calls can be chained together.
+     *
+     * @param firstByte
+     *            The offset of the first byte of the source object to copy.
+     * @param lastByte
+     *            The offset of the last byte of the source object to copy.
+     *
+     * @return This updated CopyPartRequest object.
+     */
+    public CopyPartRequest withRange(long firstByte, long lastByte) {
+        setFirstByte(firstByte);
+        setLastByte(lastByte);
+        return this;
+    }
+
+    /**
+     * Returns the optional list of ETag constraints that, when present,
+     * <b>must</b> include a match for the source object's current ETag in
+     * order for the copy to be performed.
+     *
+     * @return The optional list of ETag constraints.
+     */
+    public List<String> getMatchingETagConstraints() {
+        return matchingETagConstraints;
+    }
+
+    /**
+     * Sets the optional list of ETag constraints that, when present,
+     * <b>must</b> include a match for the source object's current ETag in
+     * order for the copy to be performed.
+     *
+     * @param eTagList
+     *            The optional list of ETag constraints.
+     */
+    public void setMatchingETagConstraints(List<String> eTagList) {
+        this.matchingETagConstraints = eTagList;
+    }
+
+    /**
+     * Adds a single ETag constraint to this request, and returns this updated
+     * object so that additional method calls can be chained together. The
+     * copy is only performed if the source object's current ETag matches one
+     * of the matching ETag constraints.
+     *
+     * @param eTag
+     *            The matching ETag constraint to add.
+     *
+     * @return This updated CopyPartRequest object.
+     */
+    public CopyPartRequest withMatchingETagConstraint(String eTag) {
+        this.matchingETagConstraints.add(eTag);
+        return this;
+    }
+
+    /**
+     * Returns the optional list of ETag constraints that, when present,
+     * <b>must not</b> include a match for the source object's current ETag in
+     * order for the copy to be performed.
+     *
+     * @return The optional list of non-matching ETag constraints.
+     */
+    public List<String> getNonmatchingETagConstraints() {
+        return nonmatchingETagConstraints;
+    }
+
+    /**
+     * Sets the optional list of ETag constraints that, when present,
+     * <b>must not</b> include a match for the source object's current ETag in
+     * order for the copy to be performed.
+     *
+     * @param eTagList
+     *            The optional list of non-matching ETag constraints.
+     */
+    public void setNonmatchingETagConstraints(List<String> eTagList) {
+        this.nonmatchingETagConstraints = eTagList;
+    }
+
+    /**
+     * Adds a single non-matching ETag constraint to this request, and returns
+     * this updated object so that additional method calls can be chained
+     * together. The copy is only performed if the source object's current
+     * ETag doesn't match any of the non-matching ETag constraints.
+     *
+     * @param eTag
+     *            The non-matching ETag constraint to add.
+     *
+     * @return This updated CopyPartRequest object.
+     */
+    public CopyPartRequest withNonmatchingETagConstraint(String eTag) {
+        this.nonmatchingETagConstraints.add(eTag);
+        return this;
+    }
+
+    /**
+     * Returns the optional unmodified constraint that restricts this request
+     * to executing only if the source object has <b>not</b> been modified
+     * after the specified date.
+     *
+     * @return The optional unmodified constraint.
+     */
+    public Date getUnmodifiedSinceConstraint() {
+        return unmodifiedSinceConstraint;
+    }
+
+    /**
+     * Sets the optional unmodified constraint that restricts this request to
+     * executing only if the source object has <b>not</b> been modified after
+     * the specified date.
+     *
+     * @param date
+     *            The unmodified constraint.
+     */
+    public void setUnmodifiedSinceConstraint(Date date) {
+        this.unmodifiedSinceConstraint = date;
+    }
+
+    /**
+     * Sets the optional unmodified constraint, and returns this updated object
+     * so that additional method calls can be chained together.
+     *
+     * @param date
+     *            The unmodified constraint.
+     *
+     * @return This updated CopyPartRequest object.
+     */
+    public CopyPartRequest withUnmodifiedSinceConstraint(Date date) {
+        setUnmodifiedSinceConstraint(date);
+        return this;
+    }
+
+    /**
+     * Returns the optional modified constraint that restricts this request to
+     * executing only if the source object <b>has</b> been modified after the
+     * specified date.
+     *
+     * @return The optional modified constraint.
+     */
+    public Date getModifiedSinceConstraint() {
+        return modifiedSinceConstraint;
+    }
+
+    /**
+     * Sets the optional modified constraint that restricts this request to
+     * executing only if the source object <b>has</b> been modified after the
+     * specified date.
+     *
+     * @param date
+     *            The modified constraint.
+     */
+    public void setModifiedSinceConstraint(Date date) {
+        this.modifiedSinceConstraint = date;
+    }
+
+    /**
+     * Sets the optional modified constraint, and returns this updated object
+     * so that additional method calls can be chained together.
+     *
+     * @param date
+     *            The modified constraint.
+     *
+     * @return This updated CopyPartRequest object.
+     */
+    public CopyPartRequest withModifiedSinceConstraint(Date date) {
+        setModifiedSinceConstraint(date);
+        return this;
+    }
+
+}
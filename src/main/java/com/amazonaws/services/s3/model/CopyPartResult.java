@@ -0,0 +1,104 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.model;
+
+import java.util.Date;
+
+/**
+ * Contains the details returned from Amazon S3 after calling the
+ * UploadPartCopy operation through {@link AmazonS3#copyPart(CopyPartRequest)}.
+ */
+public class CopyPartResult {
+
+    /** The part number of the newly copied part */
+    private int partNumber;
+
+    /** The entity tag generated from the content of the copied part */
+    private String etag;
+
+    /** The last modified date of the newly copied part */
+    private Date lastModifiedDate;
+
+
+    /**
+     * Returns the part number of the newly copied part.
+     *
+     * @return The part number of the newly copied part.
+     */
+    public int getPartNumber() {
+        return partNumber;
+    }
+
+    /**
+     * Sets the part number of the newly copied part.
+     *
+     * @param partNumber
+     *            the part number of the newly copied part.
+     */
+    public void setPartNumber(int partNumber) {
+        this.partNumber = partNumber;
+    }
+
+    /**
+     * Returns the entity tag of the newly copied part. The entity tag is
+     * needed later when the multipart upload is completed.
+     *
+     * @return the entity tag of the newly copied part.
+     */
+    public String getETag() {
+        return etag;
+    }
+
+    /**
+     * Sets the entity tag of the newly copied part.
+     *
+     * @param etag
+     *            the entity tag of the newly copied part.
+     */
+    public void setETag(String etag) {
+        this.etag = etag;
+    }
+
+    /**
+     * Returns the date the newly copied part was last modified.
+     *
+     * @return The date the newly copied part was last modified.
+     */
+    public Date getLastModifiedDate() {
+        return lastModifiedDate;
+    }
+
+    /**
+     * Sets the date the newly copied part was last modified.
+     *
+     * @param lastModifiedDate
+     *            The date the newly copied part was last modified.
+     */
+    public void setLastModifiedDate(Date lastModifiedDate) {
+        this.lastModifiedDate = lastModifiedDate;
+    }
+
+    /**
+     * Returns an identifier which identifies the copied part by its part
+     * number and the entity tag computed from the part's data. This
+     * information is later needed to complete a multipart upload.
+     *
+     * @return An identifier which identifies the copied part by its part
+     *         number and the entity tag computed from the part's data.
+     */
+    public PartETag getPartETag() {
+        return new PartETag(partNumber, etag);
+    }
+}
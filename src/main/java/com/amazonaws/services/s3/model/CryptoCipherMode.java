@@ -0,0 +1,38 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.model;
+
+/**
+ * Denotes the different cipher modes available for encrypting the contents of
+ * objects stored with the Amazon S3 Encryption Client.
+ * <p>
+ * CBC (AES in cipher block chaining mode, with PKCS5 padding) is the default
+ * mode. Because each block depends on the one before it, the parts of an
+ * encrypted multipart upload have to be encrypted, and so uploaded, one after
+ * the other.
+ * <p>
+ * If the CTR mode (AES in counter mode, without padding) is used, the cipher
+ * state at any block boundary can be computed directly from the
+ * initialization vector, so each part of a multipart upload is encrypted
+ * independently and parts can be uploaded concurrently. Encrypted objects are
+ * also the same size as their plaintext. The cipher mode is recorded with the
+ * rest of the encryption information, so objects in either mode can be
+ * decrypted whatever mode the client is configured with; CTR objects can't be
+ * decrypted by older clients, however.
+ */
+public enum CryptoCipherMode {
+    CBC,
+    CTR
+}
@@ -27,6 +27,15 @@ public class CryptoConfiguration {
 
     private CryptoStorageMode storageMode;
     private Provider cryptoProvider;
+    private CryptoCipherMode cipherMode;
+    private int keyCacheSize;
+    private long keyCacheTimeToLiveMillis;
+
+    /** Default maximum number of decrypted envelope keys to cache. */
+    public static final int DEFAULT_KEY_CACHE_SIZE = 1000;
+
+    /** Default time, in milliseconds, for which decrypted envelope keys are cached. */
+    public static final long DEFAULT_KEY_CACHE_TIME_TO_LIVE_MILLIS = 15 * 60 * 1000;
 
     /**
      * Creates a new CryptoConfiguration object with default storage mode and crypto provider settings.
@@ -39,6 +48,12 @@ public class CryptoConfiguration {
 
         // A null value implies that the default JCE crypto provider will be used
         this.cryptoProvider = null;
+
+        // By default, chain cipher blocks for compatibility with older clients
+        this.cipherMode = CryptoCipherMode.CBC;
+
+        this.keyCacheSize = DEFAULT_KEY_CACHE_SIZE;
+        this.keyCacheTimeToLiveMillis = DEFAULT_KEY_CACHE_TIME_TO_LIVE_MILLIS;
     }   
 
     /**
@@ -104,4 +119,112 @@ public class CryptoConfiguration {
     public Provider getCryptoProvider() {
         return this.cryptoProvider;
     }
+
+    /**
+     * Sets the cipher mode used to encrypt object contents.
+     * 
+     * @param cipherMode
+     *     The cipher mode to be used to encrypt object contents.
+     */
+    public void setCipherMode(CryptoCipherMode cipherMode) {
+        this.cipherMode = cipherMode;
+    }
+
+    /**
+     * Sets the cipher mode used to encrypt object contents, and returns the updated CryptoConfiguration object.
+     * 
+     * @param cipherMode
+     *     The cipher mode to be used to encrypt object contents.
+     * @return
+     *     The updated CryptoConfiguration object.
+     */
+    public CryptoConfiguration withCipherMode(CryptoCipherMode cipherMode) {
+        this.cipherMode = cipherMode;
+        return this;
+    }
+
+    /**
+     * Returns the cipher mode used to encrypt object contents. Objects are
+     * always decrypted with the mode they were encrypted with.
+     * 
+     * @return
+     *     The cipher mode to be used to encrypt object contents.
+     */
+    public CryptoCipherMode getCipherMode() {
+        return this.cipherMode;
+    }
+
+    /**
+     * Sets the maximum number of decrypted envelope keys (and of encryption
+     * materials looked up through a materials accessor) the encryption client
+     * caches, so that reading the same encrypted objects repeatedly doesn't
+     * decrypt their envelope keys every time. Zero disables caching. Only
+     * read when the encryption client is created.
+     * 
+     * @param keyCacheSize
+     *     The maximum number of decrypted envelope keys to cache.
+     */
+    public void setKeyCacheSize(int keyCacheSize) {
+        this.keyCacheSize = keyCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of decrypted envelope keys the encryption client caches, and returns the
+     * updated CryptoConfiguration object.
+     * 
+     * @param keyCacheSize
+     *     The maximum number of decrypted envelope keys to cache.
+     * @return
+     *     The updated CryptoConfiguration object.
+     */
+    public CryptoConfiguration withKeyCacheSize(int keyCacheSize) {
+        this.keyCacheSize = keyCacheSize;
+        return this;
+    }
+
+    /**
+     * Returns the maximum number of decrypted envelope keys the encryption client caches.
+     * 
+     * @return
+     *     The maximum number of decrypted envelope keys to cache.
+     */
+    public int getKeyCacheSize() {
+        return this.keyCacheSize;
+    }
+
+    /**
+     * Sets the time, in milliseconds, for which decrypted envelope keys and
+     * encryption materials are cached. Only read when the encryption client
+     * is created.
+     * 
+     * @param keyCacheTimeToLiveMillis
+     *     The time, in milliseconds, for which decrypted envelope keys are cached.
+     */
+    public void setKeyCacheTimeToLiveMillis(long keyCacheTimeToLiveMillis) {
+        this.keyCacheTimeToLiveMillis = keyCacheTimeToLiveMillis;
+    }
+
+    /**
+     * Sets the time, in milliseconds, for which decrypted envelope keys are cached, and returns the
+     * updated CryptoConfiguration object.
+     * 
+     * @param keyCacheTimeToLiveMillis
+     *     The time, in milliseconds, for which decrypted envelope keys are cached.
+     * @return
+     *     The updated CryptoConfiguration object.
+     */
+    public CryptoConfiguration withKeyCacheTimeToLiveMillis(long keyCacheTimeToLiveMillis) {
+        this.keyCacheTimeToLiveMillis = keyCacheTimeToLiveMillis;
+        return this;
+    }
+
+    /**
+     * Returns the time, in milliseconds, for which decrypted envelope keys are cached.
+     * 
+     * @return
+     *     The time, in milliseconds, for which decrypted envelope keys are cached.
+     */
+    public long getKeyCacheTimeToLiveMillis() {
+        return this.keyCacheTimeToLiveMillis;
+    }
 }
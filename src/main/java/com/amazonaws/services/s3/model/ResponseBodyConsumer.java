@@ -0,0 +1,97 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.amazonaws.services.s3.AmazonS3;
+
+/**
+ * Receives the content of an object fetched with
+ * {@link AmazonS3#getObject(GetObjectRequest, ResponseBodyConsumer)}.
+ * <p>
+ * Instead of handing the caller an open stream, the client reads the response
+ * body into buffers supplied by the consumer and pushes each filled buffer to
+ * it. The HTTP connection is released as soon as the call returns, whether the
+ * content was consumed completely, the consumer stopped early, or an error
+ * occurred, so a consumer can never leak a pooled connection.
+ * <p>
+ * Callbacks are invoked on the thread making the request, in this order:
+ * {@link #onStart(ObjectMetadata)} once, then {@link #getBuffer()} and
+ * {@link #onContent(ByteBuffer)} repeatedly until the content is exhausted,
+ * then {@link #onComplete()} once if every byte was delivered.
+ *
+ * @see ChannelResponseBodyConsumer
+ */
+public interface ResponseBodyConsumer {
+
+    /**
+     * Called once the response headers have been received, before any of the
+     * object content is read.
+     *
+     * @param metadata
+     *            The metadata of the object being fetched.
+     *
+     * @throws IOException
+     *             If the consumer can't accept the content, in which case the
+     *             request fails and the connection is aborted.
+     */
+    public void onStart(ObjectMetadata metadata) throws IOException;
+
+    /**
+     * Returns the buffer the next chunk of object content should be read into.
+     * The client fills the buffer from its position up to its limit, or until
+     * the content is exhausted, then flips it and passes it to
+     * {@link #onContent(ByteBuffer)}. Buffers should normally be cleared
+     * before being returned.
+     * <p>
+     * Buffers backed by an accessible array are filled directly from the
+     * connection, without an intermediate copy.
+     *
+     * @return The buffer to read the next chunk of content into. Must have
+     *         space remaining.
+     */
+    public ByteBuffer getBuffer();
+
+    /**
+     * Called with each filled buffer, flipped so that the content is between
+     * its position and limit.
+     *
+     * @param buffer
+     *            The buffer last returned by {@link #getBuffer()}, containing
+     *            the next chunk of object content.
+     *
+     * @return True to keep receiving content, or false to stop the transfer.
+     *         When the transfer is stopped, the connection is aborted rather
+     *         than drained, and {@link #onComplete()} isn't called.
+     *
+     * @throws IOException
+     *             If the consumer can't accept the content, in which case the
+     *             request fails and the connection is aborted.
+     */
+    public boolean onContent(ByteBuffer buffer) throws IOException;
+
+    /**
+     * Called once all of the object content has been passed to
+     * {@link #onContent(ByteBuffer)}.
+     *
+     * @throws IOException
+     *             If the consumer can't complete, in which case the request
+     *             fails.
+     */
+    public void onComplete() throws IOException;
+
+}
@@ -0,0 +1,358 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.model.S3VersionSummary;
+import com.amazonaws.services.s3.model.VersionListing;
+import com.amazonaws.services.s3.transfer.model.BulkDeleteResult;
+import com.amazonaws.services.s3.transfer.model.FailedDelete;
+
+/**
+ * Deletes large numbers of objects from Amazon S3 by running many
+ * <code>DELETE</code> requests concurrently.
+ * <p>
+ * Objects to delete are read lazily from a stream of keys, or from object or
+ * version listings which are paged through as deletes proceed, so prefixes
+ * with millions of objects can be deleted without holding all the keys in
+ * memory. At most <code>maxInFlight</code> deletes are outstanding at once;
+ * the listing is paused while the window is full. The window should not be
+ * larger than the client's maximum number of connections.
+ * <p>
+ * Individual delete failures don't stop a bulk delete. They are collected in
+ * the returned {@link BulkDeleteResult}, which also reports the overall
+ * throughput, and can be retried with {@link #retryFailures(BulkDeleteResult)}.
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * BulkDeleter deleter = new BulkDeleter(s3, 50);
+ * BulkDeleteResult result = deleter.deleteObjects(myBucket, "logs/2010/");
+ * if (!result.getFailures().isEmpty()) {
+ *     result = deleter.retryFailures(result);
+ * }
+ * deleter.shutdown();
+ * </pre>
+ */
+public class BulkDeleter {
+
+    private static final Log log = LogFactory.getLog(BulkDeleter.class);
+
+    /** The low level client we use to make the actual calls to Amazon S3. */
+    private final AmazonS3 s3;
+
+    /** The thread pool in which deletes are executed. */
+    private final ExecutorService threadPool;
+
+    /** True if the thread pool was created by this deleter. */
+    private final boolean ownsThreadPool;
+
+    /** The maximum number of deletes outstanding at once. */
+    private final int maxInFlight;
+
+    /**
+     * Constructs a new deleter that sends requests through the specified
+     * client, using a fixed pool of <code>maxInFlight</code> threads.
+     *
+     * @param s3
+     *            The client to use when making requests to Amazon S3.
+     * @param maxInFlight
+     *            The maximum number of deletes outstanding at once.
+     */
+    public BulkDeleter(AmazonS3 s3, int maxInFlight) {
+        this(s3, Executors.newFixedThreadPool(maxInFlight), maxInFlight, true);
+    }
+
+    /**
+     * Constructs a new deleter that sends requests through the specified
+     * client and executes them in the specified thread pool.
+     *
+     * @param s3
+     *            The client to use when making requests to Amazon S3.
+     * @param threadPool
+     *            The thread pool in which to execute deletes.
+     * @param maxInFlight
+     *            The maximum number of deletes outstanding at once.
+     */
+    public BulkDeleter(AmazonS3 s3, ExecutorService threadPool, int maxInFlight) {
+        this(s3, threadPool, maxInFlight, false);
+    }
+
+    private BulkDeleter(AmazonS3 s3, ExecutorService threadPool, int maxInFlight, boolean ownsThreadPool) {
+        if (maxInFlight < 1) throw new IllegalArgumentException("maxInFlight must be at least one");
+        this.s3 = s3;
+        this.threadPool = threadPool;
+        this.maxInFlight = maxInFlight;
+        this.ownsThreadPool = ownsThreadPool;
+    }
+
+    /**
+     * Deletes the objects with the specified keys, blocking until all the
+     * deletes have completed.
+     *
+     * @param bucketName
+     *            The name of the bucket containing the objects.
+     * @param keys
+     *            The keys of the objects to delete.
+     *
+     * @return The outcome of the bulk delete.
+     */
+    public BulkDeleteResult deleteKeys(final String bucketName, final Iterator<String> keys) {
+        return execute(new Iterator<ObjectToDelete>() {
+            public boolean hasNext() {
+                return keys.hasNext();
+            }
+
+            public ObjectToDelete next() {
+                return new ObjectToDelete(bucketName, keys.next(), null);
+            }
+
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        });
+    }
+
+    /**
+     * Deletes every object whose key starts with the specified prefix,
+     * blocking until all the deletes have completed.
+     *
+     * @param bucketName
+     *            The name of the bucket containing the objects.
+     * @param prefix
+     *            The prefix of the keys to delete, or null to empty the
+     *            bucket.
+     *
+     * @return The outcome of the bulk delete.
+     */
+    public BulkDeleteResult deleteObjects(String bucketName, String prefix) {
+        return deleteObjects(s3.listObjects(bucketName, prefix));
+    }
+
+    /**
+     * Deletes every object in the specified listing and in all the listings
+     * that follow it, blocking until all the deletes have completed.
+     *
+     * @param objectListing
+     *            The first listing of objects to delete.
+     *
+     * @return The outcome of the bulk delete.
+     */
+    public BulkDeleteResult deleteObjects(ObjectListing objectListing) {
+        return execute(new ObjectListingIterator(objectListing));
+    }
+
+    /**
+     * Deletes every version of every object whose key starts with the
+     * specified prefix, blocking until all the deletes have completed.
+     *
+     * @param bucketName
+     *            The name of the versioned bucket containing the objects.
+     * @param prefix
+     *            The prefix of the keys to delete, or null to empty the
+     *            bucket.
+     *
+     * @return The outcome of the bulk delete.
+     */
+    public BulkDeleteResult deleteVersions(String bucketName, String prefix) {
+        return deleteVersions(s3.listVersions(bucketName, prefix));
+    }
+
+    /**
+     * Deletes every object version in the specified listing and in all the
+     * listings that follow it, blocking until all the deletes have completed.
+     *
+     * @param versionListing
+     *            The first listing of object versions to delete.
+     *
+     * @return The outcome of the bulk delete.
+     */
+    public BulkDeleteResult deleteVersions(VersionListing versionListing) {
+        return execute(new VersionListingIterator(versionListing));
+    }
+
+    /**
+     * Retries the failed deletes of a previous bulk delete, blocking until all
+     * the deletes have completed.
+     *
+     * @param previousResult
+     *            The result of a previous bulk delete.
+     *
+     * @return The outcome of the retried deletes.
+     */
+    public BulkDeleteResult retryFailures(BulkDeleteResult previousResult) {
+        List<ObjectToDelete> objects = new ArrayList<ObjectToDelete>();
+        for (FailedDelete failure : previousResult.getFailures()) {
+            objects.add(new ObjectToDelete(failure.getBucketName(), failure.getKey(), failure.getVersionId()));
+        }
+        return execute(objects.iterator());
+    }
+
+    /**
+     * Shuts down this deleter. The thread pool is only shut down if it was
+     * created by this deleter; the client is never shut down.
+     */
+    public void shutdown() {
+        if (ownsThreadPool) threadPool.shutdown();
+    }
+
+    private BulkDeleteResult execute(Iterator<ObjectToDelete> objects) {
+        long startTime = System.currentTimeMillis();
+        final AtomicLong deletedCount = new AtomicLong();
+        final List<FailedDelete> failures = Collections.synchronizedList(new ArrayList<FailedDelete>());
+        final Semaphore window = new Semaphore(maxInFlight);
+
+        try {
+            try {
+                while (objects.hasNext()) {
+                    final ObjectToDelete object = objects.next();
+                    window.acquire();
+                    try {
+                        threadPool.execute(new Runnable() {
+                            public void run() {
+                                try {
+                                    object.delete(s3);
+                                    deletedCount.incrementAndGet();
+                                } catch (Exception e) {
+                                    failures.add(new FailedDelete(object.bucketName, object.key, object.versionId, e));
+                                } finally {
+                                    window.release();
+                                }
+                            }
+                        });
+                    } catch (RejectedExecutionException e) {
+                        window.release();
+                        throw e;
+                    }
+                }
+            } finally {
+                // Wait for outstanding deletes, even if listing failed
+                window.acquire(maxInFlight);
+                window.release(maxInFlight);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException("Interrupted while deleting objects", e);
+        }
+
+        BulkDeleteResult result = new BulkDeleteResult(deletedCount.get(),
+                new ArrayList<FailedDelete>(failures), System.currentTimeMillis() - startTime);
+        log.debug(result);
+        return result;
+    }
+
+    /**
+     * An object, or object version, to delete.
+     */
+    private static final class ObjectToDelete {
+        private final String bucketName;
+        private final String key;
+        private final String versionId;
+
+        private ObjectToDelete(String bucketName, String key, String versionId) {
+            this.bucketName = bucketName;
+            this.key = key;
+            this.versionId = versionId;
+        }
+
+        private void delete(AmazonS3 s3) {
+            if (versionId == null) {
+                s3.deleteObject(bucketName, key);
+            } else {
+                s3.deleteVersion(bucketName, key, versionId);
+            }
+        }
+    }
+
+    /**
+     * Iterates over the objects in a listing, fetching the following listings
+     * as needed.
+     */
+    private final class ObjectListingIterator implements Iterator<ObjectToDelete> {
+        private ObjectListing listing;
+        private int index;
+
+        private ObjectListingIterator(ObjectListing listing) {
+            this.listing = listing;
+        }
+
+        public boolean hasNext() {
+            while (index >= listing.getObjectSummaries().size() && listing.isTruncated()) {
+                listing = s3.listNextBatchOfObjects(listing);
+                index = 0;
+            }
+            return index < listing.getObjectSummaries().size();
+        }
+
+        public ObjectToDelete next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            S3ObjectSummary summary = listing.getObjectSummaries().get(index++);
+            return new ObjectToDelete(summary.getBucketName(), summary.getKey(), null);
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Iterates over the object versions in a listing, fetching the following
+     * listings as needed.
+     */
+    private final class VersionListingIterator implements Iterator<ObjectToDelete> {
+        private VersionListing listing;
+        private int index;
+
+        private VersionListingIterator(VersionListing listing) {
+            this.listing = listing;
+        }
+
+        public boolean hasNext() {
+            while (index >= listing.getVersionSummaries().size() && listing.isTruncated()) {
+                listing = s3.listNextBatchOfVersions(listing);
+                index = 0;
+            }
+            return index < listing.getVersionSummaries().size();
+        }
+
+        public ObjectToDelete next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            S3VersionSummary summary = listing.getVersionSummaries().get(index++);
+            return new ObjectToDelete(summary.getBucketName(), summary.getKey(), summary.getVersionId());
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+}
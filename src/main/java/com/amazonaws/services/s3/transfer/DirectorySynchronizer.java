@@ -0,0 +1,411 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer;
+
+import java.io.File;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3EncryptionClient;
+import com.amazonaws.services.s3.internal.Mimetypes;
+import com.amazonaws.services.s3.model.ListObjectsRequest;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.transfer.internal.FileTransferWindow;
+import com.amazonaws.services.s3.transfer.internal.MultipartUploadCallable;
+import com.amazonaws.services.s3.transfer.internal.TransferManagerUtils;
+import com.amazonaws.services.s3.transfer.model.SyncResult;
+
+/**
+ * Incrementally synchronizes a local directory tree to a key prefix in
+ * Amazon S3, uploading only the files that are new or have changed and,
+ * optionally, deleting the objects whose files have been removed.
+ * <p>
+ * The object listing and the local tree are both streamed in key order and
+ * merge-joined, so neither side has to be held in memory. A file is
+ * considered unchanged when its size matches the object's and either its MD5
+ * digest matches the object's ETag or, for objects uploaded in parts (whose
+ * ETag isn't an MD5 digest), it hasn't been modified since the object was.
+ * Digests come from a {@link FileMd5Cache}; backing the cache with a file
+ * means unchanged files aren't read again on the next run.
+ * <p>
+ * Uploads and deletes run in the transfer manager's thread pool. Individual
+ * failures don't stop the synchronization; their keys are reported in the
+ * returned {@link SyncResult}.
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * FileMd5Cache md5Cache = new FileMd5Cache(new File(&quot;backup.md5&quot;));
+ * DirectorySynchronizer synchronizer = new DirectorySynchronizer(tx, md5Cache);
+ * SyncResult result = synchronizer.synchronize(myDirectory, myBucket,
+ * &quot;backup/&quot;, true);
+ * md5Cache.save();
+ * </pre>
+ */
+public class DirectorySynchronizer {
+
+    private static final Log log = LogFactory.getLog(DirectorySynchronizer.class);
+
+    /** Orders keys the way Amazon S3 lists them (by UTF-8 bytes). */
+    private static final Comparator<String> KEY_ORDER = new Comparator<String>() {
+        public int compare(String a, String b) {
+            int length = Math.min(a.length(), b.length());
+            for (int i = 0; i < length; i++) {
+                char ca = a.charAt(i);
+                char cb = b.charAt(i);
+                if (ca == cb) continue;
+                // Code point order matches UTF-8 byte order, UTF-16 code unit order doesn't
+                if (isSurrogate(ca) != isSurrogate(cb)) {
+                    return isSurrogate(ca) ? 1 : -1;
+                }
+                return ca - cb;
+            }
+            return a.length() - b.length();
+        }
+
+        private boolean isSurrogate(char c) {
+            return c >= '\uD800' && c <= '\uDFFF';
+        }
+    };
+
+    private final TransferManager transferManager;
+    private final FileMd5Cache md5Cache;
+
+    /**
+     * Constructs a new synchronizer that uses the client and thread pool of
+     * the specified transfer manager, and an in-memory digest cache.
+     *
+     * @param transferManager
+     *            The transfer manager to use for uploads and deletes.
+     */
+    public DirectorySynchronizer(TransferManager transferManager) {
+        this(transferManager, new FileMd5Cache());
+    }
+
+    /**
+     * Constructs a new synchronizer that uses the client and thread pool of
+     * the specified transfer manager, and the specified digest cache.
+     *
+     * @param transferManager
+     *            The transfer manager to use for uploads and deletes.
+     * @param md5Cache
+     *            The cache of local file digests.
+     */
+    public DirectorySynchronizer(TransferManager transferManager, FileMd5Cache md5Cache) {
+        this.transferManager = transferManager;
+        this.md5Cache = md5Cache;
+    }
+
+    /**
+     * Synchronizes the specified directory tree to the specified key prefix,
+     * blocking until all the uploads and deletes have completed.
+     *
+     * @param directory
+     *            The local directory to synchronize from.
+     * @param bucketName
+     *            The name of the bucket to synchronize to.
+     * @param virtualDirectoryKeyPrefix
+     *            The key prefix to synchronize to, or <code>null</code> or an
+     *            empty string for the root of the bucket.
+     * @param deleteRemovedFiles
+     *            Whether to delete the objects under the prefix that have no
+     *            matching local file.
+     *
+     * @return The outcome of the synchronization.
+     *
+     * @throws AmazonClientException
+     *             If the bucket can't be listed.
+     */
+    public SyncResult synchronize(File directory, String bucketName, String virtualDirectoryKeyPrefix,
+            boolean deleteRemovedFiles) {
+        if (directory == null || !directory.isDirectory()) {
+            throw new IllegalArgumentException("Must provide a directory to synchronize");
+        }
+
+        String keyPrefix = virtualDirectoryKeyPrefix;
+        if (keyPrefix == null) keyPrefix = "";
+        if (keyPrefix.length() > 0 && !keyPrefix.endsWith("/")) keyPrefix += "/";
+
+        Sync sync = new Sync(bucketName, keyPrefix);
+        long startTime = System.currentTimeMillis();
+
+        LocalFileIterator localFiles = new LocalFileIterator(directory);
+        RemoteObjectIterator remoteObjects = new RemoteObjectIterator(bucketName, keyPrefix);
+
+        try {
+            try {
+                LocalFile local = localFiles.next();
+                S3ObjectSummary remote = remoteObjects.next();
+                while (local != null || remote != null) {
+                    int comparison;
+                    if (local == null) comparison = 1;
+                    else if (remote == null) comparison = -1;
+                    else comparison = KEY_ORDER.compare(local.relativeKey, remote.getKey().substring(keyPrefix.length()));
+
+                    if (comparison < 0) {
+                        sync.upload(local.file, keyPrefix + local.relativeKey);
+                        local = localFiles.next();
+                    } else if (comparison > 0) {
+                        if (deleteRemovedFiles) sync.delete(remote.getKey());
+                        remote = remoteObjects.next();
+                    } else {
+                        sync.compare(local.file, remote);
+                        local = localFiles.next();
+                        remote = remoteObjects.next();
+                    }
+                }
+            } finally {
+                sync.window.awaitCompletion();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException("Interrupted while synchronizing " + directory, e);
+        }
+
+        SyncResult result = new SyncResult(sync.uploadedCount.get(), sync.deletedCount.get(),
+                sync.unchangedCount.get(), sync.window.getFailures(), System.currentTimeMillis() - startTime);
+        log.debug(result);
+        return result;
+    }
+
+    /**
+     * The state of one synchronization.
+     */
+    private final class Sync {
+        private final AmazonS3 s3 = transferManager.getAmazonS3Client();
+        private final ThreadPoolExecutor threadPool = transferManager.getThreadPool();
+        private final boolean isUsingEncryption = s3 instanceof AmazonS3EncryptionClient;
+        private final FileTransferWindow window = new FileTransferWindow(threadPool, threadPool.getMaximumPoolSize());
+
+        private final String bucketName;
+        private final String keyPrefix;
+
+        private final AtomicLong uploadedCount = new AtomicLong();
+        private final AtomicLong deletedCount = new AtomicLong();
+        private final AtomicLong unchangedCount = new AtomicLong();
+
+        private Sync(String bucketName, String keyPrefix) {
+            this.bucketName = bucketName;
+            this.keyPrefix = keyPrefix;
+        }
+
+        /**
+         * Uploads a new file. Large files are uploaded in parts from this
+         * thread, the parts themselves being spread across the thread pool.
+         */
+        private void upload(final File file, final String key) throws InterruptedException {
+            if (isMultipart(file)) {
+                window.execute(key, createUploadTask(file, key));
+            } else {
+                window.submit(key, createUploadTask(file, key));
+            }
+        }
+
+        private void delete(final String key) throws InterruptedException {
+            window.submit(key, new Callable<Void>() {
+                public Void call() throws Exception {
+                    s3.deleteObject(bucketName, key);
+                    deletedCount.incrementAndGet();
+                    return null;
+                }
+            });
+        }
+
+        /**
+         * Uploads a file that already has an object, if they differ. Files
+         * whose size differs are uploaded straight away; otherwise the
+         * comparison (which may need to hash the file) runs along with the
+         * upload in the thread pool, or in this thread for large files.
+         */
+        private void compare(final File file, final S3ObjectSummary remote) throws InterruptedException {
+            if (!isUsingEncryption && file.length() != remote.getSize()) {
+                upload(file, remote.getKey());
+                return;
+            }
+
+            final Callable<Void> uploadTask = createUploadTask(file, remote.getKey());
+            Callable<Void> compareTask = new Callable<Void>() {
+                public Void call() throws Exception {
+                    if (hasChanged(file, remote)) {
+                        uploadTask.call();
+                    } else {
+                        unchangedCount.incrementAndGet();
+                    }
+                    return null;
+                }
+            };
+
+            if (isMultipart(file)) {
+                window.execute(remote.getKey(), compareTask);
+            } else {
+                window.submit(remote.getKey(), compareTask);
+            }
+        }
+
+        /**
+         * Returns true if the file differs from the object. Sizes are known
+         * to be equal, except with client side encryption, where neither
+         * sizes nor ETags can be compared with the plaintext file, so only
+         * modification times are.
+         */
+        private boolean hasChanged(File file, S3ObjectSummary remote) {
+            String eTag = remote.getETag();
+            if (!isUsingEncryption && eTag != null && eTag.indexOf('-') < 0) {
+                return !eTag.equalsIgnoreCase(md5Cache.getMd5Hex(file));
+            }
+
+            // Multipart ETags aren't digests of the whole object
+            return remote.getLastModified() == null
+                || file.lastModified() > remote.getLastModified().getTime();
+        }
+
+        private boolean isMultipart(File file) {
+            return file.length() > transferManager.getConfiguration().getMultipartUploadThreshold();
+        }
+
+        private Callable<Void> createUploadTask(final File file, final String key) {
+            return new Callable<Void>() {
+                public Void call() throws Exception {
+                    ObjectMetadata metadata = new ObjectMetadata();
+                    metadata.setContentLength(file.length());
+                    metadata.setContentType(Mimetypes.getInstance().getMimetype(file));
+
+                    PutObjectRequest putObjectRequest = new PutObjectRequest(bucketName, key, file)
+                        .withMetadata(metadata);
+                    transferManager.appendUserAgent(putObjectRequest, null);
+
+                    if (TransferManagerUtils.shouldUseMultipartUpload(putObjectRequest, transferManager.getConfiguration())) {
+                        new MultipartUploadCallable(transferManager, threadPool, putObjectRequest, null).call();
+                    } else {
+                        String eTag = s3.putObject(putObjectRequest).getETag();
+                        // A single part upload's ETag is the digest of the file
+                        if (!isUsingEncryption && eTag != null) md5Cache.put(file, eTag);
+                    }
+                    uploadedCount.incrementAndGet();
+                    return null;
+                }
+            };
+        }
+    }
+
+    /**
+     * A local file, with its path relative to the synchronized directory as a
+     * key suffix ('/' separated, with a trailing '/' for directories).
+     */
+    private static final class LocalFile {
+        private final File file;
+        private final String relativeKey;
+
+        private LocalFile(File file, String relativeKey) {
+            this.file = file;
+            this.relativeKey = relativeKey;
+        }
+    }
+
+    /**
+     * Walks a directory tree, returning its files in key order.
+     * <p>
+     * Pending files and directories are kept in a priority queue ordered by
+     * key. A directory's key ("dir/") sorts before the keys of all its
+     * descendants, so it's only expanded once everything that sorts before
+     * it has been returned; this yields a global key order (which plain
+     * depth first traversal doesn't, since "dir-x" sorts before "dir/a")
+     * while only holding the frontier of the walk in memory.
+     */
+    private static final class LocalFileIterator {
+        private final PriorityQueue<LocalFile> pending = new PriorityQueue<LocalFile>(64, new Comparator<LocalFile>() {
+            public int compare(LocalFile a, LocalFile b) {
+                return KEY_ORDER.compare(a.relativeKey, b.relativeKey);
+            }
+        });
+
+        private LocalFileIterator(File directory) {
+            addChildren(directory, "");
+        }
+
+        /**
+         * Returns the next file in key order, or null if there are none left.
+         */
+        private LocalFile next() {
+            while (!pending.isEmpty()) {
+                LocalFile next = pending.poll();
+                if (next.file.isDirectory()) {
+                    addChildren(next.file, next.relativeKey);
+                } else {
+                    return next;
+                }
+            }
+            return null;
+        }
+
+        private void addChildren(File directory, String relativeKey) {
+            File[] children = directory.listFiles();
+            if (children == null) return;
+            for (File child : children) {
+                if (child.isDirectory()) {
+                    pending.add(new LocalFile(child, relativeKey + child.getName() + "/"));
+                } else if (child.isFile()) {
+                    pending.add(new LocalFile(child, relativeKey + child.getName()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Iterates over the objects under a key prefix, fetching the following
+     * listings as needed and skipping directory placeholders.
+     */
+    private final class RemoteObjectIterator {
+        private ObjectListing listing;
+        private int index;
+
+        private RemoteObjectIterator(String bucketName, String keyPrefix) {
+            ListObjectsRequest listObjectsRequest = new ListObjectsRequest()
+                .withBucketName(bucketName)
+                .withPrefix(keyPrefix);
+            this.listing = transferManager.getAmazonS3Client().listObjects(
+                    transferManager.appendUserAgent(listObjectsRequest, null));
+        }
+
+        /**
+         * Returns the next object in key order, or null if there are none
+         * left.
+         */
+        private S3ObjectSummary next() {
+            while (true) {
+                while (index >= listing.getObjectSummaries().size() && listing.isTruncated()) {
+                    listing = transferManager.getAmazonS3Client().listNextBatchOfObjects(listing);
+                    index = 0;
+                }
+                if (index >= listing.getObjectSummaries().size()) return null;
+
+                S3ObjectSummary summary = listing.getObjectSummaries().get(index++);
+                if (!summary.getKey().endsWith("/")) return summary;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.internal.ServiceUtils;
+
+/**
+ * Cache of the MD5 digests of local files, so that files which haven't
+ * changed don't have to be read and hashed again every time they're compared
+ * with objects in Amazon S3.
+ * <p>
+ * A cached digest is only used while the file's length and last modified time
+ * are the same as when the digest was computed. The cache can be loaded from
+ * and saved to a file, so that digests carry over from one run of a
+ * periodic job to the next.
+ * <p>
+ * Instances of this class are thread safe.
+ *
+ * @see DirectorySynchronizer
+ */
+public class FileMd5Cache {
+
+    /** The file this cache is loaded from and saved to, if any. */
+    private final File cacheFile;
+
+    /** Cached digests, keyed by absolute file path. */
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Creates a new, empty cache that is only kept in memory.
+     */
+    public FileMd5Cache() {
+        this.cacheFile = null;
+    }
+
+    /**
+     * Creates a new cache backed by the specified file, loading any digests
+     * previously saved to it.
+     *
+     * @param cacheFile
+     *            The file to load the cache from and save it to. It doesn't
+     *            have to exist yet.
+     *
+     * @throws AmazonClientException
+     *             If the cache file exists but can't be read.
+     */
+    public FileMd5Cache(File cacheFile) {
+        this.cacheFile = cacheFile;
+        if (cacheFile.exists()) load();
+    }
+
+    /**
+     * Returns the hex encoded MD5 digest of the specified file, computing it
+     * if the file isn't cached or has changed since it was cached.
+     *
+     * @param file
+     *            The file to digest.
+     *
+     * @return The hex encoded MD5 digest of the file.
+     *
+     * @throws AmazonClientException
+     *             If the file can't be read.
+     */
+    public String getMd5Hex(File file) {
+        String path = file.getAbsolutePath();
+        long length = file.length();
+        long lastModified = file.lastModified();
+
+        Entry entry = entries.get(path);
+        if (entry != null && entry.length == length && entry.lastModified == lastModified) {
+            hitCount.incrementAndGet();
+            return entry.md5Hex;
+        }
+        missCount.incrementAndGet();
+
+        String md5Hex;
+        try {
+            md5Hex = ServiceUtils.toHex(ServiceUtils.computeMD5Hash(new FileInputStream(file)));
+        } catch (Exception e) {
+            throw new AmazonClientException("Unable to calculate MD5 hash of " + file + ": " + e.getMessage(), e);
+        }
+        entries.put(path, new Entry(length, lastModified, md5Hex));
+        return md5Hex;
+    }
+
+    /**
+     * Records the digest of the specified file, as it currently is, for
+     * example when the digest has been returned by Amazon S3 after uploading
+     * the file.
+     *
+     * @param file
+     *            The file the digest was computed from.
+     * @param md5Hex
+     *            The hex encoded MD5 digest of the file.
+     */
+    public void put(File file, String md5Hex) {
+        entries.put(file.getAbsolutePath(), new Entry(file.length(), file.lastModified(), md5Hex.toLowerCase()));
+    }
+
+    /**
+     * Returns the number of cached digests.
+     *
+     * @return The number of cached digests.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of digests that were served from the cache.
+     *
+     * @return The number of cache hits.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns the number of digests that had to be computed.
+     *
+     * @return The number of cache misses.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Saves this cache to its backing file. Entries for files that no longer
+     * exist are dropped.
+     *
+     * @throws IllegalStateException
+     *             If this cache isn't backed by a file.
+     * @throws AmazonClientException
+     *             If the cache file can't be written.
+     */
+    public void save() {
+        if (cacheFile == null) throw new IllegalStateException("This cache isn't backed by a file");
+
+        Properties properties = new Properties();
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            if (!new File(entry.getKey()).exists()) continue;
+            Entry value = entry.getValue();
+            properties.setProperty(entry.getKey(), value.length + "," + value.lastModified + "," + value.md5Hex);
+        }
+
+        OutputStream outputStream = null;
+        try {
+            outputStream = new FileOutputStream(cacheFile);
+            properties.store(outputStream, "MD5 digests of local files");
+        } catch (IOException e) {
+            throw new AmazonClientException("Unable to save MD5 cache to " + cacheFile + ": " + e.getMessage(), e);
+        } finally {
+            try {if (outputStream != null) outputStream.close();} catch (Exception e) {}
+        }
+    }
+
+    private void load() {
+        Properties properties = new Properties();
+        InputStream inputStream = null;
+        try {
+            inputStream = new FileInputStream(cacheFile);
+            properties.load(inputStream);
+        } catch (IOException e) {
+            throw new AmazonClientException("Unable to load MD5 cache from " + cacheFile + ": " + e.getMessage(), e);
+        } finally {
+            try {if (inputStream != null) inputStream.close();} catch (Exception e) {}
+        }
+
+        for (String path : properties.stringPropertyNames()) {
+            String[] fields = properties.getProperty(path).split(",");
+            if (fields.length != 3) continue;
+            try {
+                entries.put(path, new Entry(Long.parseLong(fields[0]), Long.parseLong(fields[1]), fields[2]));
+            } catch (NumberFormatException e) {
+                // Skip corrupt entries; the file will just be hashed again
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final long length;
+        private final long lastModified;
+        private final String md5Hex;
+
+        private Entry(long length, long lastModified, String md5Hex) {
+            this.length = length;
+            this.lastModified = lastModified;
+            this.md5Hex = md5Hex;
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer;
+
+import com.amazonaws.services.s3.transfer.internal.ProgressListenerChain;
+import com.amazonaws.services.s3.transfer.internal.TransferProgressImpl;
+
+/**
+ * Represents an asynchronous upload of a local directory to Amazon S3.
+ * <p>
+ * All the files are tracked by this single transfer: its progress covers the
+ * bytes of every file, and it completes once every file has been uploaded, or
+ * fails if any of them couldn't be. Progress listeners added to this
+ * transfer are notified when the whole transfer starts, completes or fails;
+ * use {@link #getProgress()} to follow the bytes transferred.
+ * <p>
+ * See {@link TransferManager} for more information about creating transfers.
+ *
+ * @see TransferManager#uploadDirectory(String, String, java.io.File, boolean)
+ */
+public class MultipleFileUpload extends Transfer {
+
+    private final String bucketName;
+    private final String keyPrefix;
+
+    protected MultipleFileUpload(String description,
+           TransferProgressImpl transferProgressInternalState,
+           ProgressListenerChain progressListenerChain,
+           String bucketName, String keyPrefix) {
+        super(description, transferProgressInternalState, progressListenerChain);
+        this.bucketName = bucketName;
+        this.keyPrefix = keyPrefix;
+    }
+
+    /**
+     * Returns the name of the bucket the files are uploaded to.
+     *
+     * @return The name of the bucket.
+     */
+    public String getBucketName() {
+        return bucketName;
+    }
+
+    /**
+     * Returns the common key prefix under which the files are stored.
+     *
+     * @return The common key prefix under which the files are stored.
+     */
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+}
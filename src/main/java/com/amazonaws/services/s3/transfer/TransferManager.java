@@ -30,19 +30,27 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.internal.Mimetypes;
 import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
 import com.amazonaws.services.s3.model.ListMultipartUploadsRequest;
 import com.amazonaws.services.s3.model.MultipartUpload;
 import com.amazonaws.services.s3.model.MultipartUploadListing;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.internal.CopyCallable;
+import com.amazonaws.services.s3.transfer.internal.CopyImpl;
+import com.amazonaws.services.s3.transfer.internal.DownloadDirectoryCallable;
 import com.amazonaws.services.s3.transfer.internal.MultipartUploadCallable;
+import com.amazonaws.services.s3.transfer.internal.MultipleFileDownloadImpl;
+import com.amazonaws.services.s3.transfer.internal.MultipleFileUploadImpl;
 import com.amazonaws.services.s3.transfer.internal.ProgressListenerChain;
 import com.amazonaws.services.s3.transfer.internal.PutObjectCallable;
 import com.amazonaws.services.s3.transfer.internal.TransferManagerUtils;
 import com.amazonaws.services.s3.transfer.internal.TransferProgressImpl;
 import com.amazonaws.services.s3.transfer.internal.TransferProgressUpdatingListener;
 import com.amazonaws.services.s3.transfer.internal.TransferStateUpdatingCallable;
+import com.amazonaws.services.s3.transfer.internal.UploadDirectoryCallable;
 import com.amazonaws.services.s3.transfer.internal.UploadImpl;
+import com.amazonaws.services.s3.transfer.model.CopyResult;
 import com.amazonaws.services.s3.transfer.model.UploadResult;
 import com.amazonaws.util.VersionInfoUtils;
 
@@ -196,6 +204,13 @@ public class TransferManager {
         return s3;
     }
 
+    /**
+     * Returns the thread pool in which transfers are executed.
+     */
+    ThreadPoolExecutor getThreadPool() {
+        return threadPool;
+    }
+
     /**
      * <p>
      * Schedules a new transfer to upload options to Amazon S3. This method is
@@ -203,14 +218,16 @@ public class TransferManager {
      * finished).
      * </p>
      * <p>
-     * When uploading options from a stream, callers <b>must</b> supply the size of
+     * When uploading options from a stream, callers should supply the size of
      * options in the stream through the content length field in the
      * <code>ObjectMetadata</code> parameter.
      * If no content length is specified for the input
-     * stream, then TransferManager will attempt to buffer all the stream
-     * contents in memory and upload the options as a traditional, single part
-     * upload. Because the entire stream contents must be buffered in memory,
-     * this can be very expensive, and should be avoided whenever possible.
+     * stream, then TransferManager reads the stream one part (of the minimum
+     * upload part size) at a time, holding only that part in memory. A
+     * stream that ends within the first part is uploaded as a traditional,
+     * single part upload; longer streams are uploaded as a multipart upload,
+     * one part after the other, so they can't be uploaded in parallel and
+     * are limited to the maximum number of parts times the part size.
      * </p>
      * <p>
      * Use the returned <code>Upload<code> object to query the progress of the
@@ -358,12 +375,214 @@ public class TransferManager {
             callable = new PutObjectCallable(s3, putObjectRequest);
         }
 
-        callable = new TransferStateUpdatingCallable(callable, upload);
+        callable = new TransferStateUpdatingCallable<UploadResult>(callable, upload);
+        upload.setFuture(threadPool.submit(callable));
+
+        return upload;
+    }
+
+    /**
+     * <p>
+     * Schedules a new transfer to upload every file in a local directory to
+     * Amazon S3. This method is non-blocking and returns immediately (i.e.
+     * before the upload has finished).
+     * </p>
+     * <p>
+     * Each file is stored under the specified key prefix followed by its
+     * path relative to the directory, using '/' as the separator. Files are
+     * scheduled across this transfer manager's thread pool as the directory
+     * is processed; files over the multipart upload threshold are uploaded as
+     * multipart uploads. The whole directory is tracked by the single
+     * returned <code>MultipleFileUpload</code>, whose progress covers the
+     * bytes of every file.
+     * </p>
+     *
+     * @param bucketName
+     *            The name of the bucket to upload the files to.
+     * @param virtualDirectoryKeyPrefix
+     *            The key prefix of the virtual directory to upload to, or
+     *            <code>null</code> or an empty string to upload to the root
+     *            of the bucket.
+     * @param directory
+     *            The directory to upload.
+     * @param includeSubdirectories
+     *            Whether to include the files of subdirectories, recursively.
+     *
+     * @return A new <code>MultipleFileUpload</code> object to use to check
+     * 		   the state of the upload, listen for progress notifications,
+     * 		   and otherwise manage the upload.
+     *
+     * @throws IllegalArgumentException
+     *             If the specified directory doesn't exist or isn't a
+     *             directory.
+     */
+    public MultipleFileUpload uploadDirectory(String bucketName, String virtualDirectoryKeyPrefix,
+            File directory, boolean includeSubdirectories) {
+        if (directory == null || !directory.isDirectory()) {
+            throw new IllegalArgumentException("Must provide a directory to upload");
+        }
+
+        String keyPrefix = virtualDirectoryKeyPrefix;
+        if (keyPrefix == null) keyPrefix = "";
+        if (keyPrefix.length() > 0 && !keyPrefix.endsWith("/")) keyPrefix += "/";
+
+        String description = "Uploading directory " + directory + " to " + bucketName + "/" + keyPrefix;
+        TransferProgressImpl transferProgress = new TransferProgressImpl();
+        ProgressListenerChain listenerChain = new ProgressListenerChain(notificationThreadPool);
+
+        MultipleFileUploadImpl upload = new MultipleFileUploadImpl(
+                description, transferProgress, listenerChain, bucketName, keyPrefix);
+
+        Callable<Void> callable = new UploadDirectoryCallable(this, threadPool, bucketName, keyPrefix,
+                directory, includeSubdirectories, USER_AGENT, transferProgress, listenerChain);
+        callable = new TransferStateUpdatingCallable<Void>(callable, upload);
         upload.setFuture(threadPool.submit(callable));
 
         return upload;
     }
 
+    /**
+     * <p>
+     * Schedules a new transfer to download every object under a common key
+     * prefix in Amazon S3 to a local directory. This method is non-blocking
+     * and returns immediately (i.e. before the download has finished).
+     * </p>
+     * <p>
+     * Each object is stored in the file at its key's path below the prefix,
+     * resolved against the destination directory; missing directories are
+     * created. Keys ending in '/' are treated as directory placeholders and
+     * skipped. The whole download is tracked by the single returned
+     * <code>MultipleFileDownload</code>, whose progress covers the bytes of
+     * every object.
+     * </p>
+     *
+     * @param bucketName
+     *            The name of the bucket containing the objects to download.
+     * @param keyPrefix
+     *            The key prefix of the objects to download, or
+     *            <code>null</code> to download the whole bucket.
+     * @param destinationDirectory
+     *            The directory to download the objects to.
+     *
+     * @return A new <code>MultipleFileDownload</code> object to use to check
+     * 		   the state of the download, listen for progress notifications,
+     * 		   and otherwise manage the download.
+     */
+    public MultipleFileDownload downloadDirectory(String bucketName, String keyPrefix, File destinationDirectory) {
+        if (keyPrefix == null) keyPrefix = "";
+
+        String description = "Downloading from " + bucketName + "/" + keyPrefix + " to " + destinationDirectory;
+        TransferProgressImpl transferProgress = new TransferProgressImpl();
+        ProgressListenerChain listenerChain = new ProgressListenerChain(notificationThreadPool);
+
+        MultipleFileDownloadImpl download = new MultipleFileDownloadImpl(
+                description, transferProgress, listenerChain, bucketName, keyPrefix);
+
+        Callable<Void> callable = new DownloadDirectoryCallable(s3, threadPool, configuration, bucketName, keyPrefix,
+                destinationDirectory, USER_AGENT, transferProgress, listenerChain);
+        callable = new TransferStateUpdatingCallable<Void>(callable, download);
+        download.setFuture(threadPool.submit(callable));
+
+        return download;
+    }
+
+    /**
+     * <p>
+     * Schedules a new transfer to copy an object from one Amazon S3 location
+     * to another. This method is non-blocking and returns immediately (i.e.
+     * before the copy has finished).
+     * </p>
+     * <p>
+     * See {@link #copy(CopyObjectRequest)} for more details.
+     * </p>
+     *
+     * @param sourceBucketName
+     *            The name of the bucket containing the source object to copy.
+     * @param sourceKey
+     *            The key in the source bucket under which the source object is
+     *            stored.
+     * @param destinationBucketName
+     *            The name of the bucket in which the new object will be
+     *            created. This can be the same name as the source bucket's.
+     * @param destinationKey
+     *            The key in the destination bucket under which the new object
+     *            will be created.
+     *
+     * @return A new <code>Copy<code> object to use to check
+     * 		   the state of the copy, listen for progress notifications,
+     * 		   and otherwise manage the copy.
+     *
+     * @throws AmazonClientException
+     *             If any errors are encountered in the client while making the
+     *             request or handling the response.
+     * @throws AmazonServiceException
+     *             If any errors occurred in Amazon S3 while processing the
+     *             request.
+     */
+    public Copy copy(String sourceBucketName, String sourceKey,
+            String destinationBucketName, String destinationKey)
+        throws AmazonServiceException, AmazonClientException {
+        return copy(new CopyObjectRequest(sourceBucketName, sourceKey, destinationBucketName, destinationKey));
+    }
+
+    /**
+     * <p>
+     * Schedules a new transfer to copy an object from one Amazon S3 location
+     * to another. This method is non-blocking and returns immediately (i.e.
+     * before the copy has finished).
+     * </p>
+     * <p>
+     * The data is copied within Amazon S3 and never passes through the
+     * client. Objects over the configured multipart copy threshold (see
+     * {@link TransferManagerConfiguration#setMultipartCopyThreshold(long)})
+     * are copied as a multipart upload whose parts are copied from byte
+     * ranges of the source object in parallel, which is much faster for large
+     * objects and is the only way to copy objects larger than 5 GB. Smaller
+     * objects are copied with a single copy object request.
+     * </p>
+     * <p>
+     * Use the returned <code>Copy<code> object to query the progress of the
+     * transfer, add listeners for progress events, and wait for the copy to
+     * complete.
+     * </p>
+     *
+     * @param copyObjectRequest
+     *            The request containing all the parameters for the copy.
+     *
+     * @return A new <code>Copy<code> object to use to check
+     * 		   the state of the copy, listen for progress notifications,
+     * 		   and otherwise manage the copy.
+     *
+     * @throws AmazonClientException
+     *             If any errors are encountered in the client while making the
+     *             request or handling the response.
+     * @throws AmazonServiceException
+     *             If any errors occurred in Amazon S3 while processing the
+     *             request.
+     */
+    public Copy copy(final CopyObjectRequest copyObjectRequest)
+        throws AmazonServiceException, AmazonClientException {
+
+        appendUserAgent(copyObjectRequest, USER_AGENT);
+
+        String description = "Copying object from " + copyObjectRequest.getSourceBucketName() + "/"
+                + copyObjectRequest.getSourceKey() + " to " + copyObjectRequest.getDestinationBucketName()
+                + "/" + copyObjectRequest.getDestinationKey();
+        TransferProgressImpl transferProgress = new TransferProgressImpl();
+
+        ProgressListenerChain listenerChain = new ProgressListenerChain(
+                notificationThreadPool,
+                new TransferProgressUpdatingListener(transferProgress));
+
+        CopyImpl copy = new CopyImpl(description, transferProgress, listenerChain);
+
+        Callable<CopyResult> callable = new CopyCallable(this, threadPool, copyObjectRequest, listenerChain, transferProgress);
+        callable = new TransferStateUpdatingCallable<CopyResult>(callable, copy);
+        copy.setFuture(threadPool.submit(callable));
+
+        return copy;
+    }
+
     /**
      * <p>
      * Aborts any multipart uploads that were initiated before the specified date.
@@ -33,6 +33,18 @@ public class TransferManagerConfiguration {
     /** Default size threshold for when to use multipart uploads.  */
     private static final int DEFAULT_MULTIPART_UPLOAD_THRESHOLD = 16 * MB;
 
+    /** Default minimum part size for copy parts. */
+    private static final long DEFAULT_MINIMUM_COPY_PART_SIZE = 64 * MB;
+
+    /** Default size threshold for when to use multipart copies. */
+    private static final long DEFAULT_MULTIPART_COPY_THRESHOLD = 256 * MB;
+
+    /** Default size of the ranges of encrypted downloads. */
+    private static final long DEFAULT_DOWNLOAD_RANGE_SIZE = 16 * MB;
+
+    /** Default size threshold for when to download encrypted objects in ranges. */
+    private static final long DEFAULT_RANGED_DOWNLOAD_THRESHOLD = 32 * MB;
+
     
     /**
      * The minimum part size for upload parts. Decreasing the minimum part size
@@ -57,6 +69,37 @@ public class TransferManagerConfiguration {
      */
     private int multipartUploadThreshold = DEFAULT_MULTIPART_UPLOAD_THRESHOLD;
 
+    /**
+     * The minimum part size for copy parts. Parts are copied within Amazon S3,
+     * so copy parts can be much larger than upload parts without slowing down
+     * the copy; each part is a separate request though, and smaller parts
+     * allow more of them to be copied in parallel.
+     */
+    private long minimumCopyPartSize = DEFAULT_MINIMUM_COPY_PART_SIZE;
+
+    /**
+     * The size threshold, in bytes, for when to use multipart copies. Copies
+     * of objects over this size will be split into parts copied in parallel,
+     * while copies of smaller objects will use a single copy object request.
+     */
+    private long multipartCopyThreshold = DEFAULT_MULTIPART_COPY_THRESHOLD;
+
+    /**
+     * The size of the ranges that objects downloaded through an
+     * {@link com.amazonaws.services.s3.AmazonS3EncryptionClient} are split
+     * into, to be fetched and decrypted in parallel.
+     */
+    private long downloadRangeSize = DEFAULT_DOWNLOAD_RANGE_SIZE;
+
+    /**
+     * The size threshold, in bytes, for when to download encrypted objects in
+     * ranges. Encrypted objects over this size are split into ranges fetched
+     * and decrypted in parallel, while smaller objects are downloaded with a
+     * single request. Objects that aren't encrypted are always downloaded
+     * with a single request.
+     */
+    private long rangedDownloadThreshold = DEFAULT_RANGED_DOWNLOAD_THRESHOLD;
+
     
     /**
      * Returns the minimum part size for upload parts. 
@@ -124,4 +167,103 @@ public class TransferManagerConfiguration {
     public void setMultipartUploadThreshold(int multipartUploadThreshold) {
         this.multipartUploadThreshold = multipartUploadThreshold;
     }
+
+    /**
+     * Returns the minimum part size for copy parts. Parts are copied within
+     * Amazon S3, so copy parts can be much larger than upload parts without
+     * slowing down the copy.
+     *
+     * @return The minimum part size for copy parts.
+     */
+    public long getMinimumCopyPartSize() {
+        return minimumCopyPartSize;
+    }
+
+    /**
+     * Sets the minimum part size for copy parts. Parts are copied within
+     * Amazon S3, so copy parts can be much larger than upload parts without
+     * slowing down the copy.
+     *
+     * @param minimumCopyPartSize
+     *            The minimum part size for copy parts.
+     */
+    public void setMinimumCopyPartSize(long minimumCopyPartSize) {
+        this.minimumCopyPartSize = minimumCopyPartSize;
+    }
+
+    /**
+     * Returns the size threshold in bytes for when to use multipart copies.
+     * Copies of objects over this size will be split into parts copied in
+     * parallel, while copies of smaller objects will use a single copy object
+     * request.
+     *
+     * @return The size threshold in bytes for when to use multipart copies.
+     */
+    public long getMultipartCopyThreshold() {
+        return multipartCopyThreshold;
+    }
+
+    /**
+     * Sets the size threshold in bytes for when to use multipart copies.
+     * Copies of objects over this size will be split into parts copied in
+     * parallel, while copies of smaller objects will use a single copy object
+     * request. Objects larger than 5 GB can only be copied with a multipart
+     * copy, so copies of such objects fail if the threshold is set any
+     * higher.
+     *
+     * @param multipartCopyThreshold
+     *            The size threshold in bytes for when to use multipart
+     *            copies.
+     */
+    public void setMultipartCopyThreshold(long multipartCopyThreshold) {
+        this.multipartCopyThreshold = multipartCopyThreshold;
+    }
+
+    /**
+     * Returns the size of the ranges that objects downloaded through an
+     * encryption client are split into, to be fetched and decrypted in
+     * parallel.
+     *
+     * @return The size of the ranges of encrypted downloads.
+     */
+    public long getDownloadRangeSize() {
+        return downloadRangeSize;
+    }
+
+    /**
+     * Sets the size of the ranges that objects downloaded through an
+     * encryption client are split into, to be fetched and decrypted in
+     * parallel.
+     *
+     * @param downloadRangeSize
+     *            The size of the ranges of encrypted downloads.
+     */
+    public void setDownloadRangeSize(long downloadRangeSize) {
+        this.downloadRangeSize = downloadRangeSize;
+    }
+
+    /**
+     * Returns the size threshold in bytes for when to download encrypted
+     * objects in ranges. Encrypted objects over this size are split into
+     * ranges fetched and decrypted in parallel.
+     *
+     * @return The size threshold in bytes for when to download encrypted
+     *         objects in ranges.
+     */
+    public long getRangedDownloadThreshold() {
+        return rangedDownloadThreshold;
+    }
+
+    /**
+     * Sets the size threshold in bytes for when to download encrypted
+     * objects in ranges. Encrypted objects over this size are split into
+     * ranges fetched and decrypted in parallel.
+     *
+     * @param rangedDownloadThreshold
+     *            The size threshold in bytes for when to download encrypted
+     *            objects in ranges.
+     */
+    public void setRangedDownloadThreshold(long rangedDownloadThreshold) {
+        this.rangedDownloadThreshold = rangedDownloadThreshold;
+    }
 }
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3EncryptionClient;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.CopyObjectResult;
+import com.amazonaws.services.s3.model.CopyPartRequest;
+import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.ProgressEvent;
+import com.amazonaws.services.s3.model.StorageClass;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerConfiguration;
+import com.amazonaws.services.s3.transfer.model.CopyResult;
+
+/**
+ * Copies an object within Amazon S3, either with a single copy object request
+ * or, for objects over the configured multipart copy threshold, by initiating
+ * a multipart upload and copying byte ranges of the source object into its
+ * parts in parallel.
+ */
+public class CopyCallable implements Callable<CopyResult> {
+    private final AmazonS3 s3;
+    private final ExecutorService threadPool;
+    private final CopyObjectRequest copyObjectRequest;
+
+    private static final Log log = LogFactory.getLog(CopyCallable.class);
+    private final TransferManagerConfiguration configuration;
+    private final ProgressListenerChain progressListenerChain;
+    private final TransferProgressImpl transferProgress;
+
+    public CopyCallable(TransferManager transferManager, ExecutorService threadPool, CopyObjectRequest copyObjectRequest,
+            ProgressListenerChain progressListenerChain, TransferProgressImpl transferProgress) {
+        this.s3 = transferManager.getAmazonS3Client();
+        this.configuration = transferManager.getConfiguration();
+
+        this.threadPool = threadPool;
+        this.copyObjectRequest = copyObjectRequest;
+        this.progressListenerChain = progressListenerChain;
+        this.transferProgress = transferProgress;
+    }
+
+    public CopyResult call() throws Exception {
+        fireProgressEvent(ProgressEvent.STARTED_EVENT_CODE, 0);
+
+        ObjectMetadata sourceMetadata;
+        try {
+            sourceMetadata = s3.getObjectMetadata(new GetObjectMetadataRequest(
+                    copyObjectRequest.getSourceBucketName(),
+                    copyObjectRequest.getSourceKey(),
+                    copyObjectRequest.getSourceVersionId()));
+        } catch (Exception e) {
+            fireProgressEvent(ProgressEvent.FAILED_EVENT_CODE, 0);
+            throw e;
+        }
+        long contentLength = sourceMetadata.getContentLength();
+        transferProgress.setTotalBytesToTransfer(contentLength);
+
+        /*
+         * Encrypted objects are copied as they're stored, envelope and all;
+         * an encryption client would generate a new envelope for a multipart
+         * upload, which wouldn't match the copied data.
+         */
+        boolean isUsingEncryption = s3 instanceof AmazonS3EncryptionClient;
+        if (!isUsingEncryption && TransferManagerUtils.shouldUseMultipartCopy(contentLength, configuration)) {
+            return copyInParts(sourceMetadata);
+        }
+        return copyInOneChunk(contentLength);
+    }
+
+    private CopyResult copyInOneChunk(long contentLength) {
+        CopyObjectResult copyObjectResult;
+        try {
+            copyObjectResult = s3.copyObject(copyObjectRequest);
+            if (copyObjectResult == null) {
+                throw new AmazonClientException("Unable to copy " + describeSource()
+                        + ": the source object doesn't meet the copy constraints");
+            }
+        } catch (AmazonClientException e) {
+            fireProgressEvent(ProgressEvent.FAILED_EVENT_CODE, 0);
+            throw e;
+        }
+        fireProgressEvent(ProgressEvent.COMPLETED_EVENT_CODE, contentLength);
+
+        return createCopyResult(copyObjectResult.getETag(), copyObjectResult.getVersionId());
+    }
+
+    private CopyResult copyInParts(ObjectMetadata sourceMetadata) throws Exception {
+        final String bucketName = copyObjectRequest.getDestinationBucketName();
+        final String key        = copyObjectRequest.getDestinationKey();
+
+        String uploadId = initiateMultipartUpload(sourceMetadata);
+        long contentLength = sourceMetadata.getContentLength();
+        long optimalPartSize = TransferManagerUtils.calculateOptimalCopyPartSize(contentLength, configuration);
+        log.debug("Calculated optimal copy part size: " + optimalPartSize);
+
+        try {
+            List<Future<PartETag>> futures = new ArrayList<Future<PartETag>>();
+            int partNumber = 1;
+            for (long offset = 0; offset < contentLength; offset += optimalPartSize) {
+                if (threadPool.isShutdown()) throw new CancellationException("TransferManager has been shutdown");
+                long partSize = Math.min(optimalPartSize, contentLength - offset);
+                CopyPartRequest request = createCopyPartRequest(sourceMetadata, uploadId, partNumber++, offset, partSize);
+                futures.add(threadPool.submit(new CopyPartCallable(s3, request, partSize, progressListenerChain)));
+            }
+
+            List<PartETag> partETags = new ArrayList<PartETag>();
+            collectPartETags(futures, partETags);
+
+            CompleteMultipartUploadResult completeMultipartUploadResult = s3.completeMultipartUpload(
+                    new CompleteMultipartUploadRequest(bucketName, key, uploadId, partETags));
+            fireProgressEvent(ProgressEvent.COMPLETED_EVENT_CODE, 0);
+
+            return createCopyResult(completeMultipartUploadResult.getETag(),
+                    completeMultipartUploadResult.getVersionId());
+        } catch (Exception e) {
+            fireProgressEvent(ProgressEvent.FAILED_EVENT_CODE, 0);
+
+            try {
+                s3.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, uploadId));
+            } catch (Exception e2) {
+                log.info("Unable to abort multipart upload, you may need to manually remove copied parts: " + e2.getMessage(), e2);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Initiates the multipart upload for the destination object. Unlike a
+     * copy object request, a multipart upload doesn't copy the source
+     * object's metadata, so unless new metadata has been specified, the
+     * source object's metadata is passed along explicitly.
+     */
+    private String initiateMultipartUpload(ObjectMetadata sourceMetadata) {
+        ObjectMetadata newObjectMetadata = copyObjectRequest.getNewObjectMetadata();
+        if (newObjectMetadata == null) {
+            newObjectMetadata = new ObjectMetadata();
+            newObjectMetadata.setContentType(sourceMetadata.getContentType());
+            newObjectMetadata.setContentEncoding(sourceMetadata.getContentEncoding());
+            newObjectMetadata.setCacheControl(sourceMetadata.getCacheControl());
+            newObjectMetadata.setContentDisposition(sourceMetadata.getContentDisposition());
+            newObjectMetadata.setUserMetadata(sourceMetadata.getUserMetadata());
+        }
+
+        InitiateMultipartUploadRequest initiateMultipartUploadRequest =
+            new InitiateMultipartUploadRequest(copyObjectRequest.getDestinationBucketName(), copyObjectRequest.getDestinationKey())
+                .withCannedACL(copyObjectRequest.getCannedAccessControlList())
+                .withObjectMetadata(newObjectMetadata);
+
+        if (copyObjectRequest.getStorageClass() != null) {
+            initiateMultipartUploadRequest.setStorageClass(
+                    StorageClass.fromValue(copyObjectRequest.getStorageClass()));
+        }
+
+        String uploadId = s3.initiateMultipartUpload(initiateMultipartUploadRequest).getUploadId();
+        log.debug("Initiated new multipart upload for copy: " + uploadId);
+
+        return uploadId;
+    }
+
+    /**
+     * Creates the request to copy one byte range of the source object. Every
+     * part carries the copy constraints from the original request and, unless
+     * matching ETags were already specified, the ETag of the source object as
+     * it was when the copy started, so parts of a source object that is
+     * overwritten during the copy can't be mixed together.
+     */
+    private CopyPartRequest createCopyPartRequest(ObjectMetadata sourceMetadata, String uploadId,
+            int partNumber, long offset, long partSize) {
+        CopyPartRequest request = new CopyPartRequest()
+            .withSourceBucketName(copyObjectRequest.getSourceBucketName())
+            .withSourceKey(copyObjectRequest.getSourceKey())
+            .withSourceVersionId(copyObjectRequest.getSourceVersionId())
+            .withDestinationBucketName(copyObjectRequest.getDestinationBucketName())
+            .withDestinationKey(copyObjectRequest.getDestinationKey())
+            .withUploadId(uploadId)
+            .withPartNumber(partNumber)
+            .withRange(offset, offset + partSize - 1)
+            .withModifiedSinceConstraint(copyObjectRequest.getModifiedSinceConstraint())
+            .withUnmodifiedSinceConstraint(copyObjectRequest.getUnmodifiedSinceConstraint());
+
+        List<String> matchingETags = copyObjectRequest.getMatchingETagConstraints();
+        if (matchingETags != null && !matchingETags.isEmpty()) {
+            request.setMatchingETagConstraints(new ArrayList<String>(matchingETags));
+        } else if (sourceMetadata.getETag() != null) {
+            request.withMatchingETagConstraint(sourceMetadata.getETag());
+        }
+
+        List<String> nonmatchingETags = copyObjectRequest.getNonmatchingETagConstraints();
+        if (nonmatchingETags != null) {
+            request.setNonmatchingETagConstraints(new ArrayList<String>(nonmatchingETags));
+        }
+
+        return request;
+    }
+
+    private CopyResult createCopyResult(String eTag, String versionId) {
+        CopyResult copyResult = new CopyResult();
+        copyResult.setSourceBucketName(copyObjectRequest.getSourceBucketName());
+        copyResult.setSourceKey(copyObjectRequest.getSourceKey());
+        copyResult.setDestinationBucketName(copyObjectRequest.getDestinationBucketName());
+        copyResult.setDestinationKey(copyObjectRequest.getDestinationKey());
+        copyResult.setETag(eTag);
+        copyResult.setVersionId(versionId);
+        return copyResult;
+    }
+
+    private String describeSource() {
+        return copyObjectRequest.getSourceBucketName() + "/" + copyObjectRequest.getSourceKey();
+    }
+
+    private void fireProgressEvent(int eventType, long bytesTransfered) {
+        TransferManagerUtils.fireProgressEvent(progressListenerChain, eventType, bytesTransfered);
+    }
+
+    private void collectPartETags(final List<Future<PartETag>> futures, final List<PartETag> partETags) {
+        for (Future<PartETag> future : futures) {
+            try {
+                partETags.add(future.get());
+            } catch (Exception e) {
+                throw new AmazonClientException("Unable to copy part: " + e.getCause().getMessage(), e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.util.concurrent.Callable;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CopyPartRequest;
+import com.amazonaws.services.s3.model.CopyPartResult;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.ProgressEvent;
+
+public class CopyPartCallable implements Callable<PartETag> {
+    private final AmazonS3 s3;
+    private final CopyPartRequest request;
+    private final long partSize;
+    private final ProgressListenerChain progressListenerChain;
+
+    public CopyPartCallable(AmazonS3 s3, CopyPartRequest request, long partSize, ProgressListenerChain progressListenerChain) {
+        this.s3 = s3;
+        this.request = request;
+        this.partSize = partSize;
+        this.progressListenerChain = progressListenerChain;
+    }
+
+    public PartETag call() throws Exception {
+        CopyPartResult result = s3.copyPart(request);
+        if (result == null) {
+            throw new AmazonClientException("Unable to copy part " + request.getPartNumber()
+                    + ": the source object no longer meets the copy constraints");
+        }
+
+        TransferManagerUtils.fireProgressEvent(progressListenerChain, ProgressEvent.PART_COMPLETED_EVENT_CODE, partSize);
+        return result.getPartETag();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3EncryptionClient;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsRequest;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.ProgressEvent;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.transfer.TransferManagerConfiguration;
+
+/**
+ * Downloads every object under a common key prefix in Amazon S3 into a local
+ * directory, as a single transfer.
+ * <p>
+ * Objects are downloaded with one request each, scheduled across the transfer
+ * manager's thread pool through a {@link FileTransferWindow}. Large objects
+ * downloaded through an encryption client are instead split into ranges
+ * fetched and decrypted across the thread pool, from the calling thread. Key paths
+ * below the prefix become file paths below the destination directory; keys
+ * ending in '/' (directory placeholders) are skipped, and keys that would
+ * resolve outside the destination directory fail.
+ */
+public class DownloadDirectoryCallable implements Callable<Void> {
+    private final AmazonS3 s3;
+    private final ThreadPoolExecutor threadPool;
+    private final TransferManagerConfiguration configuration;
+    private final String bucketName;
+    private final String keyPrefix;
+    private final File destinationDirectory;
+    private final String userAgent;
+    private final TransferProgressImpl transferProgress;
+    private final ProgressListenerChain progressListenerChain;
+
+    public DownloadDirectoryCallable(AmazonS3 s3, ThreadPoolExecutor threadPool, TransferManagerConfiguration configuration,
+            String bucketName, String keyPrefix, File destinationDirectory, String userAgent,
+            TransferProgressImpl transferProgress, ProgressListenerChain progressListenerChain) {
+        this.s3 = s3;
+        this.threadPool = threadPool;
+        this.configuration = configuration;
+        this.bucketName = bucketName;
+        this.keyPrefix = keyPrefix;
+        this.destinationDirectory = destinationDirectory;
+        this.userAgent = userAgent;
+        this.transferProgress = transferProgress;
+        this.progressListenerChain = progressListenerChain;
+    }
+
+    public Void call() throws Exception {
+        fireProgressEvent(ProgressEvent.STARTED_EVENT_CODE);
+
+        try {
+            List<S3ObjectSummary> summaries = listObjects();
+            long totalBytes = 0;
+            for (S3ObjectSummary summary : summaries) totalBytes += summary.getSize();
+            transferProgress.setTotalBytesToTransfer(totalBytes);
+
+            final String destinationPath = destinationDirectory.getCanonicalPath() + File.separator;
+            FileTransferWindow window = new FileTransferWindow(threadPool, threadPool.getMaximumPoolSize());
+            try {
+                for (final S3ObjectSummary summary : summaries) {
+                    if (threadPool.isShutdown()) throw new CancellationException("TransferManager has been shutdown");
+
+                    final File file = getFile(summary.getKey());
+                    Callable<Void> task = new Callable<Void>() {
+                        public Void call() throws Exception {
+                            download(summary, file, destinationPath);
+                            return null;
+                        }
+                    };
+                    if (isRangedDownload(summary)) {
+                        window.execute(summary.getKey(), task);
+                    } else {
+                        window.submit(summary.getKey(), task);
+                    }
+                }
+            } finally {
+                window.awaitCompletion();
+            }
+            window.throwIfFailed();
+        } catch (Exception e) {
+            fireProgressEvent(ProgressEvent.FAILED_EVENT_CODE);
+            throw e;
+        }
+
+        fireProgressEvent(ProgressEvent.COMPLETED_EVENT_CODE);
+        return null;
+    }
+
+    private void download(S3ObjectSummary summary, File file, String destinationPath) throws IOException {
+        if (!file.getCanonicalPath().startsWith(destinationPath)) {
+            throw new AmazonClientException("Key " + summary.getKey()
+                    + " resolves to a file outside of " + destinationDirectory);
+        }
+
+        File parent = file.getParentFile();
+        if (!parent.isDirectory() && !parent.mkdirs() && !parent.isDirectory()) {
+            throw new AmazonClientException("Unable to create directory " + parent);
+        }
+
+        GetObjectRequest getObjectRequest = new GetObjectRequest(bucketName, summary.getKey());
+        getObjectRequest.getRequestClientOptions().addClientMarker(userAgent);
+        if (isRangedDownload(summary)) {
+            // This runs on a pool thread too, but the ranged download runs any
+            // ranges the pool hasn't started itself, so sharing the pool is safe
+            ((AmazonS3EncryptionClient)s3).getObject(getObjectRequest, file, threadPool, configuration.getDownloadRangeSize());
+        } else {
+            s3.getObject(getObjectRequest, file);
+        }
+        transferProgress.updateProgress(summary.getSize());
+    }
+
+    /**
+     * Returns true if the specified object should be fetched and decrypted in
+     * ranges, in parallel.
+     */
+    private boolean isRangedDownload(S3ObjectSummary summary) {
+        return s3 instanceof AmazonS3EncryptionClient
+            && summary.getSize() > configuration.getRangedDownloadThreshold();
+    }
+
+    /**
+     * Lists every object to download, skipping directory placeholders.
+     */
+    private List<S3ObjectSummary> listObjects() {
+        List<S3ObjectSummary> summaries = new ArrayList<S3ObjectSummary>();
+
+        ListObjectsRequest listObjectsRequest = new ListObjectsRequest()
+            .withBucketName(bucketName)
+            .withPrefix(keyPrefix);
+        listObjectsRequest.getRequestClientOptions().addClientMarker(userAgent);
+
+        ObjectListing listing = s3.listObjects(listObjectsRequest);
+        while (true) {
+            for (S3ObjectSummary summary : listing.getObjectSummaries()) {
+                if (!summary.getKey().endsWith("/")) summaries.add(summary);
+            }
+            if (!listing.isTruncated()) break;
+            listing = s3.listNextBatchOfObjects(listing);
+        }
+        return summaries;
+    }
+
+    /**
+     * Returns the file for the specified key: the key's path below the key
+     * prefix, resolved against the destination directory.
+     */
+    private File getFile(String key) {
+        String relativePath = key.substring(keyPrefix.length());
+        while (relativePath.startsWith("/")) relativePath = relativePath.substring(1);
+        return new File(destinationDirectory, relativePath.replace('/', File.separatorChar));
+    }
+
+    private void fireProgressEvent(int eventType) {
+        if (progressListenerChain == null) return;
+        ProgressEvent event = new ProgressEvent(0);
+        event.setEventCode(eventType);
+        progressListenerChain.progressChanged(event);
+    }
+}
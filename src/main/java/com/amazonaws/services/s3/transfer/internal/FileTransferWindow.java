@@ -0,0 +1,127 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.amazonaws.AmazonClientException;
+
+/**
+ * Runs the individual file transfers of a directory upload or download in a
+ * thread pool, keeping at most a fixed number of them queued or running at
+ * once so that the caller walking the directory or listing doesn't get
+ * arbitrarily far ahead of the transfers.
+ * <p>
+ * A failed file transfer doesn't stop the others; failures are collected and
+ * reported once all the transfers have finished.
+ */
+public class FileTransferWindow {
+    private final ExecutorService threadPool;
+    private final int size;
+    private final Semaphore permits;
+
+    private final AtomicInteger completedCount = new AtomicInteger();
+    private final List<String> failedFiles = Collections.synchronizedList(new ArrayList<String>());
+    private volatile Exception firstFailure;
+
+    public FileTransferWindow(ExecutorService threadPool, int size) {
+        this.threadPool = threadPool;
+        this.size = Math.max(1, size);
+        this.permits = new Semaphore(this.size);
+    }
+
+    /**
+     * Schedules the transfer of a single file, blocking while the window is
+     * full.
+     *
+     * @param description
+     *            The file being transferred, used when reporting failures.
+     * @param task
+     *            The transfer to run.
+     */
+    public void submit(final String description, final Callable<?> task) throws InterruptedException {
+        permits.acquire();
+        try {
+            threadPool.execute(new Runnable() {
+                public void run() {
+                    try {
+                        execute(description, task);
+                    } finally {
+                        permits.release();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Runs the transfer of a single file in the calling thread, for transfers
+     * that parallelize themselves (ex: multipart uploads).
+     */
+    public void execute(String description, Callable<?> task) {
+        try {
+            task.call();
+            completedCount.incrementAndGet();
+        } catch (Exception e) {
+            if (firstFailure == null) firstFailure = e;
+            failedFiles.add(description);
+        }
+    }
+
+    /**
+     * Blocks until every scheduled transfer has finished.
+     */
+    public void awaitCompletion() throws InterruptedException {
+        permits.acquire(size);
+        permits.release(size);
+    }
+
+    /**
+     * Returns the number of file transfers that completed successfully.
+     */
+    public int getCompletedCount() {
+        return completedCount.get();
+    }
+
+    /**
+     * Returns the descriptions of the file transfers that failed.
+     */
+    public List<String> getFailures() {
+        synchronized (failedFiles) {
+            return new ArrayList<String>(failedFiles);
+        }
+    }
+
+    /**
+     * Throws an exception describing the failed file transfers, if any.
+     */
+    public void throwIfFailed() {
+        if (failedFiles.isEmpty()) return;
+
+        Exception cause = firstFailure;
+        throw new AmazonClientException("Unable to transfer " + failedFiles.size() + " file(s), including "
+                + failedFiles.get(0) + ": " + cause.getMessage(), cause);
+    }
+}
@@ -14,8 +14,11 @@
  */
 package com.amazonaws.services.s3.transfer.internal;
 
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutorService;
@@ -27,10 +30,13 @@ import org.apache.commons.logging.LogFactory;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3EncryptionClient;
+import com.amazonaws.services.s3.internal.crypto.JceEncryptionConstants;
 import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.CryptoCipherMode;
 import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PartETag;
 import com.amazonaws.services.s3.model.ProgressEvent;
 import com.amazonaws.services.s3.model.PutObjectRequest;
@@ -62,23 +68,38 @@ public class MultipartUploadCallable implements Callable<UploadResult> {
         final String bucketName = putObjectRequest.getBucketName();
         final String key        = putObjectRequest.getKey();
 
-        fireProgressEvent(ProgressEvent.STARTED_EVENT_CODE);
-
-        String uploadId = initiateMultipartUpload(putObjectRequest);
         boolean isUsingEncryption = s3 instanceof AmazonS3EncryptionClient;
+        boolean isUsingChainedEncryption = isUsingEncryption
+            && ((AmazonS3EncryptionClient)s3).getCryptoConfiguration().getCipherMode() != CryptoCipherMode.CTR;
 
         long optimalPartSize = TransferManagerUtils.calculateOptimalPartSize(putObjectRequest, configuration);
         if (isUsingEncryption) {
         	// When using encryption, we want to make sure our parts line up correctly along cipher block boundaries 
-        	optimalPartSize += optimalPartSize % 32;
+        	long blockSize = JceEncryptionConstants.SYMMETRIC_CIPHER_BLOCK_SIZE;
+        	optimalPartSize = (optimalPartSize + blockSize - 1) / blockSize * blockSize;
         }
         log.debug("Calculated optimal part size: " + optimalPartSize);
 
+        StreamPartReader partReader = null;
+        if (TransferManagerUtils.isStreamOfUnknownLength(putObjectRequest)) {
+            partReader = new StreamPartReader(putObjectRequest.getInputStream(), optimalPartSize);
+            if (partReader.peek().isLastPart()) {
+                // The whole stream fits in one part, so don't pay for a multipart upload
+                return putSinglePart(partReader.next());
+            }
+        }
+
+        fireProgressEvent(ProgressEvent.STARTED_EVENT_CODE);
+
+        String uploadId = initiateMultipartUpload(putObjectRequest);
+
         try {
             final List<PartETag> partETags = new ArrayList<PartETag>();
-            UploadPartRequestFactory requestFactory = new UploadPartRequestFactory(putObjectRequest, uploadId, optimalPartSize);
+            UploadPartRequestFactory requestFactory = (partReader != null)
+                ? new UploadPartRequestFactory(putObjectRequest, uploadId, partReader)
+                : new UploadPartRequestFactory(putObjectRequest, uploadId, optimalPartSize);
 
-            if (TransferManagerUtils.isUploadParallelizable(putObjectRequest, isUsingEncryption)) {
+            if (TransferManagerUtils.isUploadParallelizable(putObjectRequest, isUsingChainedEncryption)) {
                 List<Future<PartETag>> futures = new ArrayList<Future<PartETag>>();
                 while (requestFactory.hasMoreRequests()) {
                     if (threadPool.isShutdown()) throw new CancellationException("TransferManager has been shutdown");
@@ -121,6 +142,38 @@ public class MultipartUploadCallable implements Callable<UploadResult> {
         }
     }
 
+    /**
+     * Uploads a stream of unknown length that turned out to fit in a single
+     * part with a single put object request.
+     */
+    private UploadResult putSinglePart(StreamPartReader.Part part) throws Exception {
+        InputStream originalInputStream = putObjectRequest.getInputStream();
+        try {
+            // Upload a copy, so the caller's request and metadata are left as they were
+            ObjectMetadata metadata = new ObjectMetadata();
+            ObjectMetadata originalMetadata = putObjectRequest.getMetadata();
+            if (originalMetadata != null) {
+                metadata.setUserMetadata(new HashMap<String, String>(originalMetadata.getUserMetadata()));
+                for (Map.Entry<String, Object> header : originalMetadata.getRawMetadata().entrySet()) {
+                    metadata.setHeader(header.getKey(), header.getValue());
+                }
+            }
+            metadata.setContentLength(part.getLength());
+
+            PutObjectRequest singlePartRequest = new PutObjectRequest(putObjectRequest.getBucketName(),
+                    putObjectRequest.getKey(), part.getInputStream(), metadata)
+                .withCannedAcl(putObjectRequest.getCannedAcl())
+                .withStorageClass(putObjectRequest.getStorageClass())
+                .withProgressListener(putObjectRequest.getProgressListener());
+            singlePartRequest.setRequestCredentials(putObjectRequest.getRequestCredentials());
+            return new PutObjectCallable(s3, singlePartRequest).call();
+        } finally {
+            try {originalInputStream.close(); } catch (Exception e) {
+                log.warn("Unable to cleanly close input stream: " + e.getMessage(), e);
+            }
+        }
+    }
+
     private String initiateMultipartUpload(PutObjectRequest putObjectRequest) {
         InitiateMultipartUploadRequest initiateMultipartUploadRequest =
             new InitiateMultipartUploadRequest(putObjectRequest.getBucketName(), putObjectRequest.getKey())
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.util.concurrent.Future;
+
+import com.amazonaws.services.s3.transfer.MultipleFileUpload;
+
+public class MultipleFileUploadImpl extends MultipleFileUpload implements StatefulTransfer {
+    public MultipleFileUploadImpl(String description, TransferProgressImpl transferProgressInternalState,
+            ProgressListenerChain progressListenerChain, String bucketName, String keyPrefix) {
+        super(description, transferProgressInternalState, progressListenerChain, bucketName, keyPrefix);
+    }
+
+    public void setState(TransferState state) {
+        if (super.state == state) return;
+        super.state = state;
+    }
+
+    public void setFuture(Future<?> future) {
+        super.future = future;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.amazonaws.AmazonClientException;
+
+/**
+ * Splits a stream of unknown length into parts for a multipart upload,
+ * reading one part at a time.
+ * <p>
+ * Only the part being uploaded is held in memory, rather than the whole
+ * stream, and each part is uploaded with a known content length. The reader
+ * reads one byte past each part, so it can tell which part is the last one
+ * without reading the next part.
+ */
+public class StreamPartReader {
+    private final InputStream input;
+    private final int partSize;
+
+    /** The part read but not yet returned by {@link #next()}, if any */
+    private Part pending;
+
+    /** The byte read past the end of the previous part, or -1 */
+    private int lookahead = -1;
+
+    /** True once the last part has been read */
+    private boolean finished;
+
+    public StreamPartReader(InputStream input, long partSize) {
+        if (partSize > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Part size is too large to buffer in memory: " + partSize);
+        }
+        this.input = input;
+        this.partSize = (int)partSize;
+    }
+
+    /**
+     * Returns true if there are more parts to read.
+     */
+    public synchronized boolean hasNext() {
+        return pending != null || !finished;
+    }
+
+    /**
+     * Returns the next part, without consuming it, or null if there are no
+     * more parts.
+     */
+    public synchronized Part peek() {
+        if (pending == null && !finished) pending = read();
+        return pending;
+    }
+
+    /**
+     * Returns and consumes the next part, or null if there are no more parts.
+     */
+    public synchronized Part next() {
+        Part part = peek();
+        pending = null;
+        return part;
+    }
+
+    private Part read() {
+        try {
+            byte[] data = new byte[partSize];
+            int length = 0;
+            if (lookahead >= 0) {
+                data[length++] = (byte)lookahead;
+                lookahead = -1;
+            }
+            while (length < partSize) {
+                int bytesRead = input.read(data, length, partSize - length);
+                if (bytesRead < 0) break;
+                length += bytesRead;
+            }
+
+            boolean isLastPart = (length < partSize);
+            if (!isLastPart) {
+                lookahead = input.read();
+                isLastPart = (lookahead < 0);
+            }
+            finished = isLastPart;
+            return new Part(data, length, isLastPart);
+        } catch (IOException e) {
+            throw new AmazonClientException("Unable to read upload content: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * A part of the stream, held in memory.
+     */
+    public static final class Part {
+        private final byte[] data;
+        private final int length;
+        private final boolean lastPart;
+
+        private Part(byte[] data, int length, boolean lastPart) {
+            this.data = data;
+            this.length = length;
+            this.lastPart = lastPart;
+        }
+
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(data, 0, length);
+        }
+
+        public int getLength() {
+            return length;
+        }
+
+        public boolean isLastPart() {
+            return lastPart;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 
+import com.amazonaws.services.s3.model.ProgressEvent;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.transfer.TransferManagerConfiguration;
 
@@ -53,16 +54,18 @@ public class TransferManagerUtils {
 	 * 
 	 * @param putObjectRequest
 	 *            The request to check.
-	 * @param isUsingEncryption
-	 *            True if the upload is an encrypted upload, otherwise false.
+	 * @param isUsingChainedEncryption
+	 *            True if the upload is encrypted in a cipher mode that chains
+	 *            each part to the previous one (CBC), otherwise false.
 	 * 
 	 * @return True if this request can use parallel part uploads for faster
 	 *         uploads.
 	 */
-    public static boolean isUploadParallelizable(final PutObjectRequest putObjectRequest, final boolean isUsingEncryption) {
-    	// Each uploaded part in an encrypted upload depends on the encryption context
-    	// from the previous upload, so we cannot parallelize encrypted upload parts.
-    	if (isUsingEncryption) return false;
+    public static boolean isUploadParallelizable(final PutObjectRequest putObjectRequest, final boolean isUsingChainedEncryption) {
+    	// Each uploaded part in a CBC encrypted upload depends on the encryption context
+    	// from the previous upload, so we cannot parallelize those upload parts. Counter
+    	// mode parts are encrypted independently.
+    	if (isUsingChainedEncryption) return false;
 
     	// Otherwise, if there's a file, we can process the uploads concurrently.
         return (getRequestFile(putObjectRequest) != null);
@@ -111,6 +114,39 @@ public class TransferManagerUtils {
         return (long)Math.max(optimalPartSize, configuration.getMinimumUploadPartSize());
     }
 
+    /**
+     * Returns the optimal part size, in bytes, for each individual part copy
+     * in a multipart copy of an object of the specified size.
+     *
+     * @param contentLength
+     *            The size of the object being copied.
+     * @param configuration
+     *            Configuration values to use when calculating size.
+     *
+     * @return The optimal part size, in bytes, for each individual part copy
+     *         in a multipart copy.
+     */
+    public static long calculateOptimalCopyPartSize(long contentLength, TransferManagerConfiguration configuration) {
+        double optimalPartSize = Math.ceil((double)contentLength / (double)MAXIMUM_UPLOAD_PARTS);
+        return (long)Math.max(optimalPartSize, configuration.getMinimumCopyPartSize());
+    }
+
+    /**
+     * Returns true if an object of the specified size should be copied with a
+     * multipart copy (instead of a single copy object request).
+     *
+     * @param contentLength
+     *            The size of the object being copied.
+     * @param configuration
+     *            Configuration settings controlling how transfer manager
+     *            processes requests.
+     *
+     * @return True if the object should be copied with a multipart copy.
+     */
+    public static boolean shouldUseMultipartCopy(long contentLength, TransferManagerConfiguration configuration) {
+        return (contentLength > configuration.getMultipartCopyThreshold());
+    }
+
     /**
      * Returns true if the the specified request should be processed as a
      * multipart upload (instead of a single part upload).
@@ -125,10 +161,51 @@ public class TransferManagerUtils {
      *         multipart upload.
      */
     public static boolean shouldUseMultipartUpload(PutObjectRequest putObjectRequest, TransferManagerConfiguration configuration) {
+        // Streams of unknown length are read a part at a time, rather than buffered whole
+        if (isStreamOfUnknownLength(putObjectRequest)) return true;
+
         long contentLength = TransferManagerUtils.getContentLength(putObjectRequest);
         return (contentLength > configuration.getMultipartUploadThreshold());
     }
 
+    /**
+     * Returns true if the specified request uploads from a stream whose
+     * length wasn't specified in the object metadata.
+     *
+     * @param putObjectRequest
+     *            The request to check.
+     *
+     * @return True if the length of the data in this request is unknown.
+     */
+    public static boolean isStreamOfUnknownLength(PutObjectRequest putObjectRequest) {
+        return getRequestFile(putObjectRequest) == null
+            && putObjectRequest.getInputStream() != null
+            && getContentLength(putObjectRequest) < 0;
+    }
+
+    /**
+     * Fires a progress event for the specified number of bytes. Events can
+     * only carry an int's worth of bytes, so larger counts are reported in
+     * several events, with the event code on the last one.
+     *
+     * @param progressListenerChain
+     *            The listeners to notify, or null.
+     * @param eventType
+     *            The event code for the last event.
+     * @param bytesTransfered
+     *            The number of bytes transferred.
+     */
+    public static void fireProgressEvent(ProgressListenerChain progressListenerChain, int eventType, long bytesTransfered) {
+        if (progressListenerChain == null) return;
+        while (bytesTransfered > Integer.MAX_VALUE) {
+            progressListenerChain.progressChanged(new ProgressEvent(Integer.MAX_VALUE));
+            bytesTransfered -= Integer.MAX_VALUE;
+        }
+        ProgressEvent event = new ProgressEvent((int)bytesTransfered);
+        event.setEventCode(eventType);
+        progressListenerChain.progressChanged(event);
+    }
+
     /**
      * Convenience method for getting the file specified in a request.
      */
@@ -17,27 +17,26 @@ package com.amazonaws.services.s3.transfer.internal;
 import java.util.concurrent.Callable;
 
 import com.amazonaws.services.s3.transfer.Transfer.TransferState;
-import com.amazonaws.services.s3.transfer.model.UploadResult;
 
 /**
  * Wraps a Callable object and updates the state of the specified Transfer
  * as the wrapped Callable is executed, and either fails or completes
  * successfully.
  */
-public class TransferStateUpdatingCallable implements Callable<UploadResult> {
-    private final Callable<UploadResult> callable;
-    private final UploadImpl transfer;
+public class TransferStateUpdatingCallable<T> implements Callable<T> {
+    private final Callable<T> callable;
+    private final StatefulTransfer transfer;
 
-    public TransferStateUpdatingCallable(Callable<UploadResult> callable, UploadImpl transfer) {
+    public TransferStateUpdatingCallable(Callable<T> callable, StatefulTransfer transfer) {
         this.callable = callable;
         this.transfer = transfer;
     }
     
-    public UploadResult call() throws Exception {
+    public T call() throws Exception {
         transfer.setState(TransferState.InProgress);
 
         try {
-            UploadResult result = callable.call();
+            T result = callable.call();
             transfer.setState(TransferState.Completed);
             return result;
         } catch (Exception e) {
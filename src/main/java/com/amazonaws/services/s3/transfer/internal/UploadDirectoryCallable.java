@@ -0,0 +1,165 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.internal.Mimetypes;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.ProgressEvent;
+import com.amazonaws.services.s3.model.ProgressListener;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerConfiguration;
+
+/**
+ * Uploads every file in a local directory tree to Amazon S3, as a single
+ * transfer.
+ * <p>
+ * Small files are uploaded with one request each, scheduled across the
+ * transfer manager's thread pool through a {@link FileTransferWindow} so that
+ * the pool is kept busy without queuing the whole directory at once. Files
+ * over the multipart upload threshold are uploaded as multipart uploads
+ * whose parts are spread across the thread pool. Byte progress from every
+ * file is added directly to the shared transfer progress, rather than being
+ * dispatched through the progress notification thread.
+ */
+public class UploadDirectoryCallable implements Callable<Void> {
+    private final TransferManager transferManager;
+    private final AmazonS3 s3;
+    private final ThreadPoolExecutor threadPool;
+    private final TransferManagerConfiguration configuration;
+    private final String bucketName;
+    private final String keyPrefix;
+    private final File directory;
+    private final boolean includeSubdirectories;
+    private final String userAgent;
+    private final TransferProgressImpl transferProgress;
+    private final ProgressListenerChain progressListenerChain;
+
+    public UploadDirectoryCallable(TransferManager transferManager, ThreadPoolExecutor threadPool,
+            String bucketName, String keyPrefix, File directory, boolean includeSubdirectories, String userAgent,
+            TransferProgressImpl transferProgress, ProgressListenerChain progressListenerChain) {
+        this.transferManager = transferManager;
+        this.s3 = transferManager.getAmazonS3Client();
+        this.configuration = transferManager.getConfiguration();
+        this.threadPool = threadPool;
+        this.bucketName = bucketName;
+        this.keyPrefix = keyPrefix;
+        this.directory = directory;
+        this.includeSubdirectories = includeSubdirectories;
+        this.userAgent = userAgent;
+        this.transferProgress = transferProgress;
+        this.progressListenerChain = progressListenerChain;
+    }
+
+    public Void call() throws Exception {
+        fireProgressEvent(ProgressEvent.STARTED_EVENT_CODE);
+
+        try {
+            List<File> files = listFiles();
+            long totalBytes = 0;
+            for (File file : files) totalBytes += file.length();
+            transferProgress.setTotalBytesToTransfer(totalBytes);
+
+            ProgressListener byteCounter = new TransferProgressUpdatingListener(transferProgress);
+            FileTransferWindow window = new FileTransferWindow(threadPool, threadPool.getMaximumPoolSize());
+            try {
+                for (File file : files) {
+                    if (threadPool.isShutdown()) throw new CancellationException("TransferManager has been shutdown");
+
+                    PutObjectRequest putObjectRequest = createPutObjectRequest(file);
+                    putObjectRequest.setProgressListener(byteCounter);
+
+                    if (TransferManagerUtils.shouldUseMultipartUpload(putObjectRequest, configuration)) {
+                        // Multipart uploads spread their parts across the pool themselves
+                        window.execute(file.getPath(),
+                                new MultipartUploadCallable(transferManager, threadPool, putObjectRequest, null));
+                    } else {
+                        window.submit(file.getPath(), new PutObjectCallable(s3, putObjectRequest));
+                    }
+                }
+            } finally {
+                window.awaitCompletion();
+            }
+            window.throwIfFailed();
+        } catch (Exception e) {
+            fireProgressEvent(ProgressEvent.FAILED_EVENT_CODE);
+            throw e;
+        }
+
+        fireProgressEvent(ProgressEvent.COMPLETED_EVENT_CODE);
+        return null;
+    }
+
+    /**
+     * Walks the directory tree, returning every file to upload.
+     */
+    private List<File> listFiles() {
+        List<File> files = new ArrayList<File>();
+        LinkedList<File> directories = new LinkedList<File>();
+        directories.add(directory);
+
+        while (!directories.isEmpty()) {
+            File[] children = directories.removeFirst().listFiles();
+            if (children == null) continue;
+
+            for (File child : children) {
+                if (child.isFile()) {
+                    files.add(child);
+                } else if (includeSubdirectories && child.isDirectory()) {
+                    directories.add(child);
+                }
+            }
+        }
+        return files;
+    }
+
+    private PutObjectRequest createPutObjectRequest(File file) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(file.length());
+        metadata.setContentType(Mimetypes.getInstance().getMimetype(file));
+
+        PutObjectRequest putObjectRequest = new PutObjectRequest(bucketName, getKey(file), file)
+            .withMetadata(metadata);
+        putObjectRequest.getRequestClientOptions().addClientMarker(userAgent);
+        return putObjectRequest;
+    }
+
+    /**
+     * Returns the key for the specified file: the key prefix followed by the
+     * file's path relative to the uploaded directory, with '/' separators.
+     */
+    private String getKey(File file) {
+        String directoryPath = directory.getAbsolutePath();
+        if (!directoryPath.endsWith(File.separator)) directoryPath += File.separator;
+        String relativePath = file.getAbsolutePath().substring(directoryPath.length());
+        return keyPrefix + relativePath.replace(File.separatorChar, '/');
+    }
+
+    private void fireProgressEvent(int eventType) {
+        if (progressListenerChain == null) return;
+        ProgressEvent event = new ProgressEvent(0);
+        event.setEventCode(eventType);
+        progressListenerChain.progressChanged(event);
+    }
+}
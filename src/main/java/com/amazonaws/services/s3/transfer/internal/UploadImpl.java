@@ -18,7 +18,7 @@ import java.util.concurrent.Future;
 
 import com.amazonaws.services.s3.transfer.Upload;
 
-public class UploadImpl extends Upload {
+public class UploadImpl extends Upload implements StatefulTransfer {
     public UploadImpl(String description, TransferProgressImpl transferProgressInternalState,
             ProgressListenerChain progressListenerChain) {
         super(description, transferProgressInternalState, progressListenerChain);
@@ -36,6 +36,7 @@ public class UploadPartRequestFactory {
     private final long optimalPartSize;
     private final File file;
     private final PutObjectRequest putObjectRequest;
+    private final StreamPartReader partReader;
     private int partNumber = 1;
     private long offset = 0;
     private long remainingBytes;
@@ -48,13 +49,44 @@ public class UploadPartRequestFactory {
         this.key = putObjectRequest.getKey();
         this.file = TransferManagerUtils.getRequestFile(putObjectRequest);
         this.remainingBytes = TransferManagerUtils.getContentLength(putObjectRequest);
+        this.partReader = null;
+    }
+
+    /**
+     * Creates a factory for the parts of an upload from a stream of unknown
+     * length, which are read from the specified reader as they're requested.
+     */
+    public UploadPartRequestFactory(PutObjectRequest putObjectRequest, String uploadId, StreamPartReader partReader) {
+        this.putObjectRequest = putObjectRequest;
+        this.uploadId = uploadId;
+        this.optimalPartSize = 0;
+        this.bucketName = putObjectRequest.getBucketName();
+        this.key = putObjectRequest.getKey();
+        this.file = null;
+        this.remainingBytes = -1;
+        this.partReader = partReader;
     }
 
     public synchronized boolean hasMoreRequests() {
+        if (partReader != null) return partReader.hasNext();
         return (remainingBytes > 0);
     }
 
     public synchronized UploadPartRequest getNextUploadPartRequest() {
+        if (partReader != null) {
+            StreamPartReader.Part part = partReader.next();
+            UploadPartRequest request = new UploadPartRequest()
+                .withBucketName(bucketName)
+                .withKey(key)
+                .withUploadId(uploadId)
+                .withInputStream(part.getInputStream())
+                .withPartNumber(partNumber++)
+                .withPartSize(part.getLength());
+            request.setLastPart(part.isLastPart());
+            request.setProgressListener(putObjectRequest.getProgressListener());
+            return request;
+        }
+
         long partSize = Math.min(optimalPartSize, remainingBytes);
 
         UploadPartRequest request = null;
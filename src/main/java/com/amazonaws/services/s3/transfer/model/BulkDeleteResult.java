@@ -0,0 +1,89 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.model;
+
+import java.util.List;
+
+import com.amazonaws.services.s3.transfer.BulkDeleter;
+
+/**
+ * Contains the outcome of a completed bulk delete: how many objects were
+ * deleted, which deletes failed, and how long the whole operation took.
+ * <p>
+ * Failed deletes can be retried by passing this result back to
+ * {@link BulkDeleter#retryFailures(BulkDeleteResult)}.
+ */
+public class BulkDeleteResult {
+
+    /** The number of objects successfully deleted. */
+    private final long deletedCount;
+
+    /** The deletes that failed. */
+    private final List<FailedDelete> failures;
+
+    /** The time, in milliseconds, the bulk delete took. */
+    private final long elapsedMillis;
+
+    public BulkDeleteResult(long deletedCount, List<FailedDelete> failures, long elapsedMillis) {
+        this.deletedCount = deletedCount;
+        this.failures = failures;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Returns the number of objects (or object versions) successfully deleted.
+     *
+     * @return The number of objects successfully deleted.
+     */
+    public long getDeletedCount() {
+        return deletedCount;
+    }
+
+    /**
+     * Returns the deletes that failed, in no particular order.
+     *
+     * @return The deletes that failed.
+     */
+    public List<FailedDelete> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Returns the time, in milliseconds, the bulk delete took, including the
+     * time spent listing the objects to delete.
+     *
+     * @return The time, in milliseconds, the bulk delete took.
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Returns the average number of objects deleted per second.
+     *
+     * @return The average number of objects deleted per second.
+     */
+    public double getDeletesPerSecond() {
+        if (elapsedMillis == 0) return 0;
+        return deletedCount * 1000.0 / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "Deleted " + deletedCount + " objects in " + elapsedMillis + "ms ("
+            + Math.round(getDeletesPerSecond()) + "/s), " + failures.size() + " failures";
+    }
+
+}
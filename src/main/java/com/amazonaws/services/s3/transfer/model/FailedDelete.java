@@ -0,0 +1,89 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.model;
+
+import com.amazonaws.services.s3.transfer.BulkDeleter;
+
+/**
+ * Describes an object (or object version) that a bulk delete failed to
+ * delete, along with the reason it failed.
+ * <p>
+ * See {@link BulkDeleter} for more information about bulk deletes.
+ */
+public class FailedDelete {
+
+    /** The name of the bucket containing the object. */
+    private final String bucketName;
+
+    /** The key of the object. */
+    private final String key;
+
+    /** The version ID of the object version, or null for the latest version. */
+    private final String versionId;
+
+    /** The exception that caused the delete to fail. */
+    private final Exception exception;
+
+    public FailedDelete(String bucketName, String key, String versionId, Exception exception) {
+        this.bucketName = bucketName;
+        this.key = key;
+        this.versionId = versionId;
+        this.exception = exception;
+    }
+
+    /**
+     * Returns the name of the bucket containing the object.
+     *
+     * @return The name of the bucket containing the object.
+     */
+    public String getBucketName() {
+        return bucketName;
+    }
+
+    /**
+     * Returns the key of the object that wasn't deleted.
+     *
+     * @return The key of the object that wasn't deleted.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the version ID of the object version that wasn't deleted, or
+     * null if the delete didn't specify a version.
+     *
+     * @return The version ID of the object version that wasn't deleted.
+     */
+    public String getVersionId() {
+        return versionId;
+    }
+
+    /**
+     * Returns the exception that caused the delete to fail.
+     *
+     * @return The exception that caused the delete to fail.
+     */
+    public Exception getException() {
+        return exception;
+    }
+
+    @Override
+    public String toString() {
+        return bucketName + "/" + key + (versionId != null ? " (version " + versionId + ")" : "")
+            + ": " + exception.getMessage();
+    }
+
+}
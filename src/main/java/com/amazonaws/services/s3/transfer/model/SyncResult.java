@@ -0,0 +1,110 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.model;
+
+import java.util.List;
+
+import com.amazonaws.services.s3.transfer.DirectorySynchronizer;
+
+/**
+ * Contains the outcome of a completed directory synchronization: how many
+ * files were uploaded, deleted and left alone, which keys failed, and how
+ * long the whole operation took.
+ *
+ * @see DirectorySynchronizer
+ */
+public class SyncResult {
+
+    /** The number of files uploaded because they were new or changed. */
+    private final long uploadedCount;
+
+    /** The number of objects deleted because their file was removed. */
+    private final long deletedCount;
+
+    /** The number of files that matched their object. */
+    private final long unchangedCount;
+
+    /** The keys whose upload, delete or comparison failed. */
+    private final List<String> failedKeys;
+
+    /** The time, in milliseconds, the synchronization took. */
+    private final long elapsedMillis;
+
+    public SyncResult(long uploadedCount, long deletedCount, long unchangedCount,
+            List<String> failedKeys, long elapsedMillis) {
+        this.uploadedCount = uploadedCount;
+        this.deletedCount = deletedCount;
+        this.unchangedCount = unchangedCount;
+        this.failedKeys = failedKeys;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Returns the number of files uploaded because they were new or had
+     * changed.
+     *
+     * @return The number of files uploaded.
+     */
+    public long getUploadedCount() {
+        return uploadedCount;
+    }
+
+    /**
+     * Returns the number of objects deleted because their local file had been
+     * removed.
+     *
+     * @return The number of objects deleted.
+     */
+    public long getDeletedCount() {
+        return deletedCount;
+    }
+
+    /**
+     * Returns the number of files that matched their object in Amazon S3 and
+     * were left alone.
+     *
+     * @return The number of unchanged files.
+     */
+    public long getUnchangedCount() {
+        return unchangedCount;
+    }
+
+    /**
+     * Returns the keys whose upload, delete or comparison failed, in no
+     * particular order. Running the synchronization again retries them.
+     *
+     * @return The keys that failed.
+     */
+    public List<String> getFailedKeys() {
+        return failedKeys;
+    }
+
+    /**
+     * Returns the time, in milliseconds, the synchronization took, including
+     * the time spent listing and comparing.
+     *
+     * @return The time, in milliseconds, the synchronization took.
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "Uploaded " + uploadedCount + ", deleted " + deletedCount + ", unchanged " + unchangedCount
+            + " in " + elapsedMillis + "ms, " + failedKeys.size() + " failures";
+    }
+
+}
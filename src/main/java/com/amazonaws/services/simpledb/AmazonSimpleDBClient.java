@@ -79,6 +79,12 @@ public class AmazonSimpleDBClient extends AmazonWebServiceClient implements Amaz
      */
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers;
 
+    /**
+     * Handles error responses for all service calls, built once so its index
+     * of exception unmarshallers is shared across calls.
+     */
+    private final DefaultErrorResponseHandler errorResponseHandler;
+
     
     /** AWS signer for authenticating requests. */
     private QueryStringSigner signer;
@@ -138,6 +144,7 @@ public class AmazonSimpleDBClient extends AmazonWebServiceClient implements Amaz
         exceptionUnmarshallers.add(new InvalidNumberValueTestsExceptionUnmarshaller());
         
         exceptionUnmarshallers.add(new LegacyErrorUnmarshaller());
+        errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
         setEndpoint("sdb.amazonaws.com");
 
         signer = new QueryStringSigner();
@@ -193,8 +200,8 @@ public class AmazonSimpleDBClient extends AmazonWebServiceClient implements Amaz
      */
     public SelectResult select(SelectRequest selectRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<SelectRequest> request = new SelectRequestMarshaller().marshall(selectRequest);
-        return invoke(request, new SelectResultStaxUnmarshaller());
+        Request<SelectRequest> request = SelectRequestMarshaller.getInstance().marshall(selectRequest);
+        return invoke(request, SelectResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -274,7 +281,7 @@ public class AmazonSimpleDBClient extends AmazonWebServiceClient implements Amaz
      */
     public void putAttributes(PutAttributesRequest putAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<PutAttributesRequest> request = new PutAttributesRequestMarshaller().marshall(putAttributesRequest);
+        Request<PutAttributesRequest> request = PutAttributesRequestMarshaller.getInstance().marshall(putAttributesRequest);
         invoke(request, null);
     }
     
@@ -324,7 +331,7 @@ public class AmazonSimpleDBClient extends AmazonWebServiceClient implements Amaz
      */
     public void batchDeleteAttributes(BatchDeleteAttributesRequest batchDeleteAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<BatchDeleteAttributesRequest> request = new BatchDeleteAttributesRequestMarshaller().marshall(batchDeleteAttributesRequest);
+        Request<BatchDeleteAttributesRequest> request = BatchDeleteAttributesRequestMarshaller.getInstance().marshall(batchDeleteAttributesRequest);
         invoke(request, null);
     }
     
@@ -356,7 +363,7 @@ public class AmazonSimpleDBClient extends AmazonWebServiceClient implements Amaz
      */
     public void deleteDomain(DeleteDomainRequest deleteDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteDomainRequest> request = new DeleteDomainRequestMarshaller().marshall(deleteDomainRequest);
+        Request<DeleteDomainRequest> request = DeleteDomainRequestMarshaller.getInstance().marshall(deleteDomainRequest);
         invoke(request, null);
     }
     
@@ -398,7 +405,7 @@ public class AmazonSimpleDBClient extends AmazonWebServiceClient implements Amaz
      */
     public void createDomain(CreateDomainRequest createDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateDomainRequest> request = new CreateDomainRequestMarshaller().marshall(createDomainRequest);
+        Request<CreateDomainRequest> request = CreateDomainRequestMarshaller.getInstance().marshall(createDomainRequest);
         invoke(request, null);
     }
     
@@ -443,7 +450,7 @@ public class AmazonSimpleDBClient extends AmazonWebServiceClient implements Amaz
      */
     public void deleteAttributes(DeleteAttributesRequest deleteAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteAttributesRequest> request = new DeleteAttributesRequestMarshaller().marshall(deleteAttributesRequest);
+        Request<DeleteAttributesRequest> request = DeleteAttributesRequestMarshaller.getInstance().marshall(deleteAttributesRequest);
         invoke(request, null);
     }
     
@@ -478,8 +485,8 @@ public class AmazonSimpleDBClient extends AmazonWebServiceClient implements Amaz
      */
     public ListDomainsResult listDomains(ListDomainsRequest listDomainsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ListDomainsRequest> request = new ListDomainsRequestMarshaller().marshall(listDomainsRequest);
-        return invoke(request, new ListDomainsResultStaxUnmarshaller());
+        Request<ListDomainsRequest> request = ListDomainsRequestMarshaller.getInstance().marshall(listDomainsRequest);
+        return invoke(request, ListDomainsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -519,8 +526,8 @@ public class AmazonSimpleDBClient extends AmazonWebServiceClient implements Amaz
      */
     public GetAttributesResult getAttributes(GetAttributesRequest getAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<GetAttributesRequest> request = new GetAttributesRequestMarshaller().marshall(getAttributesRequest);
-        return invoke(request, new GetAttributesResultStaxUnmarshaller());
+        Request<GetAttributesRequest> request = GetAttributesRequestMarshaller.getInstance().marshall(getAttributesRequest);
+        return invoke(request, GetAttributesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -622,7 +629,7 @@ public class AmazonSimpleDBClient extends AmazonWebServiceClient implements Amaz
      */
     public void batchPutAttributes(BatchPutAttributesRequest batchPutAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<BatchPutAttributesRequest> request = new BatchPutAttributesRequestMarshaller().marshall(batchPutAttributesRequest);
+        Request<BatchPutAttributesRequest> request = BatchPutAttributesRequestMarshaller.getInstance().marshall(batchPutAttributesRequest);
         invoke(request, null);
     }
     
@@ -652,8 +659,8 @@ public class AmazonSimpleDBClient extends AmazonWebServiceClient implements Amaz
      */
     public DomainMetadataResult domainMetadata(DomainMetadataRequest domainMetadataRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DomainMetadataRequest> request = new DomainMetadataRequestMarshaller().marshall(domainMetadataRequest);
-        return invoke(request, new DomainMetadataResultStaxUnmarshaller());
+        Request<DomainMetadataRequest> request = DomainMetadataRequestMarshaller.getInstance().marshall(domainMetadataRequest);
+        return invoke(request, DomainMetadataResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -733,7 +740,6 @@ public class AmazonSimpleDBClient extends AmazonWebServiceClient implements Amaz
 
         
         StaxResponseHandler<X> responseHandler = new com.amazonaws.services.simpledb.internal.SimpleDBStaxResponseHandler<X>(unmarshaller);
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
 
         ExecutionContext executionContext = createExecutionContext();
         return (X)client.execute(request, responseHandler, errorResponseHandler, executionContext);
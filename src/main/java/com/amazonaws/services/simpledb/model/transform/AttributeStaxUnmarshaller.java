@@ -71,9 +71,8 @@ public class AttributeStaxUnmarshaller implements Unmarshaller<Attribute, StaxUn
         }
     }
 
-    private static AttributeStaxUnmarshaller instance;
+    private static final AttributeStaxUnmarshaller instance = new AttributeStaxUnmarshaller();
     public static AttributeStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new AttributeStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.simpledb.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,12 @@ import com.amazonaws.util.StringUtils;
  */
 public class BatchDeleteAttributesRequestMarshaller implements Marshaller<Request<BatchDeleteAttributesRequest>, BatchDeleteAttributesRequest> {
 
+    private static final ParameterNameTable ITEM_ITEM_NAME_NAMES = new ParameterNameTable("Item.", ".ItemName");
+    private static final ParameterNameTable ITEM_ATTRIBUTE_NAME_NAMES = new ParameterNameTable("Item.", ".Attribute.", ".Name");
+    private static final ParameterNameTable ITEM_ATTRIBUTE_ALTERNATE_NAME_ENCODING_NAMES = new ParameterNameTable("Item.", ".Attribute.", ".AlternateNameEncoding");
+    private static final ParameterNameTable ITEM_ATTRIBUTE_VALUE_NAMES = new ParameterNameTable("Item.", ".Attribute.", ".Value");
+    private static final ParameterNameTable ITEM_ATTRIBUTE_ALTERNATE_VALUE_ENCODING_NAMES = new ParameterNameTable("Item.", ".Attribute.", ".AlternateValueEncoding");
+
     public Request<BatchDeleteAttributesRequest> marshall(BatchDeleteAttributesRequest batchDeleteAttributesRequest) {
         Request<BatchDeleteAttributesRequest> request = new DefaultRequest<BatchDeleteAttributesRequest>(batchDeleteAttributesRequest, "AmazonSimpleDB");
         request.addParameter("Action", "BatchDeleteAttributes");
@@ -45,7 +52,7 @@ public class BatchDeleteAttributesRequestMarshaller implements Marshaller<Reques
             for (DeletableItem itemsListValue : itemsList) {
                 if (itemsListValue != null) {
                     if (itemsListValue.getName() != null) {
-                        request.addParameter("Item." + itemsListIndex + ".ItemName", StringUtils.fromString(itemsListValue.getName()));
+                        request.addParameter(ITEM_ITEM_NAME_NAMES.get(itemsListIndex), StringUtils.fromString(itemsListValue.getName()));
                     }
                 }
 
@@ -55,22 +62,22 @@ public class BatchDeleteAttributesRequestMarshaller implements Marshaller<Reques
                     for (Attribute attributesListValue : attributesList) {
                         if (attributesListValue != null) {
                             if (attributesListValue.getName() != null) {
-                                request.addParameter("Item." + itemsListIndex + ".Attribute." + attributesListIndex + ".Name", StringUtils.fromString(attributesListValue.getName()));
+                                request.addParameter(ITEM_ATTRIBUTE_NAME_NAMES.get(itemsListIndex, attributesListIndex), StringUtils.fromString(attributesListValue.getName()));
                             }
                         }
                         if (attributesListValue != null) {
                             if (attributesListValue.getAlternateNameEncoding() != null) {
-                                request.addParameter("Item." + itemsListIndex + ".Attribute." + attributesListIndex + ".AlternateNameEncoding", StringUtils.fromString(attributesListValue.getAlternateNameEncoding()));
+                                request.addParameter(ITEM_ATTRIBUTE_ALTERNATE_NAME_ENCODING_NAMES.get(itemsListIndex, attributesListIndex), StringUtils.fromString(attributesListValue.getAlternateNameEncoding()));
                             }
                         }
                         if (attributesListValue != null) {
                             if (attributesListValue.getValue() != null) {
-                                request.addParameter("Item." + itemsListIndex + ".Attribute." + attributesListIndex + ".Value", StringUtils.fromString(attributesListValue.getValue()));
+                                request.addParameter(ITEM_ATTRIBUTE_VALUE_NAMES.get(itemsListIndex, attributesListIndex), StringUtils.fromString(attributesListValue.getValue()));
                             }
                         }
                         if (attributesListValue != null) {
                             if (attributesListValue.getAlternateValueEncoding() != null) {
-                                request.addParameter("Item." + itemsListIndex + ".Attribute." + attributesListIndex + ".AlternateValueEncoding", StringUtils.fromString(attributesListValue.getAlternateValueEncoding()));
+                                request.addParameter(ITEM_ATTRIBUTE_ALTERNATE_VALUE_ENCODING_NAMES.get(itemsListIndex, attributesListIndex), StringUtils.fromString(attributesListValue.getAlternateValueEncoding()));
                             }
                         }
 
@@ -85,4 +92,9 @@ public class BatchDeleteAttributesRequestMarshaller implements Marshaller<Reques
 
         return request;
     }
+
+    private static final BatchDeleteAttributesRequestMarshaller instance = new BatchDeleteAttributesRequestMarshaller();
+    public static BatchDeleteAttributesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
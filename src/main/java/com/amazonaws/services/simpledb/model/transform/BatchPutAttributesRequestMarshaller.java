@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.simpledb.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,11 @@ import com.amazonaws.util.StringUtils;
  */
 public class BatchPutAttributesRequestMarshaller implements Marshaller<Request<BatchPutAttributesRequest>, BatchPutAttributesRequest> {
 
+    private static final ParameterNameTable ITEM_ITEM_NAME_NAMES = new ParameterNameTable("Item.", ".ItemName");
+    private static final ParameterNameTable ITEM_ATTRIBUTE_NAME_NAMES = new ParameterNameTable("Item.", ".Attribute.", ".Name");
+    private static final ParameterNameTable ITEM_ATTRIBUTE_VALUE_NAMES = new ParameterNameTable("Item.", ".Attribute.", ".Value");
+    private static final ParameterNameTable ITEM_ATTRIBUTE_REPLACE_NAMES = new ParameterNameTable("Item.", ".Attribute.", ".Replace");
+
     public Request<BatchPutAttributesRequest> marshall(BatchPutAttributesRequest batchPutAttributesRequest) {
         Request<BatchPutAttributesRequest> request = new DefaultRequest<BatchPutAttributesRequest>(batchPutAttributesRequest, "AmazonSimpleDB");
         request.addParameter("Action", "BatchPutAttributes");
@@ -45,7 +51,7 @@ public class BatchPutAttributesRequestMarshaller implements Marshaller<Request<B
             for (ReplaceableItem itemsListValue : itemsList) {
                 if (itemsListValue != null) {
                     if (itemsListValue.getName() != null) {
-                        request.addParameter("Item." + itemsListIndex + ".ItemName", StringUtils.fromString(itemsListValue.getName()));
+                        request.addParameter(ITEM_ITEM_NAME_NAMES.get(itemsListIndex), StringUtils.fromString(itemsListValue.getName()));
                     }
                 }
 
@@ -55,17 +61,17 @@ public class BatchPutAttributesRequestMarshaller implements Marshaller<Request<B
                     for (ReplaceableAttribute attributesListValue : attributesList) {
                         if (attributesListValue != null) {
                             if (attributesListValue.getName() != null) {
-                                request.addParameter("Item." + itemsListIndex + ".Attribute." + attributesListIndex + ".Name", StringUtils.fromString(attributesListValue.getName()));
+                                request.addParameter(ITEM_ATTRIBUTE_NAME_NAMES.get(itemsListIndex, attributesListIndex), StringUtils.fromString(attributesListValue.getName()));
                             }
                         }
                         if (attributesListValue != null) {
                             if (attributesListValue.getValue() != null) {
-                                request.addParameter("Item." + itemsListIndex + ".Attribute." + attributesListIndex + ".Value", StringUtils.fromString(attributesListValue.getValue()));
+                                request.addParameter(ITEM_ATTRIBUTE_VALUE_NAMES.get(itemsListIndex, attributesListIndex), StringUtils.fromString(attributesListValue.getValue()));
                             }
                         }
                         if (attributesListValue != null) {
                             if (attributesListValue.isReplace() != null) {
-                                request.addParameter("Item." + itemsListIndex + ".Attribute." + attributesListIndex + ".Replace", StringUtils.fromBoolean(attributesListValue.isReplace()));
+                                request.addParameter(ITEM_ATTRIBUTE_REPLACE_NAMES.get(itemsListIndex, attributesListIndex), StringUtils.fromBoolean(attributesListValue.isReplace()));
                             }
                         }
 
@@ -80,4 +86,9 @@ public class BatchPutAttributesRequestMarshaller implements Marshaller<Request<B
 
         return request;
     }
+
+    private static final BatchPutAttributesRequestMarshaller instance = new BatchPutAttributesRequestMarshaller();
+    public static BatchPutAttributesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
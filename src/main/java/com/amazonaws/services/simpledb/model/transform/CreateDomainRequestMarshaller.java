@@ -42,4 +42,9 @@ public class CreateDomainRequestMarshaller implements Marshaller<Request<CreateD
 
         return request;
     }
+
+    private static final CreateDomainRequestMarshaller instance = new CreateDomainRequestMarshaller();
+    public static CreateDomainRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.simpledb.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,11 @@ import com.amazonaws.util.StringUtils;
  */
 public class DeleteAttributesRequestMarshaller implements Marshaller<Request<DeleteAttributesRequest>, DeleteAttributesRequest> {
 
+    private static final ParameterNameTable ATTRIBUTE_NAME_NAMES = new ParameterNameTable("Attribute.", ".Name");
+    private static final ParameterNameTable ATTRIBUTE_ALTERNATE_NAME_ENCODING_NAMES = new ParameterNameTable("Attribute.", ".AlternateNameEncoding");
+    private static final ParameterNameTable ATTRIBUTE_VALUE_NAMES = new ParameterNameTable("Attribute.", ".Value");
+    private static final ParameterNameTable ATTRIBUTE_ALTERNATE_VALUE_ENCODING_NAMES = new ParameterNameTable("Attribute.", ".AlternateValueEncoding");
+
     public Request<DeleteAttributesRequest> marshall(DeleteAttributesRequest deleteAttributesRequest) {
         Request<DeleteAttributesRequest> request = new DefaultRequest<DeleteAttributesRequest>(deleteAttributesRequest, "AmazonSimpleDB");
         request.addParameter("Action", "DeleteAttributes");
@@ -50,22 +56,22 @@ public class DeleteAttributesRequestMarshaller implements Marshaller<Request<Del
             for (Attribute attributesListValue : attributesList) {
                 if (attributesListValue != null) {
                     if (attributesListValue.getName() != null) {
-                        request.addParameter("Attribute." + attributesListIndex + ".Name", StringUtils.fromString(attributesListValue.getName()));
+                        request.addParameter(ATTRIBUTE_NAME_NAMES.get(attributesListIndex), StringUtils.fromString(attributesListValue.getName()));
                     }
                 }
                 if (attributesListValue != null) {
                     if (attributesListValue.getAlternateNameEncoding() != null) {
-                        request.addParameter("Attribute." + attributesListIndex + ".AlternateNameEncoding", StringUtils.fromString(attributesListValue.getAlternateNameEncoding()));
+                        request.addParameter(ATTRIBUTE_ALTERNATE_NAME_ENCODING_NAMES.get(attributesListIndex), StringUtils.fromString(attributesListValue.getAlternateNameEncoding()));
                     }
                 }
                 if (attributesListValue != null) {
                     if (attributesListValue.getValue() != null) {
-                        request.addParameter("Attribute." + attributesListIndex + ".Value", StringUtils.fromString(attributesListValue.getValue()));
+                        request.addParameter(ATTRIBUTE_VALUE_NAMES.get(attributesListIndex), StringUtils.fromString(attributesListValue.getValue()));
                     }
                 }
                 if (attributesListValue != null) {
                     if (attributesListValue.getAlternateValueEncoding() != null) {
-                        request.addParameter("Attribute." + attributesListIndex + ".AlternateValueEncoding", StringUtils.fromString(attributesListValue.getAlternateValueEncoding()));
+                        request.addParameter(ATTRIBUTE_ALTERNATE_VALUE_ENCODING_NAMES.get(attributesListIndex), StringUtils.fromString(attributesListValue.getAlternateValueEncoding()));
                     }
                 }
 
@@ -94,4 +100,9 @@ public class DeleteAttributesRequestMarshaller implements Marshaller<Request<Del
 
         return request;
     }
+
+    private static final DeleteAttributesRequestMarshaller instance = new DeleteAttributesRequestMarshaller();
+    public static DeleteAttributesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -42,4 +42,9 @@ public class DeleteDomainRequestMarshaller implements Marshaller<Request<DeleteD
 
         return request;
     }
+
+    private static final DeleteDomainRequestMarshaller instance = new DeleteDomainRequestMarshaller();
+    public static DeleteDomainRequestMarshaller getInstance() {
+        return instance;
+    }
 }
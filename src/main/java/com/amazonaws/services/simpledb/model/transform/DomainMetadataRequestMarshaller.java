@@ -42,4 +42,9 @@ public class DomainMetadataRequestMarshaller implements Marshaller<Request<Domai
 
         return request;
     }
+
+    private static final DomainMetadataRequestMarshaller instance = new DomainMetadataRequestMarshaller();
+    public static DomainMetadataRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -83,9 +83,8 @@ public class DomainMetadataResultStaxUnmarshaller implements Unmarshaller<Domain
         }
     }
 
-    private static DomainMetadataResultStaxUnmarshaller instance;
+    private static final DomainMetadataResultStaxUnmarshaller instance = new DomainMetadataResultStaxUnmarshaller();
     public static DomainMetadataResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new DomainMetadataResultStaxUnmarshaller();
         return instance;
     }
 }
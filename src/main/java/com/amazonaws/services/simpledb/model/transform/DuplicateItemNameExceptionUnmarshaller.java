@@ -18,6 +18,7 @@ import org.w3c.dom.Node;
 
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.util.XpathUtils;
+import com.amazonaws.transform.ErrorResponse;
 import com.amazonaws.transform.LegacyErrorUnmarshaller;
 
 import com.amazonaws.services.simpledb.model.DuplicateItemNameException;
@@ -25,7 +26,7 @@ import com.amazonaws.services.simpledb.model.DuplicateItemNameException;
 public class DuplicateItemNameExceptionUnmarshaller extends LegacyErrorUnmarshaller {
 
     public DuplicateItemNameExceptionUnmarshaller() {
-        super(DuplicateItemNameException.class);
+        super(DuplicateItemNameException.class, "DuplicateItemName");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -41,5 +42,14 @@ public class DuplicateItemNameExceptionUnmarshaller extends LegacyErrorUnmarshal
         
         return e;
     }
+
+    public AmazonServiceException createException(ErrorResponse errorResponse) throws Exception {
+        DuplicateItemNameException e = (DuplicateItemNameException)super.createException(errorResponse);
+        
+        String boxUsage = errorResponse.getErrorProperty("BoxUsage");
+        e.setBoxUsage((boxUsage == null || boxUsage.length() == 0) ? null : Float.valueOf(boxUsage));
+        
+        return e;
+    }
 }
     
\ No newline at end of file
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.simpledb.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class GetAttributesRequestMarshaller implements Marshaller<Request<GetAttributesRequest>, GetAttributesRequest> {
 
+    private static final ParameterNameTable ATTRIBUTE_NAME_NAMES = new ParameterNameTable("AttributeName.", "");
+
     public Request<GetAttributesRequest> marshall(GetAttributesRequest getAttributesRequest) {
         Request<GetAttributesRequest> request = new DefaultRequest<GetAttributesRequest>(getAttributesRequest, "AmazonSimpleDB");
         request.addParameter("Action", "GetAttributes");
@@ -49,7 +52,7 @@ public class GetAttributesRequestMarshaller implements Marshaller<Request<GetAtt
 
             for (String attributeNamesListValue : attributeNamesList) {
                 if (attributeNamesListValue != null) {
-                    request.addParameter("AttributeName." + attributeNamesListIndex, StringUtils.fromString(attributeNamesListValue));
+                    request.addParameter(ATTRIBUTE_NAME_NAMES.get(attributeNamesListIndex), StringUtils.fromString(attributeNamesListValue));
                 }
                 attributeNamesListIndex++;
             }
@@ -63,4 +66,9 @@ public class GetAttributesRequestMarshaller implements Marshaller<Request<GetAtt
 
         return request;
     }
+
+    private static final GetAttributesRequestMarshaller instance = new GetAttributesRequestMarshaller();
+    public static GetAttributesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class GetAttributesResultStaxUnmarshaller implements Unmarshaller<GetAttr
         }
     }
 
-    private static GetAttributesResultStaxUnmarshaller instance;
+    private static final GetAttributesResultStaxUnmarshaller instance = new GetAttributesResultStaxUnmarshaller();
     public static GetAttributesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new GetAttributesResultStaxUnmarshaller();
         return instance;
     }
 }
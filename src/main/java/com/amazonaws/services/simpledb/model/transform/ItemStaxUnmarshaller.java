@@ -67,9 +67,8 @@ public class ItemStaxUnmarshaller implements Unmarshaller<Item, StaxUnmarshaller
         }
     }
 
-    private static ItemStaxUnmarshaller instance;
+    private static final ItemStaxUnmarshaller instance = new ItemStaxUnmarshaller();
     public static ItemStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ItemStaxUnmarshaller();
         return instance;
     }
 }
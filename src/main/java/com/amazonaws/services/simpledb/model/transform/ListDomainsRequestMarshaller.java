@@ -47,4 +47,9 @@ public class ListDomainsRequestMarshaller implements Marshaller<Request<ListDoma
 
         return request;
     }
+
+    private static final ListDomainsRequestMarshaller instance = new ListDomainsRequestMarshaller();
+    public static ListDomainsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -63,9 +63,8 @@ public class ListDomainsResultStaxUnmarshaller implements Unmarshaller<ListDomai
         }
     }
 
-    private static ListDomainsResultStaxUnmarshaller instance;
+    private static final ListDomainsResultStaxUnmarshaller instance = new ListDomainsResultStaxUnmarshaller();
     public static ListDomainsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ListDomainsResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -18,6 +18,7 @@ import org.w3c.dom.Node;
 
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.util.XpathUtils;
+import com.amazonaws.transform.ErrorResponse;
 import com.amazonaws.transform.LegacyErrorUnmarshaller;
 
 import com.amazonaws.services.simpledb.model.NoSuchDomainException;
@@ -25,7 +26,7 @@ import com.amazonaws.services.simpledb.model.NoSuchDomainException;
 public class NoSuchDomainExceptionUnmarshaller extends LegacyErrorUnmarshaller {
 
     public NoSuchDomainExceptionUnmarshaller() {
-        super(NoSuchDomainException.class);
+        super(NoSuchDomainException.class, "NoSuchDomain");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -41,5 +42,14 @@ public class NoSuchDomainExceptionUnmarshaller extends LegacyErrorUnmarshaller {
         
         return e;
     }
+
+    public AmazonServiceException createException(ErrorResponse errorResponse) throws Exception {
+        NoSuchDomainException e = (NoSuchDomainException)super.createException(errorResponse);
+        
+        String boxUsage = errorResponse.getErrorProperty("BoxUsage");
+        e.setBoxUsage((boxUsage == null || boxUsage.length() == 0) ? null : Float.valueOf(boxUsage));
+        
+        return e;
+    }
 }
     
\ No newline at end of file
@@ -18,6 +18,7 @@ import org.w3c.dom.Node;
 
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.util.XpathUtils;
+import com.amazonaws.transform.ErrorResponse;
 import com.amazonaws.transform.LegacyErrorUnmarshaller;
 
 import com.amazonaws.services.simpledb.model.NumberSubmittedItemsExceededException;
@@ -25,7 +26,7 @@ import com.amazonaws.services.simpledb.model.NumberSubmittedItemsExceededExcepti
 public class NumberSubmittedItemsExceededExceptionUnmarshaller extends LegacyErrorUnmarshaller {
 
     public NumberSubmittedItemsExceededExceptionUnmarshaller() {
-        super(NumberSubmittedItemsExceededException.class);
+        super(NumberSubmittedItemsExceededException.class, "NumberSubmittedItemsExceeded");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -41,5 +42,14 @@ public class NumberSubmittedItemsExceededExceptionUnmarshaller extends LegacyErr
         
         return e;
     }
+
+    public AmazonServiceException createException(ErrorResponse errorResponse) throws Exception {
+        NumberSubmittedItemsExceededException e = (NumberSubmittedItemsExceededException)super.createException(errorResponse);
+        
+        String boxUsage = errorResponse.getErrorProperty("BoxUsage");
+        e.setBoxUsage((boxUsage == null || boxUsage.length() == 0) ? null : Float.valueOf(boxUsage));
+        
+        return e;
+    }
 }
     
\ No newline at end of file
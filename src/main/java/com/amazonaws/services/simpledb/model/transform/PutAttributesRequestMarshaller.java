@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.simpledb.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,10 @@ import com.amazonaws.util.StringUtils;
  */
 public class PutAttributesRequestMarshaller implements Marshaller<Request<PutAttributesRequest>, PutAttributesRequest> {
 
+    private static final ParameterNameTable ATTRIBUTE_NAME_NAMES = new ParameterNameTable("Attribute.", ".Name");
+    private static final ParameterNameTable ATTRIBUTE_VALUE_NAMES = new ParameterNameTable("Attribute.", ".Value");
+    private static final ParameterNameTable ATTRIBUTE_REPLACE_NAMES = new ParameterNameTable("Attribute.", ".Replace");
+
     public Request<PutAttributesRequest> marshall(PutAttributesRequest putAttributesRequest) {
         Request<PutAttributesRequest> request = new DefaultRequest<PutAttributesRequest>(putAttributesRequest, "AmazonSimpleDB");
         request.addParameter("Action", "PutAttributes");
@@ -50,17 +55,17 @@ public class PutAttributesRequestMarshaller implements Marshaller<Request<PutAtt
             for (ReplaceableAttribute attributesListValue : attributesList) {
                 if (attributesListValue != null) {
                     if (attributesListValue.getName() != null) {
-                        request.addParameter("Attribute." + attributesListIndex + ".Name", StringUtils.fromString(attributesListValue.getName()));
+                        request.addParameter(ATTRIBUTE_NAME_NAMES.get(attributesListIndex), StringUtils.fromString(attributesListValue.getName()));
                     }
                 }
                 if (attributesListValue != null) {
                     if (attributesListValue.getValue() != null) {
-                        request.addParameter("Attribute." + attributesListIndex + ".Value", StringUtils.fromString(attributesListValue.getValue()));
+                        request.addParameter(ATTRIBUTE_VALUE_NAMES.get(attributesListIndex), StringUtils.fromString(attributesListValue.getValue()));
                     }
                 }
                 if (attributesListValue != null) {
                     if (attributesListValue.isReplace() != null) {
-                        request.addParameter("Attribute." + attributesListIndex + ".Replace", StringUtils.fromBoolean(attributesListValue.isReplace()));
+                        request.addParameter(ATTRIBUTE_REPLACE_NAMES.get(attributesListIndex), StringUtils.fromBoolean(attributesListValue.isReplace()));
                     }
                 }
 
@@ -89,4 +94,9 @@ public class PutAttributesRequestMarshaller implements Marshaller<Request<PutAtt
 
         return request;
     }
+
+    private static final PutAttributesRequestMarshaller instance = new PutAttributesRequestMarshaller();
+    public static PutAttributesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
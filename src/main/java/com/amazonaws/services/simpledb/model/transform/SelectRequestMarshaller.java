@@ -52,4 +52,9 @@ public class SelectRequestMarshaller implements Marshaller<Request<SelectRequest
 
         return request;
     }
+
+    private static final SelectRequestMarshaller instance = new SelectRequestMarshaller();
+    public static SelectRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -63,9 +63,8 @@ public class SelectResultStaxUnmarshaller implements Unmarshaller<SelectResult,
         }
     }
 
-    private static SelectResultStaxUnmarshaller instance;
+    private static final SelectResultStaxUnmarshaller instance = new SelectResultStaxUnmarshaller();
     public static SelectResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new SelectResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -18,6 +18,7 @@ import org.w3c.dom.Node;
 
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.util.XpathUtils;
+import com.amazonaws.transform.ErrorResponse;
 import com.amazonaws.transform.LegacyErrorUnmarshaller;
 
 import com.amazonaws.services.simpledb.model.TooManyRequestedAttributesException;
@@ -25,7 +26,7 @@ import com.amazonaws.services.simpledb.model.TooManyRequestedAttributesException
 public class TooManyRequestedAttributesExceptionUnmarshaller extends LegacyErrorUnmarshaller {
 
     public TooManyRequestedAttributesExceptionUnmarshaller() {
-        super(TooManyRequestedAttributesException.class);
+        super(TooManyRequestedAttributesException.class, "TooManyRequestedAttributes");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -41,5 +42,14 @@ public class TooManyRequestedAttributesExceptionUnmarshaller extends LegacyError
         
         return e;
     }
+
+    public AmazonServiceException createException(ErrorResponse errorResponse) throws Exception {
+        TooManyRequestedAttributesException e = (TooManyRequestedAttributesException)super.createException(errorResponse);
+        
+        String boxUsage = errorResponse.getErrorProperty("BoxUsage");
+        e.setBoxUsage((boxUsage == null || boxUsage.length() == 0) ? null : Float.valueOf(boxUsage));
+        
+        return e;
+    }
 }
     
\ No newline at end of file
@@ -16,13 +16,14 @@ package com.amazonaws.services.simpleemail;
             
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.util.InstrumentedThreadPoolExecutor;
 
 import com.amazonaws.services.simpleemail.model.*;
 
@@ -57,8 +58,9 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     /**
      * Constructs a new asynchronous client to invoke service methods on 
      * AmazonSimpleEmailService using the specified AWS account credentials.
-     * Default client settings will be used, and a default cached thread pool will be 
-     * created for executing the asynchronous tasks.
+     * Default client settings will be used, and a default bounded thread pool will be 
+     * created for executing the asynchronous tasks (see
+     * {@link InstrumentedThreadPoolExecutor#newDefaultExecutor(String, ClientConfiguration)}).
      *
      * <p>
      * All calls made using this new client object are non-blocking, and will immediately
@@ -69,7 +71,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *                       when authenticating with AWS services.
      */                                      
     public AmazonSimpleEmailServiceAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newCachedThreadPool());
+        this(awsCredentials, InstrumentedThreadPoolExecutor.newDefaultExecutor("AmazonSimpleEmailServiceAsyncClient", new ClientConfiguration()));
     }
 
     /**
@@ -159,6 +161,49 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
 		});
     }
     
+    /**
+     * <p>
+     * Returns the user's current activity limits.
+     * </p>
+     *
+     * @param getSendQuotaRequest Container for the necessary parameters to
+     *           execute the GetSendQuota operation on AmazonSimpleEmailService.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetSendQuota service method, as returned by AmazonSimpleEmailService.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSimpleEmailService indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetSendQuotaResult> getSendQuotaAsync(
+            final GetSendQuotaRequest getSendQuotaRequest,
+            final AsyncHandler<GetSendQuotaRequest, GetSendQuotaResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<GetSendQuotaResult>() {
+            public GetSendQuotaResult call() throws Exception {
+                GetSendQuotaResult result;
+                try {
+                    result = getSendQuota(getSendQuotaRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(getSendQuotaRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns a list containing all of the email addresses that have been
@@ -190,6 +235,52 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
 		});
     }
     
+    /**
+     * <p>
+     * Returns a list containing all of the email addresses that have been
+     * verified.
+     * </p>
+     *
+     * @param listVerifiedEmailAddressesRequest Container for the necessary
+     *           parameters to execute the ListVerifiedEmailAddresses operation on
+     *           AmazonSimpleEmailService.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListVerifiedEmailAddresses service method, as returned by
+     *         AmazonSimpleEmailService.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSimpleEmailService indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListVerifiedEmailAddressesResult> listVerifiedEmailAddressesAsync(
+            final ListVerifiedEmailAddressesRequest listVerifiedEmailAddressesRequest,
+            final AsyncHandler<ListVerifiedEmailAddressesRequest, ListVerifiedEmailAddressesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ListVerifiedEmailAddressesResult>() {
+            public ListVerifiedEmailAddressesResult call() throws Exception {
+                ListVerifiedEmailAddressesResult result;
+                try {
+                    result = listVerifiedEmailAddresses(listVerifiedEmailAddressesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(listVerifiedEmailAddressesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Returns the user's sending statistics. The result is a list of data
@@ -225,6 +316,56 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
 		});
     }
     
+    /**
+     * <p>
+     * Returns the user's sending statistics. The result is a list of data
+     * points, representing the last two weeks of sending activity.
+     * </p>
+     * <p>
+     * Each data point in the list contains statistics for a 15-minute
+     * interval.
+     * </p>
+     *
+     * @param getSendStatisticsRequest Container for the necessary parameters
+     *           to execute the GetSendStatistics operation on
+     *           AmazonSimpleEmailService.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetSendStatistics service method, as returned by
+     *         AmazonSimpleEmailService.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSimpleEmailService indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetSendStatisticsResult> getSendStatisticsAsync(
+            final GetSendStatisticsRequest getSendStatisticsRequest,
+            final AsyncHandler<GetSendStatisticsRequest, GetSendStatisticsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<GetSendStatisticsResult>() {
+            public GetSendStatisticsResult call() throws Exception {
+                GetSendStatisticsResult result;
+                try {
+                    result = getSendStatistics(getSendStatisticsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(getSendStatisticsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Composes an email message based on input data, and then immediately
@@ -260,6 +401,56 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
 		});
     }
     
+    /**
+     * <p>
+     * Composes an email message based on input data, and then immediately
+     * queues the message for sending.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b>If you have not yet requested production access to
+     * Amazon SES, then you will only be able to send email to and from
+     * verified email addresses. For more information, go to the Amazon SES
+     * Developer Guide.
+     * </p>
+     *
+     * @param sendEmailRequest Container for the necessary parameters to
+     *           execute the SendEmail operation on AmazonSimpleEmailService.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         SendEmail service method, as returned by AmazonSimpleEmailService.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSimpleEmailService indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<SendEmailResult> sendEmailAsync(
+            final SendEmailRequest sendEmailRequest,
+            final AsyncHandler<SendEmailRequest, SendEmailResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<SendEmailResult>() {
+            public SendEmailResult call() throws Exception {
+                SendEmailResult result;
+                try {
+                    result = sendEmail(sendEmailRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(sendEmailRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Deletes the specified email address from the list of verified
@@ -292,6 +483,51 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
 		});
     }
     
+    /**
+     * <p>
+     * Deletes the specified email address from the list of verified
+     * addresses.
+     * </p>
+     *
+     * @param deleteVerifiedEmailAddressRequest Container for the necessary
+     *           parameters to execute the DeleteVerifiedEmailAddress operation on
+     *           AmazonSimpleEmailService.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteVerifiedEmailAddress service method, as returned by
+     *         AmazonSimpleEmailService.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSimpleEmailService indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteVerifiedEmailAddressAsync(
+            final DeleteVerifiedEmailAddressRequest deleteVerifiedEmailAddressRequest,
+            final AsyncHandler<DeleteVerifiedEmailAddressRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteVerifiedEmailAddress(deleteVerifiedEmailAddressRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteVerifiedEmailAddressRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Verifies an email address. This action causes a confirmation email
@@ -324,6 +560,51 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
 		});
     }
     
+    /**
+     * <p>
+     * Verifies an email address. This action causes a confirmation email
+     * message to be sent to the specified address.
+     * </p>
+     *
+     * @param verifyEmailAddressRequest Container for the necessary
+     *           parameters to execute the VerifyEmailAddress operation on
+     *           AmazonSimpleEmailService.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         VerifyEmailAddress service method, as returned by
+     *         AmazonSimpleEmailService.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSimpleEmailService indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> verifyEmailAddressAsync(
+            final VerifyEmailAddressRequest verifyEmailAddressRequest,
+            final AsyncHandler<VerifyEmailAddressRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    verifyEmailAddress(verifyEmailAddressRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(verifyEmailAddressRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Sends an email message, with header and content specified by the
@@ -362,5 +643,58 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
 		});
     }
     
+    /**
+     * <p>
+     * Sends an email message, with header and content specified by the
+     * client. The <code>SendRawEmail</code> action is useful for sending
+     * multipart MIME emails, with attachments or inline content. The raw
+     * text of the message must comply with Internet email standards;
+     * otherwise, the message cannot be sent.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b>If you have not yet requested production access to
+     * Amazon SES, then you will only be able to send email to and from
+     * verified email addresses. For more information, go to the Amazon SES
+     * Developer Guide.
+     * </p>
+     *
+     * @param sendRawEmailRequest Container for the necessary parameters to
+     *           execute the SendRawEmail operation on AmazonSimpleEmailService.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         SendRawEmail service method, as returned by AmazonSimpleEmailService.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSimpleEmailService indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<SendRawEmailResult> sendRawEmailAsync(
+            final SendRawEmailRequest sendRawEmailRequest,
+            final AsyncHandler<SendRawEmailRequest, SendRawEmailResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<SendRawEmailResult>() {
+            public SendRawEmailResult call() throws Exception {
+                SendRawEmailResult result;
+                try {
+                    result = sendRawEmail(sendRawEmailRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(sendRawEmailRequest, result);
+                return result;
+		    }
+		});
+    }
+    
 }
         
\ No newline at end of file
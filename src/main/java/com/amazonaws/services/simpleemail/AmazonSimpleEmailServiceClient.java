@@ -69,6 +69,12 @@ public class AmazonSimpleEmailServiceClient extends AmazonWebServiceClient imple
      */
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers;
 
+    /**
+     * Handles error responses for all service calls, built once so its index
+     * of exception unmarshallers is shared across calls.
+     */
+    private final DefaultErrorResponseHandler errorResponseHandler;
+
     
     /** AWS signer for authenticating requests. */
     private AWS3Signer signer;
@@ -112,6 +118,7 @@ public class AmazonSimpleEmailServiceClient extends AmazonWebServiceClient imple
         exceptionUnmarshallers.add(new MessageRejectedExceptionUnmarshaller());
         
         exceptionUnmarshallers.add(new StandardErrorUnmarshaller());
+        errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
         setEndpoint("email.us-east-1.amazonaws.com");
 
         signer = new AWS3Signer();
@@ -144,8 +151,8 @@ public class AmazonSimpleEmailServiceClient extends AmazonWebServiceClient imple
      */
     public GetSendQuotaResult getSendQuota(GetSendQuotaRequest getSendQuotaRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<GetSendQuotaRequest> request = new GetSendQuotaRequestMarshaller().marshall(getSendQuotaRequest);
-        return invoke(request, new GetSendQuotaResultStaxUnmarshaller());
+        Request<GetSendQuotaRequest> request = GetSendQuotaRequestMarshaller.getInstance().marshall(getSendQuotaRequest);
+        return invoke(request, GetSendQuotaResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -172,8 +179,8 @@ public class AmazonSimpleEmailServiceClient extends AmazonWebServiceClient imple
      */
     public ListVerifiedEmailAddressesResult listVerifiedEmailAddresses(ListVerifiedEmailAddressesRequest listVerifiedEmailAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ListVerifiedEmailAddressesRequest> request = new ListVerifiedEmailAddressesRequestMarshaller().marshall(listVerifiedEmailAddressesRequest);
-        return invoke(request, new ListVerifiedEmailAddressesResultStaxUnmarshaller());
+        Request<ListVerifiedEmailAddressesRequest> request = ListVerifiedEmailAddressesRequestMarshaller.getInstance().marshall(listVerifiedEmailAddressesRequest);
+        return invoke(request, ListVerifiedEmailAddressesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -204,8 +211,8 @@ public class AmazonSimpleEmailServiceClient extends AmazonWebServiceClient imple
      */
     public GetSendStatisticsResult getSendStatistics(GetSendStatisticsRequest getSendStatisticsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<GetSendStatisticsRequest> request = new GetSendStatisticsRequestMarshaller().marshall(getSendStatisticsRequest);
-        return invoke(request, new GetSendStatisticsResultStaxUnmarshaller());
+        Request<GetSendStatisticsRequest> request = GetSendStatisticsRequestMarshaller.getInstance().marshall(getSendStatisticsRequest);
+        return invoke(request, GetSendStatisticsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -238,8 +245,8 @@ public class AmazonSimpleEmailServiceClient extends AmazonWebServiceClient imple
      */
     public SendEmailResult sendEmail(SendEmailRequest sendEmailRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<SendEmailRequest> request = new SendEmailRequestMarshaller().marshall(sendEmailRequest);
-        return invoke(request, new SendEmailResultStaxUnmarshaller());
+        Request<SendEmailRequest> request = SendEmailRequestMarshaller.getInstance().marshall(sendEmailRequest);
+        return invoke(request, SendEmailResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -263,7 +270,7 @@ public class AmazonSimpleEmailServiceClient extends AmazonWebServiceClient imple
      */
     public void deleteVerifiedEmailAddress(DeleteVerifiedEmailAddressRequest deleteVerifiedEmailAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteVerifiedEmailAddressRequest> request = new DeleteVerifiedEmailAddressRequestMarshaller().marshall(deleteVerifiedEmailAddressRequest);
+        Request<DeleteVerifiedEmailAddressRequest> request = DeleteVerifiedEmailAddressRequestMarshaller.getInstance().marshall(deleteVerifiedEmailAddressRequest);
         invoke(request, null);
     }
     
@@ -288,7 +295,7 @@ public class AmazonSimpleEmailServiceClient extends AmazonWebServiceClient imple
      */
     public void verifyEmailAddress(VerifyEmailAddressRequest verifyEmailAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<VerifyEmailAddressRequest> request = new VerifyEmailAddressRequestMarshaller().marshall(verifyEmailAddressRequest);
+        Request<VerifyEmailAddressRequest> request = VerifyEmailAddressRequestMarshaller.getInstance().marshall(verifyEmailAddressRequest);
         invoke(request, null);
     }
     
@@ -325,8 +332,8 @@ public class AmazonSimpleEmailServiceClient extends AmazonWebServiceClient imple
      */
     public SendRawEmailResult sendRawEmail(SendRawEmailRequest sendRawEmailRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<SendRawEmailRequest> request = new SendRawEmailRequestMarshaller().marshall(sendRawEmailRequest);
-        return invoke(request, new SendRawEmailResultStaxUnmarshaller());
+        Request<SendRawEmailRequest> request = SendRawEmailRequestMarshaller.getInstance().marshall(sendRawEmailRequest);
+        return invoke(request, SendRawEmailResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -441,7 +448,6 @@ public class AmazonSimpleEmailServiceClient extends AmazonWebServiceClient imple
 
         
         StaxResponseHandler<X> responseHandler = new StaxResponseHandler<X>(unmarshaller);
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
 
         ExecutionContext executionContext = createExecutionContext();
         return (X)client.execute(request, responseHandler, errorResponseHandler, executionContext);
@@ -42,4 +42,9 @@ public class DeleteVerifiedEmailAddressRequestMarshaller implements Marshaller<R
 
         return request;
     }
+
+    private static final DeleteVerifiedEmailAddressRequestMarshaller instance = new DeleteVerifiedEmailAddressRequestMarshaller();
+    public static DeleteVerifiedEmailAddressRequestMarshaller getInstance() {
+        return instance;
+    }
 }
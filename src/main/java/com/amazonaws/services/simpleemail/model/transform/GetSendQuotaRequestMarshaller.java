@@ -37,4 +37,9 @@ public class GetSendQuotaRequestMarshaller implements Marshaller<Request<GetSend
 
         return request;
     }
+
+    private static final GetSendQuotaRequestMarshaller instance = new GetSendQuotaRequestMarshaller();
+    public static GetSendQuotaRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -67,9 +67,8 @@ public class GetSendQuotaResultStaxUnmarshaller implements Unmarshaller<GetSendQ
         }
     }
 
-    private static GetSendQuotaResultStaxUnmarshaller instance;
+    private static final GetSendQuotaResultStaxUnmarshaller instance = new GetSendQuotaResultStaxUnmarshaller();
     public static GetSendQuotaResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new GetSendQuotaResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -37,4 +37,9 @@ public class GetSendStatisticsRequestMarshaller implements Marshaller<Request<Ge
 
         return request;
     }
+
+    private static final GetSendStatisticsRequestMarshaller instance = new GetSendStatisticsRequestMarshaller();
+    public static GetSendStatisticsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class GetSendStatisticsResultStaxUnmarshaller implements Unmarshaller<Get
         }
     }
 
-    private static GetSendStatisticsResultStaxUnmarshaller instance;
+    private static final GetSendStatisticsResultStaxUnmarshaller instance = new GetSendStatisticsResultStaxUnmarshaller();
     public static GetSendStatisticsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new GetSendStatisticsResultStaxUnmarshaller();
         return instance;
     }
 }
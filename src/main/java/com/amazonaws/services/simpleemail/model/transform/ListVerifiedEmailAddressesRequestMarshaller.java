@@ -37,4 +37,9 @@ public class ListVerifiedEmailAddressesRequestMarshaller implements Marshaller<R
 
         return request;
     }
+
+    private static final ListVerifiedEmailAddressesRequestMarshaller instance = new ListVerifiedEmailAddressesRequestMarshaller();
+    public static ListVerifiedEmailAddressesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
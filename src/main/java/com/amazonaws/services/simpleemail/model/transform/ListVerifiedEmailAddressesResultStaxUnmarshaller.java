@@ -59,9 +59,8 @@ public class ListVerifiedEmailAddressesResultStaxUnmarshaller implements Unmarsh
         }
     }
 
-    private static ListVerifiedEmailAddressesResultStaxUnmarshaller instance;
+    private static final ListVerifiedEmailAddressesResultStaxUnmarshaller instance = new ListVerifiedEmailAddressesResultStaxUnmarshaller();
     public static ListVerifiedEmailAddressesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ListVerifiedEmailAddressesResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.simpleemail.model.MessageRejectedException;
 public class MessageRejectedExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public MessageRejectedExceptionUnmarshaller() {
-        super(MessageRejectedException.class);
+        super(MessageRejectedException.class, "MessageRejected");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -75,9 +75,8 @@ public class SendDataPointStaxUnmarshaller implements Unmarshaller<SendDataPoint
         }
     }
 
-    private static SendDataPointStaxUnmarshaller instance;
+    private static final SendDataPointStaxUnmarshaller instance = new SendDataPointStaxUnmarshaller();
     public static SendDataPointStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new SendDataPointStaxUnmarshaller();
         return instance;
     }
 }
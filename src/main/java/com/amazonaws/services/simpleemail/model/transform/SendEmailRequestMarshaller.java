@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.simpleemail.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,11 @@ import com.amazonaws.util.StringUtils;
  */
 public class SendEmailRequestMarshaller implements Marshaller<Request<SendEmailRequest>, SendEmailRequest> {
 
+    private static final ParameterNameTable DESTINATION_TO_ADDRESSES_MEMBER_NAMES = new ParameterNameTable("Destination.ToAddresses.member.", "");
+    private static final ParameterNameTable DESTINATION_CC_ADDRESSES_MEMBER_NAMES = new ParameterNameTable("Destination.CcAddresses.member.", "");
+    private static final ParameterNameTable DESTINATION_BCC_ADDRESSES_MEMBER_NAMES = new ParameterNameTable("Destination.BccAddresses.member.", "");
+    private static final ParameterNameTable REPLY_TO_ADDRESSES_MEMBER_NAMES = new ParameterNameTable("ReplyToAddresses.member.", "");
+
     public Request<SendEmailRequest> marshall(SendEmailRequest sendEmailRequest) {
         Request<SendEmailRequest> request = new DefaultRequest<SendEmailRequest>(sendEmailRequest, "AmazonSimpleEmailService");
         request.addParameter("Action", "SendEmail");
@@ -46,7 +52,7 @@ public class SendEmailRequestMarshaller implements Marshaller<Request<SendEmailR
 
                 for (String toAddressesListValue : toAddressesList) {
                     if (toAddressesListValue != null) {
-                        request.addParameter("Destination.ToAddresses.member." + toAddressesListIndex, StringUtils.fromString(toAddressesListValue));
+                        request.addParameter(DESTINATION_TO_ADDRESSES_MEMBER_NAMES.get(toAddressesListIndex), StringUtils.fromString(toAddressesListValue));
                     }
                     toAddressesListIndex++;
                 }
@@ -57,7 +63,7 @@ public class SendEmailRequestMarshaller implements Marshaller<Request<SendEmailR
 
                 for (String ccAddressesListValue : ccAddressesList) {
                     if (ccAddressesListValue != null) {
-                        request.addParameter("Destination.CcAddresses.member." + ccAddressesListIndex, StringUtils.fromString(ccAddressesListValue));
+                        request.addParameter(DESTINATION_CC_ADDRESSES_MEMBER_NAMES.get(ccAddressesListIndex), StringUtils.fromString(ccAddressesListValue));
                     }
                     ccAddressesListIndex++;
                 }
@@ -68,7 +74,7 @@ public class SendEmailRequestMarshaller implements Marshaller<Request<SendEmailR
 
                 for (String bccAddressesListValue : bccAddressesList) {
                     if (bccAddressesListValue != null) {
-                        request.addParameter("Destination.BccAddresses.member." + bccAddressesListIndex, StringUtils.fromString(bccAddressesListValue));
+                        request.addParameter(DESTINATION_BCC_ADDRESSES_MEMBER_NAMES.get(bccAddressesListIndex), StringUtils.fromString(bccAddressesListValue));
                     }
                     bccAddressesListIndex++;
                 }
@@ -125,7 +131,7 @@ public class SendEmailRequestMarshaller implements Marshaller<Request<SendEmailR
 
             for (String replyToAddressesListValue : replyToAddressesList) {
                 if (replyToAddressesListValue != null) {
-                    request.addParameter("ReplyToAddresses.member." + replyToAddressesListIndex, StringUtils.fromString(replyToAddressesListValue));
+                    request.addParameter(REPLY_TO_ADDRESSES_MEMBER_NAMES.get(replyToAddressesListIndex), StringUtils.fromString(replyToAddressesListValue));
                 }
                 replyToAddressesListIndex++;
             }
@@ -139,4 +145,9 @@ public class SendEmailRequestMarshaller implements Marshaller<Request<SendEmailR
 
         return request;
     }
+
+    private static final SendEmailRequestMarshaller instance = new SendEmailRequestMarshaller();
+    public static SendEmailRequestMarshaller getInstance() {
+        return instance;
+    }
 }
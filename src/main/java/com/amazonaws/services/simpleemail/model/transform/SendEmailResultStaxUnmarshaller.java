@@ -59,9 +59,8 @@ public class SendEmailResultStaxUnmarshaller implements Unmarshaller<SendEmailRe
         }
     }
 
-    private static SendEmailResultStaxUnmarshaller instance;
+    private static final SendEmailResultStaxUnmarshaller instance = new SendEmailResultStaxUnmarshaller();
     public static SendEmailResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new SendEmailResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.simpleemail.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class SendRawEmailRequestMarshaller implements Marshaller<Request<SendRawEmailRequest>, SendRawEmailRequest> {
 
+    private static final ParameterNameTable DESTINATIONS_MEMBER_NAMES = new ParameterNameTable("Destinations.member.", "");
+
     public Request<SendRawEmailRequest> marshall(SendRawEmailRequest sendRawEmailRequest) {
         Request<SendRawEmailRequest> request = new DefaultRequest<SendRawEmailRequest>(sendRawEmailRequest, "AmazonSimpleEmailService");
         request.addParameter("Action", "SendRawEmail");
@@ -44,7 +47,7 @@ public class SendRawEmailRequestMarshaller implements Marshaller<Request<SendRaw
 
             for (String destinationsListValue : destinationsList) {
                 if (destinationsListValue != null) {
-                    request.addParameter("Destinations.member." + destinationsListIndex, StringUtils.fromString(destinationsListValue));
+                    request.addParameter(DESTINATIONS_MEMBER_NAMES.get(destinationsListIndex), StringUtils.fromString(destinationsListValue));
                 }
                 destinationsListIndex++;
             }
@@ -61,4 +64,9 @@ public class SendRawEmailRequestMarshaller implements Marshaller<Request<SendRaw
 
         return request;
     }
+
+    private static final SendRawEmailRequestMarshaller instance = new SendRawEmailRequestMarshaller();
+    public static SendRawEmailRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class SendRawEmailResultStaxUnmarshaller implements Unmarshaller<SendRawE
         }
     }
 
-    private static SendRawEmailResultStaxUnmarshaller instance;
+    private static final SendRawEmailResultStaxUnmarshaller instance = new SendRawEmailResultStaxUnmarshaller();
     public static SendRawEmailResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new SendRawEmailResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -42,4 +42,9 @@ public class VerifyEmailAddressRequestMarshaller implements Marshaller<Request<V
 
         return request;
     }
+
+    private static final VerifyEmailAddressRequestMarshaller instance = new VerifyEmailAddressRequestMarshaller();
+    public static VerifyEmailAddressRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -18,6 +18,7 @@ import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.services.sns.model.*;
 
 /**
@@ -53,6 +54,38 @@ public interface AmazonSNSAsync extends AmazonSNS {
     public Future<ConfirmSubscriptionResult> confirmSubscriptionAsync(ConfirmSubscriptionRequest confirmSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The ConfirmSubscription action verifies an endpoint owner's intent to
+     * receive messages by validating the token sent to the endpoint by an
+     * earlier Subscribe action. If the token is valid, the action creates a
+     * new subscription and returns its Amazon Resource Name (ARN). This call
+     * requires an AWS signature only when the AuthenticateOnUnsubscribe flag
+     * is set to "true".
+     * </p>
+     *
+     * @param confirmSubscriptionRequest Container for the necessary
+     *           parameters to execute the ConfirmSubscription operation on AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ConfirmSubscription service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ConfirmSubscriptionResult> confirmSubscriptionAsync(ConfirmSubscriptionRequest confirmSubscriptionRequest,
+            AsyncHandler<ConfirmSubscriptionRequest, ConfirmSubscriptionResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The GetTopicAttribtues action returns all of the properties of a topic
@@ -77,6 +110,35 @@ public interface AmazonSNSAsync extends AmazonSNS {
     public Future<GetTopicAttributesResult> getTopicAttributesAsync(GetTopicAttributesRequest getTopicAttributesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The GetTopicAttribtues action returns all of the properties of a topic
+     * customers have created. Topic properties returned might differ based
+     * on the authorization of the user.
+     * </p>
+     *
+     * @param getTopicAttributesRequest Container for the necessary
+     *           parameters to execute the GetTopicAttributes operation on AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetTopicAttributes service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetTopicAttributesResult> getTopicAttributesAsync(GetTopicAttributesRequest getTopicAttributesRequest,
+            AsyncHandler<GetTopicAttributesRequest, GetTopicAttributesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The Subscribe action prepares to subscribe an endpoint by sending the
@@ -103,6 +165,37 @@ public interface AmazonSNSAsync extends AmazonSNS {
     public Future<SubscribeResult> subscribeAsync(SubscribeRequest subscribeRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The Subscribe action prepares to subscribe an endpoint by sending the
+     * endpoint a confirmation message. To actually create a subscription,
+     * the endpoint owner must call the ConfirmSubscription action with the
+     * token from the confirmation message. Confirmation tokens are valid for
+     * twenty-four hours.
+     * </p>
+     *
+     * @param subscribeRequest Container for the necessary parameters to
+     *           execute the Subscribe operation on AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         Subscribe service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<SubscribeResult> subscribeAsync(SubscribeRequest subscribeRequest,
+            AsyncHandler<SubscribeRequest, SubscribeResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The SetTopicAttributes action allows a topic owner to set an attribute
@@ -126,6 +219,34 @@ public interface AmazonSNSAsync extends AmazonSNS {
     public Future<Void> setTopicAttributesAsync(SetTopicAttributesRequest setTopicAttributesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The SetTopicAttributes action allows a topic owner to set an attribute
+     * of the topic to a new value.
+     * </p>
+     *
+     * @param setTopicAttributesRequest Container for the necessary
+     *           parameters to execute the SetTopicAttributes operation on AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         SetTopicAttributes service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setTopicAttributesAsync(SetTopicAttributesRequest setTopicAttributesRequest,
+            AsyncHandler<SetTopicAttributesRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The DeleteTopic action deletes a topic and all its subscriptions.
@@ -151,6 +272,36 @@ public interface AmazonSNSAsync extends AmazonSNS {
     public Future<Void> deleteTopicAsync(DeleteTopicRequest deleteTopicRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The DeleteTopic action deletes a topic and all its subscriptions.
+     * Deleting a topic might prevent some messages previously sent to the
+     * topic from being delivered to subscribers. This action is idempotent,
+     * so deleting a topic that does not exist will not result in an error.
+     * </p>
+     *
+     * @param deleteTopicRequest Container for the necessary parameters to
+     *           execute the DeleteTopic operation on AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteTopic service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteTopicAsync(DeleteTopicRequest deleteTopicRequest,
+            AsyncHandler<DeleteTopicRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The RemovePermission action removes a statement from a topic's access
@@ -174,6 +325,34 @@ public interface AmazonSNSAsync extends AmazonSNS {
     public Future<Void> removePermissionAsync(RemovePermissionRequest removePermissionRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The RemovePermission action removes a statement from a topic's access
+     * control policy.
+     * </p>
+     *
+     * @param removePermissionRequest Container for the necessary parameters
+     *           to execute the RemovePermission operation on AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RemovePermission service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> removePermissionAsync(RemovePermissionRequest removePermissionRequest,
+            AsyncHandler<RemovePermissionRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The ListSubscriptions action returns a list of the requester's
@@ -200,6 +379,37 @@ public interface AmazonSNSAsync extends AmazonSNS {
     public Future<ListSubscriptionsResult> listSubscriptionsAsync(ListSubscriptionsRequest listSubscriptionsRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The ListSubscriptions action returns a list of the requester's
+     * subscriptions. Each call returns a limited list of subscriptions. If
+     * there are more subscriptions, a NextToken is also returned. Use the
+     * NextToken parameter in a new ListSubscriptions call to get further
+     * results.
+     * </p>
+     *
+     * @param listSubscriptionsRequest Container for the necessary parameters
+     *           to execute the ListSubscriptions operation on AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListSubscriptions service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListSubscriptionsResult> listSubscriptionsAsync(ListSubscriptionsRequest listSubscriptionsRequest,
+            AsyncHandler<ListSubscriptionsRequest, ListSubscriptionsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The AddPermission action adds a statement to a topic's access control
@@ -224,6 +434,35 @@ public interface AmazonSNSAsync extends AmazonSNS {
     public Future<Void> addPermissionAsync(AddPermissionRequest addPermissionRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The AddPermission action adds a statement to a topic's access control
+     * policy, granting access for the specified AWS accounts to the
+     * specified actions.
+     * </p>
+     *
+     * @param addPermissionRequest Container for the necessary parameters to
+     *           execute the AddPermission operation on AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AddPermission service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> addPermissionAsync(AddPermissionRequest addPermissionRequest,
+            AsyncHandler<AddPermissionRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The CreateTopic action creates a topic to which notifications can be
@@ -250,6 +489,37 @@ public interface AmazonSNSAsync extends AmazonSNS {
     public Future<CreateTopicResult> createTopicAsync(CreateTopicRequest createTopicRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The CreateTopic action creates a topic to which notifications can be
+     * published. Users can create at most 25 topics. This action is
+     * idempotent, so if the requester already owns a topic with the
+     * specified name, that topic's ARN will be returned without creating a
+     * new topic.
+     * </p>
+     *
+     * @param createTopicRequest Container for the necessary parameters to
+     *           execute the CreateTopic operation on AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateTopic service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateTopicResult> createTopicAsync(CreateTopicRequest createTopicRequest,
+            AsyncHandler<CreateTopicRequest, CreateTopicResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The ListTopics action returns a list of the requester's topics. Each
@@ -275,6 +545,36 @@ public interface AmazonSNSAsync extends AmazonSNS {
     public Future<ListTopicsResult> listTopicsAsync(ListTopicsRequest listTopicsRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The ListTopics action returns a list of the requester's topics. Each
+     * call returns a limited list of topics. If there are more topics, a
+     * NextToken is also returned. Use the NextToken parameter in a new
+     * ListTopics call to get further results.
+     * </p>
+     *
+     * @param listTopicsRequest Container for the necessary parameters to
+     *           execute the ListTopics operation on AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListTopics service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListTopicsResult> listTopicsAsync(ListTopicsRequest listTopicsRequest,
+            AsyncHandler<ListTopicsRequest, ListTopicsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The Unsubscribe action deletes a subscription. If the subscription
@@ -304,6 +604,40 @@ public interface AmazonSNSAsync extends AmazonSNS {
     public Future<Void> unsubscribeAsync(UnsubscribeRequest unsubscribeRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The Unsubscribe action deletes a subscription. If the subscription
+     * requires authentication for deletion, only the owner of the
+     * subscription or the its topic's owner can unsubscribe, and an AWS
+     * signature is required. If the Unsubscribe call does not require
+     * authentication and the requester is not the subscription owner, a
+     * final cancellation message is delivered to the endpoint, so that the
+     * endpoint owner can easily resubscribe to the topic if the Unsubscribe
+     * request was unintended.
+     * </p>
+     *
+     * @param unsubscribeRequest Container for the necessary parameters to
+     *           execute the Unsubscribe operation on AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         Unsubscribe service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> unsubscribeAsync(UnsubscribeRequest unsubscribeRequest,
+            AsyncHandler<UnsubscribeRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The ListSubscriptionsByTopic action returns a list of the
@@ -331,6 +665,38 @@ public interface AmazonSNSAsync extends AmazonSNS {
     public Future<ListSubscriptionsByTopicResult> listSubscriptionsByTopicAsync(ListSubscriptionsByTopicRequest listSubscriptionsByTopicRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The ListSubscriptionsByTopic action returns a list of the
+     * subscriptions to a specific topic. Each call returns a limited list of
+     * subscriptions. If there are more subscriptions, a NextToken is also
+     * returned. Use the NextToken parameter in a new
+     * ListSubscriptionsByTopic call to get further results.
+     * </p>
+     *
+     * @param listSubscriptionsByTopicRequest Container for the necessary
+     *           parameters to execute the ListSubscriptionsByTopic operation on
+     *           AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListSubscriptionsByTopic service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListSubscriptionsByTopicResult> listSubscriptionsByTopicAsync(ListSubscriptionsByTopicRequest listSubscriptionsByTopicRequest,
+            AsyncHandler<ListSubscriptionsByTopicRequest, ListSubscriptionsByTopicResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The Publish action sends a message to all of a topic's subscribed
@@ -357,5 +723,36 @@ public interface AmazonSNSAsync extends AmazonSNS {
     public Future<PublishResult> publishAsync(PublishRequest publishRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The Publish action sends a message to all of a topic's subscribed
+     * endpoints. When a messageId is returned, the message has been saved
+     * and Amazon SNS will attempt to deliver it to the topic's subscribers
+     * shortly. The format of the outgoing message to each subscribed
+     * endpoint depends on the notification protocol selected.
+     * </p>
+     *
+     * @param publishRequest Container for the necessary parameters to
+     *           execute the Publish operation on AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the Publish
+     *         service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<PublishResult> publishAsync(PublishRequest publishRequest,
+            AsyncHandler<PublishRequest, PublishResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
 }
         
\ No newline at end of file
@@ -16,13 +16,14 @@ package com.amazonaws.services.sns;
             
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.util.InstrumentedThreadPoolExecutor;
 
 import com.amazonaws.services.sns.model.*;
 
@@ -46,8 +47,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
     /**
      * Constructs a new asynchronous client to invoke service methods on 
      * AmazonSNS using the specified AWS account credentials.
-     * Default client settings will be used, and a default cached thread pool will be 
-     * created for executing the asynchronous tasks.
+     * Default client settings will be used, and a default bounded thread pool will be 
+     * created for executing the asynchronous tasks (see
+     * {@link InstrumentedThreadPoolExecutor#newDefaultExecutor(String, ClientConfiguration)}).
      *
      * <p>
      * All calls made using this new client object are non-blocking, and will immediately
@@ -58,7 +60,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      *                       when authenticating with AWS services.
      */                                      
     public AmazonSNSAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newCachedThreadPool());
+        this(awsCredentials, InstrumentedThreadPoolExecutor.newDefaultExecutor("AmazonSNSAsyncClient", new ClientConfiguration()));
     }
 
     /**
@@ -153,6 +155,54 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
 		});
     }
     
+    /**
+     * <p>
+     * The ConfirmSubscription action verifies an endpoint owner's intent to
+     * receive messages by validating the token sent to the endpoint by an
+     * earlier Subscribe action. If the token is valid, the action creates a
+     * new subscription and returns its Amazon Resource Name (ARN). This call
+     * requires an AWS signature only when the AuthenticateOnUnsubscribe flag
+     * is set to "true".
+     * </p>
+     *
+     * @param confirmSubscriptionRequest Container for the necessary
+     *           parameters to execute the ConfirmSubscription operation on AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ConfirmSubscription service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ConfirmSubscriptionResult> confirmSubscriptionAsync(
+            final ConfirmSubscriptionRequest confirmSubscriptionRequest,
+            final AsyncHandler<ConfirmSubscriptionRequest, ConfirmSubscriptionResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ConfirmSubscriptionResult>() {
+            public ConfirmSubscriptionResult call() throws Exception {
+                ConfirmSubscriptionResult result;
+                try {
+                    result = confirmSubscription(confirmSubscriptionRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(confirmSubscriptionRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The GetTopicAttribtues action returns all of the properties of a topic
@@ -183,6 +233,51 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
 		});
     }
     
+    /**
+     * <p>
+     * The GetTopicAttribtues action returns all of the properties of a topic
+     * customers have created. Topic properties returned might differ based
+     * on the authorization of the user.
+     * </p>
+     *
+     * @param getTopicAttributesRequest Container for the necessary
+     *           parameters to execute the GetTopicAttributes operation on AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetTopicAttributes service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetTopicAttributesResult> getTopicAttributesAsync(
+            final GetTopicAttributesRequest getTopicAttributesRequest,
+            final AsyncHandler<GetTopicAttributesRequest, GetTopicAttributesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<GetTopicAttributesResult>() {
+            public GetTopicAttributesResult call() throws Exception {
+                GetTopicAttributesResult result;
+                try {
+                    result = getTopicAttributes(getTopicAttributesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(getTopicAttributesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The Subscribe action prepares to subscribe an endpoint by sending the
@@ -215,6 +310,53 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
 		});
     }
     
+    /**
+     * <p>
+     * The Subscribe action prepares to subscribe an endpoint by sending the
+     * endpoint a confirmation message. To actually create a subscription,
+     * the endpoint owner must call the ConfirmSubscription action with the
+     * token from the confirmation message. Confirmation tokens are valid for
+     * twenty-four hours.
+     * </p>
+     *
+     * @param subscribeRequest Container for the necessary parameters to
+     *           execute the Subscribe operation on AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         Subscribe service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<SubscribeResult> subscribeAsync(
+            final SubscribeRequest subscribeRequest,
+            final AsyncHandler<SubscribeRequest, SubscribeResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<SubscribeResult>() {
+            public SubscribeResult call() throws Exception {
+                SubscribeResult result;
+                try {
+                    result = subscribe(subscribeRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(subscribeRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The SetTopicAttributes action allows a topic owner to set an attribute
@@ -245,6 +387,49 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
 		});
     }
     
+    /**
+     * <p>
+     * The SetTopicAttributes action allows a topic owner to set an attribute
+     * of the topic to a new value.
+     * </p>
+     *
+     * @param setTopicAttributesRequest Container for the necessary
+     *           parameters to execute the SetTopicAttributes operation on AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         SetTopicAttributes service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setTopicAttributesAsync(
+            final SetTopicAttributesRequest setTopicAttributesRequest,
+            final AsyncHandler<SetTopicAttributesRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    setTopicAttributes(setTopicAttributesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(setTopicAttributesRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The DeleteTopic action deletes a topic and all its subscriptions.
@@ -277,6 +462,51 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
 		});
     }
     
+    /**
+     * <p>
+     * The DeleteTopic action deletes a topic and all its subscriptions.
+     * Deleting a topic might prevent some messages previously sent to the
+     * topic from being delivered to subscribers. This action is idempotent,
+     * so deleting a topic that does not exist will not result in an error.
+     * </p>
+     *
+     * @param deleteTopicRequest Container for the necessary parameters to
+     *           execute the DeleteTopic operation on AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteTopic service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteTopicAsync(
+            final DeleteTopicRequest deleteTopicRequest,
+            final AsyncHandler<DeleteTopicRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteTopic(deleteTopicRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteTopicRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The RemovePermission action removes a statement from a topic's access
@@ -307,6 +537,49 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
 		});
     }
     
+    /**
+     * <p>
+     * The RemovePermission action removes a statement from a topic's access
+     * control policy.
+     * </p>
+     *
+     * @param removePermissionRequest Container for the necessary parameters
+     *           to execute the RemovePermission operation on AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RemovePermission service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> removePermissionAsync(
+            final RemovePermissionRequest removePermissionRequest,
+            final AsyncHandler<RemovePermissionRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    removePermission(removePermissionRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(removePermissionRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The ListSubscriptions action returns a list of the requester's
@@ -339,6 +612,53 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
 		});
     }
     
+    /**
+     * <p>
+     * The ListSubscriptions action returns a list of the requester's
+     * subscriptions. Each call returns a limited list of subscriptions. If
+     * there are more subscriptions, a NextToken is also returned. Use the
+     * NextToken parameter in a new ListSubscriptions call to get further
+     * results.
+     * </p>
+     *
+     * @param listSubscriptionsRequest Container for the necessary parameters
+     *           to execute the ListSubscriptions operation on AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListSubscriptions service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListSubscriptionsResult> listSubscriptionsAsync(
+            final ListSubscriptionsRequest listSubscriptionsRequest,
+            final AsyncHandler<ListSubscriptionsRequest, ListSubscriptionsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ListSubscriptionsResult>() {
+            public ListSubscriptionsResult call() throws Exception {
+                ListSubscriptionsResult result;
+                try {
+                    result = listSubscriptions(listSubscriptionsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(listSubscriptionsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The AddPermission action adds a statement to a topic's access control
@@ -370,6 +690,50 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
 		});
     }
     
+    /**
+     * <p>
+     * The AddPermission action adds a statement to a topic's access control
+     * policy, granting access for the specified AWS accounts to the
+     * specified actions.
+     * </p>
+     *
+     * @param addPermissionRequest Container for the necessary parameters to
+     *           execute the AddPermission operation on AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AddPermission service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> addPermissionAsync(
+            final AddPermissionRequest addPermissionRequest,
+            final AsyncHandler<AddPermissionRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    addPermission(addPermissionRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(addPermissionRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The CreateTopic action creates a topic to which notifications can be
@@ -402,6 +766,53 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
 		});
     }
     
+    /**
+     * <p>
+     * The CreateTopic action creates a topic to which notifications can be
+     * published. Users can create at most 25 topics. This action is
+     * idempotent, so if the requester already owns a topic with the
+     * specified name, that topic's ARN will be returned without creating a
+     * new topic.
+     * </p>
+     *
+     * @param createTopicRequest Container for the necessary parameters to
+     *           execute the CreateTopic operation on AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateTopic service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateTopicResult> createTopicAsync(
+            final CreateTopicRequest createTopicRequest,
+            final AsyncHandler<CreateTopicRequest, CreateTopicResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateTopicResult>() {
+            public CreateTopicResult call() throws Exception {
+                CreateTopicResult result;
+                try {
+                    result = createTopic(createTopicRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createTopicRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The ListTopics action returns a list of the requester's topics. Each
@@ -433,6 +844,52 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
 		});
     }
     
+    /**
+     * <p>
+     * The ListTopics action returns a list of the requester's topics. Each
+     * call returns a limited list of topics. If there are more topics, a
+     * NextToken is also returned. Use the NextToken parameter in a new
+     * ListTopics call to get further results.
+     * </p>
+     *
+     * @param listTopicsRequest Container for the necessary parameters to
+     *           execute the ListTopics operation on AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListTopics service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListTopicsResult> listTopicsAsync(
+            final ListTopicsRequest listTopicsRequest,
+            final AsyncHandler<ListTopicsRequest, ListTopicsResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ListTopicsResult>() {
+            public ListTopicsResult call() throws Exception {
+                ListTopicsResult result;
+                try {
+                    result = listTopics(listTopicsRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(listTopicsRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The Unsubscribe action deletes a subscription. If the subscription
@@ -469,6 +926,55 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
 		});
     }
     
+    /**
+     * <p>
+     * The Unsubscribe action deletes a subscription. If the subscription
+     * requires authentication for deletion, only the owner of the
+     * subscription or the its topic's owner can unsubscribe, and an AWS
+     * signature is required. If the Unsubscribe call does not require
+     * authentication and the requester is not the subscription owner, a
+     * final cancellation message is delivered to the endpoint, so that the
+     * endpoint owner can easily resubscribe to the topic if the Unsubscribe
+     * request was unintended.
+     * </p>
+     *
+     * @param unsubscribeRequest Container for the necessary parameters to
+     *           execute the Unsubscribe operation on AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         Unsubscribe service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> unsubscribeAsync(
+            final UnsubscribeRequest unsubscribeRequest,
+            final AsyncHandler<UnsubscribeRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    unsubscribe(unsubscribeRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(unsubscribeRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The ListSubscriptionsByTopic action returns a list of the
@@ -502,6 +1008,54 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
 		});
     }
     
+    /**
+     * <p>
+     * The ListSubscriptionsByTopic action returns a list of the
+     * subscriptions to a specific topic. Each call returns a limited list of
+     * subscriptions. If there are more subscriptions, a NextToken is also
+     * returned. Use the NextToken parameter in a new
+     * ListSubscriptionsByTopic call to get further results.
+     * </p>
+     *
+     * @param listSubscriptionsByTopicRequest Container for the necessary
+     *           parameters to execute the ListSubscriptionsByTopic operation on
+     *           AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListSubscriptionsByTopic service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListSubscriptionsByTopicResult> listSubscriptionsByTopicAsync(
+            final ListSubscriptionsByTopicRequest listSubscriptionsByTopicRequest,
+            final AsyncHandler<ListSubscriptionsByTopicRequest, ListSubscriptionsByTopicResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ListSubscriptionsByTopicResult>() {
+            public ListSubscriptionsByTopicResult call() throws Exception {
+                ListSubscriptionsByTopicResult result;
+                try {
+                    result = listSubscriptionsByTopic(listSubscriptionsByTopicRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(listSubscriptionsByTopicRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The Publish action sends a message to all of a topic's subscribed
@@ -534,5 +1088,52 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
 		});
     }
     
+    /**
+     * <p>
+     * The Publish action sends a message to all of a topic's subscribed
+     * endpoints. When a messageId is returned, the message has been saved
+     * and Amazon SNS will attempt to deliver it to the topic's subscribers
+     * shortly. The format of the outgoing message to each subscribed
+     * endpoint depends on the notification protocol selected.
+     * </p>
+     *
+     * @param publishRequest Container for the necessary parameters to
+     *           execute the Publish operation on AmazonSNS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the Publish
+     *         service method, as returned by AmazonSNS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSNS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<PublishResult> publishAsync(
+            final PublishRequest publishRequest,
+            final AsyncHandler<PublishRequest, PublishResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<PublishResult>() {
+            public PublishResult call() throws Exception {
+                PublishResult result;
+                try {
+                    result = publish(publishRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(publishRequest, result);
+                return result;
+		    }
+		});
+    }
+    
 }
         
\ No newline at end of file
@@ -58,6 +58,12 @@ public class AmazonSNSClient extends AmazonWebServiceClient implements AmazonSNS
      */
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers;
 
+    /**
+     * Handles error responses for all service calls, built once so its index
+     * of exception unmarshallers is shared across calls.
+     */
+    private final DefaultErrorResponseHandler errorResponseHandler;
+
     
     /** AWS signer for authenticating requests. */
     private QueryStringSigner signer;
@@ -106,6 +112,7 @@ public class AmazonSNSClient extends AmazonWebServiceClient implements AmazonSNS
         exceptionUnmarshallers.add(new InvalidParameterExceptionUnmarshaller());
         
         exceptionUnmarshallers.add(new StandardErrorUnmarshaller());
+        errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
         setEndpoint("sns.us-east-1.amazonaws.com");
 
         signer = new QueryStringSigner();
@@ -149,8 +156,8 @@ public class AmazonSNSClient extends AmazonWebServiceClient implements AmazonSNS
      */
     public ConfirmSubscriptionResult confirmSubscription(ConfirmSubscriptionRequest confirmSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ConfirmSubscriptionRequest> request = new ConfirmSubscriptionRequestMarshaller().marshall(confirmSubscriptionRequest);
-        return invoke(request, new ConfirmSubscriptionResultStaxUnmarshaller());
+        Request<ConfirmSubscriptionRequest> request = ConfirmSubscriptionRequestMarshaller.getInstance().marshall(confirmSubscriptionRequest);
+        return invoke(request, ConfirmSubscriptionResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -182,8 +189,8 @@ public class AmazonSNSClient extends AmazonWebServiceClient implements AmazonSNS
      */
     public GetTopicAttributesResult getTopicAttributes(GetTopicAttributesRequest getTopicAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<GetTopicAttributesRequest> request = new GetTopicAttributesRequestMarshaller().marshall(getTopicAttributesRequest);
-        return invoke(request, new GetTopicAttributesResultStaxUnmarshaller());
+        Request<GetTopicAttributesRequest> request = GetTopicAttributesRequestMarshaller.getInstance().marshall(getTopicAttributesRequest);
+        return invoke(request, GetTopicAttributesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -217,8 +224,8 @@ public class AmazonSNSClient extends AmazonWebServiceClient implements AmazonSNS
      */
     public SubscribeResult subscribe(SubscribeRequest subscribeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<SubscribeRequest> request = new SubscribeRequestMarshaller().marshall(subscribeRequest);
-        return invoke(request, new SubscribeResultStaxUnmarshaller());
+        Request<SubscribeRequest> request = SubscribeRequestMarshaller.getInstance().marshall(subscribeRequest);
+        return invoke(request, SubscribeResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -246,7 +253,7 @@ public class AmazonSNSClient extends AmazonWebServiceClient implements AmazonSNS
      */
     public void setTopicAttributes(SetTopicAttributesRequest setTopicAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<SetTopicAttributesRequest> request = new SetTopicAttributesRequestMarshaller().marshall(setTopicAttributesRequest);
+        Request<SetTopicAttributesRequest> request = SetTopicAttributesRequestMarshaller.getInstance().marshall(setTopicAttributesRequest);
         invoke(request, null);
     }
     
@@ -276,7 +283,7 @@ public class AmazonSNSClient extends AmazonWebServiceClient implements AmazonSNS
      */
     public void deleteTopic(DeleteTopicRequest deleteTopicRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteTopicRequest> request = new DeleteTopicRequestMarshaller().marshall(deleteTopicRequest);
+        Request<DeleteTopicRequest> request = DeleteTopicRequestMarshaller.getInstance().marshall(deleteTopicRequest);
         invoke(request, null);
     }
     
@@ -304,7 +311,7 @@ public class AmazonSNSClient extends AmazonWebServiceClient implements AmazonSNS
      */
     public void removePermission(RemovePermissionRequest removePermissionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<RemovePermissionRequest> request = new RemovePermissionRequestMarshaller().marshall(removePermissionRequest);
+        Request<RemovePermissionRequest> request = RemovePermissionRequestMarshaller.getInstance().marshall(removePermissionRequest);
         invoke(request, null);
     }
     
@@ -337,8 +344,8 @@ public class AmazonSNSClient extends AmazonWebServiceClient implements AmazonSNS
      */
     public ListSubscriptionsResult listSubscriptions(ListSubscriptionsRequest listSubscriptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ListSubscriptionsRequest> request = new ListSubscriptionsRequestMarshaller().marshall(listSubscriptionsRequest);
-        return invoke(request, new ListSubscriptionsResultStaxUnmarshaller());
+        Request<ListSubscriptionsRequest> request = ListSubscriptionsRequestMarshaller.getInstance().marshall(listSubscriptionsRequest);
+        return invoke(request, ListSubscriptionsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -366,7 +373,7 @@ public class AmazonSNSClient extends AmazonWebServiceClient implements AmazonSNS
      */
     public void addPermission(AddPermissionRequest addPermissionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<AddPermissionRequest> request = new AddPermissionRequestMarshaller().marshall(addPermissionRequest);
+        Request<AddPermissionRequest> request = AddPermissionRequestMarshaller.getInstance().marshall(addPermissionRequest);
         invoke(request, null);
     }
     
@@ -400,8 +407,8 @@ public class AmazonSNSClient extends AmazonWebServiceClient implements AmazonSNS
      */
     public CreateTopicResult createTopic(CreateTopicRequest createTopicRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateTopicRequest> request = new CreateTopicRequestMarshaller().marshall(createTopicRequest);
-        return invoke(request, new CreateTopicResultStaxUnmarshaller());
+        Request<CreateTopicRequest> request = CreateTopicRequestMarshaller.getInstance().marshall(createTopicRequest);
+        return invoke(request, CreateTopicResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -432,8 +439,8 @@ public class AmazonSNSClient extends AmazonWebServiceClient implements AmazonSNS
      */
     public ListTopicsResult listTopics(ListTopicsRequest listTopicsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ListTopicsRequest> request = new ListTopicsRequestMarshaller().marshall(listTopicsRequest);
-        return invoke(request, new ListTopicsResultStaxUnmarshaller());
+        Request<ListTopicsRequest> request = ListTopicsRequestMarshaller.getInstance().marshall(listTopicsRequest);
+        return invoke(request, ListTopicsResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -466,7 +473,7 @@ public class AmazonSNSClient extends AmazonWebServiceClient implements AmazonSNS
      */
     public void unsubscribe(UnsubscribeRequest unsubscribeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<UnsubscribeRequest> request = new UnsubscribeRequestMarshaller().marshall(unsubscribeRequest);
+        Request<UnsubscribeRequest> request = UnsubscribeRequestMarshaller.getInstance().marshall(unsubscribeRequest);
         invoke(request, null);
     }
     
@@ -501,8 +508,8 @@ public class AmazonSNSClient extends AmazonWebServiceClient implements AmazonSNS
      */
     public ListSubscriptionsByTopicResult listSubscriptionsByTopic(ListSubscriptionsByTopicRequest listSubscriptionsByTopicRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ListSubscriptionsByTopicRequest> request = new ListSubscriptionsByTopicRequestMarshaller().marshall(listSubscriptionsByTopicRequest);
-        return invoke(request, new ListSubscriptionsByTopicResultStaxUnmarshaller());
+        Request<ListSubscriptionsByTopicRequest> request = ListSubscriptionsByTopicRequestMarshaller.getInstance().marshall(listSubscriptionsByTopicRequest);
+        return invoke(request, ListSubscriptionsByTopicResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -535,8 +542,8 @@ public class AmazonSNSClient extends AmazonWebServiceClient implements AmazonSNS
      */
     public PublishResult publish(PublishRequest publishRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<PublishRequest> request = new PublishRequestMarshaller().marshall(publishRequest);
-        return invoke(request, new PublishResultStaxUnmarshaller());
+        Request<PublishRequest> request = PublishRequestMarshaller.getInstance().marshall(publishRequest);
+        return invoke(request, PublishResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -637,7 +644,6 @@ public class AmazonSNSClient extends AmazonWebServiceClient implements AmazonSNS
 
         
         StaxResponseHandler<X> responseHandler = new StaxResponseHandler<X>(unmarshaller);
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
 
         ExecutionContext executionContext = createExecutionContext();
         return (X)client.execute(request, responseHandler, errorResponseHandler, executionContext);
@@ -25,7 +25,7 @@ import com.amazonaws.services.sns.model.AuthorizationErrorException;
 public class AuthorizationErrorExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public AuthorizationErrorExceptionUnmarshaller() {
-        super(AuthorizationErrorException.class);
+        super(AuthorizationErrorException.class, "AuthorizationError");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
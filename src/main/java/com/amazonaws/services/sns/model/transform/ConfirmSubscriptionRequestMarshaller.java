@@ -52,4 +52,9 @@ public class ConfirmSubscriptionRequestMarshaller implements Marshaller<Request<
 
         return request;
     }
+
+    private static final ConfirmSubscriptionRequestMarshaller instance = new ConfirmSubscriptionRequestMarshaller();
+    public static ConfirmSubscriptionRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class ConfirmSubscriptionResultStaxUnmarshaller implements Unmarshaller<C
         }
     }
 
-    private static ConfirmSubscriptionResultStaxUnmarshaller instance;
+    private static final ConfirmSubscriptionResultStaxUnmarshaller instance = new ConfirmSubscriptionResultStaxUnmarshaller();
     public static ConfirmSubscriptionResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ConfirmSubscriptionResultStaxUnmarshaller();
         return instance;
     }
 }
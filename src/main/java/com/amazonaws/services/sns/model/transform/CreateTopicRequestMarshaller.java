@@ -42,4 +42,9 @@ public class CreateTopicRequestMarshaller implements Marshaller<Request<CreateTo
 
         return request;
     }
+
+    private static final CreateTopicRequestMarshaller instance = new CreateTopicRequestMarshaller();
+    public static CreateTopicRequestMarshaller getInstance() {
+        return instance;
+    }
 }
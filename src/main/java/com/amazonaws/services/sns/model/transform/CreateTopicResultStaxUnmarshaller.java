@@ -59,9 +59,8 @@ public class CreateTopicResultStaxUnmarshaller implements Unmarshaller<CreateTop
         }
     }
 
-    private static CreateTopicResultStaxUnmarshaller instance;
+    private static final CreateTopicResultStaxUnmarshaller instance = new CreateTopicResultStaxUnmarshaller();
     public static CreateTopicResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateTopicResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -42,4 +42,9 @@ public class DeleteTopicRequestMarshaller implements Marshaller<Request<DeleteTo
 
         return request;
     }
+
+    private static final DeleteTopicRequestMarshaller instance = new DeleteTopicRequestMarshaller();
+    public static DeleteTopicRequestMarshaller getInstance() {
+        return instance;
+    }
 }
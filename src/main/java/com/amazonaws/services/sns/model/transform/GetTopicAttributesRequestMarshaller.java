@@ -42,4 +42,9 @@ public class GetTopicAttributesRequestMarshaller implements Marshaller<Request<G
 
         return request;
     }
+
+    private static final GetTopicAttributesRequestMarshaller instance = new GetTopicAttributesRequestMarshaller();
+    public static GetTopicAttributesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -61,9 +61,8 @@ public class GetTopicAttributesResultStaxUnmarshaller implements Unmarshaller<Ge
             }
         }
 
-        private static AttributesMapEntryUnmarshaller instance;
+        private static final AttributesMapEntryUnmarshaller instance = new AttributesMapEntryUnmarshaller();
         public static AttributesMapEntryUnmarshaller getInstance() {
-            if (instance == null) instance = new AttributesMapEntryUnmarshaller();
             return instance;
         }
 
@@ -96,9 +95,8 @@ public class GetTopicAttributesResultStaxUnmarshaller implements Unmarshaller<Ge
         }
     }
 
-    private static GetTopicAttributesResultStaxUnmarshaller instance;
+    private static final GetTopicAttributesResultStaxUnmarshaller instance = new GetTopicAttributesResultStaxUnmarshaller();
     public static GetTopicAttributesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new GetTopicAttributesResultStaxUnmarshaller();
         return instance;
     }
 }
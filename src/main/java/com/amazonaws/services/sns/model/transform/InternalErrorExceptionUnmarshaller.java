@@ -25,7 +25,7 @@ import com.amazonaws.services.sns.model.InternalErrorException;
 public class InternalErrorExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InternalErrorExceptionUnmarshaller() {
-        super(InternalErrorException.class);
+        super(InternalErrorException.class, "InternalError");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -25,7 +25,7 @@ import com.amazonaws.services.sns.model.InvalidParameterException;
 public class InvalidParameterExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidParameterExceptionUnmarshaller() {
-        super(InvalidParameterException.class);
+        super(InvalidParameterException.class, "InvalidParameter");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -47,4 +47,9 @@ public class ListSubscriptionsByTopicRequestMarshaller implements Marshaller<Req
 
         return request;
     }
+
+    private static final ListSubscriptionsByTopicRequestMarshaller instance = new ListSubscriptionsByTopicRequestMarshaller();
+    public static ListSubscriptionsByTopicRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -63,9 +63,8 @@ public class ListSubscriptionsByTopicResultStaxUnmarshaller implements Unmarshal
         }
     }
 
-    private static ListSubscriptionsByTopicResultStaxUnmarshaller instance;
+    private static final ListSubscriptionsByTopicResultStaxUnmarshaller instance = new ListSubscriptionsByTopicResultStaxUnmarshaller();
     public static ListSubscriptionsByTopicResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ListSubscriptionsByTopicResultStaxUnmarshaller();
         return instance;
     }
 }
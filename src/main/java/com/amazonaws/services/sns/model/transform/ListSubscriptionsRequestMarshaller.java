@@ -42,4 +42,9 @@ public class ListSubscriptionsRequestMarshaller implements Marshaller<Request<Li
 
         return request;
     }
+
+    private static final ListSubscriptionsRequestMarshaller instance = new ListSubscriptionsRequestMarshaller();
+    public static ListSubscriptionsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
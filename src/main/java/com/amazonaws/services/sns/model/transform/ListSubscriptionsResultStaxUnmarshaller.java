@@ -63,9 +63,8 @@ public class ListSubscriptionsResultStaxUnmarshaller implements Unmarshaller<Lis
         }
     }
 
-    private static ListSubscriptionsResultStaxUnmarshaller instance;
+    private static final ListSubscriptionsResultStaxUnmarshaller instance = new ListSubscriptionsResultStaxUnmarshaller();
     public static ListSubscriptionsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ListSubscriptionsResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -42,4 +42,9 @@ public class ListTopicsRequestMarshaller implements Marshaller<Request<ListTopic
 
         return request;
     }
+
+    private static final ListTopicsRequestMarshaller instance = new ListTopicsRequestMarshaller();
+    public static ListTopicsRequestMarshaller getInstance() {
+        return instance;
+    }
 }
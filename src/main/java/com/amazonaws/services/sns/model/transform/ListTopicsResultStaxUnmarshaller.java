@@ -63,9 +63,8 @@ public class ListTopicsResultStaxUnmarshaller implements Unmarshaller<ListTopics
         }
     }
 
-    private static ListTopicsResultStaxUnmarshaller instance;
+    private static final ListTopicsResultStaxUnmarshaller instance = new ListTopicsResultStaxUnmarshaller();
     public static ListTopicsResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ListTopicsResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -25,7 +25,7 @@ import com.amazonaws.services.sns.model.NotFoundException;
 public class NotFoundExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public NotFoundExceptionUnmarshaller() {
-        super(NotFoundException.class);
+        super(NotFoundException.class, "NotFound");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -52,4 +52,9 @@ public class PublishRequestMarshaller implements Marshaller<Request<PublishReque
 
         return request;
     }
+
+    private static final PublishRequestMarshaller instance = new PublishRequestMarshaller();
+    public static PublishRequestMarshaller getInstance() {
+        return instance;
+    }
 }
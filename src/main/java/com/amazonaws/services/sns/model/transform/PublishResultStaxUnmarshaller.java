@@ -59,9 +59,8 @@ public class PublishResultStaxUnmarshaller implements Unmarshaller<PublishResult
         }
     }
 
-    private static PublishResultStaxUnmarshaller instance;
+    private static final PublishResultStaxUnmarshaller instance = new PublishResultStaxUnmarshaller();
     public static PublishResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new PublishResultStaxUnmarshaller();
         return instance;
     }
 }
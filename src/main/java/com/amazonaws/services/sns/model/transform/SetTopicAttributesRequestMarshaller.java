@@ -52,4 +52,9 @@ public class SetTopicAttributesRequestMarshaller implements Marshaller<Request<S
 
         return request;
     }
+
+    private static final SetTopicAttributesRequestMarshaller instance = new SetTopicAttributesRequestMarshaller();
+    public static SetTopicAttributesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -52,4 +52,9 @@ public class SubscribeRequestMarshaller implements Marshaller<Request<SubscribeR
 
         return request;
     }
+
+    private static final SubscribeRequestMarshaller instance = new SubscribeRequestMarshaller();
+    public static SubscribeRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class SubscribeResultStaxUnmarshaller implements Unmarshaller<SubscribeRe
         }
     }
 
-    private static SubscribeResultStaxUnmarshaller instance;
+    private static final SubscribeResultStaxUnmarshaller instance = new SubscribeResultStaxUnmarshaller();
     public static SubscribeResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new SubscribeResultStaxUnmarshaller();
         return instance;
     }
 }
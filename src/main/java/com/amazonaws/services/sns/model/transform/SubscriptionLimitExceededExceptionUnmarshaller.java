@@ -25,7 +25,7 @@ import com.amazonaws.services.sns.model.SubscriptionLimitExceededException;
 public class SubscriptionLimitExceededExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public SubscriptionLimitExceededExceptionUnmarshaller() {
-        super(SubscriptionLimitExceededException.class);
+        super(SubscriptionLimitExceededException.class, "SubscriptionLimitExceeded");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
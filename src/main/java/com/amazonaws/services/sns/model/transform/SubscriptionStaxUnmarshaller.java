@@ -75,9 +75,8 @@ public class SubscriptionStaxUnmarshaller implements Unmarshaller<Subscription,
         }
     }
 
-    private static SubscriptionStaxUnmarshaller instance;
+    private static final SubscriptionStaxUnmarshaller instance = new SubscriptionStaxUnmarshaller();
     public static SubscriptionStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new SubscriptionStaxUnmarshaller();
         return instance;
     }
 }
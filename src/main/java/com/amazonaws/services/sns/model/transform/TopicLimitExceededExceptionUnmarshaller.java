@@ -25,7 +25,7 @@ import com.amazonaws.services.sns.model.TopicLimitExceededException;
 public class TopicLimitExceededExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public TopicLimitExceededExceptionUnmarshaller() {
-        super(TopicLimitExceededException.class);
+        super(TopicLimitExceededException.class, "TopicLimitExceeded");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
@@ -59,9 +59,8 @@ public class TopicStaxUnmarshaller implements Unmarshaller<Topic, StaxUnmarshall
         }
     }
 
-    private static TopicStaxUnmarshaller instance;
+    private static final TopicStaxUnmarshaller instance = new TopicStaxUnmarshaller();
     public static TopicStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new TopicStaxUnmarshaller();
         return instance;
     }
 }
@@ -42,4 +42,9 @@ public class UnsubscribeRequestMarshaller implements Marshaller<Request<Unsubscr
 
         return request;
     }
+
+    private static final UnsubscribeRequestMarshaller instance = new UnsubscribeRequestMarshaller();
+    public static UnsubscribeRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -33,6 +33,10 @@ import org.apache.commons.codec.binary.Base64;
 
 /**
  * Utility for validating signatures on a Simple Notification Service JSON message.
+ * <p>
+ * Applications verifying messages at high rates should use
+ * {@link SignatureVerifier}, which caches signing certificates and reuses
+ * signature instances across calls.
  */
 public class SignatureChecker {
 
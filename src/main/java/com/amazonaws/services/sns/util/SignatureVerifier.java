@@ -0,0 +1,576 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.sns.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.cert.CertPathBuilder;
+import java.security.cert.CertPathBuilderException;
+import java.security.cert.CertStore;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateFactory;
+import java.security.cert.CollectionCertStoreParameters;
+import java.security.cert.PKIXBuilderParameters;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509CertSelector;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.regex.Pattern;
+
+import javax.naming.InvalidNameException;
+import javax.naming.ldap.LdapName;
+import javax.naming.ldap.Rdn;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509TrustManager;
+import javax.security.auth.x500.X500Principal;
+
+import org.apache.commons.codec.binary.Base64;
+import org.codehaus.jackson.JsonFactory;
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.JsonToken;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.util.ExpiringCache;
+
+/**
+ * Verifies the signatures on Simple Notification Service JSON messages at
+ * high rates.
+ * <p>
+ * Unlike {@link SignatureChecker}, this verifier retrieves the signing
+ * certificate named by each message's <code>SigningCertURL</code> itself and
+ * keeps the parsed certificates in a bounded cache, so each certificate is
+ * only fetched and parsed once per time to live. Concurrent lookups of the
+ * same uncached certificate share a single fetch. <code>Signature</code>
+ * instances are reused per thread, and the string to sign is built directly
+ * from the parsed message, without intermediate sorted maps.
+ * <p>
+ * Only certificates served over HTTPS from an SNS endpoint
+ * (<code>sns.&lt;region&gt;.amazonaws.com</code>) are accepted, and only if they
+ * chain to a certificate authority in the JVM's default trust store and were
+ * issued to <code>sns.amazonaws.com</code>. Intermediate certificates missing
+ * from what the certificate URL serves are fetched from the CA issuer
+ * locations named in the certificates.
+ * <p>
+ * Instances of this class are thread safe; share a single instance across
+ * all threads that verify notifications.
+ */
+public class SignatureVerifier {
+
+    /** The default maximum number of signing certificates to cache. */
+    public static final int DEFAULT_MAX_CERTIFICATES = 50;
+
+    /** The default time, in milliseconds, to cache a signing certificate. */
+    public static final long DEFAULT_CERTIFICATE_TTL_MILLIS = 60 * 60 * 1000;
+
+    private static final String SIGNATURE_ALGORITHM = "SHA1withRSA";
+
+    /** The hosts signing certificates may be fetched from. */
+    private static final Pattern CERTIFICATE_HOST_PATTERN = Pattern.compile("^sns\\.[a-z0-9-]+\\.amazonaws\\.com$");
+
+    /** The common name signing certificates must be issued to. */
+    private static final String CERTIFICATE_COMMON_NAME = "sns.amazonaws.com";
+
+    /** The connect and read timeout, in milliseconds, for fetching certificates. */
+    private static final int CERTIFICATE_FETCH_TIMEOUT_MILLIS = 10 * 1000;
+
+    /** The authority information access certificate extension. */
+    private static final String AUTHORITY_INFO_ACCESS_OID = "1.3.6.1.5.5.7.1.1";
+
+    /** The encoded id-ad-caIssuers access method (1.3.6.1.5.5.7.48.2). */
+    private static final byte[] CA_ISSUERS_OID = {0x2B, 0x06, 0x01, 0x05, 0x05, 0x07, 0x30, 0x02};
+
+    /** The most rounds of issuer certificates fetched to build a path. */
+    private static final int MAX_ISSUER_FETCHES = 3;
+
+    private static final String NOTIFICATION_TYPE = "Notification";
+    private static final String SUBSCRIBE_TYPE = "SubscriptionConfirmation";
+    private static final String UNSUBSCRIBE_TYPE = "UnsubscriptionConfirmation";
+
+    private static final String TYPE = "Type";
+    private static final String SUBSCRIBE_URL = "SubscribeURL";
+    private static final String MESSAGE = "Message";
+    private static final String TIMESTAMP = "Timestamp";
+    private static final String SIGNATURE_VERSION = "SignatureVersion";
+    private static final String SIGNATURE = "Signature";
+    private static final String SIGNING_CERT_URL = "SigningCertURL";
+    private static final String MESSAGE_ID = "MessageId";
+    private static final String SUBJECT = "Subject";
+    private static final String TOPIC = "TopicArn";
+    private static final String TOKEN = "Token";
+
+    /** Signed fields of notification messages, in canonical (sorted) order. */
+    private static final String[] NOTIFICATION_KEYS = {
+        MESSAGE, MESSAGE_ID, SUBJECT, TIMESTAMP, TOPIC, TYPE };
+
+    /** Signed fields of (un)subscribe confirmations, in canonical (sorted) order. */
+    private static final String[] SUBSCRIBE_KEYS = {
+        MESSAGE, MESSAGE_ID, SUBSCRIBE_URL, TIMESTAMP, TOKEN, TOPIC, TYPE };
+
+    /** Jackson factories are thread safe and expensive to create. */
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    /** Signature instances aren't thread safe, so each thread gets its own. */
+    private static final ThreadLocal<Signature> signatures = new ThreadLocal<Signature>() {
+        @Override
+        protected Signature initialValue() {
+            try {
+                return Signature.getInstance(SIGNATURE_ALGORITHM);
+            } catch (NoSuchAlgorithmException e) {
+                throw new AmazonClientException("Unable to create " + SIGNATURE_ALGORITHM + " signature", e);
+            }
+        }
+    };
+
+    /** Parsed signing certificates (or pending fetches), keyed by URL. */
+    private final ExpiringCache<String, Future<X509Certificate>> certificateCache;
+
+    /**
+     * Constructs a new verifier with the default certificate cache size and
+     * time to live.
+     */
+    public SignatureVerifier() {
+        this(DEFAULT_MAX_CERTIFICATES, DEFAULT_CERTIFICATE_TTL_MILLIS);
+    }
+
+    /**
+     * Constructs a new verifier that caches at most the specified number of
+     * signing certificates for the specified time.
+     *
+     * @param maxCertificates
+     *            The maximum number of signing certificates to cache.
+     * @param certificateTtlMillis
+     *            The time, in milliseconds, for which a signing certificate
+     *            is cached.
+     */
+    public SignatureVerifier(int maxCertificates, long certificateTtlMillis) {
+        this.certificateCache = new ExpiringCache<String, Future<X509Certificate>>(
+                maxCertificates, certificateTtlMillis);
+    }
+
+    /**
+     * Validates the signature on a Simple Notification Service message,
+     * retrieving the signing certificate from the message's
+     * <code>SigningCertURL</code> if it isn't already cached.
+     *
+     * @param message
+     *            A JSON-encoded Simple Notification Service message.
+     *
+     * @return True if the message was correctly validated, otherwise false.
+     *
+     * @throws AmazonClientException
+     *             If the message can't be parsed, or the signing certificate
+     *             can't be retrieved or isn't trusted.
+     */
+    public boolean verify(String message) {
+        return verify(parseMessage(message));
+    }
+
+    /**
+     * Validates the signature on an already parsed Simple Notification
+     * Service message, retrieving the signing certificate from the message's
+     * <code>SigningCertURL</code> if it isn't already cached.
+     *
+     * @param parsedMessage
+     *            The top level fields of the message, as returned by
+     *            {@link #parseMessage(String)}.
+     *
+     * @return True if the message was correctly validated, otherwise false.
+     *
+     * @throws AmazonClientException
+     *             If the signing certificate can't be retrieved or isn't
+     *             trusted.
+     */
+    public boolean verify(Map<String, String> parsedMessage) {
+        String certUrl = parsedMessage.get(SIGNING_CERT_URL);
+        if (certUrl == null) return false;
+        return verify(parsedMessage, getCertificate(certUrl).getPublicKey());
+    }
+
+    /**
+     * Validates the signature on an already parsed Simple Notification
+     * Service message using the specified public key.
+     *
+     * @param parsedMessage
+     *            The top level fields of the message, as returned by
+     *            {@link #parseMessage(String)}.
+     * @param publicKey
+     *            The Simple Notification Service public key.
+     *
+     * @return True if the message was correctly validated, otherwise false.
+     */
+    public boolean verify(Map<String, String> parsedMessage, PublicKey publicKey) {
+        if (!"1".equals(parsedMessage.get(SIGNATURE_VERSION))) return false;
+
+        String signature = parsedMessage.get(SIGNATURE);
+        if (signature == null) return false;
+
+        String stringToSign = buildStringToSign(parsedMessage);
+        try {
+            Signature verifier = signatures.get();
+            verifier.initVerify(publicKey);
+            verifier.update(stringToSign.getBytes("UTF-8"));
+            return verifier.verify(Base64.decodeBase64(signature.getBytes("UTF-8")));
+        } catch (GeneralSecurityException e) {
+            return false;
+        } catch (UnsupportedEncodingException e) {
+            throw new AmazonClientException("Unable to encode string to sign: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Parses the top level fields of a Simple Notification Service JSON
+     * message.
+     *
+     * @param message
+     *            A JSON-encoded Simple Notification Service message.
+     *
+     * @return The top level fields of the message, keyed by field name.
+     *
+     * @throws AmazonClientException
+     *             If the message isn't valid JSON.
+     */
+    public static Map<String, String> parseMessage(String message) {
+        Map<String, String> parsed = new HashMap<String, String>();
+        try {
+            JsonParser parser = jsonFactory.createJsonParser(message);
+            try {
+                parser.nextToken(); // shift past the START_OBJECT that begins the JSON
+                while (parser.nextToken() != JsonToken.END_OBJECT) {
+                    String fieldName = parser.getCurrentName();
+                    JsonToken token = parser.nextToken();
+                    if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                        parser.skipChildren();
+                    } else {
+                        parsed.put(fieldName, parser.getText());
+                    }
+                }
+            } finally {
+                parser.close();
+            }
+        } catch (IOException e) {
+            throw new AmazonClientException("Unable to parse notification message: " + e.getMessage(), e);
+        }
+        return parsed;
+    }
+
+    /**
+     * Builds the canonical string that Simple Notification Service signed for
+     * the specified message.
+     *
+     * @param parsedMessage
+     *            The top level fields of the message.
+     *
+     * @return The canonical string to sign.
+     *
+     * @throws AmazonClientException
+     *             If the message type isn't recognized.
+     */
+    static String buildStringToSign(Map<String, String> parsedMessage) {
+        String type = parsedMessage.get(TYPE);
+
+        String[] keys;
+        if (NOTIFICATION_TYPE.equals(type)) {
+            keys = NOTIFICATION_KEYS;
+        } else if (SUBSCRIBE_TYPE.equals(type) || UNSUBSCRIBE_TYPE.equals(type)) {
+            keys = SUBSCRIBE_KEYS;
+        } else {
+            throw new AmazonClientException("Cannot process message of type " + type);
+        }
+
+        // each key and value is followed by a newline
+        StringBuilder sb = new StringBuilder(256);
+        for (String key : keys) {
+            String value = parsedMessage.get(key);
+            if (value == null) continue;
+            sb.append(key).append('\n').append(value).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the cached signing certificate for the specified URL, fetching
+     * and parsing it if it isn't cached.
+     */
+    private X509Certificate getCertificate(final String certUrl) {
+        Future<X509Certificate> future = certificateCache.get(certUrl);
+        if (future == null) {
+            FutureTask<X509Certificate> fetch = new FutureTask<X509Certificate>(new Callable<X509Certificate>() {
+                public X509Certificate call() throws Exception {
+                    return fetchCertificate(certUrl);
+                }
+            });
+
+            future = certificateCache.putIfAbsent(certUrl, fetch);
+            if (future == null) {
+                future = fetch;
+                fetch.run();
+            }
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException("Interrupted while retrieving signing certificate", e);
+        } catch (ExecutionException e) {
+            // Don't cache failures, so the next message retries the fetch
+            certificateCache.remove(certUrl, future);
+            Throwable cause = e.getCause();
+            if (cause instanceof AmazonClientException) throw (AmazonClientException)cause;
+            throw new AmazonClientException("Unable to retrieve signing certificate from "
+                    + certUrl + ": " + cause.getMessage(), cause);
+        }
+    }
+
+    private static X509Certificate fetchCertificate(String certUrl) throws IOException, GeneralSecurityException {
+        URL url = new URL(certUrl);
+        if (!"https".equalsIgnoreCase(url.getProtocol())
+                || !CERTIFICATE_HOST_PATTERN.matcher(url.getHost().toLowerCase()).matches()) {
+            throw new AmazonClientException("Untrusted signing certificate URL: " + certUrl);
+        }
+
+        List<X509Certificate> chain = readCertificates(url);
+        if (chain.isEmpty()) {
+            throw new AmazonClientException("No signing certificate found at " + certUrl);
+        }
+
+        X509Certificate certificate = chain.get(0);
+        certificate.checkValidity();
+        validateChain(chain, certUrl);
+        if (!CERTIFICATE_COMMON_NAME.equals(getCommonName(certificate))) {
+            throw new AmazonClientException("Signing certificate from " + certUrl
+                    + " wasn't issued to " + CERTIFICATE_COMMON_NAME + ": " + certificate.getSubjectX500Principal());
+        }
+        return certificate;
+    }
+
+    /**
+     * Reads all the certificates served at the specified URL.
+     */
+    private static List<X509Certificate> readCertificates(URL url) throws IOException, GeneralSecurityException {
+        // Don't let a hung host stall every thread waiting on this fetch
+        URLConnection connection = url.openConnection();
+        connection.setConnectTimeout(CERTIFICATE_FETCH_TIMEOUT_MILLIS);
+        connection.setReadTimeout(CERTIFICATE_FETCH_TIMEOUT_MILLIS);
+
+        List<X509Certificate> certificates = new ArrayList<X509Certificate>();
+        InputStream in = connection.getInputStream();
+        try {
+            CertificateFactory factory = CertificateFactory.getInstance("X.509");
+            for (Certificate certificate : factory.generateCertificates(in)) {
+                certificates.add((X509Certificate)certificate);
+            }
+        } finally {
+            try {in.close();} catch (IOException e) {}
+        }
+        return certificates;
+    }
+
+    /**
+     * Checks that the first of the specified certificates leads to a
+     * certificate authority trusted by the JVM's default trust store. SNS
+     * only serves the signing certificate itself, so the intermediate
+     * certificates needed to build the path are fetched from the locations
+     * named in the certificates' authority information access extensions.
+     */
+    private static void validateChain(List<X509Certificate> chain, String certUrl) throws GeneralSecurityException {
+        Set<TrustAnchor> trustAnchors = getTrustAnchors();
+        X509CertSelector target = new X509CertSelector();
+        target.setCertificate(chain.get(0));
+
+        List<X509Certificate> certificates = new ArrayList<X509Certificate>(chain);
+        for (int fetches = 0; ; fetches++) {
+            PKIXBuilderParameters parameters = new PKIXBuilderParameters(trustAnchors, target);
+            parameters.setRevocationEnabled(false);
+            parameters.addCertStore(CertStore.getInstance("Collection",
+                    new CollectionCertStoreParameters(certificates)));
+            try {
+                CertPathBuilder.getInstance("PKIX").build(parameters);
+                return;
+            } catch (CertPathBuilderException e) {
+                if (fetches == MAX_ISSUER_FETCHES || !addMissingIssuers(certificates)) {
+                    throw new AmazonClientException("Untrusted signing certificate from " + certUrl + ": " + e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the certificate authorities trusted by the JVM's default trust
+     * store.
+     */
+    private static Set<TrustAnchor> getTrustAnchors() throws GeneralSecurityException {
+        TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trustManagerFactory.init((KeyStore)null);
+
+        Set<TrustAnchor> trustAnchors = new HashSet<TrustAnchor>();
+        for (TrustManager trustManager : trustManagerFactory.getTrustManagers()) {
+            if (!(trustManager instanceof X509TrustManager)) continue;
+            for (X509Certificate issuer : ((X509TrustManager)trustManager).getAcceptedIssuers()) {
+                trustAnchors.add(new TrustAnchor(issuer, null));
+            }
+        }
+        return trustAnchors;
+    }
+
+    /**
+     * Fetches the issuers of the specified certificates whose issuer isn't
+     * among them, and adds them to the list.
+     *
+     * @return True if any certificates were added.
+     */
+    private static boolean addMissingIssuers(List<X509Certificate> certificates) {
+        Set<X500Principal> subjects = new HashSet<X500Principal>();
+        for (X509Certificate certificate : certificates) {
+            subjects.add(certificate.getSubjectX500Principal());
+        }
+
+        List<X509Certificate> issuers = new ArrayList<X509Certificate>();
+        for (X509Certificate certificate : certificates) {
+            if (subjects.contains(certificate.getIssuerX500Principal())) continue;
+            for (String issuerUrl : getCaIssuerUrls(certificate)) {
+                try {
+                    URL url = new URL(issuerUrl);
+                    if (!"http".equalsIgnoreCase(url.getProtocol()) && !"https".equalsIgnoreCase(url.getProtocol())) continue;
+                    for (X509Certificate issuer : readCertificates(url)) {
+                        if (!certificates.contains(issuer) && !issuers.contains(issuer)) issuers.add(issuer);
+                    }
+                } catch (Exception e) {
+                    // Another location may serve it; if not, the path can't be built
+                }
+            }
+        }
+        certificates.addAll(issuers);
+        return !issuers.isEmpty();
+    }
+
+    /**
+     * Returns the URLs of the CA issuers access descriptions in the specified
+     * certificate's authority information access extension.
+     */
+    private static List<String> getCaIssuerUrls(X509Certificate certificate) {
+        List<String> urls = new ArrayList<String>();
+        byte[] extension = certificate.getExtensionValue(AUTHORITY_INFO_ACCESS_OID);
+        if (extension == null) return urls;
+
+        try {
+            // An OCTET STRING holding a SEQUENCE OF AccessDescription
+            DerReader octets = new DerReader(new DerReader(extension).read(DerReader.OCTET_STRING));
+            DerReader descriptions = new DerReader(octets.read(DerReader.SEQUENCE));
+            while (descriptions.hasMore()) {
+                DerReader description = new DerReader(descriptions.read(DerReader.SEQUENCE));
+                byte[] accessMethod = description.read(DerReader.OBJECT_IDENTIFIER);
+                if (Arrays.equals(accessMethod, CA_ISSUERS_OID)
+                        && description.hasMore() && description.peekTag() == DerReader.URI_NAME) {
+                    urls.add(new String(description.read(DerReader.URI_NAME), "US-ASCII"));
+                }
+            }
+        } catch (IOException e) {
+            // Treated as naming no issuers
+        }
+        return urls;
+    }
+
+    /**
+     * Returns the common name (CN) the specified certificate was issued to,
+     * or null if it has none.
+     */
+    private static String getCommonName(X509Certificate certificate) {
+        try {
+            LdapName name = new LdapName(certificate.getSubjectX500Principal().getName());
+            for (Rdn rdn : name.getRdns()) {
+                if ("CN".equalsIgnoreCase(rdn.getType())) return rdn.getValue().toString();
+            }
+        } catch (InvalidNameException e) {
+            // Treated as no common name
+        }
+        return null;
+    }
+
+    /**
+     * Reads the DER encoded elements needed to find the CA issuers in an
+     * authority information access extension.
+     */
+    private static final class DerReader {
+        private static final int OBJECT_IDENTIFIER = 0x06;
+        private static final int OCTET_STRING = 0x04;
+        private static final int SEQUENCE = 0x30;
+
+        /** A GeneralName's context specific, implicitly tagged uniformResourceIdentifier. */
+        private static final int URI_NAME = 0x86;
+
+        private final byte[] data;
+        private int position;
+
+        private DerReader(byte[] data) {
+            this.data = data;
+        }
+
+        private boolean hasMore() {
+            return position < data.length;
+        }
+
+        private int peekTag() {
+            return data[position] & 0xFF;
+        }
+
+        /**
+         * Reads the next element, which must have the specified tag, and
+         * returns its contents.
+         */
+        private byte[] read(int expectedTag) throws IOException {
+            if (position + 2 > data.length || peekTag() != expectedTag) {
+                throw new IOException("Expected DER tag " + expectedTag + " at offset " + position);
+            }
+            position++;
+
+            int length = data[position++] & 0xFF;
+            if (length > 0x7F) {
+                int lengthBytes = length & 0x7F;
+                if (lengthBytes > 3 || position + lengthBytes > data.length) throw new IOException("Bad DER length");
+                length = 0;
+                for (int i = 0; i < lengthBytes; i++) {
+                    length = (length << 8) | (data[position++] & 0xFF);
+                }
+            }
+            if (position + length > data.length) throw new IOException("Truncated DER element");
+
+            byte[] contents = new byte[length];
+            System.arraycopy(data, position, contents, 0, length);
+            position += length;
+            return contents;
+        }
+    }
+
+}
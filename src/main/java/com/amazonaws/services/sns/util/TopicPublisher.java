@@ -0,0 +1,295 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.sns.util;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.services.sns.AmazonSNS;
+import com.amazonaws.services.sns.model.PublishRequest;
+import com.amazonaws.services.sns.model.PublishResult;
+
+/**
+ * Publishes bursts of notifications to Amazon SNS while keeping a bounded
+ * window of in-flight <code>Publish</code> requests per topic.
+ * <p>
+ * Each topic may have at most <code>maxInFlightPerTopic</code> outstanding
+ * requests, and the publisher as a whole at most <code>maxInFlight</code>.
+ * When a window is full, {@link #publish(PublishRequest, AsyncHandler)} blocks
+ * the calling thread until an earlier request for that topic completes, so
+ * producers are slowed down to the rate the service can absorb instead of
+ * queueing an unbounded number of requests or threads.
+ * <p>
+ * All requests share the connection pool of the supplied client, so
+ * <code>maxInFlight</code> should not exceed the client's configured maximum
+ * number of connections.
+ * <p>
+ * Results and failures are reported through the optional {@link AsyncHandler}
+ * passed with each request, as well as through the returned
+ * <code>Future</code>.
+ */
+public class TopicPublisher {
+
+    private static final Log log = LogFactory.getLog(TopicPublisher.class);
+
+    /** The client used to send Publish requests. */
+    private final AmazonSNS sns;
+
+    /** The executor service in which Publish requests are executed. */
+    private final ExecutorService executorService;
+
+    /** True if the executor service was created by this publisher. */
+    private final boolean ownsExecutorService;
+
+    /** The maximum number of outstanding requests for any single topic. */
+    private final int maxInFlightPerTopic;
+
+    /** The maximum number of outstanding requests across all topics. */
+    private final int maxInFlight;
+
+    /** Permits for outstanding requests across all topics. */
+    private final Semaphore inFlight;
+
+    /** Permits for outstanding requests, keyed by topic ARN. */
+    private final ConcurrentMap<String, Semaphore> topicWindows =
+        new ConcurrentHashMap<String, Semaphore>();
+
+    /**
+     * Constructs a new publisher that sends requests through the specified
+     * client, using a fixed pool of <code>maxInFlight</code> threads.
+     *
+     * @param sns
+     *            The client to use when publishing messages.
+     * @param maxInFlightPerTopic
+     *            The maximum number of outstanding requests for any single
+     *            topic.
+     * @param maxInFlight
+     *            The maximum number of outstanding requests across all topics.
+     */
+    public TopicPublisher(AmazonSNS sns, int maxInFlightPerTopic, int maxInFlight) {
+        this(sns, Executors.newFixedThreadPool(maxInFlight), maxInFlightPerTopic, maxInFlight, true);
+    }
+
+    /**
+     * Constructs a new publisher that sends requests through the specified
+     * client and executes them in the specified executor service. The
+     * executor service should be able to run at least
+     * <code>maxInFlight</code> tasks concurrently, otherwise the effective
+     * window is limited by the size of the executor service.
+     *
+     * @param sns
+     *            The client to use when publishing messages.
+     * @param executorService
+     *            The executor service in which requests are executed.
+     * @param maxInFlightPerTopic
+     *            The maximum number of outstanding requests for any single
+     *            topic.
+     * @param maxInFlight
+     *            The maximum number of outstanding requests across all topics.
+     */
+    public TopicPublisher(AmazonSNS sns, ExecutorService executorService,
+            int maxInFlightPerTopic, int maxInFlight) {
+        this(sns, executorService, maxInFlightPerTopic, maxInFlight, false);
+    }
+
+    private TopicPublisher(AmazonSNS sns, ExecutorService executorService,
+            int maxInFlightPerTopic, int maxInFlight, boolean ownsExecutorService) {
+        if (maxInFlightPerTopic < 1 || maxInFlight < 1) {
+            throw new IllegalArgumentException("In-flight window sizes must be at least one");
+        }
+        this.sns = sns;
+        this.executorService = executorService;
+        this.ownsExecutorService = ownsExecutorService;
+        this.maxInFlightPerTopic = maxInFlightPerTopic;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Schedules the specified request for publishing, blocking until there is
+     * room in the in-flight window for the request's topic.
+     *
+     * @param publishRequest
+     *            The request to publish. The topic ARN must be set.
+     * @param asyncHandler
+     *            Optional callback notified when the request completes.
+     *
+     * @return A Java Future object containing the result of the request.
+     *
+     * @throws InterruptedException
+     *             If the calling thread is interrupted while waiting for room
+     *             in the in-flight window.
+     */
+    public Future<PublishResult> publish(PublishRequest publishRequest,
+            AsyncHandler<PublishRequest, PublishResult> asyncHandler) throws InterruptedException {
+        Semaphore topicWindow = getTopicWindow(publishRequest);
+        topicWindow.acquire();
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            topicWindow.release();
+            throw e;
+        }
+        return submit(publishRequest, asyncHandler, topicWindow);
+    }
+
+    /**
+     * Schedules the specified request for publishing, waiting at most the
+     * specified time for room in the in-flight window for the request's
+     * topic.
+     *
+     * @param publishRequest
+     *            The request to publish. The topic ARN must be set.
+     * @param asyncHandler
+     *            Optional callback notified when the request completes.
+     * @param timeout
+     *            The maximum time to wait for room in the in-flight window.
+     * @param unit
+     *            The unit of the timeout argument.
+     *
+     * @return A Java Future object containing the result of the request, or
+     *         null if the in-flight window stayed full for the whole timeout
+     *         and the request was not scheduled.
+     *
+     * @throws InterruptedException
+     *             If the calling thread is interrupted while waiting for room
+     *             in the in-flight window.
+     */
+    public Future<PublishResult> tryPublish(PublishRequest publishRequest,
+            AsyncHandler<PublishRequest, PublishResult> asyncHandler, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        Semaphore topicWindow = getTopicWindow(publishRequest);
+        if (!topicWindow.tryAcquire(timeout, unit)) return null;
+
+        boolean acquired = false;
+        try {
+            acquired = inFlight.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } finally {
+            if (!acquired) topicWindow.release();
+        }
+        if (!acquired) return null;
+
+        return submit(publishRequest, asyncHandler, topicWindow);
+    }
+
+    /**
+     * Blocks until every request scheduled before this call has completed.
+     * Requests scheduled by other threads while this method is waiting may
+     * delay its return.
+     *
+     * @throws InterruptedException
+     *             If the calling thread is interrupted while waiting.
+     */
+    public void flush() throws InterruptedException {
+        inFlight.acquire(maxInFlight);
+        inFlight.release(maxInFlight);
+    }
+
+    /**
+     * Returns the number of requests currently outstanding across all topics.
+     *
+     * @return The number of requests currently outstanding.
+     */
+    public int getInFlightCount() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    /**
+     * Returns the number of requests currently outstanding for the specified
+     * topic.
+     *
+     * @param topicArn
+     *            The ARN of the topic.
+     *
+     * @return The number of requests currently outstanding for the topic.
+     */
+    public int getInFlightCount(String topicArn) {
+        Semaphore topicWindow = topicWindows.get(topicArn);
+        if (topicWindow == null) return 0;
+        return maxInFlightPerTopic - topicWindow.availablePermits();
+    }
+
+    /**
+     * Shuts down this publisher. Requests that have already been scheduled
+     * are allowed to complete. The executor service is only shut down if it
+     * was created by this publisher; the client is never shut down.
+     */
+    public void shutdown() {
+        if (ownsExecutorService) executorService.shutdown();
+    }
+
+    private Semaphore getTopicWindow(PublishRequest publishRequest) {
+        String topicArn = publishRequest.getTopicArn();
+        if (topicArn == null) {
+            throw new IllegalArgumentException("The topic ARN must be specified when publishing a message");
+        }
+
+        Semaphore topicWindow = topicWindows.get(topicArn);
+        if (topicWindow == null) {
+            Semaphore newWindow = new Semaphore(maxInFlightPerTopic);
+            topicWindow = topicWindows.putIfAbsent(topicArn, newWindow);
+            if (topicWindow == null) topicWindow = newWindow;
+        }
+        return topicWindow;
+    }
+
+    private Future<PublishResult> submit(final PublishRequest publishRequest,
+            final AsyncHandler<PublishRequest, PublishResult> asyncHandler, final Semaphore topicWindow) {
+        try {
+            return executorService.submit(new Callable<PublishResult>() {
+                public PublishResult call() throws Exception {
+                    try {
+                        PublishResult result;
+                        try {
+                            result = sns.publish(publishRequest);
+                        } catch (Exception e) {
+                            if (asyncHandler != null) asyncHandler.onError(e);
+                            throw e;
+                        }
+
+                        if (asyncHandler != null) asyncHandler.onSuccess(publishRequest, result);
+                        return result;
+                    } finally {
+                        release(topicWindow);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            release(topicWindow);
+            throw e;
+        }
+    }
+
+    private void release(Semaphore topicWindow) {
+        topicWindow.release();
+        inFlight.release();
+        if (log.isTraceEnabled()) {
+            log.trace("Publish requests in flight: " + getInFlightCount());
+        }
+    }
+
+}
@@ -18,6 +18,7 @@ import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.services.sqs.model.*;
 
 /**
@@ -69,6 +70,33 @@ public interface AmazonSQSAsync extends AmazonSQS {
     public Future<ListQueuesResult> listQueuesAsync(ListQueuesRequest listQueuesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The ListQueues action returns a list of your queues.
+     * </p>
+     *
+     * @param listQueuesRequest Container for the necessary parameters to
+     *           execute the ListQueues operation on AmazonSQS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListQueues service method, as returned by AmazonSQS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSQS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListQueuesResult> listQueuesAsync(ListQueuesRequest listQueuesRequest,
+            AsyncHandler<ListQueuesRequest, ListQueuesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Sets an attribute of a queue. Currently, you can set only the
@@ -92,6 +120,34 @@ public interface AmazonSQSAsync extends AmazonSQS {
     public Future<Void> setQueueAttributesAsync(SetQueueAttributesRequest setQueueAttributesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Sets an attribute of a queue. Currently, you can set only the
+     * VisibilityTimeout attribute for a queue.
+     * </p>
+     *
+     * @param setQueueAttributesRequest Container for the necessary
+     *           parameters to execute the SetQueueAttributes operation on AmazonSQS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         SetQueueAttributes service method, as returned by AmazonSQS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSQS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setQueueAttributesAsync(SetQueueAttributesRequest setQueueAttributesRequest,
+            AsyncHandler<SetQueueAttributesRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The ChangeMessageVisibility action changes the visibility timeout of
@@ -144,6 +200,63 @@ public interface AmazonSQSAsync extends AmazonSQS {
     public Future<Void> changeMessageVisibilityAsync(ChangeMessageVisibilityRequest changeMessageVisibilityRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The ChangeMessageVisibility action changes the visibility timeout of
+     * a specified message in a queue to a new value. The maximum allowed
+     * timeout value you can set the value to is 12 hours. This means you
+     * can't extend the timeout of a message in an existing queue to more
+     * than a total visibility timeout of 12 hours. (For more information
+     * visibility timeout, see Visibility Timeout in the Amazon SQS Developer
+     * Guide.)
+     * </p>
+     * <p>
+     * For example, let's say you have a message and its default message
+     * visibility timeout is 30 minutes. You could call
+     * ChangeMessageVisiblity with a value of two hours and the effective
+     * timeout would be two hours and 30 minutes. When that time comes near
+     * you could again extend the time out by calling ChangeMessageVisiblity,
+     * but this time the maximum allowed timeout would be 9 hours and 30
+     * minutes.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> If you attempt to set the VisibilityTimeout to an
+     * amount more than the maximum time left, Amazon SQS returns an error.
+     * It will not automatically recalculate and increase the timeout to the
+     * maximum time remaining.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> Unlike with a queue, when you change the visibility
+     * timeout for a specific message, that timeout value is applied
+     * immediately but is not saved in memory for that message. If you don't
+     * delete a message after it is received, the visibility timeout for the
+     * message the next time it is received reverts to the original timeout
+     * value, not the value you set with the ChangeMessageVisibility action.
+     * </p>
+     *
+     * @param changeMessageVisibilityRequest Container for the necessary
+     *           parameters to execute the ChangeMessageVisibility operation on
+     *           AmazonSQS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ChangeMessageVisibility service method, as returned by AmazonSQS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSQS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> changeMessageVisibilityAsync(ChangeMessageVisibilityRequest changeMessageVisibilityRequest,
+            AsyncHandler<ChangeMessageVisibilityRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The CreateQueue action creates a new queue, or returns the URL of an
@@ -177,6 +290,44 @@ public interface AmazonSQSAsync extends AmazonSQS {
     public Future<CreateQueueResult> createQueueAsync(CreateQueueRequest createQueueRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The CreateQueue action creates a new queue, or returns the URL of an
+     * existing one. When you request CreateQueue, you provide a name for the
+     * queue. To successfully create a new queue, you must provide a name
+     * that is unique within the scope of your own queues. If you provide the
+     * name of an existing queue, a new queue isn't created and an error
+     * isn't returned. Instead, the request succeeds and the queue URL for
+     * the existing queue is returned.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> If you provide a value for DefaultVisibilityTimeout
+     * that is different from the value for the existing queue, you receive
+     * an error.
+     * </p>
+     *
+     * @param createQueueRequest Container for the necessary parameters to
+     *           execute the CreateQueue operation on AmazonSQS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateQueue service method, as returned by AmazonSQS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSQS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateQueueResult> createQueueAsync(CreateQueueRequest createQueueRequest,
+            AsyncHandler<CreateQueueRequest, CreateQueueResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The RemovePermission action revokes any permissions in the queue
@@ -201,6 +352,35 @@ public interface AmazonSQSAsync extends AmazonSQS {
     public Future<Void> removePermissionAsync(RemovePermissionRequest removePermissionRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The RemovePermission action revokes any permissions in the queue
+     * policy that matches the specified <i>Label</i> parameter. Only the
+     * owner of the queue can remove permissions.
+     * </p>
+     *
+     * @param removePermissionRequest Container for the necessary parameters
+     *           to execute the RemovePermission operation on AmazonSQS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RemovePermission service method, as returned by AmazonSQS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSQS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> removePermissionAsync(RemovePermissionRequest removePermissionRequest,
+            AsyncHandler<RemovePermissionRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Gets one or all attributes of a queue. Queues currently have two
@@ -225,6 +405,35 @@ public interface AmazonSQSAsync extends AmazonSQS {
     public Future<GetQueueAttributesResult> getQueueAttributesAsync(GetQueueAttributesRequest getQueueAttributesRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Gets one or all attributes of a queue. Queues currently have two
+     * attributes you can get: ApproximateNumberOfMessages and
+     * VisibilityTimeout.
+     * </p>
+     *
+     * @param getQueueAttributesRequest Container for the necessary
+     *           parameters to execute the GetQueueAttributes operation on AmazonSQS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetQueueAttributes service method, as returned by AmazonSQS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSQS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetQueueAttributesResult> getQueueAttributesAsync(GetQueueAttributesRequest getQueueAttributesRequest,
+            AsyncHandler<GetQueueAttributesRequest, GetQueueAttributesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The AddPermission action adds a permission to a queue for a specific
@@ -254,6 +463,40 @@ public interface AmazonSQSAsync extends AmazonSQS {
     public Future<Void> addPermissionAsync(AddPermissionRequest addPermissionRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The AddPermission action adds a permission to a queue for a specific
+     * principal. This allows for sharing access to the queue.
+     * </p>
+     * <p>
+     * When you create a queue, you have full control access rights for the
+     * queue. Only you (as owner of the queue) can grant or deny permissions
+     * to the queue. For more information about these permissions, see Shared
+     * Queues in the Amazon SQS Developer Guide.
+     * </p>
+     *
+     * @param addPermissionRequest Container for the necessary parameters to
+     *           execute the AddPermission operation on AmazonSQS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AddPermission service method, as returned by AmazonSQS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSQS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> addPermissionAsync(AddPermissionRequest addPermissionRequest,
+            AsyncHandler<AddPermissionRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * This action unconditionally deletes the queue specified by the queue
@@ -278,6 +521,35 @@ public interface AmazonSQSAsync extends AmazonSQS {
     public Future<Void> deleteQueueAsync(DeleteQueueRequest deleteQueueRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * This action unconditionally deletes the queue specified by the queue
+     * URL. Use this operation WITH CARE! The queue is deleted even if it is
+     * NOT empty.
+     * </p>
+     *
+     * @param deleteQueueRequest Container for the necessary parameters to
+     *           execute the DeleteQueue operation on AmazonSQS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteQueue service method, as returned by AmazonSQS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSQS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteQueueAsync(DeleteQueueRequest deleteQueueRequest,
+            AsyncHandler<DeleteQueueRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The DeleteMessage action unconditionally removes the specified
@@ -303,6 +575,36 @@ public interface AmazonSQSAsync extends AmazonSQS {
     public Future<Void> deleteMessageAsync(DeleteMessageRequest deleteMessageRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The DeleteMessage action unconditionally removes the specified
+     * message from the specified queue. Even if the message is locked by
+     * another reader due to the visibility timeout setting, it is still
+     * deleted from the queue.
+     * </p>
+     *
+     * @param deleteMessageRequest Container for the necessary parameters to
+     *           execute the DeleteMessage operation on AmazonSQS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteMessage service method, as returned by AmazonSQS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSQS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteMessageAsync(DeleteMessageRequest deleteMessageRequest,
+            AsyncHandler<DeleteMessageRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * The SendMessage action delivers a message to the specified queue.
@@ -325,6 +627,33 @@ public interface AmazonSQSAsync extends AmazonSQS {
     public Future<SendMessageResult> sendMessageAsync(SendMessageRequest sendMessageRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * The SendMessage action delivers a message to the specified queue.
+     * </p>
+     *
+     * @param sendMessageRequest Container for the necessary parameters to
+     *           execute the SendMessage operation on AmazonSQS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         SendMessage service method, as returned by AmazonSQS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSQS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<SendMessageResult> sendMessageAsync(SendMessageRequest sendMessageRequest,
+            AsyncHandler<SendMessageRequest, SendMessageResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
     /**
      * <p>
      * Retrieves one or more messages from the specified queue, including
@@ -354,5 +683,39 @@ public interface AmazonSQSAsync extends AmazonSQS {
     public Future<ReceiveMessageResult> receiveMessageAsync(ReceiveMessageRequest receiveMessageRequest) 
             throws AmazonServiceException, AmazonClientException;
 
+    /**
+     * <p>
+     * Retrieves one or more messages from the specified queue, including
+     * the message body and message ID of each message. Messages returned by
+     * this action stay in the queue until you delete them. However, once a
+     * message is returned to a ReceiveMessage request, it is not returned on
+     * subsequent ReceiveMessage requests for the duration of the
+     * VisibilityTimeout. If you do not specify a VisibilityTimeout in the
+     * request, the overall visibility timeout for the queue is used for the
+     * returned messages.
+     * </p>
+     *
+     * @param receiveMessageRequest Container for the necessary parameters to
+     *           execute the ReceiveMessage operation on AmazonSQS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ReceiveMessage service method, as returned by AmazonSQS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSQS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ReceiveMessageResult> receiveMessageAsync(ReceiveMessageRequest receiveMessageRequest,
+            AsyncHandler<ReceiveMessageRequest, ReceiveMessageResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException;
+
 }
         
\ No newline at end of file
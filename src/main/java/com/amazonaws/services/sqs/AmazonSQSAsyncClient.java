@@ -16,13 +16,14 @@ package com.amazonaws.services.sqs;
             
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.util.InstrumentedThreadPoolExecutor;
 
 import com.amazonaws.services.sqs.model.*;
 
@@ -67,8 +68,9 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
     /**
      * Constructs a new asynchronous client to invoke service methods on 
      * AmazonSQS using the specified AWS account credentials.
-     * Default client settings will be used, and a default cached thread pool will be 
-     * created for executing the asynchronous tasks.
+     * Default client settings will be used, and a default bounded thread pool will be 
+     * created for executing the asynchronous tasks (see
+     * {@link InstrumentedThreadPoolExecutor#newDefaultExecutor(String, ClientConfiguration)}).
      *
      * <p>
      * All calls made using this new client object are non-blocking, and will immediately
@@ -79,7 +81,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
      *                       when authenticating with AWS services.
      */                                      
     public AmazonSQSAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newCachedThreadPool());
+        this(awsCredentials, InstrumentedThreadPoolExecutor.newDefaultExecutor("AmazonSQSAsyncClient", new ClientConfiguration()));
     }
 
     /**
@@ -169,6 +171,49 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
 		});
     }
     
+    /**
+     * <p>
+     * The ListQueues action returns a list of your queues.
+     * </p>
+     *
+     * @param listQueuesRequest Container for the necessary parameters to
+     *           execute the ListQueues operation on AmazonSQS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ListQueues service method, as returned by AmazonSQS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSQS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ListQueuesResult> listQueuesAsync(
+            final ListQueuesRequest listQueuesRequest,
+            final AsyncHandler<ListQueuesRequest, ListQueuesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ListQueuesResult>() {
+            public ListQueuesResult call() throws Exception {
+                ListQueuesResult result;
+                try {
+                    result = listQueues(listQueuesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(listQueuesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Sets an attribute of a queue. Currently, you can set only the
@@ -199,6 +244,49 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
 		});
     }
     
+    /**
+     * <p>
+     * Sets an attribute of a queue. Currently, you can set only the
+     * VisibilityTimeout attribute for a queue.
+     * </p>
+     *
+     * @param setQueueAttributesRequest Container for the necessary
+     *           parameters to execute the SetQueueAttributes operation on AmazonSQS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         SetQueueAttributes service method, as returned by AmazonSQS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSQS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> setQueueAttributesAsync(
+            final SetQueueAttributesRequest setQueueAttributesRequest,
+            final AsyncHandler<SetQueueAttributesRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    setQueueAttributes(setQueueAttributesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(setQueueAttributesRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The ChangeMessageVisibility action changes the visibility timeout of
@@ -258,6 +346,78 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
 		});
     }
     
+    /**
+     * <p>
+     * The ChangeMessageVisibility action changes the visibility timeout of
+     * a specified message in a queue to a new value. The maximum allowed
+     * timeout value you can set the value to is 12 hours. This means you
+     * can't extend the timeout of a message in an existing queue to more
+     * than a total visibility timeout of 12 hours. (For more information
+     * visibility timeout, see Visibility Timeout in the Amazon SQS Developer
+     * Guide.)
+     * </p>
+     * <p>
+     * For example, let's say you have a message and its default message
+     * visibility timeout is 30 minutes. You could call
+     * ChangeMessageVisiblity with a value of two hours and the effective
+     * timeout would be two hours and 30 minutes. When that time comes near
+     * you could again extend the time out by calling ChangeMessageVisiblity,
+     * but this time the maximum allowed timeout would be 9 hours and 30
+     * minutes.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> If you attempt to set the VisibilityTimeout to an
+     * amount more than the maximum time left, Amazon SQS returns an error.
+     * It will not automatically recalculate and increase the timeout to the
+     * maximum time remaining.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> Unlike with a queue, when you change the visibility
+     * timeout for a specific message, that timeout value is applied
+     * immediately but is not saved in memory for that message. If you don't
+     * delete a message after it is received, the visibility timeout for the
+     * message the next time it is received reverts to the original timeout
+     * value, not the value you set with the ChangeMessageVisibility action.
+     * </p>
+     *
+     * @param changeMessageVisibilityRequest Container for the necessary
+     *           parameters to execute the ChangeMessageVisibility operation on
+     *           AmazonSQS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ChangeMessageVisibility service method, as returned by AmazonSQS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSQS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> changeMessageVisibilityAsync(
+            final ChangeMessageVisibilityRequest changeMessageVisibilityRequest,
+            final AsyncHandler<ChangeMessageVisibilityRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    changeMessageVisibility(changeMessageVisibilityRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(changeMessageVisibilityRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The CreateQueue action creates a new queue, or returns the URL of an
@@ -297,6 +457,60 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
 		});
     }
     
+    /**
+     * <p>
+     * The CreateQueue action creates a new queue, or returns the URL of an
+     * existing one. When you request CreateQueue, you provide a name for the
+     * queue. To successfully create a new queue, you must provide a name
+     * that is unique within the scope of your own queues. If you provide the
+     * name of an existing queue, a new queue isn't created and an error
+     * isn't returned. Instead, the request succeeds and the queue URL for
+     * the existing queue is returned.
+     * </p>
+     * <p>
+     * <b>IMPORTANT:</b> If you provide a value for DefaultVisibilityTimeout
+     * that is different from the value for the existing queue, you receive
+     * an error.
+     * </p>
+     *
+     * @param createQueueRequest Container for the necessary parameters to
+     *           execute the CreateQueue operation on AmazonSQS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         CreateQueue service method, as returned by AmazonSQS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSQS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<CreateQueueResult> createQueueAsync(
+            final CreateQueueRequest createQueueRequest,
+            final AsyncHandler<CreateQueueRequest, CreateQueueResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<CreateQueueResult>() {
+            public CreateQueueResult call() throws Exception {
+                CreateQueueResult result;
+                try {
+                    result = createQueue(createQueueRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(createQueueRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The RemovePermission action revokes any permissions in the queue
@@ -328,6 +542,50 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
 		});
     }
     
+    /**
+     * <p>
+     * The RemovePermission action revokes any permissions in the queue
+     * policy that matches the specified <i>Label</i> parameter. Only the
+     * owner of the queue can remove permissions.
+     * </p>
+     *
+     * @param removePermissionRequest Container for the necessary parameters
+     *           to execute the RemovePermission operation on AmazonSQS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         RemovePermission service method, as returned by AmazonSQS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSQS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> removePermissionAsync(
+            final RemovePermissionRequest removePermissionRequest,
+            final AsyncHandler<RemovePermissionRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    removePermission(removePermissionRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(removePermissionRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Gets one or all attributes of a queue. Queues currently have two
@@ -358,6 +616,51 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
 		});
     }
     
+    /**
+     * <p>
+     * Gets one or all attributes of a queue. Queues currently have two
+     * attributes you can get: ApproximateNumberOfMessages and
+     * VisibilityTimeout.
+     * </p>
+     *
+     * @param getQueueAttributesRequest Container for the necessary
+     *           parameters to execute the GetQueueAttributes operation on AmazonSQS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         GetQueueAttributes service method, as returned by AmazonSQS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSQS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<GetQueueAttributesResult> getQueueAttributesAsync(
+            final GetQueueAttributesRequest getQueueAttributesRequest,
+            final AsyncHandler<GetQueueAttributesRequest, GetQueueAttributesResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<GetQueueAttributesResult>() {
+            public GetQueueAttributesResult call() throws Exception {
+                GetQueueAttributesResult result;
+                try {
+                    result = getQueueAttributes(getQueueAttributesRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(getQueueAttributesRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The AddPermission action adds a permission to a queue for a specific
@@ -394,6 +697,55 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
 		});
     }
     
+    /**
+     * <p>
+     * The AddPermission action adds a permission to a queue for a specific
+     * principal. This allows for sharing access to the queue.
+     * </p>
+     * <p>
+     * When you create a queue, you have full control access rights for the
+     * queue. Only you (as owner of the queue) can grant or deny permissions
+     * to the queue. For more information about these permissions, see Shared
+     * Queues in the Amazon SQS Developer Guide.
+     * </p>
+     *
+     * @param addPermissionRequest Container for the necessary parameters to
+     *           execute the AddPermission operation on AmazonSQS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         AddPermission service method, as returned by AmazonSQS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSQS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> addPermissionAsync(
+            final AddPermissionRequest addPermissionRequest,
+            final AsyncHandler<AddPermissionRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    addPermission(addPermissionRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(addPermissionRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * This action unconditionally deletes the queue specified by the queue
@@ -425,6 +777,50 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
 		});
     }
     
+    /**
+     * <p>
+     * This action unconditionally deletes the queue specified by the queue
+     * URL. Use this operation WITH CARE! The queue is deleted even if it is
+     * NOT empty.
+     * </p>
+     *
+     * @param deleteQueueRequest Container for the necessary parameters to
+     *           execute the DeleteQueue operation on AmazonSQS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteQueue service method, as returned by AmazonSQS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSQS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteQueueAsync(
+            final DeleteQueueRequest deleteQueueRequest,
+            final AsyncHandler<DeleteQueueRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteQueue(deleteQueueRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteQueueRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The DeleteMessage action unconditionally removes the specified
@@ -457,6 +853,51 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
 		});
     }
     
+    /**
+     * <p>
+     * The DeleteMessage action unconditionally removes the specified
+     * message from the specified queue. Even if the message is locked by
+     * another reader due to the visibility timeout setting, it is still
+     * deleted from the queue.
+     * </p>
+     *
+     * @param deleteMessageRequest Container for the necessary parameters to
+     *           execute the DeleteMessage operation on AmazonSQS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         DeleteMessage service method, as returned by AmazonSQS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSQS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<Void> deleteMessageAsync(
+            final DeleteMessageRequest deleteMessageRequest,
+            final AsyncHandler<DeleteMessageRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<Void>() {
+            public Void call() throws Exception {
+                try {
+                    deleteMessage(deleteMessageRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(deleteMessageRequest, null);
+                return null;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * The SendMessage action delivers a message to the specified queue.
@@ -485,6 +926,49 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
 		});
     }
     
+    /**
+     * <p>
+     * The SendMessage action delivers a message to the specified queue.
+     * </p>
+     *
+     * @param sendMessageRequest Container for the necessary parameters to
+     *           execute the SendMessage operation on AmazonSQS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         SendMessage service method, as returned by AmazonSQS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSQS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<SendMessageResult> sendMessageAsync(
+            final SendMessageRequest sendMessageRequest,
+            final AsyncHandler<SendMessageRequest, SendMessageResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<SendMessageResult>() {
+            public SendMessageResult call() throws Exception {
+                SendMessageResult result;
+                try {
+                    result = sendMessage(sendMessageRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(sendMessageRequest, result);
+                return result;
+		    }
+		});
+    }
+    
     /**
      * <p>
      * Retrieves one or more messages from the specified queue, including
@@ -520,5 +1004,55 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
 		});
     }
     
+    /**
+     * <p>
+     * Retrieves one or more messages from the specified queue, including
+     * the message body and message ID of each message. Messages returned by
+     * this action stay in the queue until you delete them. However, once a
+     * message is returned to a ReceiveMessage request, it is not returned on
+     * subsequent ReceiveMessage requests for the duration of the
+     * VisibilityTimeout. If you do not specify a VisibilityTimeout in the
+     * request, the overall visibility timeout for the queue is used for the
+     * returned messages.
+     * </p>
+     *
+     * @param receiveMessageRequest Container for the necessary parameters to
+     *           execute the ReceiveMessage operation on AmazonSQS.
+     * @param asyncHandler Asynchronous callback handler notified when the
+     *           request completes, either with the result or with the exception
+     *           that caused it to fail. Callers can use this handler to process
+     *           the result without blocking on the returned Future. May be
+     *           null.
+     * 
+     * @return A Java Future object containing the response from the
+     *         ReceiveMessage service method, as returned by AmazonSQS.
+     *
+     * @throws AmazonClientException
+     *             If any internal errors are encountered inside the client while
+     *             attempting to make the request or handle the response.  For example
+     *             if a network connection is not available.
+     * @throws AmazonServiceException
+     *             If an error response is returned by AmazonSQS indicating
+     *             either a problem with the data in the request, or a server side issue.
+     */
+    public Future<ReceiveMessageResult> receiveMessageAsync(
+            final ReceiveMessageRequest receiveMessageRequest,
+            final AsyncHandler<ReceiveMessageRequest, ReceiveMessageResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return executorService.submit(new Callable<ReceiveMessageResult>() {
+            public ReceiveMessageResult call() throws Exception {
+                ReceiveMessageResult result;
+                try {
+                    result = receiveMessage(receiveMessageRequest);
+                } catch (Exception ex) {
+                    if (asyncHandler != null) asyncHandler.onError(ex);
+                    throw ex;
+                }
+                if (asyncHandler != null) asyncHandler.onSuccess(receiveMessageRequest, result);
+                return result;
+		    }
+		});
+    }
+    
 }
         
\ No newline at end of file
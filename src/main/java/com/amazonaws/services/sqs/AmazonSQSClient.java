@@ -79,6 +79,12 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements AmazonSQS
      */
     protected final List<Unmarshaller<AmazonServiceException, Node>> exceptionUnmarshallers;
 
+    /**
+     * Handles error responses for all service calls, built once so its index
+     * of exception unmarshallers is shared across calls.
+     */
+    private final DefaultErrorResponseHandler errorResponseHandler;
+
     
     /** AWS signer for authenticating requests. */
     private QueryStringSigner signer;
@@ -126,6 +132,7 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements AmazonSQS
         exceptionUnmarshallers.add(new InvalidMessageContentsExceptionUnmarshaller());
         
         exceptionUnmarshallers.add(new StandardErrorUnmarshaller());
+        errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
         setEndpoint("queue.amazonaws.com");
 
         signer = new QueryStringSigner();
@@ -158,8 +165,8 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements AmazonSQS
      */
     public ListQueuesResult listQueues(ListQueuesRequest listQueuesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ListQueuesRequest> request = new ListQueuesRequestMarshaller().marshall(listQueuesRequest);
-        return invoke(request, new ListQueuesResultStaxUnmarshaller());
+        Request<ListQueuesRequest> request = ListQueuesRequestMarshaller.getInstance().marshall(listQueuesRequest);
+        return invoke(request, ListQueuesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -184,7 +191,7 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements AmazonSQS
      */
     public void setQueueAttributes(SetQueueAttributesRequest setQueueAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<SetQueueAttributesRequest> request = new SetQueueAttributesRequestMarshaller().marshall(setQueueAttributesRequest);
+        Request<SetQueueAttributesRequest> request = SetQueueAttributesRequestMarshaller.getInstance().marshall(setQueueAttributesRequest);
         invoke(request, null);
     }
     
@@ -237,7 +244,7 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements AmazonSQS
      */
     public void changeMessageVisibility(ChangeMessageVisibilityRequest changeMessageVisibilityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ChangeMessageVisibilityRequest> request = new ChangeMessageVisibilityRequestMarshaller().marshall(changeMessageVisibilityRequest);
+        Request<ChangeMessageVisibilityRequest> request = ChangeMessageVisibilityRequestMarshaller.getInstance().marshall(changeMessageVisibilityRequest);
         invoke(request, null);
     }
     
@@ -276,8 +283,8 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements AmazonSQS
      */
     public CreateQueueResult createQueue(CreateQueueRequest createQueueRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<CreateQueueRequest> request = new CreateQueueRequestMarshaller().marshall(createQueueRequest);
-        return invoke(request, new CreateQueueResultStaxUnmarshaller());
+        Request<CreateQueueRequest> request = CreateQueueRequestMarshaller.getInstance().marshall(createQueueRequest);
+        return invoke(request, CreateQueueResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -301,7 +308,7 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements AmazonSQS
      */
     public void removePermission(RemovePermissionRequest removePermissionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<RemovePermissionRequest> request = new RemovePermissionRequestMarshaller().marshall(removePermissionRequest);
+        Request<RemovePermissionRequest> request = RemovePermissionRequestMarshaller.getInstance().marshall(removePermissionRequest);
         invoke(request, null);
     }
     
@@ -331,8 +338,8 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements AmazonSQS
      */
     public GetQueueAttributesResult getQueueAttributes(GetQueueAttributesRequest getQueueAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<GetQueueAttributesRequest> request = new GetQueueAttributesRequestMarshaller().marshall(getQueueAttributesRequest);
-        return invoke(request, new GetQueueAttributesResultStaxUnmarshaller());
+        Request<GetQueueAttributesRequest> request = GetQueueAttributesRequestMarshaller.getInstance().marshall(getQueueAttributesRequest);
+        return invoke(request, GetQueueAttributesResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -361,7 +368,7 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements AmazonSQS
      */
     public void addPermission(AddPermissionRequest addPermissionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<AddPermissionRequest> request = new AddPermissionRequestMarshaller().marshall(addPermissionRequest);
+        Request<AddPermissionRequest> request = AddPermissionRequestMarshaller.getInstance().marshall(addPermissionRequest);
         invoke(request, null);
     }
     
@@ -386,7 +393,7 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements AmazonSQS
      */
     public void deleteQueue(DeleteQueueRequest deleteQueueRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteQueueRequest> request = new DeleteQueueRequestMarshaller().marshall(deleteQueueRequest);
+        Request<DeleteQueueRequest> request = DeleteQueueRequestMarshaller.getInstance().marshall(deleteQueueRequest);
         invoke(request, null);
     }
     
@@ -413,7 +420,7 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements AmazonSQS
      */
     public void deleteMessage(DeleteMessageRequest deleteMessageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<DeleteMessageRequest> request = new DeleteMessageRequestMarshaller().marshall(deleteMessageRequest);
+        Request<DeleteMessageRequest> request = DeleteMessageRequestMarshaller.getInstance().marshall(deleteMessageRequest);
         invoke(request, null);
     }
     
@@ -440,8 +447,8 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements AmazonSQS
      */
     public SendMessageResult sendMessage(SendMessageRequest sendMessageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<SendMessageRequest> request = new SendMessageRequestMarshaller().marshall(sendMessageRequest);
-        return invoke(request, new SendMessageResultStaxUnmarshaller());
+        Request<SendMessageRequest> request = SendMessageRequestMarshaller.getInstance().marshall(sendMessageRequest);
+        return invoke(request, SendMessageResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -473,8 +480,8 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements AmazonSQS
      */
     public ReceiveMessageResult receiveMessage(ReceiveMessageRequest receiveMessageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        Request<ReceiveMessageRequest> request = new ReceiveMessageRequestMarshaller().marshall(receiveMessageRequest);
-        return invoke(request, new ReceiveMessageResultStaxUnmarshaller());
+        Request<ReceiveMessageRequest> request = ReceiveMessageRequestMarshaller.getInstance().marshall(receiveMessageRequest);
+        return invoke(request, ReceiveMessageResultStaxUnmarshaller.getInstance());
     }
     
     /**
@@ -541,7 +548,6 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements AmazonSQS
 
         
         StaxResponseHandler<X> responseHandler = new StaxResponseHandler<X>(unmarshaller);
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
 
         ExecutionContext executionContext = createExecutionContext();
         return (X)client.execute(request, responseHandler, errorResponseHandler, executionContext);
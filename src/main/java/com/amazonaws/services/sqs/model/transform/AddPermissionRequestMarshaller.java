@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.sqs.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,9 @@ import com.amazonaws.util.StringUtils;
  */
 public class AddPermissionRequestMarshaller implements Marshaller<Request<AddPermissionRequest>, AddPermissionRequest> {
 
+    private static final ParameterNameTable AWSACCOUNT_ID_NAMES = new ParameterNameTable("AWSAccountId.", "");
+    private static final ParameterNameTable ACTION_NAME_NAMES = new ParameterNameTable("ActionName.", "");
+
     public Request<AddPermissionRequest> marshall(AddPermissionRequest addPermissionRequest) {
         Request<AddPermissionRequest> request = new DefaultRequest<AddPermissionRequest>(addPermissionRequest, "AmazonSQS");
         request.addParameter("Action", "AddPermission");
@@ -49,7 +53,7 @@ public class AddPermissionRequestMarshaller implements Marshaller<Request<AddPer
 
             for (String aWSAccountIdsListValue : aWSAccountIdsList) {
                 if (aWSAccountIdsListValue != null) {
-                    request.addParameter("AWSAccountId." + aWSAccountIdsListIndex, StringUtils.fromString(aWSAccountIdsListValue));
+                    request.addParameter(AWSACCOUNT_ID_NAMES.get(aWSAccountIdsListIndex), StringUtils.fromString(aWSAccountIdsListValue));
                 }
                 aWSAccountIdsListIndex++;
             }
@@ -60,7 +64,7 @@ public class AddPermissionRequestMarshaller implements Marshaller<Request<AddPer
 
             for (String actionsListValue : actionsList) {
                 if (actionsListValue != null) {
-                    request.addParameter("ActionName." + actionsListIndex, StringUtils.fromString(actionsListValue));
+                    request.addParameter(ACTION_NAME_NAMES.get(actionsListIndex), StringUtils.fromString(actionsListValue));
                 }
                 actionsListIndex++;
             }
@@ -69,4 +73,9 @@ public class AddPermissionRequestMarshaller implements Marshaller<Request<AddPer
 
         return request;
     }
+
+    private static final AddPermissionRequestMarshaller instance = new AddPermissionRequestMarshaller();
+    public static AddPermissionRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -52,4 +52,9 @@ public class ChangeMessageVisibilityRequestMarshaller implements Marshaller<Requ
 
         return request;
     }
+
+    private static final ChangeMessageVisibilityRequestMarshaller instance = new ChangeMessageVisibilityRequestMarshaller();
+    public static ChangeMessageVisibilityRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -47,4 +47,9 @@ public class CreateQueueRequestMarshaller implements Marshaller<Request<CreateQu
 
         return request;
     }
+
+    private static final CreateQueueRequestMarshaller instance = new CreateQueueRequestMarshaller();
+    public static CreateQueueRequestMarshaller getInstance() {
+        return instance;
+    }
 }
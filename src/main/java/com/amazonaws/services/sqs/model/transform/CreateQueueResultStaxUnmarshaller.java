@@ -59,9 +59,8 @@ public class CreateQueueResultStaxUnmarshaller implements Unmarshaller<CreateQue
         }
     }
 
-    private static CreateQueueResultStaxUnmarshaller instance;
+    private static final CreateQueueResultStaxUnmarshaller instance = new CreateQueueResultStaxUnmarshaller();
     public static CreateQueueResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new CreateQueueResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -47,4 +47,9 @@ public class DeleteMessageRequestMarshaller implements Marshaller<Request<Delete
 
         return request;
     }
+
+    private static final DeleteMessageRequestMarshaller instance = new DeleteMessageRequestMarshaller();
+    public static DeleteMessageRequestMarshaller getInstance() {
+        return instance;
+    }
 }
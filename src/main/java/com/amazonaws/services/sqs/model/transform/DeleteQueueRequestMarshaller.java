@@ -42,4 +42,9 @@ public class DeleteQueueRequestMarshaller implements Marshaller<Request<DeleteQu
 
         return request;
     }
+
+    private static final DeleteQueueRequestMarshaller instance = new DeleteQueueRequestMarshaller();
+    public static DeleteQueueRequestMarshaller getInstance() {
+        return instance;
+    }
 }
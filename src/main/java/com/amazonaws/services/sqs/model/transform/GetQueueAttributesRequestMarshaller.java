@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.sqs.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class GetQueueAttributesRequestMarshaller implements Marshaller<Request<GetQueueAttributesRequest>, GetQueueAttributesRequest> {
 
+    private static final ParameterNameTable ATTRIBUTE_NAME_NAMES = new ParameterNameTable("AttributeName.", "");
+
     public Request<GetQueueAttributesRequest> marshall(GetQueueAttributesRequest getQueueAttributesRequest) {
         Request<GetQueueAttributesRequest> request = new DefaultRequest<GetQueueAttributesRequest>(getQueueAttributesRequest, "AmazonSQS");
         request.addParameter("Action", "GetQueueAttributes");
@@ -44,7 +47,7 @@ public class GetQueueAttributesRequestMarshaller implements Marshaller<Request<G
 
             for (String attributeNamesListValue : attributeNamesList) {
                 if (attributeNamesListValue != null) {
-                    request.addParameter("AttributeName." + attributeNamesListIndex, StringUtils.fromString(attributeNamesListValue));
+                    request.addParameter(ATTRIBUTE_NAME_NAMES.get(attributeNamesListIndex), StringUtils.fromString(attributeNamesListValue));
                 }
                 attributeNamesListIndex++;
             }
@@ -53,4 +56,9 @@ public class GetQueueAttributesRequestMarshaller implements Marshaller<Request<G
 
         return request;
     }
+
+    private static final GetQueueAttributesRequestMarshaller instance = new GetQueueAttributesRequestMarshaller();
+    public static GetQueueAttributesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -61,9 +61,8 @@ public class GetQueueAttributesResultStaxUnmarshaller implements Unmarshaller<Ge
             }
         }
 
-        private static AttributesMapEntryUnmarshaller instance;
+        private static final AttributesMapEntryUnmarshaller instance = new AttributesMapEntryUnmarshaller();
         public static AttributesMapEntryUnmarshaller getInstance() {
-            if (instance == null) instance = new AttributesMapEntryUnmarshaller();
             return instance;
         }
 
@@ -96,9 +95,8 @@ public class GetQueueAttributesResultStaxUnmarshaller implements Unmarshaller<Ge
         }
     }
 
-    private static GetQueueAttributesResultStaxUnmarshaller instance;
+    private static final GetQueueAttributesResultStaxUnmarshaller instance = new GetQueueAttributesResultStaxUnmarshaller();
     public static GetQueueAttributesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new GetQueueAttributesResultStaxUnmarshaller();
         return instance;
     }
 }
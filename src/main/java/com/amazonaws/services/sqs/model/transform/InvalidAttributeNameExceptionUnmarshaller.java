@@ -25,7 +25,7 @@ import com.amazonaws.services.sqs.model.InvalidAttributeNameException;
 public class InvalidAttributeNameExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidAttributeNameExceptionUnmarshaller() {
-        super(InvalidAttributeNameException.class);
+        super(InvalidAttributeNameException.class, "InvalidAttributeName");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
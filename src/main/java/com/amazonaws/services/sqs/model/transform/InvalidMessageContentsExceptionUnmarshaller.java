@@ -25,7 +25,7 @@ import com.amazonaws.services.sqs.model.InvalidMessageContentsException;
 public class InvalidMessageContentsExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public InvalidMessageContentsExceptionUnmarshaller() {
-        super(InvalidMessageContentsException.class);
+        super(InvalidMessageContentsException.class, "InvalidMessageContents");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
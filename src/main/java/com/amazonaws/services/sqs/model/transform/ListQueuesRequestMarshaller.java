@@ -42,4 +42,9 @@ public class ListQueuesRequestMarshaller implements Marshaller<Request<ListQueue
 
         return request;
     }
+
+    private static final ListQueuesRequestMarshaller instance = new ListQueuesRequestMarshaller();
+    public static ListQueuesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class ListQueuesResultStaxUnmarshaller implements Unmarshaller<ListQueues
         }
     }
 
-    private static ListQueuesResultStaxUnmarshaller instance;
+    private static final ListQueuesResultStaxUnmarshaller instance = new ListQueuesResultStaxUnmarshaller();
     public static ListQueuesResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ListQueuesResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -61,9 +61,8 @@ public class MessageStaxUnmarshaller implements Unmarshaller<Message, StaxUnmars
             }
         }
 
-        private static AttributesMapEntryUnmarshaller instance;
+        private static final AttributesMapEntryUnmarshaller instance = new AttributesMapEntryUnmarshaller();
         public static AttributesMapEntryUnmarshaller getInstance() {
-            if (instance == null) instance = new AttributesMapEntryUnmarshaller();
             return instance;
         }
 
@@ -112,9 +111,8 @@ public class MessageStaxUnmarshaller implements Unmarshaller<Message, StaxUnmars
         }
     }
 
-    private static MessageStaxUnmarshaller instance;
+    private static final MessageStaxUnmarshaller instance = new MessageStaxUnmarshaller();
     public static MessageStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new MessageStaxUnmarshaller();
         return instance;
     }
 }
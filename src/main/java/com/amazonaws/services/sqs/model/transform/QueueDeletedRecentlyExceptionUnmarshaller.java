@@ -25,7 +25,7 @@ import com.amazonaws.services.sqs.model.QueueDeletedRecentlyException;
 public class QueueDeletedRecentlyExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public QueueDeletedRecentlyExceptionUnmarshaller() {
-        super(QueueDeletedRecentlyException.class);
+        super(QueueDeletedRecentlyException.class, "QueueDeletedRecently");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
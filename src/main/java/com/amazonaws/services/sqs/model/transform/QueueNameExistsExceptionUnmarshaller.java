@@ -25,7 +25,7 @@ import com.amazonaws.services.sqs.model.QueueNameExistsException;
 public class QueueNameExistsExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public QueueNameExistsExceptionUnmarshaller() {
-        super(QueueNameExistsException.class);
+        super(QueueNameExistsException.class, "QueueNameExists");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
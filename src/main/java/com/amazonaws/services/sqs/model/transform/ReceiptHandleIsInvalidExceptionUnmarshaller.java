@@ -25,7 +25,7 @@ import com.amazonaws.services.sqs.model.ReceiptHandleIsInvalidException;
 public class ReceiptHandleIsInvalidExceptionUnmarshaller extends StandardErrorUnmarshaller {
 
     public ReceiptHandleIsInvalidExceptionUnmarshaller() {
-        super(ReceiptHandleIsInvalidException.class);
+        super(ReceiptHandleIsInvalidException.class, "ReceiptHandleIsInvalid");
     }
 
     public AmazonServiceException unmarshall(Node node) throws Exception {
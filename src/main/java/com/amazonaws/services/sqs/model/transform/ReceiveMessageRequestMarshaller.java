@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.sqs.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,8 @@ import com.amazonaws.util.StringUtils;
  */
 public class ReceiveMessageRequestMarshaller implements Marshaller<Request<ReceiveMessageRequest>, ReceiveMessageRequest> {
 
+    private static final ParameterNameTable ATTRIBUTE_NAME_NAMES = new ParameterNameTable("AttributeName.", "");
+
     public Request<ReceiveMessageRequest> marshall(ReceiveMessageRequest receiveMessageRequest) {
         Request<ReceiveMessageRequest> request = new DefaultRequest<ReceiveMessageRequest>(receiveMessageRequest, "AmazonSQS");
         request.addParameter("Action", "ReceiveMessage");
@@ -44,7 +47,7 @@ public class ReceiveMessageRequestMarshaller implements Marshaller<Request<Recei
 
             for (String attributeNamesListValue : attributeNamesList) {
                 if (attributeNamesListValue != null) {
-                    request.addParameter("AttributeName." + attributeNamesListIndex, StringUtils.fromString(attributeNamesListValue));
+                    request.addParameter(ATTRIBUTE_NAME_NAMES.get(attributeNamesListIndex), StringUtils.fromString(attributeNamesListValue));
                 }
                 attributeNamesListIndex++;
             }
@@ -63,4 +66,9 @@ public class ReceiveMessageRequestMarshaller implements Marshaller<Request<Recei
 
         return request;
     }
+
+    private static final ReceiveMessageRequestMarshaller instance = new ReceiveMessageRequestMarshaller();
+    public static ReceiveMessageRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -59,9 +59,8 @@ public class ReceiveMessageResultStaxUnmarshaller implements Unmarshaller<Receiv
         }
     }
 
-    private static ReceiveMessageResultStaxUnmarshaller instance;
+    private static final ReceiveMessageResultStaxUnmarshaller instance = new ReceiveMessageResultStaxUnmarshaller();
     public static ReceiveMessageResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new ReceiveMessageResultStaxUnmarshaller();
         return instance;
     }
 }
@@ -47,4 +47,9 @@ public class RemovePermissionRequestMarshaller implements Marshaller<Request<Rem
 
         return request;
     }
+
+    private static final RemovePermissionRequestMarshaller instance = new RemovePermissionRequestMarshaller();
+    public static RemovePermissionRequestMarshaller getInstance() {
+        return instance;
+    }
 }
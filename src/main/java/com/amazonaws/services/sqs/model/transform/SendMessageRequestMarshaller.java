@@ -47,4 +47,9 @@ public class SendMessageRequestMarshaller implements Marshaller<Request<SendMess
 
         return request;
     }
+
+    private static final SendMessageRequestMarshaller instance = new SendMessageRequestMarshaller();
+    public static SendMessageRequestMarshaller getInstance() {
+        return instance;
+    }
 }
@@ -63,9 +63,8 @@ public class SendMessageResultStaxUnmarshaller implements Unmarshaller<SendMessa
         }
     }
 
-    private static SendMessageResultStaxUnmarshaller instance;
+    private static final SendMessageResultStaxUnmarshaller instance = new SendMessageResultStaxUnmarshaller();
     public static SendMessageResultStaxUnmarshaller getInstance() {
-        if (instance == null) instance = new SendMessageResultStaxUnmarshaller();
         return instance;
     }
 }
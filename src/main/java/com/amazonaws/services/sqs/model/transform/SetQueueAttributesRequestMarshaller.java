@@ -22,6 +22,7 @@ import com.amazonaws.Request;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.sqs.model.*;
 import com.amazonaws.transform.Marshaller;
+import com.amazonaws.util.ParameterNameTable;
 import com.amazonaws.util.StringUtils;
 
 /**
@@ -29,6 +30,9 @@ import com.amazonaws.util.StringUtils;
  */
 public class SetQueueAttributesRequestMarshaller implements Marshaller<Request<SetQueueAttributesRequest>, SetQueueAttributesRequest> {
 
+    private static final ParameterNameTable ATTRIBUTE_NAME_NAMES = new ParameterNameTable("Attribute.", ".Name");
+    private static final ParameterNameTable ATTRIBUTE_VALUE_NAMES = new ParameterNameTable("Attribute.", ".Value");
+
     public Request<SetQueueAttributesRequest> marshall(SetQueueAttributesRequest setQueueAttributesRequest) {
         Request<SetQueueAttributesRequest> request = new DefaultRequest<SetQueueAttributesRequest>(setQueueAttributesRequest, "AmazonSQS");
         request.addParameter("Action", "SetQueueAttributes");
@@ -45,12 +49,12 @@ public class SetQueueAttributesRequestMarshaller implements Marshaller<Request<S
 
                     if (attributesListValue != null) {
                         if (attributesListValue.getKey() != null) {
-                            request.addParameter("Attribute." + attributesListIndex + ".Name", StringUtils.fromString(attributesListValue.getKey()));
+                            request.addParameter(ATTRIBUTE_NAME_NAMES.get(attributesListIndex), StringUtils.fromString(attributesListValue.getKey()));
                         }
                     }
                     if (attributesListValue != null) {
                         if (attributesListValue.getValue() != null) {
-                            request.addParameter("Attribute." + attributesListIndex + ".Value", StringUtils.fromString(attributesListValue.getValue()));
+                            request.addParameter(ATTRIBUTE_VALUE_NAMES.get(attributesListIndex), StringUtils.fromString(attributesListValue.getValue()));
                         }
                     }
                     ++attributesListIndex;
@@ -61,4 +65,9 @@ public class SetQueueAttributesRequestMarshaller implements Marshaller<Request<S
 
         return request;
     }
+
+    private static final SetQueueAttributesRequestMarshaller instance = new SetQueueAttributesRequestMarshaller();
+    public static SetQueueAttributesRequestMarshaller getInstance() {
+        return instance;
+    }
 }
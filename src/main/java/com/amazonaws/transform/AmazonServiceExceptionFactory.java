@@ -0,0 +1,51 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.transform;
+
+import com.amazonaws.AmazonServiceException;
+
+/**
+ * Creates the exception for a specific AWS error code from a parsed error
+ * response. Lets error response handlers pick the exception to create by
+ * looking up the error code, instead of trying every error unmarshaller in
+ * turn.
+ *
+ * @see StandardErrorUnmarshaller
+ * @see LegacyErrorUnmarshaller
+ */
+public interface AmazonServiceExceptionFactory {
+
+    /**
+     * Returns the AWS error code this factory creates exceptions for.
+     *
+     * @return The AWS error code this factory creates exceptions for, or null
+     *         if this factory creates exceptions for any error code.
+     */
+    public String getErrorCode();
+
+    /**
+     * Creates and populates the exception for the specified error response.
+     *
+     * @param errorResponse
+     *            The parsed error response.
+     *
+     * @return The exception for the specified error response.
+     *
+     * @throws Exception
+     *             If the exception couldn't be created.
+     */
+    public AmazonServiceException createException(ErrorResponse errorResponse) throws Exception;
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.transform;
+
+import java.util.Map;
+
+/**
+ * The contents of an AWS error response, as pulled out of the response by
+ * {@link StaxErrorResponseParser}.
+ * <p>
+ * Both standard (<code>ErrorResponse/Error</code>) and legacy
+ * (<code>Response/Errors/Error</code>) error responses are represented the same
+ * way: every child of the error element is available as an error property,
+ * with the common ones (code, type and message) also available through their
+ * own getters.
+ */
+public class ErrorResponse {
+
+    /** The text of each child element of the error element, by element name. */
+    private final Map<String, String> errorProperties;
+
+    /** The AWS request ID of the failed request. */
+    private final String requestId;
+
+    /**
+     * Constructs a new error response with the specified error properties and
+     * request ID.
+     *
+     * @param errorProperties
+     *            The text of each child element of the error element, by
+     *            element name.
+     * @param requestId
+     *            The AWS request ID of the failed request.
+     */
+    public ErrorResponse(Map<String, String> errorProperties, String requestId) {
+        this.errorProperties = errorProperties;
+        this.requestId = requestId;
+    }
+
+    /**
+     * Returns the AWS error code (ex: "InvalidParameterValue").
+     *
+     * @return The AWS error code, or null if the response didn't include one.
+     */
+    public String getErrorCode() {
+        return errorProperties.get("Code");
+    }
+
+    /**
+     * Returns the type of the error (ex: "Sender" or "Receiver" for standard
+     * error responses, "client" or "server" for legacy ones).
+     *
+     * @return The type of the error, or null if the response didn't include
+     *         one.
+     */
+    public String getErrorType() {
+        return errorProperties.get("Type");
+    }
+
+    /**
+     * Returns the human readable error message.
+     *
+     * @return The error message, or null if the response didn't include one.
+     */
+    public String getMessage() {
+        return errorProperties.get("Message");
+    }
+
+    /**
+     * Returns the AWS request ID of the failed request.
+     *
+     * @return The AWS request ID, or null if the response didn't include one.
+     */
+    public String getRequestId() {
+        return requestId;
+    }
+
+    /**
+     * Returns the trimmed text of the specified child of the error element,
+     * for service specific error properties (ex: "BoxUsage").
+     *
+     * @param property
+     *            The name of the error property.
+     *
+     * @return The value of the error property, or null if the response didn't
+     *         include it.
+     */
+    public String getErrorProperty(String property) {
+        return errorProperties.get(property);
+    }
+
+}
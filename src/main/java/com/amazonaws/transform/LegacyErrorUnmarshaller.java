@@ -26,7 +26,8 @@ import com.amazonaws.util.XpathUtils;
  * Unmarshalls an AWS error response into an AmazonServiceException, or
  * optionally, a subclass of AmazonServiceException if this class is extended.
  */
-public class LegacyErrorUnmarshaller implements Unmarshaller<AmazonServiceException, Node> {
+public class LegacyErrorUnmarshaller implements Unmarshaller<AmazonServiceException, Node>,
+        AmazonServiceExceptionFactory {
     /**
      * The type of AmazonServiceException that will be instantiated. Subclasses
      * specialized for a specific type of exception can control this through the
@@ -34,25 +35,51 @@ public class LegacyErrorUnmarshaller implements Unmarshaller<AmazonServiceExcept
      */
     private final Class<? extends AmazonServiceException> exceptionClass;
 
+    /**
+     * The AWS error code this unmarshaller understands, or null if it
+     * understands any error code.
+     */
+    private final String errorCode;
+
     /**
      * Constructs a new unmarshaller that will unmarshall AWS error responses as
      * a generic AmazonServiceException object.
      */
     public LegacyErrorUnmarshaller() {
-        this(AmazonServiceException.class);
+        this(AmazonServiceException.class, null);
     }
 
     /**
      * Constructor allowing subclasses to specify a specific type of
      * AmazonServiceException to instantiating when populating the exception
-     * object with data from the AWS error response.
+     * object with data from the AWS error response. Since no error code is
+     * given, the unmarshaller is used for any error code when exceptions are
+     * looked up by error code; subclasses that only understand one error code
+     * should use {@link #LegacyErrorUnmarshaller(Class, String)} instead.
      *
      * @param exceptionClass
      *            The class of AmazonServiceException to create and populate
      *            when unmarshalling the AWS error response.
      */
     protected LegacyErrorUnmarshaller(Class<? extends AmazonServiceException> exceptionClass) {
+        this(exceptionClass, null);
+    }
+
+    /**
+     * Constructor allowing subclasses to specify a specific type of
+     * AmazonServiceException to instantiate, and the AWS error code that type
+     * of exception is created for, so that the unmarshaller can be looked up
+     * by error code.
+     *
+     * @param exceptionClass
+     *            The class of AmazonServiceException to create and populate
+     *            when unmarshalling the AWS error response.
+     * @param errorCode
+     *            The AWS error code this unmarshaller understands.
+     */
+    protected LegacyErrorUnmarshaller(Class<? extends AmazonServiceException> exceptionClass, String errorCode) {
         this.exceptionClass = exceptionClass;
+        this.errorCode = errorCode;
     }
 
     /* (non-Javadoc)
@@ -64,6 +91,31 @@ public class LegacyErrorUnmarshaller implements Unmarshaller<AmazonServiceExcept
         String requestId = XpathUtils.asString("Response/RequestID", in);
         String errorType = XpathUtils.asString("Response/Errors/Error/Type", in);
 
+        return newException(errorCode, errorType, requestId, message);
+    }
+
+    /* (non-Javadoc)
+     * @see com.amazonaws.transform.AmazonServiceExceptionFactory#getErrorCode()
+     */
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    /* (non-Javadoc)
+     * @see com.amazonaws.transform.AmazonServiceExceptionFactory#createExceptio
+     * n(com.amazonaws.transform.ErrorResponse)
+     */
+    public AmazonServiceException createException(ErrorResponse errorResponse) throws Exception {
+        return newException(errorResponse.getErrorCode(), errorResponse.getErrorType(),
+                errorResponse.getRequestId(), errorResponse.getMessage());
+    }
+
+    /**
+     * Creates and populates an exception of this unmarshaller's exception
+     * class.
+     */
+    private AmazonServiceException newException(String errorCode, String errorType, String requestId, String message)
+            throws Exception {
         Constructor<? extends AmazonServiceException> constructor = exceptionClass.getConstructor(String.class);
         AmazonServiceException ase = constructor.newInstance(message);
         ase.setErrorCode(errorCode);
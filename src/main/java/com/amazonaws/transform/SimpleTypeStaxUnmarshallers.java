@@ -45,9 +45,8 @@ public class SimpleTypeStaxUnmarshallers {
             return unmarshallerContext.readText();
         }
 
-        private static StringStaxUnmarshaller instance;
+        private static final StringStaxUnmarshaller instance = new StringStaxUnmarshaller();
         public static StringStaxUnmarshaller getInstance() {
-            if (instance == null) instance = new StringStaxUnmarshaller();
             return instance;
         }
     }
@@ -61,9 +60,8 @@ public class SimpleTypeStaxUnmarshallers {
             return (doubleString == null) ? null : Double.parseDouble(doubleString);
         }
 
-        private static DoubleStaxUnmarshaller instance;
+        private static final DoubleStaxUnmarshaller instance = new DoubleStaxUnmarshaller();
         public static DoubleStaxUnmarshaller getInstance() {
-            if (instance == null) instance = new DoubleStaxUnmarshaller();
             return instance;
         }
     }
@@ -77,9 +75,8 @@ public class SimpleTypeStaxUnmarshallers {
             return (intString == null) ? null : Integer.parseInt(intString);
         }
 
-        private static IntegerStaxUnmarshaller instance;
+        private static final IntegerStaxUnmarshaller instance = new IntegerStaxUnmarshaller();
         public static IntegerStaxUnmarshaller getInstance() {
-            if (instance == null) instance = new IntegerStaxUnmarshaller();
             return instance;
         }
     }
@@ -93,9 +90,8 @@ public class SimpleTypeStaxUnmarshallers {
             return (booleanString == null) ? null : Boolean.parseBoolean(booleanString);
         }
 
-        private static BooleanStaxUnmarshaller instance;
+        private static final BooleanStaxUnmarshaller instance = new BooleanStaxUnmarshaller();
         public static BooleanStaxUnmarshaller getInstance() {
-            if (instance == null) instance = new BooleanStaxUnmarshaller();
             return instance;
         }
     }
@@ -109,9 +105,8 @@ public class SimpleTypeStaxUnmarshallers {
             return (floatString == null) ? null : Float.valueOf(floatString);
         }
 
-        private static FloatStaxUnmarshaller instance;
+        private static final FloatStaxUnmarshaller instance = new FloatStaxUnmarshaller();
         public static FloatStaxUnmarshaller getInstance() {
-            if (instance == null) instance = new FloatStaxUnmarshaller();
             return instance;
         }
     }
@@ -125,9 +120,8 @@ public class SimpleTypeStaxUnmarshallers {
             return (longString == null) ? null : Long.parseLong(longString);
         }
 
-        private static LongStaxUnmarshaller instance;
+        private static final LongStaxUnmarshaller instance = new LongStaxUnmarshaller();
         public static LongStaxUnmarshaller getInstance() {
-            if (instance == null) instance = new LongStaxUnmarshaller();
             return instance;
         }
     }
@@ -141,9 +135,8 @@ public class SimpleTypeStaxUnmarshallers {
             return (byteString == null) ? null : Byte.valueOf(byteString);
         }
 
-        private static ByteStaxUnmarshaller instance;
+        private static final ByteStaxUnmarshaller instance = new ByteStaxUnmarshaller();
         public static ByteStaxUnmarshaller getInstance() {
-            if (instance == null) instance = new ByteStaxUnmarshaller();
             return instance;
         }
     }
@@ -164,9 +157,8 @@ public class SimpleTypeStaxUnmarshallers {
             }
         }
 
-        private static DateStaxUnmarshaller instance;
+        private static final DateStaxUnmarshaller instance = new DateStaxUnmarshaller();
         public static DateStaxUnmarshaller getInstance() {
-            if (instance == null) instance = new DateStaxUnmarshaller();
             return instance;
         }
     }
@@ -188,9 +180,8 @@ public class SimpleTypeStaxUnmarshallers {
             }
         }
 
-        private static ByteBufferStaxUnmarshaller instance;
+        private static final ByteBufferStaxUnmarshaller instance = new ByteBufferStaxUnmarshaller();
         public static ByteBufferStaxUnmarshaller getInstance() {
-            if (instance == null) instance = new ByteBufferStaxUnmarshaller();
             return instance;
         }
     }
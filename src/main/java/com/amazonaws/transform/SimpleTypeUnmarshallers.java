@@ -34,9 +34,8 @@ public class SimpleTypeUnmarshallers {
             return XpathUtils.asString(".", in);
         }
 
-        private static StringUnmarshaller instance;
+        private static final StringUnmarshaller instance = new StringUnmarshaller();
         public static StringUnmarshaller getInstance() {
-            if (instance == null) instance = new StringUnmarshaller();
             return instance;
         }
     }
@@ -49,9 +48,8 @@ public class SimpleTypeUnmarshallers {
             return XpathUtils.asDouble(".", in);
         }
         
-        private static DoubleUnmarshaller instance;
+        private static final DoubleUnmarshaller instance = new DoubleUnmarshaller();
         public static DoubleUnmarshaller getInstance() {
-            if (instance == null) instance = new DoubleUnmarshaller();
             return instance;
         }
     }
@@ -64,9 +62,8 @@ public class SimpleTypeUnmarshallers {
             return XpathUtils.asInteger(".", in);
         }
 
-        private static IntegerUnmarshaller instance;
+        private static final IntegerUnmarshaller instance = new IntegerUnmarshaller();
         public static IntegerUnmarshaller getInstance() {
-            if (instance == null) instance = new IntegerUnmarshaller();
             return instance;
         }
     }
@@ -79,9 +76,8 @@ public class SimpleTypeUnmarshallers {
             return XpathUtils.asBoolean(".", in);
         }
 
-        private static BooleanUnmarshaller instance;
+        private static final BooleanUnmarshaller instance = new BooleanUnmarshaller();
         public static BooleanUnmarshaller getInstance() {
-            if (instance == null) instance = new BooleanUnmarshaller();
             return instance;
         }
     }
@@ -94,9 +90,8 @@ public class SimpleTypeUnmarshallers {
             return XpathUtils.asFloat(".", in);
         }
 
-        private static FloatUnmarshaller instance;
+        private static final FloatUnmarshaller instance = new FloatUnmarshaller();
         public static FloatUnmarshaller getInstance() {
-            if (instance == null) instance = new FloatUnmarshaller();
             return instance;
         }
     }
@@ -109,9 +104,8 @@ public class SimpleTypeUnmarshallers {
             return XpathUtils.asLong(".", in);
         }
 
-        private static LongUnmarshaller instance;
+        private static final LongUnmarshaller instance = new LongUnmarshaller();
         public static LongUnmarshaller getInstance() {
-            if (instance == null) instance = new LongUnmarshaller();
             return instance;
         }
     }
@@ -124,9 +118,8 @@ public class SimpleTypeUnmarshallers {
             return XpathUtils.asByte(".", in);
         }
 
-        private static ByteUnmarshaller instance;
+        private static final ByteUnmarshaller instance = new ByteUnmarshaller();
         public static ByteUnmarshaller getInstance() {
-            if (instance == null) instance = new ByteUnmarshaller();
             return instance;
         }
     }
@@ -139,9 +132,8 @@ public class SimpleTypeUnmarshallers {
             return XpathUtils.asDate(".", in);
         }
 
-        private static DateUnmarshaller instance;
+        private static final DateUnmarshaller instance = new DateUnmarshaller();
         public static DateUnmarshaller getInstance() {
-            if (instance == null) instance = new DateUnmarshaller();
             return instance;
         }
     }
@@ -154,9 +146,8 @@ public class SimpleTypeUnmarshallers {
             return XpathUtils.asByteBuffer(".", in);
         }
 
-        private static ByteBufferUnmarshaller instance;
+        private static final ByteBufferUnmarshaller instance = new ByteBufferUnmarshaller();
         public static ByteBufferUnmarshaller getInstance() {
-            if (instance == null) instance = new ByteBufferUnmarshaller();
             return instance;
         }
     }
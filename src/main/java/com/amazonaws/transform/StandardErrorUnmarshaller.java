@@ -29,7 +29,8 @@ import com.amazonaws.util.XpathUtils;
  *
  * @see LegacyErrorUnmarshaller
  */
-public class StandardErrorUnmarshaller implements Unmarshaller<AmazonServiceException, Node> {
+public class StandardErrorUnmarshaller implements Unmarshaller<AmazonServiceException, Node>,
+        AmazonServiceExceptionFactory {
 
     /**
      * The type of AmazonServiceException that will be instantiated. Subclasses
@@ -38,25 +39,51 @@ public class StandardErrorUnmarshaller implements Unmarshaller<AmazonServiceExce
      */
     protected final Class<? extends AmazonServiceException> exceptionClass;
 
+    /**
+     * The AWS error code this unmarshaller understands, or null if it
+     * understands any error code.
+     */
+    private final String errorCode;
+
     /**
      * Constructs a new unmarshaller that will unmarshall a standard AWS error
      * message as a generic AmazonServiceException object.
      */
     public StandardErrorUnmarshaller() {
-        this(AmazonServiceException.class);
+        this(AmazonServiceException.class, null);
     }
 
     /**
      * Constructor allowing subclasses to specify a specific type of
      * AmazonServiceException to instantiating when populating the exception
-     * object with data from the error message.
+     * object with data from the error message. Since no error code is given,
+     * the unmarshaller is used for any error code when exceptions are looked
+     * up by error code; subclasses that only understand one error code should
+     * use {@link #StandardErrorUnmarshaller(Class, String)} instead.
      *
      * @param exceptionClass
      *            The class of AmazonServiceException to create and populate
      *            when unmarshalling the error message.
      */
     protected StandardErrorUnmarshaller(Class<? extends AmazonServiceException> exceptionClass) {
+        this(exceptionClass, null);
+    }
+
+    /**
+     * Constructor allowing subclasses to specify a specific type of
+     * AmazonServiceException to instantiate, and the AWS error code that type
+     * of exception is created for, so that the unmarshaller can be looked up
+     * by error code.
+     *
+     * @param exceptionClass
+     *            The class of AmazonServiceException to create and populate
+     *            when unmarshalling the error message.
+     * @param errorCode
+     *            The AWS error code this unmarshaller understands.
+     */
+    protected StandardErrorUnmarshaller(Class<? extends AmazonServiceException> exceptionClass, String errorCode) {
         this.exceptionClass = exceptionClass;
+        this.errorCode = errorCode;
     }
 
     /**
@@ -68,6 +95,31 @@ public class StandardErrorUnmarshaller implements Unmarshaller<AmazonServiceExce
         String requestId = XpathUtils.asString("ErrorResponse/RequestId", in);
         String message = XpathUtils.asString("ErrorResponse/Error/Message", in);
 
+        return newException(errorCode, errorType, requestId, message);
+    }
+
+    /* (non-Javadoc)
+     * @see com.amazonaws.transform.AmazonServiceExceptionFactory#getErrorCode()
+     */
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    /* (non-Javadoc)
+     * @see com.amazonaws.transform.AmazonServiceExceptionFactory#createExceptio
+     * n(com.amazonaws.transform.ErrorResponse)
+     */
+    public AmazonServiceException createException(ErrorResponse errorResponse) throws Exception {
+        return newException(errorResponse.getErrorCode(), errorResponse.getErrorType(),
+                errorResponse.getRequestId(), errorResponse.getMessage());
+    }
+
+    /**
+     * Creates and populates an exception of this unmarshaller's exception
+     * class.
+     */
+    private AmazonServiceException newException(String errorCode, String errorType, String requestId, String message)
+            throws Exception {
         Constructor<? extends AmazonServiceException> constructor = exceptionClass.getConstructor(String.class);
         AmazonServiceException ase = constructor.newInstance(message);
         ase.setErrorCode(errorCode);
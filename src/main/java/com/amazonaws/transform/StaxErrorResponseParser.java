@@ -0,0 +1,105 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.transform;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Pulls the error code, type, message, request ID and any other error
+ * properties out of an AWS error response in a single streaming pass, without
+ * building a DOM tree.
+ * <p>
+ * The first <code>Error</code> element in the response is used, wherever it
+ * appears, so both standard and legacy error responses are understood.
+ * Element names are matched without their namespace prefix, so namespaced
+ * responses don't need any preprocessing.
+ */
+public class StaxErrorResponseParser {
+
+    /** Shared factory for creating XML stream readers */
+    private static XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+
+    static {
+        xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    }
+
+    /**
+     * Parses the specified error response.
+     *
+     * @param content
+     *            The content of the error response.
+     *
+     * @return The parsed error response.
+     *
+     * @throws Exception
+     *             If the error response isn't well formed XML.
+     */
+    public ErrorResponse parse(InputStream content) throws Exception {
+        XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(content);
+        try {
+            Map<String, String> errorProperties = new HashMap<String, String>();
+            String requestId = null;
+
+            int depth = 0;
+            int errorDepth = -1;
+            boolean errorDone = false;
+            StringBuilder text = new StringBuilder();
+
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    depth++;
+                    text.setLength(0);
+                    if (errorDepth < 0 && !errorDone && reader.getLocalName().equals("Error")) {
+                        errorDepth = depth;
+                    }
+                    break;
+
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                    text.append(reader.getText());
+                    break;
+
+                case XMLStreamConstants.END_ELEMENT:
+                    String name = reader.getLocalName();
+                    if (errorDepth >= 0) {
+                        if (depth == errorDepth) {
+                            errorDepth = -1;
+                            errorDone = true;
+                        } else if (depth == errorDepth + 1) {
+                            errorProperties.put(name, text.toString().trim());
+                        }
+                    } else if (requestId == null && (name.equals("RequestId") || name.equals("RequestID"))) {
+                        requestId = text.toString().trim();
+                    }
+                    text.setLength(0);
+                    depth--;
+                    break;
+                }
+            }
+
+            return new ErrorResponse(errorProperties, requestId);
+        } finally {
+            try {reader.close();} catch (Exception e) {}
+        }
+    }
+
+}
@@ -0,0 +1,489 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.Request;
+import com.amazonaws.transform.Marshaller;
+
+/**
+ * Opt-in read-through cache for the <code>describe</code> operations of a
+ * service client, intended for control plane code that repeatedly describes
+ * the same resources from many threads (for example
+ * <code>AmazonEC2.describeInstances</code>,
+ * <code>AmazonElasticLoadBalancing.describeInstanceHealth</code> or
+ * <code>AmazonAutoScaling.describeAutoScalingGroups</code>).
+ * <p>
+ * A decorated client behaves as follows:
+ * <ul>
+ * <li>Results of <code>describe</code> operations are cached per marshalled
+ * request (see {@link RequestKey}), for a configurable time to live per
+ * operation, in a cache of bounded size.
+ * <li>Concurrent identical <code>describe</code> calls that miss the cache
+ * share a single service call and its result or exception, provided no
+ * mutating call for the same kind of resource has completed since that
+ * service call started, so a caller always sees its own earlier mutations.
+ * <li>Any other operation that takes a request object is treated as
+ * mutating and, once it has been sent, invalidates the cached results of the
+ * <code>describe</code> operations for the same kind of resource (see below).
+ * <code>setEndpoint</code> invalidates every cached result.
+ * <li>All other methods are passed straight through to the client.
+ * </ul>
+ * <p>
+ * The kind of resource an operation acts on is inferred from the words of
+ * its name that follow the leading verb, ignoring plurals: for example
+ * <code>terminateInstances</code> and <code>modifyInstanceAttribute</code>
+ * invalidate <code>describeInstances</code> and
+ * <code>describeInstanceAttribute</code>, but not
+ * <code>describeVolumes</code>, and
+ * <code>registerInstancesWithLoadBalancer</code> invalidates both
+ * <code>describeInstanceHealth</code> and
+ * <code>describeLoadBalancers</code>. Side effects on resources an
+ * operation's name doesn't mention aren't tracked (for example
+ * <code>createTags</code> doesn't invalidate the tags included in cached
+ * <code>describeInstances</code> results); call {@link #invalidate()} after
+ * such calls when fresh results are needed.
+ * <p>
+ * Cached result objects are shared between callers and must not be
+ * modified.
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * AmazonEC2 ec2 = CachingClientDecorator.decorate(AmazonEC2.class,
+ *         new AmazonEC2Client(credentials), 1000, 5000);
+ * </pre>
+ */
+public class CachingClientDecorator implements InvocationHandler {
+
+    private static final Log log = LogFactory.getLog(CachingClientDecorator.class);
+
+    private static final String CACHEABLE_OPERATION_PREFIX = "describe";
+
+    /** Words in operation names that don't name a kind of resource. */
+    private static final Set<String> CONNECTIVE_WORDS = new HashSet<String>(
+            Arrays.asList("And", "For", "From", "In", "Of", "On", "To", "With"));
+
+    /** The resource words of each operation, by method name. */
+    private static final ConcurrentMap<String, Set<String>> resourceWordsByOperation =
+        new ConcurrentHashMap<String, Set<String>>();
+
+    /** Marshallers used to compute cache keys, by request class. */
+    private static final ConcurrentMap<Class<?>, Marshaller<Request<?>, Object>> marshallers =
+        new ConcurrentHashMap<Class<?>, Marshaller<Request<?>, Object>>();
+
+    /** The decorated client. */
+    private final Object client;
+
+    /** Cached results, keyed by operation name and marshalled request. */
+    private final ExpiringCache<Object, CachedResult> cache;
+
+    /**
+     * Service calls currently in progress, keyed like the cache plus the
+     * generation at which they started.
+     */
+    private final ConcurrentMap<Object, FutureTask<Object>> inFlight =
+        new ConcurrentHashMap<Object, FutureTask<Object>>();
+
+    /** The default time, in milliseconds, to cache a result. */
+    private final long defaultTimeToLiveMillis;
+
+    /** Optional per-operation times to live, keyed by method name. */
+    private final Map<String, Long> timeToLiveByOperation;
+
+    /** Incremented whenever every cached result is invalidated. */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Incremented by every mutating call for each of its resource words, so
+     * results of describe calls for those resources that were cached before,
+     * or raced with, the mutation aren't used.
+     */
+    private final ConcurrentMap<String, AtomicLong> generationsByWord =
+        new ConcurrentHashMap<String, AtomicLong>();
+
+    /** Number of describe calls coalesced into another in-flight call. */
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    /**
+     * Returns a caching view of the specified client, using the same time to
+     * live for every operation.
+     *
+     * @param serviceInterface
+     *            The service interface implemented by the client, for example
+     *            <code>AmazonEC2.class</code>.
+     * @param client
+     *            The client to decorate.
+     * @param maxEntries
+     *            The maximum number of results to cache.
+     * @param timeToLiveMillis
+     *            The time, in milliseconds, for which results are cached.
+     *
+     * @return A client that caches the results of describe operations.
+     */
+    public static <T> T decorate(Class<T> serviceInterface, T client, int maxEntries, long timeToLiveMillis) {
+        return decorate(serviceInterface, client, maxEntries, timeToLiveMillis,
+                Collections.<String, Long>emptyMap());
+    }
+
+    /**
+     * Returns a caching view of the specified client, with per-operation times
+     * to live.
+     *
+     * @param serviceInterface
+     *            The service interface implemented by the client, for example
+     *            <code>AmazonEC2.class</code>.
+     * @param client
+     *            The client to decorate.
+     * @param maxEntries
+     *            The maximum number of results to cache.
+     * @param defaultTimeToLiveMillis
+     *            The time, in milliseconds, for which results are cached when
+     *            no specific time is given for the operation.
+     * @param timeToLiveByOperation
+     *            Times to live, in milliseconds, keyed by client method name
+     *            (ex: "describeInstanceHealth"). A time of zero disables
+     *            caching (but not coalescing) for that operation.
+     *
+     * @return A client that caches the results of describe operations.
+     */
+    public static <T> T decorate(Class<T> serviceInterface, T client, int maxEntries,
+            long defaultTimeToLiveMillis, Map<String, Long> timeToLiveByOperation) {
+        CachingClientDecorator handler = new CachingClientDecorator(
+                client, maxEntries, defaultTimeToLiveMillis, timeToLiveByOperation);
+        return serviceInterface.cast(Proxy.newProxyInstance(
+                serviceInterface.getClassLoader(), new Class<?>[] {serviceInterface}, handler));
+    }
+
+    /**
+     * Returns the decorator behind a client returned by one of the
+     * <code>decorate</code> methods, for access to its statistics.
+     *
+     * @param decoratedClient
+     *            A client returned by one of the <code>decorate</code>
+     *            methods.
+     *
+     * @return The decorator behind the specified client.
+     */
+    public static CachingClientDecorator getDecorator(Object decoratedClient) {
+        return (CachingClientDecorator)Proxy.getInvocationHandler(decoratedClient);
+    }
+
+    private CachingClientDecorator(Object client, int maxEntries,
+            long defaultTimeToLiveMillis, Map<String, Long> timeToLiveByOperation) {
+        this.client = client;
+        this.cache = new ExpiringCache<Object, CachedResult>(maxEntries, defaultTimeToLiveMillis);
+        this.defaultTimeToLiveMillis = defaultTimeToLiveMillis;
+        this.timeToLiveByOperation = new HashMap<String, Long>(timeToLiveByOperation);
+    }
+
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+
+        if (method.getDeclaringClass() == Object.class) {
+            if (name.equals("equals")) return proxy == args[0];
+            if (name.equals("hashCode")) return System.identityHashCode(proxy);
+            return invokeClient(method, args);
+        }
+
+        if (name.startsWith(CACHEABLE_OPERATION_PREFIX)) {
+            Object key = createKey(method, args);
+            if (key != null) return invokeCached(key, method, args);
+            return invokeClient(method, args);
+        }
+
+        if (name.equals("setEndpoint")) {
+            try {
+                return invokeClient(method, args);
+            } finally {
+                invalidate();
+            }
+        }
+
+        if (isRequestMethod(method)) {
+            try {
+                return invokeClient(method, args);
+            } finally {
+                invalidate(name);
+            }
+        }
+
+        return invokeClient(method, args);
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    /**
+     * Invalidates the cached results of the describe operations for the
+     * resources the specified mutating operation acts on, or every cached
+     * result if its name doesn't say.
+     */
+    private void invalidate(String operationName) {
+        Set<String> words = getResourceWords(operationName);
+        if (words.isEmpty()) {
+            invalidate();
+            return;
+        }
+        for (String word : words) {
+            AtomicLong wordGeneration = generationsByWord.get(word);
+            if (wordGeneration == null) {
+                AtomicLong newGeneration = new AtomicLong();
+                wordGeneration = generationsByWord.putIfAbsent(word, newGeneration);
+                if (wordGeneration == null) wordGeneration = newGeneration;
+            }
+            wordGeneration.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns a value that changes whenever results of the specified describe
+     * operation are invalidated. Generations only grow, so their sum changes
+     * whenever any of them does.
+     */
+    private long getGeneration(String operationName) {
+        long sum = generation.get();
+        for (String word : getResourceWords(operationName)) {
+            AtomicLong wordGeneration = generationsByWord.get(word);
+            if (wordGeneration != null) sum += wordGeneration.get();
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the number of describe calls served from the cache.
+     *
+     * @return The number of cache hits.
+     */
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    /**
+     * Returns the number of describe calls that weren't served from the cache.
+     *
+     * @return The number of cache misses.
+     */
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    /**
+     * Returns the number of describe calls that missed the cache but shared
+     * the result of an identical call already in progress.
+     *
+     * @return The number of coalesced calls.
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    private Object invokeCached(final Object key, final Method method, final Object[] args) throws Throwable {
+        final String operationName = method.getName();
+        final long startGeneration = getGeneration(operationName);
+        CachedResult cached = cache.get(key);
+        if (cached != null) {
+            if (cached.generation == startGeneration) return cached.result;
+            cache.remove(key, cached);
+        }
+
+        FutureTask<Object> call = new FutureTask<Object>(new Callable<Object>() {
+            public Object call() throws Exception {
+                Object result = invokeClientUnchecked(method, args);
+                long timeToLive = getTimeToLive(operationName);
+                if (result != null && timeToLive > 0 && getGeneration(operationName) == startGeneration) {
+                    cache.put(key, new CachedResult(result, startGeneration), timeToLive);
+                }
+                return result;
+            }
+        });
+
+        // Only join calls that started after any mutation this caller has
+        // already made, which would otherwise be missing from their results
+        Object inFlightKey = Arrays.asList(key, Long.valueOf(startGeneration));
+        FutureTask<Object> existing = inFlight.putIfAbsent(inFlightKey, call);
+        if (existing == null) {
+            try {
+                call.run();
+            } finally {
+                inFlight.remove(inFlightKey, call);
+            }
+        } else {
+            coalescedCount.incrementAndGet();
+            call = existing;
+        }
+
+        try {
+            return call.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long getTimeToLive(String operationName) {
+        Long timeToLive = timeToLiveByOperation.get(operationName);
+        return (timeToLive == null) ? defaultTimeToLiveMillis : timeToLive.longValue();
+    }
+
+    private Object invokeClient(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(client, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Object invokeClientUnchecked(Method method, Object[] args) throws Exception {
+        try {
+            return method.invoke(client, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) throw (Exception)cause;
+            throw (Error)cause;
+        }
+    }
+
+    /**
+     * Returns the cache key for the specified call, or null if the call can't
+     * be cached.
+     */
+    private Object createKey(Method method, Object[] args) {
+        if (args == null || args.length == 0) return method.getName();
+        if (args.length != 1 || !(args[0] instanceof AmazonWebServiceRequest)) return null;
+
+        Marshaller<Request<?>, Object> marshaller = getMarshaller(args[0].getClass());
+        if (marshaller == null) return null;
+
+        try {
+            return new RequestKey(marshaller.marshall(args[0]));
+        } catch (Exception e) {
+            // Let the client report the problem with the request
+            return null;
+        }
+    }
+
+    private static boolean isRequestMethod(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        return parameterTypes.length == 1
+            && AmazonWebServiceRequest.class.isAssignableFrom(parameterTypes[0]);
+    }
+
+    /**
+     * Returns the words naming the kind of resource the specified operation
+     * acts on: the capitalized words after its leading verb, with plural
+     * endings removed, except for connectives (ex: "registerInstancesWithLoadBalancer"
+     * has the resource words "Instanc", "Load" and "Balancer").
+     */
+    private static Set<String> getResourceWords(String operationName) {
+        Set<String> words = resourceWordsByOperation.get(operationName);
+        if (words != null) return words;
+
+        words = new HashSet<String>();
+        int start = -1;
+        for (int i = 0; i <= operationName.length(); i++) {
+            if (i < operationName.length() && !isWordStart(operationName, i)) continue;
+            if (start >= 0) {
+                String word = operationName.substring(start, i);
+                if (!CONNECTIVE_WORDS.contains(word)) words.add(stem(word));
+            }
+            start = i;
+        }
+        resourceWordsByOperation.put(operationName, words);
+        return words;
+    }
+
+    /**
+     * Returns true if a new word starts at the specified index of a camel case
+     * name, treating a run of capitals as one word (ex: "DBInstances").
+     */
+    private static boolean isWordStart(String name, int index) {
+        if (index == 0 || !Character.isUpperCase(name.charAt(index))) return false;
+        if (!Character.isUpperCase(name.charAt(index - 1))) return true;
+        return index + 1 < name.length() && Character.isLowerCase(name.charAt(index + 1));
+    }
+
+    /**
+     * Removes plural endings, so the singular and plural forms of a word
+     * compare equal (ex: "Policies" and "Policy", "Addresses" and "Address").
+     */
+    private static String stem(String word) {
+        if (word.endsWith("ies")) return word.substring(0, word.length() - 3) + "y";
+        int end = word.length();
+        while (end > 1 && (word.charAt(end - 1) == 's' || word.charAt(end - 1) == 'e')) end--;
+        return word.substring(0, end);
+    }
+
+    /**
+     * Returns the marshaller for the specified request class, found by the
+     * naming convention of the generated clients
+     * (<code>model.XxxRequest</code> is marshalled by
+     * <code>model.transform.XxxRequestMarshaller</code>), or null if there is
+     * none.
+     */
+    @SuppressWarnings("unchecked")
+    private static Marshaller<Request<?>, Object> getMarshaller(Class<?> requestClass) {
+        Marshaller<Request<?>, Object> marshaller = marshallers.get(requestClass);
+        if (marshaller != null) return marshaller;
+
+        String marshallerName = requestClass.getPackage().getName() + ".transform."
+            + requestClass.getSimpleName() + "Marshaller";
+        try {
+            marshaller = (Marshaller<Request<?>, Object>)Class.forName(
+                    marshallerName, true, requestClass.getClassLoader()).newInstance();
+        } catch (Exception e) {
+            log.debug("No marshaller found for " + requestClass.getName() + ", results won't be cached");
+            return null;
+        }
+        marshallers.put(requestClass, marshaller);
+        return marshaller;
+    }
+
+    /** A cached result and the generation of its operation it was cached in. */
+    private static final class CachedResult {
+        private final Object result;
+        private final long generation;
+
+        private CachedResult(Object result, long generation) {
+            this.result = result;
+            this.generation = generation;
+        }
+    }
+
+}
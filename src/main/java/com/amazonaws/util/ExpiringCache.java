@@ -0,0 +1,241 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size-bounded, thread safe cache whose entries expire after a fixed time to
+ * live. Once the max size has been reached, the least recently used entry is
+ * evicted as new entries are added. Expired entries are removed lazily, when
+ * they are next looked up.
+ * <p>
+ * The cache keeps simple hit, miss and eviction counters so callers can
+ * judge whether it is sized appropriately.
+ *
+ * @param <K>
+ *            The type of the keys in this cache.
+ * @param <V>
+ *            The type of the values in this cache.
+ */
+public class ExpiringCache<K, V> {
+
+    private final int maxEntries;
+    private final long timeToLiveMillis;
+    private final LinkedHashMap<K, CacheEntry<V>> map;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Creates a new cache that will contain at most the specified number of
+     * entries, each of which expires after the specified time.
+     *
+     * @param maxEntries
+     *            The maximum size of this cache.
+     * @param timeToLiveMillis
+     *            The time, in milliseconds, after which an entry expires.
+     */
+    public ExpiringCache(final int maxEntries, long timeToLiveMillis) {
+        if (maxEntries < 1) throw new IllegalArgumentException("Cache size must be at least one");
+        this.maxEntries = maxEntries;
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.map = new LinkedHashMap<K, CacheEntry<V>>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                if (size() > maxEntries) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the live value associated with the specified key, or null if
+     * there is no value or the value has expired.
+     *
+     * @param key
+     *            The key whose value is desired.
+     *
+     * @return The value associated with the key, or null.
+     */
+    public synchronized V get(K key) {
+        CacheEntry<V> entry = map.get(key);
+        if (entry != null && entry.isExpired(System.currentTimeMillis())) {
+            map.remove(key);
+            entry = null;
+        }
+
+        if (entry == null) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return entry.value;
+    }
+
+    /**
+     * Associates the specified value with the specified key, using this
+     * cache's default time to live.
+     *
+     * @param key
+     *            The key by which to store the value.
+     * @param value
+     *            The value to store.
+     */
+    public void put(K key, V value) {
+        put(key, value, timeToLiveMillis);
+    }
+
+    /**
+     * Associates the specified value with the specified key for the specified
+     * time, possibly evicting the least recently used entry.
+     *
+     * @param key
+     *            The key by which to store the value.
+     * @param value
+     *            The value to store.
+     * @param timeToLiveMillis
+     *            The time, in milliseconds, after which the entry expires.
+     */
+    public synchronized void put(K key, V value, long timeToLiveMillis) {
+        map.put(key, new CacheEntry<V>(value, System.currentTimeMillis() + timeToLiveMillis));
+    }
+
+    /**
+     * Stores the specified value only if there is no live value already
+     * associated with the key.
+     *
+     * @param key
+     *            The key by which to store the value.
+     * @param value
+     *            The value to store.
+     *
+     * @return The live value already associated with the key, in which case
+     *         the cache is not modified, or null if the value was stored.
+     */
+    public synchronized V putIfAbsent(K key, V value) {
+        CacheEntry<V> entry = map.get(key);
+        if (entry != null && !entry.isExpired(System.currentTimeMillis())) {
+            return entry.value;
+        }
+        put(key, value);
+        return null;
+    }
+
+    /**
+     * Removes the entry associated with the specified key.
+     *
+     * @param key
+     *            The key whose entry should be removed.
+     *
+     * @return The value that was removed, or null if there was none.
+     */
+    public synchronized V remove(K key) {
+        CacheEntry<V> entry = map.remove(key);
+        return (entry == null) ? null : entry.value;
+    }
+
+    /**
+     * Removes the entry associated with the specified key only if it is
+     * currently associated with the specified value.
+     *
+     * @param key
+     *            The key whose entry should be removed.
+     * @param value
+     *            The value expected to be associated with the key.
+     *
+     * @return True if the entry was removed.
+     */
+    public synchronized boolean remove(K key, V value) {
+        CacheEntry<V> entry = map.get(key);
+        if (entry == null || entry.value != value) return false;
+        map.remove(key);
+        return true;
+    }
+
+    /**
+     * Removes all entries from this cache.
+     */
+    public synchronized void clear() {
+        map.clear();
+    }
+
+    /**
+     * Returns the number of entries in this cache, including any expired
+     * entries that haven't been looked up since they expired.
+     *
+     * @return The number of entries in this cache.
+     */
+    public synchronized int size() {
+        return map.size();
+    }
+
+    /**
+     * Returns the maximum number of entries this cache will hold.
+     *
+     * @return The maximum size of this cache.
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Returns the number of lookups that found a live value.
+     *
+     * @return The number of cache hits.
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that found no value or an expired value.
+     *
+     * @return The number of cache misses.
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of entries evicted to make room for new entries.
+     *
+     * @return The number of evictions.
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    private static final class CacheEntry<V> {
+        private final V value;
+        private final long expirationTime;
+
+        private CacheEntry(V value, long expirationTime) {
+            this.value = value;
+            this.expirationTime = expirationTime;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expirationTime;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.ClientConfiguration;
+
+/**
+ * Bounded thread pool used by default by the asynchronous clients.
+ * <p>
+ * Unlike a cached thread pool, this executor never runs more than a fixed
+ * number of threads and never queues more than a fixed number of tasks, so a
+ * burst of asynchronous requests can't exhaust the threads available to the
+ * JVM. When both the threads and the queue are full, or the executor has
+ * been shut down, new tasks are rejected with a
+ * {@link RejectedExecutionException}, so asynchronous calls never run on, or
+ * block, the calling thread and never return a future that can't complete.
+ * <p>
+ * Threads are named after the owning client, are daemon threads, and time out
+ * when idle. The executor also records the number of rejected tasks and the
+ * largest queue depth it has seen, so callers can tell whether the pool is
+ * sized correctly for their workload.
+ */
+public class InstrumentedThreadPoolExecutor extends ThreadPoolExecutor {
+
+    private static final Log log = LogFactory.getLog(InstrumentedThreadPoolExecutor.class);
+
+    /** The default maximum number of tasks waiting for a thread. */
+    public static final int DEFAULT_MAX_QUEUED_TASKS = 1000;
+
+    /** How long idle threads are kept alive, in seconds. */
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    /** The number of tasks that were rejected. */
+    private final AtomicLong rejectedTaskCount = new AtomicLong();
+
+    /** The largest number of tasks observed waiting in the queue. */
+    private final AtomicInteger largestQueueDepth = new AtomicInteger();
+
+    /**
+     * Creates a new executor with the default queue limit and one thread per
+     * HTTP connection the client may open, since requests beyond that would
+     * only wait for a connection. Its threads are named after the specified
+     * client.
+     *
+     * @param name
+     *            The name used as a prefix for the executor's threads,
+     *            typically the simple class name of the owning client.
+     * @param clientConfiguration
+     *            The configuration of the owning client, whose maximum number
+     *            of connections sets the number of threads.
+     *
+     * @return A new bounded, instrumented executor.
+     */
+    public static InstrumentedThreadPoolExecutor newDefaultExecutor(String name, ClientConfiguration clientConfiguration) {
+        return new InstrumentedThreadPoolExecutor(name, clientConfiguration.getMaxConnections(), DEFAULT_MAX_QUEUED_TASKS);
+    }
+
+    /**
+     * Constructs a new executor with the specified thread and queue limits.
+     *
+     * @param name
+     *            The name used as a prefix for the executor's threads.
+     * @param maxThreads
+     *            The maximum number of threads in the pool.
+     * @param maxQueuedTasks
+     *            The maximum number of tasks waiting for a thread before new
+     *            tasks are rejected.
+     */
+    public InstrumentedThreadPoolExecutor(String name, int maxThreads, int maxQueuedTasks) {
+        super(maxThreads, maxThreads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<Runnable>(maxQueuedTasks), new NamedThreadFactory(name));
+        allowCoreThreadTimeOut(true);
+        setRejectedExecutionHandler(new CountingAbortPolicy());
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        super.execute(command);
+
+        int queueDepth = getQueue().size();
+        int largest = largestQueueDepth.get();
+        while (queueDepth > largest && !largestQueueDepth.compareAndSet(largest, queueDepth)) {
+            largest = largestQueueDepth.get();
+        }
+    }
+
+    /**
+     * Returns the number of tasks currently waiting for a thread.
+     *
+     * @return The number of tasks currently waiting for a thread.
+     */
+    public int getQueueDepth() {
+        return getQueue().size();
+    }
+
+    /**
+     * Returns the largest number of tasks that have been waiting for a thread
+     * at the same time.
+     *
+     * @return The largest queue depth observed by this executor.
+     */
+    public int getLargestQueueDepth() {
+        return largestQueueDepth.get();
+    }
+
+    /**
+     * Returns the number of tasks that were rejected because the pool and the
+     * queue were both full, or the executor had been shut down.
+     *
+     * @return The number of rejected tasks.
+     */
+    public long getRejectedTaskCount() {
+        return rejectedTaskCount.get();
+    }
+
+    /**
+     * Counts rejected tasks before throwing a RejectedExecutionException.
+     */
+    private final class CountingAbortPolicy implements RejectedExecutionHandler {
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+            long rejected = rejectedTaskCount.incrementAndGet();
+            String reason = executor.isShutdown() ? "executor has been shut down" : "executor is saturated";
+            if (log.isDebugEnabled()) {
+                log.debug("Rejecting task, " + reason + " (rejected tasks: " + rejected + ")");
+            }
+            throw new RejectedExecutionException("Unable to run asynchronous request, " + reason);
+        }
+    }
+
+    /**
+     * Creates daemon threads named after the owning client.
+     */
+    private static final class NamedThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger();
+        private final String name;
+
+        public NamedThreadFactory(String name) {
+            this.name = name;
+        }
+
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
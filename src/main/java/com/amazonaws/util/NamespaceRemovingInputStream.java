@@ -77,6 +77,9 @@ class NamespaceRemovingInputStream extends FilterInputStream {
      */
     @Override
     public int read(byte[] b, int off, int len) throws IOException {
+        // Nothing left to look for, so there's no need to go byte by byte
+        if (hasRemovedNamespace) return in.read(b, off, len);
+
         for (int i = 0; i < len; i++) {
             int j = this.read();
             if (j == -1) {
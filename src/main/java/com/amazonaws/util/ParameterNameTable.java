@@ -0,0 +1,140 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Table of the names of an indexed request parameter, such as
+ * <code>Item.N.Attribute.M.Name</code>, built from the parameter name's
+ * fixed parts and cached per index, so that marshalling a request doesn't
+ * concatenate the same parameter names over and over again.
+ * <p>
+ * A table is created with the parts of the name between the indexes; a name
+ * with <code>n</code> indexes has <code>n + 1</code> parts, the last of which
+ * is empty if the name ends with an index. For example, the table
+ * <code>new ParameterNameTable("Item.", ".Attribute.", ".Name")</code>
+ * returns <code>"Item.2.Attribute.5.Name"</code> from
+ * <code>get(2, 5)</code>.
+ * <p>
+ * Names for indexes from 1 to {@link #MAX_CACHED_INDEX} are built the first
+ * time they're requested and cached; names for other indexes are built on
+ * every call. Tables are thread safe, and are meant to be shared as constants
+ * by the stateless marshallers that use them.
+ */
+public final class ParameterNameTable {
+
+    /** The largest index for which parameter names are cached. */
+    public static final int MAX_CACHED_INDEX = 256;
+
+    /** The fixed parts of the parameter name, between its indexes. */
+    private final String[] parts;
+
+    /**
+     * The cached names, nested one level per index. Slots are filled lazily;
+     * if two threads race to fill a slot they both store an equal value.
+     */
+    private final AtomicReferenceArray<Object> names = newSlots();
+
+    /**
+     * Constructs a new table for the parameter name made up of the specified
+     * parts.
+     *
+     * @param parts
+     *            The fixed parts of the parameter name, between its indexes.
+     *            Names with one or two indexes are supported.
+     */
+    public ParameterNameTable(String... parts) {
+        if (parts.length < 2 || parts.length > 3) {
+            throw new IllegalArgumentException("An indexed parameter name must have one or two indexes");
+        }
+        this.parts = parts.clone();
+    }
+
+    /**
+     * Returns the parameter name for the specified index.
+     *
+     * @param index
+     *            The one-based index of the parameter.
+     *
+     * @return The parameter name for the specified index.
+     */
+    public String get(int index) {
+        checkIndexCount(1);
+        if (!isCached(index)) return build(index, 0);
+
+        String name = (String)names.get(index - 1);
+        if (name == null) {
+            name = build(index, 0);
+            names.set(index - 1, name);
+        }
+        return name;
+    }
+
+    /**
+     * Returns the parameter name for the specified pair of indexes.
+     *
+     * @param index1
+     *            The one-based first index of the parameter.
+     * @param index2
+     *            The one-based second index of the parameter.
+     *
+     * @return The parameter name for the specified indexes.
+     */
+    public String get(int index1, int index2) {
+        checkIndexCount(2);
+        if (!isCached(index1) || !isCached(index2)) return build(index1, index2);
+
+        AtomicReferenceArray<Object> row = slots(names, index1);
+        String name = (String)row.get(index2 - 1);
+        if (name == null) {
+            name = build(index1, index2);
+            row.set(index2 - 1, name);
+        }
+        return name;
+    }
+
+    private void checkIndexCount(int indexCount) {
+        if (parts.length != indexCount + 1) {
+            throw new IllegalArgumentException("Parameter name " + parts[0] + "... takes "
+                    + (parts.length - 1) + " indexes, not " + indexCount);
+        }
+    }
+
+    private String build(int index1, int index2) {
+        StringBuilder builder = new StringBuilder(parts[0]).append(index1).append(parts[1]);
+        if (parts.length > 2) builder.append(index2).append(parts[2]);
+        return builder.toString();
+    }
+
+    private static boolean isCached(int index) {
+        return index >= 1 && index <= MAX_CACHED_INDEX;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AtomicReferenceArray<Object> slots(AtomicReferenceArray<Object> parent, int index) {
+        AtomicReferenceArray<Object> child = (AtomicReferenceArray<Object>)parent.get(index - 1);
+        if (child == null) {
+            parent.compareAndSet(index - 1, null, newSlots());
+            child = (AtomicReferenceArray<Object>)parent.get(index - 1);
+        }
+        return child;
+    }
+
+    private static AtomicReferenceArray<Object> newSlots() {
+        return new AtomicReferenceArray<Object>(MAX_CACHED_INDEX);
+    }
+
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import java.io.UnsupportedEncodingException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Map of request parameters that keeps its parameters sorted by name and
+ * remembers each parameter's URL encoded form, so that the canonicalized
+ * query string used when signing a request and the query string or body sent
+ * with it can be built from the same encodings, without sorting or encoding
+ * the parameters again.
+ * <p>
+ * Parameters are sorted by name in natural string order, and encoded as
+ * described by RFC 3986, as {@link HttpUtils#urlEncode(String, boolean)} does.
+ * A parameter with a null value is encoded as just its name. The encoded query
+ * string is cached until the map is next modified.
+ * <p>
+ * Like the map it replaces, this class isn't thread safe.
+ */
+public class QueryParameterMap extends AbstractMap<String, String> {
+
+    /** The parameters, sorted by name. */
+    private final TreeMap<String, Parameter> parameters = new TreeMap<String, Parameter>();
+
+    /** The encoded query string, or null if it hasn't been built yet. */
+    private String encodedQueryString;
+
+    /** The encoded query string as bytes, or null if not built yet. */
+    private byte[] encodedBytes;
+
+    /** The view of this map's entries. */
+    private Set<Map.Entry<String, String>> entrySet;
+
+    @Override
+    public String put(String name, String value) {
+        if (name == null) throw new NullPointerException("Parameter names can't be null");
+        modified();
+        Parameter previous = parameters.put(name, new Parameter(name, value));
+        return (previous == null) ? null : previous.value;
+    }
+
+    @Override
+    public String get(Object name) {
+        Parameter parameter = parameters.get(name);
+        return (parameter == null) ? null : parameter.value;
+    }
+
+    @Override
+    public boolean containsKey(Object name) {
+        return parameters.containsKey(name);
+    }
+
+    @Override
+    public String remove(Object name) {
+        Parameter removed = parameters.remove(name);
+        if (removed == null) return null;
+        modified();
+        return removed.value;
+    }
+
+    @Override
+    public int size() {
+        return parameters.size();
+    }
+
+    @Override
+    public void clear() {
+        modified();
+        parameters.clear();
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        if (entrySet == null) entrySet = new EntrySet();
+        return entrySet;
+    }
+
+    /**
+     * Returns the URL encoded parameters, sorted by name, in
+     * <code>name=value</code> form and separated by <code>&amp;</code>.
+     *
+     * @return The encoded query string, or the empty string if there are no
+     *         parameters.
+     */
+    public String getEncodedQueryString() {
+        if (encodedQueryString == null) {
+            StringBuilder builder = new StringBuilder();
+            for (Parameter parameter : parameters.values()) {
+                if (builder.length() > 0) builder.append('&');
+                builder.append(parameter.getEncoded());
+            }
+            encodedQueryString = builder.toString();
+        }
+        return encodedQueryString;
+    }
+
+    /**
+     * Returns the encoded query string as bytes, ready to be sent as a form
+     * encoded request body. The returned array is shared, and must not be
+     * modified.
+     *
+     * @return The encoded query string as bytes.
+     */
+    public byte[] getEncodedBytes() {
+        if (encodedBytes == null) {
+            try {
+                // Encoded parameters only contain ASCII characters
+                encodedBytes = getEncodedQueryString().getBytes("US-ASCII");
+            } catch (UnsupportedEncodingException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return encodedBytes;
+    }
+
+    /** Discards the cached query string after a modification. */
+    private void modified() {
+        encodedQueryString = null;
+        encodedBytes = null;
+    }
+
+    /**
+     * A parameter, and its encoded form once it's been needed.
+     */
+    private static final class Parameter {
+        private final String name;
+        private final String value;
+        private String encoded;
+
+        private Parameter(String name, String value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        private String getEncoded() {
+            if (encoded == null) {
+                String encodedName = HttpUtils.urlEncode(name, false);
+                encoded = (value == null) ? encodedName : encodedName + "=" + HttpUtils.urlEncode(value, false);
+            }
+            return encoded;
+        }
+    }
+
+    /**
+     * View of the parameters as map entries, in name order.
+     */
+    private final class EntrySet extends AbstractSet<Map.Entry<String, String>> {
+        @Override
+        public Iterator<Map.Entry<String, String>> iterator() {
+            final Iterator<Parameter> iterator = parameters.values().iterator();
+            return new Iterator<Map.Entry<String, String>>() {
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                public Map.Entry<String, String> next() {
+                    return new ParameterEntry(iterator.next());
+                }
+
+                public void remove() {
+                    iterator.remove();
+                    modified();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return parameters.size();
+        }
+
+        @Override
+        public void clear() {
+            QueryParameterMap.this.clear();
+        }
+    }
+
+    /**
+     * Map entry for a parameter. Setting the value replaces the parameter.
+     */
+    private final class ParameterEntry implements Map.Entry<String, String> {
+        private final String name;
+        private String value;
+
+        private ParameterEntry(Parameter parameter) {
+            this.name = parameter.name;
+            this.value = parameter.value;
+        }
+
+        public String getKey() {
+            return name;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public String setValue(String value) {
+            String previous = this.value;
+            this.value = value;
+            // Replacing an existing key doesn't disturb iteration over the tree
+            put(name, value);
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) return false;
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>)o;
+            return name.equals(other.getKey())
+                && (value == null ? other.getValue() == null : value.equals(other.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return name + "=" + value;
+        }
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2010-2011 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.Map.Entry;
+
+import com.amazonaws.Request;
+
+/**
+ * Identifies the logical content of a marshalled request, so that two
+ * requests that would cause the same service call can be recognized as
+ * equal.
+ * <p>
+ * The key is built from the service name, HTTP method, endpoint, resource
+ * path, parameters and headers of the request. Parameters and headers that
+ * only vary from one signing to the next (timestamps, signatures, dates and
+ * authorization headers) are left out, so a key can be computed either before
+ * or after a request is signed. The access key ID of any request level
+ * credentials is included, so requests made on behalf of different accounts
+ * never compare equal. Free text components are URL encoded, so values
+ * containing separators can't make different requests compare equal.
+ * <p>
+ * Requests with a content stream are never considered equal to one another,
+ * since their payloads can't be compared; callers should check
+ * {@link #isComparable(Request)} before relying on a key.
+ */
+public final class RequestKey {
+
+    /** Parameters added by the query string signers. */
+    private static final String[] SIGNING_PARAMETERS = {
+        "Signature", "Timestamp", "Expires" };
+
+    /** Headers added by the REST signers or the HTTP client. */
+    private static final String[] SIGNING_HEADERS = {
+        "Authorization", "Date", "X-Amz-Date", "X-Amzn-Authorization", "User-Agent" };
+
+    private final String canonicalForm;
+    private final int hashCode;
+
+    /**
+     * Creates a new key for the specified marshalled request.
+     *
+     * @param request
+     *            The marshalled request to identify.
+     */
+    public RequestKey(Request<?> request) {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append(request.getServiceName()).append('\n');
+        sb.append(request.getHttpMethod()).append('\n');
+        sb.append(request.getEndpoint()).append('\n');
+        appendEncoded(sb, request.getResourcePath());
+        sb.append('\n');
+
+        if (request.getOriginalRequest() != null
+                && request.getOriginalRequest().getRequestCredentials() != null) {
+            appendEncoded(sb, request.getOriginalRequest().getRequestCredentials().getAWSAccessKeyId());
+        }
+        sb.append('\n');
+
+        appendSorted(sb, request.getParameters(), SIGNING_PARAMETERS);
+        appendSorted(sb, request.getHeaders(), SIGNING_HEADERS);
+
+        this.canonicalForm = sb.toString();
+        this.hashCode = canonicalForm.hashCode();
+    }
+
+    /**
+     * Returns true if two requests identified by equal keys are guaranteed to
+     * cause the same service call, which is the case for requests without a
+     * content stream.
+     *
+     * @param request
+     *            The request to test.
+     *
+     * @return True if keys created for the request can be compared.
+     */
+    public static boolean isComparable(Request<?> request) {
+        return request.getContent() == null;
+    }
+
+    /**
+     * Returns the name of the operation a request is for: its
+     * <code>Action</code> parameter for query API requests, or the name of
+     * its original request class without the <code>Request</code> suffix (ex:
+     * "GetObject") for REST requests.
+     *
+     * @param request
+     *            The marshalled request.
+     *
+     * @return The name of the operation the request is for.
+     */
+    public static String getOperationName(Request<?> request) {
+        String action = request.getParameters().get("Action");
+        if (action != null) return action;
+
+        if (request.getOriginalRequest() != null) {
+            String className = request.getOriginalRequest().getClass().getSimpleName();
+            if (className.endsWith("Request")) className = className.substring(0, className.length() - "Request".length());
+            return className;
+        }
+        return request.getHttpMethod().toString();
+    }
+
+    private static void appendSorted(StringBuilder sb, Map<String, String> values, String[] excludedNames) {
+        Map<String, String> sorted = new TreeMap<String, String>(values);
+        for (Entry<String, String> entry : sorted.entrySet()) {
+            if (isExcluded(entry.getKey(), excludedNames)) continue;
+            appendEncoded(sb, entry.getKey());
+            if (entry.getValue() != null) {
+                sb.append('=');
+                appendEncoded(sb, entry.getValue());
+            }
+            sb.append('&');
+        }
+        sb.append('\n');
+    }
+
+    private static void appendEncoded(StringBuilder sb, String value) {
+        if (value != null) sb.append(HttpUtils.urlEncode(value, false));
+    }
+
+    private static boolean isExcluded(String name, String[] excludedNames) {
+        for (String excluded : excludedNames) {
+            if (excluded.equalsIgnoreCase(name)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof RequestKey)) return false;
+        RequestKey other = (RequestKey)obj;
+        return hashCode == other.hashCode && canonicalForm.equals(other.canonicalForm);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(canonicalForm.split("\n"));
+    }
+
+}